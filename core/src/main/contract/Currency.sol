@@ -27,5 +27,14 @@ contract Currency is StandardAsset {
         return super.deposit(transactionAddress, amount, typeList, detailList, sign);
     }
 
+    //batchDeposit computationalAccuracy
+    function batchDeposit(address[] transactionAddress, uint256[] amounts, int[] typeList, string[] detailList, bytes32[4] sign) public returns (bool, uint[])
+    {
+        for (uint i = 0; i < amounts.length; i++) {
+            amounts[i] = amounts[i] * 10 ** uint256(decimals);
+        }
+        return super.batchDeposit(transactionAddress, amounts, typeList, detailList, sign);
+    }
+
 
 }
@@ -17,6 +17,10 @@ contract NonFungibleAsset is Identity {
     using LibTypeConversion for uint;
 
     event LogNoteStatus(uint256 noteNo, uint256 noteID, uint8 status);
+    // owner, noteNo or properties of the note changed
+    event LogNoteUpdate(uint256 noteNo);
+    // dates or status of every note in the batch changed
+    event LogBatchUpdate(uint256 batchNo);
     modifier onlyAccountNormal(address account) {
         require(authCenter.checkAccount(account), "Auth:only account status is normal.");
         _;
@@ -127,12 +131,32 @@ contract NonFungibleAsset is Identity {
             result[3 * j] = bookResult[0];
             result[3 * j + 1] = bookResult[1];
             result[3 * j + 2] = noteNos[j];
-
+            emit LogNoteUpdate(noteNos[j]);
         }
         return (true, result);
     }
 
 
+    // transfer notes of one from to many recipients under one signature
+    // transactionAddress [operator, asset, from, to_0, to_1, ...]
+    // noteCounts [count_0, count_1, ...], noteNos holds the notes of to_0, then the notes of to_1, ...
+    // result [termNo, seqNo, noteNo] of each note, same as transfer
+    function batchTransfer(address[] transactionAddress, uint[] noteCounts, uint[] noteNos, string[] stringValueList, bytes32[4] sign) public returns (bool, uint[]){
+        transactionAddress = checkBatchTransferAuth(transactionAddress, noteCounts, noteNos, stringValueList, sign);
+        uint[] memory result = new uint[](3 * noteNos.length);
+        address[] memory legAddress = new address[](4);
+        legAddress[0] = transactionAddress[0];
+        legAddress[1] = transactionAddress[1];
+        legAddress[2] = transactionAddress[2];
+        uint offset;
+        for (uint i = 0; i < noteCounts.length; i++) {
+            legAddress[3] = transactionAddress[3 + i];
+            transferNotesTo(legAddress, offset, offset + noteCounts[i], noteNos, stringValueList, result);
+            offset += noteCounts[i];
+        }
+        return (true, result);
+    }
+
     function accountHoldNote(address account, uint256 noteNo, bytes32[4] sign) onlyAccountNormal(account) public constant returns (bool isContain){
         bytes memory args;
         address txOrigin;
@@ -158,6 +182,19 @@ contract NonFungibleAsset is Identity {
         return assetStorage.getNoteByAccount(innerAddress, start, end);
     }
 
+    //notes of the account as ranges [starts[i], ends[i]], ranges [start, start + num) and the range count
+    function getAccountNoteRanges(address account, uint256 start, uint256 num, bytes32[4] sign) onlyAccountNormal(account) public constant returns (uint256[], uint256[], uint256){
+        address innerAddress = IOrganization(org).getInnerAccount(account);
+        bytes memory args;
+        address txOrigin;
+        bool check;
+        (txOrigin, check) = authCenter.check2WithSign(org, innerAddress, "getAccountNotes", args, sign);
+        require(check, "Forbidden getAccountNotes");
+        require(authCenter.checkAccount(txOrigin), "Auth:only account status is normal.");
+
+        return assetStorage.getNoteRangesByAccount(innerAddress, start, num);
+    }
+
     function getAccountNoteSize(address account, bytes32[4] sign) onlyAccountNormal(account) public constant returns (uint256){
         address innerAddress = IOrganization(org).getInnerAccount(account);
         bytes memory args;
@@ -185,10 +222,13 @@ contract NonFungibleAsset is Identity {
         require(assetStorage.getStatusByNote(oldNoteNo) != FORZEN_STATUS && assetStorage.getStatusByNote(oldNoteNo) != TEAR_STATUS, "note is forzen or tear");
 
         isUpdate = assetStorage.updateNoteNo(oldNoteNo, newNoteNo);
+        emit LogNoteUpdate(oldNoteNo);
+        emit LogNoteUpdate(newNoteNo);
     }
 
     function updateNoteProperties(uint256 noteNo, bytes[] keys, bytes[] values, address account, bytes32[4] sign) onlyAccountNormal(account) public returns (bytes[] noteKeys, bytes[] noteValues){
         checkUpdateNoteNoAuth(noteNo, keys, values, account, sign);
+        emit LogNoteUpdate(noteNo);
         return assetStorage.updateNoteProperties(noteNo, keys, values);
     }
 
@@ -214,6 +254,7 @@ contract NonFungibleAsset is Identity {
         checkUpdateBatchAuth(batchNo, args, account, sign);
 
         isUpdate = assetStorage.updateNoteBatch(batchNo, date, isEffectiveDate);
+        emit LogBatchUpdate(batchNo);
     }
 
     function checkUpdateBatchAuth(uint256 batchNo, bytes args, address account, bytes32[4] sign) internal returns (bool){
@@ -339,6 +380,26 @@ contract NonFungibleAsset is Identity {
         return externalAccountList;
     }
 
+    //queryAccountList by page, holders [start, start + num) and the holder count
+    function getHoldersByIndex(uint256 start, uint256 num, bytes32[4] sign) public constant returns (address[], uint256)
+    {
+        bytes memory args;
+        address txOrigin;
+        bool check;
+        (txOrigin, check) = authCenter.check2WithSign(org, this, "getHolders", args, sign);
+        require(check, "Forbidden getHolders");
+        require(authCenter.checkAccount(txOrigin), "Auth:only account status is normal.");
+
+        address[] memory accountList;
+        uint256 total;
+        (accountList, total) = assetStorage.getAccountsByIndex(start, num);
+        address[] memory externalAccountList = new address[](accountList.length);
+        for (uint i = 0; i < accountList.length; i++) {
+            externalAccountList[i] = IOrganization(org).getExternalAccount(accountList[i]);
+        }
+        return (externalAccountList, total);
+    }
+
 
     function tearNote(uint256 noteNo, address account, bytes32[4] sign) onlyAccountNormal(account) public returns (bool){
         require(assetStorage.isExistNote(noteNo), "note doesn't exist!");
@@ -391,6 +452,7 @@ contract NonFungibleAsset is Identity {
         require(check, "Forbidden enableBatch");
         require(authCenter.checkAccount(txOrigin), "Auth:only account status is normal.");
         isEffective = assetStorage.enableBatch(batchNo);
+        emit LogBatchUpdate(batchNo);
         return isEffective;
     }
 
@@ -422,6 +484,68 @@ contract NonFungibleAsset is Identity {
         return transactionAddress;
     }
 
+    function checkBatchTransferAuth(address[] transactionAddress, uint[] noteCounts, uint[] noteNos, string[] stringValueList, bytes32[4] sign) internal returns (address[]){
+        require(noteCounts.length > 0 && transactionAddress.length == 3 + noteCounts.length, "recipients not verify");
+        uint total;
+        for (uint i = 0; i < noteCounts.length; i++) {
+            require(noteCounts[i] > 0, "noteCount of recipient should be greater than 0");
+            total += noteCounts[i];
+        }
+        require(total == noteNos.length, "noteCounts not match noteNos");
+
+        bytes memory args = genBatchTransferArgs(transactionAddress, noteCounts, noteNos, stringValueList);
+        bool isCheck;
+        (isCheck, transactionAddress) = checkAndHandleTransactionAddress(transactionAddress);
+        require(isCheck, "operator or account is not normal");
+        for (uint j = 2; j < transactionAddress.length; j++) {
+            require(transactionAddress[j] != address(0), "from/to address not verify!");
+            require(assetStorage.existAccount(transactionAddress[j]), "the account has not been open");
+        }
+
+        address txOrigin;
+        (txOrigin, isCheck) = authCenter.check2WithSign(org, transactionAddress[2], "transfer", args, sign);
+        require(isCheck, "Forbidden nonFungibleTransfer");
+        return transactionAddress;
+    }
+
+    function genBatchTransferArgs(address[] transactionAddress, uint[] noteCounts, uint[] noteNos, string[] stringValueList) internal view returns (bytes){
+        bytes memory args;
+        for (uint i = 0; i < transactionAddress.length; i++) {
+            args = args.bytesAppend(transactionAddress[i]);
+        }
+        for (uint j = 0; j < noteCounts.length; j++) {
+            args = args.bytesAppend(noteCounts[j]);
+        }
+        for (uint k = 0; k < noteNos.length; k++) {
+            args = args.bytesAppend(noteNos[k]);
+        }
+        for (uint l = 0; l < stringValueList.length; l++) {
+            args = args.bytesAppend(bytes(stringValueList[l]));
+        }
+        return args;
+    }
+
+    // legAddress [operator, asset, from, to], notes are noteNos[start, end)
+    function transferNotesTo(address[] legAddress, uint start, uint end, uint[] noteNos, string[] stringValueList, uint[] result) internal {
+        bool isWriteSuccess;
+        uint[2] memory bookResult;
+        uint noteNo;
+        for (uint i = start; i < end; i++) {
+            noteNo = noteNos[i];
+            require(assetStorage.isExistNote(noteNo), "noteNo ".strConcat(noteNo.uint2str()).strConcat(" doesn't exist!"));
+            require(!assetStorage.checkExpire(noteNo), "noteNo ".strConcat(noteNo.uint2str()).strConcat(" has been expired"));
+            require(assetStorage.checkEffectiveAndUpdate(noteNo), "note is not effective");
+            require(assetStorage.checkOwner(noteNo, legAddress[2]), "Forbidden transfer because from isn't owner");
+
+            (isWriteSuccess, bookResult) = book.write(legAddress, assetStorage.exchangeNote(legAddress[2], legAddress[3], noteNo), stringValueList);
+            require(isWriteSuccess, "write book fail!");
+            result[3 * i] = bookResult[0];
+            result[3 * i + 1] = bookResult[1];
+            result[3 * i + 2] = noteNo;
+            emit LogNoteUpdate(noteNo);
+        }
+    }
+
     function genTransferArgs(address[] transactionAddress, uint[] noteNos, string[] stringValueList) internal view returns (bytes){
         bytes memory args;
         for (uint i = 0; i < transactionAddress.length; i++) {
@@ -4,9 +4,11 @@ pragma experimental ABIEncoderV2;
 import "./interface/INonFungibleManager.sol";
 import "./Sequence.sol";
 import "./lib/LibSafeMath.sol";
+import "./storage/UintSetLib.sol";
 
 contract NonFungibleStorage {
     using LibSafeMath for uint256;
+    using UintSetLib for UintSetLib.Set;
 
     modifier onlyOwner() {
         require(assetManager.checkStorageCallee(msg.sender, address(this)), "required owner called");
@@ -25,6 +27,8 @@ contract NonFungibleStorage {
     uint8 constant EXPIRATE_STATUS = 3;
     uint8 constant FORZEN_STATUS = 4;
     uint8 constant TEAR_STATUS = 5;
+    //noteNoSize of an issue is below 10
+    uint constant MAX_NOTE_NO_SIZE = 10;
     uint256 public price;
     //账户地址
     address[] accountList;
@@ -52,10 +56,19 @@ contract NonFungibleStorage {
 
     mapping(uint256 => Note) notes;
     mapping(uint256 => NoteBatch) noteBatchs;
+    //batch enabled by enableBatch, its notes still in INIT_STATUS are read as EFFECTIVE_STATUS
+    mapping(uint256 => bool) enabledBatchs;
+    //batch with a note seen expired by checkExpire, its dates can no longer be updated
+    mapping(uint256 => bool) expiredBatchs;
+    //batch with a note seen effective by checkEffectiveAndUpdate, its effective date can no longer be updated
+    mapping(uint256 => bool) effectiveBatchs;
     mapping(uint256 => uint256) noIdMap;
-    mapping(address => mapping(uint256 => bool)) accountNotes;
-    mapping(address => uint256[]) accountNoteList;
+    //note ids held by the account, removal swaps the last id into the freed slot
+    //every update is constant cost, the noteNo ranges of the account are derived from it when they are read
+    mapping(address => UintSetLib.Set) accountNoteSet;
     mapping(uint256 => mapping(uint => bool)) existNoteNo;
+    //(noteNoPrefix, noteNoSize) holding the noteNos of a smaller defined (noteNoPrefix, noteNoSize)
+    mapping(uint256 => mapping(uint => bool)) partNoteNo;
 
     address noteSeq;
     address batchSeq;
@@ -72,7 +85,7 @@ contract NonFungibleStorage {
     /*******************check functions************************************************/
     function checkEffectiveAndUpdate(uint256 noteNo) public onlyOwner constant returns (bool isEffective){
         Note memory note = notes[noIdMap[noteNo]];
-        if (EFFECTIVE_STATUS == note.status) {
+        if (EFFECTIVE_STATUS == resolveStatus(note)) {
             isEffective = true;
             return;
         }
@@ -84,6 +97,7 @@ contract NonFungibleStorage {
         if (noteBatch.effectiveDate < getDate()) {
             note.status = EFFECTIVE_STATUS;
             notes[note.id] = note;
+            effectiveBatchs[note.batchNo] = true;
             isEffective = true;
             return;
         }
@@ -111,7 +125,7 @@ contract NonFungibleStorage {
 
     function checkEffect(uint256 noteNo) public onlyOwner view returns (bool){
         Note memory note = notes[noIdMap[noteNo]];
-        return note.status == EFFECTIVE_STATUS;
+        return resolveStatus(note) == EFFECTIVE_STATUS;
     }
 
     function checkExpire(uint256 noteNo) public onlyOwner constant returns (bool isExpire){
@@ -125,14 +139,26 @@ contract NonFungibleStorage {
         if (noteBatch.expirationDate < getDate()) {
             note.status = EXPIRATE_STATUS;
             notes[note.id] = note;
+            expiredBatchs[note.batchNo] = true;
             isExpire = true;
             return;
         }
 
     }
 
+    // the noteNos of (noteNoPrefix, noteNoSize) are noteNoPrefix * 10^noteNoSize + 1 ... (noteNoPrefix + 1) * 10^noteNoSize,
+    // they overlap a defined range if it is the same, holds them (noteNoPrefix / 10^k, noteNoSize + k) or is held by them
     function isExistNoteDefined(uint256 noteNoPrefix, uint256 noteNoSize) public onlyOwner view returns (bool){
-        return existNoteNo[noteNoPrefix][noteNoSize];
+        if (existNoteNo[noteNoPrefix][noteNoSize] || partNoteNo[noteNoPrefix][noteNoSize]) {
+            return true;
+        }
+        for (uint size = noteNoSize + 1; size < MAX_NOTE_NO_SIZE; size++) {
+            noteNoPrefix = noteNoPrefix / 10;
+            if (existNoteNo[noteNoPrefix][size]) {
+                return true;
+            }
+        }
+        return false;
     }
 
     function isExistNote(uint256 noteNo) public view returns (bool){
@@ -189,9 +215,29 @@ contract NonFungibleStorage {
         return accountList;
     }
 
+    function getAccountsByIndex(uint256 start, uint256 num) public onlyOwner view returns (address[], uint256){
+        uint256 total = accountList.length;
+        if (start >= total) {
+            return (new address[](0), total);
+        }
+        uint256 end = start.add(num);
+        if (end > total) {
+            end = total;
+        }
+        address[] memory list = new address[](end - start);
+        for (uint256 i = start; i < end; i++) {
+            list[i - start] = accountList[i];
+        }
+        return (list, total);
+    }
+
     //***********************note‘s function*********************************************/
     function updateExistNote(uint256 noteNoPrefix, uint256 noteNoSize) public onlyOwner {
         existNoteNo[noteNoPrefix][noteNoSize] = true;
+        for (uint size = noteNoSize + 1; size < MAX_NOTE_NO_SIZE; size++) {
+            noteNoPrefix = noteNoPrefix / 10;
+            partNoteNo[noteNoPrefix][size] = true;
+        }
     }
 
     function createNote(uint256 noteId, uint256 noteNo, address owner, uint256 batchNo) public onlyOwner {
@@ -199,8 +245,7 @@ contract NonFungibleStorage {
         Note memory note = Note(noteId, owner, noteNo, batchNo, INIT_STATUS, itemkeys);
         notes[noteId] = note;
         noIdMap[noteNo] = noteId;
-        accountNotes[owner][noteId] = true;
-        accountNoteList[owner].push(noteId);
+        accountNoteSet[owner].insert(noteId);
     }
 
     function generateNoteId() public onlyOwner returns (uint256){
@@ -220,33 +265,71 @@ contract NonFungibleStorage {
         uintList[1] = noteBatch.expirationDate;
         addressList[1] = noteBatch.issuer;
 
-        return (addressList, uint256List, uintList, note.status);
+        return (addressList, uint256List, uintList, resolveStatus(note));
     }
 
+    // note nos of the account at [start, end)
+    // notes are in the order they were received until one leaves the account,
+    // then the last note takes the freed position, so the order is not stable across transfers
+    // and pages read while the account transfers out may skip or repeat a note.
     function getNoteByAccount(address account, uint256 start, uint256 end) public onlyOwner view returns (uint256[]){
-        uint256[] noteIds = accountNoteList[account];
+        UintSetLib.Set storage noteIds = accountNoteSet[account];
+        uint256 noteSize = noteIds.size();
         uint256 resultLength;
         uint256[] memory noteNos;
-        if (noteIds.length == 0) {
-            return noteIds;
+        if (noteSize == 0) {
+            return noteNos;
         }
-        require(start < noteIds.length, "require start less than account note size");
-        if (end > noteIds.length) {
-            resultLength = noteIds.length;
+        require(start < noteSize, "require start less than account note size");
+        if (end > noteSize) {
+            resultLength = noteSize;
         } else {
             resultLength = end;
         }
-        noteNos = new uint256[](resultLength <= 0 ? 0 : resultLength - start);
+        noteNos = new uint256[](resultLength <= start ? 0 : resultLength - start);
         uint j = 0;
         for (uint i = start; i < resultLength; i++) {
-            noteNos[j++] = notes[noteIds[i]].noteNo;
+            noteNos[j++] = notes[noteIds.get(i)].noteNo;
         }
         return noteNos;
     }
 
+    // note nos of the account as ranges [starts[i], ends[i]], ranges [start, start + num) and the range count
+    // a note starts a range if the account does not hold noteNo - 1, the range runs while it holds the next noteNo.
+    // the ranges are derived from the notes of the account on every call, so the call reads each note of the account,
+    // and they follow the order of getNoteByAccount, which is not stable across transfers.
+    function getNoteRangesByAccount(address account, uint256 start, uint256 num) public onlyOwner view returns (uint256[], uint256[], uint256){
+        UintSetLib.Set storage noteIds = accountNoteSet[account];
+        uint256 rangeSize = countNoteRanges(noteIds);
+        uint256[] memory starts;
+        uint256[] memory ends;
+        if (start >= rangeSize) {
+            return (starts, ends, rangeSize);
+        }
+        starts = new uint256[](rangeSize - start < num ? rangeSize - start : num);
+        ends = new uint256[](starts.length);
+        uint256 noteNo;
+        uint256 j = 0;
+        for (uint i = 0; j < starts.length; i++) {
+            noteNo = notes[noteIds.get(i)].noteNo;
+            if (holdNoteNo(noteIds, noteNo - 1)) {
+                continue;
+            }
+            if (start > 0) {
+                start--;
+                continue;
+            }
+            starts[j] = noteNo;
+            while (holdNoteNo(noteIds, noteNo + 1)) {
+                noteNo++;
+            }
+            ends[j++] = noteNo;
+        }
+        return (starts, ends, rangeSize);
+    }
+
     function getAccountNoteSize(address account) public onlyOwner constant returns (uint256){
-        uint256[] noteIds = accountNoteList[account];
-        return noteIds.length;
+        return accountNoteSet[account].size();
     }
 
     function updateNoteNo(uint256 oldNoteNo, uint256 newNoteNo) public onlyOwner returns (bool isUpdate){
@@ -260,7 +343,7 @@ contract NonFungibleStorage {
 
     function getStatusByNote(uint256 noteNo) public onlyOwner view returns (uint8){
         Note memory note = notes[noIdMap[noteNo]];
-        return note.status;
+        return resolveStatus(note);
     }
 
     function updateNoteProperties(uint256 noteNo, bytes[] keys, bytes[] values) public onlyOwner returns (bytes[] noteKeys, bytes[] noteValues){
@@ -299,28 +382,13 @@ contract NonFungibleStorage {
 
     function removeNoteFromAccount(uint256 noteNo, address account) public onlyOwner returns (uint256){
         Note memory note = notes[noIdMap[noteNo]];
-        accountNotes[account][note.id] = false;
-        uint256[] orignalNoteIds = accountNoteList[account];
-        uint256[] memory newNoteIds = new uint256[](orignalNoteIds.length - 1);
-        bool isIndex;
-        for (uint i = 0; i < newNoteIds.length; i++) {
-            if (!isIndex && orignalNoteIds[i] == note.id) {
-                isIndex = true;
-            }
-            if (isIndex) {
-                newNoteIds[i] = orignalNoteIds[i + 1];
-            } else {
-                newNoteIds[i] = orignalNoteIds[i];
-            }
-        }
-        accountNoteList[account] = newNoteIds;
+        require(accountNoteSet[account].remove(note.id), "The account is not owned this note!");
         return note.id;
     }
 
     function addNoteToAccount(uint256 noteNo, address account) public onlyOwner returns (uint256){
         Note memory note = notes[noIdMap[noteNo]];
-        accountNotes[account][note.id] = true;
-        accountNoteList[account].push(note.id);
+        accountNoteSet[account].insert(note.id);
         note.owner = account;
         notes[noIdMap[noteNo]] = note;
         return note.id;
@@ -328,7 +396,7 @@ contract NonFungibleStorage {
 
     function exchangeNote(address from, address to, uint256 noteNo) public onlyOwner returns (uint256){
         Note memory note = notes[noIdMap[noteNo]];
-        require(accountNotes[from][note.id] = true, "The account is not owned this note!");
+        require(accountNoteSet[from].contains(note.id), "The account is not owned this note!");
         require(removeNoteFromAccount(noteNo, from) == note.id, "exchange fail");
         require(addNoteToAccount(noteNo, to) == note.id, "exchange fail");
         return note.id;
@@ -337,7 +405,7 @@ contract NonFungibleStorage {
     function accountHoldNote(address account, uint256 noteNo) public onlyOwner view returns (bool isContain){
         uint256 noteId = noIdMap[noteNo];
         require(noteId > 0, "note doesn't exist!");
-        isContain = accountNotes[account][noteId];
+        isContain = accountNoteSet[account].contains(noteId);
     }
 
     function getNoteIdByNo(uint256 noteNo) public onlyOwner view returns (uint256){
@@ -373,12 +441,12 @@ contract NonFungibleStorage {
         NoteBatch memory noteBatch = noteBatchs[batchNo];
         if (isEffectiveDate) {
             require(date < noteBatch.expirationDate, "require effectiveDate< expirationDate");
-            require(notes[noteBatch.startId].status!=EFFECTIVE_STATUS,"batch has been effect");
+            require(!enabledBatchs[batchNo] && !effectiveBatchs[batchNo], "batch has been effect");
             noteBatch.effectiveDate = date;
         } else {
             if (noteBatch.effectiveDate > 0) {
                 require(date > noteBatch.effectiveDate, "require effectiveDate< expirationDate");
-                require(notes[noteBatch.startId].status!=EXPIRATE_STATUS,"batch has been expirated");
+                require(!expiredBatchs[batchNo], "batch has been expirated");
             }
             noteBatch.expirationDate = date;
         }
@@ -386,6 +454,7 @@ contract NonFungibleStorage {
         isUpdate = true;
     }
 
+    // the notes are not touched, an enabled batch makes its INIT_STATUS notes effective when they are read
     function enableBatch(uint256 batchNo) public onlyOwner returns (bool){
         NoteBatch batch = noteBatchs[batchNo];
         require(batch.endId > 0, "batch not verify");
@@ -396,11 +465,7 @@ contract NonFungibleStorage {
         batch.effectiveDate = getDate();
         noteBatchs[batchNo] = batch;
         if (isEffective) {
-            for (uint i = batch.startId; i <= batch.endId; i++) {
-                Note note = notes[i];
-                note.status = EFFECTIVE_STATUS;
-                notes[i] = note;
-            }
+            enabledBatchs[batchNo] = true;
         }
         return isEffective;
     }
@@ -431,6 +496,29 @@ contract NonFungibleStorage {
 
     //***********************internal utiln*********************************************/
 
+    // stored status of the note, an INIT_STATUS note of an enabled batch is effective
+    function resolveStatus(Note memory note) internal view returns (uint8){
+        if (INIT_STATUS == note.status && enabledBatchs[note.batchNo]) {
+            return EFFECTIVE_STATUS;
+        }
+        return note.status;
+    }
+
+    // number of notes of noteIds whose noteNo - 1 is not in noteIds
+    function countNoteRanges(UintSetLib.Set storage noteIds) internal view returns (uint256 rangeSize){
+        for (uint i = 0; i < noteIds.size(); i++) {
+            if (!holdNoteNo(noteIds, notes[noteIds.get(i)].noteNo - 1)) {
+                rangeSize++;
+            }
+        }
+    }
+
+    // the note of the noteNo is one of noteIds
+    function holdNoteNo(UintSetLib.Set storage noteIds, uint256 noteNo) internal view returns (bool){
+        uint256 noteId = noIdMap[noteNo];
+        return noteId > 0 && noteIds.contains(noteId);
+    }
+
     function getDate() internal returns (uint){
         uint time = now;
         return (time);
@@ -60,6 +60,9 @@ contract StandardAsset is Identity {
 
     mapping(address => uint256) innerAndExternal;
 
+    // running sum of balances, moved by deposit and withdrawal so getTotalBalance does not scan accountList
+    uint256 totalSupply;
+
 
     constructor(string tableName, address authCenterAddr, address orgAddr) public Identity(authCenterAddr, orgAddr) {
         require(bytes(tableName).length > 0 && bytes(tableName).length < 64, "assetName should be not null and less than 64 long");
@@ -85,6 +88,31 @@ contract StandardAsset is Identity {
         return externalAccountList;
     }
 
+    //    queryAccountList by page, holders [start, start + num) and the holder count
+    function getHoldersByIndex(uint256 start, uint256 num, bytes32[4] sign) public constant returns (address[], uint256)
+    {
+        bytes memory args;
+        address txOrigin;
+        bool check;
+        (txOrigin, check) = authCenter.check2WithSign(org, this, "getHolders", args, sign);
+        require(check, "Forbidden getHolders");
+        require(authCenter.checkAccount(txOrigin), "Auth:only account status is normal.");
+
+        uint256 total = accountList.length;
+        if (start >= total) {
+            return (new address[](0), total);
+        }
+        uint256 end = start.add(num);
+        if (end > total) {
+            end = total;
+        }
+        address[] memory externalAccountList = new address[](end - start);
+        for (uint i = start; i < end; i++) {
+            externalAccountList[i - start] = IOrganization(org).getExternalAccount(accountList[i]);
+        }
+        return (externalAccountList, total);
+    }
+
     function getExtenalAccount(address account) internal view returns (address){
         return IOrganization(org).getExternalAccount(account);
     }
@@ -113,6 +141,7 @@ contract StandardAsset is Identity {
         address account = transactionAddress[3];
         require(accountMap[account], "the account has not been open");
         balances[account] = balances[account].add(amount);
+        totalSupply = totalSupply.add(amount);
 
         int[] memory typeDetail = new int[](2);
         typeDetail[0] = TRANSACTION_TYPE_INCOME;
@@ -163,6 +192,7 @@ contract StandardAsset is Identity {
         require(accountMap[account], "the account has not been open");
 
         balances[account] = balances[account].sub(amount);
+        totalSupply = totalSupply.sub(amount);
         int[] memory typeDetail = new int[](2);
         typeDetail[0] = TRANSACTION_TYPE_SPEND;
         typeDetail[1] = typeList[0];
@@ -198,6 +228,61 @@ contract StandardAsset is Identity {
     }
 
 
+    // batch legs, applied atomically under one signature and written as one book entry per leg
+    // transactionAddress [operator, asset, related_asset, from_0, to_0, from_1, to_1, ...]
+    // amounts [amount_0, amount_1, ...], typeList and detailList are shared by all legs
+    // result [termNo_0, seqNo_0, termNo_1, seqNo_1, ...]
+    function batchDeposit(address[] transactionAddress, uint256[] amounts, int[] typeList, string[] detailList, bytes32[4] sign) public returns (bool, uint[])
+    {
+        transactionAddress = checkBatchAuth(transactionAddress, amounts, typeList, detailList, sign, "deposit", false);
+        uint[] memory result = new uint[](amounts.length * 2);
+        address account;
+        for (uint i = 0; i < amounts.length; i++) {
+            account = transactionAddress[4 + 2 * i];
+            require(accountMap[account], "the account has not been open");
+            balances[account] = balances[account].add(amounts[i]);
+            totalSupply = totalSupply.add(amounts[i]);
+            emit Deposit(account, amounts[i]);
+            writeLeg(transactionAddress, i, amounts[i], detailList, TRANSACTION_TYPE_INCOME, typeList[0], result);
+        }
+        return (true, result);
+    }
+
+    function batchWithdrawal(address[] transactionAddress, uint256[] amounts, int[] typeList, string[] detailList, bytes32[4] sign) public returns (bool, uint[])
+    {
+        transactionAddress = checkBatchAuth(transactionAddress, amounts, typeList, detailList, sign, "withdrawal", false);
+        uint[] memory result = new uint[](amounts.length * 2);
+        address account;
+        for (uint i = 0; i < amounts.length; i++) {
+            account = transactionAddress[3 + 2 * i];
+            require(accountMap[account], "the account has not been open");
+            balances[account] = balances[account].sub(amounts[i]);
+            totalSupply = totalSupply.sub(amounts[i]);
+            emit WithDrawal(account, amounts[i]);
+            writeLeg(transactionAddress, i, amounts[i], detailList, TRANSACTION_TYPE_SPEND, typeList[0], result);
+        }
+        return (true, result);
+    }
+
+    function batchTransfer(address[] transactionAddress, uint256[] amounts, int[] typeList, string[] detailList, bytes32[4] sign) public returns (bool, uint[])
+    {
+        transactionAddress = checkBatchAuth(transactionAddress, amounts, typeList, detailList, sign, "transfer", true);
+        uint[] memory result = new uint[](amounts.length * 2);
+        address from;
+        address to;
+        for (uint i = 0; i < amounts.length; i++) {
+            from = transactionAddress[3 + 2 * i];
+            to = transactionAddress[4 + 2 * i];
+            require(accountMap[from], "the account has not been open");
+            require(accountMap[to], "the account has not been open");
+            balances[from] = balances[from].sub(amounts[i]);
+            balances[to] = balances[to].add(amounts[i]);
+            emit Transfer(from, to, amounts[i]);
+            writeLeg(transactionAddress, i, amounts[i], detailList, TRANSACTION_TYPE_TRANSFER, typeList[0], result);
+        }
+        return (true, result);
+    }
+
     // theAddressOfTheCurrentContract
     function getAddress() public constant returns (address) {
         return address(this);
@@ -266,18 +351,27 @@ contract StandardAsset is Identity {
 
     // acquisitionOfTotalAssets
     function getTotalBalance(bytes32[4] sign) public constant returns (uint256){
+        checkTotalBalanceAuth(sign);
+        return totalSupply;
+    }
+
+    // audit: the running total and the sum of all balances, equal unless the running total drifted
+    function auditTotalBalance(bytes32[4] sign) public constant returns (uint256, uint256){
+        checkTotalBalanceAuth(sign);
+        uint256 totalBalance;
+        for (uint index = 0; index < accountList.length; index++) {
+            totalBalance = totalBalance.add(balances[accountList[index]]);
+        }
+        return (totalSupply, totalBalance);
+    }
+
+    function checkTotalBalanceAuth(bytes32[4] sign) internal constant {
         bytes memory args;
         address txOrigin;
         bool check;
         (txOrigin, check) = authCenter.check2WithSign(org, this, "getTotalBalance", args, sign);
         require(check, "getTotalBalance getTotalBalance");
         require(authCenter.checkAccount(txOrigin), "Auth:only account status is normal.");
-
-        uint256 totalBalance;
-        for (uint index = 0; index < accountList.length; index++) {
-            totalBalance = totalBalance.add(balances[accountList[index]]);
-        }
-        return totalBalance;
     }
 
     function openAccount(address account, bytes32[4] sign) onlyAccountNormal(account) public returns (bool){
@@ -317,6 +411,81 @@ contract StandardAsset is Identity {
 
     }
 
+    // the nonce is checked once for the whole batch, transfer legs of other payers are checked by check2
+    function checkBatchAuth(address[] transactionAddress, uint256[] amounts, int[] typeList, string[] detailList, bytes32[4] sign, string key, bool checkFrom) internal returns (address[]){
+        bytes memory args = genBatchTransactionArgs(transactionAddress, amounts, typeList, detailList);
+        transactionAddress = handleBatchTransactionAddress(transactionAddress);
+
+        address txOrigin;
+        bool check;
+        (txOrigin, check) = authCenter.check2WithSign(org, checkFrom ? transactionAddress[3] : address(this), bytes(key), args, sign);
+        require(check, "Forbidden ".strConcat(key));
+        if (checkFrom) {
+            for (uint i = 5; i < transactionAddress.length; i += 2) {
+                if (transactionAddress[i] != transactionAddress[3]) {
+                    require(authCenter.check2(txOrigin, org, transactionAddress[i], bytes(key)), "Forbidden ".strConcat(key));
+                }
+            }
+        }
+        return transactionAddress;
+    }
+
+    function genBatchTransactionArgs(address[] transactionAddress, uint256[] amounts, int[] typeList, string[] detailList) internal returns (bytes){
+        require(amounts.length > 0 && transactionAddress.length == 3 + 2 * amounts.length, "legs not verify");
+        bytes memory args;
+        for (uint i = 0; i < transactionAddress.length; i++) {
+            args = args.bytesAppend(transactionAddress[i]);
+        }
+        for (uint j = 0; j < amounts.length; j++) {
+            verifyTxArgsFunc(amounts[j], detailList);
+            args = args.bytesAppend(amounts[j]);
+        }
+        for (uint k = 0; k < typeList.length; k++) {
+            uint256 _type = (uint256)(typeList[k]);
+            args = args.bytesAppend(_type);
+        }
+        for (uint l = 0; l < detailList.length; l++) {
+            args = args.bytesAppend(bytes(detailList[l]));
+        }
+        return args;
+    }
+
+    function handleBatchTransactionAddress(address[] transactionAddress) internal view returns (address[]){
+        address[] memory innerAddress = new address[](transactionAddress.length);
+        address inner;
+        bool isCheck;
+        for (uint i = 0; i < transactionAddress.length; i++) {
+            // asset and related asset are contract addresses
+            if (i == 1 || i == 2 || address(0) == transactionAddress[i]) {
+                innerAddress[i] = transactionAddress[i];
+                continue;
+            }
+            (inner, isCheck) = authCenter.getInnerAccountAndStatus(transactionAddress[i]);
+            require(isCheck, "operator or account is not normal");
+            innerAddress[i] = inner;
+        }
+        return innerAddress;
+    }
+
+    function writeLeg(address[] transactionAddress, uint index, uint256 amount, string[] detailList, int transactionType, int operationType, uint[] result) internal {
+        address[] memory legAddress = new address[](5);
+        legAddress[0] = transactionAddress[0];
+        legAddress[1] = transactionAddress[1];
+        legAddress[2] = transactionAddress[3 + 2 * index];
+        legAddress[3] = transactionAddress[4 + 2 * index];
+        legAddress[4] = transactionAddress[2];
+
+        int[] memory typeDetail = new int[](2);
+        typeDetail[0] = transactionType;
+        typeDetail[1] = operationType;
+        bool isWrite;
+        uint[2] memory written;
+        (isWrite, written) = book.write(legAddress, amount, detailList, typeDetail);
+        emit InsertResult(written[0], written[1], legAddress[2], legAddress[3], amount);
+        result[2 * index] = written[0];
+        result[2 * index + 1] = written[1];
+    }
+
     function genKey(string funtionName) internal view returns (bytes){
         bytes memory key;
         key = key.bytesAppend(address(this));
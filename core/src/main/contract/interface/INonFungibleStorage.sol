@@ -37,6 +37,8 @@ contract INonFungibleStorage {
 
     function getAccounts() public view returns (address[]);
 
+    function getAccountsByIndex(uint256 start, uint256 num) public view returns (address[], uint256);
+
     function existAccount(address account) public view returns (bool);
 
     //***********************note‘s function*********************************************/
@@ -51,6 +53,8 @@ contract INonFungibleStorage {
 
     function getNoteByAccount(address account, uint256 start, uint256 end) public view returns (uint256[]);
 
+    function getNoteRangesByAccount(address account, uint256 start, uint256 num) public view returns (uint256[], uint256[], uint256);
+
     function getAccountNoteSize(address account) public constant returns (uint256);
 
     function updateNoteNo(uint256 oldNoteNo, uint256 newNoteNo) public returns (bool isUpdate);
@@ -11,6 +11,8 @@ contract IStandardAsset is BaseIdentity {
     //    queryAccountList
     function getHolders(bytes32[4] sign) public constant returns (address[]);
 
+    function getHoldersByIndex(uint256 start, uint256 num, bytes32[4] sign) public constant returns (address[], uint256);
+
     //    balance of account
     function getBalance(address account, bytes32[4] sign) public constant returns (uint256);
 
@@ -28,4 +30,6 @@ contract IStandardAsset is BaseIdentity {
 
     function getTotalBalance(bytes32[4] sign) public constant returns (uint256);
 
+    function auditTotalBalance(bytes32[4] sign) public constant returns (uint256, uint256);
+
 }
\ No newline at end of file
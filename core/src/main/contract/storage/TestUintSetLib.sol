@@ -0,0 +1,81 @@
+pragma solidity ^0.4.24;
+pragma experimental ABIEncoderV2;
+
+import "./UintSetLib.sol";
+
+contract TestUintSetLib {
+    using UintSetLib for UintSetLib.Set;
+    UintSetLib.Set s;
+    //the array copy removal NonFungibleStorage used before UintSetLib, kept to compare the gas
+    uint[] l;
+
+    function t_insert0() public returns (bool){
+        s.insert(1);
+        s.insert(2);
+        s.insert(3);
+        return true;
+    }
+
+    function t_insert(uint key) public returns (bool){
+        return s.insert(key);
+    }
+
+    function t_has(uint key) public returns (bool){
+        return s.contains(key);
+    }
+
+    function t_remove(uint key) public returns (bool){
+        return s.remove(key);
+    }
+
+    function t_get(uint i) public returns (uint){
+        return s.get(i);
+    }
+
+    function t_geti(uint key) public returns (uint){
+        return s.geti(key);
+    }
+
+    function t_getall() public returns (uint[]){
+        return s.getAll();
+    }
+
+    function t_log() public returns (uint[], uint[]) {
+        return s.log();
+    }
+
+    //benchmark: hold keys [from, from + num) in both the set and the array
+    function b_fill(uint from, uint num) public returns (uint){
+        for (uint i = from; i < from + num; i++) {
+            s.insert(i);
+            l.push(i);
+        }
+        return s.size();
+    }
+
+    //benchmark: gas of one swap-and-pop removal, flat in the holdings size
+    function b_remove(uint key) public returns (uint gasUsed){
+        uint before = gasleft();
+        s.remove(key);
+        gasUsed = before - gasleft();
+    }
+
+    //benchmark: gas of one array copy removal, linear in the holdings size
+    function b_removeCopy(uint key) public returns (uint gasUsed){
+        uint before = gasleft();
+        uint[] memory newList = new uint[](l.length - 1);
+        bool isIndex;
+        for (uint i = 0; i < newList.length; i++) {
+            if (!isIndex && l[i] == key) {
+                isIndex = true;
+            }
+            if (isIndex) {
+                newList[i] = l[i + 1];
+            } else {
+                newList[i] = l[i];
+            }
+        }
+        l = newList;
+        gasUsed = before - gasleft();
+    }
+}
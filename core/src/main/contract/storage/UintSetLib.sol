@@ -0,0 +1,73 @@
+pragma solidity ^0.4.24;
+pragma experimental ABIEncoderV2;
+
+library UintSetLib {
+
+    struct Set {
+        mapping(uint => uint) IndexList;
+        uint[] keyList; //keyList[index-1]
+    }
+
+
+    //Returns: true if the set contained the specified element
+    function insert(Set storage self, uint key) internal returns (bool) {
+        require(key != 0, "UintSet: Key cannot be 0");
+        if (contains(self, key)) {
+            return true;
+        }
+        self.IndexList[key] = self.keyList.push(key);
+        return false;
+    }
+
+    //Returns: true if the set contained the specified element
+    //the last key is moved into the slot of the removed one, so the order of keyList is not kept
+    function remove(Set storage self, uint key) internal returns (bool) {
+        if (!contains(self, key)) {
+            return false;
+        }
+
+        //step 1. move the lastKey to removedIndex
+        //step 2. delete index
+        uint lastKey = self.keyList[self.keyList.length - 1];
+        uint toBeRemovedIndex = self.IndexList[key];
+        self.IndexList[lastKey] = toBeRemovedIndex;
+        self.keyList[toBeRemovedIndex - 1] = lastKey;
+        delete self.IndexList[key];
+        self.keyList.length--;
+        return true;
+    }
+
+    function size(Set storage self) internal view returns (uint) {
+        return self.keyList.length;
+    }
+
+    function contains(Set storage self, uint key) internal view returns (bool) {
+        return self.IndexList[key] != 0;
+    }
+
+    function get(Set storage self, uint index) internal view returns (uint) {
+        return self.keyList[index];
+    }
+
+    function geti(Set storage self, uint key) internal view returns (uint) {
+        return self.IndexList[key];
+    }
+
+    function getAll(Set storage self) internal view returns (uint[]) {
+        return self.keyList;
+    }
+
+    //only for test
+    function log(Set storage self) internal view returns (uint[] memory a, uint[] memory b) {
+        uint num = size(self);
+        a = new uint[](num);
+        b = new uint[](num);
+
+        for (uint i = 0; i < num; i++) {
+            a[i] = get(self, i);
+            b[i] = geti(self, a[i]);
+        }
+
+    }
+
+}
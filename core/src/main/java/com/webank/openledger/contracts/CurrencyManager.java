@@ -25,11 +25,11 @@ import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 
 @SuppressWarnings("unchecked")
 public class CurrencyManager extends Contract {
-    public static final String[] BINARY_ARRAY = {"608060405234801561001057600080fd5b506201151580620000226000396000f30060806040526004361062000043576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff168063c6e8631b1462000048575b600080fd5b3480156200005557600080fd5b5062000145600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803560ff169060200190929190803573ffffffffffffffffffffffffffffffffffffffff169060200190929190803573ffffffffffffffffffffffffffffffffffffffff16906020019092919050505062000187565b604051808273ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200191505060405180910390f35b6000808686868686620001996200031a565b8080602001806020018660ff1660ff1681526020018573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020018473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001838103835288818151815260200191508051906020019080838360005b838110156200024c5780820151818401526020810190506200022f565b50505050905090810190601f1680156200027a5780820380516001836020036101000a031916815260200191505b50838103825287818151815260200191508051906020019080838360005b83811015620002b557808201518184015260208101905062000298565b50505050905090810190601f168015620002e35780820380516001836020036101000a031916815260200191505b50975050505050505050604051809103906000f0801580156200030a573d6000803e3d6000fd5b5090508091505095945050505050565b604051620111bd806200032d83390190560060806040526040805190810160405280600681526020017f7075626c69630000000000000000000000000000000000000000000000000000815250600090805190602001906200005192919062001228565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250600190805190602001906200009f92919062001228565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060029080519060200190620000ed92919062001228565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906200013b92919062001228565b506040805190810160405280600281526020017f5f77000000000000000000000000000000000000000000000000000000000000815250600490805190602001906200018992919062001228565b506040805190810160405280600381526020017f616c6c000000000000000000000000000000000000000000000000000000000081525060059080519060200190620001d792919062001228565b506040805190810160405280600281526020017f6964000000000000000000000000000000000000000000000000000000000000815250600690805190602001906200022592919062001228565b506040805190810160405280600481526020017f6164647200000000000000000000000000000000000000000000000000000000815250600790805190602001906200027392919062001228565b506040805190810160405280600481526020017f747970650000000000000000000000000000000000000000000000000000000081525060089080519060200190620002c192919062001228565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906200030f92919062001228565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906200035d92919062001228565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b9080519060200190620003ab92919062001228565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c9080519060200190620003f992919062001228565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d90805190602001906200044792919062001228565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e90805190602001906200049592919062001228565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f9080519060200190620004e392919062001228565b506040805190810160405280600781526020017f62616c616e636500000000000000000000000000000000000000000000000000815250601090805190602001906200053192919062001228565b506040805190810160405280600681526020017f7265636f72640000000000000000000000000000000000000000000000000000815250601190805190602001906200057f92919062001228565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060129080519060200190620005cd92919062001228565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906200061b92919062001228565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250601490805190602001906200066992919062001228565b506040805190810160405280600481526020017f757365720000000000000000000000000000000000000000000000000000000081525060159080519060200190620006b792919062001228565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015620007d557600080fd5b50604051620111bd380380620111bd8339810180604052620007fb919081019062001575565b84828281816060620008373073ffffffffffffffffffffffffffffffffffffffff1662000dd064010000000002620078b4176401000000009004565b9050620008fd60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620008d75780601f10620008ab57610100808354040283529160200191620008d7565b820191906000526020600020905b815481529060010190602001808311620008b957829003601f168201915b505050505082601b62000eb4640100000000026200634417909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620009c657600080fd5b505af1158015620009db573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000a01919081019062001549565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000ac857600080fd5b505af115801562000add573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000b03919081019062001549565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151562000bc15781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062000c03565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050506000835111801562000c19575060408351105b151562000c5d576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162000c54906200188f565b60405180910390fd5b8073ffffffffffffffffffffffffffffffffffffffff1663af0680206040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381","600087803b15801562000cc257600080fd5b505af115801562000cd7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000cfd919081019062001549565b838262000d09620012af565b62000d17939291906200184b565b604051809103906000f08015801562000d34573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550505050846028908051906020019062000d90929190620012c0565b50836027908051906020019062000da9929190620012c0565b5082602960006101000a81548160ff021916908360ff1602179055505050505050620019d3565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801562000e1c5781602001602082028038833980820191505090505b509250600090505b601481101562000ead57818160148110151562000e3d57fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151562000e6f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062000e24565b5050919050565b60008084600001846040518082805190602001908083835b60208310151562000ef3578051825260208201915060208101905060208303925062000ecc565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115620010b0577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151562000fcc578051825260208201915060208101905060208303925062000fa5565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405162001015959493929190620017d9565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200105a578051825260208201915060208101905060208303925062001033565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190620010a592919062001347565b506001915062001220565b8285600001856040518082805190602001908083835b602083101515620010ed5780518252602082019150602081019050602083039250620010c6565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200113892919062001347565b50846001018054809190600101620011519190620013ce565b90506001810185600001856040518082805190602001908083835b6020831015156200119357805182526020820191506020810190506020830392506200116c565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515620011e057fe5b906000526020600020906002020160000190805190602001906200120692919062001347565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200126b57805160ff19168380011785556200129c565b828001600101855582156200129c579182015b828111156200129b5782518255916020019190600101906200127e565b5b509050620012ab919062001403565b5090565b604051615936806200b88783390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200130357805160ff191683800117855562001334565b8280016001018555821562001334579182015b828111156200133357825182559160200191906001019062001316565b5b50905062001343919062001403565b5090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200138a57805160ff1916838001178555620013bb565b82800160010185558215620013bb579182015b82811115620013ba5782518255916020019190600101906200139d565b5b509050620013ca919062001403565b5090565b815481835581811115620013fe57600202816002028360005260206000209182019101620013fd91906200142b565b5b505050565b6200142891905b80821115620014245760008160009055506001016200140a565b5090565b90565b6200147091905b808211156200146c57600080820160006200144e919062001473565b6001820160006101000a81549060ff02191690555060020162001432565b5090565b90565b50805460018160011615610100020316600290046000825580601f106200149b5750620014bc565b601f016020900490600052602060002090810190620014bb919062001403565b5b50565b6000620014cd82516200195f565b905092915050565b600082601f8301121515620014e957600080fd5b815162001500620014fa82620018df565b620018b1565b915080825260208301602083018583830111156200151d57600080fd5b6200152a8382846200198c565b50505092915050565b60006200154182516200197f565b905092915050565b6000602082840312156200155c57600080fd5b60006200156c84828501620014bf565b91505092915050565b600080600080600060a086880312156200158e57600080fd5b600086015167ffffffffffffffff811115620015a957600080fd5b620015b788828901620014d5565b955050602086015167ffffffffffffffff811115620015d557600080fd5b620015e388828901620014d5565b9450506040620015f68882890162001533565b93505060606200160988828901620014bf565b92505060806200161c88828901620014bf565b9150509295509295909350565b62001634816200193f565b82525050565b6000620016478262001929565b8084526200165d8160208601602086016200198c565b6200166881620019c2565b602085010191505092915050565b600062001683826200191e565b808452620016998160208601602086016200198c565b620016a481620019c2565b602085010191505092915050565b600081546001811660008114620016d25760018114620016f35762001738565b607f600283041680865260ff19831660208701526040860193505062001738565b600282048086526020860195506200170b856200190c565b60005b828110156200172f578154818901526001820191506020810190506200170e565b80880195505050505b505092915050565b60006200174d8262001934565b808452620017638160208601602086016200198c565b6200176e81620019c2565b602085010191505092915050565b6000603282527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634206c6f6e6700000000000000000000000000006040830152606082019050919050565b600060a082019050620017f0600083018862001629565b620017ff602083018762001629565b818103604083015262001813818662001676565b905081810360608301526200182981856200163a565b905081810360808301526200183f8184620016b2565b90509695505050505050565b600060608201905062001862600083018662001629565b818103602083015262001876818562001740565b905062001887604083018462001629565b949350505050565b60006020820190508181036000830152620018aa816200177c565b9050919050565b6000604051905081810181811067ffffffffffffffff82111715620018d557600080fd5b8060405250919050565b600067ffffffffffffffff821115620018f757600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600060ff82169050919050565b60005b83811015620019ac5780820151818401526020810190506200198f565b83811115620019bc576000848401525b50505050565b6000601f19601f8301169050919050565b619ea480620019e36000396000f3006080604052600436106102a9576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806301db8d89146102ae57806303ba71eb146102d957806306fdde0314610304578063081f93391461032f5780630c0fd8861461035a5780630feca68a14610385578063117803e3146103b057806315e9977e146103db5780631dedfd471461040657806320ba5b601461044457806323a772bd1461048157806326bca089146104ac578063283d26ca146104e95780632a0acc6a146105145780632ef8cb1c1461053f578063313ce5671461056a57806338cc48311461059557806339151753146105c05780633a0e6174146105eb5780633b007d8e14610616578063403c6cfa146106535780635262e2a11461069057806357872d13146106bb57806358edef4c146106e6578063632e1dfe14610723578063699cc7f11461074e5780636adc4165146107795780637bdd20b2146107a457806381e167cf146107e15780638662acad1461080c57806390023f9514610849578063949d225d1461088757806395d89b41146108b2578063983d2737146108dd57806399f2592a146109085780639d53fe2b14610946578063a0997a5814610971578063a18c751e146109ae578063ac44522e146109eb578063b11569f514610a28578063b1c5afa714610a53578063b3032be814610a90578063b3cea21714610abb578063b4eb5ede14610ae6578063b85a290114610b11578063bb1239c314610b3c578063bb24fe8a14610b67578063c28304aa14610b92578063c55fc52d14610bbd578063cb6163ad14610be8578063cd2f381a14610c25578063d087d28814610c63578063d6d7d52514610c8e578063e077fef914610ccb578063e8c2553a14610d08578063ef966c8914610d45578063f307b32c14610d82575b600080fd5b3480156102ba57600080fd5b506102c3610dad565b6040516102d091906196","8b565b60405180910390f35b3480156102e557600080fd5b506102ee610e4b565b6040516102fb919061968b565b60405180910390f35b34801561031057600080fd5b50610319610ee9565b6040516103269190619706565b60405180910390f35b34801561033b57600080fd5b50610344610f87565b604051610351919061968b565b60405180910390f35b34801561036657600080fd5b5061036f611025565b60405161037c919061968b565b60405180910390f35b34801561039157600080fd5b5061039a6110c3565b6040516103a79190619a4a565b60405180910390f35b3480156103bc57600080fd5b506103c56110e9565b6040516103d2919061968b565b60405180910390f35b3480156103e757600080fd5b506103f0611187565b6040516103fd919061968b565b60405180910390f35b34801561041257600080fd5b5061042d6004803603610428919081019061814e565b611225565b60405161043b929190619662565b60405180910390f35b34801561045057600080fd5b5061046b6004803603610466919081019061841d565b611264565b6040516104789190619617565b60405180910390f35b34801561048d57600080fd5b50610496611462565b6040516104a3919061968b565b60405180910390f35b3480156104b857600080fd5b506104d360048036036104ce9190810190618278565b611500565b6040516104e091906195a9565b60405180910390f35b3480156104f557600080fd5b506104fe611e57565b60405161050b919061968b565b60405180910390f35b34801561052057600080fd5b50610529611ef5565b604051610536919061968b565b60405180910390f35b34801561054b57600080fd5b50610554611f93565b604051610561919061968b565b60405180910390f35b34801561057657600080fd5b5061057f612031565b60405161058c9190619ab8565b60405180910390f35b3480156105a157600080fd5b506105aa612044565b6040516105b79190619098565b60405180910390f35b3480156105cc57600080fd5b506105d561204c565b6040516105e2919061968b565b60405180910390f35b3480156105f757600080fd5b506106006120ea565b60405161060d919061968b565b60405180910390f35b34801561062257600080fd5b5061063d6004803603610638919081019061841d565b612188565b60405161064a9190619617565b60405180910390f35b34801561065f57600080fd5b5061067a6004803603610675919081019061820e565b612386565b6040516106879190619a4a565b60405180910390f35b34801561069c57600080fd5b506106a5612699565b6040516106b29190619098565b60405180910390f35b3480156106c757600080fd5b506106d06126c3565b6040516106dd919061968b565b60405180910390f35b3480156106f257600080fd5b5061070d60048036036107089190810190618388565b612761565b60405161071a9190619617565b60405180910390f35b34801561072f57600080fd5b5061073861295c565b6040516107459190619098565b60405180910390f35b34801561075a57600080fd5b50610763612982565b604051610770919061968b565b60405180910390f35b34801561078557600080fd5b5061078e612a20565b60405161079b9190619098565b60405180910390f35b3480156107b057600080fd5b506107cb60048036036107c691908101906183c9565b612a46565b6040516107d89190619617565b60405180910390f35b3480156107ed57600080fd5b506107f6612c69565b604051610803919061968b565b60405180910390f35b34801561081857600080fd5b50610833600480360361082e91908101906183c9565b612d07565b60405161084091906196ad565b60405180910390f35b34801561085557600080fd5b50610870600480360361086b919081019061814e565b612f29565b60405161087e929190619662565b60405180910390f35b34801561089357600080fd5b5061089c613305565b6040516108a99190619a4a565b60405180910390f35b3480156108be57600080fd5b506108c7613316565b6040516108d49190619706565b60405180910390f35b3480156108e957600080fd5b506108f26133b4565b6040516108ff919061968b565b60405180910390f35b34801561091457600080fd5b5061092f600480360361092a919081019061814e565b613452565b60405161093d929190619662565b60405180910390f35b34801561095257600080fd5b5061095b6139f5565b604051610968919061968b565b60405180910390f35b34801561097d57600080fd5b5061099860048036036109939190810190618095565b613a93565b6040516109a59190619a4a565b60405180910390f35b3480156109ba57600080fd5b506109d560048036036109d0919081019061841d565b613e84565b6040516109e29190619617565b60405180910390f35b3480156109f757600080fd5b50610a126004803603610a0d9190810190618489565b614082565b604051610a1f9190619617565b60405180910390f35b348015610a3457600080fd5b50610a3d6142ba565b604051610a4a9190619098565b60405180910390f35b348015610a5f57600080fd5b50610a7a6004803603610a75919081019061820e565b6142e0565b604051610a879190619a4a565b60405180910390f35b348015610a9c57600080fd5b50610aa56145e7565b604051610ab29190619098565b60405180910390f35b348015610ac757600080fd5b50610ad06146ac565b604051610add919061968b565b60405180910390f35b348015610af257600080fd5b50610afb61474a565b604051610b08919061968b565b60405180910390f35b348015610b1d57600080fd5b50610b266147e8565b604051610b33919061968b565b60405180910390f35b348015610b4857600080fd5b50610b51614886565b604051610b5e9190619098565b60405180910390f35b348015610b7357600080fd5b50610b7c6148ac565b604051610b89919061968b565b60405180910390f35b348015610b9e57600080fd5b50610ba761494a565b604051610bb49190619098565b60405180910390f35b348015610bc957600080fd5b50610bd2614974565b604051610bdf9190619098565b60405180910390f35b348015610bf457600080fd5b50610c0f6004803603610c0a9190810190618489565b614a39565b604051610c1c9190619617565b60405180910390f35b348015610c3157600080fd5b50610c4c6004803603610c47919081019061810d565b614c71565b604051610c5a929190619632565b60405180910390f35b348015610c6f57600080fd5b50610c78614ef5565b604051610c859190619a4a565b60405180910390f35b348015610c9a57600080fd5b50610cb56004803603610cb09190810190618388565b614eff565b604051610cc291906196ad565b60405180910390f35b348015610cd757600080fd5b50610cf26004803603610ced919081019061820e565b6150fa565b604051610cff919061952d565b60405180910390f35b348015610d1457600080fd5b50610d2f6004803603610d2a9190810190618489565b6154f7565b604051610d3c9190619617565b60405180910390f35b348015610d5157600080fd5b50610d6c6004803603610d679190810190618095565b61572f565b604051610d799190619617565b60405180910390f35b348015610d8e57600080fd5b50610d97615e5f565b604051610da4919061968b565b60405180910390f35b600c8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015610e435780601f10610e1857610100808354040283529160200191610e43565b820191906000526020600020905b815481529060010190602001808311610e2657829003601f168201915b505050505081565b600e8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015610ee15780601f10610eb657610100808354040283529160200191610ee1565b820191906000526020600020905b815481529060010190602001808311610ec457829003601f168201915b505050505081565b60288054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015610f7f5780601f10610f5457610100808354040283529160200191610f7f565b820191906000526020600020905b815481529060010190602001808311610f6257829003601f168201915b505050505081565b600d8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561101d5780601f10610ff25761010080835404028352916020019161101d565b820191906000526020600020905b81548152906001019060200180831161100057829003601f168201915b505050505081565b600b8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156110bb5780601f10611090576101008083540402835291602001916110bb565b820191906000526020600020905b81548152906001019060200180831161109e57829003601f168201915b505050505081565b60006110db6001602154615efd90919063ffffffff16565b602181905550602154905090565b60148054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561117f5780601f106111545761010080835404028352916020019161117f565b820191906000526020600020905b81548152906001019060200180831161116257829003601f168201915b505050505081565b60108054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561121d5780601f106111f25761010080835404028352916020019161121d565b820191906000526020600020905b81548152906001019060200180831161120057829003601f168201915b505050505081565b600061122f6179f3565b602960009054906101000a900460ff1660ff16600a0a860295506112568787878787615f54565b915091509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061137660","048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156113625780601f1061133757610100808354040283529160200191611362565b820191906000526020600020905b81548152906001019060200180831161134557829003601f168201915b50505050508961633090919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113b194939291906190b3565b602060405180830381600087803b1580156113cb57600080fd5b505af11580156113df573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506114039190810190618323565b1515611444576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161143b9061994a565b60405180910390fd5b61145a8383601b6163449092919063ffffffff16565b905092915050565b60118054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156114f85780601f106114cd576101008083540402835291602001916114f8565b820191906000526020600020905b8154815290600101906020018083116114db57829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115ad94939291906193e4565b6040805180830381600087803b1580156115c657600080fd5b505af11580156115da573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506115fe91908101906180d1565b8097508198505050851515611648576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161163f906197ca565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116bf9190619098565b602060405180830381600087803b1580156116d957600080fd5b505af11580156116ed573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506117119190810190618323565b1515611752576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016117499061982a565b60405180910390fd5b60028b5114801561179257508a600181518110151561176d57fe5b906020019060200201518b600081518110151561178657fe5b90602001906020020151125b15156117d3576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016117ca906198aa565b60405180910390fd5b60008c51111561184d57600093505b8b5184101561184c578b848151811015156117f957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff16141561183f576001945061184c565b83806001019450506117e2565b5b84151561192057601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634768e049886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016118cb9190619098565b602060405180830381600087803b1580156118e557600080fd5b505af11580156118f9573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061191d9190810190618323565b94505b841515611962576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016119599061974a565b60405180910390fd5b6000602380549050141561197857829850611e47565b60008c511180156119ce5750600073ffffffffffffffffffffffffffffffffffffffff168c60008151811015156119ab57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15611b7557601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d6000815181101515611a2057fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611a629190619098565b602060405180830381600087803b158015611a7c57600080fd5b505af1158015611a90573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611ab4919081019061806c565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151515611b28576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611b1f906197aa565b60405180910390fd5b818c6000815181101515611b3857fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c51118015611bcb5750600073ffffffffffffffffffffffffffffffffffffffff168c6001815181101515611ba857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15611d7257601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d6001815181101515611c1d57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611c5f9190619098565b602060405180830381600087803b158015611c7957600080fd5b505af1158015611c8d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611cb1919081019061806c565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff1614151515611d25576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611d1c9061998a565b60405180910390fd5b808c6001815181101515611d3557fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663521ae5368e8e8e6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611ded939291906195cb565b600060405180830381600087803b158015611e0757600080fd5b505af1158015611e1b573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250611e449190810190618237565b98505b5050505050505050949350505050565b600a8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611eed5780601f10611ec257610100808354040283529160200191611eed565b820191906000526020600020905b815481529060010190602001808311611ed057829003601f168201915b505050505081565b60128054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611f8b5780601f10611f6057610100808354040283529160200191611f8b565b820191906000526020600020905b815481529060010190602001808311611f6e57829003601f168201915b505050505081565b60038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156120295780601f10611ffe57610100808354040283529160200191612029565b820191906000526020600020905b81548152906001019060200180831161200c57829003601f168201915b505050505081565b602960009054906101000a900460ff1681565b600030905090565b60028054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156120e25780601f106120b7576101008083540402835291602001916120e2565b820191906000526020600020905b8154815290600101906020018083116120c557829003601f168201915b505050505081565b60018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156121805780601f1061215557610100808354040283529160200191612180565b820191906000526020600020905b81548152906001019060200180831161216357829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061229a60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156122865780601f1061225b57610100808354040283529160200191612286565b820191906000526020600020905b81548152906001019060200180831161226957829003601f168201915b50505050508961633090919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016122d59493","9291906190b3565b602060405180830381600087803b1580156122ef57600080fd5b505af1158015612303573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506123279190810190618323565b1515612368576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161235f90619a2a565b60405180910390fd5b61237e8383601b6166a19092919063ffffffff16565b905092915050565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161242c9493929190619384565b6040805180830381600087803b15801561244557600080fd5b505af1158015612459573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061247d91908101906180d1565b80925081935050508015156124c7576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016124be9061976a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161253e9190619098565b602060405180830381600087803b15801561255857600080fd5b505af115801561256c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506125909190810190618323565b15156125d1576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016125c89061982a565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e953d0af6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561265757600080fd5b505af115801561266b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061268f9190810190618508565b9350505050919050565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156127595780601f1061272e57610100808354040283529160200191612759565b820191906000526020600020905b81548152906001019060200180831161273c57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061287360048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561285f5780601f106128345761010080835404028352916020019161285f565b820191906000526020600020905b81548152906001019060200180831161284257829003601f168201915b50505050508861633090919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016128ae94939291906190b3565b602060405180830381600087803b1580156128c857600080fd5b505af11580156128dc573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129009190810190618323565b1515612941576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016129389061984a565b60405180910390fd5b61295582601b61689690919063ffffffff16565b9050919050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600f8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612a185780601f106129ed57610100808354040283529160200191612a18565b820191906000526020600020905b8154815290600101906020018083116129fb57829003601f168201915b505050505081565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60006060600080612a60868461633090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630612b7160048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612b5d5780601f10612b3257610100808354040283529160200191612b5d565b820191906000526020600020905b815481529060010190602001808311612b4057829003601f168201915b50505050508b61633090919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612baf959493929190619260565b6040805180830381600087803b158015612bc857600080fd5b505af1158015612bdc573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c0091908101906180d1565b8092508193505050801515612c4a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612c419061984a565b60405180910390fd5b612c5e86601b61689690919063ffffffff16565b935050505092915050565b60158054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612cff5780601f10612cd457610100808354040283529160200191612cff565b820191906000526020600020905b815481529060010190602001808311612ce257829003601f168201915b505050505081565b606080600080612d20868461633090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630612e3160038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612e1d5780601f10612df257610100808354040283529160200191612e1d565b820191906000526020600020905b815481529060010190602001808311612e0057829003601f168201915b50505050508b61633090919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612e6f959493929190619260565b6040805180830381600087803b158015612e8857600080fd5b505af1158015612e9c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612ec091908101906180d1565b8092508193505050801515612f0a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612f01906198ea565b60405180910390fd5b612f1e86601b616ae890919063ffffffff16565b935050505092915050565b6000612f336179f3565b600060606000612f416179f3565b612f848b8b8b8b8b6040805190810160405280600a81526020017f7769746864726177616c00000000000000000000000000000000000000000000815250616bfb565b9a508a6002815181101515612f9557fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff16151561302f576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613026906198ca565b60405180910390fd5b6130818a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054616e0890919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555060026040519080825280602002602001820160405280156130f45781602001602082028038833980820191505090505b509250600183600081518110151561310857fe5b906020019060200201818152505088600081518110151561312557fe5b9060200190602002015183600181518110151561313e57fe5b90602001906020020181815250507fb6e26e54bd578616699ab07efb4c2e322b45a80673803bbb259443d9fecee652848b60405161317d929190619504565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718c8c8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613202949392919061954f565b606060405180830381600087803b15801561321c57600080fd5b505af1158015613230573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613254919081019061834c565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada81600060028110151561328c57fe5b60200201518260016002811015156132a057fe5b60200201518d60028151811015156132b457fe5b906020019060200201518e60038151811015156132cd57fe5b","906020019060200201518e6040516132e9959493929190619a65565b60405180910390a1818195509550505050509550959350505050565b6000613311601b616e5f565b905090565b60278054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156133ac5780601f10613381576101008083540402835291602001916133ac565b820191906000526020600020905b81548152906001019060200180831161338f57829003601f168201915b505050505081565b60138054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561344a5780601f1061341f5761010080835404028352916020019161344a565b820191906000526020600020905b81548152906001019060200180831161342d57829003601f168201915b505050505081565b600061345c6179f3565b606060006134686179f3565b6134ab8a8a8a8a8a6040805190810160405280600881526020017f7472616e73666572000000000000000000000000000000000000000000000000815250616e6d565b9950602460008b60028151811015156134c057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613553576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161354a906198ca565b60405180910390fd5b602460008b600381518110151561356657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156135f9576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016135f0906198ca565b60405180910390fd5b61366389602560008d600281518110151561361057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054616e0890919063ffffffff16565b602560008c600281518110151561367657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555061372889602560008d60038151811015156136d557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054615efd90919063ffffffff16565b602560008c600381518110151561373b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555060026040519080825280602002602001820160405280156137b35781602001602082028038833980820191505090505b50925060028360008151811015156137c757fe5b90602001906020020181815250508760008151811015156137e457fe5b906020019060200201518360018151811015156137fd57fe5b90602001906020020181815250507fddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef8a600281518110151561383b57fe5b906020019060200201518b600381518110151561385457fe5b906020019060200201518b60405161386e93929190619229565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718b8b8a876040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138f3949392919061954f565b606060405180830381600087803b15801561390d57600080fd5b505af1158015613921573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613945919081019061834c565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada81600060028110151561397d57fe5b602002015182600160028110151561399157fe5b60200201518c60028151811015156139a557fe5b906020019060200201518d60038151811015156139be57fe5b906020019060200201518d6040516139da959493929190619a65565b60405180910390a18181945094505050509550959350505050565b60098054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613a8b5780601f10613a6057610100808354040283529160200191613a8b565b820191906000526020600020905b815481529060010190602001808311613a6e57829003601f168201915b505050505081565b6000806060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613b129190619098565b602060405180830381600087803b158015613b2c57600080fd5b505af1158015613b40573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613b64919081019061806c565b9350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613bf4576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613beb906198ca565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1686868a6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613c9394939291906191c9565b6040805180830381600087803b158015613cac57600080fd5b505af1158015613cc0573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613ce491908101906180d1565b8092508193505050801515613d2e576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613d2590619a0a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613da59190619098565b602060405180830381600087803b158015613dbf57600080fd5b505af1158015613dd3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613df79190810190618323565b1515613e38576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613e2f9061982a565b60405180910390fd5b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205494505050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630613f9660048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613f825780601f10613f5757610100808354040283529160200191613f82565b820191906000526020600020905b815481529060010190602001808311613f6557829003601f168201915b50505050508961633090919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613fd194939291906190b3565b602060405180830381600087803b158015613feb57600080fd5b505af1158015613fff573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506140239190810190618323565b1515614064576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161405b9061978a565b60405180910390fd5b61407a8383601b6170929092919063ffffffff16565b905092915050565b600060606000806140ae866140a0898661633090919063ffffffff16565b61633090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306141bf60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156141ab5780601f10614180576101008083540402835291602001916141ab565b820191906000526020600020905b81548152906001019060200180831161418e57829003601f168201915b50505050508c61633090919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016141fd959493929190619260565b6040805180830381600087803b15801561421657600080fd5b505af115801561422a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061424e91908101906180d1565b8092508193505050801515614298576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161428f90619a2a565b60405180910390fd5b6142ae8787601b6166a19092919063ffffffff16565b93505050509392505050565b601660009054906101000a900473ffffffffff","ffffffffffffffffffffffffffffff1681565b60006060600080600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161438994939291906194a4565b6040805180830381600087803b1580156143a257600080fd5b505af11580156143b6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506143da91908101906180d1565b8094508195505050821515614424576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161441b9061992a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161449b9190619098565b602060405180830381600087803b1580156144b557600080fd5b505af11580156144c9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506144ed9190810190618323565b151561452e576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016145259061982a565b60405180910390fd5b600090505b6023805490508110156145da576145cb6025600060238481548110151561455657fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205483615efd90919063ffffffff16565b91508080600101915050614533565b8195505050505050919050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561466f57600080fd5b505af1158015614683573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506146a7919081019061806c565b905090565b60068054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156147425780601f1061471757610100808354040283529160200191614742565b820191906000526020600020905b81548152906001019060200180831161472557829003601f168201915b505050505081565b60078054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156147e05780601f106147b5576101008083540402835291602001916147e0565b820191906000526020600020905b8154815290600101906020018083116147c357829003601f168201915b505050505081565b60008054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561487e5780601f106148535761010080835404028352916020019161487e565b820191906000526020600020905b81548152906001019060200180831161486157829003601f168201915b505050505081565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60088054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156149425780601f1061491757610100808354040283529160200191614942565b820191906000526020600020905b81548152906001019060200180831161492557829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156149fc57600080fd5b505af1158015614a10573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614a34919081019061806c565b905090565b60006060600080614a6586614a57898661633090919063ffffffff16565b61633090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630614b7660048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614b625780601f10614b3757610100808354040283529160200191614b62565b820191906000526020600020905b815481529060010190602001808311614b4557829003601f168201915b50505050508c61633090919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614bb4959493929190619260565b6040805180830381600087803b158015614bcd57600080fd5b505af1158015614be1573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614c0591908101906180d1565b8092508193505050801515614c4f576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614c469061994a565b60405180910390fd5b614c658787601b6163449092919063ffffffff16565b93505050509392505050565b600060608060008060008651604051908082528060200260200182016040528015614cab5781602001602082028038833980820191505090505b509350600090505b8651811015614ee5576001811480614d26575060058751148015614cd75750600481145b80614d2557508681815181101515614ceb57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b5b15614d92578681815181101515614d3957fe5b906020019060200201518482815181101515614d5157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050614ed8565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663accfbdd98883815181101515614dde57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614e209190619098565b6040805180830381600087803b158015614e3957600080fd5b505af1158015614e4d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614e7191908101906180d1565b8094508193505050821515614e8c5760008495509550614eec565b818482815181101515614e9b57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8080600101915050614cb3565b8284955095505b50505050915091565b6000602154905090565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061501160038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614ffd5780601f10614fd257610100808354040283529160200191614ffd565b820191906000526020600020905b815481529060010190602001808311614fe057829003601f168201915b50505050508861633090919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161504c94939291906190b3565b602060405180830381600087803b15801561506657600080fd5b505af115801561507a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061509e9190810190618323565b15156150df576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016150d6906198ea565b60405180910390fd5b6150f382601b616ae890919063ffffffff16565b9050919050565b60608060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016151a39493929190619324565b6040805180830381600087803b1580156151bc57600080fd5b505af11580156151d0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506151f491908101906180d1565b809450819550505082151561523e576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016152359061990a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016152b59190619098565b602060405180830381600087803b1580156152cf57600080","fd5b505af11580156152e3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506153079190810190618323565b1515615348576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161533f9061982a565b60405180910390fd5b60238054905060405190808252806020026020018201604052801561537c5781602001602082028038833980820191505090505b509150600090505b6023805490508110156154ea57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca06023838154811015156153de57fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016154419190619098565b602060405180830381600087803b15801561545b57600080fd5b505af115801561546f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615493919081019061806c565b82828151811015156154a157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508080600101915050615384565b8195505050505050919050565b6000606060008061552386615515898661633090919063ffffffff16565b61633090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061563460048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156156205780601f106155f557610100808354040283529160200191615620565b820191906000526020600020905b81548152906001019060200180831161560357829003601f168201915b50505050508c61633090919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615672959493929190619260565b6040805180830381600087803b15801561568b57600080fd5b505af115801561569f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506156c391908101906180d1565b809250819350505080151561570d576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016157049061978a565b60405180910390fd5b6157238787601b6170929092919063ffffffff16565b93505050509392505050565b6000806060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016157b19190619098565b602060405180830381600087803b1580156157cb57600080fd5b505af11580156157df573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506158039190810190618323565b1515615844576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161583b9061982a565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016158bb9190619098565b602060405180830381600087803b1580156158d557600080fd5b505af11580156158e9573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061590d919081019061806c565b9550602460008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615151561599e576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615995906199aa565b60405180910390fd5b6159b1898661728f90919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888c6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615a529493929190619444565b6040805180830381600087803b158015615a6b57600080fd5b505af1158015615a7f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615aa391908101906180d1565b8094508195505050821515615aed576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615ae4906199ea565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615b649190619098565b602060405180830381600087803b158015615b7e57600080fd5b505af1158015615b92573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615bb69190810190618323565b1515615bf7576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615bee9061982a565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fbcbc0f18a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615c6e9190619098565b602060405180830381600087803b158015615c8857600080fd5b505af1158015615c9c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615cc0919081019061806c565b91508173ffffffffffffffffffffffffffffffffffffffff166395a0c79630601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660016040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615d3e939291906196cf565b602060405180830381600087803b158015615d5857600080fd5b505af1158015615d6c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615d909190810190618323565b5060238690806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001602460008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff0219169083151502179055506001965050505050505092915050565b60058054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615ef55780601f10615eca57610100808354040283529160200191615ef5565b820191906000526020600020905b815481529060010190602001808311615ed857829003601f168201915b505050505081565b6000808284019050838110151515615f4a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615f41906197ea565b60405180910390fd5b8091505092915050565b6000615f5e6179f3565b600060606000615f6c6179f3565b615faf8b8b8b8b8b6040805190810160405280600781526020017f6465706f73697400000000000000000000000000000000000000000000000000815250616bfb565b9a508a6003815181101515615fc057fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff16151561605a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616051906198ca565b60405180910390fd5b6160ac8a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054615efd90919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550600260405190808252806020026020018201604052801561611f5781602001602082028038833980820191505090505b509250600083600081518110151561613357fe5b906020019060200201818152505088600081518110151561615057fe5b9060200190602002015183600181518110151561616957fe5b90602001906020020181815250507fe1fffcc4923d04b559f4d29a8bfc6cda04eb5b0d3c460751c2402c5c5cc9109c848b6040516161a8929190619504565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718c8c8b876040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161622d949392919061954f565b606060405180830381600087803b15801561624757600080fd5b505af115801561625b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061627f919081019061834c565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada8160006002811015156162b757fe5b60200201518260016002811015156162cb57fe5b6020","0201518d60028151811015156162df57fe5b906020019060200201518e60038151811015156162f857fe5b906020019060200201518e604051616314959493929190619a65565b60405180910390a1818195509550505050509550959350505050565b606061633c83836172ab565b905092915050565b60008084600001846040518082805190602001908083835b602083101515616381578051825260208201915060208101905060208303925061635c565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115616534577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156164575780518252602082019150602081019050602083039250616432565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405161649e959493929190619161565b60405180910390a18285600001856040518082805190602001908083835b6020831015156164e157805182526020820191506020810190506020830392506164bc565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101908051906020019061652a929190617a15565b5060019150616699565b8285600001856040518082805190602001908083835b60208310151561656f578051825260208201915060208101905060208303925061654a565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906165b8929190617a15565b508460010180548091906001016165cf9190617a95565b90506001810185600001856040518082805190602001908083835b60208310151561660f57805182526020820191506020810190506020830392506165ea565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000018190555083856001018281548110151561665b57fe5b9060005260206000209060020201600001908051906020019061667f929190617a15565b508460020160008154809291906001019190505550600091505b509392505050565b60008084600001846040518082805190602001908083835b6020831015156166de57805182526020820191506020810190506020830392506166b9565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115616729576000915061688e565b8285600001856040518082805190602001908083835b602083101515616764578051825260208201915060208101905060208303925061673f565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906167ad929190617a15565b508460010180548091906001016167c49190617a95565b90506001810185600001856040518082805190602001908083835b60208310151561680457805182526020820191506020810190506020830392506167df565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000018190555083856001018281548110151561685057fe5b90600052602060002090600202016000019080519060200190616874929190617a15565b508460020160008154809291906001019190505550600191505b509392505050565b60008083600001836040518082805190602001908083835b6020831015156168d357805182526020820191506020810190506020830392506168ae565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081141561691e5760009150616ae1565b7f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b6020831015156169b2578051825260208201915060208101905060208303925061698d565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516169f9959493929190619161565b60405180910390a183600001836040518082805190602001908083835b602083101515616a3b5780518252602082019150602081019050602083039250616a16565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600080820160009055600182016000616a879190617ac7565b505060018460010160018303815481101515616a9f57fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b606082600001826040518082805190602001908083835b602083101515616b245780518252602082019150602081019050602083039250616aff565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616bee5780601f10616bc357610100808354040283529160200191616bee565b820191906000526020600020905b815481529060010190602001808311616bd157829003601f168201915b5050505050905092915050565b606060006060600080616c0e8a8961747c565b50616c1b8b8b8b8b6175dd565b9250616c268b614c71565b809c508195505050831515616c70576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616c679061986a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163089878c6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616d119594939291906192c2565b6040805180830381600087803b158015616d2a57600080fd5b505af1158015616d3e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616d6291908101906180d1565b809250819350505080616db3876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506176e390919063ffffffff16565b901515616df6576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616ded9190619728565b60405180910390fd5b508a9450505050509695505050505050565b600080838311151515616e50576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616e479061988a565b60405180910390fd5b82840390508091505092915050565b600081600201549050919050565b606060006060600080616e808a8961747c565b50616e8d8b8b8b8b6175dd565b9250616e988b614c71565b809c508195505050831515616ee2576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616ed99061986a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168d6002815181101515616f5257fe5b9060200190602002015189878c6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616f9b9594939291906190ff565b6040805180830381600087803b158015616fb457600080fd5b505af1158015616fc8573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616fec91908101906180d1565b80925081935050508061703d876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506176e390919063ffffffff16565b901515617080576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016170779190619728565b60405180910390fd5b508a9450505050509695505050505050565b60008084600001846040518082805190602001908083835b6020831015156170cf57805182526020820191506020810190506020830392506170aa565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115617282577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156171a55780518252602082019150602081019050602083039250617180565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516171ec959493929190619161565b60405180910390a18285600001856040518082805190602001908083835b60208310151561722f578051825260208201915060208101905060208303925061720a565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190617278929190617a15565b5060019150617287565b600091505b509392505050565b60606172a38361729e846178b4565b6172ab565b905092915050565b606080606080606060008088955087945084518651016040519080825280601f0160","1f1916602001820160405280156172f35781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156173b557858181518110151561731957fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561737857fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050617302565b600090505b845181101561746d5784818151811015156173d157fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561743057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506173ba565b83965050505050505092915050565b600080831115156174c2576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016174b99061996a565b60405180910390fd5b60008260008151811015156174d357fe5b9060200190602002015151118015617504575060ff8260008151811015156174f757fe5b9060200190602002015151105b1515617545576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161753c906199ca565b60405180910390fd5b6001825111156175d357600082600181518110151561756057fe5b9060200190602002015151118015617591575060ff82600181518110151561758457fe5b9060200190602002015151105b15156175d2576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016175c99061980a565b60405180910390fd5b5b6001905092915050565b606080600080600080600093505b895184101561762d5761761e8a8581518110151561760557fe5b906020019060200201518661728f90919063ffffffff16565b945083806001019450506175eb565b617640898661799390919063ffffffff16565b9450600092505b875183101561768c57878381518110151561765e57fe5b90602001906020020151915061767d828661799390919063ffffffff16565b94508280600101935050617647565b600090505b86518110156176d3576176c487828151811015156176ab57fe5b906020019060200201518661633090919063ffffffff16565b94508080600101915050617691565b8495505050505050949350505050565b606080606080606060008088955087945084518651016040519080825280601f01601f19166020018201604052801561772b5781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156177ed57858181518110151561775157fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156177b057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505061773a565b600090505b84518110156178a557848181518110151561780957fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561786857fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506177f2565b83965050505050505092915050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f1916602001820160405280156178ff5781602001602082028038833980820191505090505b509250600090505b601481101561798c57818160148110151561791e57fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151561794f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050617907565b5050919050565b60606179a7836179a2846179af565b6172ab565b905092915050565b606060206040519080825280601f01601f1916602001820160405280156179e55781602001602082028038833980820191505090505b509050816020820152919050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10617a5657805160ff1916838001178555617a84565b82800160010185558215617a84579182015b82811115617a83578251825591602001919060010190617a68565b5b509050617a919190617b0f565b5090565b815481835581811115617ac257600202816002028360005260206000209182019101617ac19190617b34565b5b505050565b50805460018160011615610100020316600290046000825580601f10617aed5750617b0c565b601f016020900490600052602060002090810190617b0b9190617b0f565b5b50565b617b3191905b80821115617b2d576000816000905550600101617b15565b5090565b90565b617b7491905b80821115617b705760008082016000617b539190617ac7565b6001820160006101000a81549060ff021916905550600201617b3a565b5090565b90565b6000617b838235619da9565b905092915050565b6000617b978251619da9565b905092915050565b600082601f8301121515617bb257600080fd5b8135617bc5617bc082619b00565b619ad3565b91508181835260208401935060208101905083856020840282011115617bea57600080fd5b60005b83811015617c1a5781617c008882617b77565b845260208401935060208301925050600181019050617bed565b5050505092915050565b600082601f8301121515617c3757600080fd5b6004617c4a617c4582619b28565b619ad3565b91508183856020840282011115617c6057600080fd5b60005b83811015617c905781617c768882617f1a565b845260208401935060208301925050600181019050617c63565b5050505092915050565b600082601f8301121515617cad57600080fd5b8135617cc0617cbb82619b4a565b619ad3565b91508181835260208401935060208101905083856020840282011115617ce557600080fd5b60005b83811015617d155781617cfb8882617f84565b845260208401935060208301925050600181019050617ce8565b5050505092915050565b600082601f8301121515617d3257600080fd5b8135617d45617d4082619b72565b619ad3565b9150818183526020840193506020810190508360005b83811015617d8b5781358601617d718882617f98565b845260208401935060208301925050600181019050617d5b565b5050505092915050565b600082601f8301121515617da857600080fd5b8151617dbb617db682619b72565b619ad3565b9150818183526020840193506020810190508360005b83811015617e015781518601617de78882617fee565b845260208401935060208301925050600181019050617dd1565b5050505092915050565b600082601f8301121515617e1e57600080fd5b6002617e31617e2c82619b9a565b619ad3565b91508183856020840282011115617e4757600080fd5b60005b83811015617e775781617e5d8882618058565b845260208401935060208301925050600181019050617e4a565b5050505092915050565b600082601f8301121515617e9457600080fd5b8135617ea7617ea282619bbc565b619ad3565b91508181835260208401935060208101905083856020840282011115617ecc57600080fd5b60005b83811015617efc5781617ee28882618044565b845260208401935060208301925050600181019050617ecf565b5050505092915050565b6000617f128251619dc9565b905092915050565b6000617f268235619dd5565b905092915050565b600082601f8301121515617f4157600080fd5b8135617f54617f4f82619be4565b619ad3565b91508082526020830160208301858383011115617f7057600080fd5b617f7b838284619e17565b50505092915050565b6000617f908235619ddf565b905092915050565b600082601f8301121515617fab57600080fd5b8135617fbe617fb982619c10565b619ad3565b91508082526020830160208301858383011115617fda57600080fd5b617fe5838284619e17565b50505092915050565b600082601f830112151561800157600080fd5b815161801461800f82619c10565b619ad3565b9150808252602083016020830185838301111561803057600080fd5b61803b838284619e26565b50505092915050565b60006180508235619de9565b905092915050565b60006180648251619de9565b905092915050565b60006020828403121561807e57600080fd5b600061808c84828501617b8b565b91505092915050565b60008060a083850312156180a857600080fd5b60006180b685828601617b77565b92505060206180c785828601617c24565b9150509250929050565b600080604083850312156180e457600080fd5b60006180f285828601617b8b565b925050602061810385828601617f06565b9150509250929050565b60006020828403121561811f57600080fd5b600082013567ffffffffffffffff81111561813957600080fd5b61814584828501617b9f565b91505092915050565b6000806000806000610100868803121561816757600080fd5b600086013567ffffffffffffffff81111561818157600080fd5b61818d88828901617b9f565b955050602061819e88828901618044565b945050604086013567ffffffffffffffff8111156181bb57600080fd5b6181c788828901617c9a565b935050606086013567ffffffffffffffff8111156181e457600080fd5b6181f088828901617d1f565b925050608061820188828901617c24565b9150509295509295909350565b60006080828403121561822057600080fd5b600061822e84828501617c24565b91505092915050565b60006020828403121561824957600080fd5b600082015167ffffffffffffffff81111561826357600080fd5b61826f84828501617d95565b91505092915050565b60008060008060e0858703121561828e57600080fd5b600085013567ffffffffffffffff8111156182a857600080fd5b6182b487828801617e81565b945050602085013567ffffffffffffffff8111156182d15760","0080fd5b6182dd87828801617b9f565b935050604085013567ffffffffffffffff8111156182fa57600080fd5b61830687828801617c9a565b925050606061831787828801617c24565b91505092959194509250565b60006020828403121561833557600080fd5b600061834384828501617f06565b91505092915050565b6000806060838503121561835f57600080fd5b600061836d85828601617f06565b925050602061837e85828601617e0b565b9150509250929050565b60006020828403121561839a57600080fd5b600082013567ffffffffffffffff8111156183b457600080fd5b6183c084828501617f2e565b91505092915050565b60008060a083850312156183dc57600080fd5b600083013567ffffffffffffffff8111156183f657600080fd5b61840285828601617f2e565b925050602061841385828601617c24565b9150509250929050565b6000806040838503121561843057600080fd5b600083013567ffffffffffffffff81111561844a57600080fd5b61845685828601617f2e565b925050602083013567ffffffffffffffff81111561847357600080fd5b61847f85828601617f2e565b9150509250929050565b600080600060c0848603121561849e57600080fd5b600084013567ffffffffffffffff8111156184b857600080fd5b6184c486828701617f2e565b935050602084013567ffffffffffffffff8111156184e157600080fd5b6184ed86828701617f2e565b92505060406184fe86828701617c24565b9150509250925092565b60006020828403121561851a57600080fd5b600061852884828501618058565b91505092915050565b61853a81619d52565b82525050565b600061854b82619c96565b80845260208401935061855d83619c3c565b60005b8281101561858f57618573868351618531565b61857c82619d04565b9150602086019550600181019050618560565b50849250505092915050565b6185a481619ca1565b6185ad82619c49565b60005b828110156185df576185c3858351618764565b6185cc82619d11565b91506020850194506001810190506185b0565b5050505050565b60006185f182619cac565b80845260208401935061860383619c53565b60005b8281101561863557618619868351618883565b61862282619d1e565b9150602086019550600181019050618606565b50849250505092915050565b600061864c82619cb7565b8084526020840193508360208202850161866585619c60565b60005b8481101561869e5783830388526186808383516188c8565b925061868b82619d2b565b9150602088019750600181019050618668565b508196508694505050505092915050565b6186b881619cc2565b6186c182619c6d565b60005b828110156186f3576186d785835161907a565b6186e082619d38565b91506020850194506001810190506186c4565b5050505050565b600061870582619ccd565b80845260208401935061871783619c77565b60005b828110156187495761872d86835161907a565b61873682619d45565b915060208601955060018101905061871a565b50849250505092915050565b61875e81619d72565b82525050565b61876d81619d7e565b82525050565b600061877e82619ce3565b808452618792816020860160208601619e26565b61879b81619e59565b602085010191505092915050565b60006187b482619cd8565b8084526187c8816020860160208601619e26565b6187d181619e59565b602085010191505092915050565b6000815460018116600081146187fc576001811461881c5761885d565b607f600283041680865260ff19831660208701526040860193505061885d565b6002820480865260208601955061883285619c84565b60005b8281101561885457815481890152600182019150602081019050618835565b80880195505050505b505092915050565b61886e81619df3565b82525050565b61887d81619e05565b82525050565b61888c81619d88565b82525050565b600061889d82619cf9565b8084526188b1816020860160208601619e26565b6188ba81619e59565b602085010191505092915050565b60006188d382619cee565b8084526188e7816020860160208601619e26565b6188f081619e59565b602085010191505092915050565b6000602c82527f466f7262696464656e207175657279426f6f6b206265636175736520796f752060208301527f6172656e2774206f776e657200000000000000000000000000000000000000006040830152606082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000602982527f546865206c656e677468206f66207375626a656374206279746573206973207760208301527f697468696e2032353500000000000000000000000000000000000000000000006040830152606082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000601f82527f676574546f74616c42616c616e636520676574546f74616c42616c616e6365006020830152604082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000601782527f616d6f756e743c3d30206973206e6f74207665726966790000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000602682527f546865206c656e677468206f662064657363206279746573206973207769746860208301527f696e2032353500000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000600f82527f676574546f74616c42616c616e636500000000000000000000000000000000006020830152604082019050919050565b6000600a82527f67657442616c616e6365000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e2067657442616c616e63650000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b61908381619d92565b82525050565b61909281619d9c565b82525050565b60006020820190506190ad6000830184618531565b92915050565b60006080820190506190c86000830187618531565b6190d56020830186618531565b6190e26040830185618531565b81810360608301526190f48184618773565b905095945050505050565b6000610100820190506191156000830188618531565b6191226020830187618531565b818103604083015261913481866187a9565b905081810360608301526191488185618773565b9050619157608083018461859b565b9695505050505050565b600060a0820190506191766000830188618531565b6191836020830187618531565b818103604083015261919581866187a9565b905081810360608301526191a98185618773565b905081810360808301526191bd81846187df565b90509695505050505050565b6000610100820190506191df6000830187618531565b6191ec6020830186618531565b81810360408301526191fd81618fd5565b905081810360608301526192118185618773565b9050619220608083018461859b565b95945050505050565b600060608201905061923e6000830186618531565b61924b6020830185618531565b619258604083018461907a565b949350505050565b6000610100820190506192766000830188618531565b6192836020830187618865565b81810360408301526192958186618773565b905081810360608301526192a98185618773565b90506192b8608083018461859b565b9695505050505050565b6000610100820190506192","d86000830188618531565b6192e56020830187618874565b81810360408301526192f781866187a9565b9050818103606083015261930b8185618773565b905061931a608083018461859b565b9695505050505050565b60006101008201905061933a6000830187618531565b6193476020830186618874565b818103604083015261935881618a00565b9050818103606083015261936c8185618773565b905061937b608083018461859b565b95945050505050565b60006101008201905061939a6000830187618531565b6193a76020830186618874565b81810360408301526193b881618a37565b905081810360608301526193cc8185618773565b90506193db608083018461859b565b95945050505050565b6000610100820190506193fa6000830187618531565b6194076020830186618874565b818103604083015261941881618e9c565b9050818103606083015261942c8185618773565b905061943b608083018461859b565b95945050505050565b60006101008201905061945a6000830187618531565b6194676020830186618874565b818103604083015261947881618f30565b9050818103606083015261948c8185618773565b905061949b608083018461859b565b95945050505050565b6000610100820190506194ba6000830187618531565b6194c76020830186618874565b81810360408301526194d881618f9e565b905081810360608301526194ec8185618773565b90506194fb608083018461859b565b95945050505050565b60006040820190506195196000830185618531565b619526602083018461907a565b9392505050565b600060208201905081810360008301526195478184618540565b905092915050565b600060808201905081810360008301526195698187618540565b9050619578602083018661907a565b818103604083015261958a8185618641565b9050818103606083015261959e81846185e6565b905095945050505050565b600060208201905081810360008301526195c38184618641565b905092915050565b600060608201905081810360008301526195e581866186fa565b905081810360208301526195f98185618540565b9050818103604083015261960d81846185e6565b9050949350505050565b600060208201905061962c6000830184618755565b92915050565b60006040820190506196476000830185618755565b81810360208301526196598184618540565b90509392505050565b60006060820190506196776000830185618755565b61968460208301846186af565b9392505050565b600060208201905081810360008301526196a581846187a9565b905092915050565b600060208201905081810360008301526196c78184618773565b905092915050565b60006060820190506196e46000830186618874565b6196f16020830185618531565b6196fe6040830184618755565b949350505050565b6000602082019050818103600083015261972081846188c8565b905092915050565b600060208201905081810360008301526197428184618892565b905092915050565b60006020820190508181036000830152619763816188fe565b9050919050565b600060208201905081810360008301526197838161895b565b9050919050565b600060208201905081810360008301526197a381618992565b9050919050565b600060208201905081810360008301526197c3816189c9565b9050919050565b600060208201905081810360008301526197e381618a6e565b9050919050565b6000602082019050818103600083015261980381618aa5565b9050919050565b6000602082019050818103600083015261982381618adc565b9050919050565b6000602082019050818103600083015261984381618b39565b9050919050565b6000602082019050818103600083015261986381618b96565b9050919050565b6000602082019050818103600083015261988381618bcd565b9050919050565b600060208201905081810360008301526198a381618c2a565b9050919050565b600060208201905081810360008301526198c381618c61565b9050919050565b600060208201905081810360008301526198e381618ce4565b9050919050565b6000602082019050818103600083015261990381618d1b565b9050919050565b6000602082019050818103600083015261992381618d52565b9050919050565b6000602082019050818103600083015261994381618d89565b9050919050565b6000602082019050818103600083015261996381618dc0565b9050919050565b6000602082019050818103600083015261998381618df7565b9050919050565b600060208201905081810360008301526199a381618e2e565b9050919050565b600060208201905081810360008301526199c381618e65565b9050919050565b600060208201905081810360008301526199e381618ed3565b9050919050565b60006020820190508181036000830152619a0381618f67565b9050919050565b60006020820190508181036000830152619a238161900c565b9050919050565b60006020820190508181036000830152619a4381619043565b9050919050565b6000602082019050619a5f600083018461907a565b92915050565b600060a082019050619a7a600083018861907a565b619a87602083018761907a565b619a946040830186618531565b619aa16060830185618531565b619aae608083018461907a565b9695505050505050565b6000602082019050619acd6000830184619089565b92915050565b6000604051905081810181811067ffffffffffffffff82111715619af657600080fd5b8060405250919050565b600067ffffffffffffffff821115619b1757600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619b3f57600080fd5b602082029050919050565b600067ffffffffffffffff821115619b6157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619b8957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619bb157600080fd5b602082029050919050565b600067ffffffffffffffff821115619bd357600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619bfb57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115619c2757600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b6000619dfe82619d52565b9050919050565b6000619e1082619d52565b9050919050565b82818337600083830152505050565b60005b83811015619e44578082015181840152602081019050619e29565b83811115619e53576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a7230582062eb76faea5e91c3dce9680fac7d7f1e612d52a1d2bcd1667bbe9b037a3b00986c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b506040516200593638038062005936833981018060405262000037919081019062000354565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600a9080519060200190620000ff9291906200021b565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166356004b6a600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a91906200055d565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d09190810190620003c3565b5080600b60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505062000678565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200025e57805160ff19168380011785556200028f565b828001600101855582156200028f579182015b828111156200028e57825182559160200191906001019062000271565b5b5090506200029e9190620002a2565b5090565b620002c791905b80821115620002c3576000816000905550600101620002a9565b5090565b90565b6000620002d8825162000618565b905092915050565b6000620002ee825162000638565b905092915050565b600082601f83011215156200030a57600080fd5b8151620003216200031b82620005d9565b620005ab565b915080825260208301602083018583830111156200033e57600080fd5b6200034b83828462000642565b50505092915050565b6000806000606084860312156200036a57600080fd5b60006200037a86828701620002ca565b935050602084015167ffffffffffffffff8111156200039857600080fd5b620003a686828701620002f6565b9250506040620003b986828701620002ca565b9150509250925092565b600060208284031215620003d657600080fd5b6000620003e684828501620002e0565b91505092915050565b6000815460018116600081146200040f5760018114620004305762000475565b607f600283041680865260ff1983166020870152604086019350","5062000475565b60028204808652602086019550620004488562000606565b60005b828110156200046c578154818901526001820191506020810190506200044b565b80880195505050505b505092915050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000606482527f7465726d5f6e6f2c7365712c66726f6d2c746f2c616d6f756e742c617373657460208301527f2c6f70657261746f722c646573632c7472616e73616374696f6e5f747970652c60408301527f6f7065726174696f6e5f747970652c7375626a6563742c72656c617465645f6160608301527f7373657400000000000000000000000000000000000000000000000000000000608083015260a082019050919050565b60006060820190508181036000830152620005798184620003ef565b905081810360208301526200058e816200047d565b90508181036040830152620005a381620004b4565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005cf57600080fd5b8060405250919050565b600067ffffffffffffffff821115620005f157600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b838110156200066257808201518184015260208101905062000645565b8381111562000672576000848401525b50505050565b6152ae80620006886000396000f300608060405260043610610062576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806318d6f1711461006757806338cc4831146100a5578063521ae536146100d0578063e953d0af1461010d575b600080fd5b34801561007357600080fd5b5061008e6004803603610089919081019061405e565b610138565b60405161009c929190614982565b60405180910390f35b3480156100b157600080fd5b506100ba6105c9565b6040516100c79190614945565b60405180910390f35b3480156100dc57600080fd5b506100f760048036036100f29190810190614109565b6105d1565b6040516101049190614960565b60405180910390f35b34801561011957600080fd5b50610122610c92565b60405161012f9190614f3f565b60405180910390f35b6000610142613c9a565b600060606000806000610153613c9a565b60048c5110158015610166575060028951145b15156101a7576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161019e90614db9565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663124b65b46040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801561022c57600080fd5b505af1158015610240573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061026991908101906142d7565b80965081975050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638662f51f6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156102f657600080fd5b505af115801561030a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061032e91908101906142ae565b935061033e86858e8e8e8e610cef565b9250600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016103b89190614a4f565b602060405180830381600087803b1580156103d257600080fd5b505af11580156103e6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061040a919081019061421b565b915060018273ffffffffffffffffffffffffffffffffffffffff166331afac36610454600260016002805490500381548110151561044457fe5b90600052602060002001546116b9565b866040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161048e929190614a1f565b602060405180830381600087803b1580156104a857600080fd5b505af11580156104bc573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104e09190810190614244565b141515610522576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161051990614e63565b60405180910390fd5b61052d86858e611810565b60408051908101604052808781526020018581525090507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada86858e600281518110151561057657fe5b906020019060200201518f600381518110151561058f57fe5b906020019060200201518f6040516105ab959493929190614f5a565b60405180910390a16001819750975050505050505094509492505050565b600030905090565b60606000606060006060600080606060008b5111806105f1575060008a51115b1515610632576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161062990614db9565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016106aa9190614a4f565b602060405180830381600087803b1580156106c457600080fd5b505af11580156106d8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506106fc919081019061421b565b96506107088b8b611dca565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561077457600080fd5b505af1158015610788573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107ac91908101906141a0565b92506000915060008b511180156107dc575060008b60008151811015156107cf57fe5b9060200190602002015114155b15610889578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d161081e8d600081518110151561080f57fe5b906020019060200201516116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108569190614c9a565b600060405180830381600087803b15801561087057600080fd5b505af1158015610884573d6000803e3d6000fd5b505050505b60018b511180156108b3575060008b60018151811015156108a657fe5b9060200190602002015114155b15610960578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16108f58d60018151811015156108e657fe5b906020019060200201516116b9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161092d9190614d0f565b600060405180830381600087803b15801561094757600080fd5b505af115801561095b573d6000803e3d6000fd5b505050505b60008a511180156109b65750600073ffffffffffffffffffffffffffffffffffffffff168a600081518110151561099357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610a79578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d1610a0e8c60008151811015156109e957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610a469190614bf7565b600060405180830381600087803b158015610a6057600080fd5b505af1158015610a74573d6000803e3d6000fd5b505050505b60018a51118015610acf5750600073ffffffffffffffffffffffffffffffffffffffff168a6001815181101515610aac57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610b92578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d1610b278c6001815181101515610b0257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b5f9190614b54565b600060405180830381600087803b158015610b7957600080fd5b505af1158015610b8d573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff16637ec1cc658a6000815181101515610bbd57fe5b906020019060200201518b6001815181101515610bd657fe5b906020019060200201516040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c199291906149c6565b600060405180830381600087803b158015610c3357600080fd5b505af1158015610c47573d6000803e3d6000fd5b50505050610c568686856125c2565b809350819250505060008151118015610c6f5750600082135b15610c8157610c7e81836128ca565b93505b839750505050505050509392505050565b6000600260016002805490500190806001815401808255809150509060018203906000526020600020016000909192909190915055506002600160028054905003815481101515610cdf57fe5b9060005260206000200154905090565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610d6c9190614a4f565b602060405180830381600087803b158015610d8657600080fd5b505af1158015610d9a573d6000803e3d6000fd5b50505050604051","3d601f19601f82011682018060405250610dbe919081019061421b565b91508173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610e2457600080fd5b505af1158015610e38573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e5c91908101906141f2565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610ea46002600160028054905003815481101515610e9457fe5b90600052602060002001546116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610edc9190614dd9565b600060405180830381600087803b158015610ef657600080fd5b505af1158015610f0a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610f338a6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f6b9190614d0f565b600060405180830381600087803b158015610f8557600080fd5b505af1158015610f99573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610fc28b6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ffa9190614c9a565b600060405180830381600087803b15801561101457600080fd5b505af1158015611028573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661107f89600281518110151561105a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110b79190614bf7565b600060405180830381600087803b1580156110d157600080fd5b505af11580156110e5573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661113c89600381518110151561111757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111749190614b54565b600060405180830381600087803b15801561118e57600080fd5b505af11580156111a2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158860018151811015156111d157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112139190614a91565b600060405180830381600087803b15801561122d57600080fd5b505af1158015611241573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661126a886116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112a29190614e2e565b600060405180830381600087803b1580156112bc57600080fd5b505af11580156112d0573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158860008151811015156112ff57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113419190614c4c565b600060405180830381600087803b15801561135b57600080fd5b505af115801561136f573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51686600081518110151561139e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113e09190614d64565b600060405180830381600087803b1580156113fa57600080fd5b505af115801561140e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba7485600081518110151561143d57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161147f9190614ec3565b600060405180830381600087803b15801561149957600080fd5b505af11580156114ad573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748560018151811015156114dc57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161151e9190614f11565b600060405180830381600087803b15801561153857600080fd5b505af115801561154c573d6000803e3d6000fd5b505050506001855111156115fa578073ffffffffffffffffffffffffffffffffffffffff1663e942b51686600181518110151561158557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115c79190614adf565b600060405180830381600087803b1580156115e157600080fd5b505af11580156115f5573d6000803e3d6000fd5b505050505b8073ffffffffffffffffffffffffffffffffffffffff1663a815ff15600589511061163d5788600481518110151561162e57fe5b90602001906020020151611640565b60005b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116789190614ba9565b600060405180830381600087803b15801561169257600080fd5b505af11580156116a6573d6000803e3d6000fd5b5050505080925050509695505050505050565b60606000806060600080861415611707576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611807565b8593505b600084141515611731578280600101935050600a8481151561172957fe5b04935061170b565b826040519080825280601f01601f1916602001820160405280156117645781602001602082028038833980820191505090505b5091506001830390505b60008614151561180357600a8681151561178457fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156117bf57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156117fb57fe5b04955061176e565b8194505b50505050919050565b600760008481526020019081526020016000206000600260016002805490500381548110151561183c57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615156119265760036000848152602001908152602001600020600260016002805490500381548110151561189357fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160076000858152602001908152602001600020600060026001600280549050038154811015156118f557fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600260016002805490500381548110151561193d57fe5b906000526020600020015460046000848152602001908152602001600020819055506008600082600281518110151561197257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156119cf57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611a485750806002815181101515611a0d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611b925760056000826002815181101515611a6057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611abb57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160086000836002815181101515611b0457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611b6157fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b60096000826003815181101515611ba557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611c0257fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611c7b5750806003815181101515611c4057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611dc55760066000826003815181101515611c9357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611cee57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160096000836003815181101515611d3757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611d9457fe5b90600052602060002001548152","60200190815260200160002060006101000a81548160ff0219169083151502179055505b505050565b6060600060606000806000806000600280549050604051908082528060200260200182016040528015611e0c5781602001602082028038833980820191505090505b50955060018a51118015611e39575060008a6001815181101515611e2c57fe5b9060200190602002015114155b15611ec7576000600460008c6001815181101515611e5357fe5b90602001906020020151815260200190815260200160002054141515611ec6576001866001600460008e6001815181101515611e8b57fe5b9060200190602002015181526020019081526020016000205403815181101515611eb157fe5b90602001906020020190151590811515815250505b5b60008a51118015611ef1575060008a6000815181101515611ee457fe5b9060200190602002015114155b1561200c57600094505b600360008b6000815181101515611f0e57fe5b9060200190602002015181526020019081526020016000208054905085101561200b57856001600360008d6000815181101515611f4757fe5b90602001906020020151815260200190815260200160002087815481101515611f6c57fe5b906000526020600020015403815181101515611f8457fe5b906020019060200201511515611ffe576001866001600360008e6000815181101515611fac57fe5b90602001906020020151815260200190815260200160002088815481101515611fd157fe5b906000526020600020015403815181101515611fe957fe5b90602001906020020190151590811515815250505b8480600101955050611efb565b5b600089511180156120625750600073ffffffffffffffffffffffffffffffffffffffff1689600081518110151561203f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561220157600093505b600560008a600081518110151561207f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208054905084101561220057856001600560008c60008151811015156120e457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208681548110151561213557fe5b90600052602060002001540381518110151561214d57fe5b9060200190602002015115156121f3576001866001600560008d600081518110151561217557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020878154811015156121c657fe5b9060005260206000200154038151811015156121de57fe5b90602001906020020190151590811515815250505b838060010194505061206c565b5b600189511180156122575750600073ffffffffffffffffffffffffffffffffffffffff1689600181518110151561223457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156123f657600092505b600660008a600181518110151561227457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020805490508310156123f557856001600660008c60018151811015156122d957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208581548110151561232a57fe5b90600052602060002001540381518110151561234257fe5b9060200190602002015115156123e8576001866001600660008d600181518110151561236a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156123bb57fe5b9060005260206000200154038151811015156123d357fe5b90602001906020020190151590811515815250505b8280600101935050612261565b5b60009150600090505b855181101561243b57858181518110151561241657fe5b906020019060200201511561242e5781806001019250505b80806001019150506123ff565b8582975097505050505050509250929050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff16945060008514156124b8576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525095506125b8565b8493505b6000841415156124e2578280600101935050600a848115156124da57fe5b0493506124bc565b826040519080825280601f01601f1916602001820160405280156125155781602001602082028038833980820191505090505b5091506001830390505b6000851415156125b457600a8581151561253557fe5b066030017f01000000000000000000000000000000000000000000000000000000000000000282828060019003935081518110151561257057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a858115156125ac57fe5b04945061251f565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126489190614a4f565b602060405180830381600087803b15801561266257600080fd5b505af1158015612676573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061269a919081019061421b565b955060009450896040519080825280602002602001820160405280156126cf5781602001602082028038833980820191505090505b50935060009250600091505b8a518210156128b6578a828151811015156126f257fe5b90602001906020020151156128a9578573ffffffffffffffffffffffffffffffffffffffff1663e8434e39612729600185016116b9565b8b6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016127639291906149ef565b602060405180830381600087803b15801561277d57600080fd5b505af1158015612791573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127b591908101906141c9565b90508073ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561281b57600080fd5b505af115801561282f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128539190810190614244565b8501945080848480600101955081518110151561286c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b81806001019250506126db565b838597509750505050505050935093915050565b60608060008060008060006060600c890260405190808252806020026020018201604052801561290e57816020015b60608152602001906001900390816128f95790505b509650600095505b895186101561353457898681518110151561292d57fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156129a657600080fd5b505af11580156129ba573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129de9190810190614244565b831215613527578473ffffffffffffffffffffffffffffffffffffffff1663846719e0846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a3a91906149ab565b602060405180830381600087803b158015612a5457600080fd5b505af1158015612a68573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a8c91908101906141f2565b915060009350612c938273ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae890614bd7565b600060405180830381600087803b158015612b0257600080fd5b505af1158015612b16573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612b3f919081019061426d565b8373ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b9290614b34565b600060405180830381600087803b158015612bac57600080fd5b505af1158015612bc0573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612be9919081019061426d565b8473ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c3c90614c2c565b602060405180830381600087803b158015612c5657600080fd5b505af1158015612c6a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c8e9190810190614035565b613544565b905060038151141515612cdb576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612cd290614b14565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d2e90614c7a565b600060405180830381600087803b158015612d4857600080fd5b505af1158015612d5c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612d85919081019061426d565b878585600c0201815181101515612d9857fe5b906020019060200201","819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612df890614cef565b600060405180830381600087803b158015612e1257600080fd5b505af1158015612e26573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612e4f919081019061426d565b878560010195508585600c0201815181101515612e6857fe5b90602001906020020181905250806000815181101515612e8457fe5b90602001906020020151878560010195508585600c0201815181101515612ea757fe5b90602001906020020181905250806001815181101515612ec357fe5b90602001906020020151878560010195508585600c0201815181101515612ee657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f4690614e0e565b600060405180830381600087803b158015612f6057600080fd5b505af1158015612f74573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612f9d919081019061426d565b878560010195508585600c0201815181101515612fb657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161301690614d44565b600060405180830381600087803b15801561303057600080fd5b505af1158015613044573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061306d919081019061426d565b878560010195508585600c020181518110151561308657fe5b906020019060200201819052506131568273ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130e990614a71565b602060405180830381600087803b15801561310357600080fd5b505af1158015613117573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061313b9190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561316f57fe5b9060200190602002018190525080600281518110151561318b57fe5b90602001906020020151878560010195508585600c02018151811015156131ae57fe5b906020019060200201819052506132688273ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161321190614ea3565b602060405180830381600087803b15801561322b57600080fd5b505af115801561323f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506132639190810190614244565b6116b9565b878560010195508585600c020181518110151561328157fe5b9060200190602002018190525061333b8273ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132e490614ef1565b602060405180830381600087803b1580156132fe57600080fd5b505af1158015613312573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506133369190810190614244565b6116b9565b878560010195508585600c020181518110151561335457fe5b906020019060200201819052506134248273ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016133b790614b89565b602060405180830381600087803b1580156133d157600080fd5b505af11580156133e5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134099190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561343d57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161349d90614abf565b600060405180830381600087803b1580156134b757600080fd5b505af11580156134cb573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506134f4919081019061426d565b878560010195508585600c020181518110151561350d57fe5b906020019060200201819052508280600101935050612942565b8580600101965050612916565b8697505050505050505092915050565b606080600080600360405190808252806020026020018201604052801561357f57816020015b606081526020019060019003908161356a5790505b50925061358b87613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561374557600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca061360789613ac9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161363f9190614945565b602060405180830381600087803b15801561365957600080fd5b505af115801561366d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136919190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613705576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016136fc90614d99565b60405180910390fd5b6137248173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600081518110151561373357fe5b90602001906020020181905250613763565b8683600081518110151561375557fe5b906020019060200201819052505b61376c86613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561392657600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca06137e888613ac9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138209190614945565b602060405180830381600087803b15801561383a57600080fd5b505af115801561384e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138729190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156138e6576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016138dd90614e83565b60405180910390fd5b6139058173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600181518110151561391457fe5b90602001906020020181905250613944565b8583600181518110151561393657fe5b906020019060200201819052505b600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016139bb9190614945565b602060405180830381600087803b1580156139d557600080fd5b505af11580156139e9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a0d9190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613a81576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613a7890614ccf565b60405180910390fd5b613aa08173ffffffffffffffffffffffffffffffffffffffff1661244e565b836002815181101515613aaf57fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613c8f5760308382815181101515613af557fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bf3575060398382815181101515613b7f57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613c825760308382815181101515613c0857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613adc565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613cc88235615181565b905092915050565b6000613cdc8251615181565b905092915050565b600082601f8301121515613cf757600080fd5b8135613d0a613d0582614fda565b614fad565b91508181835260208401935060208101905083856020840282011115613d2f57600080fd5b60005b83811015613d5f5781613d458882613cbc565b845260208401935060208301925050600181019050613d32565b5050505092915050565b600082601f8301121515613d7c57600080fd5b8135613d8f613d8a82615002565b614fad565b915081818352602084019350602081019050","83856020840282011115613db457600080fd5b60005b83811015613de45781613dca8882613f39565b845260208401935060208301925050600181019050613db7565b5050505092915050565b600082601f8301121515613e0157600080fd5b8135613e14613e0f8261502a565b614fad565b9150818183526020840193506020810190508360005b83811015613e5a5781358601613e408882613f61565b845260208401935060208301925050600181019050613e2a565b5050505092915050565b600082601f8301121515613e7757600080fd5b8135613e8a613e8582615052565b614fad565b91508181835260208401935060208101905083856020840282011115613eaf57600080fd5b60005b83811015613edf5781613ec5888261400d565b845260208401935060208301925050600181019050613eb2565b5050505092915050565b6000613ef582516151a1565b905092915050565b6000613f0982516151b3565b905092915050565b6000613f1d82516151c5565b905092915050565b6000613f3182516151d7565b905092915050565b6000613f4582356151e9565b905092915050565b6000613f5982516151e9565b905092915050565b600082601f8301121515613f7457600080fd5b8135613f87613f828261507a565b614fad565b91508082526020830160208301858383011115613fa357600080fd5b613fae838284615221565b50505092915050565b600082601f8301121515613fca57600080fd5b8151613fdd613fd8826150a6565b614fad565b91508082526020830160208301858383011115613ff957600080fd5b614004838284615230565b50505092915050565b600061401982356151f3565b905092915050565b600061402d82516151f3565b905092915050565b60006020828403121561404757600080fd5b600061405584828501613cd0565b91505092915050565b6000806000806080858703121561407457600080fd5b600085013567ffffffffffffffff81111561408e57600080fd5b61409a87828801613ce4565b94505060206140ab8782880161400d565b935050604085013567ffffffffffffffff8111156140c857600080fd5b6140d487828801613dee565b925050606085013567ffffffffffffffff8111156140f157600080fd5b6140fd87828801613d69565b91505092959194509250565b60008060006060848603121561411e57600080fd5b600084013567ffffffffffffffff81111561413857600080fd5b61414486828701613e64565b935050602084013567ffffffffffffffff81111561416157600080fd5b61416d86828701613ce4565b925050604084013567ffffffffffffffff81111561418a57600080fd5b61419686828701613d69565b9150509250925092565b6000602082840312156141b257600080fd5b60006141c084828501613ee9565b91505092915050565b6000602082840312156141db57600080fd5b60006141e984828501613efd565b91505092915050565b60006020828403121561420457600080fd5b600061421284828501613f11565b91505092915050565b60006020828403121561422d57600080fd5b600061423b84828501613f25565b91505092915050565b60006020828403121561425657600080fd5b600061426484828501613f4d565b91505092915050565b60006020828403121561427f57600080fd5b600082015167ffffffffffffffff81111561429957600080fd5b6142a584828501613fb7565b91505092915050565b6000602082840312156142c057600080fd5b60006142ce84828501614021565b91505092915050565b600080604083850312156142ea57600080fd5b60006142f885828601614021565b925050602083015167ffffffffffffffff81111561431557600080fd5b61432185828601613fb7565b9150509250929050565b61433481615141565b82525050565b6000614345826150fb565b8084526020840193508360208202850161435e856150d2565b60005b84811015614397578383038852614379838351614465565b925061438482615127565b9150602088019750600181019050614361565b508196508694505050505092915050565b6143b181615106565b6143ba826150df565b60005b828110156143ec576143d0858351614936565b6143d982615134565b91506020850194506001810190506143bd565b5050505050565b6143fc81615161565b82525050565b61440b816151fd565b82525050565b61441a8161520f565b82525050565b6144298161516d565b82525050565b600061443a8261511c565b80845261444e816020860160208601615230565b61445781615263565b602085010191505092915050565b600061447082615111565b808452614484816020860160208601615230565b61448d81615263565b602085010191505092915050565b6000815460018116600081146144b857600181146144d857614519565b607f600283041680865260ff198316602087015260408601935050614519565b600282048086526020860195506144ee856150e9565b60005b82811015614510578154818901526001820191506020810190506144f1565b80880195505050505b505092915050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7375626a656374000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600d82527f72656c617465645f6173736574000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600682527f616d6f756e7400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f777269746520626f6f6b206661696c65640000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6000601082527f7472616e73616374696f6e5f74797065000000000000000000000000000000006020830152604082019050919050565b6000600e82527f6f7065726174696f6e5f747970650000000000000000000000000000000000006020830152604082019050919050565b61493f81615177565b82525050565b600060208201905061495a600083018461432b565b92915050565b6000602082019050818103600083015261497a818461433a565b905092915050565b600060608201905061499760008301856143f3565b6149a460208301846143a8565b9392505050565b60006020820190506149c06000830184614420565b92915050565b60006040820190506149db6000830185614420565b6149e86020830184614420565b9392505050565b60006040820190508181036000830152614a09818561442f565b9050614a186020830184614402565b9392505050565b60006040820190508181036000830152614a39818561442f565b9050614a486020830184614411565b9392505050565b60006020820190508181036000830152614a69818461449b565b905092915050565b60006020820190508181036000830152614a8a81614521565b9050919050565b60006040820190508181036000830152614aaa81614521565b9050614ab9602083018461432b565b92915050565b60006020820190508181036000830152614ad881614558565b9050919050565b60006040820190508181036000830152614af881614558565b90508181036020830152614b0c8184614465565b905092915050565b60006020820190508181036000830152614b2d8161458f565b9050919050565b60006020820190508181036000830152614b4d816145c6565b9050919050565b60006040820190508181036000830152614b6d816145c6565b90508181036020830152614b81818461442f565b905092915050565b60006020820190508181036000830152614ba2816145fd565b9050919050565b60006040820190508181036000830152614bc2816145fd565b9050614bd1602083018461432b565b92915050565b60006020820190508181036000830152614bf081614634565b9050919050565b60006040820190508181036000830152614c1081614634565b90508181036020830152614c24818461442f565b905092915050565b60006020820190508181036000830152614c458161466b565b9050919050565b60006040820190508181036000830152614c658161466b565b9050614c74602083018461432b565b92915050565b60006020820190508181036000830152614c93816146a2565b9050919050565b60006040820190508181036000830152614cb3816146a2565b90508181036020830152614cc7818461442f565b905092915050565b60006020820190508181036000830152614ce8816146d9565b9050919050565b60006020820190508181036000830152614d0881614710565b9050919050565b60006040820190508181036000830152614d2881614710565b90508181036020830152614d3c818461442f565b905092915050565b60006020820190508181036000830152614d5d81614747565b9050919050565b60006040820190508181036000830152614d7d81614747565b90508181036020830152614d918184614465565b905092915050565b6000602082019050","8181036000830152614db28161477e565b9050919050565b60006020820190508181036000830152614dd2816147b5565b9050919050565b60006040820190508181036000830152614df2816147ec565b90508181036020830152614e06818461442f565b905092915050565b60006020820190508181036000830152614e2781614823565b9050919050565b60006040820190508181036000830152614e4781614823565b90508181036020830152614e5b818461442f565b905092915050565b60006020820190508181036000830152614e7c8161485a565b9050919050565b60006020820190508181036000830152614e9c81614891565b9050919050565b60006020820190508181036000830152614ebc816148c8565b9050919050565b60006040820190508181036000830152614edc816148c8565b9050614eeb6020830184614420565b92915050565b60006020820190508181036000830152614f0a816148ff565b9050919050565b60006040820190508181036000830152614f2a816148ff565b9050614f396020830184614420565b92915050565b6000602082019050614f546000830184614936565b92915050565b600060a082019050614f6f6000830188614936565b614f7c6020830187614936565b614f89604083018661432b565b614f96606083018561432b565b614fa36080830184614936565b9695505050505050565b6000604051905081810181811067ffffffffffffffff82111715614fd057600080fd5b8060405250919050565b600067ffffffffffffffff821115614ff157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561501957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561504157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561506957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561509157600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156150bd57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60006151ac82615141565b9050919050565b60006151be82615141565b9050919050565b60006151d082615141565b9050919050565b60006151e282615141565b9050919050565b6000819050919050565b6000819050919050565b600061520882615141565b9050919050565b600061521a82615141565b9050919050565b82818337600083830152505050565b60005b8381101561524e578082015181840152602081019050615233565b8381111561525d576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a723058205c261cad0324348dde7feb7cb637f6054e82cc7aabfc50489df4872406cc7eee6c6578706572696d656e74616cf50037a165627a7a72305820932778f33273998cafe315db5dbe66e7cd7b95d1bcbefeb14860768938e82fa50029"};
+    public static final String[] BINARY_ARRAY = {"608060405234801561001057600080fd5b50620134a380620000226000396000f30060806040526004361062000043576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff168063c6e8631b1462000048575b600080fd5b3480156200005557600080fd5b5062000145600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803560ff169060200190929190803573ffffffffffffffffffffffffffffffffffffffff169060200190929190803573ffffffffffffffffffffffffffffffffffffffff16906020019092919050505062000187565b604051808273ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200191505060405180910390f35b6000808686868686620001996200031a565b8080602001806020018660ff1660ff1681526020018573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020018473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001838103835288818151815260200191508051906020019080838360005b838110156200024c5780820151818401526020810190506200022f565b50505050905090810190601f1680156200027a5780820380516001836020036101000a031916815260200191505b50838103825287818151815260200191508051906020019080838360005b83811015620002b557808201518184015260208101905062000298565b50505050905090810190601f168015620002e35780820380516001836020036101000a031916815260200191505b50975050505050505050604051809103906000f0801580156200030a573d6000803e3d6000fd5b5090508091505095945050505050565b6040516201314b806200032d83390190560060806040526040805190810160405280600681526020017f7075626c69630000000000000000000000000000000000000000000000000000815250600090805190602001906200005192919062001228565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250600190805190602001906200009f92919062001228565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060029080519060200190620000ed92919062001228565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906200013b92919062001228565b506040805190810160405280600281526020017f5f77000000000000000000000000000000000000000000000000000000000000815250600490805190602001906200018992919062001228565b506040805190810160405280600381526020017f616c6c000000000000000000000000000000000000000000000000000000000081525060059080519060200190620001d792919062001228565b506040805190810160405280600281526020017f6964000000000000000000000000000000000000000000000000000000000000815250600690805190602001906200022592919062001228565b506040805190810160405280600481526020017f6164647200000000000000000000000000000000000000000000000000000000815250600790805190602001906200027392919062001228565b506040805190810160405280600481526020017f747970650000000000000000000000000000000000000000000000000000000081525060089080519060200190620002c192919062001228565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906200030f92919062001228565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906200035d92919062001228565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b9080519060200190620003ab92919062001228565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c9080519060200190620003f992919062001228565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d90805190602001906200044792919062001228565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e90805190602001906200049592919062001228565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f9080519060200190620004e392919062001228565b506040805190810160405280600781526020017f62616c616e636500000000000000000000000000000000000000000000000000815250601090805190602001906200053192919062001228565b506040805190810160405280600681526020017f7265636f72640000000000000000000000000000000000000000000000000000815250601190805190602001906200057f92919062001228565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060129080519060200190620005cd92919062001228565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906200061b92919062001228565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250601490805190602001906200066992919062001228565b506040805190810160405280600481526020017f757365720000000000000000000000000000000000000000000000000000000081525060159080519060200190620006b792919062001228565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015620007d557600080fd5b506040516201314b3803806201314b8339810180604052620007fb919081019062001575565b84828281816060620008373073ffffffffffffffffffffffffffffffffffffffff1662000dd064010000000002620095ef176401000000009004565b9050620008fd60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620008d75780601f10620008ab57610100808354040283529160200191620008d7565b820191906000526020600020905b815481529060010190602001808311620008b957829003601f168201915b505050505082601b62000eb46401000000000262006e8617909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620009c657600080fd5b505af1158015620009db573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000a01919081019062001549565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000ac857600080fd5b505af115801562000add573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000b03919081019062001549565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151562000bc15781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062000c03565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050506000835111801562000c19575060408351105b151562000c5d576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162000c54906200188f565b60405180910390fd5b8073ffffffffffffffffffffffffffffffffffffffff1663af0680206040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381","600087803b15801562000cc257600080fd5b505af115801562000cd7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000cfd919081019062001549565b838262000d09620012af565b62000d17939291906200184b565b604051809103906000f08015801562000d34573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550505050846029908051906020019062000d90929190620012c0565b50836028908051906020019062000da9929190620012c0565b5082602a60006101000a81548160ff021916908360ff1602179055505050505050620019d3565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801562000e1c5781602001602082028038833980820191505090505b509250600090505b601481101562000ead57818160148110151562000e3d57fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151562000e6f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062000e24565b5050919050565b60008084600001846040518082805190602001908083835b60208310151562000ef3578051825260208201915060208101905060208303925062000ecc565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115620010b0577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151562000fcc578051825260208201915060208101905060208303925062000fa5565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405162001015959493929190620017d9565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200105a578051825260208201915060208101905060208303925062001033565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190620010a592919062001347565b506001915062001220565b8285600001856040518082805190602001908083835b602083101515620010ed5780518252602082019150602081019050602083039250620010c6565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200113892919062001347565b50846001018054809190600101620011519190620013ce565b90506001810185600001856040518082805190602001908083835b6020831015156200119357805182526020820191506020810190506020830392506200116c565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515620011e057fe5b906000526020600020906002020160000190805190602001906200120692919062001347565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200126b57805160ff19168380011785556200129c565b828001600101855582156200129c579182015b828111156200129b5782518255916020019190600101906200127e565b5b509050620012ab919062001403565b5090565b604051615936806200d81583390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200130357805160ff191683800117855562001334565b8280016001018555821562001334579182015b828111156200133357825182559160200191906001019062001316565b5b50905062001343919062001403565b5090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200138a57805160ff1916838001178555620013bb565b82800160010185558215620013bb579182015b82811115620013ba5782518255916020019190600101906200139d565b5b509050620013ca919062001403565b5090565b815481835581811115620013fe57600202816002028360005260206000209182019101620013fd91906200142b565b5b505050565b6200142891905b80821115620014245760008160009055506001016200140a565b5090565b90565b6200147091905b808211156200146c57600080820160006200144e919062001473565b6001820160006101000a81549060ff02191690555060020162001432565b5090565b90565b50805460018160011615610100020316600290046000825580601f106200149b5750620014bc565b601f016020900490600052602060002090810190620014bb919062001403565b5b50565b6000620014cd82516200195f565b905092915050565b600082601f8301121515620014e957600080fd5b815162001500620014fa82620018df565b620018b1565b915080825260208301602083018583830111156200151d57600080fd5b6200152a8382846200198c565b50505092915050565b60006200154182516200197f565b905092915050565b6000602082840312156200155c57600080fd5b60006200156c84828501620014bf565b91505092915050565b600080600080600060a086880312156200158e57600080fd5b600086015167ffffffffffffffff811115620015a957600080fd5b620015b788828901620014d5565b955050602086015167ffffffffffffffff811115620015d557600080fd5b620015e388828901620014d5565b9450506040620015f68882890162001533565b93505060606200160988828901620014bf565b92505060806200161c88828901620014bf565b9150509295509295909350565b62001634816200193f565b82525050565b6000620016478262001929565b8084526200165d8160208601602086016200198c565b6200166881620019c2565b602085010191505092915050565b600062001683826200191e565b808452620016998160208601602086016200198c565b620016a481620019c2565b602085010191505092915050565b600081546001811660008114620016d25760018114620016f35762001738565b607f600283041680865260ff19831660208701526040860193505062001738565b600282048086526020860195506200170b856200190c565b60005b828110156200172f578154818901526001820191506020810190506200170e565b80880195505050505b505092915050565b60006200174d8262001934565b808452620017638160208601602086016200198c565b6200176e81620019c2565b602085010191505092915050565b6000603282527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634206c6f6e6700000000000000000000000000006040830152606082019050919050565b600060a082019050620017f0600083018862001629565b620017ff602083018762001629565b818103604083015262001813818662001676565b905081810360608301526200182981856200163a565b905081810360808301526200183f8184620016b2565b90509695505050505050565b600060608201905062001862600083018662001629565b818103602083015262001876818562001740565b905062001887604083018462001629565b949350505050565b60006020820190508181036000830152620018aa816200177c565b9050919050565b6000604051905081810181811067ffffffffffffffff82111715620018d557600080fd5b8060405250919050565b600067ffffffffffffffff821115620018f757600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600060ff82169050919050565b60005b83811015620019ac5780820151818401526020810190506200198f565b83811115620019bc576000848401525b50505050565b6000601f19601f8301169050919050565b61be3280620019e36000396000f3006080604052600436106102e0576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806301db8d89146102e557806303ba71eb1461031057806306fdde031461033b578063081f9339146103665780630c0fd886146103915780630feca68a146103bc578063117803e3146103e757806315e9977e146104125780631dedfd471461043d57806320ba5b601461047b57806323a772bd146104b857806326bca089146104e3578063283d26ca146105205780632a0acc6a1461054b5780632ef8cb1c14610576578063313ce567146105a157806338cc4831146105cc57806339151753146105f75780633a0e6174146106225780633a9b2d731461064d5780633b007d8e1461068b578063403c6cfa146106c85780635262e2a1146107055780635302822f1461073057806357872d131461076e57806358edef4c14610799578063632e1dfe146107d6578063699cc7f1146108015780636adc41651461082c5780637bdd20b21461085757806381e167cf146108945780638662acad146108bf57806390023f95146108fc578063949d225d1461093a57806395d89b4114610965578063983d27371461099057806399f2592a146109bb5780639d53fe2b146109f9578063a0997a5814610a24578063a18c751e14610a61578063ac44522e14610a9e578063b11569f514610adb578063b1c5afa714610b06578063b3032be814610b43578063b3cea21714610b6e578063b4eb5ede14610b99578063b6b5675b14610bc4578063b85a290114610c02578063bb1239c314610c2d578063bb24fe8a14610c58578063c28304aa14610c83578063c55fc52d14610cae578063cb6163ad14610cd9578063cd2f381a14610d16578063d022037514610d54578063d087d28814610d92578063d6d7d52514610dbd578063e077fef914610dfa578063e8c2553a14610e37578063ea8442fb14610e74578063ef96","6c8914610eb2578063f307b32c14610eef575b600080fd5b3480156102f157600080fd5b506102fa610f1a565b604051610307919061b5d0565b60405180910390f35b34801561031c57600080fd5b50610325610fb8565b604051610332919061b5d0565b60405180910390f35b34801561034757600080fd5b50610350611056565b60405161035d919061b64b565b60405180910390f35b34801561037257600080fd5b5061037b6110f4565b604051610388919061b5d0565b60405180910390f35b34801561039d57600080fd5b506103a6611192565b6040516103b3919061b5d0565b60405180910390f35b3480156103c857600080fd5b506103d1611230565b6040516103de919061b9af565b60405180910390f35b3480156103f357600080fd5b506103fc611256565b604051610409919061b5d0565b60405180910390f35b34801561041e57600080fd5b506104276112f4565b604051610434919061b5d0565b60405180910390f35b34801561044957600080fd5b50610464600480360361045f9190810190619f61565b611392565b60405161047292919061b577565b60405180910390f35b34801561048757600080fd5b506104a2600480360361049d919081019061a230565b6113d1565b6040516104af919061b52c565b60405180910390f35b3480156104c457600080fd5b506104cd6115cf565b6040516104da919061b5d0565b60405180910390f35b3480156104ef57600080fd5b5061050a6004803603610505919081019061a08b565b61166d565b604051610517919061b4be565b60405180910390f35b34801561052c57600080fd5b50610535611fc4565b604051610542919061b5d0565b60405180910390f35b34801561055757600080fd5b50610560612062565b60405161056d919061b5d0565b60405180910390f35b34801561058257600080fd5b5061058b612100565b604051610598919061b5d0565b60405180910390f35b3480156105ad57600080fd5b506105b661219e565b6040516105c3919061ba46565b60405180910390f35b3480156105d857600080fd5b506105e16121b1565b6040516105ee919061af31565b60405180910390f35b34801561060357600080fd5b5061060c6121b9565b604051610619919061b5d0565b60405180910390f35b34801561062e57600080fd5b50610637612257565b604051610644919061b5d0565b60405180910390f35b34801561065957600080fd5b50610674600480360361066f9190810190619e89565b6122f5565b60405161068292919061b5a0565b60405180910390f35b34801561069757600080fd5b506106b260048036036106ad919081019061a230565b6126f1565b6040516106bf919061b52c565b60405180910390f35b3480156106d457600080fd5b506106ef60048036036106ea919081019061a021565b6128ef565b6040516106fc919061b9af565b60405180910390f35b34801561071157600080fd5b5061071a612c02565b604051610727919061af31565b60405180910390f35b34801561073c57600080fd5b5061075760048036036107529190810190619e89565b612c2c565b60405161076592919061b5a0565b60405180910390f35b34801561077a57600080fd5b50610783612cb3565b604051610790919061b5d0565b60405180910390f35b3480156107a557600080fd5b506107c060048036036107bb919081019061a19b565b612d51565b6040516107cd919061b52c565b60405180910390f35b3480156107e257600080fd5b506107eb612f4c565b6040516107f8919061af31565b60405180910390f35b34801561080d57600080fd5b50610816612f72565b604051610823919061b5d0565b60405180910390f35b34801561083857600080fd5b50610841613010565b60405161084e919061af31565b60405180910390f35b34801561086357600080fd5b5061087e6004803603610879919081019061a1dc565b613036565b60405161088b919061b52c565b60405180910390f35b3480156108a057600080fd5b506108a9613259565b6040516108b6919061b5d0565b60405180910390f35b3480156108cb57600080fd5b506108e660048036036108e1919081019061a1dc565b6132f7565b6040516108f3919061b5f2565b60405180910390f35b34801561090857600080fd5b50610923600480360361091e9190810190619f61565b613519565b60405161093192919061b577565b60405180910390f35b34801561094657600080fd5b5061094f613910565b60405161095c919061b9af565b60405180910390f35b34801561097157600080fd5b5061097a613921565b604051610987919061b64b565b60405180910390f35b34801561099c57600080fd5b506109a56139bf565b6040516109b2919061b5d0565b60405180910390f35b3480156109c757600080fd5b506109e260048036036109dd9190810190619f61565b613a5d565b6040516109f092919061b577565b60405180910390f35b348015610a0557600080fd5b50610a0e614000565b604051610a1b919061b5d0565b60405180910390f35b348015610a3057600080fd5b50610a4b6004803603610a469190810190619dd0565b61409e565b604051610a58919061b9af565b60405180910390f35b348015610a6d57600080fd5b50610a886004803603610a83919081019061a230565b61448f565b604051610a95919061b52c565b60405180910390f35b348015610aaa57600080fd5b50610ac56004803603610ac0919081019061a29c565b61468d565b604051610ad2919061b52c565b60405180910390f35b348015610ae757600080fd5b50610af06148c5565b604051610afd919061af31565b60405180910390f35b348015610b1257600080fd5b50610b2d6004803603610b28919081019061a021565b6148eb565b604051610b3a919061b9af565b60405180910390f35b348015610b4f57600080fd5b50610b58614900565b604051610b65919061af31565b60405180910390f35b348015610b7a57600080fd5b50610b836149c5565b604051610b90919061b5d0565b60405180910390f35b348015610ba557600080fd5b50610bae614a63565b604051610bbb919061b5d0565b60405180910390f35b348015610bd057600080fd5b50610beb6004803603610be6919081019061a344565b614b01565b604051610bf992919061b434565b60405180910390f35b348015610c0e57600080fd5b50610c17614f76565b604051610c24919061b5d0565b60405180910390f35b348015610c3957600080fd5b50610c42615014565b604051610c4f919061af31565b60405180910390f35b348015610c6457600080fd5b50610c6d61503a565b604051610c7a919061b5d0565b60405180910390f35b348015610c8f57600080fd5b50610c986150d8565b604051610ca5919061af31565b60405180910390f35b348015610cba57600080fd5b50610cc3615102565b604051610cd0919061af31565b60405180910390f35b348015610ce557600080fd5b50610d006004803603610cfb919081019061a29c565b6151c7565b604051610d0d919061b52c565b60405180910390f35b348015610d2257600080fd5b50610d3d6004803603610d389190810190619e48565b6153ff565b604051610d4b92919061b547565b60405180910390f35b348015610d6057600080fd5b50610d7b6004803603610d76919081019061a021565b615683565b604051610d8992919061b9ca565b60405180910390f35b348015610d9e57600080fd5b50610da761574d565b604051610db4919061b9af565b60405180910390f35b348015610dc957600080fd5b50610de46004803603610ddf919081019061a19b565b615757565b604051610df1919061b5f2565b60405180910390f35b348015610e0657600080fd5b50610e216004803603610e1c919081019061a021565b615952565b604051610e2e919061b412565b60405180910390f35b348015610e4357600080fd5b50610e5e6004803603610e59919081019061a29c565b615d4f565b604051610e6b919061b52c565b60405180910390f35b348015610e8057600080fd5b50610e9b6004803603610e969190810190619e89565b615f87565b604051610ea992919061b5a0565b60405180910390f35b348015610ebe57600080fd5b50610ed96004803603610ed49190810190619dd0565b616256565b604051610ee6919061b52c565b60405180910390f35b348015610efb57600080fd5b50610f04616986565b604051610f11919061b5d0565b60405180910390f35b600c8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015610fb05780601f10610f8557610100808354040283529160200191610fb0565b820191906000526020600020905b815481529060010190602001808311610f9357829003601f168201915b505050505081565b600e8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561104e5780601f106110235761010080835404028352916020019161104e565b820191906000526020600020905b81548152906001019060200180831161103157829003601f168201915b505050505081565b60298054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156110ec5780601f106110c1576101008083540402835291602001916110ec565b820191906000526020600020905b8154815290600101906020018083116110cf57829003601f168201915b505050505081565b600d8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561118a5780601f1061115f5761010080835404028352916020019161118a565b820191906000526020600020905b81548152906001019060200180831161116d57829003601f168201915b505050505081565b600b8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156112285780601f106111fd57610100808354040283529160200191611228565b820191906000526020600020905b81548152906001019060200180831161120b57829003601f168201915b505050505081565b60006112486001602154616a2490919063ffffffff16565b602181905550602154905090565b60148054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156112ec5780601f106112c1576101008083540402835291602001916112ec565b820191906000526020600020","905b8154815290600101906020018083116112cf57829003601f168201915b505050505081565b60108054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561138a5780601f1061135f5761010080835404028352916020019161138a565b820191906000526020600020905b81548152906001019060200180831161136d57829003601f168201915b505050505081565b600061139c61972e565b602a60009054906101000a900460ff1660ff16600a0a860295506113c38787878787616a7b565b915091509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306114e360048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156114cf5780601f106114a4576101008083540402835291602001916114cf565b820191906000526020600020905b8154815290600101906020018083116114b257829003601f168201915b505050505089616e7290919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161151e949392919061af98565b602060405180830381600087803b15801561153857600080fd5b505af115801561154c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611570919081019061a136565b15156115b1576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016115a89061b88f565b60405180910390fd5b6115c78383601b616e869092919063ffffffff16565b905092915050565b60118054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156116655780601f1061163a57610100808354040283529160200191611665565b820191906000526020600020905b81548152906001019060200180831161164857829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161171a949392919061b2c9565b6040805180830381600087803b15801561173357600080fd5b505af1158015611747573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061176b9190810190619e0c565b80975081985050508515156117b5576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016117ac9061b70f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161182c919061af31565b602060405180830381600087803b15801561184657600080fd5b505af115801561185a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061187e919081019061a136565b15156118bf576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016118b69061b76f565b60405180910390fd5b60028b511480156118ff57508a60018151811015156118da57fe5b906020019060200201518b60008151811015156118f357fe5b90602001906020020151125b1515611940576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016119379061b7ef565b60405180910390fd5b60008c5111156119ba57600093505b8b518410156119b9578b8481518110151561196657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff1614156119ac57600194506119b9565b838060010194505061194f565b5b841515611a8d57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634768e049886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611a38919061af31565b602060405180830381600087803b158015611a5257600080fd5b505af1158015611a66573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611a8a919081019061a136565b94505b841515611acf576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611ac69061b68f565b60405180910390fd5b60006023805490501415611ae557829850611fb4565b60008c51118015611b3b5750600073ffffffffffffffffffffffffffffffffffffffff168c6000815181101515611b1857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15611ce257601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d6000815181101515611b8d57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611bcf919061af31565b602060405180830381600087803b158015611be957600080fd5b505af1158015611bfd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611c219190810190619da7565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151515611c95576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611c8c9061b6ef565b60405180910390fd5b818c6000815181101515611ca557fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c51118015611d385750600073ffffffffffffffffffffffffffffffffffffffff168c6001815181101515611d1557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15611edf57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d6001815181101515611d8a57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611dcc919061af31565b602060405180830381600087803b158015611de657600080fd5b505af1158015611dfa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611e1e9190810190619da7565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff1614151515611e92576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611e899061b8cf565b60405180910390fd5b808c6001815181101515611ea257fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663521ae5368e8e8e6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f5a9392919061b4e0565b600060405180830381600087803b158015611f7457600080fd5b505af1158015611f88573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250611fb1919081019061a04a565b98505b5050505050505050949350505050565b600a8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561205a5780601f1061202f5761010080835404028352916020019161205a565b820191906000526020600020905b81548152906001019060200180831161203d57829003601f168201915b505050505081565b60128054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156120f85780601f106120cd576101008083540402835291602001916120f8565b820191906000526020600020905b8154815290600101906020018083116120db57829003601f168201915b505050505081565b60038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156121965780601f1061216b57610100808354040283529160200191612196565b820191906000526020600020905b81548152906001019060200180831161217957829003601f168201915b505050505081565b602a60009054906101000a900460ff1681565b600030905090565b60028054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561224f5780601f106122245761010080835404028352916020019161224f565b820191906000526020600020905b81548152906001019060200180831161223257829003601f168201915b505050505081565b60018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156122ed5780601f106122c2576101008083540402835291602001916122ed565b8201919060005260206000","20905b8154815290600101906020018083116122d057829003601f168201915b505050505081565b600060608060008060006123448b8b8b8b8b6040805190810160405280600881526020017f7472616e7366657200000000000000000000000000000000000000000000000081525060016171e3565b9a5060028a51026040519080825280602002602001820160405280156123795781602001602082028038833980820191505090505b509350600090505b89518110156126dc578a8160020260030181518110151561239e57fe5b9060200190602002015192508a816002026004018151811015156123be57fe5b906020019060200201519150602460008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515612458576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161244f9061b80f565b60405180910390fd5b602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156124e6576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016124dd9061b80f565b60405180910390fd5b61254f8a828151811015156124f757fe5b90602001906020020151602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020546175da90919063ffffffff16565b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506125fb8a828151811015156125a357fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054616a2490919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055507fddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef83838c8481518110151561266f57fe5b906020019060200201516040516126889392919061b10e565b60405180910390a16126cf8b828c848151811015156126a357fe5b906020019060200201518b60028e60008151811015156126bf57fe5b906020019060200201518a617631565b8080600101915050612381565b60018495509550505050509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061280360048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156127ef5780601f106127c4576101008083540402835291602001916127ef565b820191906000526020600020905b8154815290600101906020018083116127d257829003601f168201915b505050505089616e7290919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161283e949392919061af98565b602060405180830381600087803b15801561285857600080fd5b505af115801561286c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612890919081019061a136565b15156128d1576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016128c89061b96f565b60405180910390fd5b6128e78383601b617ac09092919063ffffffff16565b905092915050565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612995949392919061b269565b6040805180830381600087803b1580156129ae57600080fd5b505af11580156129c2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129e69190810190619e0c565b8092508193505050801515612a30576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612a279061b6af565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612aa7919061af31565b602060405180830381600087803b158015612ac157600080fd5b505af1158015612ad5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612af9919081019061a136565b1515612b3a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612b319061b76f565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e953d0af6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015612bc057600080fd5b505af1158015612bd4573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612bf8919081019061a31b565b9350505050919050565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000606060008090505b8651811015612c9757602a60009054906101000a900460ff1660ff16600a0a8782815181101515612c6357fe5b90602001906020020151028782815181101515612c7c57fe5b90602001906020020181815250508080600101915050612c36565b612ca48888888888617cb5565b92509250509550959350505050565b60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612d495780601f10612d1e57610100808354040283529160200191612d49565b820191906000526020600020905b815481529060010190602001808311612d2c57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630612e6360048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612e4f5780601f10612e2457610100808354040283529160200191612e4f565b820191906000526020600020905b815481529060010190602001808311612e3257829003601f168201915b505050505088616e7290919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612e9e949392919061af98565b602060405180830381600087803b158015612eb857600080fd5b505af1158015612ecc573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612ef0919081019061a136565b1515612f31576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612f289061b78f565b60405180910390fd5b612f4582601b617f8490919063ffffffff16565b9050919050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600f8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156130085780601f10612fdd57610100808354040283529160200191613008565b820191906000526020600020905b815481529060010190602001808311612feb57829003601f168201915b505050505081565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600060606000806130508684616e7290919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061316160048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561314d5780601f106131225761010080835404028352916020019161314d565b820191906000526020600020905b81548152906001019060200180831161313057829003601f168201915b50505050508b616e7290919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161319f95949392919061b145565b6040805180830381600087803b1580156131b857600080fd5b505af11580156131cc573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506131f09190810190619e0c565b809250819350505080151561323a576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016132319061b78f565b60405180910390fd5b61324e86601b617f8490919063ffffffff16565b935050505092915050565b60158054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156132ef5780601f106132c4576101008083540402835291602001916132ef565b820191906000526020","600020905b8154815290600101906020018083116132d257829003601f168201915b505050505081565b6060806000806133108684616e7290919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061342160038054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561340d5780601f106133e25761010080835404028352916020019161340d565b820191906000526020600020905b8154815290600101906020018083116133f057829003601f168201915b50505050508b616e7290919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161345f95949392919061b145565b6040805180830381600087803b15801561347857600080fd5b505af115801561348c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134b09190810190619e0c565b80925081935050508015156134fa576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016134f19061b82f565b60405180910390fd5b61350e86601b6181d690919063ffffffff16565b935050505092915050565b600061352361972e565b60006060600061353161972e565b6135748b8b8b8b8b6040805190810160405280600a81526020017f7769746864726177616c000000000000000000000000000000000000000000008152506182e9565b9a508a600281518110151561358557fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff16151561361f576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016136169061b80f565b60405180910390fd5b6136718a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020546175da90919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506136c98a6027546175da90919063ffffffff16565b60278190555060026040519080825280602002602001820160405280156136ff5781602001602082028038833980820191505090505b509250600183600081518110151561371357fe5b906020019060200201818152505088600081518110151561373057fe5b9060200190602002015183600181518110151561374957fe5b90602001906020020181815250507fb6e26e54bd578616699ab07efb4c2e322b45a80673803bbb259443d9fecee652848b60405161378892919061b3e9565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718c8c8b876040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161380d949392919061b464565b606060405180830381600087803b15801561382757600080fd5b505af115801561383b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061385f919081019061a15f565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada81600060028110151561389757fe5b60200201518260016002811015156138ab57fe5b60200201518d60028151811015156138bf57fe5b906020019060200201518e60038151811015156138d857fe5b906020019060200201518e6040516138f495949392919061b9f3565b60405180910390a1818195509550505050509550959350505050565b600061391c601b6184f6565b905090565b60288054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156139b75780601f1061398c576101008083540402835291602001916139b7565b820191906000526020600020905b81548152906001019060200180831161399a57829003601f168201915b505050505081565b60138054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613a555780601f10613a2a57610100808354040283529160200191613a55565b820191906000526020600020905b815481529060010190602001808311613a3857829003601f168201915b505050505081565b6000613a6761972e565b60606000613a7361972e565b613ab68a8a8a8a8a6040805190810160405280600881526020017f7472616e73666572000000000000000000000000000000000000000000000000815250618504565b9950602460008b6002815181101515613acb57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613b5e576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613b559061b80f565b60405180910390fd5b602460008b6003815181101515613b7157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613c04576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613bfb9061b80f565b60405180910390fd5b613c6e89602560008d6002815181101515613c1b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020546175da90919063ffffffff16565b602560008c6002815181101515613c8157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550613d3389602560008d6003815181101515613ce057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054616a2490919063ffffffff16565b602560008c6003815181101515613d4657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506002604051908082528060200260200182016040528015613dbe5781602001602082028038833980820191505090505b5092506002836000815181101515613dd257fe5b9060200190602002018181525050876000815181101515613def57fe5b90602001906020020151836001815181101515613e0857fe5b90602001906020020181815250507fddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef8a6002815181101515613e4657fe5b906020019060200201518b6003815181101515613e5f57fe5b906020019060200201518b604051613e799392919061b10e565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718b8b8a876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613efe949392919061b464565b606060405180830381600087803b158015613f1857600080fd5b505af1158015613f2c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613f50919081019061a15f565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada816000600281101515613f8857fe5b6020020151826001600281101515613f9c57fe5b60200201518c6002815181101515613fb057fe5b906020019060200201518d6003815181101515613fc957fe5b906020019060200201518d604051613fe595949392919061b9f3565b60405180910390a18181945094505050509550959350505050565b60098054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156140965780601f1061406b57610100808354040283529160200191614096565b820191906000526020600020905b81548152906001019060200180831161407957829003601f168201915b505050505081565b6000806060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161411d919061af31565b602060405180830381600087803b15801561413757600080fd5b505af115801561414b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061416f9190810190619da7565b9350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156141ff576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016141f69061b80f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1686868a6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161429e949392919061b0ae565b6040805180830381600087803b1580156142b757600080fd5b505af11580156142cb573d6000803e3d6000fd5b5050","50506040513d601f19601f820116820180604052506142ef9190810190619e0c565b8092508193505050801515614339576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016143309061b94f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016143b0919061af31565b602060405180830381600087803b1580156143ca57600080fd5b505af11580156143de573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614402919081019061a136565b1515614443576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161443a9061b76f565b60405180910390fd5b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205494505050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306145a160048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561458d5780601f106145625761010080835404028352916020019161458d565b820191906000526020600020905b81548152906001019060200180831161457057829003601f168201915b505050505089616e7290919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016145dc949392919061af98565b602060405180830381600087803b1580156145f657600080fd5b505af115801561460a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061462e919081019061a136565b151561466f576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016146669061b6cf565b60405180910390fd5b6146858383601b6187299092919063ffffffff16565b905092915050565b600060606000806146b9866146ab8986616e7290919063ffffffff16565b616e7290919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306147ca60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156147b65780601f1061478b576101008083540402835291602001916147b6565b820191906000526020600020905b81548152906001019060200180831161479957829003601f168201915b50505050508c616e7290919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161480895949392919061b145565b6040805180830381600087803b15801561482157600080fd5b505af1158015614835573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506148599190810190619e0c565b80925081935050508015156148a3576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161489a9061b96f565b60405180910390fd5b6148b98787601b617ac09092919063ffffffff16565b93505050509392505050565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60006148f682618926565b6027549050919050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561498857600080fd5b505af115801561499c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506149c09190810190619da7565b905090565b60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614a5b5780601f10614a3057610100808354040283529160200191614a5b565b820191906000526020600020905b815481529060010190602001808311614a3e57829003601f168201915b505050505081565b60078054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614af95780601f10614ace57610100808354040283529160200191614af9565b820191906000526020600020905b815481529060010190602001808311614adc57829003601f168201915b505050505081565b60606000606060008060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308a8e6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614bb0949392919061b209565b6040805180830381600087803b158015614bc957600080fd5b505af1158015614bdd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614c019190810190619e0c565b8096508197505050841515614c4b576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614c429061b84f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26876040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614cc2919061af31565b602060405180830381600087803b158015614cdc57600080fd5b505af1158015614cf0573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614d14919081019061a136565b1515614d55576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614d4c9061b76f565b60405180910390fd5b6023805490509350838c101515614da4576000604051908082528060200260200182016040528015614d965781602001602082028038833980820191505090505b508481915098509850614f67565b614db78b8d616a2490919063ffffffff16565b925083831115614dc5578392505b8b8303604051908082528060200260200182016040528015614df65781602001602082028038833980820191505090505b5091508b90505b82811015614f6057601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0602383815481101515614e5257fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614eb5919061af31565b602060405180830381600087803b158015614ecf57600080fd5b505af1158015614ee3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614f079190810190619da7565b828d8303815181101515614f1757fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508080600101915050614dfd565b8184985098505b50505050505050935093915050565b60008054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561500c5780601f10614fe15761010080835404028352916020019161500c565b820191906000526020600020905b815481529060010190602001808311614fef57829003601f168201915b505050505081565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60088054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156150d05780601f106150a5576101008083540402835291602001916150d0565b820191906000526020600020905b8154815290600101906020018083116150b357829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561518a57600080fd5b505af115801561519e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506151c29190810190619da7565b905090565b600060606000806151f3866151e58986616e7290919063ffffffff16565b616e7290919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061530460048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156152f05780601f106152c5576101008083540402835291602001916152f0565b8201919060005260","20600020905b8154815290600101906020018083116152d357829003601f168201915b50505050508c616e7290919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161534295949392919061b145565b6040805180830381600087803b15801561535b57600080fd5b505af115801561536f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506153939190810190619e0c565b80925081935050508015156153dd576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016153d49061b88f565b60405180910390fd5b6153f38787601b616e869092919063ffffffff16565b93505050509392505050565b6000606080600080600086516040519080825280602002602001820160405280156154395781602001602082028038833980820191505090505b509350600090505b86518110156156735760018114806154b45750600587511480156154655750600481145b806154b35750868181518110151561547957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b5b156155205786818151811015156154c757fe5b9060200190602002015184828151811015156154df57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050615666565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663accfbdd9888381518110151561556c57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016155ae919061af31565b6040805180830381600087803b1580156155c757600080fd5b505af11580156155db573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506155ff9190810190619e0c565b809450819350505082151561561a576000849550955061567a565b81848281518110151561562957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8080600101915050615441565b8284955095505b50505050915091565b60008060008061569285618926565b600090505b60238054905081101561573e5761572f602560006023848154811015156156ba57fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205483616a2490919063ffffffff16565b91508080600101915050615697565b60275482935093505050915091565b6000602154905090565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061586960038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156158555780601f1061582a57610100808354040283529160200191615855565b820191906000526020600020905b81548152906001019060200180831161583857829003601f168201915b505050505088616e7290919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016158a4949392919061af98565b602060405180830381600087803b1580156158be57600080fd5b505af11580156158d2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506158f6919081019061a136565b1515615937576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161592e9061b82f565b60405180910390fd5b61594b82601b6181d690919063ffffffff16565b9050919050565b60608060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016159fb949392919061b209565b6040805180830381600087803b158015615a1457600080fd5b505af1158015615a28573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615a4c9190810190619e0c565b8094508195505050821515615a96576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615a8d9061b84f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615b0d919061af31565b602060405180830381600087803b158015615b2757600080fd5b505af1158015615b3b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615b5f919081019061a136565b1515615ba0576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615b979061b76f565b60405180910390fd5b602380549050604051908082528060200260200182016040528015615bd45781602001602082028038833980820191505090505b509150600090505b602380549050811015615d4257601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0602383815481101515615c3657fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615c99919061af31565b602060405180830381600087803b158015615cb357600080fd5b505af1158015615cc7573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615ceb9190810190619da7565b8282815181101515615cf957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508080600101915050615bdc565b8195505050505050919050565b60006060600080615d7b86615d6d8986616e7290919063ffffffff16565b616e7290919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630615e8c60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615e785780601f10615e4d57610100808354040283529160200191615e78565b820191906000526020600020905b815481529060010190602001808311615e5b57829003601f168201915b50505050508c616e7290919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615eca95949392919061b145565b6040805180830381600087803b158015615ee357600080fd5b505af1158015615ef7573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615f1b9190810190619e0c565b8092508193505050801515615f65576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615f5c9061b6cf565b60405180910390fd5b615f7b8787601b6187299092919063ffffffff16565b93505050509392505050565b6000606080600080615fd48a8a8a8a8a6040805190810160405280600a81526020017f7769746864726177616c0000000000000000000000000000000000000000000081525060006171e3565b995060028951026040519080825280602002602001820160405280156160095781602001602082028038833980820191505090505b509250600090505b885181101561624257898160020260030181518110151561602e57fe5b906020019060200201519150602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156160c8576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016160bf9061b80f565b60405180910390fd5b61613189828151811015156160d957fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020546175da90919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506161a0898281518110151561618557fe5b906020019060200201516027546175da90919063ffffffff16565b6027819055507fb6e26e54bd578616699ab07efb4c2e322b45a80673803bbb259443d9fecee652828a838151811015156161d657fe5b906020019060200201516040516161ee92919061b3e9565b60405180910390a16162358a828b8481518110151561620957fe5b906020019060200201518a60018d600081518110151561622557fe5b9060200190602002015189617631565b8080600101915050616011565b600183945094505050509550959350505050565b6000806060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004","016162d8919061af31565b602060405180830381600087803b1580156162f257600080fd5b505af1158015616306573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061632a919081019061a136565b151561636b576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016163629061b76f565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016163e2919061af31565b602060405180830381600087803b1580156163fc57600080fd5b505af1158015616410573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506164349190810190619da7565b9550602460008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515156164c5576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016164bc9061b8ef565b60405180910390fd5b6164d88986618b7590919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888c6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616579949392919061b329565b6040805180830381600087803b15801561659257600080fd5b505af11580156165a6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506165ca9190810190619e0c565b8094508195505050821515616614576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161660b9061b92f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161668b919061af31565b602060405180830381600087803b1580156166a557600080fd5b505af11580156166b9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506166dd919081019061a136565b151561671e576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016167159061b76f565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fbcbc0f18a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616795919061af31565b602060405180830381600087803b1580156167af57600080fd5b505af11580156167c3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506167e79190810190619da7565b91508173ffffffffffffffffffffffffffffffffffffffff166395a0c79630601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660016040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016168659392919061b614565b602060405180830381600087803b15801561687f57600080fd5b505af1158015616893573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506168b7919081019061a136565b5060238690806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001602460008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff0219169083151502179055506001965050505050505092915050565b60058054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616a1c5780601f106169f157610100808354040283529160200191616a1c565b820191906000526020600020905b8154815290600101906020018083116169ff57829003601f168201915b505050505081565b6000808284019050838110151515616a71576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616a689061b72f565b60405180910390fd5b8091505092915050565b6000616a8561972e565b600060606000616a9361972e565b616ad68b8b8b8b8b6040805190810160405280600781526020017f6465706f736974000000000000000000000000000000000000000000000000008152506182e9565b9a508a6003815181101515616ae757fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515616b81576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616b789061b80f565b60405180910390fd5b616bd38a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054616a2490919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550616c2b8a602754616a2490919063ffffffff16565b6027819055506002604051908082528060200260200182016040528015616c615781602001602082028038833980820191505090505b5092506000836000815181101515616c7557fe5b9060200190602002018181525050886000815181101515616c9257fe5b90602001906020020151836001815181101515616cab57fe5b90602001906020020181815250507fe1fffcc4923d04b559f4d29a8bfc6cda04eb5b0d3c460751c2402c5c5cc9109c848b604051616cea92919061b3e9565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718c8c8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616d6f949392919061b464565b606060405180830381600087803b158015616d8957600080fd5b505af1158015616d9d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616dc1919081019061a15f565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada816000600281101515616df957fe5b6020020151826001600281101515616e0d57fe5b60200201518d6002815181101515616e2157fe5b906020019060200201518e6003815181101515616e3a57fe5b906020019060200201518e604051616e5695949392919061b9f3565b60405180910390a1818195509550505050509550959350505050565b6060616e7e8383618b91565b905092915050565b60008084600001846040518082805190602001908083835b602083101515616ec35780518252602082019150602081019050602083039250616e9e565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115617076577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b602083101515616f995780518252602082019150602081019050602083039250616f74565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051616fe095949392919061b046565b60405180910390a18285600001856040518082805190602001908083835b6020831015156170235780518252602082019150602081019050602083039250616ffe565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101908051906020019061706c929190619750565b50600191506171db565b8285600001856040518082805190602001908083835b6020831015156170b1578051825260208201915060208101905060208303925061708c565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906170fa929190619750565b5084600101805480919060010161711191906197d0565b90506001810185600001856040518082805190602001908083835b602083101515617151578051825260208201915060208101905060208303925061712c565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000018190555083856001018281548110151561719d57fe5b906000526020600020906002020160000190805190602001906171c1929190619750565b508460020160008154809291906001019190505550600091505b509392505050565b60608060008060006171f78c8c8c8c618d62565b93506172028c618f17565b9b50601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1688617270573061728a565b8e600381518110151561727f57fe5b906020019060200201515b8a888d6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016172c995949392919061afe4565b60408051","80830381600087803b1580156172e257600080fd5b505af11580156172f6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061731a9190810190619e0c565b80935081945050508161736b886040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506191b790919063ffffffff16565b9015156173ae576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016173a5919061b66d565b60405180910390fd5b5085156175c857600590505b8b518110156175c7578b60038151811015156173d257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168c8281518110151561740057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff161415156175bc57601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d84601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168f8581518110151561749757fe5b906020019060200201518b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016174dd949392919061af4c565b602060405180830381600087803b1580156174f757600080fd5b505af115801561750b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061752f919081019061a136565b617577886040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506191b790919063ffffffff16565b9015156175ba576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016175b1919061b66d565b60405180910390fd5b505b6002810190506173ba565b5b8b945050505050979650505050505050565b600080838311151515617622576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016176199061b7cf565b60405180910390fd5b82840390508091505092915050565b606080600061763e61972e565b600560405190808252806020026020018201604052801561766e5781602001602082028038833980820191505090505b5093508a600081518110151561768057fe5b9060200190602002015184600081518110151561769957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a60018151811015156176e457fe5b906020019060200201518460018151811015156176fd57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a8a60020260030181518110151561774d57fe5b9060200190602002015184600281518110151561776657fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a8a6002026004018151811015156177b657fe5b906020019060200201518460038151811015156177cf57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a600281518110151561781a57fe5b9060200190602002015184600481518110151561783357fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050600260405190808252806020026020018201604052801561789f5781602001602082028038833980820191505090505b509250868360008151811015156178b257fe5b9060200190602002018181525050858360018151811015156178d057fe5b9060200190602002018181525050602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f171858b8b876040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161795b949392919061b464565b606060405180830381600087803b15801561797557600080fd5b505af1158015617989573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506179ad919081019061a15f565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada8160006002811015156179e557fe5b60200201518260016002811015156179f957fe5b6020020151866002815181101515617a0d57fe5b90602001906020020151876003815181101515617a2657fe5b906020019060200201518d604051617a4295949392919061b9f3565b60405180910390a1806000600281101515617a5957fe5b6020020151858b600202815181101515617a6f57fe5b9060200190602002018181525050806001600281101515617a8c57fe5b60200201518560018c60020201815181101515617aa557fe5b90602001906020020181815250505050505050505050505050565b60008084600001846040518082805190602001908083835b602083101515617afd5780518252602082019150602081019050602083039250617ad8565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115617b485760009150617cad565b8285600001856040518082805190602001908083835b602083101515617b835780518252602082019150602081019050602083039250617b5e565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190617bcc929190619750565b50846001018054809190600101617be391906197d0565b90506001810185600001856040518082805190602001908083835b602083101515617c235780518252602082019150602081019050602083039250617bfe565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515617c6f57fe5b90600052602060002090600202016000019080519060200190617c93929190619750565b508460020160008154809291906001019190505550600191505b509392505050565b6000606080600080617d028a8a8a8a8a6040805190810160405280600781526020017f6465706f7369740000000000000000000000000000000000000000000000000081525060006171e3565b99506002895102604051908082528060200260200182016040528015617d375781602001602082028038833980820191505090505b509250600090505b8851811015617f70578981600202600401815181101515617d5c57fe5b906020019060200201519150602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515617df6576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401617ded9061b80f565b60405180910390fd5b617e5f8982815181101515617e0757fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054616a2490919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550617ece8982815181101515617eb357fe5b90602001906020020151602754616a2490919063ffffffff16565b6027819055507fe1fffcc4923d04b559f4d29a8bfc6cda04eb5b0d3c460751c2402c5c5cc9109c828a83815181101515617f0457fe5b90602001906020020151604051617f1c92919061b3e9565b60405180910390a1617f638a828b84815181101515617f3757fe5b906020019060200201518a60008d6000815181101515617f5357fe5b9060200190602002015189617631565b8080600101915050617d3f565b600183945094505050509550959350505050565b60008083600001836040518082805190602001908083835b602083101515617fc15780518252602082019150602081019050602083039250617f9c565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081141561800c57600091506181cf565b7f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b6020831015156180a0578051825260208201915060208101905060208303925061807b565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516180e795949392919061b046565b60405180910390a183600001836040518082805190602001908083835b6020831015156181295780518252602082019150602081019050602083039250618104565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000808201600090556001820160006181759190619802565b50506001846001016001830381548110151561818d57fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b606082600001826040518082805190602001908083835b60208310151561821257805182526020820191506020810190506020830392506181ed565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156182dc5780601f106182b1576101008083540402835291602001916182dc565b820191906000526020600020905b8154815290600101906020018083","116182bf57829003601f168201915b5050505050905092915050565b6060600060606000806182fc8a89619388565b506183098b8b8b8b6194e9565b92506183148b6153ff565b809c50819550505083151561835e576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016183559061b7af565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163089878c6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016183ff95949392919061b1a7565b6040805180830381600087803b15801561841857600080fd5b505af115801561842c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506184509190810190619e0c565b8092508193505050806184a1876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506191b790919063ffffffff16565b9015156184e4576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016184db919061b66d565b60405180910390fd5b508a9450505050509695505050505050565b600081600201549050919050565b6060600060606000806185178a89619388565b506185248b8b8b8b6194e9565b925061852f8b6153ff565b809c508195505050831515618579576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016185709061b7af565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168d60028151811015156185e957fe5b9060200190602002015189878c6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161863295949392919061afe4565b6040805180830381600087803b15801561864b57600080fd5b505af115801561865f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506186839190810190619e0c565b8092508193505050806186d4876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506191b790919063ffffffff16565b901515618717576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161870e919061b66d565b60405180910390fd5b508a9450505050509695505050505050565b60008084600001846040518082805190602001908083835b6020831015156187665780518252602082019150602081019050602083039250618741565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115618919577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151561883c5780518252602082019150602081019050602083039250618817565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405161888395949392919061b046565b60405180910390a18285600001856040518082805190602001908083835b6020831015156188c657805182526020820191506020810190506020830392506188a1565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101908051906020019061890f929190619750565b506001915061891e565b600091505b509392505050565b6060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086886040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016189ca949392919061b389565b6040805180830381600087803b1580156189e357600080fd5b505af11580156189f7573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250618a1b9190810190619e0c565b8092508193505050801515618a65576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401618a5c9061b86f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401618adc919061af31565b602060405180830381600087803b158015618af657600080fd5b505af1158015618b0a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250618b2e919081019061a136565b1515618b6f576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401618b669061b76f565b60405180910390fd5b50505050565b6060618b8983618b84846195ef565b618b91565b905092915050565b606080606080606060008088955087945084518651016040519080825280601f01601f191660200182016040528015618bd95781602001602082028038833980820191505090505b50935083925060009150600090505b8551811015618c9b578581815181101515618bff57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515618c5e57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050618be8565b600090505b8451811015618d53578481815181101515618cb757fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515618d1657fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050618ca0565b83965050505050505092915050565b6060806000806000806000808a51118015618d84575089516002026003018b51145b1515618dc5576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401618dbc9061b98f565b60405180910390fd5b600094505b8a51851015618e0c57618dfd8b86815181101515618de457fe5b9060200190602002015187618b7590919063ffffffff16565b95508480600101955050618dca565b600093505b8951841015618e7557618e3b8a85815181101515618e2b57fe5b9060200190602002015189619388565b50618e668a85815181101515618e4d57fe5b90602001906020020151876196ce90919063ffffffff16565b95508380600101945050618e11565b600092505b8851831015618ebf578883815181101515618e9157fe5b906020019060200201519150618eb082876196ce90919063ffffffff16565b95508280600101935050618e7a565b600090505b8751811015618f0657618ef78882815181101515618ede57fe5b9060200190602002015187616e7290919063ffffffff16565b95508080600101915050618ec4565b859650505050505050949350505050565b60608060008060008551604051908082528060200260200182016040528015618f4f5781602001602082028038833980820191505090505b509350600090505b85518110156191ab576001811480618f6f5750600281145b80618fbd57508581815181101515618f8357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b15619029578581815181101515618fd057fe5b906020019060200201518482815181101515618fe857fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff168152505061919e565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663accfbdd9878381518110151561907557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016190b7919061af31565b6040805180830381600087803b1580156190d057600080fd5b505af11580156190e4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506191089190810190619e0c565b8093508194505050811515619152576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016191499061b7af565b60405180910390fd5b82848281518110151561916157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8080600101915050618f57565b83945050505050919050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156191ff5781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156192c157858181518110151561922557fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561928457fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505061920e565b600090505b84518110156193","795784818151811015156192dd57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561933c57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506192c6565b83965050505050505092915050565b600080831115156193ce576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016193c59061b8af565b60405180910390fd5b60008260008151811015156193df57fe5b9060200190602002015151118015619410575060ff82600081518110151561940357fe5b9060200190602002015151105b1515619451576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016194489061b90f565b60405180910390fd5b6001825111156194df57600082600181518110151561946c57fe5b906020019060200201515111801561949d575060ff82600181518110151561949057fe5b9060200190602002015151105b15156194de576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016194d59061b74f565b60405180910390fd5b5b6001905092915050565b606080600080600080600093505b89518410156195395761952a8a8581518110151561951157fe5b9060200190602002015186618b7590919063ffffffff16565b945083806001019450506194f7565b61954c89866196ce90919063ffffffff16565b9450600092505b875183101561959857878381518110151561956a57fe5b90602001906020020151915061958982866196ce90919063ffffffff16565b94508280600101935050619553565b600090505b86518110156195df576195d087828151811015156195b757fe5b9060200190602002015186616e7290919063ffffffff16565b9450808060010191505061959d565b8495505050505050949350505050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801561963a5781602001602082028038833980820191505090505b509250600090505b60148110156196c757818160148110151561965957fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151561968a57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050619642565b5050919050565b60606196e2836196dd846196ea565b618b91565b905092915050565b606060206040519080825280601f01601f1916602001820160405280156197205781602001602082028038833980820191505090505b509050816020820152919050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f1061979157805160ff19168380011785556197bf565b828001600101855582156197bf579182015b828111156197be5782518255916020019190600101906197a3565b5b5090506197cc919061984a565b5090565b8154818355818111156197fd576002028160020283600052602060002091820191016197fc919061986f565b5b505050565b50805460018160011615610100020316600290046000825580601f106198285750619847565b601f016020900490600052602060002090810190619846919061984a565b5b50565b61986c91905b80821115619868576000816000905550600101619850565b5090565b90565b6198af91905b808211156198ab576000808201600061988e9190619802565b6001820160006101000a81549060ff021916905550600201619875565b5090565b90565b60006198be823561bd37565b905092915050565b60006198d2825161bd37565b905092915050565b600082601f83011215156198ed57600080fd5b81356199006198fb8261ba8e565b61ba61565b9150818183526020840193506020810190508385602084028201111561992557600080fd5b60005b83811015619955578161993b88826198b2565b845260208401935060208301925050600181019050619928565b5050505092915050565b600082601f830112151561997257600080fd5b60046199856199808261bab6565b61ba61565b9150818385602084028201111561999b57600080fd5b60005b838110156199cb57816199b18882619c55565b84526020840193506020830192505060018101905061999e565b5050505092915050565b600082601f83011215156199e857600080fd5b81356199fb6199f68261bad8565b61ba61565b91508181835260208401935060208101905083856020840282011115619a2057600080fd5b60005b83811015619a505781619a368882619cbf565b845260208401935060208301925050600181019050619a23565b5050505092915050565b600082601f8301121515619a6d57600080fd5b8135619a80619a7b8261bb00565b61ba61565b9150818183526020840193506020810190508360005b83811015619ac65781358601619aac8882619cd3565b845260208401935060208301925050600181019050619a96565b5050505092915050565b600082601f8301121515619ae357600080fd5b8151619af6619af18261bb00565b61ba61565b9150818183526020840193506020810190508360005b83811015619b3c5781518601619b228882619d29565b845260208401935060208301925050600181019050619b0c565b5050505092915050565b600082601f8301121515619b5957600080fd5b6002619b6c619b678261bb28565b61ba61565b91508183856020840282011115619b8257600080fd5b60005b83811015619bb25781619b988882619d93565b845260208401935060208301925050600181019050619b85565b5050505092915050565b600082601f8301121515619bcf57600080fd5b8135619be2619bdd8261bb4a565b61ba61565b91508181835260208401935060208101905083856020840282011115619c0757600080fd5b60005b83811015619c375781619c1d8882619d7f565b845260208401935060208301925050600181019050619c0a565b5050505092915050565b6000619c4d825161bd57565b905092915050565b6000619c61823561bd63565b905092915050565b600082601f8301121515619c7c57600080fd5b8135619c8f619c8a8261bb72565b61ba61565b91508082526020830160208301858383011115619cab57600080fd5b619cb683828461bda5565b50505092915050565b6000619ccb823561bd6d565b905092915050565b600082601f8301121515619ce657600080fd5b8135619cf9619cf48261bb9e565b61ba61565b91508082526020830160208301858383011115619d1557600080fd5b619d2083828461bda5565b50505092915050565b600082601f8301121515619d3c57600080fd5b8151619d4f619d4a8261bb9e565b61ba61565b91508082526020830160208301858383011115619d6b57600080fd5b619d7683828461bdb4565b50505092915050565b6000619d8b823561bd77565b905092915050565b6000619d9f825161bd77565b905092915050565b600060208284031215619db957600080fd5b6000619dc7848285016198c6565b91505092915050565b60008060a08385031215619de357600080fd5b6000619df1858286016198b2565b9250506020619e028582860161995f565b9150509250929050565b60008060408385031215619e1f57600080fd5b6000619e2d858286016198c6565b9250506020619e3e85828601619c41565b9150509250929050565b600060208284031215619e5a57600080fd5b600082013567ffffffffffffffff811115619e7457600080fd5b619e80848285016198da565b91505092915050565b60008060008060006101008688031215619ea257600080fd5b600086013567ffffffffffffffff811115619ebc57600080fd5b619ec8888289016198da565b955050602086013567ffffffffffffffff811115619ee557600080fd5b619ef188828901619bbc565b945050604086013567ffffffffffffffff811115619f0e57600080fd5b619f1a888289016199d5565b935050606086013567ffffffffffffffff811115619f3757600080fd5b619f4388828901619a5a565b9250506080619f548882890161995f565b9150509295509295909350565b60008060008060006101008688031215619f7a57600080fd5b600086013567ffffffffffffffff811115619f9457600080fd5b619fa0888289016198da565b9550506020619fb188828901619d7f565b945050604086013567ffffffffffffffff811115619fce57600080fd5b619fda888289016199d5565b935050606086013567ffffffffffffffff811115619ff757600080fd5b61a00388828901619a5a565b925050608061a0148882890161995f565b9150509295509295909350565b60006080828403121561a03357600080fd5b600061a0418482850161995f565b91505092915050565b60006020828403121561a05c57600080fd5b600082015167ffffffffffffffff81111561a07657600080fd5b61a08284828501619ad0565b91505092915050565b60008060008060e0858703121561a0a157600080fd5b600085013567ffffffffffffffff81111561a0bb57600080fd5b61a0c787828801619bbc565b945050602085013567ffffffffffffffff81111561a0e457600080fd5b61a0f0878288016198da565b935050604085013567ffffffffffffffff81111561a10d57600080fd5b61a119878288016199d5565b925050606061a12a8782880161995f565b91505092959194509250565b60006020828403121561a14857600080fd5b600061a15684828501619c41565b91505092915050565b6000806060838503121561a17257600080fd5b600061a18085828601619c41565b925050602061a19185828601619b46565b9150509250929050565b60006020828403121561a1ad57600080fd5b600082013567ffffffffffffffff81111561a1c757600080fd5b61a1d384828501619c69565b91505092915050565b60008060a0838503121561a1ef57600080fd5b600083013567ffffffffffffffff81111561a20957600080fd5b61a21585828601619c69565b925050602061a2268582860161995f565b9150509250929050565b6000806040838503121561a24357600080fd5b600083013567ffffffffffffffff81111561a25d57600080fd5b61a26985828601619c69565b925050602083013567ffffffffffffffff81111561a28657600080fd5b61a29285828601619c69565b9150509250929050565b600080600060c0848603121561a2b157600080fd5b600084013567ffffffffffffffff81111561a2cb57600080fd5b61a2","d786828701619c69565b935050602084013567ffffffffffffffff81111561a2f457600080fd5b61a30086828701619c69565b925050604061a3118682870161995f565b9150509250925092565b60006020828403121561a32d57600080fd5b600061a33b84828501619d93565b91505092915050565b600080600060c0848603121561a35957600080fd5b600061a36786828701619d7f565b935050602061a37886828701619d7f565b925050604061a3898682870161995f565b9150509250925092565b61a39c8161bce0565b82525050565b600061a3ad8261bc24565b80845260208401935061a3bf8361bbca565b60005b8281101561a3f15761a3d586835161a393565b61a3de8261bc92565b915060208601955060018101905061a3c2565b50849250505092915050565b61a4068161bc2f565b61a40f8261bbd7565b60005b8281101561a4415761a42585835161a5c6565b61a42e8261bc9f565b915060208501945060018101905061a412565b5050505050565b600061a4538261bc3a565b80845260208401935061a4658361bbe1565b60005b8281101561a4975761a47b86835161a6e5565b61a4848261bcac565b915060208601955060018101905061a468565b50849250505092915050565b600061a4ae8261bc45565b8084526020840193508360208202850161a4c78561bbee565b60005b8481101561a50057838303885261a4e283835161a72a565b925061a4ed8261bcb9565b915060208801975060018101905061a4ca565b508196508694505050505092915050565b61a51a8161bc50565b61a5238261bbfb565b60005b8281101561a5555761a53985835161af13565b61a5428261bcc6565b915060208501945060018101905061a526565b5050505050565b600061a5678261bc5b565b80845260208401935061a5798361bc05565b60005b8281101561a5ab5761a58f86835161af13565b61a5988261bcd3565b915060208601955060018101905061a57c565b50849250505092915050565b61a5c08161bd00565b82525050565b61a5cf8161bd0c565b82525050565b600061a5e08261bc71565b80845261a5f481602086016020860161bdb4565b61a5fd8161bde7565b602085010191505092915050565b600061a6168261bc66565b80845261a62a81602086016020860161bdb4565b61a6338161bde7565b602085010191505092915050565b60008154600181166000811461a65e576001811461a67e5761a6bf565b607f600283041680865260ff19831660208701526040860193505061a6bf565b6002820480865260208601955061a6948561bc12565b60005b8281101561a6b65781548189015260018201915060208101905061a697565b80880195505050505b505092915050565b61a6d08161bd81565b82525050565b61a6df8161bd93565b82525050565b61a6ee8161bd16565b82525050565b600061a6ff8261bc87565b80845261a71381602086016020860161bdb4565b61a71c8161bde7565b602085010191505092915050565b600061a7358261bc7c565b80845261a74981602086016020860161bdb4565b61a7528161bde7565b602085010191505092915050565b6000602c82527f466f7262696464656e207175657279426f6f6b206265636175736520796f752060208301527f6172656e2774206f776e657200000000000000000000000000000000000000006040830152606082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000602982527f546865206c656e677468206f66207375626a656374206279746573206973207760208301527f697468696e2032353500000000000000000000000000000000000000000000006040830152606082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000601f82527f676574546f74616c42616c616e636520676574546f74616c42616c616e6365006020830152604082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000601782527f616d6f756e743c3d30206973206e6f74207665726966790000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000602682527f546865206c656e677468206f662064657363206279746573206973207769746860208301527f696e2032353500000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000600f82527f676574546f74616c42616c616e636500000000000000000000000000000000006020830152604082019050919050565b6000600a82527f67657442616c616e6365000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e2067657442616c616e63650000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000600f82527f6c656773206e6f742076657269667900000000000000000000000000000000006020830152604082019050919050565b61af1c8161bd20565b82525050565b61af2b8161bd2a565b82525050565b600060208201905061af46600083018461a393565b92915050565b600060808201905061af61600083018761a393565b61af6e602083018661a393565b61af7b604083018561a393565b818103606083015261af8d818461a60b565b905095945050505050565b600060808201905061afad600083018761a393565b61afba602083018661a393565b61afc7604083018561a393565b818103606083015261afd9818461a5d5565b905095945050505050565b60006101008201905061affa600083018861a393565b61b007602083018761a393565b818103604083015261b019818661a60b565b9050818103606083015261b02d818561a5d5565b905061b03c608083018461a3fd565b9695505050505050565b600060a08201905061b05b600083018861a393565b61b068602083018761a393565b818103604083015261b07a818661a60b565b9050818103606083015261b08e818561a5d5565b9050818103608083015261b0a2818461a641565b90509695505050505050565b60006101008201905061b0c4600083018761a393565b61b0d1602083018661a393565b818103604083015261b0e28161ae37565b9050818103606083015261b0f6818561a5d5565b905061b105608083018461a3fd565b95945050505050565b600060608201905061b123600083018661a393565b61b130602083018561a393565b61b13d604083018461af13565b949350505050565b60006101008201905061b15b600083018861a393565b61b168602083018761a6c7565b818103604083015261b17a818661a5d5565b9050818103606083015261b18e818561a5d5565b905061b19d608083018461a3fd565b9695505050505050565b60006101008201905061b1bd600083018861a393565b61b1ca602083018761a6d6565b818103604083015261b1dc818661a60b565b9050818103606083015261b1f0818561a5d5565b905061b1ff608083018461a3fd565b9695505050505050565b60006101008201905061b21f600083018761a393565b61b22c602083018661a6d6565b818103604083015261b23d8161a862565b9050818103606083015261b251818561a5d5565b905061b260608083018461a3fd565b95945050505050565b60006101008201905061b27f600083018761a393565b61b28c602083018661a6d6565b818103604083015261b29d8161a899565b9050818103606083015261b2b1818561a5d5565b905061b2c0608083018461a3fd565b95945050505050565b60006101","008201905061b2df600083018761a393565b61b2ec602083018661a6d6565b818103604083015261b2fd8161acfe565b9050818103606083015261b311818561a5d5565b905061b320608083018461a3fd565b95945050505050565b60006101008201905061b33f600083018761a393565b61b34c602083018661a6d6565b818103604083015261b35d8161ad92565b9050818103606083015261b371818561a5d5565b905061b380608083018461a3fd565b95945050505050565b60006101008201905061b39f600083018761a393565b61b3ac602083018661a6d6565b818103604083015261b3bd8161ae00565b9050818103606083015261b3d1818561a5d5565b905061b3e0608083018461a3fd565b95945050505050565b600060408201905061b3fe600083018561a393565b61b40b602083018461af13565b9392505050565b6000602082019050818103600083015261b42c818461a3a2565b905092915050565b6000604082019050818103600083015261b44e818561a3a2565b905061b45d602083018461af13565b9392505050565b6000608082019050818103600083015261b47e818761a3a2565b905061b48d602083018661af13565b818103604083015261b49f818561a4a3565b9050818103606083015261b4b3818461a448565b905095945050505050565b6000602082019050818103600083015261b4d8818461a4a3565b905092915050565b6000606082019050818103600083015261b4fa818661a55c565b9050818103602083015261b50e818561a3a2565b9050818103604083015261b522818461a448565b9050949350505050565b600060208201905061b541600083018461a5b7565b92915050565b600060408201905061b55c600083018561a5b7565b818103602083015261b56e818461a3a2565b90509392505050565b600060608201905061b58c600083018561a5b7565b61b599602083018461a511565b9392505050565b600060408201905061b5b5600083018561a5b7565b818103602083015261b5c7818461a55c565b90509392505050565b6000602082019050818103600083015261b5ea818461a60b565b905092915050565b6000602082019050818103600083015261b60c818461a5d5565b905092915050565b600060608201905061b629600083018661a6d6565b61b636602083018561a393565b61b643604083018461a5b7565b949350505050565b6000602082019050818103600083015261b665818461a72a565b905092915050565b6000602082019050818103600083015261b687818461a6f4565b905092915050565b6000602082019050818103600083015261b6a88161a760565b9050919050565b6000602082019050818103600083015261b6c88161a7bd565b9050919050565b6000602082019050818103600083015261b6e88161a7f4565b9050919050565b6000602082019050818103600083015261b7088161a82b565b9050919050565b6000602082019050818103600083015261b7288161a8d0565b9050919050565b6000602082019050818103600083015261b7488161a907565b9050919050565b6000602082019050818103600083015261b7688161a93e565b9050919050565b6000602082019050818103600083015261b7888161a99b565b9050919050565b6000602082019050818103600083015261b7a88161a9f8565b9050919050565b6000602082019050818103600083015261b7c88161aa2f565b9050919050565b6000602082019050818103600083015261b7e88161aa8c565b9050919050565b6000602082019050818103600083015261b8088161aac3565b9050919050565b6000602082019050818103600083015261b8288161ab46565b9050919050565b6000602082019050818103600083015261b8488161ab7d565b9050919050565b6000602082019050818103600083015261b8688161abb4565b9050919050565b6000602082019050818103600083015261b8888161abeb565b9050919050565b6000602082019050818103600083015261b8a88161ac22565b9050919050565b6000602082019050818103600083015261b8c88161ac59565b9050919050565b6000602082019050818103600083015261b8e88161ac90565b9050919050565b6000602082019050818103600083015261b9088161acc7565b9050919050565b6000602082019050818103600083015261b9288161ad35565b9050919050565b6000602082019050818103600083015261b9488161adc9565b9050919050565b6000602082019050818103600083015261b9688161ae6e565b9050919050565b6000602082019050818103600083015261b9888161aea5565b9050919050565b6000602082019050818103600083015261b9a88161aedc565b9050919050565b600060208201905061b9c4600083018461af13565b92915050565b600060408201905061b9df600083018561af13565b61b9ec602083018461af13565b9392505050565b600060a08201905061ba08600083018861af13565b61ba15602083018761af13565b61ba22604083018661a393565b61ba2f606083018561a393565b61ba3c608083018461af13565b9695505050505050565b600060208201905061ba5b600083018461af22565b92915050565b6000604051905081810181811067ffffffffffffffff8211171561ba8457600080fd5b8060405250919050565b600067ffffffffffffffff82111561baa557600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561bacd57600080fd5b602082029050919050565b600067ffffffffffffffff82111561baef57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561bb1757600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561bb3f57600080fd5b602082029050919050565b600067ffffffffffffffff82111561bb6157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561bb8957600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111561bbb557600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600061bd8c8261bce0565b9050919050565b600061bd9e8261bce0565b9050919050565b82818337600083830152505050565b60005b8381101561bdd257808201518184015260208101905061bdb7565b8381111561bde1576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a72305820e519e6c9a163bce3cda84e50e0901280adab016f499ad6d6b8a40995da4985516c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b506040516200593638038062005936833981018060405262000037919081019062000354565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600a9080519060200190620000ff9291906200021b565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166356004b6a600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a91906200055d565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d09190810190620003c3565b5080600b60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505062000678565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200025e57805160ff19168380011785556200028f565b828001600101855582156200028f579182015b828111156200028e57825182559160200191906001019062000271565b5b5090506200029e9190620002a2565b5090565b620002c791905b80821115620002c3576000816000905550600101620002a9565b5090565b90565b6000620002d8825162000618565b905092915050565b6000620002ee825162000638565b905092915050565b600082601f83011215156200030a57600080fd5b8151620003216200031b82620005d9565b620005ab565b915080825260208301602083018583830111156200033e57600080fd5b6200034b83828462000642565b50505092915050565b6000806000606084860312156200036a57600080fd5b60006200037a86828701620002ca565b935050602084015167ffffffffffffffff8111156200039857600080fd5b620003a686828701620002f6565b9250506040620003b986828701620002ca565b9150509250925092565b600060208284031215620003d657600080fd5b6000620003e684828501620002e0565b91505092915050565b6000815460018116600081146200040f5760018114620004305762000475565b607f600283041680865260ff19831660208701526040860193505062000475565b60028204808652602086019550620004488562000606565b60005b828110156200046c578154818901526001820191506020810190506200044b565b80880195505050505b505092915050565b6000600782527f626f6f6b5f6e6f00000000000000000000000000000000","0000000000000000006020830152604082019050919050565b6000606482527f7465726d5f6e6f2c7365712c66726f6d2c746f2c616d6f756e742c617373657460208301527f2c6f70657261746f722c646573632c7472616e73616374696f6e5f747970652c60408301527f6f7065726174696f6e5f747970652c7375626a6563742c72656c617465645f6160608301527f7373657400000000000000000000000000000000000000000000000000000000608083015260a082019050919050565b60006060820190508181036000830152620005798184620003ef565b905081810360208301526200058e816200047d565b90508181036040830152620005a381620004b4565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005cf57600080fd5b8060405250919050565b600067ffffffffffffffff821115620005f157600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b838110156200066257808201518184015260208101905062000645565b8381111562000672576000848401525b50505050565b6152ae80620006886000396000f300608060405260043610610062576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806318d6f1711461006757806338cc4831146100a5578063521ae536146100d0578063e953d0af1461010d575b600080fd5b34801561007357600080fd5b5061008e6004803603610089919081019061405e565b610138565b60405161009c929190614982565b60405180910390f35b3480156100b157600080fd5b506100ba6105c9565b6040516100c79190614945565b60405180910390f35b3480156100dc57600080fd5b506100f760048036036100f29190810190614109565b6105d1565b6040516101049190614960565b60405180910390f35b34801561011957600080fd5b50610122610c92565b60405161012f9190614f3f565b60405180910390f35b6000610142613c9a565b600060606000806000610153613c9a565b60048c5110158015610166575060028951145b15156101a7576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161019e90614db9565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663124b65b46040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801561022c57600080fd5b505af1158015610240573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061026991908101906142d7565b80965081975050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638662f51f6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156102f657600080fd5b505af115801561030a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061032e91908101906142ae565b935061033e86858e8e8e8e610cef565b9250600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016103b89190614a4f565b602060405180830381600087803b1580156103d257600080fd5b505af11580156103e6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061040a919081019061421b565b915060018273ffffffffffffffffffffffffffffffffffffffff166331afac36610454600260016002805490500381548110151561044457fe5b90600052602060002001546116b9565b866040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161048e929190614a1f565b602060405180830381600087803b1580156104a857600080fd5b505af11580156104bc573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104e09190810190614244565b141515610522576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161051990614e63565b60405180910390fd5b61052d86858e611810565b60408051908101604052808781526020018581525090507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada86858e600281518110151561057657fe5b906020019060200201518f600381518110151561058f57fe5b906020019060200201518f6040516105ab959493929190614f5a565b60405180910390a16001819750975050505050505094509492505050565b600030905090565b60606000606060006060600080606060008b5111806105f1575060008a51115b1515610632576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161062990614db9565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016106aa9190614a4f565b602060405180830381600087803b1580156106c457600080fd5b505af11580156106d8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506106fc919081019061421b565b96506107088b8b611dca565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561077457600080fd5b505af1158015610788573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107ac91908101906141a0565b92506000915060008b511180156107dc575060008b60008151811015156107cf57fe5b9060200190602002015114155b15610889578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d161081e8d600081518110151561080f57fe5b906020019060200201516116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108569190614c9a565b600060405180830381600087803b15801561087057600080fd5b505af1158015610884573d6000803e3d6000fd5b505050505b60018b511180156108b3575060008b60018151811015156108a657fe5b9060200190602002015114155b15610960578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16108f58d60018151811015156108e657fe5b906020019060200201516116b9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161092d9190614d0f565b600060405180830381600087803b15801561094757600080fd5b505af115801561095b573d6000803e3d6000fd5b505050505b60008a511180156109b65750600073ffffffffffffffffffffffffffffffffffffffff168a600081518110151561099357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610a79578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d1610a0e8c60008151811015156109e957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610a469190614bf7565b600060405180830381600087803b158015610a6057600080fd5b505af1158015610a74573d6000803e3d6000fd5b505050505b60018a51118015610acf5750600073ffffffffffffffffffffffffffffffffffffffff168a6001815181101515610aac57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610b92578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d1610b278c6001815181101515610b0257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b5f9190614b54565b600060405180830381600087803b158015610b7957600080fd5b505af1158015610b8d573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff16637ec1cc658a6000815181101515610bbd57fe5b906020019060200201518b6001815181101515610bd657fe5b906020019060200201516040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c199291906149c6565b600060405180830381600087803b158015610c3357600080fd5b505af1158015610c47573d6000803e3d6000fd5b50505050610c568686856125c2565b809350819250505060008151118015610c6f5750600082135b15610c8157610c7e81836128ca565b93505b839750505050505050509392505050565b6000600260016002805490500190806001815401808255809150509060018203906000526020600020016000909192909190915055506002600160028054905003815481101515610cdf57fe5b9060005260206000200154905090565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610d6c9190614a4f565b602060405180830381600087803b158015610d8657600080fd5b505af1158015610d9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610dbe919081019061421b565b91508173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381","600087803b158015610e2457600080fd5b505af1158015610e38573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e5c91908101906141f2565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610ea46002600160028054905003815481101515610e9457fe5b90600052602060002001546116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610edc9190614dd9565b600060405180830381600087803b158015610ef657600080fd5b505af1158015610f0a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610f338a6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f6b9190614d0f565b600060405180830381600087803b158015610f8557600080fd5b505af1158015610f99573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610fc28b6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ffa9190614c9a565b600060405180830381600087803b15801561101457600080fd5b505af1158015611028573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661107f89600281518110151561105a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110b79190614bf7565b600060405180830381600087803b1580156110d157600080fd5b505af11580156110e5573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661113c89600381518110151561111757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111749190614b54565b600060405180830381600087803b15801561118e57600080fd5b505af11580156111a2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158860018151811015156111d157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112139190614a91565b600060405180830381600087803b15801561122d57600080fd5b505af1158015611241573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661126a886116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112a29190614e2e565b600060405180830381600087803b1580156112bc57600080fd5b505af11580156112d0573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158860008151811015156112ff57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113419190614c4c565b600060405180830381600087803b15801561135b57600080fd5b505af115801561136f573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51686600081518110151561139e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113e09190614d64565b600060405180830381600087803b1580156113fa57600080fd5b505af115801561140e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba7485600081518110151561143d57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161147f9190614ec3565b600060405180830381600087803b15801561149957600080fd5b505af11580156114ad573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748560018151811015156114dc57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161151e9190614f11565b600060405180830381600087803b15801561153857600080fd5b505af115801561154c573d6000803e3d6000fd5b505050506001855111156115fa578073ffffffffffffffffffffffffffffffffffffffff1663e942b51686600181518110151561158557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115c79190614adf565b600060405180830381600087803b1580156115e157600080fd5b505af11580156115f5573d6000803e3d6000fd5b505050505b8073ffffffffffffffffffffffffffffffffffffffff1663a815ff15600589511061163d5788600481518110151561162e57fe5b90602001906020020151611640565b60005b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116789190614ba9565b600060405180830381600087803b15801561169257600080fd5b505af11580156116a6573d6000803e3d6000fd5b5050505080925050509695505050505050565b60606000806060600080861415611707576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611807565b8593505b600084141515611731578280600101935050600a8481151561172957fe5b04935061170b565b826040519080825280601f01601f1916602001820160405280156117645781602001602082028038833980820191505090505b5091506001830390505b60008614151561180357600a8681151561178457fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156117bf57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156117fb57fe5b04955061176e565b8194505b50505050919050565b600760008481526020019081526020016000206000600260016002805490500381548110151561183c57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615156119265760036000848152602001908152602001600020600260016002805490500381548110151561189357fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160076000858152602001908152602001600020600060026001600280549050038154811015156118f557fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600260016002805490500381548110151561193d57fe5b906000526020600020015460046000848152602001908152602001600020819055506008600082600281518110151561197257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156119cf57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611a485750806002815181101515611a0d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611b925760056000826002815181101515611a6057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611abb57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160086000836002815181101515611b0457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611b6157fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b60096000826003815181101515611ba557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611c0257fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611c7b5750806003815181101515611c4057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611dc55760066000826003815181101515611c9357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611cee57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160096000836003815181101515611d3757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611d9457fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b505050565b6060600060606000806000806000600280549050604051908082528060200260200182016040528015611e0c5781602001602082028038833980820191505090505b50955060018a51","118015611e39575060008a6001815181101515611e2c57fe5b9060200190602002015114155b15611ec7576000600460008c6001815181101515611e5357fe5b90602001906020020151815260200190815260200160002054141515611ec6576001866001600460008e6001815181101515611e8b57fe5b9060200190602002015181526020019081526020016000205403815181101515611eb157fe5b90602001906020020190151590811515815250505b5b60008a51118015611ef1575060008a6000815181101515611ee457fe5b9060200190602002015114155b1561200c57600094505b600360008b6000815181101515611f0e57fe5b9060200190602002015181526020019081526020016000208054905085101561200b57856001600360008d6000815181101515611f4757fe5b90602001906020020151815260200190815260200160002087815481101515611f6c57fe5b906000526020600020015403815181101515611f8457fe5b906020019060200201511515611ffe576001866001600360008e6000815181101515611fac57fe5b90602001906020020151815260200190815260200160002088815481101515611fd157fe5b906000526020600020015403815181101515611fe957fe5b90602001906020020190151590811515815250505b8480600101955050611efb565b5b600089511180156120625750600073ffffffffffffffffffffffffffffffffffffffff1689600081518110151561203f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561220157600093505b600560008a600081518110151561207f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208054905084101561220057856001600560008c60008151811015156120e457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208681548110151561213557fe5b90600052602060002001540381518110151561214d57fe5b9060200190602002015115156121f3576001866001600560008d600081518110151561217557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020878154811015156121c657fe5b9060005260206000200154038151811015156121de57fe5b90602001906020020190151590811515815250505b838060010194505061206c565b5b600189511180156122575750600073ffffffffffffffffffffffffffffffffffffffff1689600181518110151561223457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156123f657600092505b600660008a600181518110151561227457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020805490508310156123f557856001600660008c60018151811015156122d957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208581548110151561232a57fe5b90600052602060002001540381518110151561234257fe5b9060200190602002015115156123e8576001866001600660008d600181518110151561236a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156123bb57fe5b9060005260206000200154038151811015156123d357fe5b90602001906020020190151590811515815250505b8280600101935050612261565b5b60009150600090505b855181101561243b57858181518110151561241657fe5b906020019060200201511561242e5781806001019250505b80806001019150506123ff565b8582975097505050505050509250929050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff16945060008514156124b8576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525095506125b8565b8493505b6000841415156124e2578280600101935050600a848115156124da57fe5b0493506124bc565b826040519080825280601f01601f1916602001820160405280156125155781602001602082028038833980820191505090505b5091506001830390505b6000851415156125b457600a8581151561253557fe5b066030017f01000000000000000000000000000000000000000000000000000000000000000282828060019003935081518110151561257057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a858115156125ac57fe5b04945061251f565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126489190614a4f565b602060405180830381600087803b15801561266257600080fd5b505af1158015612676573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061269a919081019061421b565b955060009450896040519080825280602002602001820160405280156126cf5781602001602082028038833980820191505090505b50935060009250600091505b8a518210156128b6578a828151811015156126f257fe5b90602001906020020151156128a9578573ffffffffffffffffffffffffffffffffffffffff1663e8434e39612729600185016116b9565b8b6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016127639291906149ef565b602060405180830381600087803b15801561277d57600080fd5b505af1158015612791573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127b591908101906141c9565b90508073ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561281b57600080fd5b505af115801561282f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128539190810190614244565b8501945080848480600101955081518110151561286c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b81806001019250506126db565b838597509750505050505050935093915050565b60608060008060008060006060600c890260405190808252806020026020018201604052801561290e57816020015b60608152602001906001900390816128f95790505b509650600095505b895186101561353457898681518110151561292d57fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156129a657600080fd5b505af11580156129ba573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129de9190810190614244565b831215613527578473ffffffffffffffffffffffffffffffffffffffff1663846719e0846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a3a91906149ab565b602060405180830381600087803b158015612a5457600080fd5b505af1158015612a68573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a8c91908101906141f2565b915060009350612c938273ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae890614bd7565b600060405180830381600087803b158015612b0257600080fd5b505af1158015612b16573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612b3f919081019061426d565b8373ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b9290614b34565b600060405180830381600087803b158015612bac57600080fd5b505af1158015612bc0573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612be9919081019061426d565b8473ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c3c90614c2c565b602060405180830381600087803b158015612c5657600080fd5b505af1158015612c6a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c8e9190810190614035565b613544565b905060038151141515612cdb576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612cd290614b14565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d2e90614c7a565b600060405180830381600087803b158015612d4857600080fd5b505af1158015612d5c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612d85919081019061426d565b878585600c0201815181101515612d9857fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612df890614cef565b600060405180830381600087803b158015612e1257600080fd5b50","5af1158015612e26573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612e4f919081019061426d565b878560010195508585600c0201815181101515612e6857fe5b90602001906020020181905250806000815181101515612e8457fe5b90602001906020020151878560010195508585600c0201815181101515612ea757fe5b90602001906020020181905250806001815181101515612ec357fe5b90602001906020020151878560010195508585600c0201815181101515612ee657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f4690614e0e565b600060405180830381600087803b158015612f6057600080fd5b505af1158015612f74573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612f9d919081019061426d565b878560010195508585600c0201815181101515612fb657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161301690614d44565b600060405180830381600087803b15801561303057600080fd5b505af1158015613044573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061306d919081019061426d565b878560010195508585600c020181518110151561308657fe5b906020019060200201819052506131568273ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130e990614a71565b602060405180830381600087803b15801561310357600080fd5b505af1158015613117573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061313b9190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561316f57fe5b9060200190602002018190525080600281518110151561318b57fe5b90602001906020020151878560010195508585600c02018151811015156131ae57fe5b906020019060200201819052506132688273ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161321190614ea3565b602060405180830381600087803b15801561322b57600080fd5b505af115801561323f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506132639190810190614244565b6116b9565b878560010195508585600c020181518110151561328157fe5b9060200190602002018190525061333b8273ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132e490614ef1565b602060405180830381600087803b1580156132fe57600080fd5b505af1158015613312573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506133369190810190614244565b6116b9565b878560010195508585600c020181518110151561335457fe5b906020019060200201819052506134248273ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016133b790614b89565b602060405180830381600087803b1580156133d157600080fd5b505af11580156133e5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134099190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561343d57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161349d90614abf565b600060405180830381600087803b1580156134b757600080fd5b505af11580156134cb573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506134f4919081019061426d565b878560010195508585600c020181518110151561350d57fe5b906020019060200201819052508280600101935050612942565b8580600101965050612916565b8697505050505050505092915050565b606080600080600360405190808252806020026020018201604052801561357f57816020015b606081526020019060019003908161356a5790505b50925061358b87613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561374557600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca061360789613ac9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161363f9190614945565b602060405180830381600087803b15801561365957600080fd5b505af115801561366d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136919190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613705576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016136fc90614d99565b60405180910390fd5b6137248173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600081518110151561373357fe5b90602001906020020181905250613763565b8683600081518110151561375557fe5b906020019060200201819052505b61376c86613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561392657600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca06137e888613ac9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138209190614945565b602060405180830381600087803b15801561383a57600080fd5b505af115801561384e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138729190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156138e6576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016138dd90614e83565b60405180910390fd5b6139058173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600181518110151561391457fe5b90602001906020020181905250613944565b8583600181518110151561393657fe5b906020019060200201819052505b600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016139bb9190614945565b602060405180830381600087803b1580156139d557600080fd5b505af11580156139e9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a0d9190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613a81576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613a7890614ccf565b60405180910390fd5b613aa08173ffffffffffffffffffffffffffffffffffffffff1661244e565b836002815181101515613aaf57fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613c8f5760308382815181101515613af557fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bf3575060398382815181101515613b7f57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613c825760308382815181101515613c0857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613adc565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613cc88235615181565b905092915050565b6000613cdc8251615181565b905092915050565b600082601f8301121515613cf757600080fd5b8135613d0a613d0582614fda565b614fad565b91508181835260208401935060208101905083856020840282011115613d2f57600080fd5b60005b83811015613d5f5781613d458882613cbc565b845260208401935060208301925050600181019050613d32565b5050505092915050565b600082601f8301121515613d7c57600080fd5b8135613d8f613d8a82615002565b614fad565b91508181835260208401935060208101905083856020840282011115613db457600080fd5b60005b83811015613de45781613dca8882613f39565b845260208401935060208301925050600181019050613db7565b5050505092915050565b600082601f8301121515613e0157600080fd5b8135613e14613e0f8261502a565b614fad56","5b9150818183526020840193506020810190508360005b83811015613e5a5781358601613e408882613f61565b845260208401935060208301925050600181019050613e2a565b5050505092915050565b600082601f8301121515613e7757600080fd5b8135613e8a613e8582615052565b614fad565b91508181835260208401935060208101905083856020840282011115613eaf57600080fd5b60005b83811015613edf5781613ec5888261400d565b845260208401935060208301925050600181019050613eb2565b5050505092915050565b6000613ef582516151a1565b905092915050565b6000613f0982516151b3565b905092915050565b6000613f1d82516151c5565b905092915050565b6000613f3182516151d7565b905092915050565b6000613f4582356151e9565b905092915050565b6000613f5982516151e9565b905092915050565b600082601f8301121515613f7457600080fd5b8135613f87613f828261507a565b614fad565b91508082526020830160208301858383011115613fa357600080fd5b613fae838284615221565b50505092915050565b600082601f8301121515613fca57600080fd5b8151613fdd613fd8826150a6565b614fad565b91508082526020830160208301858383011115613ff957600080fd5b614004838284615230565b50505092915050565b600061401982356151f3565b905092915050565b600061402d82516151f3565b905092915050565b60006020828403121561404757600080fd5b600061405584828501613cd0565b91505092915050565b6000806000806080858703121561407457600080fd5b600085013567ffffffffffffffff81111561408e57600080fd5b61409a87828801613ce4565b94505060206140ab8782880161400d565b935050604085013567ffffffffffffffff8111156140c857600080fd5b6140d487828801613dee565b925050606085013567ffffffffffffffff8111156140f157600080fd5b6140fd87828801613d69565b91505092959194509250565b60008060006060848603121561411e57600080fd5b600084013567ffffffffffffffff81111561413857600080fd5b61414486828701613e64565b935050602084013567ffffffffffffffff81111561416157600080fd5b61416d86828701613ce4565b925050604084013567ffffffffffffffff81111561418a57600080fd5b61419686828701613d69565b9150509250925092565b6000602082840312156141b257600080fd5b60006141c084828501613ee9565b91505092915050565b6000602082840312156141db57600080fd5b60006141e984828501613efd565b91505092915050565b60006020828403121561420457600080fd5b600061421284828501613f11565b91505092915050565b60006020828403121561422d57600080fd5b600061423b84828501613f25565b91505092915050565b60006020828403121561425657600080fd5b600061426484828501613f4d565b91505092915050565b60006020828403121561427f57600080fd5b600082015167ffffffffffffffff81111561429957600080fd5b6142a584828501613fb7565b91505092915050565b6000602082840312156142c057600080fd5b60006142ce84828501614021565b91505092915050565b600080604083850312156142ea57600080fd5b60006142f885828601614021565b925050602083015167ffffffffffffffff81111561431557600080fd5b61432185828601613fb7565b9150509250929050565b61433481615141565b82525050565b6000614345826150fb565b8084526020840193508360208202850161435e856150d2565b60005b84811015614397578383038852614379838351614465565b925061438482615127565b9150602088019750600181019050614361565b508196508694505050505092915050565b6143b181615106565b6143ba826150df565b60005b828110156143ec576143d0858351614936565b6143d982615134565b91506020850194506001810190506143bd565b5050505050565b6143fc81615161565b82525050565b61440b816151fd565b82525050565b61441a8161520f565b82525050565b6144298161516d565b82525050565b600061443a8261511c565b80845261444e816020860160208601615230565b61445781615263565b602085010191505092915050565b600061447082615111565b808452614484816020860160208601615230565b61448d81615263565b602085010191505092915050565b6000815460018116600081146144b857600181146144d857614519565b607f600283041680865260ff198316602087015260408601935050614519565b600282048086526020860195506144ee856150e9565b60005b82811015614510578154818901526001820191506020810190506144f1565b80880195505050505b505092915050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7375626a656374000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600d82527f72656c617465645f6173736574000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600682527f616d6f756e7400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f777269746520626f6f6b206661696c65640000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6000601082527f7472616e73616374696f6e5f74797065000000000000000000000000000000006020830152604082019050919050565b6000600e82527f6f7065726174696f6e5f747970650000000000000000000000000000000000006020830152604082019050919050565b61493f81615177565b82525050565b600060208201905061495a600083018461432b565b92915050565b6000602082019050818103600083015261497a818461433a565b905092915050565b600060608201905061499760008301856143f3565b6149a460208301846143a8565b9392505050565b60006020820190506149c06000830184614420565b92915050565b60006040820190506149db6000830185614420565b6149e86020830184614420565b9392505050565b60006040820190508181036000830152614a09818561442f565b9050614a186020830184614402565b9392505050565b60006040820190508181036000830152614a39818561442f565b9050614a486020830184614411565b9392505050565b60006020820190508181036000830152614a69818461449b565b905092915050565b60006020820190508181036000830152614a8a81614521565b9050919050565b60006040820190508181036000830152614aaa81614521565b9050614ab9602083018461432b565b92915050565b60006020820190508181036000830152614ad881614558565b9050919050565b60006040820190508181036000830152614af881614558565b90508181036020830152614b0c8184614465565b905092915050565b60006020820190508181036000830152614b2d8161458f565b9050919050565b60006020820190508181036000830152614b4d816145c6565b9050919050565b60006040820190508181036000830152614b6d816145c6565b90508181036020830152614b81818461442f565b905092915050565b60006020820190508181036000830152614ba2816145fd565b9050919050565b60006040820190508181036000830152614bc2816145fd565b9050614bd1602083018461432b565b92915050565b60006020820190508181036000830152614bf081614634565b9050919050565b60006040820190508181036000830152614c1081614634565b90508181036020830152614c24818461442f565b905092915050565b60006020820190508181036000830152614c458161466b565b9050919050565b60006040820190508181036000830152614c658161466b565b9050614c74602083018461432b565b92915050565b60006020820190508181036000830152614c93816146a2565b9050919050565b60006040820190508181036000830152614cb3816146a2565b90508181036020830152614cc7818461442f565b905092915050565b60006020820190508181036000830152614ce8816146d9565b9050919050565b60006020820190508181036000830152614d0881614710565b9050919050565b60006040820190508181036000830152614d2881614710565b90508181036020830152614d3c818461442f565b905092915050565b60006020820190508181036000830152614d5d81614747565b9050919050565b60006040820190508181036000830152614d7d81614747565b90508181036020830152614d918184614465565b905092915050565b60006020820190508181036000830152614db28161477e565b9050919050565b60006020820190508181036000830152614dd2816147b5565b9050919050565b60006040820190508181036000830152614df2816147ec565b90508181036020830152614e06818461442f565b905092915050565b6000602082","0190508181036000830152614e2781614823565b9050919050565b60006040820190508181036000830152614e4781614823565b90508181036020830152614e5b818461442f565b905092915050565b60006020820190508181036000830152614e7c8161485a565b9050919050565b60006020820190508181036000830152614e9c81614891565b9050919050565b60006020820190508181036000830152614ebc816148c8565b9050919050565b60006040820190508181036000830152614edc816148c8565b9050614eeb6020830184614420565b92915050565b60006020820190508181036000830152614f0a816148ff565b9050919050565b60006040820190508181036000830152614f2a816148ff565b9050614f396020830184614420565b92915050565b6000602082019050614f546000830184614936565b92915050565b600060a082019050614f6f6000830188614936565b614f7c6020830187614936565b614f89604083018661432b565b614f96606083018561432b565b614fa36080830184614936565b9695505050505050565b6000604051905081810181811067ffffffffffffffff82111715614fd057600080fd5b8060405250919050565b600067ffffffffffffffff821115614ff157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561501957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561504157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561506957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561509157600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156150bd57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60006151ac82615141565b9050919050565b60006151be82615141565b9050919050565b60006151d082615141565b9050919050565b60006151e282615141565b9050919050565b6000819050919050565b6000819050919050565b600061520882615141565b9050919050565b600061521a82615141565b9050919050565b82818337600083830152505050565b60005b8381101561524e578082015181840152602081019050615233565b8381111561525d576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a72305820c9c4c77a037d8da434750436c512c949fb810596d296a9ea5a06e30c60911eba6c6578706572696d656e74616cf50037a165627a7a72305820a466285f3ed8cc07ff03378780435e2e0ad48e4ee3fd320eb4f875ec7bf444240029"};
 
     public static final String BINARY = String.join("", BINARY_ARRAY);
 
-    public static final String[] SM_BINARY_ARRAY = {"608060405234801561001057600080fd5b506201151580620000226000396000f30060806040526004361062000043576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff168063825ca3141462000048575b600080fd5b3480156200005557600080fd5b5062000145600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803560ff169060200190929190803573ffffffffffffffffffffffffffffffffffffffff169060200190929190803573ffffffffffffffffffffffffffffffffffffffff16906020019092919050505062000187565b604051808273ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200191505060405180910390f35b6000808686868686620001996200031a565b8080602001806020018660ff1660ff1681526020018573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020018473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001838103835288818151815260200191508051906020019080838360005b838110156200024c5780820151818401526020810190506200022f565b50505050905090810190601f1680156200027a5780820380516001836020036101000a031916815260200191505b50838103825287818151815260200191508051906020019080838360005b83811015620002b557808201518184015260208101905062000298565b50505050905090810190601f168015620002e35780820380516001836020036101000a031916815260200191505b50975050505050505050604051809103906000f0801580156200030a573d6000803e3d6000fd5b5090508091505095945050505050565b604051620111bd806200032d83390190560060806040526040805190810160405280600681526020017f7075626c69630000000000000000000000000000000000000000000000000000815250600090805190602001906200005192919062001228565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250600190805190602001906200009f92919062001228565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060029080519060200190620000ed92919062001228565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906200013b92919062001228565b506040805190810160405280600281526020017f5f77000000000000000000000000000000000000000000000000000000000000815250600490805190602001906200018992919062001228565b506040805190810160405280600381526020017f616c6c000000000000000000000000000000000000000000000000000000000081525060059080519060200190620001d792919062001228565b506040805190810160405280600281526020017f6964000000000000000000000000000000000000000000000000000000000000815250600690805190602001906200022592919062001228565b506040805190810160405280600481526020017f6164647200000000000000000000000000000000000000000000000000000000815250600790805190602001906200027392919062001228565b506040805190810160405280600481526020017f747970650000000000000000000000000000000000000000000000000000000081525060089080519060200190620002c192919062001228565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906200030f92919062001228565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906200035d92919062001228565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b9080519060200190620003ab92919062001228565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c9080519060200190620003f992919062001228565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d90805190602001906200044792919062001228565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e90805190602001906200049592919062001228565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f9080519060200190620004e392919062001228565b506040805190810160405280600781526020017f62616c616e636500000000000000000000000000000000000000000000000000815250601090805190602001906200053192919062001228565b506040805190810160405280600681526020017f7265636f72640000000000000000000000000000000000000000000000000000815250601190805190602001906200057f92919062001228565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060129080519060200190620005cd92919062001228565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906200061b92919062001228565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250601490805190602001906200066992919062001228565b506040805190810160405280600481526020017f757365720000000000000000000000000000000000000000000000000000000081525060159080519060200190620006b792919062001228565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015620007d557600080fd5b50604051620111bd380380620111bd8339810180604052620007fb919081019062001575565b84828281816060620008373073ffffffffffffffffffffffffffffffffffffffff1662000dd064010000000002620072ab176401000000009004565b9050620008fd60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620008d75780601f10620008ab57610100808354040283529160200191620008d7565b820191906000526020600020905b815481529060010190602001808311620008b957829003601f168201915b505050505082601b62000eb4640100000000026200629417909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620009c657600080fd5b505af1158015620009db573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000a01919081019062001549565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000ac857600080fd5b505af115801562000add573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000b03919081019062001549565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151562000bc15781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062000c03565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050506000835111801562000c19575060408351105b151562000c5d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162000c54906200188f565b60405180910390fd5b8073ffffffffffffffffffffffffffffffffffffffff1663491bae946040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381","600087803b15801562000cc257600080fd5b505af115801562000cd7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000cfd919081019062001549565b838262000d09620012af565b62000d17939291906200184b565b604051809103906000f08015801562000d34573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550505050846028908051906020019062000d90929190620012c0565b50836027908051906020019062000da9929190620012c0565b5082602960006101000a81548160ff021916908360ff1602179055505050505050620019d3565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801562000e1c5781602001602082028038833980820191505090505b509250600090505b601481101562000ead57818160148110151562000e3d57fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151562000e6f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062000e24565b5050919050565b60008084600001846040518082805190602001908083835b60208310151562000ef3578051825260208201915060208101905060208303925062000ecc565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115620010b0577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151562000fcc578051825260208201915060208101905060208303925062000fa5565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405162001015959493929190620017d9565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200105a578051825260208201915060208101905060208303925062001033565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190620010a592919062001347565b506001915062001220565b8285600001856040518082805190602001908083835b602083101515620010ed5780518252602082019150602081019050602083039250620010c6565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200113892919062001347565b50846001018054809190600101620011519190620013ce565b90506001810185600001856040518082805190602001908083835b6020831015156200119357805182526020820191506020810190506020830392506200116c565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515620011e057fe5b906000526020600020906002020160000190805190602001906200120692919062001347565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200126b57805160ff19168380011785556200129c565b828001600101855582156200129c579182015b828111156200129b5782518255916020019190600101906200127e565b5b509050620012ab919062001403565b5090565b604051615936806200b88783390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200130357805160ff191683800117855562001334565b8280016001018555821562001334579182015b828111156200133357825182559160200191906001019062001316565b5b50905062001343919062001403565b5090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200138a57805160ff1916838001178555620013bb565b82800160010185558215620013bb579182015b82811115620013ba5782518255916020019190600101906200139d565b5b509050620013ca919062001403565b5090565b815481835581811115620013fe57600202816002028360005260206000209182019101620013fd91906200142b565b5b505050565b6200142891905b80821115620014245760008160009055506001016200140a565b5090565b90565b6200147091905b808211156200146c57600080820160006200144e919062001473565b6001820160006101000a81549060ff02191690555060020162001432565b5090565b90565b50805460018160011615610100020316600290046000825580601f106200149b5750620014bc565b601f016020900490600052602060002090810190620014bb919062001403565b5b50565b6000620014cd82516200195f565b905092915050565b600082601f8301121515620014e957600080fd5b815162001500620014fa82620018df565b620018b1565b915080825260208301602083018583830111156200151d57600080fd5b6200152a8382846200198c565b50505092915050565b60006200154182516200197f565b905092915050565b6000602082840312156200155c57600080fd5b60006200156c84828501620014bf565b91505092915050565b600080600080600060a086880312156200158e57600080fd5b600086015167ffffffffffffffff811115620015a957600080fd5b620015b788828901620014d5565b955050602086015167ffffffffffffffff811115620015d557600080fd5b620015e388828901620014d5565b9450506040620015f68882890162001533565b93505060606200160988828901620014bf565b92505060806200161c88828901620014bf565b9150509295509295909350565b62001634816200193f565b82525050565b6000620016478262001929565b8084526200165d8160208601602086016200198c565b6200166881620019c2565b602085010191505092915050565b600062001683826200191e565b808452620016998160208601602086016200198c565b620016a481620019c2565b602085010191505092915050565b600081546001811660008114620016d25760018114620016f35762001738565b607f600283041680865260ff19831660208701526040860193505062001738565b600282048086526020860195506200170b856200190c565b60005b828110156200172f578154818901526001820191506020810190506200170e565b80880195505050505b505092915050565b60006200174d8262001934565b808452620017638160208601602086016200198c565b6200176e81620019c2565b602085010191505092915050565b6000603282527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634206c6f6e6700000000000000000000000000006040830152606082019050919050565b600060a082019050620017f0600083018862001629565b620017ff602083018762001629565b818103604083015262001813818662001676565b905081810360608301526200182981856200163a565b905081810360808301526200183f8184620016b2565b90509695505050505050565b600060608201905062001862600083018662001629565b818103602083015262001876818562001740565b905062001887604083018462001629565b949350505050565b60006020820190508181036000830152620018aa816200177c565b9050919050565b6000604051905081810181811067ffffffffffffffff82111715620018d557600080fd5b8060405250919050565b600067ffffffffffffffff821115620018f757600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600060ff82169050919050565b60005b83811015620019ac5780820151818401526020810190506200198f565b83811115620019bc576000848401525b50505050565b6000601f19601f8301169050919050565b619ea480620019e36000396000f3006080604052600436106102a9576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806309108b17146102ae5780630bc95c79146102eb5780630c9481b9146103165780630d56ef0014610341578063112da3031461037f57806311567c42146103aa5780631500025a146103d55780631a1f1cd2146104005780632fe7f81a1461042b5780633055ae8114610468578063366563dd146104a557806342033801146104e25780634425c4261461050d57806346b136151461053857806347a6caff1461056357806351cf7708146105a0578063567f2836146105dd5780635bfa2796146106085780635c7540bc146106335780635edfd6fa1461065e5780635f12ec2e1461068957806361e020cb146106b457806367e09af5146106f157806374b00d531461071c578063769fe342146107475780637de83c70146107725780637e3a1ef4146107af5780637e6f287c146107da5780637f00af97146108175780637f610782146108425780638a4451f5146108805780638ed13ef5146108ab57806398068364146108e8578063a4fd771114610913578063a74809a514610950578063ad07c37a1461098e578063b09a50fe146109cb578063b11b6883146109f6578063b1d2284f14610a21578063b32941d814610a5f578063bcc6cdb614610a8a578063bced953514610ab5578063bf0e94fe14610ae0578063bfabb86d14610b1d578063c03fd5e714610b48578063c6125d0c14610b73578063d1281a7814610b9e578063d3e9af5a14610bc9578063d617f06d14610bf4578063d7e7948f14610c1f578063e3fbfc3f14610c4a578063e92139da14610c87578063ece272e314610cb2578063ee19b0cf14610cdd578063f0c9f25a14610d08578063f6cb4bc514610d45578063f976699414610d70575b600080fd5b3480156102ba57600080fd5b506102d560048036036102d091908101906180","95565b610dad565b6040516102e29190619617565b60405180910390f35b3480156102f757600080fd5b506103006114dd565b60405161030d9190619098565b60405180910390f35b34801561032257600080fd5b5061032b611503565b604051610338919061968b565b60405180910390f35b34801561034d57600080fd5b506103686004803603610363919081019061810d565b6115a1565b604051610376929190619632565b60405180910390f35b34801561038b57600080fd5b50610394611825565b6040516103a1919061968b565b60405180910390f35b3480156103b657600080fd5b506103bf6118c3565b6040516103cc9190619098565b60405180910390f35b3480156103e157600080fd5b506103ea6118cb565b6040516103f79190619098565b60405180910390f35b34801561040c57600080fd5b50610415611990565b604051610422919061968b565b60405180910390f35b34801561043757600080fd5b50610452600480360361044d9190810190618095565b611a2e565b60405161045f9190619a4a565b60405180910390f35b34801561047457600080fd5b5061048f600480360361048a9190810190618388565b611e1f565b60405161049c91906196ad565b60405180910390f35b3480156104b157600080fd5b506104cc60048036036104c7919081019061820e565b61201a565b6040516104d99190619a4a565b60405180910390f35b3480156104ee57600080fd5b506104f7612321565b604051610504919061968b565b60405180910390f35b34801561051957600080fd5b506105226123bf565b60405161052f9190619a4a565b60405180910390f35b34801561054457600080fd5b5061054d6123e5565b60405161055a9190619ab8565b60405180910390f35b34801561056f57600080fd5b5061058a60048036036105859190810190618489565b6123f8565b6040516105979190619617565b60405180910390f35b3480156105ac57600080fd5b506105c760048036036105c29190810190618489565b612630565b6040516105d49190619617565b60405180910390f35b3480156105e957600080fd5b506105f2612868565b6040516105ff9190619a4a565b60405180910390f35b34801561061457600080fd5b5061061d612872565b60405161062a9190619706565b60405180910390f35b34801561063f57600080fd5b50610648612910565b6040516106559190619098565b60405180910390f35b34801561066a57600080fd5b5061067361293a565b604051610680919061968b565b60405180910390f35b34801561069557600080fd5b5061069e6129d8565b6040516106ab9190619098565b60405180910390f35b3480156106c057600080fd5b506106db60048036036106d6919081019061841d565b612a02565b6040516106e89190619617565b60405180910390f35b3480156106fd57600080fd5b50610706612c00565b604051610713919061968b565b60405180910390f35b34801561072857600080fd5b50610731612c9e565b60405161073e9190619098565b60405180910390f35b34801561075357600080fd5b5061075c612cc4565b604051610769919061968b565b60405180910390f35b34801561077e57600080fd5b506107996004803603610794919081019061820e565b612d62565b6040516107a6919061952d565b60405180910390f35b3480156107bb57600080fd5b506107c461315f565b6040516107d1919061968b565b60405180910390f35b3480156107e657600080fd5b5061080160048036036107fc9190810190618388565b6131fd565b60405161080e9190619617565b60405180910390f35b34801561082357600080fd5b5061082c6133f8565b604051610839919061968b565b60405180910390f35b34801561084e57600080fd5b506108696004803603610864919081019061814e565b613496565b604051610877929190619662565b60405180910390f35b34801561088c57600080fd5b506108956134d5565b6040516108a29190619098565b60405180910390f35b3480156108b757600080fd5b506108d260048036036108cd9190810190618489565b6134fb565b6040516108df9190619617565b60405180910390f35b3480156108f457600080fd5b506108fd613733565b60405161090a919061968b565b60405180910390f35b34801561091f57600080fd5b5061093a6004803603610935919081019061841d565b6137d1565b6040516109479190619617565b60405180910390f35b34801561095c57600080fd5b506109776004803603610972919081019061814e565b6139cf565b604051610985929190619662565b60405180910390f35b34801561099a57600080fd5b506109b560048036036109b0919081019061841d565b613f72565b6040516109c29190619617565b60405180910390f35b3480156109d757600080fd5b506109e0614170565b6040516109ed919061968b565b60405180910390f35b348015610a0257600080fd5b50610a0b61420e565b604051610a189190619706565b60405180910390f35b348015610a2d57600080fd5b50610a486004803603610a43919081019061814e565b6142ac565b604051610a56929190619662565b60405180910390f35b348015610a6b57600080fd5b50610a74614688565b604051610a81919061968b565b60405180910390f35b348015610a9657600080fd5b50610a9f614726565b604051610aac919061968b565b60405180910390f35b348015610ac157600080fd5b50610aca6147c4565b604051610ad7919061968b565b60405180910390f35b348015610aec57600080fd5b50610b076004803603610b029190810190618278565b614862565b604051610b1491906195a9565b60405180910390f35b348015610b2957600080fd5b50610b326151b9565b604051610b3f919061968b565b60405180910390f35b348015610b5457600080fd5b50610b5d615257565b604051610b6a9190619098565b60405180910390f35b348015610b7f57600080fd5b50610b8861527d565b604051610b95919061968b565b60405180910390f35b348015610baa57600080fd5b50610bb361531b565b604051610bc0919061968b565b60405180910390f35b348015610bd557600080fd5b50610bde6153b9565b604051610beb9190619a4a565b60405180910390f35b348015610c0057600080fd5b50610c096153ca565b604051610c16919061968b565b60405180910390f35b348015610c2b57600080fd5b50610c34615468565b604051610c41919061968b565b60405180910390f35b348015610c5657600080fd5b50610c716004803603610c6c91908101906183c9565b615506565b604051610c7e9190619617565b60405180910390f35b348015610c9357600080fd5b50610c9c615729565b604051610ca99190619098565b60405180910390f35b348015610cbe57600080fd5b50610cc76157ee565b604051610cd4919061968b565b60405180910390f35b348015610ce957600080fd5b50610cf261588c565b604051610cff919061968b565b60405180910390f35b348015610d1457600080fd5b50610d2f6004803603610d2a919081019061820e565b61592a565b604051610d3c9190619a4a565b60405180910390f35b348015610d5157600080fd5b50610d5a615c3d565b604051610d67919061968b565b60405180910390f35b348015610d7c57600080fd5b50610d976004803603610d9291908101906183c9565b615cdb565b604051610da491906196ad565b60405180910390f35b6000806060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610e2f9190619098565b602060405180830381600087803b158015610e4957600080fd5b505af1158015610e5d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e819190810190618323565b1515610ec2576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401610eb99061976a565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f399190619098565b602060405180830381600087803b158015610f5357600080fd5b505af1158015610f67573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610f8b919081019061806c565b9550602460008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615151561101c576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016110139061974a565b60405180910390fd5b61102f8986615efd90919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888c6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110d09493929190619444565b6040805180830381600087803b1580156110e957600080fd5b505af11580156110fd573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061112191908101906180d1565b809450819550505082151561116b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016111629061980a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111e29190619098565b602060405180830381600087803b1580156111fc57600080fd5b505af1158015611210573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506112349190810190618323565b1515611275576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161126c9061976a565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166327033e768a6040518263ffffffff167c0100000000000000000000000000","0000000000000000000000000000000281526004016112ec9190619098565b602060405180830381600087803b15801561130657600080fd5b505af115801561131a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061133e919081019061806c565b91508173ffffffffffffffffffffffffffffffffffffffff1663a8cced2030601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660016040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113bc939291906196cf565b602060405180830381600087803b1580156113d657600080fd5b505af11580156113ea573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061140e9190810190618323565b5060238690806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001602460008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff0219169083151502179055506001965050505050505092915050565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60098054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156115995780601f1061156e57610100808354040283529160200191611599565b820191906000526020600020905b81548152906001019060200180831161157c57829003601f168201915b505050505081565b6000606080600080600086516040519080825280602002602001820160405280156115db5781602001602082028038833980820191505090505b509350600090505b86518110156118155760018114806116565750600587511480156116075750600481145b806116555750868181518110151561161b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b5b156116c257868181518110151561166957fe5b90602001906020020151848281518110151561168157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050611808565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630e628322888381518110151561170e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016117509190619098565b6040805180830381600087803b15801561176957600080fd5b505af115801561177d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506117a191908101906180d1565b80945081935050508215156117bc576000849550955061181c565b8184828151811015156117cb57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b80806001019150506115e3565b8284955095505b50505050915091565b60028054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156118bb5780601f10611890576101008083540402835291602001916118bb565b820191906000526020600020905b81548152906001019060200180831161189e57829003601f168201915b505050505081565b600030905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561195357600080fd5b505af1158015611967573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061198b919081019061806c565b905090565b60158054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611a265780601f106119fb57610100808354040283529160200191611a26565b820191906000526020600020905b815481529060010190602001808311611a0957829003601f168201915b505050505081565b6000806060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611aad9190619098565b602060405180830381600087803b158015611ac757600080fd5b505af1158015611adb573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611aff919081019061806c565b9350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515611b8f576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611b869061998a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1686868a6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611c2e94939291906191c9565b6040805180830381600087803b158015611c4757600080fd5b505af1158015611c5b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611c7f91908101906180d1565b8092508193505050801515611cc9576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611cc09061982a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611d409190619098565b602060405180830381600087803b158015611d5a57600080fd5b505af1158015611d6e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611d929190810190618323565b1515611dd3576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611dca9061976a565b60405180910390fd5b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205494505050505092915050565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630611f3160038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611f1d5780601f10611ef257610100808354040283529160200191611f1d565b820191906000526020600020905b815481529060010190602001808311611f0057829003601f168201915b505050505088615f1990919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f6c94939291906190b3565b602060405180830381600087803b158015611f8657600080fd5b505af1158015611f9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611fbe9190810190618323565b1515611fff576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611ff6906198aa565b60405180910390fd5b61201382601b615f2d90919063ffffffff16565b9050919050565b60006060600080600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016120c39493929190619324565b6040805180830381600087803b1580156120dc57600080fd5b505af11580156120f0573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061211491908101906180d1565b809450819550505082151561215e576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161215590619a2a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016121d59190619098565b602060405180830381600087803b1580156121ef57600080fd5b505af1158015612203573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506122279190810190618323565b1515612268576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161225f9061976a565b60405180910390fd5b600090505b602380549050811015612314576123056025600060238481548110151561229057fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffff","ffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020548361604090919063ffffffff16565b9150808060010191505061226d565b8195505050505050919050565b60138054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156123b75780601f1061238c576101008083540402835291602001916123b7565b820191906000526020600020905b81548152906001019060200180831161239a57829003601f168201915b505050505081565b60006123d7600160215461604090919063ffffffff16565b602181905550602154905090565b602960009054906101000a900460ff1681565b60006060600080612424866124168986615f1990919063ffffffff16565b615f1990919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061253560048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156125215780601f106124f657610100808354040283529160200191612521565b820191906000526020600020905b81548152906001019060200180831161250457829003601f168201915b50505050508c615f1990919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612573959493929190619260565b6040805180830381600087803b15801561258c57600080fd5b505af11580156125a0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506125c491908101906180d1565b809250819350505080151561260e576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016126059061996a565b60405180910390fd5b6126248787601b6160979092919063ffffffff16565b93505050509392505050565b6000606060008061265c8661264e8986615f1990919063ffffffff16565b615f1990919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061276d60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156127595780601f1061272e57610100808354040283529160200191612759565b820191906000526020600020905b81548152906001019060200180831161273c57829003601f168201915b50505050508c615f1990919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016127ab959493929190619260565b6040805180830381600087803b1580156127c457600080fd5b505af11580156127d8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127fc91908101906180d1565b8092508193505050801515612846576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161283d906199ea565b60405180910390fd5b61285c8787601b6162949092919063ffffffff16565b93505050509392505050565b6000602154905090565b60278054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156129085780601f106128dd57610100808354040283529160200191612908565b820191906000526020600020905b8154815290600101906020018083116128eb57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b600b8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156129d05780601f106129a5576101008083540402835291602001916129d0565b820191906000526020600020905b8154815290600101906020018083116129b357829003601f168201915b505050505081565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630612b1460048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612b005780601f10612ad557610100808354040283529160200191612b00565b820191906000526020600020905b815481529060010190602001808311612ae357829003601f168201915b505050505089615f1990919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b4f94939291906190b3565b602060405180830381600087803b158015612b6957600080fd5b505af1158015612b7d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612ba19190810190618323565b1515612be2576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612bd9906199ea565b60405180910390fd5b612bf88383601b6162949092919063ffffffff16565b905092915050565b600a8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612c965780601f10612c6b57610100808354040283529160200191612c96565b820191906000526020600020905b815481529060010190602001808311612c7957829003601f168201915b505050505081565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600d8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612d5a5780601f10612d2f57610100808354040283529160200191612d5a565b820191906000526020600020905b815481529060010190602001808311612d3d57829003601f168201915b505050505081565b60608060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612e0b9493929190619384565b6040805180830381600087803b158015612e2457600080fd5b505af1158015612e38573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612e5c91908101906180d1565b8094508195505050821515612ea6576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612e9d906197ea565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f1d9190619098565b602060405180830381600087803b158015612f3757600080fd5b505af1158015612f4b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612f6f9190810190618323565b1515612fb0576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612fa79061976a565b60405180910390fd5b602380549050604051908082528060200260200182016040528015612fe45781602001602082028038833980820191505090505b509150600090505b60238054905081101561315257601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade660238381548110151561304657fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130a99190619098565b602060405180830381600087803b1580156130c357600080fd5b505af11580156130d7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506130fb919081019061806c565b828281518110151561310957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508080600101915050612fec565b8195505050505050919050565b60018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156131f55780601f106131ca576101008083540402835291602001916131f5565b820191906000526020600020905b8154815290600101906020018083116131d857829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061330f60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156132fb5780601f106132d0576101008083540402835291602001916132","fb565b820191906000526020600020905b8154815290600101906020018083116132de57829003601f168201915b505050505088615f1990919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161334a94939291906190b3565b602060405180830381600087803b15801561336457600080fd5b505af1158015613378573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061339c9190810190618323565b15156133dd576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016133d490619a0a565b60405180910390fd5b6133f182601b6165f190919063ffffffff16565b9050919050565b60088054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561348e5780601f106134635761010080835404028352916020019161348e565b820191906000526020600020905b81548152906001019060200180831161347157829003601f168201915b505050505081565b60006134a06179f3565b602960009054906101000a900460ff1660ff16600a0a860295506134c78787878787616843565b915091509550959350505050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60006060600080613527866135198986615f1990919063ffffffff16565b615f1990919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061363860048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156136245780601f106135f957610100808354040283529160200191613624565b820191906000526020600020905b81548152906001019060200180831161360757829003601f168201915b50505050508c615f1990919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613676959493929190619260565b6040805180830381600087803b15801561368f57600080fd5b505af11580156136a3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136c791908101906180d1565b8092508193505050801515613711576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613708906197aa565b60405180910390fd5b6137278787601b616c1f9092919063ffffffff16565b93505050509392505050565b60078054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156137c95780601f1061379e576101008083540402835291602001916137c9565b820191906000526020600020905b8154815290600101906020018083116137ac57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306138e360048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156138cf5780601f106138a4576101008083540402835291602001916138cf565b820191906000526020600020905b8154815290600101906020018083116138b257829003601f168201915b505050505089615f1990919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161391e94939291906190b3565b602060405180830381600087803b15801561393857600080fd5b505af115801561394c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506139709190810190618323565b15156139b1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016139a8906197aa565b60405180910390fd5b6139c78383601b616c1f9092919063ffffffff16565b905092915050565b60006139d96179f3565b606060006139e56179f3565b613a288a8a8a8a8a6040805190810160405280600881526020017f7472616e73666572000000000000000000000000000000000000000000000000815250616e14565b9950602460008b6002815181101515613a3d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613ad0576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613ac79061998a565b60405180910390fd5b602460008b6003815181101515613ae357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613b76576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613b6d9061998a565b60405180910390fd5b613be089602560008d6002815181101515613b8d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461703990919063ffffffff16565b602560008c6002815181101515613bf357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550613ca589602560008d6003815181101515613c5257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461604090919063ffffffff16565b602560008c6003815181101515613cb857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506002604051908082528060200260200182016040528015613d305781602001602082028038833980820191505090505b5092506002836000815181101515613d4457fe5b9060200190602002018181525050876000815181101515613d6157fe5b90602001906020020151836001815181101515613d7a57fe5b90602001906020020181815250507f18f84334255a242551aa98c68047b5da8063eab9fbeaec1eddeea280044b9ff18a6002815181101515613db857fe5b906020019060200201518b6003815181101515613dd157fe5b906020019060200201518b604051613deb93929190619229565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8b8b8a876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613e70949392919061954f565b606060405180830381600087803b158015613e8a57600080fd5b505af1158015613e9e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613ec2919081019061834c565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc816000600281101515613efa57fe5b6020020151826001600281101515613f0e57fe5b60200201518c6002815181101515613f2257fe5b906020019060200201518d6003815181101515613f3b57fe5b906020019060200201518d604051613f57959493929190619a65565b60405180910390a18181945094505050509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061408460048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156140705780601f1061404557610100808354040283529160200191614070565b820191906000526020600020905b81548152906001019060200180831161405357829003601f168201915b505050505089615f1990919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016140bf94939291906190b3565b602060405180830381600087803b1580156140d957600080fd5b505af11580156140ed573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506141119190810190618323565b1515614152576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016141499061996a565b60405180910390fd5b6141688383601b6160979092919063ffffffff16565b905092915050565b60068054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156142065780601f106141db57610100808354040283529160200191614206565b820191906000526020600020905b8154815290600101906020018083116141e957829003601f168201915b505050505081565b60288054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156142a45780601f10614279576101008083540402835291602001916142a4565b820191906000526020600020905b81548152906001019060200180831161428757829003601f168201915b505050505081565b60006142b66179f3565b6000606060006142c46179f3565b6143078b8b8b8b8b60","40805190810160405280600a81526020017f7769746864726177616c00000000000000000000000000000000000000000000815250617090565b9a508a600281518110151561431857fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156143b2576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016143a99061998a565b60405180910390fd5b6144048a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461703990919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555060026040519080825280602002602001820160405280156144775781602001602082028038833980820191505090505b509250600183600081518110151561448b57fe5b90602001906020020181815250508860008151811015156144a857fe5b906020019060200201518360018151811015156144c157fe5b90602001906020020181815250507f338e424d2d05f70468ec496a5da66a545913d90926ffae6c08c12b9d003ec6cb848b604051614500929190619504565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8c8c8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614585949392919061954f565b606060405180830381600087803b15801561459f57600080fd5b505af11580156145b3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506145d7919081019061834c565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc81600060028110151561460f57fe5b602002015182600160028110151561462357fe5b60200201518d600281518110151561463757fe5b906020019060200201518e600381518110151561465057fe5b906020019060200201518e60405161466c959493929190619a65565b60405180910390a1818195509550505050509550959350505050565b60148054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561471e5780601f106146f35761010080835404028352916020019161471e565b820191906000526020600020905b81548152906001019060200180831161470157829003601f168201915b505050505081565b60128054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156147bc5780601f10614791576101008083540402835291602001916147bc565b820191906000526020600020905b81548152906001019060200180831161479f57829003601f168201915b505050505081565b60118054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561485a5780601f1061482f5761010080835404028352916020019161485a565b820191906000526020600020905b81548152906001019060200180831161483d57829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161490f94939291906194a4565b6040805180830381600087803b15801561492857600080fd5b505af115801561493c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061496091908101906180d1565b80975081985050508515156149aa576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016149a1906199ca565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614a219190619098565b602060405180830381600087803b158015614a3b57600080fd5b505af1158015614a4f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614a739190810190618323565b1515614ab4576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614aab9061976a565b60405180910390fd5b60028b51148015614af457508a6001815181101515614acf57fe5b906020019060200201518b6000815181101515614ae857fe5b90602001906020020151125b1515614b35576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614b2c9061988a565b60405180910390fd5b60008c511115614baf57600093505b8b51841015614bae578b84815181101515614b5b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff161415614ba15760019450614bae565b8380600101945050614b44565b5b841515614c8257601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d2eef3a1886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614c2d9190619098565b602060405180830381600087803b158015614c4757600080fd5b505af1158015614c5b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614c7f9190810190618323565b94505b841515614cc4576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614cbb9061984a565b60405180910390fd5b60006023805490501415614cda578298506151a9565b60008c51118015614d305750600073ffffffffffffffffffffffffffffffffffffffff168c6000815181101515614d0d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15614ed757601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d6000815181101515614d8257fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614dc49190619098565b602060405180830381600087803b158015614dde57600080fd5b505af1158015614df2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614e16919081019061806c565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151515614e8a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614e81906199aa565b60405180910390fd5b818c6000815181101515614e9a57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c51118015614f2d5750600073ffffffffffffffffffffffffffffffffffffffff168c6001815181101515614f0a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156150d457601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d6001815181101515614f7f57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614fc19190619098565b602060405180830381600087803b158015614fdb57600080fd5b505af1158015614fef573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615013919081019061806c565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff1614151515615087576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161507e9061978a565b60405180910390fd5b808c600181518110151561509757fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b32cf81b8e8e8e6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161514f939291906195cb565b600060405180830381600087803b15801561516957600080fd5b505af115801561517d573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506151a69190810190618237565b98505b5050505050505050949350505050565b60048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561524f5780601f106152245761010080835404028352916020019161524f565b820191906000526020600020905b81548152906001019060200180831161523257829003601f168201915b505050505081565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60058054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156153135780","601f106152e857610100808354040283529160200191615313565b820191906000526020600020905b8154815290600101906020018083116152f657829003601f168201915b505050505081565b60038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156153b15780601f10615386576101008083540402835291602001916153b1565b820191906000526020600020905b81548152906001019060200180831161539457829003601f168201915b505050505081565b60006153c5601b61729d565b905090565b600c8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156154605780601f1061543557610100808354040283529160200191615460565b820191906000526020600020905b81548152906001019060200180831161544357829003601f168201915b505050505081565b60108054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156154fe5780601f106154d3576101008083540402835291602001916154fe565b820191906000526020600020905b8154815290600101906020018083116154e157829003601f168201915b505050505081565b600060606000806155208684615f1990919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061563160048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561561d5780601f106155f25761010080835404028352916020019161561d565b820191906000526020600020905b81548152906001019060200180831161560057829003601f168201915b50505050508b615f1990919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161566f959493929190619260565b6040805180830381600087803b15801561568857600080fd5b505af115801561569c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506156c091908101906180d1565b809250819350505080151561570a576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161570190619a0a565b60405180910390fd5b61571e86601b6165f190919063ffffffff16565b935050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156157b157600080fd5b505af11580156157c5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506157e9919081019061806c565b905090565b600f8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156158845780601f1061585957610100808354040283529160200191615884565b820191906000526020600020905b81548152906001019060200180831161586757829003601f168201915b505050505081565b60008054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156159225780601f106158f757610100808354040283529160200191615922565b820191906000526020600020905b81548152906001019060200180831161590557829003601f168201915b505050505081565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016159d094939291906193e4565b6040805180830381600087803b1580156159e957600080fd5b505af11580156159fd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615a2191908101906180d1565b8092508193505050801515615a6b576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615a62906198ca565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615ae29190619098565b602060405180830381600087803b158015615afc57600080fd5b505af1158015615b10573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615b349190810190618323565b1515615b75576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615b6c9061976a565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166345be589e6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015615bfb57600080fd5b505af1158015615c0f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615c339190810190618508565b9350505050919050565b600e8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615cd35780601f10615ca857610100808354040283529160200191615cd3565b820191906000526020600020905b815481529060010190602001808311615cb657829003601f168201915b505050505081565b606080600080615cf48684615f1990919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630615e0560038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615df15780601f10615dc657610100808354040283529160200191615df1565b820191906000526020600020905b815481529060010190602001808311615dd457829003601f168201915b50505050508b615f1990919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615e43959493929190619260565b6040805180830381600087803b158015615e5c57600080fd5b505af1158015615e70573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615e9491908101906180d1565b8092508193505050801515615ede576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615ed5906198aa565b60405180910390fd5b615ef286601b615f2d90919063ffffffff16565b935050505092915050565b6060615f1183615f0c846172ab565b61738a565b905092915050565b6060615f25838361738a565b905092915050565b606082600001826040518082805190602001908083835b602083101515615f695780518252602082019150602081019050602083039250615f44565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156160335780601f1061600857610100808354040283529160200191616033565b820191906000526020600020905b81548152906001019060200180831161601657829003601f168201915b5050505050905092915050565b600080828401905083811015151561608d576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016160849061986a565b60405180910390fd5b8091505092915050565b60008084600001846040518082805190602001908083835b6020831015156160d457805182526020820191506020810190506020830392506160af565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115616287577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156161aa5780518252602082019150602081019050602083039250616185565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516161f1959493929190619161565b60405180910390a18285600001856040518082805190602001908083835b602083101515616234578051825260208201915060208101905060208303925061620f565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101908051906020019061627d929190617a15565b506001915061628c565b600091505b509392505050565b60008084600001846040518082805190602001908083835b6020831015156162d1578051825260208201915060208101905060208303925061","62ac565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115616484577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156163a75780518252602082019150602081019050602083039250616382565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516163ee959493929190619161565b60405180910390a18285600001856040518082805190602001908083835b602083101515616431578051825260208201915060208101905060208303925061640c565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101908051906020019061647a929190617a15565b50600191506165e9565b8285600001856040518082805190602001908083835b6020831015156164bf578051825260208201915060208101905060208303925061649a565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190616508929190617a15565b5084600101805480919060010161651f9190617a95565b90506001810185600001856040518082805190602001908083835b60208310151561655f578051825260208201915060208101905060208303925061653a565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156165ab57fe5b906000526020600020906002020160000190805190602001906165cf929190617a15565b508460020160008154809291906001019190505550600091505b509392505050565b60008083600001836040518082805190602001908083835b60208310151561662e5780518252602082019150602081019050602083039250616609565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811415616679576000915061683c565b7fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b60208310151561670d57805182526020820191506020810190506020830392506166e8565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051616754959493929190619161565b60405180910390a183600001836040518082805190602001908083835b6020831015156167965780518252602082019150602081019050602083039250616771565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000808201600090556001820160006167e29190617ac7565b5050600184600101600183038154811015156167fa57fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b600061684d6179f3565b60006060600061685b6179f3565b61689e8b8b8b8b8b6040805190810160405280600781526020017f6465706f73697400000000000000000000000000000000000000000000000000815250617090565b9a508a60038151811015156168af57fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515616949576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016169409061998a565b60405180910390fd5b61699b8a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461604090919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506002604051908082528060200260200182016040528015616a0e5781602001602082028038833980820191505090505b5092506000836000815181101515616a2257fe5b9060200190602002018181525050886000815181101515616a3f57fe5b90602001906020020151836001815181101515616a5857fe5b90602001906020020181815250507fa4039d5990211fad3a15bf41bd09d8f68f647d8c1ab1b8d8500b7d6202087d04848b604051616a97929190619504565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8c8c8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616b1c949392919061954f565b606060405180830381600087803b158015616b3657600080fd5b505af1158015616b4a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616b6e919081019061834c565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc816000600281101515616ba657fe5b6020020151826001600281101515616bba57fe5b60200201518d6002815181101515616bce57fe5b906020019060200201518e6003815181101515616be757fe5b906020019060200201518e604051616c03959493929190619a65565b60405180910390a1818195509550505050509550959350505050565b60008084600001846040518082805190602001908083835b602083101515616c5c5780518252602082019150602081019050602083039250616c37565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115616ca75760009150616e0c565b8285600001856040518082805190602001908083835b602083101515616ce25780518252602082019150602081019050602083039250616cbd565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190616d2b929190617a15565b50846001018054809190600101616d429190617a95565b90506001810185600001856040518082805190602001908083835b602083101515616d825780518252602082019150602081019050602083039250616d5d565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515616dce57fe5b90600052602060002090600202016000019080519060200190616df2929190617a15565b508460020160008154809291906001019190505550600191505b509392505050565b606060006060600080616e278a8961755b565b50616e348b8b8b8b6176bc565b9250616e3f8b6115a1565b809c508195505050831515616e89576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616e809061990a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168d6002815181101515616ef957fe5b9060200190602002015189878c6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616f429594939291906190ff565b6040805180830381600087803b158015616f5b57600080fd5b505af1158015616f6f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616f9391908101906180d1565b809250819350505080616fe4876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506177c290919063ffffffff16565b901515617027576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161701e9190619728565b60405180910390fd5b508a9450505050509695505050505050565b600080838311151515617081576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016170789061994a565b60405180910390fd5b82840390508091505092915050565b6060600060606000806170a38a8961755b565b506170b08b8b8b8b6176bc565b92506170bb8b6115a1565b809c508195505050831515617105576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016170fc9061990a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163089878c6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016171a69594939291906192c2565b6040805180830381600087803b1580156171bf57600080fd5b505af11580156171d3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506171f791908101906180d1565b809250819350505080617248876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506177c290919063ffffffff16565b90151561728b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016172829190619728565b60405180910390fd5b508a9450505050509695505050505050565b600081600201549050919050565b6060600080836c010000000000000000000000000291506014604051908082528060","1f01601f1916602001820160405280156172f65781602001602082028038833980820191505090505b509250600090505b601481101561738357818160148110151561731557fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151561734657fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506172fe565b5050919050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156173d25781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156174945785818151811015156173f857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561745757fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506173e1565b600090505b845181101561754c5784818151811015156174b057fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561750f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050617499565b83965050505050505092915050565b600080831115156175a1576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401617598906197ca565b60405180910390fd5b60008260008151811015156175b257fe5b90602001906020020151511180156175e3575060ff8260008151811015156175d657fe5b9060200190602002015151105b1515617624576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161761b906198ea565b60405180910390fd5b6001825111156176b257600082600181518110151561763f57fe5b9060200190602002015151118015617670575060ff82600181518110151561766357fe5b9060200190602002015151105b15156176b1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016176a89061992a565b60405180910390fd5b5b6001905092915050565b606080600080600080600093505b895184101561770c576176fd8a858151811015156176e457fe5b9060200190602002015186615efd90919063ffffffff16565b945083806001019450506176ca565b61771f898661799390919063ffffffff16565b9450600092505b875183101561776b57878381518110151561773d57fe5b90602001906020020151915061775c828661799390919063ffffffff16565b94508280600101935050617726565b600090505b86518110156177b2576177a3878281518110151561778a57fe5b9060200190602002015186615f1990919063ffffffff16565b94508080600101915050617770565b8495505050505050949350505050565b606080606080606060008088955087945084518651016040519080825280601f01601f19166020018201604052801561780a5781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156178cc57858181518110151561783057fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561788f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050617819565b600090505b84518110156179845784818151811015156178e857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561794757fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506178d1565b83965050505050505092915050565b60606179a7836179a2846179af565b61738a565b905092915050565b606060206040519080825280601f01601f1916602001820160405280156179e55781602001602082028038833980820191505090505b509050816020820152919050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10617a5657805160ff1916838001178555617a84565b82800160010185558215617a84579182015b82811115617a83578251825591602001919060010190617a68565b5b509050617a919190617b0f565b5090565b815481835581811115617ac257600202816002028360005260206000209182019101617ac19190617b34565b5b505050565b50805460018160011615610100020316600290046000825580601f10617aed5750617b0c565b601f016020900490600052602060002090810190617b0b9190617b0f565b5b50565b617b3191905b80821115617b2d576000816000905550600101617b15565b5090565b90565b617b7491905b80821115617b705760008082016000617b539190617ac7565b6001820160006101000a81549060ff021916905550600201617b3a565b5090565b90565b6000617b838235619da9565b905092915050565b6000617b978251619da9565b905092915050565b600082601f8301121515617bb257600080fd5b8135617bc5617bc082619b00565b619ad3565b91508181835260208401935060208101905083856020840282011115617bea57600080fd5b60005b83811015617c1a5781617c008882617b77565b845260208401935060208301925050600181019050617bed565b5050505092915050565b600082601f8301121515617c3757600080fd5b6004617c4a617c4582619b28565b619ad3565b91508183856020840282011115617c6057600080fd5b60005b83811015617c905781617c768882617f1a565b845260208401935060208301925050600181019050617c63565b5050505092915050565b600082601f8301121515617cad57600080fd5b8135617cc0617cbb82619b4a565b619ad3565b91508181835260208401935060208101905083856020840282011115617ce557600080fd5b60005b83811015617d155781617cfb8882617f84565b845260208401935060208301925050600181019050617ce8565b5050505092915050565b600082601f8301121515617d3257600080fd5b8135617d45617d4082619b72565b619ad3565b9150818183526020840193506020810190508360005b83811015617d8b5781358601617d718882617f98565b845260208401935060208301925050600181019050617d5b565b5050505092915050565b600082601f8301121515617da857600080fd5b8151617dbb617db682619b72565b619ad3565b9150818183526020840193506020810190508360005b83811015617e015781518601617de78882617fee565b845260208401935060208301925050600181019050617dd1565b5050505092915050565b600082601f8301121515617e1e57600080fd5b6002617e31617e2c82619b9a565b619ad3565b91508183856020840282011115617e4757600080fd5b60005b83811015617e775781617e5d8882618058565b845260208401935060208301925050600181019050617e4a565b5050505092915050565b600082601f8301121515617e9457600080fd5b8135617ea7617ea282619bbc565b619ad3565b91508181835260208401935060208101905083856020840282011115617ecc57600080fd5b60005b83811015617efc5781617ee28882618044565b845260208401935060208301925050600181019050617ecf565b5050505092915050565b6000617f128251619dc9565b905092915050565b6000617f268235619dd5565b905092915050565b600082601f8301121515617f4157600080fd5b8135617f54617f4f82619be4565b619ad3565b91508082526020830160208301858383011115617f7057600080fd5b617f7b838284619e17565b50505092915050565b6000617f908235619ddf565b905092915050565b600082601f8301121515617fab57600080fd5b8135617fbe617fb982619c10565b619ad3565b91508082526020830160208301858383011115617fda57600080fd5b617fe5838284619e17565b50505092915050565b600082601f830112151561800157600080fd5b815161801461800f82619c10565b619ad3565b9150808252602083016020830185838301111561803057600080fd5b61803b838284619e26565b50505092915050565b60006180508235619de9565b905092915050565b60006180648251619de9565b905092915050565b60006020828403121561807e57600080fd5b600061808c84828501617b8b565b91505092915050565b60008060a083850312156180a857600080fd5b60006180b685828601617b77565b92505060206180c785828601617c24565b9150509250929050565b600080604083850312156180e457600080fd5b60006180f285828601617b8b565b925050602061810385828601617f06565b9150509250929050565b60006020828403121561811f57600080fd5b600082013567ffffffffffffffff81111561813957600080fd5b61814584828501617b9f565b91505092915050565b6000806000806000610100868803121561816757600080fd5b600086013567ffffffffffffffff81111561818157600080fd5b61818d88828901617b9f565b955050602061819e88828901618044565b945050604086013567ffffffffffffffff8111156181bb57600080fd5b6181c788828901617c9a565b935050606086013567ffffffffffffffff8111156181e457600080fd5b6181f088828901617d1f565b925050608061820188828901617c24565b9150509295509295909350565b60006080828403121561822057600080fd5b600061822e84828501617c24565b91505092915050565b60006020828403121561824957600080fd5b600082015167ffffffffffffffff81111561826357600080fd5b61826f84828501617d95565b91505092915050565b60008060008060e0858703121561828e57600080fd5b600085013567ffffffffffffffff8111156182a857600080fd5b6182b487828801617e81565b945050602085013567ffffffffffffffff8111156182d15760","0080fd5b6182dd87828801617b9f565b935050604085013567ffffffffffffffff8111156182fa57600080fd5b61830687828801617c9a565b925050606061831787828801617c24565b91505092959194509250565b60006020828403121561833557600080fd5b600061834384828501617f06565b91505092915050565b6000806060838503121561835f57600080fd5b600061836d85828601617f06565b925050602061837e85828601617e0b565b9150509250929050565b60006020828403121561839a57600080fd5b600082013567ffffffffffffffff8111156183b457600080fd5b6183c084828501617f2e565b91505092915050565b60008060a083850312156183dc57600080fd5b600083013567ffffffffffffffff8111156183f657600080fd5b61840285828601617f2e565b925050602061841385828601617c24565b9150509250929050565b6000806040838503121561843057600080fd5b600083013567ffffffffffffffff81111561844a57600080fd5b61845685828601617f2e565b925050602083013567ffffffffffffffff81111561847357600080fd5b61847f85828601617f2e565b9150509250929050565b600080600060c0848603121561849e57600080fd5b600084013567ffffffffffffffff8111156184b857600080fd5b6184c486828701617f2e565b935050602084013567ffffffffffffffff8111156184e157600080fd5b6184ed86828701617f2e565b92505060406184fe86828701617c24565b9150509250925092565b60006020828403121561851a57600080fd5b600061852884828501618058565b91505092915050565b61853a81619d52565b82525050565b600061854b82619c96565b80845260208401935061855d83619c3c565b60005b8281101561858f57618573868351618531565b61857c82619d04565b9150602086019550600181019050618560565b50849250505092915050565b6185a481619ca1565b6185ad82619c49565b60005b828110156185df576185c3858351618764565b6185cc82619d11565b91506020850194506001810190506185b0565b5050505050565b60006185f182619cac565b80845260208401935061860383619c53565b60005b8281101561863557618619868351618883565b61862282619d1e565b9150602086019550600181019050618606565b50849250505092915050565b600061864c82619cb7565b8084526020840193508360208202850161866585619c60565b60005b8481101561869e5783830388526186808383516188c8565b925061868b82619d2b565b9150602088019750600181019050618668565b508196508694505050505092915050565b6186b881619cc2565b6186c182619c6d565b60005b828110156186f3576186d785835161907a565b6186e082619d38565b91506020850194506001810190506186c4565b5050505050565b600061870582619ccd565b80845260208401935061871783619c77565b60005b828110156187495761872d86835161907a565b61873682619d45565b915060208601955060018101905061871a565b50849250505092915050565b61875e81619d72565b82525050565b61876d81619d7e565b82525050565b600061877e82619ce3565b808452618792816020860160208601619e26565b61879b81619e59565b602085010191505092915050565b60006187b482619cd8565b8084526187c8816020860160208601619e26565b6187d181619e59565b602085010191505092915050565b6000815460018116600081146187fc576001811461881c5761885d565b607f600283041680865260ff19831660208701526040860193505061885d565b6002820480865260208601955061883285619c84565b60005b8281101561885457815481890152600182019150602081019050618835565b80880195505050505b505092915050565b61886e81619df3565b82525050565b61887d81619e05565b82525050565b61888c81619d88565b82525050565b600061889d82619cf9565b8084526188b1816020860160208601619e26565b6188ba81619e59565b602085010191505092915050565b60006188d382619cee565b8084526188e7816020860160208601619e26565b6188f081619e59565b602085010191505092915050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000600a82527f67657442616c616e6365000000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601782527f616d6f756e743c3d30206973206e6f74207665726966790000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000600f82527f676574546f74616c42616c616e636500000000000000000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e2067657442616c616e63650000000000000000000000006020830152604082019050919050565b6000602c82527f466f7262696464656e207175657279426f6f6b206265636175736520796f752060208301527f6172656e2774206f776e657200000000000000000000000000000000000000006040830152606082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000602682527f546865206c656e677468206f662064657363206279746573206973207769746860208301527f696e2032353500000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000602982527f546865206c656e677468206f66207375626a656374206279746573206973207760208301527f697468696e2032353500000000000000000000000000000000000000000000006040830152606082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000601f82527f676574546f74616c42616c616e636520676574546f74616c42616c616e6365006020830152604082019050919050565b61908381619d92565b82525050565b61909281619d9c565b82525050565b60006020820190506190ad6000830184618531565b92915050565b60006080820190506190c86000830187618531565b6190d56020830186618531565b6190e26040830185618531565b81810360608301526190f48184618773565b905095945050505050565b6000610100820190506191156000830188618531565b6191226020830187618531565b818103604083015261913481866187a9565b905081810360608301526191488185618773565b9050619157608083018461859b565b9695505050505050565b600060a0820190506191766000830188618531565b6191836020830187618531565b818103604083015261919581866187a9565b905081810360608301526191a98185618773565b905081810360808301526191bd81846187df565b90509695505050505050565b6000610100820190506191df6000830187618531565b6191ec6020830186618531565b81810360408301526191fd816189c9565b905081810360608301526192118185618773565b9050619220608083018461859b565b95945050505050565b600060608201905061923e6000830186618531565b61924b6020830185618531565b619258604083018461907a565b949350505050565b6000610100820190506192766000830188618531565b6192836020830187618865565b81810360408301526192958186618773565b905081810360608301526192a98185618773565b90506192b8608083018461859b565b9695505050505050565b6000610100820190506192","d86000830188618531565b6192e56020830187618874565b81810360408301526192f781866187a9565b9050818103606083015261930b8185618773565b905061931a608083018461859b565b9695505050505050565b60006101008201905061933a6000830187618531565b6193476020830186618874565b818103604083015261935881618aa5565b9050818103606083015261936c8185618773565b905061937b608083018461859b565b95945050505050565b60006101008201905061939a6000830187618531565b6193a76020830186618874565b81810360408301526193b881618adc565b905081810360608301526193cc8185618773565b90506193db608083018461859b565b95945050505050565b6000610100820190506193fa6000830187618531565b6194076020830186618874565b818103604083015261941881618ccf565b9050818103606083015261942c8185618773565b905061943b608083018461859b565b95945050505050565b60006101008201905061945a6000830187618531565b6194676020830186618874565b818103604083015261947881618f9e565b9050818103606083015261948c8185618773565b905061949b608083018461859b565b95945050505050565b6000610100820190506194ba6000830187618531565b6194c76020830186618874565b81810360408301526194d88161900c565b905081810360608301526194ec8185618773565b90506194fb608083018461859b565b95945050505050565b60006040820190506195196000830185618531565b619526602083018461907a565b9392505050565b600060208201905081810360008301526195478184618540565b905092915050565b600060808201905081810360008301526195698187618540565b9050619578602083018661907a565b818103604083015261958a8185618641565b9050818103606083015261959e81846185e6565b905095945050505050565b600060208201905081810360008301526195c38184618641565b905092915050565b600060608201905081810360008301526195e581866186fa565b905081810360208301526195f98185618540565b9050818103604083015261960d81846185e6565b9050949350505050565b600060208201905061962c6000830184618755565b92915050565b60006040820190506196476000830185618755565b81810360208301526196598184618540565b90509392505050565b60006060820190506196776000830185618755565b61968460208301846186af565b9392505050565b600060208201905081810360008301526196a581846187a9565b905092915050565b600060208201905081810360008301526196c78184618773565b905092915050565b60006060820190506196e46000830186618874565b6196f16020830185618531565b6196fe6040830184618755565b949350505050565b6000602082019050818103600083015261972081846188c8565b905092915050565b600060208201905081810360008301526197428184618892565b905092915050565b60006020820190508181036000830152619763816188fe565b9050919050565b6000602082019050818103600083015261978381618935565b9050919050565b600060208201905081810360008301526197a381618992565b9050919050565b600060208201905081810360008301526197c381618a00565b9050919050565b600060208201905081810360008301526197e381618a37565b9050919050565b6000602082019050818103600083015261980381618a6e565b9050919050565b6000602082019050818103600083015261982381618b13565b9050919050565b6000602082019050818103600083015261984381618b4a565b9050919050565b6000602082019050818103600083015261986381618b81565b9050919050565b6000602082019050818103600083015261988381618bde565b9050919050565b600060208201905081810360008301526198a381618c15565b9050919050565b600060208201905081810360008301526198c381618c98565b9050919050565b600060208201905081810360008301526198e381618d06565b9050919050565b6000602082019050818103600083015261990381618d3d565b9050919050565b6000602082019050818103600083015261992381618d9a565b9050919050565b6000602082019050818103600083015261994381618df7565b9050919050565b6000602082019050818103600083015261996381618e54565b9050919050565b6000602082019050818103600083015261998381618e8b565b9050919050565b600060208201905081810360008301526199a381618ec2565b9050919050565b600060208201905081810360008301526199c381618ef9565b9050919050565b600060208201905081810360008301526199e381618f30565b9050919050565b60006020820190508181036000830152619a0381618f67565b9050919050565b60006020820190508181036000830152619a2381618fd5565b9050919050565b60006020820190508181036000830152619a4381619043565b9050919050565b6000602082019050619a5f600083018461907a565b92915050565b600060a082019050619a7a600083018861907a565b619a87602083018761907a565b619a946040830186618531565b619aa16060830185618531565b619aae608083018461907a565b9695505050505050565b6000602082019050619acd6000830184619089565b92915050565b6000604051905081810181811067ffffffffffffffff82111715619af657600080fd5b8060405250919050565b600067ffffffffffffffff821115619b1757600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619b3f57600080fd5b602082029050919050565b600067ffffffffffffffff821115619b6157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619b8957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619bb157600080fd5b602082029050919050565b600067ffffffffffffffff821115619bd357600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619bfb57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115619c2757600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b6000619dfe82619d52565b9050919050565b6000619e1082619d52565b9050919050565b82818337600083830152505050565b60005b83811015619e44578082015181840152602081019050619e29565b83811115619e53576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a72305820866b10a4c34a77d4fee8e8e5664361c31349511f9a930cecde0d4213e919602e6c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b506040516200593638038062005936833981018060405262000037919081019062000354565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600a9080519060200190620000ff9291906200021b565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c92a7801600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a91906200055d565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d09190810190620003c3565b5080600b60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505062000678565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200025e57805160ff19168380011785556200028f565b828001600101855582156200028f579182015b828111156200028e57825182559160200191906001019062000271565b5b5090506200029e9190620002a2565b5090565b620002c791905b80821115620002c3576000816000905550600101620002a9565b5090565b90565b6000620002d8825162000618565b905092915050565b6000620002ee825162000638565b905092915050565b600082601f83011215156200030a57600080fd5b8151620003216200031b82620005d9565b620005ab565b915080825260208301602083018583830111156200033e57600080fd5b6200034b83828462000642565b50505092915050565b6000806000606084860312156200036a57600080fd5b60006200037a86828701620002ca565b935050602084015167ffffffffffffffff8111156200039857600080fd5b620003a686828701620002f6565b9250506040620003b986828701620002ca565b9150509250925092565b600060208284031215620003d657600080fd5b6000620003e684828501620002e0565b91505092915050565b6000815460018116600081146200040f5760018114620004305762000475565b607f600283041680865260ff1983166020870152604086019350","5062000475565b60028204808652602086019550620004488562000606565b60005b828110156200046c578154818901526001820191506020810190506200044b565b80880195505050505b505092915050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000606482527f7465726d5f6e6f2c7365712c66726f6d2c746f2c616d6f756e742c617373657460208301527f2c6f70657261746f722c646573632c7472616e73616374696f6e5f747970652c60408301527f6f7065726174696f6e5f747970652c7375626a6563742c72656c617465645f6160608301527f7373657400000000000000000000000000000000000000000000000000000000608083015260a082019050919050565b60006060820190508181036000830152620005798184620003ef565b905081810360208301526200058e816200047d565b90508181036040830152620005a381620004b4565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005cf57600080fd5b8060405250919050565b600067ffffffffffffffff821115620005f157600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b838110156200066257808201518184015260208101905062000645565b8381111562000672576000848401525b50505050565b6152ae80620006886000396000f300608060405260043610610062576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806311567c421461006757806318768d1e1461009257806345be589e146100d0578063b32cf81b146100fb575b600080fd5b34801561007357600080fd5b5061007c610138565b6040516100899190614945565b60405180910390f35b34801561009e57600080fd5b506100b960048036036100b4919081019061405e565b610140565b6040516100c7929190614982565b60405180910390f35b3480156100dc57600080fd5b506100e56105d1565b6040516100f29190614f3f565b60405180910390f35b34801561010757600080fd5b50610122600480360361011d9190810190614109565b61062e565b60405161012f9190614960565b60405180910390f35b600030905090565b600061014a613c9a565b60006060600080600061015b613c9a565b60048c511015801561016e575060028951145b15156101af576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016101a690614d6b565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631bf727356040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801561023457600080fd5b505af1158015610248573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061027191908101906142d7565b80965081975050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bd332ffe6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156102fe57600080fd5b505af1158015610312573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061033691908101906142ae565b935061034686858e8e8e8e610cef565b9250600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016103c09190614a4f565b602060405180830381600087803b1580156103da57600080fd5b505af11580156103ee573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610412919081019061421b565b915060018273ffffffffffffffffffffffffffffffffffffffff16634c6f30c061045c600260016002805490500381548110151561044c57fe5b90600052602060002001546116b9565b866040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610496929190614a1f565b602060405180830381600087803b1580156104b057600080fd5b505af11580156104c4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104e89190810190614244565b14151561052a576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161052190614bfe565b60405180910390fd5b61053586858e611810565b60408051908101604052808781526020018581525090507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc86858e600281518110151561057e57fe5b906020019060200201518f600381518110151561059757fe5b906020019060200201518f6040516105b3959493929190614f5a565b60405180910390a16001819750975050505050505094509492505050565b600060026001600280549050019080600181540180825580915050906001820390600052602060002001600090919290919091505550600260016002805490500381548110151561061e57fe5b9060005260206000200154905090565b60606000606060006060600080606060008b51118061064e575060008a51115b151561068f576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161068690614d6b565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107079190614a4f565b602060405180830381600087803b15801561072157600080fd5b505af1158015610735573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610759919081019061421b565b96506107658b8b611dca565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156107d157600080fd5b505af11580156107e5573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061080991908101906141a0565b92506000915060008b51118015610839575060008b600081518110151561082c57fe5b9060200190602002015114155b156108e6578273ffffffffffffffffffffffffffffffffffffffff1663ae763db561087b8d600081518110151561086c57fe5b906020019060200201516116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108b39190614d36565b600060405180830381600087803b1580156108cd57600080fd5b505af11580156108e1573d6000803e3d6000fd5b505050505b60018b51118015610910575060008b600181518110151561090357fe5b9060200190602002015114155b156109bd578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56109528d600181518110151561094357fe5b906020019060200201516116b9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161098a9190614b74565b600060405180830381600087803b1580156109a457600080fd5b505af11580156109b8573d6000803e3d6000fd5b505050505b60008a51118015610a135750600073ffffffffffffffffffffffffffffffffffffffff168a60008151811015156109f057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610ad6578273ffffffffffffffffffffffffffffffffffffffff1663ae763db5610a6b8c6000815181101515610a4657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610aa39190614bc9565b600060405180830381600087803b158015610abd57600080fd5b505af1158015610ad1573d6000803e3d6000fd5b505050505b60018a51118015610b2c5750600073ffffffffffffffffffffffffffffffffffffffff168a6001815181101515610b0957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610bef578273ffffffffffffffffffffffffffffffffffffffff1663ae763db5610b848c6001815181101515610b5f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610bbc9190614eb5565b600060405180830381600087803b158015610bd657600080fd5b505af1158015610bea573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff1663324927378a6000815181101515610c1a57fe5b906020019060200201518b6001815181101515610c3357fe5b906020019060200201516040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c769291906149c6565b600060405180830381600087803b158015610c9057600080fd5b505af1158015610ca4573d6000803e3d6000fd5b50505050610cb38686856125c2565b809350819250505060008151118015610ccc5750600082135b15610cde57610cdb81836128ca565b93505b839750505050505050509392505050565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610d6c9190614a4f565b602060405180830381600087803b158015610d8657600080fd5b505af1158015610d9a573d6000803e3d6000fd5b50505050604051","3d601f19601f82011682018060405250610dbe919081019061421b565b91508173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610e2457600080fd5b505af1158015610e38573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e5c91908101906141f2565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610ea46002600160028054905003815481101515610e9457fe5b90600052602060002001546116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610edc9190614ce1565b600060405180830381600087803b158015610ef657600080fd5b505af1158015610f0a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610f338a6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f6b9190614b74565b600060405180830381600087803b158015610f8557600080fd5b505af1158015610f99573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610fc28b6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ffa9190614d36565b600060405180830381600087803b15801561101457600080fd5b505af1158015611028573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461107f89600281518110151561105a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110b79190614bc9565b600060405180830381600087803b1580156110d157600080fd5b505af11580156110e5573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461113c89600381518110151561111757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111749190614eb5565b600060405180830381600087803b15801561118e57600080fd5b505af11580156111a2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98860018151811015156111d157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112139190614c93565b600060405180830381600087803b15801561122d57600080fd5b505af1158015611241573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461126a886116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112a29190614c3e565b600060405180830381600087803b1580156112bc57600080fd5b505af11580156112d0573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98860008151811015156112ff57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113419190614b06565b600060405180830381600087803b15801561135b57600080fd5b505af115801561136f573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb486600081518110151561139e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113e09190614ab1565b600060405180830381600087803b1580156113fa57600080fd5b505af115801561140e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def4269885600081518110151561143d57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161147f9190614dab565b600060405180830381600087803b15801561149957600080fd5b505af11580156114ad573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988560018151811015156114dc57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161151e9190614df9565b600060405180830381600087803b15801561153857600080fd5b505af115801561154c573d6000803e3d6000fd5b505050506001855111156115fa578073ffffffffffffffffffffffffffffffffffffffff16631a391cb486600181518110151561158557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115c79190614f0a565b600060405180830381600087803b1580156115e157600080fd5b505af11580156115f5573d6000803e3d6000fd5b505050505b8073ffffffffffffffffffffffffffffffffffffffff1663517c4dd9600589511061163d5788600481518110151561162e57fe5b90602001906020020151611640565b60005b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116789190614e47565b600060405180830381600087803b15801561169257600080fd5b505af11580156116a6573d6000803e3d6000fd5b5050505080925050509695505050505050565b60606000806060600080861415611707576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611807565b8593505b600084141515611731578280600101935050600a8481151561172957fe5b04935061170b565b826040519080825280601f01601f1916602001820160405280156117645781602001602082028038833980820191505090505b5091506001830390505b60008614151561180357600a8681151561178457fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156117bf57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156117fb57fe5b04955061176e565b8194505b50505050919050565b600760008481526020019081526020016000206000600260016002805490500381548110151561183c57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615156119265760036000848152602001908152602001600020600260016002805490500381548110151561189357fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160076000858152602001908152602001600020600060026001600280549050038154811015156118f557fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600260016002805490500381548110151561193d57fe5b906000526020600020015460046000848152602001908152602001600020819055506008600082600281518110151561197257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156119cf57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611a485750806002815181101515611a0d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611b925760056000826002815181101515611a6057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611abb57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160086000836002815181101515611b0457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611b6157fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b60096000826003815181101515611ba557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611c0257fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611c7b5750806003815181101515611c4057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611dc55760066000826003815181101515611c9357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611cee57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160096000836003815181101515611d3757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611d9457fe5b90600052602060002001548152","60200190815260200160002060006101000a81548160ff0219169083151502179055505b505050565b6060600060606000806000806000600280549050604051908082528060200260200182016040528015611e0c5781602001602082028038833980820191505090505b50955060018a51118015611e39575060008a6001815181101515611e2c57fe5b9060200190602002015114155b15611ec7576000600460008c6001815181101515611e5357fe5b90602001906020020151815260200190815260200160002054141515611ec6576001866001600460008e6001815181101515611e8b57fe5b9060200190602002015181526020019081526020016000205403815181101515611eb157fe5b90602001906020020190151590811515815250505b5b60008a51118015611ef1575060008a6000815181101515611ee457fe5b9060200190602002015114155b1561200c57600094505b600360008b6000815181101515611f0e57fe5b9060200190602002015181526020019081526020016000208054905085101561200b57856001600360008d6000815181101515611f4757fe5b90602001906020020151815260200190815260200160002087815481101515611f6c57fe5b906000526020600020015403815181101515611f8457fe5b906020019060200201511515611ffe576001866001600360008e6000815181101515611fac57fe5b90602001906020020151815260200190815260200160002088815481101515611fd157fe5b906000526020600020015403815181101515611fe957fe5b90602001906020020190151590811515815250505b8480600101955050611efb565b5b600089511180156120625750600073ffffffffffffffffffffffffffffffffffffffff1689600081518110151561203f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561220157600093505b600560008a600081518110151561207f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208054905084101561220057856001600560008c60008151811015156120e457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208681548110151561213557fe5b90600052602060002001540381518110151561214d57fe5b9060200190602002015115156121f3576001866001600560008d600081518110151561217557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020878154811015156121c657fe5b9060005260206000200154038151811015156121de57fe5b90602001906020020190151590811515815250505b838060010194505061206c565b5b600189511180156122575750600073ffffffffffffffffffffffffffffffffffffffff1689600181518110151561223457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156123f657600092505b600660008a600181518110151561227457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020805490508310156123f557856001600660008c60018151811015156122d957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208581548110151561232a57fe5b90600052602060002001540381518110151561234257fe5b9060200190602002015115156123e8576001866001600660008d600181518110151561236a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156123bb57fe5b9060005260206000200154038151811015156123d357fe5b90602001906020020190151590811515815250505b8280600101935050612261565b5b60009150600090505b855181101561243b57858181518110151561241657fe5b906020019060200201511561242e5781806001019250505b80806001019150506123ff565b8582975097505050505050509250929050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff16945060008514156124b8576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525095506125b8565b8493505b6000841415156124e2578280600101935050600a848115156124da57fe5b0493506124bc565b826040519080825280601f01601f1916602001820160405280156125155781602001602082028038833980820191505090505b5091506001830390505b6000851415156125b457600a8581151561253557fe5b066030017f01000000000000000000000000000000000000000000000000000000000000000282828060019003935081518110151561257057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a858115156125ac57fe5b04945061251f565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126489190614a4f565b602060405180830381600087803b15801561266257600080fd5b505af1158015612676573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061269a919081019061421b565b955060009450896040519080825280602002602001820160405280156126cf5781602001602082028038833980820191505090505b50935060009250600091505b8a518210156128b6578a828151811015156126f257fe5b90602001906020020151156128a9578573ffffffffffffffffffffffffffffffffffffffff1663d8ac5957612729600185016116b9565b8b6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016127639291906149ef565b602060405180830381600087803b15801561277d57600080fd5b505af1158015612791573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127b591908101906141c9565b90508073ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561281b57600080fd5b505af115801561282f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128539190810190614244565b8501945080848480600101955081518110151561286c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b81806001019250506126db565b838597509750505050505050935093915050565b60608060008060008060006060600c890260405190808252806020026020018201604052801561290e57816020015b60608152602001906001900390816128f95790505b509650600095505b895186101561353457898681518110151561292d57fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156129a657600080fd5b505af11580156129ba573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129de9190810190614244565b831215613527578473ffffffffffffffffffffffffffffffffffffffff16633dd2b614846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a3a91906149ab565b602060405180830381600087803b158015612a5457600080fd5b505af1158015612a68573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a8c91908101906141f2565b915060009350612c938273ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae890614ba9565b600060405180830381600087803b158015612b0257600080fd5b505af1158015612b16573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612b3f919081019061426d565b8373ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b9290614e95565b600060405180830381600087803b158015612bac57600080fd5b505af1158015612bc0573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612be9919081019061426d565b8473ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c3c90614ae6565b602060405180830381600087803b158015612c5657600080fd5b505af1158015612c6a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c8e9190810190614035565b613544565b905060038151141515612cdb576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612cd290614a71565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d2e90614d16565b600060405180830381600087803b158015612d4857600080fd5b505af1158015612d5c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612d85919081019061426d565b878585600c0201815181101515612d9857fe5b906020019060200201","819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612df890614b54565b600060405180830381600087803b158015612e1257600080fd5b505af1158015612e26573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612e4f919081019061426d565b878560010195508585600c0201815181101515612e6857fe5b90602001906020020181905250806000815181101515612e8457fe5b90602001906020020151878560010195508585600c0201815181101515612ea757fe5b90602001906020020181905250806001815181101515612ec357fe5b90602001906020020151878560010195508585600c0201815181101515612ee657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f4690614c1e565b600060405180830381600087803b158015612f6057600080fd5b505af1158015612f74573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612f9d919081019061426d565b878560010195508585600c0201815181101515612fb657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161301690614a91565b600060405180830381600087803b15801561303057600080fd5b505af1158015613044573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061306d919081019061426d565b878560010195508585600c020181518110151561308657fe5b906020019060200201819052506131568273ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130e990614c73565b602060405180830381600087803b15801561310357600080fd5b505af1158015613117573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061313b9190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561316f57fe5b9060200190602002018190525080600281518110151561318b57fe5b90602001906020020151878560010195508585600c02018151811015156131ae57fe5b906020019060200201819052506132688273ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161321190614d8b565b602060405180830381600087803b15801561322b57600080fd5b505af115801561323f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506132639190810190614244565b6116b9565b878560010195508585600c020181518110151561328157fe5b9060200190602002018190525061333b8273ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132e490614dd9565b602060405180830381600087803b1580156132fe57600080fd5b505af1158015613312573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506133369190810190614244565b6116b9565b878560010195508585600c020181518110151561335457fe5b906020019060200201819052506134248273ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016133b790614e27565b602060405180830381600087803b1580156133d157600080fd5b505af11580156133e5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134099190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561343d57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161349d90614eea565b600060405180830381600087803b1580156134b757600080fd5b505af11580156134cb573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506134f4919081019061426d565b878560010195508585600c020181518110151561350d57fe5b906020019060200201819052508280600101935050612942565b8580600101965050612916565b8697505050505050505092915050565b606080600080600360405190808252806020026020018201604052801561357f57816020015b606081526020019060019003908161356a5790505b50925061358b87613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561374557600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade661360789613ac9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161363f9190614945565b602060405180830381600087803b15801561365957600080fd5b505af115801561366d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136919190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613705576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016136fc90614cc1565b60405180910390fd5b6137248173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600081518110151561373357fe5b90602001906020020181905250613763565b8683600081518110151561375557fe5b906020019060200201819052505b61376c86613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561392657600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade66137e888613ac9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138209190614945565b602060405180830381600087803b15801561383a57600080fd5b505af115801561384e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138729190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156138e6576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016138dd90614b34565b60405180910390fd5b6139058173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600181518110151561391457fe5b90602001906020020181905250613944565b8583600181518110151561393657fe5b906020019060200201819052505b600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade6866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016139bb9190614945565b602060405180830381600087803b1580156139d557600080fd5b505af11580156139e9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a0d9190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613a81576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613a7890614e75565b60405180910390fd5b613aa08173ffffffffffffffffffffffffffffffffffffffff1661244e565b836002815181101515613aaf57fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613c8f5760308382815181101515613af557fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bf3575060398382815181101515613b7f57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613c825760308382815181101515613c0857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613adc565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613cc88235615181565b905092915050565b6000613cdc8251615181565b905092915050565b600082601f8301121515613cf757600080fd5b8135613d0a613d0582614fda565b614fad565b91508181835260208401935060208101905083856020840282011115613d2f57600080fd5b60005b83811015613d5f5781613d458882613cbc565b845260208401935060208301925050600181019050613d32565b5050505092915050565b600082601f8301121515613d7c57600080fd5b8135613d8f613d8a82615002565b614fad565b915081818352602084019350602081019050","83856020840282011115613db457600080fd5b60005b83811015613de45781613dca8882613f39565b845260208401935060208301925050600181019050613db7565b5050505092915050565b600082601f8301121515613e0157600080fd5b8135613e14613e0f8261502a565b614fad565b9150818183526020840193506020810190508360005b83811015613e5a5781358601613e408882613f61565b845260208401935060208301925050600181019050613e2a565b5050505092915050565b600082601f8301121515613e7757600080fd5b8135613e8a613e8582615052565b614fad565b91508181835260208401935060208101905083856020840282011115613eaf57600080fd5b60005b83811015613edf5781613ec5888261400d565b845260208401935060208301925050600181019050613eb2565b5050505092915050565b6000613ef582516151a1565b905092915050565b6000613f0982516151b3565b905092915050565b6000613f1d82516151c5565b905092915050565b6000613f3182516151d7565b905092915050565b6000613f4582356151e9565b905092915050565b6000613f5982516151e9565b905092915050565b600082601f8301121515613f7457600080fd5b8135613f87613f828261507a565b614fad565b91508082526020830160208301858383011115613fa357600080fd5b613fae838284615221565b50505092915050565b600082601f8301121515613fca57600080fd5b8151613fdd613fd8826150a6565b614fad565b91508082526020830160208301858383011115613ff957600080fd5b614004838284615230565b50505092915050565b600061401982356151f3565b905092915050565b600061402d82516151f3565b905092915050565b60006020828403121561404757600080fd5b600061405584828501613cd0565b91505092915050565b6000806000806080858703121561407457600080fd5b600085013567ffffffffffffffff81111561408e57600080fd5b61409a87828801613ce4565b94505060206140ab8782880161400d565b935050604085013567ffffffffffffffff8111156140c857600080fd5b6140d487828801613dee565b925050606085013567ffffffffffffffff8111156140f157600080fd5b6140fd87828801613d69565b91505092959194509250565b60008060006060848603121561411e57600080fd5b600084013567ffffffffffffffff81111561413857600080fd5b61414486828701613e64565b935050602084013567ffffffffffffffff81111561416157600080fd5b61416d86828701613ce4565b925050604084013567ffffffffffffffff81111561418a57600080fd5b61419686828701613d69565b9150509250925092565b6000602082840312156141b257600080fd5b60006141c084828501613ee9565b91505092915050565b6000602082840312156141db57600080fd5b60006141e984828501613efd565b91505092915050565b60006020828403121561420457600080fd5b600061421284828501613f11565b91505092915050565b60006020828403121561422d57600080fd5b600061423b84828501613f25565b91505092915050565b60006020828403121561425657600080fd5b600061426484828501613f4d565b91505092915050565b60006020828403121561427f57600080fd5b600082015167ffffffffffffffff81111561429957600080fd5b6142a584828501613fb7565b91505092915050565b6000602082840312156142c057600080fd5b60006142ce84828501614021565b91505092915050565b600080604083850312156142ea57600080fd5b60006142f885828601614021565b925050602083015167ffffffffffffffff81111561431557600080fd5b61432185828601613fb7565b9150509250929050565b61433481615141565b82525050565b6000614345826150fb565b8084526020840193508360208202850161435e856150d2565b60005b84811015614397578383038852614379838351614465565b925061438482615127565b9150602088019750600181019050614361565b508196508694505050505092915050565b6143b181615106565b6143ba826150df565b60005b828110156143ec576143d0858351614936565b6143d982615134565b91506020850194506001810190506143bd565b5050505050565b6143fc81615161565b82525050565b61440b816151fd565b82525050565b61441a8161520f565b82525050565b6144298161516d565b82525050565b600061443a8261511c565b80845261444e816020860160208601615230565b61445781615263565b602085010191505092915050565b600061447082615111565b808452614484816020860160208601615230565b61448d81615263565b602085010191505092915050565b6000815460018116600081146144b857600181146144d857614519565b607f600283041680865260ff198316602087015260408601935050614519565b600282048086526020860195506144ee856150e9565b60005b82811015614510578154818901526001820191506020810190506144f1565b80880195505050505b505092915050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f777269746520626f6f6b206661696c65640000000000000000000000000000006020830152604082019050919050565b6000600682527f616d6f756e7400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000601082527f7472616e73616374696f6e5f74797065000000000000000000000000000000006020830152604082019050919050565b6000600e82527f6f7065726174696f6e5f747970650000000000000000000000000000000000006020830152604082019050919050565b6000600d82527f72656c617465645f6173736574000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7375626a656374000000000000000000000000000000000000000000000000006020830152604082019050919050565b61493f81615177565b82525050565b600060208201905061495a600083018461432b565b92915050565b6000602082019050818103600083015261497a818461433a565b905092915050565b600060608201905061499760008301856143f3565b6149a460208301846143a8565b9392505050565b60006020820190506149c06000830184614420565b92915050565b60006040820190506149db6000830185614420565b6149e86020830184614420565b9392505050565b60006040820190508181036000830152614a09818561442f565b9050614a186020830184614402565b9392505050565b60006040820190508181036000830152614a39818561442f565b9050614a486020830184614411565b9392505050565b60006020820190508181036000830152614a69818461449b565b905092915050565b60006020820190508181036000830152614a8a81614521565b9050919050565b60006020820190508181036000830152614aaa81614558565b9050919050565b60006040820190508181036000830152614aca81614558565b90508181036020830152614ade8184614465565b905092915050565b60006020820190508181036000830152614aff8161458f565b9050919050565b60006040820190508181036000830152614b1f8161458f565b9050614b2e602083018461432b565b92915050565b60006020820190508181036000830152614b4d816145c6565b9050919050565b60006020820190508181036000830152614b6d816145fd565b9050919050565b60006040820190508181036000830152614b8d816145fd565b90508181036020830152614ba1818461442f565b905092915050565b60006020820190508181036000830152614bc281614634565b9050919050565b60006040820190508181036000830152614be281614634565b90508181036020830152614bf6818461442f565b905092915050565b60006020820190508181036000830152614c178161466b565b9050919050565b60006020820190508181036000830152614c37816146a2565b9050919050565b60006040820190508181036000830152614c57816146a2565b90508181036020830152614c6b818461442f565b905092915050565b60006020820190508181036000830152614c8c816146d9565b9050919050565b60006040820190508181036000830152614cac816146d9565b9050614cbb602083018461432b565b92915050565b60006020820190508181036000830152614cda81614710565b9050919050565b60006040820190508181036000830152614cfa81614747565b90508181036020830152614d0e818461442f565b905092915050565b60006020820190508181036000830152614d2f8161477e565b9050919050565b60006040820190508181036000830152614d4f8161477e565b90508181036020830152614d63818461442f565b905092915050565b60006020820190508181036000830152614d84816147b5565b9050919050565b60006020820190508181036000830152614da4816147","ec565b9050919050565b60006040820190508181036000830152614dc4816147ec565b9050614dd36020830184614420565b92915050565b60006020820190508181036000830152614df281614823565b9050919050565b60006040820190508181036000830152614e1281614823565b9050614e216020830184614420565b92915050565b60006020820190508181036000830152614e408161485a565b9050919050565b60006040820190508181036000830152614e608161485a565b9050614e6f602083018461432b565b92915050565b60006020820190508181036000830152614e8e81614891565b9050919050565b60006020820190508181036000830152614eae816148c8565b9050919050565b60006040820190508181036000830152614ece816148c8565b90508181036020830152614ee2818461442f565b905092915050565b60006020820190508181036000830152614f03816148ff565b9050919050565b60006040820190508181036000830152614f23816148ff565b90508181036020830152614f378184614465565b905092915050565b6000602082019050614f546000830184614936565b92915050565b600060a082019050614f6f6000830188614936565b614f7c6020830187614936565b614f89604083018661432b565b614f96606083018561432b565b614fa36080830184614936565b9695505050505050565b6000604051905081810181811067ffffffffffffffff82111715614fd057600080fd5b8060405250919050565b600067ffffffffffffffff821115614ff157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561501957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561504157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561506957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561509157600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156150bd57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60006151ac82615141565b9050919050565b60006151be82615141565b9050919050565b60006151d082615141565b9050919050565b60006151e282615141565b9050919050565b6000819050919050565b6000819050919050565b600061520882615141565b9050919050565b600061521a82615141565b9050919050565b82818337600083830152505050565b60005b8381101561524e578082015181840152602081019050615233565b8381111561525d576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a723058206bf1aadad9f064d68ba91f54ce2cf16783267c3ca5863cf00874e115768380276c6578706572696d656e74616cf50037a165627a7a7230582051185606bd02e9a288ea0634de514e269ca05707132dd5a35009f2801389ea720029"};
+    public static final String[] SM_BINARY_ARRAY = {"608060405234801561001057600080fd5b50620134a380620000226000396000f30060806040526004361062000043576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff168063825ca3141462000048575b600080fd5b3480156200005557600080fd5b5062000145600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803560ff169060200190929190803573ffffffffffffffffffffffffffffffffffffffff169060200190929190803573ffffffffffffffffffffffffffffffffffffffff16906020019092919050505062000187565b604051808273ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200191505060405180910390f35b6000808686868686620001996200031a565b8080602001806020018660ff1660ff1681526020018573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020018473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001838103835288818151815260200191508051906020019080838360005b838110156200024c5780820151818401526020810190506200022f565b50505050905090810190601f1680156200027a5780820380516001836020036101000a031916815260200191505b50838103825287818151815260200191508051906020019080838360005b83811015620002b557808201518184015260208101905062000298565b50505050905090810190601f168015620002e35780820380516001836020036101000a031916815260200191505b50975050505050505050604051809103906000f0801580156200030a573d6000803e3d6000fd5b5090508091505095945050505050565b6040516201314b806200032d83390190560060806040526040805190810160405280600681526020017f7075626c69630000000000000000000000000000000000000000000000000000815250600090805190602001906200005192919062001228565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250600190805190602001906200009f92919062001228565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060029080519060200190620000ed92919062001228565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906200013b92919062001228565b506040805190810160405280600281526020017f5f77000000000000000000000000000000000000000000000000000000000000815250600490805190602001906200018992919062001228565b506040805190810160405280600381526020017f616c6c000000000000000000000000000000000000000000000000000000000081525060059080519060200190620001d792919062001228565b506040805190810160405280600281526020017f6964000000000000000000000000000000000000000000000000000000000000815250600690805190602001906200022592919062001228565b506040805190810160405280600481526020017f6164647200000000000000000000000000000000000000000000000000000000815250600790805190602001906200027392919062001228565b506040805190810160405280600481526020017f747970650000000000000000000000000000000000000000000000000000000081525060089080519060200190620002c192919062001228565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906200030f92919062001228565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906200035d92919062001228565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b9080519060200190620003ab92919062001228565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c9080519060200190620003f992919062001228565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d90805190602001906200044792919062001228565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e90805190602001906200049592919062001228565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f9080519060200190620004e392919062001228565b506040805190810160405280600781526020017f62616c616e636500000000000000000000000000000000000000000000000000815250601090805190602001906200053192919062001228565b506040805190810160405280600681526020017f7265636f72640000000000000000000000000000000000000000000000000000815250601190805190602001906200057f92919062001228565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060129080519060200190620005cd92919062001228565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906200061b92919062001228565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250601490805190602001906200066992919062001228565b506040805190810160405280600481526020017f757365720000000000000000000000000000000000000000000000000000000081525060159080519060200190620006b792919062001228565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015620007d557600080fd5b506040516201314b3803806201314b8339810180604052620007fb919081019062001575565b84828281816060620008373073ffffffffffffffffffffffffffffffffffffffff1662000dd06401000000000262008b91176401000000009004565b9050620008fd60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620008d75780601f10620008ab57610100808354040283529160200191620008d7565b820191906000526020600020905b815481529060010190602001808311620008b957829003601f168201915b505050505082601b62000eb46401000000000262007bb617909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620009c657600080fd5b505af1158015620009db573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000a01919081019062001549565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000ac857600080fd5b505af115801562000add573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000b03919081019062001549565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151562000bc15781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062000c03565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050506000835111801562000c19575060408351105b151562000c5d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162000c54906200188f565b60405180910390fd5b8073ffffffffffffffffffffffffffffffffffffffff1663491bae946040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381","600087803b15801562000cc257600080fd5b505af115801562000cd7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000cfd919081019062001549565b838262000d09620012af565b62000d17939291906200184b565b604051809103906000f08015801562000d34573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550505050846029908051906020019062000d90929190620012c0565b50836028908051906020019062000da9929190620012c0565b5082602a60006101000a81548160ff021916908360ff1602179055505050505050620019d3565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801562000e1c5781602001602082028038833980820191505090505b509250600090505b601481101562000ead57818160148110151562000e3d57fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151562000e6f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062000e24565b5050919050565b60008084600001846040518082805190602001908083835b60208310151562000ef3578051825260208201915060208101905060208303925062000ecc565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115620010b0577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151562000fcc578051825260208201915060208101905060208303925062000fa5565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405162001015959493929190620017d9565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200105a578051825260208201915060208101905060208303925062001033565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190620010a592919062001347565b506001915062001220565b8285600001856040518082805190602001908083835b602083101515620010ed5780518252602082019150602081019050602083039250620010c6565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200113892919062001347565b50846001018054809190600101620011519190620013ce565b90506001810185600001856040518082805190602001908083835b6020831015156200119357805182526020820191506020810190506020830392506200116c565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515620011e057fe5b906000526020600020906002020160000190805190602001906200120692919062001347565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200126b57805160ff19168380011785556200129c565b828001600101855582156200129c579182015b828111156200129b5782518255916020019190600101906200127e565b5b509050620012ab919062001403565b5090565b604051615936806200d81583390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200130357805160ff191683800117855562001334565b8280016001018555821562001334579182015b828111156200133357825182559160200191906001019062001316565b5b50905062001343919062001403565b5090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200138a57805160ff1916838001178555620013bb565b82800160010185558215620013bb579182015b82811115620013ba5782518255916020019190600101906200139d565b5b509050620013ca919062001403565b5090565b815481835581811115620013fe57600202816002028360005260206000209182019101620013fd91906200142b565b5b505050565b6200142891905b80821115620014245760008160009055506001016200140a565b5090565b90565b6200147091905b808211156200146c57600080820160006200144e919062001473565b6001820160006101000a81549060ff02191690555060020162001432565b5090565b90565b50805460018160011615610100020316600290046000825580601f106200149b5750620014bc565b601f016020900490600052602060002090810190620014bb919062001403565b5b50565b6000620014cd82516200195f565b905092915050565b600082601f8301121515620014e957600080fd5b815162001500620014fa82620018df565b620018b1565b915080825260208301602083018583830111156200151d57600080fd5b6200152a8382846200198c565b50505092915050565b60006200154182516200197f565b905092915050565b6000602082840312156200155c57600080fd5b60006200156c84828501620014bf565b91505092915050565b600080600080600060a086880312156200158e57600080fd5b600086015167ffffffffffffffff811115620015a957600080fd5b620015b788828901620014d5565b955050602086015167ffffffffffffffff811115620015d557600080fd5b620015e388828901620014d5565b9450506040620015f68882890162001533565b93505060606200160988828901620014bf565b92505060806200161c88828901620014bf565b9150509295509295909350565b62001634816200193f565b82525050565b6000620016478262001929565b8084526200165d8160208601602086016200198c565b6200166881620019c2565b602085010191505092915050565b600062001683826200191e565b808452620016998160208601602086016200198c565b620016a481620019c2565b602085010191505092915050565b600081546001811660008114620016d25760018114620016f35762001738565b607f600283041680865260ff19831660208701526040860193505062001738565b600282048086526020860195506200170b856200190c565b60005b828110156200172f578154818901526001820191506020810190506200170e565b80880195505050505b505092915050565b60006200174d8262001934565b808452620017638160208601602086016200198c565b6200176e81620019c2565b602085010191505092915050565b6000603282527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634206c6f6e6700000000000000000000000000006040830152606082019050919050565b600060a082019050620017f0600083018862001629565b620017ff602083018762001629565b818103604083015262001813818662001676565b905081810360608301526200182981856200163a565b905081810360808301526200183f8184620016b2565b90509695505050505050565b600060608201905062001862600083018662001629565b818103602083015262001876818562001740565b905062001887604083018462001629565b949350505050565b60006020820190508181036000830152620018aa816200177c565b9050919050565b6000604051905081810181811067ffffffffffffffff82111715620018d557600080fd5b8060405250919050565b600067ffffffffffffffff821115620018f757600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600060ff82169050919050565b60005b83811015620019ac5780820151818401526020810190506200198f565b83811115620019bc576000848401525b50505050565b6000601f19601f8301169050919050565b61be3280620019e36000396000f3006080604052600436106102e0576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806309108b17146102e55780630bc95c79146103225780630bdaa31f1461034d5780630c9481b91461038b5780630d56ef00146103b6578063112da303146103f457806311567c421461041f5780631500025a1461044a5780631a1f1cd2146104755780632fe7f81a146104a05780633055ae81146104dd578063366563dd1461051a5780633720206d1461055757806342033801146105955780634425c426146105c057806346b13615146105eb57806347a6caff1461061657806351cf770814610653578063554b3ee414610690578063567f2836146106ce5780635bfa2796146106f95780635c7540bc146107245780635edfd6fa1461074f5780635f12ec2e1461077a57806361e020cb146107a557806367e09af5146107e257806374b00d531461080d578063769fe342146108385780637de83c70146108635780637e3a1ef4146108a05780637e6f287c146108cb5780637f00af97146109085780637f610782146109335780638930d16e146109715780638a4451f5146109af5780638ed13ef5146109da5780639806836414610a17578063a4fd771114610a42578063a74809a514610a7f578063ad07c37a14610abd578063b09a50fe14610afa578063b11b688314610b25578063b1d2284f14610b50578063b2e504da14610b8e578063b32941d814610bcc578063bcc6cdb614610bf7578063bced953514610c22578063bf0e94fe14610c4d578063bfabb86d14610c8a578063c03fd5e714610cb5578063c6125d0c14610ce0578063d1281a7814610d0b578063d3e9af5a14610d36578063d617f06d14610d61578063d7e7948f14610d8c578063e3fbfc3f14610db7578063e92139da14610df4578063ece272e314610e1f578063ee19b0cf14610e4a578063f0c9f25a14610e75578063f6cb","4bc514610eb2578063f976699414610edd575b600080fd5b3480156102f157600080fd5b5061030c60048036036103079190810190619dd0565b610f1a565b604051610319919061b52c565b60405180910390f35b34801561032e57600080fd5b5061033761164a565b604051610344919061af31565b60405180910390f35b34801561035957600080fd5b50610374600480360361036f9190810190619e89565b611670565b60405161038292919061b5a0565b60405180910390f35b34801561039757600080fd5b506103a06116f7565b6040516103ad919061b5d0565b60405180910390f35b3480156103c257600080fd5b506103dd60048036036103d89190810190619e48565b611795565b6040516103eb92919061b547565b60405180910390f35b34801561040057600080fd5b50610409611a19565b604051610416919061b5d0565b60405180910390f35b34801561042b57600080fd5b50610434611ab7565b604051610441919061af31565b60405180910390f35b34801561045657600080fd5b5061045f611abf565b60405161046c919061af31565b60405180910390f35b34801561048157600080fd5b5061048a611b84565b604051610497919061b5d0565b60405180910390f35b3480156104ac57600080fd5b506104c760048036036104c29190810190619dd0565b611c22565b6040516104d4919061b9af565b60405180910390f35b3480156104e957600080fd5b5061050460048036036104ff919081019061a19b565b612013565b604051610511919061b5f2565b60405180910390f35b34801561052657600080fd5b50610541600480360361053c919081019061a021565b61220e565b60405161054e919061b9af565b60405180910390f35b34801561056357600080fd5b5061057e60048036036105799190810190619e89565b612223565b60405161058c92919061b5a0565b60405180910390f35b3480156105a157600080fd5b506105aa6124f2565b6040516105b7919061b5d0565b60405180910390f35b3480156105cc57600080fd5b506105d5612590565b6040516105e2919061b9af565b60405180910390f35b3480156105f757600080fd5b506106006125b6565b60405161060d919061ba46565b60405180910390f35b34801561062257600080fd5b5061063d6004803603610638919081019061a29c565b6125c9565b60405161064a919061b52c565b60405180910390f35b34801561065f57600080fd5b5061067a6004803603610675919081019061a29c565b612801565b604051610687919061b52c565b60405180910390f35b34801561069c57600080fd5b506106b760048036036106b2919081019061a021565b612a39565b6040516106c592919061b9ca565b60405180910390f35b3480156106da57600080fd5b506106e3612b03565b6040516106f0919061b9af565b60405180910390f35b34801561070557600080fd5b5061070e612b0d565b60405161071b919061b64b565b60405180910390f35b34801561073057600080fd5b50610739612bab565b604051610746919061af31565b60405180910390f35b34801561075b57600080fd5b50610764612bd5565b604051610771919061b5d0565b60405180910390f35b34801561078657600080fd5b5061078f612c73565b60405161079c919061af31565b60405180910390f35b3480156107b157600080fd5b506107cc60048036036107c7919081019061a230565b612c9d565b6040516107d9919061b52c565b60405180910390f35b3480156107ee57600080fd5b506107f7612e9b565b604051610804919061b5d0565b60405180910390f35b34801561081957600080fd5b50610822612f39565b60405161082f919061af31565b60405180910390f35b34801561084457600080fd5b5061084d612f5f565b60405161085a919061b5d0565b60405180910390f35b34801561086f57600080fd5b5061088a6004803603610885919081019061a021565b612ffd565b604051610897919061b412565b60405180910390f35b3480156108ac57600080fd5b506108b56133fa565b6040516108c2919061b5d0565b60405180910390f35b3480156108d757600080fd5b506108f260048036036108ed919081019061a19b565b613498565b6040516108ff919061b52c565b60405180910390f35b34801561091457600080fd5b5061091d613693565b60405161092a919061b5d0565b60405180910390f35b34801561093f57600080fd5b5061095a60048036036109559190810190619f61565b613731565b60405161096892919061b577565b60405180910390f35b34801561097d57600080fd5b506109986004803603610993919081019061a344565b613770565b6040516109a692919061b434565b60405180910390f35b3480156109bb57600080fd5b506109c4613be5565b6040516109d1919061af31565b60405180910390f35b3480156109e657600080fd5b50610a0160048036036109fc919081019061a29c565b613c0b565b604051610a0e919061b52c565b60405180910390f35b348015610a2357600080fd5b50610a2c613e43565b604051610a39919061b5d0565b60405180910390f35b348015610a4e57600080fd5b50610a696004803603610a64919081019061a230565b613ee1565b604051610a76919061b52c565b60405180910390f35b348015610a8b57600080fd5b50610aa66004803603610aa19190810190619f61565b6140df565b604051610ab492919061b577565b60405180910390f35b348015610ac957600080fd5b50610ae46004803603610adf919081019061a230565b614682565b604051610af1919061b52c565b60405180910390f35b348015610b0657600080fd5b50610b0f614880565b604051610b1c919061b5d0565b60405180910390f35b348015610b3157600080fd5b50610b3a61491e565b604051610b47919061b64b565b60405180910390f35b348015610b5c57600080fd5b50610b776004803603610b729190810190619f61565b6149bc565b604051610b8592919061b577565b60405180910390f35b348015610b9a57600080fd5b50610bb56004803603610bb09190810190619e89565b614db3565b604051610bc392919061b5a0565b60405180910390f35b348015610bd857600080fd5b50610be16151af565b604051610bee919061b5d0565b60405180910390f35b348015610c0357600080fd5b50610c0c61524d565b604051610c19919061b5d0565b60405180910390f35b348015610c2e57600080fd5b50610c376152eb565b604051610c44919061b5d0565b60405180910390f35b348015610c5957600080fd5b50610c746004803603610c6f919081019061a08b565b615389565b604051610c81919061b4be565b60405180910390f35b348015610c9657600080fd5b50610c9f615ce0565b604051610cac919061b5d0565b60405180910390f35b348015610cc157600080fd5b50610cca615d7e565b604051610cd7919061af31565b60405180910390f35b348015610cec57600080fd5b50610cf5615da4565b604051610d02919061b5d0565b60405180910390f35b348015610d1757600080fd5b50610d20615e42565b604051610d2d919061b5d0565b60405180910390f35b348015610d4257600080fd5b50610d4b615ee0565b604051610d58919061b9af565b60405180910390f35b348015610d6d57600080fd5b50610d76615ef1565b604051610d83919061b5d0565b60405180910390f35b348015610d9857600080fd5b50610da1615f8f565b604051610dae919061b5d0565b60405180910390f35b348015610dc357600080fd5b50610dde6004803603610dd9919081019061a1dc565b61602d565b604051610deb919061b52c565b60405180910390f35b348015610e0057600080fd5b50610e09616250565b604051610e16919061af31565b60405180910390f35b348015610e2b57600080fd5b50610e34616315565b604051610e41919061b5d0565b60405180910390f35b348015610e5657600080fd5b50610e5f6163b3565b604051610e6c919061b5d0565b60405180910390f35b348015610e8157600080fd5b50610e9c6004803603610e97919081019061a021565b616451565b604051610ea9919061b9af565b60405180910390f35b348015610ebe57600080fd5b50610ec7616764565b604051610ed4919061b5d0565b60405180910390f35b348015610ee957600080fd5b50610f046004803603610eff919081019061a1dc565b616802565b604051610f11919061b5f2565b60405180910390f35b6000806060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f9c919061af31565b602060405180830381600087803b158015610fb657600080fd5b505af1158015610fca573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610fee919081019061a136565b151561102f576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016110269061b6af565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110a6919061af31565b602060405180830381600087803b1580156110c057600080fd5b505af11580156110d4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506110f89190810190619da7565b9550602460008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff16151515611189576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016111809061b68f565b60405180910390fd5b61119c8986616a2490919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161123d949392919061b329565b6040805180830381600087803b15801561125657600080fd5b505af115801561126a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061128e9190810190619e0c565b80945081955050508215156112d8576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016112cf9061b74f","565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161134f919061af31565b602060405180830381600087803b15801561136957600080fd5b505af115801561137d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506113a1919081019061a136565b15156113e2576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016113d99061b6af565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166327033e768a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611459919061af31565b602060405180830381600087803b15801561147357600080fd5b505af1158015611487573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506114ab9190810190619da7565b91508173ffffffffffffffffffffffffffffffffffffffff1663a8cced2030601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660016040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115299392919061b614565b602060405180830381600087803b15801561154357600080fd5b505af1158015611557573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061157b919081019061a136565b5060238690806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001602460008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff0219169083151502179055506001965050505050505092915050565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b6000606060008090505b86518110156116db57602a60009054906101000a900460ff1660ff16600a0a87828151811015156116a757fe5b906020019060200201510287828151811015156116c057fe5b9060200190602002018181525050808060010191505061167a565b6116e88888888888616a40565b92509250509550959350505050565b60098054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561178d5780601f106117625761010080835404028352916020019161178d565b820191906000526020600020905b81548152906001019060200180831161177057829003601f168201915b505050505081565b6000606080600080600086516040519080825280602002602001820160405280156117cf5781602001602082028038833980820191505090505b509350600090505b8651811015611a0957600181148061184a5750600587511480156117fb5750600481145b806118495750868181518110151561180f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b5b156118b657868181518110151561185d57fe5b90602001906020020151848281518110151561187557fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250506119fc565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630e628322888381518110151561190257fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611944919061af31565b6040805180830381600087803b15801561195d57600080fd5b505af1158015611971573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506119959190810190619e0c565b80945081935050508215156119b05760008495509550611a10565b8184828151811015156119bf57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b80806001019150506117d7565b8284955095505b50505050915091565b60028054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611aaf5780601f10611a8457610100808354040283529160200191611aaf565b820191906000526020600020905b815481529060010190602001808311611a9257829003601f168201915b505050505081565b600030905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015611b4757600080fd5b505af1158015611b5b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611b7f9190810190619da7565b905090565b60158054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611c1a5780601f10611bef57610100808354040283529160200191611c1a565b820191906000526020600020905b815481529060010190602001808311611bfd57829003601f168201915b505050505081565b6000806060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611ca1919061af31565b602060405180830381600087803b158015611cbb57600080fd5b505af1158015611ccf573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611cf39190810190619da7565b9350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515611d83576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611d7a9061b8ef565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1686868a6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611e22949392919061b0ae565b6040805180830381600087803b158015611e3b57600080fd5b505af1158015611e4f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611e739190810190619e0c565b8092508193505050801515611ebd576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611eb49061b76f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f34919061af31565b602060405180830381600087803b158015611f4e57600080fd5b505af1158015611f62573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611f86919081019061a136565b1515611fc7576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611fbe9061b6af565b60405180910390fd5b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205494505050505092915050565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061212560038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156121115780601f106120e657610100808354040283529160200191612111565b820191906000526020600020905b8154815290600101906020018083116120f457829003601f168201915b505050505088616d0f90919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612160949392919061af98565b602060405180830381600087803b15801561217a57600080fd5b505af115801561218e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506121b2919081019061a136565b15156121f3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016121ea9061b7ef565b60405180910390fd5b61220782601b616d2390919063ffffffff16565b9050919050565b600061221982616e36565b6027549050919050565b60006060806000806122708a8a8a8a8a6040805190810160405280600a81526020017f7769746864726177616c000000000000000000000000000000000000000000008152506000617085565b995060028951026040519080825280602002602001820160405280156122a55781602001602082028038833980820191505090505b509250600090505b88518110156124de5789816002026003018151811015156122ca57fe5b906020","019060200201519150602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515612364576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161235b9061b8ef565b60405180910390fd5b6123cd898281518110151561237557fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461747c90919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555061243c898281518110151561242157fe5b9060200190602002015160275461747c90919063ffffffff16565b6027819055507f338e424d2d05f70468ec496a5da66a545913d90926ffae6c08c12b9d003ec6cb828a8381518110151561247257fe5b9060200190602002015160405161248a92919061b3e9565b60405180910390a16124d18a828b848151811015156124a557fe5b906020019060200201518a60018d60008151811015156124c157fe5b90602001906020020151896174d3565b80806001019150506122ad565b600183945094505050509550959350505050565b60138054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156125885780601f1061255d57610100808354040283529160200191612588565b820191906000526020600020905b81548152906001019060200180831161256b57829003601f168201915b505050505081565b60006125a8600160215461796290919063ffffffff16565b602181905550602154905090565b602a60009054906101000a900460ff1681565b600060606000806125f5866125e78986616d0f90919063ffffffff16565b616d0f90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061270660048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156126f25780601f106126c7576101008083540402835291602001916126f2565b820191906000526020600020905b8154815290600101906020018083116126d557829003601f168201915b50505050508c616d0f90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161274495949392919061b145565b6040805180830381600087803b15801561275d57600080fd5b505af1158015612771573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127959190810190619e0c565b80925081935050508015156127df576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016127d69061b8cf565b60405180910390fd5b6127f58787601b6179b99092919063ffffffff16565b93505050509392505050565b6000606060008061282d8661281f8986616d0f90919063ffffffff16565b616d0f90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061293e60048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561292a5780601f106128ff5761010080835404028352916020019161292a565b820191906000526020600020905b81548152906001019060200180831161290d57829003601f168201915b50505050508c616d0f90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161297c95949392919061b145565b6040805180830381600087803b15801561299557600080fd5b505af11580156129a9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129cd9190810190619e0c565b8092508193505050801515612a17576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612a0e9061b94f565b60405180910390fd5b612a2d8787601b617bb69092919063ffffffff16565b93505050509392505050565b600080600080612a4885616e36565b600090505b602380549050811015612af457612ae560256000602384815481101515612a7057fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020548361796290919063ffffffff16565b91508080600101915050612a4d565b60275482935093505050915091565b6000602154905090565b60288054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612ba35780601f10612b7857610100808354040283529160200191612ba3565b820191906000526020600020905b815481529060010190602001808311612b8657829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b600b8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612c6b5780601f10612c4057610100808354040283529160200191612c6b565b820191906000526020600020905b815481529060010190602001808311612c4e57829003601f168201915b505050505081565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630612daf60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612d9b5780601f10612d7057610100808354040283529160200191612d9b565b820191906000526020600020905b815481529060010190602001808311612d7e57829003601f168201915b505050505089616d0f90919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612dea949392919061af98565b602060405180830381600087803b158015612e0457600080fd5b505af1158015612e18573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612e3c919081019061a136565b1515612e7d576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612e749061b94f565b60405180910390fd5b612e938383601b617bb69092919063ffffffff16565b905092915050565b600a8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612f315780601f10612f0657610100808354040283529160200191612f31565b820191906000526020600020905b815481529060010190602001808311612f1457829003601f168201915b505050505081565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600d8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612ff55780601f10612fca57610100808354040283529160200191612ff5565b820191906000526020600020905b815481529060010190602001808311612fd857829003601f168201915b505050505081565b60608060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130a6949392919061b269565b6040805180830381600087803b1580156130bf57600080fd5b505af11580156130d3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506130f79190810190619e0c565b8094508195505050821515613141576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016131389061b72f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131b8919061af31565b602060405180830381600087803b1580156131d257600080fd5b505af11580156131e6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061320a919081019061a136565b151561324b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016132429061b6af565b60405180910390fd5b60238054905060405190808252806020026020018201604052801561327f5781602001602082028038833980820191505090505b509150600090505b6023805490508110156133ed57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16","63c4dcade66023838154811015156132e157fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613344919061af31565b602060405180830381600087803b15801561335e57600080fd5b505af1158015613372573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506133969190810190619da7565b82828151811015156133a457fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508080600101915050613287565b8195505050505050919050565b60018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156134905780601f1061346557610100808354040283529160200191613490565b820191906000526020600020905b81548152906001019060200180831161347357829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306135aa60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156135965780601f1061356b57610100808354040283529160200191613596565b820191906000526020600020905b81548152906001019060200180831161357957829003601f168201915b505050505088616d0f90919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016135e5949392919061af98565b602060405180830381600087803b1580156135ff57600080fd5b505af1158015613613573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613637919081019061a136565b1515613678576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161366f9061b96f565b60405180910390fd5b61368c82601b617f1390919063ffffffff16565b9050919050565b60088054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156137295780601f106136fe57610100808354040283529160200191613729565b820191906000526020600020905b81548152906001019060200180831161370c57829003601f168201915b505050505081565b600061373b61972e565b602a60009054906101000a900460ff1660ff16600a0a860295506137628787878787618165565b915091509550959350505050565b60606000606060008060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308a8e6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161381f949392919061b269565b6040805180830381600087803b15801561383857600080fd5b505af115801561384c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138709190810190619e0c565b80965081975050508415156138ba576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016138b19061b72f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a876040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613931919061af31565b602060405180830381600087803b15801561394b57600080fd5b505af115801561395f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613983919081019061a136565b15156139c4576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016139bb9061b6af565b60405180910390fd5b6023805490509350838c101515613a13576000604051908082528060200260200182016040528015613a055781602001602082028038833980820191505090505b508481915098509850613bd6565b613a268b8d61796290919063ffffffff16565b925083831115613a34578392505b8b8303604051908082528060200260200182016040528015613a655781602001602082028038833980820191505090505b5091508b90505b82811015613bcf57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade6602383815481101515613ac157fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613b24919061af31565b602060405180830381600087803b158015613b3e57600080fd5b505af1158015613b52573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613b769190810190619da7565b828d8303815181101515613b8657fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508080600101915050613a6c565b8184985098505b50505050505050935093915050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60006060600080613c3786613c298986616d0f90919063ffffffff16565b616d0f90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630613d4860048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613d345780601f10613d0957610100808354040283529160200191613d34565b820191906000526020600020905b815481529060010190602001808311613d1757829003601f168201915b50505050508c616d0f90919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613d8695949392919061b145565b6040805180830381600087803b158015613d9f57600080fd5b505af1158015613db3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613dd79190810190619e0c565b8092508193505050801515613e21576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613e189061b6ef565b60405180910390fd5b613e378787601b61855c9092919063ffffffff16565b93505050509392505050565b60078054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613ed95780601f10613eae57610100808354040283529160200191613ed9565b820191906000526020600020905b815481529060010190602001808311613ebc57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630613ff360048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613fdf5780601f10613fb457610100808354040283529160200191613fdf565b820191906000526020600020905b815481529060010190602001808311613fc257829003601f168201915b505050505089616d0f90919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161402e949392919061af98565b602060405180830381600087803b15801561404857600080fd5b505af115801561405c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614080919081019061a136565b15156140c1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016140b89061b6ef565b60405180910390fd5b6140d78383601b61855c9092919063ffffffff16565b905092915050565b60006140e961972e565b606060006140f561972e565b6141388a8a8a8a8a6040805190810160405280600881526020017f7472616e73666572000000000000000000000000000000000000000000000000815250618751565b9950602460008b600281518110151561414d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156141e0576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016141d79061b8ef565b60405180910390fd5b602460008b60038151811015156141f357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515614286576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161427d9061b8ef565b60405180910390fd5b6142f089602560008d600281518110151561429d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffff","ffffffffff1681526020019081526020016000205461747c90919063ffffffff16565b602560008c600281518110151561430357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506143b589602560008d600381518110151561436257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461796290919063ffffffff16565b602560008c60038151811015156143c857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555060026040519080825280602002602001820160405280156144405781602001602082028038833980820191505090505b509250600283600081518110151561445457fe5b906020019060200201818152505087600081518110151561447157fe5b9060200190602002015183600181518110151561448a57fe5b90602001906020020181815250507f18f84334255a242551aa98c68047b5da8063eab9fbeaec1eddeea280044b9ff18a60028151811015156144c857fe5b906020019060200201518b60038151811015156144e157fe5b906020019060200201518b6040516144fb9392919061b10e565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8b8b8a876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614580949392919061b464565b606060405180830381600087803b15801561459a57600080fd5b505af11580156145ae573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506145d2919081019061a15f565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc81600060028110151561460a57fe5b602002015182600160028110151561461e57fe5b60200201518c600281518110151561463257fe5b906020019060200201518d600381518110151561464b57fe5b906020019060200201518d60405161466795949392919061b9f3565b60405180910390a18181945094505050509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061479460048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156147805780601f1061475557610100808354040283529160200191614780565b820191906000526020600020905b81548152906001019060200180831161476357829003601f168201915b505050505089616d0f90919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016147cf949392919061af98565b602060405180830381600087803b1580156147e957600080fd5b505af11580156147fd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614821919081019061a136565b1515614862576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016148599061b8cf565b60405180910390fd5b6148788383601b6179b99092919063ffffffff16565b905092915050565b60068054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156149165780601f106148eb57610100808354040283529160200191614916565b820191906000526020600020905b8154815290600101906020018083116148f957829003601f168201915b505050505081565b60298054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156149b45780601f10614989576101008083540402835291602001916149b4565b820191906000526020600020905b81548152906001019060200180831161499757829003601f168201915b505050505081565b60006149c661972e565b6000606060006149d461972e565b614a178b8b8b8b8b6040805190810160405280600a81526020017f7769746864726177616c00000000000000000000000000000000000000000000815250618976565b9a508a6002815181101515614a2857fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515614ac2576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614ab99061b8ef565b60405180910390fd5b614b148a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461747c90919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550614b6c8a60275461747c90919063ffffffff16565b6027819055506002604051908082528060200260200182016040528015614ba25781602001602082028038833980820191505090505b5092506001836000815181101515614bb657fe5b9060200190602002018181525050886000815181101515614bd357fe5b90602001906020020151836001815181101515614bec57fe5b90602001906020020181815250507f338e424d2d05f70468ec496a5da66a545913d90926ffae6c08c12b9d003ec6cb848b604051614c2b92919061b3e9565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8c8c8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614cb0949392919061b464565b606060405180830381600087803b158015614cca57600080fd5b505af1158015614cde573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614d02919081019061a15f565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc816000600281101515614d3a57fe5b6020020151826001600281101515614d4e57fe5b60200201518d6002815181101515614d6257fe5b906020019060200201518e6003815181101515614d7b57fe5b906020019060200201518e604051614d9795949392919061b9f3565b60405180910390a1818195509550505050509550959350505050565b60006060806000806000614e028b8b8b8b8b6040805190810160405280600881526020017f7472616e736665720000000000000000000000000000000000000000000000008152506001617085565b9a5060028a5102604051908082528060200260200182016040528015614e375781602001602082028038833980820191505090505b509350600090505b895181101561519a578a81600202600301815181101515614e5c57fe5b9060200190602002015192508a81600202600401815181101515614e7c57fe5b906020019060200201519150602460008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515614f16576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614f0d9061b8ef565b60405180910390fd5b602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515614fa4576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614f9b9061b8ef565b60405180910390fd5b61500d8a82815181101515614fb557fe5b90602001906020020151602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461747c90919063ffffffff16565b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506150b98a8281518110151561506157fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461796290919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055507f18f84334255a242551aa98c68047b5da8063eab9fbeaec1eddeea280044b9ff183838c8481518110151561512d57fe5b906020019060200201516040516151469392919061b10e565b60405180910390a161518d8b828c8481518110151561516157fe5b906020019060200201518b60028e600081518110151561517d57fe5b906020019060200201518a6174d3565b8080600101915050614e3f565b60018495509550505050509550959350505050565b60148054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156152455780601f1061521a57610100808354040283529160200191615245565b820191906000526020600020905b81548152906001019060200180831161522857829003601f168201915b505050505081565b60128054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156152e35780601f106152b8576101008083540402835291602001916152e3565b820191906000526020600020905b81548152906001","01906020018083116152c657829003601f168201915b505050505081565b60118054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156153815780601f1061535657610100808354040283529160200191615381565b820191906000526020600020905b81548152906001019060200180831161536457829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615436949392919061b389565b6040805180830381600087803b15801561544f57600080fd5b505af1158015615463573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506154879190810190619e0c565b80975081985050508515156154d1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016154c89061b92f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615548919061af31565b602060405180830381600087803b15801561556257600080fd5b505af1158015615576573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061559a919081019061a136565b15156155db576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016155d29061b6af565b60405180910390fd5b60028b5114801561561b57508a60018151811015156155f657fe5b906020019060200201518b600081518110151561560f57fe5b90602001906020020151125b151561565c576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016156539061b7cf565b60405180910390fd5b60008c5111156156d657600093505b8b518410156156d5578b8481518110151561568257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff1614156156c857600194506156d5565b838060010194505061566b565b5b8415156157a957601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d2eef3a1886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615754919061af31565b602060405180830381600087803b15801561576e57600080fd5b505af1158015615782573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506157a6919081019061a136565b94505b8415156157eb576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016157e29061b78f565b60405180910390fd5b6000602380549050141561580157829850615cd0565b60008c511180156158575750600073ffffffffffffffffffffffffffffffffffffffff168c600081518110151561583457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156159fe57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d60008151811015156158a957fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016158eb919061af31565b602060405180830381600087803b15801561590557600080fd5b505af1158015615919573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061593d9190810190619da7565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff16141515156159b1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016159a89061b90f565b60405180910390fd5b818c60008151811015156159c157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c51118015615a545750600073ffffffffffffffffffffffffffffffffffffffff168c6001815181101515615a3157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15615bfb57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d6001815181101515615aa657fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615ae8919061af31565b602060405180830381600087803b158015615b0257600080fd5b505af1158015615b16573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615b3a9190810190619da7565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff1614151515615bae576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615ba59061b6cf565b60405180910390fd5b808c6001815181101515615bbe57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b32cf81b8e8e8e6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615c769392919061b4e0565b600060405180830381600087803b158015615c9057600080fd5b505af1158015615ca4573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250615ccd919081019061a04a565b98505b5050505050505050949350505050565b60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615d765780601f10615d4b57610100808354040283529160200191615d76565b820191906000526020600020905b815481529060010190602001808311615d5957829003601f168201915b505050505081565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60058054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615e3a5780601f10615e0f57610100808354040283529160200191615e3a565b820191906000526020600020905b815481529060010190602001808311615e1d57829003601f168201915b505050505081565b60038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615ed85780601f10615ead57610100808354040283529160200191615ed8565b820191906000526020600020905b815481529060010190602001808311615ebb57829003601f168201915b505050505081565b6000615eec601b618b83565b905090565b600c8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615f875780601f10615f5c57610100808354040283529160200191615f87565b820191906000526020600020905b815481529060010190602001808311615f6a57829003601f168201915b505050505081565b60108054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156160255780601f10615ffa57610100808354040283529160200191616025565b820191906000526020600020905b81548152906001019060200180831161600857829003601f168201915b505050505081565b600060606000806160478684616d0f90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061615860048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156161445780601f1061611957610100808354040283529160200191616144565b820191906000526020600020905b81548152906001019060200180831161612757829003601f168201915b50505050508b616d0f90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161619695949392919061b145565b6040805180830381600087803b1580156161af57600080fd5b505af11580156161c3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506161e79190810190619e0c565b8092508193505050801515616231576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016162289061b96f565b60405180910390fd5b61624586601b617f1390919063ffffffff16565b935050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15","80156162d857600080fd5b505af11580156162ec573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506163109190810190619da7565b905090565b600f8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156163ab5780601f10616380576101008083540402835291602001916163ab565b820191906000526020600020905b81548152906001019060200180831161638e57829003601f168201915b505050505081565b60008054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156164495780601f1061641e57610100808354040283529160200191616449565b820191906000526020600020905b81548152906001019060200180831161642c57829003601f168201915b505050505081565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016164f7949392919061b2c9565b6040805180830381600087803b15801561651057600080fd5b505af1158015616524573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506165489190810190619e0c565b8092508193505050801515616592576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016165899061b80f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616609919061af31565b602060405180830381600087803b15801561662357600080fd5b505af1158015616637573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061665b919081019061a136565b151561669c576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016166939061b6af565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166345be589e6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561672257600080fd5b505af1158015616736573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061675a919081019061a31b565b9350505050919050565b600e8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156167fa5780601f106167cf576101008083540402835291602001916167fa565b820191906000526020600020905b8154815290600101906020018083116167dd57829003601f168201915b505050505081565b60608060008061681b8684616d0f90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061692c60038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156169185780601f106168ed57610100808354040283529160200191616918565b820191906000526020600020905b8154815290600101906020018083116168fb57829003601f168201915b50505050508b616d0f90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161696a95949392919061b145565b6040805180830381600087803b15801561698357600080fd5b505af1158015616997573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506169bb9190810190619e0c565b8092508193505050801515616a05576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016169fc9061b7ef565b60405180910390fd5b616a1986601b616d2390919063ffffffff16565b935050505092915050565b6060616a3883616a3384618b91565b618c70565b905092915050565b6000606080600080616a8d8a8a8a8a8a6040805190810160405280600781526020017f6465706f736974000000000000000000000000000000000000000000000000008152506000617085565b99506002895102604051908082528060200260200182016040528015616ac25781602001602082028038833980820191505090505b509250600090505b8851811015616cfb578981600202600401815181101515616ae757fe5b906020019060200201519150602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515616b81576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616b789061b8ef565b60405180910390fd5b616bea8982815181101515616b9257fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461796290919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550616c598982815181101515616c3e57fe5b9060200190602002015160275461796290919063ffffffff16565b6027819055507fa4039d5990211fad3a15bf41bd09d8f68f647d8c1ab1b8d8500b7d6202087d04828a83815181101515616c8f57fe5b90602001906020020151604051616ca792919061b3e9565b60405180910390a1616cee8a828b84815181101515616cc257fe5b906020019060200201518a60008d6000815181101515616cde57fe5b90602001906020020151896174d3565b8080600101915050616aca565b600183945094505050509550959350505050565b6060616d1b8383618c70565b905092915050565b606082600001826040518082805190602001908083835b602083101515616d5f5780518252602082019150602081019050602083039250616d3a565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616e295780601f10616dfe57610100808354040283529160200191616e29565b820191906000526020600020905b815481529060010190602001808311616e0c57829003601f168201915b5050505050905092915050565b6060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086886040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616eda949392919061b209565b6040805180830381600087803b158015616ef357600080fd5b505af1158015616f07573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616f2b9190810190619e0c565b8092508193505050801515616f75576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616f6c9061b98f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616fec919061af31565b602060405180830381600087803b15801561700657600080fd5b505af115801561701a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061703e919081019061a136565b151561707f576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016170769061b6af565b60405180910390fd5b50505050565b60608060008060006170998c8c8c8c618e41565b93506170a48c618ff6565b9b50601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1688617112573061712c565b8e600381518110151561712157fe5b906020019060200201515b8a888d6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161716b95949392919061afe4565b6040805180830381600087803b15801561718457600080fd5b505af1158015617198573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506171bc9190810190619e0c565b80935081945050508161720d886040805190810160405280600a81526020017f466f7262696464656e200000000000000000000000000000000000000000000081525061929690919063ffffffff16565b901515617250576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401617247919061b66d565b60405180910390fd5b50851561746a57600590505b8b51811015617469578b600381518110151561727457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168c828151811015156172a257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614151561745e57601e6000","9054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2984601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168f8581518110151561733957fe5b906020019060200201518b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161737f949392919061af4c565b602060405180830381600087803b15801561739957600080fd5b505af11580156173ad573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506173d1919081019061a136565b617419886040805190810160405280600a81526020017f466f7262696464656e200000000000000000000000000000000000000000000081525061929690919063ffffffff16565b90151561745c576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401617453919061b66d565b60405180910390fd5b505b60028101905061725c565b5b8b945050505050979650505050505050565b6000808383111515156174c4576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016174bb9061b8af565b60405180910390fd5b82840390508091505092915050565b60608060006174e061972e565b60056040519080825280602002602001820160405280156175105781602001602082028038833980820191505090505b5093508a600081518110151561752257fe5b9060200190602002015184600081518110151561753b57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a600181518110151561758657fe5b9060200190602002015184600181518110151561759f57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a8a6002026003018151811015156175ef57fe5b9060200190602002015184600281518110151561760857fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a8a60020260040181518110151561765857fe5b9060200190602002015184600381518110151561767157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a60028151811015156176bc57fe5b906020019060200201518460048151811015156176d557fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff168152505060026040519080825280602002602001820160405280156177415781602001602082028038833980820191505090505b5092508683600081518110151561775457fe5b90602001906020020181815250508583600181518110151561777257fe5b9060200190602002018181525050602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e858b8b876040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016177fd949392919061b464565b606060405180830381600087803b15801561781757600080fd5b505af115801561782b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061784f919081019061a15f565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc81600060028110151561788757fe5b602002015182600160028110151561789b57fe5b60200201518660028151811015156178af57fe5b906020019060200201518760038151811015156178c857fe5b906020019060200201518d6040516178e495949392919061b9f3565b60405180910390a18060006002811015156178fb57fe5b6020020151858b60020281518110151561791157fe5b906020019060200201818152505080600160028110151561792e57fe5b60200201518560018c6002020181518110151561794757fe5b90602001906020020181815250505050505050505050505050565b60008082840190508381101515156179af576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016179a69061b7af565b60405180910390fd5b8091505092915050565b60008084600001846040518082805190602001908083835b6020831015156179f657805182526020820191506020810190506020830392506179d1565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115617ba9577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b602083101515617acc5780518252602082019150602081019050602083039250617aa7565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051617b1395949392919061b046565b60405180910390a18285600001856040518082805190602001908083835b602083101515617b565780518252602082019150602081019050602083039250617b31565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190617b9f929190619750565b5060019150617bae565b600091505b509392505050565b60008084600001846040518082805190602001908083835b602083101515617bf35780518252602082019150602081019050602083039250617bce565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115617da6577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b602083101515617cc95780518252602082019150602081019050602083039250617ca4565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051617d1095949392919061b046565b60405180910390a18285600001856040518082805190602001908083835b602083101515617d535780518252602082019150602081019050602083039250617d2e565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190617d9c929190619750565b5060019150617f0b565b8285600001856040518082805190602001908083835b602083101515617de15780518252602082019150602081019050602083039250617dbc565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190617e2a929190619750565b50846001018054809190600101617e4191906197d0565b90506001810185600001856040518082805190602001908083835b602083101515617e815780518252602082019150602081019050602083039250617e5c565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515617ecd57fe5b90600052602060002090600202016000019080519060200190617ef1929190619750565b508460020160008154809291906001019190505550600091505b509392505050565b60008083600001836040518082805190602001908083835b602083101515617f505780518252602082019150602081019050602083039250617f2b565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811415617f9b576000915061815e565b7fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b60208310151561802f578051825260208201915060208101905060208303925061800a565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405161807695949392919061b046565b60405180910390a183600001836040518082805190602001908083835b6020831015156180b85780518252602082019150602081019050602083039250618093565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000808201600090556001820160006181049190619802565b50506001846001016001830381548110151561811c57fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b600061816f61972e565b60006060600061817d61972e565b6181c08b8b8b8b8b6040805190810160405280600781526020017f6465706f73697400000000000000000000000000000000000000000000000000815250618976565b9a508a60038151811015156181d157fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff16151561826b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016182629061b8ef565b60405180910390fd5b6182bd8a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461796290919063ffffffff16565b602560008673ffffffffffffffffffff","ffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506183158a60275461796290919063ffffffff16565b602781905550600260405190808252806020026020018201604052801561834b5781602001602082028038833980820191505090505b509250600083600081518110151561835f57fe5b906020019060200201818152505088600081518110151561837c57fe5b9060200190602002015183600181518110151561839557fe5b90602001906020020181815250507fa4039d5990211fad3a15bf41bd09d8f68f647d8c1ab1b8d8500b7d6202087d04848b6040516183d492919061b3e9565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8c8c8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401618459949392919061b464565b606060405180830381600087803b15801561847357600080fd5b505af1158015618487573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506184ab919081019061a15f565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc8160006002811015156184e357fe5b60200201518260016002811015156184f757fe5b60200201518d600281518110151561850b57fe5b906020019060200201518e600381518110151561852457fe5b906020019060200201518e60405161854095949392919061b9f3565b60405180910390a1818195509550505050509550959350505050565b60008084600001846040518082805190602001908083835b6020831015156185995780518252602082019150602081019050602083039250618574565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156185e45760009150618749565b8285600001856040518082805190602001908083835b60208310151561861f57805182526020820191506020810190506020830392506185fa565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190618668929190619750565b5084600101805480919060010161867f91906197d0565b90506001810185600001856040518082805190602001908083835b6020831015156186bf578051825260208201915060208101905060208303925061869a565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000018190555083856001018281548110151561870b57fe5b9060005260206000209060020201600001908051906020019061872f929190619750565b508460020160008154809291906001019190505550600191505b509392505050565b6060600060606000806187648a89619467565b506187718b8b8b8b6195c8565b925061877c8b611795565b809c5081955050508315156187c6576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016187bd9061b84f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168d600281518110151561883657fe5b9060200190602002015189878c6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161887f95949392919061afe4565b6040805180830381600087803b15801561889857600080fd5b505af11580156188ac573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506188d09190810190619e0c565b809250819350505080618921876040805190810160405280600a81526020017f466f7262696464656e200000000000000000000000000000000000000000000081525061929690919063ffffffff16565b901515618964576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161895b919061b66d565b60405180910390fd5b508a9450505050509695505050505050565b6060600060606000806189898a89619467565b506189968b8b8b8b6195c8565b92506189a18b611795565b809c5081955050508315156189eb576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016189e29061b84f565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163089878c6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401618a8c95949392919061b1a7565b6040805180830381600087803b158015618aa557600080fd5b505af1158015618ab9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250618add9190810190619e0c565b809250819350505080618b2e876040805190810160405280600a81526020017f466f7262696464656e200000000000000000000000000000000000000000000081525061929690919063ffffffff16565b901515618b71576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401618b68919061b66d565b60405180910390fd5b508a9450505050509695505050505050565b600081600201549050919050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f191660200182016040528015618bdc5781602001602082028038833980820191505090505b509250600090505b6014811015618c69578181601481101515618bfb57fe5b1a7f0100000000000000000000000000000000000000000000000000000000000000028382815181101515618c2c57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050618be4565b5050919050565b606080606080606060008088955087945084518651016040519080825280601f01601f191660200182016040528015618cb85781602001602082028038833980820191505090505b50935083925060009150600090505b8551811015618d7a578581815181101515618cde57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515618d3d57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050618cc7565b600090505b8451811015618e32578481815181101515618d9657fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515618df557fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050618d7f565b83965050505050505092915050565b6060806000806000806000808a51118015618e63575089516002026003018b51145b1515618ea4576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401618e9b9061b86f565b60405180910390fd5b600094505b8a51851015618eeb57618edc8b86815181101515618ec357fe5b9060200190602002015187616a2490919063ffffffff16565b95508480600101955050618ea9565b600093505b8951841015618f5457618f1a8a85815181101515618f0a57fe5b9060200190602002015189619467565b50618f458a85815181101515618f2c57fe5b90602001906020020151876196ce90919063ffffffff16565b95508380600101945050618ef0565b600092505b8851831015618f9e578883815181101515618f7057fe5b906020019060200201519150618f8f82876196ce90919063ffffffff16565b95508280600101935050618f59565b600090505b8751811015618fe557618fd68882815181101515618fbd57fe5b9060200190602002015187616d0f90919063ffffffff16565b95508080600101915050618fa3565b859650505050505050949350505050565b6060806000806000855160405190808252806020026020018201604052801561902e5781602001602082028038833980820191505090505b509350600090505b855181101561928a57600181148061904e5750600281145b8061909c5750858181518110151561906257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b156191085785818151811015156190af57fe5b9060200190602002015184828151811015156190c757fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff168152505061927d565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630e628322878381518110151561915457fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401619196919061af31565b6040805180830381600087803b1580156191af57600080fd5b505af11580156191c3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506191e79190810190619e0c565b8093508194505050811515619231576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016192289061b84f565b60405180910390fd5b82848281518110151561924057fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8080600101915050619036565b83945050505050919050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156192de5781602001","602082028038833980820191505090505b50935083925060009150600090505b85518110156193a057858181518110151561930457fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561936357fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506192ed565b600090505b84518110156194585784818151811015156193bc57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561941b57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506193a5565b83965050505050505092915050565b600080831115156194ad576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016194a49061b70f565b60405180910390fd5b60008260008151811015156194be57fe5b90602001906020020151511180156194ef575060ff8260008151811015156194e257fe5b9060200190602002015151105b1515619530576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016195279061b82f565b60405180910390fd5b6001825111156195be57600082600181518110151561954b57fe5b906020019060200201515111801561957c575060ff82600181518110151561956f57fe5b9060200190602002015151105b15156195bd576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016195b49061b88f565b60405180910390fd5b5b6001905092915050565b606080600080600080600093505b8951841015619618576196098a858151811015156195f057fe5b9060200190602002015186616a2490919063ffffffff16565b945083806001019450506195d6565b61962b89866196ce90919063ffffffff16565b9450600092505b875183101561967757878381518110151561964957fe5b90602001906020020151915061966882866196ce90919063ffffffff16565b94508280600101935050619632565b600090505b86518110156196be576196af878281518110151561969657fe5b9060200190602002015186616d0f90919063ffffffff16565b9450808060010191505061967c565b8495505050505050949350505050565b60606196e2836196dd846196ea565b618c70565b905092915050565b606060206040519080825280601f01601f1916602001820160405280156197205781602001602082028038833980820191505090505b509050816020820152919050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f1061979157805160ff19168380011785556197bf565b828001600101855582156197bf579182015b828111156197be5782518255916020019190600101906197a3565b5b5090506197cc919061984a565b5090565b8154818355818111156197fd576002028160020283600052602060002091820191016197fc919061986f565b5b505050565b50805460018160011615610100020316600290046000825580601f106198285750619847565b601f016020900490600052602060002090810190619846919061984a565b5b50565b61986c91905b80821115619868576000816000905550600101619850565b5090565b90565b6198af91905b808211156198ab576000808201600061988e9190619802565b6001820160006101000a81549060ff021916905550600201619875565b5090565b90565b60006198be823561bd37565b905092915050565b60006198d2825161bd37565b905092915050565b600082601f83011215156198ed57600080fd5b81356199006198fb8261ba8e565b61ba61565b9150818183526020840193506020810190508385602084028201111561992557600080fd5b60005b83811015619955578161993b88826198b2565b845260208401935060208301925050600181019050619928565b5050505092915050565b600082601f830112151561997257600080fd5b60046199856199808261bab6565b61ba61565b9150818385602084028201111561999b57600080fd5b60005b838110156199cb57816199b18882619c55565b84526020840193506020830192505060018101905061999e565b5050505092915050565b600082601f83011215156199e857600080fd5b81356199fb6199f68261bad8565b61ba61565b91508181835260208401935060208101905083856020840282011115619a2057600080fd5b60005b83811015619a505781619a368882619cbf565b845260208401935060208301925050600181019050619a23565b5050505092915050565b600082601f8301121515619a6d57600080fd5b8135619a80619a7b8261bb00565b61ba61565b9150818183526020840193506020810190508360005b83811015619ac65781358601619aac8882619cd3565b845260208401935060208301925050600181019050619a96565b5050505092915050565b600082601f8301121515619ae357600080fd5b8151619af6619af18261bb00565b61ba61565b9150818183526020840193506020810190508360005b83811015619b3c5781518601619b228882619d29565b845260208401935060208301925050600181019050619b0c565b5050505092915050565b600082601f8301121515619b5957600080fd5b6002619b6c619b678261bb28565b61ba61565b91508183856020840282011115619b8257600080fd5b60005b83811015619bb25781619b988882619d93565b845260208401935060208301925050600181019050619b85565b5050505092915050565b600082601f8301121515619bcf57600080fd5b8135619be2619bdd8261bb4a565b61ba61565b91508181835260208401935060208101905083856020840282011115619c0757600080fd5b60005b83811015619c375781619c1d8882619d7f565b845260208401935060208301925050600181019050619c0a565b5050505092915050565b6000619c4d825161bd57565b905092915050565b6000619c61823561bd63565b905092915050565b600082601f8301121515619c7c57600080fd5b8135619c8f619c8a8261bb72565b61ba61565b91508082526020830160208301858383011115619cab57600080fd5b619cb683828461bda5565b50505092915050565b6000619ccb823561bd6d565b905092915050565b600082601f8301121515619ce657600080fd5b8135619cf9619cf48261bb9e565b61ba61565b91508082526020830160208301858383011115619d1557600080fd5b619d2083828461bda5565b50505092915050565b600082601f8301121515619d3c57600080fd5b8151619d4f619d4a8261bb9e565b61ba61565b91508082526020830160208301858383011115619d6b57600080fd5b619d7683828461bdb4565b50505092915050565b6000619d8b823561bd77565b905092915050565b6000619d9f825161bd77565b905092915050565b600060208284031215619db957600080fd5b6000619dc7848285016198c6565b91505092915050565b60008060a08385031215619de357600080fd5b6000619df1858286016198b2565b9250506020619e028582860161995f565b9150509250929050565b60008060408385031215619e1f57600080fd5b6000619e2d858286016198c6565b9250506020619e3e85828601619c41565b9150509250929050565b600060208284031215619e5a57600080fd5b600082013567ffffffffffffffff811115619e7457600080fd5b619e80848285016198da565b91505092915050565b60008060008060006101008688031215619ea257600080fd5b600086013567ffffffffffffffff811115619ebc57600080fd5b619ec8888289016198da565b955050602086013567ffffffffffffffff811115619ee557600080fd5b619ef188828901619bbc565b945050604086013567ffffffffffffffff811115619f0e57600080fd5b619f1a888289016199d5565b935050606086013567ffffffffffffffff811115619f3757600080fd5b619f4388828901619a5a565b9250506080619f548882890161995f565b9150509295509295909350565b60008060008060006101008688031215619f7a57600080fd5b600086013567ffffffffffffffff811115619f9457600080fd5b619fa0888289016198da565b9550506020619fb188828901619d7f565b945050604086013567ffffffffffffffff811115619fce57600080fd5b619fda888289016199d5565b935050606086013567ffffffffffffffff811115619ff757600080fd5b61a00388828901619a5a565b925050608061a0148882890161995f565b9150509295509295909350565b60006080828403121561a03357600080fd5b600061a0418482850161995f565b91505092915050565b60006020828403121561a05c57600080fd5b600082015167ffffffffffffffff81111561a07657600080fd5b61a08284828501619ad0565b91505092915050565b60008060008060e0858703121561a0a157600080fd5b600085013567ffffffffffffffff81111561a0bb57600080fd5b61a0c787828801619bbc565b945050602085013567ffffffffffffffff81111561a0e457600080fd5b61a0f0878288016198da565b935050604085013567ffffffffffffffff81111561a10d57600080fd5b61a119878288016199d5565b925050606061a12a8782880161995f565b91505092959194509250565b60006020828403121561a14857600080fd5b600061a15684828501619c41565b91505092915050565b6000806060838503121561a17257600080fd5b600061a18085828601619c41565b925050602061a19185828601619b46565b9150509250929050565b60006020828403121561a1ad57600080fd5b600082013567ffffffffffffffff81111561a1c757600080fd5b61a1d384828501619c69565b91505092915050565b60008060a0838503121561a1ef57600080fd5b600083013567ffffffffffffffff81111561a20957600080fd5b61a21585828601619c69565b925050602061a2268582860161995f565b9150509250929050565b6000806040838503121561a24357600080fd5b600083013567ffffffffffffffff81111561a25d57600080fd5b61a26985828601619c69565b925050602083013567ffffffffffffffff81111561a28657600080fd5b61a29285828601619c69565b9150509250929050565b600080600060c0848603121561a2b157600080fd5b600084013567ffffffffffffffff81111561a2cb57600080fd5b61a2","d786828701619c69565b935050602084013567ffffffffffffffff81111561a2f457600080fd5b61a30086828701619c69565b925050604061a3118682870161995f565b9150509250925092565b60006020828403121561a32d57600080fd5b600061a33b84828501619d93565b91505092915050565b600080600060c0848603121561a35957600080fd5b600061a36786828701619d7f565b935050602061a37886828701619d7f565b925050604061a3898682870161995f565b9150509250925092565b61a39c8161bce0565b82525050565b600061a3ad8261bc24565b80845260208401935061a3bf8361bbca565b60005b8281101561a3f15761a3d586835161a393565b61a3de8261bc92565b915060208601955060018101905061a3c2565b50849250505092915050565b61a4068161bc2f565b61a40f8261bbd7565b60005b8281101561a4415761a42585835161a5c6565b61a42e8261bc9f565b915060208501945060018101905061a412565b5050505050565b600061a4538261bc3a565b80845260208401935061a4658361bbe1565b60005b8281101561a4975761a47b86835161a6e5565b61a4848261bcac565b915060208601955060018101905061a468565b50849250505092915050565b600061a4ae8261bc45565b8084526020840193508360208202850161a4c78561bbee565b60005b8481101561a50057838303885261a4e283835161a72a565b925061a4ed8261bcb9565b915060208801975060018101905061a4ca565b508196508694505050505092915050565b61a51a8161bc50565b61a5238261bbfb565b60005b8281101561a5555761a53985835161af13565b61a5428261bcc6565b915060208501945060018101905061a526565b5050505050565b600061a5678261bc5b565b80845260208401935061a5798361bc05565b60005b8281101561a5ab5761a58f86835161af13565b61a5988261bcd3565b915060208601955060018101905061a57c565b50849250505092915050565b61a5c08161bd00565b82525050565b61a5cf8161bd0c565b82525050565b600061a5e08261bc71565b80845261a5f481602086016020860161bdb4565b61a5fd8161bde7565b602085010191505092915050565b600061a6168261bc66565b80845261a62a81602086016020860161bdb4565b61a6338161bde7565b602085010191505092915050565b60008154600181166000811461a65e576001811461a67e5761a6bf565b607f600283041680865260ff19831660208701526040860193505061a6bf565b6002820480865260208601955061a6948561bc12565b60005b8281101561a6b65781548189015260018201915060208101905061a697565b80880195505050505b505092915050565b61a6d08161bd81565b82525050565b61a6df8161bd93565b82525050565b61a6ee8161bd16565b82525050565b600061a6ff8261bc87565b80845261a71381602086016020860161bdb4565b61a71c8161bde7565b602085010191505092915050565b600061a7358261bc7c565b80845261a74981602086016020860161bdb4565b61a7528161bde7565b602085010191505092915050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000600a82527f67657442616c616e6365000000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601782527f616d6f756e743c3d30206973206e6f74207665726966790000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000600f82527f676574546f74616c42616c616e636500000000000000000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e2067657442616c616e63650000000000000000000000006020830152604082019050919050565b6000602c82527f466f7262696464656e207175657279426f6f6b206265636175736520796f752060208301527f6172656e2774206f776e657200000000000000000000000000000000000000006040830152606082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000602682527f546865206c656e677468206f662064657363206279746573206973207769746860208301527f696e2032353500000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000600f82527f6c656773206e6f742076657269667900000000000000000000000000000000006020830152604082019050919050565b6000602982527f546865206c656e677468206f66207375626a656374206279746573206973207760208301527f697468696e2032353500000000000000000000000000000000000000000000006040830152606082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000601f82527f676574546f74616c42616c616e636520676574546f74616c42616c616e6365006020830152604082019050919050565b61af1c8161bd20565b82525050565b61af2b8161bd2a565b82525050565b600060208201905061af46600083018461a393565b92915050565b600060808201905061af61600083018761a393565b61af6e602083018661a393565b61af7b604083018561a393565b818103606083015261af8d818461a60b565b905095945050505050565b600060808201905061afad600083018761a393565b61afba602083018661a393565b61afc7604083018561a393565b818103606083015261afd9818461a5d5565b905095945050505050565b60006101008201905061affa600083018861a393565b61b007602083018761a393565b818103604083015261b019818661a60b565b9050818103606083015261b02d818561a5d5565b905061b03c608083018461a3fd565b9695505050505050565b600060a08201905061b05b600083018861a393565b61b068602083018761a393565b818103604083015261b07a818661a60b565b9050818103606083015261b08e818561a5d5565b9050818103608083015261b0a2818461a641565b90509695505050505050565b60006101008201905061b0c4600083018761a393565b61b0d1602083018661a393565b818103604083015261b0e28161a82b565b9050818103606083015261b0f6818561a5d5565b905061b105608083018461a3fd565b95945050505050565b600060608201905061b123600083018661a393565b61b130602083018561a393565b61b13d604083018461af13565b949350505050565b60006101008201905061b15b600083018861a393565b61b168602083018761a6c7565b818103604083015261b17a818661a5d5565b9050818103606083015261b18e818561a5d5565b905061b19d608083018461a3fd565b9695505050505050565b60006101008201905061b1bd600083018861a393565b61b1ca602083018761a6d6565b818103604083015261b1dc818661a60b565b9050818103606083015261b1f0818561a5d5565b905061b1ff608083018461a3fd565b9695505050505050565b60006101008201905061b21f600083018761a393565b61b22c602083018661a6d6565b818103604083015261b23d8161a907565b9050818103606083015261b251818561a5d5565b905061b260608083018461a3fd565b95945050505050565b60006101008201905061b27f600083018761a393565b61b28c602083018661a6d6565b818103604083015261b29d8161a93e565b9050818103606083015261b2b1818561a5d5565b905061b2c0608083018461a3fd565b95945050505050565b60006101","008201905061b2df600083018761a393565b61b2ec602083018661a6d6565b818103604083015261b2fd8161ab31565b9050818103606083015261b311818561a5d5565b905061b320608083018461a3fd565b95945050505050565b60006101008201905061b33f600083018761a393565b61b34c602083018661a6d6565b818103604083015261b35d8161ae37565b9050818103606083015261b371818561a5d5565b905061b380608083018461a3fd565b95945050505050565b60006101008201905061b39f600083018761a393565b61b3ac602083018661a6d6565b818103604083015261b3bd8161aea5565b9050818103606083015261b3d1818561a5d5565b905061b3e0608083018461a3fd565b95945050505050565b600060408201905061b3fe600083018561a393565b61b40b602083018461af13565b9392505050565b6000602082019050818103600083015261b42c818461a3a2565b905092915050565b6000604082019050818103600083015261b44e818561a3a2565b905061b45d602083018461af13565b9392505050565b6000608082019050818103600083015261b47e818761a3a2565b905061b48d602083018661af13565b818103604083015261b49f818561a4a3565b9050818103606083015261b4b3818461a448565b905095945050505050565b6000602082019050818103600083015261b4d8818461a4a3565b905092915050565b6000606082019050818103600083015261b4fa818661a55c565b9050818103602083015261b50e818561a3a2565b9050818103604083015261b522818461a448565b9050949350505050565b600060208201905061b541600083018461a5b7565b92915050565b600060408201905061b55c600083018561a5b7565b818103602083015261b56e818461a3a2565b90509392505050565b600060608201905061b58c600083018561a5b7565b61b599602083018461a511565b9392505050565b600060408201905061b5b5600083018561a5b7565b818103602083015261b5c7818461a55c565b90509392505050565b6000602082019050818103600083015261b5ea818461a60b565b905092915050565b6000602082019050818103600083015261b60c818461a5d5565b905092915050565b600060608201905061b629600083018661a6d6565b61b636602083018561a393565b61b643604083018461a5b7565b949350505050565b6000602082019050818103600083015261b665818461a72a565b905092915050565b6000602082019050818103600083015261b687818461a6f4565b905092915050565b6000602082019050818103600083015261b6a88161a760565b9050919050565b6000602082019050818103600083015261b6c88161a797565b9050919050565b6000602082019050818103600083015261b6e88161a7f4565b9050919050565b6000602082019050818103600083015261b7088161a862565b9050919050565b6000602082019050818103600083015261b7288161a899565b9050919050565b6000602082019050818103600083015261b7488161a8d0565b9050919050565b6000602082019050818103600083015261b7688161a975565b9050919050565b6000602082019050818103600083015261b7888161a9ac565b9050919050565b6000602082019050818103600083015261b7a88161a9e3565b9050919050565b6000602082019050818103600083015261b7c88161aa40565b9050919050565b6000602082019050818103600083015261b7e88161aa77565b9050919050565b6000602082019050818103600083015261b8088161aafa565b9050919050565b6000602082019050818103600083015261b8288161ab68565b9050919050565b6000602082019050818103600083015261b8488161ab9f565b9050919050565b6000602082019050818103600083015261b8688161abfc565b9050919050565b6000602082019050818103600083015261b8888161ac59565b9050919050565b6000602082019050818103600083015261b8a88161ac90565b9050919050565b6000602082019050818103600083015261b8c88161aced565b9050919050565b6000602082019050818103600083015261b8e88161ad24565b9050919050565b6000602082019050818103600083015261b9088161ad5b565b9050919050565b6000602082019050818103600083015261b9288161ad92565b9050919050565b6000602082019050818103600083015261b9488161adc9565b9050919050565b6000602082019050818103600083015261b9688161ae00565b9050919050565b6000602082019050818103600083015261b9888161ae6e565b9050919050565b6000602082019050818103600083015261b9a88161aedc565b9050919050565b600060208201905061b9c4600083018461af13565b92915050565b600060408201905061b9df600083018561af13565b61b9ec602083018461af13565b9392505050565b600060a08201905061ba08600083018861af13565b61ba15602083018761af13565b61ba22604083018661a393565b61ba2f606083018561a393565b61ba3c608083018461af13565b9695505050505050565b600060208201905061ba5b600083018461af22565b92915050565b6000604051905081810181811067ffffffffffffffff8211171561ba8457600080fd5b8060405250919050565b600067ffffffffffffffff82111561baa557600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561bacd57600080fd5b602082029050919050565b600067ffffffffffffffff82111561baef57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561bb1757600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561bb3f57600080fd5b602082029050919050565b600067ffffffffffffffff82111561bb6157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561bb8957600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111561bbb557600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600061bd8c8261bce0565b9050919050565b600061bd9e8261bce0565b9050919050565b82818337600083830152505050565b60005b8381101561bdd257808201518184015260208101905061bdb7565b8381111561bde1576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a723058207a5575a90ffd0583ff125c3034a03ce579b10496dcbabe542baf6dc076d365e76c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b506040516200593638038062005936833981018060405262000037919081019062000354565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600a9080519060200190620000ff9291906200021b565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c92a7801600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a91906200055d565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d09190810190620003c3565b5080600b60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505062000678565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200025e57805160ff19168380011785556200028f565b828001600101855582156200028f579182015b828111156200028e57825182559160200191906001019062000271565b5b5090506200029e9190620002a2565b5090565b620002c791905b80821115620002c3576000816000905550600101620002a9565b5090565b90565b6000620002d8825162000618565b905092915050565b6000620002ee825162000638565b905092915050565b600082601f83011215156200030a57600080fd5b8151620003216200031b82620005d9565b620005ab565b915080825260208301602083018583830111156200033e57600080fd5b6200034b83828462000642565b50505092915050565b6000806000606084860312156200036a57600080fd5b60006200037a86828701620002ca565b935050602084015167ffffffffffffffff8111156200039857600080fd5b620003a686828701620002f6565b9250506040620003b986828701620002ca565b9150509250925092565b600060208284031215620003d657600080fd5b6000620003e684828501620002e0565b91505092915050565b6000815460018116600081146200040f5760018114620004305762000475565b607f600283041680865260ff19831660208701526040860193505062000475565b60028204808652602086019550620004488562000606565b60005b828110156200046c578154818901526001820191506020810190506200044b565b80880195505050505b505092915050565b6000600782527f626f6f6b5f6e6f00000000000000000000000000000000","0000000000000000006020830152604082019050919050565b6000606482527f7465726d5f6e6f2c7365712c66726f6d2c746f2c616d6f756e742c617373657460208301527f2c6f70657261746f722c646573632c7472616e73616374696f6e5f747970652c60408301527f6f7065726174696f6e5f747970652c7375626a6563742c72656c617465645f6160608301527f7373657400000000000000000000000000000000000000000000000000000000608083015260a082019050919050565b60006060820190508181036000830152620005798184620003ef565b905081810360208301526200058e816200047d565b90508181036040830152620005a381620004b4565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005cf57600080fd5b8060405250919050565b600067ffffffffffffffff821115620005f157600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b838110156200066257808201518184015260208101905062000645565b8381111562000672576000848401525b50505050565b6152ae80620006886000396000f300608060405260043610610062576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806311567c421461006757806318768d1e1461009257806345be589e146100d0578063b32cf81b146100fb575b600080fd5b34801561007357600080fd5b5061007c610138565b6040516100899190614945565b60405180910390f35b34801561009e57600080fd5b506100b960048036036100b4919081019061405e565b610140565b6040516100c7929190614982565b60405180910390f35b3480156100dc57600080fd5b506100e56105d1565b6040516100f29190614f3f565b60405180910390f35b34801561010757600080fd5b50610122600480360361011d9190810190614109565b61062e565b60405161012f9190614960565b60405180910390f35b600030905090565b600061014a613c9a565b60006060600080600061015b613c9a565b60048c511015801561016e575060028951145b15156101af576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016101a690614d6b565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631bf727356040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801561023457600080fd5b505af1158015610248573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061027191908101906142d7565b80965081975050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bd332ffe6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156102fe57600080fd5b505af1158015610312573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061033691908101906142ae565b935061034686858e8e8e8e610cef565b9250600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016103c09190614a4f565b602060405180830381600087803b1580156103da57600080fd5b505af11580156103ee573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610412919081019061421b565b915060018273ffffffffffffffffffffffffffffffffffffffff16634c6f30c061045c600260016002805490500381548110151561044c57fe5b90600052602060002001546116b9565b866040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610496929190614a1f565b602060405180830381600087803b1580156104b057600080fd5b505af11580156104c4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104e89190810190614244565b14151561052a576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161052190614bfe565b60405180910390fd5b61053586858e611810565b60408051908101604052808781526020018581525090507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc86858e600281518110151561057e57fe5b906020019060200201518f600381518110151561059757fe5b906020019060200201518f6040516105b3959493929190614f5a565b60405180910390a16001819750975050505050505094509492505050565b600060026001600280549050019080600181540180825580915050906001820390600052602060002001600090919290919091505550600260016002805490500381548110151561061e57fe5b9060005260206000200154905090565b60606000606060006060600080606060008b51118061064e575060008a51115b151561068f576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161068690614d6b565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107079190614a4f565b602060405180830381600087803b15801561072157600080fd5b505af1158015610735573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610759919081019061421b565b96506107658b8b611dca565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156107d157600080fd5b505af11580156107e5573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061080991908101906141a0565b92506000915060008b51118015610839575060008b600081518110151561082c57fe5b9060200190602002015114155b156108e6578273ffffffffffffffffffffffffffffffffffffffff1663ae763db561087b8d600081518110151561086c57fe5b906020019060200201516116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108b39190614d36565b600060405180830381600087803b1580156108cd57600080fd5b505af11580156108e1573d6000803e3d6000fd5b505050505b60018b51118015610910575060008b600181518110151561090357fe5b9060200190602002015114155b156109bd578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56109528d600181518110151561094357fe5b906020019060200201516116b9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161098a9190614b74565b600060405180830381600087803b1580156109a457600080fd5b505af11580156109b8573d6000803e3d6000fd5b505050505b60008a51118015610a135750600073ffffffffffffffffffffffffffffffffffffffff168a60008151811015156109f057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610ad6578273ffffffffffffffffffffffffffffffffffffffff1663ae763db5610a6b8c6000815181101515610a4657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610aa39190614bc9565b600060405180830381600087803b158015610abd57600080fd5b505af1158015610ad1573d6000803e3d6000fd5b505050505b60018a51118015610b2c5750600073ffffffffffffffffffffffffffffffffffffffff168a6001815181101515610b0957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610bef578273ffffffffffffffffffffffffffffffffffffffff1663ae763db5610b848c6001815181101515610b5f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610bbc9190614eb5565b600060405180830381600087803b158015610bd657600080fd5b505af1158015610bea573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff1663324927378a6000815181101515610c1a57fe5b906020019060200201518b6001815181101515610c3357fe5b906020019060200201516040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c769291906149c6565b600060405180830381600087803b158015610c9057600080fd5b505af1158015610ca4573d6000803e3d6000fd5b50505050610cb38686856125c2565b809350819250505060008151118015610ccc5750600082135b15610cde57610cdb81836128ca565b93505b839750505050505050509392505050565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610d6c9190614a4f565b602060405180830381600087803b158015610d8657600080fd5b505af1158015610d9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610dbe919081019061421b565b91508173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381","600087803b158015610e2457600080fd5b505af1158015610e38573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e5c91908101906141f2565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610ea46002600160028054905003815481101515610e9457fe5b90600052602060002001546116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610edc9190614ce1565b600060405180830381600087803b158015610ef657600080fd5b505af1158015610f0a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610f338a6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f6b9190614b74565b600060405180830381600087803b158015610f8557600080fd5b505af1158015610f99573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610fc28b6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ffa9190614d36565b600060405180830381600087803b15801561101457600080fd5b505af1158015611028573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461107f89600281518110151561105a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110b79190614bc9565b600060405180830381600087803b1580156110d157600080fd5b505af11580156110e5573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461113c89600381518110151561111757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111749190614eb5565b600060405180830381600087803b15801561118e57600080fd5b505af11580156111a2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98860018151811015156111d157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112139190614c93565b600060405180830381600087803b15801561122d57600080fd5b505af1158015611241573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461126a886116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112a29190614c3e565b600060405180830381600087803b1580156112bc57600080fd5b505af11580156112d0573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98860008151811015156112ff57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113419190614b06565b600060405180830381600087803b15801561135b57600080fd5b505af115801561136f573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb486600081518110151561139e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113e09190614ab1565b600060405180830381600087803b1580156113fa57600080fd5b505af115801561140e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def4269885600081518110151561143d57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161147f9190614dab565b600060405180830381600087803b15801561149957600080fd5b505af11580156114ad573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988560018151811015156114dc57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161151e9190614df9565b600060405180830381600087803b15801561153857600080fd5b505af115801561154c573d6000803e3d6000fd5b505050506001855111156115fa578073ffffffffffffffffffffffffffffffffffffffff16631a391cb486600181518110151561158557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115c79190614f0a565b600060405180830381600087803b1580156115e157600080fd5b505af11580156115f5573d6000803e3d6000fd5b505050505b8073ffffffffffffffffffffffffffffffffffffffff1663517c4dd9600589511061163d5788600481518110151561162e57fe5b90602001906020020151611640565b60005b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116789190614e47565b600060405180830381600087803b15801561169257600080fd5b505af11580156116a6573d6000803e3d6000fd5b5050505080925050509695505050505050565b60606000806060600080861415611707576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611807565b8593505b600084141515611731578280600101935050600a8481151561172957fe5b04935061170b565b826040519080825280601f01601f1916602001820160405280156117645781602001602082028038833980820191505090505b5091506001830390505b60008614151561180357600a8681151561178457fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156117bf57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156117fb57fe5b04955061176e565b8194505b50505050919050565b600760008481526020019081526020016000206000600260016002805490500381548110151561183c57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615156119265760036000848152602001908152602001600020600260016002805490500381548110151561189357fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160076000858152602001908152602001600020600060026001600280549050038154811015156118f557fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600260016002805490500381548110151561193d57fe5b906000526020600020015460046000848152602001908152602001600020819055506008600082600281518110151561197257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156119cf57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611a485750806002815181101515611a0d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611b925760056000826002815181101515611a6057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611abb57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160086000836002815181101515611b0457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611b6157fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b60096000826003815181101515611ba557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611c0257fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611c7b5750806003815181101515611c4057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611dc55760066000826003815181101515611c9357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611cee57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160096000836003815181101515611d3757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611d9457fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b505050565b6060600060606000806000806000600280549050604051908082528060200260200182016040528015611e0c5781602001602082028038833980820191505090505b50955060018a51","118015611e39575060008a6001815181101515611e2c57fe5b9060200190602002015114155b15611ec7576000600460008c6001815181101515611e5357fe5b90602001906020020151815260200190815260200160002054141515611ec6576001866001600460008e6001815181101515611e8b57fe5b9060200190602002015181526020019081526020016000205403815181101515611eb157fe5b90602001906020020190151590811515815250505b5b60008a51118015611ef1575060008a6000815181101515611ee457fe5b9060200190602002015114155b1561200c57600094505b600360008b6000815181101515611f0e57fe5b9060200190602002015181526020019081526020016000208054905085101561200b57856001600360008d6000815181101515611f4757fe5b90602001906020020151815260200190815260200160002087815481101515611f6c57fe5b906000526020600020015403815181101515611f8457fe5b906020019060200201511515611ffe576001866001600360008e6000815181101515611fac57fe5b90602001906020020151815260200190815260200160002088815481101515611fd157fe5b906000526020600020015403815181101515611fe957fe5b90602001906020020190151590811515815250505b8480600101955050611efb565b5b600089511180156120625750600073ffffffffffffffffffffffffffffffffffffffff1689600081518110151561203f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561220157600093505b600560008a600081518110151561207f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208054905084101561220057856001600560008c60008151811015156120e457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208681548110151561213557fe5b90600052602060002001540381518110151561214d57fe5b9060200190602002015115156121f3576001866001600560008d600081518110151561217557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020878154811015156121c657fe5b9060005260206000200154038151811015156121de57fe5b90602001906020020190151590811515815250505b838060010194505061206c565b5b600189511180156122575750600073ffffffffffffffffffffffffffffffffffffffff1689600181518110151561223457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156123f657600092505b600660008a600181518110151561227457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020805490508310156123f557856001600660008c60018151811015156122d957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208581548110151561232a57fe5b90600052602060002001540381518110151561234257fe5b9060200190602002015115156123e8576001866001600660008d600181518110151561236a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156123bb57fe5b9060005260206000200154038151811015156123d357fe5b90602001906020020190151590811515815250505b8280600101935050612261565b5b60009150600090505b855181101561243b57858181518110151561241657fe5b906020019060200201511561242e5781806001019250505b80806001019150506123ff565b8582975097505050505050509250929050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff16945060008514156124b8576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525095506125b8565b8493505b6000841415156124e2578280600101935050600a848115156124da57fe5b0493506124bc565b826040519080825280601f01601f1916602001820160405280156125155781602001602082028038833980820191505090505b5091506001830390505b6000851415156125b457600a8581151561253557fe5b066030017f01000000000000000000000000000000000000000000000000000000000000000282828060019003935081518110151561257057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a858115156125ac57fe5b04945061251f565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126489190614a4f565b602060405180830381600087803b15801561266257600080fd5b505af1158015612676573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061269a919081019061421b565b955060009450896040519080825280602002602001820160405280156126cf5781602001602082028038833980820191505090505b50935060009250600091505b8a518210156128b6578a828151811015156126f257fe5b90602001906020020151156128a9578573ffffffffffffffffffffffffffffffffffffffff1663d8ac5957612729600185016116b9565b8b6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016127639291906149ef565b602060405180830381600087803b15801561277d57600080fd5b505af1158015612791573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127b591908101906141c9565b90508073ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561281b57600080fd5b505af115801561282f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128539190810190614244565b8501945080848480600101955081518110151561286c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b81806001019250506126db565b838597509750505050505050935093915050565b60608060008060008060006060600c890260405190808252806020026020018201604052801561290e57816020015b60608152602001906001900390816128f95790505b509650600095505b895186101561353457898681518110151561292d57fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156129a657600080fd5b505af11580156129ba573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129de9190810190614244565b831215613527578473ffffffffffffffffffffffffffffffffffffffff16633dd2b614846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a3a91906149ab565b602060405180830381600087803b158015612a5457600080fd5b505af1158015612a68573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a8c91908101906141f2565b915060009350612c938273ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae890614ba9565b600060405180830381600087803b158015612b0257600080fd5b505af1158015612b16573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612b3f919081019061426d565b8373ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b9290614e95565b600060405180830381600087803b158015612bac57600080fd5b505af1158015612bc0573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612be9919081019061426d565b8473ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c3c90614ae6565b602060405180830381600087803b158015612c5657600080fd5b505af1158015612c6a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c8e9190810190614035565b613544565b905060038151141515612cdb576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612cd290614a71565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d2e90614d16565b600060405180830381600087803b158015612d4857600080fd5b505af1158015612d5c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612d85919081019061426d565b878585600c0201815181101515612d9857fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612df890614b54565b600060405180830381600087803b158015612e1257600080fd5b50","5af1158015612e26573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612e4f919081019061426d565b878560010195508585600c0201815181101515612e6857fe5b90602001906020020181905250806000815181101515612e8457fe5b90602001906020020151878560010195508585600c0201815181101515612ea757fe5b90602001906020020181905250806001815181101515612ec357fe5b90602001906020020151878560010195508585600c0201815181101515612ee657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f4690614c1e565b600060405180830381600087803b158015612f6057600080fd5b505af1158015612f74573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612f9d919081019061426d565b878560010195508585600c0201815181101515612fb657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161301690614a91565b600060405180830381600087803b15801561303057600080fd5b505af1158015613044573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061306d919081019061426d565b878560010195508585600c020181518110151561308657fe5b906020019060200201819052506131568273ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130e990614c73565b602060405180830381600087803b15801561310357600080fd5b505af1158015613117573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061313b9190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561316f57fe5b9060200190602002018190525080600281518110151561318b57fe5b90602001906020020151878560010195508585600c02018151811015156131ae57fe5b906020019060200201819052506132688273ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161321190614d8b565b602060405180830381600087803b15801561322b57600080fd5b505af115801561323f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506132639190810190614244565b6116b9565b878560010195508585600c020181518110151561328157fe5b9060200190602002018190525061333b8273ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132e490614dd9565b602060405180830381600087803b1580156132fe57600080fd5b505af1158015613312573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506133369190810190614244565b6116b9565b878560010195508585600c020181518110151561335457fe5b906020019060200201819052506134248273ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016133b790614e27565b602060405180830381600087803b1580156133d157600080fd5b505af11580156133e5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134099190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561343d57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161349d90614eea565b600060405180830381600087803b1580156134b757600080fd5b505af11580156134cb573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506134f4919081019061426d565b878560010195508585600c020181518110151561350d57fe5b906020019060200201819052508280600101935050612942565b8580600101965050612916565b8697505050505050505092915050565b606080600080600360405190808252806020026020018201604052801561357f57816020015b606081526020019060019003908161356a5790505b50925061358b87613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561374557600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade661360789613ac9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161363f9190614945565b602060405180830381600087803b15801561365957600080fd5b505af115801561366d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136919190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613705576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016136fc90614cc1565b60405180910390fd5b6137248173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600081518110151561373357fe5b90602001906020020181905250613763565b8683600081518110151561375557fe5b906020019060200201819052505b61376c86613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561392657600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade66137e888613ac9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138209190614945565b602060405180830381600087803b15801561383a57600080fd5b505af115801561384e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138729190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156138e6576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016138dd90614b34565b60405180910390fd5b6139058173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600181518110151561391457fe5b90602001906020020181905250613944565b8583600181518110151561393657fe5b906020019060200201819052505b600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade6866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016139bb9190614945565b602060405180830381600087803b1580156139d557600080fd5b505af11580156139e9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a0d9190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613a81576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613a7890614e75565b60405180910390fd5b613aa08173ffffffffffffffffffffffffffffffffffffffff1661244e565b836002815181101515613aaf57fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613c8f5760308382815181101515613af557fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bf3575060398382815181101515613b7f57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613c825760308382815181101515613c0857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613adc565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613cc88235615181565b905092915050565b6000613cdc8251615181565b905092915050565b600082601f8301121515613cf757600080fd5b8135613d0a613d0582614fda565b614fad565b91508181835260208401935060208101905083856020840282011115613d2f57600080fd5b60005b83811015613d5f5781613d458882613cbc565b845260208401935060208301925050600181019050613d32565b5050505092915050565b600082601f8301121515613d7c57600080fd5b8135613d8f613d8a82615002565b614fad565b91508181835260208401935060208101905083856020840282011115613db457600080fd5b60005b83811015613de45781613dca8882613f39565b845260208401935060208301925050600181019050613db7565b5050505092915050565b600082601f8301121515613e0157600080fd5b8135613e14613e0f8261502a565b614fad56","5b9150818183526020840193506020810190508360005b83811015613e5a5781358601613e408882613f61565b845260208401935060208301925050600181019050613e2a565b5050505092915050565b600082601f8301121515613e7757600080fd5b8135613e8a613e8582615052565b614fad565b91508181835260208401935060208101905083856020840282011115613eaf57600080fd5b60005b83811015613edf5781613ec5888261400d565b845260208401935060208301925050600181019050613eb2565b5050505092915050565b6000613ef582516151a1565b905092915050565b6000613f0982516151b3565b905092915050565b6000613f1d82516151c5565b905092915050565b6000613f3182516151d7565b905092915050565b6000613f4582356151e9565b905092915050565b6000613f5982516151e9565b905092915050565b600082601f8301121515613f7457600080fd5b8135613f87613f828261507a565b614fad565b91508082526020830160208301858383011115613fa357600080fd5b613fae838284615221565b50505092915050565b600082601f8301121515613fca57600080fd5b8151613fdd613fd8826150a6565b614fad565b91508082526020830160208301858383011115613ff957600080fd5b614004838284615230565b50505092915050565b600061401982356151f3565b905092915050565b600061402d82516151f3565b905092915050565b60006020828403121561404757600080fd5b600061405584828501613cd0565b91505092915050565b6000806000806080858703121561407457600080fd5b600085013567ffffffffffffffff81111561408e57600080fd5b61409a87828801613ce4565b94505060206140ab8782880161400d565b935050604085013567ffffffffffffffff8111156140c857600080fd5b6140d487828801613dee565b925050606085013567ffffffffffffffff8111156140f157600080fd5b6140fd87828801613d69565b91505092959194509250565b60008060006060848603121561411e57600080fd5b600084013567ffffffffffffffff81111561413857600080fd5b61414486828701613e64565b935050602084013567ffffffffffffffff81111561416157600080fd5b61416d86828701613ce4565b925050604084013567ffffffffffffffff81111561418a57600080fd5b61419686828701613d69565b9150509250925092565b6000602082840312156141b257600080fd5b60006141c084828501613ee9565b91505092915050565b6000602082840312156141db57600080fd5b60006141e984828501613efd565b91505092915050565b60006020828403121561420457600080fd5b600061421284828501613f11565b91505092915050565b60006020828403121561422d57600080fd5b600061423b84828501613f25565b91505092915050565b60006020828403121561425657600080fd5b600061426484828501613f4d565b91505092915050565b60006020828403121561427f57600080fd5b600082015167ffffffffffffffff81111561429957600080fd5b6142a584828501613fb7565b91505092915050565b6000602082840312156142c057600080fd5b60006142ce84828501614021565b91505092915050565b600080604083850312156142ea57600080fd5b60006142f885828601614021565b925050602083015167ffffffffffffffff81111561431557600080fd5b61432185828601613fb7565b9150509250929050565b61433481615141565b82525050565b6000614345826150fb565b8084526020840193508360208202850161435e856150d2565b60005b84811015614397578383038852614379838351614465565b925061438482615127565b9150602088019750600181019050614361565b508196508694505050505092915050565b6143b181615106565b6143ba826150df565b60005b828110156143ec576143d0858351614936565b6143d982615134565b91506020850194506001810190506143bd565b5050505050565b6143fc81615161565b82525050565b61440b816151fd565b82525050565b61441a8161520f565b82525050565b6144298161516d565b82525050565b600061443a8261511c565b80845261444e816020860160208601615230565b61445781615263565b602085010191505092915050565b600061447082615111565b808452614484816020860160208601615230565b61448d81615263565b602085010191505092915050565b6000815460018116600081146144b857600181146144d857614519565b607f600283041680865260ff198316602087015260408601935050614519565b600282048086526020860195506144ee856150e9565b60005b82811015614510578154818901526001820191506020810190506144f1565b80880195505050505b505092915050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f777269746520626f6f6b206661696c65640000000000000000000000000000006020830152604082019050919050565b6000600682527f616d6f756e7400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000601082527f7472616e73616374696f6e5f74797065000000000000000000000000000000006020830152604082019050919050565b6000600e82527f6f7065726174696f6e5f747970650000000000000000000000000000000000006020830152604082019050919050565b6000600d82527f72656c617465645f6173736574000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7375626a656374000000000000000000000000000000000000000000000000006020830152604082019050919050565b61493f81615177565b82525050565b600060208201905061495a600083018461432b565b92915050565b6000602082019050818103600083015261497a818461433a565b905092915050565b600060608201905061499760008301856143f3565b6149a460208301846143a8565b9392505050565b60006020820190506149c06000830184614420565b92915050565b60006040820190506149db6000830185614420565b6149e86020830184614420565b9392505050565b60006040820190508181036000830152614a09818561442f565b9050614a186020830184614402565b9392505050565b60006040820190508181036000830152614a39818561442f565b9050614a486020830184614411565b9392505050565b60006020820190508181036000830152614a69818461449b565b905092915050565b60006020820190508181036000830152614a8a81614521565b9050919050565b60006020820190508181036000830152614aaa81614558565b9050919050565b60006040820190508181036000830152614aca81614558565b90508181036020830152614ade8184614465565b905092915050565b60006020820190508181036000830152614aff8161458f565b9050919050565b60006040820190508181036000830152614b1f8161458f565b9050614b2e602083018461432b565b92915050565b60006020820190508181036000830152614b4d816145c6565b9050919050565b60006020820190508181036000830152614b6d816145fd565b9050919050565b60006040820190508181036000830152614b8d816145fd565b90508181036020830152614ba1818461442f565b905092915050565b60006020820190508181036000830152614bc281614634565b9050919050565b60006040820190508181036000830152614be281614634565b90508181036020830152614bf6818461442f565b905092915050565b60006020820190508181036000830152614c178161466b565b9050919050565b60006020820190508181036000830152614c37816146a2565b9050919050565b60006040820190508181036000830152614c57816146a2565b90508181036020830152614c6b818461442f565b905092915050565b60006020820190508181036000830152614c8c816146d9565b9050919050565b60006040820190508181036000830152614cac816146d9565b9050614cbb602083018461432b565b92915050565b60006020820190508181036000830152614cda81614710565b9050919050565b60006040820190508181036000830152614cfa81614747565b90508181036020830152614d0e818461442f565b905092915050565b60006020820190508181036000830152614d2f8161477e565b9050919050565b60006040820190508181036000830152614d4f8161477e565b90508181036020830152614d63818461442f565b905092915050565b60006020820190508181036000830152614d84816147b5565b9050919050565b60006020820190508181036000830152614da4816147ec565b9050919050565b60006040820190508181036000830152614dc4816147ec565b9050614dd36020830184614420565b92915050565b60006020820190508181036000830152614df281614823565b9050919050565b60006040820190508181036000830152614e1281614823565b90","50614e216020830184614420565b92915050565b60006020820190508181036000830152614e408161485a565b9050919050565b60006040820190508181036000830152614e608161485a565b9050614e6f602083018461432b565b92915050565b60006020820190508181036000830152614e8e81614891565b9050919050565b60006020820190508181036000830152614eae816148c8565b9050919050565b60006040820190508181036000830152614ece816148c8565b90508181036020830152614ee2818461442f565b905092915050565b60006020820190508181036000830152614f03816148ff565b9050919050565b60006040820190508181036000830152614f23816148ff565b90508181036020830152614f378184614465565b905092915050565b6000602082019050614f546000830184614936565b92915050565b600060a082019050614f6f6000830188614936565b614f7c6020830187614936565b614f89604083018661432b565b614f96606083018561432b565b614fa36080830184614936565b9695505050505050565b6000604051905081810181811067ffffffffffffffff82111715614fd057600080fd5b8060405250919050565b600067ffffffffffffffff821115614ff157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561501957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561504157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561506957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561509157600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156150bd57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60006151ac82615141565b9050919050565b60006151be82615141565b9050919050565b60006151d082615141565b9050919050565b60006151e282615141565b9050919050565b6000819050919050565b6000819050919050565b600061520882615141565b9050919050565b600061521a82615141565b9050919050565b82818337600083830152505050565b60005b8381101561524e578082015181840152602081019050615233565b8381111561525d576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a7230582003c2e7cb83883961226bfdc6711ff4bbe7751e70ba9fa27105eaaf9f63319d276c6578706572696d656e74616cf50037a165627a7a72305820a8fab1062845f730b83c8d9a0624dfecba7d6998896c8e0c090bd288bdea609e0029"};
 
     public static final String SM_BINARY = String.join("", SM_BINARY_ARRAY);
 
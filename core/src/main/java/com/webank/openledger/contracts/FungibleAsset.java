@@ -40,15 +40,15 @@ import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 
 @SuppressWarnings("unchecked")
 public class FungibleAsset extends Contract implements BaseAsset {
-    public static final String[] BINARY_ARRAY = {"60806040526040805190810160405280600681526020017f7075626c696300000000000000000000000000000000000000000000000000008152506000908051906020019062000051929190620011d9565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250600190805190602001906200009f929190620011d9565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060029080519060200190620000ed929190620011d9565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906200013b929190620011d9565b506040805190810160405280600281526020017f5f770000000000000000000000000000000000000000000000000000000000008152506004908051906020019062000189929190620011d9565b506040805190810160405280600381526020017f616c6c000000000000000000000000000000000000000000000000000000000081525060059080519060200190620001d7929190620011d9565b506040805190810160405280600281526020017f69640000000000000000000000000000000000000000000000000000000000008152506006908051906020019062000225929190620011d9565b506040805190810160405280600481526020017f61646472000000000000000000000000000000000000000000000000000000008152506007908051906020019062000273929190620011d9565b506040805190810160405280600481526020017f747970650000000000000000000000000000000000000000000000000000000081525060089080519060200190620002c1929190620011d9565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906200030f929190620011d9565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906200035d929190620011d9565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b9080519060200190620003ab929190620011d9565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c9080519060200190620003f9929190620011d9565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d908051906020019062000447929190620011d9565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e908051906020019062000495929190620011d9565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f9080519060200190620004e3929190620011d9565b506040805190810160405280600781526020017f62616c616e6365000000000000000000000000000000000000000000000000008152506010908051906020019062000531929190620011d9565b506040805190810160405280600681526020017f7265636f72640000000000000000000000000000000000000000000000000000815250601190805190602001906200057f929190620011d9565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060129080519060200190620005cd929190620011d9565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906200061b929190620011d9565b506040805190810160405280600581526020017f6f776e65720000000000000000000000000000000000000000000000000000008152506014908051906020019062000669929190620011d9565b506040805190810160405280600481526020017f757365720000000000000000000000000000000000000000000000000000000081525060159080519060200190620006b7929190620011d9565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015620007d557600080fd5b506040516201140d3803806201140d8339810180604052620007fb919081019062001489565b82828281816060620008373073ffffffffffffffffffffffffffffffffffffffff1662000d816401000000000262007ac2176401000000009004565b9050620008fd60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620008d75780601f10620008ab57610100808354040283529160200191620008d7565b820191906000526020600020905b815481529060010190602001808311620008b957829003601f168201915b505050505082601b62000e6564010000000002620066ff17909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620009c657600080fd5b505af1158015620009db573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000a0191908101906200145d565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000ac857600080fd5b505af115801562000add573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000b0391908101906200145d565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151562000bc15781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062000c03565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050506000835111801562000c19575060408351105b151562000c5d576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162000c54906200175e565b60405180910390fd5b8073ffffffffffffffffffffffffffffffffffffffff1663af0680206040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000cc257600080fd5b505af115801562000cd7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000cfd91908101906200145d565b838262000d0962001260565b62000d17939291906200171a565b604051809103906000f08015801562000d34573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505050505062001895565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801562000dcd5781602001602082028038833980820191505090505b509250600090505b601481101562000e5e57818160148110151562000dee57fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151562000e2057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062000dd5565b5050919050565b60008084600001846040518082805190602001908083835b60208310151562000ea4578051825260208201915060208101905060208303925062000e7d565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111562001061577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151562000f7d578051825260208201915060208101905060208303925062000f56565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405162000fc6959493929190620016a8565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200100b5780518252602082019150602081019050","60208303925062000fe4565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200105692919062001271565b5060019150620011d1565b8285600001856040518082805190602001908083835b6020831015156200109e578051825260208201915060208101905060208303925062001077565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190620010e992919062001271565b50846001018054809190600101620011029190620012f8565b90506001810185600001856040518082805190602001908083835b6020831015156200114457805182526020820191506020810190506020830392506200111d565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200119157fe5b90600052602060002090600202016000019080519060200190620011b792919062001271565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200121c57805160ff19168380011785556200124d565b828001600101855582156200124d579182015b828111156200124c5782518255916020019190600101906200122f565b5b5090506200125c91906200132d565b5090565b604051615936806200bad783390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10620012b457805160ff1916838001178555620012e5565b82800160010185558215620012e5579182015b82811115620012e4578251825591602001919060010190620012c7565b5b509050620012f491906200132d565b5090565b815481835581811115620013285760020281600202836000526020600020918201910162001327919062001355565b5b505050565b6200135291905b808211156200134e57600081600090555060010162001334565b5090565b90565b6200139a91905b808211156200139657600080820160006200137891906200139d565b6001820160006101000a81549060ff0219169055506002016200135c565b5090565b90565b50805460018160011615610100020316600290046000825580601f10620013c55750620013e6565b601f016020900490600052602060002090810190620013e591906200132d565b5b50565b6000620013f782516200182e565b905092915050565b600082601f83011215156200141357600080fd5b81516200142a6200142482620017ae565b62001780565b915080825260208301602083018583830111156200144757600080fd5b620014548382846200184e565b50505092915050565b6000602082840312156200147057600080fd5b60006200148084828501620013e9565b91505092915050565b6000806000606084860312156200149f57600080fd5b600084015167ffffffffffffffff811115620014ba57600080fd5b620014c886828701620013ff565b9350506020620014db86828701620013e9565b9250506040620014ee86828701620013e9565b9150509250925092565b62001503816200180e565b82525050565b60006200151682620017f8565b8084526200152c8160208601602086016200184e565b620015378162001884565b602085010191505092915050565b60006200155282620017ed565b808452620015688160208601602086016200184e565b620015738162001884565b602085010191505092915050565b600081546001811660008114620015a15760018114620015c25762001607565b607f600283041680865260ff19831660208701526040860193505062001607565b60028204808652602086019550620015da85620017db565b60005b82811015620015fe57815481890152600182019150602081019050620015dd565b80880195505050505b505092915050565b60006200161c8262001803565b808452620016328160208601602086016200184e565b6200163d8162001884565b602085010191505092915050565b6000603282527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634206c6f6e6700000000000000000000000000006040830152606082019050919050565b600060a082019050620016bf6000830188620014f8565b620016ce6020830187620014f8565b8181036040830152620016e2818662001545565b90508181036060830152620016f8818562001509565b905081810360808301526200170e818462001581565b90509695505050505050565b6000606082019050620017316000830186620014f8565b81810360208301526200174581856200160f565b9050620017566040830184620014f8565b949350505050565b6000602082019050818103600083015262001779816200164b565b9050919050565b6000604051905081810181811067ffffffffffffffff82111715620017a457600080fd5b8060405250919050565b600067ffffffffffffffff821115620017c657600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60005b838110156200186e57808201518184015260208101905062001851565b838111156200187e576000848401525b50505050565b6000601f19601f8301169050919050565b61a23280620018a56000396000f3006080604052600436106102b4576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806301db8d89146102b957806303ba71eb146102e4578063081f93391461030f5780630c0fd8861461033a5780630feca68a14610365578063117803e31461039057806315e9977e146103bb5780631dedfd47146103e657806320ba5b601461042457806323a772bd1461046157806326bca0891461048c578063283d26ca146104c95780632a0acc6a146104f45780632c4e722e1461051f5780632ef8cb1c1461054a57806338cc48311461057557806339151753146105a05780633a0e6174146105cb5780633b007d8e146105f6578063403c6cfa146106335780635262e2a11461067057806357872d131461069b57806358edef4c146106c6578063632e1dfe14610703578063699cc7f11461072e5780636adc4165146107595780636cf1c3ee146107845780637bdd20b2146107c15780637dec8f6b146107fe57806381e167cf1461083b5780638662acad1461086657806390023f95146108a3578063949d225d146108e1578063983d27371461090c57806399f2592a146109375780639d53fe2b14610975578063a035b1fe146109a0578063a0997a58146109cb578063a18c751e14610a08578063ac44522e14610a45578063b11569f514610a82578063b1c5afa714610aad578063b3032be814610aea578063b3cea21714610b15578063b4eb5ede14610b40578063b85a290114610b6b578063bb1239c314610b96578063bb24fe8a14610bc1578063c28304aa14610bec578063c55fc52d14610c17578063cb6163ad14610c42578063cd2f381a14610c7f578063d087d28814610cbd578063d6d7d52514610ce8578063e077fef914610d25578063e8c2553a14610d62578063ef966c8914610d9f578063f307b32c14610ddc575b600080fd5b3480156102c557600080fd5b506102ce610e07565b6040516102db9190619a11565b60405180910390f35b3480156102f057600080fd5b506102f9610ea5565b6040516103069190619a11565b60405180910390f35b34801561031b57600080fd5b50610324610f43565b6040516103319190619a11565b60405180910390f35b34801561034657600080fd5b5061034f610fe1565b60405161035c9190619a11565b60405180910390f35b34801561037157600080fd5b5061037a61107f565b6040516103879190619dee565b60405180910390f35b34801561039c57600080fd5b506103a56110a5565b6040516103b29190619a11565b60405180910390f35b3480156103c757600080fd5b506103d0611143565b6040516103dd9190619a11565b60405180910390f35b3480156103f257600080fd5b5061040d600480360361040891908101906182fc565b6111e1565b60405161041b9291906199e8565b60405180910390f35b34801561043057600080fd5b5061044b600480360361044691908101906185cb565b6115bd565b604051610458919061999d565b60405180910390f35b34801561046d57600080fd5b506104766117bb565b6040516104839190619a11565b60405180910390f35b34801561049857600080fd5b506104b360048036036104ae9190810190618426565b611859565b6040516104c0919061992f565b60405180910390f35b3480156104d557600080fd5b506104de6121b0565b6040516104eb9190619a11565b60405180910390f35b34801561050057600080fd5b5061050961224e565b6040516105169190619a11565b60405180910390f35b34801561052b57600080fd5b506105346122ec565b6040516105419190619dee565b60405180910390f35b34801561055657600080fd5b5061055f6122f2565b60405161056c9190619a11565b60405180910390f35b34801561058157600080fd5b5061058a612390565b604051610597919061935e565b60405180910390f35b3480156105ac57600080fd5b506105b5612398565b6040516105c29190619a11565b60405180910390f35b3480156105d757600080fd5b506105e0612436565b6040516105ed9190619a11565b60405180910390f35b34801561060257600080fd5b5061061d600480360361061891908101906185cb565b6124d4565b60405161062a919061999d565b60405180910390f35b34801561063f57600080fd5b5061065a600480360361065591908101906183bc565b6126d2565b6040516106679190619dee565b60405180910390f35b34801561067c57600080fd5b506106856129e5565b604051610692919061935e565b60405180910390f35b3480156106a757600080fd5b506106b0612a0f565b6040516106bd9190619a11565b60405180910390f35b3480156106d257600080fd5b506106ed60048036036106e89190810190618536565b612aad565b6040516106fa919061999d565b60405180910390f35b34801561070f57600080fd5b50610718612ca8565b604051610725919061935e565b60405180910390f35b34801561073a57600080fd5b50610743612cce565b6040516107509190619a11565b60405180910390f35b34","801561076557600080fd5b5061076e612d6c565b60405161077b919061935e565b60405180910390f35b34801561079057600080fd5b506107ab60048036036107a691908101906186df565b612d92565b6040516107b89190619dee565b60405180910390f35b3480156107cd57600080fd5b506107e860048036036107e39190810190618577565b612efd565b6040516107f5919061999d565b60405180910390f35b34801561080a57600080fd5b50610825600480360361082091908101906186df565b613120565b6040516108329190619dee565b60405180910390f35b34801561084757600080fd5b5061085061328b565b60405161085d9190619a11565b60405180910390f35b34801561087257600080fd5b5061088d60048036036108889190810190618577565b613329565b60405161089a9190619a33565b60405180910390f35b3480156108af57600080fd5b506108ca60048036036108c591908101906182fc565b61354b565b6040516108d89291906199e8565b60405180910390f35b3480156108ed57600080fd5b506108f6613927565b6040516109039190619dee565b60405180910390f35b34801561091857600080fd5b50610921613938565b60405161092e9190619a11565b60405180910390f35b34801561094357600080fd5b5061095e600480360361095991908101906182fc565b6139d6565b60405161096c9291906199e8565b60405180910390f35b34801561098157600080fd5b5061098a613f79565b6040516109979190619a11565b60405180910390f35b3480156109ac57600080fd5b506109b5614017565b6040516109c29190619dee565b60405180910390f35b3480156109d757600080fd5b506109f260048036036109ed9190810190618243565b61401d565b6040516109ff9190619dee565b60405180910390f35b348015610a1457600080fd5b50610a2f6004803603610a2a91908101906185cb565b61440e565b604051610a3c919061999d565b60405180910390f35b348015610a5157600080fd5b50610a6c6004803603610a679190810190618637565b61460c565b604051610a79919061999d565b60405180910390f35b348015610a8e57600080fd5b50610a97614844565b604051610aa4919061935e565b60405180910390f35b348015610ab957600080fd5b50610ad46004803603610acf91908101906183bc565b61486a565b604051610ae19190619dee565b60405180910390f35b348015610af657600080fd5b50610aff614b71565b604051610b0c919061935e565b60405180910390f35b348015610b2157600080fd5b50610b2a614c36565b604051610b379190619a11565b60405180910390f35b348015610b4c57600080fd5b50610b55614cd4565b604051610b629190619a11565b60405180910390f35b348015610b7757600080fd5b50610b80614d72565b604051610b8d9190619a11565b60405180910390f35b348015610ba257600080fd5b50610bab614e10565b604051610bb8919061935e565b60405180910390f35b348015610bcd57600080fd5b50610bd6614e36565b604051610be39190619a11565b60405180910390f35b348015610bf857600080fd5b50610c01614ed4565b604051610c0e919061935e565b60405180910390f35b348015610c2357600080fd5b50610c2c614efe565b604051610c39919061935e565b60405180910390f35b348015610c4e57600080fd5b50610c696004803603610c649190810190618637565b614fc3565b604051610c76919061999d565b60405180910390f35b348015610c8b57600080fd5b50610ca66004803603610ca191908101906182bb565b6151fb565b604051610cb49291906199b8565b60405180910390f35b348015610cc957600080fd5b50610cd261547f565b604051610cdf9190619dee565b60405180910390f35b348015610cf457600080fd5b50610d0f6004803603610d0a9190810190618536565b615489565b604051610d1c9190619a33565b60405180910390f35b348015610d3157600080fd5b50610d4c6004803603610d4791908101906183bc565b615684565b604051610d5991906198b3565b60405180910390f35b348015610d6e57600080fd5b50610d896004803603610d849190810190618637565b615a81565b604051610d96919061999d565b60405180910390f35b348015610dab57600080fd5b50610dc66004803603610dc19190810190618243565b615cb9565b604051610dd3919061999d565b60405180910390f35b348015610de857600080fd5b50610df16163e9565b604051610dfe9190619a11565b60405180910390f35b600c8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015610e9d5780601f10610e7257610100808354040283529160200191610e9d565b820191906000526020600020905b815481529060010190602001808311610e8057829003601f168201915b505050505081565b600e8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015610f3b5780601f10610f1057610100808354040283529160200191610f3b565b820191906000526020600020905b815481529060010190602001808311610f1e57829003601f168201915b505050505081565b600d8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015610fd95780601f10610fae57610100808354040283529160200191610fd9565b820191906000526020600020905b815481529060010190602001808311610fbc57829003601f168201915b505050505081565b600b8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156110775780601f1061104c57610100808354040283529160200191611077565b820191906000526020600020905b81548152906001019060200180831161105a57829003601f168201915b505050505081565b6000611097600160215461648790919063ffffffff16565b602181905550602154905090565b60148054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561113b5780601f106111105761010080835404028352916020019161113b565b820191906000526020600020905b81548152906001019060200180831161111e57829003601f168201915b505050505081565b60108054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156111d95780601f106111ae576101008083540402835291602001916111d9565b820191906000526020600020905b8154815290600101906020018083116111bc57829003601f168201915b505050505081565b60006111eb617ba1565b6000606060006111f9617ba1565b61123c8b8b8b8b8b6040805190810160405280600781526020017f6465706f736974000000000000000000000000000000000000000000000000008152506164de565b9a508a600381518110151561124d57fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156112e7576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016112de90619c4e565b60405180910390fd5b6113398a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461648790919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555060026040519080825280602002602001820160405280156113ac5781602001602082028038833980820191505090505b50925060008360008151811015156113c057fe5b90602001906020020181815250508860008151811015156113dd57fe5b906020019060200201518360018151811015156113f657fe5b90602001906020020181815250507fe1fffcc4923d04b559f4d29a8bfc6cda04eb5b0d3c460751c2402c5c5cc9109c848b60405161143592919061988a565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718c8c8b876040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016114ba94939291906198d5565b606060405180830381600087803b1580156114d457600080fd5b505af11580156114e8573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061150c91908101906184fa565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada81600060028110151561154457fe5b602002015182600160028110151561155857fe5b60200201518d600281518110151561156c57fe5b906020019060200201518e600381518110151561158557fe5b906020019060200201518e6040516115a1959493929190619e09565b60405180910390a1818195509550505050509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306116cf60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156116bb5780601f10611690576101008083540402835291602001916116bb565b820191906000526020600020905b81548152906001019060200180831161169e57829003601f168201915b5050505050896166eb90919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161170a9493929190619379565b602060405180830381600087803b15801561172457600080fd5b505af1158015611738573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061175c91908101906184d1","565b151561179d576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161179490619cce565b60405180910390fd5b6117b38383601b6166ff9092919063ffffffff16565b905092915050565b60118054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156118515780601f1061182657610100808354040283529160200191611851565b820191906000526020600020905b81548152906001019060200180831161183457829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611906949392919061976a565b6040805180830381600087803b15801561191f57600080fd5b505af1158015611933573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611957919081019061827f565b80975081985050508515156119a1576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161199890619b2e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611a18919061935e565b602060405180830381600087803b158015611a3257600080fd5b505af1158015611a46573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611a6a91908101906184d1565b1515611aab576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611aa290619b8e565b60405180910390fd5b60028b51148015611aeb57508a6001815181101515611ac657fe5b906020019060200201518b6000815181101515611adf57fe5b90602001906020020151125b1515611b2c576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611b2390619c2e565b60405180910390fd5b60008c511115611ba657600093505b8b51841015611ba5578b84815181101515611b5257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff161415611b985760019450611ba5565b8380600101945050611b3b565b5b841515611c7957601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634768e049886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611c24919061935e565b602060405180830381600087803b158015611c3e57600080fd5b505af1158015611c52573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611c7691908101906184d1565b94505b841515611cbb576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611cb290619aae565b60405180910390fd5b60006023805490501415611cd1578298506121a0565b60008c51118015611d275750600073ffffffffffffffffffffffffffffffffffffffff168c6000815181101515611d0457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15611ece57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d6000815181101515611d7957fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611dbb919061935e565b602060405180830381600087803b158015611dd557600080fd5b505af1158015611de9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611e0d919081019061821a565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151515611e81576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611e7890619b0e565b60405180910390fd5b818c6000815181101515611e9157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c51118015611f245750600073ffffffffffffffffffffffffffffffffffffffff168c6001815181101515611f0157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156120cb57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d6001815181101515611f7657fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611fb8919061935e565b602060405180830381600087803b158015611fd257600080fd5b505af1158015611fe6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061200a919081019061821a565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff161415151561207e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161207590619d0e565b60405180910390fd5b808c600181518110151561208e57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663521ae5368e8e8e6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161214693929190619951565b600060405180830381600087803b15801561216057600080fd5b505af1158015612174573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061219d91908101906183e5565b98505b5050505050505050949350505050565b600a8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156122465780601f1061221b57610100808354040283529160200191612246565b820191906000526020600020905b81548152906001019060200180831161222957829003601f168201915b505050505081565b60128054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156122e45780601f106122b9576101008083540402835291602001916122e4565b820191906000526020600020905b8154815290600101906020018083116122c757829003601f168201915b505050505081565b60285481565b60038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156123885780601f1061235d57610100808354040283529160200191612388565b820191906000526020600020905b81548152906001019060200180831161236b57829003601f168201915b505050505081565b600030905090565b60028054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561242e5780601f106124035761010080835404028352916020019161242e565b820191906000526020600020905b81548152906001019060200180831161241157829003601f168201915b505050505081565b60018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156124cc5780601f106124a1576101008083540402835291602001916124cc565b820191906000526020600020905b8154815290600101906020018083116124af57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306125e660048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156125d25780601f106125a7576101008083540402835291602001916125d2565b820191906000526020600020905b8154815290600101906020018083116125b557829003601f168201915b5050505050896166eb90919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126219493929190619379565b602060405180830381600087803b15801561263b57600080fd5b505af115801561264f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061267391908101906184d1565b15156126b4576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016126ab90619dce565b60405180910390fd5b6126ca8383601b616a5c9092919063ffffffff16565b905092915050565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c010000000000000000000000000000000000","0000000000000000000000028152600401612778949392919061970a565b6040805180830381600087803b15801561279157600080fd5b505af11580156127a5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127c9919081019061827f565b8092508193505050801515612813576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161280a90619ace565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161288a919061935e565b602060405180830381600087803b1580156128a457600080fd5b505af11580156128b8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128dc91908101906184d1565b151561291d576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161291490619b8e565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e953d0af6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156129a357600080fd5b505af11580156129b7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129db91908101906186b6565b9350505050919050565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612aa55780601f10612a7a57610100808354040283529160200191612aa5565b820191906000526020600020905b815481529060010190602001808311612a8857829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630612bbf60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612bab5780601f10612b8057610100808354040283529160200191612bab565b820191906000526020600020905b815481529060010190602001808311612b8e57829003601f168201915b5050505050886166eb90919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612bfa9493929190619379565b602060405180830381600087803b158015612c1457600080fd5b505af1158015612c28573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c4c91908101906184d1565b1515612c8d576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612c8490619bce565b60405180910390fd5b612ca182601b616c5190919063ffffffff16565b9050919050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600f8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612d645780601f10612d3957610100808354040283529160200191612d64565b820191906000526020600020905b815481529060010190602001808311612d4757829003601f168201915b505050505081565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60006060600080612dac8684616ea390919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612e4d9493929190619586565b6040805180830381600087803b158015612e6657600080fd5b505af1158015612e7a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612e9e919081019061827f565b8092508193505050801515612ee8576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612edf90619d8e565b60405180910390fd5b85602781905550602754935050505092915050565b60006060600080612f1786846166eb90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061302860048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156130145780601f10612fe957610100808354040283529160200191613014565b820191906000526020600020905b815481529060010190602001808311612ff757829003601f168201915b50505050508b6166eb90919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130669594939291906195e6565b6040805180830381600087803b15801561307f57600080fd5b505af1158015613093573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506130b7919081019061827f565b8092508193505050801515613101576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016130f890619bce565b60405180910390fd5b61311586601b616c5190919063ffffffff16565b935050505092915050565b6000606060008061313a8684616ea390919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131db9493929190619526565b6040805180830381600087803b1580156131f457600080fd5b505af1158015613208573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061322c919081019061827f565b8092508193505050801515613276576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161326d90619bae565b60405180910390fd5b85602881905550602854935050505092915050565b60158054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156133215780601f106132f657610100808354040283529160200191613321565b820191906000526020600020905b81548152906001019060200180831161330457829003601f168201915b505050505081565b60608060008061334286846166eb90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061345360038054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561343f5780601f106134145761010080835404028352916020019161343f565b820191906000526020600020905b81548152906001019060200180831161342257829003601f168201915b50505050508b6166eb90919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016134919594939291906195e6565b6040805180830381600087803b1580156134aa57600080fd5b505af11580156134be573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134e2919081019061827f565b809250819350505080151561352c576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161352390619c6e565b60405180910390fd5b61354086601b616ebf90919063ffffffff16565b935050505092915050565b6000613555617ba1565b600060606000613563617ba1565b6135a68b8b8b8b8b6040805190810160405280600a81526020017f7769746864726177616c000000000000000000000000000000000000000000008152506164de565b9a508a60028151811015156135b757fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613651576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161364890619c4e565b60405180910390fd5b6136a38a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054616fd290919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555060026040519080825280602002602001820160405280156137165781602001602082028038833980820191505090505b509250600183600081518110151561372a57fe5b906020019060200201818152505088600081518110151561374757fe5b90602001906020020151836001815181101515","61376057fe5b90602001906020020181815250507fb6e26e54bd578616699ab07efb4c2e322b45a80673803bbb259443d9fecee652848b60405161379f92919061988a565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718c8c8b876040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161382494939291906198d5565b606060405180830381600087803b15801561383e57600080fd5b505af1158015613852573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061387691908101906184fa565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada8160006002811015156138ae57fe5b60200201518260016002811015156138c257fe5b60200201518d60028151811015156138d657fe5b906020019060200201518e60038151811015156138ef57fe5b906020019060200201518e60405161390b959493929190619e09565b60405180910390a1818195509550505050509550959350505050565b6000613933601b617029565b905090565b60138054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156139ce5780601f106139a3576101008083540402835291602001916139ce565b820191906000526020600020905b8154815290600101906020018083116139b157829003601f168201915b505050505081565b60006139e0617ba1565b606060006139ec617ba1565b613a2f8a8a8a8a8a6040805190810160405280600881526020017f7472616e73666572000000000000000000000000000000000000000000000000815250617037565b9950602460008b6002815181101515613a4457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613ad7576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613ace90619c4e565b60405180910390fd5b602460008b6003815181101515613aea57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613b7d576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613b7490619c4e565b60405180910390fd5b613be789602560008d6002815181101515613b9457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054616fd290919063ffffffff16565b602560008c6002815181101515613bfa57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550613cac89602560008d6003815181101515613c5957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461648790919063ffffffff16565b602560008c6003815181101515613cbf57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506002604051908082528060200260200182016040528015613d375781602001602082028038833980820191505090505b5092506002836000815181101515613d4b57fe5b9060200190602002018181525050876000815181101515613d6857fe5b90602001906020020151836001815181101515613d8157fe5b90602001906020020181815250507fddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef8a6002815181101515613dbf57fe5b906020019060200201518b6003815181101515613dd857fe5b906020019060200201518b604051613df2939291906194ef565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718b8b8a876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613e7794939291906198d5565b606060405180830381600087803b158015613e9157600080fd5b505af1158015613ea5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613ec991908101906184fa565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada816000600281101515613f0157fe5b6020020151826001600281101515613f1557fe5b60200201518c6002815181101515613f2957fe5b906020019060200201518d6003815181101515613f4257fe5b906020019060200201518d604051613f5e959493929190619e09565b60405180910390a18181945094505050509550959350505050565b60098054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561400f5780601f10613fe45761010080835404028352916020019161400f565b820191906000526020600020905b815481529060010190602001808311613ff257829003601f168201915b505050505081565b60275481565b6000806060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161409c919061935e565b602060405180830381600087803b1580156140b657600080fd5b505af11580156140ca573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506140ee919081019061821a565b9350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff16151561417e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161417590619c4e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1686868a6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161421d949392919061948f565b6040805180830381600087803b15801561423657600080fd5b505af115801561424a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061426e919081019061827f565b80925081935050508015156142b8576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016142af90619dae565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161432f919061935e565b602060405180830381600087803b15801561434957600080fd5b505af115801561435d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061438191908101906184d1565b15156143c2576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016143b990619b8e565b60405180910390fd5b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205494505050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061452060048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561450c5780601f106144e15761010080835404028352916020019161450c565b820191906000526020600020905b8154815290600101906020018083116144ef57829003601f168201915b5050505050896166eb90919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161455b9493929190619379565b602060405180830381600087803b15801561457557600080fd5b505af1158015614589573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506145ad91908101906184d1565b15156145ee576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016145e590619aee565b60405180910390fd5b6146048383601b61725c9092919063ffffffff16565b905092915050565b600060606000806146388661462a89866166eb90919063ffffffff16565b6166eb90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061474960048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156147355780601f1061470a57610100808354040283529160200191614735565b820191906000526020600020905b81548152906001019060200180831161471857829003601f168201915b50505050508c6166eb90919063ffffffff16565b878a6040518663ffffffff167c01000000","000000000000000000000000000000000000000000000000000281526004016147879594939291906195e6565b6040805180830381600087803b1580156147a057600080fd5b505af11580156147b4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506147d8919081019061827f565b8092508193505050801515614822576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161481990619dce565b60405180910390fd5b6148388787601b616a5c9092919063ffffffff16565b93505050509392505050565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60006060600080600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614913949392919061982a565b6040805180830381600087803b15801561492c57600080fd5b505af1158015614940573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614964919081019061827f565b80945081955050508215156149ae576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016149a590619cae565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614a25919061935e565b602060405180830381600087803b158015614a3f57600080fd5b505af1158015614a53573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614a7791908101906184d1565b1515614ab8576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614aaf90619b8e565b60405180910390fd5b600090505b602380549050811015614b6457614b5560256000602384815481101515614ae057fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020548361648790919063ffffffff16565b91508080600101915050614abd565b8195505050505050919050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015614bf957600080fd5b505af1158015614c0d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614c31919081019061821a565b905090565b60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614ccc5780601f10614ca157610100808354040283529160200191614ccc565b820191906000526020600020905b815481529060010190602001808311614caf57829003601f168201915b505050505081565b60078054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614d6a5780601f10614d3f57610100808354040283529160200191614d6a565b820191906000526020600020905b815481529060010190602001808311614d4d57829003601f168201915b505050505081565b60008054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614e085780601f10614ddd57610100808354040283529160200191614e08565b820191906000526020600020905b815481529060010190602001808311614deb57829003601f168201915b505050505081565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60088054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614ecc5780601f10614ea157610100808354040283529160200191614ecc565b820191906000526020600020905b815481529060010190602001808311614eaf57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015614f8657600080fd5b505af1158015614f9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614fbe919081019061821a565b905090565b60006060600080614fef86614fe189866166eb90919063ffffffff16565b6166eb90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061510060048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156150ec5780601f106150c1576101008083540402835291602001916150ec565b820191906000526020600020905b8154815290600101906020018083116150cf57829003601f168201915b50505050508c6166eb90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161513e9594939291906195e6565b6040805180830381600087803b15801561515757600080fd5b505af115801561516b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061518f919081019061827f565b80925081935050508015156151d9576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016151d090619cce565b60405180910390fd5b6151ef8787601b6166ff9092919063ffffffff16565b93505050509392505050565b6000606080600080600086516040519080825280602002602001820160405280156152355781602001602082028038833980820191505090505b509350600090505b865181101561546f5760018114806152b05750600587511480156152615750600481145b806152af5750868181518110151561527557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b5b1561531c5786818151811015156152c357fe5b9060200190602002015184828151811015156152db57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050615462565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663accfbdd9888381518110151561536857fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016153aa919061935e565b6040805180830381600087803b1580156153c357600080fd5b505af11580156153d7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506153fb919081019061827f565b80945081935050508215156154165760008495509550615476565b81848281518110151561542557fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b808060010191505061523d565b8284955095505b50505050915091565b6000602154905090565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061559b60038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156155875780601f1061555c57610100808354040283529160200191615587565b820191906000526020600020905b81548152906001019060200180831161556a57829003601f168201915b5050505050886166eb90919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016155d69493929190619379565b602060405180830381600087803b1580156155f057600080fd5b505af1158015615604573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061562891908101906184d1565b1515615669576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161566090619c6e565b60405180910390fd5b61567d82601b616ebf90919063ffffffff16565b9050919050565b60608060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161572d94939291906196aa565b6040805180830381600087803b15801561574657600080fd5b505af115801561575a573d6000803e3d6000fd5b","505050506040513d601f19601f8201168201806040525061577e919081019061827f565b80945081955050508215156157c8576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016157bf90619c8e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161583f919061935e565b602060405180830381600087803b15801561585957600080fd5b505af115801561586d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061589191908101906184d1565b15156158d2576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016158c990619b8e565b60405180910390fd5b6023805490506040519080825280602002602001820160405280156159065781602001602082028038833980820191505090505b509150600090505b602380549050811015615a7457601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca060238381548110151561596857fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016159cb919061935e565b602060405180830381600087803b1580156159e557600080fd5b505af11580156159f9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615a1d919081019061821a565b8282815181101515615a2b57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050808060010191505061590e565b8195505050505050919050565b60006060600080615aad86615a9f89866166eb90919063ffffffff16565b6166eb90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630615bbe60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615baa5780601f10615b7f57610100808354040283529160200191615baa565b820191906000526020600020905b815481529060010190602001808311615b8d57829003601f168201915b50505050508c6166eb90919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615bfc9594939291906195e6565b6040805180830381600087803b158015615c1557600080fd5b505af1158015615c29573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615c4d919081019061827f565b8092508193505050801515615c97576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615c8e90619aee565b60405180910390fd5b615cad8787601b61725c9092919063ffffffff16565b93505050509392505050565b6000806060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615d3b919061935e565b602060405180830381600087803b158015615d5557600080fd5b505af1158015615d69573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615d8d91908101906184d1565b1515615dce576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615dc590619b8e565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615e45919061935e565b602060405180830381600087803b158015615e5f57600080fd5b505af1158015615e73573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615e97919081019061821a565b9550602460008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff16151515615f28576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615f1f90619d2e565b60405180910390fd5b615f3b898661745990919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888c6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615fdc94939291906197ca565b6040805180830381600087803b158015615ff557600080fd5b505af1158015616009573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061602d919081019061827f565b8094508195505050821515616077576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161606e90619d6e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016160ee919061935e565b602060405180830381600087803b15801561610857600080fd5b505af115801561611c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061614091908101906184d1565b1515616181576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161617890619b8e565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fbcbc0f18a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016161f8919061935e565b602060405180830381600087803b15801561621257600080fd5b505af1158015616226573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061624a919081019061821a565b91508173ffffffffffffffffffffffffffffffffffffffff166395a0c79630601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660016040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016162c893929190619a55565b602060405180830381600087803b1580156162e257600080fd5b505af11580156162f6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061631a91908101906184d1565b5060238690806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001602460008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff0219169083151502179055506001965050505050505092915050565b60058054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561647f5780601f106164545761010080835404028352916020019161647f565b820191906000526020600020905b81548152906001019060200180831161646257829003601f168201915b505050505081565b60008082840190508381101515156164d4576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016164cb90619b4e565b60405180910390fd5b8091505092915050565b6060600060606000806164f18a89617475565b506164fe8b8b8b8b6175d6565b92506165098b6151fb565b809c508195505050831515616553576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161654a90619bee565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163089878c6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016165f4959493929190619648565b6040805180830381600087803b15801561660d57600080fd5b505af1158015616621573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616645919081019061827f565b809250819350505080616696876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506176dc90919063ffffffff16565b9015156166d9576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016166d09190619a8c565b60405180910390fd5b508a9450505050509695505050505050565b60606166f783836178ad565b905092915050565b60008084600001846040518082805190602001908083835b60208310151561673c5780518252602082019150602081019050602083039250616717565b6001836020036101000a0380198251168184511680821785525050505050","50905001915050908152602001604051809103902060000154905060008111156168ef577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151561681257805182526020820191506020810190506020830392506167ed565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051616859959493929190619427565b60405180910390a18285600001856040518082805190602001908083835b60208310151561689c5780518252602082019150602081019050602083039250616877565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906168e5929190617bc3565b5060019150616a54565b8285600001856040518082805190602001908083835b60208310151561692a5780518252602082019150602081019050602083039250616905565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190616973929190617bc3565b5084600101805480919060010161698a9190617c43565b90506001810185600001856040518082805190602001908083835b6020831015156169ca57805182526020820191506020810190506020830392506169a5565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515616a1657fe5b90600052602060002090600202016000019080519060200190616a3a929190617bc3565b508460020160008154809291906001019190505550600091505b509392505050565b60008084600001846040518082805190602001908083835b602083101515616a995780518252602082019150602081019050602083039250616a74565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115616ae45760009150616c49565b8285600001856040518082805190602001908083835b602083101515616b1f5780518252602082019150602081019050602083039250616afa565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190616b68929190617bc3565b50846001018054809190600101616b7f9190617c43565b90506001810185600001856040518082805190602001908083835b602083101515616bbf5780518252602082019150602081019050602083039250616b9a565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515616c0b57fe5b90600052602060002090600202016000019080519060200190616c2f929190617bc3565b508460020160008154809291906001019190505550600191505b509392505050565b60008083600001836040518082805190602001908083835b602083101515616c8e5780518252602082019150602081019050602083039250616c69565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811415616cd95760009150616e9c565b7f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b602083101515616d6d5780518252602082019150602081019050602083039250616d48565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051616db4959493929190619427565b60405180910390a183600001836040518082805190602001908083835b602083101515616df65780518252602082019150602081019050602083039250616dd1565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600080820160009055600182016000616e429190617c75565b505060018460010160018303815481101515616e5a57fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b6060616eb783616eb284617a7e565b6178ad565b905092915050565b606082600001826040518082805190602001908083835b602083101515616efb5780518252602082019150602081019050602083039250616ed6565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616fc55780601f10616f9a57610100808354040283529160200191616fc5565b820191906000526020600020905b815481529060010190602001808311616fa857829003601f168201915b5050505050905092915050565b60008083831115151561701a576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161701190619c0e565b60405180910390fd5b82840390508091505092915050565b600081600201549050919050565b60606000606060008061704a8a89617475565b506170578b8b8b8b6175d6565b92506170628b6151fb565b809c5081955050508315156170ac576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016170a390619bee565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168d600281518110151561711c57fe5b9060200190602002015189878c6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016171659594939291906193c5565b6040805180830381600087803b15801561717e57600080fd5b505af1158015617192573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506171b6919081019061827f565b809250819350505080617207876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506176dc90919063ffffffff16565b90151561724a576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016172419190619a8c565b60405180910390fd5b508a9450505050509695505050505050565b60008084600001846040518082805190602001908083835b6020831015156172995780518252602082019150602081019050602083039250617274565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111561744c577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151561736f578051825260208201915060208101905060208303925061734a565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516173b6959493929190619427565b60405180910390a18285600001856040518082805190602001908083835b6020831015156173f957805182526020820191506020810190506020830392506173d4565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190617442929190617bc3565b5060019150617451565b600091505b509392505050565b606061746d8361746884617ac2565b6178ad565b905092915050565b600080831115156174bb576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016174b290619cee565b60405180910390fd5b60008260008151811015156174cc57fe5b90602001906020020151511180156174fd575060ff8260008151811015156174f057fe5b9060200190602002015151105b151561753e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161753590619d4e565b60405180910390fd5b6001825111156175cc57600082600181518110151561755957fe5b906020019060200201515111801561758a575060ff82600181518110151561757d57fe5b9060200190602002015151105b15156175cb576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016175c290619b6e565b60405180910390fd5b5b6001905092915050565b606080600080600080600093505b8951841015617626576176178a858151811015156175fe57fe5b906020019060200201518661745990919063ffffffff16565b945083806001019450506175e4565b6176398986616ea390919063ffffffff16565b9450600092505b875183101561768557878381518110151561765757fe5b9060200190602002015191506176768286616ea390919063ffffffff16565b94508280600101935050617640565b600090505b86518110156176cc576176bd87828151811015156176a457fe5b90602001906020020151866166eb90919063ffffffff16565b9450808060010191505061768a565b8495505050505050949350505050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156177245781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156177e657858181518110151561774a57fe5b9060200101517f010000000000000000","000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156177a957fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050617733565b600090505b845181101561789e57848181518110151561780257fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561786157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506177eb565b83965050505050505092915050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156178f55781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156179b757858181518110151561791b57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561797a57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050617904565b600090505b8451811015617a6f5784818151811015156179d357fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515617a3257fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506179bc565b83965050505050505092915050565b606060206040519080825280601f01601f191660200182016040528015617ab45781602001602082028038833980820191505090505b509050816020820152919050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f191660200182016040528015617b0d5781602001602082028038833980820191505090505b509250600090505b6014811015617b9a578181601481101515617b2c57fe5b1a7f0100000000000000000000000000000000000000000000000000000000000000028382815181101515617b5d57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050617b15565b5050919050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10617c0457805160ff1916838001178555617c32565b82800160010185558215617c32579182015b82811115617c31578251825591602001919060010190617c16565b5b509050617c3f9190617cbd565b5090565b815481835581811115617c7057600202816002028360005260206000209182019101617c6f9190617ce2565b5b505050565b50805460018160011615610100020316600290046000825580601f10617c9b5750617cba565b601f016020900490600052602060002090810190617cb99190617cbd565b5b50565b617cdf91905b80821115617cdb576000816000905550600101617cc3565b5090565b90565b617d2291905b80821115617d1e5760008082016000617d019190617c75565b6001820160006101000a81549060ff021916905550600201617ce8565b5090565b90565b6000617d31823561a125565b905092915050565b6000617d45825161a125565b905092915050565b600082601f8301121515617d6057600080fd5b8135617d73617d6e82619e89565b619e5c565b91508181835260208401935060208101905083856020840282011115617d9857600080fd5b60005b83811015617dc85781617dae8882617d25565b845260208401935060208301925050600181019050617d9b565b5050505092915050565b600082601f8301121515617de557600080fd5b6004617df8617df382619eb1565b619e5c565b91508183856020840282011115617e0e57600080fd5b60005b83811015617e3e5781617e2488826180c8565b845260208401935060208301925050600181019050617e11565b5050505092915050565b600082601f8301121515617e5b57600080fd5b8135617e6e617e6982619ed3565b619e5c565b91508181835260208401935060208101905083856020840282011115617e9357600080fd5b60005b83811015617ec35781617ea98882618132565b845260208401935060208301925050600181019050617e96565b5050505092915050565b600082601f8301121515617ee057600080fd5b8135617ef3617eee82619efb565b619e5c565b9150818183526020840193506020810190508360005b83811015617f395781358601617f1f8882618146565b845260208401935060208301925050600181019050617f09565b5050505092915050565b600082601f8301121515617f5657600080fd5b8151617f69617f6482619efb565b619e5c565b9150818183526020840193506020810190508360005b83811015617faf5781518601617f95888261819c565b845260208401935060208301925050600181019050617f7f565b5050505092915050565b600082601f8301121515617fcc57600080fd5b6002617fdf617fda82619f23565b619e5c565b91508183856020840282011115617ff557600080fd5b60005b83811015618025578161800b8882618206565b845260208401935060208301925050600181019050617ff8565b5050505092915050565b600082601f830112151561804257600080fd5b813561805561805082619f45565b619e5c565b9150818183526020840193506020810190508385602084028201111561807a57600080fd5b60005b838110156180aa578161809088826181f2565b84526020840193506020830192505060018101905061807d565b5050505092915050565b60006180c0825161a145565b905092915050565b60006180d4823561a151565b905092915050565b600082601f83011215156180ef57600080fd5b81356181026180fd82619f6d565b619e5c565b9150808252602083016020830185838301111561811e57600080fd5b61812983828461a1a5565b50505092915050565b600061813e823561a15b565b905092915050565b600082601f830112151561815957600080fd5b813561816c61816782619f99565b619e5c565b9150808252602083016020830185838301111561818857600080fd5b61819383828461a1a5565b50505092915050565b600082601f83011215156181af57600080fd5b81516181c26181bd82619f99565b619e5c565b915080825260208301602083018583830111156181de57600080fd5b6181e983828461a1b4565b50505092915050565b60006181fe823561a165565b905092915050565b6000618212825161a165565b905092915050565b60006020828403121561822c57600080fd5b600061823a84828501617d39565b91505092915050565b60008060a0838503121561825657600080fd5b600061826485828601617d25565b925050602061827585828601617dd2565b9150509250929050565b6000806040838503121561829257600080fd5b60006182a085828601617d39565b92505060206182b1858286016180b4565b9150509250929050565b6000602082840312156182cd57600080fd5b600082013567ffffffffffffffff8111156182e757600080fd5b6182f384828501617d4d565b91505092915050565b6000806000806000610100868803121561831557600080fd5b600086013567ffffffffffffffff81111561832f57600080fd5b61833b88828901617d4d565b955050602061834c888289016181f2565b945050604086013567ffffffffffffffff81111561836957600080fd5b61837588828901617e48565b935050606086013567ffffffffffffffff81111561839257600080fd5b61839e88828901617ecd565b92505060806183af88828901617dd2565b9150509295509295909350565b6000608082840312156183ce57600080fd5b60006183dc84828501617dd2565b91505092915050565b6000602082840312156183f757600080fd5b600082015167ffffffffffffffff81111561841157600080fd5b61841d84828501617f43565b91505092915050565b60008060008060e0858703121561843c57600080fd5b600085013567ffffffffffffffff81111561845657600080fd5b6184628782880161802f565b945050602085013567ffffffffffffffff81111561847f57600080fd5b61848b87828801617d4d565b935050604085013567ffffffffffffffff8111156184a857600080fd5b6184b487828801617e48565b92505060606184c587828801617dd2565b91505092959194509250565b6000602082840312156184e357600080fd5b60006184f1848285016180b4565b91505092915050565b6000806060838503121561850d57600080fd5b600061851b858286016180b4565b925050602061852c85828601617fb9565b9150509250929050565b60006020828403121561854857600080fd5b600082013567ffffffffffffffff81111561856257600080fd5b61856e848285016180dc565b91505092915050565b60008060a0838503121561858a57600080fd5b600083013567ffffffffffffffff8111156185a457600080fd5b6185b0858286016180dc565b92505060206185c185828601617dd2565b9150509250929050565b600080604083850312156185de57600080fd5b600083013567ffffffffffffffff8111156185f857600080fd5b618604858286016180dc565b925050602083013567ffffffffffffffff81111561862157600080fd5b61862d858286016180dc565b9150509250929050565b600080600060c0848603121561864c57600080fd5b600084013567ffffffffffffffff81111561866657600080fd5b618672868287016180dc565b935050602084013567ffffffffffffffff81111561868f57600080fd5b61869b868287016180dc565b92505060406186ac86828701617dd2565b9150509250925092565b6000602082840312156186c857600080fd5b60006186d684828501618206565b91505092915050565b60008060a083850312156186f257600080fd5b6000618700858286016181f2565b925050602061871185828601617dd2565b9150509250929050565b6187248161a0db565b82525050565b60006187358261a01f565b80845260208401935061874783619fc5565b60005b828110156187795761875d8683516187","1b565b6187668261a08d565b915060208601955060018101905061874a565b50849250505092915050565b61878e8161a02a565b61879782619fd2565b60005b828110156187c9576187ad85835161894e565b6187b68261a09a565b915060208501945060018101905061879a565b5050505050565b60006187db8261a035565b8084526020840193506187ed83619fdc565b60005b8281101561881f57618803868351618a7c565b61880c8261a0a7565b91506020860195506001810190506187f0565b50849250505092915050565b60006188368261a040565b8084526020840193508360208202850161884f85619fe9565b60005b8481101561888857838303885261886a838351618ac1565b92506188758261a0b4565b9150602088019750600181019050618852565b508196508694505050505092915050565b6188a28161a04b565b6188ab82619ff6565b60005b828110156188dd576188c185835161934f565b6188ca8261a0c1565b91506020850194506001810190506188ae565b5050505050565b60006188ef8261a056565b8084526020840193506189018361a000565b60005b828110156189335761891786835161934f565b6189208261a0ce565b9150602086019550600181019050618904565b50849250505092915050565b6189488161a0fb565b82525050565b6189578161a107565b82525050565b60006189688261a06c565b80845261897c81602086016020860161a1b4565b6189858161a1e7565b602085010191505092915050565b600061899e8261a061565b8084526189b281602086016020860161a1b4565b6189bb8161a1e7565b602085010191505092915050565b6000815460018116600081146189e65760018114618a0657618a47565b607f600283041680865260ff198316602087015260408601935050618a47565b60028204808652602086019550618a1c8561a00d565b60005b82811015618a3e57815481890152600182019150602081019050618a1f565b80880195505050505b505092915050565b618a588161a16f565b82525050565b618a678161a181565b82525050565b618a768161a193565b82525050565b618a858161a111565b82525050565b6000618a968261a082565b808452618aaa81602086016020860161a1b4565b618ab38161a1e7565b602085010191505092915050565b6000618acc8261a077565b808452618ae081602086016020860161a1b4565b618ae98161a1e7565b602085010191505092915050565b6000602c82527f466f7262696464656e207175657279426f6f6b206265636175736520796f752060208301527f6172656e2774206f776e657200000000000000000000000000000000000000006040830152606082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000602982527f546865206c656e677468206f66207375626a656374206279746573206973207760208301527f697468696e2032353500000000000000000000000000000000000000000000006040830152606082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601182527f7365745261746520466f7262696464656e0000000000000000000000000000006020830152604082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000601f82527f676574546f74616c42616c616e636520676574546f74616c42616c616e6365006020830152604082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000601782527f616d6f756e743c3d30206973206e6f74207665726966790000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000602682527f546865206c656e677468206f662064657363206279746573206973207769746860208301527f696e2032353500000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000601282527f736574507269636520466f7262696464656e00000000000000000000000000006020830152604082019050919050565b6000600782527f73657452617465000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600f82527f676574546f74616c42616c616e636500000000000000000000000000000000006020830152604082019050919050565b6000600a82527f67657442616c616e6365000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e2067657442616c616e63650000000000000000000000006020830152604082019050919050565b6000600882527f73657450726963650000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6193588161a11b565b82525050565b6000602082019050619373600083018461871b565b92915050565b600060808201905061938e600083018761871b565b61939b602083018661871b565b6193a8604083018561871b565b81810360608301526193ba818461895d565b905095945050505050565b6000610100820190506193db600083018861871b565b6193e8602083018761871b565b81810360408301526193fa8186618993565b9050818103606083015261940e818561895d565b905061941d6080830184618785565b9695505050505050565b600060a08201905061943c600083018861871b565b619449602083018761871b565b818103604083015261945b8186618993565b9050818103606083015261946f818561895d565b9050818103608083015261948381846189c9565b90509695505050505050565b6000610100820190506194a5600083018761871b565b6194b2602083018661871b565b81810360408301526194c381619273565b905081810360608301526194d7818561895d565b90506194e66080830184618785565b95945050505050565b6000606082019050619504600083018661871b565b619511602083018561871b565b61951e604083018461934f565b949350505050565b60006101008201905061953c600083018761871b565b6195496020830186618a4f565b818103604083015261955a81619205565b9050818103606083015261956e818561895d565b905061957d6080830184618785565b95945050505050565b60006101008201905061959c600083018761871b565b6195a96020830186618a4f565b81810360408301526195ba816192e1565b905081810360608301526195ce818561895d565b90506195dd6080830184618785565b95945050505050565b6000610100820190506195fc600083018861871b565b6196096020830187618a5e565b818103604083015261961b818661895d565b9050818103606083015261962f818561895d565b905061963e6080830184618785565b9695505050505050565b60006101008201905061965e600083018861871b565b61966b6020830187618a6d565b818103604083015261967d8186618993565b90508181036060830152619691818561895d565b90506196a06080830184618785565b9695505050505050565b6000610100820190506196c0600083018761871b565b6196cd6020830186618a6d565b81810360408301526196de81618bf9565b905081810360608301526196f2818561895d565b90506197016080830184618785565b95945050505050565b600061010082019050619720600083018761871b565b61972d6020830186618a6d565b818103604083015261973e81618c30565b90508181036060830152619752818561895d565b9050619761608083","0184618785565b95945050505050565b600061010082019050619780600083018761871b565b61978d6020830186618a6d565b818103604083015261979e816190cc565b905081810360608301526197b2818561895d565b90506197c16080830184618785565b95945050505050565b6000610100820190506197e0600083018761871b565b6197ed6020830186618a6d565b81810360408301526197fe81619160565b90508181036060830152619812818561895d565b90506198216080830184618785565b95945050505050565b600061010082019050619840600083018761871b565b61984d6020830186618a6d565b818103604083015261985e8161923c565b90508181036060830152619872818561895d565b90506198816080830184618785565b95945050505050565b600060408201905061989f600083018561871b565b6198ac602083018461934f565b9392505050565b600060208201905081810360008301526198cd818461872a565b905092915050565b600060808201905081810360008301526198ef818761872a565b90506198fe602083018661934f565b8181036040830152619910818561882b565b9050818103606083015261992481846187d0565b905095945050505050565b60006020820190508181036000830152619949818461882b565b905092915050565b6000606082019050818103600083015261996b81866188e4565b9050818103602083015261997f818561872a565b9050818103604083015261999381846187d0565b9050949350505050565b60006020820190506199b2600083018461893f565b92915050565b60006040820190506199cd600083018561893f565b81810360208301526199df818461872a565b90509392505050565b60006060820190506199fd600083018561893f565b619a0a6020830184618899565b9392505050565b60006020820190508181036000830152619a2b8184618993565b905092915050565b60006020820190508181036000830152619a4d818461895d565b905092915050565b6000606082019050619a6a6000830186618a6d565b619a77602083018561871b565b619a84604083018461893f565b949350505050565b60006020820190508181036000830152619aa68184618a8b565b905092915050565b60006020820190508181036000830152619ac781618af7565b9050919050565b60006020820190508181036000830152619ae781618b54565b9050919050565b60006020820190508181036000830152619b0781618b8b565b9050919050565b60006020820190508181036000830152619b2781618bc2565b9050919050565b60006020820190508181036000830152619b4781618c67565b9050919050565b60006020820190508181036000830152619b6781618c9e565b9050919050565b60006020820190508181036000830152619b8781618cd5565b9050919050565b60006020820190508181036000830152619ba781618d32565b9050919050565b60006020820190508181036000830152619bc781618d8f565b9050919050565b60006020820190508181036000830152619be781618dc6565b9050919050565b60006020820190508181036000830152619c0781618dfd565b9050919050565b60006020820190508181036000830152619c2781618e5a565b9050919050565b60006020820190508181036000830152619c4781618e91565b9050919050565b60006020820190508181036000830152619c6781618f14565b9050919050565b60006020820190508181036000830152619c8781618f4b565b9050919050565b60006020820190508181036000830152619ca781618f82565b9050919050565b60006020820190508181036000830152619cc781618fb9565b9050919050565b60006020820190508181036000830152619ce781618ff0565b9050919050565b60006020820190508181036000830152619d0781619027565b9050919050565b60006020820190508181036000830152619d278161905e565b9050919050565b60006020820190508181036000830152619d4781619095565b9050919050565b60006020820190508181036000830152619d6781619103565b9050919050565b60006020820190508181036000830152619d8781619197565b9050919050565b60006020820190508181036000830152619da7816191ce565b9050919050565b60006020820190508181036000830152619dc7816192aa565b9050919050565b60006020820190508181036000830152619de781619318565b9050919050565b6000602082019050619e03600083018461934f565b92915050565b600060a082019050619e1e600083018861934f565b619e2b602083018761934f565b619e38604083018661871b565b619e45606083018561871b565b619e52608083018461934f565b9695505050505050565b6000604051905081810181811067ffffffffffffffff82111715619e7f57600080fd5b8060405250919050565b600067ffffffffffffffff821115619ea057600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619ec857600080fd5b602082029050919050565b600067ffffffffffffffff821115619eea57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619f1257600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619f3a57600080fd5b602082029050919050565b600067ffffffffffffffff821115619f5c57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619f8457600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115619fb057600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600061a17a8261a0db565b9050919050565b600061a18c8261a0db565b9050919050565b600061a19e8261a0db565b9050919050565b82818337600083830152505050565b60005b8381101561a1d257808201518184015260208101905061a1b7565b8381111561a1e1576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a7230582027b9e54e4a37245a9413f5fda63d9cdf06aad19e508265dfa8660cd1f829b5f06c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b506040516200593638038062005936833981018060405262000037919081019062000354565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600a9080519060200190620000ff9291906200021b565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166356004b6a600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a91906200055d565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d09190810190620003c3565b5080600b60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505062000678565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200025e57805160ff19168380011785556200028f565b828001600101855582156200028f579182015b828111156200028e57825182559160200191906001019062000271565b5b5090506200029e9190620002a2565b5090565b620002c791905b80821115620002c3576000816000905550600101620002a9565b5090565b90565b6000620002d8825162000618565b905092915050565b6000620002ee825162000638565b905092915050565b600082601f83011215156200030a57600080fd5b8151620003216200031b82620005d9565b620005ab565b915080825260208301602083018583830111156200033e57600080fd5b6200034b83828462000642565b50505092915050565b6000806000606084860312156200036a57600080fd5b60006200037a86828701620002ca565b935050602084015167ffffffffffffffff8111156200039857600080fd5b620003a686828701620002f6565b9250506040620003b986828701620002ca565b9150509250925092565b600060208284031215620003d657600080fd5b6000620003e684828501620002e0565b91505092915050565b6000815460018116600081146200040f5760018114620004305762000475565b607f600283041680865260ff19831660208701526040860193505062000475565b60028204808652602086019550620004488562000606565b60005b828110156200046c578154818901526001820191506020810190506200044b565b80880195505050505b505092915050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000606482527f7465726d5f6e6f2c7365712c66726f6d2c746f2c616d6f756e742c617373657460208301527f2c6f70657261746f722c646573632c7472616e73616374696f6e5f747970652c60408301527f6f7065726174696f6e5f747970652c7375626a6563742c72656c617465645f6160","608301527f7373657400000000000000000000000000000000000000000000000000000000608083015260a082019050919050565b60006060820190508181036000830152620005798184620003ef565b905081810360208301526200058e816200047d565b90508181036040830152620005a381620004b4565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005cf57600080fd5b8060405250919050565b600067ffffffffffffffff821115620005f157600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b838110156200066257808201518184015260208101905062000645565b8381111562000672576000848401525b50505050565b6152ae80620006886000396000f300608060405260043610610062576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806318d6f1711461006757806338cc4831146100a5578063521ae536146100d0578063e953d0af1461010d575b600080fd5b34801561007357600080fd5b5061008e6004803603610089919081019061405e565b610138565b60405161009c929190614982565b60405180910390f35b3480156100b157600080fd5b506100ba6105c9565b6040516100c79190614945565b60405180910390f35b3480156100dc57600080fd5b506100f760048036036100f29190810190614109565b6105d1565b6040516101049190614960565b60405180910390f35b34801561011957600080fd5b50610122610c92565b60405161012f9190614f3f565b60405180910390f35b6000610142613c9a565b600060606000806000610153613c9a565b60048c5110158015610166575060028951145b15156101a7576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161019e90614db9565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663124b65b46040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801561022c57600080fd5b505af1158015610240573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061026991908101906142d7565b80965081975050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638662f51f6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156102f657600080fd5b505af115801561030a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061032e91908101906142ae565b935061033e86858e8e8e8e610cef565b9250600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016103b89190614a4f565b602060405180830381600087803b1580156103d257600080fd5b505af11580156103e6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061040a919081019061421b565b915060018273ffffffffffffffffffffffffffffffffffffffff166331afac36610454600260016002805490500381548110151561044457fe5b90600052602060002001546116b9565b866040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161048e929190614a1f565b602060405180830381600087803b1580156104a857600080fd5b505af11580156104bc573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104e09190810190614244565b141515610522576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161051990614e63565b60405180910390fd5b61052d86858e611810565b60408051908101604052808781526020018581525090507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada86858e600281518110151561057657fe5b906020019060200201518f600381518110151561058f57fe5b906020019060200201518f6040516105ab959493929190614f5a565b60405180910390a16001819750975050505050505094509492505050565b600030905090565b60606000606060006060600080606060008b5111806105f1575060008a51115b1515610632576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161062990614db9565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016106aa9190614a4f565b602060405180830381600087803b1580156106c457600080fd5b505af11580156106d8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506106fc919081019061421b565b96506107088b8b611dca565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561077457600080fd5b505af1158015610788573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107ac91908101906141a0565b92506000915060008b511180156107dc575060008b60008151811015156107cf57fe5b9060200190602002015114155b15610889578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d161081e8d600081518110151561080f57fe5b906020019060200201516116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108569190614c9a565b600060405180830381600087803b15801561087057600080fd5b505af1158015610884573d6000803e3d6000fd5b505050505b60018b511180156108b3575060008b60018151811015156108a657fe5b9060200190602002015114155b15610960578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16108f58d60018151811015156108e657fe5b906020019060200201516116b9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161092d9190614d0f565b600060405180830381600087803b15801561094757600080fd5b505af115801561095b573d6000803e3d6000fd5b505050505b60008a511180156109b65750600073ffffffffffffffffffffffffffffffffffffffff168a600081518110151561099357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610a79578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d1610a0e8c60008151811015156109e957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610a469190614bf7565b600060405180830381600087803b158015610a6057600080fd5b505af1158015610a74573d6000803e3d6000fd5b505050505b60018a51118015610acf5750600073ffffffffffffffffffffffffffffffffffffffff168a6001815181101515610aac57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610b92578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d1610b278c6001815181101515610b0257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b5f9190614b54565b600060405180830381600087803b158015610b7957600080fd5b505af1158015610b8d573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff16637ec1cc658a6000815181101515610bbd57fe5b906020019060200201518b6001815181101515610bd657fe5b906020019060200201516040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c199291906149c6565b600060405180830381600087803b158015610c3357600080fd5b505af1158015610c47573d6000803e3d6000fd5b50505050610c568686856125c2565b809350819250505060008151118015610c6f5750600082135b15610c8157610c7e81836128ca565b93505b839750505050505050509392505050565b6000600260016002805490500190806001815401808255809150509060018203906000526020600020016000909192909190915055506002600160028054905003815481101515610cdf57fe5b9060005260206000200154905090565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610d6c9190614a4f565b602060405180830381600087803b158015610d8657600080fd5b505af1158015610d9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610dbe919081019061421b565b91508173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610e2457600080fd5b505af1158015610e38573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e5c91908101906141f2565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610ea46002600160028054905003815481101515610e9457fe5b906000526020600020015461","16b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610edc9190614dd9565b600060405180830381600087803b158015610ef657600080fd5b505af1158015610f0a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610f338a6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f6b9190614d0f565b600060405180830381600087803b158015610f8557600080fd5b505af1158015610f99573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610fc28b6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ffa9190614c9a565b600060405180830381600087803b15801561101457600080fd5b505af1158015611028573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661107f89600281518110151561105a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110b79190614bf7565b600060405180830381600087803b1580156110d157600080fd5b505af11580156110e5573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661113c89600381518110151561111757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111749190614b54565b600060405180830381600087803b15801561118e57600080fd5b505af11580156111a2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158860018151811015156111d157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112139190614a91565b600060405180830381600087803b15801561122d57600080fd5b505af1158015611241573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661126a886116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112a29190614e2e565b600060405180830381600087803b1580156112bc57600080fd5b505af11580156112d0573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158860008151811015156112ff57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113419190614c4c565b600060405180830381600087803b15801561135b57600080fd5b505af115801561136f573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51686600081518110151561139e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113e09190614d64565b600060405180830381600087803b1580156113fa57600080fd5b505af115801561140e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba7485600081518110151561143d57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161147f9190614ec3565b600060405180830381600087803b15801561149957600080fd5b505af11580156114ad573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748560018151811015156114dc57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161151e9190614f11565b600060405180830381600087803b15801561153857600080fd5b505af115801561154c573d6000803e3d6000fd5b505050506001855111156115fa578073ffffffffffffffffffffffffffffffffffffffff1663e942b51686600181518110151561158557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115c79190614adf565b600060405180830381600087803b1580156115e157600080fd5b505af11580156115f5573d6000803e3d6000fd5b505050505b8073ffffffffffffffffffffffffffffffffffffffff1663a815ff15600589511061163d5788600481518110151561162e57fe5b90602001906020020151611640565b60005b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116789190614ba9565b600060405180830381600087803b15801561169257600080fd5b505af11580156116a6573d6000803e3d6000fd5b5050505080925050509695505050505050565b60606000806060600080861415611707576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611807565b8593505b600084141515611731578280600101935050600a8481151561172957fe5b04935061170b565b826040519080825280601f01601f1916602001820160405280156117645781602001602082028038833980820191505090505b5091506001830390505b60008614151561180357600a8681151561178457fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156117bf57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156117fb57fe5b04955061176e565b8194505b50505050919050565b600760008481526020019081526020016000206000600260016002805490500381548110151561183c57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615156119265760036000848152602001908152602001600020600260016002805490500381548110151561189357fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160076000858152602001908152602001600020600060026001600280549050038154811015156118f557fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600260016002805490500381548110151561193d57fe5b906000526020600020015460046000848152602001908152602001600020819055506008600082600281518110151561197257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156119cf57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611a485750806002815181101515611a0d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611b925760056000826002815181101515611a6057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611abb57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160086000836002815181101515611b0457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611b6157fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b60096000826003815181101515611ba557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611c0257fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611c7b5750806003815181101515611c4057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611dc55760066000826003815181101515611c9357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611cee57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160096000836003815181101515611d3757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611d9457fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b505050565b6060600060606000806000806000600280549050604051908082528060200260200182016040528015611e0c5781602001602082028038833980820191505090505b50955060018a51118015611e39575060008a6001815181101515611e2c57fe5b9060200190602002015114155b15611ec7576000600460008c6001815181101515611e5357fe5b90602001906020020151815260200190815260200160002054141515611ec6576001866001600460008e6001815181101515611e8b57fe5b906020019060200201518152602001908152602001","6000205403815181101515611eb157fe5b90602001906020020190151590811515815250505b5b60008a51118015611ef1575060008a6000815181101515611ee457fe5b9060200190602002015114155b1561200c57600094505b600360008b6000815181101515611f0e57fe5b9060200190602002015181526020019081526020016000208054905085101561200b57856001600360008d6000815181101515611f4757fe5b90602001906020020151815260200190815260200160002087815481101515611f6c57fe5b906000526020600020015403815181101515611f8457fe5b906020019060200201511515611ffe576001866001600360008e6000815181101515611fac57fe5b90602001906020020151815260200190815260200160002088815481101515611fd157fe5b906000526020600020015403815181101515611fe957fe5b90602001906020020190151590811515815250505b8480600101955050611efb565b5b600089511180156120625750600073ffffffffffffffffffffffffffffffffffffffff1689600081518110151561203f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561220157600093505b600560008a600081518110151561207f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208054905084101561220057856001600560008c60008151811015156120e457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208681548110151561213557fe5b90600052602060002001540381518110151561214d57fe5b9060200190602002015115156121f3576001866001600560008d600081518110151561217557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020878154811015156121c657fe5b9060005260206000200154038151811015156121de57fe5b90602001906020020190151590811515815250505b838060010194505061206c565b5b600189511180156122575750600073ffffffffffffffffffffffffffffffffffffffff1689600181518110151561223457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156123f657600092505b600660008a600181518110151561227457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020805490508310156123f557856001600660008c60018151811015156122d957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208581548110151561232a57fe5b90600052602060002001540381518110151561234257fe5b9060200190602002015115156123e8576001866001600660008d600181518110151561236a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156123bb57fe5b9060005260206000200154038151811015156123d357fe5b90602001906020020190151590811515815250505b8280600101935050612261565b5b60009150600090505b855181101561243b57858181518110151561241657fe5b906020019060200201511561242e5781806001019250505b80806001019150506123ff565b8582975097505050505050509250929050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff16945060008514156124b8576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525095506125b8565b8493505b6000841415156124e2578280600101935050600a848115156124da57fe5b0493506124bc565b826040519080825280601f01601f1916602001820160405280156125155781602001602082028038833980820191505090505b5091506001830390505b6000851415156125b457600a8581151561253557fe5b066030017f01000000000000000000000000000000000000000000000000000000000000000282828060019003935081518110151561257057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a858115156125ac57fe5b04945061251f565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126489190614a4f565b602060405180830381600087803b15801561266257600080fd5b505af1158015612676573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061269a919081019061421b565b955060009450896040519080825280602002602001820160405280156126cf5781602001602082028038833980820191505090505b50935060009250600091505b8a518210156128b6578a828151811015156126f257fe5b90602001906020020151156128a9578573ffffffffffffffffffffffffffffffffffffffff1663e8434e39612729600185016116b9565b8b6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016127639291906149ef565b602060405180830381600087803b15801561277d57600080fd5b505af1158015612791573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127b591908101906141c9565b90508073ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561281b57600080fd5b505af115801561282f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128539190810190614244565b8501945080848480600101955081518110151561286c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b81806001019250506126db565b838597509750505050505050935093915050565b60608060008060008060006060600c890260405190808252806020026020018201604052801561290e57816020015b60608152602001906001900390816128f95790505b509650600095505b895186101561353457898681518110151561292d57fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156129a657600080fd5b505af11580156129ba573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129de9190810190614244565b831215613527578473ffffffffffffffffffffffffffffffffffffffff1663846719e0846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a3a91906149ab565b602060405180830381600087803b158015612a5457600080fd5b505af1158015612a68573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a8c91908101906141f2565b915060009350612c938273ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae890614bd7565b600060405180830381600087803b158015612b0257600080fd5b505af1158015612b16573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612b3f919081019061426d565b8373ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b9290614b34565b600060405180830381600087803b158015612bac57600080fd5b505af1158015612bc0573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612be9919081019061426d565b8473ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c3c90614c2c565b602060405180830381600087803b158015612c5657600080fd5b505af1158015612c6a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c8e9190810190614035565b613544565b905060038151141515612cdb576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612cd290614b14565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d2e90614c7a565b600060405180830381600087803b158015612d4857600080fd5b505af1158015612d5c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612d85919081019061426d565b878585600c0201815181101515612d9857fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612df890614cef565b600060405180830381600087803b158015612e1257600080fd5b505af1158015612e26573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612e4f919081019061426d565b878560010195508585600c0201815181101515612e6857fe5b90602001906020020181905250806000815181101515612e8457fe5b90602001906020020151878560010195508585600c02018151811015","15612ea757fe5b90602001906020020181905250806001815181101515612ec357fe5b90602001906020020151878560010195508585600c0201815181101515612ee657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f4690614e0e565b600060405180830381600087803b158015612f6057600080fd5b505af1158015612f74573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612f9d919081019061426d565b878560010195508585600c0201815181101515612fb657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161301690614d44565b600060405180830381600087803b15801561303057600080fd5b505af1158015613044573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061306d919081019061426d565b878560010195508585600c020181518110151561308657fe5b906020019060200201819052506131568273ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130e990614a71565b602060405180830381600087803b15801561310357600080fd5b505af1158015613117573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061313b9190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561316f57fe5b9060200190602002018190525080600281518110151561318b57fe5b90602001906020020151878560010195508585600c02018151811015156131ae57fe5b906020019060200201819052506132688273ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161321190614ea3565b602060405180830381600087803b15801561322b57600080fd5b505af115801561323f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506132639190810190614244565b6116b9565b878560010195508585600c020181518110151561328157fe5b9060200190602002018190525061333b8273ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132e490614ef1565b602060405180830381600087803b1580156132fe57600080fd5b505af1158015613312573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506133369190810190614244565b6116b9565b878560010195508585600c020181518110151561335457fe5b906020019060200201819052506134248273ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016133b790614b89565b602060405180830381600087803b1580156133d157600080fd5b505af11580156133e5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134099190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561343d57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161349d90614abf565b600060405180830381600087803b1580156134b757600080fd5b505af11580156134cb573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506134f4919081019061426d565b878560010195508585600c020181518110151561350d57fe5b906020019060200201819052508280600101935050612942565b8580600101965050612916565b8697505050505050505092915050565b606080600080600360405190808252806020026020018201604052801561357f57816020015b606081526020019060019003908161356a5790505b50925061358b87613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561374557600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca061360789613ac9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161363f9190614945565b602060405180830381600087803b15801561365957600080fd5b505af115801561366d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136919190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613705576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016136fc90614d99565b60405180910390fd5b6137248173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600081518110151561373357fe5b90602001906020020181905250613763565b8683600081518110151561375557fe5b906020019060200201819052505b61376c86613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561392657600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca06137e888613ac9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138209190614945565b602060405180830381600087803b15801561383a57600080fd5b505af115801561384e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138729190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156138e6576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016138dd90614e83565b60405180910390fd5b6139058173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600181518110151561391457fe5b90602001906020020181905250613944565b8583600181518110151561393657fe5b906020019060200201819052505b600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016139bb9190614945565b602060405180830381600087803b1580156139d557600080fd5b505af11580156139e9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a0d9190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613a81576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613a7890614ccf565b60405180910390fd5b613aa08173ffffffffffffffffffffffffffffffffffffffff1661244e565b836002815181101515613aaf57fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613c8f5760308382815181101515613af557fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bf3575060398382815181101515613b7f57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613c825760308382815181101515613c0857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613adc565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613cc88235615181565b905092915050565b6000613cdc8251615181565b905092915050565b600082601f8301121515613cf757600080fd5b8135613d0a613d0582614fda565b614fad565b91508181835260208401935060208101905083856020840282011115613d2f57600080fd5b60005b83811015613d5f5781613d458882613cbc565b845260208401935060208301925050600181019050613d32565b5050505092915050565b600082601f8301121515613d7c57600080fd5b8135613d8f613d8a82615002565b614fad565b91508181835260208401935060208101905083856020840282011115613db457600080fd5b60005b83811015613de45781613dca8882613f39565b845260208401935060208301925050600181019050613db7565b5050505092915050565b600082601f8301121515613e0157600080fd5b8135613e14613e0f8261502a565b614fad565b9150818183526020840193506020810190508360005b83811015613e5a5781358601613e408882613f61565b845260208401935060208301925050600181019050613e2a565b5050505092915050565b600082601f8301121515613e7757600080fd5b8135613e8a613e8582615052565b614fad565b91508181835260208401935060208101905083856020","840282011115613eaf57600080fd5b60005b83811015613edf5781613ec5888261400d565b845260208401935060208301925050600181019050613eb2565b5050505092915050565b6000613ef582516151a1565b905092915050565b6000613f0982516151b3565b905092915050565b6000613f1d82516151c5565b905092915050565b6000613f3182516151d7565b905092915050565b6000613f4582356151e9565b905092915050565b6000613f5982516151e9565b905092915050565b600082601f8301121515613f7457600080fd5b8135613f87613f828261507a565b614fad565b91508082526020830160208301858383011115613fa357600080fd5b613fae838284615221565b50505092915050565b600082601f8301121515613fca57600080fd5b8151613fdd613fd8826150a6565b614fad565b91508082526020830160208301858383011115613ff957600080fd5b614004838284615230565b50505092915050565b600061401982356151f3565b905092915050565b600061402d82516151f3565b905092915050565b60006020828403121561404757600080fd5b600061405584828501613cd0565b91505092915050565b6000806000806080858703121561407457600080fd5b600085013567ffffffffffffffff81111561408e57600080fd5b61409a87828801613ce4565b94505060206140ab8782880161400d565b935050604085013567ffffffffffffffff8111156140c857600080fd5b6140d487828801613dee565b925050606085013567ffffffffffffffff8111156140f157600080fd5b6140fd87828801613d69565b91505092959194509250565b60008060006060848603121561411e57600080fd5b600084013567ffffffffffffffff81111561413857600080fd5b61414486828701613e64565b935050602084013567ffffffffffffffff81111561416157600080fd5b61416d86828701613ce4565b925050604084013567ffffffffffffffff81111561418a57600080fd5b61419686828701613d69565b9150509250925092565b6000602082840312156141b257600080fd5b60006141c084828501613ee9565b91505092915050565b6000602082840312156141db57600080fd5b60006141e984828501613efd565b91505092915050565b60006020828403121561420457600080fd5b600061421284828501613f11565b91505092915050565b60006020828403121561422d57600080fd5b600061423b84828501613f25565b91505092915050565b60006020828403121561425657600080fd5b600061426484828501613f4d565b91505092915050565b60006020828403121561427f57600080fd5b600082015167ffffffffffffffff81111561429957600080fd5b6142a584828501613fb7565b91505092915050565b6000602082840312156142c057600080fd5b60006142ce84828501614021565b91505092915050565b600080604083850312156142ea57600080fd5b60006142f885828601614021565b925050602083015167ffffffffffffffff81111561431557600080fd5b61432185828601613fb7565b9150509250929050565b61433481615141565b82525050565b6000614345826150fb565b8084526020840193508360208202850161435e856150d2565b60005b84811015614397578383038852614379838351614465565b925061438482615127565b9150602088019750600181019050614361565b508196508694505050505092915050565b6143b181615106565b6143ba826150df565b60005b828110156143ec576143d0858351614936565b6143d982615134565b91506020850194506001810190506143bd565b5050505050565b6143fc81615161565b82525050565b61440b816151fd565b82525050565b61441a8161520f565b82525050565b6144298161516d565b82525050565b600061443a8261511c565b80845261444e816020860160208601615230565b61445781615263565b602085010191505092915050565b600061447082615111565b808452614484816020860160208601615230565b61448d81615263565b602085010191505092915050565b6000815460018116600081146144b857600181146144d857614519565b607f600283041680865260ff198316602087015260408601935050614519565b600282048086526020860195506144ee856150e9565b60005b82811015614510578154818901526001820191506020810190506144f1565b80880195505050505b505092915050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7375626a656374000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600d82527f72656c617465645f6173736574000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600682527f616d6f756e7400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f777269746520626f6f6b206661696c65640000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6000601082527f7472616e73616374696f6e5f74797065000000000000000000000000000000006020830152604082019050919050565b6000600e82527f6f7065726174696f6e5f747970650000000000000000000000000000000000006020830152604082019050919050565b61493f81615177565b82525050565b600060208201905061495a600083018461432b565b92915050565b6000602082019050818103600083015261497a818461433a565b905092915050565b600060608201905061499760008301856143f3565b6149a460208301846143a8565b9392505050565b60006020820190506149c06000830184614420565b92915050565b60006040820190506149db6000830185614420565b6149e86020830184614420565b9392505050565b60006040820190508181036000830152614a09818561442f565b9050614a186020830184614402565b9392505050565b60006040820190508181036000830152614a39818561442f565b9050614a486020830184614411565b9392505050565b60006020820190508181036000830152614a69818461449b565b905092915050565b60006020820190508181036000830152614a8a81614521565b9050919050565b60006040820190508181036000830152614aaa81614521565b9050614ab9602083018461432b565b92915050565b60006020820190508181036000830152614ad881614558565b9050919050565b60006040820190508181036000830152614af881614558565b90508181036020830152614b0c8184614465565b905092915050565b60006020820190508181036000830152614b2d8161458f565b9050919050565b60006020820190508181036000830152614b4d816145c6565b9050919050565b60006040820190508181036000830152614b6d816145c6565b90508181036020830152614b81818461442f565b905092915050565b60006020820190508181036000830152614ba2816145fd565b9050919050565b60006040820190508181036000830152614bc2816145fd565b9050614bd1602083018461432b565b92915050565b60006020820190508181036000830152614bf081614634565b9050919050565b60006040820190508181036000830152614c1081614634565b90508181036020830152614c24818461442f565b905092915050565b60006020820190508181036000830152614c458161466b565b9050919050565b60006040820190508181036000830152614c658161466b565b9050614c74602083018461432b565b92915050565b60006020820190508181036000830152614c93816146a2565b9050919050565b60006040820190508181036000830152614cb3816146a2565b90508181036020830152614cc7818461442f565b905092915050565b60006020820190508181036000830152614ce8816146d9565b9050919050565b60006020820190508181036000830152614d0881614710565b9050919050565b60006040820190508181036000830152614d2881614710565b90508181036020830152614d3c818461442f565b905092915050565b60006020820190508181036000830152614d5d81614747565b9050919050565b60006040820190508181036000830152614d7d81614747565b90508181036020830152614d918184614465565b905092915050565b60006020820190508181036000830152614db28161477e565b9050919050565b60006020820190508181036000830152614dd2816147b5565b9050919050565b60006040820190508181036000830152614df2816147ec565b90508181036020830152614e06818461442f565b905092915050565b60006020820190508181036000830152614e2781614823565b9050919050565b60006040820190508181036000830152614e4781614823565b90508181036020830152614e5b818461442f565b905092915050565b60006020820190508181036000830152614e7c8161485a565b9050919050565b60006020820190508181036000830152614e9c81614891565b90509190","50565b60006020820190508181036000830152614ebc816148c8565b9050919050565b60006040820190508181036000830152614edc816148c8565b9050614eeb6020830184614420565b92915050565b60006020820190508181036000830152614f0a816148ff565b9050919050565b60006040820190508181036000830152614f2a816148ff565b9050614f396020830184614420565b92915050565b6000602082019050614f546000830184614936565b92915050565b600060a082019050614f6f6000830188614936565b614f7c6020830187614936565b614f89604083018661432b565b614f96606083018561432b565b614fa36080830184614936565b9695505050505050565b6000604051905081810181811067ffffffffffffffff82111715614fd057600080fd5b8060405250919050565b600067ffffffffffffffff821115614ff157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561501957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561504157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561506957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561509157600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156150bd57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60006151ac82615141565b9050919050565b60006151be82615141565b9050919050565b60006151d082615141565b9050919050565b60006151e282615141565b9050919050565b6000819050919050565b6000819050919050565b600061520882615141565b9050919050565b600061521a82615141565b9050919050565b82818337600083830152505050565b60005b8381101561524e578082015181840152602081019050615233565b8381111561525d576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a723058205c261cad0324348dde7feb7cb637f6054e82cc7aabfc50489df4872406cc7eee6c6578706572696d656e74616cf50037"};
+    public static final String[] BINARY_ARRAY = {"60806040526040805190810160405280600681526020017f7075626c696300000000000000000000000000000000000000000000000000008152506000908051906020019062000051929190620011d9565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250600190805190602001906200009f929190620011d9565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060029080519060200190620000ed929190620011d9565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906200013b929190620011d9565b506040805190810160405280600281526020017f5f770000000000000000000000000000000000000000000000000000000000008152506004908051906020019062000189929190620011d9565b506040805190810160405280600381526020017f616c6c000000000000000000000000000000000000000000000000000000000081525060059080519060200190620001d7929190620011d9565b506040805190810160405280600281526020017f69640000000000000000000000000000000000000000000000000000000000008152506006908051906020019062000225929190620011d9565b506040805190810160405280600481526020017f61646472000000000000000000000000000000000000000000000000000000008152506007908051906020019062000273929190620011d9565b506040805190810160405280600481526020017f747970650000000000000000000000000000000000000000000000000000000081525060089080519060200190620002c1929190620011d9565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906200030f929190620011d9565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906200035d929190620011d9565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b9080519060200190620003ab929190620011d9565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c9080519060200190620003f9929190620011d9565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d908051906020019062000447929190620011d9565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e908051906020019062000495929190620011d9565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f9080519060200190620004e3929190620011d9565b506040805190810160405280600781526020017f62616c616e6365000000000000000000000000000000000000000000000000008152506010908051906020019062000531929190620011d9565b506040805190810160405280600681526020017f7265636f72640000000000000000000000000000000000000000000000000000815250601190805190602001906200057f929190620011d9565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060129080519060200190620005cd929190620011d9565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906200061b929190620011d9565b506040805190810160405280600581526020017f6f776e65720000000000000000000000000000000000000000000000000000008152506014908051906020019062000669929190620011d9565b506040805190810160405280600481526020017f757365720000000000000000000000000000000000000000000000000000000081525060159080519060200190620006b7929190620011d9565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015620007d557600080fd5b5060405162013314380380620133148339810180604052620007fb919081019062001489565b82828281816060620008373073ffffffffffffffffffffffffffffffffffffffff1662000d816401000000000262009776176401000000009004565b9050620008fd60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620008d75780601f10620008ab57610100808354040283529160200191620008d7565b820191906000526020600020905b815481529060010190602001808311620008b957829003601f168201915b505050505082601b62000e65640100000000026200748917909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620009c657600080fd5b505af1158015620009db573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000a0191908101906200145d565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000ac857600080fd5b505af115801562000add573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000b0391908101906200145d565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151562000bc15781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062000c03565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050506000835111801562000c19575060408351105b151562000c5d576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162000c54906200175e565b60405180910390fd5b8073ffffffffffffffffffffffffffffffffffffffff1663af0680206040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000cc257600080fd5b505af115801562000cd7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000cfd91908101906200145d565b838262000d0962001260565b62000d17939291906200171a565b604051809103906000f08015801562000d34573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505050505062001895565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801562000dcd5781602001602082028038833980820191505090505b509250600090505b601481101562000e5e57818160148110151562000dee57fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151562000e2057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062000dd5565b5050919050565b60008084600001846040518082805190602001908083835b60208310151562000ea4578051825260208201915060208101905060208303925062000e7d565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111562001061577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151562000f7d578051825260208201915060208101905060208303925062000f56565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405162000fc6959493929190620016a8565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200100b5780518252602082019150602081019050","60208303925062000fe4565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200105692919062001271565b5060019150620011d1565b8285600001856040518082805190602001908083835b6020831015156200109e578051825260208201915060208101905060208303925062001077565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190620010e992919062001271565b50846001018054809190600101620011029190620012f8565b90506001810185600001856040518082805190602001908083835b6020831015156200114457805182526020820191506020810190506020830392506200111d565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200119157fe5b90600052602060002090600202016000019080519060200190620011b792919062001271565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200121c57805160ff19168380011785556200124d565b828001600101855582156200124d579182015b828111156200124c5782518255916020019190600101906200122f565b5b5090506200125c91906200132d565b5090565b604051615936806200d9de83390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10620012b457805160ff1916838001178555620012e5565b82800160010185558215620012e5579182015b82811115620012e4578251825591602001919060010190620012c7565b5b509050620012f491906200132d565b5090565b815481835581811115620013285760020281600202836000526020600020918201910162001327919062001355565b5b505050565b6200135291905b808211156200134e57600081600090555060010162001334565b5090565b90565b6200139a91905b808211156200139657600080820160006200137891906200139d565b6001820160006101000a81549060ff0219169055506002016200135c565b5090565b90565b50805460018160011615610100020316600290046000825580601f10620013c55750620013e6565b601f016020900490600052602060002090810190620013e591906200132d565b5b50565b6000620013f782516200182e565b905092915050565b600082601f83011215156200141357600080fd5b81516200142a6200142482620017ae565b62001780565b915080825260208301602083018583830111156200144757600080fd5b620014548382846200184e565b50505092915050565b6000602082840312156200147057600080fd5b60006200148084828501620013e9565b91505092915050565b6000806000606084860312156200149f57600080fd5b600084015167ffffffffffffffff811115620014ba57600080fd5b620014c886828701620013ff565b9350506020620014db86828701620013e9565b9250506040620014ee86828701620013e9565b9150509250925092565b62001503816200180e565b82525050565b60006200151682620017f8565b8084526200152c8160208601602086016200184e565b620015378162001884565b602085010191505092915050565b60006200155282620017ed565b808452620015688160208601602086016200184e565b620015738162001884565b602085010191505092915050565b600081546001811660008114620015a15760018114620015c25762001607565b607f600283041680865260ff19831660208701526040860193505062001607565b60028204808652602086019550620015da85620017db565b60005b82811015620015fe57815481890152600182019150602081019050620015dd565b80880195505050505b505092915050565b60006200161c8262001803565b808452620016328160208601602086016200184e565b6200163d8162001884565b602085010191505092915050565b6000603282527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634206c6f6e6700000000000000000000000000006040830152606082019050919050565b600060a082019050620016bf6000830188620014f8565b620016ce6020830187620014f8565b8181036040830152620016e2818662001545565b90508181036060830152620016f8818562001509565b905081810360808301526200170e818462001581565b90509695505050505050565b6000606082019050620017316000830186620014f8565b81810360208301526200174581856200160f565b9050620017566040830184620014f8565b949350505050565b6000602082019050818103600083015262001779816200164b565b9050919050565b6000604051905081810181811067ffffffffffffffff82111715620017a457600080fd5b8060405250919050565b600067ffffffffffffffff821115620017c657600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60005b838110156200186e57808201518184015260208101905062001851565b838111156200187e576000848401525b50505050565b6000601f19601f8301169050919050565b61c13980620018a56000396000f3006080604052600436106102eb576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806301db8d89146102f057806303ba71eb1461031b578063081f9339146103465780630c0fd886146103715780630feca68a1461039c578063117803e3146103c757806315e9977e146103f25780631dedfd471461041d57806320ba5b601461045b57806323a772bd1461049857806326bca089146104c3578063283d26ca146105005780632a0acc6a1461052b5780632c4e722e146105565780632ef8cb1c1461058157806338cc4831146105ac57806339151753146105d75780633a0e6174146106025780633a9b2d731461062d5780633b007d8e1461066b578063403c6cfa146106a85780635262e2a1146106e55780635302822f1461071057806357872d131461074e57806358edef4c14610779578063632e1dfe146107b6578063699cc7f1146107e15780636adc41651461080c5780636cf1c3ee146108375780637bdd20b2146108745780637dec8f6b146108b157806381e167cf146108ee5780638662acad1461091957806390023f9514610956578063949d225d14610994578063983d2737146109bf57806399f2592a146109ea5780639d53fe2b14610a28578063a035b1fe14610a53578063a0997a5814610a7e578063a18c751e14610abb578063ac44522e14610af8578063b11569f514610b35578063b1c5afa714610b60578063b3032be814610b9d578063b3cea21714610bc8578063b4eb5ede14610bf3578063b6b5675b14610c1e578063b85a290114610c5c578063bb1239c314610c87578063bb24fe8a14610cb2578063c28304aa14610cdd578063c55fc52d14610d08578063cb6163ad14610d33578063cd2f381a14610d70578063d022037514610dae578063d087d28814610dec578063d6d7d52514610e17578063e077fef914610e54578063e8c2553a14610e91578063ea8442fb14610ece578063ef966c8914610f0c578063f307b32c14610f49575b600080fd5b3480156102fc57600080fd5b50610305610f74565b604051610312919061b8cf565b60405180910390f35b34801561032757600080fd5b50610330611012565b60405161033d919061b8cf565b60405180910390f35b34801561035257600080fd5b5061035b6110b0565b604051610368919061b8cf565b60405180910390f35b34801561037d57600080fd5b5061038661114e565b604051610393919061b8cf565b60405180910390f35b3480156103a857600080fd5b506103b16111ec565b6040516103be919061bccc565b60405180910390f35b3480156103d357600080fd5b506103dc611212565b6040516103e9919061b8cf565b60405180910390f35b3480156103fe57600080fd5b506104076112b0565b604051610414919061b8cf565b60405180910390f35b34801561042957600080fd5b50610444600480360361043f919081019061a088565b61134e565b60405161045292919061b876565b60405180910390f35b34801561046757600080fd5b50610482600480360361047d919081019061a357565b611745565b60405161048f919061b82b565b60405180910390f35b3480156104a457600080fd5b506104ad611943565b6040516104ba919061b8cf565b60405180910390f35b3480156104cf57600080fd5b506104ea60048036036104e5919081019061a1b2565b6119e1565b6040516104f7919061b7bd565b60405180910390f35b34801561050c57600080fd5b50610515612338565b604051610522919061b8cf565b60405180910390f35b34801561053757600080fd5b506105406123d6565b60405161054d919061b8cf565b60405180910390f35b34801561056257600080fd5b5061056b612474565b604051610578919061bccc565b60405180910390f35b34801561058d57600080fd5b5061059661247a565b6040516105a3919061b8cf565b60405180910390f35b3480156105b857600080fd5b506105c1612518565b6040516105ce919061b170565b60405180910390f35b3480156105e357600080fd5b506105ec612520565b6040516105f9919061b8cf565b60405180910390f35b34801561060e57600080fd5b506106176125be565b604051610624919061b8cf565b60405180910390f35b34801561063957600080fd5b50610654600480360361064f9190810190619fb0565b61265c565b60405161066292919061b89f565b60405180910390f35b34801561067757600080fd5b50610692600480360361068d919081019061a357565b612a58565b60405161069f919061b82b565b60405180910390f35b3480156106b457600080fd5b506106cf60048036036106ca919081019061a148565b612c56565b6040516106dc919061bccc565b60405180910390f35b3480156106f157600080fd5b506106fa612f69565b604051610707919061b170565b60405180910390f35b34801561071c57600080fd5b5061073760048036036107329190810190619fb0565b612f93565b60405161074592919061b89f565b60405180910390f35b34801561075a57600080fd5b","50610763613262565b604051610770919061b8cf565b60405180910390f35b34801561078557600080fd5b506107a0600480360361079b919081019061a2c2565b613300565b6040516107ad919061b82b565b60405180910390f35b3480156107c257600080fd5b506107cb6134fb565b6040516107d8919061b170565b60405180910390f35b3480156107ed57600080fd5b506107f6613521565b604051610803919061b8cf565b60405180910390f35b34801561081857600080fd5b506108216135bf565b60405161082e919061b170565b60405180910390f35b34801561084357600080fd5b5061085e6004803603610859919081019061a46b565b6135e5565b60405161086b919061bccc565b60405180910390f35b34801561088057600080fd5b5061089b6004803603610896919081019061a303565b613750565b6040516108a8919061b82b565b60405180910390f35b3480156108bd57600080fd5b506108d860048036036108d3919081019061a46b565b613973565b6040516108e5919061bccc565b60405180910390f35b3480156108fa57600080fd5b50610903613ade565b604051610910919061b8cf565b60405180910390f35b34801561092557600080fd5b50610940600480360361093b919081019061a303565b613b7c565b60405161094d919061b8f1565b60405180910390f35b34801561096257600080fd5b5061097d6004803603610978919081019061a088565b613d9e565b60405161098b92919061b876565b60405180910390f35b3480156109a057600080fd5b506109a9614195565b6040516109b6919061bccc565b60405180910390f35b3480156109cb57600080fd5b506109d46141a6565b6040516109e1919061b8cf565b60405180910390f35b3480156109f657600080fd5b50610a116004803603610a0c919081019061a088565b614244565b604051610a1f92919061b876565b60405180910390f35b348015610a3457600080fd5b50610a3d6147e7565b604051610a4a919061b8cf565b60405180910390f35b348015610a5f57600080fd5b50610a68614885565b604051610a75919061bccc565b60405180910390f35b348015610a8a57600080fd5b50610aa56004803603610aa09190810190619ef7565b61488b565b604051610ab2919061bccc565b60405180910390f35b348015610ac757600080fd5b50610ae26004803603610add919081019061a357565b614c7c565b604051610aef919061b82b565b60405180910390f35b348015610b0457600080fd5b50610b1f6004803603610b1a919081019061a3c3565b614e7a565b604051610b2c919061b82b565b60405180910390f35b348015610b4157600080fd5b50610b4a6150b2565b604051610b57919061b170565b60405180910390f35b348015610b6c57600080fd5b50610b876004803603610b82919081019061a148565b6150d8565b604051610b94919061bccc565b60405180910390f35b348015610ba957600080fd5b50610bb26150ed565b604051610bbf919061b170565b60405180910390f35b348015610bd457600080fd5b50610bdd6151b2565b604051610bea919061b8cf565b60405180910390f35b348015610bff57600080fd5b50610c08615250565b604051610c15919061b8cf565b60405180910390f35b348015610c2a57600080fd5b50610c456004803603610c40919081019061a4a7565b6152ee565b604051610c5392919061b733565b60405180910390f35b348015610c6857600080fd5b50610c71615763565b604051610c7e919061b8cf565b60405180910390f35b348015610c9357600080fd5b50610c9c615801565b604051610ca9919061b170565b60405180910390f35b348015610cbe57600080fd5b50610cc7615827565b604051610cd4919061b8cf565b60405180910390f35b348015610ce957600080fd5b50610cf26158c5565b604051610cff919061b170565b60405180910390f35b348015610d1457600080fd5b50610d1d6158ef565b604051610d2a919061b170565b60405180910390f35b348015610d3f57600080fd5b50610d5a6004803603610d55919081019061a3c3565b6159b4565b604051610d67919061b82b565b60405180910390f35b348015610d7c57600080fd5b50610d976004803603610d929190810190619f6f565b615bec565b604051610da592919061b846565b60405180910390f35b348015610dba57600080fd5b50610dd56004803603610dd0919081019061a148565b615e70565b604051610de392919061bce7565b60405180910390f35b348015610df857600080fd5b50610e01615f3a565b604051610e0e919061bccc565b60405180910390f35b348015610e2357600080fd5b50610e3e6004803603610e39919081019061a2c2565b615f44565b604051610e4b919061b8f1565b60405180910390f35b348015610e6057600080fd5b50610e7b6004803603610e76919081019061a148565b61613f565b604051610e88919061b711565b60405180910390f35b348015610e9d57600080fd5b50610eb86004803603610eb3919081019061a3c3565b61653c565b604051610ec5919061b82b565b60405180910390f35b348015610eda57600080fd5b50610ef56004803603610ef09190810190619fb0565b616774565b604051610f0392919061b89f565b60405180910390f35b348015610f1857600080fd5b50610f336004803603610f2e9190810190619ef7565b616a43565b604051610f40919061b82b565b60405180910390f35b348015610f5557600080fd5b50610f5e617173565b604051610f6b919061b8cf565b60405180910390f35b600c8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561100a5780601f10610fdf5761010080835404028352916020019161100a565b820191906000526020600020905b815481529060010190602001808311610fed57829003601f168201915b505050505081565b600e8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156110a85780601f1061107d576101008083540402835291602001916110a8565b820191906000526020600020905b81548152906001019060200180831161108b57829003601f168201915b505050505081565b600d8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156111465780601f1061111b57610100808354040283529160200191611146565b820191906000526020600020905b81548152906001019060200180831161112957829003601f168201915b505050505081565b600b8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156111e45780601f106111b9576101008083540402835291602001916111e4565b820191906000526020600020905b8154815290600101906020018083116111c757829003601f168201915b505050505081565b6000611204600160215461721190919063ffffffff16565b602181905550602154905090565b60148054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156112a85780601f1061127d576101008083540402835291602001916112a8565b820191906000526020600020905b81548152906001019060200180831161128b57829003601f168201915b505050505081565b60108054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156113465780601f1061131b57610100808354040283529160200191611346565b820191906000526020600020905b81548152906001019060200180831161132957829003601f168201915b505050505081565b6000611358619855565b600060606000611366619855565b6113a98b8b8b8b8b6040805190810160405280600781526020017f6465706f73697400000000000000000000000000000000000000000000000000815250617268565b9a508a60038151811015156113ba57fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515611454576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161144b9061bb0c565b60405180910390fd5b6114a68a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461721190919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506114fe8a60275461721190919063ffffffff16565b60278190555060026040519080825280602002602001820160405280156115345781602001602082028038833980820191505090505b509250600083600081518110151561154857fe5b906020019060200201818152505088600081518110151561156557fe5b9060200190602002015183600181518110151561157e57fe5b90602001906020020181815250507fe1fffcc4923d04b559f4d29a8bfc6cda04eb5b0d3c460751c2402c5c5cc9109c848b6040516115bd92919061b6e8565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718c8c8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611642949392919061b763565b606060405180830381600087803b15801561165c57600080fd5b505af1158015611670573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611694919081019061a286565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada8160006002811015156116cc57fe5b60200201518260016002811015156116e057fe5b60200201518d60028151811015156116f457fe5b906020019060200201518e600381518110151561170d57fe5b906020019060200201518e60405161172995949392919061bd10565b60405180910390a1818195509550505050509550959350505050565b6000601e60009054906101000a900473ffffffffff","ffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061185760048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156118435780601f1061181857610100808354040283529160200191611843565b820191906000526020600020905b81548152906001019060200180831161182657829003601f168201915b50505050508961747590919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611892949392919061b1d7565b602060405180830381600087803b1580156118ac57600080fd5b505af11580156118c0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506118e4919081019061a25d565b1515611925576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161191c9061bb8c565b60405180910390fd5b61193b8383601b6174899092919063ffffffff16565b905092915050565b60118054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156119d95780601f106119ae576101008083540402835291602001916119d9565b820191906000526020600020905b8154815290600101906020018083116119bc57829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611a8e949392919061b5c8565b6040805180830381600087803b158015611aa757600080fd5b505af1158015611abb573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611adf9190810190619f33565b8097508198505050851515611b29576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611b209061b9ec565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611ba0919061b170565b602060405180830381600087803b158015611bba57600080fd5b505af1158015611bce573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611bf2919081019061a25d565b1515611c33576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611c2a9061ba4c565b60405180910390fd5b60028b51148015611c7357508a6001815181101515611c4e57fe5b906020019060200201518b6000815181101515611c6757fe5b90602001906020020151125b1515611cb4576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611cab9061baec565b60405180910390fd5b60008c511115611d2e57600093505b8b51841015611d2d578b84815181101515611cda57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff161415611d205760019450611d2d565b8380600101945050611cc3565b5b841515611e0157601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634768e049886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611dac919061b170565b602060405180830381600087803b158015611dc657600080fd5b505af1158015611dda573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611dfe919081019061a25d565b94505b841515611e43576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611e3a9061b96c565b60405180910390fd5b60006023805490501415611e5957829850612328565b60008c51118015611eaf5750600073ffffffffffffffffffffffffffffffffffffffff168c6000815181101515611e8c57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561205657601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d6000815181101515611f0157fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f43919061b170565b602060405180830381600087803b158015611f5d57600080fd5b505af1158015611f71573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611f959190810190619ece565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151515612009576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016120009061b9cc565b60405180910390fd5b818c600081518110151561201957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c511180156120ac5750600073ffffffffffffffffffffffffffffffffffffffff168c600181518110151561208957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561225357601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d60018151811015156120fe57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612140919061b170565b602060405180830381600087803b15801561215a57600080fd5b505af115801561216e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506121929190810190619ece565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff1614151515612206576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016121fd9061bbcc565b60405180910390fd5b808c600181518110151561221657fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663521ae5368e8e8e6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016122ce9392919061b7df565b600060405180830381600087803b1580156122e857600080fd5b505af11580156122fc573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612325919081019061a171565b98505b5050505050505050949350505050565b600a8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156123ce5780601f106123a3576101008083540402835291602001916123ce565b820191906000526020600020905b8154815290600101906020018083116123b157829003601f168201915b505050505081565b60128054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561246c5780601f106124415761010080835404028352916020019161246c565b820191906000526020600020905b81548152906001019060200180831161244f57829003601f168201915b505050505081565b60295481565b60038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156125105780601f106124e557610100808354040283529160200191612510565b820191906000526020600020905b8154815290600101906020018083116124f357829003601f168201915b505050505081565b600030905090565b60028054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156125b65780601f1061258b576101008083540402835291602001916125b6565b820191906000526020600020905b81548152906001019060200180831161259957829003601f168201915b505050505081565b60018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156126545780601f1061262957610100808354040283529160200191612654565b820191906000526020600020905b81548152906001019060200180831161263757829003601f168201915b505050505081565b600060608060008060006126ab8b8b8b8b8b6040805190810160405280600881526020017f7472616e7366657200000000000000000000000000000000000000000000000081525060016177e6565b9a5060028a51026040519080825280602002602001820160405280156126e05781602001602082028038833980820191505090505b509350600090505b8951811015612a43578a8160020260030181518110151561270557fe5b9060200190602002015192508a8160020260040181518110151561272557fe5b906020019060200201519150602460008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffff","ffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156127bf576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016127b69061bb0c565b60405180910390fd5b602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff16151561284d576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016128449061bb0c565b60405180910390fd5b6128b68a8281518110151561285e57fe5b90602001906020020151602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054617bdd90919063ffffffff16565b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506129628a8281518110151561290a57fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461721190919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055507fddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef83838c848151811015156129d657fe5b906020019060200201516040516129ef9392919061b34d565b60405180910390a1612a368b828c84815181101515612a0a57fe5b906020019060200201518b60028e6000815181101515612a2657fe5b906020019060200201518a617c34565b80806001019150506126e8565b60018495509550505050509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630612b6a60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612b565780601f10612b2b57610100808354040283529160200191612b56565b820191906000526020600020905b815481529060010190602001808311612b3957829003601f168201915b50505050508961747590919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ba5949392919061b1d7565b602060405180830381600087803b158015612bbf57600080fd5b505af1158015612bd3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612bf7919081019061a25d565b1515612c38576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612c2f9061bc8c565b60405180910390fd5b612c4e8383601b6180c39092919063ffffffff16565b905092915050565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612cfc949392919061b568565b6040805180830381600087803b158015612d1557600080fd5b505af1158015612d29573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612d4d9190810190619f33565b8092508193505050801515612d97576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612d8e9061b98c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612e0e919061b170565b602060405180830381600087803b158015612e2857600080fd5b505af1158015612e3c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612e60919081019061a25d565b1515612ea1576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612e989061ba4c565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e953d0af6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015612f2757600080fd5b505af1158015612f3b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612f5f919081019061a442565b9350505050919050565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000606080600080612fe08a8a8a8a8a6040805190810160405280600781526020017f6465706f7369740000000000000000000000000000000000000000000000000081525060006177e6565b995060028951026040519080825280602002602001820160405280156130155781602001602082028038833980820191505090505b509250600090505b885181101561324e57898160020260040181518110151561303a57fe5b906020019060200201519150602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156130d4576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016130cb9061bb0c565b60405180910390fd5b61313d89828151811015156130e557fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461721190919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506131ac898281518110151561319157fe5b9060200190602002015160275461721190919063ffffffff16565b6027819055507fe1fffcc4923d04b559f4d29a8bfc6cda04eb5b0d3c460751c2402c5c5cc9109c828a838151811015156131e257fe5b906020019060200201516040516131fa92919061b6e8565b60405180910390a16132418a828b8481518110151561321557fe5b906020019060200201518a60008d600081518110151561323157fe5b9060200190602002015189617c34565b808060010191505061301d565b600183945094505050509550959350505050565b60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156132f85780601f106132cd576101008083540402835291602001916132f8565b820191906000526020600020905b8154815290600101906020018083116132db57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061341260048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156133fe5780601f106133d3576101008083540402835291602001916133fe565b820191906000526020600020905b8154815290600101906020018083116133e157829003601f168201915b50505050508861747590919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161344d949392919061b1d7565b602060405180830381600087803b15801561346757600080fd5b505af115801561347b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061349f919081019061a25d565b15156134e0576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016134d79061ba8c565b60405180910390fd5b6134f482601b6182b890919063ffffffff16565b9050919050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600f8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156135b75780601f1061358c576101008083540402835291602001916135b7565b820191906000526020600020905b81548152906001019060200180831161359a57829003601f168201915b505050505081565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600060606000806135ff868461850a90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016136a0949392919061b3e4565b6040805180830381600087803b1580156136b957600080fd5b505af11580156136cd573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136f19190810190619f33565b809250819350505080151561373b576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016137329061bc4c565b60405180910390fd5b85602881905550602854935050505092915050565b6000606060008061376a","868461747590919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061387b60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156138675780601f1061383c57610100808354040283529160200191613867565b820191906000526020600020905b81548152906001019060200180831161384a57829003601f168201915b50505050508b61747590919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138b995949392919061b444565b6040805180830381600087803b1580156138d257600080fd5b505af11580156138e6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061390a9190810190619f33565b8092508193505050801515613954576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161394b9061ba8c565b60405180910390fd5b61396886601b6182b890919063ffffffff16565b935050505092915050565b6000606060008061398d868461850a90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613a2e949392919061b384565b6040805180830381600087803b158015613a4757600080fd5b505af1158015613a5b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a7f9190810190619f33565b8092508193505050801515613ac9576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613ac09061ba6c565b60405180910390fd5b85602981905550602954935050505092915050565b60158054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613b745780601f10613b4957610100808354040283529160200191613b74565b820191906000526020600020905b815481529060010190602001808311613b5757829003601f168201915b505050505081565b606080600080613b95868461747590919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630613ca660038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613c925780601f10613c6757610100808354040283529160200191613c92565b820191906000526020600020905b815481529060010190602001808311613c7557829003601f168201915b50505050508b61747590919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613ce495949392919061b444565b6040805180830381600087803b158015613cfd57600080fd5b505af1158015613d11573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613d359190810190619f33565b8092508193505050801515613d7f576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613d769061bb2c565b60405180910390fd5b613d9386601b61852690919063ffffffff16565b935050505092915050565b6000613da8619855565b600060606000613db6619855565b613df98b8b8b8b8b6040805190810160405280600a81526020017f7769746864726177616c00000000000000000000000000000000000000000000815250617268565b9a508a6002815181101515613e0a57fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613ea4576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613e9b9061bb0c565b60405180910390fd5b613ef68a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054617bdd90919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550613f4e8a602754617bdd90919063ffffffff16565b6027819055506002604051908082528060200260200182016040528015613f845781602001602082028038833980820191505090505b5092506001836000815181101515613f9857fe5b9060200190602002018181525050886000815181101515613fb557fe5b90602001906020020151836001815181101515613fce57fe5b90602001906020020181815250507fb6e26e54bd578616699ab07efb4c2e322b45a80673803bbb259443d9fecee652848b60405161400d92919061b6e8565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718c8c8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614092949392919061b763565b606060405180830381600087803b1580156140ac57600080fd5b505af11580156140c0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506140e4919081019061a286565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada81600060028110151561411c57fe5b602002015182600160028110151561413057fe5b60200201518d600281518110151561414457fe5b906020019060200201518e600381518110151561415d57fe5b906020019060200201518e60405161417995949392919061bd10565b60405180910390a1818195509550505050509550959350505050565b60006141a1601b618639565b905090565b60138054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561423c5780601f106142115761010080835404028352916020019161423c565b820191906000526020600020905b81548152906001019060200180831161421f57829003601f168201915b505050505081565b600061424e619855565b6060600061425a619855565b61429d8a8a8a8a8a6040805190810160405280600881526020017f7472616e73666572000000000000000000000000000000000000000000000000815250618647565b9950602460008b60028151811015156142b257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515614345576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161433c9061bb0c565b60405180910390fd5b602460008b600381518110151561435857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156143eb576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016143e29061bb0c565b60405180910390fd5b61445589602560008d600281518110151561440257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054617bdd90919063ffffffff16565b602560008c600281518110151561446857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555061451a89602560008d60038151811015156144c757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461721190919063ffffffff16565b602560008c600381518110151561452d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555060026040519080825280602002602001820160405280156145a55781602001602082028038833980820191505090505b50925060028360008151811015156145b957fe5b90602001906020020181815250508760008151811015156145d657fe5b906020019060200201518360018151811015156145ef57fe5b90602001906020020181815250507fddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef8a600281518110151561462d57fe5b906020019060200201518b600381518110151561464657fe5b906020019060200201518b6040516146609392919061b34d565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f1718b8b8a876040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016146e5949392919061b763565b606060405180830381600087803b1580156146ff57600080fd5b505af1158015614713573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614737919081019061a286565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a1","66bc08babada81600060028110151561476f57fe5b602002015182600160028110151561478357fe5b60200201518c600281518110151561479757fe5b906020019060200201518d60038151811015156147b057fe5b906020019060200201518d6040516147cc95949392919061bd10565b60405180910390a18181945094505050509550959350505050565b60098054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561487d5780601f106148525761010080835404028352916020019161487d565b820191906000526020600020905b81548152906001019060200180831161486057829003601f168201915b505050505081565b60285481565b6000806060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161490a919061b170565b602060405180830381600087803b15801561492457600080fd5b505af1158015614938573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061495c9190810190619ece565b9350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156149ec576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016149e39061bb0c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1686868a6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614a8b949392919061b2ed565b6040805180830381600087803b158015614aa457600080fd5b505af1158015614ab8573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614adc9190810190619f33565b8092508193505050801515614b26576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614b1d9061bc6c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614b9d919061b170565b602060405180830381600087803b158015614bb757600080fd5b505af1158015614bcb573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614bef919081019061a25d565b1515614c30576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614c279061ba4c565b60405180910390fd5b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205494505050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630614d8e60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614d7a5780601f10614d4f57610100808354040283529160200191614d7a565b820191906000526020600020905b815481529060010190602001808311614d5d57829003601f168201915b50505050508961747590919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614dc9949392919061b1d7565b602060405180830381600087803b158015614de357600080fd5b505af1158015614df7573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614e1b919081019061a25d565b1515614e5c576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614e539061b9ac565b60405180910390fd5b614e728383601b61886c9092919063ffffffff16565b905092915050565b60006060600080614ea686614e98898661747590919063ffffffff16565b61747590919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630614fb760048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614fa35780601f10614f7857610100808354040283529160200191614fa3565b820191906000526020600020905b815481529060010190602001808311614f8657829003601f168201915b50505050508c61747590919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614ff595949392919061b444565b6040805180830381600087803b15801561500e57600080fd5b505af1158015615022573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506150469190810190619f33565b8092508193505050801515615090576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016150879061bc8c565b60405180910390fd5b6150a68787601b6180c39092919063ffffffff16565b93505050509392505050565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60006150e382618a69565b6027549050919050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561517557600080fd5b505af1158015615189573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506151ad9190810190619ece565b905090565b60068054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156152485780601f1061521d57610100808354040283529160200191615248565b820191906000526020600020905b81548152906001019060200180831161522b57829003601f168201915b505050505081565b60078054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156152e65780601f106152bb576101008083540402835291602001916152e6565b820191906000526020600020905b8154815290600101906020018083116152c957829003601f168201915b505050505081565b60606000606060008060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308a8e6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161539d949392919061b508565b6040805180830381600087803b1580156153b657600080fd5b505af11580156153ca573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506153ee9190810190619f33565b8096508197505050841515615438576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161542f9061bb4c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26876040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016154af919061b170565b602060405180830381600087803b1580156154c957600080fd5b505af11580156154dd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615501919081019061a25d565b1515615542576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016155399061ba4c565b60405180910390fd5b6023805490509350838c1015156155915760006040519080825280602002602001820160405280156155835781602001602082028038833980820191505090505b508481915098509850615754565b6155a48b8d61721190919063ffffffff16565b9250838311156155b2578392505b8b83036040519080825280602002602001820160405280156155e35781602001602082028038833980820191505090505b5091508b90505b8281101561574d57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca060238381548110151561563f57fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016156a2919061b170565b602060405180830381600087803b1580156156bc57600080fd5b505af11580156156d0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506156f49190810190619ece565b828d830381518110151561570457fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff168152505080806001019150506155ea565b8184985098505b505050505050","50935093915050565b60008054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156157f95780601f106157ce576101008083540402835291602001916157f9565b820191906000526020600020905b8154815290600101906020018083116157dc57829003601f168201915b505050505081565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60088054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156158bd5780601f10615892576101008083540402835291602001916158bd565b820191906000526020600020905b8154815290600101906020018083116158a057829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561597757600080fd5b505af115801561598b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506159af9190810190619ece565b905090565b600060606000806159e0866159d2898661747590919063ffffffff16565b61747590919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630615af160048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615add5780601f10615ab257610100808354040283529160200191615add565b820191906000526020600020905b815481529060010190602001808311615ac057829003601f168201915b50505050508c61747590919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615b2f95949392919061b444565b6040805180830381600087803b158015615b4857600080fd5b505af1158015615b5c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615b809190810190619f33565b8092508193505050801515615bca576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615bc19061bb8c565b60405180910390fd5b615be08787601b6174899092919063ffffffff16565b93505050509392505050565b600060608060008060008651604051908082528060200260200182016040528015615c265781602001602082028038833980820191505090505b509350600090505b8651811015615e60576001811480615ca1575060058751148015615c525750600481145b80615ca057508681815181101515615c6657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b5b15615d0d578681815181101515615cb457fe5b906020019060200201518482815181101515615ccc57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050615e53565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663accfbdd98883815181101515615d5957fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615d9b919061b170565b6040805180830381600087803b158015615db457600080fd5b505af1158015615dc8573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615dec9190810190619f33565b8094508193505050821515615e075760008495509550615e67565b818482815181101515615e1657fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8080600101915050615c2e565b8284955095505b50505050915091565b600080600080615e7f85618a69565b600090505b602380549050811015615f2b57615f1c60256000602384815481101515615ea757fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020548361721190919063ffffffff16565b91508080600101915050615e84565b60275482935093505050915091565b6000602154905090565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061605660038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156160425780601f1061601757610100808354040283529160200191616042565b820191906000526020600020905b81548152906001019060200180831161602557829003601f168201915b50505050508861747590919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616091949392919061b1d7565b602060405180830381600087803b1580156160ab57600080fd5b505af11580156160bf573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506160e3919081019061a25d565b1515616124576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161611b9061bb2c565b60405180910390fd5b61613882601b61852690919063ffffffff16565b9050919050565b60608060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016161e8949392919061b508565b6040805180830381600087803b15801561620157600080fd5b505af1158015616215573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506162399190810190619f33565b8094508195505050821515616283576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161627a9061bb4c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016162fa919061b170565b602060405180830381600087803b15801561631457600080fd5b505af1158015616328573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061634c919081019061a25d565b151561638d576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016163849061ba4c565b60405180910390fd5b6023805490506040519080825280602002602001820160405280156163c15781602001602082028038833980820191505090505b509150600090505b60238054905081101561652f57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca060238381548110151561642357fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616486919061b170565b602060405180830381600087803b1580156164a057600080fd5b505af11580156164b4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506164d89190810190619ece565b82828151811015156164e657fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff168152505080806001019150506163c9565b8195505050505050919050565b600060606000806165688661655a898661747590919063ffffffff16565b61747590919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061667960048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156166655780601f1061663a57610100808354040283529160200191616665565b820191906000526020600020905b81548152906001019060200180831161664857829003601f168201915b50505050508c61747590919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016166b795949392919061b444565b6040805180830381600087803b1580156166d057600080fd5b505af11580156166e4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506167089190810190619f33565b8092508193505050801515616752576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016167499061b9ac565b60405180910390fd5b6167688787601b61","886c9092919063ffffffff16565b93505050509392505050565b60006060806000806167c18a8a8a8a8a6040805190810160405280600a81526020017f7769746864726177616c0000000000000000000000000000000000000000000081525060006177e6565b995060028951026040519080825280602002602001820160405280156167f65781602001602082028038833980820191505090505b509250600090505b8851811015616a2f57898160020260030181518110151561681b57fe5b906020019060200201519150602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156168b5576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016168ac9061bb0c565b60405180910390fd5b61691e89828151811015156168c657fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054617bdd90919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555061698d898281518110151561697257fe5b90602001906020020151602754617bdd90919063ffffffff16565b6027819055507fb6e26e54bd578616699ab07efb4c2e322b45a80673803bbb259443d9fecee652828a838151811015156169c357fe5b906020019060200201516040516169db92919061b6e8565b60405180910390a1616a228a828b848151811015156169f657fe5b906020019060200201518a60018d6000815181101515616a1257fe5b9060200190602002015189617c34565b80806001019150506167fe565b600183945094505050509550959350505050565b6000806060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616ac5919061b170565b602060405180830381600087803b158015616adf57600080fd5b505af1158015616af3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616b17919081019061a25d565b1515616b58576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616b4f9061ba4c565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616bcf919061b170565b602060405180830381600087803b158015616be957600080fd5b505af1158015616bfd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616c219190810190619ece565b9550602460008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff16151515616cb2576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616ca99061bbec565b60405180910390fd5b616cc58986618cb890919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888c6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616d66949392919061b628565b6040805180830381600087803b158015616d7f57600080fd5b505af1158015616d93573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616db79190810190619f33565b8094508195505050821515616e01576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616df89061bc2c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616e78919061b170565b602060405180830381600087803b158015616e9257600080fd5b505af1158015616ea6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616eca919081019061a25d565b1515616f0b576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616f029061ba4c565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fbcbc0f18a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616f82919061b170565b602060405180830381600087803b158015616f9c57600080fd5b505af1158015616fb0573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616fd49190810190619ece565b91508173ffffffffffffffffffffffffffffffffffffffff166395a0c79630601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660016040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016170529392919061b913565b602060405180830381600087803b15801561706c57600080fd5b505af1158015617080573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506170a4919081019061a25d565b5060238690806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001602460008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff0219169083151502179055506001965050505050505092915050565b60058054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156172095780601f106171de57610100808354040283529160200191617209565b820191906000526020600020905b8154815290600101906020018083116171ec57829003601f168201915b505050505081565b600080828401905083811015151561725e576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016172559061ba0c565b60405180910390fd5b8091505092915050565b60606000606060008061727b8a89618cd4565b506172888b8b8b8b618e35565b92506172938b615bec565b809c5081955050508315156172dd576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016172d49061baac565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163089878c6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161737e95949392919061b4a6565b6040805180830381600087803b15801561739757600080fd5b505af11580156173ab573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506173cf9190810190619f33565b809250819350505080617420876040805190810160405280600a81526020017f466f7262696464656e2000000000000000000000000000000000000000000000815250618f3b90919063ffffffff16565b901515617463576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161745a919061b94a565b60405180910390fd5b508a9450505050509695505050505050565b6060617481838361910c565b905092915050565b60008084600001846040518082805190602001908083835b6020831015156174c657805182526020820191506020810190506020830392506174a1565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115617679577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151561759c5780518252602082019150602081019050602083039250617577565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516175e395949392919061b285565b60405180910390a18285600001856040518082805190602001908083835b6020831015156176265780518252602082019150602081019050602083039250617601565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101908051906020019061766f929190619877565b50600191506177de565b8285600001856040518082805190602001908083835b6020831015156176b4578051825260208201915060208101905060208303925061768f565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906176fd929190619877565b5084600101805480919060010161771491906198f7565b90506001810185600001856040518082805190602001908083835b602083101515617754578051825260208201915060208101905060208303925061772f565b600183602003","6101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156177a057fe5b906000526020600020906002020160000190805190602001906177c4929190619877565b508460020160008154809291906001019190505550600091505b509392505050565b60608060008060006177fa8c8c8c8c6192dd565b93506178058c619492565b9b50601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1688617873573061788d565b8e600381518110151561788257fe5b906020019060200201515b8a888d6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016178cc95949392919061b223565b6040805180830381600087803b1580156178e557600080fd5b505af11580156178f9573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061791d9190810190619f33565b80935081945050508161796e886040805190810160405280600a81526020017f466f7262696464656e2000000000000000000000000000000000000000000000815250618f3b90919063ffffffff16565b9015156179b1576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016179a8919061b94a565b60405180910390fd5b508515617bcb57600590505b8b51811015617bca578b60038151811015156179d557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168c82815181101515617a0357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16141515617bbf57601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d84601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168f85815181101515617a9a57fe5b906020019060200201518b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401617ae0949392919061b18b565b602060405180830381600087803b158015617afa57600080fd5b505af1158015617b0e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250617b32919081019061a25d565b617b7a886040805190810160405280600a81526020017f466f7262696464656e2000000000000000000000000000000000000000000000815250618f3b90919063ffffffff16565b901515617bbd576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401617bb4919061b94a565b60405180910390fd5b505b6002810190506179bd565b5b8b945050505050979650505050505050565b600080838311151515617c25576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401617c1c9061bacc565b60405180910390fd5b82840390508091505092915050565b6060806000617c41619855565b6005604051908082528060200260200182016040528015617c715781602001602082028038833980820191505090505b5093508a6000815181101515617c8357fe5b90602001906020020151846000815181101515617c9c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a6001815181101515617ce757fe5b90602001906020020151846001815181101515617d0057fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a8a600202600301815181101515617d5057fe5b90602001906020020151846002815181101515617d6957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a8a600202600401815181101515617db957fe5b90602001906020020151846003815181101515617dd257fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a6002815181101515617e1d57fe5b90602001906020020151846004815181101515617e3657fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250506002604051908082528060200260200182016040528015617ea25781602001602082028038833980820191505090505b50925086836000815181101515617eb557fe5b906020019060200201818152505085836001815181101515617ed357fe5b9060200190602002018181525050602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318d6f171858b8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401617f5e949392919061b763565b606060405180830381600087803b158015617f7857600080fd5b505af1158015617f8c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250617fb0919081019061a286565b80925081935050507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada816000600281101515617fe857fe5b6020020151826001600281101515617ffc57fe5b602002015186600281518110151561801057fe5b9060200190602002015187600381518110151561802957fe5b906020019060200201518d60405161804595949392919061bd10565b60405180910390a180600060028110151561805c57fe5b6020020151858b60020281518110151561807257fe5b906020019060200201818152505080600160028110151561808f57fe5b60200201518560018c600202018151811015156180a857fe5b90602001906020020181815250505050505050505050505050565b60008084600001846040518082805190602001908083835b60208310151561810057805182526020820191506020810190506020830392506180db565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111561814b57600091506182b0565b8285600001856040518082805190602001908083835b6020831015156181865780518252602082019150602081019050602083039250618161565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906181cf929190619877565b508460010180548091906001016181e691906198f7565b90506001810185600001856040518082805190602001908083835b6020831015156182265780518252602082019150602081019050602083039250618201565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000018190555083856001018281548110151561827257fe5b90600052602060002090600202016000019080519060200190618296929190619877565b508460020160008154809291906001019190505550600191505b509392505050565b60008083600001836040518082805190602001908083835b6020831015156182f557805182526020820191506020810190506020830392506182d0565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008114156183405760009150618503565b7f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b6020831015156183d457805182526020820191506020810190506020830392506183af565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405161841b95949392919061b285565b60405180910390a183600001836040518082805190602001908083835b60208310151561845d5780518252602082019150602081019050602083039250618438565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000808201600090556001820160006184a99190619929565b5050600184600101600183038154811015156184c157fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b606061851e8361851984619732565b61910c565b905092915050565b606082600001826040518082805190602001908083835b602083101515618562578051825260208201915060208101905060208303925061853d565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561862c5780601f106186015761010080835404028352916020019161862c565b820191906000526020600020905b81548152906001019060200180831161860f57829003601f168201915b5050505050905092915050565b600081600201549050919050565b60606000606060008061865a8a89618cd4565b506186678b8b8b8b618e35565b92506186728b615bec565b809c5081955050508315156186bc576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016186b39061baac565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168d600281518110151561872c57fe5b9060200190602002015189878c6040518663ffffffff167c01000000000000000000000000000000000000000000","0000000000000002815260040161877595949392919061b223565b6040805180830381600087803b15801561878e57600080fd5b505af11580156187a2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506187c69190810190619f33565b809250819350505080618817876040805190810160405280600a81526020017f466f7262696464656e2000000000000000000000000000000000000000000000815250618f3b90919063ffffffff16565b90151561885a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401618851919061b94a565b60405180910390fd5b508a9450505050509695505050505050565b60008084600001846040518082805190602001908083835b6020831015156188a95780518252602082019150602081019050602083039250618884565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115618a5c577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151561897f578051825260208201915060208101905060208303925061895a565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516189c695949392919061b285565b60405180910390a18285600001856040518082805190602001908083835b602083101515618a0957805182526020820191506020810190506020830392506189e4565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190618a52929190619877565b5060019150618a61565b600091505b509392505050565b6060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086886040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401618b0d949392919061b688565b6040805180830381600087803b158015618b2657600080fd5b505af1158015618b3a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250618b5e9190810190619f33565b8092508193505050801515618ba8576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401618b9f9061bb6c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401618c1f919061b170565b602060405180830381600087803b158015618c3957600080fd5b505af1158015618c4d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250618c71919081019061a25d565b1515618cb2576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401618ca99061ba4c565b60405180910390fd5b50505050565b6060618ccc83618cc784619776565b61910c565b905092915050565b60008083111515618d1a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401618d119061bbac565b60405180910390fd5b6000826000815181101515618d2b57fe5b9060200190602002015151118015618d5c575060ff826000815181101515618d4f57fe5b9060200190602002015151105b1515618d9d576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401618d949061bc0c565b60405180910390fd5b600182511115618e2b576000826001815181101515618db857fe5b9060200190602002015151118015618de9575060ff826001815181101515618ddc57fe5b9060200190602002015151105b1515618e2a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401618e219061ba2c565b60405180910390fd5b5b6001905092915050565b606080600080600080600093505b8951841015618e8557618e768a85815181101515618e5d57fe5b9060200190602002015186618cb890919063ffffffff16565b94508380600101945050618e43565b618e98898661850a90919063ffffffff16565b9450600092505b8751831015618ee4578783815181101515618eb657fe5b906020019060200201519150618ed5828661850a90919063ffffffff16565b94508280600101935050618e9f565b600090505b8651811015618f2b57618f1c8782815181101515618f0357fe5b906020019060200201518661747590919063ffffffff16565b94508080600101915050618ee9565b8495505050505050949350505050565b606080606080606060008088955087945084518651016040519080825280601f01601f191660200182016040528015618f835781602001602082028038833980820191505090505b50935083925060009150600090505b8551811015619045578581815181101515618fa957fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561900857fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050618f92565b600090505b84518110156190fd57848181518110151561906157fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156190c057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505061904a565b83965050505050505092915050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156191545781602001602082028038833980820191505090505b50935083925060009150600090505b855181101561921657858181518110151561917a57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156191d957fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050619163565b600090505b84518110156192ce57848181518110151561923257fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561929157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505061921b565b83965050505050505092915050565b6060806000806000806000808a511180156192ff575089516002026003018b51145b1515619340576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016193379061bcac565b60405180910390fd5b600094505b8a51851015619387576193788b8681518110151561935f57fe5b9060200190602002015187618cb890919063ffffffff16565b95508480600101955050619345565b600093505b89518410156193f0576193b68a858151811015156193a657fe5b9060200190602002015189618cd4565b506193e18a858151811015156193c857fe5b906020019060200201518761850a90919063ffffffff16565b9550838060010194505061938c565b600092505b885183101561943a57888381518110151561940c57fe5b90602001906020020151915061942b828761850a90919063ffffffff16565b955082806001019350506193f5565b600090505b875181101561948157619472888281518110151561945957fe5b906020019060200201518761747590919063ffffffff16565b9550808060010191505061943f565b859650505050505050949350505050565b606080600080600085516040519080825280602002602001820160405280156194ca5781602001602082028038833980820191505090505b509350600090505b85518110156197265760018114806194ea5750600281145b80619538575085818151811015156194fe57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b156195a457858181518110151561954b57fe5b90602001906020020151848281518110151561956357fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050619719565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663accfbdd987838151811015156195f057fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401619632919061b170565b6040805180830381600087803b15801561964b57600080fd5b505af115801561965f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506196839190810190619f33565b80935081945050508115156196cd576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016196c49061baac565b60405180910390fd5b8284828151811015156196dc57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b80806001019150506194d2565b83945050505050919050565b606060206040519080825280601f01601f1916602001820160405280156197685781602001602082","028038833980820191505090505b509050816020820152919050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f1916602001820160405280156197c15781602001602082028038833980820191505090505b509250600090505b601481101561984e5781816014811015156197e057fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151561981157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506197c9565b5050919050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106198b857805160ff19168380011785556198e6565b828001600101855582156198e6579182015b828111156198e55782518255916020019190600101906198ca565b5b5090506198f39190619971565b5090565b815481835581811115619924576002028160020283600052602060002091820191016199239190619996565b5b505050565b50805460018160011615610100020316600290046000825580601f1061994f575061996e565b601f01602090049060005260206000209081019061996d9190619971565b5b50565b61999391905b8082111561998f576000816000905550600101619977565b5090565b90565b6199d691905b808211156199d257600080820160006199b59190619929565b6001820160006101000a81549060ff02191690555060020161999c565b5090565b90565b60006199e5823561c02c565b905092915050565b60006199f9825161c02c565b905092915050565b600082601f8301121515619a1457600080fd5b8135619a27619a228261bd90565b61bd63565b91508181835260208401935060208101905083856020840282011115619a4c57600080fd5b60005b83811015619a7c5781619a6288826199d9565b845260208401935060208301925050600181019050619a4f565b5050505092915050565b600082601f8301121515619a9957600080fd5b6004619aac619aa78261bdb8565b61bd63565b91508183856020840282011115619ac257600080fd5b60005b83811015619af25781619ad88882619d7c565b845260208401935060208301925050600181019050619ac5565b5050505092915050565b600082601f8301121515619b0f57600080fd5b8135619b22619b1d8261bdda565b61bd63565b91508181835260208401935060208101905083856020840282011115619b4757600080fd5b60005b83811015619b775781619b5d8882619de6565b845260208401935060208301925050600181019050619b4a565b5050505092915050565b600082601f8301121515619b9457600080fd5b8135619ba7619ba28261be02565b61bd63565b9150818183526020840193506020810190508360005b83811015619bed5781358601619bd38882619dfa565b845260208401935060208301925050600181019050619bbd565b5050505092915050565b600082601f8301121515619c0a57600080fd5b8151619c1d619c188261be02565b61bd63565b9150818183526020840193506020810190508360005b83811015619c635781518601619c498882619e50565b845260208401935060208301925050600181019050619c33565b5050505092915050565b600082601f8301121515619c8057600080fd5b6002619c93619c8e8261be2a565b61bd63565b91508183856020840282011115619ca957600080fd5b60005b83811015619cd95781619cbf8882619eba565b845260208401935060208301925050600181019050619cac565b5050505092915050565b600082601f8301121515619cf657600080fd5b8135619d09619d048261be4c565b61bd63565b91508181835260208401935060208101905083856020840282011115619d2e57600080fd5b60005b83811015619d5e5781619d448882619ea6565b845260208401935060208301925050600181019050619d31565b5050505092915050565b6000619d74825161c04c565b905092915050565b6000619d88823561c058565b905092915050565b600082601f8301121515619da357600080fd5b8135619db6619db18261be74565b61bd63565b91508082526020830160208301858383011115619dd257600080fd5b619ddd83828461c0ac565b50505092915050565b6000619df2823561c062565b905092915050565b600082601f8301121515619e0d57600080fd5b8135619e20619e1b8261bea0565b61bd63565b91508082526020830160208301858383011115619e3c57600080fd5b619e4783828461c0ac565b50505092915050565b600082601f8301121515619e6357600080fd5b8151619e76619e718261bea0565b61bd63565b91508082526020830160208301858383011115619e9257600080fd5b619e9d83828461c0bb565b50505092915050565b6000619eb2823561c06c565b905092915050565b6000619ec6825161c06c565b905092915050565b600060208284031215619ee057600080fd5b6000619eee848285016199ed565b91505092915050565b60008060a08385031215619f0a57600080fd5b6000619f18858286016199d9565b9250506020619f2985828601619a86565b9150509250929050565b60008060408385031215619f4657600080fd5b6000619f54858286016199ed565b9250506020619f6585828601619d68565b9150509250929050565b600060208284031215619f8157600080fd5b600082013567ffffffffffffffff811115619f9b57600080fd5b619fa784828501619a01565b91505092915050565b60008060008060006101008688031215619fc957600080fd5b600086013567ffffffffffffffff811115619fe357600080fd5b619fef88828901619a01565b955050602086013567ffffffffffffffff81111561a00c57600080fd5b61a01888828901619ce3565b945050604086013567ffffffffffffffff81111561a03557600080fd5b61a04188828901619afc565b935050606086013567ffffffffffffffff81111561a05e57600080fd5b61a06a88828901619b81565b925050608061a07b88828901619a86565b9150509295509295909350565b6000806000806000610100868803121561a0a157600080fd5b600086013567ffffffffffffffff81111561a0bb57600080fd5b61a0c788828901619a01565b955050602061a0d888828901619ea6565b945050604086013567ffffffffffffffff81111561a0f557600080fd5b61a10188828901619afc565b935050606086013567ffffffffffffffff81111561a11e57600080fd5b61a12a88828901619b81565b925050608061a13b88828901619a86565b9150509295509295909350565b60006080828403121561a15a57600080fd5b600061a16884828501619a86565b91505092915050565b60006020828403121561a18357600080fd5b600082015167ffffffffffffffff81111561a19d57600080fd5b61a1a984828501619bf7565b91505092915050565b60008060008060e0858703121561a1c857600080fd5b600085013567ffffffffffffffff81111561a1e257600080fd5b61a1ee87828801619ce3565b945050602085013567ffffffffffffffff81111561a20b57600080fd5b61a21787828801619a01565b935050604085013567ffffffffffffffff81111561a23457600080fd5b61a24087828801619afc565b925050606061a25187828801619a86565b91505092959194509250565b60006020828403121561a26f57600080fd5b600061a27d84828501619d68565b91505092915050565b6000806060838503121561a29957600080fd5b600061a2a785828601619d68565b925050602061a2b885828601619c6d565b9150509250929050565b60006020828403121561a2d457600080fd5b600082013567ffffffffffffffff81111561a2ee57600080fd5b61a2fa84828501619d90565b91505092915050565b60008060a0838503121561a31657600080fd5b600083013567ffffffffffffffff81111561a33057600080fd5b61a33c85828601619d90565b925050602061a34d85828601619a86565b9150509250929050565b6000806040838503121561a36a57600080fd5b600083013567ffffffffffffffff81111561a38457600080fd5b61a39085828601619d90565b925050602083013567ffffffffffffffff81111561a3ad57600080fd5b61a3b985828601619d90565b9150509250929050565b600080600060c0848603121561a3d857600080fd5b600084013567ffffffffffffffff81111561a3f257600080fd5b61a3fe86828701619d90565b935050602084013567ffffffffffffffff81111561a41b57600080fd5b61a42786828701619d90565b925050604061a43886828701619a86565b9150509250925092565b60006020828403121561a45457600080fd5b600061a46284828501619eba565b91505092915050565b60008060a0838503121561a47e57600080fd5b600061a48c85828601619ea6565b925050602061a49d85828601619a86565b9150509250929050565b600080600060c0848603121561a4bc57600080fd5b600061a4ca86828701619ea6565b935050602061a4db86828701619ea6565b925050604061a4ec86828701619a86565b9150509250925092565b61a4ff8161bfe2565b82525050565b600061a5108261bf26565b80845260208401935061a5228361becc565b60005b8281101561a5545761a53886835161a4f6565b61a5418261bf94565b915060208601955060018101905061a525565b50849250505092915050565b61a5698161bf31565b61a5728261bed9565b60005b8281101561a5a45761a58885835161a729565b61a5918261bfa1565b915060208501945060018101905061a575565b5050505050565b600061a5b68261bf3c565b80845260208401935061a5c88361bee3565b60005b8281101561a5fa5761a5de86835161a857565b61a5e78261bfae565b915060208601955060018101905061a5cb565b50849250505092915050565b600061a6118261bf47565b8084526020840193508360208202850161a62a8561bef0565b60005b8481101561a66357838303885261a64583835161a89c565b925061a6508261bfbb565b915060208801975060018101905061a62d565b508196508694505050505092915050565b61a67d8161bf52565b61a6868261befd565b60005b8281101561a6b85761a69c85835161b161565b61a6a58261bfc8565b915060208501945060018101905061a689565b5050505050565b600061a6ca8261bf5d565b80845260208401935061a6dc8361bf07565b60005b8281101561a70e5761a6f286835161b161565b61a6fb8261bfd5565b915060208601955060018101905061a6df565b50849250505092915050565b61a7238161c002565b82525050565b61a7328161c00e565b82525050565b600061a7438261bf73565b80845261a75781602086016020860161c0bb565b61a760","8161c0ee565b602085010191505092915050565b600061a7798261bf68565b80845261a78d81602086016020860161c0bb565b61a7968161c0ee565b602085010191505092915050565b60008154600181166000811461a7c1576001811461a7e15761a822565b607f600283041680865260ff19831660208701526040860193505061a822565b6002820480865260208601955061a7f78561bf14565b60005b8281101561a8195781548189015260018201915060208101905061a7fa565b80880195505050505b505092915050565b61a8338161c076565b82525050565b61a8428161c088565b82525050565b61a8518161c09a565b82525050565b61a8608161c018565b82525050565b600061a8718261bf89565b80845261a88581602086016020860161c0bb565b61a88e8161c0ee565b602085010191505092915050565b600061a8a78261bf7e565b80845261a8bb81602086016020860161c0bb565b61a8c48161c0ee565b602085010191505092915050565b6000602c82527f466f7262696464656e207175657279426f6f6b206265636175736520796f752060208301527f6172656e2774206f776e657200000000000000000000000000000000000000006040830152606082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000602982527f546865206c656e677468206f66207375626a656374206279746573206973207760208301527f697468696e2032353500000000000000000000000000000000000000000000006040830152606082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601182527f7365745261746520466f7262696464656e0000000000000000000000000000006020830152604082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000601f82527f676574546f74616c42616c616e636520676574546f74616c42616c616e6365006020830152604082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000601782527f616d6f756e743c3d30206973206e6f74207665726966790000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000602682527f546865206c656e677468206f662064657363206279746573206973207769746860208301527f696e2032353500000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000601282527f736574507269636520466f7262696464656e00000000000000000000000000006020830152604082019050919050565b6000600782527f73657452617465000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600f82527f676574546f74616c42616c616e636500000000000000000000000000000000006020830152604082019050919050565b6000600a82527f67657442616c616e6365000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e2067657442616c616e63650000000000000000000000006020830152604082019050919050565b6000600882527f73657450726963650000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000600f82527f6c656773206e6f742076657269667900000000000000000000000000000000006020830152604082019050919050565b61b16a8161c022565b82525050565b600060208201905061b185600083018461a4f6565b92915050565b600060808201905061b1a0600083018761a4f6565b61b1ad602083018661a4f6565b61b1ba604083018561a4f6565b818103606083015261b1cc818461a76e565b905095945050505050565b600060808201905061b1ec600083018761a4f6565b61b1f9602083018661a4f6565b61b206604083018561a4f6565b818103606083015261b218818461a738565b905095945050505050565b60006101008201905061b239600083018861a4f6565b61b246602083018761a4f6565b818103604083015261b258818661a76e565b9050818103606083015261b26c818561a738565b905061b27b608083018461a560565b9695505050505050565b600060a08201905061b29a600083018861a4f6565b61b2a7602083018761a4f6565b818103604083015261b2b9818661a76e565b9050818103606083015261b2cd818561a738565b9050818103608083015261b2e1818461a7a4565b90509695505050505050565b60006101008201905061b303600083018761a4f6565b61b310602083018661a4f6565b818103604083015261b3218161b04e565b9050818103606083015261b335818561a738565b905061b344608083018461a560565b95945050505050565b600060608201905061b362600083018661a4f6565b61b36f602083018561a4f6565b61b37c604083018461b161565b949350505050565b60006101008201905061b39a600083018761a4f6565b61b3a7602083018661a82a565b818103604083015261b3b88161afe0565b9050818103606083015261b3cc818561a738565b905061b3db608083018461a560565b95945050505050565b60006101008201905061b3fa600083018761a4f6565b61b407602083018661a82a565b818103604083015261b4188161b0bc565b9050818103606083015261b42c818561a738565b905061b43b608083018461a560565b95945050505050565b60006101008201905061b45a600083018861a4f6565b61b467602083018761a839565b818103604083015261b479818661a738565b9050818103606083015261b48d818561a738565b905061b49c608083018461a560565b9695505050505050565b60006101008201905061b4bc600083018861a4f6565b61b4c9602083018761a848565b818103604083015261b4db818661a76e565b9050818103606083015261b4ef818561a738565b905061b4fe608083018461a560565b9695505050505050565b60006101008201905061b51e600083018761a4f6565b61b52b602083018661a848565b818103604083015261b53c8161a9d4565b9050818103606083015261b550818561a738565b905061b55f608083018461a560565b95945050505050565b60006101008201905061b57e600083018761a4f6565b61b58b602083018661a848565b818103604083015261b59c8161aa0b565b9050818103606083015261b5b0818561a738565b905061b5bf608083018461a560565b95945050505050565b60006101008201905061b5de600083018761a4f6565b61b5eb602083018661a848565b818103604083015261b5fc8161aea7565b9050818103606083015261b610818561a738565b905061b61f608083018461a560565b95945050505050565b60006101008201905061b63e600083018761a4f6565b61b64b602083018661a848565b818103604083015261b65c8161af3b565b9050818103606083015261b670818561a738565b905061b67f608083018461a560565b95945050505050565b60006101008201905061b69e600083018761a4f6565b61b6ab602083018661a848565b818103604083015261b6bc8161b017565b9050818103606083015261b6d0818561a738565b905061b6df608083018461a560565b95945050505050565b600060408201905061b6fd600083018561a4f6565b61b70a602083018461b161565b9392505050565b6000602082019050818103600083015261b72b818461a505565b905092915050565b6000604082019050818103600083015261b74d818561a505565b905061b75c602083018461b161","565b9392505050565b6000608082019050818103600083015261b77d818761a505565b905061b78c602083018661b161565b818103604083015261b79e818561a606565b9050818103606083015261b7b2818461a5ab565b905095945050505050565b6000602082019050818103600083015261b7d7818461a606565b905092915050565b6000606082019050818103600083015261b7f9818661a6bf565b9050818103602083015261b80d818561a505565b9050818103604083015261b821818461a5ab565b9050949350505050565b600060208201905061b840600083018461a71a565b92915050565b600060408201905061b85b600083018561a71a565b818103602083015261b86d818461a505565b90509392505050565b600060608201905061b88b600083018561a71a565b61b898602083018461a674565b9392505050565b600060408201905061b8b4600083018561a71a565b818103602083015261b8c6818461a6bf565b90509392505050565b6000602082019050818103600083015261b8e9818461a76e565b905092915050565b6000602082019050818103600083015261b90b818461a738565b905092915050565b600060608201905061b928600083018661a848565b61b935602083018561a4f6565b61b942604083018461a71a565b949350505050565b6000602082019050818103600083015261b964818461a866565b905092915050565b6000602082019050818103600083015261b9858161a8d2565b9050919050565b6000602082019050818103600083015261b9a58161a92f565b9050919050565b6000602082019050818103600083015261b9c58161a966565b9050919050565b6000602082019050818103600083015261b9e58161a99d565b9050919050565b6000602082019050818103600083015261ba058161aa42565b9050919050565b6000602082019050818103600083015261ba258161aa79565b9050919050565b6000602082019050818103600083015261ba458161aab0565b9050919050565b6000602082019050818103600083015261ba658161ab0d565b9050919050565b6000602082019050818103600083015261ba858161ab6a565b9050919050565b6000602082019050818103600083015261baa58161aba1565b9050919050565b6000602082019050818103600083015261bac58161abd8565b9050919050565b6000602082019050818103600083015261bae58161ac35565b9050919050565b6000602082019050818103600083015261bb058161ac6c565b9050919050565b6000602082019050818103600083015261bb258161acef565b9050919050565b6000602082019050818103600083015261bb458161ad26565b9050919050565b6000602082019050818103600083015261bb658161ad5d565b9050919050565b6000602082019050818103600083015261bb858161ad94565b9050919050565b6000602082019050818103600083015261bba58161adcb565b9050919050565b6000602082019050818103600083015261bbc58161ae02565b9050919050565b6000602082019050818103600083015261bbe58161ae39565b9050919050565b6000602082019050818103600083015261bc058161ae70565b9050919050565b6000602082019050818103600083015261bc258161aede565b9050919050565b6000602082019050818103600083015261bc458161af72565b9050919050565b6000602082019050818103600083015261bc658161afa9565b9050919050565b6000602082019050818103600083015261bc858161b085565b9050919050565b6000602082019050818103600083015261bca58161b0f3565b9050919050565b6000602082019050818103600083015261bcc58161b12a565b9050919050565b600060208201905061bce1600083018461b161565b92915050565b600060408201905061bcfc600083018561b161565b61bd09602083018461b161565b9392505050565b600060a08201905061bd25600083018861b161565b61bd32602083018761b161565b61bd3f604083018661a4f6565b61bd4c606083018561a4f6565b61bd59608083018461b161565b9695505050505050565b6000604051905081810181811067ffffffffffffffff8211171561bd8657600080fd5b8060405250919050565b600067ffffffffffffffff82111561bda757600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561bdcf57600080fd5b602082029050919050565b600067ffffffffffffffff82111561bdf157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561be1957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561be4157600080fd5b602082029050919050565b600067ffffffffffffffff82111561be6357600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561be8b57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111561beb757600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600061c0818261bfe2565b9050919050565b600061c0938261bfe2565b9050919050565b600061c0a58261bfe2565b9050919050565b82818337600083830152505050565b60005b8381101561c0d957808201518184015260208101905061c0be565b8381111561c0e8576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a7230582064bdca18ae647fea01b5ebb426f04948bdbc274e8b1e2e39df8c614c94993c5a6c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b506040516200593638038062005936833981018060405262000037919081019062000354565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600a9080519060200190620000ff9291906200021b565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166356004b6a600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a91906200055d565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d09190810190620003c3565b5080600b60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505062000678565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200025e57805160ff19168380011785556200028f565b828001600101855582156200028f579182015b828111156200028e57825182559160200191906001019062000271565b5b5090506200029e9190620002a2565b5090565b620002c791905b80821115620002c3576000816000905550600101620002a9565b5090565b90565b6000620002d8825162000618565b905092915050565b6000620002ee825162000638565b905092915050565b600082601f83011215156200030a57600080fd5b8151620003216200031b82620005d9565b620005ab565b915080825260208301602083018583830111156200033e57600080fd5b6200034b83828462000642565b50505092915050565b6000806000606084860312156200036a57600080fd5b60006200037a86828701620002ca565b935050602084015167ffffffffffffffff8111156200039857600080fd5b620003a686828701620002f6565b9250506040620003b986828701620002ca565b9150509250925092565b600060208284031215620003d657600080fd5b6000620003e684828501620002e0565b91505092915050565b6000815460018116600081146200040f5760018114620004305762000475565b607f600283041680865260ff19831660208701526040860193505062000475565b60028204808652602086019550620004488562000606565b60005b828110156200046c578154818901526001820191506020810190506200044b565b80880195505050505b505092915050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000606482527f7465726d5f6e6f2c7365712c66726f6d2c746f2c616d6f756e742c617373657460208301527f2c6f70657261746f722c646573632c7472616e73616374696f6e5f747970652c60408301527f6f7065726174696f6e5f747970652c7375626a6563742c72656c617465645f6160608301527f7373657400000000000000000000000000000000000000000000000000000000608083015260a082019050919050565b60006060820190508181036000830152620005798184620003ef565b905081810360208301526200058e816200047d565b90508181036040830152620005a381620004b4565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005cf57600080fd5b8060405250919050565b600067ffffffffffffffff821115620005f157600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffff","ffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b838110156200066257808201518184015260208101905062000645565b8381111562000672576000848401525b50505050565b6152ae80620006886000396000f300608060405260043610610062576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806318d6f1711461006757806338cc4831146100a5578063521ae536146100d0578063e953d0af1461010d575b600080fd5b34801561007357600080fd5b5061008e6004803603610089919081019061405e565b610138565b60405161009c929190614982565b60405180910390f35b3480156100b157600080fd5b506100ba6105c9565b6040516100c79190614945565b60405180910390f35b3480156100dc57600080fd5b506100f760048036036100f29190810190614109565b6105d1565b6040516101049190614960565b60405180910390f35b34801561011957600080fd5b50610122610c92565b60405161012f9190614f3f565b60405180910390f35b6000610142613c9a565b600060606000806000610153613c9a565b60048c5110158015610166575060028951145b15156101a7576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161019e90614db9565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663124b65b46040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801561022c57600080fd5b505af1158015610240573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061026991908101906142d7565b80965081975050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638662f51f6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156102f657600080fd5b505af115801561030a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061032e91908101906142ae565b935061033e86858e8e8e8e610cef565b9250600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016103b89190614a4f565b602060405180830381600087803b1580156103d257600080fd5b505af11580156103e6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061040a919081019061421b565b915060018273ffffffffffffffffffffffffffffffffffffffff166331afac36610454600260016002805490500381548110151561044457fe5b90600052602060002001546116b9565b866040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161048e929190614a1f565b602060405180830381600087803b1580156104a857600080fd5b505af11580156104bc573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104e09190810190614244565b141515610522576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161051990614e63565b60405180910390fd5b61052d86858e611810565b60408051908101604052808781526020018581525090507f6acb627e94f15db3e6d10b82668ddd36dc340d2d921352d5e3a166bc08babada86858e600281518110151561057657fe5b906020019060200201518f600381518110151561058f57fe5b906020019060200201518f6040516105ab959493929190614f5a565b60405180910390a16001819750975050505050505094509492505050565b600030905090565b60606000606060006060600080606060008b5111806105f1575060008a51115b1515610632576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161062990614db9565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016106aa9190614a4f565b602060405180830381600087803b1580156106c457600080fd5b505af11580156106d8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506106fc919081019061421b565b96506107088b8b611dca565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561077457600080fd5b505af1158015610788573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107ac91908101906141a0565b92506000915060008b511180156107dc575060008b60008151811015156107cf57fe5b9060200190602002015114155b15610889578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d161081e8d600081518110151561080f57fe5b906020019060200201516116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108569190614c9a565b600060405180830381600087803b15801561087057600080fd5b505af1158015610884573d6000803e3d6000fd5b505050505b60018b511180156108b3575060008b60018151811015156108a657fe5b9060200190602002015114155b15610960578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16108f58d60018151811015156108e657fe5b906020019060200201516116b9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161092d9190614d0f565b600060405180830381600087803b15801561094757600080fd5b505af115801561095b573d6000803e3d6000fd5b505050505b60008a511180156109b65750600073ffffffffffffffffffffffffffffffffffffffff168a600081518110151561099357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610a79578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d1610a0e8c60008151811015156109e957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610a469190614bf7565b600060405180830381600087803b158015610a6057600080fd5b505af1158015610a74573d6000803e3d6000fd5b505050505b60018a51118015610acf5750600073ffffffffffffffffffffffffffffffffffffffff168a6001815181101515610aac57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610b92578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d1610b278c6001815181101515610b0257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b5f9190614b54565b600060405180830381600087803b158015610b7957600080fd5b505af1158015610b8d573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff16637ec1cc658a6000815181101515610bbd57fe5b906020019060200201518b6001815181101515610bd657fe5b906020019060200201516040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c199291906149c6565b600060405180830381600087803b158015610c3357600080fd5b505af1158015610c47573d6000803e3d6000fd5b50505050610c568686856125c2565b809350819250505060008151118015610c6f5750600082135b15610c8157610c7e81836128ca565b93505b839750505050505050509392505050565b6000600260016002805490500190806001815401808255809150509060018203906000526020600020016000909192909190915055506002600160028054905003815481101515610cdf57fe5b9060005260206000200154905090565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610d6c9190614a4f565b602060405180830381600087803b158015610d8657600080fd5b505af1158015610d9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610dbe919081019061421b565b91508173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610e2457600080fd5b505af1158015610e38573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e5c91908101906141f2565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610ea46002600160028054905003815481101515610e9457fe5b90600052602060002001546116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610edc9190614dd9565b600060405180830381600087803b158015610ef657600080fd5b505af1158015610f0a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610f338a6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f6b9190614d0f565b600060405180830381600087803b158015610f8557600080fd5b505af1158015610f99573d6000803e3d6000fd5b","505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516610fc28b6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ffa9190614c9a565b600060405180830381600087803b15801561101457600080fd5b505af1158015611028573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661107f89600281518110151561105a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110b79190614bf7565b600060405180830381600087803b1580156110d157600080fd5b505af11580156110e5573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661113c89600381518110151561111757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111749190614b54565b600060405180830381600087803b15801561118e57600080fd5b505af11580156111a2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158860018151811015156111d157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112139190614a91565b600060405180830381600087803b15801561122d57600080fd5b505af1158015611241573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661126a886116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112a29190614e2e565b600060405180830381600087803b1580156112bc57600080fd5b505af11580156112d0573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158860008151811015156112ff57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113419190614c4c565b600060405180830381600087803b15801561135b57600080fd5b505af115801561136f573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51686600081518110151561139e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113e09190614d64565b600060405180830381600087803b1580156113fa57600080fd5b505af115801561140e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba7485600081518110151561143d57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161147f9190614ec3565b600060405180830381600087803b15801561149957600080fd5b505af11580156114ad573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748560018151811015156114dc57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161151e9190614f11565b600060405180830381600087803b15801561153857600080fd5b505af115801561154c573d6000803e3d6000fd5b505050506001855111156115fa578073ffffffffffffffffffffffffffffffffffffffff1663e942b51686600181518110151561158557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115c79190614adf565b600060405180830381600087803b1580156115e157600080fd5b505af11580156115f5573d6000803e3d6000fd5b505050505b8073ffffffffffffffffffffffffffffffffffffffff1663a815ff15600589511061163d5788600481518110151561162e57fe5b90602001906020020151611640565b60005b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116789190614ba9565b600060405180830381600087803b15801561169257600080fd5b505af11580156116a6573d6000803e3d6000fd5b5050505080925050509695505050505050565b60606000806060600080861415611707576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611807565b8593505b600084141515611731578280600101935050600a8481151561172957fe5b04935061170b565b826040519080825280601f01601f1916602001820160405280156117645781602001602082028038833980820191505090505b5091506001830390505b60008614151561180357600a8681151561178457fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156117bf57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156117fb57fe5b04955061176e565b8194505b50505050919050565b600760008481526020019081526020016000206000600260016002805490500381548110151561183c57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615156119265760036000848152602001908152602001600020600260016002805490500381548110151561189357fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160076000858152602001908152602001600020600060026001600280549050038154811015156118f557fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600260016002805490500381548110151561193d57fe5b906000526020600020015460046000848152602001908152602001600020819055506008600082600281518110151561197257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156119cf57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611a485750806002815181101515611a0d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611b925760056000826002815181101515611a6057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611abb57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160086000836002815181101515611b0457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611b6157fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b60096000826003815181101515611ba557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611c0257fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611c7b5750806003815181101515611c4057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611dc55760066000826003815181101515611c9357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611cee57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160096000836003815181101515611d3757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611d9457fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b505050565b6060600060606000806000806000600280549050604051908082528060200260200182016040528015611e0c5781602001602082028038833980820191505090505b50955060018a51118015611e39575060008a6001815181101515611e2c57fe5b9060200190602002015114155b15611ec7576000600460008c6001815181101515611e5357fe5b90602001906020020151815260200190815260200160002054141515611ec6576001866001600460008e6001815181101515611e8b57fe5b9060200190602002015181526020019081526020016000205403815181101515611eb157fe5b90602001906020020190151590811515815250505b5b60008a51118015611ef1575060008a6000815181101515611ee457fe5b9060200190602002015114155b1561200c57600094505b600360008b6000815181101515611f0e57fe5b9060200190602002015181526020019081526020016000208054905085101561200b57856001600360008d6000815181101515611f4757fe5b90602001906020020151815260200190815260200160002087815481101515611f6c57fe5b906000526020600020015403815181101515611f8457fe5b906020019060200201511515611ffe576001866001","600360008e6000815181101515611fac57fe5b90602001906020020151815260200190815260200160002088815481101515611fd157fe5b906000526020600020015403815181101515611fe957fe5b90602001906020020190151590811515815250505b8480600101955050611efb565b5b600089511180156120625750600073ffffffffffffffffffffffffffffffffffffffff1689600081518110151561203f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561220157600093505b600560008a600081518110151561207f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208054905084101561220057856001600560008c60008151811015156120e457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208681548110151561213557fe5b90600052602060002001540381518110151561214d57fe5b9060200190602002015115156121f3576001866001600560008d600081518110151561217557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020878154811015156121c657fe5b9060005260206000200154038151811015156121de57fe5b90602001906020020190151590811515815250505b838060010194505061206c565b5b600189511180156122575750600073ffffffffffffffffffffffffffffffffffffffff1689600181518110151561223457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156123f657600092505b600660008a600181518110151561227457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020805490508310156123f557856001600660008c60018151811015156122d957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208581548110151561232a57fe5b90600052602060002001540381518110151561234257fe5b9060200190602002015115156123e8576001866001600660008d600181518110151561236a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156123bb57fe5b9060005260206000200154038151811015156123d357fe5b90602001906020020190151590811515815250505b8280600101935050612261565b5b60009150600090505b855181101561243b57858181518110151561241657fe5b906020019060200201511561242e5781806001019250505b80806001019150506123ff565b8582975097505050505050509250929050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff16945060008514156124b8576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525095506125b8565b8493505b6000841415156124e2578280600101935050600a848115156124da57fe5b0493506124bc565b826040519080825280601f01601f1916602001820160405280156125155781602001602082028038833980820191505090505b5091506001830390505b6000851415156125b457600a8581151561253557fe5b066030017f01000000000000000000000000000000000000000000000000000000000000000282828060019003935081518110151561257057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a858115156125ac57fe5b04945061251f565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126489190614a4f565b602060405180830381600087803b15801561266257600080fd5b505af1158015612676573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061269a919081019061421b565b955060009450896040519080825280602002602001820160405280156126cf5781602001602082028038833980820191505090505b50935060009250600091505b8a518210156128b6578a828151811015156126f257fe5b90602001906020020151156128a9578573ffffffffffffffffffffffffffffffffffffffff1663e8434e39612729600185016116b9565b8b6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016127639291906149ef565b602060405180830381600087803b15801561277d57600080fd5b505af1158015612791573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127b591908101906141c9565b90508073ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561281b57600080fd5b505af115801561282f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128539190810190614244565b8501945080848480600101955081518110151561286c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b81806001019250506126db565b838597509750505050505050935093915050565b60608060008060008060006060600c890260405190808252806020026020018201604052801561290e57816020015b60608152602001906001900390816128f95790505b509650600095505b895186101561353457898681518110151561292d57fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156129a657600080fd5b505af11580156129ba573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129de9190810190614244565b831215613527578473ffffffffffffffffffffffffffffffffffffffff1663846719e0846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a3a91906149ab565b602060405180830381600087803b158015612a5457600080fd5b505af1158015612a68573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a8c91908101906141f2565b915060009350612c938273ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae890614bd7565b600060405180830381600087803b158015612b0257600080fd5b505af1158015612b16573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612b3f919081019061426d565b8373ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b9290614b34565b600060405180830381600087803b158015612bac57600080fd5b505af1158015612bc0573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612be9919081019061426d565b8473ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c3c90614c2c565b602060405180830381600087803b158015612c5657600080fd5b505af1158015612c6a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c8e9190810190614035565b613544565b905060038151141515612cdb576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612cd290614b14565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d2e90614c7a565b600060405180830381600087803b158015612d4857600080fd5b505af1158015612d5c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612d85919081019061426d565b878585600c0201815181101515612d9857fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612df890614cef565b600060405180830381600087803b158015612e1257600080fd5b505af1158015612e26573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612e4f919081019061426d565b878560010195508585600c0201815181101515612e6857fe5b90602001906020020181905250806000815181101515612e8457fe5b90602001906020020151878560010195508585600c0201815181101515612ea757fe5b90602001906020020181905250806001815181101515612ec357fe5b90602001906020020151878560010195508585600c0201815181101515612ee657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f4690614e0e565b600060405180830381600087803b158015612f6057600080fd5b505af1158015612f74573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612f9d919081019061","426d565b878560010195508585600c0201815181101515612fb657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161301690614d44565b600060405180830381600087803b15801561303057600080fd5b505af1158015613044573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061306d919081019061426d565b878560010195508585600c020181518110151561308657fe5b906020019060200201819052506131568273ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130e990614a71565b602060405180830381600087803b15801561310357600080fd5b505af1158015613117573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061313b9190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561316f57fe5b9060200190602002018190525080600281518110151561318b57fe5b90602001906020020151878560010195508585600c02018151811015156131ae57fe5b906020019060200201819052506132688273ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161321190614ea3565b602060405180830381600087803b15801561322b57600080fd5b505af115801561323f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506132639190810190614244565b6116b9565b878560010195508585600c020181518110151561328157fe5b9060200190602002018190525061333b8273ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132e490614ef1565b602060405180830381600087803b1580156132fe57600080fd5b505af1158015613312573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506133369190810190614244565b6116b9565b878560010195508585600c020181518110151561335457fe5b906020019060200201819052506134248273ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016133b790614b89565b602060405180830381600087803b1580156133d157600080fd5b505af11580156133e5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134099190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561343d57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161349d90614abf565b600060405180830381600087803b1580156134b757600080fd5b505af11580156134cb573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506134f4919081019061426d565b878560010195508585600c020181518110151561350d57fe5b906020019060200201819052508280600101935050612942565b8580600101965050612916565b8697505050505050505092915050565b606080600080600360405190808252806020026020018201604052801561357f57816020015b606081526020019060019003908161356a5790505b50925061358b87613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561374557600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca061360789613ac9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161363f9190614945565b602060405180830381600087803b15801561365957600080fd5b505af115801561366d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136919190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613705576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016136fc90614d99565b60405180910390fd5b6137248173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600081518110151561373357fe5b90602001906020020181905250613763565b8683600081518110151561375557fe5b906020019060200201819052505b61376c86613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561392657600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca06137e888613ac9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138209190614945565b602060405180830381600087803b15801561383a57600080fd5b505af115801561384e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138729190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156138e6576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016138dd90614e83565b60405180910390fd5b6139058173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600181518110151561391457fe5b90602001906020020181905250613944565b8583600181518110151561393657fe5b906020019060200201819052505b600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016139bb9190614945565b602060405180830381600087803b1580156139d557600080fd5b505af11580156139e9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a0d9190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613a81576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613a7890614ccf565b60405180910390fd5b613aa08173ffffffffffffffffffffffffffffffffffffffff1661244e565b836002815181101515613aaf57fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613c8f5760308382815181101515613af557fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bf3575060398382815181101515613b7f57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613c825760308382815181101515613c0857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613adc565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613cc88235615181565b905092915050565b6000613cdc8251615181565b905092915050565b600082601f8301121515613cf757600080fd5b8135613d0a613d0582614fda565b614fad565b91508181835260208401935060208101905083856020840282011115613d2f57600080fd5b60005b83811015613d5f5781613d458882613cbc565b845260208401935060208301925050600181019050613d32565b5050505092915050565b600082601f8301121515613d7c57600080fd5b8135613d8f613d8a82615002565b614fad565b91508181835260208401935060208101905083856020840282011115613db457600080fd5b60005b83811015613de45781613dca8882613f39565b845260208401935060208301925050600181019050613db7565b5050505092915050565b600082601f8301121515613e0157600080fd5b8135613e14613e0f8261502a565b614fad565b9150818183526020840193506020810190508360005b83811015613e5a5781358601613e408882613f61565b845260208401935060208301925050600181019050613e2a565b5050505092915050565b600082601f8301121515613e7757600080fd5b8135613e8a613e8582615052565b614fad565b91508181835260208401935060208101905083856020840282011115613eaf57600080fd5b60005b83811015613edf5781613ec5888261400d565b845260208401935060208301925050600181019050613eb2565b5050505092915050565b6000613ef582516151a1565b905092915050565b6000613f0982516151b3565b905092915050565b6000613f1d82516151c5565b905092915050565b6000613f3182516151d7565b905092915050565b6000613f4582356151e9565b905092915050565b6000613f5982516151e9565b905092915050565b600082601f8301121515613f7457600080fd5b8135613f87613f828261507a565b614fad565b915080825260208301602083018583830111","15613fa357600080fd5b613fae838284615221565b50505092915050565b600082601f8301121515613fca57600080fd5b8151613fdd613fd8826150a6565b614fad565b91508082526020830160208301858383011115613ff957600080fd5b614004838284615230565b50505092915050565b600061401982356151f3565b905092915050565b600061402d82516151f3565b905092915050565b60006020828403121561404757600080fd5b600061405584828501613cd0565b91505092915050565b6000806000806080858703121561407457600080fd5b600085013567ffffffffffffffff81111561408e57600080fd5b61409a87828801613ce4565b94505060206140ab8782880161400d565b935050604085013567ffffffffffffffff8111156140c857600080fd5b6140d487828801613dee565b925050606085013567ffffffffffffffff8111156140f157600080fd5b6140fd87828801613d69565b91505092959194509250565b60008060006060848603121561411e57600080fd5b600084013567ffffffffffffffff81111561413857600080fd5b61414486828701613e64565b935050602084013567ffffffffffffffff81111561416157600080fd5b61416d86828701613ce4565b925050604084013567ffffffffffffffff81111561418a57600080fd5b61419686828701613d69565b9150509250925092565b6000602082840312156141b257600080fd5b60006141c084828501613ee9565b91505092915050565b6000602082840312156141db57600080fd5b60006141e984828501613efd565b91505092915050565b60006020828403121561420457600080fd5b600061421284828501613f11565b91505092915050565b60006020828403121561422d57600080fd5b600061423b84828501613f25565b91505092915050565b60006020828403121561425657600080fd5b600061426484828501613f4d565b91505092915050565b60006020828403121561427f57600080fd5b600082015167ffffffffffffffff81111561429957600080fd5b6142a584828501613fb7565b91505092915050565b6000602082840312156142c057600080fd5b60006142ce84828501614021565b91505092915050565b600080604083850312156142ea57600080fd5b60006142f885828601614021565b925050602083015167ffffffffffffffff81111561431557600080fd5b61432185828601613fb7565b9150509250929050565b61433481615141565b82525050565b6000614345826150fb565b8084526020840193508360208202850161435e856150d2565b60005b84811015614397578383038852614379838351614465565b925061438482615127565b9150602088019750600181019050614361565b508196508694505050505092915050565b6143b181615106565b6143ba826150df565b60005b828110156143ec576143d0858351614936565b6143d982615134565b91506020850194506001810190506143bd565b5050505050565b6143fc81615161565b82525050565b61440b816151fd565b82525050565b61441a8161520f565b82525050565b6144298161516d565b82525050565b600061443a8261511c565b80845261444e816020860160208601615230565b61445781615263565b602085010191505092915050565b600061447082615111565b808452614484816020860160208601615230565b61448d81615263565b602085010191505092915050565b6000815460018116600081146144b857600181146144d857614519565b607f600283041680865260ff198316602087015260408601935050614519565b600282048086526020860195506144ee856150e9565b60005b82811015614510578154818901526001820191506020810190506144f1565b80880195505050505b505092915050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7375626a656374000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600d82527f72656c617465645f6173736574000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600682527f616d6f756e7400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f777269746520626f6f6b206661696c65640000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6000601082527f7472616e73616374696f6e5f74797065000000000000000000000000000000006020830152604082019050919050565b6000600e82527f6f7065726174696f6e5f747970650000000000000000000000000000000000006020830152604082019050919050565b61493f81615177565b82525050565b600060208201905061495a600083018461432b565b92915050565b6000602082019050818103600083015261497a818461433a565b905092915050565b600060608201905061499760008301856143f3565b6149a460208301846143a8565b9392505050565b60006020820190506149c06000830184614420565b92915050565b60006040820190506149db6000830185614420565b6149e86020830184614420565b9392505050565b60006040820190508181036000830152614a09818561442f565b9050614a186020830184614402565b9392505050565b60006040820190508181036000830152614a39818561442f565b9050614a486020830184614411565b9392505050565b60006020820190508181036000830152614a69818461449b565b905092915050565b60006020820190508181036000830152614a8a81614521565b9050919050565b60006040820190508181036000830152614aaa81614521565b9050614ab9602083018461432b565b92915050565b60006020820190508181036000830152614ad881614558565b9050919050565b60006040820190508181036000830152614af881614558565b90508181036020830152614b0c8184614465565b905092915050565b60006020820190508181036000830152614b2d8161458f565b9050919050565b60006020820190508181036000830152614b4d816145c6565b9050919050565b60006040820190508181036000830152614b6d816145c6565b90508181036020830152614b81818461442f565b905092915050565b60006020820190508181036000830152614ba2816145fd565b9050919050565b60006040820190508181036000830152614bc2816145fd565b9050614bd1602083018461432b565b92915050565b60006020820190508181036000830152614bf081614634565b9050919050565b60006040820190508181036000830152614c1081614634565b90508181036020830152614c24818461442f565b905092915050565b60006020820190508181036000830152614c458161466b565b9050919050565b60006040820190508181036000830152614c658161466b565b9050614c74602083018461432b565b92915050565b60006020820190508181036000830152614c93816146a2565b9050919050565b60006040820190508181036000830152614cb3816146a2565b90508181036020830152614cc7818461442f565b905092915050565b60006020820190508181036000830152614ce8816146d9565b9050919050565b60006020820190508181036000830152614d0881614710565b9050919050565b60006040820190508181036000830152614d2881614710565b90508181036020830152614d3c818461442f565b905092915050565b60006020820190508181036000830152614d5d81614747565b9050919050565b60006040820190508181036000830152614d7d81614747565b90508181036020830152614d918184614465565b905092915050565b60006020820190508181036000830152614db28161477e565b9050919050565b60006020820190508181036000830152614dd2816147b5565b9050919050565b60006040820190508181036000830152614df2816147ec565b90508181036020830152614e06818461442f565b905092915050565b60006020820190508181036000830152614e2781614823565b9050919050565b60006040820190508181036000830152614e4781614823565b90508181036020830152614e5b818461442f565b905092915050565b60006020820190508181036000830152614e7c8161485a565b9050919050565b60006020820190508181036000830152614e9c81614891565b9050919050565b60006020820190508181036000830152614ebc816148c8565b9050919050565b60006040820190508181036000830152614edc816148c8565b9050614eeb6020830184614420565b92915050565b60006020820190508181036000830152614f0a816148ff565b9050919050565b60006040820190508181036000830152614f2a816148ff565b9050614f396020830184614420565b92915050565b6000602082019050614f546000830184614936565b92915050565b600060a082019050614f6f6000830188614936565b614f7c6020830187614936565b614f89604083018661432b565b614f96606083018561432b565b614fa3","6080830184614936565b9695505050505050565b6000604051905081810181811067ffffffffffffffff82111715614fd057600080fd5b8060405250919050565b600067ffffffffffffffff821115614ff157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561501957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561504157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561506957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561509157600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156150bd57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60006151ac82615141565b9050919050565b60006151be82615141565b9050919050565b60006151d082615141565b9050919050565b60006151e282615141565b9050919050565b6000819050919050565b6000819050919050565b600061520882615141565b9050919050565b600061521a82615141565b9050919050565b82818337600083830152505050565b60005b8381101561524e578082015181840152602081019050615233565b8381111561525d576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a72305820c9c4c77a037d8da434750436c512c949fb810596d296a9ea5a06e30c60911eba6c6578706572696d656e74616cf50037"};
 
     public static final String BINARY = String.join("", BINARY_ARRAY);
 
-    public static final String[] SM_BINARY_ARRAY = {"60806040526040805190810160405280600681526020017f7075626c696300000000000000000000000000000000000000000000000000008152506000908051906020019062000051929190620011d9565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250600190805190602001906200009f929190620011d9565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060029080519060200190620000ed929190620011d9565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906200013b929190620011d9565b506040805190810160405280600281526020017f5f770000000000000000000000000000000000000000000000000000000000008152506004908051906020019062000189929190620011d9565b506040805190810160405280600381526020017f616c6c000000000000000000000000000000000000000000000000000000000081525060059080519060200190620001d7929190620011d9565b506040805190810160405280600281526020017f69640000000000000000000000000000000000000000000000000000000000008152506006908051906020019062000225929190620011d9565b506040805190810160405280600481526020017f61646472000000000000000000000000000000000000000000000000000000008152506007908051906020019062000273929190620011d9565b506040805190810160405280600481526020017f747970650000000000000000000000000000000000000000000000000000000081525060089080519060200190620002c1929190620011d9565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906200030f929190620011d9565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906200035d929190620011d9565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b9080519060200190620003ab929190620011d9565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c9080519060200190620003f9929190620011d9565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d908051906020019062000447929190620011d9565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e908051906020019062000495929190620011d9565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f9080519060200190620004e3929190620011d9565b506040805190810160405280600781526020017f62616c616e6365000000000000000000000000000000000000000000000000008152506010908051906020019062000531929190620011d9565b506040805190810160405280600681526020017f7265636f72640000000000000000000000000000000000000000000000000000815250601190805190602001906200057f929190620011d9565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060129080519060200190620005cd929190620011d9565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906200061b929190620011d9565b506040805190810160405280600581526020017f6f776e65720000000000000000000000000000000000000000000000000000008152506014908051906020019062000669929190620011d9565b506040805190810160405280600481526020017f757365720000000000000000000000000000000000000000000000000000000081525060159080519060200190620006b7929190620011d9565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015620007d557600080fd5b506040516201140d3803806201140d8339810180604052620007fb919081019062001489565b82828281816060620008373073ffffffffffffffffffffffffffffffffffffffff1662000d816401000000000262007475176401000000009004565b9050620008fd60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620008d75780601f10620008ab57610100808354040283529160200191620008d7565b820191906000526020600020905b815481529060010190602001808311620008b957829003601f168201915b505050505082601b62000e65640100000000026200681e17909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620009c657600080fd5b505af1158015620009db573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000a0191908101906200145d565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000ac857600080fd5b505af115801562000add573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000b0391908101906200145d565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151562000bc15781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062000c03565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050506000835111801562000c19575060408351105b151562000c5d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162000c54906200175e565b60405180910390fd5b8073ffffffffffffffffffffffffffffffffffffffff1663491bae946040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000cc257600080fd5b505af115801562000cd7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000cfd91908101906200145d565b838262000d0962001260565b62000d17939291906200171a565b604051809103906000f08015801562000d34573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505050505062001895565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801562000dcd5781602001602082028038833980820191505090505b509250600090505b601481101562000e5e57818160148110151562000dee57fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151562000e2057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062000dd5565b5050919050565b60008084600001846040518082805190602001908083835b60208310151562000ea4578051825260208201915060208101905060208303925062000e7d565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111562001061577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151562000f7d578051825260208201915060208101905060208303925062000f56565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405162000fc6959493929190620016a8565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200100b5780518252602082019150602081019050","60208303925062000fe4565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200105692919062001271565b5060019150620011d1565b8285600001856040518082805190602001908083835b6020831015156200109e578051825260208201915060208101905060208303925062001077565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190620010e992919062001271565b50846001018054809190600101620011029190620012f8565b90506001810185600001856040518082805190602001908083835b6020831015156200114457805182526020820191506020810190506020830392506200111d565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200119157fe5b90600052602060002090600202016000019080519060200190620011b792919062001271565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200121c57805160ff19168380011785556200124d565b828001600101855582156200124d579182015b828111156200124c5782518255916020019190600101906200122f565b5b5090506200125c91906200132d565b5090565b604051615936806200bad783390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10620012b457805160ff1916838001178555620012e5565b82800160010185558215620012e5579182015b82811115620012e4578251825591602001919060010190620012c7565b5b509050620012f491906200132d565b5090565b815481835581811115620013285760020281600202836000526020600020918201910162001327919062001355565b5b505050565b6200135291905b808211156200134e57600081600090555060010162001334565b5090565b90565b6200139a91905b808211156200139657600080820160006200137891906200139d565b6001820160006101000a81549060ff0219169055506002016200135c565b5090565b90565b50805460018160011615610100020316600290046000825580601f10620013c55750620013e6565b601f016020900490600052602060002090810190620013e591906200132d565b5b50565b6000620013f782516200182e565b905092915050565b600082601f83011215156200141357600080fd5b81516200142a6200142482620017ae565b62001780565b915080825260208301602083018583830111156200144757600080fd5b620014548382846200184e565b50505092915050565b6000602082840312156200147057600080fd5b60006200148084828501620013e9565b91505092915050565b6000806000606084860312156200149f57600080fd5b600084015167ffffffffffffffff811115620014ba57600080fd5b620014c886828701620013ff565b9350506020620014db86828701620013e9565b9250506040620014ee86828701620013e9565b9150509250925092565b62001503816200180e565b82525050565b60006200151682620017f8565b8084526200152c8160208601602086016200184e565b620015378162001884565b602085010191505092915050565b60006200155282620017ed565b808452620015688160208601602086016200184e565b620015738162001884565b602085010191505092915050565b600081546001811660008114620015a15760018114620015c25762001607565b607f600283041680865260ff19831660208701526040860193505062001607565b60028204808652602086019550620015da85620017db565b60005b82811015620015fe57815481890152600182019150602081019050620015dd565b80880195505050505b505092915050565b60006200161c8262001803565b808452620016328160208601602086016200184e565b6200163d8162001884565b602085010191505092915050565b6000603282527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634206c6f6e6700000000000000000000000000006040830152606082019050919050565b600060a082019050620016bf6000830188620014f8565b620016ce6020830187620014f8565b8181036040830152620016e2818662001545565b90508181036060830152620016f8818562001509565b905081810360808301526200170e818462001581565b90509695505050505050565b6000606082019050620017316000830186620014f8565b81810360208301526200174581856200160f565b9050620017566040830184620014f8565b949350505050565b6000602082019050818103600083015262001779816200164b565b9050919050565b6000604051905081810181811067ffffffffffffffff82111715620017a457600080fd5b8060405250919050565b600067ffffffffffffffff821115620017c657600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60005b838110156200186e57808201518184015260208101905062001851565b838111156200187e576000848401525b50505050565b6000601f19601f8301169050919050565b61a23280620018a56000396000f3006080604052600436106102b4576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff168063066290b4146102b957806309108b17146102e45780630bc95c79146103215780630c9481b91461034c5780630d56ef0014610377578063112da303146103b557806311567c42146103e05780631500025a1461040b5780631a1f1cd2146104365780632bcfd37f146104615780632fe7f81a1461048c5780633055ae81146104c9578063366563dd1461050657806342033801146105435780634425c4261461056e57806347a6caff1461059957806351cf7708146105d6578063567f2836146106135780635c7540bc1461063e5780635edfd6fa146106695780635f12ec2e1461069457806361e020cb146106bf57806367e09af5146106fc5780636a03849d1461072757806374b00d5314610764578063769fe3421461078f5780637de83c70146107ba5780637e3a1ef4146107f75780637e6f287c146108225780637f00af971461085f5780637f6107821461088a5780638a4451f5146108c85780638ed13ef5146108f35780639806836414610930578063a4fd77111461095b578063a74809a514610998578063ad07c37a146109d6578063b09a50fe14610a13578063b1d2284f14610a3e578063b32941d814610a7c578063bcc6cdb614610aa7578063bced953514610ad2578063bf0e94fe14610afd578063bfabb86d14610b3a578063c03fd5e714610b65578063c6125d0c14610b90578063d1281a7814610bbb578063d3e9af5a14610be6578063d617f06d14610c11578063d7e7948f14610c3c578063e3fbfc3f14610c67578063e92139da14610ca4578063ece272e314610ccf578063ee19b0cf14610cfa578063f0c9f25a14610d25578063f6cb4bc514610d62578063f976699414610d8d578063ffc3bfd414610dca575b600080fd5b3480156102c557600080fd5b506102ce610e07565b6040516102db9190619dee565b60405180910390f35b3480156102f057600080fd5b5061030b60048036036103069190810190618243565b610e0d565b604051610318919061999d565b60405180910390f35b34801561032d57600080fd5b5061033661153d565b604051610343919061935e565b60405180910390f35b34801561035857600080fd5b50610361611563565b60405161036e9190619a11565b60405180910390f35b34801561038357600080fd5b5061039e600480360361039991908101906182bb565b611601565b6040516103ac9291906199b8565b60405180910390f35b3480156103c157600080fd5b506103ca611885565b6040516103d79190619a11565b60405180910390f35b3480156103ec57600080fd5b506103f5611923565b604051610402919061935e565b60405180910390f35b34801561041757600080fd5b5061042061192b565b60405161042d919061935e565b60405180910390f35b34801561044257600080fd5b5061044b6119f0565b6040516104589190619a11565b60405180910390f35b34801561046d57600080fd5b50610476611a8e565b6040516104839190619dee565b60405180910390f35b34801561049857600080fd5b506104b360048036036104ae9190810190618243565b611a94565b6040516104c09190619dee565b60405180910390f35b3480156104d557600080fd5b506104f060048036036104eb9190810190618536565b611e85565b6040516104fd9190619a33565b60405180910390f35b34801561051257600080fd5b5061052d600480360361052891908101906183bc565b612080565b60405161053a9190619dee565b60405180910390f35b34801561054f57600080fd5b50610558612387565b6040516105659190619a11565b60405180910390f35b34801561057a57600080fd5b50610583612425565b6040516105909190619dee565b60405180910390f35b3480156105a557600080fd5b506105c060048036036105bb9190810190618637565b61244b565b6040516105cd919061999d565b60405180910390f35b3480156105e257600080fd5b506105fd60048036036105f89190810190618637565b612683565b60405161060a919061999d565b60405180910390f35b34801561061f57600080fd5b506106286128bb565b6040516106359190619dee565b60405180910390f35b34801561064a57600080fd5b506106536128c5565b604051610660919061935e565b60405180910390f35b34801561067557600080fd5b5061067e6128ef565b60405161068b9190619a11565b60405180910390f35b3480156106a057600080fd5b506106a961298d565b6040516106b6919061935e565b60405180910390f35b3480156106cb57600080fd5b506106e660048036036106e191908101906185cb565b6129b7565b6040516106f3919061999d565b60405180910390f35b34801561070857600080fd5b50610711612bb5565b60405161071e9190619a11565b60405180910390f35b34801561073357600080fd5b5061074e600480360361074991908101906186df565b612c53565b60405161075b9190619dee56","5b60405180910390f35b34801561077057600080fd5b50610779612dbe565b604051610786919061935e565b60405180910390f35b34801561079b57600080fd5b506107a4612de4565b6040516107b19190619a11565b60405180910390f35b3480156107c657600080fd5b506107e160048036036107dc91908101906183bc565b612e82565b6040516107ee91906198b3565b60405180910390f35b34801561080357600080fd5b5061080c61327f565b6040516108199190619a11565b60405180910390f35b34801561082e57600080fd5b5061084960048036036108449190810190618536565b61331d565b604051610856919061999d565b60405180910390f35b34801561086b57600080fd5b50610874613518565b6040516108819190619a11565b60405180910390f35b34801561089657600080fd5b506108b160048036036108ac91908101906182fc565b6135b6565b6040516108bf9291906199e8565b60405180910390f35b3480156108d457600080fd5b506108dd613992565b6040516108ea919061935e565b60405180910390f35b3480156108ff57600080fd5b5061091a60048036036109159190810190618637565b6139b8565b604051610927919061999d565b60405180910390f35b34801561093c57600080fd5b50610945613bf0565b6040516109529190619a11565b60405180910390f35b34801561096757600080fd5b50610982600480360361097d91908101906185cb565b613c8e565b60405161098f919061999d565b60405180910390f35b3480156109a457600080fd5b506109bf60048036036109ba91908101906182fc565b613e8c565b6040516109cd9291906199e8565b60405180910390f35b3480156109e257600080fd5b506109fd60048036036109f891908101906185cb565b61442f565b604051610a0a919061999d565b60405180910390f35b348015610a1f57600080fd5b50610a2861462d565b604051610a359190619a11565b60405180910390f35b348015610a4a57600080fd5b50610a656004803603610a6091908101906182fc565b6146cb565b604051610a739291906199e8565b60405180910390f35b348015610a8857600080fd5b50610a91614aa7565b604051610a9e9190619a11565b60405180910390f35b348015610ab357600080fd5b50610abc614b45565b604051610ac99190619a11565b60405180910390f35b348015610ade57600080fd5b50610ae7614be3565b604051610af49190619a11565b60405180910390f35b348015610b0957600080fd5b50610b246004803603610b1f9190810190618426565b614c81565b604051610b31919061992f565b60405180910390f35b348015610b4657600080fd5b50610b4f6155d8565b604051610b5c9190619a11565b60405180910390f35b348015610b7157600080fd5b50610b7a615676565b604051610b87919061935e565b60405180910390f35b348015610b9c57600080fd5b50610ba561569c565b604051610bb29190619a11565b60405180910390f35b348015610bc757600080fd5b50610bd061573a565b604051610bdd9190619a11565b60405180910390f35b348015610bf257600080fd5b50610bfb6157d8565b604051610c089190619dee565b60405180910390f35b348015610c1d57600080fd5b50610c266157e9565b604051610c339190619a11565b60405180910390f35b348015610c4857600080fd5b50610c51615887565b604051610c5e9190619a11565b60405180910390f35b348015610c7357600080fd5b50610c8e6004803603610c899190810190618577565b615925565b604051610c9b919061999d565b60405180910390f35b348015610cb057600080fd5b50610cb9615b48565b604051610cc6919061935e565b60405180910390f35b348015610cdb57600080fd5b50610ce4615c0d565b604051610cf19190619a11565b60405180910390f35b348015610d0657600080fd5b50610d0f615cab565b604051610d1c9190619a11565b60405180910390f35b348015610d3157600080fd5b50610d4c6004803603610d4791908101906183bc565b615d49565b604051610d599190619dee565b60405180910390f35b348015610d6e57600080fd5b50610d7761605c565b604051610d849190619a11565b60405180910390f35b348015610d9957600080fd5b50610db46004803603610daf9190810190618577565b6160fa565b604051610dc19190619a33565b60405180910390f35b348015610dd657600080fd5b50610df16004803603610dec91908101906186df565b61631c565b604051610dfe9190619dee565b60405180910390f35b60275481565b6000806060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610e8f919061935e565b602060405180830381600087803b158015610ea957600080fd5b505af1158015610ebd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610ee191908101906184d1565b1515610f22576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401610f1990619ace565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f99919061935e565b602060405180830381600087803b158015610fb357600080fd5b505af1158015610fc7573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610feb919081019061821a565b9550602460008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615151561107c576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161107390619aae565b60405180910390fd5b61108f898661648790919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161113094939291906197ca565b6040805180830381600087803b15801561114957600080fd5b505af115801561115d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611181919081019061827f565b80945081955050508215156111cb576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016111c290619b8e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611242919061935e565b602060405180830381600087803b15801561125c57600080fd5b505af1158015611270573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061129491908101906184d1565b15156112d5576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016112cc90619ace565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166327033e768a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161134c919061935e565b602060405180830381600087803b15801561136657600080fd5b505af115801561137a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061139e919081019061821a565b91508173ffffffffffffffffffffffffffffffffffffffff1663a8cced2030601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660016040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161141c93929190619a55565b602060405180830381600087803b15801561143657600080fd5b505af115801561144a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061146e91908101906184d1565b5060238690806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001602460008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff0219169083151502179055506001965050505050505092915050565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60098054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156115f95780601f106115ce576101008083540402835291602001916115f9565b820191906000526020600020905b8154815290600101906020018083116115dc57829003601f168201915b505050505081565b60006060806000806000865160405190808252806020026020018201604052801561163b5781602001602082028038833980820191505090505b509350600090505b86518110156118755760018114806116b65750600587511480156116675750600481145b806116b55750868181518110151561167b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b5b156117225786818151811015156116c957fe5b9060200190602002015184828151811015156116e157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050611868565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff","16630e628322888381518110151561176e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016117b0919061935e565b6040805180830381600087803b1580156117c957600080fd5b505af11580156117dd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611801919081019061827f565b809450819350505082151561181c576000849550955061187c565b81848281518110151561182b57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8080600101915050611643565b8284955095505b50505050915091565b60028054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561191b5780601f106118f05761010080835404028352916020019161191b565b820191906000526020600020905b8154815290600101906020018083116118fe57829003601f168201915b505050505081565b600030905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156119b357600080fd5b505af11580156119c7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506119eb919081019061821a565b905090565b60158054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611a865780601f10611a5b57610100808354040283529160200191611a86565b820191906000526020600020905b815481529060010190602001808311611a6957829003601f168201915b505050505081565b60285481565b6000806060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611b13919061935e565b602060405180830381600087803b158015611b2d57600080fd5b505af1158015611b41573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611b65919081019061821a565b9350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515611bf5576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611bec90619d2e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1686868a6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611c94949392919061948f565b6040805180830381600087803b158015611cad57600080fd5b505af1158015611cc1573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611ce5919081019061827f565b8092508193505050801515611d2f576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611d2690619bae565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611da6919061935e565b602060405180830381600087803b158015611dc057600080fd5b505af1158015611dd4573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611df891908101906184d1565b1515611e39576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611e3090619ace565b60405180910390fd5b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205494505050505092915050565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630611f9760038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611f835780601f10611f5857610100808354040283529160200191611f83565b820191906000526020600020905b815481529060010190602001808311611f6657829003601f168201915b5050505050886164a390919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611fd29493929190619379565b602060405180830381600087803b158015611fec57600080fd5b505af1158015612000573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061202491908101906184d1565b1515612065576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161205c90619c4e565b60405180910390fd5b61207982601b6164b790919063ffffffff16565b9050919050565b60006060600080600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161212994939291906196aa565b6040805180830381600087803b15801561214257600080fd5b505af1158015612156573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061217a919081019061827f565b80945081955050508215156121c4576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016121bb90619dce565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161223b919061935e565b602060405180830381600087803b15801561225557600080fd5b505af1158015612269573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061228d91908101906184d1565b15156122ce576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016122c590619ace565b60405180910390fd5b600090505b60238054905081101561237a5761236b602560006023848154811015156122f657fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054836165ca90919063ffffffff16565b915080806001019150506122d3565b8195505050505050919050565b60138054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561241d5780601f106123f25761010080835404028352916020019161241d565b820191906000526020600020905b81548152906001019060200180831161240057829003601f168201915b505050505081565b600061243d60016021546165ca90919063ffffffff16565b602181905550602154905090565b600060606000806124778661246989866164a390919063ffffffff16565b6164a390919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061258860048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156125745780601f1061254957610100808354040283529160200191612574565b820191906000526020600020905b81548152906001019060200180831161255757829003601f168201915b50505050508c6164a390919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016125c69594939291906195e6565b6040805180830381600087803b1580156125df57600080fd5b505af11580156125f3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612617919081019061827f565b8092508193505050801515612661576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161265890619d0e565b60405180910390fd5b6126778787601b6166219092919063ffffffff16565b93505050509392505050565b600060606000806126af866126a189866164a390919063ffffffff16565b6164a390919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306127c060048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203","166002900480156127ac5780601f10612781576101008083540402835291602001916127ac565b820191906000526020600020905b81548152906001019060200180831161278f57829003601f168201915b50505050508c6164a390919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016127fe9594939291906195e6565b6040805180830381600087803b15801561281757600080fd5b505af115801561282b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061284f919081019061827f565b8092508193505050801515612899576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161289090619d8e565b60405180910390fd5b6128af8787601b61681e9092919063ffffffff16565b93505050509392505050565b6000602154905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b600b8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156129855780601f1061295a57610100808354040283529160200191612985565b820191906000526020600020905b81548152906001019060200180831161296857829003601f168201915b505050505081565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630612ac960048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612ab55780601f10612a8a57610100808354040283529160200191612ab5565b820191906000526020600020905b815481529060010190602001808311612a9857829003601f168201915b5050505050896164a390919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b049493929190619379565b602060405180830381600087803b158015612b1e57600080fd5b505af1158015612b32573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612b5691908101906184d1565b1515612b97576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612b8e90619d8e565b60405180910390fd5b612bad8383601b61681e9092919063ffffffff16565b905092915050565b600a8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612c4b5780601f10612c2057610100808354040283529160200191612c4b565b820191906000526020600020905b815481529060010190602001808311612c2e57829003601f168201915b505050505081565b60006060600080612c6d8684616b7b90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d0e9493929190619526565b6040805180830381600087803b158015612d2757600080fd5b505af1158015612d3b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612d5f919081019061827f565b8092508193505050801515612da9576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612da090619b2e565b60405180910390fd5b85602781905550602754935050505092915050565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600d8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612e7a5780601f10612e4f57610100808354040283529160200191612e7a565b820191906000526020600020905b815481529060010190602001808311612e5d57829003601f168201915b505050505081565b60608060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f2b949392919061970a565b6040805180830381600087803b158015612f4457600080fd5b505af1158015612f58573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612f7c919081019061827f565b8094508195505050821515612fc6576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612fbd90619b6e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161303d919061935e565b602060405180830381600087803b15801561305757600080fd5b505af115801561306b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061308f91908101906184d1565b15156130d0576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016130c790619ace565b60405180910390fd5b6023805490506040519080825280602002602001820160405280156131045781602001602082028038833980820191505090505b509150600090505b60238054905081101561327257601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade660238381548110151561316657fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131c9919061935e565b602060405180830381600087803b1580156131e357600080fd5b505af11580156131f7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061321b919081019061821a565b828281518110151561322957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050808060010191505061310c565b8195505050505050919050565b60018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156133155780601f106132ea57610100808354040283529160200191613315565b820191906000526020600020905b8154815290600101906020018083116132f857829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061342f60048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561341b5780601f106133f05761010080835404028352916020019161341b565b820191906000526020600020905b8154815290600101906020018083116133fe57829003601f168201915b5050505050886164a390919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161346a9493929190619379565b602060405180830381600087803b15801561348457600080fd5b505af1158015613498573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134bc91908101906184d1565b15156134fd576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016134f490619dae565b60405180910390fd5b61351182601b616b9790919063ffffffff16565b9050919050565b60088054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156135ae5780601f10613583576101008083540402835291602001916135ae565b820191906000526020600020905b81548152906001019060200180831161359157829003601f168201915b505050505081565b60006135c0617ba1565b6000606060006135ce617ba1565b6136118b8b8b8b8b6040805190810160405280600781526020017f6465706f73697400000000000000000000000000000000000000000000000000815250616de9565b9a508a600381518110151561362257fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156136bc576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016136b390619d2e565b60405180910390fd5b61370e8a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020546165ca90919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550600260405190808252","80602002602001820160405280156137815781602001602082028038833980820191505090505b509250600083600081518110151561379557fe5b90602001906020020181815250508860008151811015156137b257fe5b906020019060200201518360018151811015156137cb57fe5b90602001906020020181815250507fa4039d5990211fad3a15bf41bd09d8f68f647d8c1ab1b8d8500b7d6202087d04848b60405161380a92919061988a565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8c8c8b876040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161388f94939291906198d5565b606060405180830381600087803b1580156138a957600080fd5b505af11580156138bd573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138e191908101906184fa565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc81600060028110151561391957fe5b602002015182600160028110151561392d57fe5b60200201518d600281518110151561394157fe5b906020019060200201518e600381518110151561395a57fe5b906020019060200201518e604051613976959493929190619e09565b60405180910390a1818195509550505050509550959350505050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600060606000806139e4866139d689866164a390919063ffffffff16565b6164a390919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630613af560048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613ae15780601f10613ab657610100808354040283529160200191613ae1565b820191906000526020600020905b815481529060010190602001808311613ac457829003601f168201915b50505050508c6164a390919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613b339594939291906195e6565b6040805180830381600087803b158015613b4c57600080fd5b505af1158015613b60573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613b84919081019061827f565b8092508193505050801515613bce576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613bc590619b0e565b60405180910390fd5b613be48787601b616ff69092919063ffffffff16565b93505050509392505050565b60078054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613c865780601f10613c5b57610100808354040283529160200191613c86565b820191906000526020600020905b815481529060010190602001808311613c6957829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630613da060048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613d8c5780601f10613d6157610100808354040283529160200191613d8c565b820191906000526020600020905b815481529060010190602001808311613d6f57829003601f168201915b5050505050896164a390919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613ddb9493929190619379565b602060405180830381600087803b158015613df557600080fd5b505af1158015613e09573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613e2d91908101906184d1565b1515613e6e576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613e6590619b0e565b60405180910390fd5b613e848383601b616ff69092919063ffffffff16565b905092915050565b6000613e96617ba1565b60606000613ea2617ba1565b613ee58a8a8a8a8a6040805190810160405280600881526020017f7472616e736665720000000000000000000000000000000000000000000000008152506171eb565b9950602460008b6002815181101515613efa57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613f8d576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613f8490619d2e565b60405180910390fd5b602460008b6003815181101515613fa057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515614033576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161402a90619d2e565b60405180910390fd5b61409d89602560008d600281518110151561404a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461741090919063ffffffff16565b602560008c60028151811015156140b057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555061416289602560008d600381518110151561410f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020546165ca90919063ffffffff16565b602560008c600381518110151561417557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555060026040519080825280602002602001820160405280156141ed5781602001602082028038833980820191505090505b509250600283600081518110151561420157fe5b906020019060200201818152505087600081518110151561421e57fe5b9060200190602002015183600181518110151561423757fe5b90602001906020020181815250507f18f84334255a242551aa98c68047b5da8063eab9fbeaec1eddeea280044b9ff18a600281518110151561427557fe5b906020019060200201518b600381518110151561428e57fe5b906020019060200201518b6040516142a8939291906194ef565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8b8b8a876040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161432d94939291906198d5565b606060405180830381600087803b15801561434757600080fd5b505af115801561435b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061437f91908101906184fa565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc8160006002811015156143b757fe5b60200201518260016002811015156143cb57fe5b60200201518c60028151811015156143df57fe5b906020019060200201518d60038151811015156143f857fe5b906020019060200201518d604051614414959493929190619e09565b60405180910390a18181945094505050509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061454160048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561452d5780601f106145025761010080835404028352916020019161452d565b820191906000526020600020905b81548152906001019060200180831161451057829003601f168201915b5050505050896164a390919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161457c9493929190619379565b602060405180830381600087803b15801561459657600080fd5b505af11580156145aa573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506145ce91908101906184d1565b151561460f576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161460690619d0e565b60405180910390fd5b6146258383601b6166219092919063ffffffff16565b905092915050565b60068054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156146c35780601f10614698576101008083540402835291602001916146c3565b820191906000526020600020905b8154815290600101906020018083116146a657829003601f168201915b505050505081565b60006146d5617ba1565b6000606060006146e3617ba1565b6147268b8b8b8b8b6040805190810160405280600a81526020017f7769746864726177616c00000000000000000000000000000000000000000000815250616de9565b9a508a600281518110151561473757fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffff","ffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156147d1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016147c890619d2e565b60405180910390fd5b6148238a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461741090919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555060026040519080825280602002602001820160405280156148965781602001602082028038833980820191505090505b50925060018360008151811015156148aa57fe5b90602001906020020181815250508860008151811015156148c757fe5b906020019060200201518360018151811015156148e057fe5b90602001906020020181815250507f338e424d2d05f70468ec496a5da66a545913d90926ffae6c08c12b9d003ec6cb848b60405161491f92919061988a565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8c8c8b876040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016149a494939291906198d5565b606060405180830381600087803b1580156149be57600080fd5b505af11580156149d2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506149f691908101906184fa565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc816000600281101515614a2e57fe5b6020020151826001600281101515614a4257fe5b60200201518d6002815181101515614a5657fe5b906020019060200201518e6003815181101515614a6f57fe5b906020019060200201518e604051614a8b959493929190619e09565b60405180910390a1818195509550505050509550959350505050565b60148054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614b3d5780601f10614b1257610100808354040283529160200191614b3d565b820191906000526020600020905b815481529060010190602001808311614b2057829003601f168201915b505050505081565b60128054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614bdb5780601f10614bb057610100808354040283529160200191614bdb565b820191906000526020600020905b815481529060010190602001808311614bbe57829003601f168201915b505050505081565b60118054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614c795780601f10614c4e57610100808354040283529160200191614c79565b820191906000526020600020905b815481529060010190602001808311614c5c57829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614d2e949392919061982a565b6040805180830381600087803b158015614d4757600080fd5b505af1158015614d5b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614d7f919081019061827f565b8097508198505050851515614dc9576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614dc090619d6e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614e40919061935e565b602060405180830381600087803b158015614e5a57600080fd5b505af1158015614e6e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614e9291908101906184d1565b1515614ed3576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614eca90619ace565b60405180910390fd5b60028b51148015614f1357508a6001815181101515614eee57fe5b906020019060200201518b6000815181101515614f0757fe5b90602001906020020151125b1515614f54576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614f4b90619c0e565b60405180910390fd5b60008c511115614fce57600093505b8b51841015614fcd578b84815181101515614f7a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff161415614fc05760019450614fcd565b8380600101945050614f63565b5b8415156150a157601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d2eef3a1886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161504c919061935e565b602060405180830381600087803b15801561506657600080fd5b505af115801561507a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061509e91908101906184d1565b94505b8415156150e3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016150da90619bce565b60405180910390fd5b600060238054905014156150f9578298506155c8565b60008c5111801561514f5750600073ffffffffffffffffffffffffffffffffffffffff168c600081518110151561512c57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156152f657601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d60008151811015156151a157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016151e3919061935e565b602060405180830381600087803b1580156151fd57600080fd5b505af1158015615211573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615235919081019061821a565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff16141515156152a9576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016152a090619d4e565b60405180910390fd5b818c60008151811015156152b957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c5111801561534c5750600073ffffffffffffffffffffffffffffffffffffffff168c600181518110151561532957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156154f357601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d600181518110151561539e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016153e0919061935e565b602060405180830381600087803b1580156153fa57600080fd5b505af115801561540e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615432919081019061821a565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff16141515156154a6576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161549d90619aee565b60405180910390fd5b808c60018151811015156154b657fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b32cf81b8e8e8e6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161556e93929190619951565b600060405180830381600087803b15801561558857600080fd5b505af115801561559c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506155c591908101906183e5565b98505b5050505050505050949350505050565b60048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561566e5780601f106156435761010080835404028352916020019161566e565b820191906000526020600020905b81548152906001019060200180831161565157829003601f168201915b505050505081565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60058054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156157325780601f1061570757610100808354040283529160200191615732565b820191906000526020600020905b81548152906001019060200180831161571557829003601f168201915b505050505081565b60038054600181600116156101000203166002900480601f0160208091040260","200160405190810160405280929190818152602001828054600181600116156101000203166002900480156157d05780601f106157a5576101008083540402835291602001916157d0565b820191906000526020600020905b8154815290600101906020018083116157b357829003601f168201915b505050505081565b60006157e4601b617467565b905090565b600c8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561587f5780601f106158545761010080835404028352916020019161587f565b820191906000526020600020905b81548152906001019060200180831161586257829003601f168201915b505050505081565b60108054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561591d5780601f106158f25761010080835404028352916020019161591d565b820191906000526020600020905b81548152906001019060200180831161590057829003601f168201915b505050505081565b6000606060008061593f86846164a390919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630615a5060048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615a3c5780601f10615a1157610100808354040283529160200191615a3c565b820191906000526020600020905b815481529060010190602001808311615a1f57829003601f168201915b50505050508b6164a390919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615a8e9594939291906195e6565b6040805180830381600087803b158015615aa757600080fd5b505af1158015615abb573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615adf919081019061827f565b8092508193505050801515615b29576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615b2090619dae565b60405180910390fd5b615b3d86601b616b9790919063ffffffff16565b935050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015615bd057600080fd5b505af1158015615be4573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615c08919081019061821a565b905090565b600f8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615ca35780601f10615c7857610100808354040283529160200191615ca3565b820191906000526020600020905b815481529060010190602001808311615c8657829003601f168201915b505050505081565b60008054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615d415780601f10615d1657610100808354040283529160200191615d41565b820191906000526020600020905b815481529060010190602001808311615d2457829003601f168201915b505050505081565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615def949392919061976a565b6040805180830381600087803b158015615e0857600080fd5b505af1158015615e1c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615e40919081019061827f565b8092508193505050801515615e8a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615e8190619c6e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615f01919061935e565b602060405180830381600087803b158015615f1b57600080fd5b505af1158015615f2f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615f5391908101906184d1565b1515615f94576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615f8b90619ace565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166345be589e6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561601a57600080fd5b505af115801561602e573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061605291908101906186b6565b9350505050919050565b600e8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156160f25780601f106160c7576101008083540402835291602001916160f2565b820191906000526020600020905b8154815290600101906020018083116160d557829003601f168201915b505050505081565b60608060008061611386846164a390919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061622460038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156162105780601f106161e557610100808354040283529160200191616210565b820191906000526020600020905b8154815290600101906020018083116161f357829003601f168201915b50505050508b6164a390919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016162629594939291906195e6565b6040805180830381600087803b15801561627b57600080fd5b505af115801561628f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506162b3919081019061827f565b80925081935050508015156162fd576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016162f490619c4e565b60405180910390fd5b61631186601b6164b790919063ffffffff16565b935050505092915050565b600060606000806163368684616b7b90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016163d79493929190619586565b6040805180830381600087803b1580156163f057600080fd5b505af1158015616404573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616428919081019061827f565b8092508193505050801515616472576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161646990619c2e565b60405180910390fd5b85602881905550602854935050505092915050565b606061649b8361649684617475565b617554565b905092915050565b60606164af8383617554565b905092915050565b606082600001826040518082805190602001908083835b6020831015156164f357805182526020820191506020810190506020830392506164ce565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156165bd5780601f10616592576101008083540402835291602001916165bd565b820191906000526020600020905b8154815290600101906020018083116165a057829003601f168201915b5050505050905092915050565b6000808284019050838110151515616617576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161660e90619bee565b60405180910390fd5b8091505092915050565b60008084600001846040518082805190602001908083835b60208310151561665e5780518252602082019150602081019050602083039250616639565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115616811577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b602083101515616734578051825260208201915060208101905060208303925061670f565b6001836020036101000a03801982511681845116808217855250505050505090500191505090","8152602001604051809103902060010160405161677b959493929190619427565b60405180910390a18285600001856040518082805190602001908083835b6020831015156167be5780518252602082019150602081019050602083039250616799565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190616807929190617bc3565b5060019150616816565b600091505b509392505050565b60008084600001846040518082805190602001908083835b60208310151561685b5780518252602082019150602081019050602083039250616836565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811115616a0e577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b602083101515616931578051825260208201915060208101905060208303925061690c565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051616978959493929190619427565b60405180910390a18285600001856040518082805190602001908083835b6020831015156169bb5780518252602082019150602081019050602083039250616996565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190616a04929190617bc3565b5060019150616b73565b8285600001856040518082805190602001908083835b602083101515616a495780518252602082019150602081019050602083039250616a24565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190616a92929190617bc3565b50846001018054809190600101616aa99190617c43565b90506001810185600001856040518082805190602001908083835b602083101515616ae95780518252602082019150602081019050602083039250616ac4565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515616b3557fe5b90600052602060002090600202016000019080519060200190616b59929190617bc3565b508460020160008154809291906001019190505550600091505b509392505050565b6060616b8f83616b8a84617725565b617554565b905092915050565b60008083600001836040518082805190602001908083835b602083101515616bd45780518252602082019150602081019050602083039250616baf565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000015490506000811415616c1f5760009150616de2565b7fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b602083101515616cb35780518252602082019150602081019050602083039250616c8e565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051616cfa959493929190619427565b60405180910390a183600001836040518082805190602001908083835b602083101515616d3c5780518252602082019150602081019050602083039250616d17565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600080820160009055600182016000616d889190617c75565b505060018460010160018303815481101515616da057fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b606060006060600080616dfc8a89617769565b50616e098b8b8b8b6178ca565b9250616e148b611601565b809c508195505050831515616e5e576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616e5590619cae565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163089878c6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616eff959493929190619648565b6040805180830381600087803b158015616f1857600080fd5b505af1158015616f2c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616f50919081019061827f565b809250819350505080616fa1876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506179d090919063ffffffff16565b901515616fe4576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616fdb9190619a8c565b60405180910390fd5b508a9450505050509695505050505050565b60008084600001846040518082805190602001908083835b602083101515617033578051825260208201915060208101905060208303925061700e565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111561707e57600091506171e3565b8285600001856040518082805190602001908083835b6020831015156170b95780518252602082019150602081019050602083039250617094565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190617102929190617bc3565b508460010180548091906001016171199190617c43565b90506001810185600001856040518082805190602001908083835b6020831015156171595780518252602082019150602081019050602083039250617134565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156171a557fe5b906000526020600020906002020160000190805190602001906171c9929190617bc3565b508460020160008154809291906001019190505550600191505b509392505050565b6060600060606000806171fe8a89617769565b5061720b8b8b8b8b6178ca565b92506172168b611601565b809c508195505050831515617260576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161725790619cae565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168d60028151811015156172d057fe5b9060200190602002015189878c6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016173199594939291906193c5565b6040805180830381600087803b15801561733257600080fd5b505af1158015617346573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061736a919081019061827f565b8092508193505050806173bb876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506179d090919063ffffffff16565b9015156173fe576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016173f59190619a8c565b60405180910390fd5b508a9450505050509695505050505050565b600080838311151515617458576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161744f90619cee565b60405180910390fd5b82840390508091505092915050565b600081600201549050919050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f1916602001820160405280156174c05781602001602082028038833980820191505090505b509250600090505b601481101561754d5781816014811015156174df57fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151561751057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506174c8565b5050919050565b606080606080606060008088955087945084518651016040519080825280601f01601f19166020018201604052801561759c5781602001602082028038833980820191505090505b50935083925060009150600090505b855181101561765e5785818151811015156175c257fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561762157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506175ab565b600090505b845181101561771657848181518110151561767a57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156176d957fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050617663565b83965050505050505092915050565b606060206040519080825280601f01601f19166020018201604052801561775b578160200160208202803883398082019150509050","5b509050816020820152919050565b600080831115156177af576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016177a690619b4e565b60405180910390fd5b60008260008151811015156177c057fe5b90602001906020020151511180156177f1575060ff8260008151811015156177e457fe5b9060200190602002015151105b1515617832576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161782990619c8e565b60405180910390fd5b6001825111156178c057600082600181518110151561784d57fe5b906020019060200201515111801561787e575060ff82600181518110151561787157fe5b9060200190602002015151105b15156178bf576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016178b690619cce565b60405180910390fd5b5b6001905092915050565b606080600080600080600093505b895184101561791a5761790b8a858151811015156178f257fe5b906020019060200201518661648790919063ffffffff16565b945083806001019450506178d8565b61792d8986616b7b90919063ffffffff16565b9450600092505b875183101561797957878381518110151561794b57fe5b90602001906020020151915061796a8286616b7b90919063ffffffff16565b94508280600101935050617934565b600090505b86518110156179c0576179b1878281518110151561799857fe5b90602001906020020151866164a390919063ffffffff16565b9450808060010191505061797e565b8495505050505050949350505050565b606080606080606060008088955087945084518651016040519080825280601f01601f191660200182016040528015617a185781602001602082028038833980820191505090505b50935083925060009150600090505b8551811015617ada578581815181101515617a3e57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515617a9d57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050617a27565b600090505b8451811015617b92578481815181101515617af657fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515617b5557fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050617adf565b83965050505050505092915050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10617c0457805160ff1916838001178555617c32565b82800160010185558215617c32579182015b82811115617c31578251825591602001919060010190617c16565b5b509050617c3f9190617cbd565b5090565b815481835581811115617c7057600202816002028360005260206000209182019101617c6f9190617ce2565b5b505050565b50805460018160011615610100020316600290046000825580601f10617c9b5750617cba565b601f016020900490600052602060002090810190617cb99190617cbd565b5b50565b617cdf91905b80821115617cdb576000816000905550600101617cc3565b5090565b90565b617d2291905b80821115617d1e5760008082016000617d019190617c75565b6001820160006101000a81549060ff021916905550600201617ce8565b5090565b90565b6000617d31823561a125565b905092915050565b6000617d45825161a125565b905092915050565b600082601f8301121515617d6057600080fd5b8135617d73617d6e82619e89565b619e5c565b91508181835260208401935060208101905083856020840282011115617d9857600080fd5b60005b83811015617dc85781617dae8882617d25565b845260208401935060208301925050600181019050617d9b565b5050505092915050565b600082601f8301121515617de557600080fd5b6004617df8617df382619eb1565b619e5c565b91508183856020840282011115617e0e57600080fd5b60005b83811015617e3e5781617e2488826180c8565b845260208401935060208301925050600181019050617e11565b5050505092915050565b600082601f8301121515617e5b57600080fd5b8135617e6e617e6982619ed3565b619e5c565b91508181835260208401935060208101905083856020840282011115617e9357600080fd5b60005b83811015617ec35781617ea98882618132565b845260208401935060208301925050600181019050617e96565b5050505092915050565b600082601f8301121515617ee057600080fd5b8135617ef3617eee82619efb565b619e5c565b9150818183526020840193506020810190508360005b83811015617f395781358601617f1f8882618146565b845260208401935060208301925050600181019050617f09565b5050505092915050565b600082601f8301121515617f5657600080fd5b8151617f69617f6482619efb565b619e5c565b9150818183526020840193506020810190508360005b83811015617faf5781518601617f95888261819c565b845260208401935060208301925050600181019050617f7f565b5050505092915050565b600082601f8301121515617fcc57600080fd5b6002617fdf617fda82619f23565b619e5c565b91508183856020840282011115617ff557600080fd5b60005b83811015618025578161800b8882618206565b845260208401935060208301925050600181019050617ff8565b5050505092915050565b600082601f830112151561804257600080fd5b813561805561805082619f45565b619e5c565b9150818183526020840193506020810190508385602084028201111561807a57600080fd5b60005b838110156180aa578161809088826181f2565b84526020840193506020830192505060018101905061807d565b5050505092915050565b60006180c0825161a145565b905092915050565b60006180d4823561a151565b905092915050565b600082601f83011215156180ef57600080fd5b81356181026180fd82619f6d565b619e5c565b9150808252602083016020830185838301111561811e57600080fd5b61812983828461a1a5565b50505092915050565b600061813e823561a15b565b905092915050565b600082601f830112151561815957600080fd5b813561816c61816782619f99565b619e5c565b9150808252602083016020830185838301111561818857600080fd5b61819383828461a1a5565b50505092915050565b600082601f83011215156181af57600080fd5b81516181c26181bd82619f99565b619e5c565b915080825260208301602083018583830111156181de57600080fd5b6181e983828461a1b4565b50505092915050565b60006181fe823561a165565b905092915050565b6000618212825161a165565b905092915050565b60006020828403121561822c57600080fd5b600061823a84828501617d39565b91505092915050565b60008060a0838503121561825657600080fd5b600061826485828601617d25565b925050602061827585828601617dd2565b9150509250929050565b6000806040838503121561829257600080fd5b60006182a085828601617d39565b92505060206182b1858286016180b4565b9150509250929050565b6000602082840312156182cd57600080fd5b600082013567ffffffffffffffff8111156182e757600080fd5b6182f384828501617d4d565b91505092915050565b6000806000806000610100868803121561831557600080fd5b600086013567ffffffffffffffff81111561832f57600080fd5b61833b88828901617d4d565b955050602061834c888289016181f2565b945050604086013567ffffffffffffffff81111561836957600080fd5b61837588828901617e48565b935050606086013567ffffffffffffffff81111561839257600080fd5b61839e88828901617ecd565b92505060806183af88828901617dd2565b9150509295509295909350565b6000608082840312156183ce57600080fd5b60006183dc84828501617dd2565b91505092915050565b6000602082840312156183f757600080fd5b600082015167ffffffffffffffff81111561841157600080fd5b61841d84828501617f43565b91505092915050565b60008060008060e0858703121561843c57600080fd5b600085013567ffffffffffffffff81111561845657600080fd5b6184628782880161802f565b945050602085013567ffffffffffffffff81111561847f57600080fd5b61848b87828801617d4d565b935050604085013567ffffffffffffffff8111156184a857600080fd5b6184b487828801617e48565b92505060606184c587828801617dd2565b91505092959194509250565b6000602082840312156184e357600080fd5b60006184f1848285016180b4565b91505092915050565b6000806060838503121561850d57600080fd5b600061851b858286016180b4565b925050602061852c85828601617fb9565b9150509250929050565b60006020828403121561854857600080fd5b600082013567ffffffffffffffff81111561856257600080fd5b61856e848285016180dc565b91505092915050565b60008060a0838503121561858a57600080fd5b600083013567ffffffffffffffff8111156185a457600080fd5b6185b0858286016180dc565b92505060206185c185828601617dd2565b9150509250929050565b600080604083850312156185de57600080fd5b600083013567ffffffffffffffff8111156185f857600080fd5b618604858286016180dc565b925050602083013567ffffffffffffffff81111561862157600080fd5b61862d858286016180dc565b9150509250929050565b600080600060c0848603121561864c57600080fd5b600084013567ffffffffffffffff81111561866657600080fd5b618672868287016180dc565b935050602084013567ffffffffffffffff81111561868f57600080fd5b61869b868287016180dc565b92505060406186ac86828701617dd2565b9150509250925092565b6000602082840312156186c857600080fd5b60006186d684828501618206565b91505092915050565b60008060a083850312156186f257600080fd5b6000618700858286016181f2565b925050602061871185828601617dd2565b9150509250929050565b6187248161a0db565b82525050565b60006187358261a01f565b80845260208401935061874783619fc5565b60005b828110156187795761875d8683516187","1b565b6187668261a08d565b915060208601955060018101905061874a565b50849250505092915050565b61878e8161a02a565b61879782619fd2565b60005b828110156187c9576187ad85835161894e565b6187b68261a09a565b915060208501945060018101905061879a565b5050505050565b60006187db8261a035565b8084526020840193506187ed83619fdc565b60005b8281101561881f57618803868351618a7c565b61880c8261a0a7565b91506020860195506001810190506187f0565b50849250505092915050565b60006188368261a040565b8084526020840193508360208202850161884f85619fe9565b60005b8481101561888857838303885261886a838351618ac1565b92506188758261a0b4565b9150602088019750600181019050618852565b508196508694505050505092915050565b6188a28161a04b565b6188ab82619ff6565b60005b828110156188dd576188c185835161934f565b6188ca8261a0c1565b91506020850194506001810190506188ae565b5050505050565b60006188ef8261a056565b8084526020840193506189018361a000565b60005b828110156189335761891786835161934f565b6189208261a0ce565b9150602086019550600181019050618904565b50849250505092915050565b6189488161a0fb565b82525050565b6189578161a107565b82525050565b60006189688261a06c565b80845261897c81602086016020860161a1b4565b6189858161a1e7565b602085010191505092915050565b600061899e8261a061565b8084526189b281602086016020860161a1b4565b6189bb8161a1e7565b602085010191505092915050565b6000815460018116600081146189e65760018114618a0657618a47565b607f600283041680865260ff198316602087015260408601935050618a47565b60028204808652602086019550618a1c8561a00d565b60005b82811015618a3e57815481890152600182019150602081019050618a1f565b80880195505050505b505092915050565b618a588161a16f565b82525050565b618a678161a181565b82525050565b618a768161a193565b82525050565b618a858161a111565b82525050565b6000618a968261a082565b808452618aaa81602086016020860161a1b4565b618ab38161a1e7565b602085010191505092915050565b6000618acc8261a077565b808452618ae081602086016020860161a1b4565b618ae98161a1e7565b602085010191505092915050565b6000600882527f73657450726963650000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000600a82527f67657442616c616e6365000000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601282527f736574507269636520466f7262696464656e00000000000000000000000000006020830152604082019050919050565b6000601782527f616d6f756e743c3d30206973206e6f74207665726966790000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000600f82527f676574546f74616c42616c616e636500000000000000000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e2067657442616c616e63650000000000000000000000006020830152604082019050919050565b6000600782527f73657452617465000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000602c82527f466f7262696464656e207175657279426f6f6b206265636175736520796f752060208301527f6172656e2774206f776e657200000000000000000000000000000000000000006040830152606082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000601182527f7365745261746520466f7262696464656e0000000000000000000000000000006020830152604082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000602682527f546865206c656e677468206f662064657363206279746573206973207769746860208301527f696e2032353500000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000602982527f546865206c656e677468206f66207375626a656374206279746573206973207760208301527f697468696e2032353500000000000000000000000000000000000000000000006040830152606082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000601f82527f676574546f74616c42616c616e636520676574546f74616c42616c616e6365006020830152604082019050919050565b6193588161a11b565b82525050565b6000602082019050619373600083018461871b565b92915050565b600060808201905061938e600083018761871b565b61939b602083018661871b565b6193a8604083018561871b565b81810360608301526193ba818461895d565b905095945050505050565b6000610100820190506193db600083018861871b565b6193e8602083018761871b565b81810360408301526193fa8186618993565b9050818103606083015261940e818561895d565b905061941d6080830184618785565b9695505050505050565b600060a08201905061943c600083018861871b565b619449602083018761871b565b818103604083015261945b8186618993565b9050818103606083015261946f818561895d565b9050818103608083015261948381846189c9565b90509695505050505050565b6000610100820190506194a5600083018761871b565b6194b2602083018661871b565b81810360408301526194c381618bf9565b905081810360608301526194d7818561895d565b90506194e66080830184618785565b95945050505050565b6000606082019050619504600083018661871b565b619511602083018561871b565b61951e604083018461934f565b949350505050565b60006101008201905061953c600083018761871b565b6195496020830186618a4f565b818103604083015261955a81618af7565b9050818103606083015261956e818561895d565b905061957d6080830184618785565b95945050505050565b60006101008201905061959c600083018761871b565b6195a96020830186618a4f565b81810360408301526195ba81618de8565b905081810360608301526195ce818561895d565b90506195dd6080830184618785565b95945050505050565b6000610100820190506195fc600083018861871b565b6196096020830187618a5e565b818103604083015261961b818661895d565b9050818103606083015261962f818561895d565b905061963e6080830184618785565b9695505050505050565b60006101008201905061965e600083018861871b565b61966b6020830187618a6d565b818103604083015261967d8186618993565b90508181036060830152619691818561895d565b90506196a06080830184618785565b9695505050505050565b6000610100820190506196c0600083018761871b565b6196cd6020830186618a6d565b81810360408301526196de81618d0c565b905081810360608301526196f2818561895d565b90506197016080830184618785565b95945050505050565b600061010082019050619720600083018761871b565b61972d6020830186618a6d565b818103604083015261973e81618d43565b90508181036060830152619752818561895d565b9050619761608083","0184618785565b95945050505050565b600061010082019050619780600083018761871b565b61978d6020830186618a6d565b818103604083015261979e81618fa4565b905081810360608301526197b2818561895d565b90506197c16080830184618785565b95945050505050565b6000610100820190506197e0600083018761871b565b6197ed6020830186618a6d565b81810360408301526197fe81619273565b90508181036060830152619812818561895d565b90506198216080830184618785565b95945050505050565b600061010082019050619840600083018761871b565b61984d6020830186618a6d565b818103604083015261985e816192e1565b90508181036060830152619872818561895d565b90506198816080830184618785565b95945050505050565b600060408201905061989f600083018561871b565b6198ac602083018461934f565b9392505050565b600060208201905081810360008301526198cd818461872a565b905092915050565b600060808201905081810360008301526198ef818761872a565b90506198fe602083018661934f565b8181036040830152619910818561882b565b9050818103606083015261992481846187d0565b905095945050505050565b60006020820190508181036000830152619949818461882b565b905092915050565b6000606082019050818103600083015261996b81866188e4565b9050818103602083015261997f818561872a565b9050818103604083015261999381846187d0565b9050949350505050565b60006020820190506199b2600083018461893f565b92915050565b60006040820190506199cd600083018561893f565b81810360208301526199df818461872a565b90509392505050565b60006060820190506199fd600083018561893f565b619a0a6020830184618899565b9392505050565b60006020820190508181036000830152619a2b8184618993565b905092915050565b60006020820190508181036000830152619a4d818461895d565b905092915050565b6000606082019050619a6a6000830186618a6d565b619a77602083018561871b565b619a84604083018461893f565b949350505050565b60006020820190508181036000830152619aa68184618a8b565b905092915050565b60006020820190508181036000830152619ac781618b2e565b9050919050565b60006020820190508181036000830152619ae781618b65565b9050919050565b60006020820190508181036000830152619b0781618bc2565b9050919050565b60006020820190508181036000830152619b2781618c30565b9050919050565b60006020820190508181036000830152619b4781618c67565b9050919050565b60006020820190508181036000830152619b6781618c9e565b9050919050565b60006020820190508181036000830152619b8781618cd5565b9050919050565b60006020820190508181036000830152619ba781618d7a565b9050919050565b60006020820190508181036000830152619bc781618db1565b9050919050565b60006020820190508181036000830152619be781618e1f565b9050919050565b60006020820190508181036000830152619c0781618e7c565b9050919050565b60006020820190508181036000830152619c2781618eb3565b9050919050565b60006020820190508181036000830152619c4781618f36565b9050919050565b60006020820190508181036000830152619c6781618f6d565b9050919050565b60006020820190508181036000830152619c8781618fdb565b9050919050565b60006020820190508181036000830152619ca781619012565b9050919050565b60006020820190508181036000830152619cc78161906f565b9050919050565b60006020820190508181036000830152619ce7816190cc565b9050919050565b60006020820190508181036000830152619d0781619129565b9050919050565b60006020820190508181036000830152619d2781619160565b9050919050565b60006020820190508181036000830152619d4781619197565b9050919050565b60006020820190508181036000830152619d67816191ce565b9050919050565b60006020820190508181036000830152619d8781619205565b9050919050565b60006020820190508181036000830152619da78161923c565b9050919050565b60006020820190508181036000830152619dc7816192aa565b9050919050565b60006020820190508181036000830152619de781619318565b9050919050565b6000602082019050619e03600083018461934f565b92915050565b600060a082019050619e1e600083018861934f565b619e2b602083018761934f565b619e38604083018661871b565b619e45606083018561871b565b619e52608083018461934f565b9695505050505050565b6000604051905081810181811067ffffffffffffffff82111715619e7f57600080fd5b8060405250919050565b600067ffffffffffffffff821115619ea057600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619ec857600080fd5b602082029050919050565b600067ffffffffffffffff821115619eea57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619f1257600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619f3a57600080fd5b602082029050919050565b600067ffffffffffffffff821115619f5c57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115619f8457600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115619fb057600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600061a17a8261a0db565b9050919050565b600061a18c8261a0db565b9050919050565b600061a19e8261a0db565b9050919050565b82818337600083830152505050565b60005b8381101561a1d257808201518184015260208101905061a1b7565b8381111561a1e1576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a72305820c81836e1bffbdde1d0c51b2af2f48e32da00e93049d690944f19cc4267a47dcf6c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b506040516200593638038062005936833981018060405262000037919081019062000354565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600a9080519060200190620000ff9291906200021b565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c92a7801600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a91906200055d565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d09190810190620003c3565b5080600b60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505062000678565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200025e57805160ff19168380011785556200028f565b828001600101855582156200028f579182015b828111156200028e57825182559160200191906001019062000271565b5b5090506200029e9190620002a2565b5090565b620002c791905b80821115620002c3576000816000905550600101620002a9565b5090565b90565b6000620002d8825162000618565b905092915050565b6000620002ee825162000638565b905092915050565b600082601f83011215156200030a57600080fd5b8151620003216200031b82620005d9565b620005ab565b915080825260208301602083018583830111156200033e57600080fd5b6200034b83828462000642565b50505092915050565b6000806000606084860312156200036a57600080fd5b60006200037a86828701620002ca565b935050602084015167ffffffffffffffff8111156200039857600080fd5b620003a686828701620002f6565b9250506040620003b986828701620002ca565b9150509250925092565b600060208284031215620003d657600080fd5b6000620003e684828501620002e0565b91505092915050565b6000815460018116600081146200040f5760018114620004305762000475565b607f600283041680865260ff19831660208701526040860193505062000475565b60028204808652602086019550620004488562000606565b60005b828110156200046c578154818901526001820191506020810190506200044b565b80880195505050505b505092915050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000606482527f7465726d5f6e6f2c7365712c66726f6d2c746f2c616d6f756e742c617373657460208301527f2c6f70657261746f722c646573632c7472616e73616374696f6e5f747970652c60408301527f6f7065726174696f6e5f747970652c7375626a6563742c72656c617465645f6160","608301527f7373657400000000000000000000000000000000000000000000000000000000608083015260a082019050919050565b60006060820190508181036000830152620005798184620003ef565b905081810360208301526200058e816200047d565b90508181036040830152620005a381620004b4565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005cf57600080fd5b8060405250919050565b600067ffffffffffffffff821115620005f157600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b838110156200066257808201518184015260208101905062000645565b8381111562000672576000848401525b50505050565b6152ae80620006886000396000f300608060405260043610610062576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806311567c421461006757806318768d1e1461009257806345be589e146100d0578063b32cf81b146100fb575b600080fd5b34801561007357600080fd5b5061007c610138565b6040516100899190614945565b60405180910390f35b34801561009e57600080fd5b506100b960048036036100b4919081019061405e565b610140565b6040516100c7929190614982565b60405180910390f35b3480156100dc57600080fd5b506100e56105d1565b6040516100f29190614f3f565b60405180910390f35b34801561010757600080fd5b50610122600480360361011d9190810190614109565b61062e565b60405161012f9190614960565b60405180910390f35b600030905090565b600061014a613c9a565b60006060600080600061015b613c9a565b60048c511015801561016e575060028951145b15156101af576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016101a690614d6b565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631bf727356040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801561023457600080fd5b505af1158015610248573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061027191908101906142d7565b80965081975050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bd332ffe6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156102fe57600080fd5b505af1158015610312573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061033691908101906142ae565b935061034686858e8e8e8e610cef565b9250600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016103c09190614a4f565b602060405180830381600087803b1580156103da57600080fd5b505af11580156103ee573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610412919081019061421b565b915060018273ffffffffffffffffffffffffffffffffffffffff16634c6f30c061045c600260016002805490500381548110151561044c57fe5b90600052602060002001546116b9565b866040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610496929190614a1f565b602060405180830381600087803b1580156104b057600080fd5b505af11580156104c4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104e89190810190614244565b14151561052a576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161052190614bfe565b60405180910390fd5b61053586858e611810565b60408051908101604052808781526020018581525090507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc86858e600281518110151561057e57fe5b906020019060200201518f600381518110151561059757fe5b906020019060200201518f6040516105b3959493929190614f5a565b60405180910390a16001819750975050505050505094509492505050565b600060026001600280549050019080600181540180825580915050906001820390600052602060002001600090919290919091505550600260016002805490500381548110151561061e57fe5b9060005260206000200154905090565b60606000606060006060600080606060008b51118061064e575060008a51115b151561068f576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161068690614d6b565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107079190614a4f565b602060405180830381600087803b15801561072157600080fd5b505af1158015610735573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610759919081019061421b565b96506107658b8b611dca565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156107d157600080fd5b505af11580156107e5573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061080991908101906141a0565b92506000915060008b51118015610839575060008b600081518110151561082c57fe5b9060200190602002015114155b156108e6578273ffffffffffffffffffffffffffffffffffffffff1663ae763db561087b8d600081518110151561086c57fe5b906020019060200201516116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108b39190614d36565b600060405180830381600087803b1580156108cd57600080fd5b505af11580156108e1573d6000803e3d6000fd5b505050505b60018b51118015610910575060008b600181518110151561090357fe5b9060200190602002015114155b156109bd578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56109528d600181518110151561094357fe5b906020019060200201516116b9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161098a9190614b74565b600060405180830381600087803b1580156109a457600080fd5b505af11580156109b8573d6000803e3d6000fd5b505050505b60008a51118015610a135750600073ffffffffffffffffffffffffffffffffffffffff168a60008151811015156109f057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610ad6578273ffffffffffffffffffffffffffffffffffffffff1663ae763db5610a6b8c6000815181101515610a4657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610aa39190614bc9565b600060405180830381600087803b158015610abd57600080fd5b505af1158015610ad1573d6000803e3d6000fd5b505050505b60018a51118015610b2c5750600073ffffffffffffffffffffffffffffffffffffffff168a6001815181101515610b0957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610bef578273ffffffffffffffffffffffffffffffffffffffff1663ae763db5610b848c6001815181101515610b5f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610bbc9190614eb5565b600060405180830381600087803b158015610bd657600080fd5b505af1158015610bea573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff1663324927378a6000815181101515610c1a57fe5b906020019060200201518b6001815181101515610c3357fe5b906020019060200201516040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c769291906149c6565b600060405180830381600087803b158015610c9057600080fd5b505af1158015610ca4573d6000803e3d6000fd5b50505050610cb38686856125c2565b809350819250505060008151118015610ccc5750600082135b15610cde57610cdb81836128ca565b93505b839750505050505050509392505050565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610d6c9190614a4f565b602060405180830381600087803b158015610d8657600080fd5b505af1158015610d9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610dbe919081019061421b565b91508173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610e2457600080fd5b505af1158015610e38573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e5c91908101906141f2565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610ea46002600160028054905003815481101515610e9457fe5b906000526020600020015461","16b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610edc9190614ce1565b600060405180830381600087803b158015610ef657600080fd5b505af1158015610f0a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610f338a6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f6b9190614b74565b600060405180830381600087803b158015610f8557600080fd5b505af1158015610f99573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610fc28b6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ffa9190614d36565b600060405180830381600087803b15801561101457600080fd5b505af1158015611028573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461107f89600281518110151561105a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110b79190614bc9565b600060405180830381600087803b1580156110d157600080fd5b505af11580156110e5573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461113c89600381518110151561111757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111749190614eb5565b600060405180830381600087803b15801561118e57600080fd5b505af11580156111a2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98860018151811015156111d157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112139190614c93565b600060405180830381600087803b15801561122d57600080fd5b505af1158015611241573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461126a886116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112a29190614c3e565b600060405180830381600087803b1580156112bc57600080fd5b505af11580156112d0573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98860008151811015156112ff57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113419190614b06565b600060405180830381600087803b15801561135b57600080fd5b505af115801561136f573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb486600081518110151561139e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113e09190614ab1565b600060405180830381600087803b1580156113fa57600080fd5b505af115801561140e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def4269885600081518110151561143d57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161147f9190614dab565b600060405180830381600087803b15801561149957600080fd5b505af11580156114ad573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988560018151811015156114dc57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161151e9190614df9565b600060405180830381600087803b15801561153857600080fd5b505af115801561154c573d6000803e3d6000fd5b505050506001855111156115fa578073ffffffffffffffffffffffffffffffffffffffff16631a391cb486600181518110151561158557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115c79190614f0a565b600060405180830381600087803b1580156115e157600080fd5b505af11580156115f5573d6000803e3d6000fd5b505050505b8073ffffffffffffffffffffffffffffffffffffffff1663517c4dd9600589511061163d5788600481518110151561162e57fe5b90602001906020020151611640565b60005b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116789190614e47565b600060405180830381600087803b15801561169257600080fd5b505af11580156116a6573d6000803e3d6000fd5b5050505080925050509695505050505050565b60606000806060600080861415611707576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611807565b8593505b600084141515611731578280600101935050600a8481151561172957fe5b04935061170b565b826040519080825280601f01601f1916602001820160405280156117645781602001602082028038833980820191505090505b5091506001830390505b60008614151561180357600a8681151561178457fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156117bf57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156117fb57fe5b04955061176e565b8194505b50505050919050565b600760008481526020019081526020016000206000600260016002805490500381548110151561183c57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615156119265760036000848152602001908152602001600020600260016002805490500381548110151561189357fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160076000858152602001908152602001600020600060026001600280549050038154811015156118f557fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600260016002805490500381548110151561193d57fe5b906000526020600020015460046000848152602001908152602001600020819055506008600082600281518110151561197257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156119cf57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611a485750806002815181101515611a0d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611b925760056000826002815181101515611a6057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611abb57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160086000836002815181101515611b0457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611b6157fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b60096000826003815181101515611ba557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611c0257fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611c7b5750806003815181101515611c4057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611dc55760066000826003815181101515611c9357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611cee57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160096000836003815181101515611d3757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611d9457fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b505050565b6060600060606000806000806000600280549050604051908082528060200260200182016040528015611e0c5781602001602082028038833980820191505090505b50955060018a51118015611e39575060008a6001815181101515611e2c57fe5b9060200190602002015114155b15611ec7576000600460008c6001815181101515611e5357fe5b90602001906020020151815260200190815260200160002054141515611ec6576001866001600460008e6001815181101515611e8b57fe5b906020019060200201518152602001908152602001","6000205403815181101515611eb157fe5b90602001906020020190151590811515815250505b5b60008a51118015611ef1575060008a6000815181101515611ee457fe5b9060200190602002015114155b1561200c57600094505b600360008b6000815181101515611f0e57fe5b9060200190602002015181526020019081526020016000208054905085101561200b57856001600360008d6000815181101515611f4757fe5b90602001906020020151815260200190815260200160002087815481101515611f6c57fe5b906000526020600020015403815181101515611f8457fe5b906020019060200201511515611ffe576001866001600360008e6000815181101515611fac57fe5b90602001906020020151815260200190815260200160002088815481101515611fd157fe5b906000526020600020015403815181101515611fe957fe5b90602001906020020190151590811515815250505b8480600101955050611efb565b5b600089511180156120625750600073ffffffffffffffffffffffffffffffffffffffff1689600081518110151561203f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561220157600093505b600560008a600081518110151561207f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208054905084101561220057856001600560008c60008151811015156120e457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208681548110151561213557fe5b90600052602060002001540381518110151561214d57fe5b9060200190602002015115156121f3576001866001600560008d600081518110151561217557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020878154811015156121c657fe5b9060005260206000200154038151811015156121de57fe5b90602001906020020190151590811515815250505b838060010194505061206c565b5b600189511180156122575750600073ffffffffffffffffffffffffffffffffffffffff1689600181518110151561223457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156123f657600092505b600660008a600181518110151561227457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020805490508310156123f557856001600660008c60018151811015156122d957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208581548110151561232a57fe5b90600052602060002001540381518110151561234257fe5b9060200190602002015115156123e8576001866001600660008d600181518110151561236a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156123bb57fe5b9060005260206000200154038151811015156123d357fe5b90602001906020020190151590811515815250505b8280600101935050612261565b5b60009150600090505b855181101561243b57858181518110151561241657fe5b906020019060200201511561242e5781806001019250505b80806001019150506123ff565b8582975097505050505050509250929050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff16945060008514156124b8576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525095506125b8565b8493505b6000841415156124e2578280600101935050600a848115156124da57fe5b0493506124bc565b826040519080825280601f01601f1916602001820160405280156125155781602001602082028038833980820191505090505b5091506001830390505b6000851415156125b457600a8581151561253557fe5b066030017f01000000000000000000000000000000000000000000000000000000000000000282828060019003935081518110151561257057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a858115156125ac57fe5b04945061251f565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126489190614a4f565b602060405180830381600087803b15801561266257600080fd5b505af1158015612676573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061269a919081019061421b565b955060009450896040519080825280602002602001820160405280156126cf5781602001602082028038833980820191505090505b50935060009250600091505b8a518210156128b6578a828151811015156126f257fe5b90602001906020020151156128a9578573ffffffffffffffffffffffffffffffffffffffff1663d8ac5957612729600185016116b9565b8b6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016127639291906149ef565b602060405180830381600087803b15801561277d57600080fd5b505af1158015612791573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127b591908101906141c9565b90508073ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561281b57600080fd5b505af115801561282f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128539190810190614244565b8501945080848480600101955081518110151561286c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b81806001019250506126db565b838597509750505050505050935093915050565b60608060008060008060006060600c890260405190808252806020026020018201604052801561290e57816020015b60608152602001906001900390816128f95790505b509650600095505b895186101561353457898681518110151561292d57fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156129a657600080fd5b505af11580156129ba573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129de9190810190614244565b831215613527578473ffffffffffffffffffffffffffffffffffffffff16633dd2b614846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a3a91906149ab565b602060405180830381600087803b158015612a5457600080fd5b505af1158015612a68573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a8c91908101906141f2565b915060009350612c938273ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae890614ba9565b600060405180830381600087803b158015612b0257600080fd5b505af1158015612b16573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612b3f919081019061426d565b8373ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b9290614e95565b600060405180830381600087803b158015612bac57600080fd5b505af1158015612bc0573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612be9919081019061426d565b8473ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c3c90614ae6565b602060405180830381600087803b158015612c5657600080fd5b505af1158015612c6a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c8e9190810190614035565b613544565b905060038151141515612cdb576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612cd290614a71565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d2e90614d16565b600060405180830381600087803b158015612d4857600080fd5b505af1158015612d5c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612d85919081019061426d565b878585600c0201815181101515612d9857fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612df890614b54565b600060405180830381600087803b158015612e1257600080fd5b505af1158015612e26573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612e4f919081019061426d565b878560010195508585600c0201815181101515612e6857fe5b90602001906020020181905250806000815181101515612e8457fe5b90602001906020020151878560010195508585600c02018151811015","15612ea757fe5b90602001906020020181905250806001815181101515612ec357fe5b90602001906020020151878560010195508585600c0201815181101515612ee657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f4690614c1e565b600060405180830381600087803b158015612f6057600080fd5b505af1158015612f74573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612f9d919081019061426d565b878560010195508585600c0201815181101515612fb657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161301690614a91565b600060405180830381600087803b15801561303057600080fd5b505af1158015613044573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061306d919081019061426d565b878560010195508585600c020181518110151561308657fe5b906020019060200201819052506131568273ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130e990614c73565b602060405180830381600087803b15801561310357600080fd5b505af1158015613117573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061313b9190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561316f57fe5b9060200190602002018190525080600281518110151561318b57fe5b90602001906020020151878560010195508585600c02018151811015156131ae57fe5b906020019060200201819052506132688273ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161321190614d8b565b602060405180830381600087803b15801561322b57600080fd5b505af115801561323f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506132639190810190614244565b6116b9565b878560010195508585600c020181518110151561328157fe5b9060200190602002018190525061333b8273ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132e490614dd9565b602060405180830381600087803b1580156132fe57600080fd5b505af1158015613312573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506133369190810190614244565b6116b9565b878560010195508585600c020181518110151561335457fe5b906020019060200201819052506134248273ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016133b790614e27565b602060405180830381600087803b1580156133d157600080fd5b505af11580156133e5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134099190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561343d57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161349d90614eea565b600060405180830381600087803b1580156134b757600080fd5b505af11580156134cb573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506134f4919081019061426d565b878560010195508585600c020181518110151561350d57fe5b906020019060200201819052508280600101935050612942565b8580600101965050612916565b8697505050505050505092915050565b606080600080600360405190808252806020026020018201604052801561357f57816020015b606081526020019060019003908161356a5790505b50925061358b87613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561374557600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade661360789613ac9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161363f9190614945565b602060405180830381600087803b15801561365957600080fd5b505af115801561366d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136919190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613705576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016136fc90614cc1565b60405180910390fd5b6137248173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600081518110151561373357fe5b90602001906020020181905250613763565b8683600081518110151561375557fe5b906020019060200201819052505b61376c86613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561392657600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade66137e888613ac9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138209190614945565b602060405180830381600087803b15801561383a57600080fd5b505af115801561384e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138729190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156138e6576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016138dd90614b34565b60405180910390fd5b6139058173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600181518110151561391457fe5b90602001906020020181905250613944565b8583600181518110151561393657fe5b906020019060200201819052505b600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade6866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016139bb9190614945565b602060405180830381600087803b1580156139d557600080fd5b505af11580156139e9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a0d9190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613a81576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613a7890614e75565b60405180910390fd5b613aa08173ffffffffffffffffffffffffffffffffffffffff1661244e565b836002815181101515613aaf57fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613c8f5760308382815181101515613af557fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bf3575060398382815181101515613b7f57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613c825760308382815181101515613c0857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613adc565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613cc88235615181565b905092915050565b6000613cdc8251615181565b905092915050565b600082601f8301121515613cf757600080fd5b8135613d0a613d0582614fda565b614fad565b91508181835260208401935060208101905083856020840282011115613d2f57600080fd5b60005b83811015613d5f5781613d458882613cbc565b845260208401935060208301925050600181019050613d32565b5050505092915050565b600082601f8301121515613d7c57600080fd5b8135613d8f613d8a82615002565b614fad565b91508181835260208401935060208101905083856020840282011115613db457600080fd5b60005b83811015613de45781613dca8882613f39565b845260208401935060208301925050600181019050613db7565b5050505092915050565b600082601f8301121515613e0157600080fd5b8135613e14613e0f8261502a565b614fad565b9150818183526020840193506020810190508360005b83811015613e5a5781358601613e408882613f61565b845260208401935060208301925050600181019050613e2a565b5050505092915050565b600082601f8301121515613e7757600080fd5b8135613e8a613e8582615052565b614fad565b91508181835260208401935060208101905083856020","840282011115613eaf57600080fd5b60005b83811015613edf5781613ec5888261400d565b845260208401935060208301925050600181019050613eb2565b5050505092915050565b6000613ef582516151a1565b905092915050565b6000613f0982516151b3565b905092915050565b6000613f1d82516151c5565b905092915050565b6000613f3182516151d7565b905092915050565b6000613f4582356151e9565b905092915050565b6000613f5982516151e9565b905092915050565b600082601f8301121515613f7457600080fd5b8135613f87613f828261507a565b614fad565b91508082526020830160208301858383011115613fa357600080fd5b613fae838284615221565b50505092915050565b600082601f8301121515613fca57600080fd5b8151613fdd613fd8826150a6565b614fad565b91508082526020830160208301858383011115613ff957600080fd5b614004838284615230565b50505092915050565b600061401982356151f3565b905092915050565b600061402d82516151f3565b905092915050565b60006020828403121561404757600080fd5b600061405584828501613cd0565b91505092915050565b6000806000806080858703121561407457600080fd5b600085013567ffffffffffffffff81111561408e57600080fd5b61409a87828801613ce4565b94505060206140ab8782880161400d565b935050604085013567ffffffffffffffff8111156140c857600080fd5b6140d487828801613dee565b925050606085013567ffffffffffffffff8111156140f157600080fd5b6140fd87828801613d69565b91505092959194509250565b60008060006060848603121561411e57600080fd5b600084013567ffffffffffffffff81111561413857600080fd5b61414486828701613e64565b935050602084013567ffffffffffffffff81111561416157600080fd5b61416d86828701613ce4565b925050604084013567ffffffffffffffff81111561418a57600080fd5b61419686828701613d69565b9150509250925092565b6000602082840312156141b257600080fd5b60006141c084828501613ee9565b91505092915050565b6000602082840312156141db57600080fd5b60006141e984828501613efd565b91505092915050565b60006020828403121561420457600080fd5b600061421284828501613f11565b91505092915050565b60006020828403121561422d57600080fd5b600061423b84828501613f25565b91505092915050565b60006020828403121561425657600080fd5b600061426484828501613f4d565b91505092915050565b60006020828403121561427f57600080fd5b600082015167ffffffffffffffff81111561429957600080fd5b6142a584828501613fb7565b91505092915050565b6000602082840312156142c057600080fd5b60006142ce84828501614021565b91505092915050565b600080604083850312156142ea57600080fd5b60006142f885828601614021565b925050602083015167ffffffffffffffff81111561431557600080fd5b61432185828601613fb7565b9150509250929050565b61433481615141565b82525050565b6000614345826150fb565b8084526020840193508360208202850161435e856150d2565b60005b84811015614397578383038852614379838351614465565b925061438482615127565b9150602088019750600181019050614361565b508196508694505050505092915050565b6143b181615106565b6143ba826150df565b60005b828110156143ec576143d0858351614936565b6143d982615134565b91506020850194506001810190506143bd565b5050505050565b6143fc81615161565b82525050565b61440b816151fd565b82525050565b61441a8161520f565b82525050565b6144298161516d565b82525050565b600061443a8261511c565b80845261444e816020860160208601615230565b61445781615263565b602085010191505092915050565b600061447082615111565b808452614484816020860160208601615230565b61448d81615263565b602085010191505092915050565b6000815460018116600081146144b857600181146144d857614519565b607f600283041680865260ff198316602087015260408601935050614519565b600282048086526020860195506144ee856150e9565b60005b82811015614510578154818901526001820191506020810190506144f1565b80880195505050505b505092915050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f777269746520626f6f6b206661696c65640000000000000000000000000000006020830152604082019050919050565b6000600682527f616d6f756e7400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000601082527f7472616e73616374696f6e5f74797065000000000000000000000000000000006020830152604082019050919050565b6000600e82527f6f7065726174696f6e5f747970650000000000000000000000000000000000006020830152604082019050919050565b6000600d82527f72656c617465645f6173736574000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7375626a656374000000000000000000000000000000000000000000000000006020830152604082019050919050565b61493f81615177565b82525050565b600060208201905061495a600083018461432b565b92915050565b6000602082019050818103600083015261497a818461433a565b905092915050565b600060608201905061499760008301856143f3565b6149a460208301846143a8565b9392505050565b60006020820190506149c06000830184614420565b92915050565b60006040820190506149db6000830185614420565b6149e86020830184614420565b9392505050565b60006040820190508181036000830152614a09818561442f565b9050614a186020830184614402565b9392505050565b60006040820190508181036000830152614a39818561442f565b9050614a486020830184614411565b9392505050565b60006020820190508181036000830152614a69818461449b565b905092915050565b60006020820190508181036000830152614a8a81614521565b9050919050565b60006020820190508181036000830152614aaa81614558565b9050919050565b60006040820190508181036000830152614aca81614558565b90508181036020830152614ade8184614465565b905092915050565b60006020820190508181036000830152614aff8161458f565b9050919050565b60006040820190508181036000830152614b1f8161458f565b9050614b2e602083018461432b565b92915050565b60006020820190508181036000830152614b4d816145c6565b9050919050565b60006020820190508181036000830152614b6d816145fd565b9050919050565b60006040820190508181036000830152614b8d816145fd565b90508181036020830152614ba1818461442f565b905092915050565b60006020820190508181036000830152614bc281614634565b9050919050565b60006040820190508181036000830152614be281614634565b90508181036020830152614bf6818461442f565b905092915050565b60006020820190508181036000830152614c178161466b565b9050919050565b60006020820190508181036000830152614c37816146a2565b9050919050565b60006040820190508181036000830152614c57816146a2565b90508181036020830152614c6b818461442f565b905092915050565b60006020820190508181036000830152614c8c816146d9565b9050919050565b60006040820190508181036000830152614cac816146d9565b9050614cbb602083018461432b565b92915050565b60006020820190508181036000830152614cda81614710565b9050919050565b60006040820190508181036000830152614cfa81614747565b90508181036020830152614d0e818461442f565b905092915050565b60006020820190508181036000830152614d2f8161477e565b9050919050565b60006040820190508181036000830152614d4f8161477e565b90508181036020830152614d63818461442f565b905092915050565b60006020820190508181036000830152614d84816147b5565b9050919050565b60006020820190508181036000830152614da4816147ec565b9050919050565b60006040820190508181036000830152614dc4816147ec565b9050614dd36020830184614420565b92915050565b60006020820190508181036000830152614df281614823565b9050919050565b60006040820190508181036000830152614e1281614823565b9050614e216020830184614420565b92915050565b60006020820190508181036000830152614e408161485a565b9050919050565b60006040820190508181036000830152614e608161485a565b9050614e6f602083018461432b565b92915050565b60006020820190508181036000830152614e8e81614891565b9050919050565b6000602082019050818103","6000830152614eae816148c8565b9050919050565b60006040820190508181036000830152614ece816148c8565b90508181036020830152614ee2818461442f565b905092915050565b60006020820190508181036000830152614f03816148ff565b9050919050565b60006040820190508181036000830152614f23816148ff565b90508181036020830152614f378184614465565b905092915050565b6000602082019050614f546000830184614936565b92915050565b600060a082019050614f6f6000830188614936565b614f7c6020830187614936565b614f89604083018661432b565b614f96606083018561432b565b614fa36080830184614936565b9695505050505050565b6000604051905081810181811067ffffffffffffffff82111715614fd057600080fd5b8060405250919050565b600067ffffffffffffffff821115614ff157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561501957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561504157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561506957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561509157600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156150bd57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60006151ac82615141565b9050919050565b60006151be82615141565b9050919050565b60006151d082615141565b9050919050565b60006151e282615141565b9050919050565b6000819050919050565b6000819050919050565b600061520882615141565b9050919050565b600061521a82615141565b9050919050565b82818337600083830152505050565b60005b8381101561524e578082015181840152602081019050615233565b8381111561525d576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a723058206bf1aadad9f064d68ba91f54ce2cf16783267c3ca5863cf00874e115768380276c6578706572696d656e74616cf50037"};
+    public static final String[] SM_BINARY_ARRAY = {"60806040526040805190810160405280600681526020017f7075626c696300000000000000000000000000000000000000000000000000008152506000908051906020019062000051929190620011d9565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250600190805190602001906200009f929190620011d9565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060029080519060200190620000ed929190620011d9565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906200013b929190620011d9565b506040805190810160405280600281526020017f5f770000000000000000000000000000000000000000000000000000000000008152506004908051906020019062000189929190620011d9565b506040805190810160405280600381526020017f616c6c000000000000000000000000000000000000000000000000000000000081525060059080519060200190620001d7929190620011d9565b506040805190810160405280600281526020017f69640000000000000000000000000000000000000000000000000000000000008152506006908051906020019062000225929190620011d9565b506040805190810160405280600481526020017f61646472000000000000000000000000000000000000000000000000000000008152506007908051906020019062000273929190620011d9565b506040805190810160405280600481526020017f747970650000000000000000000000000000000000000000000000000000000081525060089080519060200190620002c1929190620011d9565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906200030f929190620011d9565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906200035d929190620011d9565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b9080519060200190620003ab929190620011d9565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c9080519060200190620003f9929190620011d9565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d908051906020019062000447929190620011d9565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e908051906020019062000495929190620011d9565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f9080519060200190620004e3929190620011d9565b506040805190810160405280600781526020017f62616c616e6365000000000000000000000000000000000000000000000000008152506010908051906020019062000531929190620011d9565b506040805190810160405280600681526020017f7265636f72640000000000000000000000000000000000000000000000000000815250601190805190602001906200057f929190620011d9565b506040805190810160405280600581526020017f61646d696e00000000000000000000000000000000000000000000000000000081525060129080519060200190620005cd929190620011d9565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906200061b929190620011d9565b506040805190810160405280600581526020017f6f776e65720000000000000000000000000000000000000000000000000000008152506014908051906020019062000669929190620011d9565b506040805190810160405280600481526020017f757365720000000000000000000000000000000000000000000000000000000081525060159080519060200190620006b7929190620011d9565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015620007d557600080fd5b5060405162013314380380620133148339810180604052620007fb919081019062001489565b82828281816060620008373073ffffffffffffffffffffffffffffffffffffffff1662000d816401000000000262008cd4176401000000009004565b9050620008fd60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620008d75780601f10620008ab57610100808354040283529160200191620008d7565b820191906000526020600020905b815481529060010190602001808311620008b957829003601f168201915b505050505082601b62000e6564010000000002620080d417909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620009c657600080fd5b505af1158015620009db573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000a0191908101906200145d565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000ac857600080fd5b505af115801562000add573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000b0391908101906200145d565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151562000bc15781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062000c03565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050506000835111801562000c19575060408351105b151562000c5d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162000c54906200175e565b60405180910390fd5b8073ffffffffffffffffffffffffffffffffffffffff1663491bae946040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562000cc257600080fd5b505af115801562000cd7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062000cfd91908101906200145d565b838262000d0962001260565b62000d17939291906200171a565b604051809103906000f08015801562000d34573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505050505062001895565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801562000dcd5781602001602082028038833980820191505090505b509250600090505b601481101562000e5e57818160148110151562000dee57fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151562000e2057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062000dd5565b5050919050565b60008084600001846040518082805190602001908083835b60208310151562000ea4578051825260208201915060208101905060208303925062000e7d565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111562001061577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b60208310151562000f7d578051825260208201915060208101905060208303925062000f56565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405162000fc6959493929190620016a8565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200100b5780518252602082019150602081019050","60208303925062000fe4565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200105692919062001271565b5060019150620011d1565b8285600001856040518082805190602001908083835b6020831015156200109e578051825260208201915060208101905060208303925062001077565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190620010e992919062001271565b50846001018054809190600101620011029190620012f8565b90506001810185600001856040518082805190602001908083835b6020831015156200114457805182526020820191506020810190506020830392506200111d565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200119157fe5b90600052602060002090600202016000019080519060200190620011b792919062001271565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200121c57805160ff19168380011785556200124d565b828001600101855582156200124d579182015b828111156200124c5782518255916020019190600101906200122f565b5b5090506200125c91906200132d565b5090565b604051615936806200d9de83390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10620012b457805160ff1916838001178555620012e5565b82800160010185558215620012e5579182015b82811115620012e4578251825591602001919060010190620012c7565b5b509050620012f491906200132d565b5090565b815481835581811115620013285760020281600202836000526020600020918201910162001327919062001355565b5b505050565b6200135291905b808211156200134e57600081600090555060010162001334565b5090565b90565b6200139a91905b808211156200139657600080820160006200137891906200139d565b6001820160006101000a81549060ff0219169055506002016200135c565b5090565b90565b50805460018160011615610100020316600290046000825580601f10620013c55750620013e6565b601f016020900490600052602060002090810190620013e591906200132d565b5b50565b6000620013f782516200182e565b905092915050565b600082601f83011215156200141357600080fd5b81516200142a6200142482620017ae565b62001780565b915080825260208301602083018583830111156200144757600080fd5b620014548382846200184e565b50505092915050565b6000602082840312156200147057600080fd5b60006200148084828501620013e9565b91505092915050565b6000806000606084860312156200149f57600080fd5b600084015167ffffffffffffffff811115620014ba57600080fd5b620014c886828701620013ff565b9350506020620014db86828701620013e9565b9250506040620014ee86828701620013e9565b9150509250925092565b62001503816200180e565b82525050565b60006200151682620017f8565b8084526200152c8160208601602086016200184e565b620015378162001884565b602085010191505092915050565b60006200155282620017ed565b808452620015688160208601602086016200184e565b620015738162001884565b602085010191505092915050565b600081546001811660008114620015a15760018114620015c25762001607565b607f600283041680865260ff19831660208701526040860193505062001607565b60028204808652602086019550620015da85620017db565b60005b82811015620015fe57815481890152600182019150602081019050620015dd565b80880195505050505b505092915050565b60006200161c8262001803565b808452620016328160208601602086016200184e565b6200163d8162001884565b602085010191505092915050565b6000603282527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634206c6f6e6700000000000000000000000000006040830152606082019050919050565b600060a082019050620016bf6000830188620014f8565b620016ce6020830187620014f8565b8181036040830152620016e2818662001545565b90508181036060830152620016f8818562001509565b905081810360808301526200170e818462001581565b90509695505050505050565b6000606082019050620017316000830186620014f8565b81810360208301526200174581856200160f565b9050620017566040830184620014f8565b949350505050565b6000602082019050818103600083015262001779816200164b565b9050919050565b6000604051905081810181811067ffffffffffffffff82111715620017a457600080fd5b8060405250919050565b600067ffffffffffffffff821115620017c657600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60005b838110156200186e57808201518184015260208101905062001851565b838111156200187e576000848401525b50505050565b6000601f19601f8301169050919050565b61c13980620018a56000396000f3006080604052600436106102eb576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff168063066290b4146102f057806309108b171461031b5780630bc95c79146103585780630bdaa31f146103835780630c9481b9146103c15780630d56ef00146103ec578063112da3031461042a57806311567c42146104555780631500025a146104805780631a1f1cd2146104ab5780632bcfd37f146104d65780632fe7f81a146105015780633055ae811461053e578063366563dd1461057b5780633720206d146105b857806342033801146105f65780634425c4261461062157806347a6caff1461064c57806351cf770814610689578063554b3ee4146106c6578063567f2836146107045780635c7540bc1461072f5780635edfd6fa1461075a5780635f12ec2e1461078557806361e020cb146107b057806367e09af5146107ed5780636a03849d1461081857806374b00d5314610855578063769fe342146108805780637de83c70146108ab5780637e3a1ef4146108e85780637e6f287c146109135780637f00af97146109505780637f6107821461097b5780638930d16e146109b95780638a4451f5146109f75780638ed13ef514610a225780639806836414610a5f578063a4fd771114610a8a578063a74809a514610ac7578063ad07c37a14610b05578063b09a50fe14610b42578063b1d2284f14610b6d578063b2e504da14610bab578063b32941d814610be9578063bcc6cdb614610c14578063bced953514610c3f578063bf0e94fe14610c6a578063bfabb86d14610ca7578063c03fd5e714610cd2578063c6125d0c14610cfd578063d1281a7814610d28578063d3e9af5a14610d53578063d617f06d14610d7e578063d7e7948f14610da9578063e3fbfc3f14610dd4578063e92139da14610e11578063ece272e314610e3c578063ee19b0cf14610e67578063f0c9f25a14610e92578063f6cb4bc514610ecf578063f976699414610efa578063ffc3bfd414610f37575b600080fd5b3480156102fc57600080fd5b50610305610f74565b604051610312919061bccc565b60405180910390f35b34801561032757600080fd5b50610342600480360361033d9190810190619ef7565b610f7a565b60405161034f919061b82b565b60405180910390f35b34801561036457600080fd5b5061036d6116aa565b60405161037a919061b170565b60405180910390f35b34801561038f57600080fd5b506103aa60048036036103a59190810190619fb0565b6116d0565b6040516103b892919061b89f565b60405180910390f35b3480156103cd57600080fd5b506103d661199f565b6040516103e3919061b8cf565b60405180910390f35b3480156103f857600080fd5b50610413600480360361040e9190810190619f6f565b611a3d565b60405161042192919061b846565b60405180910390f35b34801561043657600080fd5b5061043f611cc1565b60405161044c919061b8cf565b60405180910390f35b34801561046157600080fd5b5061046a611d5f565b604051610477919061b170565b60405180910390f35b34801561048c57600080fd5b50610495611d67565b6040516104a2919061b170565b60405180910390f35b3480156104b757600080fd5b506104c0611e2c565b6040516104cd919061b8cf565b60405180910390f35b3480156104e257600080fd5b506104eb611eca565b6040516104f8919061bccc565b60405180910390f35b34801561050d57600080fd5b5061052860048036036105239190810190619ef7565b611ed0565b604051610535919061bccc565b60405180910390f35b34801561054a57600080fd5b506105656004803603610560919081019061a2c2565b6122c1565b604051610572919061b8f1565b60405180910390f35b34801561058757600080fd5b506105a2600480360361059d919081019061a148565b6124bc565b6040516105af919061bccc565b60405180910390f35b3480156105c457600080fd5b506105df60048036036105da9190810190619fb0565b6124d1565b6040516105ed92919061b89f565b60405180910390f35b34801561060257600080fd5b5061060b6127a0565b604051610618919061b8cf565b60405180910390f35b34801561062d57600080fd5b5061063661283e565b604051610643919061bccc565b60405180910390f35b34801561065857600080fd5b50610673600480360361066e919081019061a3c3565b612864565b604051610680919061b82b565b60405180910390f35b34801561069557600080fd5b506106b060048036036106ab919081019061a3c3565b612a9c565b6040516106bd919061b82b565b60405180910390f35b3480156106d257600080fd5b506106ed60048036036106e8919081019061a148565b612cd4565b6040516106fb92919061bce7565b60405180910390f35b34801561071057600080fd5b50610719612d9e565b604051610726919061bccc565b60405180910390f35b34801561073b57600080fd5b50610744612da8565b604051610751919061b170565b60405180910390f35b","34801561076657600080fd5b5061076f612dd2565b60405161077c919061b8cf565b60405180910390f35b34801561079157600080fd5b5061079a612e70565b6040516107a7919061b170565b60405180910390f35b3480156107bc57600080fd5b506107d760048036036107d2919081019061a357565b612e9a565b6040516107e4919061b82b565b60405180910390f35b3480156107f957600080fd5b50610802613098565b60405161080f919061b8cf565b60405180910390f35b34801561082457600080fd5b5061083f600480360361083a919081019061a46b565b613136565b60405161084c919061bccc565b60405180910390f35b34801561086157600080fd5b5061086a6132a1565b604051610877919061b170565b60405180910390f35b34801561088c57600080fd5b506108956132c7565b6040516108a2919061b8cf565b60405180910390f35b3480156108b757600080fd5b506108d260048036036108cd919081019061a148565b613365565b6040516108df919061b711565b60405180910390f35b3480156108f457600080fd5b506108fd613762565b60405161090a919061b8cf565b60405180910390f35b34801561091f57600080fd5b5061093a6004803603610935919081019061a2c2565b613800565b604051610947919061b82b565b60405180910390f35b34801561095c57600080fd5b506109656139fb565b604051610972919061b8cf565b60405180910390f35b34801561098757600080fd5b506109a2600480360361099d919081019061a088565b613a99565b6040516109b092919061b876565b60405180910390f35b3480156109c557600080fd5b506109e060048036036109db919081019061a4a7565b613e90565b6040516109ee92919061b733565b60405180910390f35b348015610a0357600080fd5b50610a0c614305565b604051610a19919061b170565b60405180910390f35b348015610a2e57600080fd5b50610a496004803603610a44919081019061a3c3565b61432b565b604051610a56919061b82b565b60405180910390f35b348015610a6b57600080fd5b50610a74614563565b604051610a81919061b8cf565b60405180910390f35b348015610a9657600080fd5b50610ab16004803603610aac919081019061a357565b614601565b604051610abe919061b82b565b60405180910390f35b348015610ad357600080fd5b50610aee6004803603610ae9919081019061a088565b6147ff565b604051610afc92919061b876565b60405180910390f35b348015610b1157600080fd5b50610b2c6004803603610b27919081019061a357565b614da2565b604051610b39919061b82b565b60405180910390f35b348015610b4e57600080fd5b50610b57614fa0565b604051610b64919061b8cf565b60405180910390f35b348015610b7957600080fd5b50610b946004803603610b8f919081019061a088565b61503e565b604051610ba292919061b876565b60405180910390f35b348015610bb757600080fd5b50610bd26004803603610bcd9190810190619fb0565b615435565b604051610be092919061b89f565b60405180910390f35b348015610bf557600080fd5b50610bfe615831565b604051610c0b919061b8cf565b60405180910390f35b348015610c2057600080fd5b50610c296158cf565b604051610c36919061b8cf565b60405180910390f35b348015610c4b57600080fd5b50610c5461596d565b604051610c61919061b8cf565b60405180910390f35b348015610c7657600080fd5b50610c916004803603610c8c919081019061a1b2565b615a0b565b604051610c9e919061b7bd565b60405180910390f35b348015610cb357600080fd5b50610cbc616362565b604051610cc9919061b8cf565b60405180910390f35b348015610cde57600080fd5b50610ce7616400565b604051610cf4919061b170565b60405180910390f35b348015610d0957600080fd5b50610d12616426565b604051610d1f919061b8cf565b60405180910390f35b348015610d3457600080fd5b50610d3d6164c4565b604051610d4a919061b8cf565b60405180910390f35b348015610d5f57600080fd5b50610d68616562565b604051610d75919061bccc565b60405180910390f35b348015610d8a57600080fd5b50610d93616573565b604051610da0919061b8cf565b60405180910390f35b348015610db557600080fd5b50610dbe616611565b604051610dcb919061b8cf565b60405180910390f35b348015610de057600080fd5b50610dfb6004803603610df6919081019061a303565b6166af565b604051610e08919061b82b565b60405180910390f35b348015610e1d57600080fd5b50610e266168d2565b604051610e33919061b170565b60405180910390f35b348015610e4857600080fd5b50610e51616997565b604051610e5e919061b8cf565b60405180910390f35b348015610e7357600080fd5b50610e7c616a35565b604051610e89919061b8cf565b60405180910390f35b348015610e9e57600080fd5b50610eb96004803603610eb4919081019061a148565b616ad3565b604051610ec6919061bccc565b60405180910390f35b348015610edb57600080fd5b50610ee4616de6565b604051610ef1919061b8cf565b60405180910390f35b348015610f0657600080fd5b50610f216004803603610f1c919081019061a303565b616e84565b604051610f2e919061b8f1565b60405180910390f35b348015610f4357600080fd5b50610f5e6004803603610f59919081019061a46b565b6170a6565b604051610f6b919061bccc565b60405180910390f35b60285481565b6000806060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ffc919061b170565b602060405180830381600087803b15801561101657600080fd5b505af115801561102a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061104e919081019061a25d565b151561108f576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016110869061b98c565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611106919061b170565b602060405180830381600087803b15801561112057600080fd5b505af1158015611134573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506111589190810190619ece565b9550602460008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515156111e9576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016111e09061b96c565b60405180910390fd5b6111fc898661721190919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161129d949392919061b628565b6040805180830381600087803b1580156112b657600080fd5b505af11580156112ca573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506112ee9190810190619f33565b8094508195505050821515611338576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161132f9061ba4c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113af919061b170565b602060405180830381600087803b1580156113c957600080fd5b505af11580156113dd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611401919081019061a25d565b1515611442576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016114399061b98c565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166327033e768a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016114b9919061b170565b602060405180830381600087803b1580156114d357600080fd5b505af11580156114e7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061150b9190810190619ece565b91508173ffffffffffffffffffffffffffffffffffffffff1663a8cced2030601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660016040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115899392919061b913565b602060405180830381600087803b1580156115a357600080fd5b505af11580156115b7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506115db919081019061a25d565b5060238690806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001602460008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff0219169083151502179055506001965050505050505092915050565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600060608060008061171d8a8a8a8a8a6040805190810160405280600781526020017f6465706f73697400000000000000000000000000000000000000000000000000815250600061722d565b995060028951026040519080825280602002602001820160405280156117525781602001602082028038833980820191505090505b509250600090505b","885181101561198b57898160020260040181518110151561177757fe5b906020019060200201519150602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515611811576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016118089061bc0c565b60405180910390fd5b61187a898281518110151561182257fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461762490919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506118e989828151811015156118ce57fe5b9060200190602002015160275461762490919063ffffffff16565b6027819055507fa4039d5990211fad3a15bf41bd09d8f68f647d8c1ab1b8d8500b7d6202087d04828a8381518110151561191f57fe5b9060200190602002015160405161193792919061b6e8565b60405180910390a161197e8a828b8481518110151561195257fe5b906020019060200201518a60008d600081518110151561196e57fe5b906020019060200201518961767b565b808060010191505061175a565b600183945094505050509550959350505050565b60098054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611a355780601f10611a0a57610100808354040283529160200191611a35565b820191906000526020600020905b815481529060010190602001808311611a1857829003601f168201915b505050505081565b600060608060008060008651604051908082528060200260200182016040528015611a775781602001602082028038833980820191505090505b509350600090505b8651811015611cb1576001811480611af2575060058751148015611aa35750600481145b80611af157508681815181101515611ab757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b5b15611b5e578681815181101515611b0557fe5b906020019060200201518482815181101515611b1d57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050611ca4565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630e6283228883815181101515611baa57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611bec919061b170565b6040805180830381600087803b158015611c0557600080fd5b505af1158015611c19573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611c3d9190810190619f33565b8094508193505050821515611c585760008495509550611cb8565b818482815181101515611c6757fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8080600101915050611a7f565b8284955095505b50505050915091565b60028054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611d575780601f10611d2c57610100808354040283529160200191611d57565b820191906000526020600020905b815481529060010190602001808311611d3a57829003601f168201915b505050505081565b600030905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015611def57600080fd5b505af1158015611e03573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611e279190810190619ece565b905090565b60158054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015611ec25780601f10611e9757610100808354040283529160200191611ec2565b820191906000526020600020905b815481529060010190602001808311611ea557829003601f168201915b505050505081565b60295481565b6000806060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f4f919061b170565b602060405180830381600087803b158015611f6957600080fd5b505af1158015611f7d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611fa19190810190619ece565b9350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515612031576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016120289061bc0c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1686868a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016120d0949392919061b2ed565b6040805180830381600087803b1580156120e957600080fd5b505af11580156120fd573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506121219190810190619f33565b809250819350505080151561216b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016121629061ba6c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016121e2919061b170565b602060405180830381600087803b1580156121fc57600080fd5b505af1158015612210573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612234919081019061a25d565b1515612275576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161226c9061b98c565b60405180910390fd5b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205494505050505092915050565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306123d360038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156123bf5780601f10612394576101008083540402835291602001916123bf565b820191906000526020600020905b8154815290600101906020018083116123a257829003601f168201915b505050505088617b0a90919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161240e949392919061b1d7565b602060405180830381600087803b15801561242857600080fd5b505af115801561243c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612460919081019061a25d565b15156124a1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016124989061bb0c565b60405180910390fd5b6124b582601b617b1e90919063ffffffff16565b9050919050565b60006124c782617c31565b6027549050919050565b600060608060008061251e8a8a8a8a8a6040805190810160405280600a81526020017f7769746864726177616c00000000000000000000000000000000000000000000815250600061722d565b995060028951026040519080825280602002602001820160405280156125535781602001602082028038833980820191505090505b509250600090505b885181101561278c57898160020260030181518110151561257857fe5b906020019060200201519150602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515612612576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016126099061bc0c565b60405180910390fd5b61267b898281518110151561262357fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054617e8090919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506126ea89828151811015156126cf57fe5b90602001906020020151602754617e8090919063ffffffff16565b6027819055507f338e424d2d05f70468ec496a5da66a545913d90926ffae6c08c12b9d003ec6cb828a8381518110151561272057fe5b9060200190602002015160405161273892919061b6e8565b60405180910390a161277f8a828b8481518110151561275357fe5b90602001906020","0201518a60018d600081518110151561276f57fe5b906020019060200201518961767b565b808060010191505061255b565b600183945094505050509550959350505050565b60138054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156128365780601f1061280b57610100808354040283529160200191612836565b820191906000526020600020905b81548152906001019060200180831161281957829003601f168201915b505050505081565b6000612856600160215461762490919063ffffffff16565b602181905550602154905090565b60006060600080612890866128828986617b0a90919063ffffffff16565b617b0a90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306129a160048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561298d5780601f106129625761010080835404028352916020019161298d565b820191906000526020600020905b81548152906001019060200180831161297057829003601f168201915b50505050508c617b0a90919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016129df95949392919061b444565b6040805180830381600087803b1580156129f857600080fd5b505af1158015612a0c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a309190810190619f33565b8092508193505050801515612a7a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612a719061bbec565b60405180910390fd5b612a908787601b617ed79092919063ffffffff16565b93505050509392505050565b60006060600080612ac886612aba8986617b0a90919063ffffffff16565b617b0a90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630612bd960048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612bc55780601f10612b9a57610100808354040283529160200191612bc5565b820191906000526020600020905b815481529060010190602001808311612ba857829003601f168201915b50505050508c617b0a90919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c1795949392919061b444565b6040805180830381600087803b158015612c3057600080fd5b505af1158015612c44573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c689190810190619f33565b8092508193505050801515612cb2576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612ca99061bc6c565b60405180910390fd5b612cc88787601b6180d49092919063ffffffff16565b93505050509392505050565b600080600080612ce385617c31565b600090505b602380549050811015612d8f57612d8060256000602384815481101515612d0b57fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020548361762490919063ffffffff16565b91508080600101915050612ce8565b60275482935093505050915091565b6000602154905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b600b8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612e685780601f10612e3d57610100808354040283529160200191612e68565b820191906000526020600020905b815481529060010190602001808311612e4b57829003601f168201915b505050505081565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630612fac60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612f985780601f10612f6d57610100808354040283529160200191612f98565b820191906000526020600020905b815481529060010190602001808311612f7b57829003601f168201915b505050505089617b0a90919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612fe7949392919061b1d7565b602060405180830381600087803b15801561300157600080fd5b505af1158015613015573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613039919081019061a25d565b151561307a576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016130719061bc6c565b60405180910390fd5b6130908383601b6180d49092919063ffffffff16565b905092915050565b600a8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561312e5780601f106131035761010080835404028352916020019161312e565b820191906000526020600020905b81548152906001019060200180831161311157829003601f168201915b505050505081565b60006060600080613150868461843190919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131f1949392919061b384565b6040805180830381600087803b15801561320a57600080fd5b505af115801561321e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506132429190810190619f33565b809250819350505080151561328c576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016132839061b9ec565b60405180910390fd5b85602881905550602854935050505092915050565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600d8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561335d5780601f106133325761010080835404028352916020019161335d565b820191906000526020600020905b81548152906001019060200180831161334057829003601f168201915b505050505081565b60608060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161340e949392919061b568565b6040805180830381600087803b15801561342757600080fd5b505af115801561343b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061345f9190810190619f33565b80945081955050508215156134a9576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016134a09061ba2c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613520919061b170565b602060405180830381600087803b15801561353a57600080fd5b505af115801561354e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613572919081019061a25d565b15156135b3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016135aa9061b98c565b60405180910390fd5b6023805490506040519080825280602002602001820160405280156135e75781602001602082028038833980820191505090505b509150600090505b60238054905081101561375557601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade660238381548110151561364957fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016136ac919061b170565b602060405180830381600087803b1580156136c657600080fd5b505af11580156136da573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136fe9190810190619ece565b828281518110151561370c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff168152505080806001019150506135ef565b8195505050","505050919050565b60018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156137f85780601f106137cd576101008083540402835291602001916137f8565b820191906000526020600020905b8154815290600101906020018083116137db57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061391260048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156138fe5780601f106138d3576101008083540402835291602001916138fe565b820191906000526020600020905b8154815290600101906020018083116138e157829003601f168201915b505050505088617b0a90919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161394d949392919061b1d7565b602060405180830381600087803b15801561396757600080fd5b505af115801561397b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061399f919081019061a25d565b15156139e0576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016139d79061bc8c565b60405180910390fd5b6139f482601b61844d90919063ffffffff16565b9050919050565b60088054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613a915780601f10613a6657610100808354040283529160200191613a91565b820191906000526020600020905b815481529060010190602001808311613a7457829003601f168201915b505050505081565b6000613aa3619855565b600060606000613ab1619855565b613af48b8b8b8b8b6040805190810160405280600781526020017f6465706f7369740000000000000000000000000000000000000000000000000081525061869f565b9a508a6003815181101515613b0557fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515613b9f576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613b969061bc0c565b60405180910390fd5b613bf18a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461762490919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550613c498a60275461762490919063ffffffff16565b6027819055506002604051908082528060200260200182016040528015613c7f5781602001602082028038833980820191505090505b5092506000836000815181101515613c9357fe5b9060200190602002018181525050886000815181101515613cb057fe5b90602001906020020151836001815181101515613cc957fe5b90602001906020020181815250507fa4039d5990211fad3a15bf41bd09d8f68f647d8c1ab1b8d8500b7d6202087d04848b604051613d0892919061b6e8565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8c8c8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613d8d949392919061b763565b606060405180830381600087803b158015613da757600080fd5b505af1158015613dbb573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613ddf919081019061a286565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc816000600281101515613e1757fe5b6020020151826001600281101515613e2b57fe5b60200201518d6002815181101515613e3f57fe5b906020019060200201518e6003815181101515613e5857fe5b906020019060200201518e604051613e7495949392919061bd10565b60405180910390a1818195509550505050509550959350505050565b60606000606060008060008060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308a8e6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613f3f949392919061b568565b6040805180830381600087803b158015613f5857600080fd5b505af1158015613f6c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613f909190810190619f33565b8096508197505050841515613fda576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613fd19061ba2c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a876040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614051919061b170565b602060405180830381600087803b15801561406b57600080fd5b505af115801561407f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506140a3919081019061a25d565b15156140e4576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016140db9061b98c565b60405180910390fd5b6023805490509350838c1015156141335760006040519080825280602002602001820160405280156141255781602001602082028038833980820191505090505b5084819150985098506142f6565b6141468b8d61762490919063ffffffff16565b925083831115614154578392505b8b83036040519080825280602002602001820160405280156141855781602001602082028038833980820191505090505b5091508b90505b828110156142ef57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade66023838154811015156141e157fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614244919061b170565b602060405180830381600087803b15801561425e57600080fd5b505af1158015614272573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506142969190810190619ece565b828d83038151811015156142a657fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050808060010191505061418c565b8184985098505b50505050505050935093915050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60006060600080614357866143498986617b0a90919063ffffffff16565b617b0a90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061446860048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156144545780601f1061442957610100808354040283529160200191614454565b820191906000526020600020905b81548152906001019060200180831161443757829003601f168201915b50505050508c617b0a90919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016144a695949392919061b444565b6040805180830381600087803b1580156144bf57600080fd5b505af11580156144d3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506144f79190810190619f33565b8092508193505050801515614541576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016145389061b9cc565b60405180910390fd5b6145578787601b6188ac9092919063ffffffff16565b93505050509392505050565b60078054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156145f95780601f106145ce576101008083540402835291602001916145f9565b820191906000526020600020905b8154815290600101906020018083116145dc57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163061471360048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156146ff5780601f106146d4576101008083540402835291602001916146ff565b820191906000526020600020905b8154815290600101906020018083116146e257829003601f168201915b505050505089617b0a90919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161474e949392919061b1d7565b602060405180830381600087","803b15801561476857600080fd5b505af115801561477c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506147a0919081019061a25d565b15156147e1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016147d89061b9cc565b60405180910390fd5b6147f78383601b6188ac9092919063ffffffff16565b905092915050565b6000614809619855565b60606000614815619855565b6148588a8a8a8a8a6040805190810160405280600881526020017f7472616e73666572000000000000000000000000000000000000000000000000815250618aa1565b9950602460008b600281518110151561486d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515614900576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016148f79061bc0c565b60405180910390fd5b602460008b600381518110151561491357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff1615156149a6576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161499d9061bc0c565b60405180910390fd5b614a1089602560008d60028151811015156149bd57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054617e8090919063ffffffff16565b602560008c6002815181101515614a2357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002081905550614ad589602560008d6003815181101515614a8257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461762490919063ffffffff16565b602560008c6003815181101515614ae857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506002604051908082528060200260200182016040528015614b605781602001602082028038833980820191505090505b5092506002836000815181101515614b7457fe5b9060200190602002018181525050876000815181101515614b9157fe5b90602001906020020151836001815181101515614baa57fe5b90602001906020020181815250507f18f84334255a242551aa98c68047b5da8063eab9fbeaec1eddeea280044b9ff18a6002815181101515614be857fe5b906020019060200201518b6003815181101515614c0157fe5b906020019060200201518b604051614c1b9392919061b34d565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8b8b8a876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614ca0949392919061b763565b606060405180830381600087803b158015614cba57600080fd5b505af1158015614cce573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614cf2919081019061a286565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc816000600281101515614d2a57fe5b6020020151826001600281101515614d3e57fe5b60200201518c6002815181101515614d5257fe5b906020019060200201518d6003815181101515614d6b57fe5b906020019060200201518d604051614d8795949392919061bd10565b60405180910390a18181945094505050509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630614eb460048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614ea05780601f10614e7557610100808354040283529160200191614ea0565b820191906000526020600020905b815481529060010190602001808311614e8357829003601f168201915b505050505089617b0a90919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614eef949392919061b1d7565b602060405180830381600087803b158015614f0957600080fd5b505af1158015614f1d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614f41919081019061a25d565b1515614f82576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614f799061bbec565b60405180910390fd5b614f988383601b617ed79092919063ffffffff16565b905092915050565b60068054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156150365780601f1061500b57610100808354040283529160200191615036565b820191906000526020600020905b81548152906001019060200180831161501957829003601f168201915b505050505081565b6000615048619855565b600060606000615056619855565b6150998b8b8b8b8b6040805190810160405280600a81526020017f7769746864726177616c0000000000000000000000000000000000000000000081525061869f565b9a508a60028151811015156150aa57fe5b906020019060200201519350602460008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515615144576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161513b9061bc0c565b60405180910390fd5b6151968a602560008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054617e8090919063ffffffff16565b602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020819055506151ee8a602754617e8090919063ffffffff16565b60278190555060026040519080825280602002602001820160405280156152245781602001602082028038833980820191505090505b509250600183600081518110151561523857fe5b906020019060200201818152505088600081518110151561525557fe5b9060200190602002015183600181518110151561526e57fe5b90602001906020020181815250507f338e424d2d05f70468ec496a5da66a545913d90926ffae6c08c12b9d003ec6cb848b6040516152ad92919061b6e8565b60405180910390a1602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e8c8c8b876040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615332949392919061b763565b606060405180830381600087803b15801561534c57600080fd5b505af1158015615360573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615384919081019061a286565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc8160006002811015156153bc57fe5b60200201518260016002811015156153d057fe5b60200201518d60028151811015156153e457fe5b906020019060200201518e60038151811015156153fd57fe5b906020019060200201518e60405161541995949392919061bd10565b60405180910390a1818195509550505050509550959350505050565b600060608060008060006154848b8b8b8b8b6040805190810160405280600881526020017f7472616e73666572000000000000000000000000000000000000000000000000815250600161722d565b9a5060028a51026040519080825280602002602001820160405280156154b95781602001602082028038833980820191505090505b509350600090505b895181101561581c578a816002026003018151811015156154de57fe5b9060200190602002015192508a816002026004018151811015156154fe57fe5b906020019060200201519150602460008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515615598576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161558f9061bc0c565b60405180910390fd5b602460008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff161515615626576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161561d9061bc0c565b60405180910390fd5b61568f8a8281518110151561563757fe5b90602001906020020151602560008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002054617e8090919063ffffffff16565b602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208190555061573b8a828151811015156156e357fe5b90602001906020020151602560008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000205461762490919063ffffffff16565b602560008473ffffffffffffffffffffffffffffffffffffffff1673ffffff","ffffffffffffffffffffffffffffffffff168152602001908152602001600020819055507f18f84334255a242551aa98c68047b5da8063eab9fbeaec1eddeea280044b9ff183838c848151811015156157af57fe5b906020019060200201516040516157c89392919061b34d565b60405180910390a161580f8b828c848151811015156157e357fe5b906020019060200201518b60028e60008151811015156157ff57fe5b906020019060200201518a61767b565b80806001019150506154c1565b60018495509550505050509550959350505050565b60148054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156158c75780601f1061589c576101008083540402835291602001916158c7565b820191906000526020600020905b8154815290600101906020018083116158aa57829003601f168201915b505050505081565b60128054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156159655780601f1061593a57610100808354040283529160200191615965565b820191906000526020600020905b81548152906001019060200180831161594857829003601f168201915b505050505081565b60118054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015615a035780601f106159d857610100808354040283529160200191615a03565b820191906000526020600020905b8154815290600101906020018083116159e657829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615ab8949392919061b688565b6040805180830381600087803b158015615ad157600080fd5b505af1158015615ae5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615b099190810190619f33565b8097508198505050851515615b53576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615b4a9061bc4c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615bca919061b170565b602060405180830381600087803b158015615be457600080fd5b505af1158015615bf8573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615c1c919081019061a25d565b1515615c5d576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615c549061b98c565b60405180910390fd5b60028b51148015615c9d57508a6001815181101515615c7857fe5b906020019060200201518b6000815181101515615c9157fe5b90602001906020020151125b1515615cde576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615cd59061bacc565b60405180910390fd5b60008c511115615d5857600093505b8b51841015615d57578b84815181101515615d0457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff161415615d4a5760019450615d57565b8380600101945050615ced565b5b841515615e2b57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d2eef3a1886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615dd6919061b170565b602060405180830381600087803b158015615df057600080fd5b505af1158015615e04573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615e28919081019061a25d565b94505b841515615e6d576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615e649061ba8c565b60405180910390fd5b60006023805490501415615e8357829850616352565b60008c51118015615ed95750600073ffffffffffffffffffffffffffffffffffffffff168c6000815181101515615eb657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561608057601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d6000815181101515615f2b57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615f6d919061b170565b602060405180830381600087803b158015615f8757600080fd5b505af1158015615f9b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615fbf9190810190619ece565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff1614151515616033576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161602a9061bc2c565b60405180910390fd5b818c600081518110151561604357fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c511180156160d65750600073ffffffffffffffffffffffffffffffffffffffff168c60018151811015156160b357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561627d57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d600181518110151561612857fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161616a919061b170565b602060405180830381600087803b15801561618457600080fd5b505af1158015616198573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506161bc9190810190619ece565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff1614151515616230576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016162279061b9ac565b60405180910390fd5b808c600181518110151561624057fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b32cf81b8e8e8e6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016162f89392919061b7df565b600060405180830381600087803b15801561631257600080fd5b505af1158015616326573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061634f919081019061a171565b98505b5050505050505050949350505050565b60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156163f85780601f106163cd576101008083540402835291602001916163f8565b820191906000526020600020905b8154815290600101906020018083116163db57829003601f168201915b505050505081565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60058054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156164bc5780601f10616491576101008083540402835291602001916164bc565b820191906000526020600020905b81548152906001019060200180831161649f57829003601f168201915b505050505081565b60038054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561655a5780601f1061652f5761010080835404028352916020019161655a565b820191906000526020600020905b81548152906001019060200180831161653d57829003601f168201915b505050505081565b600061656e601b618cc6565b905090565b600c8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156166095780601f106165de57610100808354040283529160200191616609565b820191906000526020600020905b8154815290600101906020018083116165ec57829003601f168201915b505050505081565b60108054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156166a75780601f1061667c576101008083540402835291602001916166a7565b820191906000526020600020905b81548152906001019060200180831161668a57829003601f168201915b505050505081565b600060606000806166c98684617b0a90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306167da60048054600181600116156101000203166002900480601f016020809104026020016040519081016040","5280929190818152602001828054600181600116156101000203166002900480156167c65780601f1061679b576101008083540402835291602001916167c6565b820191906000526020600020905b8154815290600101906020018083116167a957829003601f168201915b50505050508b617b0a90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161681895949392919061b444565b6040805180830381600087803b15801561683157600080fd5b505af1158015616845573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506168699190810190619f33565b80925081935050508015156168b3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016168aa9061bc8c565b60405180910390fd5b6168c786601b61844d90919063ffffffff16565b935050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561695a57600080fd5b505af115801561696e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506169929190810190619ece565b905090565b600f8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616a2d5780601f10616a0257610100808354040283529160200191616a2d565b820191906000526020600020905b815481529060010190602001808311616a1057829003601f168201915b505050505081565b60008054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616acb5780601f10616aa057610100808354040283529160200191616acb565b820191906000526020600020905b815481529060010190602001808311616aae57829003601f168201915b505050505081565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616b79949392919061b5c8565b6040805180830381600087803b158015616b9257600080fd5b505af1158015616ba6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616bca9190810190619f33565b8092508193505050801515616c14576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616c0b9061bb2c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616c8b919061b170565b602060405180830381600087803b158015616ca557600080fd5b505af1158015616cb9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616cdd919081019061a25d565b1515616d1e576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616d159061b98c565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166345be589e6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015616da457600080fd5b505af1158015616db8573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616ddc919081019061a442565b9350505050919050565b600e8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616e7c5780601f10616e5157610100808354040283529160200191616e7c565b820191906000526020600020905b815481529060010190602001808311616e5f57829003601f168201915b505050505081565b606080600080616e9d8684617b0a90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630616fae60038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616f9a5780601f10616f6f57610100808354040283529160200191616f9a565b820191906000526020600020905b815481529060010190602001808311616f7d57829003601f168201915b50505050508b617b0a90919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616fec95949392919061b444565b6040805180830381600087803b15801561700557600080fd5b505af1158015617019573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061703d9190810190619f33565b8092508193505050801515617087576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161707e9061bb0c565b60405180910390fd5b61709b86601b617b1e90919063ffffffff16565b935050505092915050565b600060606000806170c0868461843190919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401617161949392919061b3e4565b6040805180830381600087803b15801561717a57600080fd5b505af115801561718e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506171b29190810190619f33565b80925081935050508015156171fc576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016171f39061baec565b60405180910390fd5b85602981905550602954935050505092915050565b60606172258361722084618cd4565b618db3565b905092915050565b60608060008060006172418c8c8c8c618f84565b935061724c8c619139565b9b50601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16886172ba57306172d4565b8e60038151811015156172c957fe5b906020019060200201515b8a888d6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161731395949392919061b223565b6040805180830381600087803b15801561732c57600080fd5b505af1158015617340573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506173649190810190619f33565b8093508194505050816173b5886040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506193d990919063ffffffff16565b9015156173f8576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016173ef919061b94a565b60405180910390fd5b50851561761257600590505b8b51811015617611578b600381518110151561741c57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168c8281518110151561744a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614151561760657601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2984601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168f858151811015156174e157fe5b906020019060200201518b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401617527949392919061b18b565b602060405180830381600087803b15801561754157600080fd5b505af1158015617555573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250617579919081019061a25d565b6175c1886040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506193d990919063ffffffff16565b901515617604576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016175fb919061b94a565b60405180910390fd5b505b600281019050617404565b5b8b945050505050979650505050505050565b6000808284019050838110151515617671576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016176689061baac565b60405180910390fd5b8091505092915050565b6060806000617688619855565b60056040519080825280602002602001820160405280156176b85781602001602082028038833980820191505090505b5093508a60008151811015156176ca57fe5b906020019060200201518460008151811015156176e357fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a600181518110151561772e57fe5b9060200190602002015184600181518110151561774757fe5b9060200190602002019073ffffffffffffffff","ffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a8a60020260030181518110151561779757fe5b906020019060200201518460028151811015156177b057fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a8a60020260040181518110151561780057fe5b9060200190602002015184600381518110151561781957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a600281518110151561786457fe5b9060200190602002015184600481518110151561787d57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff168152505060026040519080825280602002602001820160405280156178e95781602001602082028038833980820191505090505b509250868360008151811015156178fc57fe5b90602001906020020181815250508583600181518110151561791a57fe5b9060200190602002018181525050602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166318768d1e858b8b876040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016179a5949392919061b763565b606060405180830381600087803b1580156179bf57600080fd5b505af11580156179d3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506179f7919081019061a286565b80925081935050507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc816000600281101515617a2f57fe5b6020020151826001600281101515617a4357fe5b6020020151866002815181101515617a5757fe5b90602001906020020151876003815181101515617a7057fe5b906020019060200201518d604051617a8c95949392919061bd10565b60405180910390a1806000600281101515617aa357fe5b6020020151858b600202815181101515617ab957fe5b9060200190602002018181525050806001600281101515617ad657fe5b60200201518560018c60020201815181101515617aef57fe5b90602001906020020181815250505050505050505050505050565b6060617b168383618db3565b905092915050565b606082600001826040518082805190602001908083835b602083101515617b5a5780518252602082019150602081019050602083039250617b35565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015617c245780601f10617bf957610100808354040283529160200191617c24565b820191906000526020600020905b815481529060010190602001808311617c0757829003601f168201915b5050505050905092915050565b6060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086886040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401617cd5949392919061b508565b6040805180830381600087803b158015617cee57600080fd5b505af1158015617d02573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250617d269190810190619f33565b8092508193505050801515617d70576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401617d679061bcac565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401617de7919061b170565b602060405180830381600087803b158015617e0157600080fd5b505af1158015617e15573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250617e39919081019061a25d565b1515617e7a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401617e719061b98c565b60405180910390fd5b50505050565b600080838311151515617ec8576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401617ebf9061bbcc565b60405180910390fd5b82840390508091505092915050565b60008084600001846040518082805190602001908083835b602083101515617f145780518252602082019150602081019050602083039250617eef565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156180c7577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b602083101515617fea5780518252602082019150602081019050602083039250617fc5565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405161803195949392919061b285565b60405180910390a18285600001856040518082805190602001908083835b602083101515618074578051825260208201915060208101905060208303925061804f565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906180bd929190619877565b50600191506180cc565b600091505b509392505050565b60008084600001846040518082805190602001908083835b60208310151561811157805182526020820191506020810190506020830392506180ec565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156182c4577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156181e757805182526020820191506020810190506020830392506181c2565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010160405161822e95949392919061b285565b60405180910390a18285600001856040518082805190602001908083835b602083101515618271578051825260208201915060208101905060208303925061824c565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906182ba929190619877565b5060019150618429565b8285600001856040518082805190602001908083835b6020831015156182ff57805182526020820191506020810190506020830392506182da565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001019080519060200190618348929190619877565b5084600101805480919060010161835f91906198f7565b90506001810185600001856040518082805190602001908083835b60208310151561839f578051825260208201915060208101905060208303925061837a565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156183eb57fe5b9060005260206000209060020201600001908051906020019061840f929190619877565b508460020160008154809291906001019190505550600091505b509392505050565b606061844583618440846195aa565b618db3565b905092915050565b60008083600001836040518082805190602001908083835b60208310151561848a5780518252602082019150602081019050602083039250618465565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008114156184d55760009150618698565b7fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b6020831015156185695780518252602082019150602081019050602083039250618544565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516185b095949392919061b285565b60405180910390a183600001836040518082805190602001908083835b6020831015156185f257805182526020820191506020810190506020830392506185cd565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060008082016000905560018201600061863e9190619929565b50506001846001016001830381548110151561865657fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b6060600060606000806186b28a896195ee565b506186bf8b8b8b8b61974f565b92506186ca8b611a3d565b809c508195505050831515618714576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161870b9061bb6c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a600090549061","01000a900473ffffffffffffffffffffffffffffffffffffffff163089878c6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016187b595949392919061b4a6565b6040805180830381600087803b1580156187ce57600080fd5b505af11580156187e2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506188069190810190619f33565b809250819350505080618857876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506193d990919063ffffffff16565b90151561889a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401618891919061b94a565b60405180910390fd5b508a9450505050509695505050505050565b60008084600001846040518082805190602001908083835b6020831015156188e957805182526020820191506020810190506020830392506188c4565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156189345760009150618a99565b8285600001856040518082805190602001908083835b60208310151561896f578051825260208201915060208101905060208303925061894a565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906189b8929190619877565b508460010180548091906001016189cf91906198f7565b90506001810185600001856040518082805190602001908083835b602083101515618a0f57805182526020820191506020810190506020830392506189ea565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515618a5b57fe5b90600052602060002090600202016000019080519060200190618a7f929190619877565b508460020160008154809291906001019190505550600191505b509392505050565b606060006060600080618ab48a896195ee565b50618ac18b8b8b8b61974f565b9250618acc8b611a3d565b809c508195505050831515618b16576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401618b0d9061bb6c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168d6002815181101515618b8657fe5b9060200190602002015189878c6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401618bcf95949392919061b223565b6040805180830381600087803b158015618be857600080fd5b505af1158015618bfc573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250618c209190810190619f33565b809250819350505080618c71876040805190810160405280600a81526020017f466f7262696464656e20000000000000000000000000000000000000000000008152506193d990919063ffffffff16565b901515618cb4576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401618cab919061b94a565b60405180910390fd5b508a9450505050509695505050505050565b600081600201549050919050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f191660200182016040528015618d1f5781602001602082028038833980820191505090505b509250600090505b6014811015618dac578181601481101515618d3e57fe5b1a7f0100000000000000000000000000000000000000000000000000000000000000028382815181101515618d6f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050618d27565b5050919050565b606080606080606060008088955087945084518651016040519080825280601f01601f191660200182016040528015618dfb5781602001602082028038833980820191505090505b50935083925060009150600090505b8551811015618ebd578581815181101515618e2157fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515618e8057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050618e0a565b600090505b8451811015618f75578481815181101515618ed957fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515618f3857fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050618ec2565b83965050505050505092915050565b6060806000806000806000808a51118015618fa6575089516002026003018b51145b1515618fe7576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401618fde9061bb8c565b60405180910390fd5b600094505b8a5185101561902e5761901f8b8681518110151561900657fe5b906020019060200201518761721190919063ffffffff16565b95508480600101955050618fec565b600093505b89518410156190975761905d8a8581518110151561904d57fe5b90602001906020020151896195ee565b506190888a8581518110151561906f57fe5b906020019060200201518761843190919063ffffffff16565b95508380600101945050619033565b600092505b88518310156190e15788838151811015156190b357fe5b9060200190602002015191506190d2828761843190919063ffffffff16565b9550828060010193505061909c565b600090505b875181101561912857619119888281518110151561910057fe5b9060200190602002015187617b0a90919063ffffffff16565b955080806001019150506190e6565b859650505050505050949350505050565b606080600080600085516040519080825280602002602001820160405280156191715781602001602082028038833980820191505090505b509350600090505b85518110156193cd5760018114806191915750600281145b806191df575085818151811015156191a557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b1561924b5785818151811015156191f257fe5b90602001906020020151848281518110151561920a57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250506193c0565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630e628322878381518110151561929757fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016192d9919061b170565b6040805180830381600087803b1580156192f257600080fd5b505af1158015619306573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061932a9190810190619f33565b8093508194505050811515619374576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161936b9061bb6c565b60405180910390fd5b82848281518110151561938357fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8080600101915050619179565b83945050505050919050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156194215781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156194e357858181518110151561944757fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156194a657fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050619430565b600090505b845181101561959b5784818151811015156194ff57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002838380600101945081518110151561955e57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506194e8565b83965050505050505092915050565b606060206040519080825280601f01601f1916602001820160405280156195e05781602001602082028038833980820191505090505b509050816020820152919050565b60008083111515619634576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161962b9061ba0c565b60405180910390fd5b600082600081518110151561964557fe5b9060200190602002015151118015619676575060ff82600081518110151561966957fe5b9060200190602002015151105b15156196b7576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016196ae9061bb4c565b60405180910390fd5b6001825111156197455760008260018151811015156196d257fe5b9060200190602002015151118015619703575060ff8260018151811015156196f657fe5b9060200190602002015151105b1515619744576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161973b9061bbac565b60405180910390fd5b5b6001905092915050565b6060806000806000806000","93505b895184101561979f576197908a8581518110151561977757fe5b906020019060200201518661721190919063ffffffff16565b9450838060010194505061975d565b6197b2898661843190919063ffffffff16565b9450600092505b87518310156197fe5787838151811015156197d057fe5b9060200190602002015191506197ef828661843190919063ffffffff16565b945082806001019350506197b9565b600090505b865181101561984557619836878281518110151561981d57fe5b9060200190602002015186617b0a90919063ffffffff16565b94508080600101915050619803565b8495505050505050949350505050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106198b857805160ff19168380011785556198e6565b828001600101855582156198e6579182015b828111156198e55782518255916020019190600101906198ca565b5b5090506198f39190619971565b5090565b815481835581811115619924576002028160020283600052602060002091820191016199239190619996565b5b505050565b50805460018160011615610100020316600290046000825580601f1061994f575061996e565b601f01602090049060005260206000209081019061996d9190619971565b5b50565b61999391905b8082111561998f576000816000905550600101619977565b5090565b90565b6199d691905b808211156199d257600080820160006199b59190619929565b6001820160006101000a81549060ff02191690555060020161999c565b5090565b90565b60006199e5823561c02c565b905092915050565b60006199f9825161c02c565b905092915050565b600082601f8301121515619a1457600080fd5b8135619a27619a228261bd90565b61bd63565b91508181835260208401935060208101905083856020840282011115619a4c57600080fd5b60005b83811015619a7c5781619a6288826199d9565b845260208401935060208301925050600181019050619a4f565b5050505092915050565b600082601f8301121515619a9957600080fd5b6004619aac619aa78261bdb8565b61bd63565b91508183856020840282011115619ac257600080fd5b60005b83811015619af25781619ad88882619d7c565b845260208401935060208301925050600181019050619ac5565b5050505092915050565b600082601f8301121515619b0f57600080fd5b8135619b22619b1d8261bdda565b61bd63565b91508181835260208401935060208101905083856020840282011115619b4757600080fd5b60005b83811015619b775781619b5d8882619de6565b845260208401935060208301925050600181019050619b4a565b5050505092915050565b600082601f8301121515619b9457600080fd5b8135619ba7619ba28261be02565b61bd63565b9150818183526020840193506020810190508360005b83811015619bed5781358601619bd38882619dfa565b845260208401935060208301925050600181019050619bbd565b5050505092915050565b600082601f8301121515619c0a57600080fd5b8151619c1d619c188261be02565b61bd63565b9150818183526020840193506020810190508360005b83811015619c635781518601619c498882619e50565b845260208401935060208301925050600181019050619c33565b5050505092915050565b600082601f8301121515619c8057600080fd5b6002619c93619c8e8261be2a565b61bd63565b91508183856020840282011115619ca957600080fd5b60005b83811015619cd95781619cbf8882619eba565b845260208401935060208301925050600181019050619cac565b5050505092915050565b600082601f8301121515619cf657600080fd5b8135619d09619d048261be4c565b61bd63565b91508181835260208401935060208101905083856020840282011115619d2e57600080fd5b60005b83811015619d5e5781619d448882619ea6565b845260208401935060208301925050600181019050619d31565b5050505092915050565b6000619d74825161c04c565b905092915050565b6000619d88823561c058565b905092915050565b600082601f8301121515619da357600080fd5b8135619db6619db18261be74565b61bd63565b91508082526020830160208301858383011115619dd257600080fd5b619ddd83828461c0ac565b50505092915050565b6000619df2823561c062565b905092915050565b600082601f8301121515619e0d57600080fd5b8135619e20619e1b8261bea0565b61bd63565b91508082526020830160208301858383011115619e3c57600080fd5b619e4783828461c0ac565b50505092915050565b600082601f8301121515619e6357600080fd5b8151619e76619e718261bea0565b61bd63565b91508082526020830160208301858383011115619e9257600080fd5b619e9d83828461c0bb565b50505092915050565b6000619eb2823561c06c565b905092915050565b6000619ec6825161c06c565b905092915050565b600060208284031215619ee057600080fd5b6000619eee848285016199ed565b91505092915050565b60008060a08385031215619f0a57600080fd5b6000619f18858286016199d9565b9250506020619f2985828601619a86565b9150509250929050565b60008060408385031215619f4657600080fd5b6000619f54858286016199ed565b9250506020619f6585828601619d68565b9150509250929050565b600060208284031215619f8157600080fd5b600082013567ffffffffffffffff811115619f9b57600080fd5b619fa784828501619a01565b91505092915050565b60008060008060006101008688031215619fc957600080fd5b600086013567ffffffffffffffff811115619fe357600080fd5b619fef88828901619a01565b955050602086013567ffffffffffffffff81111561a00c57600080fd5b61a01888828901619ce3565b945050604086013567ffffffffffffffff81111561a03557600080fd5b61a04188828901619afc565b935050606086013567ffffffffffffffff81111561a05e57600080fd5b61a06a88828901619b81565b925050608061a07b88828901619a86565b9150509295509295909350565b6000806000806000610100868803121561a0a157600080fd5b600086013567ffffffffffffffff81111561a0bb57600080fd5b61a0c788828901619a01565b955050602061a0d888828901619ea6565b945050604086013567ffffffffffffffff81111561a0f557600080fd5b61a10188828901619afc565b935050606086013567ffffffffffffffff81111561a11e57600080fd5b61a12a88828901619b81565b925050608061a13b88828901619a86565b9150509295509295909350565b60006080828403121561a15a57600080fd5b600061a16884828501619a86565b91505092915050565b60006020828403121561a18357600080fd5b600082015167ffffffffffffffff81111561a19d57600080fd5b61a1a984828501619bf7565b91505092915050565b60008060008060e0858703121561a1c857600080fd5b600085013567ffffffffffffffff81111561a1e257600080fd5b61a1ee87828801619ce3565b945050602085013567ffffffffffffffff81111561a20b57600080fd5b61a21787828801619a01565b935050604085013567ffffffffffffffff81111561a23457600080fd5b61a24087828801619afc565b925050606061a25187828801619a86565b91505092959194509250565b60006020828403121561a26f57600080fd5b600061a27d84828501619d68565b91505092915050565b6000806060838503121561a29957600080fd5b600061a2a785828601619d68565b925050602061a2b885828601619c6d565b9150509250929050565b60006020828403121561a2d457600080fd5b600082013567ffffffffffffffff81111561a2ee57600080fd5b61a2fa84828501619d90565b91505092915050565b60008060a0838503121561a31657600080fd5b600083013567ffffffffffffffff81111561a33057600080fd5b61a33c85828601619d90565b925050602061a34d85828601619a86565b9150509250929050565b6000806040838503121561a36a57600080fd5b600083013567ffffffffffffffff81111561a38457600080fd5b61a39085828601619d90565b925050602083013567ffffffffffffffff81111561a3ad57600080fd5b61a3b985828601619d90565b9150509250929050565b600080600060c0848603121561a3d857600080fd5b600084013567ffffffffffffffff81111561a3f257600080fd5b61a3fe86828701619d90565b935050602084013567ffffffffffffffff81111561a41b57600080fd5b61a42786828701619d90565b925050604061a43886828701619a86565b9150509250925092565b60006020828403121561a45457600080fd5b600061a46284828501619eba565b91505092915050565b60008060a0838503121561a47e57600080fd5b600061a48c85828601619ea6565b925050602061a49d85828601619a86565b9150509250929050565b600080600060c0848603121561a4bc57600080fd5b600061a4ca86828701619ea6565b935050602061a4db86828701619ea6565b925050604061a4ec86828701619a86565b9150509250925092565b61a4ff8161bfe2565b82525050565b600061a5108261bf26565b80845260208401935061a5228361becc565b60005b8281101561a5545761a53886835161a4f6565b61a5418261bf94565b915060208601955060018101905061a525565b50849250505092915050565b61a5698161bf31565b61a5728261bed9565b60005b8281101561a5a45761a58885835161a729565b61a5918261bfa1565b915060208501945060018101905061a575565b5050505050565b600061a5b68261bf3c565b80845260208401935061a5c88361bee3565b60005b8281101561a5fa5761a5de86835161a857565b61a5e78261bfae565b915060208601955060018101905061a5cb565b50849250505092915050565b600061a6118261bf47565b8084526020840193508360208202850161a62a8561bef0565b60005b8481101561a66357838303885261a64583835161a89c565b925061a6508261bfbb565b915060208801975060018101905061a62d565b508196508694505050505092915050565b61a67d8161bf52565b61a6868261befd565b60005b8281101561a6b85761a69c85835161b161565b61a6a58261bfc8565b915060208501945060018101905061a689565b5050505050565b600061a6ca8261bf5d565b80845260208401935061a6dc8361bf07565b60005b8281101561a70e5761a6f286835161b161565b61a6fb8261bfd5565b915060208601955060018101905061a6df565b50849250505092915050565b61a7238161c002565b82525050565b61a7328161c00e565b82525050565b600061a7438261bf73565b80845261a75781602086016020860161c0bb565b61a760","8161c0ee565b602085010191505092915050565b600061a7798261bf68565b80845261a78d81602086016020860161c0bb565b61a7968161c0ee565b602085010191505092915050565b60008154600181166000811461a7c1576001811461a7e15761a822565b607f600283041680865260ff19831660208701526040860193505061a822565b6002820480865260208601955061a7f78561bf14565b60005b8281101561a8195781548189015260018201915060208101905061a7fa565b80880195505050505b505092915050565b61a8338161c076565b82525050565b61a8428161c088565b82525050565b61a8518161c09a565b82525050565b61a8608161c018565b82525050565b600061a8718261bf89565b80845261a88581602086016020860161c0bb565b61a88e8161c0ee565b602085010191505092915050565b600061a8a78261bf7e565b80845261a8bb81602086016020860161c0bb565b61a8c48161c0ee565b602085010191505092915050565b6000600882527f73657450726963650000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000600a82527f67657442616c616e6365000000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601282527f736574507269636520466f7262696464656e00000000000000000000000000006020830152604082019050919050565b6000601782527f616d6f756e743c3d30206973206e6f74207665726966790000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000600f82527f676574546f74616c42616c616e636500000000000000000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e2067657442616c616e63650000000000000000000000006020830152604082019050919050565b6000600782527f73657452617465000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000602c82527f466f7262696464656e207175657279426f6f6b206265636175736520796f752060208301527f6172656e2774206f776e657200000000000000000000000000000000000000006040830152606082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000601182527f7365745261746520466f7262696464656e0000000000000000000000000000006020830152604082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000602682527f546865206c656e677468206f662064657363206279746573206973207769746860208301527f696e2032353500000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000600f82527f6c656773206e6f742076657269667900000000000000000000000000000000006020830152604082019050919050565b6000602982527f546865206c656e677468206f66207375626a656374206279746573206973207760208301527f697468696e2032353500000000000000000000000000000000000000000000006040830152606082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000601f82527f676574546f74616c42616c616e636520676574546f74616c42616c616e6365006020830152604082019050919050565b61b16a8161c022565b82525050565b600060208201905061b185600083018461a4f6565b92915050565b600060808201905061b1a0600083018761a4f6565b61b1ad602083018661a4f6565b61b1ba604083018561a4f6565b818103606083015261b1cc818461a76e565b905095945050505050565b600060808201905061b1ec600083018761a4f6565b61b1f9602083018661a4f6565b61b206604083018561a4f6565b818103606083015261b218818461a738565b905095945050505050565b60006101008201905061b239600083018861a4f6565b61b246602083018761a4f6565b818103604083015261b258818661a76e565b9050818103606083015261b26c818561a738565b905061b27b608083018461a560565b9695505050505050565b600060a08201905061b29a600083018861a4f6565b61b2a7602083018761a4f6565b818103604083015261b2b9818661a76e565b9050818103606083015261b2cd818561a738565b9050818103608083015261b2e1818461a7a4565b90509695505050505050565b60006101008201905061b303600083018761a4f6565b61b310602083018661a4f6565b818103604083015261b3218161a9d4565b9050818103606083015261b335818561a738565b905061b344608083018461a560565b95945050505050565b600060608201905061b362600083018661a4f6565b61b36f602083018561a4f6565b61b37c604083018461b161565b949350505050565b60006101008201905061b39a600083018761a4f6565b61b3a7602083018661a82a565b818103604083015261b3b88161a8d2565b9050818103606083015261b3cc818561a738565b905061b3db608083018461a560565b95945050505050565b60006101008201905061b3fa600083018761a4f6565b61b407602083018661a82a565b818103604083015261b4188161abc3565b9050818103606083015261b42c818561a738565b905061b43b608083018461a560565b95945050505050565b60006101008201905061b45a600083018861a4f6565b61b467602083018761a839565b818103604083015261b479818661a738565b9050818103606083015261b48d818561a738565b905061b49c608083018461a560565b9695505050505050565b60006101008201905061b4bc600083018861a4f6565b61b4c9602083018761a848565b818103604083015261b4db818661a76e565b9050818103606083015261b4ef818561a738565b905061b4fe608083018461a560565b9695505050505050565b60006101008201905061b51e600083018761a4f6565b61b52b602083018661a848565b818103604083015261b53c8161aae7565b9050818103606083015261b550818561a738565b905061b55f608083018461a560565b95945050505050565b60006101008201905061b57e600083018761a4f6565b61b58b602083018661a848565b818103604083015261b59c8161ab1e565b9050818103606083015261b5b0818561a738565b905061b5bf608083018461a560565b95945050505050565b60006101008201905061b5de600083018761a4f6565b61b5eb602083018661a848565b818103604083015261b5fc8161ad7f565b9050818103606083015261b610818561a738565b905061b61f608083018461a560565b95945050505050565b60006101008201905061b63e600083018761a4f6565b61b64b602083018661a848565b818103604083015261b65c8161b085565b9050818103606083015261b670818561a738565b905061b67f608083018461a560565b95945050505050565b60006101008201905061b69e600083018761a4f6565b61b6ab602083018661a848565b818103604083015261b6bc8161b0f3565b9050818103606083015261b6d0818561a738565b905061b6df608083018461a560565b95945050505050565b600060408201905061b6fd600083018561a4f6565b61b70a602083018461b161565b9392505050565b6000602082019050818103600083015261b72b818461a505565b905092915050565b6000604082019050818103600083015261b74d818561a505565b905061b75c602083018461b161","565b9392505050565b6000608082019050818103600083015261b77d818761a505565b905061b78c602083018661b161565b818103604083015261b79e818561a606565b9050818103606083015261b7b2818461a5ab565b905095945050505050565b6000602082019050818103600083015261b7d7818461a606565b905092915050565b6000606082019050818103600083015261b7f9818661a6bf565b9050818103602083015261b80d818561a505565b9050818103604083015261b821818461a5ab565b9050949350505050565b600060208201905061b840600083018461a71a565b92915050565b600060408201905061b85b600083018561a71a565b818103602083015261b86d818461a505565b90509392505050565b600060608201905061b88b600083018561a71a565b61b898602083018461a674565b9392505050565b600060408201905061b8b4600083018561a71a565b818103602083015261b8c6818461a6bf565b90509392505050565b6000602082019050818103600083015261b8e9818461a76e565b905092915050565b6000602082019050818103600083015261b90b818461a738565b905092915050565b600060608201905061b928600083018661a848565b61b935602083018561a4f6565b61b942604083018461a71a565b949350505050565b6000602082019050818103600083015261b964818461a866565b905092915050565b6000602082019050818103600083015261b9858161a909565b9050919050565b6000602082019050818103600083015261b9a58161a940565b9050919050565b6000602082019050818103600083015261b9c58161a99d565b9050919050565b6000602082019050818103600083015261b9e58161aa0b565b9050919050565b6000602082019050818103600083015261ba058161aa42565b9050919050565b6000602082019050818103600083015261ba258161aa79565b9050919050565b6000602082019050818103600083015261ba458161aab0565b9050919050565b6000602082019050818103600083015261ba658161ab55565b9050919050565b6000602082019050818103600083015261ba858161ab8c565b9050919050565b6000602082019050818103600083015261baa58161abfa565b9050919050565b6000602082019050818103600083015261bac58161ac57565b9050919050565b6000602082019050818103600083015261bae58161ac8e565b9050919050565b6000602082019050818103600083015261bb058161ad11565b9050919050565b6000602082019050818103600083015261bb258161ad48565b9050919050565b6000602082019050818103600083015261bb458161adb6565b9050919050565b6000602082019050818103600083015261bb658161aded565b9050919050565b6000602082019050818103600083015261bb858161ae4a565b9050919050565b6000602082019050818103600083015261bba58161aea7565b9050919050565b6000602082019050818103600083015261bbc58161aede565b9050919050565b6000602082019050818103600083015261bbe58161af3b565b9050919050565b6000602082019050818103600083015261bc058161af72565b9050919050565b6000602082019050818103600083015261bc258161afa9565b9050919050565b6000602082019050818103600083015261bc458161afe0565b9050919050565b6000602082019050818103600083015261bc658161b017565b9050919050565b6000602082019050818103600083015261bc858161b04e565b9050919050565b6000602082019050818103600083015261bca58161b0bc565b9050919050565b6000602082019050818103600083015261bcc58161b12a565b9050919050565b600060208201905061bce1600083018461b161565b92915050565b600060408201905061bcfc600083018561b161565b61bd09602083018461b161565b9392505050565b600060a08201905061bd25600083018861b161565b61bd32602083018761b161565b61bd3f604083018661a4f6565b61bd4c606083018561a4f6565b61bd59608083018461b161565b9695505050505050565b6000604051905081810181811067ffffffffffffffff8211171561bd8657600080fd5b8060405250919050565b600067ffffffffffffffff82111561bda757600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561bdcf57600080fd5b602082029050919050565b600067ffffffffffffffff82111561bdf157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561be1957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561be4157600080fd5b602082029050919050565b600067ffffffffffffffff82111561be6357600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561be8b57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111561beb757600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600061c0818261bfe2565b9050919050565b600061c0938261bfe2565b9050919050565b600061c0a58261bfe2565b9050919050565b82818337600083830152505050565b60005b8381101561c0d957808201518184015260208101905061c0be565b8381111561c0e8576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a723058200a6d6c91d91de32d9dd86b5d299c0d7ec5231e5d8f1221a1738eaf9ed2e9c2c96c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b506040516200593638038062005936833981018060405262000037919081019062000354565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600a9080519060200190620000ff9291906200021b565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c92a7801600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a91906200055d565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d09190810190620003c3565b5080600b60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050505062000678565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200025e57805160ff19168380011785556200028f565b828001600101855582156200028f579182015b828111156200028e57825182559160200191906001019062000271565b5b5090506200029e9190620002a2565b5090565b620002c791905b80821115620002c3576000816000905550600101620002a9565b5090565b90565b6000620002d8825162000618565b905092915050565b6000620002ee825162000638565b905092915050565b600082601f83011215156200030a57600080fd5b8151620003216200031b82620005d9565b620005ab565b915080825260208301602083018583830111156200033e57600080fd5b6200034b83828462000642565b50505092915050565b6000806000606084860312156200036a57600080fd5b60006200037a86828701620002ca565b935050602084015167ffffffffffffffff8111156200039857600080fd5b620003a686828701620002f6565b9250506040620003b986828701620002ca565b9150509250925092565b600060208284031215620003d657600080fd5b6000620003e684828501620002e0565b91505092915050565b6000815460018116600081146200040f5760018114620004305762000475565b607f600283041680865260ff19831660208701526040860193505062000475565b60028204808652602086019550620004488562000606565b60005b828110156200046c578154818901526001820191506020810190506200044b565b80880195505050505b505092915050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000606482527f7465726d5f6e6f2c7365712c66726f6d2c746f2c616d6f756e742c617373657460208301527f2c6f70657261746f722c646573632c7472616e73616374696f6e5f747970652c60408301527f6f7065726174696f6e5f747970652c7375626a6563742c72656c617465645f6160608301527f7373657400000000000000000000000000000000000000000000000000000000608083015260a082019050919050565b60006060820190508181036000830152620005798184620003ef565b905081810360208301526200058e816200047d565b90508181036040830152620005a381620004b4565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005cf57600080fd5b8060405250919050565b600067ffffffffffffffff821115620005f157600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffff","ffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b838110156200066257808201518184015260208101905062000645565b8381111562000672576000848401525b50505050565b6152ae80620006886000396000f300608060405260043610610062576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806311567c421461006757806318768d1e1461009257806345be589e146100d0578063b32cf81b146100fb575b600080fd5b34801561007357600080fd5b5061007c610138565b6040516100899190614945565b60405180910390f35b34801561009e57600080fd5b506100b960048036036100b4919081019061405e565b610140565b6040516100c7929190614982565b60405180910390f35b3480156100dc57600080fd5b506100e56105d1565b6040516100f29190614f3f565b60405180910390f35b34801561010757600080fd5b50610122600480360361011d9190810190614109565b61062e565b60405161012f9190614960565b60405180910390f35b600030905090565b600061014a613c9a565b60006060600080600061015b613c9a565b60048c511015801561016e575060028951145b15156101af576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016101a690614d6b565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631bf727356040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801561023457600080fd5b505af1158015610248573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061027191908101906142d7565b80965081975050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bd332ffe6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156102fe57600080fd5b505af1158015610312573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061033691908101906142ae565b935061034686858e8e8e8e610cef565b9250600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016103c09190614a4f565b602060405180830381600087803b1580156103da57600080fd5b505af11580156103ee573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610412919081019061421b565b915060018273ffffffffffffffffffffffffffffffffffffffff16634c6f30c061045c600260016002805490500381548110151561044c57fe5b90600052602060002001546116b9565b866040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610496929190614a1f565b602060405180830381600087803b1580156104b057600080fd5b505af11580156104c4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104e89190810190614244565b14151561052a576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161052190614bfe565b60405180910390fd5b61053586858e611810565b60408051908101604052808781526020018581525090507f370fc1741645a856379d1c2be6c9f567fa67f594a8b02fa03d83b70ebe8958dc86858e600281518110151561057e57fe5b906020019060200201518f600381518110151561059757fe5b906020019060200201518f6040516105b3959493929190614f5a565b60405180910390a16001819750975050505050505094509492505050565b600060026001600280549050019080600181540180825580915050906001820390600052602060002001600090919290919091505550600260016002805490500381548110151561061e57fe5b9060005260206000200154905090565b60606000606060006060600080606060008b51118061064e575060008a51115b151561068f576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161068690614d6b565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107079190614a4f565b602060405180830381600087803b15801561072157600080fd5b505af1158015610735573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610759919081019061421b565b96506107658b8b611dca565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156107d157600080fd5b505af11580156107e5573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061080991908101906141a0565b92506000915060008b51118015610839575060008b600081518110151561082c57fe5b9060200190602002015114155b156108e6578273ffffffffffffffffffffffffffffffffffffffff1663ae763db561087b8d600081518110151561086c57fe5b906020019060200201516116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108b39190614d36565b600060405180830381600087803b1580156108cd57600080fd5b505af11580156108e1573d6000803e3d6000fd5b505050505b60018b51118015610910575060008b600181518110151561090357fe5b9060200190602002015114155b156109bd578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56109528d600181518110151561094357fe5b906020019060200201516116b9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161098a9190614b74565b600060405180830381600087803b1580156109a457600080fd5b505af11580156109b8573d6000803e3d6000fd5b505050505b60008a51118015610a135750600073ffffffffffffffffffffffffffffffffffffffff168a60008151811015156109f057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610ad6578273ffffffffffffffffffffffffffffffffffffffff1663ae763db5610a6b8c6000815181101515610a4657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610aa39190614bc9565b600060405180830381600087803b158015610abd57600080fd5b505af1158015610ad1573d6000803e3d6000fd5b505050505b60018a51118015610b2c5750600073ffffffffffffffffffffffffffffffffffffffff168a6001815181101515610b0957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610bef578273ffffffffffffffffffffffffffffffffffffffff1663ae763db5610b848c6001815181101515610b5f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610bbc9190614eb5565b600060405180830381600087803b158015610bd657600080fd5b505af1158015610bea573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff1663324927378a6000815181101515610c1a57fe5b906020019060200201518b6001815181101515610c3357fe5b906020019060200201516040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c769291906149c6565b600060405180830381600087803b158015610c9057600080fd5b505af1158015610ca4573d6000803e3d6000fd5b50505050610cb38686856125c2565b809350819250505060008151118015610ccc5750600082135b15610cde57610cdb81836128ca565b93505b839750505050505050509392505050565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610d6c9190614a4f565b602060405180830381600087803b158015610d8657600080fd5b505af1158015610d9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610dbe919081019061421b565b91508173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610e2457600080fd5b505af1158015610e38573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e5c91908101906141f2565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610ea46002600160028054905003815481101515610e9457fe5b90600052602060002001546116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610edc9190614ce1565b600060405180830381600087803b158015610ef657600080fd5b505af1158015610f0a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610f338a6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f6b9190614b74565b600060405180830381600087803b158015610f8557600080fd5b505af1158015610f99573d6000803e3d6000fd5b","505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4610fc28b6116b9565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ffa9190614d36565b600060405180830381600087803b15801561101457600080fd5b505af1158015611028573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461107f89600281518110151561105a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110b79190614bc9565b600060405180830381600087803b1580156110d157600080fd5b505af11580156110e5573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461113c89600381518110151561111757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1661244e565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111749190614eb5565b600060405180830381600087803b15801561118e57600080fd5b505af11580156111a2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98860018151811015156111d157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112139190614c93565b600060405180830381600087803b15801561122d57600080fd5b505af1158015611241573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461126a886116b9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112a29190614c3e565b600060405180830381600087803b1580156112bc57600080fd5b505af11580156112d0573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98860008151811015156112ff57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113419190614b06565b600060405180830381600087803b15801561135b57600080fd5b505af115801561136f573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb486600081518110151561139e57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113e09190614ab1565b600060405180830381600087803b1580156113fa57600080fd5b505af115801561140e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def4269885600081518110151561143d57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161147f9190614dab565b600060405180830381600087803b15801561149957600080fd5b505af11580156114ad573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988560018151811015156114dc57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161151e9190614df9565b600060405180830381600087803b15801561153857600080fd5b505af115801561154c573d6000803e3d6000fd5b505050506001855111156115fa578073ffffffffffffffffffffffffffffffffffffffff16631a391cb486600181518110151561158557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115c79190614f0a565b600060405180830381600087803b1580156115e157600080fd5b505af11580156115f5573d6000803e3d6000fd5b505050505b8073ffffffffffffffffffffffffffffffffffffffff1663517c4dd9600589511061163d5788600481518110151561162e57fe5b90602001906020020151611640565b60005b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116789190614e47565b600060405180830381600087803b15801561169257600080fd5b505af11580156116a6573d6000803e3d6000fd5b5050505080925050509695505050505050565b60606000806060600080861415611707576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611807565b8593505b600084141515611731578280600101935050600a8481151561172957fe5b04935061170b565b826040519080825280601f01601f1916602001820160405280156117645781602001602082028038833980820191505090505b5091506001830390505b60008614151561180357600a8681151561178457fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156117bf57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156117fb57fe5b04955061176e565b8194505b50505050919050565b600760008481526020019081526020016000206000600260016002805490500381548110151561183c57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615156119265760036000848152602001908152602001600020600260016002805490500381548110151561189357fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160076000858152602001908152602001600020600060026001600280549050038154811015156118f557fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600260016002805490500381548110151561193d57fe5b906000526020600020015460046000848152602001908152602001600020819055506008600082600281518110151561197257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156119cf57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611a485750806002815181101515611a0d57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611b925760056000826002815181101515611a6057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611abb57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160086000836002815181101515611b0457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611b6157fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b60096000826003815181101515611ba557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611c0257fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015611c7b5750806003815181101515611c4057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611dc55760066000826003815181101515611c9357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515611cee57fe5b90600052602060002001549080600181540180825580915050906001820390600052602060002001600090919290919091505550600160096000836003815181101515611d3757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611d9457fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b505050565b6060600060606000806000806000600280549050604051908082528060200260200182016040528015611e0c5781602001602082028038833980820191505090505b50955060018a51118015611e39575060008a6001815181101515611e2c57fe5b9060200190602002015114155b15611ec7576000600460008c6001815181101515611e5357fe5b90602001906020020151815260200190815260200160002054141515611ec6576001866001600460008e6001815181101515611e8b57fe5b9060200190602002015181526020019081526020016000205403815181101515611eb157fe5b90602001906020020190151590811515815250505b5b60008a51118015611ef1575060008a6000815181101515611ee457fe5b9060200190602002015114155b1561200c57600094505b600360008b6000815181101515611f0e57fe5b9060200190602002015181526020019081526020016000208054905085101561200b57856001600360008d6000815181101515611f4757fe5b90602001906020020151815260200190815260200160002087815481101515611f6c57fe5b906000526020600020015403815181101515611f8457fe5b906020019060200201511515611ffe576001866001","600360008e6000815181101515611fac57fe5b90602001906020020151815260200190815260200160002088815481101515611fd157fe5b906000526020600020015403815181101515611fe957fe5b90602001906020020190151590811515815250505b8480600101955050611efb565b5b600089511180156120625750600073ffffffffffffffffffffffffffffffffffffffff1689600081518110151561203f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561220157600093505b600560008a600081518110151561207f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208054905084101561220057856001600560008c60008151811015156120e457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208681548110151561213557fe5b90600052602060002001540381518110151561214d57fe5b9060200190602002015115156121f3576001866001600560008d600081518110151561217557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020878154811015156121c657fe5b9060005260206000200154038151811015156121de57fe5b90602001906020020190151590811515815250505b838060010194505061206c565b5b600189511180156122575750600073ffffffffffffffffffffffffffffffffffffffff1689600181518110151561223457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156123f657600092505b600660008a600181518110151561227457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020805490508310156123f557856001600660008c60018151811015156122d957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208581548110151561232a57fe5b90600052602060002001540381518110151561234257fe5b9060200190602002015115156123e8576001866001600660008d600181518110151561236a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156123bb57fe5b9060005260206000200154038151811015156123d357fe5b90602001906020020190151590811515815250505b8280600101935050612261565b5b60009150600090505b855181101561243b57858181518110151561241657fe5b906020019060200201511561242e5781806001019250505b80806001019150506123ff565b8582975097505050505050509250929050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff16945060008514156124b8576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525095506125b8565b8493505b6000841415156124e2578280600101935050600a848115156124da57fe5b0493506124bc565b826040519080825280601f01601f1916602001820160405280156125155781602001602082028038833980820191505090505b5091506001830390505b6000851415156125b457600a8581151561253557fe5b066030017f01000000000000000000000000000000000000000000000000000000000000000282828060019003935081518110151561257057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a858115156125ac57fe5b04945061251f565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126489190614a4f565b602060405180830381600087803b15801561266257600080fd5b505af1158015612676573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061269a919081019061421b565b955060009450896040519080825280602002602001820160405280156126cf5781602001602082028038833980820191505090505b50935060009250600091505b8a518210156128b6578a828151811015156126f257fe5b90602001906020020151156128a9578573ffffffffffffffffffffffffffffffffffffffff1663d8ac5957612729600185016116b9565b8b6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016127639291906149ef565b602060405180830381600087803b15801561277d57600080fd5b505af1158015612791573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127b591908101906141c9565b90508073ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561281b57600080fd5b505af115801561282f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128539190810190614244565b8501945080848480600101955081518110151561286c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b81806001019250506126db565b838597509750505050505050935093915050565b60608060008060008060006060600c890260405190808252806020026020018201604052801561290e57816020015b60608152602001906001900390816128f95790505b509650600095505b895186101561353457898681518110151561292d57fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156129a657600080fd5b505af11580156129ba573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129de9190810190614244565b831215613527578473ffffffffffffffffffffffffffffffffffffffff16633dd2b614846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a3a91906149ab565b602060405180830381600087803b158015612a5457600080fd5b505af1158015612a68573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a8c91908101906141f2565b915060009350612c938273ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae890614ba9565b600060405180830381600087803b158015612b0257600080fd5b505af1158015612b16573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612b3f919081019061426d565b8373ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b9290614e95565b600060405180830381600087803b158015612bac57600080fd5b505af1158015612bc0573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612be9919081019061426d565b8473ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c3c90614ae6565b602060405180830381600087803b158015612c5657600080fd5b505af1158015612c6a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c8e9190810190614035565b613544565b905060038151141515612cdb576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612cd290614a71565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d2e90614d16565b600060405180830381600087803b158015612d4857600080fd5b505af1158015612d5c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612d85919081019061426d565b878585600c0201815181101515612d9857fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612df890614b54565b600060405180830381600087803b158015612e1257600080fd5b505af1158015612e26573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612e4f919081019061426d565b878560010195508585600c0201815181101515612e6857fe5b90602001906020020181905250806000815181101515612e8457fe5b90602001906020020151878560010195508585600c0201815181101515612ea757fe5b90602001906020020181905250806001815181101515612ec357fe5b90602001906020020151878560010195508585600c0201815181101515612ee657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f4690614c1e565b600060405180830381600087803b158015612f6057600080fd5b505af1158015612f74573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612f9d919081019061","426d565b878560010195508585600c0201815181101515612fb657fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161301690614a91565b600060405180830381600087803b15801561303057600080fd5b505af1158015613044573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061306d919081019061426d565b878560010195508585600c020181518110151561308657fe5b906020019060200201819052506131568273ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130e990614c73565b602060405180830381600087803b15801561310357600080fd5b505af1158015613117573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061313b9190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561316f57fe5b9060200190602002018190525080600281518110151561318b57fe5b90602001906020020151878560010195508585600c02018151811015156131ae57fe5b906020019060200201819052506132688273ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161321190614d8b565b602060405180830381600087803b15801561322b57600080fd5b505af115801561323f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506132639190810190614244565b6116b9565b878560010195508585600c020181518110151561328157fe5b9060200190602002018190525061333b8273ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132e490614dd9565b602060405180830381600087803b1580156132fe57600080fd5b505af1158015613312573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506133369190810190614244565b6116b9565b878560010195508585600c020181518110151561335457fe5b906020019060200201819052506134248273ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016133b790614e27565b602060405180830381600087803b1580156133d157600080fd5b505af11580156133e5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134099190810190614035565b73ffffffffffffffffffffffffffffffffffffffff1661244e565b878560010195508585600c020181518110151561343d57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161349d90614eea565b600060405180830381600087803b1580156134b757600080fd5b505af11580156134cb573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506134f4919081019061426d565b878560010195508585600c020181518110151561350d57fe5b906020019060200201819052508280600101935050612942565b8580600101965050612916565b8697505050505050505092915050565b606080600080600360405190808252806020026020018201604052801561357f57816020015b606081526020019060019003908161356a5790505b50925061358b87613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561374557600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade661360789613ac9565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161363f9190614945565b602060405180830381600087803b15801561365957600080fd5b505af115801561366d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136919190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613705576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016136fc90614cc1565b60405180910390fd5b6137248173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600081518110151561373357fe5b90602001906020020181905250613763565b8683600081518110151561375557fe5b906020019060200201819052505b61376c86613ac9565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151561392657600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade66137e888613ac9565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138209190614945565b602060405180830381600087803b15801561383a57600080fd5b505af115801561384e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138729190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156138e6576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016138dd90614b34565b60405180910390fd5b6139058173ffffffffffffffffffffffffffffffffffffffff1661244e565b83600181518110151561391457fe5b90602001906020020181905250613944565b8583600181518110151561393657fe5b906020019060200201819052505b600b60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade6866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016139bb9190614945565b602060405180830381600087803b1580156139d557600080fd5b505af11580156139e9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a0d9190810190614035565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613a81576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613a7890614e75565b60405180910390fd5b613aa08173ffffffffffffffffffffffffffffffffffffffff1661244e565b836002815181101515613aaf57fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613c8f5760308382815181101515613af557fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bf3575060398382815181101515613b7f57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613c825760308382815181101515613c0857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613adc565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613cc88235615181565b905092915050565b6000613cdc8251615181565b905092915050565b600082601f8301121515613cf757600080fd5b8135613d0a613d0582614fda565b614fad565b91508181835260208401935060208101905083856020840282011115613d2f57600080fd5b60005b83811015613d5f5781613d458882613cbc565b845260208401935060208301925050600181019050613d32565b5050505092915050565b600082601f8301121515613d7c57600080fd5b8135613d8f613d8a82615002565b614fad565b91508181835260208401935060208101905083856020840282011115613db457600080fd5b60005b83811015613de45781613dca8882613f39565b845260208401935060208301925050600181019050613db7565b5050505092915050565b600082601f8301121515613e0157600080fd5b8135613e14613e0f8261502a565b614fad565b9150818183526020840193506020810190508360005b83811015613e5a5781358601613e408882613f61565b845260208401935060208301925050600181019050613e2a565b5050505092915050565b600082601f8301121515613e7757600080fd5b8135613e8a613e8582615052565b614fad565b91508181835260208401935060208101905083856020840282011115613eaf57600080fd5b60005b83811015613edf5781613ec5888261400d565b845260208401935060208301925050600181019050613eb2565b5050505092915050565b6000613ef582516151a1565b905092915050565b6000613f0982516151b3565b905092915050565b6000613f1d82516151c5565b905092915050565b6000613f3182516151d7565b905092915050565b6000613f4582356151e9565b905092915050565b6000613f5982516151e9565b905092915050565b600082601f8301121515613f7457600080fd5b8135613f87613f828261507a565b614fad565b915080825260208301602083018583830111","15613fa357600080fd5b613fae838284615221565b50505092915050565b600082601f8301121515613fca57600080fd5b8151613fdd613fd8826150a6565b614fad565b91508082526020830160208301858383011115613ff957600080fd5b614004838284615230565b50505092915050565b600061401982356151f3565b905092915050565b600061402d82516151f3565b905092915050565b60006020828403121561404757600080fd5b600061405584828501613cd0565b91505092915050565b6000806000806080858703121561407457600080fd5b600085013567ffffffffffffffff81111561408e57600080fd5b61409a87828801613ce4565b94505060206140ab8782880161400d565b935050604085013567ffffffffffffffff8111156140c857600080fd5b6140d487828801613dee565b925050606085013567ffffffffffffffff8111156140f157600080fd5b6140fd87828801613d69565b91505092959194509250565b60008060006060848603121561411e57600080fd5b600084013567ffffffffffffffff81111561413857600080fd5b61414486828701613e64565b935050602084013567ffffffffffffffff81111561416157600080fd5b61416d86828701613ce4565b925050604084013567ffffffffffffffff81111561418a57600080fd5b61419686828701613d69565b9150509250925092565b6000602082840312156141b257600080fd5b60006141c084828501613ee9565b91505092915050565b6000602082840312156141db57600080fd5b60006141e984828501613efd565b91505092915050565b60006020828403121561420457600080fd5b600061421284828501613f11565b91505092915050565b60006020828403121561422d57600080fd5b600061423b84828501613f25565b91505092915050565b60006020828403121561425657600080fd5b600061426484828501613f4d565b91505092915050565b60006020828403121561427f57600080fd5b600082015167ffffffffffffffff81111561429957600080fd5b6142a584828501613fb7565b91505092915050565b6000602082840312156142c057600080fd5b60006142ce84828501614021565b91505092915050565b600080604083850312156142ea57600080fd5b60006142f885828601614021565b925050602083015167ffffffffffffffff81111561431557600080fd5b61432185828601613fb7565b9150509250929050565b61433481615141565b82525050565b6000614345826150fb565b8084526020840193508360208202850161435e856150d2565b60005b84811015614397578383038852614379838351614465565b925061438482615127565b9150602088019750600181019050614361565b508196508694505050505092915050565b6143b181615106565b6143ba826150df565b60005b828110156143ec576143d0858351614936565b6143d982615134565b91506020850194506001810190506143bd565b5050505050565b6143fc81615161565b82525050565b61440b816151fd565b82525050565b61441a8161520f565b82525050565b6144298161516d565b82525050565b600061443a8261511c565b80845261444e816020860160208601615230565b61445781615263565b602085010191505092915050565b600061447082615111565b808452614484816020860160208601615230565b61448d81615263565b602085010191505092915050565b6000815460018116600081146144b857600181146144d857614519565b607f600283041680865260ff198316602087015260408601935050614519565b600282048086526020860195506144ee856150e9565b60005b82811015614510578154818901526001820191506020810190506144f1565b80880195505050505b505092915050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f777269746520626f6f6b206661696c65640000000000000000000000000000006020830152604082019050919050565b6000600682527f616d6f756e7400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000601082527f7472616e73616374696f6e5f74797065000000000000000000000000000000006020830152604082019050919050565b6000600e82527f6f7065726174696f6e5f747970650000000000000000000000000000000000006020830152604082019050919050565b6000600d82527f72656c617465645f6173736574000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7375626a656374000000000000000000000000000000000000000000000000006020830152604082019050919050565b61493f81615177565b82525050565b600060208201905061495a600083018461432b565b92915050565b6000602082019050818103600083015261497a818461433a565b905092915050565b600060608201905061499760008301856143f3565b6149a460208301846143a8565b9392505050565b60006020820190506149c06000830184614420565b92915050565b60006040820190506149db6000830185614420565b6149e86020830184614420565b9392505050565b60006040820190508181036000830152614a09818561442f565b9050614a186020830184614402565b9392505050565b60006040820190508181036000830152614a39818561442f565b9050614a486020830184614411565b9392505050565b60006020820190508181036000830152614a69818461449b565b905092915050565b60006020820190508181036000830152614a8a81614521565b9050919050565b60006020820190508181036000830152614aaa81614558565b9050919050565b60006040820190508181036000830152614aca81614558565b90508181036020830152614ade8184614465565b905092915050565b60006020820190508181036000830152614aff8161458f565b9050919050565b60006040820190508181036000830152614b1f8161458f565b9050614b2e602083018461432b565b92915050565b60006020820190508181036000830152614b4d816145c6565b9050919050565b60006020820190508181036000830152614b6d816145fd565b9050919050565b60006040820190508181036000830152614b8d816145fd565b90508181036020830152614ba1818461442f565b905092915050565b60006020820190508181036000830152614bc281614634565b9050919050565b60006040820190508181036000830152614be281614634565b90508181036020830152614bf6818461442f565b905092915050565b60006020820190508181036000830152614c178161466b565b9050919050565b60006020820190508181036000830152614c37816146a2565b9050919050565b60006040820190508181036000830152614c57816146a2565b90508181036020830152614c6b818461442f565b905092915050565b60006020820190508181036000830152614c8c816146d9565b9050919050565b60006040820190508181036000830152614cac816146d9565b9050614cbb602083018461432b565b92915050565b60006020820190508181036000830152614cda81614710565b9050919050565b60006040820190508181036000830152614cfa81614747565b90508181036020830152614d0e818461442f565b905092915050565b60006020820190508181036000830152614d2f8161477e565b9050919050565b60006040820190508181036000830152614d4f8161477e565b90508181036020830152614d63818461442f565b905092915050565b60006020820190508181036000830152614d84816147b5565b9050919050565b60006020820190508181036000830152614da4816147ec565b9050919050565b60006040820190508181036000830152614dc4816147ec565b9050614dd36020830184614420565b92915050565b60006020820190508181036000830152614df281614823565b9050919050565b60006040820190508181036000830152614e1281614823565b9050614e216020830184614420565b92915050565b60006020820190508181036000830152614e408161485a565b9050919050565b60006040820190508181036000830152614e608161485a565b9050614e6f602083018461432b565b92915050565b60006020820190508181036000830152614e8e81614891565b9050919050565b60006020820190508181036000830152614eae816148c8565b9050919050565b60006040820190508181036000830152614ece816148c8565b90508181036020830152614ee2818461442f565b905092915050565b60006020820190508181036000830152614f03816148ff565b9050919050565b60006040820190508181036000830152614f23816148ff565b90508181036020830152614f378184614465565b905092915050565b6000602082019050614f546000830184614936565b92915050565b600060a082019050614f6f6000830188614936565b614f7c6020830187614936565b614f89604083018661432b565b614f96606083018561432b565b614fa3","6080830184614936565b9695505050505050565b6000604051905081810181811067ffffffffffffffff82111715614fd057600080fd5b8060405250919050565b600067ffffffffffffffff821115614ff157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561501957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561504157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561506957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561509157600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156150bd57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60006151ac82615141565b9050919050565b60006151be82615141565b9050919050565b60006151d082615141565b9050919050565b60006151e282615141565b9050919050565b6000819050919050565b6000819050919050565b600061520882615141565b9050919050565b600061521a82615141565b9050919050565b82818337600083830152505050565b60005b8381101561524e578082015181840152602081019050615233565b8381111561525d576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a7230582003c2e7cb83883961226bfdc6711ff4bbe7751e70ba9fa27105eaaf9f63319d276c6578706572696d656e74616cf50037"};
 
     public static final String SM_BINARY = String.join("", SM_BINARY_ARRAY);
 
-    public static final String[] ABI_ARRAY = {"[{\"constant\":true,\"inputs\":[],\"name\":\"ROLE_R\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPENING_BANK\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ROLE_W\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"DATA\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[],\"name\":\"updateNonce\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OWNER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"BALANCE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"amount\",\"type\":\"uint256\"},{\"name\":\"typeList\",\"type\":\"int256[]\"},{\"name\":\"detailList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"deposit\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[2]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"insert\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"RECORD\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"uintCondition\",\"type\":\"uint256[]\"},{\"name\":\"addressCondition\",\"type\":\"address[]\"},{\"name\":\"limit\",\"type\":\"int256[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"queryBook\",\"outputs\":[{\"name\":\"\",\"type\":\"string[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"PUB_KEY\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADMIN\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"rate\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"MODE_R\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAddress\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_ADMIN\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_OWNER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"add\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"addBook\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getOrg\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"MODE_W\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"}],\"name\":\"remove\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OWNER_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ASSETS\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"USER_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"priceVal\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"setPrice\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"removeWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"rateVal\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"setRate\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"USER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getWithSign\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"amount\",\"type\":\"uint256\"},{\"name\":\"typeList\",\"type\":\"int256[]\"},{\"name\":\"detailList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"withdrawal\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[2]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"size\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPERATOR\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"amount\",\"type\":\"uint256\"},{\"name\":\"typeList\",\"type\":\"int256[]\"},{\"name\":\"detailList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"transfer\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[2]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ROLE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"price\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getBalance\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"set\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"addWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADMIN_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getTotalBalance\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAccountManager\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ID\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADDR\",\"output","s\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_PUBLIC\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPERATOR_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAuthCenter\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAuthManager\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"insertWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"}],\"name\":\"checkAndHandleTransactionAddress\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"address[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getNonce\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"}],\"name\":\"get\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getHolders\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"setWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"openAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"KEY_ALL\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"inputs\":[{\"name\":\"tableName\",\"type\":\"string\"},{\"name\":\"authCenterAddr\",\"type\":\"address\"},{\"name\":\"orgAddr\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"constructor\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"_from\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"_to\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"Transfer\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"account\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"Deposit\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"account\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"WithDrawal\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"termNo\",\"type\":\"uint256\"},{\"indexed\":false,\"name\":\"seqNo\",\"type\":\"uint256\"},{\"indexed\":false,\"name\":\"from\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"to\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"InsertResult\",\"type\":\"event\"}]"};
+    public static final String[] ABI_ARRAY = {"[{\"constant\":true,\"inputs\":[],\"name\":\"ROLE_R\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPENING_BANK\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ROLE_W\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"DATA\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[],\"name\":\"updateNonce\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OWNER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"BALANCE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"amount\",\"type\":\"uint256\"},{\"name\":\"typeList\",\"type\":\"int256[]\"},{\"name\":\"detailList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"deposit\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[2]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"insert\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"RECORD\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"uintCondition\",\"type\":\"uint256[]\"},{\"name\":\"addressCondition\",\"type\":\"address[]\"},{\"name\":\"limit\",\"type\":\"int256[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"queryBook\",\"outputs\":[{\"name\":\"\",\"type\":\"string[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"PUB_KEY\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADMIN\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"rate\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"MODE_R\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAddress\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_ADMIN\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_OWNER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"amounts\",\"type\":\"uint256[]\"},{\"name\":\"typeList\",\"type\":\"int256[]\"},{\"name\":\"detailList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"batchTransfer\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"add\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"addBook\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getOrg\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"amounts\",\"type\":\"uint256[]\"},{\"name\":\"typeList\",\"type\":\"int256[]\"},{\"name\":\"detailList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"batchDeposit\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"MODE_W\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"}],\"name\":\"remove\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OWNER_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ASSETS\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"USER_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"priceVal\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"setPrice\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"removeWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"rateVal\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"setRate\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"USER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getWithSign\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"amount\",\"type\":\"uint256\"},{\"name\":\"typeList\",\"type\":\"int256[]\"},{\"name\":\"detailList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"withdrawal\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[2]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"size\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPERATOR\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"amount\",\"type\":\"uint256\"},{\"name\":\"typeList\",\"type\":\"int256[]\"},{\"name\":\"detailList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"transfer\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[2]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ROLE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"price\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getBalance\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"set\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"addWithSign\",\"outputs\":[{\"name\":\"repl","aced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADMIN_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getTotalBalance\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAccountManager\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ID\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"start\",\"type\":\"uint256\"},{\"name\":\"num\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getHoldersByIndex\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_PUBLIC\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPERATOR_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAuthCenter\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAuthManager\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"insertWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"}],\"name\":\"checkAndHandleTransactionAddress\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"address[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"auditTotalBalance\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getNonce\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"}],\"name\":\"get\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getHolders\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"setWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"amounts\",\"type\":\"uint256[]\"},{\"name\":\"typeList\",\"type\":\"int256[]\"},{\"name\":\"detailList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"batchWithdrawal\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"openAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"KEY_ALL\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"inputs\":[{\"name\":\"tableName\",\"type\":\"string\"},{\"name\":\"authCenterAddr\",\"type\":\"address\"},{\"name\":\"orgAddr\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"constructor\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"_from\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"_to\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"Transfer\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"account\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"Deposit\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"account\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"WithDrawal\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"termNo\",\"type\":\"uint256\"},{\"indexed\":false,\"name\":\"seqNo\",\"type\":\"uint256\"},{\"indexed\":false,\"name\":\"from\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"to\",\"type\":\"address\"},{\"indexed\":false,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"InsertResult\",\"type\":\"event\"}]"};
 
     public static final String ABI = String.join("", ABI_ARRAY);
 
@@ -88,12 +88,16 @@ public class FungibleAsset extends Contract implements BaseAsset {
 
     public static final String FUNC_TYPE_OWNER = "TYPE_OWNER";
 
+    public static final String FUNC_BATCHTRANSFER = "batchTransfer";
+
     public static final String FUNC_ADD = "add";
 
     public static final String FUNC_ADDBOOK = "addBook";
 
     public static final String FUNC_GETORG = "getOrg";
 
+    public static final String FUNC_BATCHDEPOSIT = "batchDeposit";
+
     public static final String FUNC_MODE_W = "MODE_W";
 
     public static final String FUNC_REMOVE = "remove";
@@ -142,6 +146,8 @@ public class FungibleAsset extends Contract implements BaseAsset {
 
     public static final String FUNC_ADDR = "ADDR";
 
+    public static final String FUNC_GETHOLDERSBYINDEX = "getHoldersByIndex";
+
     public static final String FUNC_TYPE_PUBLIC = "TYPE_PUBLIC";
 
     public static final String FUNC_OPERATOR_ADDR = "OPERATOR_ADDR";
@@ -156,6 +162,8 @@ public class FungibleAsset extends Contract implements BaseAsset {
 
     public static final String FUNC_CHECKANDHANDLETRANSACTIONADDRESS = "checkAndHandleTransactionAddress";
 
+    public static final String FUNC_AUDITTOTALBALANCE = "auditTotalBalance";
+
     public static final String FUNC_GETNONCE = "getNonce";
 
     public static final String FUNC_GET = "get";
@@ -164,6 +172,8 @@ public class FungibleAsset extends Contract implements BaseAsset {
 
     public static final String FUNC_SETWITHSIGN = "setWithSign";
 
+    public static final String FUNC_BATCHWITHDRAWAL = "batchWithdrawal";
+
     public static final String FUNC_OPENACCOUNT = "openAccount";
 
     public static final String FUNC_KEY_ALL = "KEY_ALL";
@@ -470,6 +480,86 @@ public class FungibleAsset extends Contract implements BaseAsset {
         return executeCallWithSingleValueReturn(function, byte[].class);
     }
 
+    public TransactionReceipt batchTransfer(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign) {
+        final Function function = new Function(
+                FUNC_BATCHTRANSFER, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                amounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, Uint256.class)),
+                typeList.isEmpty()? DynamicArray.empty("int256[]"):new DynamicArray<Int256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(typeList, Int256.class)),
+                detailList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(detailList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void batchTransfer(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_BATCHTRANSFER, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                amounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, Uint256.class)),
+                typeList.isEmpty()? DynamicArray.empty("int256[]"):new DynamicArray<Int256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(typeList, Int256.class)),
+                detailList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(detailList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForBatchTransfer(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign) {
+        final Function function = new Function(
+                FUNC_BATCHTRANSFER, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                amounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, Uint256.class)),
+                typeList.isEmpty()? DynamicArray.empty("int256[]"):new DynamicArray<Int256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(typeList, Int256.class)),
+                detailList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(detailList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>> getBatchTransferInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_BATCHTRANSFER, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Address>>() {}, new TypeReference<DynamicArray<Uint256>>() {}, new TypeReference<DynamicArray<Int256>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<StaticArray4<Bytes32>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>>(
+
+                convertToNative((List<Address>) results.get(0).getValue()), 
+                convertToNative((List<Uint256>) results.get(1).getValue()), 
+                convertToNative((List<Int256>) results.get(2).getValue()), 
+                convertToNative((List<Utf8String>) results.get(3).getValue()), 
+                convertToNative((List<Bytes32>) results.get(4).getValue())
+                );
+    }
+
+    public Tuple2<Boolean, List<BigInteger>> getBatchTransferOutput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getOutput();
+        final Function function = new Function(FUNC_BATCHTRANSFER, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Bool>() {}, new TypeReference<DynamicArray<Uint256>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple2<Boolean, List<BigInteger>>(
+
+                (Boolean) results.get(0).getValue(), 
+                convertToNative((List<Uint256>) results.get(1).getValue())
+                );
+    }
+
     public TransactionReceipt add(byte[] key, byte[] value) {
         final Function function = new Function(
                 FUNC_ADD, 
@@ -580,6 +670,86 @@ public class FungibleAsset extends Contract implements BaseAsset {
         return executeCallWithSingleValueReturn(function, String.class);
     }
 
+    public TransactionReceipt batchDeposit(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign) {
+        final Function function = new Function(
+                FUNC_BATCHDEPOSIT, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                amounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, Uint256.class)),
+                typeList.isEmpty()? DynamicArray.empty("int256[]"):new DynamicArray<Int256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(typeList, Int256.class)),
+                detailList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(detailList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void batchDeposit(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_BATCHDEPOSIT, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                amounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, Uint256.class)),
+                typeList.isEmpty()? DynamicArray.empty("int256[]"):new DynamicArray<Int256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(typeList, Int256.class)),
+                detailList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(detailList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForBatchDeposit(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign) {
+        final Function function = new Function(
+                FUNC_BATCHDEPOSIT, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                amounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, Uint256.class)),
+                typeList.isEmpty()? DynamicArray.empty("int256[]"):new DynamicArray<Int256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(typeList, Int256.class)),
+                detailList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(detailList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>> getBatchDepositInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_BATCHDEPOSIT, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Address>>() {}, new TypeReference<DynamicArray<Uint256>>() {}, new TypeReference<DynamicArray<Int256>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<StaticArray4<Bytes32>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>>(
+
+                convertToNative((List<Address>) results.get(0).getValue()), 
+                convertToNative((List<Uint256>) results.get(1).getValue()), 
+                convertToNative((List<Int256>) results.get(2).getValue()), 
+                convertToNative((List<Utf8String>) results.get(3).getValue()), 
+                convertToNative((List<Bytes32>) results.get(4).getValue())
+                );
+    }
+
+    public Tuple2<Boolean, List<BigInteger>> getBatchDepositOutput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getOutput();
+        final Function function = new Function(FUNC_BATCHDEPOSIT, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Bool>() {}, new TypeReference<DynamicArray<Uint256>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple2<Boolean, List<BigInteger>>(
+
+                (Boolean) results.get(0).getValue(), 
+                convertToNative((List<Uint256>) results.get(1).getValue())
+                );
+    }
+
     public byte[] MODE_W() throws ContractException {
         final Function function = new Function(FUNC_MODE_W, 
                 Arrays.<Type>asList(), 
@@ -1175,6 +1345,19 @@ public class FungibleAsset extends Contract implements BaseAsset {
         return executeCallWithSingleValueReturn(function, byte[].class);
     }
 
+    public Tuple2<List<String>, BigInteger> getHoldersByIndex(BigInteger start, BigInteger num, List<byte[]> sign) throws ContractException {
+        final Function function = new Function(FUNC_GETHOLDERSBYINDEX, 
+                Arrays.<Type>asList(new Uint256(start),
+                new Uint256(num),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Address>>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = executeCallWithMultipleValueReturn(function);
+        return new Tuple2<List<String>, BigInteger>(
+                convertToNative((List<Address>) results.get(0).getValue()), 
+                (BigInteger) results.get(1).getValue());
+    }
+
     public byte[] TYPE_PUBLIC() throws ContractException {
         final Function function = new Function(FUNC_TYPE_PUBLIC, 
                 Arrays.<Type>asList(), 
@@ -1321,6 +1504,17 @@ public class FungibleAsset extends Contract implements BaseAsset {
                 );
     }
 
+    public Tuple2<BigInteger, BigInteger> auditTotalBalance(List<byte[]> sign) throws ContractException {
+        final Function function = new Function(FUNC_AUDITTOTALBALANCE, 
+                Arrays.<Type>asList(new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Arrays.<TypeReference<?>>asList(new TypeReference<Uint256>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = executeCallWithMultipleValueReturn(function);
+        return new Tuple2<BigInteger, BigInteger>(
+                (BigInteger) results.get(0).getValue(), 
+                (BigInteger) results.get(1).getValue());
+    }
+
     public BigInteger getNonce() throws ContractException {
         final Function function = new Function(FUNC_GETNONCE, 
                 Arrays.<Type>asList(), 
@@ -1403,6 +1597,86 @@ public class FungibleAsset extends Contract implements BaseAsset {
                 );
     }
 
+    public TransactionReceipt batchWithdrawal(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign) {
+        final Function function = new Function(
+                FUNC_BATCHWITHDRAWAL, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                amounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, Uint256.class)),
+                typeList.isEmpty()? DynamicArray.empty("int256[]"):new DynamicArray<Int256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(typeList, Int256.class)),
+                detailList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(detailList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void batchWithdrawal(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_BATCHWITHDRAWAL, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                amounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, Uint256.class)),
+                typeList.isEmpty()? DynamicArray.empty("int256[]"):new DynamicArray<Int256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(typeList, Int256.class)),
+                detailList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(detailList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForBatchWithdrawal(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign) {
+        final Function function = new Function(
+                FUNC_BATCHWITHDRAWAL, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                amounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, Uint256.class)),
+                typeList.isEmpty()? DynamicArray.empty("int256[]"):new DynamicArray<Int256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(typeList, Int256.class)),
+                detailList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(detailList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>> getBatchWithdrawalInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_BATCHWITHDRAWAL, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Address>>() {}, new TypeReference<DynamicArray<Uint256>>() {}, new TypeReference<DynamicArray<Int256>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<StaticArray4<Bytes32>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>>(
+
+                convertToNative((List<Address>) results.get(0).getValue()), 
+                convertToNative((List<Uint256>) results.get(1).getValue()), 
+                convertToNative((List<Int256>) results.get(2).getValue()), 
+                convertToNative((List<Utf8String>) results.get(3).getValue()), 
+                convertToNative((List<Bytes32>) results.get(4).getValue())
+                );
+    }
+
+    public Tuple2<Boolean, List<BigInteger>> getBatchWithdrawalOutput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getOutput();
+        final Function function = new Function(FUNC_BATCHWITHDRAWAL, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Bool>() {}, new TypeReference<DynamicArray<Uint256>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple2<Boolean, List<BigInteger>>(
+
+                (Boolean) results.get(0).getValue(), 
+                convertToNative((List<Uint256>) results.get(1).getValue())
+                );
+    }
+
     public TransactionReceipt openAccount(String account, List<byte[]> sign) {
         final Function function = new Function(
                 FUNC_OPENACCOUNT, 
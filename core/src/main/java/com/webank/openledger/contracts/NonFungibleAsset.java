@@ -41,15 +41,15 @@ import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 
 @SuppressWarnings("unchecked")
 public class NonFungibleAsset extends Contract implements BaseIdentity {
-    public static final String[] BINARY_ARRAY = {"60806040526040805190810160405280600681526020017f7075626c69630000000000000000000000000000000000000000000000000000815250600090805190602001906300000053929190630000147d565b506040805190810160405280600581526020017f6f776e65720000000000000000000000000000000000000000000000000000008152506001908051906020019063000000a3929190630000147d565b506040805190810160405280600581526020017f61646d696e0000000000000000000000000000000000000000000000000000008152506002908051906020019063000000f3929190630000147d565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906300000143929190630000147d565b506040805190810160405280600281526020017f5f77000000000000000000000000000000000000000000000000000000000000815250600490805190602001906300000193929190630000147d565b506040805190810160405280600381526020017f616c6c00000000000000000000000000000000000000000000000000000000008152506005908051906020019063000001e3929190630000147d565b506040805190810160405280600281526020017f6964000000000000000000000000000000000000000000000000000000000000815250600690805190602001906300000233929190630000147d565b506040805190810160405280600481526020017f6164647200000000000000000000000000000000000000000000000000000000815250600790805190602001906300000283929190630000147d565b506040805190810160405280600481526020017f74797065000000000000000000000000000000000000000000000000000000008152506008908051906020019063000002d3929190630000147d565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906300000323929190630000147d565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906300000373929190630000147d565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b908051906020019063000003c3929190630000147d565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c90805190602001906300000413929190630000147d565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d90805190602001906300000463929190630000147d565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e908051906020019063000004b3929190630000147d565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f90805190602001906300000503929190630000147d565b506040805190810160405280600781526020017f62616c616e636500000000000000000000000000000000000000000000000000815250601090805190602001906300000553929190630000147d565b506040805190810160405280600681526020017f7265636f726400000000000000000000000000000000000000000000000000008152506011908051906020019063000005a3929190630000147d565b506040805190810160405280600581526020017f61646d696e0000000000000000000000000000000000000000000000000000008152506012908051906020019063000005f3929190630000147d565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906300000643929190630000147d565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250601490805190602001906300000693929190630000147d565b506040805190810160405280600481526020017f75736572000000000000000000000000000000000000000000000000000000008152506015908051906020019063000006e3929190630000147d565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015630000080257600080fd5b50604051630001a5d1380380630001a5d18339810180604052630000082c91908101906300001770565b8383606063000008683073ffffffffffffffffffffffffffffffffffffffff16630000100964010000000002630000ea16176401000000009004565b9050630000093560068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015630000090d5780601f1063000008e057610100808354040283529160200191630000090d565b820191906000526020600020905b81548152906001019060200180831163000008ee57829003601f168201915b505050505082601b63000010f264010000000002630000c8f617909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801563000009ff57600080fd5b505af11580156300000a15573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000a3d91908101906300001741565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156300000b0557600080fd5b505af11580156300000b1b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000b4391908101906300001741565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff161415156300000c035781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506300000c45565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b505050600085511180156300000c5c575060408551105b15156300000ca3576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016300000c9a906300001aee565b60405180910390fd5b80602360006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081156300000ee7578273ffffffffffffffffffffffffffffffffffffffff1663af0680206040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156300000d5257600080fd5b505af11580156300000d68573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000d9091908101906300001741565b85846300000d9e630000150b565b6300000dae939291906300001a7e565b604051809103906000f0801580156300000dcc573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166319ab453c602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016300000eaa919063000019e3565b600060405180830381600087803b1580156300000ec657600080fd5b505af11580156300000edc573d6000803e3d6000fd5b505050506300000ffd565b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c37a8361866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016300000f6291906300001ac8565b602060405180830381600087803b1580156300000f7e57600080fd5b505af11580156300000f94573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000fbc91908101906300001741565b602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050","5050506300001c38565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801563000010565781602001602082028038833980820191505090505b509250600090505b601481101563000010eb578181601481101515630000107957fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151563000010ac57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050630000105e565b5050919050565b60008084600001846040518082805190602001908083835b60208310151563000011335780518252602082019150602081019050602083039250630000110a565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111563000012fa577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b602083101515630000120f578051825260208201915060208101905060208303925063000011e6565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051630000125a9594939291906300001a02565b60405180910390a18285600001856040518082805190602001908083835b60208310151563000012a157805182526020820191506020810190506020830392506300001278565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101908051906020019063000012ee929190630000151d565b50600191506300001475565b8285600001856040518082805190602001908083835b602083101515630000133957805182526020820191506020810190506020830392506300001310565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906300001386929190630000151d565b5084600101805480919060010163000013a1919063000015ab565b90506001810185600001856040518082805190602001908083835b60208310151563000013e5578051825260208201915060208101905060208303925063000013bc565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515630000143357fe5b90600052602060002090600202016000019080519060200190630000145b929190630000151d565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f1063000014c257805160ff191683800117855563000014f6565b8280016001018555821563000014f6579182015b8281111563000014f557825182559160200191906001019063000014d6565b5b5090506300001507919063000015e3565b5090565b6040516157e2806300014def83390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10630000156257805160ff19168380011785556300001596565b828001600101855582156300001596579182015b8281111563000015955782518255916020019190600101906300001576565b5b50905063000015a7919063000015e3565b5090565b81548183558181111563000015de5760020281600202836000526020600020918201910163000015dd9190630000160e565b5b505050565b630000160b91905b80821115630000160757600081600090555060010163000015eb565b5090565b90565b630000165891905b808211156300001654576000808201600063000016359190630000165b565b6001820160006101000a81549060ff0219169055506002016300001616565b5090565b90565b50805460018160011615610100020316600290046000825580601f106300001685575063000016a8565b601f01602090049060005260206000209081019063000016a7919063000015e3565b5b50565b600063000016bb82516300001bc2565b905092915050565b600063000016d382516300001be2565b905092915050565b600082601f830112151563000016f057600080fd5b8151630000170b6300001704826300001b41565b6300001b12565b91508082526020830160208301858383011115630000172957600080fd5b63000017388382846300001bee565b50505092915050565b600060208284031215630000175557600080fd5b600063000017678482850163000016ab565b91505092915050565b600080600080600060a08688031215630000178a57600080fd5b600086015167ffffffffffffffff81111563000017a657600080fd5b63000017b68882890163000016db565b955050602063000017cb8882890163000016ab565b945050604063000017e08882890163000016ab565b935050606063000017f58882890163000016c3565b9250506080630000180a8882890163000016ab565b9150509295509295909350565b6300001824816300001ba2565b82525050565b60006300001839826300001b8c565b80845263000018518160208601602086016300001bee565b630000185e816300001c27565b602085010191505092915050565b6000630000187b826300001b81565b80845263000018938160208601602086016300001bee565b63000018a0816300001c27565b602085010191505092915050565b60008154600181166000811463000018d1576001811463000018f357630000193c565b607f600283041680865260ff198316602087015260408601935050630000193c565b60028204808652602086019550630000190d856300001b6f565b60005b828110156300001933578154818901526001820191506020810190506300001910565b80880195505050505b505092915050565b60006300001953826300001b97565b808452630000196b8160208601602086016300001bee565b6300001978816300001c27565b602085010191505092915050565b6000602e82527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634200000000000000000000000000000000000006040830152606082019050919050565b600060208201905063000019fc60008301846300001817565b92915050565b600060a0820190506300001a1b60008301886300001817565b6300001a2c60208301876300001817565b81810360408301526300001a428186630000186c565b905081810360608301526300001a5a8185630000182a565b905081810360808301526300001a72818463000018ae565b90509695505050505050565b60006060820190506300001a9760008301866300001817565b81810360208301526300001aad81856300001944565b90506300001ac060408301846300001817565b949350505050565b600060208201905081810360008301526300001ae681846300001944565b905092915050565b600060208201905081810360008301526300001b0b816300001986565b9050919050565b6000604051905081810181811067ffffffffffffffff821117156300001b3757600080fd5b8060405250919050565b600067ffffffffffffffff8211156300001b5a57600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b60005b838110156300001c105780820151818401526020810190506300001bf1565b838111156300001c21576000848401525b50505050565b6000601f19601f8301169050919050565b620131a5806300001c4a6000396000f30060806040526004361062000373576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806301db8d89146200037857806303ba71eb14620003a8578063081f933914620003d85780630c0fd88614620004085780630feca68a1462000438578063117803e314620004685780631560e1ca146200049857806315e9977e14620004de57806319fc05e9146200050e57806320ba5b60146200055257806323a772bd146200059657806326bca08914620005c6578063283d26ca146200060a5780632a0acc6a146200063a5780632ef8cb1c146200066a57806339151753146200069a5780633a0e617414620006ca5780633b007d8e14620006fa5780633ef26893146200073e578063403c6cfa14620007825780634e55d03c14620007c65780635262e2a1146200080a57806357872d13146200083a57806358edef4c146200086a5780635f27043914620008ae578063632e1dfe14620008dc578063699cc7f1146200090c5780636adc4165146200093c5780636c906a5c146200096c5780636cf1c3ee146200099c578063713aadf814620009e05780637bdd20b21462000a245780637e4755151462000a6857806381e167cf1462000aac5780638662acad1462000adc578063882fa75d1462000b2057806392ad4c561462000b64578063949d225d1462000ba8578063983d27371462000bd85780639d53fe2b1462000c085780639d6f46bc1462000c385780639e3ebd3b1462000c7c578063a18c751e1462000cc1578063abacd0681462000d05578063ac44522e1462000d49578063b11569f51462000d8d578063b3032be81462000dbd578063b3cea2171462000ded578063b4eb5ede1462000e1d578063b85a29011462000e4d578063bb1239c31462000e7d578063bb24fe8a1462000ead578063bdaa60191462000edd578063be26ff7c1462000f21578063c044eb361462000f66578063c1fc1fba1462000faa578063c28304aa1462000ff1578063c55fc52d1462001021578063cb6163ad1462001051578063d087d2881462001095578063d55edd6514620010c5578063d6d7d525146200110a578063e077fef9146200114e578063e8c2553a1462001192578063ee58350614620011d6578063ef966c89146200121a578063f02b8c8c146200125e578063f307b32c14620012a2578063fea5e8b214620012d2575b600080fd5b3480156200038557600080fd5b506200039062001317565b6040516200039f91906201229e565b60405180910390f35b348015620003b557600080fd5b","50620003c0620013b9565b604051620003cf91906201229e565b60405180910390f35b348015620003e557600080fd5b50620003f06200145b565b604051620003ff91906201229e565b60405180910390f35b3480156200041557600080fd5b5062000420620014fd565b6040516200042f91906201229e565b60405180910390f35b3480156200044557600080fd5b50620004506200159f565b6040516200045f919062012ab2565b60405180910390f35b3480156200047557600080fd5b5062000480620015c7565b6040516200048f91906201229e565b60405180910390f35b348015620004a557600080fd5b50620004c46004803603620004be91908101906200f7a0565b62001669565b604051620004d59392919062012b47565b60405180910390f35b348015620004eb57600080fd5b50620004f662001991565b6040516200050591906201229e565b60405180910390f35b3480156200051b57600080fd5b506200053a60048036036200053491908101906200fd4d565b62001a33565b6040516200054991906201224d565b60405180910390f35b3480156200055f57600080fd5b506200057e60048036036200057891908101906200fbfa565b620021f3565b6040516200058d91906201224d565b60405180910390f35b348015620005a357600080fd5b50620005ae62002402565b604051620005bd91906201229e565b60405180910390f35b348015620005d357600080fd5b50620005f26004803603620005ec91908101906200fa37565b620024a4565b604051620006019190620121b3565b60405180910390f35b3480156200061757600080fd5b506200062262003168565b6040516200063191906201229e565b60405180910390f35b3480156200064757600080fd5b50620006526200320a565b6040516200066191906201229e565b60405180910390f35b3480156200067757600080fd5b5062000682620032ac565b6040516200069191906201229e565b60405180910390f35b348015620006a757600080fd5b50620006b26200334e565b604051620006c191906201229e565b60405180910390f35b348015620006d757600080fd5b50620006e2620033f0565b604051620006f191906201229e565b60405180910390f35b3480156200070757600080fd5b506200072660048036036200072091908101906200fbfa565b62003492565b6040516200073591906201224d565b60405180910390f35b3480156200074b57600080fd5b506200076a60048036036200076491908101906200f581565b620036a1565b604051620007799190620121d7565b60405180910390f35b3480156200078f57600080fd5b50620007ae6004803603620007a891908101906200f90e565b62003991565b604051620007bd919062012ab2565b60405180910390f35b348015620007d357600080fd5b50620007f26004803603620007ec91908101906200f659565b62003cba565b604051620008019190620121d7565b60405180910390f35b3480156200081757600080fd5b50620008226200422c565b604051620008319190620116d3565b60405180910390f35b3480156200084757600080fd5b506200085262004256565b6040516200086191906201229e565b60405180910390f35b3480156200087757600080fd5b506200089660048036036200089091908101906200fb5b565b620042f8565b604051620008a591906201224d565b60405180910390f35b348015620008bb57600080fd5b50620008da6004803603620008d491908101906200fda3565b62004504565b005b348015620008e957600080fd5b50620008f462004803565b604051620009039190620116d3565b60405180910390f35b3480156200091957600080fd5b506200092462004829565b6040516200093391906201229e565b60405180910390f35b3480156200094957600080fd5b5062000954620048cb565b604051620009639190620116d3565b60405180910390f35b3480156200097957600080fd5b5062000984620048f1565b60405162000993919062012ab2565b60405180910390f35b348015620009a957600080fd5b50620009c86004803603620009c291908101906200fe28565b620049ba565b604051620009d7919062012ab2565b60405180910390f35b348015620009ed57600080fd5b5062000a0c600480360362000a0691908101906200ffcb565b62004cb8565b60405162000a1b91906201224d565b60405180910390f35b34801562000a3157600080fd5b5062000a50600480360362000a4a91908101906200fba0565b62004f4e565b60405162000a5f91906201224d565b60405180910390f35b34801562000a7557600080fd5b5062000a94600480360362000a8e91908101906200fe28565b62005184565b60405162000aa391906201224d565b60405180910390f35b34801562000ab957600080fd5b5062000ac4620054d5565b60405162000ad391906201229e565b60405180910390f35b34801562000ae957600080fd5b5062000b08600480360362000b0291908101906200fba0565b62005577565b60405162000b179190620122c2565b60405180910390f35b34801562000b2d57600080fd5b5062000b4c600480360362000b4691908101906200ff5f565b620057ac565b60405162000b5b91906201224d565b60405180910390f35b34801562000b7157600080fd5b5062000b90600480360362000b8a91908101906200f603565b6200620f565b60405162000b9f91906201224d565b60405180910390f35b34801562000bb557600080fd5b5062000bc062006732565b60405162000bcf919062012ab2565b60405180910390f35b34801562000be557600080fd5b5062000bf062006745565b60405162000bff91906201229e565b60405180910390f35b34801562000c1557600080fd5b5062000c20620067e7565b60405162000c2f91906201229e565b60405180910390f35b34801562000c4557600080fd5b5062000c64600480360362000c5e91908101906200f6c5565b62006889565b60405162000c73919062012ab2565b60405180910390f35b34801562000c8957600080fd5b5062000ca8600480360362000ca291908101906200fe69565b62006967565b60405162000cb892919062012178565b60405180910390f35b34801562000cce57600080fd5b5062000ced600480360362000ce791908101906200fbfa565b62006b74565b60405162000cfc91906201224d565b60405180910390f35b34801562000d1257600080fd5b5062000d31600480360362000d2b91908101906200f7a0565b62006d83565b60405162000d409190620120a7565b60405180910390f35b34801562000d5657600080fd5b5062000d75600480360362000d6f91908101906200fc6d565b62007297565b60405162000d8491906201224d565b60405180910390f35b34801562000d9a57600080fd5b5062000da5620074e4565b60405162000db49190620116d3565b60405180910390f35b34801562000dca57600080fd5b5062000dd56200750a565b60405162000de49190620116d3565b60405180910390f35b34801562000dfa57600080fd5b5062000e05620075d3565b60405162000e1491906201229e565b60405180910390f35b34801562000e2a57600080fd5b5062000e3562007675565b60405162000e4491906201229e565b60405180910390f35b34801562000e5a57600080fd5b5062000e6562007717565b60405162000e7491906201229e565b60405180910390f35b34801562000e8a57600080fd5b5062000e95620077b9565b60405162000ea49190620116d3565b60405180910390f35b34801562000eba57600080fd5b5062000ec5620077df565b60405162000ed491906201229e565b60405180910390f35b34801562000eea57600080fd5b5062000f09600480360362000f0391908101906200fd4d565b62007881565b60405162000f18919062012d00565b60405180910390f35b34801562000f2e57600080fd5b5062000f4d600480360362000f4791908101906201004e565b6200811d565b60405162000f5d92919062012b92565b60405180910390f35b34801562000f7357600080fd5b5062000f92600480360362000f8c91908101906200f581565b620082ad565b60405162000fa1919062012ab2565b60405180910390f35b34801562000fb757600080fd5b5062000fd6600480360362000fd091908101906200fd4d565b620087cc565b60405162000fe89493929190620120cb565b60405180910390f35b34801562000ffe57600080fd5b506200100962008c1e565b604051620010189190620116d3565b60405180910390f35b3480156200102e57600080fd5b506200103962008c48565b604051620010489190620116d3565b60405180910390f35b3480156200105e57600080fd5b506200107d60048036036200107791908101906200fc6d565b62008d11565b6040516200108c91906201224d565b60405180910390f35b348015620010a257600080fd5b50620010ad62008f5e565b604051620010bc919062012ab2565b60405180910390f35b348015620010d257600080fd5b50620010f16004803603620010eb91908101906200fd4d565b62008f68565b6040516200110192919062012178565b60405180910390f35b3480156200111757600080fd5b506200113660048036036200113091908101906200fb5b565b6200956a565b604051620011459190620122c2565b60405180910390f35b3480156200115b57600080fd5b506200117a60048036036200117491908101906200f90e565b62009776565b604051620011899190620120a7565b60405180910390f35b3480156200119f57600080fd5b50620011be6004803603620011b891908101906200fc6d565b62009c31565b604051620011cd91906201224d565b60405180910390f35b348015620011e357600080fd5b50620012026004803603620011fc91908101906200fd4d565b62009e7e565b6040516200121191906201224d565b60405180910390f35b3480156200122757600080fd5b506200124660048036036200124091908101906200f581565b6200a824565b6040516200125591906201224d565b60405180910390f35b3480156200126b57600080fd5b506200128a60048036036200128491908101906200fcf5565b6200aff7565b60405162001299919062012ab2565b60405180910390f35b348015620012af57600080fd5b50620012ba6200b0cf565b604051620012c991906201229e565b60405180910390f35b348015620012df57600080fd5b50620012fe6004803603620012f891908101906200f7a0565b6200b171565b6040516200130e9291906201226a565b60405180910390f35b600c8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620013b15780601f106200138557610100808354040283529160200191620013b1565b820191906000526020600020905b8154815290600101906020018083116200139357829003601f168201915b50505050","5081565b600e8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620014535780601f10620014275761010080835404028352916020019162001453565b820191906000526020600020905b8154815290600101906020018083116200143557829003601f168201915b505050505081565b600d8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620014f55780601f10620014c957610100808354040283529160200191620014f5565b820191906000526020600020905b815481529060010190602001808311620014d757829003601f168201915b505050505081565b600b8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620015975780601f106200156b5761010080835404028352916020019162001597565b820191906000526020600020905b8154815290600101906020018083116200157957829003601f168201915b505050505081565b6000620015b960016021546200bb3d90919063ffffffff16565b602181905550602154905090565b60148054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620016615780601f10620016355761010080835404028352916020019162001661565b820191906000526020600020905b8154815290600101906020018083116200164357829003601f168201915b505050505081565b60006060806000806000606080620016838c8c8c6200bb97565b620016918c8c8c8c6200c077565b9b5060019450600193508b6003815181101515620016ab57fe5b906020019060200201519250602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630e4388688c60018151811015156200170557fe5b906020019060200201518d60028151811015156200171f57fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200176492919062012b92565b600060405180830381600087803b1580156200177f57600080fd5b505af115801562001794573d6000803e3d6000fd5b50505050620017f18b6003815181101515620017ac57fe5b906020019060200201518c6004815181101515620017c657fe5b906020019060200201518d6000815181101515620017e057fe5b90602001906020020151866200811d565b80955081965050508a60008151811015156200180957fe5b90602001906020020151604051908082528060200260200182016040528015620018425781602001602082028038833980820191505090505b50915060028b60008151811015156200185757fe5b9060200190602002015102604051908082528060200260200182016040528015620018915781602001602082028038833980820191505090505b509050620018a28c8c87876200c368565b9150620018b1828d8c6200c5b5565b9050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633b606ed78c60008151811015156200190157fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001945919062012ab2565b600060405180830381600087803b1580156200196057600080fd5b505af115801562001975573d6000803e3d6000fd5b5050505083828297509750975050505050509450945094915050565b60108054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562001a2b5780601f10620019ff5761010080835404028352916020019162001a2b565b820191906000526020600020905b81548152906001019060200180831162001a0d57829003601f168201915b505050505081565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001ab79190620116d3565b602060405180830381600087803b15801562001ad257600080fd5b505af115801562001ae7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001b0d91908101906200faee565b151562001b51576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162001b489062012562565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001bca919062012ab2565b602060405180830381600087803b15801562001be557600080fd5b505af115801562001bfa573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001c2091908101906200faee565b151562001c64576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162001c5b9062012364565b60405180910390fd5b62001c8d8962001c7e8c896200c8a090919063ffffffff16565b6200c8c090919063ffffffff16565b9550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001d30949392919062011e95565b6040805180830381600087803b15801562001d4a57600080fd5b505af115801562001d5f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001d8591908101906200f5c2565b8095508196505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001e069190620116d3565b602060405180830381600087803b15801562001e2157600080fd5b505af115801562001e36573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001e5c91908101906200f555565b925083151562001ea3576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162001e9a90620129c4565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16635cfd59318b60056040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001f1f92919062012cd3565b602060405180830381600087803b15801562001f3a57600080fd5b505af115801562001f4f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001f7591908101906200fd21565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166398b233e58b856040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001ff192919062012acf565b602060405180830381600087803b1580156200200c57600080fd5b505af115801562002021573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200204791908101906200fd21565b9150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663748b8c6f8b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620020c2919062012ab2565b600060405180830381600087803b158015620020dd57600080fd5b505af1158015620020f2573d6000803e3d6000fd5b50505050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92a579d60016040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002170919062012323565b600060405180830381600087803b1580156200218b57600080fd5b505af1158015620021a0573d6000803e3d6000fd5b505050507fb2d27e2e92f5b0c643d08adb4b91ca63ced07e12c366c14d111cc851f975e92b8a836005604051620021da9392919062012c96565b60405180910390a1600196505050505050509392505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200230b60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620022f65780601f10620022ca57610100808354040283529160200191620022f6565b820191906000526020600020905b815481529060010190602001808311620022d857829003601f168201915b5050505050896200c8e090919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620023489493929190620116f0565b602060405180830381600087803b1580156200236357600080fd5b505af115801562002378573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200239e91908101906200faee565b1515620023e2576040517f08c379a00000000000000000","00000000000000000000000000000000000000008152600401620023d990620127a4565b60405180910390fd5b620023fa8383601b6200c8f69092919063ffffffff16565b905092915050565b60118054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200249c5780601f1062002470576101008083540402835291602001916200249c565b820191906000526020600020905b8154815290600101906020018083116200247e57829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002553949392919062011d57565b6040805180830381600087803b1580156200256d57600080fd5b505af115801562002582573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620025a891908101906200f5c2565b8097508198505050851515620025f5576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620025ec9062012496565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200266e9190620116d3565b602060405180830381600087803b1580156200268957600080fd5b505af11580156200269e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620026c491908101906200faee565b151562002708576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620026ff9062012562565b60405180910390fd5b60028b511480156200274b57508a60018151811015156200272557fe5b906020019060200201518b60008151811015156200273f57fe5b90602001906020020151125b15156200278f576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620027869062012672565b60405180910390fd5b60008c5111156200280f57600093505b8b518410156200280e578b84815181101515620027b857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff1614156200280057600194506200280e565b83806001019450506200279f565b5b841515620028e957601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634768e049886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620028909190620116d3565b602060405180830381600087803b158015620028ab57600080fd5b505af1158015620028c0573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620028e691908101906200faee565b94505b8415156200292e576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200292590620129e6565b60405180910390fd5b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16636c906a5c6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620029b757600080fd5b505af1158015620029cc573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620029f291908101906200fd21565b141562002a025782985062003158565b60008c5111801562002a5a5750600073ffffffffffffffffffffffffffffffffffffffff168c600081518110151562002a3757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1562002c0d57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d600081518110151562002aae57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002af29190620116d3565b602060405180830381600087803b15801562002b0d57600080fd5b505af115801562002b22573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002b4891908101906200f555565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff161415151562002bbf576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162002bb69062012452565b60405180910390fd5b818c600081518110151562002bd057fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c5111801562002c655750600073ffffffffffffffffffffffffffffffffffffffff168c600181518110151562002c4257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1562002e1857601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d600181518110151562002cb957fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002cfd9190620116d3565b602060405180830381600087803b15801562002d1857600080fd5b505af115801562002d2d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002d5391908101906200f555565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff161415151562002dca576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162002dc1906201280a565b60405180910390fd5b808c600181518110151562002ddb57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60028d5111801562002e44575060008d600281518110151562002e3757fe5b9060200190602002015114155b156200307d57602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58e600281518110151562002e9857fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002edc919062012ab2565b602060405180830381600087803b15801562002ef757600080fd5b505af115801562002f0c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002f3291908101906200faee565b151562002f76576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162002f6d9062012364565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166313c6c77c8e600281518110151562002fc457fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003008919062012ab2565b602060405180830381600087803b1580156200302357600080fd5b505af115801562003038573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200305e91908101906200fd21565b8d60028151811015156200306e57fe5b90602001906020020181815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663521ae5368e8e8e6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620030fa93929190620121fb565b600060405180830381600087803b1580156200311557600080fd5b505af11580156200312a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200315591908101906200f9ad565b98505b5050505050505050949350505050565b600a8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620032025780601f10620031d65761010080835404028352916020019162003202565b820191906000526020600020905b815481529060010190602001808311620031e457829003601f168201915b505050505081565b60128054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620032a45780601f106200327857610100808354040283529160200191620032a4565b820191906000526020600020905b8154815290600101906020018083116200328657829003601f168201915b505050505081565b60038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620033465780601f106200331a5761010080835404028352916020019162003346565b820191906000526020600020905b8154815290600101906020018083116200332857829003601f168201915b505050505081565b60028054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620033e85780601f10620033bc576101008083540402835291602001","91620033e8565b820191906000526020600020905b815481529060010190602001808311620033ca57829003601f168201915b505050505081565b60018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200348a5780601f106200345e576101008083540402835291602001916200348a565b820191906000526020600020905b8154815290600101906020018083116200346c57829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630620035aa60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620035955780601f10620035695761010080835404028352916020019162003595565b820191906000526020600020905b8154815290600101906020018083116200357757829003601f168201915b5050505050896200c8e090919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620035e79493929190620116f0565b602060405180830381600087803b1580156200360257600080fd5b505af115801562003617573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200363d91908101906200faee565b151562003681576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620036789062012a4c565b60405180910390fd5b620036998383601b6200cc6a9092919063ffffffff16565b905092915050565b606060006060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620037239190620116d3565b602060405180830381600087803b1580156200373e57600080fd5b505af115801562003753573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200377991908101906200f555565b9350601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630868a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200381c949392919062011eff565b6040805180830381600087803b1580156200383657600080fd5b505af11580156200384b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200387191908101906200f5c2565b8092508193505050801515620038be576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620038b59062012892565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166352a3a9486040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b1580156200394557600080fd5b505af11580156200395a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200398591908101906200f9f2565b94505050505092915050565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003a39949392919062011a07565b6040805180830381600087803b15801562003a5357600080fd5b505af115801562003a68573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003a8e91908101906200f5c2565b809250819350505080151562003adb576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162003ad290620123ca565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003b549190620116d3565b602060405180830381600087803b15801562003b6f57600080fd5b505af115801562003b84573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003baa91908101906200faee565b151562003bee576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162003be59062012562565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e953d0af6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562003c7557600080fd5b505af115801562003c8a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003cb091908101906200fd21565b9350505050919050565b60606000606060008088601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003d3d9190620116d3565b602060405180830381600087803b15801562003d5857600080fd5b505af115801562003d6d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003d9391908101906200faee565b151562003dd7576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162003dce9062012562565b60405180910390fd5b878910151562003e1e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162003e1590620125ea565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003e979190620116d3565b602060405180830381600087803b15801562003eb257600080fd5b505af115801562003ec7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003eed91908101906200f555565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1687878b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003f9094939291906201188a565b6040805180830381600087803b15801562003faa57600080fd5b505af115801562003fbf573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003fe591908101906200f5c2565b809350819450505081151562004032576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620040299062012a2a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620040ab9190620116d3565b602060405180830381600087803b158015620040c657600080fd5b505af1158015620040db573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200410191908101906200faee565b151562004145576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200413c9062012562565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632a2bebf1868b8b6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620041c2939291906201206a565b600060405180830381600087803b158015620041dd57600080fd5b505af1158015620041f2573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200421d91908101906200f9f2565b95505050505050949350505050565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620042f05780601f10620042c457610100808354040283529160200191620042f0565b820191906000526020600020905b815481529060010190602001808311620042d257829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200441060048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620043fb5780601f10","620043cf57610100808354040283529160200191620043fb565b820191906000526020600020905b815481529060010190602001808311620043dd57829003601f168201915b5050505050886200c8e090919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200444d9493929190620116f0565b602060405180830381600087803b1580156200446857600080fd5b505af11580156200447d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620044a391908101906200faee565b1515620044e7576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620044de90620125c8565b60405180910390fd5b620044fd82601b6200ce6e90919063ffffffff16565b9050919050565b60606000806000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620045849190620116d3565b602060405180830381600087803b1580156200459f57600080fd5b505af1158015620045b4573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620045da91908101906200f555565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168387896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200467d949392919062011820565b6040805180830381600087803b1580156200469757600080fd5b505af1158015620046ac573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620046d291908101906200f5c2565b8093508194505050818015620047b55750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f089836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200475e92919062012acf565b602060405180830381600087803b1580156200477957600080fd5b505af11580156200478e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620047b491908101906200faee565b5b1515620047f9576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620047f09062012386565b60405180910390fd5b5050505050505050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600f8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620048c35780601f106200489757610100808354040283529160200191620048c3565b820191906000526020600020905b815481529060010190602001808311620048a557829003601f168201915b505050505081565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16636c906a5c6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200497a57600080fd5b505af11580156200498f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620049b591908101906200fd21565b905090565b60006060600080620049d686846200c8a090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004a79949392919062011ced565b6040805180830381600087803b15801562004a9357600080fd5b505af115801562004aa8573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004ace91908101906200f5c2565b809250819350505080151562004b1b576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162004b1290620126b6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166391b7f5ed876040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004b94919062012ab2565b602060405180830381600087803b15801562004baf57600080fd5b505af115801562004bc4573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004bea91908101906200faee565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166398d5fdca6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562004c7257600080fd5b505af115801562004c87573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004cad91908101906200fd21565b935050505092915050565b6000606083601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004d369190620116d3565b602060405180830381600087803b15801562004d5157600080fd5b505af115801562004d66573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004d8c91908101906200faee565b151562004dd0576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162004dc79062012562565b60405180910390fd5b62004dda6200d0cd565b8711151562004e20576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162004e17906201271c565b60405180910390fd5b62004e5d8562004e4e8962004e3f8c876200c8a090919063ffffffff16565b6200c8a090919063ffffffff16565b6200c8c090919063ffffffff16565b915062004e6d888387876200d0da565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632ed582958989896040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004eeb9392919062012c0c565b602060405180830381600087803b15801562004f0657600080fd5b505af115801562004f1b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004f4191908101906200faee565b9250505095945050505050565b6000606060008062004f6a86846200c8e090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200508160048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200506c5780601f1062005040576101008083540402835291602001916200506c565b820191906000526020600020905b8154815290600101906020018083116200504e57829003601f168201915b50505050508b6200c8e090919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620050c195949392919062011931565b6040805180830381600087803b158015620050db57600080fd5b505af1158015620050f0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200511691908101906200f5c2565b809250819350505080151562005163576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200515a90620125c8565b60405180910390fd5b6200517986601b6200ce6e90919063ffffffff16565b935050505092915050565b60006060600080620051a086846200c8a090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005243949392919062011fd3565b6040805180830381600087803b1580156200525d57600080fd5b505af115801562005272573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200529891908101906200f5c2565b8092508193505050801515620052e5576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620052dc90620127c6565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200535e9190620116d3565b602060405180830381600087803b1580156200537957600080fd5b505af11580156200538e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620053b491908101906200faee565b15","15620053f8576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620053ef9062012562565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634585550d876040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005471919062012ab2565b602060405180830381600087803b1580156200548c57600080fd5b505af1158015620054a1573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620054c791908101906200faee565b935083935050505092915050565b60158054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200556f5780601f1062005543576101008083540402835291602001916200556f565b820191906000526020600020905b8154815290600101906020018083116200555157829003601f168201915b505050505081565b6060806000806200559286846200c8e090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630620056a960038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620056945780601f10620056685761010080835404028352916020019162005694565b820191906000526020600020905b8154815290600101906020018083116200567657829003601f168201915b50505050508b6200c8e090919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620056e995949392919062011931565b6040805180830381600087803b1580156200570357600080fd5b505af115801562005718573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200573e91908101906200f5c2565b80925081935050508015156200578b576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200578290620126d8565b60405180910390fd5b620057a186601b6200d4f090919063ffffffff16565b935050505092915050565b60006060600080600086601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200582f9190620116d3565b602060405180830381600087803b1580156200584a57600080fd5b505af11580156200585f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200588591908101906200faee565b1515620058c9576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620058c09062012562565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005942919062012ab2565b602060405180830381600087803b1580156200595d57600080fd5b505af115801562005972573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200599891908101906200faee565b1515620059dc576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620059d39062012364565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005a55919062012ab2565b602060405180830381600087803b15801562005a7057600080fd5b505af115801562005a85573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005aab91908101906200faee565b15151562005af0576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162005ae790620124fc565b60405180910390fd5b62005b2d8862005b1e8b62005b0f8e8a6200c8a090919063ffffffff16565b6200c8a090919063ffffffff16565b6200c8c090919063ffffffff16565b9450601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61896040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005ba89190620116d3565b602060405180830381600087803b15801562005bc357600080fd5b505af115801562005bd8573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005bfe91908101906200f555565b9150601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005ca1949392919062011adb565b6040805180830381600087803b15801562005cbb57600080fd5b505af115801562005cd0573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005cf691908101906200f5c2565b809450819550505082801562005dd95750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f08b846040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005d8292919062012acf565b602060405180830381600087803b15801562005d9d57600080fd5b505af115801562005db2573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005dd891908101906200faee565b5b151562005e1d576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162005e14906201260c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005e969190620116d3565b602060405180830381600087803b15801562005eb157600080fd5b505af115801562005ec6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005eec91908101906200faee565b151562005f30576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162005f279062012562565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633ac1fc928c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005fae919062012ab2565b602060405180830381600087803b15801562005fc957600080fd5b505af115801562005fde573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620060049190810190620100ba565b60ff1614158015620060eb5750600560ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633ac1fc928c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200608f919062012ab2565b602060405180830381600087803b158015620060aa57600080fd5b505af1158015620060bf573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620060e59190810190620100ba565b60ff1614155b15156200612f576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200612690620125a6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d8b31d778b8b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620061aa92919062012b92565b602060405180830381600087803b158015620061c557600080fd5b505af1158015620061da573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200620091908101906200faee565b95505050505050949350505050565b60006060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620062929190620116d3565b602060405180830381600087803b158015620062ad57600080fd5b505af1158015620062c2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620062e891908101906200faee565b15156200632c576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620063239062012562565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000","000000028152600401620063cd949392919062011baf565b6040805180830381600087803b158015620063e757600080fd5b505af1158015620063fc573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200642291908101906200f5c2565b80945081955050508215156200646f576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200646690620127e8565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620064e89190620116d3565b602060405180830381600087803b1580156200650357600080fd5b505af115801562006518573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200653e91908101906200faee565b151562006582576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620065799062012562565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620065fb9190620116d3565b602060405180830381600087803b1580156200661657600080fd5b505af11580156200662b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200665191908101906200f555565b9150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634c433cab838a6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620066ce9291906201203d565b602060405180830381600087803b158015620066e957600080fd5b505af1158015620066fe573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200672491908101906200faee565b955050505050509392505050565b600062006740601b6200d609565b905090565b60138054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620067df5780601f10620067b357610100808354040283529160200191620067df565b820191906000526020600020905b815481529060010190602001808311620067c157829003601f168201915b505050505081565b60098054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620068815780601f10620068555761010080835404028352916020019162006881565b820191906000526020600020905b8154815290600101906020018083116200686357829003601f168201915b505050505081565b6000620068a86001830184600a0a86026200bb3d90919063ffffffff16565b9050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166387e6bae186838a8a6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006929949392919062012bbf565b600060405180830381600087803b1580156200694457600080fd5b505af115801562006959573d6000803e3d6000fd5b505050509695505050505050565b60608083601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620069e49190620116d3565b602060405180830381600087803b158015620069ff57600080fd5b505af115801562006a14573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006a3a91908101906200faee565b151562006a7e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162006a759062012562565b60405180910390fd5b62006a8d88888888886200d617565b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630487a1f28989896040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006b0a9392919062012afc565b600060405180830381600087803b15801562006b2557600080fd5b505af115801562006b3a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062006b6591908101906200f93a565b92509250509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062006c8c60048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562006c775780601f1062006c4b5761010080835404028352916020019162006c77565b820191906000526020600020905b81548152906001019060200180831162006c5957829003601f168201915b5050505050896200c8e090919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006cc99493929190620116f0565b602060405180830381600087803b15801562006ce457600080fd5b505af115801562006cf9573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006d1f91908101906200faee565b151562006d63576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162006d5a9062012430565b60405180910390fd5b62006d7b8383601b6200dde79092919063ffffffff16565b905092915050565b606060006060600080600073ffffffffffffffffffffffffffffffffffffffff1689600281518110151562006db457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff161415801562006e295750600073ffffffffffffffffffffffffffffffffffffffff1689600381518110151562006e0657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b151562006e6d576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162006e6490620123ec565b60405180910390fd5b62006e7a8989896200dff0565b925062006e87896200e0e9565b809a50819550505083151562006ed4576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162006ecb906201262e565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166331125ff38a600281518110151562006f2257fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006f669190620116d3565b602060405180830381600087803b15801562006f8157600080fd5b505af115801562006f96573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006fbc91908101906200faee565b151562007000576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162006ff79062012694565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166331125ff38a60038151811015156200704e57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620070929190620116d3565b602060405180830381600087803b158015620070ad57600080fd5b505af1158015620070c2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620070e891908101906200faee565b15156200712c576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620071239062012694565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168b60028151811015156200719d57fe5b90602001906020020151868a6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620071e69493929190620117b6565b6040805180830381600087803b1580156200720057600080fd5b505af115801562007215573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200723b91908101906200f5c2565b809250819350505080151562007288576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200727f90620123a8565b60405180910390fd5b88945050505050949350505050565b60006060600080620072c786620072b889866200c8e090919063ffffffff16565b6200c8e090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630620073de60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620073c95780601f106200739d57610100808354040283529160200191620073c9565b820191906000526020600020905b81548152906001019060","2001808311620073ab57829003601f168201915b50505050508c6200c8e090919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200741e95949392919062011931565b6040805180830381600087803b1580156200743857600080fd5b505af11580156200744d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200747391908101906200f5c2565b8092508193505050801515620074c0576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620074b79062012a4c565b60405180910390fd5b620074d88787601b6200cc6a9092919063ffffffff16565b93505050509392505050565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200759357600080fd5b505af1158015620075a8573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620075ce91908101906200f555565b905090565b60068054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200766d5780601f1062007641576101008083540402835291602001916200766d565b820191906000526020600020905b8154815290600101906020018083116200764f57829003601f168201915b505050505081565b60078054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200770f5780601f10620076e3576101008083540402835291602001916200770f565b820191906000526020600020905b815481529060010190602001808311620076f157829003601f168201915b505050505081565b60008054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620077b15780601f106200778557610100808354040283529160200191620077b1565b820191906000526020600020905b8154815290600101906020018083116200779357829003601f168201915b505050505081565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60088054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620078795780601f106200784d5761010080835404028352916020019162007879565b820191906000526020600020905b8154815290600101906020018083116200785b57829003601f168201915b505050505081565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620079059190620116d3565b602060405180830381600087803b1580156200792057600080fd5b505af115801562007935573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200795b91908101906200faee565b15156200799f576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620079969062012562565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007a18919062012ab2565b602060405180830381600087803b15801562007a3357600080fd5b505af115801562007a48573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007a6e91908101906200faee565b151562007ab2576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162007aa99062012364565b60405180910390fd5b62007adb8962007acc8c896200c8a090919063ffffffff16565b6200c8c090919063ffffffff16565b9550601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007b569190620116d3565b602060405180830381600087803b15801562007b7157600080fd5b505af115801562007b86573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007bac91908101906200f555565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007c4f949392919062011c19565b6040805180830381600087803b15801562007c6957600080fd5b505af115801562007c7e573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007ca491908101906200f5c2565b809550819650505083801562007d875750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f08b856040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007d3092919062012acf565b602060405180830381600087803b15801562007d4b57600080fd5b505af115801562007d60573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007d8691908101906200faee565b5b151562007dcb576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162007dc29062012a08565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26866040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007e449190620116d3565b602060405180830381600087803b15801562007e5f57600080fd5b505af115801562007e74573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007e9a91908101906200faee565b151562007ede576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162007ed59062012562565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633ac1fc928c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007f5c919062012ab2565b602060405180830381600087803b15801562007f7757600080fd5b505af115801562007f8c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007fb29190810190620100ba565b60ff1614151562007ffa576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162007ff1906201293c565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16635cfd59318b60026040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200807692919062012cd3565b602060405180830381600087803b1580156200809157600080fd5b505af1158015620080a6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620080cc91908101906200fd21565b91507fb2d27e2e92f5b0c643d08adb4b91ca63ced07e12c366c14d111cc851f975e92b8a836002604051620081049392919062012c96565b60405180910390a1600296505050505050509392505050565b6000806200812a6200d0cd565b8511151562008170576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162008167906201251e565b60405180910390fd5b6000861115620081cc57620081846200d0cd565b8610151515620081cb576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620081c29062012760565b60405180910390fd5b5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663be26ff7c878787876040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200824b949392919062012c49565b6040805180830381600087803b1580156200826557600080fd5b505af11580156200827a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620082a091908101906200ff1e565b9150915094509492505050565b600080606060008086601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200832f9190620116d3565b602060405180830381600087803b1580156200834a57600080fd5b505af11580156200835f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200838591908101906200faee565b1515620083c9576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401","620083c09062012562565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61896040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620084429190620116d3565b602060405180830381600087803b1580156200845d57600080fd5b505af115801562008472573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200849891908101906200f555565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1687878b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200853b94939291906201188a565b6040805180830381600087803b1580156200855557600080fd5b505af11580156200856a573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200859091908101906200f5c2565b8093508194505050811515620085dd576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620085d49062012a2a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620086569190620116d3565b602060405180830381600087803b1580156200867157600080fd5b505af115801562008686573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620086ac91908101906200faee565b1515620086f0576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620086e79062012562565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631bf77fa7866040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620087699190620116d3565b602060405180830381600087803b1580156200878457600080fd5b505af115801562008799573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620087bf91908101906200fd21565b9550505050505092915050565b60608060606000606080606060006200881d8b8b6040805190810160405280600d81526020017f6765744e6f746544657461696c000000000000000000000000000000000000008152508c62004504565b60026040519080825280602002602001820160405280156200884e5781602001602082028038833980820191505090505b5093506002604051908082528060200260200182016040528015620088825781602001602082028038833980820191505090505b5092506002604051908082528060200260200182016040528015620088b65781602001602082028038833980820191505090505b509150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a965a9418c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008932919062012ab2565b600060405180830381600087803b1580156200894d57600080fd5b505af115801562008962573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200898d91908101906200f857565b80945081955082965083975050505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0856000815181101515620089eb57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008a2f9190620116d3565b602060405180830381600087803b15801562008a4a57600080fd5b505af115801562008a5f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008a8591908101906200f555565b84600081518110151562008a9557fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca085600181518110151562008b1f57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008b639190620116d3565b602060405180830381600087803b15801562008b7e57600080fd5b505af115801562008b93573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008bb991908101906200f555565b84600181518110151562008bc957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508383838397509750975097505050505093509350935093565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562008cd157600080fd5b505af115801562008ce6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008d0c91908101906200f555565b905090565b6000606060008062008d418662008d3289866200c8e090919063ffffffff16565b6200c8e090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062008e5860048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562008e435780601f1062008e175761010080835404028352916020019162008e43565b820191906000526020600020905b81548152906001019060200180831162008e2557829003601f168201915b50505050508c6200c8e090919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008e9895949392919062011931565b6040805180830381600087803b15801562008eb257600080fd5b505af115801562008ec7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008eed91908101906200f5c2565b809250819350505080151562008f3a576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162008f3190620127a4565b60405180910390fd5b62008f528787601b6200c8f69092919063ffffffff16565b93505050509392505050565b6000602154905090565b60608060606000806000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008feb919062012ab2565b602060405180830381600087803b1580156200900657600080fd5b505af11580156200901b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200904191908101906200faee565b151562009085576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200907c9062012364565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61896040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620090fe9190620116d3565b602060405180830381600087803b1580156200911957600080fd5b505af11580156200912e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200915491908101906200f555565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630878b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620091f7949392919062011f69565b6040805180830381600087803b1580156200921157600080fd5b505af115801562009226573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200924c91908101906200f5c2565b80935081945050508180156200932f5750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f08a836040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620092d892919062012acf565b602060405180830381600087803b158015620092f357600080fd5b505af115801562009308573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200932e91908101906200faee565b5b151562009373576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200936a906201282c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c2684604051","8263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620093ec9190620116d3565b602060405180830381600087803b1580156200940757600080fd5b505af11580156200941c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200944291908101906200faee565b151562009486576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200947d9062012562565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166312a7a1368a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620094ff919062012ab2565b600060405180830381600087803b1580156200951a57600080fd5b505af11580156200952f573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200955a91908101906200f93a565b9550955050505050935093915050565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200968260038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200966d5780601f1062009641576101008083540402835291602001916200966d565b820191906000526020600020905b8154815290600101906020018083116200964f57829003601f168201915b5050505050886200c8e090919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620096bf9493929190620116f0565b602060405180830381600087803b158015620096da57600080fd5b505af1158015620096ef573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200971591908101906200faee565b151562009759576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200975090620126d8565b60405180910390fd5b6200976f82601b6200d4f090919063ffffffff16565b9050919050565b6060806000806060806000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200982294939291906201199d565b6040805180830381600087803b1580156200983c57600080fd5b505af115801562009851573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200987791908101906200f5c2565b8095508196505050831515620098c4576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620098bb90620126fa565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200993d9190620116d3565b602060405180830381600087803b1580156200995857600080fd5b505af11580156200996d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200999391908101906200faee565b1515620099d7576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620099ce9062012562565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638a48ac036040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801562009a5e57600080fd5b505af115801562009a73573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062009a9e91908101906200f75b565b9250825160405190808252806020026020018201604052801562009ad15781602001602082028038833980820191505090505b509150600090505b825181101562009c2357601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0848381518110151562009b3057fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009b749190620116d3565b602060405180830381600087803b15801562009b8f57600080fd5b505af115801562009ba4573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009bca91908101906200f555565b828281518110151562009bd957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050808060010191505062009ad9565b819650505050505050919050565b6000606060008062009c618662009c5289866200c8e090919063ffffffff16565b6200c8e090919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062009d7860048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562009d635780601f1062009d375761010080835404028352916020019162009d63565b820191906000526020600020905b81548152906001019060200180831162009d4557829003601f168201915b50505050508c6200c8e090919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009db895949392919062011931565b6040805180830381600087803b15801562009dd257600080fd5b505af115801562009de7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009e0d91908101906200f5c2565b809250819350505080151562009e5a576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162009e519062012430565b60405180910390fd5b62009e728787601b6200dde79092919063ffffffff16565b93505050509392505050565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009f029190620116d3565b602060405180830381600087803b15801562009f1d57600080fd5b505af115801562009f32573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009f5891908101906200faee565b151562009f9c576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162009f939062012562565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a015919062012ab2565b602060405180830381600087803b1580156200a03057600080fd5b505af11580156200a045573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a06b91908101906200faee565b15156200a0af576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200a0a69062012364565b60405180910390fd5b6200a0d8896200a0c98c896200c8a090919063ffffffff16565b6200c8c090919063ffffffff16565b9550601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a1539190620116d3565b602060405180830381600087803b1580156200a16e57600080fd5b505af11580156200a183573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a1a991908101906200f555565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a24c949392919062011b45565b6040805180830381600087803b1580156200a26657600080fd5b505af11580156200a27b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a2a191908101906200f5c2565b80955081965050508380156200a3845750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f08b856040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a32d92919062012acf565b602060405180830381600087803b1580156200a34857600080fd5b505af11580156200a35d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a38391908101906200faee565b5b15156200a3c8576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162","00a3bf9062012584565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a4419190620116d3565b602060405180830381600087803b1580156200a45c57600080fd5b505af11580156200a471573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a49791908101906200faee565b15156200a4db576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200a4d29062012562565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a554919062012ab2565b602060405180830381600087803b1580156200a56f57600080fd5b505af11580156200a584573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a5aa91908101906200faee565b15156200a5ee576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200a5e5906201291a565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fcd8007d8b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a667919062012ab2565b602060405180830381600087803b1580156200a68257600080fd5b505af11580156200a697573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a6bd91908101906200faee565b15156200a701576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200a6f890620124b8565b60405180910390fd5b60019650602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16635cfd59318b60046040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a78192919062012cd3565b602060405180830381600087803b1580156200a79c57600080fd5b505af11580156200a7b1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a7d791908101906200fd21565b91507fb2d27e2e92f5b0c643d08adb4b91ca63ced07e12c366c14d111cc851f975e92b8a8360046040516200a80f9392919062012c96565b60405180910390a15050505050509392505050565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a8a89190620116d3565b602060405180830381600087803b1580156200a8c357600080fd5b505af11580156200a8d8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a8fe91908101906200faee565b15156200a942576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200a9399062012562565b60405180910390fd5b6200a95789876200c8c090919063ffffffff16565b9550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a9fa949392919062011dc1565b6040805180830381600087803b1580156200aa1457600080fd5b505af11580156200aa29573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200aa4f91908101906200f5c2565b80955081965050508315156200aa9c576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200aa9390620128d6565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ab159190620116d3565b602060405180830381600087803b1580156200ab3057600080fd5b505af11580156200ab45573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ab6b91908101906200faee565b15156200abaf576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200aba69062012562565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ac289190620116d3565b602060405180830381600087803b1580156200ac4357600080fd5b505af11580156200ac58573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ac7e91908101906200f555565b9250602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166331125ff3846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200acf99190620116d3565b602060405180830381600087803b1580156200ad1457600080fd5b505af11580156200ad29573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ad4f91908101906200faee565b1515156200ad94576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ad8b906201284e565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fbcbc0f18a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ae0d9190620116d3565b602060405180830381600087803b1580156200ae2857600080fd5b505af11580156200ae3d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ae6391908101906200f555565b91508173ffffffffffffffffffffffffffffffffffffffff166395a0c79630601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660006040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200aee393929190620122e6565b602060405180830381600087803b1580156200aefe57600080fd5b505af11580156200af13573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200af3991908101906200faee565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e89b0e1e846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200afb39190620116d3565b600060405180830381600087803b1580156200afce57600080fd5b505af11580156200afe3573d6000803e3d6000fd5b505050506001965050505050505092915050565b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f02b8c8c836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b072919062012ab2565b602060405180830381600087803b1580156200b08d57600080fd5b505af11580156200b0a2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b0c891908101906200fd21565b9050919050565b60058054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200b1695780601f106200b13d576101008083540402835291602001916200b169565b820191906000526020600020905b8154815290600101906020018083116200b14b57829003601f168201915b505050505081565b60006060806000806000806200b1866200eafa565b6200b1948c8c8c8c62006d83565b9b508a516003026040519080825280602002602001820160405280156200b1ca5781602001602082028038833980820191505090505b509550600093505b8a518410156200b82257602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58c868151811015156200b22957fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b26d919062012ab2565b602060405180830381600087803b1580156200b28857600080fd5b505af11580156200b29d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b2c391908101906200faee565b6200b3786040805190810160405280600f81526020017f20646f65736e27742065786973742100000000000000000000000000000000008152506200b3696200b3248f898151811015156200b31457fe5b906020019060200201516200e368565b6040805190810160405280600781526020017f6e6f74654e6f20000000000000000000000000000000000000000000000000008152506200e4ca90919063ffffffff16565b6200e4ca90919063ffffffff16565b9015156200b3be576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200b3b5919062012340565b","60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a4cbf5f48c868151811015156200b40c57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b450919062012ab2565b602060405180830381600087803b1580156200b46b57600080fd5b505af11580156200b480573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b4a691908101906200faee565b156200b55c6040805190810160405280601181526020017f20686173206265656e20657870697265640000000000000000000000000000008152506200b54d6200b5088f898151811015156200b4f857fe5b906020019060200201516200e368565b6040805190810160405280600781526020017f6e6f74654e6f20000000000000000000000000000000000000000000000000008152506200e4ca90919063ffffffff16565b6200e4ca90919063ffffffff16565b9015156200b5a2576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200b599919062012340565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638bbc4b058c868151811015156200b5f057fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b634919062012ab2565b602060405180830381600087803b1580156200b64f57600080fd5b505af11580156200b664573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b68a91908101906200faee565b15156200b6ce576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200b6c590620124b8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663be8dbea68c868151811015156200b71b57fe5b906020019060200201518e60028151811015156200b73557fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b77a92919062012acf565b602060405180830381600087803b1580156200b79557600080fd5b505af11580156200b7aa573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b7d091908101906200faee565b15156200b814576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200b80b90620124da565b60405180910390fd5b83806001019450506200b1d2565b600091505b8a518210156200bb2757602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663849418848d60028151811015156200b87f57fe5b906020019060200201518e60038151811015156200b89957fe5b906020019060200201518e868151811015156200b8b257fe5b906020019060200201516040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b8f893929190620118f4565b602060405180830381600087803b1580156200b91357600080fd5b505af11580156200b928573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b94e91908101906200fd21565b9250602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166360f95a028d858d6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b9cd939291906201212d565b606060405180830381600087803b1580156200b9e857600080fd5b505af11580156200b9fd573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ba2391908101906200fb1a565b80925081965050508415156200ba70576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ba6790620128f8565b60405180910390fd5b8060006002811015156200ba8057fe5b602002015186836003028151811015156200ba9757fe5b90602001906020020181815250508060016002811015156200bab557fe5b602002015186600184600302018151811015156200bacf57fe5b90602001906020020181815250508a828151811015156200baec57fe5b9060200190602002015186600284600302018151811015156200bb0b57fe5b906020019060200201818152505081806001019250506200b827565b6001869750975050505050505094509492505050565b60008082840190508381101515156200bb8d576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200bb849062012540565b60405180910390fd5b8091505092915050565b600483511480156200bbaa575060058251145b80156200bbb8575060008151115b15156200bbfc576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200bbf3906201273e565b60405180910390fd5b60008260028151811015156200bc0e57fe5b906020019060200201511180156200bc3f5750600a8260028151811015156200bc3357fe5b90602001906020020151105b80156200bc6d57506200bc516200d0cd565b8260048151811015156200bc6157fe5b90602001906020020151115b15156200bcb1576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200bca89062012980565b60405180910390fd5b60008260038151811015156200bcc357fe5b9060200190602002015111156200bdb7576200bcde6200d0cd565b8260038151811015156200bcee57fe5b906020019060200201511115156200bd3d576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200bd34906201240e565b60405180910390fd5b8160038151811015156200bd4d57fe5b906020019060200201518260048151811015156200bd6757fe5b906020019060200201511115156200bdb6576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200bdad9062012870565b60405180910390fd5b5b60008260008151811015156200bdc957fe5b906020019060200201511180156200bdfb57506101f58260008151811015156200bdef57fe5b90602001906020020151105b15156200be3f576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200be369062012a90565b60405180910390fd5b60008260018151811015156200be5157fe5b906020019060200201511115156200bea0576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200be979062012a6e565b60405180910390fd5b60008160008151811015156200beb257fe5b90602001906020020151511180156200bee6575060ff8160008151811015156200bed857fe5b906020019060200201515111155b15156200bf2a576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200bf2190620128b4565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632af9249a8360018151811015156200bf7857fe5b906020019060200201518460028151811015156200bf9257fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bfd792919062012b92565b602060405180830381600087803b1580156200bff257600080fd5b505af11580156200c007573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c02d91908101906200faee565b1515156200c072576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200c0699062012782565b60405180910390fd5b505050565b6060600060606000806200c08d8989896200e6a4565b92506200c09a896200e0e9565b809a5081955050508315156200c0e7576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200c0de906201262e565b60405180910390fd5b8860038151811015156200c0f757fe5b906020019060200201519150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166331125ff3836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c17c9190620116d3565b602060405180830381600087803b1580156200c19757600080fd5b505af11580156200c1ac573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c1d291908101906200faee565b15156200c216576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200c20d9062012694565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630868a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c2b7949392919062011e2b565b6040805180830381600087803b1580156200c2d157600080fd5b505af11580156200c2e6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c30c91908101906200f5c2565b80955081925050508315156200c359576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200c3509062012474565b60405180910390fd5b88945050505050949350505050565b606060006060806060600060028251026040519080825280602002602001820160405280156200c3a75781602001602082028038833980820191505090505b5092508860008151811015156200","c3ba57fe5b906020019060200201516040519080825280602002602001820160405280156200c3f35781602001602082028038833980820191505090505b509150600090505b8860008151811015156200c40b57fe5b906020019060200201518110156200c5a55760008114156200c445576200c43d6001896200e79d90919063ffffffff16565b94506200c51f565b6200c51c6001602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166396ef88cd6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200c4d257600080fd5b505af11580156200c4e7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c50d91908101906200fd21565b6200e79d90919063ffffffff16565b94505b6200c57a8a60038151811015156200c53357fe5b9060200190602002015188878c60018151811015156200c54f57fe5b906020019060200201518d60028151811015156200c56957fe5b906020019060200201518662006889565b82828151811015156200c58957fe5b906020019060200201818152505080806001019150506200c3fb565b8195505050505050949350505050565b6060806000806200c5c56200eafa565b600060028951026040519080825280602002602001820160405280156200c5fb5781602001602082028038833980820191505090505b509450600090505b88518110156200c89157602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166313c6c77c8a838151811015156200c65a57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c69e919062012ab2565b602060405180830381600087803b1580156200c6b957600080fd5b505af11580156200c6ce573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c6f491908101906200fd21565b9250602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166360f95a0289858a6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c773939291906201212d565b606060405180830381600087803b1580156200c78e57600080fd5b505af11580156200c7a3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c7c991908101906200fb1a565b80935081955050508160006002811015156200c7e157fe5b602002015185826002028151811015156200c7f857fe5b90602001906020020181815250508160016002811015156200c81657fe5b602002015185600183600202018151811015156200c83057fe5b90602001906020020181815250508315156200c883576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200c87a90620128f8565b60405180910390fd5b80806001019150506200c603565b84955050505050509392505050565b60606200c8b8836200c8b2846200e7f7565b6200e83c565b905092915050565b60606200c8d8836200c8d2846200ea16565b6200e83c565b905092915050565b60606200c8ee83836200e83c565b905092915050565b60008084600001846040518082805190602001908083835b6020831015156200c93557805182526020820191506020810190506020830392506200c90e565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200caf2577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156200ca0e57805182526020820191506020810190506020830392506200c9e7565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200ca5795949392919062011744565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200ca9c57805182526020820191506020810190506020830392506200ca75565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200cae79291906200eb1c565b50600191506200cc62565b8285600001856040518082805190602001908083835b6020831015156200cb2f57805182526020820191506020810190506020830392506200cb08565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200cb7a9291906200eb1c565b508460010180548091906001016200cb9391906200eba3565b90506001810185600001856040518082805190602001908083835b6020831015156200cbd557805182526020820191506020810190506020830392506200cbae565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200cc2257fe5b906000526020600020906002020160000190805190602001906200cc489291906200eb1c565b508460020160008154809291906001019190505550600091505b509392505050565b60008084600001846040518082805190602001908083835b6020831015156200cca957805182526020820191506020810190506020830392506200cc82565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200ccf657600091506200ce66565b8285600001856040518082805190602001908083835b6020831015156200cd3357805182526020820191506020810190506020830392506200cd0c565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200cd7e9291906200eb1c565b508460010180548091906001016200cd9791906200eba3565b90506001810185600001856040518082805190602001908083835b6020831015156200cdd957805182526020820191506020810190506020830392506200cdb2565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200ce2657fe5b906000526020600020906002020160000190805190602001906200ce4c9291906200eb1c565b508460020160008154809291906001019190505550600191505b509392505050565b60008083600001836040518082805190602001908083835b6020831015156200cead57805182526020820191506020810190506020830392506200ce86565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008114156200cefa57600091506200d0c6565b7f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b6020831015156200cf9057805182526020820191506020810190506020830392506200cf69565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200cfd995949392919062011744565b60405180910390a183600001836040518082805190602001908083835b6020831015156200d01d57805182526020820191506020810190506020830392506200cff6565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000808201600090556001820160006200d06b91906200ebd8565b5050600184600101600183038154811015156200d08457fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b6000804290508091505090565b600080600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61876040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d1599190620116d3565b602060405180830381600087803b1580156200d17457600080fd5b505af11580156200d189573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d1af91908101906200f555565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308a896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d252949392919062011a71565b6040805180830381600087803b1580156200d26c57600080fd5b505af11580156200d281573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d2a791908101906200f5c2565b80935081945050508180156200d38a5750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663706ceeca89836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d33392919062012acf565b602060405180830381600087803b1580156200d34e57600080fd5b505af11580156200d363573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d38991908101906200faee565b5b15156200d3ce576040517f08c379a000000000000000000000000000000000000000000000000000000000","81526004016200d3c5906201295e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d4479190620116d3565b602060405180830381600087803b1580156200d46257600080fd5b505af11580156200d477573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d49d91908101906200faee565b15156200d4e1576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200d4d89062012562565b60405180910390fd5b60019350505050949350505050565b606082600001826040518082805190602001908083835b6020831015156200d52e57805182526020820191506020810190506020830392506200d507565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200d5fc5780601f106200d5d0576101008083540402835291602001916200d5fc565b820191906000526020600020905b8154815290600101906020018083116200d5de57829003601f168201915b5050505050905092915050565b600081600201549050919050565b6060600080600080602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d698919062012ab2565b602060405180830381600087803b1580156200d6b357600080fd5b505af11580156200d6c8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d6ee91908101906200faee565b15156200d732576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200d7299062012364565b60405180910390fd5b6200d7478a866200c8a090919063ffffffff16565b9450600093505b88518410156200d7c4576200d78589858151811015156200d76b57fe5b90602001906020020151866200c8e090919063ffffffff16565b94506200d7b488858151811015156200d79a57fe5b90602001906020020151866200c8e090919063ffffffff16565b945083806001019450506200d74e565b6200d7d987866200c8c090919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d87c949392919062011c83565b6040805180830381600087803b1580156200d89657600080fd5b505af11580156200d8ab573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d8d191908101906200f5c2565b8093508194505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d9529190620116d3565b602060405180830381600087803b1580156200d96d57600080fd5b505af11580156200d982573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d9a891908101906200f555565b90508180156200da855750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f08b836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200da2e92919062012acf565b602060405180830381600087803b1580156200da4957600080fd5b505af11580156200da5e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200da8491908101906200faee565b5b15156200dac9576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200dac090620129a2565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200db429190620116d3565b602060405180830381600087803b1580156200db5d57600080fd5b505af11580156200db72573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200db9891908101906200faee565b15156200dbdc576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200dbd39062012562565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633ac1fc928c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200dc5a919062012ab2565b602060405180830381600087803b1580156200dc7557600080fd5b505af11580156200dc8a573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200dcb09190810190620100ba565b60ff16141580156200dd975750600560ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633ac1fc928c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200dd3b919062012ab2565b602060405180830381600087803b1580156200dd5657600080fd5b505af11580156200dd6b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200dd919190810190620100ba565b60ff1614155b15156200dddb576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ddd290620125a6565b60405180910390fd5b50505050505050505050565b60008084600001846040518082805190602001908083835b6020831015156200de2657805182526020820191506020810190506020830392506200ddff565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200dfe3577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156200deff57805182526020820191506020810190506020830392506200ded8565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200df4895949392919062011744565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200df8d57805182526020820191506020810190506020830392506200df66565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200dfd89291906200eb1c565b50600191506200dfe8565b600091505b509392505050565b60608060008060008092505b87518310156200e043576200e03388848151811015156200e01957fe5b90602001906020020151856200c8c090919063ffffffff16565b935082806001019350506200dffc565b600091505b86518210156200e08f576200e07f87838151811015156200e06557fe5b90602001906020020151856200c8a090919063ffffffff16565b935081806001019250506200e048565b600090505b85518110156200e0db576200e0cb86828151811015156200e0b157fe5b90602001906020020151856200c8e090919063ffffffff16565b935080806001019150506200e094565b839450505050509392505050565b6000606080600080600086516040519080825280602002602001820160405280156200e1245781602001602082028038833980820191505090505b509350600090505b86518110156200e3585760018114806200e18a575086818151811015156200e15057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b156200e1fa5786818151811015156200e19f57fe5b9060200190602002015184828151811015156200e1b857fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250506200e34a565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663accfbdd988838151811015156200e24757fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e28b9190620116d3565b6040805180830381600087803b1580156200e2a557600080fd5b505af11580156200e2ba573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e2e091908101906200f5c2565b80945081935050508215156200e2fd57600084955095506200e35f565b8184828151811015156200e30d57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b80806001019150506200e12c565b8284955095505b50505050915091565b606060008060606000808614156200e3b8576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525094506200e4","c1565b8593505b6000841415156200e3e5578280600101935050600a848115156200e3dc57fe5b0493506200e3bc565b826040519080825280601f01601f1916602001820160405280156200e4195781602001602082028038833980820191505090505b5091506001830390505b6000861415156200e4bd57600a868115156200e43b57fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156200e47757fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156200e4b457fe5b0495506200e423565b8194505b50505050919050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156200e5135781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156200e5d95785818151811015156200e53b57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156200e59b57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200e522565b600090505b84518110156200e6955784818151811015156200e5f757fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156200e65757fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200e5de565b83965050505050505092915050565b60608060008060008092505b87518310156200e6f7576200e6e788848151811015156200e6cd57fe5b90602001906020020151856200c8c090919063ffffffff16565b935082806001019350506200e6b0565b600091505b86518210156200e743576200e73387838151811015156200e71957fe5b90602001906020020151856200c8a090919063ffffffff16565b935081806001019250506200e6fc565b600090505b85518110156200e78f576200e77f86828151811015156200e76557fe5b90602001906020020151856200c8e090919063ffffffff16565b935080806001019150506200e748565b839450505050509392505050565b6000808383111515156200e7e8576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200e7df9062012650565b60405180910390fd5b82840390508091505092915050565b606060206040519080825280601f01601f1916602001820160405280156200e82e5781602001602082028038833980820191505090505b509050816020820152919050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156200e8855781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156200e94b5785818151811015156200e8ad57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156200e90d57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200e894565b600090505b84518110156200ea075784818151811015156200e96957fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156200e9c957fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200e950565b83965050505050505092915050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f1916602001820160405280156200ea625781602001602082028038833980820191505090505b509250600090505b60148110156200eaf35781816014811015156200ea8357fe5b1a7f01000000000000000000000000000000000000000000000000000000000000000283828151811015156200eab557fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200ea6a565b5050919050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200eb5f57805160ff19168380011785556200eb90565b828001600101855582156200eb90579182015b828111156200eb8f5782518255916020019190600101906200eb72565b5b5090506200eb9f91906200ec24565b5090565b8154818355818111156200ebd3576002028160020283600052602060002091820191016200ebd291906200ec4c565b5b505050565b50805460018160011615610100020316600290046000825580601f106200ec0057506200ec21565b601f0160209004906000526020600020908101906200ec2091906200ec24565b5b50565b6200ec4991905b808211156200ec455760008160009055506001016200ec2b565b5090565b90565b6200ec9191905b808211156200ec8d57600080820160006200ec6f91906200ebd8565b6001820160006101000a81549060ff0219169055506002016200ec53565b5090565b90565b60006200eca2823562013082565b905092915050565b60006200ecb8825162013082565b905092915050565b600082601f83011215156200ecd457600080fd5b81356200eceb6200ece58262012d4b565b62012d1d565b915081818352602084019350602081019050838560208402820111156200ed1157600080fd5b60005b838110156200ed4557816200ed2a88826200ec94565b8452602084019350602083019250506001810190506200ed14565b5050505092915050565b600082601f83011215156200ed6357600080fd5b81516200ed7a6200ed748262012d4b565b62012d1d565b915081818352602084019350602081019050838560208402820111156200eda057600080fd5b60005b838110156200edd457816200edb988826200ecaa565b8452602084019350602083019250506001810190506200eda3565b5050505092915050565b600082601f83011215156200edf257600080fd5b60046200ee096200ee038262012d74565b62012d1d565b915081838560208402820111156200ee2057600080fd5b60005b838110156200ee5457816200ee3988826200f2b3565b8452602084019350602083019250506001810190506200ee23565b5050505092915050565b600082601f83011215156200ee7257600080fd5b81356200ee896200ee838262012d97565b62012d1d565b9150818183526020840193506020810190508360005b838110156200eed357813586016200eeb888826200f2c9565b8452602084019350602083019250506001810190506200ee9f565b5050505092915050565b600082601f83011215156200eef157600080fd5b81516200ef086200ef028262012d97565b62012d1d565b9150818183526020840193506020810190508360005b838110156200ef5257815186016200ef3788826200f327565b8452602084019350602083019250506001810190506200ef1e565b5050505092915050565b600082601f83011215156200ef7057600080fd5b81356200ef876200ef818262012dc0565b62012d1d565b915081818352602084019350602081019050838560208402820111156200efad57600080fd5b60005b838110156200efe157816200efc688826200f3e3565b8452602084019350602083019250506001810190506200efb0565b5050505092915050565b600082601f83011215156200efff57600080fd5b81356200f0166200f0108262012de9565b62012d1d565b9150818183526020840193506020810190508360005b838110156200f06057813586016200f04588826200f3f9565b8452602084019350602083019250506001810190506200f02c565b5050505092915050565b600082601f83011215156200f07e57600080fd5b81516200f0956200f08f8262012de9565b62012d1d565b9150818183526020840193506020810190508360005b838110156200f0df57815186016200f0c488826200f457565b8452602084019350602083019250506001810190506200f0ab565b5050505092915050565b600082601f83011215156200f0fd57600080fd5b60026200f1146200f10e8262012e12565b62012d1d565b915081838560208402820111156200f12b57600080fd5b60005b838110156200f15f57816200f14488826200f529565b8452602084019350602083019250506001810190506200f12e565b5050505092915050565b600082601f83011215156200f17d57600080fd5b81356200f1946200f18e8262012e35565b62012d1d565b915081818352602084019350602081019050838560208402820111156200f1ba57600080fd5b60005b838110156200f1ee57816200f1d388826200f513565b8452602084019350602083019250506001810190506200f1bd565b5050505092915050565b600082601f83011215156200f20c57600080fd5b81516200f2236200f21d8262012e35565b62012d1d565b915081818352602084019350602081019050838560208402820111156200f24957600080fd5b60005b838110156200f27d57816200f26288826200f529565b8452602084019350602083019250506001810190506200f24c565b5050505092915050565b60006200f2958235620130a2565b905092915050565b60006200f2ab8251620130a2565b905092915050565b60006200f2c18235620130ae565b905092915050565b600082601f83011215156200f2dd57600080fd5b81356200f2f46200f2ee8262012e5e565b62012d1d565b915080825260208301602083018583830111156200f31157600080fd5b6200f31e83828462013115565b50505092915050565b600082601f83011215156200f33b57600080fd5b81516200f3526200f34c8262012e5e565b62012d1d565b915080825260208301602083018583830111156200f36f57600080fd5b6200f37c83828462013124565b50505092915050565b600082601f83011215156200f39957600080fd5b81356200f3b06200f3aa8262012e8b565b62012d1d565b9150808252","60208301602083018583830111156200f3cd57600080fd5b6200f3da83828462013115565b50505092915050565b60006200f3f18235620130b8565b905092915050565b600082601f83011215156200f40d57600080fd5b81356200f4246200f41e8262012eb8565b62012d1d565b915080825260208301602083018583830111156200f44157600080fd5b6200f44e83828462013115565b50505092915050565b600082601f83011215156200f46b57600080fd5b81516200f4826200f47c8262012eb8565b62012d1d565b915080825260208301602083018583830111156200f49f57600080fd5b6200f4ac83828462013124565b50505092915050565b600082601f83011215156200f4c957600080fd5b81356200f4e06200f4da8262012ee5565b62012d1d565b915080825260208301602083018583830111156200f4fd57600080fd5b6200f50a83828462013115565b50505092915050565b60006200f5218235620130c2565b905092915050565b60006200f5378251620130c2565b905092915050565b60006200f54d8251620130cc565b905092915050565b6000602082840312156200f56857600080fd5b60006200f578848285016200ecaa565b91505092915050565b60008060a083850312156200f59557600080fd5b60006200f5a5858286016200ec94565b92505060206200f5b8858286016200edde565b9150509250929050565b600080604083850312156200f5d657600080fd5b60006200f5e6858286016200ecaa565b92505060206200f5f9858286016200f29d565b9150509250929050565b600080600060c084860312156200f61957600080fd5b60006200f629868287016200ec94565b93505060206200f63c868287016200f513565b92505060406200f64f868287016200edde565b9150509250925092565b60008060008060e085870312156200f67057600080fd5b60006200f680878288016200ec94565b94505060206200f693878288016200f513565b93505060406200f6a6878288016200f513565b92505060606200f6b9878288016200edde565b91505092959194509250565b60008060008060008060c087890312156200f6df57600080fd5b60006200f6ef89828a016200ec94565b96505060206200f70289828a016200f513565b95505060406200f71589828a016200f513565b94505060606200f72889828a016200f513565b93505060806200f73b89828a016200f513565b92505060a06200f74e89828a016200f513565b9150509295509295509295565b6000602082840312156200f76e57600080fd5b600082015167ffffffffffffffff8111156200f78957600080fd5b6200f797848285016200ed4f565b91505092915050565b60008060008060e085870312156200f7b757600080fd5b600085013567ffffffffffffffff8111156200f7d257600080fd5b6200f7e0878288016200ecc0565b945050602085013567ffffffffffffffff8111156200f7fe57600080fd5b6200f80c878288016200f169565b935050604085013567ffffffffffffffff8111156200f82a57600080fd5b6200f838878288016200efeb565b92505060606200f84b878288016200edde565b91505092959194509250565b600080600080608085870312156200f86e57600080fd5b600085015167ffffffffffffffff8111156200f88957600080fd5b6200f897878288016200ed4f565b945050602085015167ffffffffffffffff8111156200f8b557600080fd5b6200f8c3878288016200f1f8565b935050604085015167ffffffffffffffff8111156200f8e157600080fd5b6200f8ef878288016200f1f8565b92505060606200f902878288016200f53f565b91505092959194509250565b6000608082840312156200f92157600080fd5b60006200f931848285016200edde565b91505092915050565b600080604083850312156200f94e57600080fd5b600083015167ffffffffffffffff8111156200f96957600080fd5b6200f977858286016200eedd565b925050602083015167ffffffffffffffff8111156200f99557600080fd5b6200f9a3858286016200eedd565b9150509250929050565b6000602082840312156200f9c057600080fd5b600082015167ffffffffffffffff8111156200f9db57600080fd5b6200f9e9848285016200f06a565b91505092915050565b6000602082840312156200fa0557600080fd5b600082015167ffffffffffffffff8111156200fa2057600080fd5b6200fa2e848285016200f1f8565b91505092915050565b60008060008060e085870312156200fa4e57600080fd5b600085013567ffffffffffffffff8111156200fa6957600080fd5b6200fa77878288016200f169565b945050602085013567ffffffffffffffff8111156200fa9557600080fd5b6200faa3878288016200ecc0565b935050604085013567ffffffffffffffff8111156200fac157600080fd5b6200facf878288016200ef5c565b92505060606200fae2878288016200edde565b91505092959194509250565b6000602082840312156200fb0157600080fd5b60006200fb11848285016200f29d565b91505092915050565b600080606083850312156200fb2e57600080fd5b60006200fb3e858286016200f29d565b92505060206200fb51858286016200f0e9565b9150509250929050565b6000602082840312156200fb6e57600080fd5b600082013567ffffffffffffffff8111156200fb8957600080fd5b6200fb97848285016200f385565b91505092915050565b60008060a083850312156200fbb457600080fd5b600083013567ffffffffffffffff8111156200fbcf57600080fd5b6200fbdd858286016200f385565b92505060206200fbf0858286016200edde565b9150509250929050565b600080604083850312156200fc0e57600080fd5b600083013567ffffffffffffffff8111156200fc2957600080fd5b6200fc37858286016200f385565b925050602083013567ffffffffffffffff8111156200fc5557600080fd5b6200fc63858286016200f385565b9150509250929050565b600080600060c084860312156200fc8357600080fd5b600084013567ffffffffffffffff8111156200fc9e57600080fd5b6200fcac868287016200f385565b935050602084013567ffffffffffffffff8111156200fcca57600080fd5b6200fcd8868287016200f385565b92505060406200fceb868287016200edde565b9150509250925092565b6000602082840312156200fd0857600080fd5b60006200fd18848285016200f513565b91505092915050565b6000602082840312156200fd3457600080fd5b60006200fd44848285016200f529565b91505092915050565b600080600060c084860312156200fd6357600080fd5b60006200fd73868287016200f513565b93505060206200fd86868287016200ec94565b92505060406200fd99868287016200edde565b9150509250925092565b60008060008060e085870312156200fdba57600080fd5b60006200fdca878288016200f513565b94505060206200fddd878288016200ec94565b935050604085013567ffffffffffffffff8111156200fdfb57600080fd5b6200fe09878288016200f4b5565b92505060606200fe1c878288016200edde565b91505092959194509250565b60008060a083850312156200fe3c57600080fd5b60006200fe4c858286016200f513565b92505060206200fe5f858286016200edde565b9150509250929050565b600080600080600061010086880312156200fe8357600080fd5b60006200fe93888289016200f513565b955050602086013567ffffffffffffffff8111156200feb157600080fd5b6200febf888289016200ee5e565b945050604086013567ffffffffffffffff8111156200fedd57600080fd5b6200feeb888289016200ee5e565b93505060606200fefe888289016200ec94565b92505060806200ff11888289016200edde565b9150509295509295909350565b600080604083850312156200ff3257600080fd5b60006200ff42858286016200f529565b92505060206200ff55858286016200f529565b9150509250929050565b60008060008060e085870312156200ff7657600080fd5b60006200ff86878288016200f513565b94505060206200ff99878288016200f513565b93505060406200ffac878288016200ec94565b92505060606200ffbf878288016200edde565b91505092959194509250565b600080600080600061010086880312156200ffe557600080fd5b60006200fff5888289016200f513565b955050602062010008888289016200f513565b94505060406201001b888289016200f287565b93505060606201002e888289016200ec94565b925050608062010041888289016200edde565b9150509295509295909350565b600080600080608085870312156201006557600080fd5b600062010075878288016200f513565b945050602062010088878288016200f513565b93505060406201009b878288016200f513565b9250506060620100ae878288016200ec94565b91505092959194509250565b600060208284031215620100cd57600080fd5b6000620100dd848285016200f53f565b91505092915050565b620100f1816201302b565b82525050565b6000620101048262012f6f565b808452602084019350620101188362012f12565b60005b82811015620101505762010131868351620100e6565b6201013c8262012fdd565b91506020860195506001810190506201011b565b50849250505092915050565b620101678162012f7a565b620101728262012f1f565b60005b82811015620101aa576201018b8583516201037c565b620101968262012fea565b915060208501945060018101905062010175565b5050505050565b6000620101be8262012f85565b80845260208401935083602082028501620101d98562012f29565b60005b8481101562010218578383038852620101f7838351620103c9565b9250620102048262012ff7565b9150602088019750600181019050620101dc565b508196508694505050505092915050565b6000620102368262012f90565b8084526020840193506201024a8362012f36565b60005b82811015620102825762010263868351620104b5565b6201026e8262013004565b91506020860195506001810190506201024d565b50849250505092915050565b60006201029b8262012f9b565b80845260208401935083602082028501620102b68562012f43565b60005b84811015620102f5578383038852620102d483835162010513565b9250620102e18262013011565b9150602088019750600181019050620102b9565b508196508694505050505092915050565b6000620103138262012fa6565b808452602084019350620103278362012f50565b60005b828110156201035f5762010340868351620116b1565b6201034b826201301e565b91506020860195506001810190506201032a565b50849250505092915050565b62010376816201304b565b82525050565b620103878162013057565b82525050565b60006201039a8262012fbc565b808452620103b081602086016020860162013124565b620103bb81","6201315a565b602085010191505092915050565b6000620103d68262012fb1565b808452620103ec81602086016020860162013124565b620103f7816201315a565b602085010191505092915050565b60008154600181166000811462010425576001811462010446576201048b565b607f600283041680865260ff1983166020870152604086019350506201048b565b600282048086526020860195506201045e8562012f5d565b60005b82811015620104825781548189015260018201915060208101905062010461565b80880195505050505b505092915050565b6201049e81620130d9565b82525050565b620104af81620130ed565b82525050565b620104c08162013061565b82525050565b620104d18162013101565b82525050565b6000620104e48262012fd2565b808452620104fa81602086016020860162013124565b62010505816201315a565b602085010191505092915050565b6000620105208262012fc7565b8084526201053681602086016020860162013124565b62010541816201315a565b602085010191505092915050565b6000601382527f6e6f746520646f65736e277420657869737421000000000000000000000000006020830152604082019050919050565b6000601782527f466f7262626964656e206765744e6f746544657461696c0000000000000000006020830152604082019050919050565b6000601d82527f466f7262696464656e206e6f6e46756e6769626c655472616e736665720000006020830152604082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000601b82527f66726f6d2f746f2061646472657373206e6f74207665726966792100000000006020830152604082019050919050565b6000601982527f7265717569726520656666656374697665446174653e6e6f77000000000000006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f466f7262696464656e2069737375654e6f6e46756e6769626c650000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601582527f6e6f7465206973206e6f742065666665637469766500000000000000000000006020830152604082019050919050565b6000602b82527f466f7262696464656e207472616e7366657220626563617573652066726f6d2060208301527f69736e2774206f776e65720000000000000000000000000000000000000000006040830152606082019050919050565b6000600f82527f7570646174654e6f7465426174636800000000000000000000000000000000006020830152604082019050919050565b6000601982527f6e65774e6f74654e6f20686173206265656e20697373756521000000000000006020830152604082019050919050565b6000600c82527f7570646174654e6f74654e6f00000000000000000000000000000000000000006020830152604082019050919050565b6000601c82527f726571756972652065787069726174696f6e44617465203e206e6f77000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601482527f466f7262696464656e20666f727a656e4e6f74650000000000000000000000006020830152604082019050919050565b6000600a82527f667265657a654e6f7465000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f6e6f746520697320666f727a656e206f722074656172000000000000000000006020830152604082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000601382527f72657175697265207374617274203c20656e64000000000000000000000000006020830152604082019050919050565b6000601682527f466f7262696464656e207570646174654e6f74654e6f000000000000000000006020830152604082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000601382527f6163636f756e74436f6e7461696e734e6f7465000000000000000000000000006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000600c82527f756e667265657a654e6f746500000000000000000000000000000000000000006020830152604082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000601d82527f7365744e6f6e46756e6769626c65507269636520466f7262696464656e0000006020830152604082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000601282527f726571756972652064617465203e206e6f7700000000000000000000000000006020830152604082019050919050565b6000601182527f706172616d73206e6f74207665726966790000000000000000000000000000006020830152604082019050919050565b6000601c82527f726571756972652065666665637469766544617465203e3d206e6f77000000006020830152604082019050919050565b6000603f82527f6e6f74657320686173206265656e20646566696e656420706c6561736520636860208301527f616e6765206e6f74654e6f507265666978206f72206e6f74654e6f53697a65006040830152606082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000601482527f7570646174654e6f746550726f706572746965730000000000000000000000006020830152604082019050919050565b6000601382527f7365744e6f6e46756e6769626c655072696365000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e20656e61626c65426174636800000000000000000000006020830152604082019050919050565b6000601d82527f466f7262696464656e206163636f756e74436f6e7461696e734e6f74650000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000601b82527f466f7262696464656e206765744e6f746550726f7065727469657300000000006020830152604082019050919050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000602782527f726571756972652065787069726174696f6e44617465203e202065666665637460208301527f69766544617465000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601682527f466f7262696464656e20676574546561724e6f746573000000000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000602a82527f6465736320627974657320617265206265747765656e203120616e642032353560208301527f20696e206c656e677468000000000000000000000000000000000000000000006040830152606082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000601082527f777269746520626f6f6b206661696c21000000000000000000000000000000006020830152604082019050919050565b6000601282527f6e6f746520646f65736e277420657869737400000000000000000000000000006020830152604082019050919050565b6000600882527f7472616e736665720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601282527f6e6f7465206973206e6f7420666f727a656e00000000000000000000000000006020830152604082019050919050565b6000601082527f69737375654e6f6e46756e6769626c65000000000000000000000000000000006020830152604082019050919050565b6000600882527f746561724e6f74650000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601982527f466f7262696464656e207570646174654e6f74654261746368000000000000006020830152604082019050919050565b6000603282527f72657175697265203130203e206e6f74654e6f53697a65203e3020616e64206560208301527f787069726174696f6e44617465203e6e6f7700000000000000000000000000006040830152","606082019050919050565b6000601e82527f466f7262696464656e207570646174654e6f746550726f7065727469657300006020830152604082019050919050565b6000601282527f466f7262696464656e20746561724e6f746500000000000000000000000000006020830152604082019050919050565b6000600d82527f6765744e6f746544657461696c000000000000000000000000000000000000006020830152604082019050919050565b6000603782527f466f7262696464656e206e6f6e46756e6769626c655175657279426f6f6b206260208301527f65636175736520796f75206172656e2774206f776e65720000000000000000006040830152606082019050919050565b6000601682527f466f7262696464656e20756e667265657a654e6f7465000000000000000000006020830152604082019050919050565b6000601982527f466f7262696464656e206765744163636f756e744e6f746573000000000000006020830152604082019050919050565b6000600c82527f676574546561724e6f74657300000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601182527f6765744e6f746550726f706572746965730000000000000000000000000000006020830152604082019050919050565b6000600b82527f656e61626c6542617463680000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f72657175697265206e6f74654e6f5072656669783e30000000000000000000006020830152604082019050919050565b6000601582527f72657175697265203530303e3d616d6f756e743e3000000000000000000000006020830152604082019050919050565b6000600f82527f6765744163636f756e744e6f74657300000000000000000000000000000000006020830152604082019050919050565b620116bc816201306b565b82525050565b620116cd8162013075565b82525050565b6000602082019050620116ea6000830184620100e6565b92915050565b6000608082019050620117076000830187620100e6565b620117166020830186620100e6565b620117256040830185620100e6565b81810360608301526201173981846201038d565b905095945050505050565b600060a0820190506201175b6000830188620100e6565b6201176a6020830187620100e6565b81810360408301526201177e8186620103c9565b905081810360608301526201179481856201038d565b90508181036080830152620117aa818462010405565b90509695505050505050565b600061010082019050620117ce6000830187620100e6565b620117dd6020830186620100e6565b8181036040830152620117f08162011250565b905081810360608301526201180681856201038d565b90506201181760808301846201015c565b95945050505050565b600061010082019050620118386000830187620100e6565b620118476020830186620100e6565b81810360408301526201185a816201142e565b905081810360608301526201187081856201038d565b90506201188160808301846201015c565b95945050505050565b600061010082019050620118a26000830187620100e6565b620118b16020830186620100e6565b8181036040830152620118c4816201167a565b90508181036060830152620118da81856201038d565b9050620118eb60808301846201015c565b95945050505050565b60006060820190506201190b6000830186620100e6565b6201191a6020830185620100e6565b620119296040830184620116b1565b949350505050565b600061010082019050620119496000830188620100e6565b62011958602083018762010493565b81810360408301526201196c81866201038d565b905081810360608301526201198281856201038d565b90506201199360808301846201015c565b9695505050505050565b600061010082019050620119b56000830187620100e6565b620119c46020830186620104a4565b8181036040830152620119d78162010707565b90508181036060830152620119ed81856201038d565b9050620119fe60808301846201015c565b95945050505050565b60006101008201905062011a1f6000830187620100e6565b62011a2e6020830186620104a4565b818103604083015262011a418162010775565b9050818103606083015262011a5781856201038d565b905062011a6860808301846201015c565b95945050505050565b60006101008201905062011a896000830187620100e6565b62011a986020830186620104a4565b818103604083015262011aab8162010877565b9050818103606083015262011ac181856201038d565b905062011ad260808301846201015c565b95945050505050565b60006101008201905062011af36000830187620100e6565b62011b026020830186620104a4565b818103604083015262011b1581620108e5565b9050818103606083015262011b2b81856201038d565b905062011b3c60808301846201015c565b95945050505050565b60006101008201905062011b5d6000830187620100e6565b62011b6c6020830186620104a4565b818103604083015262011b7f8162010a1e565b9050818103606083015262011b9581856201038d565b905062011ba660808301846201015c565b95945050505050565b60006101008201905062011bc76000830187620100e6565b62011bd66020830186620104a4565b818103604083015262011be98162010bc5565b9050818103606083015262011bff81856201038d565b905062011c1060808301846201015c565b95945050505050565b60006101008201905062011c316000830187620100e6565b62011c406020830186620104a4565b818103604083015262011c538162010c7f565b9050818103606083015262011c6981856201038d565b905062011c7a60808301846201015c565b95945050505050565b60006101008201905062011c9b6000830187620100e6565b62011caa6020830186620104a4565b818103604083015262011cbd8162010ecb565b9050818103606083015262011cd381856201038d565b905062011ce460808301846201015c565b95945050505050565b60006101008201905062011d056000830187620100e6565b62011d146020830186620104a4565b818103604083015262011d278162010f02565b9050818103606083015262011d3d81856201038d565b905062011d4e60808301846201015c565b95945050505050565b60006101008201905062011d6f6000830187620100e6565b62011d7e6020830186620104a4565b818103604083015262011d9181620110e0565b9050818103606083015262011da781856201038d565b905062011db860808301846201015c565b95945050505050565b60006101008201905062011dd96000830187620100e6565b62011de86020830186620104a4565b818103604083015262011dfb8162011174565b9050818103606083015262011e1181856201038d565b905062011e2260808301846201015c565b95945050505050565b60006101008201905062011e436000830187620100e6565b62011e526020830186620104a4565b818103604083015262011e6581620112be565b9050818103606083015262011e7b81856201038d565b905062011e8c60808301846201015c565b95945050505050565b60006101008201905062011ead6000830187620100e6565b62011ebc6020830186620104a4565b818103604083015262011ecf81620112f5565b9050818103606083015262011ee581856201038d565b905062011ef660808301846201015c565b95945050505050565b60006101008201905062011f176000830187620100e6565b62011f266020830186620104a4565b818103604083015262011f398162011530565b9050818103606083015262011f4f81856201038d565b905062011f6060808301846201015c565b95945050505050565b60006101008201905062011f816000830187620100e6565b62011f906020830186620104a4565b818103604083015262011fa3816201159e565b9050818103606083015262011fb981856201038d565b905062011fca60808301846201015c565b95945050505050565b60006101008201905062011feb6000830187620100e6565b62011ffa6020830186620104a4565b81810360408301526201200d81620115d5565b905081810360608301526201202381856201038d565b90506201203460808301846201015c565b95945050505050565b6000604082019050620120546000830185620100e6565b620120636020830184620116b1565b9392505050565b6000606082019050620120816000830186620100e6565b620120906020830185620116b1565b6201209f6040830184620116b1565b949350505050565b60006020820190508181036000830152620120c38184620100f7565b905092915050565b60006080820190508181036000830152620120e78187620100f7565b90508181036020830152620120fd818662010306565b9050818103604083015262012113818562010306565b9050620121246060830184620116c2565b95945050505050565b60006060820190508181036000830152620121498186620100f7565b90506201215a6020830185620116b1565b81810360408301526201216e81846201028e565b9050949350505050565b60006040820190508181036000830152620121948185620101b1565b90508181036020830152620121aa8184620101b1565b90509392505050565b60006020820190508181036000830152620121cf81846201028e565b905092915050565b60006020820190508181036000830152620121f3818462010306565b905092915050565b6000606082019050818103600083015262012217818662010306565b905081810360208301526201222d8185620100f7565b9050818103604083015262012243818462010229565b9050949350505050565b60006020820190506201226460008301846201036b565b92915050565b60006040820190506201228160008301856201036b565b818103602083015262012295818462010306565b90509392505050565b60006020820190508181036000830152620122ba8184620103c9565b905092915050565b60006020820190508181036000830152620122de81846201038d565b905092915050565b6000606082019050620122fd6000830186620104a4565b6201230c6020830185620100e6565b6201231b60408301846201036b565b949350505050565b60006020820190506201233a6000830184620104c6565b92915050565b600060208201905081810360008301526201235c8184620104d7565b905092915050565b600060208201905081810360008301526201237f816201054f565b9050919050565b60006020820190508181036000830152620123a18162010586565b9050919050565b60006020820190508181036000","830152620123c381620105bd565b9050919050565b60006020820190508181036000830152620123e581620105f4565b9050919050565b6000602082019050818103600083015262012407816201062b565b9050919050565b60006020820190508181036000830152620124298162010662565b9050919050565b600060208201905081810360008301526201244b8162010699565b9050919050565b600060208201905081810360008301526201246d81620106d0565b9050919050565b600060208201905081810360008301526201248f816201073e565b9050919050565b60006020820190508181036000830152620124b181620107ac565b9050919050565b60006020820190508181036000830152620124d381620107e3565b9050919050565b60006020820190508181036000830152620124f5816201081a565b9050919050565b600060208201905081810360008301526201251781620108ae565b9050919050565b6000602082019050818103600083015262012539816201091c565b9050919050565b600060208201905081810360008301526201255b8162010953565b9050919050565b600060208201905081810360008301526201257d816201098a565b9050919050565b600060208201905081810360008301526201259f81620109e7565b9050919050565b60006020820190508181036000830152620125c18162010a55565b9050919050565b60006020820190508181036000830152620125e38162010a8c565b9050919050565b60006020820190508181036000830152620126058162010ac3565b9050919050565b60006020820190508181036000830152620126278162010afa565b9050919050565b60006020820190508181036000830152620126498162010b31565b9050919050565b600060208201905081810360008301526201266b8162010b8e565b9050919050565b600060208201905081810360008301526201268d8162010bfc565b9050919050565b60006020820190508181036000830152620126af8162010cb6565b9050919050565b60006020820190508181036000830152620126d18162010ced565b9050919050565b60006020820190508181036000830152620126f38162010d24565b9050919050565b60006020820190508181036000830152620127158162010d5b565b9050919050565b60006020820190508181036000830152620127378162010d92565b9050919050565b60006020820190508181036000830152620127598162010dc9565b9050919050565b600060208201905081810360008301526201277b8162010e00565b9050919050565b600060208201905081810360008301526201279d8162010e37565b9050919050565b60006020820190508181036000830152620127bf8162010e94565b9050919050565b60006020820190508181036000830152620127e18162010f39565b9050919050565b60006020820190508181036000830152620128038162010f70565b9050919050565b60006020820190508181036000830152620128258162010fa7565b9050919050565b60006020820190508181036000830152620128478162010fde565b9050919050565b60006020820190508181036000830152620128698162011015565b9050919050565b600060208201905081810360008301526201288b816201104c565b9050919050565b60006020820190508181036000830152620128ad81620110a9565b9050919050565b60006020820190508181036000830152620128cf8162011117565b9050919050565b60006020820190508181036000830152620128f181620111ab565b9050919050565b600060208201905081810360008301526201291381620111e2565b9050919050565b60006020820190508181036000830152620129358162011219565b9050919050565b60006020820190508181036000830152620129578162011287565b9050919050565b6000602082019050818103600083015262012979816201132c565b9050919050565b600060208201905081810360008301526201299b8162011363565b9050919050565b60006020820190508181036000830152620129bd81620113c0565b9050919050565b60006020820190508181036000830152620129df81620113f7565b9050919050565b6000602082019050818103600083015262012a018162011465565b9050919050565b6000602082019050818103600083015262012a2381620114c2565b9050919050565b6000602082019050818103600083015262012a4581620114f9565b9050919050565b6000602082019050818103600083015262012a678162011567565b9050919050565b6000602082019050818103600083015262012a89816201160c565b9050919050565b6000602082019050818103600083015262012aab8162011643565b9050919050565b600060208201905062012ac96000830184620116b1565b92915050565b600060408201905062012ae66000830185620116b1565b62012af56020830184620100e6565b9392505050565b600060608201905062012b136000830186620116b1565b818103602083015262012b278185620101b1565b9050818103604083015262012b3d8184620101b1565b9050949350505050565b600060608201905062012b5e6000830186620116b1565b818103602083015262012b72818562010306565b9050818103604083015262012b88818462010306565b9050949350505050565b600060408201905062012ba96000830185620116b1565b62012bb86020830184620116b1565b9392505050565b600060808201905062012bd66000830187620116b1565b62012be56020830186620116b1565b62012bf46040830185620100e6565b62012c036060830184620116b1565b95945050505050565b600060608201905062012c236000830186620116b1565b62012c326020830185620116b1565b62012c4160408301846201036b565b949350505050565b600060808201905062012c606000830187620116b1565b62012c6f6020830186620116b1565b62012c7e6040830185620116b1565b62012c8d6060830184620100e6565b95945050505050565b600060608201905062012cad6000830186620116b1565b62012cbc6020830185620116b1565b62012ccb6040830184620116c2565b949350505050565b600060408201905062012cea6000830185620116b1565b62012cf96020830184620116c2565b9392505050565b600060208201905062012d176000830184620116c2565b92915050565b6000604051905081810181811067ffffffffffffffff8211171562012d4157600080fd5b8060405250919050565b600067ffffffffffffffff82111562012d6357600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562012d8c57600080fd5b602082029050919050565b600067ffffffffffffffff82111562012daf57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562012dd857600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562012e0157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562012e2a57600080fd5b602082029050919050565b600067ffffffffffffffff82111562012e4d57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562012e7657600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111562012ea357600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111562012ed057600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111562012efd57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b6000620130e6826201302b565b9050919050565b6000620130fa826201302b565b9050919050565b60006201310e826201306b565b9050919050565b82818337600083830152505050565b60005b838110156201314457808201518184015260208101905062013127565b8381111562013154576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a723058207d460ef73052567a0e95fa33623da14668edae08c1b5989f08cdfcaac8411fd46c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b50604051620057e2380380620057e2833981018060405262000037919081019062000395565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600c9080519060200190620000ff9291906200025c565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166356004b6a600c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a919062000552565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d0919081019062000404565b5080600d60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790","555033600e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505050506200066d565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200029f57805160ff1916838001178555620002d0565b82800160010185558215620002d0579182015b82811115620002cf578251825591602001919060010190620002b2565b5b509050620002df9190620002e3565b5090565b6200030891905b8082111562000304576000816000905550600101620002ea565b5090565b90565b60006200031982516200060d565b905092915050565b60006200032f82516200062d565b905092915050565b600082601f83011215156200034b57600080fd5b8151620003626200035c82620005ce565b620005a0565b915080825260208301602083018583830111156200037f57600080fd5b6200038c83828462000637565b50505092915050565b600080600060608486031215620003ab57600080fd5b6000620003bb868287016200030b565b935050602084015167ffffffffffffffff811115620003d957600080fd5b620003e78682870162000337565b9250506040620003fa868287016200030b565b9150509250925092565b6000602082840312156200041757600080fd5b6000620004278482850162000321565b91505092915050565b6000815460018116600081146200045057600181146200047157620004b6565b607f600283041680865260ff198316602087015260408601935050620004b6565b600282048086526020860195506200048985620005fb565b60005b82811015620004ad578154818901526001820191506020810190506200048c565b80880195505050505b505092915050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000602e82527f7465726d5f6e6f2c7365712c66726f6d2c746f2c6e6f746549642c617373657460208301527f2c6f70657261746f722c646573630000000000000000000000000000000000006040830152606082019050919050565b600060608201905081810360008301526200056e818462000430565b905081810360208301526200058381620004be565b905081810360408301526200059881620004f5565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005c457600080fd5b8060405250919050565b600067ffffffffffffffff821115620005e657600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b83811015620006575780820151818401526020810190506200063a565b8381111562000667576000848401525b50505050565b615165806200067d6000396000f30060806040526004361061006d576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806338cc483114610072578063521ae5361461009d57806360f95a02146100da5780639b825e8214610118578063e953d0af14610156575b600080fd5b34801561007e57600080fd5b50610087610181565b60405161009491906148e1565b60405180910390f35b3480156100a957600080fd5b506100c460048036036100bf9190810190614102565b610189565b6040516100d1919061497f565b60405180910390f35b3480156100e657600080fd5b5061010160048036036100fc9190810190614017565b610921565b60405161010f9291906149a1565b60405180910390f35b34801561012457600080fd5b5061013f600480360361013a9190810190614096565b6113f3565b60405161014d92919061494f565b60405180910390f35b34801561016257600080fd5b5061016b611bbe565b6040516101789190614dff565b60405180910390f35b600030905090565b60606000606060006060600080606060008b5111806101a9575060008a51115b15156101ea576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016101e190614d8a565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016102629190614a6e565b602060405180830381600087803b15801561027c57600080fd5b505af1158015610290573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506102b49190810190614214565b96506102c08b8b6113f3565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561032c57600080fd5b505af1158015610340573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506103649190810190614199565b92506000915060008b51118015610394575060008b600081518110151561038757fe5b9060200190602002015114155b15610441578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16103d68d60008151811015156103c757fe5b90602001906020020151611c1b565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161040e9190614c16565b600060405180830381600087803b15801561042857600080fd5b505af115801561043c573d6000803e3d6000fd5b505050505b60018b5111801561046b575060008b600181518110151561045e57fe5b9060200190602002015114155b15610518578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16104ad8d600181518110151561049e57fe5b90602001906020020151611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016104e59190614c8b565b600060405180830381600087803b1580156104ff57600080fd5b505af1158015610513573d6000803e3d6000fd5b505050505b60028b51118015610542575060008b600281518110151561053557fe5b9060200190602002015114155b156105ef578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16105848d600281518110151561057557fe5b90602001906020020151611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016105bc9190614d55565b600060405180830381600087803b1580156105d657600080fd5b505af11580156105ea573d6000803e3d6000fd5b505050505b60008a511180156106455750600073ffffffffffffffffffffffffffffffffffffffff168a600081518110151561062257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610708578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d161069d8c600081518110151561067857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016106d59190614b73565b600060405180830381600087803b1580156106ef57600080fd5b505af1158015610703573d6000803e3d6000fd5b505050505b60018a5111801561075e5750600073ffffffffffffffffffffffffffffffffffffffff168a600181518110151561073b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610821578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16107b68c600181518110151561079157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107ee9190614b1e565b600060405180830381600087803b15801561080857600080fd5b505af115801561081c573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff16637ec1cc658a600081518110151561084c57fe5b906020019060200201518b600181518110151561086557fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108a89291906149e5565b600060405180830381600087803b1580156108c257600080fd5b505af11580156108d6573d6000803e3d6000fd5b505050506108e5868685611ee6565b8093508192505050600081511180156108fe5750600082135b156109105761090d81836121ee565b93505b839750505050505050509392505050565b600061092b613c53565b6000606060008060008061093d613c53565b60048c5110151515610984576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161097b90614d8a565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663124b65b46040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b158015610a0957600080fd5b505af1158015610a1d573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250610a4691908101906142d0565b80975081985050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638662f51f6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610ad357600080fd5b505af1158015610ae7573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610b0b91908101906142a7565b9450610b1a87868e8e8e612be1565b9350600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b949190614a6e56","5b602060405180830381600087803b158015610bae57600080fd5b505af1158015610bc2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610be69190810190614214565b92508273ffffffffffffffffffffffffffffffffffffffff166331afac36610c2e6002600160028054905003815481101515610c1e57fe5b9060005260206000200154611c1b565b866040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c68929190614a3e565b602060405180830381600087803b158015610c8257600080fd5b505af1158015610c96573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610cba919081019061423d565b91507f16d624dce1a542b12776c04c8bc47047e182a4cd79844e7e7fb40593f9fd7cb68c8c8c85604051610cf194939291906148fc565b60405180910390a16008600088815260200190815260200160002060006002600160028054905003815481101515610d2557fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff161515610e0f57600360008881526020019081526020016000206002600160028054905003815481101515610d7c57fe5b9060005260206000200154908060018154018082558091505090600182039060005260206000200160009091929091909150555060016008600089815260200190815260200160002060006002600160028054905003815481101515610dde57fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b6002600160028054905003815481101515610e2657fe5b90600052602060002001546004600087815260200190815260200160002081905550600960008d6002815181101515610e5b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515610eb857fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015610f3157508b6002815181101515610ef657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b1561107b57600560008d6002815181101515610f4957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515610fa457fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600960008e6002815181101515610fed57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206000600260016002805490500381548110151561104a57fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600a60008d600381518110151561108e57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156110eb57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615801561116457508b600381518110151561112957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b156112ae57600660008d600381518110151561117c57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060026001600280549050038154811015156111d757fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600a60008e600381518110151561122057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206000600260016002805490500381548110151561127d57fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600b60008c8152602001908152602001600020600060026001600280549050038154811015156112da57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615156113c457600760008c8152602001908152602001600020600260016002805490500381548110151561133157fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600b60008d81526020019081526020016000206000600260016002805490500381548110151561139357fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b604080519081016040528088815260200186815250905060018214819850985050505050505050935093915050565b6060600060606000806000806000806002805490506040519080825280602002602001820160405280156114365781602001602082028038833980820191505090505b50965060018b51118015611463575060008b600181518110151561145657fe5b9060200190602002015114155b156114f1576000600460008d600181518110151561147d57fe5b906020019060200201518152602001908152602001600020541415156114f0576001876001600460008f60018151811015156114b557fe5b90602001906020020151815260200190815260200160002054038151811015156114db57fe5b90602001906020020190151590811515815250505b5b60008b5111801561151b575060008b600081518110151561150e57fe5b9060200190602002015114155b1561163657600095505b600360008c600081518110151561153857fe5b9060200190602002015181526020019081526020016000208054905086101561163557866001600360008e600081518110151561157157fe5b9060200190602002015181526020019081526020016000208881548110151561159657fe5b9060005260206000200154038151811015156115ae57fe5b906020019060200201511515611628576001876001600360008f60008151811015156115d657fe5b906020019060200201518152602001908152602001600020898154811015156115fb57fe5b90600052602060002001540381518110151561161357fe5b90602001906020020190151590811515815250505b8580600101965050611525565b5b60028b51118015611660575060008b600281518110151561165357fe5b9060200190602002015114155b1561177b57600094505b600760008c600281518110151561167d57fe5b9060200190602002015181526020019081526020016000208054905085101561177a57866001600760008e60028151811015156116b657fe5b906020019060200201518152602001908152602001600020878154811015156116db57fe5b9060005260206000200154038151811015156116f357fe5b90602001906020020151151561176d576001876001600760008f600281518110151561171b57fe5b9060200190602002015181526020019081526020016000208881548110151561174057fe5b90600052602060002001540381518110151561175857fe5b90602001906020020190151590811515815250505b848060010195505061166a565b5b60008a511180156117d15750600073ffffffffffffffffffffffffffffffffffffffff168a60008151811015156117ae57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561197057600093505b600560008b60008151811015156117ee57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208054905084101561196f57866001600560008d600081518110151561185357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156118a457fe5b9060005260206000200154038151811015156118bc57fe5b906020019060200201511515611962576001876001600560008e60008151811015156118e457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208781548110151561193557fe5b90600052602060002001540381518110151561194d57fe5b90602001906020020190151590811515815250505b83806001019450506117db565b5b60018a511180156119c65750600073ffffffffffffffffffffffffffffffffffffffff168a60018151811015156119a357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15611b6557600092505b600660008b60018151811015156119e357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002080549050831015611b6457866001600660008d6001815181101515611a4857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002085815481101515611a9957fe5b906000526020600020015403815181101515611ab157fe5b906020019060200201511515611b57576001876001600660008e6001815181101515611ad957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002086815481101515611b2a57fe5b906000526020600020015403815181101515611b4257fe5b90602001906020020190151590811515815250505b82806001019350506119d0565b5b60009150600090505b8651811015611baa578681815181101515611b8557fe5b9060200190602002015115611b9d","5781806001019250505b8080600101915050611b6e565b868298509850505050505050509250929050565b6000600260016002805490500190806001815401808255809150509060018203906000526020600020016000909192909190915055506002600160028054905003815481101515611c0b57fe5b9060005260206000200154905090565b60606000806060600080861415611c69576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611d69565b8593505b600084141515611c93578280600101935050600a84811515611c8b57fe5b049350611c6d565b826040519080825280601f01601f191660200182016040528015611cc65781602001602082028038833980820191505090505b5091506001830390505b600086141515611d6557600a86811515611ce657fe5b066030017f010000000000000000000000000000000000000000000000000000000000000002828280600190039350815181101515611d2157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a86811515611d5d57fe5b049550611cd0565b8194505b50505050919050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff1694506000851415611ddc576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509550611edc565b8493505b600084141515611e06578280600101935050600a84811515611dfe57fe5b049350611de0565b826040519080825280601f01601f191660200182016040528015611e395781602001602082028038833980820191505090505b5091506001830390505b600085141515611ed857600a85811515611e5957fe5b066030017f010000000000000000000000000000000000000000000000000000000000000002828280600190039350815181101515611e9457fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a85811515611ed057fe5b049450611e43565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f6c9190614a6e565b602060405180830381600087803b158015611f8657600080fd5b505af1158015611f9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611fbe9190810190614214565b95506000945089604051908082528060200260200182016040528015611ff35781602001602082028038833980820191505090505b50935060009250600091505b8a518210156121da578a8281518110151561201657fe5b90602001906020020151156121cd578573ffffffffffffffffffffffffffffffffffffffff1663e8434e3961204d60018501611c1b565b8b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612087929190614a0e565b602060405180830381600087803b1580156120a157600080fd5b505af11580156120b5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506120d991908101906141c2565b90508073ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561213f57600080fd5b505af1158015612153573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612177919081019061423d565b8501945080848480600101955081518110151561219057fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8180600101925050611fff565b838597509750505050505050935093915050565b606080600080600080600060606008890260405190808252806020026020018201604052801561223257816020015b606081526020019060019003908161221d5790505b509650600095505b8951861015612bd157898681518110151561225157fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156122ca57600080fd5b505af11580156122de573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612302919081019061423d565b831215612bc4578473ffffffffffffffffffffffffffffffffffffffff1663846719e0846040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161235e91906149ca565b602060405180830381600087803b15801561237857600080fd5b505af115801561238c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506123b091908101906141eb565b9150600093506125b78273ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161240c90614b53565b600060405180830381600087803b15801561242657600080fd5b505af115801561243a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506124639190810190614266565b8373ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016124b690614afe565b600060405180830381600087803b1580156124d057600080fd5b505af11580156124e4573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061250d9190810190614266565b8473ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161256090614ba8565b602060405180830381600087803b15801561257a57600080fd5b505af115801561258e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506125b29190810190613fee565b613312565b9050600381511415156125ff576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016125f690614ade565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161265290614bf6565b600060405180830381600087803b15801561266c57600080fd5b505af1158015612680573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506126a99190810190614266565b878585600802018151811015156126bc57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161271c90614c6b565b600060405180830381600087803b15801561273657600080fd5b505af115801561274a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506127739190810190614266565b8785600101955085856008020181518110151561278c57fe5b906020019060200201819052508060008151811015156127a857fe5b90602001906020020151878560010195508585600802018151811015156127cb57fe5b906020019060200201819052508060018151811015156127e757fe5b906020019060200201518785600101955085856008020181518110151561280a57fe5b90602001906020020181905250612999600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f02b8c8c61290a8573ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016128ae90614d35565b600060405180830381600087803b1580156128c857600080fd5b505af11580156128dc573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506129059190810190614266565b6138b1565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016129429190614dff565b602060405180830381600087803b15801561295c57600080fd5b505af1158015612970573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061299491908101906142a7565b611c1b565b878560010195508585600802018151811015156129b257fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a1290614cc0565b600060405180830381600087803b158015612a2c57600080fd5b505af1158015612a40573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612a699190810190614266565b87856001019550858560080201815181101515612a8257fe5b90602001906020020181905250612b528273ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae590614a90565b602060405180830381600087803b158015612aff57600080fd5b505af1158015612b13573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612b379190810190613fee565b73ffffffffffffffffffffffffffffffffffffffff16611d72565b87856001019550858560080201815181101515612b6b57fe5b90602001906020020181905250806002815181101515612b8757fe5b906020019060200201518785","6001019550858560080201815181101515612baa57fe5b906020019060200201819052508280600101935050612266565b858060010196505061223a565b8697505050505050505092915050565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c5e9190614a6e565b602060405180830381600087803b158015612c7857600080fd5b505af1158015612c8c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612cb09190810190614214565b91508173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015612d1657600080fd5b505af1158015612d2a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612d4e91908101906141eb565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b516612d966002600160028054905003815481101515612d8657fe5b9060005260206000200154611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612dce9190614daa565b600060405180830381600087803b158015612de857600080fd5b505af1158015612dfc573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516612e2589611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612e5d9190614c8b565b600060405180830381600087803b158015612e7757600080fd5b505af1158015612e8b573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516612eb48a611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612eec9190614c16565b600060405180830381600087803b158015612f0657600080fd5b505af1158015612f1a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516612f71886002815181101515612f4c57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612fa99190614b73565b600060405180830381600087803b158015612fc357600080fd5b505af1158015612fd7573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661302e88600381518110151561300957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130669190614b1e565b600060405180830381600087803b15801561308057600080fd5b505af1158015613094573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158760018151811015156130c357fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131059190614ab0565b600060405180830381600087803b15801561311f57600080fd5b505af1158015613133573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661315c87611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131949190614d55565b600060405180830381600087803b1580156131ae57600080fd5b505af11580156131c2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158760008151811015156131f157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132339190614bc8565b600060405180830381600087803b15801561324d57600080fd5b505af1158015613261573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51685600081518110151561329057fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132d29190614ce0565b600060405180830381600087803b1580156132ec57600080fd5b505af1158015613300573d6000803e3d6000fd5b50505050809250505095945050505050565b606080600080600360405190808252806020026020018201604052801561334d57816020015b60608152602001906001900390816133385790505b50925060008751118015613396575061336587613a82565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b1561352057600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca06133e289613a82565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161341a91906148e1565b602060405180830381600087803b15801561343457600080fd5b505af1158015613448573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061346c9190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156134e0576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016134d790614d15565b60405180910390fd5b6134ff8173ffffffffffffffffffffffffffffffffffffffff16611d72565b83600081518110151561350e57fe5b9060200190602002018190525061353e565b8683600081518110151561353057fe5b906020019060200201819052505b60008651118015613584575061355386613a82565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b1561370e57600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca06135d088613a82565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161360891906148e1565b602060405180830381600087803b15801561362257600080fd5b505af1158015613636573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061365a9190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156136ce576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016136c590614ddf565b60405180910390fd5b6136ed8173ffffffffffffffffffffffffffffffffffffffff16611d72565b8360018151811015156136fc57fe5b9060200190602002018190525061372c565b8583600181518110151561371e57fe5b906020019060200201819052505b600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016137a391906148e1565b602060405180830381600087803b1580156137bd57600080fd5b505af11580156137d1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506137f59190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613869576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161386090614c4b565b60405180910390fd5b6138888173ffffffffffffffffffffffffffffffffffffffff16611d72565b83600281518110151561389757fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613a7757603083828151811015156138dd57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff16101580156139db57506039838281518110151561396757fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613a6a57603083828151811015156139f057fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b80806001019150506138c4565b819350505050919050565b6000606060008084925060009150600090505b8251811015613c485760308382815181101515613aae57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bac575060398382815181101515613b3857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000","0000000000000000000000000000000000900460ff1611155b15613c3b5760308382815181101515613bc157fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613a95565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613c818235615038565b905092915050565b6000613c958251615038565b905092915050565b600082601f8301121515613cb057600080fd5b8135613cc3613cbe82614e47565b614e1a565b91508181835260208401935060208101905083856020840282011115613ce857600080fd5b60005b83811015613d185781613cfe8882613c75565b845260208401935060208301925050600181019050613ceb565b5050505092915050565b600082601f8301121515613d3557600080fd5b8135613d48613d4382614e6f565b614e1a565b91508181835260208401935060208101905083856020840282011115613d6d57600080fd5b60005b83811015613d9d5781613d838882613ef2565b845260208401935060208301925050600181019050613d70565b5050505092915050565b600082601f8301121515613dba57600080fd5b8135613dcd613dc882614e97565b614e1a565b9150818183526020840193506020810190508360005b83811015613e135781358601613df98882613f1a565b845260208401935060208301925050600181019050613de3565b5050505092915050565b600082601f8301121515613e3057600080fd5b8135613e43613e3e82614ebf565b614e1a565b91508181835260208401935060208101905083856020840282011115613e6857600080fd5b60005b83811015613e985781613e7e8882613fc6565b845260208401935060208301925050600181019050613e6b565b5050505092915050565b6000613eae8251615058565b905092915050565b6000613ec2825161506a565b905092915050565b6000613ed6825161507c565b905092915050565b6000613eea825161508e565b905092915050565b6000613efe82356150a0565b905092915050565b6000613f1282516150a0565b905092915050565b600082601f8301121515613f2d57600080fd5b8135613f40613f3b82614ee7565b614e1a565b91508082526020830160208301858383011115613f5c57600080fd5b613f678382846150d8565b50505092915050565b600082601f8301121515613f8357600080fd5b8151613f96613f9182614f13565b614e1a565b91508082526020830160208301858383011115613fb257600080fd5b613fbd8382846150e7565b50505092915050565b6000613fd282356150aa565b905092915050565b6000613fe682516150aa565b905092915050565b60006020828403121561400057600080fd5b600061400e84828501613c89565b91505092915050565b60008060006060848603121561402c57600080fd5b600084013567ffffffffffffffff81111561404657600080fd5b61405286828701613c9d565b935050602061406386828701613fc6565b925050604084013567ffffffffffffffff81111561408057600080fd5b61408c86828701613da7565b9150509250925092565b600080604083850312156140a957600080fd5b600083013567ffffffffffffffff8111156140c357600080fd5b6140cf85828601613e1d565b925050602083013567ffffffffffffffff8111156140ec57600080fd5b6140f885828601613c9d565b9150509250929050565b60008060006060848603121561411757600080fd5b600084013567ffffffffffffffff81111561413157600080fd5b61413d86828701613e1d565b935050602084013567ffffffffffffffff81111561415a57600080fd5b61416686828701613c9d565b925050604084013567ffffffffffffffff81111561418357600080fd5b61418f86828701613d22565b9150509250925092565b6000602082840312156141ab57600080fd5b60006141b984828501613ea2565b91505092915050565b6000602082840312156141d457600080fd5b60006141e284828501613eb6565b91505092915050565b6000602082840312156141fd57600080fd5b600061420b84828501613eca565b91505092915050565b60006020828403121561422657600080fd5b600061423484828501613ede565b91505092915050565b60006020828403121561424f57600080fd5b600061425d84828501613f06565b91505092915050565b60006020828403121561427857600080fd5b600082015167ffffffffffffffff81111561429257600080fd5b61429e84828501613f70565b91505092915050565b6000602082840312156142b957600080fd5b60006142c784828501613fda565b91505092915050565b600080604083850312156142e357600080fd5b60006142f185828601613fda565b925050602083015167ffffffffffffffff81111561430e57600080fd5b61431a85828601613f70565b9150509250929050565b61432d81614ff8565b82525050565b600061433e82614f82565b80845260208401935061435083614f3f565b60005b8281101561438257614366868351614324565b61436f82614fc4565b9150602086019550600181019050614353565b50849250505092915050565b600061439982614f8d565b8084526020840193506143ab83614f4c565b60005b828110156143dd576143c18683516144a2565b6143ca82614fd1565b91506020860195506001810190506143ae565b50849250505092915050565b60006143f482614f98565b8084526020840193508360208202850161440d85614f59565b60005b84811015614446578383038852614428838351614514565b925061443382614fde565b9150602088019750600181019050614410565b508196508694505050505092915050565b61446081614fa3565b61446982614f66565b60005b8281101561449b5761447f8583516148d2565b61448882614feb565b915060208501945060018101905061446c565b5050505050565b6144ab81615018565b82525050565b6144ba816150b4565b82525050565b6144c9816150c6565b82525050565b6144d881615024565b82525050565b60006144e982614fb9565b8084526144fd8160208601602086016150e7565b6145068161511a565b602085010191505092915050565b600061451f82614fae565b8084526145338160208601602086016150e7565b61453c8161511a565b602085010191505092915050565b6000815460018116600081146145675760018114614587576145c8565b607f600283041680865260ff1983166020870152604086019350506145c8565b6002820480865260208601955061459d85614f70565b60005b828110156145bf578154818901526001820191506020810190506145a0565b80880195505050505b505092915050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000600682527f6e6f7465496400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6148db8161502e565b82525050565b60006020820190506148f66000830184614324565b92915050565b600060808201905081810360008301526149168187614333565b905061492560208301866148d2565b818103604083015261493781856143e9565b905061494660608301846144cf565b95945050505050565b60006040820190508181036000830152614969818561438e565b905061497860208301846148d2565b9392505050565b6000602082019050818103600083015261499981846143e9565b905092915050565b60006060820190506149b660008301856144a2565b6149c36020830184614457565b9392505050565b60006020820190506149df60008301846144cf565b92915050565b60006040820190506149fa60008301856144cf565b614a0760208301846144cf565b9392505050565b60006040820190508181036000830152614a2881856144de565b9050614a3760208301846144b1565b9392505050565b60006040820190508181036000830152614a5881856144de565b9050614a6760208301846144c0565b9392505050565b60006020820190508181036000830152614a88818461454a565b905092915050565b60006020820190508181036000830152614aa9816145d0565b9050919050565b60006040820190508181036000830152614ac9816145d0565b9050614ad86020830184614324565b92915050565b60006020820190508181036000830152614af781614607565b9050919050565b60006020820190508181036000830152614b178161463e565b9050919050565b60006040820190508181036000830152614b378161463e565b90508181036020830152614b4b81846144de565b905092915050565b60006020820190508181036000830152614b6c81614675565b9050919050565b60006040820190508181036000830152614b8c81614675565b90508181036020","830152614ba081846144de565b905092915050565b60006020820190508181036000830152614bc1816146ac565b9050919050565b60006040820190508181036000830152614be1816146ac565b9050614bf06020830184614324565b92915050565b60006020820190508181036000830152614c0f816146e3565b9050919050565b60006040820190508181036000830152614c2f816146e3565b90508181036020830152614c4381846144de565b905092915050565b60006020820190508181036000830152614c648161471a565b9050919050565b60006020820190508181036000830152614c8481614751565b9050919050565b60006040820190508181036000830152614ca481614751565b90508181036020830152614cb881846144de565b905092915050565b60006020820190508181036000830152614cd981614788565b9050919050565b60006040820190508181036000830152614cf981614788565b90508181036020830152614d0d8184614514565b905092915050565b60006020820190508181036000830152614d2e816147bf565b9050919050565b60006020820190508181036000830152614d4e816147f6565b9050919050565b60006040820190508181036000830152614d6e816147f6565b90508181036020830152614d8281846144de565b905092915050565b60006020820190508181036000830152614da38161482d565b9050919050565b60006040820190508181036000830152614dc381614864565b90508181036020830152614dd781846144de565b905092915050565b60006020820190508181036000830152614df88161489b565b9050919050565b6000602082019050614e1460008301846148d2565b92915050565b6000604051905081810181811067ffffffffffffffff82111715614e3d57600080fd5b8060405250919050565b600067ffffffffffffffff821115614e5e57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614e8657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614eae57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614ed657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614efe57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115614f2a57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600061506382614ff8565b9050919050565b600061507582614ff8565b9050919050565b600061508782614ff8565b9050919050565b600061509982614ff8565b9050919050565b6000819050919050565b6000819050919050565b60006150bf82614ff8565b9050919050565b60006150d182614ff8565b9050919050565b82818337600083830152505050565b60005b838110156151055780820151818401526020810190506150ea565b83811115615114576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a72305820dc885301174bdc18e5daf9d6f1118469a65c74e9259c95725aa4351fa4ee95a46c6578706572696d656e74616cf50037"};
+    public static final String[] BINARY_ARRAY = {"60806040526040805190810160405280600681526020017f7075626c69630000000000000000000000000000000000000000000000000000815250600090805190602001906300000053929190630000147d565b506040805190810160405280600581526020017f6f776e65720000000000000000000000000000000000000000000000000000008152506001908051906020019063000000a3929190630000147d565b506040805190810160405280600581526020017f61646d696e0000000000000000000000000000000000000000000000000000008152506002908051906020019063000000f3929190630000147d565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906300000143929190630000147d565b506040805190810160405280600281526020017f5f77000000000000000000000000000000000000000000000000000000000000815250600490805190602001906300000193929190630000147d565b506040805190810160405280600381526020017f616c6c00000000000000000000000000000000000000000000000000000000008152506005908051906020019063000001e3929190630000147d565b506040805190810160405280600281526020017f6964000000000000000000000000000000000000000000000000000000000000815250600690805190602001906300000233929190630000147d565b506040805190810160405280600481526020017f6164647200000000000000000000000000000000000000000000000000000000815250600790805190602001906300000283929190630000147d565b506040805190810160405280600481526020017f74797065000000000000000000000000000000000000000000000000000000008152506008908051906020019063000002d3929190630000147d565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906300000323929190630000147d565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906300000373929190630000147d565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b908051906020019063000003c3929190630000147d565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c90805190602001906300000413929190630000147d565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d90805190602001906300000463929190630000147d565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e908051906020019063000004b3929190630000147d565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f90805190602001906300000503929190630000147d565b506040805190810160405280600781526020017f62616c616e636500000000000000000000000000000000000000000000000000815250601090805190602001906300000553929190630000147d565b506040805190810160405280600681526020017f7265636f726400000000000000000000000000000000000000000000000000008152506011908051906020019063000005a3929190630000147d565b506040805190810160405280600581526020017f61646d696e0000000000000000000000000000000000000000000000000000008152506012908051906020019063000005f3929190630000147d565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906300000643929190630000147d565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250601490805190602001906300000693929190630000147d565b506040805190810160405280600481526020017f75736572000000000000000000000000000000000000000000000000000000008152506015908051906020019063000006e3929190630000147d565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015630000080257600080fd5b50604051630001c7cd380380630001c7cd8339810180604052630000082c91908101906300001770565b8383606063000008683073ffffffffffffffffffffffffffffffffffffffff1663000010096401000000000263000106fa176401000000009004565b9050630000093560068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015630000090d5780601f1063000008e057610100808354040283529160200191630000090d565b820191906000526020600020905b81548152906001019060200180831163000008ee57829003601f168201915b505050505082601b63000010f264010000000002630000d80117909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801563000009ff57600080fd5b505af11580156300000a15573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000a3d91908101906300001741565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156300000b0557600080fd5b505af11580156300000b1b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000b4391908101906300001741565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff161415156300000c035781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506300000c45565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b505050600085511180156300000c5c575060408551105b15156300000ca3576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016300000c9a906300001aee565b60405180910390fd5b80602360006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081156300000ee7578273ffffffffffffffffffffffffffffffffffffffff1663af0680206040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156300000d5257600080fd5b505af11580156300000d68573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000d9091908101906300001741565b85846300000d9e630000150b565b6300000dae939291906300001a7e565b604051809103906000f0801580156300000dcc573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166319ab453c602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016300000eaa919063000019e3565b600060405180830381600087803b1580156300000ec657600080fd5b505af11580156300000edc573d6000803e3d6000fd5b505050506300000ffd565b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c37a8361866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016300000f6291906300001ac8565b602060405180830381600087803b1580156300000f7e57600080fd5b505af11580156300000f94573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000fbc91908101906300001741565b602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050","5050506300001c38565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801563000010565781602001602082028038833980820191505090505b509250600090505b601481101563000010eb578181601481101515630000107957fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151563000010ac57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050630000105e565b5050919050565b60008084600001846040518082805190602001908083835b60208310151563000011335780518252602082019150602081019050602083039250630000110a565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111563000012fa577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b602083101515630000120f578051825260208201915060208101905060208303925063000011e6565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051630000125a9594939291906300001a02565b60405180910390a18285600001856040518082805190602001908083835b60208310151563000012a157805182526020820191506020810190506020830392506300001278565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101908051906020019063000012ee929190630000151d565b50600191506300001475565b8285600001856040518082805190602001908083835b602083101515630000133957805182526020820191506020810190506020830392506300001310565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906300001386929190630000151d565b5084600101805480919060010163000013a1919063000015ab565b90506001810185600001856040518082805190602001908083835b60208310151563000013e5578051825260208201915060208101905060208303925063000013bc565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515630000143357fe5b90600052602060002090600202016000019080519060200190630000145b929190630000151d565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f1063000014c257805160ff191683800117855563000014f6565b8280016001018555821563000014f6579182015b8281111563000014f557825182559160200191906001019063000014d6565b5b5090506300001507919063000015e3565b5090565b6040516157e2806300016feb83390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10630000156257805160ff19168380011785556300001596565b828001600101855582156300001596579182015b8281111563000015955782518255916020019190600101906300001576565b5b50905063000015a7919063000015e3565b5090565b81548183558181111563000015de5760020281600202836000526020600020918201910163000015dd9190630000160e565b5b505050565b630000160b91905b80821115630000160757600081600090555060010163000015eb565b5090565b90565b630000165891905b808211156300001654576000808201600063000016359190630000165b565b6001820160006101000a81549060ff0219169055506002016300001616565b5090565b90565b50805460018160011615610100020316600290046000825580601f106300001685575063000016a8565b601f01602090049060005260206000209081019063000016a7919063000015e3565b5b50565b600063000016bb82516300001bc2565b905092915050565b600063000016d382516300001be2565b905092915050565b600082601f830112151563000016f057600080fd5b8151630000170b6300001704826300001b41565b6300001b12565b91508082526020830160208301858383011115630000172957600080fd5b63000017388382846300001bee565b50505092915050565b600060208284031215630000175557600080fd5b600063000017678482850163000016ab565b91505092915050565b600080600080600060a08688031215630000178a57600080fd5b600086015167ffffffffffffffff81111563000017a657600080fd5b63000017b68882890163000016db565b955050602063000017cb8882890163000016ab565b945050604063000017e08882890163000016ab565b935050606063000017f58882890163000016c3565b9250506080630000180a8882890163000016ab565b9150509295509295909350565b6300001824816300001ba2565b82525050565b60006300001839826300001b8c565b80845263000018518160208601602086016300001bee565b630000185e816300001c27565b602085010191505092915050565b6000630000187b826300001b81565b80845263000018938160208601602086016300001bee565b63000018a0816300001c27565b602085010191505092915050565b60008154600181166000811463000018d1576001811463000018f357630000193c565b607f600283041680865260ff198316602087015260408601935050630000193c565b60028204808652602086019550630000190d856300001b6f565b60005b828110156300001933578154818901526001820191506020810190506300001910565b80880195505050505b505092915050565b60006300001953826300001b97565b808452630000196b8160208601602086016300001bee565b6300001978816300001c27565b602085010191505092915050565b6000602e82527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634200000000000000000000000000000000000006040830152606082019050919050565b600060208201905063000019fc60008301846300001817565b92915050565b600060a0820190506300001a1b60008301886300001817565b6300001a2c60208301876300001817565b81810360408301526300001a428186630000186c565b905081810360608301526300001a5a8185630000182a565b905081810360808301526300001a72818463000018ae565b90509695505050505050565b60006060820190506300001a9760008301866300001817565b81810360208301526300001aad81856300001944565b90506300001ac060408301846300001817565b949350505050565b600060208201905081810360008301526300001ae681846300001944565b905092915050565b600060208201905081810360008301526300001b0b816300001986565b9050919050565b6000604051905081810181811067ffffffffffffffff821117156300001b3757600080fd5b8060405250919050565b600067ffffffffffffffff8211156300001b5a57600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b60005b838110156300001c105780820151818401526020810190506300001bf1565b838111156300001c21576000848401525b50505050565b6000601f19601f8301169050919050565b620153a1806300001c4a6000396000f30060806040526004361062000397576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806301db8d89146200039c57806303ba71eb14620003cc578063081f933914620003fc5780630c0fd886146200042c5780630feca68a146200045c578063117803e3146200048c5780631560e1ca14620004bc57806315e9977e146200050257806319fc05e9146200053257806320ba5b60146200057657806323a772bd14620005ba57806326bca08914620005ea578063283d26ca146200062e5780632a0acc6a146200065e5780632ef8cb1c146200068e5780633915175314620006be5780633a0e617414620006ee5780633b007d8e146200071e5780633ef268931462000762578063403c6cfa14620007a65780634e55d03c14620007ea5780635262e2a1146200082e57806357872d13146200085e57806358edef4c146200088e5780635b0ef43214620008d25780635f2704391462000918578063632e1dfe1462000946578063699cc7f114620009765780636adc416514620009a65780636c906a5c14620009d65780636cf1c3ee1462000a06578063713aadf81462000a4a5780637bdd20b21462000a8e5780637e4755151462000ad257806381e167cf1462000b165780638662acad1462000b46578063882fa75d1462000b8a57806392ad4c561462000bce578063949d225d1462000c12578063983d27371462000c425780639d53fe2b1462000c725780639d6f46bc1462000ca25780639e3ebd3b1462000ce6578063a18c751e1462000d2b578063abacd0681462000d6f578063ac44522e1462000db3578063b11569f51462000df7578063b3032be81462000e27578063b3cea2171462000e57578063b4eb5ede1462000e87578063b6b5675b1462000eb7578063b85a29011462000efc578063bb1239c31462000f2c578063bb24fe8a1462000f5c578063bdaa60191462000f8c578063be26ff7c1462000fd0578063bf9169e51462001015578063c044eb36146200105a578063c1fc1fba146200109e578063c28304aa14620010e5578063c55fc52d1462001115578063cb6163ad1462001145578063d087d2881462001189578063d55edd6514620011b9578063d6d7d52514620011fe578063e077fef91462001242578063e8c2553a1462001286578063ee58350614620012ca578063ef966c89146200130e578063f02b8c8c1462001352578063f307b32c1462001396578063fea5e8b214620013c6575b600080fd5b348015620003a957600080fd5b50620003b46200140b565b60","4051620003c3919062014434565b60405180910390f35b348015620003d957600080fd5b50620003e4620014ad565b604051620003f3919062014434565b60405180910390f35b3480156200040957600080fd5b50620004146200154f565b60405162000423919062014434565b60405180910390f35b3480156200043957600080fd5b5062000444620015f1565b60405162000453919062014434565b60405180910390f35b3480156200046957600080fd5b506200047462001693565b60405162000483919062014cae565b60405180910390f35b3480156200049957600080fd5b50620004a4620016bb565b604051620004b3919062014434565b60405180910390f35b348015620004c957600080fd5b50620004e86004803603620004e29190810190620115cd565b6200175d565b604051620004f99392919062014d43565b60405180910390f35b3480156200050f57600080fd5b506200051a62001a85565b60405162000529919062014434565b60405180910390f35b3480156200053f57600080fd5b506200055e600480360362000558919081019062011d43565b62001b27565b6040516200056d9190620143e3565b60405180910390f35b3480156200058357600080fd5b50620005a260048036036200059c919081019062011bf0565b620022e7565b604051620005b19190620143e3565b60405180910390f35b348015620005c757600080fd5b50620005d2620024f6565b604051620005e1919062014434565b60405180910390f35b348015620005f757600080fd5b50620006166004803603620006109190810190620119a5565b62002598565b604051620006259190620142fe565b60405180910390f35b3480156200063b57600080fd5b50620006466200325c565b60405162000655919062014434565b60405180910390f35b3480156200066b57600080fd5b5062000676620032fe565b60405162000685919062014434565b60405180910390f35b3480156200069b57600080fd5b50620006a6620033a0565b604051620006b5919062014434565b60405180910390f35b348015620006cb57600080fd5b50620006d662003442565b604051620006e5919062014434565b60405180910390f35b348015620006fb57600080fd5b5062000706620034e4565b60405162000715919062014434565b60405180910390f35b3480156200072b57600080fd5b506200074a600480360362000744919081019062011bf0565b62003586565b604051620007599190620143e3565b60405180910390f35b3480156200076f57600080fd5b506200078e6004803603620007889190810190620113ae565b62003795565b6040516200079d919062014322565b60405180910390f35b348015620007b357600080fd5b50620007d26004803603620007cc91908101906201187c565b62003a85565b604051620007e1919062014cae565b60405180910390f35b348015620007f757600080fd5b5062000816600480360362000810919081019062011486565b62003dae565b60405162000825919062014322565b60405180910390f35b3480156200083b57600080fd5b506200084662004320565b604051620008559190620137ea565b60405180910390f35b3480156200086b57600080fd5b50620008766200434a565b60405162000885919062014434565b60405180910390f35b3480156200089b57600080fd5b50620008ba6004803603620008b4919081019062011b51565b620043ec565b604051620008c99190620143e3565b60405180910390f35b348015620008df57600080fd5b50620008fe6004803603620008f8919081019062011486565b620045f8565b6040516200090f9392919062014398565b60405180910390f35b3480156200092557600080fd5b506200094460048036036200093e919081019062011d99565b62004b2b565b005b3480156200095357600080fd5b506200095e62004e2a565b6040516200096d9190620137ea565b60405180910390f35b3480156200098357600080fd5b506200098e62004e50565b6040516200099d919062014434565b60405180910390f35b348015620009b357600080fd5b50620009be62004ef2565b604051620009cd9190620137ea565b60405180910390f35b348015620009e357600080fd5b50620009ee62004f18565b604051620009fd919062014cae565b60405180910390f35b34801562000a1357600080fd5b5062000a32600480360362000a2c919081019062011e1e565b62004fe1565b60405162000a41919062014cae565b60405180910390f35b34801562000a5757600080fd5b5062000a76600480360362000a70919081019062012017565b620052df565b60405162000a859190620143e3565b60405180910390f35b34801562000a9b57600080fd5b5062000aba600480360362000ab4919081019062011b96565b620055ae565b60405162000ac99190620143e3565b60405180910390f35b34801562000adf57600080fd5b5062000afe600480360362000af8919081019062011e1e565b620057e4565b60405162000b0d9190620143e3565b60405180910390f35b34801562000b2357600080fd5b5062000b2e62005b6e565b60405162000b3d919062014434565b60405180910390f35b34801562000b5357600080fd5b5062000b72600480360362000b6c919081019062011b96565b62005c10565b60405162000b81919062014458565b60405180910390f35b34801562000b9757600080fd5b5062000bb6600480360362000bb0919081019062011f55565b62005e45565b60405162000bc59190620143e3565b60405180910390f35b34801562000bdb57600080fd5b5062000bfa600480360362000bf4919081019062011430565b6200691a565b60405162000c099190620143e3565b60405180910390f35b34801562000c1f57600080fd5b5062000c2a62006e3d565b60405162000c39919062014cae565b60405180910390f35b34801562000c4f57600080fd5b5062000c5a62006e50565b60405162000c69919062014434565b60405180910390f35b34801562000c7f57600080fd5b5062000c8a62006ef2565b60405162000c99919062014434565b60405180910390f35b34801562000caf57600080fd5b5062000cce600480360362000cc89190810190620114f2565b62006f94565b60405162000cdd919062014cae565b60405180910390f35b34801562000cf357600080fd5b5062000d12600480360362000d0c919081019062011e5f565b62007072565b60405162000d22929190620142c3565b60405180910390f35b34801562000d3857600080fd5b5062000d57600480360362000d51919081019062011bf0565b620072b8565b60405162000d669190620143e3565b60405180910390f35b34801562000d7c57600080fd5b5062000d9b600480360362000d959190810190620115cd565b620074c7565b60405162000daa9190620141be565b60405180910390f35b34801562000dc057600080fd5b5062000ddf600480360362000dd9919081019062011c63565b620079db565b60405162000dee9190620143e3565b60405180910390f35b34801562000e0457600080fd5b5062000e0f62007c28565b60405162000e1e9190620137ea565b60405180910390f35b34801562000e3457600080fd5b5062000e3f62007c4e565b60405162000e4e9190620137ea565b60405180910390f35b34801562000e6457600080fd5b5062000e6f62007d17565b60405162000e7e919062014434565b60405180910390f35b34801562000e9457600080fd5b5062000e9f62007db9565b60405162000eae919062014434565b60405180910390f35b34801562000ec457600080fd5b5062000ee3600480360362000edd919081019062011fc1565b62007e5b565b60405162000ef392919062014244565b60405180910390f35b34801562000f0957600080fd5b5062000f1462008338565b60405162000f23919062014434565b60405180910390f35b34801562000f3957600080fd5b5062000f44620083da565b60405162000f539190620137ea565b60405180910390f35b34801562000f6957600080fd5b5062000f7462008400565b60405162000f83919062014434565b60405180910390f35b34801562000f9957600080fd5b5062000fb8600480360362000fb2919081019062011d43565b620084a2565b60405162000fc7919062014efc565b60405180910390f35b34801562000fdd57600080fd5b5062000ffc600480360362000ff691908101906201209a565b62008d3e565b6040516200100c92919062014d8e565b60405180910390f35b3480156200102257600080fd5b506200104160048036036200103b919081019062011684565b62008ece565b6040516200105192919062014400565b60405180910390f35b3480156200106757600080fd5b50620010866004803603620010809190810190620113ae565b62009167565b60405162001095919062014cae565b60405180910390f35b348015620010ab57600080fd5b50620010ca6004803603620010c4919081019062011d43565b62009686565b604051620010dc9493929190620141e2565b60405180910390f35b348015620010f257600080fd5b50620010fd62009ad8565b6040516200110c9190620137ea565b60405180910390f35b3480156200112257600080fd5b506200112d62009b02565b6040516200113c9190620137ea565b60405180910390f35b3480156200115257600080fd5b506200117160048036036200116b919081019062011c63565b62009bcb565b604051620011809190620143e3565b60405180910390f35b3480156200119657600080fd5b50620011a162009e18565b604051620011b0919062014cae565b60405180910390f35b348015620011c657600080fd5b50620011e56004803603620011df919081019062011d43565b62009e22565b604051620011f5929190620142c3565b60405180910390f35b3480156200120b57600080fd5b506200122a600480360362001224919081019062011b51565b6200a424565b60405162001239919062014458565b60405180910390f35b3480156200124f57600080fd5b506200126e60048036036200126891908101906201187c565b6200a630565b6040516200127d9190620141be565b60405180910390f35b3480156200129357600080fd5b50620012b26004803603620012ac919081019062011c63565b6200aaeb565b604051620012c19190620143e3565b60405180910390f35b348015620012d757600080fd5b50620012f66004803603620012f0919081019062011d43565b6200ad38565b604051620013059190620143e3565b60405180910390f35b3480156200131b57600080fd5b506200133a6004803603620013349190810190620113ae565b6200b6de565b604051620013499190620143e3565b60405180910390f35b3480156200135f57600080fd5b506200137e600480360362001378919081019062011ceb565b6200beb1565b6040516200138d919062014cae565b60405180910390f35b348015620013a357600080fd5b50620013ae6200bf89565b604051620013bd","919062014434565b60405180910390f35b348015620013d357600080fd5b50620013f26004803603620013ec9190810190620115cd565b6200c02b565b6040516200140292919062014400565b60405180910390f35b600c8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620014a55780601f106200147957610100808354040283529160200191620014a5565b820191906000526020600020905b8154815290600101906020018083116200148757829003601f168201915b505050505081565b600e8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620015475780601f106200151b5761010080835404028352916020019162001547565b820191906000526020600020905b8154815290600101906020018083116200152957829003601f168201915b505050505081565b600d8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620015e95780601f10620015bd57610100808354040283529160200191620015e9565b820191906000526020600020905b815481529060010190602001808311620015cb57829003601f168201915b505050505081565b600b8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200168b5780601f106200165f576101008083540402835291602001916200168b565b820191906000526020600020905b8154815290600101906020018083116200166d57829003601f168201915b505050505081565b6000620016ad60016021546200ca4890919063ffffffff16565b602181905550602154905090565b60148054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620017555780601f10620017295761010080835404028352916020019162001755565b820191906000526020600020905b8154815290600101906020018083116200173757829003601f168201915b505050505081565b60006060806000806000606080620017778c8c8c6200caa2565b620017858c8c8c8c6200cf82565b9b5060019450600193508b60038151811015156200179f57fe5b906020019060200201519250602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630e4388688c6001815181101515620017f957fe5b906020019060200201518d60028151811015156200181357fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200185892919062014d8e565b600060405180830381600087803b1580156200187357600080fd5b505af115801562001888573d6000803e3d6000fd5b50505050620018e58b6003815181101515620018a057fe5b906020019060200201518c6004815181101515620018ba57fe5b906020019060200201518d6000815181101515620018d457fe5b906020019060200201518662008d3e565b80955081965050508a6000815181101515620018fd57fe5b90602001906020020151604051908082528060200260200182016040528015620019365781602001602082028038833980820191505090505b50915060028b60008151811015156200194b57fe5b9060200190602002015102604051908082528060200260200182016040528015620019855781602001602082028038833980820191505090505b509050620019968c8c87876200d273565b9150620019a5828d8c6200d4c0565b9050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633b606ed78c6000815181101515620019f557fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001a39919062014cae565b600060405180830381600087803b15801562001a5457600080fd5b505af115801562001a69573d6000803e3d6000fd5b5050505083828297509750975050505050509450945094915050565b60108054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562001b1f5780601f1062001af35761010080835404028352916020019162001b1f565b820191906000526020600020905b81548152906001019060200180831162001b0157829003601f168201915b505050505081565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001bab9190620137ea565b602060405180830381600087803b15801562001bc657600080fd5b505af115801562001bdb573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001c01919081019062011ae4565b151562001c45576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162001c3c90620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001cbe919062014cae565b602060405180830381600087803b15801562001cd957600080fd5b505af115801562001cee573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001d14919081019062011ae4565b151562001d58576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162001d4f90620144fa565b60405180910390fd5b62001d818962001d728c896200d7ab90919063ffffffff16565b6200d7cb90919063ffffffff16565b9550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001e24949392919062013fac565b6040805180830381600087803b15801562001e3e57600080fd5b505af115801562001e53573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001e799190810190620113ef565b8095508196505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001efa9190620137ea565b602060405180830381600087803b15801562001f1557600080fd5b505af115801562001f2a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001f50919081019062011382565b925083151562001f97576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162001f8e9062014bc0565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16635cfd59318b60056040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200201392919062014ecf565b602060405180830381600087803b1580156200202e57600080fd5b505af115801562002043573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002069919081019062011d17565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166398b233e58b856040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620020e592919062014ccb565b602060405180830381600087803b1580156200210057600080fd5b505af115801562002115573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200213b919081019062011d17565b9150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663748b8c6f8b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620021b6919062014cae565b600060405180830381600087803b158015620021d157600080fd5b505af1158015620021e6573d6000803e3d6000fd5b50505050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92a579d60016040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620022649190620144b9565b600060405180830381600087803b1580156200227f57600080fd5b505af115801562002294573d6000803e3d6000fd5b505050507fb2d27e2e92f5b0c643d08adb4b91ca63ced07e12c366c14d111cc851f975e92b8a836005604051620022ce9392919062014e92565b60405180910390a1600196505050505050509392505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630620023ff60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620023ea5780601f10620023be57610100808354040283529160","200191620023ea565b820191906000526020600020905b815481529060010190602001808311620023cc57829003601f168201915b5050505050896200d7eb90919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200243c949392919062013807565b602060405180830381600087803b1580156200245757600080fd5b505af11580156200246c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002492919081019062011ae4565b1515620024d6576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620024cd906201495c565b60405180910390fd5b620024ee8383601b6200d8019092919063ffffffff16565b905092915050565b60118054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620025905780601f10620025645761010080835404028352916020019162002590565b820191906000526020600020905b8154815290600101906020018083116200257257829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002647949392919062013e6e565b6040805180830381600087803b1580156200266157600080fd5b505af115801562002676573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200269c9190810190620113ef565b8097508198505050851515620026e9576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620026e0906201462c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620027629190620137ea565b602060405180830381600087803b1580156200277d57600080fd5b505af115801562002792573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620027b8919081019062011ae4565b1515620027fc576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620027f390620146f8565b60405180910390fd5b60028b511480156200283f57508a60018151811015156200281957fe5b906020019060200201518b60008151811015156200283357fe5b90602001906020020151125b151562002883576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200287a906201482a565b60405180910390fd5b60008c5111156200290357600093505b8b5184101562002902578b84815181101515620028ac57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff161415620028f4576001945062002902565b838060010194505062002893565b5b841515620029dd57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634768e049886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620029849190620137ea565b602060405180830381600087803b1580156200299f57600080fd5b505af1158015620029b4573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620029da919081019062011ae4565b94505b84151562002a22576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162002a199062014be2565b60405180910390fd5b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16636c906a5c6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562002aab57600080fd5b505af115801562002ac0573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002ae6919081019062011d17565b141562002af6578298506200324c565b60008c5111801562002b4e5750600073ffffffffffffffffffffffffffffffffffffffff168c600081518110151562002b2b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1562002d0157601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d600081518110151562002ba257fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002be69190620137ea565b602060405180830381600087803b15801562002c0157600080fd5b505af115801562002c16573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002c3c919081019062011382565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff161415151562002cb3576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162002caa90620145e8565b60405180910390fd5b818c600081518110151562002cc457fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c5111801562002d595750600073ffffffffffffffffffffffffffffffffffffffff168c600181518110151562002d3657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1562002f0c57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d600181518110151562002dad57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002df19190620137ea565b602060405180830381600087803b15801562002e0c57600080fd5b505af115801562002e21573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002e47919081019062011382565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff161415151562002ebe576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162002eb590620149c2565b60405180910390fd5b808c600181518110151562002ecf57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60028d5111801562002f38575060008d600281518110151562002f2b57fe5b9060200190602002015114155b156200317157602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58e600281518110151562002f8c57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002fd0919062014cae565b602060405180830381600087803b15801562002feb57600080fd5b505af115801562003000573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003026919081019062011ae4565b15156200306a576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200306190620144fa565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166313c6c77c8e6002815181101515620030b857fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620030fc919062014cae565b602060405180830381600087803b1580156200311757600080fd5b505af11580156200312c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003152919081019062011d17565b8d60028151811015156200316257fe5b90602001906020020181815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663521ae5368e8e8e6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620031ee9392919062014346565b600060405180830381600087803b1580156200320957600080fd5b505af11580156200321e573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200324991908101906201191b565b98505b5050505050505050949350505050565b600a8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620032f65780601f10620032ca57610100808354040283529160200191620032f6565b820191906000526020600020905b815481529060010190602001808311620032d857829003601f168201915b505050505081565b60128054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620033985780601f106200336c5761010080835404028352916020019162003398565b820191906000526020600020905b8154815290600101906020018083116200337a57829003601f168201915b505050505081565b600380546001816001161561010002031660029004","80601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200343a5780601f106200340e576101008083540402835291602001916200343a565b820191906000526020600020905b8154815290600101906020018083116200341c57829003601f168201915b505050505081565b60028054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620034dc5780601f10620034b057610100808354040283529160200191620034dc565b820191906000526020600020905b815481529060010190602001808311620034be57829003601f168201915b505050505081565b60018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200357e5780601f1062003552576101008083540402835291602001916200357e565b820191906000526020600020905b8154815290600101906020018083116200356057829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200369e60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620036895780601f106200365d5761010080835404028352916020019162003689565b820191906000526020600020905b8154815290600101906020018083116200366b57829003601f168201915b5050505050896200d7eb90919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620036db949392919062013807565b602060405180830381600087803b158015620036f657600080fd5b505af11580156200370b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003731919081019062011ae4565b151562003775576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200376c9062014c48565b60405180910390fd5b6200378d8383601b6200db759092919063ffffffff16565b905092915050565b606060006060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620038179190620137ea565b602060405180830381600087803b1580156200383257600080fd5b505af115801562003847573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200386d919081019062011382565b9350601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630868a6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003910949392919062014016565b6040805180830381600087803b1580156200392a57600080fd5b505af11580156200393f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620039659190810190620113ef565b8092508193505050801515620039b2576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620039a99062014a4a565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166352a3a9486040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801562003a3957600080fd5b505af115801562003a4e573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062003a79919081019062011960565b94505050505092915050565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003b2d949392919062013b1e565b6040805180830381600087803b15801562003b4757600080fd5b505af115801562003b5c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003b829190810190620113ef565b809250819350505080151562003bcf576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162003bc69062014560565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003c489190620137ea565b602060405180830381600087803b15801562003c6357600080fd5b505af115801562003c78573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003c9e919081019062011ae4565b151562003ce2576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162003cd990620146f8565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e953d0af6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562003d6957600080fd5b505af115801562003d7e573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003da4919081019062011d17565b9350505050919050565b60606000606060008088601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003e319190620137ea565b602060405180830381600087803b15801562003e4c57600080fd5b505af115801562003e61573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003e87919081019062011ae4565b151562003ecb576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162003ec290620146f8565b60405180910390fd5b878910151562003f12576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162003f099062014780565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003f8b9190620137ea565b602060405180830381600087803b15801562003fa657600080fd5b505af115801562003fbb573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003fe1919081019062011382565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1687878b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620040849493929190620139a1565b6040805180830381600087803b1580156200409e57600080fd5b505af1158015620040b3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620040d99190810190620113ef565b809350819450505081151562004126576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200411d9062014c26565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200419f9190620137ea565b602060405180830381600087803b158015620041ba57600080fd5b505af1158015620041cf573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620041f5919081019062011ae4565b151562004239576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200423090620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632a2bebf1868b8b6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620042b69392919062014181565b600060405180830381600087803b158015620042d157600080fd5b505af1158015620042e6573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062004311919081019062011960565b95505050505050949350505050565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620043e45780601f10620043b857610100808354040283529160200191620043","e4565b820191906000526020600020905b815481529060010190602001808311620043c657829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200450460048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620044ef5780601f10620044c357610100808354040283529160200191620044ef565b820191906000526020600020905b815481529060010190602001808311620044d157829003601f168201915b5050505050886200d7eb90919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004541949392919062013807565b602060405180830381600087803b1580156200455c57600080fd5b505af115801562004571573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004597919081019062011ae4565b1515620045db576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620045d2906201475e565b60405180910390fd5b620045f182601b6200dd7990919063ffffffff16565b9050919050565b60608060008060606000808a601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200467d9190620137ea565b602060405180830381600087803b1580156200469857600080fd5b505af1158015620046ad573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620046d3919081019062011ae4565b151562004717576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200470e90620146f8565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618d6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620047909190620137ea565b602060405180830381600087803b158015620047ab57600080fd5b505af1158015620047c0573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620047e6919081019062011382565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1687878d6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620048899493929190620139a1565b6040805180830381600087803b158015620048a357600080fd5b505af1158015620048b8573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620048de9190810190620113ef565b80935081945050508115156200492b576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620049229062014c26565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620049a49190620137ea565b602060405180830381600087803b158015620049bf57600080fd5b505af1158015620049d4573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620049fa919081019062011ae4565b151562004a3e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162004a3590620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663ecf2df8d868d8d6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004abb9392919062014181565b600060405180830381600087803b15801562004ad657600080fd5b505af115801562004aeb573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062004b16919081019062011a5c565b97509750975050505050509450945094915050565b60606000806000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004bab9190620137ea565b602060405180830381600087803b15801562004bc657600080fd5b505af115801562004bdb573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004c01919081019062011382565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168387896040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004ca4949392919062013937565b6040805180830381600087803b15801562004cbe57600080fd5b505af115801562004cd3573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004cf99190810190620113ef565b809350819450505081801562004ddc5750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f089836040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004d8592919062014ccb565b602060405180830381600087803b15801562004da057600080fd5b505af115801562004db5573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004ddb919081019062011ae4565b5b151562004e20576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162004e17906201451c565b60405180910390fd5b5050505050505050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600f8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562004eea5780601f1062004ebe5761010080835404028352916020019162004eea565b820191906000526020600020905b81548152906001019060200180831162004ecc57829003601f168201915b505050505081565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16636c906a5c6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562004fa157600080fd5b505af115801562004fb6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004fdc919081019062011d17565b905090565b6000606060008062004ffd86846200d7ab90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620050a0949392919062013e04565b6040805180830381600087803b158015620050ba57600080fd5b505af1158015620050cf573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620050f59190810190620113ef565b809250819350505080151562005142576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162005139906201486e565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166391b7f5ed876040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620051bb919062014cae565b602060405180830381600087803b158015620051d657600080fd5b505af1158015620051eb573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005211919081019062011ae4565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166398d5fdca6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200529957600080fd5b505af1158015620052ae573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620052d4919081019062011d17565b935050505092915050565b6000606083601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200535d9190620137ea565b602060405180830381600087803b1580156200537857600080fd5b505af11580156200538d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620053b3919081019062011ae4565b1515","620053f7576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620053ee90620146f8565b60405180910390fd5b620054016200dfd8565b8711151562005447576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200543e90620148d4565b60405180910390fd5b62005484856200547589620054668c876200d7ab90919063ffffffff16565b6200d7ab90919063ffffffff16565b6200d7cb90919063ffffffff16565b915062005494888387876200dfe5565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632ed582958989896040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620055129392919062014e08565b602060405180830381600087803b1580156200552d57600080fd5b505af115801562005542573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005568919081019062011ae4565b92507fb347a48c89c68b1f13714bd4189f5c13803bfafbce6d6ed2888d076c1951803a886040516200559b919062014cae565b60405180910390a1505095945050505050565b60006060600080620055ca86846200d7eb90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630620056e160048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620056cc5780601f10620056a057610100808354040283529160200191620056cc565b820191906000526020600020905b815481529060010190602001808311620056ae57829003601f168201915b50505050508b6200d7eb90919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200572195949392919062013a48565b6040805180830381600087803b1580156200573b57600080fd5b505af115801562005750573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620057769190810190620113ef565b8092508193505050801515620057c3576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620057ba906201475e565b60405180910390fd5b620057d986601b6200dd7990919063ffffffff16565b935050505092915050565b600060606000806200580086846200d7ab90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620058a39493929190620140ea565b6040805180830381600087803b158015620058bd57600080fd5b505af1158015620058d2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620058f89190810190620113ef565b809250819350505080151562005945576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200593c906201497e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620059be9190620137ea565b602060405180830381600087803b158015620059d957600080fd5b505af1158015620059ee573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005a14919081019062011ae4565b151562005a58576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162005a4f90620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634585550d876040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005ad1919062014cae565b602060405180830381600087803b15801562005aec57600080fd5b505af115801562005b01573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005b27919081019062011ae4565b93507fb347a48c89c68b1f13714bd4189f5c13803bfafbce6d6ed2888d076c1951803a8660405162005b5a919062014cae565b60405180910390a183935050505092915050565b60158054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562005c085780601f1062005bdc5761010080835404028352916020019162005c08565b820191906000526020600020905b81548152906001019060200180831162005bea57829003601f168201915b505050505081565b60608060008062005c2b86846200d7eb90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062005d4260038054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562005d2d5780601f1062005d015761010080835404028352916020019162005d2d565b820191906000526020600020905b81548152906001019060200180831162005d0f57829003601f168201915b50505050508b6200d7eb90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005d8295949392919062013a48565b6040805180830381600087803b15801562005d9c57600080fd5b505af115801562005db1573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005dd79190810190620113ef565b809250819350505080151562005e24576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162005e1b9062014890565b60405180910390fd5b62005e3a86601b6200e3fb90919063ffffffff16565b935050505092915050565b60006060600080600086601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005ec89190620137ea565b602060405180830381600087803b15801562005ee357600080fd5b505af115801562005ef8573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005f1e919081019062011ae4565b151562005f62576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162005f5990620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005fdb919062014cae565b602060405180830381600087803b15801562005ff657600080fd5b505af11580156200600b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006031919081019062011ae4565b151562006075576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200606c90620144fa565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620060ee919062014cae565b602060405180830381600087803b1580156200610957600080fd5b505af11580156200611e573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006144919081019062011ae4565b15151562006189576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620061809062014692565b60405180910390fd5b620061c688620061b78b620061a88e8a6200d7ab90919063ffffffff16565b6200d7ab90919063ffffffff16565b6200d7cb90919063ffffffff16565b9450601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61896040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620062419190620137ea565b602060405180830381600087803b1580156200625c57600080fd5b505af115801562006271573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006297919081019062011382565b9150601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200633a949392919062013bf2565b6040805180830381600087803b1580156200635457600080fd5b505af115801562006369573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200638f9190810190620113ef565b8094508195505050828015620064725750602360009054906101000a900473ffffffffffffff","ffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f08b846040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200641b92919062014ccb565b602060405180830381600087803b1580156200643657600080fd5b505af11580156200644b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006471919081019062011ae4565b5b1515620064b6576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620064ad90620147a2565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200652f9190620137ea565b602060405180830381600087803b1580156200654a57600080fd5b505af11580156200655f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006585919081019062011ae4565b1515620065c9576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620065c090620146f8565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633ac1fc928c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006647919062014cae565b602060405180830381600087803b1580156200666257600080fd5b505af115801562006677573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200669d919081019062012106565b60ff1614158015620067845750600560ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633ac1fc928c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006728919062014cae565b602060405180830381600087803b1580156200674357600080fd5b505af115801562006758573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200677e919081019062012106565b60ff1614155b1515620067c8576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620067bf906201473c565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d8b31d778b8b6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200684392919062014d8e565b602060405180830381600087803b1580156200685e57600080fd5b505af115801562006873573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006899919081019062011ae4565b95507f93a87a080a027dde2eb29f16bcb7771fcf99e969a70f79aab8d31ab5e6b0e84e8a604051620068cc919062014cae565b60405180910390a17f93a87a080a027dde2eb29f16bcb7771fcf99e969a70f79aab8d31ab5e6b0e84e8960405162006905919062014cae565b60405180910390a15050505050949350505050565b60006060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200699d9190620137ea565b602060405180830381600087803b158015620069b857600080fd5b505af1158015620069cd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620069f3919081019062011ae4565b151562006a37576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162006a2e90620146f8565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006ad8949392919062013cc6565b6040805180830381600087803b15801562006af257600080fd5b505af115801562006b07573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006b2d9190810190620113ef565b809450819550505082151562006b7a576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162006b7190620149a0565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26856040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006bf39190620137ea565b602060405180830381600087803b15801562006c0e57600080fd5b505af115801562006c23573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006c49919081019062011ae4565b151562006c8d576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162006c8490620146f8565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006d069190620137ea565b602060405180830381600087803b15801562006d2157600080fd5b505af115801562006d36573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006d5c919081019062011382565b9150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634c433cab838a6040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006dd992919062014154565b602060405180830381600087803b15801562006df457600080fd5b505af115801562006e09573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006e2f919081019062011ae4565b955050505050509392505050565b600062006e4b601b6200e514565b905090565b60138054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562006eea5780601f1062006ebe5761010080835404028352916020019162006eea565b820191906000526020600020905b81548152906001019060200180831162006ecc57829003601f168201915b505050505081565b60098054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562006f8c5780601f1062006f605761010080835404028352916020019162006f8c565b820191906000526020600020905b81548152906001019060200180831162006f6e57829003601f168201915b505050505081565b600062006fb36001830184600a0a86026200ca4890919063ffffffff16565b9050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166387e6bae186838a8a6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007034949392919062014dbb565b600060405180830381600087803b1580156200704f57600080fd5b505af115801562007064573d6000803e3d6000fd5b505050509695505050505050565b60608083601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620070ef9190620137ea565b602060405180830381600087803b1580156200710a57600080fd5b505af11580156200711f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007145919081019062011ae4565b151562007189576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200718090620146f8565b60405180910390fd5b6200719888888888886200e522565b7f93a87a080a027dde2eb29f16bcb7771fcf99e969a70f79aab8d31ab5e6b0e84e88604051620071c9919062014cae565b60405180910390a1602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630487a1f28989896040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200724e9392919062014cf8565b600060405180830381600087803b1580156200726957600080fd5b505af11580156200727e573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250620072a99190810190620118a8565b92509250509550959350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630620073d060048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620073bb5780601f106200738f57610100808354040283529160200191620073bb565b820191906000526020600020905b8154815290600101906020018083116200739d5782900360","1f168201915b5050505050896200d7eb90919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200740d949392919062013807565b602060405180830381600087803b1580156200742857600080fd5b505af11580156200743d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007463919081019062011ae4565b1515620074a7576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200749e90620145c6565b60405180910390fd5b620074bf8383601b6200ecf29092919063ffffffff16565b905092915050565b606060006060600080600073ffffffffffffffffffffffffffffffffffffffff16896002815181101515620074f857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16141580156200756d5750600073ffffffffffffffffffffffffffffffffffffffff168960038151811015156200754a57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1515620075b1576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620075a89062014582565b60405180910390fd5b620075be8989896200eefb565b9250620075cb896200eff4565b809a50819550505083151562007618576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200760f90620147c4565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166331125ff38a60028151811015156200766657fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620076aa9190620137ea565b602060405180830381600087803b158015620076c557600080fd5b505af1158015620076da573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007700919081019062011ae4565b151562007744576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200773b906201484c565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166331125ff38a60038151811015156200779257fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620077d69190620137ea565b602060405180830381600087803b158015620077f157600080fd5b505af115801562007806573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200782c919081019062011ae4565b151562007870576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162007867906201484c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168b6002815181101515620078e157fe5b90602001906020020151868a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200792a9493929190620138cd565b6040805180830381600087803b1580156200794457600080fd5b505af115801562007959573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200797f9190810190620113ef565b8092508193505050801515620079cc576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620079c3906201453e565b60405180910390fd5b88945050505050949350505050565b6000606060008062007a0b86620079fc89866200d7eb90919063ffffffff16565b6200d7eb90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062007b2260048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562007b0d5780601f1062007ae15761010080835404028352916020019162007b0d565b820191906000526020600020905b81548152906001019060200180831162007aef57829003601f168201915b50505050508c6200d7eb90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007b6295949392919062013a48565b6040805180830381600087803b15801562007b7c57600080fd5b505af115801562007b91573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007bb79190810190620113ef565b809250819350505080151562007c04576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162007bfb9062014c48565b60405180910390fd5b62007c1c8787601b6200db759092919063ffffffff16565b93505050509392505050565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b3032be86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562007cd757600080fd5b505af115801562007cec573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007d12919081019062011382565b905090565b60068054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562007db15780601f1062007d855761010080835404028352916020019162007db1565b820191906000526020600020905b81548152906001019060200180831162007d9357829003601f168201915b505050505081565b60078054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562007e535780601f1062007e275761010080835404028352916020019162007e53565b820191906000526020600020905b81548152906001019060200180831162007e3557829003601f168201915b505050505081565b6060600060606000806060600060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308a8e6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007f0d949392919062013ab4565b6040805180830381600087803b15801562007f2757600080fd5b505af115801562007f3c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007f629190810190620113ef565b809650819750505084151562007faf576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162007fa690620148b2565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26876040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620080289190620137ea565b602060405180830381600087803b1580156200804357600080fd5b505af115801562008058573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200807e919081019062011ae4565b1515620080c2576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620080b990620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663aaddd0c48d8d6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200813d92919062014d8e565b600060405180830381600087803b1580156200815857600080fd5b505af11580156200816d573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062008198919081019062011822565b80945081955050508351604051908082528060200260200182016040528015620081d15781602001602082028038833980820191505090505b509150600090505b83518110156200832357601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca085838151811015156200823057fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620082749190620137ea565b602060405180830381600087803b1580156200828f57600080fd5b505af1158015620082a4573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620082ca919081019062011382565b8282815181101515620082d957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508080600101915050620081d9565b81839850985050505050505050935093915050565b60008054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620083d25780601f10620083a657610100808354040283529160200191620083d2565b820191906000526020600020905b81","5481529060010190602001808311620083b457829003601f168201915b505050505081565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60088054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200849a5780601f106200846e576101008083540402835291602001916200849a565b820191906000526020600020905b8154815290600101906020018083116200847c57829003601f168201915b505050505081565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620085269190620137ea565b602060405180830381600087803b1580156200854157600080fd5b505af115801562008556573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200857c919081019062011ae4565b1515620085c0576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620085b790620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008639919062014cae565b602060405180830381600087803b1580156200865457600080fd5b505af115801562008669573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200868f919081019062011ae4565b1515620086d3576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620086ca90620144fa565b60405180910390fd5b620086fc89620086ed8c896200d7ab90919063ffffffff16565b6200d7cb90919063ffffffff16565b9550601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620087779190620137ea565b602060405180830381600087803b1580156200879257600080fd5b505af1158015620087a7573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620087cd919081019062011382565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008870949392919062013d30565b6040805180830381600087803b1580156200888a57600080fd5b505af11580156200889f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620088c59190810190620113ef565b8095508196505050838015620089a85750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f08b856040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200895192919062014ccb565b602060405180830381600087803b1580156200896c57600080fd5b505af115801562008981573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620089a7919081019062011ae4565b5b1515620089ec576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620089e39062014c04565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26866040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008a659190620137ea565b602060405180830381600087803b15801562008a8057600080fd5b505af115801562008a95573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008abb919081019062011ae4565b151562008aff576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162008af690620146f8565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633ac1fc928c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008b7d919062014cae565b602060405180830381600087803b15801562008b9857600080fd5b505af115801562008bad573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008bd3919081019062012106565b60ff1614151562008c1b576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162008c129062014b16565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16635cfd59318b60026040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008c9792919062014ecf565b602060405180830381600087803b15801562008cb257600080fd5b505af115801562008cc7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008ced919081019062011d17565b91507fb2d27e2e92f5b0c643d08adb4b91ca63ced07e12c366c14d111cc851f975e92b8a83600260405162008d259392919062014e92565b60405180910390a1600296505050505050509392505050565b60008062008d4b6200dfd8565b8511151562008d91576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162008d8890620146b4565b60405180910390fd5b600086111562008ded5762008da56200dfd8565b861015151562008dec576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162008de39062014918565b60405180910390fd5b5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663be26ff7c878787876040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008e6c949392919062014e45565b6040805180830381600087803b15801562008e8657600080fd5b505af115801562008e9b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008ec1919081019062011f14565b9150915094509492505050565b6000606080606060008062008ee78b8b8b8b8b6200f273565b9a50885160030260405190808252806020026020018201604052801562008f1d5781602001602082028038833980820191505090505b509350600460405190808252806020026020018201604052801562008f515781602001602082028038833980820191505090505b5092508a600081518110151562008f6457fe5b9060200190602002015183600081518110151562008f7e57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a600181518110151562008fca57fe5b9060200190602002015183600181518110151562008fe457fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a60028151811015156200903057fe5b906020019060200201518360028151811015156200904a57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050600090505b895181101562009152578a81600301815181101515620090a757fe5b90602001906020020151836003815181101515620090c157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250506200912783838c848151811015156200911257fe5b9060200190602002015185018c8c896200f765565b89818151811015156200913657fe5b906020019060200201518201915080806001019150506200908b565b60018495509550505050509550959350505050565b600080606060008086601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620091e99190620137ea565b602060405180830381600087803b1580156200920457600080fd5b505af115801562009219573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200923f919081019062011ae4565b151562009283576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200927a90620146f8565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61896040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620092fc9190620137ea565b602060405180830381600087803b1580156200931757600080fd5b505af11580156200932c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009352919081019062011382565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16","87878b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620093f59493929190620139a1565b6040805180830381600087803b1580156200940f57600080fd5b505af115801562009424573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200944a9190810190620113ef565b809350819450505081151562009497576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200948e9062014c26565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620095109190620137ea565b602060405180830381600087803b1580156200952b57600080fd5b505af115801562009540573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009566919081019062011ae4565b1515620095aa576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620095a190620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631bf77fa7866040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620096239190620137ea565b602060405180830381600087803b1580156200963e57600080fd5b505af115801562009653573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009679919081019062011d17565b9550505050505092915050565b6060806060600060608060606000620096d78b8b6040805190810160405280600d81526020017f6765744e6f746544657461696c000000000000000000000000000000000000008152508c62004b2b565b6002604051908082528060200260200182016040528015620097085781602001602082028038833980820191505090505b50935060026040519080825280602002602001820160405280156200973c5781602001602082028038833980820191505090505b5092506002604051908082528060200260200182016040528015620097705781602001602082028038833980820191505090505b509150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a965a9418c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620097ec919062014cae565b600060405180830381600087803b1580156200980757600080fd5b505af11580156200981c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200984791908101906201176b565b80945081955082965083975050505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0856000815181101515620098a557fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620098e99190620137ea565b602060405180830381600087803b1580156200990457600080fd5b505af115801562009919573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200993f919081019062011382565b8460008151811015156200994f57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0856001815181101515620099d957fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009a1d9190620137ea565b602060405180830381600087803b15801562009a3857600080fd5b505af115801562009a4d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009a73919081019062011382565b84600181518110151562009a8357fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508383838397509750975097505050505093509350935093565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c55fc52d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562009b8b57600080fd5b505af115801562009ba0573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009bc6919081019062011382565b905090565b6000606060008062009bfb8662009bec89866200d7eb90919063ffffffff16565b6200d7eb90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062009d1260048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562009cfd5780601f1062009cd15761010080835404028352916020019162009cfd565b820191906000526020600020905b81548152906001019060200180831162009cdf57829003601f168201915b50505050508c6200d7eb90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009d5295949392919062013a48565b6040805180830381600087803b15801562009d6c57600080fd5b505af115801562009d81573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009da79190810190620113ef565b809250819350505080151562009df4576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162009deb906201495c565b60405180910390fd5b62009e0c8787601b6200d8019092919063ffffffff16565b93505050509392505050565b6000602154905090565b60608060606000806000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009ea5919062014cae565b602060405180830381600087803b15801562009ec057600080fd5b505af115801562009ed5573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009efb919081019062011ae4565b151562009f3f576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040162009f3690620144fa565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61896040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009fb89190620137ea565b602060405180830381600087803b15801562009fd357600080fd5b505af115801562009fe8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a00e919081019062011382565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630878b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a0b1949392919062014080565b6040805180830381600087803b1580156200a0cb57600080fd5b505af11580156200a0e0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a1069190810190620113ef565b80935081945050508180156200a1e95750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f08a836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a19292919062014ccb565b602060405180830381600087803b1580156200a1ad57600080fd5b505af11580156200a1c2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a1e8919081019062011ae4565b5b15156200a22d576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200a22490620149e4565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a2a69190620137ea565b602060405180830381600087803b1580156200a2c157600080fd5b505af11580156200a2d6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a2fc919081019062011ae4565b15156200a340576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200a33790620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166312a7a1368a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a3b991906201","4cae565b600060405180830381600087803b1580156200a3d457600080fd5b505af11580156200a3e9573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200a4149190810190620118a8565b9550955050505050935093915050565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166337258c0d33601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200a53c60038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200a5275780601f106200a4fb576101008083540402835291602001916200a527565b820191906000526020600020905b8154815290600101906020018083116200a50957829003601f168201915b5050505050886200d7eb90919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a579949392919062013807565b602060405180830381600087803b1580156200a59457600080fd5b505af11580156200a5a9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a5cf919081019062011ae4565b15156200a613576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200a60a9062014890565b60405180910390fd5b6200a62982601b6200e3fb90919063ffffffff16565b9050919050565b6060806000806060806000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a6dc949392919062013ab4565b6040805180830381600087803b1580156200a6f657600080fd5b505af11580156200a70b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a7319190810190620113ef565b80955081965050508315156200a77e576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200a77590620148b2565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a7f79190620137ea565b602060405180830381600087803b1580156200a81257600080fd5b505af11580156200a827573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a84d919081019062011ae4565b15156200a891576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200a88890620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638a48ac036040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b1580156200a91857600080fd5b505af11580156200a92d573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200a958919081019062011588565b925082516040519080825280602002602001820160405280156200a98b5781602001602082028038833980820191505090505b509150600090505b82518110156200aadd57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca084838151811015156200a9ea57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200aa2e9190620137ea565b602060405180830381600087803b1580156200aa4957600080fd5b505af11580156200aa5e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200aa84919081019062011382565b82828151811015156200aa9357fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff168152505080806001019150506200a993565b819650505050505050919050565b600060606000806200ab1b866200ab0c89866200d7eb90919063ffffffff16565b6200d7eb90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200ac3260048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200ac1d5780601f106200abf1576101008083540402835291602001916200ac1d565b820191906000526020600020905b8154815290600101906020018083116200abff57829003601f168201915b50505050508c6200d7eb90919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ac7295949392919062013a48565b6040805180830381600087803b1580156200ac8c57600080fd5b505af11580156200aca1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200acc79190810190620113ef565b80925081935050508015156200ad14576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ad0b90620145c6565b60405180910390fd5b6200ad2c8787601b6200ecf29092919063ffffffff16565b93505050509392505050565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200adbc9190620137ea565b602060405180830381600087803b1580156200add757600080fd5b505af11580156200adec573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ae12919081019062011ae4565b15156200ae56576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ae4d90620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200aecf919062014cae565b602060405180830381600087803b1580156200aeea57600080fd5b505af11580156200aeff573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200af25919081019062011ae4565b15156200af69576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200af6090620144fa565b60405180910390fd5b6200af92896200af838c896200d7ab90919063ffffffff16565b6200d7cb90919063ffffffff16565b9550601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b00d9190620137ea565b602060405180830381600087803b1580156200b02857600080fd5b505af11580156200b03d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b063919081019062011382565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b106949392919062013c5c565b6040805180830381600087803b1580156200b12057600080fd5b505af11580156200b135573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b15b9190810190620113ef565b80955081965050508380156200b23e5750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f08b856040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b1e792919062014ccb565b602060405180830381600087803b1580156200b20257600080fd5b505af11580156200b217573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b23d919081019062011ae4565b5b15156200b282576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200b279906201471a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b2fb9190620137ea565b602060405180830381600087803b1580156200b31657600080fd5b505af11580156200b32b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b351919081019062011ae4565b15156200b395576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200b38c90620146f8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffff","ffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b40e919062014cae565b602060405180830381600087803b1580156200b42957600080fd5b505af11580156200b43e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b464919081019062011ae4565b15156200b4a8576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200b49f9062014af4565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fcd8007d8b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b521919062014cae565b602060405180830381600087803b1580156200b53c57600080fd5b505af11580156200b551573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b577919081019062011ae4565b15156200b5bb576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200b5b2906201464e565b60405180910390fd5b60019650602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16635cfd59318b60046040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b63b92919062014ecf565b602060405180830381600087803b1580156200b65657600080fd5b505af11580156200b66b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b691919081019062011d17565b91507fb2d27e2e92f5b0c643d08adb4b91ca63ced07e12c366c14d111cc851f975e92b8a8360046040516200b6c99392919062014e92565b60405180910390a15050505050509392505050565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b7629190620137ea565b602060405180830381600087803b1580156200b77d57600080fd5b505af11580156200b792573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b7b8919081019062011ae4565b15156200b7fc576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200b7f390620146f8565b60405180910390fd5b6200b81189876200d7cb90919063ffffffff16565b9550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b8b4949392919062013ed8565b6040805180830381600087803b1580156200b8ce57600080fd5b505af11580156200b8e3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b9099190810190620113ef565b80955081965050508315156200b956576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200b94d9062014ab0565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b9cf9190620137ea565b602060405180830381600087803b1580156200b9ea57600080fd5b505af11580156200b9ff573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ba25919081019062011ae4565b15156200ba69576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ba6090620146f8565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a618a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bae29190620137ea565b602060405180830381600087803b1580156200bafd57600080fd5b505af11580156200bb12573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200bb38919081019062011382565b9250602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166331125ff3846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bbb39190620137ea565b602060405180830381600087803b1580156200bbce57600080fd5b505af11580156200bbe3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200bc09919081019062011ae4565b1515156200bc4e576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200bc459062014a06565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fbcbc0f18a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bcc79190620137ea565b602060405180830381600087803b1580156200bce257600080fd5b505af11580156200bcf7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200bd1d919081019062011382565b91508173ffffffffffffffffffffffffffffffffffffffff166395a0c79630601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660006040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bd9d939291906201447c565b602060405180830381600087803b1580156200bdb857600080fd5b505af11580156200bdcd573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200bdf3919081019062011ae4565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e89b0e1e846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200be6d9190620137ea565b600060405180830381600087803b1580156200be8857600080fd5b505af11580156200be9d573d6000803e3d6000fd5b505050506001965050505050505092915050565b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f02b8c8c836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bf2c919062014cae565b602060405180830381600087803b1580156200bf4757600080fd5b505af11580156200bf5c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200bf82919081019062011d17565b9050919050565b60058054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200c0235780601f106200bff7576101008083540402835291602001916200c023565b820191906000526020600020905b8154815290600101906020018083116200c00557829003601f168201915b505050505081565b60006060806000806000806200c04062010927565b6200c04e8c8c8c8c620074c7565b9b508a516003026040519080825280602002602001820160405280156200c0845781602001602082028038833980820191505090505b509550600093505b8a518410156200c6dc57602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58c868151811015156200c0e357fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c127919062014cae565b602060405180830381600087803b1580156200c14257600080fd5b505af11580156200c157573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c17d919081019062011ae4565b6200c2326040805190810160405280600f81526020017f20646f65736e27742065786973742100000000000000000000000000000000008152506200c2236200c1de8f898151811015156200c1ce57fe5b906020019060200201516201004c565b6040805190810160405280600781526020017f6e6f74654e6f2000000000000000000000000000000000000000000000000000815250620101ae90919063ffffffff16565b620101ae90919063ffffffff16565b9015156200c278576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200c26f9190620144d6565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a4cbf5f48c868151811015156200c2c657fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c30a919062014cae565b602060405180830381600087803b1580156200c32557600080fd5b505af11580156200c33a573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c360919081019062011ae4565b156200c4166040805190810160405280601181526020017f20686173206265656e20657870697265640000000000000000000000000000008152506200c4076200c3c28f898151811015156200c3b257fe5b906020","019060200201516201004c565b6040805190810160405280600781526020017f6e6f74654e6f2000000000000000000000000000000000000000000000000000815250620101ae90919063ffffffff16565b620101ae90919063ffffffff16565b9015156200c45c576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200c4539190620144d6565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638bbc4b058c868151811015156200c4aa57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c4ee919062014cae565b602060405180830381600087803b1580156200c50957600080fd5b505af11580156200c51e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c544919081019062011ae4565b15156200c588576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200c57f906201464e565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663be8dbea68c868151811015156200c5d557fe5b906020019060200201518e60028151811015156200c5ef57fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c63492919062014ccb565b602060405180830381600087803b1580156200c64f57600080fd5b505af11580156200c664573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c68a919081019062011ae4565b15156200c6ce576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200c6c59062014670565b60405180910390fd5b83806001019450506200c08c565b600091505b8a518210156200ca3257602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663849418848d60028151811015156200c73957fe5b906020019060200201518e60038151811015156200c75357fe5b906020019060200201518e868151811015156200c76c57fe5b906020019060200201516040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c7b29392919062013a0b565b602060405180830381600087803b1580156200c7cd57600080fd5b505af11580156200c7e2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c808919081019062011d17565b9250602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166360f95a028d858d6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c8879392919062014278565b606060405180830381600087803b1580156200c8a257600080fd5b505af11580156200c8b7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c8dd919081019062011b10565b80925081965050508415156200c92a576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200c9219062014ad2565b60405180910390fd5b8060006002811015156200c93a57fe5b602002015186836003028151811015156200c95157fe5b90602001906020020181815250508060016002811015156200c96f57fe5b602002015186600184600302018151811015156200c98957fe5b90602001906020020181815250508a828151811015156200c9a657fe5b9060200190602002015186600284600302018151811015156200c9c557fe5b90602001906020020181815250507f93a87a080a027dde2eb29f16bcb7771fcf99e969a70f79aab8d31ab5e6b0e84e8b838151811015156200ca0357fe5b906020019060200201516040516200ca1c919062014cae565b60405180910390a181806001019250506200c6e1565b6001869750975050505050505094509492505050565b60008082840190508381101515156200ca98576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ca8f90620146d6565b60405180910390fd5b8091505092915050565b600483511480156200cab5575060058251145b80156200cac3575060008151115b15156200cb07576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200cafe90620148f6565b60405180910390fd5b60008260028151811015156200cb1957fe5b906020019060200201511180156200cb4a5750600a8260028151811015156200cb3e57fe5b90602001906020020151105b80156200cb7857506200cb5c6200dfd8565b8260048151811015156200cb6c57fe5b90602001906020020151115b15156200cbbc576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200cbb39062014b7c565b60405180910390fd5b60008260038151811015156200cbce57fe5b9060200190602002015111156200ccc2576200cbe96200dfd8565b8260038151811015156200cbf957fe5b906020019060200201511115156200cc48576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200cc3f90620145a4565b60405180910390fd5b8160038151811015156200cc5857fe5b906020019060200201518260048151811015156200cc7257fe5b906020019060200201511115156200ccc1576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ccb89062014a28565b60405180910390fd5b5b60008260008151811015156200ccd457fe5b906020019060200201511180156200cd0657506101f58260008151811015156200ccfa57fe5b90602001906020020151105b15156200cd4a576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200cd419062014c8c565b60405180910390fd5b60008260018151811015156200cd5c57fe5b906020019060200201511115156200cdab576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200cda29062014c6a565b60405180910390fd5b60008160008151811015156200cdbd57fe5b90602001906020020151511180156200cdf1575060ff8160008151811015156200cde357fe5b906020019060200201515111155b15156200ce35576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ce2c9062014a8e565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632af9249a8360018151811015156200ce8357fe5b906020019060200201518460028151811015156200ce9d57fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200cee292919062014d8e565b602060405180830381600087803b1580156200cefd57600080fd5b505af11580156200cf12573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200cf38919081019062011ae4565b1515156200cf7d576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200cf74906201493a565b60405180910390fd5b505050565b6060600060606000806200cf9889898962010388565b92506200cfa5896200eff4565b809a5081955050508315156200cff2576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200cfe990620147c4565b60405180910390fd5b8860038151811015156200d00257fe5b906020019060200201519150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166331125ff3836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d0879190620137ea565b602060405180830381600087803b1580156200d0a257600080fd5b505af11580156200d0b7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d0dd919081019062011ae4565b15156200d121576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200d118906201484c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630868a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d1c2949392919062013f42565b6040805180830381600087803b1580156200d1dc57600080fd5b505af11580156200d1f1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d2179190810190620113ef565b80955081925050508315156200d264576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200d25b906201460a565b60405180910390fd5b88945050505050949350505050565b606060006060806060600060028251026040519080825280602002602001820160405280156200d2b25781602001602082028038833980820191505090505b5092508860008151811015156200d2c557fe5b906020019060200201516040519080825280602002602001820160405280156200d2fe5781602001602082028038833980820191505090505b509150600090505b8860008151811015156200d31657fe5b906020019060200201518110156200d4b05760008114156200d350576200d3486001896201048190919063ffffffff16565b94506200d42a565b6200d4276001602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166396ef88cd6040518163ffffffff167c01000000000000000000000000000000000000000000","00000000000000028152600401602060405180830381600087803b1580156200d3dd57600080fd5b505af11580156200d3f2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d418919081019062011d17565b6201048190919063ffffffff16565b94505b6200d4858a60038151811015156200d43e57fe5b9060200190602002015188878c60018151811015156200d45a57fe5b906020019060200201518d60028151811015156200d47457fe5b906020019060200201518662006f94565b82828151811015156200d49457fe5b906020019060200201818152505080806001019150506200d306565b8195505050505050949350505050565b6060806000806200d4d062010927565b600060028951026040519080825280602002602001820160405280156200d5065781602001602082028038833980820191505090505b509450600090505b88518110156200d79c57602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166313c6c77c8a838151811015156200d56557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d5a9919062014cae565b602060405180830381600087803b1580156200d5c457600080fd5b505af11580156200d5d9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d5ff919081019062011d17565b9250602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166360f95a0289858a6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d67e9392919062014278565b606060405180830381600087803b1580156200d69957600080fd5b505af11580156200d6ae573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d6d4919081019062011b10565b80935081955050508160006002811015156200d6ec57fe5b602002015185826002028151811015156200d70357fe5b90602001906020020181815250508160016002811015156200d72157fe5b602002015185600183600202018151811015156200d73b57fe5b90602001906020020181815250508315156200d78e576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200d7859062014ad2565b60405180910390fd5b80806001019150506200d50e565b84955050505050509392505050565b60606200d7c3836200d7bd84620104db565b62010520565b905092915050565b60606200d7e3836200d7dd84620106fa565b62010520565b905092915050565b60606200d7f9838362010520565b905092915050565b60008084600001846040518082805190602001908083835b6020831015156200d84057805182526020820191506020810190506020830392506200d819565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200d9fd577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156200d91957805182526020820191506020810190506020830392506200d8f2565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200d9629594939291906201385b565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200d9a757805182526020820191506020810190506020830392506200d980565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200d9f292919062010949565b50600191506200db6d565b8285600001856040518082805190602001908083835b6020831015156200da3a57805182526020820191506020810190506020830392506200da13565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200da8592919062010949565b508460010180548091906001016200da9e9190620109d0565b90506001810185600001856040518082805190602001908083835b6020831015156200dae057805182526020820191506020810190506020830392506200dab9565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200db2d57fe5b906000526020600020906002020160000190805190602001906200db5392919062010949565b508460020160008154809291906001019190505550600091505b509392505050565b60008084600001846040518082805190602001908083835b6020831015156200dbb457805182526020820191506020810190506020830392506200db8d565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200dc0157600091506200dd71565b8285600001856040518082805190602001908083835b6020831015156200dc3e57805182526020820191506020810190506020830392506200dc17565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200dc8992919062010949565b508460010180548091906001016200dca29190620109d0565b90506001810185600001856040518082805190602001908083835b6020831015156200dce457805182526020820191506020810190506020830392506200dcbd565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200dd3157fe5b906000526020600020906002020160000190805190602001906200dd5792919062010949565b508460020160008154809291906001019190505550600191505b509392505050565b60008083600001836040518082805190602001908083835b6020831015156200ddb857805182526020820191506020810190506020830392506200dd91565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008114156200de0557600091506200dfd1565b7f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b6020831015156200de9b57805182526020820191506020810190506020830392506200de74565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200dee49594939291906201385b565b60405180910390a183600001836040518082805190602001908083835b6020831015156200df2857805182526020820191506020810190506020830392506200df01565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000808201600090556001820160006200df76919062010a05565b5050600184600101600183038154811015156200df8f57fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b6000804290508091505090565b600080600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61876040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e0649190620137ea565b602060405180830381600087803b1580156200e07f57600080fd5b505af11580156200e094573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e0ba919081019062011382565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308a896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e15d949392919062013b88565b6040805180830381600087803b1580156200e17757600080fd5b505af11580156200e18c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e1b29190810190620113ef565b80935081945050508180156200e2955750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663706ceeca89836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e23e92919062014ccb565b602060405180830381600087803b1580156200e25957600080fd5b505af11580156200e26e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e294919081019062011ae4565b5b15156200e2d9576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200e2d09062014b5a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e3529190620137ea565b602060405180830381600087803b1580156200e36d57600080fd5b505af11580156200e382573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e3a8919081019062011ae4565b15156200e3ec576040517f08c3","79a00000000000000000000000000000000000000000000000000000000081526004016200e3e390620146f8565b60405180910390fd5b60019350505050949350505050565b606082600001826040518082805190602001908083835b6020831015156200e43957805182526020820191506020810190506020830392506200e412565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200e5075780601f106200e4db576101008083540402835291602001916200e507565b820191906000526020600020905b8154815290600101906020018083116200e4e957829003601f168201915b5050505050905092915050565b600081600201549050919050565b6060600080600080602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc58b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e5a3919062014cae565b602060405180830381600087803b1580156200e5be57600080fd5b505af11580156200e5d3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e5f9919081019062011ae4565b15156200e63d576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200e63490620144fa565b60405180910390fd5b6200e6528a866200d7ab90919063ffffffff16565b9450600093505b88518410156200e6cf576200e69089858151811015156200e67657fe5b90602001906020020151866200d7eb90919063ffffffff16565b94506200e6bf88858151811015156200e6a557fe5b90602001906020020151866200d7eb90919063ffffffff16565b945083806001019450506200e659565b6200e6e487866200d7cb90919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e787949392919062013d9a565b6040805180830381600087803b1580156200e7a157600080fd5b505af11580156200e7b6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e7dc9190810190620113ef565b8093508194505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3793a61886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e85d9190620137ea565b602060405180830381600087803b1580156200e87857600080fd5b505af11580156200e88d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e8b3919081019062011382565b90508180156200e9905750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9caf2f08b836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e93992919062014ccb565b602060405180830381600087803b1580156200e95457600080fd5b505af11580156200e969573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e98f919081019062011ae4565b5b15156200e9d4576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200e9cb9062014b9e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166369921c26846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ea4d9190620137ea565b602060405180830381600087803b1580156200ea6857600080fd5b505af11580156200ea7d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200eaa3919081019062011ae4565b15156200eae7576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200eade90620146f8565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633ac1fc928c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200eb65919062014cae565b602060405180830381600087803b1580156200eb8057600080fd5b505af11580156200eb95573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ebbb919081019062012106565b60ff16141580156200eca25750600560ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633ac1fc928c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ec46919062014cae565b602060405180830381600087803b1580156200ec6157600080fd5b505af11580156200ec76573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ec9c919081019062012106565b60ff1614155b15156200ece6576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ecdd906201473c565b60405180910390fd5b50505050505050505050565b60008084600001846040518082805190602001908083835b6020831015156200ed3157805182526020820191506020810190506020830392506200ed0a565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200eeee577f77da9cffaff6366f6be90a928ae84ae14a77d3138ce236f9481aa71d15a9c47c32336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156200ee0a57805182526020820191506020810190506020830392506200ede3565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200ee539594939291906201385b565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200ee9857805182526020820191506020810190506020830392506200ee71565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200eee392919062010949565b50600191506200eef3565b600091505b509392505050565b60608060008060008092505b87518310156200ef4e576200ef3e88848151811015156200ef2457fe5b90602001906020020151856200d7cb90919063ffffffff16565b935082806001019350506200ef07565b600091505b86518210156200ef9a576200ef8a87838151811015156200ef7057fe5b90602001906020020151856200d7ab90919063ffffffff16565b935081806001019250506200ef53565b600090505b85518110156200efe6576200efd686828151811015156200efbc57fe5b90602001906020020151856200d7eb90919063ffffffff16565b935080806001019150506200ef9f565b839450505050509392505050565b6000606080600080600086516040519080825280602002602001820160405280156200f02f5781602001602082028038833980820191505090505b509350600090505b86518110156200f2635760018114806200f095575086818151811015156200f05b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b156200f1055786818151811015156200f0aa57fe5b9060200190602002015184828151811015156200f0c357fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250506200f255565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663accfbdd988838151811015156200f15257fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f1969190620137ea565b6040805180830381600087803b1580156200f1b057600080fd5b505af11580156200f1c5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f1eb9190810190620113ef565b80945081935050508215156200f20857600084955095506200f26a565b8184828151811015156200f21857fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b80806001019150506200f037565b8284955095505b50505050915091565b606060008060606000806000808b511180156200f29457508a516003018c51145b15156200f2d8576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200f2cf9062014b38565b60405180910390fd5b600094505b8a518510156200f3725760008b868151811015156200f2f857fe5b906020019060200201511115156200f347576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200f33e9062014808565b60405180910390fd5b8a858151811015156200f35657fe5b906020019060200201518601955084806001019550506200f2dd565b8951861415156200f3ba576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200f3b19062014a6c565b60405180","910390fd5b6200f3c88c8c8c8c620107de565b93506200f3d58c6200eff4565b809d5081945050508215156200f422576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200f41990620147c4565b60405180910390fd5b600291505b8b518210156200f5f757600073ffffffffffffffffffffffffffffffffffffffff168c838151811015156200f45857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16141515156200f4be576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200f4b59062014582565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166331125ff38d848151811015156200f50b57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f54f9190620137ea565b602060405180830381600087803b1580156200f56a57600080fd5b505af11580156200f57f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f5a5919081019062011ae4565b15156200f5e9576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200f5e0906201484c565b60405180910390fd5b81806001019250506200f427565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c04d4ef3601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168e60028151811015156200f66857fe5b90602001906020020151878c6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f6b19493929190620138cd565b6040805180830381600087803b1580156200f6cb57600080fd5b505af11580156200f6e0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f7069190810190620113ef565b80945081925050508215156200f753576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200f74a906201453e565b60405180910390fd5b8b965050505050505095945050505050565b60006200f77162010927565b6000808890505b87811015620100405786818151811015156200f79057fe5b906020019060200201519150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e1af9cc5836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f815919062014cae565b602060405180830381600087803b1580156200f83057600080fd5b505af11580156200f845573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f86b919081019062011ae4565b6200f9086040805190810160405280600f81526020017f20646f65736e27742065786973742100000000000000000000000000000000008152506200f8f96200f8b4866201004c565b6040805190810160405280600781526020017f6e6f74654e6f2000000000000000000000000000000000000000000000000000815250620101ae90919063ffffffff16565b620101ae90919063ffffffff16565b9015156200f94e576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200f9459190620144d6565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a4cbf5f4836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f9c8919062014cae565b602060405180830381600087803b1580156200f9e357600080fd5b505af11580156200f9f8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200fa1e919081019062011ae4565b156200fabc6040805190810160405280601181526020017f20686173206265656e20657870697265640000000000000000000000000000008152506200faad6200fa68866201004c565b6040805190810160405280600781526020017f6e6f74654e6f2000000000000000000000000000000000000000000000000000815250620101ae90919063ffffffff16565b620101ae90919063ffffffff16565b9015156200fb02576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200faf99190620144d6565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638bbc4b05836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200fb7c919062014cae565b602060405180830381600087803b1580156200fb9757600080fd5b505af11580156200fbac573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200fbd2919081019062011ae4565b15156200fc16576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200fc0d906201464e565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663be8dbea6838c60028151811015156200fc6557fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200fcaa92919062014ccb565b602060405180830381600087803b1580156200fcc557600080fd5b505af11580156200fcda573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200fd00919081019062011ae4565b15156200fd44576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200fd3b9062014670565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166360f95a028b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663849418848e60028151811015156200fdd157fe5b906020019060200201518f60038151811015156200fdeb57fe5b90602001906020020151886040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200fe329392919062013a0b565b602060405180830381600087803b1580156200fe4d57600080fd5b505af11580156200fe62573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200fe88919081019062011d17565b896040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200fec59392919062014278565b606060405180830381600087803b1580156200fee057600080fd5b505af11580156200fef5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ff1b919081019062011b10565b80945081955050508315156200ff68576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016200ff5f9062014ad2565b60405180910390fd5b8260006002811015156200ff7857fe5b602002015185826003028151811015156200ff8f57fe5b90602001906020020181815250508260016002811015156200ffad57fe5b602002015185600183600302018151811015156200ffc757fe5b90602001906020020181815250508185600283600302018151811015156200ffeb57fe5b90602001906020020181815250507f93a87a080a027dde2eb29f16bcb7771fcf99e969a70f79aab8d31ab5e6b0e84e826040516201002a919062014cae565b60405180910390a180806001019150506200f778565b50505050505050505050565b606060008060606000808614156201009c576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450620101a5565b8593505b600084141515620100c9578280600101935050600a84811515620100c057fe5b049350620100a0565b826040519080825280601f01601f191660200182016040528015620100fd5781602001602082028038833980820191505090505b5091506001830390505b600086141515620101a157600a868115156201011f57fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156201015b57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156201019857fe5b04955062010107565b8194505b50505050919050565b606080606080606060008088955087945084518651016040519080825280601f01601f191660200182016040528015620101f75781602001602082028038833980820191505090505b50935083925060009150600090505b8551811015620102bd5785818151811015156201021f57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156201027f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062010206565b600090505b845181101562010379578481815181101515620102db57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156201033b57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050620102c2565b83965050505050505092915050565b60608060008060008092505b8751831015620103db57620103cb8884815181101515620103b157fe5b90602001","906020020151856200d7cb90919063ffffffff16565b9350828060010193505062010394565b600091505b86518210156201042757620104178783815181101515620103fd57fe5b90602001906020020151856200d7ab90919063ffffffff16565b93508180600101925050620103e0565b600090505b855181101562010473576201046386828151811015156201044957fe5b90602001906020020151856200d7eb90919063ffffffff16565b935080806001019150506201042c565b839450505050509392505050565b600080838311151515620104cc576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401620104c390620147e6565b60405180910390fd5b82840390508091505092915050565b606060206040519080825280601f01601f191660200182016040528015620105125781602001602082028038833980820191505090505b509050816020820152919050565b606080606080606060008088955087945084518651016040519080825280601f01601f191660200182016040528015620105695781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156201062f5785818151811015156201059157fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515620105f157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062010578565b600090505b8451811015620106eb5784818151811015156201064d57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028383806001019450815181101515620106ad57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062010634565b83965050505050505092915050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f191660200182016040528015620107465781602001602082028038833980820191505090505b509250600090505b6014811015620107d75781816014811015156201076757fe5b1a7f01000000000000000000000000000000000000000000000000000000000000000283828151811015156201079957fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506201074e565b5050919050565b606080600080600080600093505b89518410156201083357620108238a858151811015156201080957fe5b90602001906020020151866200d7cb90919063ffffffff16565b94508380600101945050620107ec565b600092505b88518310156201087f576201086f89848151811015156201085557fe5b90602001906020020151866200d7ab90919063ffffffff16565b9450828060010193505062010838565b600091505b8751821015620108cb57620108bb8883815181101515620108a157fe5b90602001906020020151866200d7ab90919063ffffffff16565b9450818060010192505062010884565b600090505b86518110156201091757620109078782815181101515620108ed57fe5b90602001906020020151866200d7eb90919063ffffffff16565b94508080600101915050620108d0565b8495505050505050949350505050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106201098c57805160ff1916838001178555620109bd565b82800160010185558215620109bd579182015b82811115620109bc5782518255916020019190600101906201099f565b5b509050620109cc919062010a51565b5090565b81548183558181111562010a0057600202816002028360005260206000209182019101620109ff919062010a79565b5b505050565b50805460018160011615610100020316600290046000825580601f1062010a2d575062010a4e565b601f01602090049060005260206000209081019062010a4d919062010a51565b5b50565b62010a7691905b8082111562010a7257600081600090555060010162010a58565b5090565b90565b62010abe91905b8082111562010aba576000808201600062010a9c919062010a05565b6001820160006101000a81549060ff02191690555060020162010a80565b5090565b90565b600062010acf82356201527e565b905092915050565b600062010ae582516201527e565b905092915050565b600082601f830112151562010b0157600080fd5b813562010b1862010b128262014f47565b62014f19565b9150818183526020840193506020810190508385602084028201111562010b3e57600080fd5b60005b8381101562010b72578162010b57888262010ac1565b84526020840193506020830192505060018101905062010b41565b5050505092915050565b600082601f830112151562010b9057600080fd5b815162010ba762010ba18262014f47565b62014f19565b9150818183526020840193506020810190508385602084028201111562010bcd57600080fd5b60005b8381101562010c01578162010be6888262010ad7565b84526020840193506020830192505060018101905062010bd0565b5050505092915050565b600082601f830112151562010c1f57600080fd5b600462010c3662010c308262014f70565b62014f19565b9150818385602084028201111562010c4d57600080fd5b60005b8381101562010c81578162010c668882620110e0565b84526020840193506020830192505060018101905062010c50565b5050505092915050565b600082601f830112151562010c9f57600080fd5b813562010cb662010cb08262014f93565b62014f19565b9150818183526020840193506020810190508360005b8381101562010d00578135860162010ce58882620110f6565b84526020840193506020830192505060018101905062010ccc565b5050505092915050565b600082601f830112151562010d1e57600080fd5b815162010d3562010d2f8262014f93565b62014f19565b9150818183526020840193506020810190508360005b8381101562010d7f578151860162010d64888262011154565b84526020840193506020830192505060018101905062010d4b565b5050505092915050565b600082601f830112151562010d9d57600080fd5b813562010db462010dae8262014fbc565b62014f19565b9150818183526020840193506020810190508385602084028201111562010dda57600080fd5b60005b8381101562010e0e578162010df3888262011210565b84526020840193506020830192505060018101905062010ddd565b5050505092915050565b600082601f830112151562010e2c57600080fd5b813562010e4362010e3d8262014fe5565b62014f19565b9150818183526020840193506020810190508360005b8381101562010e8d578135860162010e72888262011226565b84526020840193506020830192505060018101905062010e59565b5050505092915050565b600082601f830112151562010eab57600080fd5b815162010ec262010ebc8262014fe5565b62014f19565b9150818183526020840193506020810190508360005b8381101562010f0c578151860162010ef1888262011284565b84526020840193506020830192505060018101905062010ed8565b5050505092915050565b600082601f830112151562010f2a57600080fd5b600262010f4162010f3b826201500e565b62014f19565b9150818385602084028201111562010f5857600080fd5b60005b8381101562010f8c578162010f71888262011356565b84526020840193506020830192505060018101905062010f5b565b5050505092915050565b600082601f830112151562010faa57600080fd5b813562010fc162010fbb8262015031565b62014f19565b9150818183526020840193506020810190508385602084028201111562010fe757600080fd5b60005b838110156201101b578162011000888262011340565b84526020840193506020830192505060018101905062010fea565b5050505092915050565b600082601f83011215156201103957600080fd5b8151620110506201104a8262015031565b62014f19565b915081818352602084019350602081019050838560208402820111156201107657600080fd5b60005b83811015620110aa57816201108f888262011356565b84526020840193506020830192505060018101905062011079565b5050505092915050565b6000620110c282356201529e565b905092915050565b6000620110d882516201529e565b905092915050565b6000620110ee8235620152aa565b905092915050565b600082601f83011215156201110a57600080fd5b8135620111216201111b826201505a565b62014f19565b915080825260208301602083018583830111156201113e57600080fd5b6201114b83828462015311565b50505092915050565b600082601f83011215156201116857600080fd5b81516201117f62011179826201505a565b62014f19565b915080825260208301602083018583830111156201119c57600080fd5b620111a983828462015320565b50505092915050565b600082601f8301121515620111c657600080fd5b8135620111dd620111d78262015087565b62014f19565b91508082526020830160208301858383011115620111fa57600080fd5b6201120783828462015311565b50505092915050565b60006201121e8235620152b4565b905092915050565b600082601f83011215156201123a57600080fd5b8135620112516201124b82620150b4565b62014f19565b915080825260208301602083018583830111156201126e57600080fd5b6201127b83828462015311565b50505092915050565b600082601f83011215156201129857600080fd5b8151620112af620112a982620150b4565b62014f19565b91508082526020830160208301858383011115620112cc57600080fd5b620112d983828462015320565b50505092915050565b600082601f8301121515620112f657600080fd5b81356201130d6201130782620150e1565b62014f19565b915080825260208301602083018583830111156201132a57600080fd5b6201133783828462015311565b50505092915050565b60006201134e8235620152be565b905092915050565b6000620113648251620152be565b905092915050565b60006201137a8251620152c8565b905092915050565b6000602082840312156201139557600080fd5b6000620113a58482850162010ad7565b91505092915050565b60008060a08385","031215620113c257600080fd5b6000620113d28582860162010ac1565b9250506020620113e58582860162010c0b565b9150509250929050565b600080604083850312156201140357600080fd5b6000620114138582860162010ad7565b92505060206201142685828601620110ca565b9150509250929050565b600080600060c084860312156201144657600080fd5b6000620114568682870162010ac1565b9350506020620114698682870162011340565b92505060406201147c8682870162010c0b565b9150509250925092565b60008060008060e085870312156201149d57600080fd5b6000620114ad8782880162010ac1565b9450506020620114c08782880162011340565b9350506040620114d38782880162011340565b9250506060620114e68782880162010c0b565b91505092959194509250565b60008060008060008060c087890312156201150c57600080fd5b60006201151c89828a0162010ac1565b96505060206201152f89828a0162011340565b95505060406201154289828a0162011340565b94505060606201155589828a0162011340565b93505060806201156889828a0162011340565b92505060a06201157b89828a0162011340565b9150509295509295509295565b6000602082840312156201159b57600080fd5b600082015167ffffffffffffffff811115620115b657600080fd5b620115c48482850162010b7c565b91505092915050565b60008060008060e08587031215620115e457600080fd5b600085013567ffffffffffffffff811115620115ff57600080fd5b6201160d8782880162010aed565b945050602085013567ffffffffffffffff8111156201162b57600080fd5b620116398782880162010f96565b935050604085013567ffffffffffffffff8111156201165757600080fd5b620116658782880162010e18565b9250506060620116788782880162010c0b565b91505092959194509250565b600080600080600061010086880312156201169e57600080fd5b600086013567ffffffffffffffff811115620116b957600080fd5b620116c78882890162010aed565b955050602086013567ffffffffffffffff811115620116e557600080fd5b620116f38882890162010f96565b945050604086013567ffffffffffffffff8111156201171157600080fd5b6201171f8882890162010f96565b935050606086013567ffffffffffffffff8111156201173d57600080fd5b6201174b8882890162010e18565b92505060806201175e8882890162010c0b565b9150509295509295909350565b600080600080608085870312156201178257600080fd5b600085015167ffffffffffffffff8111156201179d57600080fd5b620117ab8782880162010b7c565b945050602085015167ffffffffffffffff811115620117c957600080fd5b620117d78782880162011025565b935050604085015167ffffffffffffffff811115620117f557600080fd5b620118038782880162011025565b925050606062011816878288016201136c565b91505092959194509250565b600080604083850312156201183657600080fd5b600083015167ffffffffffffffff8111156201185157600080fd5b6201185f8582860162010b7c565b9250506020620118728582860162011356565b9150509250929050565b6000608082840312156201188f57600080fd5b60006201189f8482850162010c0b565b91505092915050565b60008060408385031215620118bc57600080fd5b600083015167ffffffffffffffff811115620118d757600080fd5b620118e58582860162010d0a565b925050602083015167ffffffffffffffff8111156201190357600080fd5b620119118582860162010d0a565b9150509250929050565b6000602082840312156201192e57600080fd5b600082015167ffffffffffffffff8111156201194957600080fd5b620119578482850162010e97565b91505092915050565b6000602082840312156201197357600080fd5b600082015167ffffffffffffffff8111156201198e57600080fd5b6201199c8482850162011025565b91505092915050565b60008060008060e08587031215620119bc57600080fd5b600085013567ffffffffffffffff811115620119d757600080fd5b620119e58782880162010f96565b945050602085013567ffffffffffffffff81111562011a0357600080fd5b62011a118782880162010aed565b935050604085013567ffffffffffffffff81111562011a2f57600080fd5b62011a3d8782880162010d89565b925050606062011a508782880162010c0b565b91505092959194509250565b60008060006060848603121562011a7257600080fd5b600084015167ffffffffffffffff81111562011a8d57600080fd5b62011a9b8682870162011025565b935050602084015167ffffffffffffffff81111562011ab957600080fd5b62011ac78682870162011025565b925050604062011ada8682870162011356565b9150509250925092565b60006020828403121562011af757600080fd5b600062011b0784828501620110ca565b91505092915050565b6000806060838503121562011b2457600080fd5b600062011b3485828601620110ca565b925050602062011b478582860162010f16565b9150509250929050565b60006020828403121562011b6457600080fd5b600082013567ffffffffffffffff81111562011b7f57600080fd5b62011b8d84828501620111b2565b91505092915050565b60008060a0838503121562011baa57600080fd5b600083013567ffffffffffffffff81111562011bc557600080fd5b62011bd385828601620111b2565b925050602062011be68582860162010c0b565b9150509250929050565b6000806040838503121562011c0457600080fd5b600083013567ffffffffffffffff81111562011c1f57600080fd5b62011c2d85828601620111b2565b925050602083013567ffffffffffffffff81111562011c4b57600080fd5b62011c5985828601620111b2565b9150509250929050565b600080600060c0848603121562011c7957600080fd5b600084013567ffffffffffffffff81111562011c9457600080fd5b62011ca286828701620111b2565b935050602084013567ffffffffffffffff81111562011cc057600080fd5b62011cce86828701620111b2565b925050604062011ce18682870162010c0b565b9150509250925092565b60006020828403121562011cfe57600080fd5b600062011d0e8482850162011340565b91505092915050565b60006020828403121562011d2a57600080fd5b600062011d3a8482850162011356565b91505092915050565b600080600060c0848603121562011d5957600080fd5b600062011d698682870162011340565b935050602062011d7c8682870162010ac1565b925050604062011d8f8682870162010c0b565b9150509250925092565b60008060008060e0858703121562011db057600080fd5b600062011dc08782880162011340565b945050602062011dd38782880162010ac1565b935050604085013567ffffffffffffffff81111562011df157600080fd5b62011dff87828801620112e2565b925050606062011e128782880162010c0b565b91505092959194509250565b60008060a0838503121562011e3257600080fd5b600062011e428582860162011340565b925050602062011e558582860162010c0b565b9150509250929050565b6000806000806000610100868803121562011e7957600080fd5b600062011e898882890162011340565b955050602086013567ffffffffffffffff81111562011ea757600080fd5b62011eb58882890162010c8b565b945050604086013567ffffffffffffffff81111562011ed357600080fd5b62011ee18882890162010c8b565b935050606062011ef48882890162010ac1565b925050608062011f078882890162010c0b565b9150509295509295909350565b6000806040838503121562011f2857600080fd5b600062011f388582860162011356565b925050602062011f4b8582860162011356565b9150509250929050565b60008060008060e0858703121562011f6c57600080fd5b600062011f7c8782880162011340565b945050602062011f8f8782880162011340565b935050604062011fa28782880162010ac1565b925050606062011fb58782880162010c0b565b91505092959194509250565b600080600060c0848603121562011fd757600080fd5b600062011fe78682870162011340565b935050602062011ffa8682870162011340565b92505060406201200d8682870162010c0b565b9150509250925092565b600080600080600061010086880312156201203157600080fd5b6000620120418882890162011340565b9550506020620120548882890162011340565b94505060406201206788828901620110b4565b93505060606201207a8882890162010ac1565b92505060806201208d8882890162010c0b565b9150509295509295909350565b60008060008060808587031215620120b157600080fd5b6000620120c18782880162011340565b9450506020620120d48782880162011340565b9350506040620120e78782880162011340565b9250506060620120fa8782880162010ac1565b91505092959194509250565b6000602082840312156201211957600080fd5b600062012129848285016201136c565b91505092915050565b6201213d8162015227565b82525050565b600062012150826201516b565b80845260208401935062012164836201510e565b60005b828110156201219c576201217d86835162012132565b6201218882620151d9565b915060208601955060018101905062012167565b50849250505092915050565b620121b38162015176565b620121be826201511b565b60005b82811015620121f657620121d7858351620123c8565b620121e282620151e6565b9150602085019450600181019050620121c1565b5050505050565b60006201220a8262015181565b80845260208401935083602082028501620122258562015125565b60005b84811015620122645783830388526201224383835162012415565b92506201225082620151f3565b915060208801975060018101905062012228565b508196508694505050505092915050565b600062012282826201518c565b808452602084019350620122968362015132565b60005b82811015620122ce57620122af86835162012501565b620122ba8262015200565b915060208601955060018101905062012299565b50849250505092915050565b6000620122e78262015197565b8084526020840193508360208202850162012302856201513f565b60005b8481101562012341578383038852620123208383516201255f565b92506201232d826201520d565b915060208801975060018101905062012305565b508196508694505050505092915050565b60006201235f82620151a2565b80845260208401935062012373836201514c565b60005b82811015620123ab576201238c868351620137c8565b62012397826201521a565b915060208601955060018101905062012376565b50849250505092915050","565b620123c28162015247565b82525050565b620123d38162015253565b82525050565b6000620123e682620151b8565b808452620123fc81602086016020860162015320565b620124078162015356565b602085010191505092915050565b60006201242282620151ad565b8084526201243881602086016020860162015320565b620124438162015356565b602085010191505092915050565b6000815460018116600081146201247157600181146201249257620124d7565b607f600283041680865260ff198316602087015260408601935050620124d7565b60028204808652602086019550620124aa8562015159565b60005b82811015620124ce57815481890152600182019150602081019050620124ad565b80880195505050505b505092915050565b620124ea81620152d5565b82525050565b620124fb81620152e9565b82525050565b6201250c816201525d565b82525050565b6201251d81620152fd565b82525050565b60006201253082620151ce565b8084526201254681602086016020860162015320565b620125518162015356565b602085010191505092915050565b60006201256c82620151c3565b8084526201258281602086016020860162015320565b6201258d8162015356565b602085010191505092915050565b6000601382527f6e6f746520646f65736e277420657869737421000000000000000000000000006020830152604082019050919050565b6000601782527f466f7262626964656e206765744e6f746544657461696c0000000000000000006020830152604082019050919050565b6000601d82527f466f7262696464656e206e6f6e46756e6769626c655472616e736665720000006020830152604082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000601b82527f66726f6d2f746f2061646472657373206e6f74207665726966792100000000006020830152604082019050919050565b6000601982527f7265717569726520656666656374697665446174653e6e6f77000000000000006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f466f7262696464656e2069737375654e6f6e46756e6769626c650000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601582527f6e6f7465206973206e6f742065666665637469766500000000000000000000006020830152604082019050919050565b6000602b82527f466f7262696464656e207472616e7366657220626563617573652066726f6d2060208301527f69736e2774206f776e65720000000000000000000000000000000000000000006040830152606082019050919050565b6000600f82527f7570646174654e6f7465426174636800000000000000000000000000000000006020830152604082019050919050565b6000601982527f6e65774e6f74654e6f20686173206265656e20697373756521000000000000006020830152604082019050919050565b6000600c82527f7570646174654e6f74654e6f00000000000000000000000000000000000000006020830152604082019050919050565b6000601c82527f726571756972652065787069726174696f6e44617465203e206e6f77000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601482527f466f7262696464656e20666f727a656e4e6f74650000000000000000000000006020830152604082019050919050565b6000600a82527f667265657a654e6f7465000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f6e6f746520697320666f727a656e206f722074656172000000000000000000006020830152604082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000601382527f72657175697265207374617274203c20656e64000000000000000000000000006020830152604082019050919050565b6000601682527f466f7262696464656e207570646174654e6f74654e6f000000000000000000006020830152604082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000602f82527f6e6f7465436f756e74206f6620726563697069656e742073686f756c6420626560208301527f2067726561746572207468616e203000000000000000000000000000000000006040830152606082019050919050565b6000601382527f6163636f756e74436f6e7461696e734e6f7465000000000000000000000000006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000600c82527f756e667265657a654e6f746500000000000000000000000000000000000000006020830152604082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000601d82527f7365744e6f6e46756e6769626c65507269636520466f7262696464656e0000006020830152604082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000601282527f726571756972652064617465203e206e6f7700000000000000000000000000006020830152604082019050919050565b6000601182527f706172616d73206e6f74207665726966790000000000000000000000000000006020830152604082019050919050565b6000601c82527f726571756972652065666665637469766544617465203e3d206e6f77000000006020830152604082019050919050565b6000603f82527f6e6f74657320686173206265656e20646566696e656420706c6561736520636860208301527f616e6765206e6f74654e6f507265666978206f72206e6f74654e6f53697a65006040830152606082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000601482527f7570646174654e6f746550726f706572746965730000000000000000000000006020830152604082019050919050565b6000601382527f7365744e6f6e46756e6769626c655072696365000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e20656e61626c65426174636800000000000000000000006020830152604082019050919050565b6000601d82527f466f7262696464656e206163636f756e74436f6e7461696e734e6f74650000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000601b82527f466f7262696464656e206765744e6f746550726f7065727469657300000000006020830152604082019050919050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000602782527f726571756972652065787069726174696f6e44617465203e202065666665637460208301527f69766544617465000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601682527f466f7262696464656e20676574546561724e6f746573000000000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000601c82527f6e6f7465436f756e7473206e6f74206d61746368206e6f74654e6f73000000006020830152604082019050919050565b6000602a82527f6465736320627974657320617265206265747765656e203120616e642032353560208301527f20696e206c656e677468000000000000000000000000000000000000000000006040830152606082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000601082527f777269746520626f6f6b206661696c21000000000000000000000000000000006020830152604082019050919050565b6000601282527f6e6f746520646f65736e277420657869737400000000000000000000000000006020830152604082019050919050565b6000600882527f7472616e736665720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601282527f6e6f7465206973206e6f7420666f727a656e00000000000000000000000000006020830152604082019050919050565b6000601082527f69737375654e6f6e46756e6769626c65","000000000000000000000000000000006020830152604082019050919050565b6000601582527f726563697069656e7473206e6f742076657269667900000000000000000000006020830152604082019050919050565b6000600882527f746561724e6f74650000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601982527f466f7262696464656e207570646174654e6f74654261746368000000000000006020830152604082019050919050565b6000603282527f72657175697265203130203e206e6f74654e6f53697a65203e3020616e64206560208301527f787069726174696f6e44617465203e6e6f7700000000000000000000000000006040830152606082019050919050565b6000601e82527f466f7262696464656e207570646174654e6f746550726f7065727469657300006020830152604082019050919050565b6000601282527f466f7262696464656e20746561724e6f746500000000000000000000000000006020830152604082019050919050565b6000600d82527f6765744e6f746544657461696c000000000000000000000000000000000000006020830152604082019050919050565b6000603782527f466f7262696464656e206e6f6e46756e6769626c655175657279426f6f6b206260208301527f65636175736520796f75206172656e2774206f776e65720000000000000000006040830152606082019050919050565b6000601682527f466f7262696464656e20756e667265657a654e6f7465000000000000000000006020830152604082019050919050565b6000601982527f466f7262696464656e206765744163636f756e744e6f746573000000000000006020830152604082019050919050565b6000600c82527f676574546561724e6f74657300000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601182527f6765744e6f746550726f706572746965730000000000000000000000000000006020830152604082019050919050565b6000600b82527f656e61626c6542617463680000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f72657175697265206e6f74654e6f5072656669783e30000000000000000000006020830152604082019050919050565b6000601582527f72657175697265203530303e3d616d6f756e743e3000000000000000000000006020830152604082019050919050565b6000600f82527f6765744163636f756e744e6f74657300000000000000000000000000000000006020830152604082019050919050565b620137d38162015267565b82525050565b620137e48162015271565b82525050565b600060208201905062013801600083018462012132565b92915050565b60006080820190506201381e600083018762012132565b6201382d602083018662012132565b6201383c604083018562012132565b8181036060830152620138508184620123d9565b905095945050505050565b600060a08201905062013872600083018862012132565b62013881602083018762012132565b818103604083015262013895818662012415565b90508181036060830152620138ab8185620123d9565b90508181036080830152620138c1818462012451565b90509695505050505050565b600061010082019050620138e5600083018762012132565b620138f4602083018662012132565b8181036040830152620139078162013330565b905081810360608301526201391d8185620123d9565b90506201392e6080830184620121a8565b95945050505050565b6000610100820190506201394f600083018762012132565b6201395e602083018662012132565b8181036040830152620139718162013545565b90508181036060830152620139878185620123d9565b9050620139986080830184620121a8565b95945050505050565b600061010082019050620139b9600083018762012132565b620139c8602083018662012132565b8181036040830152620139db8162013791565b90508181036060830152620139f18185620123d9565b905062013a026080830184620121a8565b95945050505050565b600060608201905062013a22600083018662012132565b62013a31602083018562012132565b62013a406040830184620137c8565b949350505050565b60006101008201905062013a60600083018862012132565b62013a6f6020830187620124df565b818103604083015262013a838186620123d9565b9050818103606083015262013a998185620123d9565b905062013aaa6080830184620121a8565b9695505050505050565b60006101008201905062013acc600083018762012132565b62013adb6020830186620124f0565b818103604083015262013aee8162012753565b9050818103606083015262013b048185620123d9565b905062013b156080830184620121a8565b95945050505050565b60006101008201905062013b36600083018762012132565b62013b456020830186620124f0565b818103604083015262013b5881620127c1565b9050818103606083015262013b6e8185620123d9565b905062013b7f6080830184620121a8565b95945050505050565b60006101008201905062013ba0600083018762012132565b62013baf6020830186620124f0565b818103604083015262013bc281620128c3565b9050818103606083015262013bd88185620123d9565b905062013be96080830184620121a8565b95945050505050565b60006101008201905062013c0a600083018762012132565b62013c196020830186620124f0565b818103604083015262013c2c8162012931565b9050818103606083015262013c428185620123d9565b905062013c536080830184620121a8565b95945050505050565b60006101008201905062013c74600083018762012132565b62013c836020830186620124f0565b818103604083015262013c968162012a6a565b9050818103606083015262013cac8185620123d9565b905062013cbd6080830184620121a8565b95945050505050565b60006101008201905062013cde600083018762012132565b62013ced6020830186620124f0565b818103604083015262013d008162012c6e565b9050818103606083015262013d168185620123d9565b905062013d276080830184620121a8565b95945050505050565b60006101008201905062013d48600083018762012132565b62013d576020830186620124f0565b818103604083015262013d6a8162012d28565b9050818103606083015262013d808185620123d9565b905062013d916080830184620121a8565b95945050505050565b60006101008201905062013db2600083018762012132565b62013dc16020830186620124f0565b818103604083015262013dd48162012f74565b9050818103606083015262013dea8185620123d9565b905062013dfb6080830184620121a8565b95945050505050565b60006101008201905062013e1c600083018762012132565b62013e2b6020830186620124f0565b818103604083015262013e3e8162012fab565b9050818103606083015262013e548185620123d9565b905062013e656080830184620121a8565b95945050505050565b60006101008201905062013e86600083018762012132565b62013e956020830186620124f0565b818103604083015262013ea88162013189565b9050818103606083015262013ebe8185620123d9565b905062013ecf6080830184620121a8565b95945050505050565b60006101008201905062013ef0600083018762012132565b62013eff6020830186620124f0565b818103604083015262013f128162013254565b9050818103606083015262013f288185620123d9565b905062013f396080830184620121a8565b95945050505050565b60006101008201905062013f5a600083018762012132565b62013f696020830186620124f0565b818103604083015262013f7c816201339e565b9050818103606083015262013f928185620123d9565b905062013fa36080830184620121a8565b95945050505050565b60006101008201905062013fc4600083018762012132565b62013fd36020830186620124f0565b818103604083015262013fe6816201340c565b9050818103606083015262013ffc8185620123d9565b90506201400d6080830184620121a8565b95945050505050565b6000610100820190506201402e600083018762012132565b6201403d6020830186620124f0565b8181036040830152620140508162013647565b90508181036060830152620140668185620123d9565b9050620140776080830184620121a8565b95945050505050565b60006101008201905062014098600083018762012132565b620140a76020830186620124f0565b8181036040830152620140ba81620136b5565b90508181036060830152620140d08185620123d9565b9050620140e16080830184620121a8565b95945050505050565b60006101008201905062014102600083018762012132565b620141116020830186620124f0565b81810360408301526201412481620136ec565b905081810360608301526201413a8185620123d9565b90506201414b6080830184620121a8565b95945050505050565b60006040820190506201416b600083018562012132565b6201417a6020830184620137c8565b9392505050565b600060608201905062014198600083018662012132565b620141a76020830185620137c8565b620141b66040830184620137c8565b949350505050565b60006020820190508181036000830152620141da818462012143565b905092915050565b60006080820190508181036000830152620141fe818762012143565b9050818103602083015262014214818662012352565b905081810360408301526201422a818562012352565b90506201423b6060830184620137d9565b95945050505050565b6000604082019050818103600083015262014260818562012143565b9050620142716020830184620137c8565b9392505050565b6000606082019050818103600083015262014294818662012143565b9050620142a56020830185620137c8565b8181036040830152620142b98184620122da565b9050949350505050565b60006040820190508181036000830152620142df8185620121fd565b90508181036020830152620142f58184620121fd565b90509392505050565b600060208201905081810360008301526201431a8184620122da565b905092915050565b600060208201905081810360008301526201433e818462012352565b905092915050565b6000606082019050818103600083015262014362818662012352565b9050818103602083015262014378818562012143565b905081810360408301526201438e818462012275565b9050949350505050565b60006060820190508181036000830152620143b4818662012352565b90","508181036020830152620143ca818562012352565b9050620143db6040830184620137c8565b949350505050565b6000602082019050620143fa6000830184620123b7565b92915050565b6000604082019050620144176000830185620123b7565b81810360208301526201442b818462012352565b90509392505050565b6000602082019050818103600083015262014450818462012415565b905092915050565b60006020820190508181036000830152620144748184620123d9565b905092915050565b6000606082019050620144936000830186620124f0565b620144a2602083018562012132565b620144b16040830184620123b7565b949350505050565b6000602082019050620144d0600083018462012512565b92915050565b60006020820190508181036000830152620144f2818462012523565b905092915050565b6000602082019050818103600083015262014515816201259b565b9050919050565b600060208201905081810360008301526201453781620125d2565b9050919050565b60006020820190508181036000830152620145598162012609565b9050919050565b600060208201905081810360008301526201457b8162012640565b9050919050565b600060208201905081810360008301526201459d8162012677565b9050919050565b60006020820190508181036000830152620145bf81620126ae565b9050919050565b60006020820190508181036000830152620145e181620126e5565b9050919050565b6000602082019050818103600083015262014603816201271c565b9050919050565b6000602082019050818103600083015262014625816201278a565b9050919050565b600060208201905081810360008301526201464781620127f8565b9050919050565b6000602082019050818103600083015262014669816201282f565b9050919050565b600060208201905081810360008301526201468b8162012866565b9050919050565b60006020820190508181036000830152620146ad81620128fa565b9050919050565b60006020820190508181036000830152620146cf8162012968565b9050919050565b60006020820190508181036000830152620146f1816201299f565b9050919050565b600060208201905081810360008301526201471381620129d6565b9050919050565b60006020820190508181036000830152620147358162012a33565b9050919050565b60006020820190508181036000830152620147578162012aa1565b9050919050565b60006020820190508181036000830152620147798162012ad8565b9050919050565b600060208201905081810360008301526201479b8162012b0f565b9050919050565b60006020820190508181036000830152620147bd8162012b46565b9050919050565b60006020820190508181036000830152620147df8162012b7d565b9050919050565b60006020820190508181036000830152620148018162012bda565b9050919050565b60006020820190508181036000830152620148238162012c11565b9050919050565b60006020820190508181036000830152620148458162012ca5565b9050919050565b60006020820190508181036000830152620148678162012d5f565b9050919050565b60006020820190508181036000830152620148898162012d96565b9050919050565b60006020820190508181036000830152620148ab8162012dcd565b9050919050565b60006020820190508181036000830152620148cd8162012e04565b9050919050565b60006020820190508181036000830152620148ef8162012e3b565b9050919050565b60006020820190508181036000830152620149118162012e72565b9050919050565b60006020820190508181036000830152620149338162012ea9565b9050919050565b60006020820190508181036000830152620149558162012ee0565b9050919050565b60006020820190508181036000830152620149778162012f3d565b9050919050565b60006020820190508181036000830152620149998162012fe2565b9050919050565b60006020820190508181036000830152620149bb8162013019565b9050919050565b60006020820190508181036000830152620149dd8162013050565b9050919050565b60006020820190508181036000830152620149ff8162013087565b9050919050565b6000602082019050818103600083015262014a2181620130be565b9050919050565b6000602082019050818103600083015262014a4381620130f5565b9050919050565b6000602082019050818103600083015262014a658162013152565b9050919050565b6000602082019050818103600083015262014a8781620131c0565b9050919050565b6000602082019050818103600083015262014aa981620131f7565b9050919050565b6000602082019050818103600083015262014acb816201328b565b9050919050565b6000602082019050818103600083015262014aed81620132c2565b9050919050565b6000602082019050818103600083015262014b0f81620132f9565b9050919050565b6000602082019050818103600083015262014b318162013367565b9050919050565b6000602082019050818103600083015262014b5381620133d5565b9050919050565b6000602082019050818103600083015262014b758162013443565b9050919050565b6000602082019050818103600083015262014b97816201347a565b9050919050565b6000602082019050818103600083015262014bb981620134d7565b9050919050565b6000602082019050818103600083015262014bdb816201350e565b9050919050565b6000602082019050818103600083015262014bfd816201357c565b9050919050565b6000602082019050818103600083015262014c1f81620135d9565b9050919050565b6000602082019050818103600083015262014c418162013610565b9050919050565b6000602082019050818103600083015262014c63816201367e565b9050919050565b6000602082019050818103600083015262014c858162013723565b9050919050565b6000602082019050818103600083015262014ca7816201375a565b9050919050565b600060208201905062014cc56000830184620137c8565b92915050565b600060408201905062014ce26000830185620137c8565b62014cf1602083018462012132565b9392505050565b600060608201905062014d0f6000830186620137c8565b818103602083015262014d238185620121fd565b9050818103604083015262014d398184620121fd565b9050949350505050565b600060608201905062014d5a6000830186620137c8565b818103602083015262014d6e818562012352565b9050818103604083015262014d84818462012352565b9050949350505050565b600060408201905062014da56000830185620137c8565b62014db46020830184620137c8565b9392505050565b600060808201905062014dd26000830187620137c8565b62014de16020830186620137c8565b62014df0604083018562012132565b62014dff6060830184620137c8565b95945050505050565b600060608201905062014e1f6000830186620137c8565b62014e2e6020830185620137c8565b62014e3d6040830184620123b7565b949350505050565b600060808201905062014e5c6000830187620137c8565b62014e6b6020830186620137c8565b62014e7a6040830185620137c8565b62014e89606083018462012132565b95945050505050565b600060608201905062014ea96000830186620137c8565b62014eb86020830185620137c8565b62014ec76040830184620137d9565b949350505050565b600060408201905062014ee66000830185620137c8565b62014ef56020830184620137d9565b9392505050565b600060208201905062014f136000830184620137d9565b92915050565b6000604051905081810181811067ffffffffffffffff8211171562014f3d57600080fd5b8060405250919050565b600067ffffffffffffffff82111562014f5f57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562014f8857600080fd5b602082029050919050565b600067ffffffffffffffff82111562014fab57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562014fd457600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562014ffd57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff8211156201502657600080fd5b602082029050919050565b600067ffffffffffffffff8211156201504957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff8211156201507257600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156201509f57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115620150cc57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115620150f957600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b6000620152e28262015227565b9050919050565b6000620152f68262015227565b9050919050565b60006201530a8262015267565b9050919050565b82818337600083830152505050565b60005b838110156201534057808201518184015260208101905062015323565b8381111562015350576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a723058203118716aef6577b1ffad1809b1e2b70ab436d79d6013146bc579175f8c2755a96c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b506040","51620057e2380380620057e2833981018060405262000037919081019062000395565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600c9080519060200190620000ff9291906200025c565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166356004b6a600c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a919062000552565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d0919081019062000404565b5080600d60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555033600e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505050506200066d565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200029f57805160ff1916838001178555620002d0565b82800160010185558215620002d0579182015b82811115620002cf578251825591602001919060010190620002b2565b5b509050620002df9190620002e3565b5090565b6200030891905b8082111562000304576000816000905550600101620002ea565b5090565b90565b60006200031982516200060d565b905092915050565b60006200032f82516200062d565b905092915050565b600082601f83011215156200034b57600080fd5b8151620003626200035c82620005ce565b620005a0565b915080825260208301602083018583830111156200037f57600080fd5b6200038c83828462000637565b50505092915050565b600080600060608486031215620003ab57600080fd5b6000620003bb868287016200030b565b935050602084015167ffffffffffffffff811115620003d957600080fd5b620003e78682870162000337565b9250506040620003fa868287016200030b565b9150509250925092565b6000602082840312156200041757600080fd5b6000620004278482850162000321565b91505092915050565b6000815460018116600081146200045057600181146200047157620004b6565b607f600283041680865260ff198316602087015260408601935050620004b6565b600282048086526020860195506200048985620005fb565b60005b82811015620004ad578154818901526001820191506020810190506200048c565b80880195505050505b505092915050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000602e82527f7465726d5f6e6f2c7365712c66726f6d2c746f2c6e6f746549642c617373657460208301527f2c6f70657261746f722c646573630000000000000000000000000000000000006040830152606082019050919050565b600060608201905081810360008301526200056e818462000430565b905081810360208301526200058381620004be565b905081810360408301526200059881620004f5565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005c457600080fd5b8060405250919050565b600067ffffffffffffffff821115620005e657600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b83811015620006575780820151818401526020810190506200063a565b8381111562000667576000848401525b50505050565b615165806200067d6000396000f30060806040526004361061006d576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806338cc483114610072578063521ae5361461009d57806360f95a02146100da5780639b825e8214610118578063e953d0af14610156575b600080fd5b34801561007e57600080fd5b50610087610181565b60405161009491906148e1565b60405180910390f35b3480156100a957600080fd5b506100c460048036036100bf9190810190614102565b610189565b6040516100d1919061497f565b60405180910390f35b3480156100e657600080fd5b5061010160048036036100fc9190810190614017565b610921565b60405161010f9291906149a1565b60405180910390f35b34801561012457600080fd5b5061013f600480360361013a9190810190614096565b6113f3565b60405161014d92919061494f565b60405180910390f35b34801561016257600080fd5b5061016b611bbe565b6040516101789190614dff565b60405180910390f35b600030905090565b60606000606060006060600080606060008b5111806101a9575060008a51115b15156101ea576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016101e190614d8a565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016102629190614a6e565b602060405180830381600087803b15801561027c57600080fd5b505af1158015610290573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506102b49190810190614214565b96506102c08b8b6113f3565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561032c57600080fd5b505af1158015610340573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506103649190810190614199565b92506000915060008b51118015610394575060008b600081518110151561038757fe5b9060200190602002015114155b15610441578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16103d68d60008151811015156103c757fe5b90602001906020020151611c1b565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161040e9190614c16565b600060405180830381600087803b15801561042857600080fd5b505af115801561043c573d6000803e3d6000fd5b505050505b60018b5111801561046b575060008b600181518110151561045e57fe5b9060200190602002015114155b15610518578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16104ad8d600181518110151561049e57fe5b90602001906020020151611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016104e59190614c8b565b600060405180830381600087803b1580156104ff57600080fd5b505af1158015610513573d6000803e3d6000fd5b505050505b60028b51118015610542575060008b600281518110151561053557fe5b9060200190602002015114155b156105ef578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16105848d600281518110151561057557fe5b90602001906020020151611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016105bc9190614d55565b600060405180830381600087803b1580156105d657600080fd5b505af11580156105ea573d6000803e3d6000fd5b505050505b60008a511180156106455750600073ffffffffffffffffffffffffffffffffffffffff168a600081518110151561062257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610708578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d161069d8c600081518110151561067857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016106d59190614b73565b600060405180830381600087803b1580156106ef57600080fd5b505af1158015610703573d6000803e3d6000fd5b505050505b60018a5111801561075e5750600073ffffffffffffffffffffffffffffffffffffffff168a600181518110151561073b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610821578273ffffffffffffffffffffffffffffffffffffffff1663cd30a1d16107b68c600181518110151561079157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107ee9190614b1e565b600060405180830381600087803b15801561080857600080fd5b505af115801561081c573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff16637ec1cc658a600081518110151561084c57fe5b906020019060200201518b600181518110151561086557fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108a89291906149e5565b600060405180830381600087803b1580156108c257600080fd5b505af11580156108d6573d6000803e3d6000fd5b505050506108e5868685611ee6565b8093508192505050600081511180156108fe5750600082135b156109105761090d81836121ee565b93505b839750505050505050509392505050565b600061092b613c53565b6000606060008060008061093d613c53565b60048c5110151515610984576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161097b90614d8a565b60405180910390fd5b6000809054906101000a900473ffffffffffff","ffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663124b65b46040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b158015610a0957600080fd5b505af1158015610a1d573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250610a4691908101906142d0565b80975081985050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638662f51f6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610ad357600080fd5b505af1158015610ae7573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610b0b91908101906142a7565b9450610b1a87868e8e8e612be1565b9350600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b949190614a6e565b602060405180830381600087803b158015610bae57600080fd5b505af1158015610bc2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610be69190810190614214565b92508273ffffffffffffffffffffffffffffffffffffffff166331afac36610c2e6002600160028054905003815481101515610c1e57fe5b9060005260206000200154611c1b565b866040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c68929190614a3e565b602060405180830381600087803b158015610c8257600080fd5b505af1158015610c96573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610cba919081019061423d565b91507f16d624dce1a542b12776c04c8bc47047e182a4cd79844e7e7fb40593f9fd7cb68c8c8c85604051610cf194939291906148fc565b60405180910390a16008600088815260200190815260200160002060006002600160028054905003815481101515610d2557fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff161515610e0f57600360008881526020019081526020016000206002600160028054905003815481101515610d7c57fe5b9060005260206000200154908060018154018082558091505090600182039060005260206000200160009091929091909150555060016008600089815260200190815260200160002060006002600160028054905003815481101515610dde57fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b6002600160028054905003815481101515610e2657fe5b90600052602060002001546004600087815260200190815260200160002081905550600960008d6002815181101515610e5b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515610eb857fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff16158015610f3157508b6002815181101515610ef657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b1561107b57600560008d6002815181101515610f4957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206002600160028054905003815481101515610fa457fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600960008e6002815181101515610fed57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206000600260016002805490500381548110151561104a57fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600a60008d600381518110151561108e57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156110eb57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615801561116457508b600381518110151561112957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b156112ae57600660008d600381518110151561117c57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060026001600280549050038154811015156111d757fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600a60008e600381518110151561122057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206000600260016002805490500381548110151561127d57fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600b60008c8152602001908152602001600020600060026001600280549050038154811015156112da57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615156113c457600760008c8152602001908152602001600020600260016002805490500381548110151561133157fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600b60008d81526020019081526020016000206000600260016002805490500381548110151561139357fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b604080519081016040528088815260200186815250905060018214819850985050505050505050935093915050565b6060600060606000806000806000806002805490506040519080825280602002602001820160405280156114365781602001602082028038833980820191505090505b50965060018b51118015611463575060008b600181518110151561145657fe5b9060200190602002015114155b156114f1576000600460008d600181518110151561147d57fe5b906020019060200201518152602001908152602001600020541415156114f0576001876001600460008f60018151811015156114b557fe5b90602001906020020151815260200190815260200160002054038151811015156114db57fe5b90602001906020020190151590811515815250505b5b60008b5111801561151b575060008b600081518110151561150e57fe5b9060200190602002015114155b1561163657600095505b600360008c600081518110151561153857fe5b9060200190602002015181526020019081526020016000208054905086101561163557866001600360008e600081518110151561157157fe5b9060200190602002015181526020019081526020016000208881548110151561159657fe5b9060005260206000200154038151811015156115ae57fe5b906020019060200201511515611628576001876001600360008f60008151811015156115d657fe5b906020019060200201518152602001908152602001600020898154811015156115fb57fe5b90600052602060002001540381518110151561161357fe5b90602001906020020190151590811515815250505b8580600101965050611525565b5b60028b51118015611660575060008b600281518110151561165357fe5b9060200190602002015114155b1561177b57600094505b600760008c600281518110151561167d57fe5b9060200190602002015181526020019081526020016000208054905085101561177a57866001600760008e60028151811015156116b657fe5b906020019060200201518152602001908152602001600020878154811015156116db57fe5b9060005260206000200154038151811015156116f357fe5b90602001906020020151151561176d576001876001600760008f600281518110151561171b57fe5b9060200190602002015181526020019081526020016000208881548110151561174057fe5b90600052602060002001540381518110151561175857fe5b90602001906020020190151590811515815250505b848060010195505061166a565b5b60008a511180156117d15750600073ffffffffffffffffffffffffffffffffffffffff168a60008151811015156117ae57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561197057600093505b600560008b60008151811015156117ee57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208054905084101561196f57866001600560008d600081518110151561185357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156118a457fe5b9060005260206000200154038151811015156118bc57fe5b906020019060200201511515611962576001876001600560008e60008151811015156118e457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208781548110151561193557fe5b90600052602060002001540381518110151561194d57fe5b90602001906020020190151590811515815250505b83806001019450506117db565b5b60018a511180156119c65750600073ffffffffffffffffffffffffffffffffffffffff168a6001","8151811015156119a357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15611b6557600092505b600660008b60018151811015156119e357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002080549050831015611b6457866001600660008d6001815181101515611a4857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002085815481101515611a9957fe5b906000526020600020015403815181101515611ab157fe5b906020019060200201511515611b57576001876001600660008e6001815181101515611ad957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002086815481101515611b2a57fe5b906000526020600020015403815181101515611b4257fe5b90602001906020020190151590811515815250505b82806001019350506119d0565b5b60009150600090505b8651811015611baa578681815181101515611b8557fe5b9060200190602002015115611b9d5781806001019250505b8080600101915050611b6e565b868298509850505050505050509250929050565b6000600260016002805490500190806001815401808255809150509060018203906000526020600020016000909192909190915055506002600160028054905003815481101515611c0b57fe5b9060005260206000200154905090565b60606000806060600080861415611c69576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611d69565b8593505b600084141515611c93578280600101935050600a84811515611c8b57fe5b049350611c6d565b826040519080825280601f01601f191660200182016040528015611cc65781602001602082028038833980820191505090505b5091506001830390505b600086141515611d6557600a86811515611ce657fe5b066030017f010000000000000000000000000000000000000000000000000000000000000002828280600190039350815181101515611d2157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a86811515611d5d57fe5b049550611cd0565b8194505b50505050919050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff1694506000851415611ddc576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509550611edc565b8493505b600084141515611e06578280600101935050600a84811515611dfe57fe5b049350611de0565b826040519080825280601f01601f191660200182016040528015611e395781602001602082028038833980820191505090505b5091506001830390505b600085141515611ed857600a85811515611e5957fe5b066030017f010000000000000000000000000000000000000000000000000000000000000002828280600190039350815181101515611e9457fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a85811515611ed057fe5b049450611e43565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f6c9190614a6e565b602060405180830381600087803b158015611f8657600080fd5b505af1158015611f9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611fbe9190810190614214565b95506000945089604051908082528060200260200182016040528015611ff35781602001602082028038833980820191505090505b50935060009250600091505b8a518210156121da578a8281518110151561201657fe5b90602001906020020151156121cd578573ffffffffffffffffffffffffffffffffffffffff1663e8434e3961204d60018501611c1b565b8b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612087929190614a0e565b602060405180830381600087803b1580156120a157600080fd5b505af11580156120b5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506120d991908101906141c2565b90508073ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561213f57600080fd5b505af1158015612153573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612177919081019061423d565b8501945080848480600101955081518110151561219057fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8180600101925050611fff565b838597509750505050505050935093915050565b606080600080600080600060606008890260405190808252806020026020018201604052801561223257816020015b606081526020019060019003908161221d5790505b509650600095505b8951861015612bd157898681518110151561225157fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156122ca57600080fd5b505af11580156122de573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612302919081019061423d565b831215612bc4578473ffffffffffffffffffffffffffffffffffffffff1663846719e0846040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161235e91906149ca565b602060405180830381600087803b15801561237857600080fd5b505af115801561238c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506123b091908101906141eb565b9150600093506125b78273ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161240c90614b53565b600060405180830381600087803b15801561242657600080fd5b505af115801561243a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506124639190810190614266565b8373ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016124b690614afe565b600060405180830381600087803b1580156124d057600080fd5b505af11580156124e4573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061250d9190810190614266565b8473ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161256090614ba8565b602060405180830381600087803b15801561257a57600080fd5b505af115801561258e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506125b29190810190613fee565b613312565b9050600381511415156125ff576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016125f690614ade565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161265290614bf6565b600060405180830381600087803b15801561266c57600080fd5b505af1158015612680573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506126a99190810190614266565b878585600802018151811015156126bc57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161271c90614c6b565b600060405180830381600087803b15801561273657600080fd5b505af115801561274a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506127739190810190614266565b8785600101955085856008020181518110151561278c57fe5b906020019060200201819052508060008151811015156127a857fe5b90602001906020020151878560010195508585600802018151811015156127cb57fe5b906020019060200201819052508060018151811015156127e757fe5b906020019060200201518785600101955085856008020181518110151561280a57fe5b90602001906020020181905250612999600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f02b8c8c61290a8573ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016128ae90614d35565b600060405180830381600087803b1580156128c857600080fd5b505af11580156128dc573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506129059190810190614266565b6138b1565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016129429190614dff565b602060405180830381600087803b15801561295c57600080fd5b505af1158015612970573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061299491908101906142a7565b611c1b","565b878560010195508585600802018151811015156129b257fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a1290614cc0565b600060405180830381600087803b158015612a2c57600080fd5b505af1158015612a40573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612a699190810190614266565b87856001019550858560080201815181101515612a8257fe5b90602001906020020181905250612b528273ffffffffffffffffffffffffffffffffffffffff1663bf40fac16040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae590614a90565b602060405180830381600087803b158015612aff57600080fd5b505af1158015612b13573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612b379190810190613fee565b73ffffffffffffffffffffffffffffffffffffffff16611d72565b87856001019550858560080201815181101515612b6b57fe5b90602001906020020181905250806002815181101515612b8757fe5b9060200190602002015187856001019550858560080201815181101515612baa57fe5b906020019060200201819052508280600101935050612266565b858060010196505061223a565b8697505050505050505092915050565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663f23f63c9600c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c5e9190614a6e565b602060405180830381600087803b158015612c7857600080fd5b505af1158015612c8c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612cb09190810190614214565b91508173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015612d1657600080fd5b505af1158015612d2a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612d4e91908101906141eb565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b516612d966002600160028054905003815481101515612d8657fe5b9060005260206000200154611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612dce9190614daa565b600060405180830381600087803b158015612de857600080fd5b505af1158015612dfc573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516612e2589611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612e5d9190614c8b565b600060405180830381600087803b158015612e7757600080fd5b505af1158015612e8b573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516612eb48a611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612eec9190614c16565b600060405180830381600087803b158015612f0657600080fd5b505af1158015612f1a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516612f71886002815181101515612f4c57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612fa99190614b73565b600060405180830381600087803b158015612fc357600080fd5b505af1158015612fd7573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661302e88600381518110151561300957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130669190614b1e565b600060405180830381600087803b15801561308057600080fd5b505af1158015613094573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158760018151811015156130c357fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131059190614ab0565b600060405180830381600087803b15801561311f57600080fd5b505af1158015613133573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51661315c87611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131949190614d55565b600060405180830381600087803b1580156131ae57600080fd5b505af11580156131c2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663a815ff158760008151811015156131f157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132339190614bc8565b600060405180830381600087803b15801561324d57600080fd5b505af1158015613261573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b51685600081518110151561329057fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132d29190614ce0565b600060405180830381600087803b1580156132ec57600080fd5b505af1158015613300573d6000803e3d6000fd5b50505050809250505095945050505050565b606080600080600360405190808252806020026020018201604052801561334d57816020015b60608152602001906001900390816133385790505b50925060008751118015613396575061336587613a82565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b1561352057600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca06133e289613a82565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161341a91906148e1565b602060405180830381600087803b15801561343457600080fd5b505af1158015613448573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061346c9190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156134e0576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016134d790614d15565b60405180910390fd5b6134ff8173ffffffffffffffffffffffffffffffffffffffff16611d72565b83600081518110151561350e57fe5b9060200190602002018190525061353e565b8683600081518110151561353057fe5b906020019060200201819052505b60008651118015613584575061355386613a82565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b1561370e57600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca06135d088613a82565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161360891906148e1565b602060405180830381600087803b15801561362257600080fd5b505af1158015613636573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061365a9190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156136ce576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016136c590614ddf565b60405180910390fd5b6136ed8173ffffffffffffffffffffffffffffffffffffffff16611d72565b8360018151811015156136fc57fe5b9060200190602002018190525061372c565b8583600181518110151561371e57fe5b906020019060200201819052505b600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166346438ca0866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016137a391906148e1565b602060405180830381600087803b1580156137bd57600080fd5b505af11580156137d1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506137f59190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613869576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161386090614c4b565b60405180910390fd5b6138888173ffffffffffffffffffffffffffffffffffffffff16611d72565b83600281518110151561389757fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613a7757603083828151811015156138dd57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff16101580156139db57506039838281518110151561396757fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000","0000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613a6a57603083828151811015156139f057fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b80806001019150506138c4565b819350505050919050565b6000606060008084925060009150600090505b8251811015613c485760308382815181101515613aae57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bac575060398382815181101515613b3857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613c3b5760308382815181101515613bc157fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613a95565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613c818235615038565b905092915050565b6000613c958251615038565b905092915050565b600082601f8301121515613cb057600080fd5b8135613cc3613cbe82614e47565b614e1a565b91508181835260208401935060208101905083856020840282011115613ce857600080fd5b60005b83811015613d185781613cfe8882613c75565b845260208401935060208301925050600181019050613ceb565b5050505092915050565b600082601f8301121515613d3557600080fd5b8135613d48613d4382614e6f565b614e1a565b91508181835260208401935060208101905083856020840282011115613d6d57600080fd5b60005b83811015613d9d5781613d838882613ef2565b845260208401935060208301925050600181019050613d70565b5050505092915050565b600082601f8301121515613dba57600080fd5b8135613dcd613dc882614e97565b614e1a565b9150818183526020840193506020810190508360005b83811015613e135781358601613df98882613f1a565b845260208401935060208301925050600181019050613de3565b5050505092915050565b600082601f8301121515613e3057600080fd5b8135613e43613e3e82614ebf565b614e1a565b91508181835260208401935060208101905083856020840282011115613e6857600080fd5b60005b83811015613e985781613e7e8882613fc6565b845260208401935060208301925050600181019050613e6b565b5050505092915050565b6000613eae8251615058565b905092915050565b6000613ec2825161506a565b905092915050565b6000613ed6825161507c565b905092915050565b6000613eea825161508e565b905092915050565b6000613efe82356150a0565b905092915050565b6000613f1282516150a0565b905092915050565b600082601f8301121515613f2d57600080fd5b8135613f40613f3b82614ee7565b614e1a565b91508082526020830160208301858383011115613f5c57600080fd5b613f678382846150d8565b50505092915050565b600082601f8301121515613f8357600080fd5b8151613f96613f9182614f13565b614e1a565b91508082526020830160208301858383011115613fb257600080fd5b613fbd8382846150e7565b50505092915050565b6000613fd282356150aa565b905092915050565b6000613fe682516150aa565b905092915050565b60006020828403121561400057600080fd5b600061400e84828501613c89565b91505092915050565b60008060006060848603121561402c57600080fd5b600084013567ffffffffffffffff81111561404657600080fd5b61405286828701613c9d565b935050602061406386828701613fc6565b925050604084013567ffffffffffffffff81111561408057600080fd5b61408c86828701613da7565b9150509250925092565b600080604083850312156140a957600080fd5b600083013567ffffffffffffffff8111156140c357600080fd5b6140cf85828601613e1d565b925050602083013567ffffffffffffffff8111156140ec57600080fd5b6140f885828601613c9d565b9150509250929050565b60008060006060848603121561411757600080fd5b600084013567ffffffffffffffff81111561413157600080fd5b61413d86828701613e1d565b935050602084013567ffffffffffffffff81111561415a57600080fd5b61416686828701613c9d565b925050604084013567ffffffffffffffff81111561418357600080fd5b61418f86828701613d22565b9150509250925092565b6000602082840312156141ab57600080fd5b60006141b984828501613ea2565b91505092915050565b6000602082840312156141d457600080fd5b60006141e284828501613eb6565b91505092915050565b6000602082840312156141fd57600080fd5b600061420b84828501613eca565b91505092915050565b60006020828403121561422657600080fd5b600061423484828501613ede565b91505092915050565b60006020828403121561424f57600080fd5b600061425d84828501613f06565b91505092915050565b60006020828403121561427857600080fd5b600082015167ffffffffffffffff81111561429257600080fd5b61429e84828501613f70565b91505092915050565b6000602082840312156142b957600080fd5b60006142c784828501613fda565b91505092915050565b600080604083850312156142e357600080fd5b60006142f185828601613fda565b925050602083015167ffffffffffffffff81111561430e57600080fd5b61431a85828601613f70565b9150509250929050565b61432d81614ff8565b82525050565b600061433e82614f82565b80845260208401935061435083614f3f565b60005b8281101561438257614366868351614324565b61436f82614fc4565b9150602086019550600181019050614353565b50849250505092915050565b600061439982614f8d565b8084526020840193506143ab83614f4c565b60005b828110156143dd576143c18683516144a2565b6143ca82614fd1565b91506020860195506001810190506143ae565b50849250505092915050565b60006143f482614f98565b8084526020840193508360208202850161440d85614f59565b60005b84811015614446578383038852614428838351614514565b925061443382614fde565b9150602088019750600181019050614410565b508196508694505050505092915050565b61446081614fa3565b61446982614f66565b60005b8281101561449b5761447f8583516148d2565b61448882614feb565b915060208501945060018101905061446c565b5050505050565b6144ab81615018565b82525050565b6144ba816150b4565b82525050565b6144c9816150c6565b82525050565b6144d881615024565b82525050565b60006144e982614fb9565b8084526144fd8160208601602086016150e7565b6145068161511a565b602085010191505092915050565b600061451f82614fae565b8084526145338160208601602086016150e7565b61453c8161511a565b602085010191505092915050565b6000815460018116600081146145675760018114614587576145c8565b607f600283041680865260ff1983166020870152604086019350506145c8565b6002820480865260208601955061459d85614f70565b60005b828110156145bf578154818901526001820191506020810190506145a0565b80880195505050505b505092915050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000600682527f6e6f7465496400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6148db8161502e565b82525050565b60006020820190506148f66000830184614324565b92915050565b600060808201905081810360008301526149168187614333565b905061492560208301866148d2565b818103604083015261493781856143e9565b905061494660608301846144cf565b95945050505050565b60006040820190508181036000830152614969818561438e565b905061497860208301846148d2565b9392505050565b6000602082019050818103600083015261499981846143e9","565b905092915050565b60006060820190506149b660008301856144a2565b6149c36020830184614457565b9392505050565b60006020820190506149df60008301846144cf565b92915050565b60006040820190506149fa60008301856144cf565b614a0760208301846144cf565b9392505050565b60006040820190508181036000830152614a2881856144de565b9050614a3760208301846144b1565b9392505050565b60006040820190508181036000830152614a5881856144de565b9050614a6760208301846144c0565b9392505050565b60006020820190508181036000830152614a88818461454a565b905092915050565b60006020820190508181036000830152614aa9816145d0565b9050919050565b60006040820190508181036000830152614ac9816145d0565b9050614ad86020830184614324565b92915050565b60006020820190508181036000830152614af781614607565b9050919050565b60006020820190508181036000830152614b178161463e565b9050919050565b60006040820190508181036000830152614b378161463e565b90508181036020830152614b4b81846144de565b905092915050565b60006020820190508181036000830152614b6c81614675565b9050919050565b60006040820190508181036000830152614b8c81614675565b90508181036020830152614ba081846144de565b905092915050565b60006020820190508181036000830152614bc1816146ac565b9050919050565b60006040820190508181036000830152614be1816146ac565b9050614bf06020830184614324565b92915050565b60006020820190508181036000830152614c0f816146e3565b9050919050565b60006040820190508181036000830152614c2f816146e3565b90508181036020830152614c4381846144de565b905092915050565b60006020820190508181036000830152614c648161471a565b9050919050565b60006020820190508181036000830152614c8481614751565b9050919050565b60006040820190508181036000830152614ca481614751565b90508181036020830152614cb881846144de565b905092915050565b60006020820190508181036000830152614cd981614788565b9050919050565b60006040820190508181036000830152614cf981614788565b90508181036020830152614d0d8184614514565b905092915050565b60006020820190508181036000830152614d2e816147bf565b9050919050565b60006020820190508181036000830152614d4e816147f6565b9050919050565b60006040820190508181036000830152614d6e816147f6565b90508181036020830152614d8281846144de565b905092915050565b60006020820190508181036000830152614da38161482d565b9050919050565b60006040820190508181036000830152614dc381614864565b90508181036020830152614dd781846144de565b905092915050565b60006020820190508181036000830152614df88161489b565b9050919050565b6000602082019050614e1460008301846148d2565b92915050565b6000604051905081810181811067ffffffffffffffff82111715614e3d57600080fd5b8060405250919050565b600067ffffffffffffffff821115614e5e57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614e8657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614eae57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614ed657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614efe57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115614f2a57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600061506382614ff8565b9050919050565b600061507582614ff8565b9050919050565b600061508782614ff8565b9050919050565b600061509982614ff8565b9050919050565b6000819050919050565b6000819050919050565b60006150bf82614ff8565b9050919050565b60006150d182614ff8565b9050919050565b82818337600083830152505050565b60005b838110156151055780820151818401526020810190506150ea565b83811115615114576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a72305820a53d5246a6b32837a5a08eb837f32a24e3c9262d03805629bfa80fe418e0d57c6c6578706572696d656e74616cf50037"};
 
     public static final String BINARY = String.join("", BINARY_ARRAY);
 
-    public static final String[] SM_BINARY_ARRAY = {"60806040526040805190810160405280600681526020017f7075626c69630000000000000000000000000000000000000000000000000000815250600090805190602001906300000053929190630000147d565b506040805190810160405280600581526020017f6f776e65720000000000000000000000000000000000000000000000000000008152506001908051906020019063000000a3929190630000147d565b506040805190810160405280600581526020017f61646d696e0000000000000000000000000000000000000000000000000000008152506002908051906020019063000000f3929190630000147d565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906300000143929190630000147d565b506040805190810160405280600281526020017f5f77000000000000000000000000000000000000000000000000000000000000815250600490805190602001906300000193929190630000147d565b506040805190810160405280600381526020017f616c6c00000000000000000000000000000000000000000000000000000000008152506005908051906020019063000001e3929190630000147d565b506040805190810160405280600281526020017f6964000000000000000000000000000000000000000000000000000000000000815250600690805190602001906300000233929190630000147d565b506040805190810160405280600481526020017f6164647200000000000000000000000000000000000000000000000000000000815250600790805190602001906300000283929190630000147d565b506040805190810160405280600481526020017f74797065000000000000000000000000000000000000000000000000000000008152506008908051906020019063000002d3929190630000147d565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906300000323929190630000147d565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906300000373929190630000147d565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b908051906020019063000003c3929190630000147d565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c90805190602001906300000413929190630000147d565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d90805190602001906300000463929190630000147d565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e908051906020019063000004b3929190630000147d565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f90805190602001906300000503929190630000147d565b506040805190810160405280600781526020017f62616c616e636500000000000000000000000000000000000000000000000000815250601090805190602001906300000553929190630000147d565b506040805190810160405280600681526020017f7265636f726400000000000000000000000000000000000000000000000000008152506011908051906020019063000005a3929190630000147d565b506040805190810160405280600581526020017f61646d696e0000000000000000000000000000000000000000000000000000008152506012908051906020019063000005f3929190630000147d565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906300000643929190630000147d565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250601490805190602001906300000693929190630000147d565b506040805190810160405280600481526020017f75736572000000000000000000000000000000000000000000000000000000008152506015908051906020019063000006e3929190630000147d565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015630000080257600080fd5b50604051630001a5cf380380630001a5cf8339810180604052630000082c91908101906300001770565b8383606063000008683073ffffffffffffffffffffffffffffffffffffffff16630000100964010000000002630000e8c1176401000000009004565b9050630000093560068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015630000090d5780601f1063000008e057610100808354040283529160200191630000090d565b820191906000526020600020905b81548152906001019060200180831163000008ee57829003601f168201915b505050505082601b63000010f264010000000002630000cd9e17909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801563000009ff57600080fd5b505af11580156300000a15573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000a3d91908101906300001741565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156300000b0557600080fd5b505af11580156300000b1b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000b4391908101906300001741565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff161415156300000c035781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506300000c45565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b505050600085511180156300000c5c575060408551105b15156300000ca3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016300000c9a906300001aee565b60405180910390fd5b80602360006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081156300000ee7578273ffffffffffffffffffffffffffffffffffffffff1663491bae946040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156300000d5257600080fd5b505af11580156300000d68573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000d9091908101906300001741565b85846300000d9e630000150b565b6300000dae939291906300001a7e565b604051809103906000f0801580156300000dcc573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c035c526602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016300000eaa919063000019e3565b600060405180830381600087803b1580156300000ec657600080fd5b505af11580156300000edc573d6000803e3d6000fd5b505050506300000ffd565b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16637c706c92866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016300000f6291906300001ac8565b602060405180830381600087803b1580156300000f7e57600080fd5b505af11580156300000f94573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000fbc91908101906300001741565b602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050","5050506300001c38565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801563000010565781602001602082028038833980820191505090505b509250600090505b601481101563000010eb578181601481101515630000107957fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151563000010ac57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050630000105e565b5050919050565b60008084600001846040518082805190602001908083835b60208310151563000011335780518252602082019150602081019050602083039250630000110a565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111563000012fa577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b602083101515630000120f578051825260208201915060208101905060208303925063000011e6565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051630000125a9594939291906300001a02565b60405180910390a18285600001856040518082805190602001908083835b60208310151563000012a157805182526020820191506020810190506020830392506300001278565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101908051906020019063000012ee929190630000151d565b50600191506300001475565b8285600001856040518082805190602001908083835b602083101515630000133957805182526020820191506020810190506020830392506300001310565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906300001386929190630000151d565b5084600101805480919060010163000013a1919063000015ab565b90506001810185600001856040518082805190602001908083835b60208310151563000013e5578051825260208201915060208101905060208303925063000013bc565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515630000143357fe5b90600052602060002090600202016000019080519060200190630000145b929190630000151d565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f1063000014c257805160ff191683800117855563000014f6565b8280016001018555821563000014f6579182015b8281111563000014f557825182559160200191906001019063000014d6565b5b5090506300001507919063000015e3565b5090565b6040516157e2806300014ded83390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10630000156257805160ff19168380011785556300001596565b828001600101855582156300001596579182015b8281111563000015955782518255916020019190600101906300001576565b5b50905063000015a7919063000015e3565b5090565b81548183558181111563000015de5760020281600202836000526020600020918201910163000015dd9190630000160e565b5b505050565b630000160b91905b80821115630000160757600081600090555060010163000015eb565b5090565b90565b630000165891905b808211156300001654576000808201600063000016359190630000165b565b6001820160006101000a81549060ff0219169055506002016300001616565b5090565b90565b50805460018160011615610100020316600290046000825580601f106300001685575063000016a8565b601f01602090049060005260206000209081019063000016a7919063000015e3565b5b50565b600063000016bb82516300001bc2565b905092915050565b600063000016d382516300001be2565b905092915050565b600082601f830112151563000016f057600080fd5b8151630000170b6300001704826300001b41565b6300001b12565b91508082526020830160208301858383011115630000172957600080fd5b63000017388382846300001bee565b50505092915050565b600060208284031215630000175557600080fd5b600063000017678482850163000016ab565b91505092915050565b600080600080600060a08688031215630000178a57600080fd5b600086015167ffffffffffffffff81111563000017a657600080fd5b63000017b68882890163000016db565b955050602063000017cb8882890163000016ab565b945050604063000017e08882890163000016ab565b935050606063000017f58882890163000016c3565b9250506080630000180a8882890163000016ab565b9150509295509295909350565b6300001824816300001ba2565b82525050565b60006300001839826300001b8c565b80845263000018518160208601602086016300001bee565b630000185e816300001c27565b602085010191505092915050565b6000630000187b826300001b81565b80845263000018938160208601602086016300001bee565b63000018a0816300001c27565b602085010191505092915050565b60008154600181166000811463000018d1576001811463000018f357630000193c565b607f600283041680865260ff198316602087015260408601935050630000193c565b60028204808652602086019550630000190d856300001b6f565b60005b828110156300001933578154818901526001820191506020810190506300001910565b80880195505050505b505092915050565b60006300001953826300001b97565b808452630000196b8160208601602086016300001bee565b6300001978816300001c27565b602085010191505092915050565b6000602e82527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634200000000000000000000000000000000000006040830152606082019050919050565b600060208201905063000019fc60008301846300001817565b92915050565b600060a0820190506300001a1b60008301886300001817565b6300001a2c60208301876300001817565b81810360408301526300001a428186630000186c565b905081810360608301526300001a5a8185630000182a565b905081810360808301526300001a72818463000018ae565b90509695505050505050565b60006060820190506300001a9760008301866300001817565b81810360208301526300001aad81856300001944565b90506300001ac060408301846300001817565b949350505050565b600060208201905081810360008301526300001ae681846300001944565b905092915050565b600060208201905081810360008301526300001b0b816300001986565b9050919050565b6000604051905081810181811067ffffffffffffffff821117156300001b3757600080fd5b8060405250919050565b600067ffffffffffffffff8211156300001b5a57600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b60005b838110156300001c105780820151818401526020810190506300001bf1565b838111156300001c21576000848401525b50505050565b6000601f19601f8301169050919050565b620131a3806300001c4a6000396000f30060806040526004361062000371576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff1680622d657a14620003765780623653c314620003ba57806309108b1714620003ff5780630bc95c7914620004435780630c9481b914620004735780630e199f2b14620004a3578063112da30314620004e85780631191aacd14620005185780631500025a146200055c5780631a1f1cd2146200058c5780631ddd996e14620005bc5780632adcd39014620006005780632ea4f77014620006455780633055ae81146200068a5780633280e06214620006ce5780633889c9e414620007125780633cfd6e12146200075657806342033801146200079a5780634425c42614620007ca5780634775703114620007fa57806347a6caff146200083e57806351cf7708146200088257806355e2d12014620008c6578063567f2836146200090c5780635739967d146200093c5780635c7540bc14620009805780635edfd6fa14620009b05780635f12ec2e14620009e057806361e020cb1462000a1057806367e09af51462000a545780636a03849d1462000a8457806374b00d531462000ac8578063769fe3421462000af85780637de83c701462000b285780637e3a1ef41462000b6c5780637e6f287c1462000b9c5780637f00af971462000be05780638a4451f51462000c105780638ed13ef51462000c40578063937caf021462000c84578063980683641462000cc8578063a13d46e81462000cf8578063a4fd77111462000d3c578063a7febe3a1462000d80578063ad07c37a1462000dc4578063aed3d64b1462000e08578063b09a50fe1462000e4c578063b32941d81462000e7c578063bc2d4b211462000eac578063bcc6cdb61462000edc578063bced95351462000f0c578063bf0e94fe1462000f3c578063bfabb86d1462000f80578063c03fd5e71462000fb0578063c6125d0c1462000fe0578063d1281a781462001010578063d3e9af5a1462001040578063d3f19ae01462001070578063d617f06d146200109e578063d7e7948f14620010ce578063e3fbfc3f14620010fe578063e92139da1462001142578063ece272e31462001172578063ee19b0cf14620011a2578063ee44d37414620011d2578063f0c9f25a1462001219578063f6cb4bc5146200125d578063f9766994146200128d578063fd442d0514620012d1575b600080fd5b3480156200038357600080fd5b50620003a260048036036200039c91908101906200fe26565b62001315565b604051620003b191906201224b565b60405180","910390f35b348015620003c757600080fd5b50620003e66004803603620003e091908101906200fe67565b62001666565b604051620003f692919062012176565b60405180910390f35b3480156200040c57600080fd5b506200042b60048036036200042591908101906200f57f565b62001873565b6040516200043a91906201224b565b60405180910390f35b3480156200045057600080fd5b506200045b62002046565b6040516200046a9190620116d1565b60405180910390f35b3480156200048057600080fd5b506200048b6200206c565b6040516200049a91906201229c565b60405180910390f35b348015620004b057600080fd5b50620004cf6004803603620004c991908101906200f79e565b6200210e565b604051620004df92919062012268565b60405180910390f35b348015620004f557600080fd5b506200050062002ada565b6040516200050f91906201229c565b60405180910390f35b3480156200052557600080fd5b506200054460048036036200053e91908101906200f79e565b62002b7c565b604051620005539190620120a5565b60405180910390f35b3480156200056957600080fd5b506200057462003090565b604051620005839190620116d1565b60405180910390f35b3480156200059957600080fd5b50620005a462003159565b604051620005b391906201229c565b60405180910390f35b348015620005c957600080fd5b50620005e86004803603620005e291908101906200fd4b565b620031fb565b604051620005f791906201224b565b60405180910390f35b3480156200060d57600080fd5b506200062c60048036036200062691908101906201004c565b620039bb565b6040516200063c92919062012b90565b60405180910390f35b3480156200065257600080fd5b506200067160048036036200066b91908101906200fd4b565b62003b4b565b6040516200068192919062012176565b60405180910390f35b3480156200069757600080fd5b50620006b66004803603620006b091908101906200fb59565b6200414d565b604051620006c59190620122c0565b60405180910390f35b348015620006db57600080fd5b50620006fa6004803603620006f491908101906200ff5d565b62004359565b6040516200070991906201224b565b60405180910390f35b3480156200071f57600080fd5b506200073e60048036036200073891908101906200fcf3565b62004dbc565b6040516200074d919062012ab0565b60405180910390f35b3480156200076357600080fd5b506200078260048036036200077c91908101906200fd4b565b62004e94565b6040516200079191906201224b565b60405180910390f35b348015620007a757600080fd5b50620007b26200583a565b604051620007c191906201229c565b60405180910390f35b348015620007d757600080fd5b50620007e2620058dc565b604051620007f1919062012ab0565b60405180910390f35b3480156200080757600080fd5b506200082660048036036200082091908101906200f57f565b62005904565b604051620008359190620121d5565b60405180910390f35b3480156200084b57600080fd5b506200086a60048036036200086491908101906200fc6b565b62005bf4565b6040516200087991906201224b565b60405180910390f35b3480156200088f57600080fd5b50620008ae6004803603620008a891908101906200fc6b565b62005e41565b604051620008bd91906201224b565b60405180910390f35b348015620008d357600080fd5b50620008f26004803603620008ec91908101906200f79e565b6200608e565b604051620009039392919062012b45565b60405180910390f35b3480156200091957600080fd5b5062000924620063b6565b60405162000933919062012ab0565b60405180910390f35b3480156200094957600080fd5b506200096860048036036200096291908101906200f57f565b620063c0565b60405162000977919062012ab0565b60405180910390f35b3480156200098d57600080fd5b5062000998620068df565b604051620009a79190620116d1565b60405180910390f35b348015620009bd57600080fd5b50620009c862006909565b604051620009d791906201229c565b60405180910390f35b348015620009ed57600080fd5b50620009f8620069ab565b60405162000a079190620116d1565b60405180910390f35b34801562000a1d57600080fd5b5062000a3c600480360362000a3691908101906200fbf8565b620069d5565b60405162000a4b91906201224b565b60405180910390f35b34801562000a6157600080fd5b5062000a6c62006be4565b60405162000a7b91906201229c565b60405180910390f35b34801562000a9157600080fd5b5062000ab0600480360362000aaa91908101906200fe26565b62006c86565b60405162000abf919062012ab0565b60405180910390f35b34801562000ad557600080fd5b5062000ae062006f84565b60405162000aef9190620116d1565b60405180910390f35b34801562000b0557600080fd5b5062000b1062006faa565b60405162000b1f91906201229c565b60405180910390f35b34801562000b3557600080fd5b5062000b54600480360362000b4e91908101906200f90c565b6200704c565b60405162000b639190620120a5565b60405180910390f35b34801562000b7957600080fd5b5062000b8462007507565b60405162000b9391906201229c565b60405180910390f35b34801562000ba957600080fd5b5062000bc8600480360362000bc291908101906200fb59565b620075a9565b60405162000bd791906201224b565b60405180910390f35b34801562000bed57600080fd5b5062000bf8620077b5565b60405162000c0791906201229c565b60405180910390f35b34801562000c1d57600080fd5b5062000c2862007857565b60405162000c379190620116d1565b60405180910390f35b34801562000c4d57600080fd5b5062000c6c600480360362000c6691908101906200fc6b565b6200787d565b60405162000c7b91906201224b565b60405180910390f35b34801562000c9157600080fd5b5062000cb0600480360362000caa91908101906200f6c3565b62007aca565b60405162000cbf919062012ab0565b60405180910390f35b34801562000cd557600080fd5b5062000ce062007ba8565b60405162000cef91906201229c565b60405180910390f35b34801562000d0557600080fd5b5062000d24600480360362000d1e91908101906200fd4b565b62007c4a565b60405162000d33919062012cfe565b60405180910390f35b34801562000d4957600080fd5b5062000d68600480360362000d6291908101906200fbf8565b620084e6565b60405162000d7791906201224b565b60405180910390f35b34801562000d8d57600080fd5b5062000dac600480360362000da691908101906200ffc9565b620086f5565b60405162000dbb91906201224b565b60405180910390f35b34801562000dd157600080fd5b5062000df0600480360362000dea91908101906200fbf8565b6200898b565b60405162000dff91906201224b565b60405180910390f35b34801562000e1557600080fd5b5062000e34600480360362000e2e91908101906200f657565b62008b9a565b60405162000e439190620121d5565b60405180910390f35b34801562000e5957600080fd5b5062000e646200910c565b60405162000e7391906201229c565b60405180910390f35b34801562000e8957600080fd5b5062000e94620091ae565b60405162000ea391906201229c565b60405180910390f35b34801562000eb957600080fd5b5062000ec462009250565b60405162000ed3919062012ab0565b60405180910390f35b34801562000ee957600080fd5b5062000ef462009319565b60405162000f0391906201229c565b60405180910390f35b34801562000f1957600080fd5b5062000f24620093bb565b60405162000f3391906201229c565b60405180910390f35b34801562000f4957600080fd5b5062000f68600480360362000f6291908101906200fa35565b6200945d565b60405162000f779190620121b1565b60405180910390f35b34801562000f8d57600080fd5b5062000f986200a121565b60405162000fa791906201229c565b60405180910390f35b34801562000fbd57600080fd5b5062000fc86200a1c3565b60405162000fd79190620116d1565b60405180910390f35b34801562000fed57600080fd5b5062000ff86200a1e9565b6040516200100791906201229c565b60405180910390f35b3480156200101d57600080fd5b50620010286200a28b565b6040516200103791906201229c565b60405180910390f35b3480156200104d57600080fd5b50620010586200a32d565b60405162001067919062012ab0565b60405180910390f35b3480156200107d57600080fd5b506200109c60048036036200109691908101906200fda1565b6200a340565b005b348015620010ab57600080fd5b50620010b66200a63f565b604051620010c591906201229c565b60405180910390f35b348015620010db57600080fd5b50620010e66200a6e1565b604051620010f591906201229c565b60405180910390f35b3480156200110b57600080fd5b506200112a60048036036200112491908101906200fb9e565b6200a783565b6040516200113991906201224b565b60405180910390f35b3480156200114f57600080fd5b506200115a6200a9b9565b604051620011699190620116d1565b60405180910390f35b3480156200117f57600080fd5b506200118a6200aa82565b6040516200119991906201229c565b60405180910390f35b348015620011af57600080fd5b50620011ba6200ab24565b604051620011c991906201229c565b60405180910390f35b348015620011df57600080fd5b50620011fe6004803603620011f891908101906200fd4b565b6200abc6565b604051620012109493929190620120c9565b60405180910390f35b3480156200122657600080fd5b506200124560048036036200123f91908101906200f90c565b6200b018565b60405162001254919062012ab0565b60405180910390f35b3480156200126a57600080fd5b50620012756200b341565b6040516200128491906201229c565b60405180910390f35b3480156200129a57600080fd5b50620012b96004803603620012b391908101906200fb9e565b6200b3e3565b604051620012c89190620122c0565b60405180910390f35b348015620012de57600080fd5b50620012fd6004803603620012f791908101906200f601565b6200b618565b6040516200130c91906201224b565b60405180910390f35b600060606000806200133186846200bb3b90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c01000000000000000000000000000000000000","00000000000000000000028152600401620013d494939291906201199b565b6040805180830381600087803b158015620013ee57600080fd5b505af115801562001403573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200142991908101906200f5c0565b809250819350505080151562001476576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200146d9062012a8e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620014ef9190620116d1565b602060405180830381600087803b1580156200150a57600080fd5b505af11580156200151f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200154591908101906200faec565b151562001589576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620015809062012450565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cbe12dc7876040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001602919062012ab0565b602060405180830381600087803b1580156200161d57600080fd5b505af115801562001632573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200165891908101906200faec565b935083935050505092915050565b60608083601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620016e39190620116d1565b602060405180830381600087803b158015620016fe57600080fd5b505af115801562001713573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200173991908101906200faec565b15156200177d576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620017749062012450565b60405180910390fd5b6200178c88888888886200bb5b565b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166316b4be228989896040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620018099392919062012afa565b600060405180830381600087803b1580156200182457600080fd5b505af115801562001839573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200186491908101906200f938565b92509250509550959350505050565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620018f79190620116d1565b602060405180830381600087803b1580156200191257600080fd5b505af115801562001927573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200194d91908101906200faec565b151562001991576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620019889062012450565b60405180910390fd5b620019a689876200c32b90919063ffffffff16565b9550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001a49949392919062011e29565b6040805180830381600087803b15801562001a6357600080fd5b505af115801562001a78573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001a9e91908101906200f5c0565b809550819650505083151562001aeb576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162001ae29062012670565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a866040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001b649190620116d1565b602060405180830381600087803b15801562001b7f57600080fd5b505af115801562001b94573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001bba91908101906200faec565b151562001bfe576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162001bf59062012450565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001c779190620116d1565b602060405180830381600087803b15801562001c9257600080fd5b505af115801562001ca7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001ccd91908101906200f553565b9250602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632d75dd5c846040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001d489190620116d1565b602060405180830381600087803b15801562001d6357600080fd5b505af115801562001d78573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001d9e91908101906200faec565b15151562001de3576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162001dda906201240c565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166327033e768a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001e5c9190620116d1565b602060405180830381600087803b15801562001e7757600080fd5b505af115801562001e8c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001eb291908101906200f553565b91508173ffffffffffffffffffffffffffffffffffffffff1663a8cced2030601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660006040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001f3293929190620122e4565b602060405180830381600087803b15801562001f4d57600080fd5b505af115801562001f62573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001f8891908101906200faec565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663de6cbe78846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620020029190620116d1565b600060405180830381600087803b1580156200201d57600080fd5b505af115801562002032573d6000803e3d6000fd5b505050506001965050505050505092915050565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60098054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620021065780601f10620020da5761010080835404028352916020019162002106565b820191906000526020600020905b815481529060010190602001808311620020e857829003601f168201915b505050505081565b6000606080600080600080620021236200eaf8565b620021318c8c8c8c62002b7c565b9b508a51600302604051908082528060200260200182016040528015620021675781602001602082028038833980820191505090505b509550600093505b8a51841015620027bf57602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68c86815181101515620021c657fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200220a919062012ab0565b602060405180830381600087803b1580156200222557600080fd5b505af11580156200223a573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200226091908101906200faec565b620023156040805190810160405280600f81526020017f20646f65736e277420657869737421000000000000000000000000000000000081525062002306620022c18f89815181101515620022b157fe5b906020019060200201516200c34b565b6040805190810160405280600781526020017f6e6f74654e6f20000000000000000000000000000000000000000000000000008152506200c4ad90919063ffffffff16565b6200c4ad90919063ffffffff16565b9015156200235b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200235291906201233e565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663ba6c48238c86815181101515620023a957fe5b906020019060200201516040","518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620023ed919062012ab0565b602060405180830381600087803b1580156200240857600080fd5b505af11580156200241d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200244391908101906200faec565b15620024f96040805190810160405280601181526020017f20686173206265656e2065787069726564000000000000000000000000000000815250620024ea620024a58f898151811015156200249557fe5b906020019060200201516200c34b565b6040805190810160405280600781526020017f6e6f74654e6f20000000000000000000000000000000000000000000000000008152506200c4ad90919063ffffffff16565b6200c4ad90919063ffffffff16565b9015156200253f576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200253691906201233e565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fb495f628c868151811015156200258d57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620025d1919062012ab0565b602060405180830381600087803b158015620025ec57600080fd5b505af115801562002601573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200262791908101906200faec565b15156200266b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200266290620126b4565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663584fa1ee8c86815181101515620026b857fe5b906020019060200201518e6002815181101515620026d257fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200271792919062012acd565b602060405180830381600087803b1580156200273257600080fd5b505af115801562002747573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200276d91908101906200faec565b1515620027b1576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620027a890620125e8565b60405180910390fd5b83806001019450506200216f565b600091505b8a5182101562002ac457602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bbb9a8a98d60028151811015156200281c57fe5b906020019060200201518e60038151811015156200283657fe5b906020019060200201518e868151811015156200284f57fe5b906020019060200201516040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200289593929190620118f2565b602060405180830381600087803b158015620028b057600080fd5b505af1158015620028c5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620028eb91908101906200fd1f565b9250602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d12117998d858d6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200296a939291906201212b565b606060405180830381600087803b1580156200298557600080fd5b505af11580156200299a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620029c091908101906200fb18565b809250819650505084151562002a0d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162002a04906201251c565b60405180910390fd5b80600060028110151562002a1d57fe5b6020020151868360030281518110151562002a3457fe5b906020019060200201818152505080600160028110151562002a5257fe5b6020020151866001846003020181518110151562002a6c57fe5b90602001906020020181815250508a8281518110151562002a8957fe5b90602001906020020151866002846003020181518110151562002aa857fe5b90602001906020020181815250508180600101925050620027c4565b6001869750975050505050505094509492505050565b60028054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562002b745780601f1062002b485761010080835404028352916020019162002b74565b820191906000526020600020905b81548152906001019060200180831162002b5657829003601f168201915b505050505081565b606060006060600080600073ffffffffffffffffffffffffffffffffffffffff1689600281518110151562002bad57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff161415801562002c225750600073ffffffffffffffffffffffffffffffffffffffff1689600381518110151562002bff57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b151562002c66576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162002c5d906201284c565b60405180910390fd5b62002c738989896200c687565b925062002c80896200c780565b809a50819550505083151562002ccd576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162002cc490620127a2565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632d75dd5c8a600281518110151562002d1b57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002d5f9190620116d1565b602060405180830381600087803b15801562002d7a57600080fd5b505af115801562002d8f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002db591908101906200faec565b151562002df9576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162002df090620128f6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632d75dd5c8a600381518110151562002e4757fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002e8b9190620116d1565b602060405180830381600087803b15801562002ea657600080fd5b505af115801562002ebb573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002ee191908101906200faec565b151562002f25576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162002f1c90620128f6565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168b600281518110151562002f9657fe5b90602001906020020151868a6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002fdf9493929190620117b4565b6040805180830381600087803b15801562002ff957600080fd5b505af11580156200300e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200303491908101906200f5c0565b809250819350505080151562003081576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162003078906201282a565b60405180910390fd5b88945050505050949350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200311957600080fd5b505af11580156200312e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200315491908101906200f553565b905090565b60158054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620031f35780601f10620031c757610100808354040283529160200191620031f3565b820191906000526020600020905b815481529060010190602001808311620031d557829003601f168201915b505050505081565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200327f9190620116d1565b602060405180830381600087803b1580156200329a57600080fd5b505af1158015620032af573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620032d591908101906200faec565b151562003319576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620033109062012450565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003392919062012ab0565b602060405180830381600087803b158015620033ad57600080fd5b505af11580156200","33c2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620033e891908101906200faec565b15156200342c576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620034239062012a28565b60405180910390fd5b6200345589620034468c896200bb3b90919063ffffffff16565b6200c32b90919063ffffffff16565b9550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620034f8949392919062011c17565b6040805180830381600087803b1580156200351257600080fd5b505af115801562003527573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200354d91908101906200f5c0565b8095508196505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620035ce9190620116d1565b602060405180830381600087803b158015620035e957600080fd5b505af1158015620035fe573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200362491908101906200f553565b92508315156200366b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200366290620123ea565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b7d061ba8b60056040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620036e792919062012cd1565b602060405180830381600087803b1580156200370257600080fd5b505af115801562003717573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200373d91908101906200fd1f565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9282a8f8b856040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620037b992919062012acd565b602060405180830381600087803b158015620037d457600080fd5b505af1158015620037e9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200380f91908101906200fd1f565b9150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d358eac08b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200388a919062012ab0565b600060405180830381600087803b158015620038a557600080fd5b505af1158015620038ba573d6000803e3d6000fd5b50505050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663482956e060016040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003938919062012321565b600060405180830381600087803b1580156200395357600080fd5b505af115801562003968573d6000803e3d6000fd5b505050507fabfed65a2687df1b7325e61044af6a3d283deb820e3c410c1bb72cbe29328a038a836005604051620039a29392919062012c94565b60405180910390a1600196505050505050509392505050565b600080620039c86200c9ff565b8511151562003a0e576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162003a059062012692565b60405180910390fd5b600086111562003a6a5762003a226200c9ff565b861015151562003a69576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162003a6090620126d6565b60405180910390fd5b5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632adcd390878787876040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003ae9949392919062012c47565b6040805180830381600087803b15801562003b0357600080fd5b505af115801562003b18573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003b3e91908101906200ff1c565b9150915094509492505050565b60608060606000806000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003bce919062012ab0565b602060405180830381600087803b15801562003be957600080fd5b505af115801562003bfe573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003c2491908101906200faec565b151562003c68576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162003c5f9062012a28565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0896040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003ce19190620116d1565b602060405180830381600087803b15801562003cfc57600080fd5b505af115801562003d11573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003d3791908101906200f553565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630878b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003dda949392919062011e93565b6040805180830381600087803b15801562003df457600080fd5b505af115801562003e09573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003e2f91908101906200f5c0565b809350819450505081801562003f125750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc8a836040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003ebb92919062012acd565b602060405180830381600087803b15801562003ed657600080fd5b505af115801562003eeb573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003f1191908101906200faec565b5b151562003f56576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162003f4d906201260a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003fcf9190620116d1565b602060405180830381600087803b15801562003fea57600080fd5b505af115801562003fff573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200402591908101906200faec565b151562004069576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620040609062012450565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16639f0b2f848a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620040e2919062012ab0565b600060405180830381600087803b158015620040fd57600080fd5b505af115801562004112573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200413d91908101906200f938565b9550955050505050935093915050565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200426560038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620042505780601f10620042245761010080835404028352916020019162004250565b820191906000526020600020905b8154815290600101906020018083116200423257829003601f168201915b5050505050886200ca0c90919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620042a29493929190620116ee565b602060405180830381600087803b158015620042bd57600080fd5b505af1158015620042d2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620042f891908101906200faec565b15156200433c576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162004333906201273c565b60405180910390fd5b6200435282601b6200ca2290919063ffffffff16565b9050919050565b60006060600080600086601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000","000000000000000000000000000000000000000000028152600401620043dc9190620116d1565b602060405180830381600087803b158015620043f757600080fd5b505af11580156200440c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200443291908101906200faec565b151562004476576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200446d9062012450565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620044ef919062012ab0565b602060405180830381600087803b1580156200450a57600080fd5b505af11580156200451f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200454591908101906200faec565b151562004589576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620045809062012a28565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004602919062012ab0565b602060405180830381600087803b1580156200461d57600080fd5b505af115801562004632573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200465891908101906200faec565b1515156200469d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162004694906201295c565b60405180910390fd5b620046da88620046cb8b620046bc8e8a6200bb3b90919063ffffffff16565b6200bb3b90919063ffffffff16565b6200c32b90919063ffffffff16565b9450601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0896040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620047559190620116d1565b602060405180830381600087803b1580156200477057600080fd5b505af115801562004785573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620047ab91908101906200f553565b9150601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200484e949392919062011a05565b6040805180830381600087803b1580156200486857600080fd5b505af11580156200487d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620048a391908101906200f5c0565b8094508195505050828015620049865750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc8b846040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200492f92919062012acd565b602060405180830381600087803b1580156200494a57600080fd5b505af11580156200495f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200498591908101906200faec565b5b1515620049ca576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620049c190620129a0565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004a439190620116d1565b602060405180830381600087803b15801562004a5e57600080fd5b505af115801562004a73573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004a9991908101906200faec565b151562004add576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162004ad49062012450565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638ba6dd028c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004b5b919062012ab0565b602060405180830381600087803b15801562004b7657600080fd5b505af115801562004b8b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004bb19190810190620100b8565b60ff161415801562004c985750600560ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638ba6dd028c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004c3c919062012ab0565b602060405180830381600087803b15801562004c5757600080fd5b505af115801562004c6c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004c929190810190620100b8565b60ff1614155b151562004cdc576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162004cd39062012472565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632a7d22508b8b6040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004d5792919062012b90565b602060405180830381600087803b15801562004d7257600080fd5b505af115801562004d87573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004dad91908101906200faec565b95505050505050949350505050565b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633889c9e4836040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004e37919062012ab0565b602060405180830381600087803b15801562004e5257600080fd5b505af115801562004e67573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004e8d91908101906200fd1f565b9050919050565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004f189190620116d1565b602060405180830381600087803b15801562004f3357600080fd5b505af115801562004f48573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004f6e91908101906200faec565b151562004fb2576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162004fa99062012450565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200502b919062012ab0565b602060405180830381600087803b1580156200504657600080fd5b505af11580156200505b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200508191908101906200faec565b1515620050c5576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620050bc9062012a28565b60405180910390fd5b620050ee89620050df8c896200bb3b90919063ffffffff16565b6200c32b90919063ffffffff16565b9550601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620051699190620116d1565b602060405180830381600087803b1580156200518457600080fd5b505af115801562005199573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620051bf91908101906200f553565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005262949392919062011ceb565b6040805180830381600087803b1580156200527c57600080fd5b505af115801562005291573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620052b791908101906200f5c0565b80955081965050508380156200539a5750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc8b856040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200534392919062012acd565b602060405180830381600087803b1580156200535e57600080fd5b505af115801562005373573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200539991908101906200faec565b5b1515620053de576040517fc703cb12000000000000000000000000","000000000000000000000000000000008152600401620053d590620127c4565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a866040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620054579190620116d1565b602060405180830381600087803b1580156200547257600080fd5b505af115801562005487573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620054ad91908101906200faec565b1515620054f1576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620054e89062012450565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200556a919062012ab0565b602060405180830381600087803b1580156200558557600080fd5b505af11580156200559a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620055c091908101906200faec565b151562005604576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620055fb90620128b2565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663adaa36178b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200567d919062012ab0565b602060405180830381600087803b1580156200569857600080fd5b505af1158015620056ad573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620056d391908101906200faec565b151562005717576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200570e90620126b4565b60405180910390fd5b60019650602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b7d061ba8b60046040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200579792919062012cd1565b602060405180830381600087803b158015620057b257600080fd5b505af1158015620057c7573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620057ed91908101906200fd1f565b91507fabfed65a2687df1b7325e61044af6a3d283deb820e3c410c1bb72cbe29328a038a836004604051620058259392919062012c94565b60405180910390a15050505050509392505050565b60138054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620058d45780601f10620058a857610100808354040283529160200191620058d4565b820191906000526020600020905b815481529060010190602001808311620058b657829003601f168201915b505050505081565b6000620058f660016021546200cb3b90919063ffffffff16565b602181905550602154905090565b606060006060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620059869190620116d1565b602060405180830381600087803b158015620059a157600080fd5b505af1158015620059b6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620059dc91908101906200f553565b9350601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630868a6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005a7f949392919062011d55565b6040805180830381600087803b15801562005a9957600080fd5b505af115801562005aae573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005ad491908101906200f5c0565b809250819350505080151562005b21576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162005b18906201262c565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224a8f2d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801562005ba857600080fd5b505af115801562005bbd573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062005be891908101906200f9f0565b94505050505092915050565b6000606060008062005c248662005c1589866200ca0c90919063ffffffff16565b6200ca0c90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062005d3b60048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562005d265780601f1062005cfa5761010080835404028352916020019162005d26565b820191906000526020600020905b81548152906001019060200180831162005d0857829003601f168201915b50505050508c6200ca0c90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005d7b9594939291906201192f565b6040805180830381600087803b15801562005d9557600080fd5b505af115801562005daa573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005dd091908101906200f5c0565b809250819350505080151562005e1d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162005e149062012890565b60405180910390fd5b62005e358787601b6200cb959092919063ffffffff16565b93505050509392505050565b6000606060008062005e718662005e6289866200ca0c90919063ffffffff16565b6200ca0c90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062005f8860048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562005f735780601f1062005f475761010080835404028352916020019162005f73565b820191906000526020600020905b81548152906001019060200180831162005f5557829003601f168201915b50505050508c6200ca0c90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005fc89594939291906201192f565b6040805180830381600087803b15801562005fe257600080fd5b505af115801562005ff7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200601d91908101906200f5c0565b80925081935050508015156200606a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620060619062012a4a565b60405180910390fd5b620060828787601b6200cd9e9092919063ffffffff16565b93505050509392505050565b60006060806000806000606080620060a88c8c8c6200d112565b620060b68c8c8c8c6200d5f2565b9b5060019450600193508b6003815181101515620060d057fe5b906020019060200201519250602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663393895bf8c60018151811015156200612a57fe5b906020019060200201518d60028151811015156200614457fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200618992919062012b90565b600060405180830381600087803b158015620061a457600080fd5b505af1158015620061b9573d6000803e3d6000fd5b50505050620062168b6003815181101515620061d157fe5b906020019060200201518c6004815181101515620061eb57fe5b906020019060200201518d60008151811015156200620557fe5b9060200190602002015186620039bb565b80955081965050508a60008151811015156200622e57fe5b90602001906020020151604051908082528060200260200182016040528015620062675781602001602082028038833980820191505090505b50915060028b60008151811015156200627c57fe5b9060200190602002015102604051908082528060200260200182016040528015620062b65781602001602082028038833980820191505090505b509050620062c78c8c87876200d8e3565b9150620062d6828d8c6200db30565b9050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166390f633448c60008151811015156200632657fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200636a919062012ab0565b600060405180830381600087803b1580156200638557600080fd5b505af11580156200639a573d6000803e3d6000fd5b505050508382829750975097505050505050945094509491505056","5b6000602154905090565b600080606060008086601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620064429190620116d1565b602060405180830381600087803b1580156200645d57600080fd5b505af115801562006472573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200649891908101906200faec565b1515620064dc576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620064d39062012450565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0896040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620065559190620116d1565b602060405180830381600087803b1580156200657057600080fd5b505af115801562006585573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620065ab91908101906200f553565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1687878b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200664e949392919062011888565b6040805180830381600087803b1580156200666857600080fd5b505af11580156200667d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620066a391908101906200f5c0565b8093508194505050811515620066f0576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620066e7906201242e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620067699190620116d1565b602060405180830381600087803b1580156200678457600080fd5b505af115801562006799573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620067bf91908101906200faec565b151562006803576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620067fa9062012450565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3909468866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200687c9190620116d1565b602060405180830381600087803b1580156200689757600080fd5b505af1158015620068ac573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620068d291908101906200fd1f565b9550505050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b600b8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620069a35780601f106200697757610100808354040283529160200191620069a3565b820191906000526020600020905b8154815290600101906020018083116200698557829003601f168201915b505050505081565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062006aed60048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562006ad85780601f1062006aac5761010080835404028352916020019162006ad8565b820191906000526020600020905b81548152906001019060200180831162006aba57829003601f168201915b5050505050896200ca0c90919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006b2a9493929190620116ee565b602060405180830381600087803b15801562006b4557600080fd5b505af115801562006b5a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006b8091908101906200faec565b151562006bc4576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162006bbb9062012a4a565b60405180910390fd5b62006bdc8383601b6200cd9e9092919063ffffffff16565b905092915050565b600a8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562006c7e5780601f1062006c525761010080835404028352916020019162006c7e565b820191906000526020600020905b81548152906001019060200180831162006c6057829003601f168201915b505050505081565b6000606060008062006ca286846200bb3b90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006d45949392919062011c81565b6040805180830381600087803b15801562006d5f57600080fd5b505af115801562006d74573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006d9a91908101906200f5c0565b809250819350505080151562006de7576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162006dde9062012494565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166303486493876040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006e60919062012ab0565b602060405180830381600087803b15801562006e7b57600080fd5b505af115801562006e90573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006eb691908101906200faec565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634b0d55e16040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562006f3e57600080fd5b505af115801562006f53573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006f7991908101906200fd1f565b935050505092915050565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600d8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620070445780601f10620070185761010080835404028352916020019162007044565b820191906000526020600020905b8154815290600101906020018083116200702657829003601f168201915b505050505081565b6060806000806060806000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620070f8949392919062011b43565b6040805180830381600087803b1580156200711257600080fd5b505af115801562007127573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200714d91908101906200f5c0565b80955081965050508315156200719a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620071919062012582565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a866040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620072139190620116d1565b602060405180830381600087803b1580156200722e57600080fd5b505af115801562007243573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200726991908101906200faec565b1515620072ad576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620072a49062012450565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4c19c546040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b1580156200733457600080fd5b505af115801562007349573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200737491908101906200f759565b92508251604051908082528060200260200182016040528015620073a75781602001602082028038833980820191505090505b509150600090505b825181101562","0074f957601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade684838151811015156200740657fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200744a9190620116d1565b602060405180830381600087803b1580156200746557600080fd5b505af11580156200747a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620074a091908101906200f553565b8282815181101515620074af57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508080600101915050620073af565b819650505050505050919050565b60018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620075a15780601f106200757557610100808354040283529160200191620075a1565b820191906000526020600020905b8154815290600101906020018083116200758357829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630620076c160048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620076ac5780601f106200768057610100808354040283529160200191620076ac565b820191906000526020600020905b8154815290600101906020018083116200768e57829003601f168201915b5050505050886200ca0c90919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620076fe9493929190620116ee565b602060405180830381600087803b1580156200771957600080fd5b505af11580156200772e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200775491908101906200faec565b151562007798576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200778f9062012a6c565b60405180910390fd5b620077ae82601b6200de1b90919063ffffffff16565b9050919050565b60088054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200784f5780601f1062007823576101008083540402835291602001916200784f565b820191906000526020600020905b8154815290600101906020018083116200783157829003601f168201915b505050505081565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60006060600080620078ad866200789e89866200ca0c90919063ffffffff16565b6200ca0c90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630620079c460048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620079af5780601f106200798357610100808354040283529160200191620079af565b820191906000526020600020905b8154815290600101906020018083116200799157829003601f168201915b50505050508c6200ca0c90919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007a049594939291906201192f565b6040805180830381600087803b15801562007a1e57600080fd5b505af115801562007a33573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007a5991908101906200f5c0565b809250819350505080151562007aa6576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162007a9d906201253e565b60405180910390fd5b62007abe8787601b6200e07a9092919063ffffffff16565b93505050509392505050565b600062007ae96001830184600a0a86026200cb3b90919063ffffffff16565b9050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b764a75586838a8a6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007b6a949392919062012bbd565b600060405180830381600087803b15801562007b8557600080fd5b505af115801562007b9a573d6000803e3d6000fd5b505050509695505050505050565b60078054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562007c425780601f1062007c165761010080835404028352916020019162007c42565b820191906000526020600020905b81548152906001019060200180831162007c2457829003601f168201915b505050505081565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007cce9190620116d1565b602060405180830381600087803b15801562007ce957600080fd5b505af115801562007cfe573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007d2491908101906200faec565b151562007d68576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162007d5f9062012450565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007de1919062012ab0565b602060405180830381600087803b15801562007dfc57600080fd5b505af115801562007e11573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007e3791908101906200faec565b151562007e7b576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162007e729062012a28565b60405180910390fd5b62007ea48962007e958c896200bb3b90919063ffffffff16565b6200c32b90919063ffffffff16565b9550601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007f1f9190620116d1565b602060405180830381600087803b15801562007f3a57600080fd5b505af115801562007f4f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007f7591908101906200f553565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008018949392919062011f67565b6040805180830381600087803b1580156200803257600080fd5b505af115801562008047573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200806d91908101906200f5c0565b8095508196505050838015620081505750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc8b856040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620080f992919062012acd565b602060405180830381600087803b1580156200811457600080fd5b505af115801562008129573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200814f91908101906200faec565b5b151562008194576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200818b9062012918565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200820d9190620116d1565b602060405180830381600087803b1580156200822857600080fd5b505af11580156200823d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200826391908101906200faec565b1515620082a7576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200829e9062012450565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638ba6dd028c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008325919062012ab0565b602060405180830381600087803b1580156200834057600080fd5b505af115801562008355573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200837b9190810190620100b8565b60ff16141515620083c3576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620083ba9062","0124b6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b7d061ba8b60026040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200843f92919062012cd1565b602060405180830381600087803b1580156200845a57600080fd5b505af11580156200846f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200849591908101906200fd1f565b91507fabfed65a2687df1b7325e61044af6a3d283deb820e3c410c1bb72cbe29328a038a836002604051620084cd9392919062012c94565b60405180910390a1600296505050505050509392505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630620085fe60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620085e95780601f10620085bd57610100808354040283529160200191620085e9565b820191906000526020600020905b815481529060010190602001808311620085cb57829003601f168201915b5050505050896200ca0c90919063ffffffff16565b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200863b9493929190620116ee565b602060405180830381600087803b1580156200865657600080fd5b505af11580156200866b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200869191908101906200faec565b1515620086d5576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620086cc906201253e565b60405180910390fd5b620086ed8383601b6200e07a9092919063ffffffff16565b905092915050565b6000606083601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620087739190620116d1565b602060405180830381600087803b1580156200878e57600080fd5b505af1158015620087a3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620087c991908101906200faec565b15156200880d576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620088049062012450565b60405180910390fd5b620088176200c9ff565b871115156200885d576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200885490620129e4565b60405180910390fd5b6200889a856200888b896200887c8c876200bb3b90919063ffffffff16565b6200bb3b90919063ffffffff16565b6200c32b90919063ffffffff16565b9150620088aa888387876200e27e565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b64f256f8989896040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620089289392919062012c0a565b602060405180830381600087803b1580156200894357600080fd5b505af115801562008958573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200897e91908101906200faec565b9250505095945050505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062008aa360048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562008a8e5780601f1062008a625761010080835404028352916020019162008a8e565b820191906000526020600020905b81548152906001019060200180831162008a7057829003601f168201915b5050505050896200ca0c90919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008ae09493929190620116ee565b602060405180830381600087803b15801562008afb57600080fd5b505af115801562008b10573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008b3691908101906200faec565b151562008b7a576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162008b719062012890565b60405180910390fd5b62008b928383601b6200cb959092919063ffffffff16565b905092915050565b60606000606060008088601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008c1d9190620116d1565b602060405180830381600087803b15801562008c3857600080fd5b505af115801562008c4d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008c7391908101906200faec565b151562008cb7576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162008cae9062012450565b60405180910390fd5b878910151562008cfe576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162008cf5906201264e565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008d779190620116d1565b602060405180830381600087803b15801562008d9257600080fd5b505af115801562008da7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008dcd91908101906200f553565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1687878b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008e70949392919062011888565b6040805180830381600087803b15801562008e8a57600080fd5b505af115801562008e9f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008ec591908101906200f5c0565b809350819450505081151562008f12576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162008f09906201242e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008f8b9190620116d1565b602060405180830381600087803b15801562008fa657600080fd5b505af115801562008fbb573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008fe191908101906200faec565b151562009025576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200901c9062012450565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663659bb882868b8b6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620090a29392919062012068565b600060405180830381600087803b158015620090bd57600080fd5b505af1158015620090d2573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250620090fd91908101906200f9f0565b95505050505050949350505050565b60068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620091a65780601f106200917a57610100808354040283529160200191620091a6565b820191906000526020600020905b8154815290600101906020018083116200918857829003601f168201915b505050505081565b60148054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620092485780601f106200921c5761010080835404028352916020019162009248565b820191906000526020600020905b8154815290600101906020018083116200922a57829003601f168201915b505050505081565b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bc2d4b216040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620092d957600080fd5b505af1158015620092ee573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200931491908101906200fd1f565b905090565b60128054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620093b35780601f106200938757610100808354040283529160200191620093b3565b820191906000526020600020905b8154815290600101906020018083116200939557829003601f168201915b5050","50505081565b60118054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620094555780601f10620094295761010080835404028352916020019162009455565b820191906000526020600020905b8154815290600101906020018083116200943757829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200950c949392919062011efd565b6040805180830381600087803b1580156200952657600080fd5b505af11580156200953b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200956191908101906200f5c0565b8097508198505050851515620095ae576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620095a590620129c2565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620096279190620116d1565b602060405180830381600087803b1580156200964257600080fd5b505af115801562009657573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200967d91908101906200faec565b1515620096c1576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620096b89062012450565b60405180910390fd5b60028b511480156200970457508a6001815181101515620096de57fe5b906020019060200201518b6000815181101515620096f857fe5b90602001906020020151125b151562009748576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200973f906201271a565b60405180910390fd5b60008c511115620097c857600093505b8b51841015620097c7578b848151811015156200977157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff161415620097b95760019450620097c7565b838060010194505062009758565b5b841515620098a257601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d2eef3a1886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620098499190620116d1565b602060405180830381600087803b1580156200986457600080fd5b505af115801562009879573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200989f91908101906200faec565b94505b841515620098e7576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620098de90620123a6565b60405180910390fd5b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bc2d4b216040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200997057600080fd5b505af115801562009985573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620099ab91908101906200fd1f565b1415620099bb578298506200a111565b60008c5111801562009a135750600073ffffffffffffffffffffffffffffffffffffffff168c6000815181101515620099f057fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1562009bc657601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d600081518110151562009a6757fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009aab9190620116d1565b602060405180830381600087803b15801562009ac657600080fd5b505af115801562009adb573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009b0191908101906200f553565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff161415151562009b78576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162009b6f906201297e565b60405180910390fd5b818c600081518110151562009b8957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c5111801562009c1e5750600073ffffffffffffffffffffffffffffffffffffffff168c600181518110151562009bfb57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1562009dd157601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d600181518110151562009c7257fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009cb69190620116d1565b602060405180830381600087803b15801562009cd157600080fd5b505af115801562009ce6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009d0c91908101906200f553565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff161415151562009d83576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162009d7a90620124fa565b60405180910390fd5b808c600181518110151562009d9457fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60028d5111801562009dfd575060008d600281518110151562009df057fe5b9060200190602002015114155b156200a03657602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68e600281518110151562009e5157fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009e95919062012ab0565b602060405180830381600087803b15801562009eb057600080fd5b505af115801562009ec5573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009eeb91908101906200faec565b151562009f2f576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162009f269062012a28565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663439920b38e600281518110151562009f7d57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009fc1919062012ab0565b602060405180830381600087803b15801562009fdc57600080fd5b505af115801562009ff1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a01791908101906200fd1f565b8d60028151811015156200a02757fe5b90602001906020020181815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b32cf81b8e8e8e6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a0b393929190620121f9565b600060405180830381600087803b1580156200a0ce57600080fd5b505af11580156200a0e3573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200a10e91908101906200f9ab565b98505b5050505050505050949350505050565b60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200a1bb5780601f106200a18f576101008083540402835291602001916200a1bb565b820191906000526020600020905b8154815290600101906020018083116200a19d57829003601f168201915b505050505081565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60058054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200a2835780601f106200a257576101008083540402835291602001916200a283565b820191906000526020600020905b8154815290600101906020018083116200a26557829003601f168201915b505050505081565b60038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200a3255780601f106200a2f9576101008083540402835291602001916200a325565b820191906000526020600020905b8154815290600101906020018083116200a30757829003601f168201915b505050505081565b60006200a33b601b6200e694565b905090565b60606000806000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162","00a3c09190620116d1565b602060405180830381600087803b1580156200a3db57600080fd5b505af11580156200a3f0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a41691908101906200f553565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168387896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a4b994939291906201181e565b6040805180830381600087803b1580156200a4d357600080fd5b505af11580156200a4e8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a50e91908101906200f5c0565b80935081945050508180156200a5f15750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc89836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a59a92919062012acd565b602060405180830381600087803b1580156200a5b557600080fd5b505af11580156200a5ca573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a5f091908101906200faec565b5b15156200a635576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200a62c906201293a565b60405180910390fd5b5050505050505050565b600c8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200a6d95780601f106200a6ad576101008083540402835291602001916200a6d9565b820191906000526020600020905b8154815290600101906020018083116200a6bb57829003601f168201915b505050505081565b60108054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200a77b5780601f106200a74f576101008083540402835291602001916200a77b565b820191906000526020600020905b8154815290600101906020018083116200a75d57829003601f168201915b505050505081565b600060606000806200a79f86846200ca0c90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200a8b660048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200a8a15780601f106200a875576101008083540402835291602001916200a8a1565b820191906000526020600020905b8154815290600101906020018083116200a88357829003601f168201915b50505050508b6200ca0c90919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a8f69594939291906201192f565b6040805180830381600087803b1580156200a91057600080fd5b505af11580156200a925573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a94b91908101906200f5c0565b80925081935050508015156200a998576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200a98f9062012a6c565b60405180910390fd5b6200a9ae86601b6200de1b90919063ffffffff16565b935050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200aa4257600080fd5b505af11580156200aa57573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200aa7d91908101906200f553565b905090565b600f8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200ab1c5780601f106200aaf0576101008083540402835291602001916200ab1c565b820191906000526020600020905b8154815290600101906020018083116200aafe57829003601f168201915b505050505081565b60008054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200abbe5780601f106200ab92576101008083540402835291602001916200abbe565b820191906000526020600020905b8154815290600101906020018083116200aba057829003601f168201915b505050505081565b60608060606000606080606060006200ac178b8b6040805190810160405280600d81526020017f6765744e6f746544657461696c000000000000000000000000000000000000008152508c6200a340565b60026040519080825280602002602001820160405280156200ac485781602001602082028038833980820191505090505b50935060026040519080825280602002602001820160405280156200ac7c5781602001602082028038833980820191505090505b50925060026040519080825280602002602001820160405280156200acb05781602001602082028038833980820191505090505b509150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638730d0b08c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ad2c919062012ab0565b600060405180830381600087803b1580156200ad4757600080fd5b505af11580156200ad5c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200ad8791908101906200f855565b80945081955082965083975050505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade68560008151811015156200ade557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ae299190620116d1565b602060405180830381600087803b1580156200ae4457600080fd5b505af11580156200ae59573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ae7f91908101906200f553565b8460008151811015156200ae8f57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade68560018151811015156200af1957fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200af5d9190620116d1565b602060405180830381600087803b1580156200af7857600080fd5b505af11580156200af8d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200afb391908101906200f553565b8460018151811015156200afc357fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508383838397509750975097505050505093509350935093565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b0c0949392919062011bad565b6040805180830381600087803b1580156200b0da57600080fd5b505af11580156200b0ef573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b11591908101906200f5c0565b80925081935050508015156200b162576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200b1599062012780565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b1db9190620116d1565b602060405180830381600087803b1580156200b1f657600080fd5b505af11580156200b20b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b23191908101906200faec565b15156200b275576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200b26c9062012450565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166345be589e6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200b2fc57600080fd5b505af11580156200b311573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b33791908101906200fd1f565b9350505050919050565b600e8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200b3db5780601f106200b3af576101008083540402835291602001916200b3db565b820191906000","526020600020905b8154815290600101906020018083116200b3bd57829003601f168201915b505050505081565b6060806000806200b3fe86846200ca0c90919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200b51560038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200b5005780601f106200b4d4576101008083540402835291602001916200b500565b820191906000526020600020905b8154815290600101906020018083116200b4e257829003601f168201915b50505050508b6200ca0c90919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b5559594939291906201192f565b6040805180830381600087803b1580156200b56f57600080fd5b505af11580156200b584573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b5aa91908101906200f5c0565b80925081935050508015156200b5f7576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200b5ee906201273c565b60405180910390fd5b6200b60d86601b6200ca2290919063ffffffff16565b935050505092915050565b60006060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b69b9190620116d1565b602060405180830381600087803b1580156200b6b657600080fd5b505af11580156200b6cb573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b6f191908101906200faec565b15156200b735576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200b72c9062012450565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b7d6949392919062011fd1565b6040805180830381600087803b1580156200b7f057600080fd5b505af11580156200b805573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b82b91908101906200f5c0565b80945081955050508215156200b878576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200b86f9062012384565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b8f19190620116d1565b602060405180830381600087803b1580156200b90c57600080fd5b505af11580156200b921573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b94791908101906200faec565b15156200b98b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200b9829062012450565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ba049190620116d1565b602060405180830381600087803b1580156200ba1f57600080fd5b505af11580156200ba34573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ba5a91908101906200f553565b9150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663403dad75838a6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bad79291906201203b565b602060405180830381600087803b1580156200baf257600080fd5b505af11580156200bb07573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200bb2d91908101906200faec565b955050505050509392505050565b60606200bb53836200bb4d846200e6a2565b6200e6e7565b905092915050565b6060600080600080602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bbdc919062012ab0565b602060405180830381600087803b1580156200bbf757600080fd5b505af11580156200bc0c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200bc3291908101906200faec565b15156200bc76576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200bc6d9062012a28565b60405180910390fd5b6200bc8b8a866200bb3b90919063ffffffff16565b9450600093505b88518410156200bd08576200bcc989858151811015156200bcaf57fe5b90602001906020020151866200ca0c90919063ffffffff16565b94506200bcf888858151811015156200bcde57fe5b90602001906020020151866200ca0c90919063ffffffff16565b945083806001019450506200bc92565b6200bd1d87866200c32b90919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bdc0949392919062011a6f565b6040805180830381600087803b1580156200bdda57600080fd5b505af11580156200bdef573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200be1591908101906200f5c0565b8093508194505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200be969190620116d1565b602060405180830381600087803b1580156200beb157600080fd5b505af11580156200bec6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200beec91908101906200f553565b90508180156200bfc95750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc8b836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bf7292919062012acd565b602060405180830381600087803b1580156200bf8d57600080fd5b505af11580156200bfa2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200bfc891908101906200faec565b5b15156200c00d576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200c0049062012808565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c0869190620116d1565b602060405180830381600087803b1580156200c0a157600080fd5b505af11580156200c0b6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c0dc91908101906200faec565b15156200c120576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200c1179062012450565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638ba6dd028c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c19e919062012ab0565b602060405180830381600087803b1580156200c1b957600080fd5b505af11580156200c1ce573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c1f49190810190620100b8565b60ff16141580156200c2db5750600560ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638ba6dd028c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c27f919062012ab0565b602060405180830381600087803b1580156200c29a57600080fd5b505af11580156200c2af573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c2d59190810190620100b8565b60ff1614155b15156200c31f576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200c3169062012472565b60405180910390fd5b50505050505050505050565b60606200c343836200c33d846200e8c1565b6200e6e7565b905092915050565b606060008060606000808614156200c39b576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525094506200c4a4565b8593505b6000841415156200c3c8578280600101935050600a84","8115156200c3bf57fe5b0493506200c39f565b826040519080825280601f01601f1916602001820160405280156200c3fc5781602001602082028038833980820191505090505b5091506001830390505b6000861415156200c4a057600a868115156200c41e57fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156200c45a57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156200c49757fe5b0495506200c406565b8194505b50505050919050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156200c4f65781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156200c5bc5785818151811015156200c51e57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156200c57e57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200c505565b600090505b84518110156200c6785784818151811015156200c5da57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156200c63a57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200c5c1565b83965050505050505092915050565b60608060008060008092505b87518310156200c6da576200c6ca88848151811015156200c6b057fe5b90602001906020020151856200c32b90919063ffffffff16565b935082806001019350506200c693565b600091505b86518210156200c726576200c71687838151811015156200c6fc57fe5b90602001906020020151856200bb3b90919063ffffffff16565b935081806001019250506200c6df565b600090505b85518110156200c772576200c76286828151811015156200c74857fe5b90602001906020020151856200ca0c90919063ffffffff16565b935080806001019150506200c72b565b839450505050509392505050565b6000606080600080600086516040519080825280602002602001820160405280156200c7bb5781602001602082028038833980820191505090505b509350600090505b86518110156200c9ef5760018114806200c821575086818151811015156200c7e757fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b156200c8915786818151811015156200c83657fe5b9060200190602002015184828151811015156200c84f57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250506200c9e1565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630e62832288838151811015156200c8de57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c9229190620116d1565b6040805180830381600087803b1580156200c93c57600080fd5b505af11580156200c951573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c97791908101906200f5c0565b80945081935050508215156200c99457600084955095506200c9f6565b8184828151811015156200c9a457fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b80806001019150506200c7c3565b8284955095505b50505050915091565b6000804290508091505090565b60606200ca1a83836200e6e7565b905092915050565b606082600001826040518082805190602001908083835b6020831015156200ca6057805182526020820191506020810190506020830392506200ca39565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200cb2e5780601f106200cb02576101008083540402835291602001916200cb2e565b820191906000526020600020905b8154815290600101906020018083116200cb1057829003601f168201915b5050505050905092915050565b60008082840190508381101515156200cb8b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200cb8290620126f8565b60405180910390fd5b8091505092915050565b60008084600001846040518082805190602001908083835b6020831015156200cbd457805182526020820191506020810190506020830392506200cbad565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200cd91577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156200ccad57805182526020820191506020810190506020830392506200cc86565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200ccf695949392919062011742565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200cd3b57805182526020820191506020810190506020830392506200cd14565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200cd869291906200eb1a565b50600191506200cd96565b600091505b509392505050565b60008084600001846040518082805190602001908083835b6020831015156200cddd57805182526020820191506020810190506020830392506200cdb6565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200cf9a577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156200ceb657805182526020820191506020810190506020830392506200ce8f565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200ceff95949392919062011742565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200cf4457805182526020820191506020810190506020830392506200cf1d565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200cf8f9291906200eb1a565b50600191506200d10a565b8285600001856040518082805190602001908083835b6020831015156200cfd757805182526020820191506020810190506020830392506200cfb0565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200d0229291906200eb1a565b508460010180548091906001016200d03b91906200eba1565b90506001810185600001856040518082805190602001908083835b6020831015156200d07d57805182526020820191506020810190506020830392506200d056565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200d0ca57fe5b906000526020600020906002020160000190805190602001906200d0f09291906200eb1a565b508460020160008154809291906001019190505550600091505b509392505050565b600483511480156200d125575060058251145b80156200d133575060008151115b15156200d177576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d16e9062012560565b60405180910390fd5b60008260028151811015156200d18957fe5b906020019060200201511180156200d1ba5750600a8260028151811015156200d1ae57fe5b90602001906020020151105b80156200d1e857506200d1cc6200c9ff565b8260048151811015156200d1dc57fe5b90602001906020020151115b15156200d22c576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d22390620125a4565b60405180910390fd5b60008260038151811015156200d23e57fe5b9060200190602002015111156200d332576200d2596200c9ff565b8260038151811015156200d26957fe5b906020019060200201511115156200d2b8576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d2af90620125c6565b60405180910390fd5b8160038151811015156200d2c857fe5b906020019060200201518260048151811015156200d2e257fe5b906020019060200201511115156200d331576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d3289062012a06565b60405180910390fd5b5b60008260008151811015156200d34457fe5b906020019060200201511180156200d37657506101f58260008151811015156200d36a57fe5b90602001906020020151105b15156200d3ba576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d3b190620128d4565b60405180","910390fd5b60008260018151811015156200d3cc57fe5b906020019060200201511115156200d41b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d412906201275e565b60405180910390fd5b60008160008151811015156200d42d57fe5b90602001906020020151511180156200d461575060ff8160008151811015156200d45357fe5b906020019060200201515111155b15156200d4a5576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d49c90620124d8565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d6d788038360018151811015156200d4f357fe5b906020019060200201518460028151811015156200d50d57fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d55292919062012b90565b602060405180830381600087803b1580156200d56d57600080fd5b505af11580156200d582573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d5a891908101906200faec565b1515156200d5ed576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d5e490620123c8565b60405180910390fd5b505050565b6060600060606000806200d6088989896200e9a5565b92506200d615896200c780565b809a5081955050508315156200d662576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d65990620127a2565b60405180910390fd5b8860038151811015156200d67257fe5b906020019060200201519150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632d75dd5c836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d6f79190620116d1565b602060405180830381600087803b1580156200d71257600080fd5b505af11580156200d727573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d74d91908101906200faec565b15156200d791576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d78890620128f6565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630868a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d832949392919062011ad9565b6040805180830381600087803b1580156200d84c57600080fd5b505af11580156200d861573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d88791908101906200f5c0565b80955081925050508315156200d8d4576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d8cb9062012362565b60405180910390fd5b88945050505050949350505050565b606060006060806060600060028251026040519080825280602002602001820160405280156200d9225781602001602082028038833980820191505090505b5092508860008151811015156200d93557fe5b906020019060200201516040519080825280602002602001820160405280156200d96e5781602001602082028038833980820191505090505b509150600090505b8860008151811015156200d98657fe5b906020019060200201518110156200db205760008114156200d9c0576200d9b86001896200ea9e90919063ffffffff16565b94506200da9a565b6200da976001602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16639abcc0286040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200da4d57600080fd5b505af11580156200da62573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200da8891908101906200fd1f565b6200ea9e90919063ffffffff16565b94505b6200daf58a60038151811015156200daae57fe5b9060200190602002015188878c60018151811015156200daca57fe5b906020019060200201518d60028151811015156200dae457fe5b906020019060200201518662007aca565b82828151811015156200db0457fe5b906020019060200201818152505080806001019150506200d976565b8195505050505050949350505050565b6060806000806200db406200eaf8565b600060028951026040519080825280602002602001820160405280156200db765781602001602082028038833980820191505090505b509450600090505b88518110156200de0c57602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663439920b38a838151811015156200dbd557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200dc19919062012ab0565b602060405180830381600087803b1580156200dc3457600080fd5b505af11580156200dc49573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200dc6f91908101906200fd1f565b9250602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d121179989858a6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200dcee939291906201212b565b606060405180830381600087803b1580156200dd0957600080fd5b505af11580156200dd1e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200dd4491908101906200fb18565b80935081955050508160006002811015156200dd5c57fe5b602002015185826002028151811015156200dd7357fe5b90602001906020020181815250508160016002811015156200dd9157fe5b602002015185600183600202018151811015156200ddab57fe5b90602001906020020181815250508315156200ddfe576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200ddf5906201251c565b60405180910390fd5b80806001019150506200db7e565b84955050505050509392505050565b60008083600001836040518082805190602001908083835b6020831015156200de5a57805182526020820191506020810190506020830392506200de33565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008114156200dea757600091506200e073565b7fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b6020831015156200df3d57805182526020820191506020810190506020830392506200df16565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200df8695949392919062011742565b60405180910390a183600001836040518082805190602001908083835b6020831015156200dfca57805182526020820191506020810190506020830392506200dfa3565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000808201600090556001820160006200e01891906200ebd6565b5050600184600101600183038154811015156200e03157fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b60008084600001846040518082805190602001908083835b6020831015156200e0b957805182526020820191506020810190506020830392506200e092565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200e10657600091506200e276565b8285600001856040518082805190602001908083835b6020831015156200e14357805182526020820191506020810190506020830392506200e11c565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200e18e9291906200eb1a565b508460010180548091906001016200e1a791906200eba1565b90506001810185600001856040518082805190602001908083835b6020831015156200e1e957805182526020820191506020810190506020830392506200e1c2565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200e23657fe5b906000526020600020906002020160000190805190602001906200e25c9291906200eb1a565b508460020160008154809291906001019190505550600191505b509392505050565b600080600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0876040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e2fd9190620116d1565b602060405180830381600087803b1580156200e31857600080fd5b505af11580156200e32d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e35391908101906200f553565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff","16308a896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e3f6949392919062011dbf565b6040805180830381600087803b1580156200e41057600080fd5b505af11580156200e425573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e44b91908101906200f5c0565b80935081945050508180156200e52e5750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663aab19c6e89836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e4d792919062012acd565b602060405180830381600087803b1580156200e4f257600080fd5b505af11580156200e507573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e52d91908101906200faec565b5b15156200e572576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e56990620127e6565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e5eb9190620116d1565b602060405180830381600087803b1580156200e60657600080fd5b505af11580156200e61b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e64191908101906200faec565b15156200e685576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e67c9062012450565b60405180910390fd5b60019350505050949350505050565b600081600201549050919050565b606060206040519080825280601f01601f1916602001820160405280156200e6d95781602001602082028038833980820191505090505b509050816020820152919050565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156200e7305781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156200e7f65785818151811015156200e75857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156200e7b857fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200e73f565b600090505b84518110156200e8b25784818151811015156200e81457fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156200e87457fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200e7fb565b83965050505050505092915050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f1916602001820160405280156200e90d5781602001602082028038833980820191505090505b509250600090505b60148110156200e99e5781816014811015156200e92e57fe5b1a7f01000000000000000000000000000000000000000000000000000000000000000283828151811015156200e96057fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200e915565b5050919050565b60608060008060008092505b87518310156200e9f8576200e9e888848151811015156200e9ce57fe5b90602001906020020151856200c32b90919063ffffffff16565b935082806001019350506200e9b1565b600091505b86518210156200ea44576200ea3487838151811015156200ea1a57fe5b90602001906020020151856200bb3b90919063ffffffff16565b935081806001019250506200e9fd565b600090505b85518110156200ea90576200ea8086828151811015156200ea6657fe5b90602001906020020151856200ca0c90919063ffffffff16565b935080806001019150506200ea49565b839450505050509392505050565b6000808383111515156200eae9576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200eae0906201286e565b60405180910390fd5b82840390508091505092915050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200eb5d57805160ff19168380011785556200eb8e565b828001600101855582156200eb8e579182015b828111156200eb8d5782518255916020019190600101906200eb70565b5b5090506200eb9d91906200ec22565b5090565b8154818355818111156200ebd1576002028160020283600052602060002091820191016200ebd091906200ec4a565b5b505050565b50805460018160011615610100020316600290046000825580601f106200ebfe57506200ec1f565b601f0160209004906000526020600020908101906200ec1e91906200ec22565b5b50565b6200ec4791905b808211156200ec435760008160009055506001016200ec29565b5090565b90565b6200ec8f91905b808211156200ec8b57600080820160006200ec6d91906200ebd6565b6001820160006101000a81549060ff0219169055506002016200ec51565b5090565b90565b60006200eca0823562013080565b905092915050565b60006200ecb6825162013080565b905092915050565b600082601f83011215156200ecd257600080fd5b81356200ece96200ece38262012d49565b62012d1b565b915081818352602084019350602081019050838560208402820111156200ed0f57600080fd5b60005b838110156200ed4357816200ed2888826200ec92565b8452602084019350602083019250506001810190506200ed12565b5050505092915050565b600082601f83011215156200ed6157600080fd5b81516200ed786200ed728262012d49565b62012d1b565b915081818352602084019350602081019050838560208402820111156200ed9e57600080fd5b60005b838110156200edd257816200edb788826200eca8565b8452602084019350602083019250506001810190506200eda1565b5050505092915050565b600082601f83011215156200edf057600080fd5b60046200ee076200ee018262012d72565b62012d1b565b915081838560208402820111156200ee1e57600080fd5b60005b838110156200ee5257816200ee3788826200f2b1565b8452602084019350602083019250506001810190506200ee21565b5050505092915050565b600082601f83011215156200ee7057600080fd5b81356200ee876200ee818262012d95565b62012d1b565b9150818183526020840193506020810190508360005b838110156200eed157813586016200eeb688826200f2c7565b8452602084019350602083019250506001810190506200ee9d565b5050505092915050565b600082601f83011215156200eeef57600080fd5b81516200ef066200ef008262012d95565b62012d1b565b9150818183526020840193506020810190508360005b838110156200ef5057815186016200ef3588826200f325565b8452602084019350602083019250506001810190506200ef1c565b5050505092915050565b600082601f83011215156200ef6e57600080fd5b81356200ef856200ef7f8262012dbe565b62012d1b565b915081818352602084019350602081019050838560208402820111156200efab57600080fd5b60005b838110156200efdf57816200efc488826200f3e1565b8452602084019350602083019250506001810190506200efae565b5050505092915050565b600082601f83011215156200effd57600080fd5b81356200f0146200f00e8262012de7565b62012d1b565b9150818183526020840193506020810190508360005b838110156200f05e57813586016200f04388826200f3f7565b8452602084019350602083019250506001810190506200f02a565b5050505092915050565b600082601f83011215156200f07c57600080fd5b81516200f0936200f08d8262012de7565b62012d1b565b9150818183526020840193506020810190508360005b838110156200f0dd57815186016200f0c288826200f455565b8452602084019350602083019250506001810190506200f0a9565b5050505092915050565b600082601f83011215156200f0fb57600080fd5b60026200f1126200f10c8262012e10565b62012d1b565b915081838560208402820111156200f12957600080fd5b60005b838110156200f15d57816200f14288826200f527565b8452602084019350602083019250506001810190506200f12c565b5050505092915050565b600082601f83011215156200f17b57600080fd5b81356200f1926200f18c8262012e33565b62012d1b565b915081818352602084019350602081019050838560208402820111156200f1b857600080fd5b60005b838110156200f1ec57816200f1d188826200f511565b8452602084019350602083019250506001810190506200f1bb565b5050505092915050565b600082601f83011215156200f20a57600080fd5b81516200f2216200f21b8262012e33565b62012d1b565b915081818352602084019350602081019050838560208402820111156200f24757600080fd5b60005b838110156200f27b57816200f26088826200f527565b8452602084019350602083019250506001810190506200f24a565b5050505092915050565b60006200f2938235620130a0565b905092915050565b60006200f2a98251620130a0565b905092915050565b60006200f2bf8235620130ac565b905092915050565b600082601f83011215156200f2db57600080fd5b81356200f2f26200f2ec8262012e5c565b62012d1b565b915080825260208301602083018583830111156200f30f57600080fd5b6200f31c83828462013113565b50505092915050565b600082601f83011215156200f33957600080fd5b81516200f3506200f34a8262012e5c565b62012d1b565b915080825260208301602083018583830111156200f36d57600080fd5b6200f37a83828462013122565b50505092915050565b600082601f83011215156200f39757600080fd5b81356200f3ae6200f3a88262012e89565b62012d1b565b91508082526020","8301602083018583830111156200f3cb57600080fd5b6200f3d883828462013113565b50505092915050565b60006200f3ef8235620130b6565b905092915050565b600082601f83011215156200f40b57600080fd5b81356200f4226200f41c8262012eb6565b62012d1b565b915080825260208301602083018583830111156200f43f57600080fd5b6200f44c83828462013113565b50505092915050565b600082601f83011215156200f46957600080fd5b81516200f4806200f47a8262012eb6565b62012d1b565b915080825260208301602083018583830111156200f49d57600080fd5b6200f4aa83828462013122565b50505092915050565b600082601f83011215156200f4c757600080fd5b81356200f4de6200f4d88262012ee3565b62012d1b565b915080825260208301602083018583830111156200f4fb57600080fd5b6200f50883828462013113565b50505092915050565b60006200f51f8235620130c0565b905092915050565b60006200f5358251620130c0565b905092915050565b60006200f54b8251620130ca565b905092915050565b6000602082840312156200f56657600080fd5b60006200f576848285016200eca8565b91505092915050565b60008060a083850312156200f59357600080fd5b60006200f5a3858286016200ec92565b92505060206200f5b6858286016200eddc565b9150509250929050565b600080604083850312156200f5d457600080fd5b60006200f5e4858286016200eca8565b92505060206200f5f7858286016200f29b565b9150509250929050565b600080600060c084860312156200f61757600080fd5b60006200f627868287016200ec92565b93505060206200f63a868287016200f511565b92505060406200f64d868287016200eddc565b9150509250925092565b60008060008060e085870312156200f66e57600080fd5b60006200f67e878288016200ec92565b94505060206200f691878288016200f511565b93505060406200f6a4878288016200f511565b92505060606200f6b7878288016200eddc565b91505092959194509250565b60008060008060008060c087890312156200f6dd57600080fd5b60006200f6ed89828a016200ec92565b96505060206200f70089828a016200f511565b95505060406200f71389828a016200f511565b94505060606200f72689828a016200f511565b93505060806200f73989828a016200f511565b92505060a06200f74c89828a016200f511565b9150509295509295509295565b6000602082840312156200f76c57600080fd5b600082015167ffffffffffffffff8111156200f78757600080fd5b6200f795848285016200ed4d565b91505092915050565b60008060008060e085870312156200f7b557600080fd5b600085013567ffffffffffffffff8111156200f7d057600080fd5b6200f7de878288016200ecbe565b945050602085013567ffffffffffffffff8111156200f7fc57600080fd5b6200f80a878288016200f167565b935050604085013567ffffffffffffffff8111156200f82857600080fd5b6200f836878288016200efe9565b92505060606200f849878288016200eddc565b91505092959194509250565b600080600080608085870312156200f86c57600080fd5b600085015167ffffffffffffffff8111156200f88757600080fd5b6200f895878288016200ed4d565b945050602085015167ffffffffffffffff8111156200f8b357600080fd5b6200f8c1878288016200f1f6565b935050604085015167ffffffffffffffff8111156200f8df57600080fd5b6200f8ed878288016200f1f6565b92505060606200f900878288016200f53d565b91505092959194509250565b6000608082840312156200f91f57600080fd5b60006200f92f848285016200eddc565b91505092915050565b600080604083850312156200f94c57600080fd5b600083015167ffffffffffffffff8111156200f96757600080fd5b6200f975858286016200eedb565b925050602083015167ffffffffffffffff8111156200f99357600080fd5b6200f9a1858286016200eedb565b9150509250929050565b6000602082840312156200f9be57600080fd5b600082015167ffffffffffffffff8111156200f9d957600080fd5b6200f9e7848285016200f068565b91505092915050565b6000602082840312156200fa0357600080fd5b600082015167ffffffffffffffff8111156200fa1e57600080fd5b6200fa2c848285016200f1f6565b91505092915050565b60008060008060e085870312156200fa4c57600080fd5b600085013567ffffffffffffffff8111156200fa6757600080fd5b6200fa75878288016200f167565b945050602085013567ffffffffffffffff8111156200fa9357600080fd5b6200faa1878288016200ecbe565b935050604085013567ffffffffffffffff8111156200fabf57600080fd5b6200facd878288016200ef5a565b92505060606200fae0878288016200eddc565b91505092959194509250565b6000602082840312156200faff57600080fd5b60006200fb0f848285016200f29b565b91505092915050565b600080606083850312156200fb2c57600080fd5b60006200fb3c858286016200f29b565b92505060206200fb4f858286016200f0e7565b9150509250929050565b6000602082840312156200fb6c57600080fd5b600082013567ffffffffffffffff8111156200fb8757600080fd5b6200fb95848285016200f383565b91505092915050565b60008060a083850312156200fbb257600080fd5b600083013567ffffffffffffffff8111156200fbcd57600080fd5b6200fbdb858286016200f383565b92505060206200fbee858286016200eddc565b9150509250929050565b600080604083850312156200fc0c57600080fd5b600083013567ffffffffffffffff8111156200fc2757600080fd5b6200fc35858286016200f383565b925050602083013567ffffffffffffffff8111156200fc5357600080fd5b6200fc61858286016200f383565b9150509250929050565b600080600060c084860312156200fc8157600080fd5b600084013567ffffffffffffffff8111156200fc9c57600080fd5b6200fcaa868287016200f383565b935050602084013567ffffffffffffffff8111156200fcc857600080fd5b6200fcd6868287016200f383565b92505060406200fce9868287016200eddc565b9150509250925092565b6000602082840312156200fd0657600080fd5b60006200fd16848285016200f511565b91505092915050565b6000602082840312156200fd3257600080fd5b60006200fd42848285016200f527565b91505092915050565b600080600060c084860312156200fd6157600080fd5b60006200fd71868287016200f511565b93505060206200fd84868287016200ec92565b92505060406200fd97868287016200eddc565b9150509250925092565b60008060008060e085870312156200fdb857600080fd5b60006200fdc8878288016200f511565b94505060206200fddb878288016200ec92565b935050604085013567ffffffffffffffff8111156200fdf957600080fd5b6200fe07878288016200f4b3565b92505060606200fe1a878288016200eddc565b91505092959194509250565b60008060a083850312156200fe3a57600080fd5b60006200fe4a858286016200f511565b92505060206200fe5d858286016200eddc565b9150509250929050565b600080600080600061010086880312156200fe8157600080fd5b60006200fe91888289016200f511565b955050602086013567ffffffffffffffff8111156200feaf57600080fd5b6200febd888289016200ee5c565b945050604086013567ffffffffffffffff8111156200fedb57600080fd5b6200fee9888289016200ee5c565b93505060606200fefc888289016200ec92565b92505060806200ff0f888289016200eddc565b9150509295509295909350565b600080604083850312156200ff3057600080fd5b60006200ff40858286016200f527565b92505060206200ff53858286016200f527565b9150509250929050565b60008060008060e085870312156200ff7457600080fd5b60006200ff84878288016200f511565b94505060206200ff97878288016200f511565b93505060406200ffaa878288016200ec92565b92505060606200ffbd878288016200eddc565b91505092959194509250565b600080600080600061010086880312156200ffe357600080fd5b60006200fff3888289016200f511565b955050602062010006888289016200f511565b945050604062010019888289016200f285565b93505060606201002c888289016200ec92565b92505060806201003f888289016200eddc565b9150509295509295909350565b600080600080608085870312156201006357600080fd5b600062010073878288016200f511565b945050602062010086878288016200f511565b935050604062010099878288016200f511565b9250506060620100ac878288016200ec92565b91505092959194509250565b600060208284031215620100cb57600080fd5b6000620100db848285016200f53d565b91505092915050565b620100ef8162013029565b82525050565b6000620101028262012f6d565b808452602084019350620101168362012f10565b60005b828110156201014e576201012f868351620100e4565b6201013a8262012fdb565b915060208601955060018101905062010119565b50849250505092915050565b620101658162012f78565b620101708262012f1d565b60005b82811015620101a857620101898583516201037a565b620101948262012fe8565b915060208501945060018101905062010173565b5050505050565b6000620101bc8262012f83565b80845260208401935083602082028501620101d78562012f27565b60005b8481101562010216578383038852620101f5838351620103c7565b9250620102028262012ff5565b9150602088019750600181019050620101da565b508196508694505050505092915050565b6000620102348262012f8e565b808452602084019350620102488362012f34565b60005b82811015620102805762010261868351620104b3565b6201026c8262013002565b91506020860195506001810190506201024b565b50849250505092915050565b6000620102998262012f99565b80845260208401935083602082028501620102b48562012f41565b60005b84811015620102f3578383038852620102d283835162010511565b9250620102df826201300f565b9150602088019750600181019050620102b7565b508196508694505050505092915050565b6000620103118262012fa4565b808452602084019350620103258362012f4e565b60005b828110156201035d576201033e868351620116af565b62010349826201301c565b915060208601955060018101905062010328565b50849250505092915050565b620103748162013049565b82525050565b620103858162013055565b82525050565b6000620103988262012fba565b808452620103ae81602086016020860162013122565b620103b9816201","3158565b602085010191505092915050565b6000620103d48262012faf565b808452620103ea81602086016020860162013122565b620103f58162013158565b602085010191505092915050565b600081546001811660008114620104235760018114620104445762010489565b607f600283041680865260ff19831660208701526040860193505062010489565b600282048086526020860195506201045c8562012f5b565b60005b8281101562010480578154818901526001820191506020810190506201045f565b80880195505050505b505092915050565b6201049c81620130d7565b82525050565b620104ad81620130eb565b82525050565b620104be816201305f565b82525050565b620104cf81620130ff565b82525050565b6000620104e28262012fd0565b808452620104f881602086016020860162013122565b620105038162013158565b602085010191505092915050565b60006201051e8262012fc5565b8084526201053481602086016020860162013122565b6201053f8162013158565b602085010191505092915050565b6000601a82527f466f7262696464656e2069737375654e6f6e46756e6769626c650000000000006020830152604082019050919050565b6000601d82527f466f7262696464656e206163636f756e74436f6e7461696e734e6f74650000006020830152604082019050919050565b6000603782527f466f7262696464656e206e6f6e46756e6769626c655175657279426f6f6b206260208301527f65636175736520796f75206172656e2774206f776e65720000000000000000006040830152606082019050919050565b6000603f82527f6e6f74657320686173206265656e20646566696e656420706c6561736520636860208301527f616e6765206e6f74654e6f507265666978206f72206e6f74654e6f53697a65006040830152606082019050919050565b6000601282527f466f7262696464656e20746561724e6f746500000000000000000000000000006020830152604082019050919050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000601982527f466f7262696464656e206765744163636f756e744e6f746573000000000000006020830152604082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601682527f6e6f746520697320666f727a656e206f722074656172000000000000000000006020830152604082019050919050565b6000601d82527f7365744e6f6e46756e6769626c65507269636520466f7262696464656e0000006020830152604082019050919050565b6000601282527f6e6f7465206973206e6f7420666f727a656e00000000000000000000000000006020830152604082019050919050565b6000602a82527f6465736320627974657320617265206265747765656e203120616e642032353560208301527f20696e206c656e677468000000000000000000000000000000000000000000006040830152606082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000601082527f777269746520626f6f6b206661696c21000000000000000000000000000000006020830152604082019050919050565b6000600b82527f656e61626c6542617463680000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000600c82527f7570646174654e6f74654e6f00000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f706172616d73206e6f74207665726966790000000000000000000000000000006020830152604082019050919050565b6000601482527f7570646174654e6f746550726f706572746965730000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000603282527f72657175697265203130203e206e6f74654e6f53697a65203e3020616e64206560208301527f787069726174696f6e44617465203e6e6f7700000000000000000000000000006040830152606082019050919050565b6000601982527f7265717569726520656666656374697665446174653e6e6f77000000000000006020830152604082019050919050565b6000600882527f7472616e736665720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000602b82527f466f7262696464656e207472616e7366657220626563617573652066726f6d2060208301527f69736e2774206f776e65720000000000000000000000000000000000000000006040830152606082019050919050565b6000601b82527f466f7262696464656e206765744e6f746550726f7065727469657300000000006020830152604082019050919050565b6000601682527f466f7262696464656e20676574546561724e6f746573000000000000000000006020830152604082019050919050565b6000601082527f69737375654e6f6e46756e6769626c65000000000000000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f72657175697265207374617274203c20656e64000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000601c82527f726571756972652065787069726174696f6e44617465203e206e6f77000000006020830152604082019050919050565b6000601582527f6e6f7465206973206e6f742065666665637469766500000000000000000000006020830152604082019050919050565b6000601c82527f726571756972652065666665637469766544617465203e3d206e6f77000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601682527f72657175697265206e6f74654e6f5072656669783e30000000000000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000600d82527f6765744e6f746544657461696c000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f746561724e6f74650000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f7365744e6f6e46756e6769626c655072696365000000000000000000000000006020830152604082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601482527f466f7262696464656e20666f727a656e4e6f74650000000000000000000000006020830152604082019050919050565b6000601982527f466f7262696464656e207570646174654e6f74654261746368000000000000006020830152604082019050919050565b6000600a82527f667265657a654e6f7465000000000000000000000000000000000000000000006020830152604082019050919050565b6000601e82527f466f7262696464656e207570646174654e6f746550726f7065727469657300006020830152604082019050919050565b6000601d82527f466f7262696464656e206e6f6e46756e6769626c655472616e736665720000006020830152604082019050919050565b6000601b82527f66726f6d2f746f2061646472657373206e6f74207665726966792100000000006020830152604082019050919050565b6000600c82527f676574546561724e6f74657300000000000000000000000000000000000000006020830152604082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601282527f6e6f746520646f65736e277420657869737400000000000000000000000000006020830152604082019050919050565b6000600f82527f7570646174654e6f7465426174636800000000000000000000000000000000006020830152604082019050919050565b6000601582527f72657175697265203530303e3d616d6f756e743e3000000000000000000000006020830152604082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000601682527f466f7262696464656e20756e667265657a654e6f7465000000000000000000006020830152604082019050919050565b6000601782527f466f7262626964656e206765744e6f746544657461696c0000000000000000006020830152604082019050919050565b6000601982527f6e65774e6f74654e6f20686173206265656e20697373756521000000000000006020830152604082019050919050565b6000600f82527f6765744163636f756e744e6f74657300000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f742065786973740000000000000000000060208301526040","82019050919050565b6000601682527f466f7262696464656e207570646174654e6f74654e6f000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601282527f726571756972652064617465203e206e6f7700000000000000000000000000006020830152604082019050919050565b6000602782527f726571756972652065787069726174696f6e44617465203e202065666665637460208301527f69766544617465000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601382527f6e6f746520646f65736e277420657869737421000000000000000000000000006020830152604082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f6765744e6f746550726f706572746965730000000000000000000000000000006020830152604082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e20656e61626c65426174636800000000000000000000006020830152604082019050919050565b6000600c82527f756e667265657a654e6f746500000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f6163636f756e74436f6e7461696e734e6f7465000000000000000000000000006020830152604082019050919050565b620116ba8162013069565b82525050565b620116cb8162013073565b82525050565b6000602082019050620116e86000830184620100e4565b92915050565b6000608082019050620117056000830187620100e4565b620117146020830186620100e4565b620117236040830185620100e4565b81810360608301526201173781846201038b565b905095945050505050565b600060a082019050620117596000830188620100e4565b620117686020830187620100e4565b81810360408301526201177c8186620103c7565b905081810360608301526201179281856201038b565b90508181036080830152620117a8818462010403565b90509695505050505050565b600061010082019050620117cc6000830187620100e4565b620117db6020830186620100e4565b8181036040830152620117ee8162010ac5565b905081810360608301526201180481856201038b565b90506201181560808301846201015a565b95945050505050565b600061010082019050620118366000830187620100e4565b620118456020830186620100e4565b8181036040830152620118588162010ede565b905081810360608301526201186e81856201038b565b90506201187f60808301846201015a565b95945050505050565b600061010082019050620118a06000830187620100e4565b620118af6020830186620100e4565b8181036040830152620118c28162011350565b90508181036060830152620118d881856201038b565b9050620118e960808301846201015a565b95945050505050565b6000606082019050620119096000830186620100e4565b620119186020830185620100e4565b620119276040830184620116af565b949350505050565b600061010082019050620119476000830188620100e4565b62011956602083018762010491565b81810360408301526201196a81866201038b565b905081810360608301526201198081856201038b565b90506201199160808301846201015a565b9695505050505050565b600061010082019050620119b36000830187620100e4565b620119c26020830186620104a2565b8181036040830152620119d581620108e7565b90508181036060830152620119eb81856201038b565b9050620119fc60808301846201015a565b95945050505050565b60006101008201905062011a1d6000830187620100e4565b62011a2c6020830186620104a2565b818103604083015262011a3f8162010955565b9050818103606083015262011a5581856201038b565b905062011a6660808301846201015a565b95945050505050565b60006101008201905062011a876000830187620100e4565b62011a966020830186620104a2565b818103604083015262011aa981620109c3565b9050818103606083015262011abf81856201038b565b905062011ad060808301846201015a565b95945050505050565b60006101008201905062011af16000830187620100e4565b62011b006020830186620104a2565b818103604083015262011b138162010bc7565b9050818103606083015262011b2981856201038b565b905062011b3a60808301846201015a565b95945050505050565b60006101008201905062011b5b6000830187620100e4565b62011b6a6020830186620104a2565b818103604083015262011b7d8162010bfe565b9050818103606083015262011b9381856201038b565b905062011ba460808301846201015a565b95945050505050565b60006101008201905062011bc56000830187620100e4565b62011bd46020830186620104a2565b818103604083015262011be78162010e70565b9050818103606083015262011bfd81856201038b565b905062011c0e60808301846201015a565b95945050505050565b60006101008201905062011c2f6000830187620100e4565b62011c3e6020830186620104a2565b818103604083015262011c518162010f15565b9050818103606083015262011c6781856201038b565b905062011c7860808301846201015a565b95945050505050565b60006101008201905062011c996000830187620100e4565b62011ca86020830186620104a2565b818103604083015262011cbb8162010f4c565b9050818103606083015262011cd181856201038b565b905062011ce260808301846201015a565b95945050505050565b60006101008201905062011d036000830187620100e4565b62011d126020830186620104a2565b818103604083015262011d25816201104e565b9050818103606083015262011d3b81856201038b565b905062011d4c60808301846201015a565b95945050505050565b60006101008201905062011d6d6000830187620100e4565b62011d7c6020830186620104a2565b818103604083015262011d8f816201112a565b9050818103606083015262011da581856201038b565b905062011db660808301846201015a565b95945050505050565b60006101008201905062011dd76000830187620100e4565b62011de66020830186620104a2565b818103604083015262011df98162011206565b9050818103606083015262011e0f81856201038b565b905062011e2060808301846201015a565b95945050505050565b60006101008201905062011e416000830187620100e4565b62011e506020830186620104a2565b818103604083015262011e63816201152e565b9050818103606083015262011e7981856201038b565b905062011e8a60808301846201015a565b95945050505050565b60006101008201905062011eab6000830187620100e4565b62011eba6020830186620104a2565b818103604083015262011ecd8162011565565b9050818103606083015262011ee381856201038b565b905062011ef460808301846201015a565b95945050505050565b60006101008201905062011f156000830187620100e4565b62011f246020830186620104a2565b818103604083015262011f3781620115d3565b9050818103606083015262011f4d81856201038b565b905062011f5e60808301846201015a565b95945050505050565b60006101008201905062011f7f6000830187620100e4565b62011f8e6020830186620104a2565b818103604083015262011fa18162011641565b9050818103606083015262011fb781856201038b565b905062011fc860808301846201015a565b95945050505050565b60006101008201905062011fe96000830187620100e4565b62011ff86020830186620104a2565b81810360408301526201200b8162011678565b905081810360608301526201202181856201038b565b90506201203260808301846201015a565b95945050505050565b6000604082019050620120526000830185620100e4565b620120616020830184620116af565b9392505050565b60006060820190506201207f6000830186620100e4565b6201208e6020830185620116af565b6201209d6040830184620116af565b949350505050565b60006020820190508181036000830152620120c18184620100f5565b905092915050565b60006080820190508181036000830152620120e58187620100f5565b90508181036020830152620120fb818662010304565b9050818103604083015262012111818562010304565b9050620121226060830184620116c0565b95945050505050565b60006060820190508181036000830152620121478186620100f5565b9050620121586020830185620116af565b81810360408301526201216c81846201028c565b9050949350505050565b60006040820190508181036000830152620121928185620101af565b90508181036020830152620121a88184620101af565b90509392505050565b60006020820190508181036000830152620121cd81846201028c565b905092915050565b60006020820190508181036000830152620121f1818462010304565b905092915050565b6000606082019050818103600083015262012215818662010304565b905081810360208301526201222b8185620100f5565b9050818103604083015262012241818462010227565b9050949350505050565b600060208201905062012262600083018462010369565b92915050565b60006040820190506201227f600083018562010369565b818103602083015262012293818462010304565b90509392505050565b60006020820190508181036000830152620122b88184620103c7565b905092915050565b60006020820190508181036000830152620122dc81846201038b565b905092915050565b6000606082019050620122fb6000830186620104a2565b6201230a6020830185620100e4565b62012319604083018462010369565b949350505050565b6000602082019050620123386000830184620104c4565b92915050565b600060208201905081810360008301526201235a8184620104d5565b905092915050565b600060208201905081810360008301526201237d816201054d565b9050919050565b600060208201905081810360008301526201239f8162010584565b9050919050565b600060208201905081810360008301","52620123c181620105bb565b9050919050565b60006020820190508181036000830152620123e38162010618565b9050919050565b60006020820190508181036000830152620124058162010675565b9050919050565b600060208201905081810360008301526201242781620106ac565b9050919050565b600060208201905081810360008301526201244981620106e3565b9050919050565b600060208201905081810360008301526201246b816201071a565b9050919050565b600060208201905081810360008301526201248d8162010777565b9050919050565b60006020820190508181036000830152620124af81620107ae565b9050919050565b60006020820190508181036000830152620124d181620107e5565b9050919050565b60006020820190508181036000830152620124f3816201081c565b9050919050565b60006020820190508181036000830152620125158162010879565b9050919050565b600060208201905081810360008301526201253781620108b0565b9050919050565b6000602082019050818103600083015262012559816201091e565b9050919050565b600060208201905081810360008301526201257b816201098c565b9050919050565b600060208201905081810360008301526201259d81620109fa565b9050919050565b60006020820190508181036000830152620125bf8162010a31565b9050919050565b60006020820190508181036000830152620125e18162010a8e565b9050919050565b60006020820190508181036000830152620126038162010afc565b9050919050565b60006020820190508181036000830152620126258162010b59565b9050919050565b60006020820190508181036000830152620126478162010b90565b9050919050565b60006020820190508181036000830152620126698162010c35565b9050919050565b600060208201905081810360008301526201268b8162010c6c565b9050919050565b60006020820190508181036000830152620126ad8162010ca3565b9050919050565b60006020820190508181036000830152620126cf8162010cda565b9050919050565b60006020820190508181036000830152620126f18162010d11565b9050919050565b60006020820190508181036000830152620127138162010d48565b9050919050565b60006020820190508181036000830152620127358162010d7f565b9050919050565b60006020820190508181036000830152620127578162010e02565b9050919050565b60006020820190508181036000830152620127798162010e39565b9050919050565b600060208201905081810360008301526201279b8162010ea7565b9050919050565b60006020820190508181036000830152620127bd8162010f83565b9050919050565b60006020820190508181036000830152620127df8162010fe0565b9050919050565b60006020820190508181036000830152620128018162011017565b9050919050565b60006020820190508181036000830152620128238162011085565b9050919050565b600060208201905081810360008301526201284581620110bc565b9050919050565b600060208201905081810360008301526201286781620110f3565b9050919050565b60006020820190508181036000830152620128898162011161565b9050919050565b60006020820190508181036000830152620128ab8162011198565b9050919050565b60006020820190508181036000830152620128cd81620111cf565b9050919050565b60006020820190508181036000830152620128ef816201123d565b9050919050565b60006020820190508181036000830152620129118162011274565b9050919050565b600060208201905081810360008301526201293381620112ab565b9050919050565b600060208201905081810360008301526201295581620112e2565b9050919050565b60006020820190508181036000830152620129778162011319565b9050919050565b60006020820190508181036000830152620129998162011387565b9050919050565b60006020820190508181036000830152620129bb81620113be565b9050919050565b60006020820190508181036000830152620129dd81620113f5565b9050919050565b60006020820190508181036000830152620129ff816201142c565b9050919050565b6000602082019050818103600083015262012a218162011463565b9050919050565b6000602082019050818103600083015262012a4381620114c0565b9050919050565b6000602082019050818103600083015262012a6581620114f7565b9050919050565b6000602082019050818103600083015262012a87816201159c565b9050919050565b6000602082019050818103600083015262012aa9816201160a565b9050919050565b600060208201905062012ac76000830184620116af565b92915050565b600060408201905062012ae46000830185620116af565b62012af36020830184620100e4565b9392505050565b600060608201905062012b116000830186620116af565b818103602083015262012b258185620101af565b9050818103604083015262012b3b8184620101af565b9050949350505050565b600060608201905062012b5c6000830186620116af565b818103602083015262012b70818562010304565b9050818103604083015262012b86818462010304565b9050949350505050565b600060408201905062012ba76000830185620116af565b62012bb66020830184620116af565b9392505050565b600060808201905062012bd46000830187620116af565b62012be36020830186620116af565b62012bf26040830185620100e4565b62012c016060830184620116af565b95945050505050565b600060608201905062012c216000830186620116af565b62012c306020830185620116af565b62012c3f604083018462010369565b949350505050565b600060808201905062012c5e6000830187620116af565b62012c6d6020830186620116af565b62012c7c6040830185620116af565b62012c8b6060830184620100e4565b95945050505050565b600060608201905062012cab6000830186620116af565b62012cba6020830185620116af565b62012cc96040830184620116c0565b949350505050565b600060408201905062012ce86000830185620116af565b62012cf76020830184620116c0565b9392505050565b600060208201905062012d156000830184620116c0565b92915050565b6000604051905081810181811067ffffffffffffffff8211171562012d3f57600080fd5b8060405250919050565b600067ffffffffffffffff82111562012d6157600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562012d8a57600080fd5b602082029050919050565b600067ffffffffffffffff82111562012dad57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562012dd657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562012dff57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562012e2857600080fd5b602082029050919050565b600067ffffffffffffffff82111562012e4b57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562012e7457600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111562012ea157600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111562012ece57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111562012efb57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b6000620130e48262013029565b9050919050565b6000620130f88262013029565b9050919050565b60006201310c8262013069565b9050919050565b82818337600083830152505050565b60005b838110156201314257808201518184015260208101905062013125565b8381111562013152576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a72305820345d8249909ba466be3c727bb6868bb7ee1432d64f21931f61b2e48dafcd06386c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b50604051620057e2380380620057e2833981018060405262000037919081019062000395565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600c9080519060200190620000ff9291906200025c565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c92a7801600c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a919062000552565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d0919081019062000404565b5080600d60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550","33600e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505050506200066d565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200029f57805160ff1916838001178555620002d0565b82800160010185558215620002d0579182015b82811115620002cf578251825591602001919060010190620002b2565b5b509050620002df9190620002e3565b5090565b6200030891905b8082111562000304576000816000905550600101620002ea565b5090565b90565b60006200031982516200060d565b905092915050565b60006200032f82516200062d565b905092915050565b600082601f83011215156200034b57600080fd5b8151620003626200035c82620005ce565b620005a0565b915080825260208301602083018583830111156200037f57600080fd5b6200038c83828462000637565b50505092915050565b600080600060608486031215620003ab57600080fd5b6000620003bb868287016200030b565b935050602084015167ffffffffffffffff811115620003d957600080fd5b620003e78682870162000337565b9250506040620003fa868287016200030b565b9150509250925092565b6000602082840312156200041757600080fd5b6000620004278482850162000321565b91505092915050565b6000815460018116600081146200045057600181146200047157620004b6565b607f600283041680865260ff198316602087015260408601935050620004b6565b600282048086526020860195506200048985620005fb565b60005b82811015620004ad578154818901526001820191506020810190506200048c565b80880195505050505b505092915050565b6000602e82527f7465726d5f6e6f2c7365712c66726f6d2c746f2c6e6f746549642c617373657460208301527f2c6f70657261746f722c646573630000000000000000000000000000000000006040830152606082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b600060608201905081810360008301526200056e818462000430565b9050818103602083015262000583816200051b565b905081810360408301526200059881620004be565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005c457600080fd5b8060405250919050565b600067ffffffffffffffff821115620005e657600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b83811015620006575780820151818401526020810190506200063a565b8381111562000667576000848401525b50505050565b615165806200067d6000396000f30060806040526004361061006d576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806311567c421461007257806345be589e1461009d578063b32cf81b146100c8578063c19f641414610105578063d121179914610143575b600080fd5b34801561007e57600080fd5b50610087610181565b60405161009491906148e1565b60405180910390f35b3480156100a957600080fd5b506100b2610189565b6040516100bf9190614dff565b60405180910390f35b3480156100d457600080fd5b506100ef60048036036100ea9190810190614102565b6101e6565b6040516100fc919061497f565b60405180910390f35b34801561011157600080fd5b5061012c60048036036101279190810190614096565b61097e565b60405161013a92919061494f565b60405180910390f35b34801561014f57600080fd5b5061016a60048036036101659190810190614017565b611149565b6040516101789291906149a1565b60405180910390f35b600030905090565b60006002600160028054905001908060018154018082558091505090600182039060005260206000200160009091929091909150555060026001600280549050038154811015156101d657fe5b9060005260206000200154905090565b60606000606060006060600080606060008b511180610206575060008a51115b1515610247576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161023e90614d6a565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016102bf9190614a6e565b602060405180830381600087803b1580156102d957600080fd5b505af11580156102ed573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506103119190810190614214565b965061031d8b8b61097e565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561038957600080fd5b505af115801561039d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506103c19190810190614199565b92506000915060008b511180156103f1575060008b60008151811015156103e457fe5b9060200190602002015114155b1561049e578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56104338d600081518110151561042457fe5b90602001906020020151611c1b565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161046b9190614d35565b600060405180830381600087803b15801561048557600080fd5b505af1158015610499573d6000803e3d6000fd5b505050505b60018b511180156104c8575060008b60018151811015156104bb57fe5b9060200190602002015114155b15610575578273ffffffffffffffffffffffffffffffffffffffff1663ae763db561050a8d60018151811015156104fb57fe5b90602001906020020151611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016105429190614b93565b600060405180830381600087803b15801561055c57600080fd5b505af1158015610570573d6000803e3d6000fd5b505050505b60028b5111801561059f575060008b600281518110151561059257fe5b9060200190602002015114155b1561064c578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56105e18d60028151811015156105d257fe5b90602001906020020151611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016106199190614c3d565b600060405180830381600087803b15801561063357600080fd5b505af1158015610647573d6000803e3d6000fd5b505050505b60008a511180156106a25750600073ffffffffffffffffffffffffffffffffffffffff168a600081518110151561067f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610765578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56106fa8c60008151811015156106d557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107329190614be8565b600060405180830381600087803b15801561074c57600080fd5b505af1158015610760573d6000803e3d6000fd5b505050505b60018a511180156107bb5750600073ffffffffffffffffffffffffffffffffffffffff168a600181518110151561079857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561087e578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56108138c60018151811015156107ee57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161084b9190614dca565b600060405180830381600087803b15801561086557600080fd5b505af1158015610879573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff1663324927378a60008151811015156108a957fe5b906020019060200201518b60018151811015156108c257fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016109059291906149e5565b600060405180830381600087803b15801561091f57600080fd5b505af1158015610933573d6000803e3d6000fd5b50505050610942868685611ee6565b80935081925050506000815111801561095b5750600082135b1561096d5761096a81836121ee565b93505b839750505050505050509392505050565b6060600060606000806000806000806002805490506040519080825280602002602001820160405280156109c15781602001602082028038833980820191505090505b50965060018b511180156109ee575060008b60018151811015156109e157fe5b9060200190602002015114155b15610a7c576000600460008d6001815181101515610a0857fe5b90602001906020020151815260200190815260200160002054141515610a7b576001876001600460008f6001815181101515610a4057fe5b9060200190602002015181526020019081526020016000205403815181101515610a6657fe5b90602001906020020190151590811515815250505b5b60008b51118015610aa6575060008b6000815181101515610a9957fe5b9060200190602002015114155b15610bc157600095505b600360008c6000815181101515610ac357fe5b90602001906020020151815260200190815260200160002080549050861015610bc057866001600360008e6000815181101515610afc57fe5b90602001906020020151815260200190815260200160002088815481101515610b2157fe5b906000526020600020015403815181101515610b3957fe5b906020019060200201511515610bb3576001876001600360008f6000815181101515610b6157fe5b90602001906020020151815260200190815260200160002089815481101515610b8657fe5b906000526020600020015403815181","101515610b9e57fe5b90602001906020020190151590811515815250505b8580600101965050610ab0565b5b60028b51118015610beb575060008b6002815181101515610bde57fe5b9060200190602002015114155b15610d0657600094505b600760008c6002815181101515610c0857fe5b90602001906020020151815260200190815260200160002080549050851015610d0557866001600760008e6002815181101515610c4157fe5b90602001906020020151815260200190815260200160002087815481101515610c6657fe5b906000526020600020015403815181101515610c7e57fe5b906020019060200201511515610cf8576001876001600760008f6002815181101515610ca657fe5b90602001906020020151815260200190815260200160002088815481101515610ccb57fe5b906000526020600020015403815181101515610ce357fe5b90602001906020020190151590811515815250505b8480600101955050610bf5565b5b60008a51118015610d5c5750600073ffffffffffffffffffffffffffffffffffffffff168a6000815181101515610d3957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610efb57600093505b600560008b6000815181101515610d7957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002080549050841015610efa57866001600560008d6000815181101515610dde57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002086815481101515610e2f57fe5b906000526020600020015403815181101515610e4757fe5b906020019060200201511515610eed576001876001600560008e6000815181101515610e6f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002087815481101515610ec057fe5b906000526020600020015403815181101515610ed857fe5b90602001906020020190151590811515815250505b8380600101945050610d66565b5b60018a51118015610f515750600073ffffffffffffffffffffffffffffffffffffffff168a6001815181101515610f2e57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156110f057600092505b600660008b6001815181101515610f6e57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020805490508310156110ef57866001600660008d6001815181101515610fd357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208581548110151561102457fe5b90600052602060002001540381518110151561103c57fe5b9060200190602002015115156110e2576001876001600660008e600181518110151561106457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156110b557fe5b9060005260206000200154038151811015156110cd57fe5b90602001906020020190151590811515815250505b8280600101935050610f5b565b5b60009150600090505b865181101561113557868181518110151561111057fe5b90602001906020020151156111285781806001019250505b80806001019150506110f9565b868298509850505050505050509250929050565b6000611153613c53565b60006060600080600080611165613c53565b60048c51101515156111ac576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016111a390614d6a565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631bf727356040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801561123157600080fd5b505af1158015611245573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061126e91908101906142d0565b80975081985050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bd332ffe6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156112fb57600080fd5b505af115801561130f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061133391908101906142a7565b945061134287868e8e8e612be1565b9350600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113bc9190614a6e565b602060405180830381600087803b1580156113d657600080fd5b505af11580156113ea573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061140e9190810190614214565b92508273ffffffffffffffffffffffffffffffffffffffff16634c6f30c0611456600260016002805490500381548110151561144657fe5b9060005260206000200154611c1b565b866040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611490929190614a3e565b602060405180830381600087803b1580156114aa57600080fd5b505af11580156114be573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506114e2919081019061423d565b91507f246d61ff6a7af5762a067fba9052b5d9f4c893cf3b8358ee15d4b0e9300068f68c8c8c8560405161151994939291906148fc565b60405180910390a1600860008881526020019081526020016000206000600260016002805490500381548110151561154d57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff161515611637576003600088815260200190815260200160002060026001600280549050038154811015156115a457fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600860008981526020019081526020016000206000600260016002805490500381548110151561160657fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600260016002805490500381548110151561164e57fe5b90600052602060002001546004600087815260200190815260200160002081905550600960008d600281518110151561168357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156116e057fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615801561175957508b600281518110151561171e57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b156118a357600560008d600281518110151561177157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060026001600280549050038154811015156117cc57fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600960008e600281518110151561181557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206000600260016002805490500381548110151561187257fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600a60008d60038151811015156118b657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206000600260016002805490500381548110151561191357fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615801561198c57508b600381518110151561195157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611ad657600660008d60038151811015156119a457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060026001600280549050038154811015156119ff57fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600a60008e6003815181101515611a4857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611aa557fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600b60008c815260200190815260200160002060006002600160028054905003815481101515611b0257fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff161515611bec57600760008c81526020019081526020016000206002600160028054905003815481101515611b5957fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600b60008d81","5260200190815260200160002060006002600160028054905003815481101515611bbb57fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b604080519081016040528088815260200186815250905060018214819850985050505050505050935093915050565b60606000806060600080861415611c69576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611d69565b8593505b600084141515611c93578280600101935050600a84811515611c8b57fe5b049350611c6d565b826040519080825280601f01601f191660200182016040528015611cc65781602001602082028038833980820191505090505b5091506001830390505b600086141515611d6557600a86811515611ce657fe5b066030017f010000000000000000000000000000000000000000000000000000000000000002828280600190039350815181101515611d2157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a86811515611d5d57fe5b049550611cd0565b8194505b50505050919050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff1694506000851415611ddc576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509550611edc565b8493505b600084141515611e06578280600101935050600a84811515611dfe57fe5b049350611de0565b826040519080825280601f01601f191660200182016040528015611e395781602001602082028038833980820191505090505b5091506001830390505b600085141515611ed857600a85811515611e5957fe5b066030017f010000000000000000000000000000000000000000000000000000000000000002828280600190039350815181101515611e9457fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a85811515611ed057fe5b049450611e43565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f6c9190614a6e565b602060405180830381600087803b158015611f8657600080fd5b505af1158015611f9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611fbe9190810190614214565b95506000945089604051908082528060200260200182016040528015611ff35781602001602082028038833980820191505090505b50935060009250600091505b8a518210156121da578a8281518110151561201657fe5b90602001906020020151156121cd578573ffffffffffffffffffffffffffffffffffffffff1663d8ac595761204d60018501611c1b565b8b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612087929190614a0e565b602060405180830381600087803b1580156120a157600080fd5b505af11580156120b5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506120d991908101906141c2565b90508073ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561213f57600080fd5b505af1158015612153573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612177919081019061423d565b8501945080848480600101955081518110151561219057fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8180600101925050611fff565b838597509750505050505050935093915050565b606080600080600080600060606008890260405190808252806020026020018201604052801561223257816020015b606081526020019060019003908161221d5790505b509650600095505b8951861015612bd157898681518110151561225157fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156122ca57600080fd5b505af11580156122de573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612302919081019061423d565b831215612bc4578473ffffffffffffffffffffffffffffffffffffffff16633dd2b614846040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161235e91906149ca565b602060405180830381600087803b15801561237857600080fd5b505af115801561238c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506123b091908101906141eb565b9150600093506125b78273ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161240c90614bc8565b600060405180830381600087803b15801561242657600080fd5b505af115801561243a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506124639190810190614266565b8373ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016124b690614daa565b600060405180830381600087803b1580156124d057600080fd5b505af11580156124e4573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061250d9190810190614266565b8473ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161256090614b05565b602060405180830381600087803b15801561257a57600080fd5b505af115801561258e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506125b29190810190613fee565b613312565b9050600381511415156125ff576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016125f690614a90565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161265290614d15565b600060405180830381600087803b15801561266c57600080fd5b505af1158015612680573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506126a99190810190614266565b878585600802018151811015156126bc57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161271c90614b73565b600060405180830381600087803b15801561273657600080fd5b505af115801561274a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506127739190810190614266565b8785600101955085856008020181518110151561278c57fe5b906020019060200201819052508060008151811015156127a857fe5b90602001906020020151878560010195508585600802018151811015156127cb57fe5b906020019060200201819052508060018151811015156127e757fe5b906020019060200201518785600101955085856008020181518110151561280a57fe5b90602001906020020181905250612999600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633889c9e461290a8573ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016128ae90614c1d565b600060405180830381600087803b1580156128c857600080fd5b505af11580156128dc573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506129059190810190614266565b6138b1565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016129429190614dff565b602060405180830381600087803b15801561295c57600080fd5b505af1158015612970573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061299491908101906142a7565b611c1b565b878560010195508585600802018151811015156129b257fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a1290614ab0565b600060405180830381600087803b158015612a2c57600080fd5b505af1158015612a40573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612a699190810190614266565b87856001019550858560080201815181101515612a8257fe5b90602001906020020181905250612b528273ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae590614c72565b602060405180830381600087803b158015612aff57600080fd5b505af1158015612b13573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612b379190810190613fee565b73ffffffffffffffffffffffffffffffffffffffff16611d72565b87856001019550858560080201815181101515612b6b57fe5b90602001906020020181905250806002815181101515612b8757fe5b9060200190602002015187856001","019550858560080201815181101515612baa57fe5b906020019060200201819052508280600101935050612266565b858060010196505061223a565b8697505050505050505092915050565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c5e9190614a6e565b602060405180830381600087803b158015612c7857600080fd5b505af1158015612c8c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612cb09190810190614214565b91508173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015612d1657600080fd5b505af1158015612d2a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612d4e91908101906141eb565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4612d966002600160028054905003815481101515612d8657fe5b9060005260206000200154611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612dce9190614ce0565b600060405180830381600087803b158015612de857600080fd5b505af1158015612dfc573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4612e2589611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612e5d9190614b93565b600060405180830381600087803b158015612e7757600080fd5b505af1158015612e8b573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4612eb48a611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612eec9190614d35565b600060405180830381600087803b158015612f0657600080fd5b505af1158015612f1a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4612f71886002815181101515612f4c57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612fa99190614be8565b600060405180830381600087803b158015612fc357600080fd5b505af1158015612fd7573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461302e88600381518110151561300957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130669190614dca565b600060405180830381600087803b15801561308057600080fd5b505af1158015613094573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98760018151811015156130c357fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131059190614c92565b600060405180830381600087803b15801561311f57600080fd5b505af1158015613133573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461315c87611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131949190614c3d565b600060405180830381600087803b1580156131ae57600080fd5b505af11580156131c2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98760008151811015156131f157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132339190614b25565b600060405180830381600087803b15801561324d57600080fd5b505af1158015613261573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb485600081518110151561329057fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132d29190614ad0565b600060405180830381600087803b1580156132ec57600080fd5b505af1158015613300573d6000803e3d6000fd5b50505050809250505095945050505050565b606080600080600360405190808252806020026020018201604052801561334d57816020015b60608152602001906001900390816133385790505b50925060008751118015613396575061336587613a82565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b1561352057600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade66133e289613a82565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161341a91906148e1565b602060405180830381600087803b15801561343457600080fd5b505af1158015613448573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061346c9190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156134e0576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016134d790614cc0565b60405180910390fd5b6134ff8173ffffffffffffffffffffffffffffffffffffffff16611d72565b83600081518110151561350e57fe5b9060200190602002018190525061353e565b8683600081518110151561353057fe5b906020019060200201819052505b60008651118015613584575061355386613a82565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b1561370e57600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade66135d088613a82565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161360891906148e1565b602060405180830381600087803b15801561362257600080fd5b505af1158015613636573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061365a9190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156136ce576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016136c590614b53565b60405180910390fd5b6136ed8173ffffffffffffffffffffffffffffffffffffffff16611d72565b8360018151811015156136fc57fe5b9060200190602002018190525061372c565b8583600181518110151561371e57fe5b906020019060200201819052505b600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade6866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016137a391906148e1565b602060405180830381600087803b1580156137bd57600080fd5b505af11580156137d1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506137f59190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613869576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161386090614d8a565b60405180910390fd5b6138888173ffffffffffffffffffffffffffffffffffffffff16611d72565b83600281518110151561389757fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613a7757603083828151811015156138dd57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff16101580156139db57506039838281518110151561396757fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613a6a57603083828151811015156139f057fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b80806001019150506138c4565b819350505050919050565b6000606060008084925060009150600090505b8251811015613c485760308382815181101515613aae57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bac575060398382815181101515613b3857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000","000000000000000000000000000000900460ff1611155b15613c3b5760308382815181101515613bc157fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613a95565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613c818235615038565b905092915050565b6000613c958251615038565b905092915050565b600082601f8301121515613cb057600080fd5b8135613cc3613cbe82614e47565b614e1a565b91508181835260208401935060208101905083856020840282011115613ce857600080fd5b60005b83811015613d185781613cfe8882613c75565b845260208401935060208301925050600181019050613ceb565b5050505092915050565b600082601f8301121515613d3557600080fd5b8135613d48613d4382614e6f565b614e1a565b91508181835260208401935060208101905083856020840282011115613d6d57600080fd5b60005b83811015613d9d5781613d838882613ef2565b845260208401935060208301925050600181019050613d70565b5050505092915050565b600082601f8301121515613dba57600080fd5b8135613dcd613dc882614e97565b614e1a565b9150818183526020840193506020810190508360005b83811015613e135781358601613df98882613f1a565b845260208401935060208301925050600181019050613de3565b5050505092915050565b600082601f8301121515613e3057600080fd5b8135613e43613e3e82614ebf565b614e1a565b91508181835260208401935060208101905083856020840282011115613e6857600080fd5b60005b83811015613e985781613e7e8882613fc6565b845260208401935060208301925050600181019050613e6b565b5050505092915050565b6000613eae8251615058565b905092915050565b6000613ec2825161506a565b905092915050565b6000613ed6825161507c565b905092915050565b6000613eea825161508e565b905092915050565b6000613efe82356150a0565b905092915050565b6000613f1282516150a0565b905092915050565b600082601f8301121515613f2d57600080fd5b8135613f40613f3b82614ee7565b614e1a565b91508082526020830160208301858383011115613f5c57600080fd5b613f678382846150d8565b50505092915050565b600082601f8301121515613f8357600080fd5b8151613f96613f9182614f13565b614e1a565b91508082526020830160208301858383011115613fb257600080fd5b613fbd8382846150e7565b50505092915050565b6000613fd282356150aa565b905092915050565b6000613fe682516150aa565b905092915050565b60006020828403121561400057600080fd5b600061400e84828501613c89565b91505092915050565b60008060006060848603121561402c57600080fd5b600084013567ffffffffffffffff81111561404657600080fd5b61405286828701613c9d565b935050602061406386828701613fc6565b925050604084013567ffffffffffffffff81111561408057600080fd5b61408c86828701613da7565b9150509250925092565b600080604083850312156140a957600080fd5b600083013567ffffffffffffffff8111156140c357600080fd5b6140cf85828601613e1d565b925050602083013567ffffffffffffffff8111156140ec57600080fd5b6140f885828601613c9d565b9150509250929050565b60008060006060848603121561411757600080fd5b600084013567ffffffffffffffff81111561413157600080fd5b61413d86828701613e1d565b935050602084013567ffffffffffffffff81111561415a57600080fd5b61416686828701613c9d565b925050604084013567ffffffffffffffff81111561418357600080fd5b61418f86828701613d22565b9150509250925092565b6000602082840312156141ab57600080fd5b60006141b984828501613ea2565b91505092915050565b6000602082840312156141d457600080fd5b60006141e284828501613eb6565b91505092915050565b6000602082840312156141fd57600080fd5b600061420b84828501613eca565b91505092915050565b60006020828403121561422657600080fd5b600061423484828501613ede565b91505092915050565b60006020828403121561424f57600080fd5b600061425d84828501613f06565b91505092915050565b60006020828403121561427857600080fd5b600082015167ffffffffffffffff81111561429257600080fd5b61429e84828501613f70565b91505092915050565b6000602082840312156142b957600080fd5b60006142c784828501613fda565b91505092915050565b600080604083850312156142e357600080fd5b60006142f185828601613fda565b925050602083015167ffffffffffffffff81111561430e57600080fd5b61431a85828601613f70565b9150509250929050565b61432d81614ff8565b82525050565b600061433e82614f82565b80845260208401935061435083614f3f565b60005b8281101561438257614366868351614324565b61436f82614fc4565b9150602086019550600181019050614353565b50849250505092915050565b600061439982614f8d565b8084526020840193506143ab83614f4c565b60005b828110156143dd576143c18683516144a2565b6143ca82614fd1565b91506020860195506001810190506143ae565b50849250505092915050565b60006143f482614f98565b8084526020840193508360208202850161440d85614f59565b60005b84811015614446578383038852614428838351614514565b925061443382614fde565b9150602088019750600181019050614410565b508196508694505050505092915050565b61446081614fa3565b61446982614f66565b60005b8281101561449b5761447f8583516148d2565b61448882614feb565b915060208501945060018101905061446c565b5050505050565b6144ab81615018565b82525050565b6144ba816150b4565b82525050565b6144c9816150c6565b82525050565b6144d881615024565b82525050565b60006144e982614fb9565b8084526144fd8160208601602086016150e7565b6145068161511a565b602085010191505092915050565b600061451f82614fae565b8084526145338160208601602086016150e7565b61453c8161511a565b602085010191505092915050565b6000815460018116600081146145675760018114614587576145c8565b607f600283041680865260ff1983166020870152604086019350506145c8565b6002820480865260208601955061459d85614f70565b60005b828110156145bf578154818901526001820191506020810190506145a0565b80880195505050505b505092915050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600682527f6e6f7465496400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6148db8161502e565b82525050565b60006020820190506148f66000830184614324565b92915050565b600060808201905081810360008301526149168187614333565b905061492560208301866148d2565b818103604083015261493781856143e9565b905061494660608301846144cf565b95945050505050565b60006040820190508181036000830152614969818561438e565b905061497860208301846148d2565b9392505050565b6000602082019050818103600083015261499981846143e9565b905092915050565b60006060820190506149b660008301856144a2565b6149c36020830184614457565b9392505050565b60006020820190506149df60008301846144cf565b92915050565b60006040820190506149fa60008301856144cf565b614a0760208301846144cf565b9392505050565b60006040820190508181036000830152614a2881856144de565b9050614a3760208301846144b1565b9392505050565b60006040820190508181036000830152614a5881856144de565b9050614a6760208301846144c0565b9392505050565b60006020820190508181036000830152614a88818461454a565b905092915050565b60006020820190508181036000830152614aa9816145d0565b9050919050565b60006020820190508181036000830152614ac981614607565b9050919050565b60006040820190508181036000830152614ae981614607565b90508181036020830152614afd8184614514565b905092915050565b60006020820190508181036000830152614b1e8161463e565b9050919050565b60006040820190508181036000830152614b3e8161463e565b9050614b4d6020830184614324565b92915050565b60006020820190508181036000830152614b6c81614675565b9050919050565b60006020820190508181036000830152614b8c816146ac565b9050919050565b6000","6040820190508181036000830152614bac816146ac565b90508181036020830152614bc081846144de565b905092915050565b60006020820190508181036000830152614be1816146e3565b9050919050565b60006040820190508181036000830152614c01816146e3565b90508181036020830152614c1581846144de565b905092915050565b60006020820190508181036000830152614c368161471a565b9050919050565b60006040820190508181036000830152614c568161471a565b90508181036020830152614c6a81846144de565b905092915050565b60006020820190508181036000830152614c8b81614751565b9050919050565b60006040820190508181036000830152614cab81614751565b9050614cba6020830184614324565b92915050565b60006020820190508181036000830152614cd981614788565b9050919050565b60006040820190508181036000830152614cf9816147bf565b90508181036020830152614d0d81846144de565b905092915050565b60006020820190508181036000830152614d2e816147f6565b9050919050565b60006040820190508181036000830152614d4e816147f6565b90508181036020830152614d6281846144de565b905092915050565b60006020820190508181036000830152614d838161482d565b9050919050565b60006020820190508181036000830152614da381614864565b9050919050565b60006020820190508181036000830152614dc38161489b565b9050919050565b60006040820190508181036000830152614de38161489b565b90508181036020830152614df781846144de565b905092915050565b6000602082019050614e1460008301846148d2565b92915050565b6000604051905081810181811067ffffffffffffffff82111715614e3d57600080fd5b8060405250919050565b600067ffffffffffffffff821115614e5e57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614e8657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614eae57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614ed657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614efe57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115614f2a57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600061506382614ff8565b9050919050565b600061507582614ff8565b9050919050565b600061508782614ff8565b9050919050565b600061509982614ff8565b9050919050565b6000819050919050565b6000819050919050565b60006150bf82614ff8565b9050919050565b60006150d182614ff8565b9050919050565b82818337600083830152505050565b60005b838110156151055780820151818401526020810190506150ea565b83811115615114576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a723058201c7873bac1cfcecb309f914d72ecc5846ad312951353d6f4b9a7034d8a405fd86c6578706572696d656e74616cf50037"};
+    public static final String[] SM_BINARY_ARRAY = {"60806040526040805190810160405280600681526020017f7075626c69630000000000000000000000000000000000000000000000000000815250600090805190602001906300000053929190630000147d565b506040805190810160405280600581526020017f6f776e65720000000000000000000000000000000000000000000000000000008152506001908051906020019063000000a3929190630000147d565b506040805190810160405280600581526020017f61646d696e0000000000000000000000000000000000000000000000000000008152506002908051906020019063000000f3929190630000147d565b506040805190810160405280600281526020017f5f72000000000000000000000000000000000000000000000000000000000000815250600390805190602001906300000143929190630000147d565b506040805190810160405280600281526020017f5f77000000000000000000000000000000000000000000000000000000000000815250600490805190602001906300000193929190630000147d565b506040805190810160405280600381526020017f616c6c00000000000000000000000000000000000000000000000000000000008152506005908051906020019063000001e3929190630000147d565b506040805190810160405280600281526020017f6964000000000000000000000000000000000000000000000000000000000000815250600690805190602001906300000233929190630000147d565b506040805190810160405280600481526020017f6164647200000000000000000000000000000000000000000000000000000000815250600790805190602001906300000283929190630000147d565b506040805190810160405280600481526020017f74797065000000000000000000000000000000000000000000000000000000008152506008908051906020019063000002d3929190630000147d565b506040805190810160405280600481526020017f726f6c6500000000000000000000000000000000000000000000000000000000815250600990805190602001906300000323929190630000147d565b506040805190810160405280600781526020017f7075625f6b657900000000000000000000000000000000000000000000000000815250600a90805190602001906300000373929190630000147d565b506040805190810160405280600481526020017f6461746100000000000000000000000000000000000000000000000000000000815250600b908051906020019063000003c3929190630000147d565b506040805190810160405280600681526020017f726f6c655f720000000000000000000000000000000000000000000000000000815250600c90805190602001906300000413929190630000147d565b506040805190810160405280600681526020017f726f6c655f770000000000000000000000000000000000000000000000000000815250600d90805190602001906300000463929190630000147d565b506040805190810160405280600c81526020017f6f70656e696e675f62616e6b0000000000000000000000000000000000000000815250600e908051906020019063000004b3929190630000147d565b506040805190810160405280600681526020017f6173736574730000000000000000000000000000000000000000000000000000815250600f90805190602001906300000503929190630000147d565b506040805190810160405280600781526020017f62616c616e636500000000000000000000000000000000000000000000000000815250601090805190602001906300000553929190630000147d565b506040805190810160405280600681526020017f7265636f726400000000000000000000000000000000000000000000000000008152506011908051906020019063000005a3929190630000147d565b506040805190810160405280600581526020017f61646d696e0000000000000000000000000000000000000000000000000000008152506012908051906020019063000005f3929190630000147d565b506040805190810160405280600881526020017f6f70657261746f72000000000000000000000000000000000000000000000000815250601390805190602001906300000643929190630000147d565b506040805190810160405280600581526020017f6f776e6572000000000000000000000000000000000000000000000000000000815250601490805190602001906300000693929190630000147d565b506040805190810160405280600481526020017f75736572000000000000000000000000000000000000000000000000000000008152506015908051906020019063000006e3929190630000147d565b5062010001601660006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010002601760006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010003601860006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555062010004601960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550348015630000080257600080fd5b50604051630001c7cb380380630001c7cb8339810180604052630000082c91908101906300001770565b8383606063000008683073ffffffffffffffffffffffffffffffffffffffff1663000010096401000000000263000105a5176401000000009004565b9050630000093560068054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015630000090d5780601f1063000008e057610100808354040283529160200191630000090d565b820191906000526020600020905b81548152906001019060200180831163000008ee57829003601f168201915b505050505082601b63000010f264010000000002630000dca917909291906401000000009004565b5082601e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801563000009ff57600080fd5b505af11580156300000a15573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000a3d91908101906300001741565b601f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156300000b0557600080fd5b505af11580156300000b1b573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000b4391908101906300001741565b602060006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff161415156300000c035781601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506300000c45565b30601a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b505050600085511180156300000c5c575060408551105b15156300000ca3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016300000c9a906300001aee565b60405180910390fd5b80602360006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081156300000ee7578273ffffffffffffffffffffffffffffffffffffffff1663491bae946040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156300000d5257600080fd5b505af11580156300000d68573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000d9091908101906300001741565b85846300000d9e630000150b565b6300000dae939291906300001a7e565b604051809103906000f0801580156300000dcc573d6000803e3d6000fd5b50602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c035c526602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff166040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016300000eaa919063000019e3565b600060405180830381600087803b1580156300000ec657600080fd5b505af11580156300000edc573d6000803e3d6000fd5b505050506300000ffd565b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16637c706c92866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016300000f6291906300001ac8565b602060405180830381600087803b1580156300000f7e57600080fd5b505af11580156300000f94573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506300000fbc91908101906300001741565b602260006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505b5050","5050506300001c38565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f19166020018201604052801563000010565781602001602082028038833980820191505090505b509250600090505b601481101563000010eb578181601481101515630000107957fe5b1a7f010000000000000000000000000000000000000000000000000000000000000002838281518110151563000010ac57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050630000105e565b5050919050565b60008084600001846040518082805190602001908083835b60208310151563000011335780518252602082019150602081019050602083039250630000110a565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001549050600081111563000012fa577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b602083101515630000120f578051825260208201915060208101905060208303925063000011e6565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101604051630000125a9594939291906300001a02565b60405180910390a18285600001856040518082805190602001908083835b60208310151563000012a157805182526020820191506020810190506020830392506300001278565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600101908051906020019063000012ee929190630000151d565b50600191506300001475565b8285600001856040518082805190602001908083835b602083101515630000133957805182526020820191506020810190506020830392506300001310565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906300001386929190630000151d565b5084600101805480919060010163000013a1919063000015ab565b90506001810185600001856040518082805190602001908083835b60208310151563000013e5578051825260208201915060208101905060208303925063000013bc565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000181905550838560010182815481101515630000143357fe5b90600052602060002090600202016000019080519060200190630000145b929190630000151d565b508460020160008154809291906001019190505550600091505b509392505050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f1063000014c257805160ff191683800117855563000014f6565b8280016001018555821563000014f6579182015b8281111563000014f557825182559160200191906001019063000014d6565b5b5090506300001507919063000015e3565b5090565b6040516157e2806300016fe983390190565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10630000156257805160ff19168380011785556300001596565b828001600101855582156300001596579182015b8281111563000015955782518255916020019190600101906300001576565b5b50905063000015a7919063000015e3565b5090565b81548183558181111563000015de5760020281600202836000526020600020918201910163000015dd9190630000160e565b5b505050565b630000160b91905b80821115630000160757600081600090555060010163000015eb565b5090565b90565b630000165891905b808211156300001654576000808201600063000016359190630000165b565b6001820160006101000a81549060ff0219169055506002016300001616565b5090565b90565b50805460018160011615610100020316600290046000825580601f106300001685575063000016a8565b601f01602090049060005260206000209081019063000016a7919063000015e3565b5b50565b600063000016bb82516300001bc2565b905092915050565b600063000016d382516300001be2565b905092915050565b600082601f830112151563000016f057600080fd5b8151630000170b6300001704826300001b41565b6300001b12565b91508082526020830160208301858383011115630000172957600080fd5b63000017388382846300001bee565b50505092915050565b600060208284031215630000175557600080fd5b600063000017678482850163000016ab565b91505092915050565b600080600080600060a08688031215630000178a57600080fd5b600086015167ffffffffffffffff81111563000017a657600080fd5b63000017b68882890163000016db565b955050602063000017cb8882890163000016ab565b945050604063000017e08882890163000016ab565b935050606063000017f58882890163000016c3565b9250506080630000180a8882890163000016ab565b9150509295509295909350565b6300001824816300001ba2565b82525050565b60006300001839826300001b8c565b80845263000018518160208601602086016300001bee565b630000185e816300001c27565b602085010191505092915050565b6000630000187b826300001b81565b80845263000018938160208601602086016300001bee565b63000018a0816300001c27565b602085010191505092915050565b60008154600181166000811463000018d1576001811463000018f357630000193c565b607f600283041680865260ff198316602087015260408601935050630000193c565b60028204808652602086019550630000190d856300001b6f565b60005b828110156300001933578154818901526001820191506020810190506300001910565b80880195505050505b505092915050565b60006300001953826300001b97565b808452630000196b8160208601602086016300001bee565b6300001978816300001c27565b602085010191505092915050565b6000602e82527f61737365744e616d652073686f756c64206265206e6f74206e756c6c20616e6460208301527f206c657373207468616e203634200000000000000000000000000000000000006040830152606082019050919050565b600060208201905063000019fc60008301846300001817565b92915050565b600060a0820190506300001a1b60008301886300001817565b6300001a2c60208301876300001817565b81810360408301526300001a428186630000186c565b905081810360608301526300001a5a8185630000182a565b905081810360808301526300001a72818463000018ae565b90509695505050505050565b60006060820190506300001a9760008301866300001817565b81810360208301526300001aad81856300001944565b90506300001ac060408301846300001817565b949350505050565b600060208201905081810360008301526300001ae681846300001944565b905092915050565b600060208201905081810360008301526300001b0b816300001986565b9050919050565b6000604051905081810181811067ffffffffffffffff821117156300001b3757600080fd5b8060405250919050565b600067ffffffffffffffff8211156300001b5a57600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b60005b838110156300001c105780820151818401526020810190506300001bf1565b838111156300001c21576000848401525b50505050565b6000601f19601f8301169050919050565b6201539f806300001c4a6000396000f30060806040526004361062000395576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff1680622d657a146200039a5780623653c314620003de57806309108b1714620004235780630bc95c7914620004675780630c9481b914620004975780630e199f2b14620004c7578063112da303146200050c5780631191aacd146200053c5780631500025a14620005805780631a1f1cd214620005b05780631ddd996e14620005e05780632adcd39014620006245780632ea4f77014620006695780633055ae8114620006ae5780633280e06214620006f25780633889c9e414620007365780633cfd6e12146200077a5780634203380114620007be5780634425c42614620007ee57806347757031146200081e57806347a6caff146200086257806351cf770814620008a657806355e2d12014620008ea578063567f283614620009305780635739967d14620009605780635c7540bc14620009a45780635edfd6fa14620009d45780635f12ec2e1462000a0457806361e020cb1462000a3457806367e09af51462000a785780636a03849d1462000aa857806374b00d531462000aec578063752e977d1462000b1c578063769fe3421462000b615780637de83c701462000b915780637e3a1ef41462000bd55780637e6f287c1462000c055780637f00af971462000c495780638930d16e1462000c795780638a4451f51462000cbe5780638ed13ef51462000cee578063937caf021462000d32578063980683641462000d76578063a13d46e81462000da6578063a4fd77111462000dea578063a7febe3a1462000e2e578063ad07c37a1462000e72578063aed3d64b1462000eb6578063b09a50fe1462000efa578063b32941d81462000f2a578063bc2d4b211462000f5a578063bcc6cdb61462000f8a578063bced95351462000fba578063bf0e94fe1462000fea578063bfabb86d146200102e578063c03fd5e7146200105e578063c3b484f3146200108e578063c6125d0c14620010d4578063d1281a781462001104578063d3e9af5a1462001134578063d3f19ae01462001164578063d617f06d1462001192578063d7e7948f14620011c2578063e3fbfc3f14620011f2578063e92139da1462001236578063ece272e31462001266578063ee19b0cf1462001296578063ee44d37414620012c6578063f0c9f25a146200130d578063f6cb4bc51462001351578063f97669941462001381578063fd442d0514620013c5575b600080fd5b348015620003a757600080fd5b50620003c66004803603620003c0","919081019062011e1c565b62001409565b604051620003d59190620143e1565b60405180910390f35b348015620003eb57600080fd5b506200040a600480360362000404919081019062011e5d565b62001793565b6040516200041a929190620142c1565b60405180910390f35b3480156200043057600080fd5b506200044f6004803603620004499190810190620113ac565b620019d9565b6040516200045e9190620143e1565b60405180910390f35b3480156200047457600080fd5b506200047f620021ac565b6040516200048e9190620137e8565b60405180910390f35b348015620004a457600080fd5b50620004af620021d2565b604051620004be919062014432565b60405180910390f35b348015620004d457600080fd5b50620004f36004803603620004ed9190810190620115cb565b62002274565b60405162000503929190620143fe565b60405180910390f35b3480156200051957600080fd5b506200052462002c91565b60405162000533919062014432565b60405180910390f35b3480156200054957600080fd5b50620005686004803603620005629190810190620115cb565b62002d33565b604051620005779190620141bc565b60405180910390f35b3480156200058d57600080fd5b506200059862003247565b604051620005a79190620137e8565b60405180910390f35b348015620005bd57600080fd5b50620005c862003310565b604051620005d7919062014432565b60405180910390f35b348015620005ed57600080fd5b506200060c600480360362000606919081019062011d41565b620033b2565b6040516200061b9190620143e1565b60405180910390f35b3480156200063157600080fd5b506200065060048036036200064a919081019062012098565b62003b72565b6040516200066092919062014d8c565b60405180910390f35b3480156200067657600080fd5b506200069560048036036200068f919081019062011d41565b62003d02565b604051620006a5929190620142c1565b60405180910390f35b348015620006bb57600080fd5b50620006da6004803603620006d4919081019062011b4f565b62004304565b604051620006e9919062014456565b60405180910390f35b348015620006ff57600080fd5b506200071e600480360362000718919081019062011f53565b62004510565b6040516200072d9190620143e1565b60405180910390f35b3480156200074357600080fd5b506200076260048036036200075c919081019062011ce9565b62004fe5565b60405162000771919062014cac565b60405180910390f35b3480156200078757600080fd5b50620007a66004803603620007a0919081019062011d41565b620050bd565b604051620007b59190620143e1565b60405180910390f35b348015620007cb57600080fd5b50620007d662005a63565b604051620007e5919062014432565b60405180910390f35b348015620007fb57600080fd5b506200080662005b05565b60405162000815919062014cac565b60405180910390f35b3480156200082b57600080fd5b506200084a6004803603620008449190810190620113ac565b62005b2d565b60405162000859919062014320565b60405180910390f35b3480156200086f57600080fd5b506200088e600480360362000888919081019062011c61565b62005e1d565b6040516200089d9190620143e1565b60405180910390f35b348015620008b357600080fd5b50620008d26004803603620008cc919081019062011c61565b6200606a565b604051620008e19190620143e1565b60405180910390f35b348015620008f757600080fd5b50620009166004803603620009109190810190620115cb565b620062b7565b604051620009279392919062014d41565b60405180910390f35b3480156200093d57600080fd5b5062000948620065df565b60405162000957919062014cac565b60405180910390f35b3480156200096d57600080fd5b506200098c6004803603620009869190810190620113ac565b620065e9565b6040516200099b919062014cac565b60405180910390f35b348015620009b157600080fd5b50620009bc62006b08565b604051620009cb9190620137e8565b60405180910390f35b348015620009e157600080fd5b50620009ec62006b32565b604051620009fb919062014432565b60405180910390f35b34801562000a1157600080fd5b5062000a1c62006bd4565b60405162000a2b9190620137e8565b60405180910390f35b34801562000a4157600080fd5b5062000a60600480360362000a5a919081019062011bee565b62006bfe565b60405162000a6f9190620143e1565b60405180910390f35b34801562000a8557600080fd5b5062000a9062006e0d565b60405162000a9f919062014432565b60405180910390f35b34801562000ab557600080fd5b5062000ad4600480360362000ace919081019062011e1c565b62006eaf565b60405162000ae3919062014cac565b60405180910390f35b34801562000af957600080fd5b5062000b04620071ad565b60405162000b139190620137e8565b60405180910390f35b34801562000b2957600080fd5b5062000b48600480360362000b42919081019062011682565b620071d3565b60405162000b58929190620143fe565b60405180910390f35b34801562000b6e57600080fd5b5062000b796200746c565b60405162000b88919062014432565b60405180910390f35b34801562000b9e57600080fd5b5062000bbd600480360362000bb791908101906201187a565b6200750e565b60405162000bcc9190620141bc565b60405180910390f35b34801562000be257600080fd5b5062000bed620079c9565b60405162000bfc919062014432565b60405180910390f35b34801562000c1257600080fd5b5062000c31600480360362000c2b919081019062011b4f565b62007a6b565b60405162000c409190620143e1565b60405180910390f35b34801562000c5657600080fd5b5062000c6162007c77565b60405162000c70919062014432565b60405180910390f35b34801562000c8657600080fd5b5062000ca5600480360362000c9f919081019062011fbf565b62007d19565b60405162000cb592919062014242565b60405180910390f35b34801562000ccb57600080fd5b5062000cd6620081f6565b60405162000ce59190620137e8565b60405180910390f35b34801562000cfb57600080fd5b5062000d1a600480360362000d14919081019062011c61565b6200821c565b60405162000d299190620143e1565b60405180910390f35b34801562000d3f57600080fd5b5062000d5e600480360362000d589190810190620114f0565b62008469565b60405162000d6d919062014cac565b60405180910390f35b34801562000d8357600080fd5b5062000d8e62008547565b60405162000d9d919062014432565b60405180910390f35b34801562000db357600080fd5b5062000dd2600480360362000dcc919081019062011d41565b620085e9565b60405162000de1919062014efa565b60405180910390f35b34801562000df757600080fd5b5062000e16600480360362000e10919081019062011bee565b62008e85565b60405162000e259190620143e1565b60405180910390f35b34801562000e3b57600080fd5b5062000e5a600480360362000e54919081019062012015565b62009094565b60405162000e699190620143e1565b60405180910390f35b34801562000e7f57600080fd5b5062000e9e600480360362000e98919081019062011bee565b62009363565b60405162000ead9190620143e1565b60405180910390f35b34801562000ec357600080fd5b5062000ee2600480360362000edc919081019062011484565b62009572565b60405162000ef1919062014320565b60405180910390f35b34801562000f0757600080fd5b5062000f1262009ae4565b60405162000f21919062014432565b60405180910390f35b34801562000f3757600080fd5b5062000f4262009b86565b60405162000f51919062014432565b60405180910390f35b34801562000f6757600080fd5b5062000f7262009c28565b60405162000f81919062014cac565b60405180910390f35b34801562000f9757600080fd5b5062000fa262009cf1565b60405162000fb1919062014432565b60405180910390f35b34801562000fc757600080fd5b5062000fd262009d93565b60405162000fe1919062014432565b60405180910390f35b34801562000ff757600080fd5b50620010166004803603620010109190810190620119a3565b62009e35565b604051620010259190620142fc565b60405180910390f35b3480156200103b57600080fd5b50620010466200aaf9565b60405162001055919062014432565b60405180910390f35b3480156200106b57600080fd5b50620010766200ab9b565b604051620010859190620137e8565b60405180910390f35b3480156200109b57600080fd5b50620010ba6004803603620010b4919081019062011484565b6200abc1565b604051620010cb9392919062014396565b60405180910390f35b348015620010e157600080fd5b50620010ec6200b0f4565b604051620010fb919062014432565b60405180910390f35b3480156200111157600080fd5b506200111c6200b196565b6040516200112b919062014432565b60405180910390f35b3480156200114157600080fd5b506200114c6200b238565b6040516200115b919062014cac565b60405180910390f35b3480156200117157600080fd5b506200119060048036036200118a919081019062011d97565b6200b24b565b005b3480156200119f57600080fd5b50620011aa6200b54a565b604051620011b9919062014432565b60405180910390f35b348015620011cf57600080fd5b50620011da6200b5ec565b604051620011e9919062014432565b60405180910390f35b348015620011ff57600080fd5b506200121e600480360362001218919081019062011b94565b6200b68e565b6040516200122d9190620143e1565b60405180910390f35b3480156200124357600080fd5b506200124e6200b8c4565b6040516200125d9190620137e8565b60405180910390f35b3480156200127357600080fd5b506200127e6200b98d565b6040516200128d919062014432565b60405180910390f35b348015620012a357600080fd5b50620012ae6200ba2f565b604051620012bd919062014432565b60405180910390f35b348015620012d357600080fd5b50620012f26004803603620012ec919081019062011d41565b6200bad1565b604051620013049493929190620141e0565b60405180910390f35b3480156200131a57600080fd5b506200133960048036036200133391908101906201187a565b6200bf23565b60405162001348919062014cac565b60405180910390f35b3480156200135e57600080fd5b50620013696200c24c565b60405162001378919062014432565b60405180910390f35b3480156200138e57600080fd5b50620013ad6004803603620013a7919081019062011b94565b6200c2ee565b604051620013bc91","9062014456565b60405180910390f35b348015620013d257600080fd5b50620013f16004803603620013eb91908101906201142e565b6200c523565b604051620014009190620143e1565b60405180910390f35b600060606000806200142586846200ca4690919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620014c8949392919062013ab2565b6040805180830381600087803b158015620014e257600080fd5b505af1158015620014f7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200151d9190810190620113ed565b80925081935050508015156200156a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620015619062014c68565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620015e39190620137e8565b602060405180830381600087803b158015620015fe57600080fd5b505af115801562001613573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001639919081019062011ae2565b15156200167d576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200167490620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cbe12dc7876040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620016f6919062014cac565b602060405180830381600087803b1580156200171157600080fd5b505af115801562001726573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200174c919081019062011ae2565b93507faf922676779eb034e41b958c12c47328d4058583c40566a2e5c31012e6593469866040516200177f919062014cac565b60405180910390a183935050505092915050565b60608083601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620018109190620137e8565b602060405180830381600087803b1580156200182b57600080fd5b505af115801562001840573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001866919081019062011ae2565b1515620018aa576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620018a190620145e6565b60405180910390fd5b620018b988888888886200ca66565b7f8dcf662579312a6f3ecd08d37f0e928564204a6a27ab872bea0f69082a9ea09688604051620018ea919062014cac565b60405180910390a1602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166316b4be228989896040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200196f9392919062014cf6565b600060405180830381600087803b1580156200198a57600080fd5b505af11580156200199f573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250620019ca9190810190620118a6565b92509250509550959350505050565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001a5d9190620137e8565b602060405180830381600087803b15801562001a7857600080fd5b505af115801562001a8d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001ab3919081019062011ae2565b151562001af7576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162001aee90620145e6565b60405180910390fd5b62001b0c89876200d23690919063ffffffff16565b9550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001baf949392919062013f40565b6040805180830381600087803b15801562001bc957600080fd5b505af115801562001bde573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001c049190810190620113ed565b809550819650505083151562001c51576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162001c489062014806565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a866040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001cca9190620137e8565b602060405180830381600087803b15801562001ce557600080fd5b505af115801562001cfa573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001d20919081019062011ae2565b151562001d64576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162001d5b90620145e6565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001ddd9190620137e8565b602060405180830381600087803b15801562001df857600080fd5b505af115801562001e0d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001e33919081019062011380565b9250602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632d75dd5c846040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001eae9190620137e8565b602060405180830381600087803b15801562001ec957600080fd5b505af115801562001ede573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062001f04919081019062011ae2565b15151562001f49576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162001f4090620145a2565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166327033e768a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162001fc29190620137e8565b602060405180830381600087803b15801562001fdd57600080fd5b505af115801562001ff2573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002018919081019062011380565b91508173ffffffffffffffffffffffffffffffffffffffff1663a8cced2030601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1660006040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002098939291906201447a565b602060405180830381600087803b158015620020b357600080fd5b505af1158015620020c8573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620020ee919081019062011ae2565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663de6cbe78846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620021689190620137e8565b600060405180830381600087803b1580156200218357600080fd5b505af115801562002198573d6000803e3d6000fd5b505050506001965050505050505092915050565b601960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60098054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200226c5780601f1062002240576101008083540402835291602001916200226c565b820191906000526020600020905b8154815290600101906020018083116200224e57829003601f168201915b505050505081565b60006060806000806000806200228962010925565b620022978c8c8c8c62002d33565b9b508a51600302604051908082528060200260200182016040528015620022cd5781602001602082028038833980820191505090505b509550600093505b8a518410156200292557602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68c868151811015156200232c57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002370919062014cac565b602060405180830381600087803b1580156200238b57600080fd5b505af1158015620023a0573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040","5250620023c6919081019062011ae2565b6200247b6040805190810160405280600f81526020017f20646f65736e27742065786973742100000000000000000000000000000000008152506200246c620024278f898151811015156200241757fe5b906020019060200201516200d256565b6040805190810160405280600781526020017f6e6f74654e6f20000000000000000000000000000000000000000000000000008152506200d3b890919063ffffffff16565b6200d3b890919063ffffffff16565b901515620024c1576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620024b89190620144d4565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663ba6c48238c868151811015156200250f57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002553919062014cac565b602060405180830381600087803b1580156200256e57600080fd5b505af115801562002583573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620025a9919081019062011ae2565b156200265f6040805190810160405280601181526020017f20686173206265656e2065787069726564000000000000000000000000000000815250620026506200260b8f89815181101515620025fb57fe5b906020019060200201516200d256565b6040805190810160405280600781526020017f6e6f74654e6f20000000000000000000000000000000000000000000000000008152506200d3b890919063ffffffff16565b6200d3b890919063ffffffff16565b901515620026a5576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200269c9190620144d4565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fb495f628c86815181101515620026f357fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002737919062014cac565b602060405180830381600087803b1580156200275257600080fd5b505af115801562002767573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200278d919081019062011ae2565b1515620027d1576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620027c8906201484a565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663584fa1ee8c868151811015156200281e57fe5b906020019060200201518e60028151811015156200283857fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200287d92919062014cc9565b602060405180830381600087803b1580156200289857600080fd5b505af1158015620028ad573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620028d3919081019062011ae2565b151562002917576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200290e906201477e565b60405180910390fd5b8380600101945050620022d5565b600091505b8a5182101562002c7b57602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bbb9a8a98d60028151811015156200298257fe5b906020019060200201518e60038151811015156200299c57fe5b906020019060200201518e86815181101515620029b557fe5b906020019060200201516040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620029fb9392919062013a09565b602060405180830381600087803b15801562002a1657600080fd5b505af115801562002a2b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002a51919081019062011d15565b9250602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d12117998d858d6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002ad09392919062014276565b606060405180830381600087803b15801562002aeb57600080fd5b505af115801562002b00573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002b26919081019062011b0e565b809250819650505084151562002b73576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162002b6a90620146b2565b60405180910390fd5b80600060028110151562002b8357fe5b6020020151868360030281518110151562002b9a57fe5b906020019060200201818152505080600160028110151562002bb857fe5b6020020151866001846003020181518110151562002bd257fe5b90602001906020020181815250508a8281518110151562002bef57fe5b90602001906020020151866002846003020181518110151562002c0e57fe5b90602001906020020181815250507f8dcf662579312a6f3ecd08d37f0e928564204a6a27ab872bea0f69082a9ea0968b8381518110151562002c4c57fe5b9060200190602002015160405162002c65919062014cac565b60405180910390a181806001019250506200292a565b6001869750975050505050505094509492505050565b60028054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562002d2b5780601f1062002cff5761010080835404028352916020019162002d2b565b820191906000526020600020905b81548152906001019060200180831162002d0d57829003601f168201915b505050505081565b606060006060600080600073ffffffffffffffffffffffffffffffffffffffff1689600281518110151562002d6457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff161415801562002dd95750600073ffffffffffffffffffffffffffffffffffffffff1689600381518110151562002db657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b151562002e1d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162002e149062014a26565b60405180910390fd5b62002e2a8989896200d592565b925062002e37896200d68b565b809a50819550505083151562002e84576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162002e7b906201495a565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632d75dd5c8a600281518110151562002ed257fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162002f169190620137e8565b602060405180830381600087803b15801562002f3157600080fd5b505af115801562002f46573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062002f6c919081019062011ae2565b151562002fb0576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162002fa79062014ad0565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632d75dd5c8a600381518110151562002ffe57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620030429190620137e8565b602060405180830381600087803b1580156200305d57600080fd5b505af115801562003072573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003098919081019062011ae2565b1515620030dc576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620030d39062014ad0565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168b60028151811015156200314d57fe5b90602001906020020151868a6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620031969493929190620138cb565b6040805180830381600087803b158015620031b057600080fd5b505af1158015620031c5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620031eb9190810190620113ed565b809250819350505080151562003238576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200322f9062014a04565b60405180910390fd5b88945050505050949350505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631500025a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015620032d057600080fd5b505af1158015620032e5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200330b919081019062011380565b905090565b60158054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620033aa5780601f106200337e57610100808354040283529160200191620033aa565b820191906000526020600020905b8154815290600101906020018083116200338c57829003601f168201915b505050505081565b600060","6060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620034369190620137e8565b602060405180830381600087803b1580156200345157600080fd5b505af115801562003466573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200348c919081019062011ae2565b1515620034d0576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620034c790620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003549919062014cac565b602060405180830381600087803b1580156200356457600080fd5b505af115801562003579573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200359f919081019062011ae2565b1515620035e3576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620035da9062014c02565b60405180910390fd5b6200360c89620035fd8c896200ca4690919063ffffffff16565b6200d23690919063ffffffff16565b9550601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620036af949392919062013d2e565b6040805180830381600087803b158015620036c957600080fd5b505af1158015620036de573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620037049190810190620113ed565b8095508196505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620037859190620137e8565b602060405180830381600087803b158015620037a057600080fd5b505af1158015620037b5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620037db919081019062011380565b925083151562003822576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620038199062014580565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b7d061ba8b60056040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200389e92919062014ecd565b602060405180830381600087803b158015620038b957600080fd5b505af1158015620038ce573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620038f4919081019062011d15565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b9282a8f8b856040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200397092919062014cc9565b602060405180830381600087803b1580156200398b57600080fd5b505af1158015620039a0573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620039c6919081019062011d15565b9150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d358eac08b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003a41919062014cac565b600060405180830381600087803b15801562003a5c57600080fd5b505af115801562003a71573d6000803e3d6000fd5b50505050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663482956e060016040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003aef9190620144b7565b600060405180830381600087803b15801562003b0a57600080fd5b505af115801562003b1f573d6000803e3d6000fd5b505050507fabfed65a2687df1b7325e61044af6a3d283deb820e3c410c1bb72cbe29328a038a83600560405162003b599392919062014e90565b60405180910390a1600196505050505050509392505050565b60008062003b7f6200d90a565b8511151562003bc5576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162003bbc9062014828565b60405180910390fd5b600086111562003c215762003bd96200d90a565b861015151562003c20576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162003c17906201486c565b60405180910390fd5b5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632adcd390878787876040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003ca0949392919062014e43565b6040805180830381600087803b15801562003cba57600080fd5b505af115801562003ccf573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003cf5919081019062011f12565b9150915094509492505050565b60608060606000806000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003d85919062014cac565b602060405180830381600087803b15801562003da057600080fd5b505af115801562003db5573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003ddb919081019062011ae2565b151562003e1f576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162003e169062014c02565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0896040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003e989190620137e8565b602060405180830381600087803b15801562003eb357600080fd5b505af115801562003ec8573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003eee919081019062011380565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630878b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162003f91949392919062013faa565b6040805180830381600087803b15801562003fab57600080fd5b505af115801562003fc0573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062003fe69190810190620113ed565b8093508194505050818015620040c95750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc8a836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200407292919062014cc9565b602060405180830381600087803b1580156200408d57600080fd5b505af1158015620040a2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620040c8919081019062011ae2565b5b15156200410d576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200410490620147a0565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620041869190620137e8565b602060405180830381600087803b158015620041a157600080fd5b505af1158015620041b6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620041dc919081019062011ae2565b151562004220576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200421790620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16639f0b2f848a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004299919062014cac565b600060405180830381600087803b158015620042b457600080fd5b505af1158015620042c9573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250620042f49190810190620118a6565b9550955050505050935093915050565b6060601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200441c60038054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290","048015620044075780601f10620043db5761010080835404028352916020019162004407565b820191906000526020600020905b815481529060010190602001808311620043e957829003601f168201915b5050505050886200d91790919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004459949392919062013805565b602060405180830381600087803b1580156200447457600080fd5b505af115801562004489573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620044af919081019062011ae2565b1515620044f3576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620044ea90620148d2565b60405180910390fd5b6200450982601b6200d92d90919063ffffffff16565b9050919050565b60006060600080600086601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620045939190620137e8565b602060405180830381600087803b158015620045ae57600080fd5b505af1158015620045c3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620045e9919081019062011ae2565b15156200462d576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200462490620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620046a6919062014cac565b602060405180830381600087803b158015620046c157600080fd5b505af1158015620046d6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620046fc919081019062011ae2565b151562004740576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620047379062014c02565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620047b9919062014cac565b602060405180830381600087803b158015620047d457600080fd5b505af1158015620047e9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200480f919081019062011ae2565b15151562004854576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200484b9062014b36565b60405180910390fd5b6200489188620048828b620048738e8a6200ca4690919063ffffffff16565b6200ca4690919063ffffffff16565b6200d23690919063ffffffff16565b9450601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0896040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200490c9190620137e8565b602060405180830381600087803b1580156200492757600080fd5b505af11580156200493c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004962919081019062011380565b9150601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004a05949392919062013b1c565b6040805180830381600087803b15801562004a1f57600080fd5b505af115801562004a34573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004a5a9190810190620113ed565b809450819550505082801562004b3d5750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc8b846040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004ae692919062014cc9565b602060405180830381600087803b15801562004b0157600080fd5b505af115801562004b16573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004b3c919081019062011ae2565b5b151562004b81576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162004b789062014b7a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004bfa9190620137e8565b602060405180830381600087803b15801562004c1557600080fd5b505af115801562004c2a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004c50919081019062011ae2565b151562004c94576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162004c8b90620145e6565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638ba6dd028c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004d12919062014cac565b602060405180830381600087803b15801562004d2d57600080fd5b505af115801562004d42573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004d68919081019062012104565b60ff161415801562004e4f5750600560ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638ba6dd028c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004df3919062014cac565b602060405180830381600087803b15801562004e0e57600080fd5b505af115801562004e23573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004e49919081019062012104565b60ff1614155b151562004e93576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162004e8a9062014608565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632a7d22508b8b6040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162004f0e92919062014d8c565b602060405180830381600087803b15801562004f2957600080fd5b505af115801562004f3e573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062004f64919081019062011ae2565b95507f8dcf662579312a6f3ecd08d37f0e928564204a6a27ab872bea0f69082a9ea0968a60405162004f97919062014cac565b60405180910390a17f8dcf662579312a6f3ecd08d37f0e928564204a6a27ab872bea0f69082a9ea0968960405162004fd0919062014cac565b60405180910390a15050505050949350505050565b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633889c9e4836040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005060919062014cac565b602060405180830381600087803b1580156200507b57600080fd5b505af115801562005090573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620050b6919081019062011d15565b9050919050565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620051419190620137e8565b602060405180830381600087803b1580156200515c57600080fd5b505af115801562005171573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005197919081019062011ae2565b1515620051db576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620051d290620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005254919062014cac565b602060405180830381600087803b1580156200526f57600080fd5b505af115801562005284573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620052aa919081019062011ae2565b1515620052ee576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620052e59062014c02565b60405180910390fd5b6200531789620053088c896200ca4690919063ffffffff16565b6200d23690919063ffffffff16565b9550601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620053929190620137e8565b602060405180830381600087803b158015620053ad57600080fd5b505af11580156200","53c2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620053e8919081019062011380565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200548b949392919062013e02565b6040805180830381600087803b158015620054a557600080fd5b505af1158015620054ba573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620054e09190810190620113ed565b8095508196505050838015620055c35750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc8b856040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200556c92919062014cc9565b602060405180830381600087803b1580156200558757600080fd5b505af11580156200559c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620055c2919081019062011ae2565b5b151562005607576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620055fe906201497c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a866040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620056809190620137e8565b602060405180830381600087803b1580156200569b57600080fd5b505af1158015620056b0573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620056d6919081019062011ae2565b15156200571a576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200571190620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005793919062014cac565b602060405180830381600087803b158015620057ae57600080fd5b505af1158015620057c3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620057e9919081019062011ae2565b15156200582d576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620058249062014a8c565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663adaa36178b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620058a6919062014cac565b602060405180830381600087803b158015620058c157600080fd5b505af1158015620058d6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620058fc919081019062011ae2565b151562005940576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162005937906201484a565b60405180910390fd5b60019650602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b7d061ba8b60046040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620059c092919062014ecd565b602060405180830381600087803b158015620059db57600080fd5b505af1158015620059f0573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005a16919081019062011d15565b91507fabfed65a2687df1b7325e61044af6a3d283deb820e3c410c1bb72cbe29328a038a83600460405162005a4e9392919062014e90565b60405180910390a15050505050509392505050565b60138054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562005afd5780601f1062005ad15761010080835404028352916020019162005afd565b820191906000526020600020905b81548152906001019060200180831162005adf57829003601f168201915b505050505081565b600062005b1f60016021546200da4690919063ffffffff16565b602181905550602154905090565b606060006060600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005baf9190620137e8565b602060405180830381600087803b15801562005bca57600080fd5b505af115801562005bdf573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005c05919081019062011380565b9350601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630868a6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005ca8949392919062013e6c565b6040805180830381600087803b15801562005cc257600080fd5b505af115801562005cd7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005cfd9190810190620113ed565b809250819350505080151562005d4a576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162005d4190620147c2565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224a8f2d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801562005dd157600080fd5b505af115801562005de6573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062005e1191908101906201195e565b94505050505092915050565b6000606060008062005e4d8662005e3e89866200d91790919063ffffffff16565b6200d91790919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062005f6460048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562005f4f5780601f1062005f235761010080835404028352916020019162005f4f565b820191906000526020600020905b81548152906001019060200180831162005f3157829003601f168201915b50505050508c6200d91790919063ffffffff16565b878a6040518663ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162005fa495949392919062013a46565b6040805180830381600087803b15801562005fbe57600080fd5b505af115801562005fd3573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062005ff99190810190620113ed565b809250819350505080151562006046576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200603d9062014a6a565b60405180910390fd5b6200605e8787601b6200daa09092919063ffffffff16565b93505050509392505050565b600060606000806200609a866200608b89866200d91790919063ffffffff16565b6200d91790919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630620061b160048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200619c5780601f1062006170576101008083540402835291602001916200619c565b820191906000526020600020905b8154815290600101906020018083116200617e57829003601f168201915b50505050508c6200d91790919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620061f195949392919062013a46565b6040805180830381600087803b1580156200620b57600080fd5b505af115801562006220573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620062469190810190620113ed565b809250819350505080151562006293576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200628a9062014c24565b60405180910390fd5b620062ab8787601b6200dca99092919063ffffffff16565b93505050509392505050565b60006060806000806000606080620062d18c8c8c6200e01d565b620062df8c8c8c8c6200e4fd565b9b5060019450600193508b6003815181101515620062f957fe5b906020019060200201519250602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663393895bf8c60018151811015156200635357fe5b906020019060200201518d60028151811015156200636d57fe5b906020019060200201516040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620063b292919062014d8c565b600060","405180830381600087803b158015620063cd57600080fd5b505af1158015620063e2573d6000803e3d6000fd5b505050506200643f8b6003815181101515620063fa57fe5b906020019060200201518c60048151811015156200641457fe5b906020019060200201518d60008151811015156200642e57fe5b906020019060200201518662003b72565b80955081965050508a60008151811015156200645757fe5b90602001906020020151604051908082528060200260200182016040528015620064905781602001602082028038833980820191505090505b50915060028b6000815181101515620064a557fe5b9060200190602002015102604051908082528060200260200182016040528015620064df5781602001602082028038833980820191505090505b509050620064f08c8c87876200e7ee565b9150620064ff828d8c6200ea3b565b9050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166390f633448c60008151811015156200654f57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006593919062014cac565b600060405180830381600087803b158015620065ae57600080fd5b505af1158015620065c3573d6000803e3d6000fd5b5050505083828297509750975050505050509450945094915050565b6000602154905090565b600080606060008086601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200666b9190620137e8565b602060405180830381600087803b1580156200668657600080fd5b505af11580156200669b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620066c1919081019062011ae2565b151562006705576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620066fc90620145e6565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0896040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200677e9190620137e8565b602060405180830381600087803b1580156200679957600080fd5b505af1158015620067ae573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620067d4919081019062011380565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1687878b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200687794939291906201399f565b6040805180830381600087803b1580156200689157600080fd5b505af1158015620068a6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620068cc9190810190620113ed565b809350819450505081151562006919576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200691090620145c4565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620069929190620137e8565b602060405180830381600087803b158015620069ad57600080fd5b505af1158015620069c2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620069e8919081019062011ae2565b151562006a2c576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162006a2390620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a3909468866040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006aa59190620137e8565b602060405180830381600087803b15801562006ac057600080fd5b505af115801562006ad5573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006afb919081019062011d15565b9550505050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b600b8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562006bcc5780601f1062006ba05761010080835404028352916020019162006bcc565b820191906000526020600020905b81548152906001019060200180831162006bae57829003601f168201915b505050505081565b6000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16905090565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062006d1660048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562006d015780601f1062006cd55761010080835404028352916020019162006d01565b820191906000526020600020905b81548152906001019060200180831162006ce357829003601f168201915b5050505050896200d91790919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006d53949392919062013805565b602060405180830381600087803b15801562006d6e57600080fd5b505af115801562006d83573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006da9919081019062011ae2565b151562006ded576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162006de49062014c24565b60405180910390fd5b62006e058383601b6200dca99092919063ffffffff16565b905092915050565b600a8054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562006ea75780601f1062006e7b5761010080835404028352916020019162006ea7565b820191906000526020600020905b81548152906001019060200180831162006e8957829003601f168201915b505050505081565b6000606060008062006ecb86846200ca4690919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162006f6e949392919062013d98565b6040805180830381600087803b15801562006f8857600080fd5b505af115801562006f9d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062006fc39190810190620113ed565b809250819350505080151562007010576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162007007906201462a565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166303486493876040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007089919062014cac565b602060405180830381600087803b158015620070a457600080fd5b505af1158015620070b9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620070df919081019062011ae2565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16634b0d55e16040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200716757600080fd5b505af11580156200717c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620071a2919081019062011d15565b935050505092915050565b601760009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60006060806060600080620071ec8b8b8b8b8b6200ed26565b9a508851600302604051908082528060200260200182016040528015620072225781602001602082028038833980820191505090505b5093506004604051908082528060200260200182016040528015620072565781602001602082028038833980820191505090505b5092508a60008151811015156200726957fe5b906020019060200201518360008151811015156200728357fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a6001815181101515620072cf57fe5b90602001906020020151836001815181101515620072e957fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508a60028151811015156200733557fe5b906020019060200201518360028151811015156200734f57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050600090505b895181101562007457578a81600301815181101515620073ac57fe5b906020019060200201","51836003815181101515620073c657fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250506200742c83838c848151811015156200741757fe5b9060200190602002015185018c8c896200f218565b89818151811015156200743b57fe5b9060200190602002015182019150808060010191505062007390565b60018495509550505050509550959350505050565b600d8054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620075065780601f10620074da5761010080835404028352916020019162007506565b820191906000526020600020905b815481529060010190602001808311620074e857829003601f168201915b505050505081565b6060806000806060806000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620075ba949392919062013c5a565b6040805180830381600087803b158015620075d457600080fd5b505af1158015620075e9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200760f9190810190620113ed565b80955081965050508315156200765c576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620076539062014718565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a866040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620076d59190620137e8565b602060405180830381600087803b158015620076f057600080fd5b505af115801562007705573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200772b919081019062011ae2565b15156200776f576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200776690620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4c19c546040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b158015620077f657600080fd5b505af11580156200780b573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062007836919081019062011586565b92508251604051908082528060200260200182016040528015620078695781602001602082028038833980820191505090505b509150600090505b8251811015620079bb57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade68483815181101515620078c857fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200790c9190620137e8565b602060405180830381600087803b1580156200792757600080fd5b505af11580156200793c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007962919081019062011380565b82828151811015156200797157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050808060010191505062007871565b819650505050505050919050565b60018054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562007a635780601f1062007a375761010080835404028352916020019162007a63565b820191906000526020600020905b81548152906001019060200180831162007a4557829003601f168201915b505050505081565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062007b8360048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562007b6e5780601f1062007b425761010080835404028352916020019162007b6e565b820191906000526020600020905b81548152906001019060200180831162007b5057829003601f168201915b5050505050886200d91790919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007bc0949392919062013805565b602060405180830381600087803b15801562007bdb57600080fd5b505af115801562007bf0573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007c16919081019062011ae2565b151562007c5a576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162007c519062014c46565b60405180910390fd5b62007c7082601b6200faff90919063ffffffff16565b9050919050565b60088054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562007d115780601f1062007ce55761010080835404028352916020019162007d11565b820191906000526020600020905b81548152906001019060200180831162007cf357829003601f168201915b505050505081565b6060600060606000806060600060606000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308a8e6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007dcb949392919062013c5a565b6040805180830381600087803b15801562007de557600080fd5b505af115801562007dfa573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007e209190810190620113ed565b809650819750505084151562007e6d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162007e649062014718565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a876040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007ee69190620137e8565b602060405180830381600087803b15801562007f0157600080fd5b505af115801562007f16573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062007f3c919081019062011ae2565b151562007f80576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162007f7790620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663af43bff08d8d6040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162007ffb92919062014d8c565b600060405180830381600087803b1580156200801657600080fd5b505af11580156200802b573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062008056919081019062011820565b809450819550505083516040519080825280602002602001820160405280156200808f5781602001602082028038833980820191505090505b509150600090505b8351811015620081e157601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade68583815181101515620080ee57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620081329190620137e8565b602060405180830381600087803b1580156200814d57600080fd5b505af115801562008162573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008188919081019062011380565b82828151811015156200819757fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050808060010191505062008097565b81839850985050505050505050935093915050565b601860009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b600060606000806200824c866200823d89866200d91790919063ffffffff16565b6200d91790919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200836360048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200834e5780601f1062008322576101008083540402835291602001916200834e565b820191906000526020600020905b8154815290600101906020018083116200833057829003601f168201915b50505050508c6200d91790919063ffffffff16565b878a6040518663ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620083a395949392919062013a46565b6040805180830381600087803b1580156200","83bd57600080fd5b505af1158015620083d2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620083f89190810190620113ed565b809250819350505080151562008445576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200843c90620146d4565b60405180910390fd5b6200845d8787601b6200fd5e9092919063ffffffff16565b93505050509392505050565b6000620084886001830184600a0a86026200da4690919063ffffffff16565b9050602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b764a75586838a8a6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008509949392919062014db9565b600060405180830381600087803b1580156200852457600080fd5b505af115801562008539573d6000803e3d6000fd5b505050509695505050505050565b60078054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620085e15780601f10620085b557610100808354040283529160200191620085e1565b820191906000526020600020905b815481529060010190602001808311620085c357829003601f168201915b505050505081565b6000606060008060008087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200866d9190620137e8565b602060405180830381600087803b1580156200868857600080fd5b505af11580156200869d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620086c3919081019062011ae2565b151562008707576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620086fe90620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008780919062014cac565b602060405180830381600087803b1580156200879b57600080fd5b505af1158015620087b0573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620087d6919081019062011ae2565b15156200881a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620088119062014c02565b60405180910390fd5b6200884389620088348c896200ca4690919063ffffffff16565b6200d23690919063ffffffff16565b9550601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620088be9190620137e8565b602060405180830381600087803b158015620088d957600080fd5b505af1158015620088ee573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008914919081019062011380565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630898c6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620089b794939291906201407e565b6040805180830381600087803b158015620089d157600080fd5b505af1158015620089e6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008a0c9190810190620113ed565b809550819650505083801562008aef5750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc8b856040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008a9892919062014cc9565b602060405180830381600087803b15801562008ab357600080fd5b505af115801562008ac8573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008aee919081019062011ae2565b5b151562008b33576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162008b2a9062014af2565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a866040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008bac9190620137e8565b602060405180830381600087803b15801562008bc757600080fd5b505af115801562008bdc573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008c02919081019062011ae2565b151562008c46576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162008c3d90620145e6565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638ba6dd028c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008cc4919062014cac565b602060405180830381600087803b15801562008cdf57600080fd5b505af115801562008cf4573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008d1a919081019062012104565b60ff1614151562008d62576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162008d59906201464c565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b7d061ba8b60026040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008dde92919062014ecd565b602060405180830381600087803b15801562008df957600080fd5b505af115801562008e0e573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062008e34919081019062011d15565b91507fabfed65a2687df1b7325e61044af6a3d283deb820e3c410c1bb72cbe29328a038a83600260405162008e6c9392919062014e90565b60405180910390a1600296505050505050509392505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163062008f9d60048054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562008f885780601f1062008f5c5761010080835404028352916020019162008f88565b820191906000526020600020905b81548152906001019060200180831162008f6a57829003601f168201915b5050505050896200d91790919063ffffffff16565b6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162008fda949392919062013805565b602060405180830381600087803b15801562008ff557600080fd5b505af11580156200900a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009030919081019062011ae2565b151562009074576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200906b90620146d4565b60405180910390fd5b6200908c8383601b6200fd5e9092919063ffffffff16565b905092915050565b6000606083601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620091129190620137e8565b602060405180830381600087803b1580156200912d57600080fd5b505af115801562009142573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009168919081019062011ae2565b1515620091ac576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620091a390620145e6565b60405180910390fd5b620091b66200d90a565b87111515620091fc576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620091f39062014bbe565b60405180910390fd5b62009239856200922a896200921b8c876200ca4690919063ffffffff16565b6200ca4690919063ffffffff16565b6200d23690919063ffffffff16565b915062009249888387876200ff62565b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b64f256f8989896040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620092c79392919062014e06565b602060405180830381600087803b158015620092e257600080fd5b505af1158015620092f7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200931d919081019062011ae2565b92507faf922676779eb034e41b958c12c47328d4058583c40566a2e5c31012e65934698860405162009350919062014cac565b60405180910390a1505095945050505050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638d478f2933601a60009054906101000a900473ffffff","ffffffffffffffffffffffffffffffffff16306200947b60048054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015620094665780601f106200943a5761010080835404028352916020019162009466565b820191906000526020600020905b8154815290600101906020018083116200944857829003601f168201915b5050505050896200d91790919063ffffffff16565b6040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620094b8949392919062013805565b602060405180830381600087803b158015620094d357600080fd5b505af1158015620094e8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200950e919081019062011ae2565b151562009552576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620095499062014a6a565b60405180910390fd5b6200956a8383601b6200daa09092919063ffffffff16565b905092915050565b60606000606060008088601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620095f59190620137e8565b602060405180830381600087803b1580156200961057600080fd5b505af115801562009625573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200964b919081019062011ae2565b15156200968f576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200968690620145e6565b60405180910390fd5b8789101515620096d6576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620096cd90620147e4565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200974f9190620137e8565b602060405180830381600087803b1580156200976a57600080fd5b505af11580156200977f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620097a5919081019062011380565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1687878b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200984894939291906201399f565b6040805180830381600087803b1580156200986257600080fd5b505af115801562009877573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200989d9190810190620113ed565b8093508194505050811515620098ea576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620098e190620145c4565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620099639190620137e8565b602060405180830381600087803b1580156200997e57600080fd5b505af115801562009993573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620099b9919081019062011ae2565b1515620099fd576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620099f490620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663659bb882868b8b6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009a7a939291906201417f565b600060405180830381600087803b15801562009a9557600080fd5b505af115801562009aaa573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525062009ad591908101906201195e565b95505050505050949350505050565b60068054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562009b7e5780601f1062009b525761010080835404028352916020019162009b7e565b820191906000526020600020905b81548152906001019060200180831162009b6057829003601f168201915b505050505081565b60148054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562009c205780601f1062009bf45761010080835404028352916020019162009c20565b820191906000526020600020905b81548152906001019060200180831162009c0257829003601f168201915b505050505081565b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bc2d4b216040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801562009cb157600080fd5b505af115801562009cc6573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009cec919081019062011d15565b905090565b60128054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562009d8b5780601f1062009d5f5761010080835404028352916020019162009d8b565b820191906000526020600020905b81548152906001019060200180831162009d6d57829003601f168201915b505050505081565b60118054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801562009e2d5780601f1062009e015761010080835404028352916020019162009e2d565b820191906000526020600020905b81548152906001019060200180831162009e0f57829003601f168201915b505050505081565b6060806000806000806060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308b8e6040518563ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009ee4949392919062014014565b6040805180830381600087803b15801562009efe57600080fd5b505af115801562009f13573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062009f399190810190620113ed565b809750819850505085151562009f86576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040162009f7d9062014b9c565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040162009fff9190620137e8565b602060405180830381600087803b1580156200a01a57600080fd5b505af11580156200a02f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a055919081019062011ae2565b15156200a099576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200a09090620145e6565b60405180910390fd5b60028b511480156200a0dc57508a60018151811015156200a0b657fe5b906020019060200201518b60008151811015156200a0d057fe5b90602001906020020151125b15156200a120576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200a11790620148b0565b60405180910390fd5b60008c5111156200a1a057600093505b8b518410156200a19f578b848151811015156200a14957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff168773ffffffffffffffffffffffffffffffffffffffff1614156200a19157600194506200a19f565b83806001019450506200a130565b5b8415156200a27a57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d2eef3a1886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a2219190620137e8565b602060405180830381600087803b1580156200a23c57600080fd5b505af11580156200a251573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a277919081019062011ae2565b94505b8415156200a2bf576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200a2b6906201453c565b60405180910390fd5b6000602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bc2d4b216040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200a34857600080fd5b505af11580156200a35d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a383919081019062011d15565b14156200a393578298506200aae9565b60008c511180156200a3eb5750600073ffffffffffffffffffffffffffffffffffff","ffff168c60008151811015156200a3c857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156200a59e57601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d60008151811015156200a43f57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a4839190620137e8565b602060405180830381600087803b1580156200a49e57600080fd5b505af11580156200a4b3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a4d9919081019062011380565b9150600073ffffffffffffffffffffffffffffffffffffffff168273ffffffffffffffffffffffffffffffffffffffff16141515156200a550576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200a5479062014b58565b60405180910390fd5b818c60008151811015156200a56157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60018c511180156200a5f65750600073ffffffffffffffffffffffffffffffffffffffff168c60018151811015156200a5d357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156200a7a957601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d60018151811015156200a64a57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a68e9190620137e8565b602060405180830381600087803b1580156200a6a957600080fd5b505af11580156200a6be573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a6e4919081019062011380565b9050600073ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff16141515156200a75b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200a7529062014690565b60405180910390fd5b808c60018151811015156200a76c57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b60028d511180156200a7d5575060008d60028151811015156200a7c857fe5b9060200190602002015114155b156200aa0e57602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68e60028151811015156200a82957fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a86d919062014cac565b602060405180830381600087803b1580156200a88857600080fd5b505af11580156200a89d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a8c3919081019062011ae2565b15156200a907576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200a8fe9062014c02565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663439920b38e60028151811015156200a95557fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200a999919062014cac565b602060405180830381600087803b1580156200a9b457600080fd5b505af11580156200a9c9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200a9ef919081019062011d15565b8d60028151811015156200a9ff57fe5b90602001906020020181815250505b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663b32cf81b8e8e8e6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200aa8b9392919062014344565b600060405180830381600087803b1580156200aaa657600080fd5b505af11580156200aabb573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200aae6919081019062011919565b98505b5050505050505050949350505050565b60048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200ab935780601f106200ab67576101008083540402835291602001916200ab93565b820191906000526020600020905b8154815290600101906020018083116200ab7557829003601f168201915b505050505081565b601660009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1681565b60608060008060606000808a601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ac469190620137e8565b602060405180830381600087803b1580156200ac6157600080fd5b505af11580156200ac76573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ac9c919081019062011ae2565b15156200ace0576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200acd790620145e6565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08d6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ad599190620137e8565b602060405180830381600087803b1580156200ad7457600080fd5b505af11580156200ad89573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200adaf919081019062011380565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1687878d6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ae5294939291906201399f565b6040805180830381600087803b1580156200ae6c57600080fd5b505af11580156200ae81573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200aea79190810190620113ed565b80935081945050508115156200aef4576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200aeeb90620145c4565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200af6d9190620137e8565b602060405180830381600087803b1580156200af8857600080fd5b505af11580156200af9d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200afc3919081019062011ae2565b15156200b007576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200affe90620145e6565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663a0ab3218868d8d6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b084939291906201417f565b600060405180830381600087803b1580156200b09f57600080fd5b505af11580156200b0b4573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200b0df919081019062011a5a565b97509750975050505050509450945094915050565b60058054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200b18e5780601f106200b162576101008083540402835291602001916200b18e565b820191906000526020600020905b8154815290600101906020018083116200b17057829003601f168201915b505050505081565b60038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200b2305780601f106200b204576101008083540402835291602001916200b230565b820191906000526020600020905b8154815290600101906020018083116200b21257829003601f168201915b505050505081565b60006200b246601b62010378565b905090565b60606000806000601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b2cb9190620137e8565b602060405180830381600087803b1580156200b2e657600080fd5b505af11580156200b2fb573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b321919081019062011380565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168387896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401","6200b3c4949392919062013935565b6040805180830381600087803b1580156200b3de57600080fd5b505af11580156200b3f3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b4199190810190620113ed565b80935081945050508180156200b4fc5750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc89836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b4a592919062014cc9565b602060405180830381600087803b1580156200b4c057600080fd5b505af11580156200b4d5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b4fb919081019062011ae2565b5b15156200b540576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200b5379062014b14565b60405180910390fd5b5050505050505050565b600c8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200b5e45780601f106200b5b8576101008083540402835291602001916200b5e4565b820191906000526020600020905b8154815290600101906020018083116200b5c657829003601f168201915b505050505081565b60108054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200b6865780601f106200b65a576101008083540402835291602001916200b686565b820191906000526020600020905b8154815290600101906020018083116200b66857829003601f168201915b505050505081565b600060606000806200b6aa86846200d91790919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200b7c160048054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200b7ac5780601f106200b780576101008083540402835291602001916200b7ac565b820191906000526020600020905b8154815290600101906020018083116200b78e57829003601f168201915b50505050508b6200d91790919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200b80195949392919062013a46565b6040805180830381600087803b1580156200b81b57600080fd5b505af11580156200b830573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b8569190810190620113ed565b80925081935050508015156200b8a3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200b89a9062014c46565b60405180910390fd5b6200b8b986601b6200faff90919063ffffffff16565b935050505092915050565b6000601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663e92139da6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200b94d57600080fd5b505af11580156200b962573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200b988919081019062011380565b905090565b600f8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200ba275780601f106200b9fb576101008083540402835291602001916200ba27565b820191906000526020600020905b8154815290600101906020018083116200ba0957829003601f168201915b505050505081565b60008054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200bac95780601f106200ba9d576101008083540402835291602001916200bac9565b820191906000526020600020905b8154815290600101906020018083116200baab57829003601f168201915b505050505081565b60608060606000606080606060006200bb228b8b6040805190810160405280600d81526020017f6765744e6f746544657461696c000000000000000000000000000000000000008152508c6200b24b565b60026040519080825280602002602001820160405280156200bb535781602001602082028038833980820191505090505b50935060026040519080825280602002602001820160405280156200bb875781602001602082028038833980820191505090505b50925060026040519080825280602002602001820160405280156200bbbb5781602001602082028038833980820191505090505b509150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638730d0b08c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bc37919062014cac565b600060405180830381600087803b1580156200bc5257600080fd5b505af11580156200bc67573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506200bc92919081019062011769565b80945081955082965083975050505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade68560008151811015156200bcf057fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bd349190620137e8565b602060405180830381600087803b1580156200bd4f57600080fd5b505af11580156200bd64573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200bd8a919081019062011380565b8460008151811015156200bd9a57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade68560018151811015156200be2457fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200be689190620137e8565b602060405180830381600087803b1580156200be8357600080fd5b505af11580156200be98573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200bebe919081019062011380565b8460018151811015156200bece57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508383838397509750975097505050505093509350935093565b60006060600080601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff163086896040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200bfcb949392919062013cc4565b6040805180830381600087803b1580156200bfe557600080fd5b505af11580156200bffa573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c0209190810190620113ed565b80925081935050508015156200c06d576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200c0649062014916565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c0e69190620137e8565b602060405180830381600087803b1580156200c10157600080fd5b505af11580156200c116573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c13c919081019062011ae2565b15156200c180576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200c17790620145e6565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166345be589e6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200c20757600080fd5b505af11580156200c21c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c242919081019062011d15565b9350505050919050565b600e8054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200c2e65780601f106200c2ba576101008083540402835291602001916200c2e6565b820191906000526020600020905b8154815290600101906020018083116200c2c857829003601f168201915b505050505081565b6060806000806200c30986846200d91790919063ffffffff16565b9250601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16306200c42060038054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203","166002900480156200c40b5780601f106200c3df576101008083540402835291602001916200c40b565b820191906000526020600020905b8154815290600101906020018083116200c3ed57829003601f168201915b50505050508b6200d91790919063ffffffff16565b878a6040518663ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c46095949392919062013a46565b6040805180830381600087803b1580156200c47a57600080fd5b505af11580156200c48f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c4b59190810190620113ed565b80925081935050508015156200c502576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200c4f990620148d2565b60405180910390fd5b6200c51886601b6200d92d90919063ffffffff16565b935050505092915050565b60006060600080600087601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c5a69190620137e8565b602060405180830381600087803b1580156200c5c157600080fd5b505af11580156200c5d6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c5fc919081019062011ae2565b15156200c640576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200c63790620145e6565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888b6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c6e19493929190620140e8565b6040805180830381600087803b1580156200c6fb57600080fd5b505af11580156200c710573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c7369190810190620113ed565b80945081955050508215156200c783576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200c77a906201451a565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a856040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c7fc9190620137e8565b602060405180830381600087803b1580156200c81757600080fd5b505af11580156200c82c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c852919081019062011ae2565b15156200c896576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200c88d90620145e6565b60405180910390fd5b601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c08a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c90f9190620137e8565b602060405180830381600087803b1580156200c92a57600080fd5b505af11580156200c93f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200c965919081019062011380565b9150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663403dad75838a6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200c9e292919062014152565b602060405180830381600087803b1580156200c9fd57600080fd5b505af11580156200ca12573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ca38919081019062011ae2565b955050505050509392505050565b60606200ca5e836200ca588462010386565b620103cb565b905092915050565b6060600080600080602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c68b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200cae7919062014cac565b602060405180830381600087803b1580156200cb0257600080fd5b505af11580156200cb17573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200cb3d919081019062011ae2565b15156200cb81576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200cb789062014c02565b60405180910390fd5b6200cb968a866200ca4690919063ffffffff16565b9450600093505b88518410156200cc13576200cbd489858151811015156200cbba57fe5b90602001906020020151866200d91790919063ffffffff16565b94506200cc0388858151811015156200cbe957fe5b90602001906020020151866200d91790919063ffffffff16565b945083806001019450506200cb9d565b6200cc2887866200d23690919063ffffffff16565b9450601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630888a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200cccb949392919062013b86565b6040805180830381600087803b1580156200cce557600080fd5b505af11580156200ccfa573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200cd209190810190620113ed565b8093508194505050601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200cda19190620137e8565b602060405180830381600087803b1580156200cdbc57600080fd5b505af11580156200cdd1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200cdf7919081019062011380565b90508180156200ced45750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bcf320dc8b836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ce7d92919062014cc9565b602060405180830381600087803b1580156200ce9857600080fd5b505af11580156200cead573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ced3919081019062011ae2565b5b15156200cf18576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200cf0f90620149e2565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200cf919190620137e8565b602060405180830381600087803b1580156200cfac57600080fd5b505af11580156200cfc1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200cfe7919081019062011ae2565b15156200d02b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d02290620145e6565b60405180910390fd5b600460ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638ba6dd028c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d0a9919062014cac565b602060405180830381600087803b1580156200d0c457600080fd5b505af11580156200d0d9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d0ff919081019062012104565b60ff16141580156200d1e65750600560ff16602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638ba6dd028c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d18a919062014cac565b602060405180830381600087803b1580156200d1a557600080fd5b505af11580156200d1ba573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d1e0919081019062012104565b60ff1614155b15156200d22a576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200d2219062014608565b60405180910390fd5b50505050505050505050565b60606200d24e836200d24884620105a5565b620103cb565b905092915050565b606060008060606000808614156200d2a6576040805190810160405280600181526020017f300000000000000000000000000000000000000000000000000000000000000081525094506200d3af565b8593505b6000841415156200d2d3578280600101935050600a848115156200d2ca57fe5b0493506200d2aa565b826040519080825280601f01601f1916602001820160405280156200d3075781602001602082028038833980820191505090505b5091506001830390505b6000861415156200d3ab57600a868115156200d32957fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282806001900393508151811015156200d36557fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156200d3a257fe5b0495506200d311565b8194505b505050509190","50565b606080606080606060008088955087945084518651016040519080825280601f01601f1916602001820160405280156200d4015781602001602082028038833980820191505090505b50935083925060009150600090505b85518110156200d4c75785818151811015156200d42957fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156200d48957fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200d410565b600090505b84518110156200d5835784818151811015156200d4e557fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156200d54557fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506200d4cc565b83965050505050505092915050565b60608060008060008092505b87518310156200d5e5576200d5d588848151811015156200d5bb57fe5b90602001906020020151856200d23690919063ffffffff16565b935082806001019350506200d59e565b600091505b86518210156200d631576200d62187838151811015156200d60757fe5b90602001906020020151856200ca4690919063ffffffff16565b935081806001019250506200d5ea565b600090505b85518110156200d67d576200d66d86828151811015156200d65357fe5b90602001906020020151856200d91790919063ffffffff16565b935080806001019150506200d636565b839450505050509392505050565b6000606080600080600086516040519080825280602002602001820160405280156200d6c65781602001602082028038833980820191505090505b509350600090505b86518110156200d8fa5760018114806200d72c575086818151811015156200d6f257fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16145b156200d79c5786818151811015156200d74157fe5b9060200190602002015184828151811015156200d75a57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250506200d8ec565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630e62832288838151811015156200d7e957fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200d82d9190620137e8565b6040805180830381600087803b1580156200d84757600080fd5b505af11580156200d85c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200d8829190810190620113ed565b80945081935050508215156200d89f57600084955095506200d901565b8184828151811015156200d8af57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b80806001019150506200d6ce565b8284955095505b50505050915091565b6000804290508091505090565b60606200d9258383620103cb565b905092915050565b606082600001826040518082805190602001908083835b6020831015156200d96b57805182526020820191506020810190506020830392506200d944565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156200da395780601f106200da0d576101008083540402835291602001916200da39565b820191906000526020600020905b8154815290600101906020018083116200da1b57829003601f168201915b5050505050905092915050565b60008082840190508381101515156200da96576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200da8d906201488e565b60405180910390fd5b8091505092915050565b60008084600001846040518082805190602001908083835b6020831015156200dadf57805182526020820191506020810190506020830392506200dab8565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200dc9c577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156200dbb857805182526020820191506020810190506020830392506200db91565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200dc0195949392919062013859565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200dc4657805182526020820191506020810190506020830392506200dc1f565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200dc9192919062010947565b50600191506200dca1565b600091505b509392505050565b60008084600001846040518082805190602001908083835b6020831015156200dce857805182526020820191506020810190506020830392506200dcc1565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200dea5577fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f4d4f4449465900000000000000000000000000000000000000000000000000008152508789600001896040518082805190602001908083835b6020831015156200ddc157805182526020820191506020810190506020830392506200dd9a565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200de0a95949392919062013859565b60405180910390a18285600001856040518082805190602001908083835b6020831015156200de4f57805182526020820191506020810190506020830392506200de28565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200de9a92919062010947565b50600191506200e015565b8285600001856040518082805190602001908083835b6020831015156200dee257805182526020820191506020810190506020830392506200debb565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200df2d92919062010947565b508460010180548091906001016200df469190620109ce565b90506001810185600001856040518082805190602001908083835b6020831015156200df8857805182526020820191506020810190506020830392506200df61565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200dfd557fe5b906000526020600020906002020160000190805190602001906200dffb92919062010947565b508460020160008154809291906001019190505550600091505b509392505050565b600483511480156200e030575060058251145b80156200e03e575060008151115b15156200e082576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e07990620146f6565b60405180910390fd5b60008260028151811015156200e09457fe5b906020019060200201511180156200e0c55750600a8260028151811015156200e0b957fe5b90602001906020020151105b80156200e0f357506200e0d76200d90a565b8260048151811015156200e0e757fe5b90602001906020020151115b15156200e137576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e12e906201473a565b60405180910390fd5b60008260038151811015156200e14957fe5b9060200190602002015111156200e23d576200e1646200d90a565b8260038151811015156200e17457fe5b906020019060200201511115156200e1c3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e1ba906201475c565b60405180910390fd5b8160038151811015156200e1d357fe5b906020019060200201518260048151811015156200e1ed57fe5b906020019060200201511115156200e23c576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e2339062014be0565b60405180910390fd5b5b60008260008151811015156200e24f57fe5b906020019060200201511180156200e28157506101f58260008151811015156200e27557fe5b90602001906020020151105b15156200e2c5576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e2bc9062014aae565b60405180910390fd5b60008260018151811015156200e2d757fe5b906020019060200201511115156200e326576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e31d90620148f4565b60405180910390fd5b60008160008151811015156200e33857fe5b90602001906020020151511180156200e36c575060ff8160008151811015156200e35e57fe5b906020019060200201515111155b15156200e3b0576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e3a7906201466e565b60405180910390fd5b6023600090","54906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d6d788038360018151811015156200e3fe57fe5b906020019060200201518460028151811015156200e41857fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e45d92919062014d8c565b602060405180830381600087803b1580156200e47857600080fd5b505af11580156200e48d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e4b3919081019062011ae2565b1515156200e4f8576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e4ef906201455e565b60405180910390fd5b505050565b6060600060606000806200e51389898962010689565b92506200e520896200d68b565b809a5081955050508315156200e56d576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e564906201495a565b60405180910390fd5b8860038151811015156200e57d57fe5b906020019060200201519150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632d75dd5c836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e6029190620137e8565b602060405180830381600087803b1580156200e61d57600080fd5b505af11580156200e632573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e658919081019062011ae2565b15156200e69c576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e6939062014ad0565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1630868a6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200e73d949392919062013bf0565b6040805180830381600087803b1580156200e75757600080fd5b505af11580156200e76c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e7929190810190620113ed565b80955081925050508315156200e7df576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200e7d690620144f8565b60405180910390fd5b88945050505050949350505050565b606060006060806060600060028251026040519080825280602002602001820160405280156200e82d5781602001602082028038833980820191505090505b5092508860008151811015156200e84057fe5b906020019060200201516040519080825280602002602001820160405280156200e8795781602001602082028038833980820191505090505b509150600090505b8860008151811015156200e89157fe5b906020019060200201518110156200ea2b5760008114156200e8cb576200e8c36001896201078290919063ffffffff16565b94506200e9a5565b6200e9a26001602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16639abcc0286040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156200e95857600080fd5b505af11580156200e96d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200e993919081019062011d15565b6201078290919063ffffffff16565b94505b6200ea008a60038151811015156200e9b957fe5b9060200190602002015188878c60018151811015156200e9d557fe5b906020019060200201518d60028151811015156200e9ef57fe5b906020019060200201518662008469565b82828151811015156200ea0f57fe5b906020019060200201818152505080806001019150506200e881565b8195505050505050949350505050565b6060806000806200ea4b62010925565b600060028951026040519080825280602002602001820160405280156200ea815781602001602082028038833980820191505090505b509450600090505b88518110156200ed1757602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663439920b38a838151811015156200eae057fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200eb24919062014cac565b602060405180830381600087803b1580156200eb3f57600080fd5b505af11580156200eb54573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200eb7a919081019062011d15565b9250602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d121179989858a6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ebf99392919062014276565b606060405180830381600087803b1580156200ec1457600080fd5b505af11580156200ec29573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200ec4f919081019062011b0e565b80935081955050508160006002811015156200ec6757fe5b602002015185826002028151811015156200ec7e57fe5b90602001906020020181815250508160016002811015156200ec9c57fe5b602002015185600183600202018151811015156200ecb657fe5b90602001906020020181815250508315156200ed09576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200ed0090620146b2565b60405180910390fd5b80806001019150506200ea89565b84955050505050509392505050565b606060008060606000806000808b511180156200ed4757508a516003018c51145b15156200ed8b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200ed8290620149c0565b60405180910390fd5b600094505b8a518510156200ee255760008b868151811015156200edab57fe5b906020019060200201511115156200edfa576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200edf19062014938565b60405180910390fd5b8a858151811015156200ee0957fe5b906020019060200201518601955084806001019550506200ed90565b8951861415156200ee6d576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200ee649062014c8a565b60405180910390fd5b6200ee7b8c8c8c8c620107dc565b93506200ee888c6200d68b565b809d5081945050508215156200eed5576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200eecc906201495a565b60405180910390fd5b600291505b8b518210156200f0aa57600073ffffffffffffffffffffffffffffffffffffffff168c838151811015156200ef0b57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16141515156200ef71576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200ef689062014a26565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16632d75dd5c8d848151811015156200efbe57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f0029190620137e8565b602060405180830381600087803b1580156200f01d57600080fd5b505af11580156200f032573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f058919081019062011ae2565b15156200f09c576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200f0939062014ad0565b60405180910390fd5b81806001019250506200eeda565b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168e60028151811015156200f11b57fe5b90602001906020020151878c6040518563ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f1649493929190620138cb565b6040805180830381600087803b1580156200f17e57600080fd5b505af11580156200f193573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f1b99190810190620113ed565b80945081925050508215156200f206576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200f1fd9062014a04565b60405180910390fd5b8b965050505050505095945050505050565b60006200f22462010925565b6000808890505b878110156200faf35786818151811015156200f24357fe5b906020019060200201519150602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663224b99c6836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f2c8919062014cac565b602060405180830381600087803b1580156200f2e357600080fd5b505af11580156200f2f8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f31e919081019062011ae2565b6200f3bb6040805190810160405280600f81526020017f20646f65736e27742065786973742100000000000000000000000000000000008152506200f3ac6200f367866200d256565b6040805190810160405280600781526020017f6e6f74654e6f20000000000000000000000000000000000000000000000000008152506200d3b890919063ffffffff16565b6200d3b890919063ff","ffffff16565b9015156200f401576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200f3f89190620144d4565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663ba6c4823836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f47b919062014cac565b602060405180830381600087803b1580156200f49657600080fd5b505af11580156200f4ab573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f4d1919081019062011ae2565b156200f56f6040805190810160405280601181526020017f20686173206265656e20657870697265640000000000000000000000000000008152506200f5606200f51b866200d256565b6040805190810160405280600781526020017f6e6f74654e6f20000000000000000000000000000000000000000000000000008152506200d3b890919063ffffffff16565b6200d3b890919063ffffffff16565b9015156200f5b5576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200f5ac9190620144d4565b60405180910390fd5b50602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663fb495f62836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f62f919062014cac565b602060405180830381600087803b1580156200f64a57600080fd5b505af11580156200f65f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f685919081019062011ae2565b15156200f6c9576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200f6c0906201484a565b60405180910390fd5b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663584fa1ee838c60028151811015156200f71857fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f75d92919062014cc9565b602060405180830381600087803b1580156200f77857600080fd5b505af11580156200f78d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f7b3919081019062011ae2565b15156200f7f7576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200f7ee906201477e565b60405180910390fd5b602260009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663d12117998b602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bbb9a8a98e60028151811015156200f88457fe5b906020019060200201518f60038151811015156200f89e57fe5b90602001906020020151886040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f8e59392919062013a09565b602060405180830381600087803b1580156200f90057600080fd5b505af11580156200f915573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f93b919081019062011d15565b896040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200f9789392919062014276565b606060405180830381600087803b1580156200f99357600080fd5b505af11580156200f9a8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200f9ce919081019062011b0e565b80945081955050508315156200fa1b576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016200fa1290620146b2565b60405180910390fd5b8260006002811015156200fa2b57fe5b602002015185826003028151811015156200fa4257fe5b90602001906020020181815250508260016002811015156200fa6057fe5b602002015185600183600302018151811015156200fa7a57fe5b90602001906020020181815250508185600283600302018151811015156200fa9e57fe5b90602001906020020181815250507f8dcf662579312a6f3ecd08d37f0e928564204a6a27ab872bea0f69082a9ea096826040516200fadd919062014cac565b60405180910390a180806001019150506200f22b565b50505050505050505050565b60008083600001836040518082805190602001908083835b6020831015156200fb3e57805182526020820191506020810190506020830392506200fb17565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008114156200fb8b57600091506200fd57565b7fb842e70165ea1827273bc7a4271b485c64a747bd35bd7b804c41256bf4d5ecf132336040805190810160405280600681526020017f44454c45544500000000000000000000000000000000000000000000000000008152508688600001886040518082805190602001908083835b6020831015156200fc2157805182526020820191506020810190506020830392506200fbfa565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206001016040516200fc6a95949392919062013859565b60405180910390a183600001836040518082805190602001908083835b6020831015156200fcae57805182526020820191506020810190506020830392506200fc87565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390206000808201600090556001820160006200fcfc919062010a03565b5050600184600101600183038154811015156200fd1557fe5b906000526020600020906002020160010160006101000a81548160ff021916908315150217905550836002016000815480929190600190039190505550600191505b5092915050565b60008084600001846040518082805190602001908083835b6020831015156200fd9d57805182526020820191506020810190506020830392506200fd76565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060000154905060008111156200fdea57600091506200ff5a565b8285600001856040518082805190602001908083835b6020831015156200fe2757805182526020820191506020810190506020830392506200fe00565b6001836020036101000a038019825116818451168082178552505050505050905001915050908152602001604051809103902060010190805190602001906200fe7292919062010947565b508460010180548091906001016200fe8b9190620109ce565b90506001810185600001856040518082805190602001908083835b6020831015156200fecd57805182526020820191506020810190506020830392506200fea6565b6001836020036101000a0380198251168184511680821785525050505050509050019150509081526020016040518091039020600001819055508385600101828154811015156200ff1a57fe5b906000526020600020906002020160000190805190602001906200ff4092919062010947565b508460020160008154809291906001019190505550600191505b509392505050565b600080600080601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c9f854c0876040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200ffe19190620137e8565b602060405180830381600087803b1580156200fffc57600080fd5b505af115801562010011573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062010037919081019062011380565b9050601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663cfe3b125601a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16308a896040518563ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620100da949392919062013ed6565b6040805180830381600087803b158015620100f457600080fd5b505af115801562010109573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506201012f9190810190620113ed565b8093508194505050818015620102125750602360009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663aab19c6e89836040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620101bb92919062014cc9565b602060405180830381600087803b158015620101d657600080fd5b505af1158015620101eb573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062010211919081019062011ae2565b5b151562010256576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016201024d906201499e565b60405180910390fd5b601e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663520bdf0a846040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620102cf9190620137e8565b602060405180830381600087803b158015620102ea57600080fd5b505af1158015620102ff573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525062010325919081019062011ae2565b151562010369576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016201036090620145e6565b60405180910390fd5b60019350505050949350505050565b600081600201549050919050565b606060206040519080825280601f01601f191660200182016040528015620103bd5781602001602082028038833980","820191505090505b509050816020820152919050565b606080606080606060008088955087945084518651016040519080825280601f01601f191660200182016040528015620104145781602001602082028038833980820191505090505b50935083925060009150600090505b8551811015620104da5785818151811015156201043c57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156201049c57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350808060010191505062010423565b600090505b845181101562010596578481815181101515620104f857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000283838060010194508151811015156201055857fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050620104df565b83965050505050505092915050565b6060600080836c0100000000000000000000000002915060146040519080825280601f01601f191660200182016040528015620105f15781602001602082028038833980820191505090505b509250600090505b6014811015620106825781816014811015156201061257fe5b1a7f01000000000000000000000000000000000000000000000000000000000000000283828151811015156201064457fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050620105f9565b5050919050565b60608060008060008092505b8751831015620106dc57620106cc8884815181101515620106b257fe5b90602001906020020151856200d23690919063ffffffff16565b9350828060010193505062010695565b600091505b86518210156201072857620107188783815181101515620106fe57fe5b90602001906020020151856200ca4690919063ffffffff16565b93508180600101925050620106e1565b600090505b855181101562010774576201076486828151811015156201074a57fe5b90602001906020020151856200d91790919063ffffffff16565b935080806001019150506201072d565b839450505050509392505050565b600080838311151515620107cd576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401620107c49062014a48565b60405180910390fd5b82840390508091505092915050565b606080600080600080600093505b89518410156201083157620108218a858151811015156201080757fe5b90602001906020020151866200d23690919063ffffffff16565b94508380600101945050620107ea565b600092505b88518310156201087d576201086d89848151811015156201085357fe5b90602001906020020151866200ca4690919063ffffffff16565b9450828060010193505062010836565b600091505b8751821015620108c957620108b988838151811015156201089f57fe5b90602001906020020151866200ca4690919063ffffffff16565b9450818060010192505062010882565b600090505b86518110156201091557620109058782815181101515620108eb57fe5b90602001906020020151866200d91790919063ffffffff16565b94508080600101915050620108ce565b8495505050505050949350505050565b6040805190810160405280600290602082028038833980820191505090505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106201098a57805160ff1916838001178555620109bb565b82800160010185558215620109bb579182015b82811115620109ba5782518255916020019190600101906201099d565b5b509050620109ca919062010a4f565b5090565b815481835581811115620109fe57600202816002028360005260206000209182019101620109fd919062010a77565b5b505050565b50805460018160011615610100020316600290046000825580601f1062010a2b575062010a4c565b601f01602090049060005260206000209081019062010a4b919062010a4f565b5b50565b62010a7491905b8082111562010a7057600081600090555060010162010a56565b5090565b90565b62010abc91905b8082111562010ab8576000808201600062010a9a919062010a03565b6001820160006101000a81549060ff02191690555060020162010a7e565b5090565b90565b600062010acd82356201527c565b905092915050565b600062010ae382516201527c565b905092915050565b600082601f830112151562010aff57600080fd5b813562010b1662010b108262014f45565b62014f17565b9150818183526020840193506020810190508385602084028201111562010b3c57600080fd5b60005b8381101562010b70578162010b55888262010abf565b84526020840193506020830192505060018101905062010b3f565b5050505092915050565b600082601f830112151562010b8e57600080fd5b815162010ba562010b9f8262014f45565b62014f17565b9150818183526020840193506020810190508385602084028201111562010bcb57600080fd5b60005b8381101562010bff578162010be4888262010ad5565b84526020840193506020830192505060018101905062010bce565b5050505092915050565b600082601f830112151562010c1d57600080fd5b600462010c3462010c2e8262014f6e565b62014f17565b9150818385602084028201111562010c4b57600080fd5b60005b8381101562010c7f578162010c648882620110de565b84526020840193506020830192505060018101905062010c4e565b5050505092915050565b600082601f830112151562010c9d57600080fd5b813562010cb462010cae8262014f91565b62014f17565b9150818183526020840193506020810190508360005b8381101562010cfe578135860162010ce38882620110f4565b84526020840193506020830192505060018101905062010cca565b5050505092915050565b600082601f830112151562010d1c57600080fd5b815162010d3362010d2d8262014f91565b62014f17565b9150818183526020840193506020810190508360005b8381101562010d7d578151860162010d62888262011152565b84526020840193506020830192505060018101905062010d49565b5050505092915050565b600082601f830112151562010d9b57600080fd5b813562010db262010dac8262014fba565b62014f17565b9150818183526020840193506020810190508385602084028201111562010dd857600080fd5b60005b8381101562010e0c578162010df188826201120e565b84526020840193506020830192505060018101905062010ddb565b5050505092915050565b600082601f830112151562010e2a57600080fd5b813562010e4162010e3b8262014fe3565b62014f17565b9150818183526020840193506020810190508360005b8381101562010e8b578135860162010e70888262011224565b84526020840193506020830192505060018101905062010e57565b5050505092915050565b600082601f830112151562010ea957600080fd5b815162010ec062010eba8262014fe3565b62014f17565b9150818183526020840193506020810190508360005b8381101562010f0a578151860162010eef888262011282565b84526020840193506020830192505060018101905062010ed6565b5050505092915050565b600082601f830112151562010f2857600080fd5b600262010f3f62010f39826201500c565b62014f17565b9150818385602084028201111562010f5657600080fd5b60005b8381101562010f8a578162010f6f888262011354565b84526020840193506020830192505060018101905062010f59565b5050505092915050565b600082601f830112151562010fa857600080fd5b813562010fbf62010fb9826201502f565b62014f17565b9150818183526020840193506020810190508385602084028201111562010fe557600080fd5b60005b8381101562011019578162010ffe88826201133e565b84526020840193506020830192505060018101905062010fe8565b5050505092915050565b600082601f83011215156201103757600080fd5b81516201104e62011048826201502f565b62014f17565b915081818352602084019350602081019050838560208402820111156201107457600080fd5b60005b83811015620110a857816201108d888262011354565b84526020840193506020830192505060018101905062011077565b5050505092915050565b6000620110c082356201529c565b905092915050565b6000620110d682516201529c565b905092915050565b6000620110ec8235620152a8565b905092915050565b600082601f83011215156201110857600080fd5b81356201111f620111198262015058565b62014f17565b915080825260208301602083018583830111156201113c57600080fd5b620111498382846201530f565b50505092915050565b600082601f83011215156201116657600080fd5b81516201117d620111778262015058565b62014f17565b915080825260208301602083018583830111156201119a57600080fd5b620111a78382846201531e565b50505092915050565b600082601f8301121515620111c457600080fd5b8135620111db620111d58262015085565b62014f17565b91508082526020830160208301858383011115620111f857600080fd5b620112058382846201530f565b50505092915050565b60006201121c8235620152b2565b905092915050565b600082601f83011215156201123857600080fd5b81356201124f6201124982620150b2565b62014f17565b915080825260208301602083018583830111156201126c57600080fd5b620112798382846201530f565b50505092915050565b600082601f83011215156201129657600080fd5b8151620112ad620112a782620150b2565b62014f17565b91508082526020830160208301858383011115620112ca57600080fd5b620112d78382846201531e565b50505092915050565b600082601f8301121515620112f457600080fd5b81356201130b6201130582620150df565b62014f17565b915080825260208301602083018583830111156201132857600080fd5b620113358382846201530f565b50505092915050565b60006201134c8235620152bc565b905092915050565b6000620113628251620152bc565b905092915050565b6000620113788251620152c6565b905092915050565b6000602082840312156201139357600080fd5b6000620113a38482850162010ad5565b91505092915050565b60008060a083850312","15620113c057600080fd5b6000620113d08582860162010abf565b9250506020620113e38582860162010c09565b9150509250929050565b600080604083850312156201140157600080fd5b6000620114118582860162010ad5565b92505060206201142485828601620110c8565b9150509250929050565b600080600060c084860312156201144457600080fd5b6000620114548682870162010abf565b935050602062011467868287016201133e565b92505060406201147a8682870162010c09565b9150509250925092565b60008060008060e085870312156201149b57600080fd5b6000620114ab8782880162010abf565b9450506020620114be878288016201133e565b9350506040620114d1878288016201133e565b9250506060620114e48782880162010c09565b91505092959194509250565b60008060008060008060c087890312156201150a57600080fd5b60006201151a89828a0162010abf565b96505060206201152d89828a016201133e565b95505060406201154089828a016201133e565b94505060606201155389828a016201133e565b93505060806201156689828a016201133e565b92505060a06201157989828a016201133e565b9150509295509295509295565b6000602082840312156201159957600080fd5b600082015167ffffffffffffffff811115620115b457600080fd5b620115c28482850162010b7a565b91505092915050565b60008060008060e08587031215620115e257600080fd5b600085013567ffffffffffffffff811115620115fd57600080fd5b6201160b8782880162010aeb565b945050602085013567ffffffffffffffff8111156201162957600080fd5b620116378782880162010f94565b935050604085013567ffffffffffffffff8111156201165557600080fd5b620116638782880162010e16565b9250506060620116768782880162010c09565b91505092959194509250565b600080600080600061010086880312156201169c57600080fd5b600086013567ffffffffffffffff811115620116b757600080fd5b620116c58882890162010aeb565b955050602086013567ffffffffffffffff811115620116e357600080fd5b620116f18882890162010f94565b945050604086013567ffffffffffffffff8111156201170f57600080fd5b6201171d8882890162010f94565b935050606086013567ffffffffffffffff8111156201173b57600080fd5b620117498882890162010e16565b92505060806201175c8882890162010c09565b9150509295509295909350565b600080600080608085870312156201178057600080fd5b600085015167ffffffffffffffff8111156201179b57600080fd5b620117a98782880162010b7a565b945050602085015167ffffffffffffffff811115620117c757600080fd5b620117d58782880162011023565b935050604085015167ffffffffffffffff811115620117f357600080fd5b620118018782880162011023565b925050606062011814878288016201136a565b91505092959194509250565b600080604083850312156201183457600080fd5b600083015167ffffffffffffffff8111156201184f57600080fd5b6201185d8582860162010b7a565b9250506020620118708582860162011354565b9150509250929050565b6000608082840312156201188d57600080fd5b60006201189d8482850162010c09565b91505092915050565b60008060408385031215620118ba57600080fd5b600083015167ffffffffffffffff811115620118d557600080fd5b620118e38582860162010d08565b925050602083015167ffffffffffffffff8111156201190157600080fd5b6201190f8582860162010d08565b9150509250929050565b6000602082840312156201192c57600080fd5b600082015167ffffffffffffffff8111156201194757600080fd5b620119558482850162010e95565b91505092915050565b6000602082840312156201197157600080fd5b600082015167ffffffffffffffff8111156201198c57600080fd5b6201199a8482850162011023565b91505092915050565b60008060008060e08587031215620119ba57600080fd5b600085013567ffffffffffffffff811115620119d557600080fd5b620119e38782880162010f94565b945050602085013567ffffffffffffffff81111562011a0157600080fd5b62011a0f8782880162010aeb565b935050604085013567ffffffffffffffff81111562011a2d57600080fd5b62011a3b8782880162010d87565b925050606062011a4e8782880162010c09565b91505092959194509250565b60008060006060848603121562011a7057600080fd5b600084015167ffffffffffffffff81111562011a8b57600080fd5b62011a998682870162011023565b935050602084015167ffffffffffffffff81111562011ab757600080fd5b62011ac58682870162011023565b925050604062011ad88682870162011354565b9150509250925092565b60006020828403121562011af557600080fd5b600062011b0584828501620110c8565b91505092915050565b6000806060838503121562011b2257600080fd5b600062011b3285828601620110c8565b925050602062011b458582860162010f14565b9150509250929050565b60006020828403121562011b6257600080fd5b600082013567ffffffffffffffff81111562011b7d57600080fd5b62011b8b84828501620111b0565b91505092915050565b60008060a0838503121562011ba857600080fd5b600083013567ffffffffffffffff81111562011bc357600080fd5b62011bd185828601620111b0565b925050602062011be48582860162010c09565b9150509250929050565b6000806040838503121562011c0257600080fd5b600083013567ffffffffffffffff81111562011c1d57600080fd5b62011c2b85828601620111b0565b925050602083013567ffffffffffffffff81111562011c4957600080fd5b62011c5785828601620111b0565b9150509250929050565b600080600060c0848603121562011c7757600080fd5b600084013567ffffffffffffffff81111562011c9257600080fd5b62011ca086828701620111b0565b935050602084013567ffffffffffffffff81111562011cbe57600080fd5b62011ccc86828701620111b0565b925050604062011cdf8682870162010c09565b9150509250925092565b60006020828403121562011cfc57600080fd5b600062011d0c848285016201133e565b91505092915050565b60006020828403121562011d2857600080fd5b600062011d388482850162011354565b91505092915050565b600080600060c0848603121562011d5757600080fd5b600062011d67868287016201133e565b935050602062011d7a8682870162010abf565b925050604062011d8d8682870162010c09565b9150509250925092565b60008060008060e0858703121562011dae57600080fd5b600062011dbe878288016201133e565b945050602062011dd18782880162010abf565b935050604085013567ffffffffffffffff81111562011def57600080fd5b62011dfd87828801620112e0565b925050606062011e108782880162010c09565b91505092959194509250565b60008060a0838503121562011e3057600080fd5b600062011e40858286016201133e565b925050602062011e538582860162010c09565b9150509250929050565b6000806000806000610100868803121562011e7757600080fd5b600062011e87888289016201133e565b955050602086013567ffffffffffffffff81111562011ea557600080fd5b62011eb38882890162010c89565b945050604086013567ffffffffffffffff81111562011ed157600080fd5b62011edf8882890162010c89565b935050606062011ef28882890162010abf565b925050608062011f058882890162010c09565b9150509295509295909350565b6000806040838503121562011f2657600080fd5b600062011f368582860162011354565b925050602062011f498582860162011354565b9150509250929050565b60008060008060e0858703121562011f6a57600080fd5b600062011f7a878288016201133e565b945050602062011f8d878288016201133e565b935050604062011fa08782880162010abf565b925050606062011fb38782880162010c09565b91505092959194509250565b600080600060c0848603121562011fd557600080fd5b600062011fe5868287016201133e565b935050602062011ff8868287016201133e565b92505060406201200b8682870162010c09565b9150509250925092565b600080600080600061010086880312156201202f57600080fd5b60006201203f888289016201133e565b955050602062012052888289016201133e565b94505060406201206588828901620110b2565b9350506060620120788882890162010abf565b92505060806201208b8882890162010c09565b9150509295509295909350565b60008060008060808587031215620120af57600080fd5b6000620120bf878288016201133e565b9450506020620120d2878288016201133e565b9350506040620120e5878288016201133e565b9250506060620120f88782880162010abf565b91505092959194509250565b6000602082840312156201211757600080fd5b600062012127848285016201136a565b91505092915050565b6201213b8162015225565b82525050565b60006201214e8262015169565b80845260208401935062012162836201510c565b60005b828110156201219a576201217b86835162012130565b6201218682620151d7565b915060208601955060018101905062012165565b50849250505092915050565b620121b18162015174565b620121bc8262015119565b60005b82811015620121f457620121d5858351620123c6565b620121e082620151e4565b9150602085019450600181019050620121bf565b5050505050565b600062012208826201517f565b80845260208401935083602082028501620122238562015123565b60005b84811015620122625783830388526201224183835162012413565b92506201224e82620151f1565b915060208801975060018101905062012226565b508196508694505050505092915050565b600062012280826201518a565b808452602084019350620122948362015130565b60005b82811015620122cc57620122ad868351620124ff565b620122b882620151fe565b915060208601955060018101905062012297565b50849250505092915050565b6000620122e58262015195565b8084526020840193508360208202850162012300856201513d565b60005b848110156201233f5783830388526201231e8383516201255d565b92506201232b826201520b565b915060208801975060018101905062012303565b508196508694505050505092915050565b60006201235d82620151a0565b80845260208401935062012371836201514a565b60005b82811015620123a9576201238a868351620137c6565b620123958262015218565b915060208601955060018101905062012374565b50849250505092915050565b","620123c08162015245565b82525050565b620123d18162015251565b82525050565b6000620123e482620151b6565b808452620123fa8160208601602086016201531e565b620124058162015354565b602085010191505092915050565b60006201242082620151ab565b808452620124368160208601602086016201531e565b620124418162015354565b602085010191505092915050565b6000815460018116600081146201246f57600181146201249057620124d5565b607f600283041680865260ff198316602087015260408601935050620124d5565b60028204808652602086019550620124a88562015157565b60005b82811015620124cc57815481890152600182019150602081019050620124ab565b80880195505050505b505092915050565b620124e881620152d3565b82525050565b620124f981620152e7565b82525050565b6201250a816201525b565b82525050565b6201251b81620152fb565b82525050565b60006201252e82620151cc565b808452620125448160208601602086016201531e565b6201254f8162015354565b602085010191505092915050565b60006201256a82620151c1565b808452620125808160208601602086016201531e565b6201258b8162015354565b602085010191505092915050565b6000601a82527f466f7262696464656e2069737375654e6f6e46756e6769626c650000000000006020830152604082019050919050565b6000601d82527f466f7262696464656e206163636f756e74436f6e7461696e734e6f74650000006020830152604082019050919050565b6000603782527f466f7262696464656e206e6f6e46756e6769626c655175657279426f6f6b206260208301527f65636175736520796f75206172656e2774206f776e65720000000000000000006040830152606082019050919050565b6000603f82527f6e6f74657320686173206265656e20646566696e656420706c6561736520636860208301527f616e6765206e6f74654e6f507265666978206f72206e6f74654e6f53697a65006040830152606082019050919050565b6000601282527f466f7262696464656e20746561724e6f746500000000000000000000000000006020830152604082019050919050565b6000601982527f746865206163636f756e7420686173206265656e206f70656e000000000000006020830152604082019050919050565b6000601982527f466f7262696464656e206765744163636f756e744e6f746573000000000000006020830152604082019050919050565b6000602382527f417574683a6f6e6c79206163636f756e7420737461747573206973206e6f726d60208301527f616c2e00000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601682527f6e6f746520697320666f727a656e206f722074656172000000000000000000006020830152604082019050919050565b6000601d82527f7365744e6f6e46756e6769626c65507269636520466f7262696464656e0000006020830152604082019050919050565b6000601282527f6e6f7465206973206e6f7420666f727a656e00000000000000000000000000006020830152604082019050919050565b6000602a82527f6465736320627974657320617265206265747765656e203120616e642032353560208301527f20696e206c656e677468000000000000000000000000000000000000000000006040830152606082019050919050565b6000601482527f746f206163636f756e74206e6f742065786973740000000000000000000000006020830152604082019050919050565b6000601082527f777269746520626f6f6b206661696c21000000000000000000000000000000006020830152604082019050919050565b6000600b82527f656e61626c6542617463680000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f61646420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000600c82527f7570646174654e6f74654e6f00000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f706172616d73206e6f74207665726966790000000000000000000000000000006020830152604082019050919050565b6000601482527f7570646174654e6f746550726f706572746965730000000000000000000000006020830152604082019050919050565b6000601482527f466f7262696464656e20676574486f6c646572730000000000000000000000006020830152604082019050919050565b6000603282527f72657175697265203130203e206e6f74654e6f53697a65203e3020616e64206560208301527f787069726174696f6e44617465203e6e6f7700000000000000000000000000006040830152606082019050919050565b6000601982527f7265717569726520656666656374697665446174653e6e6f77000000000000006020830152604082019050919050565b6000600882527f7472616e736665720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000602b82527f466f7262696464656e207472616e7366657220626563617573652066726f6d2060208301527f69736e2774206f776e65720000000000000000000000000000000000000000006040830152606082019050919050565b6000601b82527f466f7262696464656e206765744e6f746550726f7065727469657300000000006020830152604082019050919050565b6000601682527f466f7262696464656e20676574546561724e6f746573000000000000000000006020830152604082019050919050565b6000601082527f69737375654e6f6e46756e6769626c65000000000000000000000000000000006020830152604082019050919050565b6000600a82527f676574486f6c64657273000000000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f72657175697265207374617274203c20656e64000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e206f70656e4163636f756e7400000000000000000000006020830152604082019050919050565b6000601c82527f726571756972652065787069726174696f6e44617465203e206e6f77000000006020830152604082019050919050565b6000601582527f6e6f7465206973206e6f742065666665637469766500000000000000000000006020830152604082019050919050565b6000601c82527f726571756972652065666665637469766544617465203e3d206e6f77000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000604182527f6c696d6974206e6f74207665726966792c6c696d69742073697a652073686f7560208301527f6c6420657175616c73203220616e64206c696d69745b305d3c6c696d69745b3160408301527f5d000000000000000000000000000000000000000000000000000000000000006060830152608082019050919050565b6000600e82527f67657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601682527f72657175697265206e6f74654e6f5072656669783e30000000000000000000006020830152604082019050919050565b6000600782527f616464426f6f6b000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f466f7262696464656e20616464426f6f6b0000000000000000000000000000006020830152604082019050919050565b6000600d82527f6765744e6f746544657461696c000000000000000000000000000000000000006020830152604082019050919050565b6000602f82527f6e6f7465436f756e74206f6620726563697069656e742073686f756c6420626560208301527f2067726561746572207468616e203000000000000000000000000000000000006040830152606082019050919050565b6000600882527f746561724e6f74650000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601382527f7365744e6f6e46756e6769626c655072696365000000000000000000000000006020830152604082019050919050565b6000602182527f6f70657261746f72206f72206163636f756e74206973206e6f74206e6f726d6160208301527f6c000000000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601482527f466f7262696464656e20666f727a656e4e6f74650000000000000000000000006020830152604082019050919050565b6000601982527f466f7262696464656e207570646174654e6f74654261746368000000000000006020830152604082019050919050565b6000600a82527f667265657a654e6f7465000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f726563697069656e7473206e6f742076657269667900000000000000000000006020830152604082019050919050565b6000601e82527f466f7262696464656e207570646174654e6f746550726f7065727469657300006020830152604082019050919050565b6000601d82527f466f7262696464656e206e6f6e46756e6769626c655472616e736665720000006020830152604082019050919050565b6000601b82527f66726f6d2f746f2061646472657373206e6f74207665726966792100000000006020830152604082019050919050565b6000600c82527f676574546561724e6f74657300000000000000000000000000000000000000006020830152604082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000600e82527f73657420466f7262696464656e210000000000000000000000000000000000006020830152604082019050919050565b6000601282527f6e6f746520646f65736e277420657869737400000000000000000000000000006020830152604082019050919050565b6000600f82527f7570646174654e6f7465426174636800000000000000000000000000000000006020830152604082019050919050565b6000601582527f72657175697265203530303e3d616d6f756e743e3000000000000000000000006020830152604082019050919050565b6000601d82527f746865206163636f756e7420686173206e6f74206265656e206f70656e0000006020830152604082019050919050565b6000601682527f466f7262696464656e20756e667265657a654e6f746500000000000000000000602083","0152604082019050919050565b6000601782527f466f7262626964656e206765744e6f746544657461696c0000000000000000006020830152604082019050919050565b6000601982527f6e65774e6f74654e6f20686173206265656e20697373756521000000000000006020830152604082019050919050565b6000600f82527f6765744163636f756e744e6f74657300000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f74206578697374000000000000000000006020830152604082019050919050565b6000601682527f466f7262696464656e207570646174654e6f74654e6f000000000000000000006020830152604082019050919050565b6000601382527f466f7262696464656e207175657279426f6f6b000000000000000000000000006020830152604082019050919050565b6000601282527f726571756972652064617465203e206e6f7700000000000000000000000000006020830152604082019050919050565b6000602782527f726571756972652065787069726174696f6e44617465203e202065666665637460208301527f69766544617465000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000601382527f6e6f746520646f65736e277420657869737421000000000000000000000000006020830152604082019050919050565b6000601182527f696e7365727420466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600b82527f6f70656e4163636f756e740000000000000000000000000000000000000000006020830152604082019050919050565b6000601182527f6765744e6f746550726f706572746965730000000000000000000000000000006020830152604082019050919050565b6000601182527f72656d6f766520466f7262696464656e210000000000000000000000000000006020830152604082019050919050565b6000600982527f7175657279426f6f6b00000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f466f7262696464656e20656e61626c65426174636800000000000000000000006020830152604082019050919050565b6000600c82527f756e667265657a654e6f746500000000000000000000000000000000000000006020830152604082019050919050565b6000601c82527f6e6f7465436f756e7473206e6f74206d61746368206e6f74654e6f73000000006020830152604082019050919050565b6000601382527f6163636f756e74436f6e7461696e734e6f7465000000000000000000000000006020830152604082019050919050565b620137d18162015265565b82525050565b620137e2816201526f565b82525050565b6000602082019050620137ff600083018462012130565b92915050565b60006080820190506201381c600083018762012130565b6201382b602083018662012130565b6201383a604083018562012130565b81810360608301526201384e8184620123d7565b905095945050505050565b600060a08201905062013870600083018862012130565b6201387f602083018762012130565b818103604083015262013893818662012413565b90508181036060830152620138a98185620123d7565b90508181036080830152620138bf81846201244f565b90509695505050505050565b600061010082019050620138e3600083018762012130565b620138f2602083018662012130565b8181036040830152620139058162012b11565b905081810360608301526201391b8185620123d7565b90506201392c6080830184620121a6565b95945050505050565b6000610100820190506201394d600083018762012130565b6201395c602083018662012130565b81810360408301526201396f8162012f2a565b90508181036060830152620139858185620123d7565b9050620139966080830184620121a6565b95945050505050565b600061010082019050620139b7600083018762012130565b620139c6602083018662012130565b8181036040830152620139d98162013430565b90508181036060830152620139ef8185620123d7565b905062013a006080830184620121a6565b95945050505050565b600060608201905062013a20600083018662012130565b62013a2f602083018562012130565b62013a3e6040830184620137c6565b949350505050565b60006101008201905062013a5e600083018862012130565b62013a6d6020830187620124dd565b818103604083015262013a818186620123d7565b9050818103606083015262013a978185620123d7565b905062013aa86080830184620121a6565b9695505050505050565b60006101008201905062013aca600083018762012130565b62013ad96020830186620124ee565b818103604083015262013aec8162012933565b9050818103606083015262013b028185620123d7565b905062013b136080830184620121a6565b95945050505050565b60006101008201905062013b34600083018762012130565b62013b436020830186620124ee565b818103604083015262013b5681620129a1565b9050818103606083015262013b6c8185620123d7565b905062013b7d6080830184620121a6565b95945050505050565b60006101008201905062013b9e600083018762012130565b62013bad6020830186620124ee565b818103604083015262013bc08162012a0f565b9050818103606083015262013bd68185620123d7565b905062013be76080830184620121a6565b95945050505050565b60006101008201905062013c08600083018762012130565b62013c176020830186620124ee565b818103604083015262013c2a8162012c13565b9050818103606083015262013c408185620123d7565b905062013c516080830184620121a6565b95945050505050565b60006101008201905062013c72600083018762012130565b62013c816020830186620124ee565b818103604083015262013c948162012c4a565b9050818103606083015262013caa8185620123d7565b905062013cbb6080830184620121a6565b95945050505050565b60006101008201905062013cdc600083018762012130565b62013ceb6020830186620124ee565b818103604083015262013cfe8162012ebc565b9050818103606083015262013d148185620123d7565b905062013d256080830184620121a6565b95945050505050565b60006101008201905062013d46600083018762012130565b62013d556020830186620124ee565b818103604083015262013d688162012fbe565b9050818103606083015262013d7e8185620123d7565b905062013d8f6080830184620121a6565b95945050505050565b60006101008201905062013db0600083018762012130565b62013dbf6020830186620124ee565b818103604083015262013dd28162012ff5565b9050818103606083015262013de88185620123d7565b905062013df96080830184620121a6565b95945050505050565b60006101008201905062013e1a600083018762012130565b62013e296020830186620124ee565b818103604083015262013e3c81620130f7565b9050818103606083015262013e528185620123d7565b905062013e636080830184620121a6565b95945050505050565b60006101008201905062013e84600083018762012130565b62013e936020830186620124ee565b818103604083015262013ea6816201320a565b9050818103606083015262013ebc8185620123d7565b905062013ecd6080830184620121a6565b95945050505050565b60006101008201905062013eee600083018762012130565b62013efd6020830186620124ee565b818103604083015262013f1081620132e6565b9050818103606083015262013f268185620123d7565b905062013f376080830184620121a6565b95945050505050565b60006101008201905062013f58600083018762012130565b62013f676020830186620124ee565b818103604083015262013f7a816201360e565b9050818103606083015262013f908185620123d7565b905062013fa16080830184620121a6565b95945050505050565b60006101008201905062013fc2600083018762012130565b62013fd16020830186620124ee565b818103604083015262013fe48162013645565b9050818103606083015262013ffa8185620123d7565b90506201400b6080830184620121a6565b95945050505050565b6000610100820190506201402c600083018762012130565b6201403b6020830186620124ee565b81810360408301526201404e81620136b3565b90508181036060830152620140648185620123d7565b9050620140756080830184620121a6565b95945050505050565b60006101008201905062014096600083018762012130565b620140a56020830186620124ee565b8181036040830152620140b88162013721565b90508181036060830152620140ce8185620123d7565b9050620140df6080830184620121a6565b95945050505050565b60006101008201905062014100600083018762012130565b6201410f6020830186620124ee565b818103604083015262014122816201378f565b90508181036060830152620141388185620123d7565b9050620141496080830184620121a6565b95945050505050565b600060408201905062014169600083018562012130565b620141786020830184620137c6565b9392505050565b600060608201905062014196600083018662012130565b620141a56020830185620137c6565b620141b46040830184620137c6565b949350505050565b60006020820190508181036000830152620141d8818462012141565b905092915050565b60006080820190508181036000830152620141fc818762012141565b9050818103602083015262014212818662012350565b9050818103604083015262014228818562012350565b9050620142396060830184620137d7565b95945050505050565b600060408201905081810360008301526201425e818562012141565b90506201426f6020830184620137c6565b9392505050565b6000606082019050818103600083015262014292818662012141565b9050620142a36020830185620137c6565b8181036040830152620142b78184620122d8565b9050949350505050565b60006040820190508181036000830152620142dd8185620121fb565b90508181036020830152620142f38184620121fb565b90509392505050565b60006020820190508181036000830152620143188184620122d8565b905092915050565b600060208201905081810360008301526201433c818462012350565b905092915050565b6000606082019050818103600083015262014360818662012350565b9050818103602083015262014376818562012141565b905081810360408301526201438c818462012273565b9050949350505050565b60006060820190508181036000830152620143b2818662012350565b905081","81036020830152620143c8818562012350565b9050620143d96040830184620137c6565b949350505050565b6000602082019050620143f86000830184620123b5565b92915050565b6000604082019050620144156000830185620123b5565b818103602083015262014429818462012350565b90509392505050565b600060208201905081810360008301526201444e818462012413565b905092915050565b60006020820190508181036000830152620144728184620123d7565b905092915050565b6000606082019050620144916000830186620124ee565b620144a0602083018562012130565b620144af6040830184620123b5565b949350505050565b6000602082019050620144ce600083018462012510565b92915050565b60006020820190508181036000830152620144f0818462012521565b905092915050565b60006020820190508181036000830152620145138162012599565b9050919050565b600060208201905081810360008301526201453581620125d0565b9050919050565b60006020820190508181036000830152620145578162012607565b9050919050565b60006020820190508181036000830152620145798162012664565b9050919050565b600060208201905081810360008301526201459b81620126c1565b9050919050565b60006020820190508181036000830152620145bd81620126f8565b9050919050565b60006020820190508181036000830152620145df816201272f565b9050919050565b60006020820190508181036000830152620146018162012766565b9050919050565b600060208201905081810360008301526201462381620127c3565b9050919050565b600060208201905081810360008301526201464581620127fa565b9050919050565b60006020820190508181036000830152620146678162012831565b9050919050565b60006020820190508181036000830152620146898162012868565b9050919050565b60006020820190508181036000830152620146ab81620128c5565b9050919050565b60006020820190508181036000830152620146cd81620128fc565b9050919050565b60006020820190508181036000830152620146ef816201296a565b9050919050565b600060208201905081810360008301526201471181620129d8565b9050919050565b60006020820190508181036000830152620147338162012a46565b9050919050565b60006020820190508181036000830152620147558162012a7d565b9050919050565b60006020820190508181036000830152620147778162012ada565b9050919050565b60006020820190508181036000830152620147998162012b48565b9050919050565b60006020820190508181036000830152620147bb8162012ba5565b9050919050565b60006020820190508181036000830152620147dd8162012bdc565b9050919050565b60006020820190508181036000830152620147ff8162012c81565b9050919050565b60006020820190508181036000830152620148218162012cb8565b9050919050565b60006020820190508181036000830152620148438162012cef565b9050919050565b60006020820190508181036000830152620148658162012d26565b9050919050565b60006020820190508181036000830152620148878162012d5d565b9050919050565b60006020820190508181036000830152620148a98162012d94565b9050919050565b60006020820190508181036000830152620148cb8162012dcb565b9050919050565b60006020820190508181036000830152620148ed8162012e4e565b9050919050565b600060208201905081810360008301526201490f8162012e85565b9050919050565b60006020820190508181036000830152620149318162012ef3565b9050919050565b60006020820190508181036000830152620149538162012f61565b9050919050565b6000602082019050818103600083015262014975816201302c565b9050919050565b60006020820190508181036000830152620149978162013089565b9050919050565b60006020820190508181036000830152620149b981620130c0565b9050919050565b60006020820190508181036000830152620149db816201312e565b9050919050565b60006020820190508181036000830152620149fd8162013165565b9050919050565b6000602082019050818103600083015262014a1f816201319c565b9050919050565b6000602082019050818103600083015262014a4181620131d3565b9050919050565b6000602082019050818103600083015262014a638162013241565b9050919050565b6000602082019050818103600083015262014a858162013278565b9050919050565b6000602082019050818103600083015262014aa781620132af565b9050919050565b6000602082019050818103600083015262014ac9816201331d565b9050919050565b6000602082019050818103600083015262014aeb8162013354565b9050919050565b6000602082019050818103600083015262014b0d816201338b565b9050919050565b6000602082019050818103600083015262014b2f81620133c2565b9050919050565b6000602082019050818103600083015262014b5181620133f9565b9050919050565b6000602082019050818103600083015262014b738162013467565b9050919050565b6000602082019050818103600083015262014b95816201349e565b9050919050565b6000602082019050818103600083015262014bb781620134d5565b9050919050565b6000602082019050818103600083015262014bd9816201350c565b9050919050565b6000602082019050818103600083015262014bfb8162013543565b9050919050565b6000602082019050818103600083015262014c1d81620135a0565b9050919050565b6000602082019050818103600083015262014c3f81620135d7565b9050919050565b6000602082019050818103600083015262014c61816201367c565b9050919050565b6000602082019050818103600083015262014c8381620136ea565b9050919050565b6000602082019050818103600083015262014ca58162013758565b9050919050565b600060208201905062014cc36000830184620137c6565b92915050565b600060408201905062014ce06000830185620137c6565b62014cef602083018462012130565b9392505050565b600060608201905062014d0d6000830186620137c6565b818103602083015262014d218185620121fb565b9050818103604083015262014d378184620121fb565b9050949350505050565b600060608201905062014d586000830186620137c6565b818103602083015262014d6c818562012350565b9050818103604083015262014d82818462012350565b9050949350505050565b600060408201905062014da36000830185620137c6565b62014db26020830184620137c6565b9392505050565b600060808201905062014dd06000830187620137c6565b62014ddf6020830186620137c6565b62014dee604083018562012130565b62014dfd6060830184620137c6565b95945050505050565b600060608201905062014e1d6000830186620137c6565b62014e2c6020830185620137c6565b62014e3b6040830184620123b5565b949350505050565b600060808201905062014e5a6000830187620137c6565b62014e696020830186620137c6565b62014e786040830185620137c6565b62014e87606083018462012130565b95945050505050565b600060608201905062014ea76000830186620137c6565b62014eb66020830185620137c6565b62014ec56040830184620137d7565b949350505050565b600060408201905062014ee46000830185620137c6565b62014ef36020830184620137d7565b9392505050565b600060208201905062014f116000830184620137d7565b92915050565b6000604051905081810181811067ffffffffffffffff8211171562014f3b57600080fd5b8060405250919050565b600067ffffffffffffffff82111562014f5d57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562014f8657600080fd5b602082029050919050565b600067ffffffffffffffff82111562014fa957600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562014fd257600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111562014ffb57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff8211156201502457600080fd5b602082029050919050565b600067ffffffffffffffff8211156201504757600080fd5b602082029050602081019050919050565b600067ffffffffffffffff8211156201507057600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156201509d57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115620150ca57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115620150f757600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000819050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b60008160005260206000209050919050565b600081519050919050565b600060049050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b6000819050919050565b600060ff82169050919050565b6000620152e08262015225565b9050919050565b6000620152f48262015225565b9050919050565b6000620153088262015265565b9050919050565b82818337600083830152505050565b60005b838110156201533e57808201518184015260208101905062015321565b838111156201534e576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a7230582026551538de535f32130953d6cf07db0c56c8aeb660aa05f2d30ebec84650a6c16c6578706572696d656e74616cf5003760806040523480156200001157600080fd5b5060405162","0057e2380380620057e2833981018060405262000037919081019062000395565b826000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600260019080600181540180825580915050906001820390600052602060002001600090919290919091505550611001600160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600c9080519060200190620000ff9291906200025c565b50600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c92a7801600c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200017a919062000552565b602060405180830381600087803b1580156200019557600080fd5b505af1158015620001aa573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001d0919081019062000404565b5080600d60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555033600e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055505050506200066d565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106200029f57805160ff1916838001178555620002d0565b82800160010185558215620002d0579182015b82811115620002cf578251825591602001919060010190620002b2565b5b509050620002df9190620002e3565b5090565b6200030891905b8082111562000304576000816000905550600101620002ea565b5090565b90565b60006200031982516200060d565b905092915050565b60006200032f82516200062d565b905092915050565b600082601f83011215156200034b57600080fd5b8151620003626200035c82620005ce565b620005a0565b915080825260208301602083018583830111156200037f57600080fd5b6200038c83828462000637565b50505092915050565b600080600060608486031215620003ab57600080fd5b6000620003bb868287016200030b565b935050602084015167ffffffffffffffff811115620003d957600080fd5b620003e78682870162000337565b9250506040620003fa868287016200030b565b9150509250925092565b6000602082840312156200041757600080fd5b6000620004278482850162000321565b91505092915050565b6000815460018116600081146200045057600181146200047157620004b6565b607f600283041680865260ff198316602087015260408601935050620004b6565b600282048086526020860195506200048985620005fb565b60005b82811015620004ad578154818901526001820191506020810190506200048c565b80880195505050505b505092915050565b6000602e82527f7465726d5f6e6f2c7365712c66726f6d2c746f2c6e6f746549642c617373657460208301527f2c6f70657261746f722c646573630000000000000000000000000000000000006040830152606082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b600060608201905081810360008301526200056e818462000430565b9050818103602083015262000583816200051b565b905081810360408301526200059881620004be565b905092915050565b6000604051905081810181811067ffffffffffffffff82111715620005c457600080fd5b8060405250919050565b600067ffffffffffffffff821115620005e657600080fd5b601f19601f8301169050602081019050919050565b60008160005260206000209050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60005b83811015620006575780820151818401526020810190506200063a565b8381111562000667576000848401525b50505050565b615165806200067d6000396000f30060806040526004361061006d576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806311567c421461007257806345be589e1461009d578063b32cf81b146100c8578063c19f641414610105578063d121179914610143575b600080fd5b34801561007e57600080fd5b50610087610181565b60405161009491906148e1565b60405180910390f35b3480156100a957600080fd5b506100b2610189565b6040516100bf9190614dff565b60405180910390f35b3480156100d457600080fd5b506100ef60048036036100ea9190810190614102565b6101e6565b6040516100fc919061497f565b60405180910390f35b34801561011157600080fd5b5061012c60048036036101279190810190614096565b61097e565b60405161013a92919061494f565b60405180910390f35b34801561014f57600080fd5b5061016a60048036036101659190810190614017565b611149565b6040516101789291906149a1565b60405180910390f35b600030905090565b60006002600160028054905001908060018154018082558091505090600182039060005260206000200160009091929091909150555060026001600280549050038154811015156101d657fe5b9060005260206000200154905090565b60606000606060006060600080606060008b511180610206575060008a51115b1515610247576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161023e90614d6a565b60405180910390fd5b600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016102bf9190614a6e565b602060405180830381600087803b1580156102d957600080fd5b505af11580156102ed573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506103119190810190614214565b965061031d8b8b61097e565b80965081975050508673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561038957600080fd5b505af115801561039d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506103c19190810190614199565b92506000915060008b511180156103f1575060008b60008151811015156103e457fe5b9060200190602002015114155b1561049e578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56104338d600081518110151561042457fe5b90602001906020020151611c1b565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161046b9190614d35565b600060405180830381600087803b15801561048557600080fd5b505af1158015610499573d6000803e3d6000fd5b505050505b60018b511180156104c8575060008b60018151811015156104bb57fe5b9060200190602002015114155b15610575578273ffffffffffffffffffffffffffffffffffffffff1663ae763db561050a8d60018151811015156104fb57fe5b90602001906020020151611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016105429190614b93565b600060405180830381600087803b15801561055c57600080fd5b505af1158015610570573d6000803e3d6000fd5b505050505b60028b5111801561059f575060008b600281518110151561059257fe5b9060200190602002015114155b1561064c578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56105e18d60028151811015156105d257fe5b90602001906020020151611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016106199190614c3d565b600060405180830381600087803b15801561063357600080fd5b505af1158015610647573d6000803e3d6000fd5b505050505b60008a511180156106a25750600073ffffffffffffffffffffffffffffffffffffffff168a600081518110151561067f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610765578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56106fa8c60008151811015156106d557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107329190614be8565b600060405180830381600087803b15801561074c57600080fd5b505af1158015610760573d6000803e3d6000fd5b505050505b60018a511180156107bb5750600073ffffffffffffffffffffffffffffffffffffffff168a600181518110151561079857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b1561087e578273ffffffffffffffffffffffffffffffffffffffff1663ae763db56108138c60018151811015156107ee57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161084b9190614dca565b600060405180830381600087803b15801561086557600080fd5b505af1158015610879573d6000803e3d6000fd5b505050505b8273ffffffffffffffffffffffffffffffffffffffff1663324927378a60008151811015156108a957fe5b906020019060200201518b60018151811015156108c257fe5b906020019060200201516040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016109059291906149e5565b600060405180830381600087803b15801561091f57600080fd5b505af1158015610933573d6000803e3d6000fd5b50505050610942868685611ee6565b80935081925050506000815111801561095b5750600082135b1561096d5761096a81836121ee565b93505b839750505050505050509392505050565b606060006060600080600080600080600280549050604051908082","5280602002602001820160405280156109c15781602001602082028038833980820191505090505b50965060018b511180156109ee575060008b60018151811015156109e157fe5b9060200190602002015114155b15610a7c576000600460008d6001815181101515610a0857fe5b90602001906020020151815260200190815260200160002054141515610a7b576001876001600460008f6001815181101515610a4057fe5b9060200190602002015181526020019081526020016000205403815181101515610a6657fe5b90602001906020020190151590811515815250505b5b60008b51118015610aa6575060008b6000815181101515610a9957fe5b9060200190602002015114155b15610bc157600095505b600360008c6000815181101515610ac357fe5b90602001906020020151815260200190815260200160002080549050861015610bc057866001600360008e6000815181101515610afc57fe5b90602001906020020151815260200190815260200160002088815481101515610b2157fe5b906000526020600020015403815181101515610b3957fe5b906020019060200201511515610bb3576001876001600360008f6000815181101515610b6157fe5b90602001906020020151815260200190815260200160002089815481101515610b8657fe5b906000526020600020015403815181101515610b9e57fe5b90602001906020020190151590811515815250505b8580600101965050610ab0565b5b60028b51118015610beb575060008b6002815181101515610bde57fe5b9060200190602002015114155b15610d0657600094505b600760008c6002815181101515610c0857fe5b90602001906020020151815260200190815260200160002080549050851015610d0557866001600760008e6002815181101515610c4157fe5b90602001906020020151815260200190815260200160002087815481101515610c6657fe5b906000526020600020015403815181101515610c7e57fe5b906020019060200201511515610cf8576001876001600760008f6002815181101515610ca657fe5b90602001906020020151815260200190815260200160002088815481101515610ccb57fe5b906000526020600020015403815181101515610ce357fe5b90602001906020020190151590811515815250505b8480600101955050610bf5565b5b60008a51118015610d5c5750600073ffffffffffffffffffffffffffffffffffffffff168a6000815181101515610d3957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b15610efb57600093505b600560008b6000815181101515610d7957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002080549050841015610efa57866001600560008d6000815181101515610dde57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002086815481101515610e2f57fe5b906000526020600020015403815181101515610e4757fe5b906020019060200201511515610eed576001876001600560008e6000815181101515610e6f57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002087815481101515610ec057fe5b906000526020600020015403815181101515610ed857fe5b90602001906020020190151590811515815250505b8380600101945050610d66565b5b60018a51118015610f515750600073ffffffffffffffffffffffffffffffffffffffff168a6001815181101515610f2e57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1614155b156110f057600092505b600660008b6001815181101515610f6e57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020805490508310156110ef57866001600660008d6001815181101515610fd357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208581548110151561102457fe5b90600052602060002001540381518110151561103c57fe5b9060200190602002015115156110e2576001876001600660008e600181518110151561106457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020868154811015156110b557fe5b9060005260206000200154038151811015156110cd57fe5b90602001906020020190151590811515815250505b8280600101935050610f5b565b5b60009150600090505b865181101561113557868181518110151561111057fe5b90602001906020020151156111285781806001019250505b80806001019150506110f9565b868298509850505050505050509250929050565b6000611153613c53565b60006060600080600080611165613c53565b60048c51101515156111ac576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016111a390614d6a565b60405180910390fd5b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16631bf727356040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401600060405180830381600087803b15801561123157600080fd5b505af1158015611245573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061126e91908101906142d0565b80975081985050506000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663bd332ffe6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156112fb57600080fd5b505af115801561130f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061133391908101906142a7565b945061134287868e8e8e612be1565b9350600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113bc9190614a6e565b602060405180830381600087803b1580156113d657600080fd5b505af11580156113ea573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061140e9190810190614214565b92508273ffffffffffffffffffffffffffffffffffffffff16634c6f30c0611456600260016002805490500381548110151561144657fe5b9060005260206000200154611c1b565b866040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611490929190614a3e565b602060405180830381600087803b1580156114aa57600080fd5b505af11580156114be573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506114e2919081019061423d565b91507f246d61ff6a7af5762a067fba9052b5d9f4c893cf3b8358ee15d4b0e9300068f68c8c8c8560405161151994939291906148fc565b60405180910390a1600860008881526020019081526020016000206000600260016002805490500381548110151561154d57fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff161515611637576003600088815260200190815260200160002060026001600280549050038154811015156115a457fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600860008981526020019081526020016000206000600260016002805490500381548110151561160657fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600260016002805490500381548110151561164e57fe5b90600052602060002001546004600087815260200190815260200160002081905550600960008d600281518110151561168357fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600060026001600280549050038154811015156116e057fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615801561175957508b600281518110151561171e57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b156118a357600560008d600281518110151561177157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060026001600280549050038154811015156117cc57fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600960008e600281518110151561181557fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206000600260016002805490500381548110151561187257fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600a60008d60038151811015156118b657fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206000600260016002805490500381548110151561191357fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff1615801561198c57508b600381518110151561195157fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b15611ad657600660008d600381","51811015156119a457fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060026001600280549050038154811015156119ff57fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600a60008e6003815181101515611a4857fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006002600160028054905003815481101515611aa557fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b600b60008c815260200190815260200160002060006002600160028054905003815481101515611b0257fe5b9060005260206000200154815260200190815260200160002060009054906101000a900460ff161515611bec57600760008c81526020019081526020016000206002600160028054905003815481101515611b5957fe5b906000526020600020015490806001815401808255809150509060018203906000526020600020016000909192909190915055506001600b60008d815260200190815260200160002060006002600160028054905003815481101515611bbb57fe5b9060005260206000200154815260200190815260200160002060006101000a81548160ff0219169083151502179055505b604080519081016040528088815260200186815250905060018214819850985050505050505050935093915050565b60606000806060600080861415611c69576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509450611d69565b8593505b600084141515611c93578280600101935050600a84811515611c8b57fe5b049350611c6d565b826040519080825280601f01601f191660200182016040528015611cc65781602001602082028038833980820191505090505b5091506001830390505b600086141515611d6557600a86811515611ce657fe5b066030017f010000000000000000000000000000000000000000000000000000000000000002828280600190039350815181101515611d2157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a86811515611d5d57fe5b049550611cd0565b8194505b50505050919050565b60606000806000606060008673ffffffffffffffffffffffffffffffffffffffff1694506000851415611ddc576040805190810160405280600181526020017f30000000000000000000000000000000000000000000000000000000000000008152509550611edc565b8493505b600084141515611e06578280600101935050600a84811515611dfe57fe5b049350611de0565b826040519080825280601f01601f191660200182016040528015611e395781602001602082028038833980820191505090505b5091506001830390505b600085141515611ed857600a85811515611e5957fe5b066030017f010000000000000000000000000000000000000000000000000000000000000002828280600190039350815181101515611e9457fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a85811515611ed057fe5b049450611e43565b8195505b5050505050919050565b6060600080600060606000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f6c9190614a6e565b602060405180830381600087803b158015611f8657600080fd5b505af1158015611f9a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611fbe9190810190614214565b95506000945089604051908082528060200260200182016040528015611ff35781602001602082028038833980820191505090505b50935060009250600091505b8a518210156121da578a8281518110151561201657fe5b90602001906020020151156121cd578573ffffffffffffffffffffffffffffffffffffffff1663d8ac595761204d60018501611c1b565b8b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612087929190614a0e565b602060405180830381600087803b1580156120a157600080fd5b505af11580156120b5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506120d991908101906141c2565b90508073ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561213f57600080fd5b505af1158015612153573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612177919081019061423d565b8501945080848480600101955081518110151561219057fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250505b8180600101925050611fff565b838597509750505050505050935093915050565b606080600080600080600060606008890260405190808252806020026020018201604052801561223257816020015b606081526020019060019003908161221d5790505b509650600095505b8951861015612bd157898681518110151561225157fe5b90602001906020020151945060009350600092505b8473ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156122ca57600080fd5b505af11580156122de573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612302919081019061423d565b831215612bc4578473ffffffffffffffffffffffffffffffffffffffff16633dd2b614846040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161235e91906149ca565b602060405180830381600087803b15801561237857600080fd5b505af115801561238c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506123b091908101906141eb565b9150600093506125b78273ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161240c90614bc8565b600060405180830381600087803b15801561242657600080fd5b505af115801561243a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506124639190810190614266565b8373ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016124b690614daa565b600060405180830381600087803b1580156124d057600080fd5b505af11580156124e4573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061250d9190810190614266565b8473ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161256090614b05565b602060405180830381600087803b15801561257a57600080fd5b505af115801561258e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506125b29190810190613fee565b613312565b9050600381511415156125ff576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016125f690614a90565b60405180910390fd5b8173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161265290614d15565b600060405180830381600087803b15801561266c57600080fd5b505af1158015612680573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506126a99190810190614266565b878585600802018151811015156126bc57fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161271c90614b73565b600060405180830381600087803b15801561273657600080fd5b505af115801561274a573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506127739190810190614266565b8785600101955085856008020181518110151561278c57fe5b906020019060200201819052508060008151811015156127a857fe5b90602001906020020151878560010195508585600802018151811015156127cb57fe5b906020019060200201819052508060018151811015156127e757fe5b906020019060200201518785600101955085856008020181518110151561280a57fe5b90602001906020020181905250612999600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16633889c9e461290a8573ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016128ae90614c1d565b600060405180830381600087803b1580156128c857600080fd5b505af11580156128dc573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506129059190810190614266565b6138b1565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016129429190614dff565b602060405180830381600087803b15801561295c57600080fd5b505af1158015612970573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061299491908101906142a7565b611c1b565b","878560010195508585600802018151811015156129b257fe5b906020019060200201819052508173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a1290614ab0565b600060405180830381600087803b158015612a2c57600080fd5b505af1158015612a40573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250612a699190810190614266565b87856001019550858560080201815181101515612a8257fe5b90602001906020020181905250612b528273ffffffffffffffffffffffffffffffffffffffff166307afbf3a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ae590614c72565b602060405180830381600087803b158015612aff57600080fd5b505af1158015612b13573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612b379190810190613fee565b73ffffffffffffffffffffffffffffffffffffffff16611d72565b87856001019550858560080201815181101515612b6b57fe5b90602001906020020181905250806002815181101515612b8757fe5b9060200190602002015187856001019550858560080201815181101515612baa57fe5b906020019060200201819052508280600101935050612266565b858060010196505061223a565b8697505050505050505092915050565b6000806000600160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166359a48b65600c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c5e9190614a6e565b602060405180830381600087803b158015612c7857600080fd5b505af1158015612c8c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612cb09190810190614214565b91508173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015612d1657600080fd5b505af1158015612d2a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612d4e91908101906141eb565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4612d966002600160028054905003815481101515612d8657fe5b9060005260206000200154611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612dce9190614ce0565b600060405180830381600087803b158015612de857600080fd5b505af1158015612dfc573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4612e2589611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612e5d9190614b93565b600060405180830381600087803b158015612e7757600080fd5b505af1158015612e8b573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4612eb48a611c1b565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612eec9190614d35565b600060405180830381600087803b158015612f0657600080fd5b505af1158015612f1a573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4612f71886002815181101515612f4c57fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612fa99190614be8565b600060405180830381600087803b158015612fc357600080fd5b505af1158015612fd7573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461302e88600381518110151561300957fe5b9060200190602002015173ffffffffffffffffffffffffffffffffffffffff16611d72565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130669190614dca565b600060405180830381600087803b15801561308057600080fd5b505af1158015613094573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98760018151811015156130c357fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131059190614c92565b600060405180830381600087803b15801561311f57600080fd5b505af1158015613133573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb461315c87611c1b565b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131949190614c3d565b600060405180830381600087803b1580156131ae57600080fd5b505af11580156131c2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663517c4dd98760008151811015156131f157fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132339190614b25565b600060405180830381600087803b15801561324d57600080fd5b505af1158015613261573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb485600081518110151561329057fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132d29190614ad0565b600060405180830381600087803b1580156132ec57600080fd5b505af1158015613300573d6000803e3d6000fd5b50505050809250505095945050505050565b606080600080600360405190808252806020026020018201604052801561334d57816020015b60608152602001906001900390816133385790505b50925060008751118015613396575061336587613a82565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b1561352057600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade66133e289613a82565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161341a91906148e1565b602060405180830381600087803b15801561343457600080fd5b505af1158015613448573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061346c9190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156134e0576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016134d790614cc0565b60405180910390fd5b6134ff8173ffffffffffffffffffffffffffffffffffffffff16611d72565b83600081518110151561350e57fe5b9060200190602002018190525061353e565b8683600081518110151561353057fe5b906020019060200201819052505b60008651118015613584575061355386613a82565b73ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614155b1561370e57600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade66135d088613a82565b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161360891906148e1565b602060405180830381600087803b15801561362257600080fd5b505af1158015613636573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061365a9190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16141515156136ce576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016136c590614b53565b60405180910390fd5b6136ed8173ffffffffffffffffffffffffffffffffffffffff16611d72565b8360018151811015156136fc57fe5b9060200190602002018190525061372c565b8583600181518110151561371e57fe5b906020019060200201819052505b600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663c4dcade6866040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016137a391906148e1565b602060405180830381600087803b1580156137bd57600080fd5b505af11580156137d1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506137f59190810190613fee565b90508073ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff1614151515613869576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161386090614d8a565b60405180910390fd5b6138888173ffffffffffffffffffffffffffffffffffffffff16611d72565b83600281518110151561389757fe5b906020019060200201819052508293505050509392505050565b6000606060008084925060009150600090505b8251811015613a7757603083828151811015156138dd57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff16101580156139db57506039838281518110151561396757fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000","000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613a6a57603083828151811015156139f057fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b80806001019150506138c4565b819350505050919050565b6000606060008084925060009150600090505b8251811015613c485760308382815181101515613aae57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1610158015613bac575060398382815181101515613b3857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f0100000000000000000000000000000000000000000000000000000000000000900460ff1611155b15613c3b5760308382815181101515613bc157fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027f010000000000000000000000000000000000000000000000000000000000000090040360ff16600a83020191505b8080600101915050613a95565b819350505050919050565b6040805190810160405280600290602082028038833980820191505090505090565b6000613c818235615038565b905092915050565b6000613c958251615038565b905092915050565b600082601f8301121515613cb057600080fd5b8135613cc3613cbe82614e47565b614e1a565b91508181835260208401935060208101905083856020840282011115613ce857600080fd5b60005b83811015613d185781613cfe8882613c75565b845260208401935060208301925050600181019050613ceb565b5050505092915050565b600082601f8301121515613d3557600080fd5b8135613d48613d4382614e6f565b614e1a565b91508181835260208401935060208101905083856020840282011115613d6d57600080fd5b60005b83811015613d9d5781613d838882613ef2565b845260208401935060208301925050600181019050613d70565b5050505092915050565b600082601f8301121515613dba57600080fd5b8135613dcd613dc882614e97565b614e1a565b9150818183526020840193506020810190508360005b83811015613e135781358601613df98882613f1a565b845260208401935060208301925050600181019050613de3565b5050505092915050565b600082601f8301121515613e3057600080fd5b8135613e43613e3e82614ebf565b614e1a565b91508181835260208401935060208101905083856020840282011115613e6857600080fd5b60005b83811015613e985781613e7e8882613fc6565b845260208401935060208301925050600181019050613e6b565b5050505092915050565b6000613eae8251615058565b905092915050565b6000613ec2825161506a565b905092915050565b6000613ed6825161507c565b905092915050565b6000613eea825161508e565b905092915050565b6000613efe82356150a0565b905092915050565b6000613f1282516150a0565b905092915050565b600082601f8301121515613f2d57600080fd5b8135613f40613f3b82614ee7565b614e1a565b91508082526020830160208301858383011115613f5c57600080fd5b613f678382846150d8565b50505092915050565b600082601f8301121515613f8357600080fd5b8151613f96613f9182614f13565b614e1a565b91508082526020830160208301858383011115613fb257600080fd5b613fbd8382846150e7565b50505092915050565b6000613fd282356150aa565b905092915050565b6000613fe682516150aa565b905092915050565b60006020828403121561400057600080fd5b600061400e84828501613c89565b91505092915050565b60008060006060848603121561402c57600080fd5b600084013567ffffffffffffffff81111561404657600080fd5b61405286828701613c9d565b935050602061406386828701613fc6565b925050604084013567ffffffffffffffff81111561408057600080fd5b61408c86828701613da7565b9150509250925092565b600080604083850312156140a957600080fd5b600083013567ffffffffffffffff8111156140c357600080fd5b6140cf85828601613e1d565b925050602083013567ffffffffffffffff8111156140ec57600080fd5b6140f885828601613c9d565b9150509250929050565b60008060006060848603121561411757600080fd5b600084013567ffffffffffffffff81111561413157600080fd5b61413d86828701613e1d565b935050602084013567ffffffffffffffff81111561415a57600080fd5b61416686828701613c9d565b925050604084013567ffffffffffffffff81111561418357600080fd5b61418f86828701613d22565b9150509250925092565b6000602082840312156141ab57600080fd5b60006141b984828501613ea2565b91505092915050565b6000602082840312156141d457600080fd5b60006141e284828501613eb6565b91505092915050565b6000602082840312156141fd57600080fd5b600061420b84828501613eca565b91505092915050565b60006020828403121561422657600080fd5b600061423484828501613ede565b91505092915050565b60006020828403121561424f57600080fd5b600061425d84828501613f06565b91505092915050565b60006020828403121561427857600080fd5b600082015167ffffffffffffffff81111561429257600080fd5b61429e84828501613f70565b91505092915050565b6000602082840312156142b957600080fd5b60006142c784828501613fda565b91505092915050565b600080604083850312156142e357600080fd5b60006142f185828601613fda565b925050602083015167ffffffffffffffff81111561430e57600080fd5b61431a85828601613f70565b9150509250929050565b61432d81614ff8565b82525050565b600061433e82614f82565b80845260208401935061435083614f3f565b60005b8281101561438257614366868351614324565b61436f82614fc4565b9150602086019550600181019050614353565b50849250505092915050565b600061439982614f8d565b8084526020840193506143ab83614f4c565b60005b828110156143dd576143c18683516144a2565b6143ca82614fd1565b91506020860195506001810190506143ae565b50849250505092915050565b60006143f482614f98565b8084526020840193508360208202850161440d85614f59565b60005b84811015614446578383038852614428838351614514565b925061443382614fde565b9150602088019750600181019050614410565b508196508694505050505092915050565b61446081614fa3565b61446982614f66565b60005b8281101561449b5761447f8583516148d2565b61448882614feb565b915060208501945060018101905061446c565b5050505050565b6144ab81615018565b82525050565b6144ba816150b4565b82525050565b6144c9816150c6565b82525050565b6144d881615024565b82525050565b60006144e982614fb9565b8084526144fd8160208601602086016150e7565b6145068161511a565b602085010191505092915050565b600061451f82614fae565b8084526145338160208601602086016150e7565b61453c8161511a565b602085010191505092915050565b6000815460018116600081146145675760018114614587576145c8565b607f600283041680865260ff1983166020870152604086019350506145c8565b6002820480865260208601955061459d85614f70565b60005b828110156145bf578154818901526001820191506020810190506145a0565b80880195505050505b505092915050565b6000601282527f6163636f756e74206e6f742076657269667900000000000000000000000000006020830152604082019050919050565b6000600482527f64657363000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f6f70657261746f720000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f746f206163636f756e74206e6f7420666f756e640000000000000000000000006020830152604082019050919050565b6000600382527f73657100000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600482527f66726f6d000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600682527f6e6f7465496400000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600582527f61737365740000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601682527f66726f6d206163636f756e74206e6f7420666f756e64000000000000000000006020830152604082019050919050565b6000600782527f626f6f6b5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f7465726d5f6e6f000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601882527f506172616d73206973206e6f7420636f6d706c69616e636500000000000000006020830152604082019050919050565b6000601a82527f6f70657261746f72206163636f756e74206e6f7420666f756e640000000000006020830152604082019050919050565b6000600282527f746f0000000000000000000000000000000000000000000000000000000000006020830152604082019050919050565b6148db8161502e565b82525050565b60006020820190506148f66000830184614324565b92915050565b600060808201905081810360008301526149168187614333565b905061492560208301866148d2565b818103604083015261493781856143e9565b905061494660608301846144cf565b95945050505050565b60006040820190508181036000830152614969818561438e565b905061497860208301846148d2565b9392505050565b6000602082019050818103600083015261499981846143e9565b","905092915050565b60006060820190506149b660008301856144a2565b6149c36020830184614457565b9392505050565b60006020820190506149df60008301846144cf565b92915050565b60006040820190506149fa60008301856144cf565b614a0760208301846144cf565b9392505050565b60006040820190508181036000830152614a2881856144de565b9050614a3760208301846144b1565b9392505050565b60006040820190508181036000830152614a5881856144de565b9050614a6760208301846144c0565b9392505050565b60006020820190508181036000830152614a88818461454a565b905092915050565b60006020820190508181036000830152614aa9816145d0565b9050919050565b60006020820190508181036000830152614ac981614607565b9050919050565b60006040820190508181036000830152614ae981614607565b90508181036020830152614afd8184614514565b905092915050565b60006020820190508181036000830152614b1e8161463e565b9050919050565b60006040820190508181036000830152614b3e8161463e565b9050614b4d6020830184614324565b92915050565b60006020820190508181036000830152614b6c81614675565b9050919050565b60006020820190508181036000830152614b8c816146ac565b9050919050565b60006040820190508181036000830152614bac816146ac565b90508181036020830152614bc081846144de565b905092915050565b60006020820190508181036000830152614be1816146e3565b9050919050565b60006040820190508181036000830152614c01816146e3565b90508181036020830152614c1581846144de565b905092915050565b60006020820190508181036000830152614c368161471a565b9050919050565b60006040820190508181036000830152614c568161471a565b90508181036020830152614c6a81846144de565b905092915050565b60006020820190508181036000830152614c8b81614751565b9050919050565b60006040820190508181036000830152614cab81614751565b9050614cba6020830184614324565b92915050565b60006020820190508181036000830152614cd981614788565b9050919050565b60006040820190508181036000830152614cf9816147bf565b90508181036020830152614d0d81846144de565b905092915050565b60006020820190508181036000830152614d2e816147f6565b9050919050565b60006040820190508181036000830152614d4e816147f6565b90508181036020830152614d6281846144de565b905092915050565b60006020820190508181036000830152614d838161482d565b9050919050565b60006020820190508181036000830152614da381614864565b9050919050565b60006020820190508181036000830152614dc38161489b565b9050919050565b60006040820190508181036000830152614de38161489b565b90508181036020830152614df781846144de565b905092915050565b6000602082019050614e1460008301846148d2565b92915050565b6000604051905081810181811067ffffffffffffffff82111715614e3d57600080fd5b8060405250919050565b600067ffffffffffffffff821115614e5e57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614e8657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614eae57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614ed657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115614efe57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115614f2a57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000819050919050565b60008160005260206000209050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600060029050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600061506382614ff8565b9050919050565b600061507582614ff8565b9050919050565b600061508782614ff8565b9050919050565b600061509982614ff8565b9050919050565b6000819050919050565b6000819050919050565b60006150bf82614ff8565b9050919050565b60006150d182614ff8565b9050919050565b82818337600083830152505050565b60005b838110156151055780820151818401526020810190506150ea565b83811115615114576000848401525b50505050565b6000601f19601f83011690509190505600a265627a7a72305820ac90a0e28802817c6b8706afb8fccca64ef606fc8b49f8298ede7b6d5adceeaa6c6578706572696d656e74616cf50037"};
 
     public static final String SM_BINARY = String.join("", SM_BINARY_ARRAY);
 
-    public static final String[] ABI_ARRAY = {"[{\"constant\":true,\"inputs\":[],\"name\":\"ROLE_R\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPENING_BANK\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ROLE_W\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"DATA\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[],\"name\":\"updateNonce\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OWNER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"uint256Args\",\"type\":\"uint256[]\"},{\"name\":\"stringValueList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"issue\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"BALANCE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"tearNote\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"insert\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"RECORD\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"uintCondition\",\"type\":\"uint256[]\"},{\"name\":\"addressCondition\",\"type\":\"address[]\"},{\"name\":\"limit\",\"type\":\"int256[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"queryBook\",\"outputs\":[{\"name\":\"\",\"type\":\"string[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"PUB_KEY\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADMIN\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"MODE_R\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_ADMIN\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_OWNER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"add\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getTearNotes\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"addBook\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"start\",\"type\":\"uint256\"},{\"name\":\"end\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getAccountNotes\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getOrg\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"MODE_W\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"}],\"name\":\"remove\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"key\",\"type\":\"string\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"checkGetAuth\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OWNER_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ASSETS\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"USER_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getTotalNoteSize\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"_price\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"setPrice\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"batchNo\",\"type\":\"uint256\"},{\"name\":\"date\",\"type\":\"uint256\"},{\"name\":\"isEffectiveDate\",\"type\":\"bool\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"updateNoteBatch\",\"outputs\":[{\"name\":\"isUpdate\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"removeWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"batchNo\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"enableBatch\",\"outputs\":[{\"name\":\"isEffective\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"USER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getWithSign\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"oldNoteNo\",\"type\":\"uint256\"},{\"name\":\"newNoteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"updateNoteNo\",\"outputs\":[{\"name\":\"isUpdate\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"accountHoldNote\",\"outputs\":[{\"name\":\"isContain\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"size\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPERATOR\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ROLE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"owner\",\"type\":\"address\"},{\"name\":\"batchNo\",\"type\":\"uint256\"},{\"name\":\"noteId\",\"type\":\"uint256\"},{\"name\":\"noteNoPrefix\",\"type\":\"uint256\"},{\"name\":\"noteNoSize\",\"type\":\"uint256\"},{\"name\":\"index\",\"type\":\"uint256\"}],\"name\":\"createNote\",\"outputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{","\"name\":\"keys\",\"type\":\"bytes[]\"},{\"name\":\"values\",\"type\":\"bytes[]\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"updateNoteProperties\",\"outputs\":[{\"name\":\"noteKeys\",\"type\":\"bytes[]\"},{\"name\":\"noteValues\",\"type\":\"bytes[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"set\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"noteNos\",\"type\":\"uint256[]\"},{\"name\":\"stringValueList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"checkTransferAuth\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"addWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADMIN_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAccountManager\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ID\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_PUBLIC\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPERATOR_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"unfreezeNote\",\"outputs\":[{\"name\":\"\",\"type\":\"uint8\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"effectiveDate\",\"type\":\"uint256\"},{\"name\":\"expirationDate\",\"type\":\"uint256\"},{\"name\":\"amount\",\"type\":\"uint256\"},{\"name\":\"issuer\",\"type\":\"address\"}],\"name\":\"createBatch\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getAccountNoteSize\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getNoteDetail\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint8\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAuthCenter\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAuthManager\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"insertWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getNonce\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getNoteProperties\",\"outputs\":[{\"name\":\"noteKeys\",\"type\":\"bytes[]\"},{\"name\":\"noteValues\",\"type\":\"bytes[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"}],\"name\":\"get\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getHolders\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"setWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"freezeNote\",\"outputs\":[{\"name\":\"isForzen\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"openAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteId\",\"type\":\"uint256\"}],\"name\":\"getNoteNoByNoteId\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"KEY_ALL\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"noteNos\",\"type\":\"uint256[]\"},{\"name\":\"stringValueList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"transfer\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"inputs\":[{\"name\":\"assetName\",\"type\":\"string\"},{\"name\":\"authCenterAddr\",\"type\":\"address\"},{\"name\":\"orgAddress\",\"type\":\"address\"},{\"name\":\"isCreate\",\"type\":\"bool\"},{\"name\":\"_storage\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"constructor\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"noteNo\",\"type\":\"uint256\"},{\"indexed\":false,\"name\":\"noteID\",\"type\":\"uint256\"},{\"indexed\":false,\"name\":\"status\",\"type\":\"uint8\"}],\"name\":\"LogNoteStatus\",\"type\":\"event\"}]"};
+    public static final String[] ABI_ARRAY = {"[{\"constant\":true,\"inputs\":[],\"name\":\"ROLE_R\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPENING_BANK\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ROLE_W\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"DATA\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[],\"name\":\"updateNonce\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OWNER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"uint256Args\",\"type\":\"uint256[]\"},{\"name\":\"stringValueList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"issue\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"BALANCE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"tearNote\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"insert\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"RECORD\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"uintCondition\",\"type\":\"uint256[]\"},{\"name\":\"addressCondition\",\"type\":\"address[]\"},{\"name\":\"limit\",\"type\":\"int256[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"queryBook\",\"outputs\":[{\"name\":\"\",\"type\":\"string[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"PUB_KEY\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADMIN\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"MODE_R\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_ADMIN\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_OWNER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"add\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getTearNotes\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"addBook\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"start\",\"type\":\"uint256\"},{\"name\":\"end\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getAccountNotes\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getOrg\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"MODE_W\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"}],\"name\":\"remove\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"start\",\"type\":\"uint256\"},{\"name\":\"num\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getAccountNoteRanges\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"key\",\"type\":\"string\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"checkGetAuth\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OWNER_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ASSETS\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"USER_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getTotalNoteSize\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"_price\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"setPrice\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"batchNo\",\"type\":\"uint256\"},{\"name\":\"date\",\"type\":\"uint256\"},{\"name\":\"isEffectiveDate\",\"type\":\"bool\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"updateNoteBatch\",\"outputs\":[{\"name\":\"isUpdate\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"removeWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"batchNo\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"enableBatch\",\"outputs\":[{\"name\":\"isEffective\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"USER\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getWithSign\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"oldNoteNo\",\"type\":\"uint256\"},{\"name\":\"newNoteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"updateNoteNo\",\"outputs\":[{\"name\":\"isUpdate\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"accountHoldNote\",\"outputs\":[{\"name\":\"isContain\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"size\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPERATOR\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ROLE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"owner\",\"type\":\"address\"},{\"name\":\"batchNo\",\"type\"",":\"uint256\"},{\"name\":\"noteId\",\"type\":\"uint256\"},{\"name\":\"noteNoPrefix\",\"type\":\"uint256\"},{\"name\":\"noteNoSize\",\"type\":\"uint256\"},{\"name\":\"index\",\"type\":\"uint256\"}],\"name\":\"createNote\",\"outputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"keys\",\"type\":\"bytes[]\"},{\"name\":\"values\",\"type\":\"bytes[]\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"updateNoteProperties\",\"outputs\":[{\"name\":\"noteKeys\",\"type\":\"bytes[]\"},{\"name\":\"noteValues\",\"type\":\"bytes[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"}],\"name\":\"set\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"noteNos\",\"type\":\"uint256[]\"},{\"name\":\"stringValueList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"checkTransferAuth\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"addWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADMIN_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAccountManager\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ID\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"start\",\"type\":\"uint256\"},{\"name\":\"num\",\"type\":\"uint256\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getHoldersByIndex\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE_PUBLIC\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"OPERATOR_ADDR\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"TYPE\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"unfreezeNote\",\"outputs\":[{\"name\":\"\",\"type\":\"uint8\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"effectiveDate\",\"type\":\"uint256\"},{\"name\":\"expirationDate\",\"type\":\"uint256\"},{\"name\":\"amount\",\"type\":\"uint256\"},{\"name\":\"issuer\",\"type\":\"address\"}],\"name\":\"createBatch\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"noteCounts\",\"type\":\"uint256[]\"},{\"name\":\"noteNos\",\"type\":\"uint256[]\"},{\"name\":\"stringValueList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"batchTransfer\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getAccountNoteSize\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getNoteDetail\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint8\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAuthCenter\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAuthManager\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"insertWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getNonce\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getNoteProperties\",\"outputs\":[{\"name\":\"noteKeys\",\"type\":\"bytes[]\"},{\"name\":\"noteValues\",\"type\":\"bytes[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"}],\"name\":\"get\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"getHolders\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"key\",\"type\":\"bytes\"},{\"name\":\"value\",\"type\":\"bytes\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"setWithSign\",\"outputs\":[{\"name\":\"replaced\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"freezeNote\",\"outputs\":[{\"name\":\"isForzen\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"openAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteId\",\"type\":\"uint256\"}],\"name\":\"getNoteNoByNoteId\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"KEY_ALL\",\"outputs\":[{\"name\":\"\",\"type\":\"bytes\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"transactionAddress\",\"type\":\"address[]\"},{\"name\":\"noteNos\",\"type\":\"uint256[]\"},{\"name\":\"stringValueList\",\"type\":\"string[]\"},{\"name\":\"sign\",\"type\":\"bytes32[4]\"}],\"name\":\"transfer\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"},{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"inputs\":[{\"name\":\"assetName\",\"type\":\"string\"},{\"name\":\"authCenterAddr\",\"type\":\"address\"},{\"name\":\"orgAddress\",\"type\":\"address\"},{\"name\":\"isCreate\",\"type\":\"bool\"},{\"name\":\"_storage\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"constructor\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"noteNo\",\"type\":\"uint256\"},{\"indexed\":false,\"name\":\"noteID\",\"type\":\"uint256\"},{\"indexed\":false,\"name\":\"status\",\"type\":\"uint8\"}],\"name\":\"LogNoteStatus\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"LogNoteUpdate\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"batchNo\",\"type\":\"uint256\"}],\"name\":\"LogBatchUpdate\",\"type\":\"event\"}]"};
 
     public static final String ABI = String.join("", ABI_ARRAY);
 
@@ -101,6 +101,8 @@ public class NonFungibleAsset extends Contract implements BaseIdentity {
 
     public static final String FUNC_REMOVE = "remove";
 
+    public static final String FUNC_GETACCOUNTNOTERANGES = "getAccountNoteRanges";
+
     public static final String FUNC_CHECKGETAUTH = "checkGetAuth";
 
     public static final String FUNC_OWNER_ADDR = "OWNER_ADDR";
@@ -151,6 +153,8 @@ public class NonFungibleAsset extends Contract implements BaseIdentity {
 
     public static final String FUNC_ADDR = "ADDR";
 
+    public static final String FUNC_GETHOLDERSBYINDEX = "getHoldersByIndex";
+
     public static final String FUNC_TYPE_PUBLIC = "TYPE_PUBLIC";
 
     public static final String FUNC_OPERATOR_ADDR = "OPERATOR_ADDR";
@@ -161,6 +165,8 @@ public class NonFungibleAsset extends Contract implements BaseIdentity {
 
     public static final String FUNC_CREATEBATCH = "createBatch";
 
+    public static final String FUNC_BATCHTRANSFER = "batchTransfer";
+
     public static final String FUNC_GETACCOUNTNOTESIZE = "getAccountNoteSize";
 
     public static final String FUNC_GETNOTEDETAIL = "getNoteDetail";
@@ -195,6 +201,14 @@ public class NonFungibleAsset extends Contract implements BaseIdentity {
             Arrays.<TypeReference<?>>asList(new TypeReference<Uint256>() {}, new TypeReference<Uint256>() {}, new TypeReference<Uint8>() {}));
     ;
 
+    public static final Event LOGNOTEUPDATE_EVENT = new Event("LogNoteUpdate", 
+            Arrays.<TypeReference<?>>asList(new TypeReference<Uint256>() {}));
+    ;
+
+    public static final Event LOGBATCHUPDATE_EVENT = new Event("LogBatchUpdate", 
+            Arrays.<TypeReference<?>>asList(new TypeReference<Uint256>() {}));
+    ;
+
     protected NonFungibleAsset(String contractAddress, Client client, CryptoKeyPair credential) {
         super(getBinary(client.getCryptoSuite()), contractAddress, client, credential);
     }
@@ -710,6 +724,21 @@ public class NonFungibleAsset extends Contract implements BaseIdentity {
                 );
     }
 
+    public Tuple3<List<BigInteger>, List<BigInteger>, BigInteger> getAccountNoteRanges(String account, BigInteger start, BigInteger num, List<byte[]> sign) throws ContractException {
+        final Function function = new Function(FUNC_GETACCOUNTNOTERANGES, 
+                Arrays.<Type>asList(new Address(account),
+                new Uint256(start),
+                new Uint256(num),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Uint256>>() {}, new TypeReference<DynamicArray<Uint256>>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = executeCallWithMultipleValueReturn(function);
+        return new Tuple3<List<BigInteger>, List<BigInteger>, BigInteger>(
+                convertToNative((List<Uint256>) results.get(0).getValue()), 
+                convertToNative((List<Uint256>) results.get(1).getValue()), 
+                (BigInteger) results.get(2).getValue());
+    }
+
     public TransactionReceipt checkGetAuth(BigInteger noteNo, String account, String key, List<byte[]> sign) {
         final Function function = new Function(
                 FUNC_CHECKGETAUTH, 
@@ -1427,6 +1456,19 @@ public class NonFungibleAsset extends Contract implements BaseIdentity {
         return executeCallWithSingleValueReturn(function, byte[].class);
     }
 
+    public Tuple2<List<String>, BigInteger> getHoldersByIndex(BigInteger start, BigInteger num, List<byte[]> sign) throws ContractException {
+        final Function function = new Function(FUNC_GETHOLDERSBYINDEX, 
+                Arrays.<Type>asList(new Uint256(start),
+                new Uint256(num),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Address>>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = executeCallWithMultipleValueReturn(function);
+        return new Tuple2<List<String>, BigInteger>(
+                convertToNative((List<Address>) results.get(0).getValue()), 
+                (BigInteger) results.get(1).getValue());
+    }
+
     public byte[] TYPE_PUBLIC() throws ContractException {
         final Function function = new Function(FUNC_TYPE_PUBLIC, 
                 Arrays.<Type>asList(), 
@@ -1568,6 +1610,86 @@ public class NonFungibleAsset extends Contract implements BaseIdentity {
                 );
     }
 
+    public TransactionReceipt batchTransfer(List<String> transactionAddress, List<BigInteger> noteCounts, List<BigInteger> noteNos, List<String> stringValueList, List<byte[]> sign) {
+        final Function function = new Function(
+                FUNC_BATCHTRANSFER, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                noteCounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(noteCounts, Uint256.class)),
+                noteNos.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(noteNos, Uint256.class)),
+                stringValueList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(stringValueList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void batchTransfer(List<String> transactionAddress, List<BigInteger> noteCounts, List<BigInteger> noteNos, List<String> stringValueList, List<byte[]> sign, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_BATCHTRANSFER, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                noteCounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(noteCounts, Uint256.class)),
+                noteNos.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(noteNos, Uint256.class)),
+                stringValueList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(stringValueList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForBatchTransfer(List<String> transactionAddress, List<BigInteger> noteCounts, List<BigInteger> noteNos, List<String> stringValueList, List<byte[]> sign) {
+        final Function function = new Function(
+                FUNC_BATCHTRANSFER, 
+                Arrays.<Type>asList(transactionAddress.isEmpty()? DynamicArray.empty("address[]"):new DynamicArray<Address>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(transactionAddress, Address.class)),
+                noteCounts.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(noteCounts, Uint256.class)),
+                noteNos.isEmpty()? DynamicArray.empty("uint256[]"):new DynamicArray<Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(noteNos, Uint256.class)),
+                stringValueList.isEmpty()? DynamicArray.empty("string[]"):new DynamicArray<Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(stringValueList, Utf8String.class)),
+                new StaticArray4<Bytes32>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sign, Bytes32.class))),
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>> getBatchTransferInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_BATCHTRANSFER, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Address>>() {}, new TypeReference<DynamicArray<Uint256>>() {}, new TypeReference<DynamicArray<Uint256>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<StaticArray4<Bytes32>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>>(
+
+                convertToNative((List<Address>) results.get(0).getValue()), 
+                convertToNative((List<Uint256>) results.get(1).getValue()), 
+                convertToNative((List<Uint256>) results.get(2).getValue()), 
+                convertToNative((List<Utf8String>) results.get(3).getValue()), 
+                convertToNative((List<Bytes32>) results.get(4).getValue())
+                );
+    }
+
+    public Tuple2<Boolean, List<BigInteger>> getBatchTransferOutput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getOutput();
+        final Function function = new Function(FUNC_BATCHTRANSFER, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Bool>() {}, new TypeReference<DynamicArray<Uint256>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple2<Boolean, List<BigInteger>>(
+
+                (Boolean) results.get(0).getValue(), 
+                convertToNative((List<Uint256>) results.get(1).getValue())
+                );
+    }
+
     public BigInteger getAccountNoteSize(String account, List<byte[]> sign) throws ContractException {
         final Function function = new Function(FUNC_GETACCOUNTNOTESIZE, 
                 Arrays.<Type>asList(new Address(account),
@@ -2026,6 +2148,50 @@ public class NonFungibleAsset extends Contract implements BaseIdentity {
         subscribeEvent(ABI,BINARY,topic0,callback);
     }
 
+    public List<LogNoteUpdateEventResponse> getLogNoteUpdateEvents(TransactionReceipt transactionReceipt) {
+        List<EventValuesWithLog> valueList = extractEventParametersWithLog(LOGNOTEUPDATE_EVENT, transactionReceipt);
+        ArrayList<LogNoteUpdateEventResponse> responses = new ArrayList<LogNoteUpdateEventResponse>(valueList.size());
+        for (EventValuesWithLog eventValues : valueList) {
+            LogNoteUpdateEventResponse typedResponse = new LogNoteUpdateEventResponse();
+            typedResponse.log = eventValues.getLog();
+            typedResponse.noteNo = (BigInteger) eventValues.getNonIndexedValues().get(0).getValue();
+            responses.add(typedResponse);
+        }
+        return responses;
+    }
+
+    public void subscribeLogNoteUpdateEvent(String fromBlock, String toBlock, List<String> otherTopics, EventCallback callback) {
+        String topic0 = eventEncoder.encode(LOGNOTEUPDATE_EVENT);
+        subscribeEvent(ABI,BINARY,topic0,fromBlock,toBlock,otherTopics,callback);
+    }
+
+    public void subscribeLogNoteUpdateEvent(EventCallback callback) {
+        String topic0 = eventEncoder.encode(LOGNOTEUPDATE_EVENT);
+        subscribeEvent(ABI,BINARY,topic0,callback);
+    }
+
+    public List<LogBatchUpdateEventResponse> getLogBatchUpdateEvents(TransactionReceipt transactionReceipt) {
+        List<EventValuesWithLog> valueList = extractEventParametersWithLog(LOGBATCHUPDATE_EVENT, transactionReceipt);
+        ArrayList<LogBatchUpdateEventResponse> responses = new ArrayList<LogBatchUpdateEventResponse>(valueList.size());
+        for (EventValuesWithLog eventValues : valueList) {
+            LogBatchUpdateEventResponse typedResponse = new LogBatchUpdateEventResponse();
+            typedResponse.log = eventValues.getLog();
+            typedResponse.batchNo = (BigInteger) eventValues.getNonIndexedValues().get(0).getValue();
+            responses.add(typedResponse);
+        }
+        return responses;
+    }
+
+    public void subscribeLogBatchUpdateEvent(String fromBlock, String toBlock, List<String> otherTopics, EventCallback callback) {
+        String topic0 = eventEncoder.encode(LOGBATCHUPDATE_EVENT);
+        subscribeEvent(ABI,BINARY,topic0,fromBlock,toBlock,otherTopics,callback);
+    }
+
+    public void subscribeLogBatchUpdateEvent(EventCallback callback) {
+        String topic0 = eventEncoder.encode(LOGBATCHUPDATE_EVENT);
+        subscribeEvent(ABI,BINARY,topic0,callback);
+    }
+
     public static NonFungibleAsset load(String contractAddress, Client client, CryptoKeyPair credential) {
         return new NonFungibleAsset(contractAddress, client, credential);
     }
@@ -2048,4 +2214,16 @@ public class NonFungibleAsset extends Contract implements BaseIdentity {
 
         public BigInteger status;
     }
+
+    public static class LogNoteUpdateEventResponse {
+        public TransactionReceipt.Logs log;
+
+        public BigInteger noteNo;
+    }
+
+    public static class LogBatchUpdateEventResponse {
+        public TransactionReceipt.Logs log;
+
+        public BigInteger batchNo;
+    }
 }
@@ -31,15 +31,15 @@ import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 
 @SuppressWarnings("unchecked")
 public class NonFungibleStorage extends Contract {
-    public static final String[] BINARY_ARRAY = {"60806040523480156200001157600080fd5b5060405160208062008534833981018060405262000033919081019062000091565b80600e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050620000dd565b6000620000898251620000bd565b905092915050565b600060208284031215620000a457600080fd5b6000620000b4848285016200007b565b91505092915050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b61844780620000ed6000396000f3006080604052600436106101f9576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff1680630487a1f2146101fe5780630e4388681461023c57806312a7a1361461026557806313c6c77c146102a357806319ab453c146102e05780631bf77fa7146103095780632a2bebf1146103465780632af9249a146103835780632ed58295146103c057806331125ff3146103fd5780633ac1fc921461043a5780633b606ed7146104775780634585550d146104a057806346096c75146104dd5780634c433cab1461051a57806352a3a948146105575780635cfd5931146105825780636c906a5c146105bf578063706ceeca146105ea578063748b8c6f14610627578063849418841461065057806387e6bae11461068d5780638a48ac03146106b65780638bbc4b05146106e157806391b7f5ed1461071e57806396ef88cd1461075b57806398b233e51461078657806398d5fdca146107c3578063a035b1fe146107ee578063a4cbf5f414610819578063a965a94114610856578063b9caf2f014610896578063be26ff7c146108d3578063be8dbea614610911578063c37a83611461094e578063d8b31d771461098b578063e1af9cc5146109c8578063e89b0e1e14610a05578063e92a579d14610a2e578063f02b8c8c14610a57578063fcd8007d14610a94575b600080fd5b34801561020a57600080fd5b50610225600480360361022091908101906175b4565b610ad1565b604051610233929190617e1d565b60405180910390f35b34801561024857600080fd5b50610263600480360361025e9190810190617633565b6110dd565b005b34801561027157600080fd5b5061028c60048036036102879190810190617526565b61122a565b60405161029a929190617e1d565b60405180910390f35b3480156102af57600080fd5b506102ca60048036036102c59190810190617526565b61162d565b6040516102d79190618093565b60405180910390f35b3480156102ec57600080fd5b50610307600480360361030291908101906173b9565b6117ae565b005b34801561031557600080fd5b50610330600480360361032b91908101906173b9565b61193a565b60405161033d9190618093565b60405180910390f35b34801561035257600080fd5b5061036d6004803603610368919081019061746d565b611a97565b60405161037a9190617e54565b60405180910390f35b34801561038f57600080fd5b506103aa60048036036103a59190810190617633565b611d79565b6040516103b79190617e76565b60405180910390f35b3480156103cc57600080fd5b506103e760048036036103e291908101906176d2565b611ec1565b6040516103f49190617e76565b60405180910390f35b34801561040957600080fd5b50610424600480360361041f91908101906173b9565b6122c0565b6040516104319190617e76565b60405180910390f35b34801561044657600080fd5b50610461600480360361045c9190810190617526565b612422565b60405161046e91906180d7565b60405180910390f35b34801561048357600080fd5b5061049e60048036036104999190810190617526565b6126f3565b005b3480156104ac57600080fd5b506104c760048036036104c29190810190617526565b61280d565b6040516104d49190617e76565b60405180910390f35b3480156104e957600080fd5b5061050460048036036104ff9190810190617578565b612c04565b6040516105119190618093565b60405180910390f35b34801561052657600080fd5b50610541600480360361053c9190810190617431565b6130b5565b60405161054e9190617e76565b60405180910390f35b34801561056357600080fd5b5061056c613286565b6040516105799190617e54565b60405180910390f35b34801561058e57600080fd5b506105a960048036036105a49190810190617784565b6133ea565b6040516105b69190618093565b60405180910390f35b3480156105cb57600080fd5b506105d4613631565b6040516105e19190618093565b60405180910390f35b3480156105f657600080fd5b50610611600480360361060c9190810190617578565b613747565b60405161061e9190617e76565b60405180910390f35b34801561063357600080fd5b5061064e60048036036106499190810190617526565b61385f565b005b34801561065c57600080fd5b50610677600480360361067291908101906173e2565b61399a565b6040516106849190618093565b60405180910390f35b34801561069957600080fd5b506106b460048036036106af919081019061766f565b613dbc565b005b3480156106c257600080fd5b506106cb614100565b6040516106d89190617da1565b60405180910390f35b3480156106ed57600080fd5b5061070860048036036107039190810190617526565b61429a565b6040516107159190617e76565b60405180910390f35b34801561072a57600080fd5b5061074560048036036107409190810190617526565b6146a0565b6040516107529190617e76565b60405180910390f35b34801561076757600080fd5b506107706147be565b60405161077d9190618093565b60405180910390f35b34801561079257600080fd5b506107ad60048036036107a89190810190617578565b61498f565b6040516107ba9190618093565b60405180910390f35b3480156107cf57600080fd5b506107d8614e6e565b6040516107e59190618093565b60405180910390f35b3480156107fa57600080fd5b50610803614f84565b6040516108109190618093565b60405180910390f35b34801561082557600080fd5b50610840600480360361083b9190810190617526565b614f8a565b60405161084d9190617e76565b60405180910390f35b34801561086257600080fd5b5061087d60048036036108789190810190617526565b61537a565b60405161088d9493929190617dc3565b60405180910390f35b3480156108a257600080fd5b506108bd60048036036108b89190810190617578565b6158da565b6040516108ca9190617e76565b60405180910390f35b3480156108df57600080fd5b506108fa60048036036108f59190810190617721565b615b4d565b6040516109089291906180ae565b60405180910390f35b34801561091d57600080fd5b5061093860048036036109339190810190617578565b615efa565b6040516109459190617e76565b60405180910390f35b34801561095a57600080fd5b50610975600480360361097091908101906174e5565b6160e0565b6040516109829190617d5d565b60405180910390f35b34801561099757600080fd5b506109b260048036036109ad9190810190617633565b616218565b6040516109bf9190617e76565b60405180910390f35b3480156109d457600080fd5b506109ef60048036036109ea9190810190617526565b616602565b6040516109fc9190617e76565b60405180910390f35b348015610a1157600080fd5b50610a2c6004803603610a2791908101906173b9565b616632565b005b348015610a3a57600080fd5b50610a556004803603610a509190810190617526565b6167ff565b005b348015610a6357600080fd5b50610a7e6004803603610a799190810190617526565b616919565b604051610a8b9190618093565b60405180910390f35b348015610aa057600080fd5b50610abb6004803603610ab69190810190617526565b616aa0565b604051610ac89190617e76565b60405180910390f35b606080600080600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b53929190617d78565b602060405180830381600087803b158015610b6d57600080fd5b505af1158015610b81573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610ba591908101906174bc565b1515610be6576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401610bdd90617ed3565b60405180910390fd5b600560008a8152602001908152602001600020549350600360008581526020019081526020016000209250600091505b8751821015610d34578682815181101515610c2d57fe5b90602001906020020151836005018984815181101515610c4957fe5b906020019060200201516040518082805190602001908083835b602083101515610c885780518252602082019150602081019050602083039250610c63565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390209080519060200190610cce929190616e35565b50826006018883815181101515610ce157fe5b906020019060200201519080600181540180825580915050906001820390600052602060002001600090919290919091509080519060200190610d25929190616e35565b50508180600101925050610c16565b8260036000868152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301556004820160009054906101000a900460ff168160040160006101000a81548160ff021916908360ff1602179055506006820181600601908054610e11929190616eb5565b509050508260060180549050604051908082528060200260200182016040528015610e5057816020015b6060815260200190600190039081610e3b5790505b5095508260060180549050604051908082528060200260200182016040528015610e8e57816020015b6060815260200190600190039081610e795790505b509450600090505b82600601805490508110156110d1576000811415610eb3576110c4565b8260060181815481101515610ec457fe5b906000526020600020018054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660","0290048015610f625780601f10610f3757610100808354040283529160200191610f62565b820191906000526020600020905b815481529060010190602001808311610f4557829003601f168201915b50505050508682815181101515610f7557fe5b90602001906020020181905250826005018360060182815481101515610f9757fe5b906000526020600020016040518082805460018160011615610100020316600290048015610ffc5780601f10610fda576101008083540402835291820191610ffc565b820191906000526020600020905b815481529060010190602001808311610fe8575b505091505090815260200160405180910390208054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156110a35780601f10611078576101008083540402835291602001916110a3565b820191906000526020600020905b81548152906001019060200180831161108657829003601f168201915b505050505085828151811015156110b657fe5b906020019060200201819052505b8080600101915050610e96565b50505050935093915050565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611156929190617d78565b602060405180830381600087803b15801561117057600080fd5b505af1158015611184573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506111a891908101906174bc565b15156111e9576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016111e090617ed3565b60405180910390fd5b600160086000848152602001908152602001600020600083815260200190815260200160002060006101000a81548160ff0219169083151502179055505050565b6060806000806000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112ab929190617d78565b602060405180830381600087803b1580156112c557600080fd5b505af11580156112d9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506112fd91908101906174bc565b151561133e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161133590617ed3565b60405180910390fd5b6005600087815260200190815260200160002054925060036000848152602001908152602001600020915081600601805490506040519080825280602002602001820160405280156113a457816020015b606081526020019060019003908161138f5790505b50945081600601805490506040519080825280602002602001820160405280156113e257816020015b60608152602001906001900390816113cd5790505b509350600090505b816006018054905081101561162557600081141561140757611618565b816006018181548110151561141857fe5b906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156114b65780601f1061148b576101008083540402835291602001916114b6565b820191906000526020600020905b81548152906001019060200180831161149957829003601f168201915b505050505085828151811015156114c957fe5b906020019060200201819052508160050182600601828154811015156114eb57fe5b9060005260206000200160405180828054600181600116156101000203166002900480156115505780601f1061152e576101008083540402835291820191611550565b820191906000526020600020905b81548152906001019060200180831161153c575b505091505090815260200160405180910390208054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156115f75780601f106115cc576101008083540402835291602001916115f7565b820191906000526020600020905b8154815290600101906020018083116115da57829003601f168201915b5050505050848281518110151561160a57fe5b906020019060200201819052505b80806001019150506113ea565b505050915091565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116a8929190617d78565b602060405180830381600087803b1580156116c257600080fd5b505af11580156116d6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506116fa91908101906174bc565b151561173b576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161173290617ed3565b60405180910390fd5b60006005600084815260200190815260200160002054111515611793576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161178a90617eb3565b60405180910390fd5b60056000838152602001908152602001600020549050919050565b60008060001515600e60149054906101000a900460ff161515141515611809576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161180090618033565b60405180910390fd5b611811616f25565b604051809103906000f08015801561182d573d6000803e3d6000fd5b509150611838616f25565b604051809103906000f080158015611854573d6000803e3d6000fd5b50905082600c60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555080600a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506001600e60146101000a81548160ff021916908315150217905550505050565b600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016119b6929190617d78565b602060405180830381600087803b1580156119d057600080fd5b505af11580156119e4573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611a0891908101906174bc565b1515611a49576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611a4090617ed3565b60405180910390fd5b600760008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002090508080549050915050919050565b60606000806060600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611b1a929190617d78565b602060405180830381600087803b158015611b3457600080fd5b505af1158015611b48573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611b6c91908101906174bc565b1515611bad576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611ba490617ed3565b60405180910390fd5b600760008a73ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000209450600085805490501415611c525784805480602002602001604051908101604052809291908181526020018280548015611c4657602002820191906000526020600020905b815481526020019060010190808311611c32575b50505050509550611d6d565b848054905088101515611c9a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611c9190617fd3565b60405180910390fd5b8480549050871115611cb25784805490509350611cb6565b8693505b6000841115611cc757878403611cca565b60005b604051908082528060200260200182016040528015611cf85781602001602082028038833980820191505090505b509250600091508790505b83811015611d6957600360008683815481101515611d1d57fe5b90600052602060002001548152602001908152602001600020600201548383806001019450815181101515611d4e57fe5b90602001906020020181815250508080600101915050611d03565b8295505b50505050509392505050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611df4929190617d78565b602060405180830381600087803b158015611e0e57600080fd5b505af1158015611e22573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611e4691908101906174bc565b1515611e87576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611e7e90617ed3565b60405180910390fd5b60086000848152602001908152602001600020600083815260200190815260200160002060009054906101000a900460ff16905092915050565b6000611ecb616f35565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffff","ffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f44929190617d78565b602060405180830381600087803b158015611f5e57600080fd5b505af1158015611f72573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611f9691908101906174bc565b1515611fd7576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611fce90617ed3565b60405180910390fd5b6004600086815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820154815260200160058201548152505090508215612150578060a00151841015156120ce576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016120c590618073565b60405180910390fd5b600260ff16600360008360400151815260200190815260200160002060040160009054906101000a900460ff1660ff1614151515612141576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161213890617f33565b60405180910390fd5b83816080018181525050612224565b600081608001511115612219578060800151841115156121a5576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161219c90618073565b60405180910390fd5b600360ff16600360008360400151815260200190815260200160002060040160009054906101000a900460ff1660ff1614151515612218576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161220f90617ff3565b60405180910390fd5b5b838160a00181815250505b80600460008781526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060408201518160020155606082015181600301556080820151816004015560a0820151816005015590505060019150509392505050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161233b929190617d78565b602060405180830381600087803b15801561235557600080fd5b505af1158015612369573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061238d91908101906174bc565b15156123ce576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016123c590617ed3565b60405180910390fd5b600260008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff169050919050565b600061242c616f82565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016124a5929190617d78565b602060405180830381600087803b1580156124bf57600080fd5b505af11580156124d3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506124f791908101906174bc565b1515612538576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161252f90617ed3565b60405180910390fd5b600360006005600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b828210156126dc578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156126c85780601f1061269d576101008083540402835291602001916126c8565b820191906000526020600020905b8154815290600101906020018083116126ab57829003601f168201915b505050505081526020019060010190612620565b505050508152505090508060800151915050919050565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161276c929190617d78565b602060405180830381600087803b15801561278657600080fd5b505af115801561279a573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127be91908101906174bc565b15156127ff576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016127f690617ed3565b60405180910390fd5b80600b5401600b8190555050565b6000806000806000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161288e929190617d78565b602060405180830381600087803b1580156128a857600080fd5b505af11580156128bc573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128e091908101906174bc565b1515612921576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161291890617ed3565b60405180910390fd5b6004600087815260200190815260200160002093506000846003015411151561297f576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161297690617ef3565b60405180910390fd5b6000846004015411156129dc57612994616d7a565b84600401541015156129db576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016129d290617f53565b60405180910390fd5b5b6000846004015414806129f957506129f2616d7a565b8460040154105b9250612a03616d7a565b84600401819055508360046000888152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600282015481600201556003820154816003015560048201548160040155600582015481600501559050508215612bf857836002015491505b836003015482111515612bf75760036000838152602001908152602001600020905060028160040160006101000a81548160ff021916908360ff1602179055508060036000848152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301556004820160009054906101000a900460ff168160040160006101000a81548160ff021916908360ff1602179055506006820181600601908054612be6929190616eb5565b509050508180600101925050612ac9565b5b82945050505050919050565b6000612c0e616f82565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c87929190617d78565b602060405180830381600087803b158015612ca157600080fd5b505af1158015612cb5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612cd991908101906174bc565b1515612d1a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612d1190617ed3565b60405180910390fd5b600360006005600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015612ebe578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612eaa5780601f10612e7f57610100808354040283529160200191612eaa565b820191906000526020600020905b815481529060010190602001808311612e8d57829003601f168201915b505050505081526020019060010190612e02565b505050508152505090506001600660008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600083600001518152","60200190815260200160002060006101000a81548160ff021916908315150217905550600760008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208160000151908060018154018082558091505090600182039060005260206000200160009091929091909150555082816020019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508060036000600560008881526020019081526020016000205481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a08201518160060190805190602001906130a3929190616fd2565b50905050806000015191505092915050565b600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613131929190617d78565b602060405180830381600087803b15801561314b57600080fd5b505af115801561315f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061318391908101906174bc565b15156131c4576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016131bb90617ed3565b60405180910390fd5b6005600084815260200190815260200160002054905060008111151561321f576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161321690617eb3565b60405180910390fd5b600660008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600082815260200190815260200160002060009054906101000a900460ff1691505092915050565b6060600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613301929190617d78565b602060405180830381600087803b15801561331b57600080fd5b505af115801561332f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061335391908101906174bc565b1515613394576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161338b90617ed3565b60405180910390fd5b600d8054806020026020016040519081016040528092919081815260200182805480156133e057602002820191906000526020600020905b8154815260200190600101908083116133cc575b5050505050905090565b600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613466929190617d78565b602060405180830381600087803b15801561348057600080fd5b505af1158015613494573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134b891908101906174bc565b15156134f9576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016134f090617ed3565b60405180910390fd5b60036000600560008781526020019081526020016000205481526020019081526020016000209050828160040160006101000a81548160ff021916908360ff160217905550806003600083600001548152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301556004820160009054906101000a900460ff168160040160006101000a81548160ff021916908360ff160217905550600682018160060190805461361f929190616eb5565b50905050806000015491505092915050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016136ac929190617d78565b602060405180830381600087803b1580156136c657600080fd5b505af11580156136da573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136fe91908101906174bc565b151561373f576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161373690617ed3565b60405180910390fd5b600b54905090565b600080600060046000868152602001908152602001600020600001541115156137a5576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161379c90617f73565b60405180910390fd5b6004600085815260200190815260200160002090508273ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16148061384557508273ffffffffffffffffffffffffffffffffffffffff168160010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1614155b156138535760009150613858565b600191505b5092915050565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138d8929190617d78565b602060405180830381600087803b1580156138f257600080fd5b505af1158015613906573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061392a91908101906174bc565b151561396b576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161396290617ed3565b60405180910390fd5b600d81908060018154018082558091505090600182039060005260206000200160009091929091909150555050565b60006139a4616f82565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613a1d929190617d78565b602060405180830381600087803b158015613a3757600080fd5b505af1158015613a4b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a6f91908101906174bc565b1515613ab0576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613aa790617ed3565b60405180910390fd5b600360006005600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015613c54578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613c405780601f10613c1557610100808354040283529160200191613c40565b820191906000526020600020905b815481529060010190602001808311613c2357829003601f168201915b505050505081526020019060010190613b98565b505050508152505090506001600660008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060008360000151815260200190815260200160002060006101000a81548160ff02191690831515021790551515613d0b576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613d0290618053565b60405180910390fd5b8060000151613d1a848761498f565b141515613d5c576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613d5390617fb3565b60405180910390fd5b8060000151613d6b8486612c04565b141515613dad576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613da490617fb3565b60405180910390fd5b80600001519150509392505050565b6060613dc6616f82565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613e3f929190617d78565b602060405180830381600087803b158015613e5957600080fd5b505af1158015613e6d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613e9191908101906174bc565b1515613ed2576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613ec990617ed3565b60405180910390fd5b6001604051908082528060200260200182016040528015613f0757816020015b6060815260200190600190039081613ef25790505b50915060c0604051908101","604052808781526020018573ffffffffffffffffffffffffffffffffffffffff168152602001868152602001848152602001600160ff16815260200183815250905080600360008881526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a082015181600601908051906020019061400a929190616fd2565b509050508560056000878152602001908152602001600020819055506001600660008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600088815260200190815260200160002060006101000a81548160ff021916908315150217905550600760008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020869080600181540180825580915050906001820390600052602060002001600090919290919091505550505050505050565b6060600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161417b929190617d78565b602060405180830381600087803b15801561419557600080fd5b505af11580156141a9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506141cd91908101906174bc565b151561420e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161420590617ed3565b60405180910390fd5b600180548060200260200160405190810160405280929190818152602001828054801561429057602002820191906000526020600020905b8160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019060010190808311614246575b5050505050905090565b60006142a4616f82565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161431f929190617d78565b602060405180830381600087803b15801561433957600080fd5b505af115801561434d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061437191908101906174bc565b15156143b2576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016143a990617ed3565b60405180910390fd5b600360006005600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015614556578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156145425780601f1061451757610100808354040283529160200191614542565b820191906000526020600020905b81548152906001019060200180831161452557829003601f168201915b50505050508152602001906001019061449a565b50505050815250509150816080015160ff16600260ff16141561457c5760019250614699565b600460008360600151815260200190815260200160002090506000816004015414156145ab5760009250614699565b6145b3616d7a565b81600401541015614698576002826080019060ff16908160ff16815250508160036000846000015181526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a082015181600601908051906020019061468b929190616fd2565b5090505060019250614699565b5b5050919050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161471b929190617d78565b602060405180830381600087803b15801561473557600080fd5b505af1158015614749573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061476d91908101906174bc565b15156147ae576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016147a590617ed3565b60405180910390fd5b8160008190555060019050919050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614839929190617d78565b602060405180830381600087803b15801561485357600080fd5b505af1158015614867573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061488b91908101906174bc565b15156148cc576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016148c390617ed3565b60405180910390fd5b600960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16636d4ce63c6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561495257600080fd5b505af1158015614966573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061498a919081019061754f565b905090565b6000614999616f82565b60006060600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614a19929190617d78565b602060405180830381600087803b158015614a3357600080fd5b505af1158015614a47573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614a6b91908101906174bc565b1515614aac576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614aa390617ed3565b60405180910390fd5b60036000600560008b815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015614c50578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614c3c5780601f10614c1157610100808354040283529160200191614c3c565b820191906000526020600020905b815481529060010190602001808311614c1f57829003601f168201915b505050505081526020019060010190614b94565b505050508152505094506000600660008973ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060008760000151815260200190815260200160002060006101000a81548160ff021916908315150217905550600760008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002093506001848054905003604051908082528060200260200182016040528015614d3e5781602001602082028038833980820191505090505b509250600090505b8251811015614e085781158015614d78575084600001518482815481101515614d6b57fe5b9060005260206000200154145b15614d8257600191505b8115614dc5578360018201815481101515614d9957fe5b90600052602060002001548382815181101515614db257fe5b9060200190602002018181525050614dfb565b8381815481101515614dd357fe5b90600052602060002001548382815181101515614dec57fe5b90602001906020020181815250505b8080600101915050614d46565b82600760008973ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000209080519060200190614e5b929190617032565b5084600001519550505050505092915050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614ee9929190617d78565b602060405180830381600087803b158015614f0357600080fd5b505af1158015614f17573d6000803e","3d6000fd5b505050506040513d601f19601f82011682018060405250614f3b91908101906174bc565b1515614f7c576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614f7390617ed3565b60405180910390fd5b600054905090565b60005481565b6000614f94616f82565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161500f929190617d78565b602060405180830381600087803b15801561502957600080fd5b505af115801561503d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061506191908101906174bc565b15156150a2576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161509990617ed3565b60405180910390fd5b600360006005600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015615246578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156152325780601f1061520757610100808354040283529160200191615232565b820191906000526020600020905b81548152906001019060200180831161521557829003601f168201915b50505050508152602001906001019061518a565b50505050815250509150816080015160ff16600360ff16141561526c5760019250615373565b6004600083606001518152602001908152602001600020905061528d616d7a565b81600501541015615372576003826080019060ff16908160ff16815250508160036000846000015181526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a0820151816006019080519060200190615365929190616fd2565b5090505060019250615373565b5b5050919050565b60608060606000615389616f82565b6060806060615396616f35565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161540f929190617d78565b602060405180830381600087803b15801561542957600080fd5b505af115801561543d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061546191908101906174bc565b15156154a2576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161549990617ed3565b60405180910390fd5b60036000600560008d815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015615646578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156156325780601f1061560757610100808354040283529160200191615632565b820191906000526020600020905b81548152906001019060200180831161561557829003601f168201915b50505050508152602001906001019061558a565b5050505081525050945060026040519080825280602002602001820160405280156156805781602001602082028038833980820191505090505b50935060026040519080825280602002602001820160405280156156b35781602001602082028038833980820191505090505b50925060026040519080825280602002602001820160405280156156e65781602001602082028038833980820191505090505b50915084602001518460008151811015156156fd57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050846040015183600081518110151561574d57fe5b9060200190602002018181525050846060015183600181518110151561576f57fe5b9060200190602002018181525050600460008660600151815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020016002820154815260200160038201548152602001600482015481526020016005820154815250509050806080015182600081518110151561583e57fe5b90602001906020020181815250508060a0015182600181518110151561586057fe5b9060200190602002018181525050806020015184600181518110151561588257fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508383838760800151985098509850985050505050509193509193565b600080600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615959929190617d78565b602060405180830381600087803b15801561597357600080fd5b505af1158015615987573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506159ab91908101906174bc565b15156159ec576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016159e390617ed3565b60405180910390fd5b60056000878152602001908152602001600020549250600083111515615a47576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615a3e90617eb3565b60405180910390fd5b6003600084815260200190815260200160002060010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff169150600460006003600086815260200190815260200160002060030154815260200190815260200160002090508473ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff161480615b3657508473ffffffffffffffffffffffffffffffffffffffff168160010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1614155b15615b4057600093505b6001935050505092915050565b600080600080615b5b616f35565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615bd4929190617d78565b602060405180830381600087803b158015615bee57600080fd5b505af1158015615c02573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615c2691908101906174bc565b1515615c67576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615c5e90617ed3565b60405180910390fd5b600960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16636d4ce63c6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015615ced57600080fd5b505af1158015615d01573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615d25919081019061754f565b9250615df86001600a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16636d4ce63c6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015615db257600080fd5b505af1158015615dc6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615dea919081019061754f565b616d8790919063ffffffff16565b915060c0604051908101604052808381526020018773ffffffffffffffffffffffffffffffffffffffff168152602001600185038152602001615e4760018a0386616dde90919063ffffffff16565b81526020018a815260200189815250905080600460008481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060408201518160020155606082015181600301556080820151816004015560a0820151816005015590505082829450945050505094509492505050565b6000806000600e60009054906101000a900473ffffffffff","ffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615f78929190617d78565b602060405180830381600087803b158015615f9257600080fd5b505af1158015615fa6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615fca91908101906174bc565b151561600b576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161600290617ed3565b60405180910390fd5b60056000868152602001908152602001600020549150600082111515616066576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161605d90617eb3565b60405180910390fd5b6003600083815260200190815260200160002060010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1690508373ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff1614156160d857600192505b505092915050565b600081600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638f2bbeed826040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161615a9190617e91565b602060405180830381600087803b15801561617457600080fd5b505af1158015616188573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506161ac91908101906174bc565b15156161ed576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016161e490618033565b60405180910390fd5b600c60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16915050919050565b6000616222616f82565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161629b929190617d78565b602060405180830381600087803b1580156162b557600080fd5b505af11580156162c9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506162ed91908101906174bc565b151561632e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161632590617ed3565b60405180910390fd5b6005600085815260200190815260200160002054600560008581526020019081526020016000208190555060006005600086815260200190815260200160002081905550600360006005600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015616516578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156165025780601f106164d757610100808354040283529160200191616502565b820191906000526020600020905b8154815290600101906020018083116164e557829003601f168201915b50505050508152602001906001019061645a565b50505050815250509050828160400181815250508060036000600560008781526020019081526020016000205481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a08201518160060190805190602001906165f3929190616fd2565b50905050600191505092915050565b60008060056000848152602001908152602001600020541115616628576001905061662d565b600090505b919050565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016166ab929190617d78565b602060405180830381600087803b1580156166c557600080fd5b505af11580156166d9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506166fd91908101906174bc565b151561673e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161673590617ed3565b60405180910390fd5b60018190806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001600260008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff02191690831515021790555050565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616878929190617d78565b602060405180830381600087803b15801561689257600080fd5b505af11580156168a6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506168ca91908101906174bc565b151561690b576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161690290617ed3565b60405180910390fd5b80600b5403600b8190555050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616994929190617d78565b602060405180830381600087803b1580156169ae57600080fd5b505af11580156169c2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506169e691908101906174bc565b1515616a27576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616a1e90617ed3565b60405180910390fd5b60006003600084815260200190815260200160002060020154111515616a82576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616a7990618013565b60405180910390fd5b60036000838152602001908152602001600020600201549050919050565b6000616aaa616f82565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616b23929190617d78565b602060405180830381600087803b158015616b3d57600080fd5b505af1158015616b51573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616b7591908101906174bc565b1515616bb6576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616bad90617ed3565b60405180910390fd5b600360006005600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015616d5a578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616d465780601f10616d1b57610100808354040283529160200191616d46565b820191906000526020600020905b815481529060010190602001808311616d2957829003601f168201915b505050505081526020019060010190616c9e565b50505050815250509050600260ff16816080015160ff1614915050919050565b6000804290508091505090565b600080838311151515616dcf576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616dc690617f93565b60405180910390fd5b82840390508091505092915050565b6000808284019050838110151515616e2b576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616e2290617f13565b60405180910390fd5b8091505092915050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10616e7657805160ff1916838001178555616ea4565b82800160010185558215616ea4579182015b82811115616ea3578251825591602001919060010190616e88565b5b509050616eb1919061707f565b5090565b828054828255906000526020600020908101928215616f145760005260206000209182015b82811115616f135782829080546001816001161561010002031660029004616f039291906170a4565b5091600101919060010190616eda56","5b5b509050616f21919061712b565b5090565b604051610110806182fe83390190565b60c06040519081016040528060008152602001600073ffffffffffffffffffffffffffffffffffffffff168152602001600081526020016000815260200160008152602001600081525090565b60c06040519081016040528060008152602001600073ffffffffffffffffffffffffffffffffffffffff1681526020016000815260200160008152602001600060ff168152602001606081525090565b828054828255906000526020600020908101928215617021579160200282015b82811115617020578251829080519060200190617010929190617157565b5091602001919060010190616ff2565b5b50905061702e919061712b565b5090565b82805482825590600052602060002090810192821561706e579160200282015b8281111561706d578251825591602001919060010190617052565b5b50905061707b919061707f565b5090565b6170a191905b8082111561709d576000816000905550600101617085565b5090565b90565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106170dd578054855561711a565b8280016001018555821561711a57600052602060002091601f016020900482015b828111156171195782548255916001019190600101906170fe565b5b509050617127919061707f565b5090565b61715491905b80821115617150576000818161714791906171d7565b50600101617131565b5090565b90565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f1061719857805160ff19168380011785556171c6565b828001600101855582156171c6579182015b828111156171c55782518255916020019190600101906171aa565b5b5090506171d3919061707f565b5090565b50805460018160011615610100020316600290046000825580601f106171fd575061721c565b601f01602090049060005260206000209081019061721b919061707f565b5b50565b600061722b8235618267565b905092915050565b600082601f830112151561724657600080fd5b81356172596172548261811f565b6180f2565b9150818183526020840193506020810190508360005b8381101561729f578135860161728588826172d1565b84526020840193506020830192505060018101905061726f565b5050505092915050565b60006172b58235618287565b905092915050565b60006172c98251618287565b905092915050565b600082601f83011215156172e457600080fd5b81356172f76172f282618147565b6180f2565b9150808252602083016020830185838301111561731357600080fd5b61731e8382846182aa565b50505092915050565b600082601f830112151561733a57600080fd5b813561734d61734882618173565b6180f2565b9150808252602083016020830185838301111561736957600080fd5b6173748382846182aa565b50505092915050565b60006173898235618293565b905092915050565b600061739d8251618293565b905092915050565b60006173b1823561829d565b905092915050565b6000602082840312156173cb57600080fd5b60006173d98482850161721f565b91505092915050565b6000806000606084860312156173f757600080fd5b60006174058682870161721f565b93505060206174168682870161721f565b92505060406174278682870161737d565b9150509250925092565b6000806040838503121561744457600080fd5b60006174528582860161721f565b92505060206174638582860161737d565b9150509250929050565b60008060006060848603121561748257600080fd5b60006174908682870161721f565b93505060206174a18682870161737d565b92505060406174b28682870161737d565b9150509250925092565b6000602082840312156174ce57600080fd5b60006174dc848285016172bd565b91505092915050565b6000602082840312156174f757600080fd5b600082013567ffffffffffffffff81111561751157600080fd5b61751d84828501617327565b91505092915050565b60006020828403121561753857600080fd5b60006175468482850161737d565b91505092915050565b60006020828403121561756157600080fd5b600061756f84828501617391565b91505092915050565b6000806040838503121561758b57600080fd5b60006175998582860161737d565b92505060206175aa8582860161721f565b9150509250929050565b6000806000606084860312156175c957600080fd5b60006175d78682870161737d565b935050602084013567ffffffffffffffff8111156175f457600080fd5b61760086828701617233565b925050604084013567ffffffffffffffff81111561761d57600080fd5b61762986828701617233565b9150509250925092565b6000806040838503121561764657600080fd5b60006176548582860161737d565b92505060206176658582860161737d565b9150509250929050565b6000806000806080858703121561768557600080fd5b60006176938782880161737d565b94505060206176a48782880161737d565b93505060406176b58782880161721f565b92505060606176c68782880161737d565b91505092959194509250565b6000806000606084860312156176e757600080fd5b60006176f58682870161737d565b93505060206177068682870161737d565b9250506040617717868287016172a9565b9150509250925092565b6000806000806080858703121561773757600080fd5b60006177458782880161737d565b94505060206177568782880161737d565b93505060406177678782880161737d565b92505060606177788782880161721f565b91505092959194509250565b6000806040838503121561779757600080fd5b60006177a58582860161737d565b92505060206177b6858286016173a5565b9150509250929050565b6177c981618224565b82525050565b60006177da826181c6565b8084526020840193506177ec8361819f565b60005b8281101561781e576178028683516177c0565b61780b826181fd565b91506020860195506001810190506177ef565b50849250505092915050565b6000617835826181d1565b8084526020840193508360208202850161784e856181ac565b60005b84811015617887578383038852617869838351617902565b92506178748261820a565b9150602088019750600181019050617851565b508196508694505050505092915050565b60006178a3826181dc565b8084526020840193506178b5836181b9565b60005b828110156178e7576178cb868351617d3f565b6178d482618217565b91506020860195506001810190506178b8565b50849250505092915050565b6178fc81618244565b82525050565b600061790d826181e7565b8084526179218160208601602086016182b9565b61792a816182ec565b602085010191505092915050565b6000617943826181f2565b8084526179578160208601602086016182b9565b617960816182ec565b602085010191505092915050565b6000601382527f6e6f746520646f65736e277420657869737421000000000000000000000000006020830152604082019050919050565b6000601582527f7265717569726564206f776e65722063616c6c656400000000000000000000006020830152604082019050919050565b6000601082527f6261746368206e6f7420766572696679000000000000000000000000000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000601582527f626174636820686173206265656e2065666665637400000000000000000000006020830152604082019050919050565b6000603482527f62617463682063616e206e6f74206265206566666563746976652c626563617560208301527f736520656666656374697665446174653e6e6f770000000000000000000000006040830152606082019050919050565b6000601482527f626174636820646f65736e2774206578697374210000000000000000000000006020830152604082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000600d82527f65786368616e6765206661696c000000000000000000000000000000000000006020830152604082019050919050565b6000602982527f72657175697265207374617274206c657373207468616e206163636f756e742060208301527f6e6f74652073697a6500000000000000000000000000000000000000000000006040830152606082019050919050565b6000601882527f626174636820686173206265656e2065787069726174656400000000000000006020830152604082019050919050565b6000601282527f6e6f746520646f65736e277420657869737400000000000000000000000000006020830152604082019050919050565b6000601582527f73746f7261676520686173206265656e20696e697400000000000000000000006020830152604082019050919050565b6000602382527f546865206163636f756e74206973206e6f74206f776e65642074686973206e6f60208301527f74652100000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000602582527f7265717569726520656666656374697665446174653c2065787069726174696f60208301527f6e446174650000000000000000000000000000000000000000000000000000006040830152606082019050919050565b617d4881618250565b82525050565b617d578161825a565b82525050565b6000602082019050617d7260008301846177c0565b92915050565b6000604082019050617d8d60008301856177c0565b617d9a60208301846177c0565b9392505050565b60006020820190508181036000830152617dbb81846177cf565b905092915050565b60006080820190508181036000830152617ddd81876177cf565b90508181036020830152617df18186617898565b90508181036040830152617e058185617898565b9050617e146060830184617d4e565b95945050505050565b60006040820190508181036000830152617e37818561782a565b90508181036020830152617e4b818461782a565b90509392505050565b60006020820190508181036000830152617e6e8184617898565b905092915050565b6000602082019050617e8b60008301846178f3565b92915050565b60006020820190508181036000830152617eab8184617938565b905092915050565b60006020820190508181036000830152617ecc8161796e565b9050919050565b60006020820190508181036000830152617eec816179a5565b9050919050565b60006020820190508181036000830152617f0c816179dc565b905091905056","5b60006020820190508181036000830152617f2c81617a13565b9050919050565b60006020820190508181036000830152617f4c81617a4a565b9050919050565b60006020820190508181036000830152617f6c81617a81565b9050919050565b60006020820190508181036000830152617f8c81617ade565b9050919050565b60006020820190508181036000830152617fac81617b15565b9050919050565b60006020820190508181036000830152617fcc81617b4c565b9050919050565b60006020820190508181036000830152617fec81617b83565b9050919050565b6000602082019050818103600083015261800c81617be0565b9050919050565b6000602082019050818103600083015261802c81617c17565b9050919050565b6000602082019050818103600083015261804c81617c4e565b9050919050565b6000602082019050818103600083015261806c81617c85565b9050919050565b6000602082019050818103600083015261808c81617ce2565b9050919050565b60006020820190506180a86000830184617d3f565b92915050565b60006040820190506180c36000830185617d3f565b6180d06020830184617d3f565b9392505050565b60006020820190506180ec6000830184617d4e565b92915050565b6000604051905081810181811067ffffffffffffffff8211171561811557600080fd5b8060405250919050565b600067ffffffffffffffff82111561813657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561815e57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111561818a57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b600060ff82169050919050565b82818337600083830152505050565b60005b838110156182d75780820151818401526020810190506182bc565b838111156182e6576000848401525b50505050565b6000601f19601f83011690509190505600608060405234801561001057600080fd5b50600160008190555060e9806100276000396000f3006080604052600436106049576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806335a5cfcb14604e5780636d4ce63c146076575b600080fd5b348015605957600080fd5b506060609e565b6040518082815260200191505060405180910390f35b348015608157600080fd5b50608860a7565b6040518082815260200191505060405180910390f35b60008054905090565b60006001600054016000819055506000549050905600a165627a7a72305820d3c965ab3593a2ba3b7c26c74d9e0fb297bc88b9762c86ea21268d99e5c3eed30029a265627a7a723058202a760ba4dbb395c7bc4315f82f463ac382971f1e6653c1a4f8121235da1808266c6578706572696d656e74616cf50037"};
+    public static final String[] BINARY_ARRAY = {"60806040523480156200001157600080fd5b5060405160208062008c49833981018060405262000033919081019062000091565b80601160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050620000dd565b6000620000898251620000bd565b905092915050565b600060208284031215620000a457600080fd5b6000620000b4848285016200007b565b91505092915050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b618b5c80620000ed6000396000f30060806040526004361061020f576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff1680630487a1f2146102145780630e4388681461025257806312a7a1361461027b57806313c6c77c146102b957806319ab453c146102f65780631bf77fa71461031f5780632a2bebf11461035c5780632af9249a146103995780632ed58295146103d657806331125ff3146104135780633ac1fc92146104505780633b606ed71461048d5780634585550d146104b657806346096c75146104f35780634c433cab1461053057806352a3a9481461056d5780635cfd5931146105985780636c906a5c146105d5578063706ceeca14610600578063748b8c6f1461063d578063849418841461066657806387e6bae1146106a35780638a48ac03146106cc5780638bbc4b05146106f757806391b7f5ed1461073457806396ef88cd1461077157806398b233e51461079c57806398d5fdca146107d9578063a035b1fe14610804578063a4cbf5f41461082f578063a965a9411461086c578063aaddd0c4146108ac578063b9caf2f0146108ea578063be26ff7c14610927578063be8dbea614610965578063c37a8361146109a2578063d8b31d77146109df578063e1af9cc514610a1c578063e89b0e1e14610a59578063e92a579d14610a82578063ecf2df8d14610aab578063f02b8c8c14610aea578063fcd8007d14610b27575b600080fd5b34801561022057600080fd5b5061023b60048036036102369190810190617bfd565b610b64565b6040516102499291906184cd565b60405180910390f35b34801561025e57600080fd5b5061027960048036036102749190810190617c7c565b611170565b005b34801561028757600080fd5b506102a2600480360361029d9190810190617b6f565b611329565b6040516102b09291906184cd565b60405180910390f35b3480156102c557600080fd5b506102e060048036036102db9190810190617b6f565b61172c565b6040516102ed91906187a8565b60405180910390f35b34801561030257600080fd5b5061031d60048036036103189190810190617a02565b6118ad565b005b34801561032b57600080fd5b5061034660048036036103419190810190617a02565b611a39565b60405161035391906187a8565b60405180910390f35b34801561036857600080fd5b50610383600480360361037e9190810190617ab6565b611b95565b6040516103909190618504565b60405180910390f35b3480156103a557600080fd5b506103c060048036036103bb9190810190617c7c565b611e1f565b6040516103cd919061856b565b60405180910390f35b3480156103e257600080fd5b506103fd60048036036103f89190810190617d1b565b61201f565b60405161040a919061856b565b60405180910390f35b34801561041f57600080fd5b5061043a60048036036104359190810190617a02565b612428565b604051610447919061856b565b60405180910390f35b34801561045c57600080fd5b5061047760048036036104729190810190617b6f565b61258a565b60405161048491906187ec565b60405180910390f35b34801561049957600080fd5b506104b460048036036104af9190810190617b6f565b61285f565b005b3480156104c257600080fd5b506104dd60048036036104d89190810190617b6f565b612979565b6040516104ea919061856b565b60405180910390f35b3480156104ff57600080fd5b5061051a60048036036105159190810190617bc1565b612c61565b60405161052791906187a8565b60405180910390f35b34801561053c57600080fd5b5061055760048036036105529190810190617a7a565b61308e565b604051610564919061856b565b60405180910390f35b34801561057957600080fd5b50610582613252565b60405161058f9190618504565b60405180910390f35b3480156105a457600080fd5b506105bf60048036036105ba9190810190617dcd565b6133b6565b6040516105cc91906187a8565b60405180910390f35b3480156105e157600080fd5b506105ea6135fd565b6040516105f791906187a8565b60405180910390f35b34801561060c57600080fd5b5061062760048036036106229190810190617bc1565b613713565b604051610634919061856b565b60405180910390f35b34801561064957600080fd5b50610664600480360361065f9190810190617b6f565b61382b565b005b34801561067257600080fd5b5061068d60048036036106889190810190617a2b565b613966565b60405161069a91906187a8565b60405180910390f35b3480156106af57600080fd5b506106ca60048036036106c59190810190617cb8565b613d71565b005b3480156106d857600080fd5b506106e1614035565b6040516106ee9190618421565b60405180910390f35b34801561070357600080fd5b5061071e60048036036107199190810190617b6f565b6141cf565b60405161072b919061856b565b60405180910390f35b34801561074057600080fd5b5061075b60048036036107569190810190617b6f565b614609565b604051610768919061856b565b60405180910390f35b34801561077d57600080fd5b50610786614727565b60405161079391906187a8565b60405180910390f35b3480156107a857600080fd5b506107c360048036036107be9190810190617bc1565b6148f8565b6040516107d091906187a8565b60405180910390f35b3480156107e557600080fd5b506107ee614c60565b6040516107fb91906187a8565b60405180910390f35b34801561081057600080fd5b50610819614d76565b60405161082691906187a8565b60405180910390f35b34801561083b57600080fd5b5061085660048036036108519190810190617b6f565b614d7c565b604051610863919061856b565b60405180910390f35b34801561087857600080fd5b50610893600480360361088e9190810190617b6f565b61519c565b6040516108a39493929190618443565b60405180910390f35b3480156108b857600080fd5b506108d360048036036108ce9190810190617c7c565b615700565b6040516108e192919061849d565b60405180910390f35b3480156108f657600080fd5b50610911600480360361090c9190810190617bc1565b61596c565b60405161091e919061856b565b60405180910390f35b34801561093357600080fd5b5061094e60048036036109499190810190617d6a565b615bdf565b60405161095c9291906187c3565b60405180910390f35b34801561097157600080fd5b5061098c60048036036109879190810190617bc1565b615f8c565b604051610999919061856b565b60405180910390f35b3480156109ae57600080fd5b506109c960048036036109c49190810190617b2e565b616172565b6040516109d691906183dd565b60405180910390f35b3480156109eb57600080fd5b50610a066004803603610a019190810190617c7c565b6162aa565b604051610a13919061856b565b60405180910390f35b348015610a2857600080fd5b50610a436004803603610a3e9190810190617b6f565b616694565b604051610a50919061856b565b60405180910390f35b348015610a6557600080fd5b50610a806004803603610a7b9190810190617a02565b6166c4565b005b348015610a8e57600080fd5b50610aa96004803603610aa49190810190617b6f565b616891565b005b348015610ab757600080fd5b50610ad26004803603610acd9190810190617ab6565b6169ab565b604051610ae193929190618526565b60405180910390f35b348015610af657600080fd5b50610b116004803603610b0c9190810190617b6f565b616c94565b604051610b1e91906187a8565b60405180910390f35b348015610b3357600080fd5b50610b4e6004803603610b499190810190617b6f565b616e1b565b604051610b5b919061856b565b60405180910390f35b606080600080600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610be69291906183f8565b602060405180830381600087803b158015610c0057600080fd5b505af1158015610c14573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610c389190810190617b05565b1515610c79576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401610c70906185c8565b60405180910390fd5b600860008a8152602001908152602001600020549350600360008581526020019081526020016000209250600091505b8751821015610dc7578682815181101515610cc057fe5b90602001906020020151836005018984815181101515610cdc57fe5b906020019060200201516040518082805190602001908083835b602083101515610d1b5780518252602082019150602081019050602083039250610cf6565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390209080519060200190610d6192919061749f565b50826006018883815181101515610d7457fe5b906020019060200201519080600181540180825580915050906001820390600052602060002001600090919290919091509080519060200190610db892919061749f565b50508180600101925050610ca9565b8260036000868152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301556004820160009054906101000a900460ff168160040160006101000a81548160ff021916908360ff1602179055506006820181600601908054610ea492919061751f565b509050508260060180549050604051908082528060200260200182016040528015610ee357816020015b6060815260200190600190039081610ece5790505b5095508260060180549050604051908082528060200260200182016040528015610f2157816020015b606081526020","0190600190039081610f0c5790505b509450600090505b8260060180549050811015611164576000811415610f4657611157565b8260060181815481101515610f5757fe5b906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015610ff55780601f10610fca57610100808354040283529160200191610ff5565b820191906000526020600020905b815481529060010190602001808311610fd857829003601f168201915b5050505050868281518110151561100857fe5b9060200190602002018190525082600501836006018281548110151561102a57fe5b90600052602060002001604051808280546001816001161561010002031660029004801561108f5780601f1061106d57610100808354040283529182019161108f565b820191906000526020600020905b81548152906001019060200180831161107b575b505091505090815260200160405180910390208054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156111365780601f1061110b57610100808354040283529160200191611136565b820191906000526020600020905b81548152906001019060200180831161111957829003601f168201915b5050505050858281518110151561114957fe5b906020019060200201819052505b8080600101915050610f29565b50505050935093915050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111eb9291906183f8565b602060405180830381600087803b15801561120557600080fd5b505af1158015611219573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061123d9190810190617b05565b151561127e576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611275906185c8565b60405180910390fd5b6001600a6000858152602001908152602001600020600084815260200190815260200160002060006101000a81548160ff0219169083151502179055506001820190505b600a81101561132457600a838115156112d757fe5b0492506001600b6000858152602001908152602001600020600083815260200190815260200160002060006101000a81548160ff02191690831515021790555080806001019150506112c2565b505050565b6060806000806000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113aa9291906183f8565b602060405180830381600087803b1580156113c457600080fd5b505af11580156113d8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506113fc9190810190617b05565b151561143d576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611434906185c8565b60405180910390fd5b6008600087815260200190815260200160002054925060036000848152602001908152602001600020915081600601805490506040519080825280602002602001820160405280156114a357816020015b606081526020019060019003908161148e5790505b50945081600601805490506040519080825280602002602001820160405280156114e157816020015b60608152602001906001900390816114cc5790505b509350600090505b816006018054905081101561172457600081141561150657611717565b816006018181548110151561151757fe5b906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156115b55780601f1061158a576101008083540402835291602001916115b5565b820191906000526020600020905b81548152906001019060200180831161159857829003601f168201915b505050505085828151811015156115c857fe5b906020019060200201819052508160050182600601828154811015156115ea57fe5b90600052602060002001604051808280546001816001161561010002031660029004801561164f5780601f1061162d57610100808354040283529182019161164f565b820191906000526020600020905b81548152906001019060200180831161163b575b505091505090815260200160405180910390208054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156116f65780601f106116cb576101008083540402835291602001916116f6565b820191906000526020600020905b8154815290600101906020018083116116d957829003601f168201915b5050505050848281518110151561170957fe5b906020019060200201819052505b80806001019150506114e9565b505050915091565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016117a79291906183f8565b602060405180830381600087803b1580156117c157600080fd5b505af11580156117d5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506117f99190810190617b05565b151561183a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611831906185c8565b60405180910390fd5b60006008600084815260200190815260200160002054111515611892576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611889906185a8565b60405180910390fd5b60086000838152602001908152602001600020549050919050565b60008060001515601160149054906101000a900460ff161515141515611908576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016118ff90618748565b60405180910390fd5b61191061758f565b604051809103906000f08015801561192c573d6000803e3d6000fd5b50915061193761758f565b604051809103906000f080158015611953573d6000803e3d6000fd5b50905082600f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600c60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555080600d60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506001601160146101000a81548160ff021916908315150217905550505050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611ab49291906183f8565b602060405180830381600087803b158015611ace57600080fd5b505af1158015611ae2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611b069190810190617b05565b1515611b47576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611b3e906185c8565b60405180910390fd5b611b8e600960008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206170f9565b9050919050565b606060008060006060600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611c1a9291906183f8565b602060405180830381600087803b158015611c3457600080fd5b505af1158015611c48573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611c6c9190810190617b05565b1515611cad576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611ca4906185c8565b60405180910390fd5b600960008b73ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000209550611cf7866170f9565b94506000851415611d0a57829650611e12565b8489101515611d4e576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401611d45906186c8565b60405180910390fd5b84881115611d5e57849350611d62565b8793505b88841115611d7257888403611d75565b60005b604051908082528060200260200182016040528015611da35781602001602082028038833980820191505090505b509250600091508890505b83811015611e0e5760036000611dcd838961710a90919063ffffffff16565b8152602001908152602001600020600201548383806001019450815181101515611df357fe5b90602001906020020181815250508080600101915050611dae565b8296505b5050505050509392505050565b600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611e9b9291906183f8565b602060405180830381600087803b158015611eb557600080fd5b505af1158015611ec9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611eed9190810190617b05565b1515611f2e576040517f08c379a00000000000000000000000000000000000000000000000","00000000008152600401611f25906185c8565b60405180910390fd5b600a6000858152602001908152602001600020600084815260200190815260200160002060009054906101000a900460ff1680611f995750600b6000858152602001908152602001600020600084815260200190815260200160002060009054906101000a900460ff165b15611fa75760019150612018565b6001830190505b600a81101561201357600a84811515611fc357fe5b049350600a6000858152602001908152602001600020600082815260200190815260200160002060009054906101000a900460ff16156120065760019150612018565b8080600101915050611fae565b600091505b5092915050565b600061202961759f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016120a29291906183f8565b602060405180830381600087803b1580156120bc57600080fd5b505af11580156120d0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506120f49190810190617b05565b1515612135576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161212c906185c8565b60405180910390fd5b6004600086815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001600282015481526020016003820154815260200160048201548152602001600582015481525050905082156122c8578060a001518410151561222c576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161222390618788565b60405180910390fd5b6005600086815260200190815260200160002060009054906101000a900460ff1615801561227857506007600086815260200190815260200160002060009054906101000a900460ff16155b15156122b9576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016122b090618628565b60405180910390fd5b8381608001818152505061238c565b6000816080015111156123815780608001518411151561231d576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161231490618788565b60405180910390fd5b6006600086815260200190815260200160002060009054906101000a900460ff16151515612380576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612377906186e8565b60405180910390fd5b5b838160a00181815250505b80600460008781526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060408201518160020155606082015181600301556080820151816004015560a0820151816005015590505060019150509392505050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016124a39291906183f8565b602060405180830381600087803b1580156124bd57600080fd5b505af11580156124d1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506124f59190810190617b05565b1515612536576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161252d906185c8565b60405180910390fd5b600260008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff169050919050565b60006125946175ec565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161260d9291906183f8565b602060405180830381600087803b15801561262757600080fd5b505af115801561263b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061265f9190810190617b05565b15156126a0576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612697906185c8565b60405180910390fd5b600360006008600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015612844578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156128305780601f1061280557610100808354040283529160200191612830565b820191906000526020600020905b81548152906001019060200180831161281357829003601f168201915b505050505081526020019060010190612788565b5050505081525050905061285781617130565b915050919050565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016128d89291906183f8565b602060405180830381600087803b1580156128f257600080fd5b505af1158015612906573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061292a9190810190617b05565b151561296b576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612962906185c8565b60405180910390fd5b80600e5401600e8190555050565b6000806000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016129f79291906183f8565b602060405180830381600087803b158015612a1157600080fd5b505af1158015612a25573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a499190810190617b05565b1515612a8a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612a81906185c8565b60405180910390fd5b60046000858152602001908152602001600020915060008260030154111515612ae8576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612adf906185e8565b60405180910390fd5b600082600401541115612b4557612afd617188565b8260040154101515612b44576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612b3b90618648565b60405180910390fd5b5b600082600401541480612b625750612b5b617188565b8260040154105b9050612b6c617188565b82600401819055508160046000868152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550600282015481600201556003820154816003015560048201548160040155600582015481600501559050508015612c575760016005600086815260200190815260200160002060006101000a81548160ff0219169083151502179055505b8092505050919050565b6000612c6b6175ec565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ce49291906183f8565b602060405180830381600087803b158015612cfe57600080fd5b505af1158015612d12573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612d369190810190617b05565b1515612d77576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401612d6e906185c8565b60405180910390fd5b600360006008600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015612f1b578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612f075780601f10612edc57610100808354040283529160200191612f07565b820191906000526020600020905b815481529060010190602001808311612eea57829003601f168201915b5050505050815260200190","60010190612e5f565b50505050815250509050612f7a8160000151600960008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002061719590919063ffffffff16565b5082816020019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508060036000600860008881526020019081526020016000205481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a082015181600601908051906020019061307c92919061763c565b50905050806000015191505092915050565b600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161310a9291906183f8565b602060405180830381600087803b15801561312457600080fd5b505af1158015613138573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061315c9190810190617b05565b151561319d576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613194906185c8565b60405180910390fd5b600860008481526020019081526020016000205490506000811115156131f8576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016131ef906185a8565b60405180910390fd5b61324981600960008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002061724590919063ffffffff16565b91505092915050565b6060601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016132cd9291906183f8565b602060405180830381600087803b1580156132e757600080fd5b505af11580156132fb573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061331f9190810190617b05565b1515613360576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613357906185c8565b60405180910390fd5b60108054806020026020016040519081016040528092919081815260200182805480156133ac57602002820191906000526020600020905b815481526020019060010190808311613398575b5050505050905090565b600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016134329291906183f8565b602060405180830381600087803b15801561344c57600080fd5b505af1158015613460573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134849190810190617b05565b15156134c5576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016134bc906185c8565b60405180910390fd5b60036000600860008781526020019081526020016000205481526020019081526020016000209050828160040160006101000a81548160ff021916908360ff160217905550806003600083600001548152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301556004820160009054906101000a900460ff168160040160006101000a81548160ff021916908360ff16021790555060068201816006019080546135eb92919061751f565b50905050806000015491505092915050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016136789291906183f8565b602060405180830381600087803b15801561369257600080fd5b505af11580156136a6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136ca9190810190617b05565b151561370b576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613702906185c8565b60405180910390fd5b600e54905090565b60008060006004600086815260200190815260200160002060000154111515613771576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161376890618668565b60405180910390fd5b6004600085815260200190815260200160002090508273ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16148061381157508273ffffffffffffffffffffffffffffffffffffffff168160010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1614155b1561381f5760009150613824565b600191505b5092915050565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016138a49291906183f8565b602060405180830381600087803b1580156138be57600080fd5b505af11580156138d2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506138f69190810190617b05565b1515613937576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161392e906185c8565b60405180910390fd5b601081908060018154018082558091505090600182039060005260206000200160009091929091909150555050565b60006139706175ec565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016139e99291906183f8565b602060405180830381600087803b158015613a0357600080fd5b505af1158015613a17573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613a3b9190810190617b05565b1515613a7c576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613a73906185c8565b60405180910390fd5b600360006008600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015613c20578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613c0c5780601f10613be157610100808354040283529160200191613c0c565b820191906000526020600020905b815481529060010190602001808311613bef57829003601f168201915b505050505081526020019060010190613b64565b50505050815250509050613c7f8160000151600960008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002061724590919063ffffffff16565b1515613cc0576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613cb790618768565b60405180910390fd5b8060000151613ccf84876148f8565b141515613d11576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613d08906186a8565b60405180910390fd5b8060000151613d208486612c61565b141515613d62576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613d59906186a8565b60405180910390fd5b80600001519150509392505050565b6060613d7b6175ec565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613df49291906183f8565b602060405180830381600087803b158015613e0e57600080fd5b505af1158015613e22573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613e469190810190617b05565b1515613e87576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401613e7e906185c8565b60405180910390fd5b6001604051908082528060200260200182016040528015613ebc57816020015b6060815260200190600190039081613ea75790505b50915060c0604051908101604052808781526020018573ffffffffffffffffffffffffffffffffffffffff168152602001868152602001848152602001600160ff168152602001838152509050806003600088815260","20019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a0820151816006019080519060200190613fbf92919061763c565b5090505085600860008781526020019081526020016000208190555061402c86600960008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002061719590919063ffffffff16565b50505050505050565b6060601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016140b09291906183f8565b602060405180830381600087803b1580156140ca57600080fd5b505af11580156140de573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506141029190810190617b05565b1515614143576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161413a906185c8565b60405180910390fd5b60018054806020026020016040519081016040528092919081815260200182805480156141c557602002820191906000526020600020905b8160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001906001019080831161417b575b5050505050905090565b60006141d96175ec565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016142549291906183f8565b602060405180830381600087803b15801561426e57600080fd5b505af1158015614282573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506142a69190810190617b05565b15156142e7576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016142de906185c8565b60405180910390fd5b600360006008600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b8282101561448b578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156144775780601f1061444c57610100808354040283529160200191614477565b820191906000526020600020905b81548152906001019060200180831161445a57829003601f168201915b5050505050815260200190600101906143cf565b5050505081525050915061449e82617130565b60ff16600260ff1614156144b55760019250614602565b600460008360600151815260200190815260200160002090506000816004015414156144e45760009250614602565b6144ec617188565b81600401541015614601576002826080019060ff16908160ff16815250508160036000846000015181526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a08201518160060190805190602001906145c492919061763c565b509050506001600760008460600151815260200190815260200160002060006101000a81548160ff02191690831515021790555060019250614602565b5b5050919050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016146849291906183f8565b602060405180830381600087803b15801561469e57600080fd5b505af11580156146b2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506146d69190810190617b05565b1515614717576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161470e906185c8565b60405180910390fd5b8160008190555060019050919050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016147a29291906183f8565b602060405180830381600087803b1580156147bc57600080fd5b505af11580156147d0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506147f49190810190617b05565b1515614835576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161482c906185c8565b60405180910390fd5b600c60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16636d4ce63c6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156148bb57600080fd5b505af11580156148cf573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506148f39190810190617b98565b905090565b60006149026175ec565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161497b9291906183f8565b602060405180830381600087803b15801561499557600080fd5b505af11580156149a9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506149cd9190810190617b05565b1515614a0e576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614a05906185c8565b60405180910390fd5b600360006008600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015614bb2578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614b9e5780601f10614b7357610100808354040283529160200191614b9e565b820191906000526020600020905b815481529060010190602001808311614b8157829003601f168201915b505050505081526020019060010190614af6565b50505050815250509050614c118160000151600960008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002061726890919063ffffffff16565b1515614c52576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614c4990618768565b60405180910390fd5b806000015191505092915050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614cdb9291906183f8565b602060405180830381600087803b158015614cf557600080fd5b505af1158015614d09573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614d2d9190810190617b05565b1515614d6e576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614d65906185c8565b60405180910390fd5b600054905090565b60005481565b6000614d866175ec565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614e019291906183f8565b602060405180830381600087803b158015614e1b57600080fd5b505af1158015614e2f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614e539190810190617b05565b1515614e94576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401614e8b906185c8565b60405180910390fd5b600360006008600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffff","ffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015615038578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156150245780601f10614ff957610100808354040283529160200191615024565b820191906000526020600020905b81548152906001019060200180831161500757829003601f168201915b505050505081526020019060010190614f7c565b50505050815250509150816080015160ff16600360ff16141561505e5760019250615195565b6004600083606001518152602001908152602001600020905061507f617188565b81600501541015615194576003826080019060ff16908160ff16815250508160036000846000015181526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a082015181600601908051906020019061515792919061763c565b509050506001600660008460600151815260200190815260200160002060006101000a81548160ff02191690831515021790555060019250615195565b5b5050919050565b606080606060006151ab6175ec565b60608060606151b861759f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016152319291906183f8565b602060405180830381600087803b15801561524b57600080fd5b505af115801561525f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506152839190810190617b05565b15156152c4576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016152bb906185c8565b60405180910390fd5b60036000600860008d815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015615468578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156154545780601f1061542957610100808354040283529160200191615454565b820191906000526020600020905b81548152906001019060200180831161543757829003601f168201915b5050505050815260200190600101906153ac565b5050505081525050945060026040519080825280602002602001820160405280156154a25781602001602082028038833980820191505090505b50935060026040519080825280602002602001820160405280156154d55781602001602082028038833980820191505090505b50925060026040519080825280602002602001820160405280156155085781602001602082028038833980820191505090505b509150846020015184600081518110151561551f57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050846040015183600081518110151561556f57fe5b9060200190602002018181525050846060015183600181518110151561559157fe5b9060200190602002018181525050600460008660600151815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020016002820154815260200160038201548152602001600482015481526020016005820154815250509050806080015182600081518110151561566057fe5b90602001906020020181815250508060a0015182600181518110151561568257fe5b906020019060200201818152505080602001518460018151811015156156a457fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508383836156ec88617130565b985098509850985050505050509193509193565b6060600080600060606000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016157849291906183f8565b602060405180830381600087803b15801561579e57600080fd5b505af11580156157b2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506157d69190810190617b05565b1515615817576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161580e906185c8565b60405180910390fd5b600180549050935083881015156158665760006040519080825280602002602001820160405280156158585781602001602082028038833980820191505090505b508481915095509550615961565b615879878961734190919063ffffffff16565b925083831115615887578392505b8783036040519080825280602002602001820160405280156158b85781602001602082028038833980820191505090505b5091508790505b8281101561595a576001818154811015156158d657fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168289830381518110151561591157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff168152505080806001019150506158bf565b8184955095505b505050509250929050565b600080600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016159eb9291906183f8565b602060405180830381600087803b158015615a0557600080fd5b505af1158015615a19573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615a3d9190810190617b05565b1515615a7e576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615a75906185c8565b60405180910390fd5b60086000878152602001908152602001600020549250600083111515615ad9576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615ad0906185a8565b60405180910390fd5b6003600084815260200190815260200160002060010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff169150600460006003600086815260200190815260200160002060030154815260200190815260200160002090508473ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff161480615bc857508473ffffffffffffffffffffffffffffffffffffffff168160010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1614155b15615bd257600093505b6001935050505092915050565b600080600080615bed61759f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615c669291906183f8565b602060405180830381600087803b158015615c8057600080fd5b505af1158015615c94573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615cb89190810190617b05565b1515615cf9576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401615cf0906185c8565b60405180910390fd5b600c60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16636d4ce63c6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015615d7f57600080fd5b505af1158015615d93573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615db79190810190617b98565b9250615e8a6001600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16636d4ce63c6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015615e4457600080fd5b505af1158015615e58573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615e7c9190810190617b98565b61739890919063ffffffff16565b915060c0604051908101604052808381526020018773ffffffffffffffffffffffffffffffffffffffff168152602001600185038152602001615ed960018a038661734190919063ffffffff16565b81526020018a815260200189815250905080600460008481526020019081526020016000206000820151816000015560208201518160010160","006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060408201518160020155606082015181600301556080820151816004015560a0820151816005015590505082829450945050505094509492505050565b6000806000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161600a9291906183f8565b602060405180830381600087803b15801561602457600080fd5b505af1158015616038573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061605c9190810190617b05565b151561609d576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616094906185c8565b60405180910390fd5b600860008681526020019081526020016000205491506000821115156160f8576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016160ef906185a8565b60405180910390fd5b6003600083815260200190815260200160002060010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1690508373ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff16141561616a57600192505b505092915050565b600081601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638f2bbeed826040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016161ec9190618586565b602060405180830381600087803b15801561620657600080fd5b505af115801561621a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061623e9190810190617b05565b151561627f576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161627690618748565b60405180910390fd5b600f60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16915050919050565b60006162b46175ec565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161632d9291906183f8565b602060405180830381600087803b15801561634757600080fd5b505af115801561635b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061637f9190810190617b05565b15156163c0576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016163b7906185c8565b60405180910390fd5b6008600085815260200190815260200160002054600860008581526020019081526020016000208190555060006008600086815260200190815260200160002081905550600360006008600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b828210156165a8578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156165945780601f1061656957610100808354040283529160200191616594565b820191906000526020600020905b81548152906001019060200180831161657757829003601f168201915b5050505050815260200190600101906164ec565b50505050815250509050828160400181815250508060036000600860008781526020019081526020016000205481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a082015181600601908051906020019061668592919061763c565b50905050600191505092915050565b600080600860008481526020019081526020016000205411156166ba57600190506166bf565b600090505b919050565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161673d9291906183f8565b602060405180830381600087803b15801561675757600080fd5b505af115801561676b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061678f9190810190617b05565b15156167d0576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016167c7906185c8565b60405180910390fd5b60018190806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001600260008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff02191690831515021790555050565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161690a9291906183f8565b602060405180830381600087803b15801561692457600080fd5b505af1158015616938573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061695c9190810190617b05565b151561699d576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616994906185c8565b60405180910390fd5b80600e5403600e8190555050565b60608060008060006060806000806000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616a349291906183f8565b602060405180830381600087803b158015616a4e57600080fd5b505af1158015616a62573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616a869190810190617b05565b1515616ac7576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616abe906185c8565b60405180910390fd5b600960008e73ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000209650616b11876173ef565b9550858c101515616b2a57848487995099509950616c84565b8a8c870310616b39578a616b3d565b8b86035b604051908082528060200260200182016040528015616b6b5781602001602082028038833980820191505090505b5094508451604051908082528060200260200182016040528015616b9e5781602001602082028038833980820191505090505b50935060009150600090505b8451821015616c7a5760036000616bca838a61710a90919063ffffffff16565b8152602001908152602001600020600201549250616beb876001850361745e565b15616bf557616c6d565b60008c1115616c0c578b80600190039c5050616c6d565b828583815181101515616c1b57fe5b90602001906020020181815250505b616c37876001850161745e565b15616c49578280600101935050616c2a565b828483806001019450815181101515616c5e57fe5b90602001906020020181815250505b8080600101915050616baa565b8484879950995099505b5050505050505093509350939050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616d0f9291906183f8565b602060405180830381600087803b158015616d2957600080fd5b505af1158015616d3d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616d619190810190617b05565b1515616da2576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616d99906185c8565b60405180910390fd5b60006003600084815260200190815260200160002060020154111515616dfd576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401616df490618708565b60405180910390fd5b60036000838152602001908152602001600020600201549050919050565b6000616e256175ec565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630c6690f133306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616e9e9291906183f8565b602060405180830381600087803b158015616eb857600080fd5b505af1158015616ecc573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616ef09190810190617b05565b1515616f31576040517f08c379a00000000000000000000000000000000000000000","00000000000000008152600401616f28906185c8565b60405180910390fd5b600360006008600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b828210156170d5578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156170c15780601f10617096576101008083540402835291602001916170c1565b820191906000526020600020905b8154815290600101906020018083116170a457829003601f168201915b505050505081526020019060010190617019565b50505050815250509050600260ff166170ed82617130565b60ff1614915050919050565b600081600101805490509050919050565b6000826001018281548110151561711d57fe5b9060005260206000200154905092915050565b6000816080015160ff16600160ff1614801561716d5750600560008360600151815260200190815260200160002060009054906101000a900460ff165b1561717b5760029050617183565b816080015190505b919050565b6000804290508091505090565b60008082141515156171dc576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016171d390618728565b60405180910390fd5b6171e68383617245565b156171f4576001905061723f565b82600101829080600181540180825580915050906001820390600052602060002001600090919290919091505583600001600084815260200190815260200160002081905550600090505b92915050565b600080836000016000848152602001908152602001600020541415905092915050565b60008060006172778585617245565b15156172865760009250617339565b8460010160018660010180549050038154811015156172a157fe5b9060005260206000200154915084600001600085815260200190815260200160002054905080856000016000848152602001908152602001600020819055508185600101600183038154811015156172f557fe5b90600052602060002001819055508460000160008581526020019081526020016000206000905584600101805480919060019003617333919061769c565b50600192505b505092915050565b600080828401905083811015151561738e576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161738590618608565b60405180910390fd5b8091505092915050565b6000808383111515156173e0576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016173d790618688565b60405180910390fd5b82840390508091505092915050565b600080600090505b617400836170f9565b8110156174585761743c83600160036000617424868961710a90919063ffffffff16565b8152602001908152602001600020600201540361745e565b151561744b5781806001019250505b80806001019150506173f7565b50919050565b600080600860008481526020019081526020016000205490506000811180156174965750617495818561724590919063ffffffff16565b5b91505092915050565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106174e057805160ff191683800117855561750e565b8280016001018555821561750e579182015b8281111561750d5782518255916020019190600101906174f2565b5b50905061751b91906176c8565b5090565b82805482825590600052602060002090810192821561757e5760005260206000209182015b8281111561757d578282908054600181600116156101000203166002900461756d9291906176ed565b5091600101919060010190617544565b5b50905061758b9190617774565b5090565b60405161011080618a1383390190565b60c06040519081016040528060008152602001600073ffffffffffffffffffffffffffffffffffffffff168152602001600081526020016000815260200160008152602001600081525090565b60c06040519081016040528060008152602001600073ffffffffffffffffffffffffffffffffffffffff1681526020016000815260200160008152602001600060ff168152602001606081525090565b82805482825590600052602060002090810192821561768b579160200282015b8281111561768a57825182908051906020019061767a9291906177a0565b509160200191906001019061765c565b5b5090506176989190617774565b5090565b8154818355818111156176c3578183600052602060002091820191016176c291906176c8565b5b505050565b6176ea91905b808211156176e65760008160009055506001016176ce565b5090565b90565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106177265780548555617763565b8280016001018555821561776357600052602060002091601f016020900482015b82811115617762578254825591600101919060010190617747565b5b50905061777091906176c8565b5090565b61779d91905b8082111561779957600081816177909190617820565b5060010161777a565b5090565b90565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106177e157805160ff191683800117855561780f565b8280016001018555821561780f579182015b8281111561780e5782518255916020019190600101906177f3565b5b50905061781c91906176c8565b5090565b50805460018160011615610100020316600290046000825580601f106178465750617865565b601f01602090049060005260206000209081019061786491906176c8565b5b50565b6000617874823561897c565b905092915050565b600082601f830112151561788f57600080fd5b81356178a261789d82618834565b618807565b9150818183526020840193506020810190508360005b838110156178e857813586016178ce888261791a565b8452602084019350602083019250506001810190506178b8565b5050505092915050565b60006178fe823561899c565b905092915050565b6000617912825161899c565b905092915050565b600082601f830112151561792d57600080fd5b813561794061793b8261885c565b618807565b9150808252602083016020830185838301111561795c57600080fd5b6179678382846189bf565b50505092915050565b600082601f830112151561798357600080fd5b813561799661799182618888565b618807565b915080825260208301602083018583830111156179b257600080fd5b6179bd8382846189bf565b50505092915050565b60006179d282356189a8565b905092915050565b60006179e682516189a8565b905092915050565b60006179fa82356189b2565b905092915050565b600060208284031215617a1457600080fd5b6000617a2284828501617868565b91505092915050565b600080600060608486031215617a4057600080fd5b6000617a4e86828701617868565b9350506020617a5f86828701617868565b9250506040617a70868287016179c6565b9150509250925092565b60008060408385031215617a8d57600080fd5b6000617a9b85828601617868565b9250506020617aac858286016179c6565b9150509250929050565b600080600060608486031215617acb57600080fd5b6000617ad986828701617868565b9350506020617aea868287016179c6565b9250506040617afb868287016179c6565b9150509250925092565b600060208284031215617b1757600080fd5b6000617b2584828501617906565b91505092915050565b600060208284031215617b4057600080fd5b600082013567ffffffffffffffff811115617b5a57600080fd5b617b6684828501617970565b91505092915050565b600060208284031215617b8157600080fd5b6000617b8f848285016179c6565b91505092915050565b600060208284031215617baa57600080fd5b6000617bb8848285016179da565b91505092915050565b60008060408385031215617bd457600080fd5b6000617be2858286016179c6565b9250506020617bf385828601617868565b9150509250929050565b600080600060608486031215617c1257600080fd5b6000617c20868287016179c6565b935050602084013567ffffffffffffffff811115617c3d57600080fd5b617c498682870161787c565b925050604084013567ffffffffffffffff811115617c6657600080fd5b617c728682870161787c565b9150509250925092565b60008060408385031215617c8f57600080fd5b6000617c9d858286016179c6565b9250506020617cae858286016179c6565b9150509250929050565b60008060008060808587031215617cce57600080fd5b6000617cdc878288016179c6565b9450506020617ced878288016179c6565b9350506040617cfe87828801617868565b9250506060617d0f878288016179c6565b91505092959194509250565b600080600060608486031215617d3057600080fd5b6000617d3e868287016179c6565b9350506020617d4f868287016179c6565b9250506040617d60868287016178f2565b9150509250925092565b60008060008060808587031215617d8057600080fd5b6000617d8e878288016179c6565b9450506020617d9f878288016179c6565b9350506040617db0878288016179c6565b9250506060617dc187828801617868565b91505092959194509250565b60008060408385031215617de057600080fd5b6000617dee858286016179c6565b9250506020617dff858286016179ee565b9150509250929050565b617e1281618939565b82525050565b6000617e23826188db565b808452602084019350617e35836188b4565b60005b82811015617e6757617e4b868351617e09565b617e5482618912565b9150602086019550600181019050617e38565b50849250505092915050565b6000617e7e826188e6565b80845260208401935083602082028501617e97856188c1565b60005b84811015617ed0578383038852617eb2838351617f4b565b9250617ebd8261891f565b9150602088019750600181019050617e9a565b508196508694505050505092915050565b6000617eec826188f1565b808452602084019350617efe836188ce565b60005b82811015617f3057617f148683516183bf","565b617f1d8261892c565b9150602086019550600181019050617f01565b50849250505092915050565b617f4581618959565b82525050565b6000617f56826188fc565b808452617f6a8160208601602086016189ce565b617f7381618a01565b602085010191505092915050565b6000617f8c82618907565b808452617fa08160208601602086016189ce565b617fa981618a01565b602085010191505092915050565b6000601382527f6e6f746520646f65736e277420657869737421000000000000000000000000006020830152604082019050919050565b6000601582527f7265717569726564206f776e65722063616c6c656400000000000000000000006020830152604082019050919050565b6000601082527f6261746368206e6f7420766572696679000000000000000000000000000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000601582527f626174636820686173206265656e2065666665637400000000000000000000006020830152604082019050919050565b6000603482527f62617463682063616e206e6f74206265206566666563746976652c626563617560208301527f736520656666656374697665446174653e6e6f770000000000000000000000006040830152606082019050919050565b6000601482527f626174636820646f65736e2774206578697374210000000000000000000000006020830152604082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000600d82527f65786368616e6765206661696c000000000000000000000000000000000000006020830152604082019050919050565b6000602982527f72657175697265207374617274206c657373207468616e206163636f756e742060208301527f6e6f74652073697a6500000000000000000000000000000000000000000000006040830152606082019050919050565b6000601882527f626174636820686173206265656e2065787069726174656400000000000000006020830152604082019050919050565b6000601282527f6e6f746520646f65736e277420657869737400000000000000000000000000006020830152604082019050919050565b6000601882527f55696e745365743a204b65792063616e6e6f74206265203000000000000000006020830152604082019050919050565b6000601582527f73746f7261676520686173206265656e20696e697400000000000000000000006020830152604082019050919050565b6000602382527f546865206163636f756e74206973206e6f74206f776e65642074686973206e6f60208301527f74652100000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000602582527f7265717569726520656666656374697665446174653c2065787069726174696f60208301527f6e446174650000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6183c881618965565b82525050565b6183d78161896f565b82525050565b60006020820190506183f26000830184617e09565b92915050565b600060408201905061840d6000830185617e09565b61841a6020830184617e09565b9392505050565b6000602082019050818103600083015261843b8184617e18565b905092915050565b6000608082019050818103600083015261845d8187617e18565b905081810360208301526184718186617ee1565b905081810360408301526184858185617ee1565b905061849460608301846183ce565b95945050505050565b600060408201905081810360008301526184b78185617e18565b90506184c660208301846183bf565b9392505050565b600060408201905081810360008301526184e78185617e73565b905081810360208301526184fb8184617e73565b90509392505050565b6000602082019050818103600083015261851e8184617ee1565b905092915050565b600060608201905081810360008301526185408186617ee1565b905081810360208301526185548185617ee1565b905061856360408301846183bf565b949350505050565b60006020820190506185806000830184617f3c565b92915050565b600060208201905081810360008301526185a08184617f81565b905092915050565b600060208201905081810360008301526185c181617fb7565b9050919050565b600060208201905081810360008301526185e181617fee565b9050919050565b6000602082019050818103600083015261860181618025565b9050919050565b600060208201905081810360008301526186218161805c565b9050919050565b6000602082019050818103600083015261864181618093565b9050919050565b60006020820190508181036000830152618661816180ca565b9050919050565b6000602082019050818103600083015261868181618127565b9050919050565b600060208201905081810360008301526186a18161815e565b9050919050565b600060208201905081810360008301526186c181618195565b9050919050565b600060208201905081810360008301526186e1816181cc565b9050919050565b6000602082019050818103600083015261870181618229565b9050919050565b6000602082019050818103600083015261872181618260565b9050919050565b6000602082019050818103600083015261874181618297565b9050919050565b60006020820190508181036000830152618761816182ce565b9050919050565b6000602082019050818103600083015261878181618305565b9050919050565b600060208201905081810360008301526187a181618362565b9050919050565b60006020820190506187bd60008301846183bf565b92915050565b60006040820190506187d860008301856183bf565b6187e560208301846183bf565b9392505050565b600060208201905061880160008301846183ce565b92915050565b6000604051905081810181811067ffffffffffffffff8211171561882a57600080fd5b8060405250919050565b600067ffffffffffffffff82111561884b57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561887357600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111561889f57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b600060ff82169050919050565b82818337600083830152505050565b60005b838110156189ec5780820151818401526020810190506189d1565b838111156189fb576000848401525b50505050565b6000601f19601f83011690509190505600608060405234801561001057600080fd5b50600160008190555060e9806100276000396000f3006080604052600436106049576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806335a5cfcb14604e5780636d4ce63c146076575b600080fd5b348015605957600080fd5b506060609e565b6040518082815260200191505060405180910390f35b348015608157600080fd5b50608860a7565b6040518082815260200191505060405180910390f35b60008054905090565b60006001600054016000819055506000549050905600a165627a7a72305820b613e0972d97cc9fae627254060e9451aeccca6027a8961ddba7acbdfeeb6d710029a265627a7a723058202ea14e5789dd4634bd6f8bdea78f65fb4c5e467c078a28c7c5491f1fce204c926c6578706572696d656e74616cf50037"};
 
     public static final String BINARY = String.join("", BINARY_ARRAY);
 
-    public static final String[] SM_BINARY_ARRAY = {"60806040523480156200001157600080fd5b5060405160208062008534833981018060405262000033919081019062000091565b80600e60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050620000dd565b6000620000898251620000bd565b905092915050565b600060208284031215620000a457600080fd5b6000620000b4848285016200007b565b91505092915050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b61844780620000ed6000396000f3006080604052600436106101f9576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff16806303486493146101fe578063066290b41461023b57806316b4be2214610266578063224a8f2d146102a4578063224b99c6146102cf5780632a7d22501461030c5780632adcd390146103495780632d75dd5c146103875780633889c9e4146103c4578063393895bf14610401578063403dad751461042a578063439920b314610467578063482956e0146104a45780634b0d55e1146104cd578063584fa1ee146104f8578063659bb882146105355780637c706c92146105725780638730d0b0146105af5780638ba6dd02146105ef57806390f633441461062c5780639abcc028146106555780639f0b2f8414610680578063a3909468146106be578063aab19c6e146106fb578063adaa361714610738578063b64f256f14610775578063b764a755146107b2578063b7d061ba146107db578063b9282a8f14610818578063ba6c482314610855578063bbb9a8a914610892578063bc2d4b21146108cf578063bcf320dc146108fa578063c035c52614610937578063c4c19c5414610960578063cbe12dc71461098b578063d358eac0146109c8578063d6d78803146109f1578063de6cbe7814610a2e578063fb495f6214610a57578063fc6a68de14610a94575b600080fd5b34801561020a57600080fd5b5061022560048036036102209190810190617526565b610ad1565b6040516102329190617e76565b60405180910390f35b34801561024757600080fd5b50610250610bef565b60405161025d9190618093565b60405180910390f35b34801561027257600080fd5b5061028d600480360361028891908101906175b4565b610bf5565b60405161029b929190617e1d565b60405180910390f35b3480156102b057600080fd5b506102b9611201565b6040516102c69190617e54565b60405180910390f35b3480156102db57600080fd5b506102f660048036036102f19190810190617526565b611365565b6040516103039190617e76565b60405180910390f35b34801561031857600080fd5b50610333600480360361032e9190810190617633565b611395565b6040516103409190617e76565b60405180910390f35b34801561035557600080fd5b50610370600480360361036b9190810190617721565b61177f565b60405161037e9291906180ae565b60405180910390f35b34801561039357600080fd5b506103ae60048036036103a991908101906173b9565b611b2c565b6040516103bb9190617e76565b60405180910390f35b3480156103d057600080fd5b506103eb60048036036103e69190810190617526565b611c8e565b6040516103f89190618093565b60405180910390f35b34801561040d57600080fd5b5061042860048036036104239190810190617633565b611e15565b005b34801561043657600080fd5b50610451600480360361044c9190810190617431565b611f62565b60405161045e9190617e76565b60405180910390f35b34801561047357600080fd5b5061048e60048036036104899190810190617526565b612133565b60405161049b9190618093565b60405180910390f35b3480156104b057600080fd5b506104cb60048036036104c69190810190617526565b6122b4565b005b3480156104d957600080fd5b506104e26123ce565b6040516104ef9190618093565b60405180910390f35b34801561050457600080fd5b5061051f600480360361051a9190810190617578565b6124e4565b60405161052c9190617e76565b60405180910390f35b34801561054157600080fd5b5061055c6004803603610557919081019061746d565b6126ca565b6040516105699190617e54565b60405180910390f35b34801561057e57600080fd5b50610599600480360361059491908101906174e5565b6129ac565b6040516105a69190617d5d565b60405180910390f35b3480156105bb57600080fd5b506105d660048036036105d19190810190617526565b612ae4565b6040516105e69493929190617dc3565b60405180910390f35b3480156105fb57600080fd5b5061061660048036036106119190810190617526565b613044565b60405161062391906180d7565b60405180910390f35b34801561063857600080fd5b50610653600480360361064e9190810190617526565b613315565b005b34801561066157600080fd5b5061066a61342f565b6040516106779190618093565b60405180910390f35b34801561068c57600080fd5b506106a760048036036106a29190810190617526565b613600565b6040516106b5929190617e1d565b60405180910390f35b3480156106ca57600080fd5b506106e560048036036106e091908101906173b9565b613a03565b6040516106f29190618093565b60405180910390f35b34801561070757600080fd5b50610722600480360361071d9190810190617578565b613b60565b60405161072f9190617e76565b60405180910390f35b34801561074457600080fd5b5061075f600480360361075a9190810190617526565b613c78565b60405161076c9190617e76565b60405180910390f35b34801561078157600080fd5b5061079c600480360361079791908101906176d2565b613f52565b6040516107a99190617e76565b60405180910390f35b3480156107be57600080fd5b506107d960048036036107d4919081019061766f565b614351565b005b3480156107e757600080fd5b5061080260048036036107fd9190810190617784565b614695565b60405161080f9190618093565b60405180910390f35b34801561082457600080fd5b5061083f600480360361083a9190810190617578565b6148dc565b60405161084c9190618093565b60405180910390f35b34801561086157600080fd5b5061087c60048036036108779190810190617526565b614dbb565b6040516108899190617e76565b60405180910390f35b34801561089e57600080fd5b506108b960048036036108b491908101906173e2565b6151ab565b6040516108c69190618093565b60405180910390f35b3480156108db57600080fd5b506108e46155cd565b6040516108f19190618093565b60405180910390f35b34801561090657600080fd5b50610921600480360361091c9190810190617578565b6156e3565b60405161092e9190617e76565b60405180910390f35b34801561094357600080fd5b5061095e600480360361095991908101906173b9565b615956565b005b34801561096c57600080fd5b50610975615ae2565b6040516109829190617da1565b60405180910390f35b34801561099757600080fd5b506109b260048036036109ad9190810190617526565b615c7c565b6040516109bf9190617e76565b60405180910390f35b3480156109d457600080fd5b506109ef60048036036109ea9190810190617526565b616073565b005b3480156109fd57600080fd5b50610a186004803603610a139190810190617633565b6161ae565b604051610a259190617e76565b60405180910390f35b348015610a3a57600080fd5b50610a556004803603610a5091908101906173b9565b6162f6565b005b348015610a6357600080fd5b50610a7e6004803603610a799190810190617526565b6164c3565b604051610a8b9190617e76565b60405180910390f35b348015610aa057600080fd5b50610abb6004803603610ab69190810190617578565b6168c9565b604051610ac89190618093565b60405180910390f35b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b4c929190617d78565b602060405180830381600087803b158015610b6657600080fd5b505af1158015610b7a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610b9e91908101906174bc565b1515610bdf576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401610bd690617ed3565b60405180910390fd5b8160008190555060019050919050565b60005481565b606080600080600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c77929190617d78565b602060405180830381600087803b158015610c9157600080fd5b505af1158015610ca5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610cc991908101906174bc565b1515610d0a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401610d0190617ed3565b60405180910390fd5b600560008a8152602001908152602001600020549350600360008581526020019081526020016000209250600091505b8751821015610e58578682815181101515610d5157fe5b90602001906020020151836005018984815181101515610d6d57fe5b906020019060200201516040518082805190602001908083835b602083101515610dac5780518252602082019150602081019050602083039250610d87565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390209080519060200190610df2929190616e35565b50826006018883815181101515610e0557fe5b906020019060200201519080600181540180825580915050906001820390600052602060002001600090919290919091509080519060200190610e49929190616e35565b50508180600101925050610d3a565b8260036000868152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301556004820160009054906101000a900460ff168160040160006101000a81548160ff","021916908360ff1602179055506006820181600601908054610f35929190616eb5565b509050508260060180549050604051908082528060200260200182016040528015610f7457816020015b6060815260200190600190039081610f5f5790505b5095508260060180549050604051908082528060200260200182016040528015610fb257816020015b6060815260200190600190039081610f9d5790505b509450600090505b82600601805490508110156111f5576000811415610fd7576111e8565b8260060181815481101515610fe857fe5b906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156110865780601f1061105b57610100808354040283529160200191611086565b820191906000526020600020905b81548152906001019060200180831161106957829003601f168201915b5050505050868281518110151561109957fe5b906020019060200201819052508260050183600601828154811015156110bb57fe5b9060005260206000200160405180828054600181600116156101000203166002900480156111205780601f106110fe576101008083540402835291820191611120565b820191906000526020600020905b81548152906001019060200180831161110c575b505091505090815260200160405180910390208054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156111c75780601f1061119c576101008083540402835291602001916111c7565b820191906000526020600020905b8154815290600101906020018083116111aa57829003601f168201915b505050505085828151811015156111da57fe5b906020019060200201819052505b8080600101915050610fba565b50505050935093915050565b6060600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161127c929190617d78565b602060405180830381600087803b15801561129657600080fd5b505af11580156112aa573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506112ce91908101906174bc565b151561130f576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161130690617ed3565b60405180910390fd5b600d80548060200260200160405190810160405280929190818152602001828054801561135b57602002820191906000526020600020905b815481526020019060010190808311611347575b5050505050905090565b6000806005600084815260200190815260200160002054111561138b5760019050611390565b600090505b919050565b600061139f616f25565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611418929190617d78565b602060405180830381600087803b15801561143257600080fd5b505af1158015611446573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061146a91908101906174bc565b15156114ab576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016114a290617ed3565b60405180910390fd5b6005600085815260200190815260200160002054600560008581526020019081526020016000208190555060006005600086815260200190815260200160002081905550600360006005600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015611693578382906000526020600020018054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561167f5780601f106116545761010080835404028352916020019161167f565b820191906000526020600020905b81548152906001019060200180831161166257829003601f168201915b5050505050815260200190600101906115d7565b50505050815250509050828160400181815250508060036000600560008781526020019081526020016000205481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a0820151816006019080519060200190611770929190616f75565b50905050600191505092915050565b60008060008061178d616fd5565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611806929190617d78565b602060405180830381600087803b15801561182057600080fd5b505af1158015611834573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061185891908101906174bc565b1515611899576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161189090617ed3565b60405180910390fd5b600960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663299f7f9d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561191f57600080fd5b505af1158015611933573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611957919081019061754f565b9250611a2a6001600a60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663299f7f9d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156119e457600080fd5b505af11580156119f8573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611a1c919081019061754f565b616d7a90919063ffffffff16565b915060c0604051908101604052808381526020018773ffffffffffffffffffffffffffffffffffffffff168152602001600185038152602001611a7960018a0386616dd190919063ffffffff16565b81526020018a815260200189815250905080600460008481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060408201518160020155606082015181600301556080820151816004015560a0820151816005015590505082829450945050505094509492505050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611ba7929190617d78565b602060405180830381600087803b158015611bc157600080fd5b505af1158015611bd5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611bf991908101906174bc565b1515611c3a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611c3190617ed3565b60405180910390fd5b600260008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff169050919050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611d09929190617d78565b602060405180830381600087803b158015611d2357600080fd5b505af1158015611d37573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611d5b91908101906174bc565b1515611d9c576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611d9390617ed3565b60405180910390fd5b60006003600084815260200190815260200160002060020154111515611df7576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611dee90618013565b60405180910390fd5b60036000838152602001908152602001600020600201549050919050565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611e8e929190617d78565b602060405180830381600087803b158015611ea857600080fd5b505af1158015611ebc573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611ee091908101906174bc565b1515611f21576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611f18","90617ed3565b60405180910390fd5b600160086000848152602001908152602001600020600083815260200190815260200160002060006101000a81548160ff0219169083151502179055505050565b600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611fde929190617d78565b602060405180830381600087803b158015611ff857600080fd5b505af115801561200c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061203091908101906174bc565b1515612071576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161206890617ed3565b60405180910390fd5b600560008481526020019081526020016000205490506000811115156120cc576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016120c390618073565b60405180910390fd5b600660008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600082815260200190815260200160002060009054906101000a900460ff1691505092915050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016121ae929190617d78565b602060405180830381600087803b1580156121c857600080fd5b505af11580156121dc573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061220091908101906174bc565b1515612241576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161223890617ed3565b60405180910390fd5b60006005600084815260200190815260200160002054111515612299576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161229090618073565b60405180910390fd5b60056000838152602001908152602001600020549050919050565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161232d929190617d78565b602060405180830381600087803b15801561234757600080fd5b505af115801561235b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061237f91908101906174bc565b15156123c0576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016123b790617ed3565b60405180910390fd5b80600b5403600b8190555050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612449929190617d78565b602060405180830381600087803b15801561246357600080fd5b505af1158015612477573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061249b91908101906174bc565b15156124dc576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016124d390617ed3565b60405180910390fd5b600054905090565b6000806000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612562929190617d78565b602060405180830381600087803b15801561257c57600080fd5b505af1158015612590573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506125b491908101906174bc565b15156125f5576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016125ec90617ed3565b60405180910390fd5b60056000868152602001908152602001600020549150600082111515612650576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161264790618073565b60405180910390fd5b6003600083815260200190815260200160002060010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1690508373ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff1614156126c257600192505b505092915050565b60606000806060600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161274d929190617d78565b602060405180830381600087803b15801561276757600080fd5b505af115801561277b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061279f91908101906174bc565b15156127e0576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016127d790617ed3565b60405180910390fd5b600760008a73ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000209450600085805490501415612885578480548060200260200160405190810160405280929190818152602001828054801561287957602002820191906000526020600020905b815481526020019060010190808311612865575b505050505095506129a0565b8480549050881015156128cd576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016128c490617eb3565b60405180910390fd5b84805490508711156128e557848054905093506128e9565b8693505b60008411156128fa578784036128fd565b60005b60405190808252806020026020018201604052801561292b5781602001602082028038833980820191505090505b509250600091508790505b8381101561299c5760036000868381548110151561295057fe5b9060005260206000200154815260200190815260200160002060020154838380600101945081518110151561298157fe5b90602001906020020181815250508080600101915050612936565b8295505b50505050509392505050565b600081600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638bb7e9ce826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a269190617e91565b602060405180830381600087803b158015612a4057600080fd5b505af1158015612a54573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a7891908101906174bc565b1515612ab9576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612ab090617f73565b60405180910390fd5b600c60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16915050919050565b60608060606000612af3616f25565b6060806060612b00616fd5565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b79929190617d78565b602060405180830381600087803b158015612b9357600080fd5b505af1158015612ba7573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612bcb91908101906174bc565b1515612c0c576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612c0390617ed3565b60405180910390fd5b60036000600560008d815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015612db0578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612d9c5780601f10612d7157610100808354040283529160200191612d9c565b820191906000526020600020905b815481529060010190602001808311612d7f57829003601f168201915b505050505081526020019060010190612cf4565b505050508152505094506002604051908082528060200260200182016040528015612dea5781602001602082028038833980820191505090505b5093506002604051908082528060200260200182016040528015612e1d5781602001602082028038833980820191505090505b5092506002604051908082528060200260200182016040528015612e505781602001602082028038833980820191505090505b5091508460200151846000815181101515612e6757fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508460400151836000815181101515612eb757fe5b90602001906020020181815250508460600151836001815181101515612ed957fe5b9060200190602002018181525050600460008660600151815260200190815260200160002060c0604051908101604052908160008201548152","6020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820154815260200160058201548152505090508060800151826000815181101515612fa857fe5b90602001906020020181815250508060a00151826001815181101515612fca57fe5b90602001906020020181815250508060200151846001815181101515612fec57fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508383838760800151985098509850985050505050509193509193565b600061304e616f25565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016130c7929190617d78565b602060405180830381600087803b1580156130e157600080fd5b505af11580156130f5573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061311991908101906174bc565b151561315a576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161315190617ed3565b60405180910390fd5b600360006005600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b828210156132fe578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156132ea5780601f106132bf576101008083540402835291602001916132ea565b820191906000526020600020905b8154815290600101906020018083116132cd57829003601f168201915b505050505081526020019060010190613242565b505050508152505090508060800151915050919050565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161338e929190617d78565b602060405180830381600087803b1580156133a857600080fd5b505af11580156133bc573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506133e091908101906174bc565b1515613421576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161341890617ed3565b60405180910390fd5b80600b5401600b8190555050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016134aa929190617d78565b602060405180830381600087803b1580156134c457600080fd5b505af11580156134d8573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134fc91908101906174bc565b151561353d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161353490617ed3565b60405180910390fd5b600960009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663299f7f9d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156135c357600080fd5b505af11580156135d7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506135fb919081019061754f565b905090565b6060806000806000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613681929190617d78565b602060405180830381600087803b15801561369b57600080fd5b505af11580156136af573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506136d391908101906174bc565b1515613714576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161370b90617ed3565b60405180910390fd5b60056000878152602001908152602001600020549250600360008481526020019081526020016000209150816006018054905060405190808252806020026020018201604052801561377a57816020015b60608152602001906001900390816137655790505b50945081600601805490506040519080825280602002602001820160405280156137b857816020015b60608152602001906001900390816137a35790505b509350600090505b81600601805490508110156139fb5760008114156137dd576139ee565b81600601818154811015156137ee57fe5b906000526020600020018054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561388c5780601f106138615761010080835404028352916020019161388c565b820191906000526020600020905b81548152906001019060200180831161386f57829003601f168201915b5050505050858281518110151561389f57fe5b906020019060200201819052508160050182600601828154811015156138c157fe5b9060005260206000200160405180828054600181600116156101000203166002900480156139265780601f10613904576101008083540402835291820191613926565b820191906000526020600020905b815481529060010190602001808311613912575b505091505090815260200160405180910390208054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156139cd5780601f106139a2576101008083540402835291602001916139cd565b820191906000526020600020905b8154815290600101906020018083116139b057829003601f168201915b505050505084828151811015156139e057fe5b906020019060200201819052505b80806001019150506137c0565b505050915091565b600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613a7f929190617d78565b602060405180830381600087803b158015613a9957600080fd5b505af1158015613aad573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613ad191908101906174bc565b1515613b12576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613b0990617ed3565b60405180910390fd5b600760008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002090508080549050915050919050565b60008060006004600086815260200190815260200160002060000154111515613bbe576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613bb590618053565b60405180910390fd5b6004600085815260200190815260200160002090508273ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff161480613c5e57508273ffffffffffffffffffffffffffffffffffffffff168160010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1614155b15613c6c5760009150613c71565b600191505b5092915050565b6000613c82616f25565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613cfb929190617d78565b602060405180830381600087803b158015613d1557600080fd5b505af1158015613d29573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613d4d91908101906174bc565b1515613d8e576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613d8590617ed3565b60405180910390fd5b600360006005600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015613f32578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613f1e5780601f10613ef357610100808354040283529160200191613f1e565b820191906000526020600020905b815481529060010190602001808311613f","0157829003601f168201915b505050505081526020019060010190613e76565b50505050815250509050600260ff16816080015160ff1614915050919050565b6000613f5c616fd5565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613fd5929190617d78565b602060405180830381600087803b158015613fef57600080fd5b505af1158015614003573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061402791908101906174bc565b1515614068576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161405f90617ed3565b60405180910390fd5b6004600086815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001600282015481526020016003820154815260200160048201548152602001600582015481525050905082156141e1578060a001518410151561415f576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161415690617f93565b60405180910390fd5b600260ff16600360008360400151815260200190815260200160002060040160009054906101000a900460ff1660ff16141515156141d2576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016141c990618033565b60405180910390fd5b838160800181815250506142b5565b6000816080015111156142aa57806080015184111515614236576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161422d90617f93565b60405180910390fd5b600360ff16600360008360400151815260200190815260200160002060040160009054906101000a900460ff1660ff16141515156142a9576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016142a090617f33565b60405180910390fd5b5b838160a00181815250505b80600460008781526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060408201518160020155606082015181600301556080820151816004015560a0820151816005015590505060019150509392505050565b606061435b616f25565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016143d4929190617d78565b602060405180830381600087803b1580156143ee57600080fd5b505af1158015614402573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061442691908101906174bc565b1515614467576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161445e90617ed3565b60405180910390fd5b600160405190808252806020026020018201604052801561449c57816020015b60608152602001906001900390816144875790505b50915060c0604051908101604052808781526020018573ffffffffffffffffffffffffffffffffffffffff168152602001868152602001848152602001600160ff16815260200183815250905080600360008881526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a082015181600601908051906020019061459f929190616f75565b509050508560056000878152602001908152602001600020819055506001600660008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020600088815260200190815260200160002060006101000a81548160ff021916908315150217905550600760008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020869080600181540180825580915050906001820390600052602060002001600090919290919091505550505050505050565b600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614711929190617d78565b602060405180830381600087803b15801561472b57600080fd5b505af115801561473f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061476391908101906174bc565b15156147a4576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161479b90617ed3565b60405180910390fd5b60036000600560008781526020019081526020016000205481526020019081526020016000209050828160040160006101000a81548160ff021916908360ff160217905550806003600083600001548152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301556004820160009054906101000a900460ff168160040160006101000a81548160ff021916908360ff16021790555060068201816006019080546148ca929190616eb5565b50905050806000015491505092915050565b60006148e6616f25565b60006060600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614966929190617d78565b602060405180830381600087803b15801561498057600080fd5b505af1158015614994573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506149b891908101906174bc565b15156149f9576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016149f090617ed3565b60405180910390fd5b60036000600560008b815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015614b9d578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015614b895780601f10614b5e57610100808354040283529160200191614b89565b820191906000526020600020905b815481529060010190602001808311614b6c57829003601f168201915b505050505081526020019060010190614ae1565b505050508152505094506000600660008973ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060008760000151815260200190815260200160002060006101000a81548160ff021916908315150217905550600760008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002093506001848054905003604051908082528060200260200182016040528015614c8b5781602001602082028038833980820191505090505b509250600090505b8251811015614d555781158015614cc5575084600001518482815481101515614cb857fe5b9060005260206000200154145b15614ccf57600191505b8115614d12578360018201815481101515614ce657fe5b90600052602060002001548382815181101515614cff57fe5b9060200190602002018181525050614d48565b8381815481101515614d2057fe5b90600052602060002001548382815181101515614d3957fe5b90602001906020020181815250505b8080600101915050614c93565b82600760008973ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000209080519060200190614da8929190617022565b5084600001519550505050505092915050565b6000614dc5616f25565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614e40929190617d78565b602060405180830381600087803b158015614e5a57600080fd5b505af1158015614e6e573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614e9291908101906174bc565b1515614ed3576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614eca90617ed3565b60405180910390fd5b600360006005600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001","820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015615077578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156150635780601f1061503857610100808354040283529160200191615063565b820191906000526020600020905b81548152906001019060200180831161504657829003601f168201915b505050505081526020019060010190614fbb565b50505050815250509150816080015160ff16600360ff16141561509d57600192506151a4565b600460008360600151815260200190815260200160002090506150be616e28565b816005015410156151a3576003826080019060ff16908160ff16815250508160036000846000015181526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a0820151816006019080519060200190615196929190616f75565b50905050600192506151a4565b5b5050919050565b60006151b5616f25565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161522e929190617d78565b602060405180830381600087803b15801561524857600080fd5b505af115801561525c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061528091908101906174bc565b15156152c1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016152b890617ed3565b60405180910390fd5b600360006005600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015615465578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156154515780601f1061542657610100808354040283529160200191615451565b820191906000526020600020905b81548152906001019060200180831161543457829003601f168201915b5050505050815260200190600101906153a9565b505050508152505090506001600660008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060008360000151815260200190815260200160002060006101000a81548160ff0219169083151502179055151561551c576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161551390617ef3565b60405180910390fd5b806000015161552b84876148dc565b14151561556d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161556490617f13565b60405180910390fd5b806000015161557c84866168c9565b1415156155be576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016155b590617f13565b60405180910390fd5b80600001519150509392505050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615648929190617d78565b602060405180830381600087803b15801561566257600080fd5b505af1158015615676573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061569a91908101906174bc565b15156156db576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016156d290617ed3565b60405180910390fd5b600b54905090565b600080600080600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615762929190617d78565b602060405180830381600087803b15801561577c57600080fd5b505af1158015615790573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506157b491908101906174bc565b15156157f5576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016157ec90617ed3565b60405180910390fd5b60056000878152602001908152602001600020549250600083111515615850576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161584790618073565b60405180910390fd5b6003600084815260200190815260200160002060010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff169150600460006003600086815260200190815260200160002060030154815260200190815260200160002090508473ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff16148061593f57508473ffffffffffffffffffffffffffffffffffffffff168160010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1614155b1561594957600093505b6001935050505092915050565b60008060001515600e60149054906101000a900460ff1615151415156159b1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016159a890617f73565b60405180910390fd5b6159b961706f565b604051809103906000f0801580156159d5573d6000803e3d6000fd5b5091506159e061706f565b604051809103906000f0801580156159fc573d6000803e3d6000fd5b50905082600c60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600960006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555080600a60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506001600e60146101000a81548160ff021916908315150217905550505050565b6060600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615b5d929190617d78565b602060405180830381600087803b158015615b7757600080fd5b505af1158015615b8b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615baf91908101906174bc565b1515615bf0576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615be790617ed3565b60405180910390fd5b6001805480602002602001604051908101604052809291908181526020018280548015615c7257602002820191906000526020600020905b8160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019060010190808311615c28575b5050505050905090565b6000806000806000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615cfd929190617d78565b602060405180830381600087803b158015615d1757600080fd5b505af1158015615d2b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615d4f91908101906174bc565b1515615d90576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615d8790617ed3565b60405180910390fd5b60046000878152602001908152602001600020935060008460030154111515615dee576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615de590617fd3565b60405180910390fd5b600084600401541115615e4b57615e03616e28565b8460040154101515615e4a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615e4190617fb3565b60405180910390fd5b5b600084600401541480615e685750615e61616e28565b8460040154105b9250615e72616e28565b84600401819055508360046000888152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301","556004820154816004015560058201548160050155905050821561606757836002015491505b8360030154821115156160665760036000838152602001908152602001600020905060028160040160006101000a81548160ff021916908360ff1602179055508060036000848152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301556004820160009054906101000a900460ff168160040160006101000a81548160ff021916908360ff1602179055506006820181600601908054616055929190616eb5565b509050508180600101925050615f38565b5b82945050505050919050565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016160ec929190617d78565b602060405180830381600087803b15801561610657600080fd5b505af115801561611a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061613e91908101906174bc565b151561617f576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161617690617ed3565b60405180910390fd5b600d81908060018154018082558091505090600182039060005260206000200160009091929091909150555050565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616229929190617d78565b602060405180830381600087803b15801561624357600080fd5b505af1158015616257573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061627b91908101906174bc565b15156162bc576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016162b390617ed3565b60405180910390fd5b60086000848152602001908152602001600020600083815260200190815260200160002060009054906101000a900460ff16905092915050565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161636f929190617d78565b602060405180830381600087803b15801561638957600080fd5b505af115801561639d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506163c191908101906174bc565b1515616402576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016163f990617ed3565b60405180910390fd5b60018190806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001600260008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff02191690831515021790555050565b60006164cd616f25565b6000600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616548929190617d78565b602060405180830381600087803b15801561656257600080fd5b505af1158015616576573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061659a91908101906174bc565b15156165db576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016165d290617ed3565b60405180910390fd5b600360006005600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b8282101561677f578382906000526020600020018054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561676b5780601f106167405761010080835404028352916020019161676b565b820191906000526020600020905b81548152906001019060200180831161674e57829003601f168201915b5050505050815260200190600101906166c3565b50505050815250509150816080015160ff16600260ff1614156167a557600192506168c2565b600460008360600151815260200190815260200160002090506000816004015414156167d457600092506168c2565b6167dc616e28565b816004015410156168c1576002826080019060ff16908160ff16815250508160036000846000015181526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a08201518160060190805190602001906168b4929190616f75565b50905050600192506168c2565b5b5050919050565b60006168d3616f25565b600e60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161694c929190617d78565b602060405180830381600087803b15801561696657600080fd5b505af115801561697a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061699e91908101906174bc565b15156169df576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016169d690617ed3565b60405180910390fd5b600360006005600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015616b83578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616b6f5780601f10616b4457610100808354040283529160200191616b6f565b820191906000526020600020905b815481529060010190602001808311616b5257829003601f168201915b505050505081526020019060010190616ac7565b505050508152505090506001600660008573ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060008360000151815260200190815260200160002060006101000a81548160ff021916908315150217905550600760008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000208160000151908060018154018082558091505090600182039060005260206000200160009091929091909150555082816020019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508060036000600560008881526020019081526020016000205481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a0820151816006019080519060200190616d68929190616f75565b50905050806000015191505092915050565b600080838311151515616dc2576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616db990617ff3565b60405180910390fd5b82840390508091505092915050565b6000808284019050838110151515616e1e576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616e1590617f53565b60405180910390fd5b8091505092915050565b6000804290508091505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f10616e7657805160ff1916838001178555616ea4565b82800160010185558215616ea4579182015b82811115616ea3578251825591602001919060010190616e88565b5b509050616eb1919061707f565b5090565b828054828255906000526020600020908101928215616f145760005260206000209182015b82811115616f135782829080546001816001161561010002031660029004616f039291906170a4565b5091600101919060010190616eda56","5b5b509050616f21919061712b565b5090565b60c06040519081016040528060008152602001600073ffffffffffffffffffffffffffffffffffffffff1681526020016000815260200160008152602001600060ff168152602001606081525090565b828054828255906000526020600020908101928215616fc4579160200282015b82811115616fc3578251829080519060200190616fb3929190617157565b5091602001919060010190616f95565b5b509050616fd1919061712b565b5090565b60c06040519081016040528060008152602001600073ffffffffffffffffffffffffffffffffffffffff168152602001600081526020016000815260200160008152602001600081525090565b82805482825590600052602060002090810192821561705e579160200282015b8281111561705d578251825591602001919060010190617042565b5b50905061706b919061707f565b5090565b604051610110806182fe83390190565b6170a191905b8082111561709d576000816000905550600101617085565b5090565b90565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106170dd578054855561711a565b8280016001018555821561711a57600052602060002091601f016020900482015b828111156171195782548255916001019190600101906170fe565b5b509050617127919061707f565b5090565b61715491905b80821115617150576000818161714791906171d7565b50600101617131565b5090565b90565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f1061719857805160ff19168380011785556171c6565b828001600101855582156171c6579182015b828111156171c55782518255916020019190600101906171aa565b5b5090506171d3919061707f565b5090565b50805460018160011615610100020316600290046000825580601f106171fd575061721c565b601f01602090049060005260206000209081019061721b919061707f565b5b50565b600061722b8235618267565b905092915050565b600082601f830112151561724657600080fd5b81356172596172548261811f565b6180f2565b9150818183526020840193506020810190508360005b8381101561729f578135860161728588826172d1565b84526020840193506020830192505060018101905061726f565b5050505092915050565b60006172b58235618287565b905092915050565b60006172c98251618287565b905092915050565b600082601f83011215156172e457600080fd5b81356172f76172f282618147565b6180f2565b9150808252602083016020830185838301111561731357600080fd5b61731e8382846182aa565b50505092915050565b600082601f830112151561733a57600080fd5b813561734d61734882618173565b6180f2565b9150808252602083016020830185838301111561736957600080fd5b6173748382846182aa565b50505092915050565b60006173898235618293565b905092915050565b600061739d8251618293565b905092915050565b60006173b1823561829d565b905092915050565b6000602082840312156173cb57600080fd5b60006173d98482850161721f565b91505092915050565b6000806000606084860312156173f757600080fd5b60006174058682870161721f565b93505060206174168682870161721f565b92505060406174278682870161737d565b9150509250925092565b6000806040838503121561744457600080fd5b60006174528582860161721f565b92505060206174638582860161737d565b9150509250929050565b60008060006060848603121561748257600080fd5b60006174908682870161721f565b93505060206174a18682870161737d565b92505060406174b28682870161737d565b9150509250925092565b6000602082840312156174ce57600080fd5b60006174dc848285016172bd565b91505092915050565b6000602082840312156174f757600080fd5b600082013567ffffffffffffffff81111561751157600080fd5b61751d84828501617327565b91505092915050565b60006020828403121561753857600080fd5b60006175468482850161737d565b91505092915050565b60006020828403121561756157600080fd5b600061756f84828501617391565b91505092915050565b6000806040838503121561758b57600080fd5b60006175998582860161737d565b92505060206175aa8582860161721f565b9150509250929050565b6000806000606084860312156175c957600080fd5b60006175d78682870161737d565b935050602084013567ffffffffffffffff8111156175f457600080fd5b61760086828701617233565b925050604084013567ffffffffffffffff81111561761d57600080fd5b61762986828701617233565b9150509250925092565b6000806040838503121561764657600080fd5b60006176548582860161737d565b92505060206176658582860161737d565b9150509250929050565b6000806000806080858703121561768557600080fd5b60006176938782880161737d565b94505060206176a48782880161737d565b93505060406176b58782880161721f565b92505060606176c68782880161737d565b91505092959194509250565b6000806000606084860312156176e757600080fd5b60006176f58682870161737d565b93505060206177068682870161737d565b9250506040617717868287016172a9565b9150509250925092565b6000806000806080858703121561773757600080fd5b60006177458782880161737d565b94505060206177568782880161737d565b93505060406177678782880161737d565b92505060606177788782880161721f565b91505092959194509250565b6000806040838503121561779757600080fd5b60006177a58582860161737d565b92505060206177b6858286016173a5565b9150509250929050565b6177c981618224565b82525050565b60006177da826181c6565b8084526020840193506177ec8361819f565b60005b8281101561781e576178028683516177c0565b61780b826181fd565b91506020860195506001810190506177ef565b50849250505092915050565b6000617835826181d1565b8084526020840193508360208202850161784e856181ac565b60005b84811015617887578383038852617869838351617902565b92506178748261820a565b9150602088019750600181019050617851565b508196508694505050505092915050565b60006178a3826181dc565b8084526020840193506178b5836181b9565b60005b828110156178e7576178cb868351617d3f565b6178d482618217565b91506020860195506001810190506178b8565b50849250505092915050565b6178fc81618244565b82525050565b600061790d826181e7565b8084526179218160208601602086016182b9565b61792a816182ec565b602085010191505092915050565b6000617943826181f2565b8084526179578160208601602086016182b9565b617960816182ec565b602085010191505092915050565b6000602982527f72657175697265207374617274206c657373207468616e206163636f756e742060208301527f6e6f74652073697a6500000000000000000000000000000000000000000000006040830152606082019050919050565b6000601582527f7265717569726564206f776e65722063616c6c656400000000000000000000006020830152604082019050919050565b6000602382527f546865206163636f756e74206973206e6f74206f776e65642074686973206e6f60208301527f74652100000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000600d82527f65786368616e6765206661696c000000000000000000000000000000000000006020830152604082019050919050565b6000601882527f626174636820686173206265656e2065787069726174656400000000000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000601582527f73746f7261676520686173206265656e20696e697400000000000000000000006020830152604082019050919050565b6000602582527f7265717569726520656666656374697665446174653c2065787069726174696f60208301527f6e446174650000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000603482527f62617463682063616e206e6f74206265206566666563746976652c626563617560208301527f736520656666656374697665446174653e6e6f770000000000000000000000006040830152606082019050919050565b6000601082527f6261746368206e6f7420766572696679000000000000000000000000000000006020830152604082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000601282527f6e6f746520646f65736e277420657869737400000000000000000000000000006020830152604082019050919050565b6000601582527f626174636820686173206265656e2065666665637400000000000000000000006020830152604082019050919050565b6000601482527f626174636820646f65736e2774206578697374210000000000000000000000006020830152604082019050919050565b6000601382527f6e6f746520646f65736e277420657869737421000000000000000000000000006020830152604082019050919050565b617d4881618250565b82525050565b617d578161825a565b82525050565b6000602082019050617d7260008301846177c0565b92915050565b6000604082019050617d8d60008301856177c0565b617d9a60208301846177c0565b9392505050565b60006020820190508181036000830152617dbb81846177cf565b905092915050565b60006080820190508181036000830152617ddd81876177cf565b90508181036020830152617df18186617898565b90508181036040830152617e058185617898565b9050617e146060830184617d4e565b95945050505050565b60006040820190508181036000830152617e37818561782a565b90508181036020830152617e4b818461782a565b90509392505050565b60006020820190508181036000830152617e6e8184617898565b905092915050565b6000602082019050617e8b60008301846178f3565b92915050565b60006020820190508181036000830152617eab8184617938565b905092915050565b60006020820190508181036000830152617ecc8161796e565b9050919050565b60006020820190508181036000830152617eec816179cb565b9050919050565b60006020820190508181036000830152617f0c81617a02565b905091905056","5b60006020820190508181036000830152617f2c81617a5f565b9050919050565b60006020820190508181036000830152617f4c81617a96565b9050919050565b60006020820190508181036000830152617f6c81617acd565b9050919050565b60006020820190508181036000830152617f8c81617b04565b9050919050565b60006020820190508181036000830152617fac81617b3b565b9050919050565b60006020820190508181036000830152617fcc81617b98565b9050919050565b60006020820190508181036000830152617fec81617bf5565b9050919050565b6000602082019050818103600083015261800c81617c2c565b9050919050565b6000602082019050818103600083015261802c81617c63565b9050919050565b6000602082019050818103600083015261804c81617c9a565b9050919050565b6000602082019050818103600083015261806c81617cd1565b9050919050565b6000602082019050818103600083015261808c81617d08565b9050919050565b60006020820190506180a86000830184617d3f565b92915050565b60006040820190506180c36000830185617d3f565b6180d06020830184617d3f565b9392505050565b60006020820190506180ec6000830184617d4e565b92915050565b6000604051905081810181811067ffffffffffffffff8211171561811557600080fd5b8060405250919050565b600067ffffffffffffffff82111561813657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561815e57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111561818a57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b600060ff82169050919050565b82818337600083830152505050565b60005b838110156182d75780820151818401526020810190506182bc565b838111156182e6576000848401525b50505050565b6000601f19601f83011690509190505600608060405234801561001057600080fd5b50600160008190555060e9806100276000396000f3006080604052600436106049576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff168063299f7f9d14604e578063b4e5591e146076575b600080fd5b348015605957600080fd5b506060609e565b6040518082815260200191505060405180910390f35b348015608157600080fd5b50608860b4565b6040518082815260200191505060405180910390f35b6000600160005401600081905550600054905090565b600080549050905600a165627a7a72305820723ead1e16a09964278301c9daba8e7d7c838b5ffe836a9bfe35f931e33ee0eb0029a265627a7a72305820de3ffc9d7c5ea089652e1fb92f334a1d023ffd192fd2f3c632748a39ab7210f86c6578706572696d656e74616cf50037"};
+    public static final String[] SM_BINARY_ARRAY = {"60806040523480156200001157600080fd5b5060405160208062008c49833981018060405262000033919081019062000091565b80601160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555050620000dd565b6000620000898251620000bd565b905092915050565b600060208284031215620000a457600080fd5b6000620000b4848285016200007b565b91505092915050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b618b5c80620000ed6000396000f30060806040526004361061020f576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff1680630348649314610214578063066290b41461025157806316b4be221461027c578063224a8f2d146102ba578063224b99c6146102e55780632a7d2250146103225780632adcd3901461035f5780632d75dd5c1461039d5780633889c9e4146103da578063393895bf14610417578063403dad7514610440578063439920b31461047d578063482956e0146104ba5780634b0d55e1146104e3578063584fa1ee1461050e578063659bb8821461054b5780637c706c92146105885780638730d0b0146105c55780638ba6dd021461060557806390f63344146106425780639abcc0281461066b5780639f0b2f8414610696578063a0ab3218146106d4578063a390946814610713578063aab19c6e14610750578063adaa36171461078d578063af43bff0146107ca578063b64f256f14610808578063b764a75514610845578063b7d061ba1461086e578063b9282a8f146108ab578063ba6c4823146108e8578063bbb9a8a914610925578063bc2d4b2114610962578063bcf320dc1461098d578063c035c526146109ca578063c4c19c54146109f3578063cbe12dc714610a1e578063d358eac014610a5b578063d6d7880314610a84578063de6cbe7814610ac1578063fb495f6214610aea578063fc6a68de14610b27575b600080fd5b34801561022057600080fd5b5061023b60048036036102369190810190617b6f565b610b64565b604051610248919061856b565b60405180910390f35b34801561025d57600080fd5b50610266610c82565b60405161027391906187a8565b60405180910390f35b34801561028857600080fd5b506102a3600480360361029e9190810190617bfd565b610c88565b6040516102b19291906184cd565b60405180910390f35b3480156102c657600080fd5b506102cf611294565b6040516102dc9190618504565b60405180910390f35b3480156102f157600080fd5b5061030c60048036036103079190810190617b6f565b6113f8565b604051610319919061856b565b60405180910390f35b34801561032e57600080fd5b5061034960048036036103449190810190617c7c565b611428565b604051610356919061856b565b60405180910390f35b34801561036b57600080fd5b5061038660048036036103819190810190617d6a565b611812565b6040516103949291906187c3565b60405180910390f35b3480156103a957600080fd5b506103c460048036036103bf9190810190617a02565b611bbf565b6040516103d1919061856b565b60405180910390f35b3480156103e657600080fd5b5061040160048036036103fc9190810190617b6f565b611d21565b60405161040e91906187a8565b60405180910390f35b34801561042357600080fd5b5061043e60048036036104399190810190617c7c565b611ea8565b005b34801561044c57600080fd5b5061046760048036036104629190810190617a7a565b612061565b604051610474919061856b565b60405180910390f35b34801561048957600080fd5b506104a4600480360361049f9190810190617b6f565b612225565b6040516104b191906187a8565b60405180910390f35b3480156104c657600080fd5b506104e160048036036104dc9190810190617b6f565b6123a6565b005b3480156104ef57600080fd5b506104f86124c0565b60405161050591906187a8565b60405180910390f35b34801561051a57600080fd5b5061053560048036036105309190810190617bc1565b6125d6565b604051610542919061856b565b60405180910390f35b34801561055757600080fd5b50610572600480360361056d9190810190617ab6565b6127bc565b60405161057f9190618504565b60405180910390f35b34801561059457600080fd5b506105af60048036036105aa9190810190617b2e565b612a46565b6040516105bc91906183dd565b60405180910390f35b3480156105d157600080fd5b506105ec60048036036105e79190810190617b6f565b612b7e565b6040516105fc9493929190618443565b60405180910390f35b34801561061157600080fd5b5061062c60048036036106279190810190617b6f565b6130e2565b60405161063991906187ec565b60405180910390f35b34801561064e57600080fd5b5061066960048036036106649190810190617b6f565b6133b7565b005b34801561067757600080fd5b506106806134d1565b60405161068d91906187a8565b60405180910390f35b3480156106a257600080fd5b506106bd60048036036106b89190810190617b6f565b6136a2565b6040516106cb9291906184cd565b60405180910390f35b3480156106e057600080fd5b506106fb60048036036106f69190810190617ab6565b613aa5565b60405161070a93929190618526565b60405180910390f35b34801561071f57600080fd5b5061073a60048036036107359190810190617a02565b613d8e565b60405161074791906187a8565b60405180910390f35b34801561075c57600080fd5b5061077760048036036107729190810190617bc1565b613eea565b604051610784919061856b565b60405180910390f35b34801561079957600080fd5b506107b460048036036107af9190810190617b6f565b614002565b6040516107c1919061856b565b60405180910390f35b3480156107d657600080fd5b506107f160048036036107ec9190810190617c7c565b6142e0565b6040516107ff92919061849d565b60405180910390f35b34801561081457600080fd5b5061082f600480360361082a9190810190617d1b565b61454c565b60405161083c919061856b565b60405180910390f35b34801561085157600080fd5b5061086c60048036036108679190810190617cb8565b614955565b005b34801561087a57600080fd5b5061089560048036036108909190810190617dcd565b614c19565b6040516108a291906187a8565b60405180910390f35b3480156108b757600080fd5b506108d260048036036108cd9190810190617bc1565b614e60565b6040516108df91906187a8565b60405180910390f35b3480156108f457600080fd5b5061090f600480360361090a9190810190617b6f565b6151c8565b60405161091c919061856b565b60405180910390f35b34801561093157600080fd5b5061094c60048036036109479190810190617a2b565b6155e8565b60405161095991906187a8565b60405180910390f35b34801561096e57600080fd5b506109776159f3565b60405161098491906187a8565b60405180910390f35b34801561099957600080fd5b506109b460048036036109af9190810190617bc1565b615b09565b6040516109c1919061856b565b60405180910390f35b3480156109d657600080fd5b506109f160048036036109ec9190810190617a02565b615d7c565b005b3480156109ff57600080fd5b50610a08615f08565b604051610a159190618421565b60405180910390f35b348015610a2a57600080fd5b50610a456004803603610a409190810190617b6f565b6160a2565b604051610a52919061856b565b60405180910390f35b348015610a6757600080fd5b50610a826004803603610a7d9190810190617b6f565b61638a565b005b348015610a9057600080fd5b50610aab6004803603610aa69190810190617c7c565b6164c5565b604051610ab8919061856b565b60405180910390f35b348015610acd57600080fd5b50610ae86004803603610ae39190810190617a02565b6166c5565b005b348015610af657600080fd5b50610b116004803603610b0c9190810190617b6f565b616892565b604051610b1e919061856b565b60405180910390f35b348015610b3357600080fd5b50610b4e6004803603610b499190810190617bc1565b616ccc565b604051610b5b91906187a8565b60405180910390f35b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610bdf9291906183f8565b602060405180830381600087803b158015610bf957600080fd5b505af1158015610c0d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610c319190810190617b05565b1515610c72576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401610c69906185c8565b60405180910390fd5b8160008190555060019050919050565b60005481565b606080600080600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610d0a9291906183f8565b602060405180830381600087803b158015610d2457600080fd5b505af1158015610d38573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610d5c9190810190617b05565b1515610d9d576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401610d94906185c8565b60405180910390fd5b600860008a8152602001908152602001600020549350600360008581526020019081526020016000209250600091505b8751821015610eeb578682815181101515610de457fe5b90602001906020020151836005018984815181101515610e0057fe5b906020019060200201516040518082805190602001908083835b602083101515610e3f5780518252602082019150602081019050602083039250610e1a565b6001836020036101000a03801982511681845116808217855250505050505090500191505090815260200160405180910390209080519060200190610e8592919061749f565b50826006018883815181101515610e9857fe5b906020019060200201519080600181540180825580915050906001820390600052602060002001600090919290919091509080519060200190610edc92919061749f565b50508180600101925050610dcd565b826003600086815260200190815260200160002060008201548160000155600182016000905490","6101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301556004820160009054906101000a900460ff168160040160006101000a81548160ff021916908360ff1602179055506006820181600601908054610fc892919061751f565b50905050826006018054905060405190808252806020026020018201604052801561100757816020015b6060815260200190600190039081610ff25790505b509550826006018054905060405190808252806020026020018201604052801561104557816020015b60608152602001906001900390816110305790505b509450600090505b826006018054905081101561128857600081141561106a5761127b565b826006018181548110151561107b57fe5b906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156111195780601f106110ee57610100808354040283529160200191611119565b820191906000526020600020905b8154815290600101906020018083116110fc57829003601f168201915b5050505050868281518110151561112c57fe5b9060200190602002018190525082600501836006018281548110151561114e57fe5b9060005260206000200160405180828054600181600116156101000203166002900480156111b35780601f106111915761010080835404028352918201916111b3565b820191906000526020600020905b81548152906001019060200180831161119f575b505091505090815260200160405180910390208054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561125a5780601f1061122f5761010080835404028352916020019161125a565b820191906000526020600020905b81548152906001019060200180831161123d57829003601f168201915b5050505050858281518110151561126d57fe5b906020019060200201819052505b808060010191505061104d565b50505050935093915050565b6060601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161130f9291906183f8565b602060405180830381600087803b15801561132957600080fd5b505af115801561133d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506113619190810190617b05565b15156113a2576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611399906185c8565b60405180910390fd5b60108054806020026020016040519081016040528092919081815260200182805480156113ee57602002820191906000526020600020905b8154815260200190600101908083116113da575b5050505050905090565b6000806008600084815260200190815260200160002054111561141e5760019050611423565b600090505b919050565b600061143261758f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016114ab9291906183f8565b602060405180830381600087803b1580156114c557600080fd5b505af11580156114d9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506114fd9190810190617b05565b151561153e576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611535906185c8565b60405180910390fd5b6008600085815260200190815260200160002054600860008581526020019081526020016000208190555060006008600086815260200190815260200160002081905550600360006008600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015611726578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156117125780601f106116e757610100808354040283529160200191611712565b820191906000526020600020905b8154815290600101906020018083116116f557829003601f168201915b50505050508152602001906001019061166a565b50505050815250509050828160400181815250508060036000600860008781526020019081526020016000205481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a08201518160060190805190602001906118039291906175df565b50905050600191505092915050565b60008060008061182061763f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016118999291906183f8565b602060405180830381600087803b1580156118b357600080fd5b505af11580156118c7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506118eb9190810190617b05565b151561192c576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611923906185c8565b60405180910390fd5b600c60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663299f7f9d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156119b257600080fd5b505af11580156119c6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506119ea9190810190617b98565b9250611abd6001600d60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663299f7f9d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015611a7757600080fd5b505af1158015611a8b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611aaf9190810190617b98565b6170f990919063ffffffff16565b915060c0604051908101604052808381526020018773ffffffffffffffffffffffffffffffffffffffff168152602001600185038152602001611b0c60018a038661715090919063ffffffff16565b81526020018a815260200189815250905080600460008481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060408201518160020155606082015181600301556080820151816004015560a0820151816005015590505082829450945050505094509492505050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611c3a9291906183f8565b602060405180830381600087803b158015611c5457600080fd5b505af1158015611c68573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611c8c9190810190617b05565b1515611ccd576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611cc4906185c8565b60405180910390fd5b600260008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060009054906101000a900460ff169050919050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611d9c9291906183f8565b602060405180830381600087803b158015611db657600080fd5b505af1158015611dca573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611dee9190810190617b05565b1515611e2f576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611e26906185c8565b60405180910390fd5b60006003600084815260200190815260200160002060020154111515611e8a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611e8190618728565b60405180910390fd5b60036000838152602001908152602001600020600201549050919050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000","028152600401611f239291906183f8565b602060405180830381600087803b158015611f3d57600080fd5b505af1158015611f51573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611f759190810190617b05565b1515611fb6576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611fad906185c8565b60405180910390fd5b6001600a6000858152602001908152602001600020600084815260200190815260200160002060006101000a81548160ff0219169083151502179055506001820190505b600a81101561205c57600a8381151561200f57fe5b0492506001600b6000858152602001908152602001600020600083815260200190815260200160002060006101000a81548160ff0219169083151502179055508080600101915050611ffa565b505050565b600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016120dd9291906183f8565b602060405180830381600087803b1580156120f757600080fd5b505af115801561210b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061212f9190810190617b05565b1515612170576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612167906185c8565b60405180910390fd5b600860008481526020019081526020016000205490506000811115156121cb576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016121c290618788565b60405180910390fd5b61221c81600960008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206171a790919063ffffffff16565b91505092915050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016122a09291906183f8565b602060405180830381600087803b1580156122ba57600080fd5b505af11580156122ce573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506122f29190810190617b05565b1515612333576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161232a906185c8565b60405180910390fd5b6000600860008481526020019081526020016000205411151561238b576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161238290618788565b60405180910390fd5b60086000838152602001908152602001600020549050919050565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161241f9291906183f8565b602060405180830381600087803b15801561243957600080fd5b505af115801561244d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506124719190810190617b05565b15156124b2576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016124a9906185c8565b60405180910390fd5b80600e5403600e8190555050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161253b9291906183f8565b602060405180830381600087803b15801561255557600080fd5b505af1158015612569573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061258d9190810190617b05565b15156125ce576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016125c5906185c8565b60405180910390fd5b600054905090565b6000806000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126549291906183f8565b602060405180830381600087803b15801561266e57600080fd5b505af1158015612682573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506126a69190810190617b05565b15156126e7576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016126de906185c8565b60405180910390fd5b60086000868152602001908152602001600020549150600082111515612742576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161273990618788565b60405180910390fd5b6003600083815260200190815260200160002060010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1690508373ffffffffffffffffffffffffffffffffffffffff168173ffffffffffffffffffffffffffffffffffffffff1614156127b457600192505b505092915050565b606060008060006060600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016128419291906183f8565b602060405180830381600087803b15801561285b57600080fd5b505af115801561286f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506128939190810190617b05565b15156128d4576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016128cb906185c8565b60405180910390fd5b600960008b73ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001908152602001600020955061291e866171ca565b9450600085141561293157829650612a39565b8489101515612975576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161296c906185a8565b60405180910390fd5b8488111561298557849350612989565b8793505b888411156129995788840361299c565b60005b6040519080825280602002602001820160405280156129ca5781602001602082028038833980820191505090505b509250600091508890505b83811015612a3557600360006129f483896171db90919063ffffffff16565b8152602001908152602001600020600201548383806001019450815181101515612a1a57fe5b906020019060200201818152505080806001019150506129d5565b8296505b5050505050509392505050565b600081601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16638bb7e9ce826040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612ac09190618586565b602060405180830381600087803b158015612ada57600080fd5b505af1158015612aee573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612b129190810190617b05565b1515612b53576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612b4a90618688565b60405180910390fd5b600f60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16915050919050565b60608060606000612b8d61758f565b6060806060612b9a61763f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c139291906183f8565b602060405180830381600087803b158015612c2d57600080fd5b505af1158015612c41573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c659190810190617b05565b1515612ca6576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612c9d906185c8565b60405180910390fd5b60036000600860008d815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015612e4a578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015612e365780601f10612e0b57610100808354040283529160200191612e36565b820191906000526020600020905b815481529060010190602001808311612e1957829003601f168201915b505050505081526020019060010190612d8e565b505050508152505094506002604051908082528060200260200182016040528015612e845781602001602082028038833980820191505090505b5093506002604051908082528060200260200182016040528015612eb75781602001602082028038833980820191505090505b5092506002604051908082528060200260200182016040528015612eea5781602001602082028038833980820191505090505b5091508460200151846000815181101515612f0157fe5b9060200190602002019073ffffffffffff","ffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508460400151836000815181101515612f5157fe5b90602001906020020181815250508460600151836001815181101515612f7357fe5b9060200190602002018181525050600460008660600151815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020016002820154815260200160038201548152602001600482015481526020016005820154815250509050806080015182600081518110151561304257fe5b90602001906020020181815250508060a0015182600181518110151561306457fe5b9060200190602002018181525050806020015184600181518110151561308657fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508383836130ce88617201565b985098509850985050505050509193509193565b60006130ec61758f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016131659291906183f8565b602060405180830381600087803b15801561317f57600080fd5b505af1158015613193573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506131b79190810190617b05565b15156131f8576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016131ef906185c8565b60405180910390fd5b600360006008600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b8282101561339c578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156133885780601f1061335d57610100808354040283529160200191613388565b820191906000526020600020905b81548152906001019060200180831161336b57829003601f168201915b5050505050815260200190600101906132e0565b505050508152505090506133af81617201565b915050919050565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016134309291906183f8565b602060405180830381600087803b15801561344a57600080fd5b505af115801561345e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506134829190810190617b05565b15156134c3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016134ba906185c8565b60405180910390fd5b80600e5401600e8190555050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161354c9291906183f8565b602060405180830381600087803b15801561356657600080fd5b505af115801561357a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061359e9190810190617b05565b15156135df576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016135d6906185c8565b60405180910390fd5b600c60009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663299f7f9d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561366557600080fd5b505af1158015613679573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061369d9190810190617b98565b905090565b6060806000806000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016137239291906183f8565b602060405180830381600087803b15801561373d57600080fd5b505af1158015613751573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506137759190810190617b05565b15156137b6576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016137ad906185c8565b60405180910390fd5b60086000878152602001908152602001600020549250600360008481526020019081526020016000209150816006018054905060405190808252806020026020018201604052801561381c57816020015b60608152602001906001900390816138075790505b509450816006018054905060405190808252806020026020018201604052801561385a57816020015b60608152602001906001900390816138455790505b509350600090505b8160060180549050811015613a9d57600081141561387f57613a90565b816006018181548110151561389057fe5b906000526020600020018054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561392e5780601f106139035761010080835404028352916020019161392e565b820191906000526020600020905b81548152906001019060200180831161391157829003601f168201915b5050505050858281518110151561394157fe5b9060200190602002018190525081600501826006018281548110151561396357fe5b9060005260206000200160405180828054600181600116156101000203166002900480156139c85780601f106139a65761010080835404028352918201916139c8565b820191906000526020600020905b8154815290600101906020018083116139b4575b505091505090815260200160405180910390208054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015613a6f5780601f10613a4457610100808354040283529160200191613a6f565b820191906000526020600020905b815481529060010190602001808311613a5257829003601f168201915b50505050508482815181101515613a8257fe5b906020019060200201819052505b8080600101915050613862565b505050915091565b60608060008060006060806000806000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613b2e9291906183f8565b602060405180830381600087803b158015613b4857600080fd5b505af1158015613b5c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613b809190810190617b05565b1515613bc1576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613bb8906185c8565b60405180910390fd5b600960008e73ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000209650613c0b87617259565b9550858c101515613c2457848487995099509950613d7e565b8a8c870310613c33578a613c37565b8b86035b604051908082528060200260200182016040528015613c655781602001602082028038833980820191505090505b5094508451604051908082528060200260200182016040528015613c985781602001602082028038833980820191505090505b50935060009150600090505b8451821015613d745760036000613cc4838a6171db90919063ffffffff16565b8152602001908152602001600020600201549250613ce587600185036172c8565b15613cef57613d67565b60008c1115613d06578b80600190039c5050613d67565b828583815181101515613d1557fe5b90602001906020020181815250505b613d3187600185016172c8565b15613d43578280600101935050613d24565b828483806001019450815181101515613d5857fe5b90602001906020020181815250505b8080600101915050613ca4565b8484879950995099505b5050505050505093509350939050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401613e099291906183f8565b602060405180830381600087803b158015613e2357600080fd5b505af1158015613e37573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250613e5b9190810190617b05565b1515613e9c576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613e93906185c8565b60405180910390fd5b613ee3600960008473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206171ca565b9050919050565b60008060006004600086815260200190815260200160002060000154111515613f48576040517fc7","03cb12000000000000000000000000000000000000000000000000000000008152600401613f3f90618768565b60405180910390fd5b6004600085815260200190815260200160002090508273ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff161480613fe857508273ffffffffffffffffffffffffffffffffffffffff168160010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1614155b15613ff65760009150613ffb565b600191505b5092915050565b600061400c61758f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016140859291906183f8565b602060405180830381600087803b15801561409f57600080fd5b505af11580156140b3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506140d79190810190617b05565b1515614118576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161410f906185c8565b60405180910390fd5b600360006008600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b828210156142bc578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156142a85780601f1061427d576101008083540402835291602001916142a8565b820191906000526020600020905b81548152906001019060200180831161428b57829003601f168201915b505050505081526020019060010190614200565b50505050815250509050600260ff166142d482617201565b60ff1614915050919050565b6060600080600060606000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016143649291906183f8565b602060405180830381600087803b15801561437e57600080fd5b505af1158015614392573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506143b69190810190617b05565b15156143f7576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016143ee906185c8565b60405180910390fd5b600180549050935083881015156144465760006040519080825280602002602001820160405280156144385781602001602082028038833980820191505090505b508481915095509550614541565b614459878961715090919063ffffffff16565b925083831115614467578392505b8783036040519080825280602002602001820160405280156144985781602001602082028038833980820191505090505b5091508790505b8281101561453a576001818154811015156144b657fe5b9060005260206000200160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff16828983038151811015156144f157fe5b9060200190602002019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff1681525050808060010191505061449f565b8184955095505b505050509250929050565b600061455661763f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016145cf9291906183f8565b602060405180830381600087803b1580156145e957600080fd5b505af11580156145fd573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506146219190810190617b05565b1515614662576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614659906185c8565b60405180910390fd5b6004600086815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001600282015481526020016003820154815260200160048201548152602001600582015481525050905082156147f5578060a0015184101515614759576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614750906186a8565b60405180910390fd5b6005600086815260200190815260200160002060009054906101000a900460ff161580156147a557506007600086815260200190815260200160002060009054906101000a900460ff16155b15156147e6576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016147dd90618748565b60405180910390fd5b838160800181815250506148b9565b6000816080015111156148ae5780608001518411151561484a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614841906186a8565b60405180910390fd5b6006600086815260200190815260200160002060009054906101000a900460ff161515156148ad576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016148a490618628565b60405180910390fd5b5b838160a00181815250505b80600460008781526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060408201518160020155606082015181600301556080820151816004015560a0820151816005015590505060019150509392505050565b606061495f61758f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016149d89291906183f8565b602060405180830381600087803b1580156149f257600080fd5b505af1158015614a06573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614a2a9190810190617b05565b1515614a6b576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614a62906185c8565b60405180910390fd5b6001604051908082528060200260200182016040528015614aa057816020015b6060815260200190600190039081614a8b5790505b50915060c0604051908101604052808781526020018573ffffffffffffffffffffffffffffffffffffffff168152602001868152602001848152602001600160ff16815260200183815250905080600360008881526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a0820151816006019080519060200190614ba39291906175df565b50905050856008600087815260200190815260200160002081905550614c1086600960008773ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002061730990919063ffffffff16565b50505050505050565b600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614c959291906183f8565b602060405180830381600087803b158015614caf57600080fd5b505af1158015614cc3573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250614ce79190810190617b05565b1515614d28576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614d1f906185c8565b60405180910390fd5b60036000600860008781526020019081526020016000205481526020019081526020016000209050828160040160006101000a81548160ff021916908360ff160217905550806003600083600001548152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555060028201548160020155600382015481600301556004820160009054906101000a900460ff168160040160006101000a81548160ff021916908360ff1602179055506006820181600601908054614e4e92919061751f565b50905050806000015491505092915050565b6000614e6a61758f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401614ee39291906183f8565b602060405180830381600087803b158015614efd57600080fd5b505af1158015614f11573d6000803e3d6000fd5b50","5050506040513d601f19601f82011682018060405250614f359190810190617b05565b1515614f76576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401614f6d906185c8565b60405180910390fd5b600360006008600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b8282101561511a578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156151065780601f106150db57610100808354040283529160200191615106565b820191906000526020600020905b8154815290600101906020018083116150e957829003601f168201915b50505050508152602001906001019061505e565b505050508152505090506151798160000151600960008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206173b990919063ffffffff16565b15156151ba576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016151b1906185e8565b60405180910390fd5b806000015191505092915050565b60006151d261758f565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161524d9291906183f8565b602060405180830381600087803b15801561526757600080fd5b505af115801561527b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061529f9190810190617b05565b15156152e0576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016152d7906185c8565b60405180910390fd5b600360006008600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015615484578382906000526020600020018054600181600116156101000203166002900480601f0160208091040260200160405190810160405280929190818152602001828054600181600116156101000203166002900480156154705780601f1061544557610100808354040283529160200191615470565b820191906000526020600020905b81548152906001019060200180831161545357829003601f168201915b5050505050815260200190600101906153c8565b50505050815250509150816080015160ff16600360ff1614156154aa57600192506155e1565b600460008360600151815260200190815260200160002090506154cb617492565b816005015410156155e0576003826080019060ff16908160ff16815250508160036000846000015181526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a08201518160060190805190602001906155a39291906175df565b509050506001600660008460600151815260200190815260200160002060006101000a81548160ff021916908315150217905550600192506155e1565b5b5050919050565b60006155f261758f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161566b9291906183f8565b602060405180830381600087803b15801561568557600080fd5b505af1158015615699573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506156bd9190810190617b05565b15156156fe576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016156f5906185c8565b60405180910390fd5b600360006008600086815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b828210156158a2578382906000526020600020018054600181600116156101000203166002900480601f01602080910402602001604051908101604052809291908181526020018280546001816001161561010002031660029004801561588e5780601f106158635761010080835404028352916020019161588e565b820191906000526020600020905b81548152906001019060200180831161587157829003601f168201915b5050505050815260200190600101906157e6565b505050508152505090506159018160000151600960008873ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020019081526020016000206171a790919063ffffffff16565b1515615942576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615939906185e8565b60405180910390fd5b80600001516159518487614e60565b141515615993576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161598a90618608565b60405180910390fd5b80600001516159a28486616ccc565b1415156159e4576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016159db90618608565b60405180910390fd5b80600001519150509392505050565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615a6e9291906183f8565b602060405180830381600087803b158015615a8857600080fd5b505af1158015615a9c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615ac09190810190617b05565b1515615b01576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615af8906185c8565b60405180910390fd5b600e54905090565b600080600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615b889291906183f8565b602060405180830381600087803b158015615ba257600080fd5b505af1158015615bb6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615bda9190810190617b05565b1515615c1b576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615c12906185c8565b60405180910390fd5b60086000878152602001908152602001600020549250600083111515615c76576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615c6d90618788565b60405180910390fd5b6003600084815260200190815260200160002060010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff169150600460006003600086815260200190815260200160002060030154815260200190815260200160002090508473ffffffffffffffffffffffffffffffffffffffff16600073ffffffffffffffffffffffffffffffffffffffff161480615d6557508473ffffffffffffffffffffffffffffffffffffffff168160010160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1614155b15615d6f57600093505b6001935050505092915050565b60008060001515601160149054906101000a900460ff161515141515615dd7576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401615dce90618688565b60405180910390fd5b615ddf61768c565b604051809103906000f080158015615dfb573d6000803e3d6000fd5b509150615e0661768c565b604051809103906000f080158015615e22573d6000803e3d6000fd5b50905082600f60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555081600c60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff16021790555080600d60006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506001601160146101000a81548160ff021916908315150217905550505050565b60606011600090549061","01000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401615f839291906183f8565b602060405180830381600087803b158015615f9d57600080fd5b505af1158015615fb1573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250615fd59190810190617b05565b1515616016576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161600d906185c8565b60405180910390fd5b600180548060200260200160405190810160405280929190818152602001828054801561609857602002820191906000526020600020905b8160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001906001019080831161604e575b5050505050905090565b6000806000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016161209291906183f8565b602060405180830381600087803b15801561613a57600080fd5b505af115801561614e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506161729190810190617b05565b15156161b3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016161aa906185c8565b60405180910390fd5b60046000858152602001908152602001600020915060008260030154111515616211576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616208906186e8565b60405180910390fd5b60008260040154111561626e57616226617492565b826004015410151561626d576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616264906186c8565b60405180910390fd5b5b60008260040154148061628b5750616284617492565b8260040154105b9050616295617492565b82600401819055508160046000868152602001908152602001600020600082015481600001556001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff168160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506002820154816002015560038201548160030155600482015481600401556005820154816005015590505080156163805760016005600086815260200190815260200160002060006101000a81548160ff0219169083151502179055505b8092505050919050565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016164039291906183f8565b602060405180830381600087803b15801561641d57600080fd5b505af1158015616431573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506164559190810190617b05565b1515616496576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161648d906185c8565b60405180910390fd5b601081908060018154018082558091505090600182039060005260206000200160009091929091909150555050565b600080601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016165419291906183f8565b602060405180830381600087803b15801561655b57600080fd5b505af115801561656f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506165939190810190617b05565b15156165d4576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016165cb906185c8565b60405180910390fd5b600a6000858152602001908152602001600020600084815260200190815260200160002060009054906101000a900460ff168061663f5750600b6000858152602001908152602001600020600084815260200190815260200160002060009054906101000a900460ff165b1561664d57600191506166be565b6001830190505b600a8110156166b957600a8481151561666957fe5b049350600a6000858152602001908152602001600020600082815260200190815260200160002060009054906101000a900460ff16156166ac57600191506166be565b8080600101915050616654565b600091505b5092915050565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161673e9291906183f8565b602060405180830381600087803b15801561675857600080fd5b505af115801561676c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506167909190810190617b05565b15156167d1576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016167c8906185c8565b60405180910390fd5b60018190806001815401808255809150509060018203906000526020600020016000909192909190916101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550506001600260008373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002060006101000a81548160ff02191690831515021790555050565b600061689c61758f565b6000601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016169179291906183f8565b602060405180830381600087803b15801561693157600080fd5b505af1158015616945573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506169699190810190617b05565b15156169aa576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016169a1906185c8565b60405180910390fd5b600360006008600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015616b4e578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182805460018160011615610100020316600290048015616b3a5780601f10616b0f57610100808354040283529160200191616b3a565b820191906000526020600020905b815481529060010190602001808311616b1d57829003601f168201915b505050505081526020019060010190616a92565b50505050815250509150616b6182617201565b60ff16600260ff161415616b785760019250616cc5565b60046000836060015181526020019081526020016000209050600081600401541415616ba75760009250616cc5565b616baf617492565b81600401541015616cc4576002826080019060ff16908160ff16815250508160036000846000015181526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a0820151816006019080519060200190616c879291906175df565b509050506001600760008460600151815260200190815260200160002060006101000a81548160ff02191690831515021790555060019250616cc5565b5b5050919050565b6000616cd661758f565b601160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166364d55e9a33306040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401616d4f9291906183f8565b602060405180830381600087803b158015616d6957600080fd5b505af1158015616d7d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250616da19190810190617b05565b1515616de2576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401616dd9906185c8565b60405180910390fd5b600360006008600087815260200190815260200160002054815260200190815260200160002060c06040519081016040529081600082015481526020016001820160009054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200160028201548152602001600382015481526020016004820160009054906101000a900460ff1660ff1660ff16815260200160068201805480602002602001604051908101604052809291908181526020016000905b82821015616f86578382906000526020600020018054600181600116156101000203166002900480601f016020809104026020016040519081016040528092919081815260200182","805460018160011615610100020316600290048015616f725780601f10616f4757610100808354040283529160200191616f72565b820191906000526020600020905b815481529060010190602001808311616f5557829003601f168201915b505050505081526020019060010190616eca565b50505050815250509050616fe58160000151600960008673ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16815260200190815260200160002061730990919063ffffffff16565b5082816020019073ffffffffffffffffffffffffffffffffffffffff16908173ffffffffffffffffffffffffffffffffffffffff16815250508060036000600860008881526020019081526020016000205481526020019081526020016000206000820151816000015560208201518160010160006101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff160217905550604082015181600201556060820151816003015560808201518160040160006101000a81548160ff021916908360ff16021790555060a08201518160060190805190602001906170e79291906175df565b50905050806000015191505092915050565b600080838311151515617141576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161713890618708565b60405180910390fd5b82840390508091505092915050565b600080828401905083811015151561719d576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161719490618668565b60405180910390fd5b8091505092915050565b600080836000016000848152602001908152602001600020541415905092915050565b600081600101805490509050919050565b600082600101828154811015156171ee57fe5b9060005260206000200154905092915050565b6000816080015160ff16600160ff1614801561723e5750600560008360600151815260200190815260200160002060009054906101000a900460ff165b1561724c5760029050617254565b816080015190505b919050565b600080600090505b61726a836171ca565b8110156172c2576172a68360016003600061728e86896171db90919063ffffffff16565b815260200190815260200160002060020154036172c8565b15156172b55781806001019250505b8080600101915050617261565b50919050565b6000806008600084815260200190815260200160002054905060008111801561730057506172ff81856171a790919063ffffffff16565b5b91505092915050565b6000808214151515617350576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161734790618648565b60405180910390fd5b61735a83836171a7565b1561736857600190506173b3565b82600101829080600181540180825580915050906001820390600052602060002001600090919290919091505583600001600084815260200190815260200160002081905550600090505b92915050565b60008060006173c885856171a7565b15156173d7576000925061748a565b8460010160018660010180549050038154811015156173f257fe5b90600052602060002001549150846000016000858152602001908152602001600020549050808560000160008481526020019081526020016000208190555081856001016001830381548110151561744657fe5b90600052602060002001819055508460000160008581526020019081526020016000206000905584600101805480919060019003617484919061769c565b50600192505b505092915050565b6000804290508091505090565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106174e057805160ff191683800117855561750e565b8280016001018555821561750e579182015b8281111561750d5782518255916020019190600101906174f2565b5b50905061751b91906176c8565b5090565b82805482825590600052602060002090810192821561757e5760005260206000209182015b8281111561757d578282908054600181600116156101000203166002900461756d9291906176ed565b5091600101919060010190617544565b5b50905061758b9190617774565b5090565b60c06040519081016040528060008152602001600073ffffffffffffffffffffffffffffffffffffffff1681526020016000815260200160008152602001600060ff168152602001606081525090565b82805482825590600052602060002090810192821561762e579160200282015b8281111561762d57825182908051906020019061761d9291906177a0565b50916020019190600101906175ff565b5b50905061763b9190617774565b5090565b60c06040519081016040528060008152602001600073ffffffffffffffffffffffffffffffffffffffff168152602001600081526020016000815260200160008152602001600081525090565b60405161011080618a1383390190565b8154818355818111156176c3578183600052602060002091820191016176c291906176c8565b5b505050565b6176ea91905b808211156176e65760008160009055506001016176ce565b5090565b90565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106177265780548555617763565b8280016001018555821561776357600052602060002091601f016020900482015b82811115617762578254825591600101919060010190617747565b5b50905061777091906176c8565b5090565b61779d91905b8082111561779957600081816177909190617820565b5060010161777a565b5090565b90565b828054600181600116156101000203166002900490600052602060002090601f016020900481019282601f106177e157805160ff191683800117855561780f565b8280016001018555821561780f579182015b8281111561780e5782518255916020019190600101906177f3565b5b50905061781c91906176c8565b5090565b50805460018160011615610100020316600290046000825580601f106178465750617865565b601f01602090049060005260206000209081019061786491906176c8565b5b50565b6000617874823561897c565b905092915050565b600082601f830112151561788f57600080fd5b81356178a261789d82618834565b618807565b9150818183526020840193506020810190508360005b838110156178e857813586016178ce888261791a565b8452602084019350602083019250506001810190506178b8565b5050505092915050565b60006178fe823561899c565b905092915050565b6000617912825161899c565b905092915050565b600082601f830112151561792d57600080fd5b813561794061793b8261885c565b618807565b9150808252602083016020830185838301111561795c57600080fd5b6179678382846189bf565b50505092915050565b600082601f830112151561798357600080fd5b813561799661799182618888565b618807565b915080825260208301602083018583830111156179b257600080fd5b6179bd8382846189bf565b50505092915050565b60006179d282356189a8565b905092915050565b60006179e682516189a8565b905092915050565b60006179fa82356189b2565b905092915050565b600060208284031215617a1457600080fd5b6000617a2284828501617868565b91505092915050565b600080600060608486031215617a4057600080fd5b6000617a4e86828701617868565b9350506020617a5f86828701617868565b9250506040617a70868287016179c6565b9150509250925092565b60008060408385031215617a8d57600080fd5b6000617a9b85828601617868565b9250506020617aac858286016179c6565b9150509250929050565b600080600060608486031215617acb57600080fd5b6000617ad986828701617868565b9350506020617aea868287016179c6565b9250506040617afb868287016179c6565b9150509250925092565b600060208284031215617b1757600080fd5b6000617b2584828501617906565b91505092915050565b600060208284031215617b4057600080fd5b600082013567ffffffffffffffff811115617b5a57600080fd5b617b6684828501617970565b91505092915050565b600060208284031215617b8157600080fd5b6000617b8f848285016179c6565b91505092915050565b600060208284031215617baa57600080fd5b6000617bb8848285016179da565b91505092915050565b60008060408385031215617bd457600080fd5b6000617be2858286016179c6565b9250506020617bf385828601617868565b9150509250929050565b600080600060608486031215617c1257600080fd5b6000617c20868287016179c6565b935050602084013567ffffffffffffffff811115617c3d57600080fd5b617c498682870161787c565b925050604084013567ffffffffffffffff811115617c6657600080fd5b617c728682870161787c565b9150509250925092565b60008060408385031215617c8f57600080fd5b6000617c9d858286016179c6565b9250506020617cae858286016179c6565b9150509250929050565b60008060008060808587031215617cce57600080fd5b6000617cdc878288016179c6565b9450506020617ced878288016179c6565b9350506040617cfe87828801617868565b9250506060617d0f878288016179c6565b91505092959194509250565b600080600060608486031215617d3057600080fd5b6000617d3e868287016179c6565b9350506020617d4f868287016179c6565b9250506040617d60868287016178f2565b9150509250925092565b60008060008060808587031215617d8057600080fd5b6000617d8e878288016179c6565b9450506020617d9f878288016179c6565b9350506040617db0878288016179c6565b9250506060617dc187828801617868565b91505092959194509250565b60008060408385031215617de057600080fd5b6000617dee858286016179c6565b9250506020617dff858286016179ee565b9150509250929050565b617e1281618939565b82525050565b6000617e23826188db565b808452602084019350617e35836188b4565b60005b82811015617e6757617e4b868351617e09565b617e5482618912565b9150602086019550600181019050617e38565b50849250505092915050565b6000617e7e826188e6565b80845260208401935083602082028501617e97856188c1565b60005b84811015617ed0578383038852617eb2838351617f4b565b9250617ebd8261891f565b9150602088019750600181019050617e9a565b508196508694505050505092915050565b6000617eec826188f1565b808452602084019350617efe836188ce565b60005b82811015617f3057617f148683516183bf","565b617f1d8261892c565b9150602086019550600181019050617f01565b50849250505092915050565b617f4581618959565b82525050565b6000617f56826188fc565b808452617f6a8160208601602086016189ce565b617f7381618a01565b602085010191505092915050565b6000617f8c82618907565b808452617fa08160208601602086016189ce565b617fa981618a01565b602085010191505092915050565b6000602982527f72657175697265207374617274206c657373207468616e206163636f756e742060208301527f6e6f74652073697a6500000000000000000000000000000000000000000000006040830152606082019050919050565b6000601582527f7265717569726564206f776e65722063616c6c656400000000000000000000006020830152604082019050919050565b6000602382527f546865206163636f756e74206973206e6f74206f776e65642074686973206e6f60208301527f74652100000000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000600d82527f65786368616e6765206661696c000000000000000000000000000000000000006020830152604082019050919050565b6000601882527f626174636820686173206265656e2065787069726174656400000000000000006020830152604082019050919050565b6000601882527f55696e745365743a204b65792063616e6e6f74206265203000000000000000006020830152604082019050919050565b6000601b82527f536166654d6174683a206164646974696f6e206f766572666c6f7700000000006020830152604082019050919050565b6000601582527f73746f7261676520686173206265656e20696e697400000000000000000000006020830152604082019050919050565b6000602582527f7265717569726520656666656374697665446174653c2065787069726174696f60208301527f6e446174650000000000000000000000000000000000000000000000000000006040830152606082019050919050565b6000603482527f62617463682063616e206e6f74206265206566666563746976652c626563617560208301527f736520656666656374697665446174653e6e6f770000000000000000000000006040830152606082019050919050565b6000601082527f6261746368206e6f7420766572696679000000000000000000000000000000006020830152604082019050919050565b6000601e82527f536166654d6174683a207375627472616374696f6e206f766572666c6f7700006020830152604082019050919050565b6000601282527f6e6f746520646f65736e277420657869737400000000000000000000000000006020830152604082019050919050565b6000601582527f626174636820686173206265656e2065666665637400000000000000000000006020830152604082019050919050565b6000601482527f626174636820646f65736e2774206578697374210000000000000000000000006020830152604082019050919050565b6000601382527f6e6f746520646f65736e277420657869737421000000000000000000000000006020830152604082019050919050565b6183c881618965565b82525050565b6183d78161896f565b82525050565b60006020820190506183f26000830184617e09565b92915050565b600060408201905061840d6000830185617e09565b61841a6020830184617e09565b9392505050565b6000602082019050818103600083015261843b8184617e18565b905092915050565b6000608082019050818103600083015261845d8187617e18565b905081810360208301526184718186617ee1565b905081810360408301526184858185617ee1565b905061849460608301846183ce565b95945050505050565b600060408201905081810360008301526184b78185617e18565b90506184c660208301846183bf565b9392505050565b600060408201905081810360008301526184e78185617e73565b905081810360208301526184fb8184617e73565b90509392505050565b6000602082019050818103600083015261851e8184617ee1565b905092915050565b600060608201905081810360008301526185408186617ee1565b905081810360208301526185548185617ee1565b905061856360408301846183bf565b949350505050565b60006020820190506185806000830184617f3c565b92915050565b600060208201905081810360008301526185a08184617f81565b905092915050565b600060208201905081810360008301526185c181617fb7565b9050919050565b600060208201905081810360008301526185e181618014565b9050919050565b600060208201905081810360008301526186018161804b565b9050919050565b60006020820190508181036000830152618621816180a8565b9050919050565b60006020820190508181036000830152618641816180df565b9050919050565b6000602082019050818103600083015261866181618116565b9050919050565b600060208201905081810360008301526186818161814d565b9050919050565b600060208201905081810360008301526186a181618184565b9050919050565b600060208201905081810360008301526186c1816181bb565b9050919050565b600060208201905081810360008301526186e181618218565b9050919050565b6000602082019050818103600083015261870181618275565b9050919050565b60006020820190508181036000830152618721816182ac565b9050919050565b60006020820190508181036000830152618741816182e3565b9050919050565b600060208201905081810360008301526187618161831a565b9050919050565b6000602082019050818103600083015261878181618351565b9050919050565b600060208201905081810360008301526187a181618388565b9050919050565b60006020820190506187bd60008301846183bf565b92915050565b60006040820190506187d860008301856183bf565b6187e560208301846183bf565b9392505050565b600060208201905061880160008301846183ce565b92915050565b6000604051905081810181811067ffffffffffffffff8211171561882a57600080fd5b8060405250919050565b600067ffffffffffffffff82111561884b57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561887357600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111561889f57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b6000602082019050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b600060ff82169050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b60008115159050919050565b6000819050919050565b600060ff82169050919050565b82818337600083830152505050565b60005b838110156189ec5780820151818401526020810190506189d1565b838111156189fb576000848401525b50505050565b6000601f19601f83011690509190505600608060405234801561001057600080fd5b50600160008190555060e9806100276000396000f3006080604052600436106049576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff168063299f7f9d14604e578063b4e5591e146076575b600080fd5b348015605957600080fd5b506060609e565b6040518082815260200191505060405180910390f35b348015608157600080fd5b50608860b4565b6040518082815260200191505060405180910390f35b6000600160005401600081905550600054905090565b600080549050905600a165627a7a72305820cba3ea704fc9c50e55fbb9be754c179d473dfc0a825f2f33dc5e82a50eae26b60029a265627a7a723058208092d2644c56f7f450735aee0d31b5897ee8d923fbb62ba1ad2249405cb130f96c6578706572696d656e74616cf50037"};
 
     public static final String SM_BINARY = String.join("", SM_BINARY_ARRAY);
 
-    public static final String[] ABI_ARRAY = {"[{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"keys\",\"type\":\"bytes[]\"},{\"name\":\"values\",\"type\":\"bytes[]\"}],\"name\":\"updateNoteProperties\",\"outputs\":[{\"name\":\"noteKeys\",\"type\":\"bytes[]\"},{\"name\":\"noteValues\",\"type\":\"bytes[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNoPrefix\",\"type\":\"uint256\"},{\"name\":\"noteNoSize\",\"type\":\"uint256\"}],\"name\":\"updateExistNote\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"getNoteProperties\",\"outputs\":[{\"name\":\"noteKeys\",\"type\":\"bytes[]\"},{\"name\":\"noteValues\",\"type\":\"bytes[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"getNoteIdByNo\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"_book\",\"type\":\"address\"}],\"name\":\"init\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"getAccountNoteSize\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"start\",\"type\":\"uint256\"},{\"name\":\"end\",\"type\":\"uint256\"}],\"name\":\"getNoteByAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNoPrefix\",\"type\":\"uint256\"},{\"name\":\"noteNoSize\",\"type\":\"uint256\"}],\"name\":\"isExistNoteDefined\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"batchNo\",\"type\":\"uint256\"},{\"name\":\"date\",\"type\":\"uint256\"},{\"name\":\"isEffectiveDate\",\"type\":\"bool\"}],\"name\":\"updateNoteBatch\",\"outputs\":[{\"name\":\"isUpdate\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"existAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"getStatusByNote\",\"outputs\":[{\"name\":\"\",\"type\":\"uint8\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"addTotalNoteSize\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"batchNo\",\"type\":\"uint256\"}],\"name\":\"enableBatch\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"addNoteToAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"accountHoldNote\",\"outputs\":[{\"name\":\"isContain\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getTearNotes\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"status\",\"type\":\"uint8\"}],\"name\":\"updateNoteStatus\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getTotalNoteSize\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"batchNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"checkIssuerByBatchNo\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"addTearNote\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"from\",\"type\":\"address\"},{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"exchangeNote\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteId\",\"type\":\"uint256\"},{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"owner\",\"type\":\"address\"},{\"name\":\"batchNo\",\"type\":\"uint256\"}],\"name\":\"createNote\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAccounts\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"checkEffectiveAndUpdate\",\"outputs\":[{\"name\":\"isEffective\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"_price\",\"type\":\"uint256\"}],\"name\":\"setPrice\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[],\"name\":\"generateNoteId\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"removeNoteFromAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[],\"name\":\"getPrice\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"price\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"checkExpire\",\"outputs\":[{\"name\":\"isExpire\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"getNote\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint8\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"checkIssuer\",\"outputs\":[{\"name\":\"isIssuer\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"effectiveDate\",\"type\":\"uint256\"},{\"name\":\"expirationDate\",\"type\":\"uint256\"},{\"name\":\"amount\",\"type\":\"uint256\"},{\"name\":\"issuer\",\"type\":\"address\"}],\"name\":\"createBatch\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"checkOwner\",\"outputs\":[{\"name\":\"isOwner\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"assetName\",\"type\":\"string\"}],\"name\":\"getBook\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"oldNoteNo\",\"type\":\"uint256\"},{\"name\":\"newNoteNo\",\"type\":\"uint256\"}],\"name\":\"updateNoteNo\",\"outputs\":[{\"name\":\"isUpdate\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"isExistNote\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"addAccount\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"mulTotalNoteSize\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{","\"name\":\"noteId\",\"type\":\"uint256\"}],\"name\":\"getNoteNoByNoteId\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"checkEffect\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"inputs\":[{\"name\":\"manager\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"constructor\"}]"};
+    public static final String[] ABI_ARRAY = {"[{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"keys\",\"type\":\"bytes[]\"},{\"name\":\"values\",\"type\":\"bytes[]\"}],\"name\":\"updateNoteProperties\",\"outputs\":[{\"name\":\"noteKeys\",\"type\":\"bytes[]\"},{\"name\":\"noteValues\",\"type\":\"bytes[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNoPrefix\",\"type\":\"uint256\"},{\"name\":\"noteNoSize\",\"type\":\"uint256\"}],\"name\":\"updateExistNote\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"getNoteProperties\",\"outputs\":[{\"name\":\"noteKeys\",\"type\":\"bytes[]\"},{\"name\":\"noteValues\",\"type\":\"bytes[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"getNoteIdByNo\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"_book\",\"type\":\"address\"}],\"name\":\"init\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"getAccountNoteSize\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"start\",\"type\":\"uint256\"},{\"name\":\"end\",\"type\":\"uint256\"}],\"name\":\"getNoteByAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNoPrefix\",\"type\":\"uint256\"},{\"name\":\"noteNoSize\",\"type\":\"uint256\"}],\"name\":\"isExistNoteDefined\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"batchNo\",\"type\":\"uint256\"},{\"name\":\"date\",\"type\":\"uint256\"},{\"name\":\"isEffectiveDate\",\"type\":\"bool\"}],\"name\":\"updateNoteBatch\",\"outputs\":[{\"name\":\"isUpdate\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"existAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"getStatusByNote\",\"outputs\":[{\"name\":\"\",\"type\":\"uint8\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"addTotalNoteSize\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"batchNo\",\"type\":\"uint256\"}],\"name\":\"enableBatch\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"addNoteToAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"accountHoldNote\",\"outputs\":[{\"name\":\"isContain\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getTearNotes\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"status\",\"type\":\"uint8\"}],\"name\":\"updateNoteStatus\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getTotalNoteSize\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"batchNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"checkIssuerByBatchNo\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"addTearNote\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"from\",\"type\":\"address\"},{\"name\":\"to\",\"type\":\"address\"},{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"exchangeNote\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteId\",\"type\":\"uint256\"},{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"owner\",\"type\":\"address\"},{\"name\":\"batchNo\",\"type\":\"uint256\"}],\"name\":\"createNote\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"getAccounts\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"checkEffectiveAndUpdate\",\"outputs\":[{\"name\":\"isEffective\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"_price\",\"type\":\"uint256\"}],\"name\":\"setPrice\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[],\"name\":\"generateNoteId\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"removeNoteFromAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[],\"name\":\"getPrice\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[],\"name\":\"price\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"checkExpire\",\"outputs\":[{\"name\":\"isExpire\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"getNote\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint8\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"start\",\"type\":\"uint256\"},{\"name\":\"num\",\"type\":\"uint256\"}],\"name\":\"getAccountsByIndex\",\"outputs\":[{\"name\":\"\",\"type\":\"address[]\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"checkIssuer\",\"outputs\":[{\"name\":\"isIssuer\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"effectiveDate\",\"type\":\"uint256\"},{\"name\":\"expirationDate\",\"type\":\"uint256\"},{\"name\":\"amount\",\"type\":\"uint256\"},{\"name\":\"issuer\",\"type\":\"address\"}],\"name\":\"createBatch\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"},{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"checkOwner\",\"outputs\":[{\"name\":\"isOwner\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"assetName\",\"type\":\"string\"}],\"name\":\"getBook\",\"outputs\":[{\"name\":\"\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"oldNoteNo\",\"type\":\"uint256\"},{\"name\":\"newNoteNo\",\"type\":\"uint256\"}],\"name\":\"updateNoteNo\",\"outputs\":[{\"name\":\"isUpdate\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"isExistNote\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"}],\"name\":\"addAccount\",\"outputs\":[],\"payable\"",":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"mulTotalNoteSize\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"address\"},{\"name\":\"start\",\"type\":\"uint256\"},{\"name\":\"num\",\"type\":\"uint256\"}],\"name\":\"getNoteRangesByAccount\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint256[]\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteId\",\"type\":\"uint256\"}],\"name\":\"getNoteNoByNoteId\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"noteNo\",\"type\":\"uint256\"}],\"name\":\"checkEffect\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"inputs\":[{\"name\":\"manager\",\"type\":\"address\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"constructor\"}]"};
 
     public static final String ABI = String.join("", ABI_ARRAY);
 
@@ -105,6 +105,8 @@ public class NonFungibleStorage extends Contract {
 
     public static final String FUNC_GETNOTE = "getNote";
 
+    public static final String FUNC_GETACCOUNTSBYINDEX = "getAccountsByIndex";
+
     public static final String FUNC_CHECKISSUER = "checkIssuer";
 
     public static final String FUNC_CREATEBATCH = "createBatch";
@@ -121,6 +123,8 @@ public class NonFungibleStorage extends Contract {
 
     public static final String FUNC_MULTOTALNOTESIZE = "mulTotalNoteSize";
 
+    public static final String FUNC_GETNOTERANGESBYACCOUNT = "getNoteRangesByAccount";
+
     public static final String FUNC_GETNOTENOBYNOTEID = "getNoteNoByNoteId";
 
     public static final String FUNC_CHECKEFFECT = "checkEffect";
@@ -1000,6 +1004,17 @@ public class NonFungibleStorage extends Contract {
                 (BigInteger) results.get(3).getValue());
     }
 
+    public Tuple2<List<String>, BigInteger> getAccountsByIndex(BigInteger start, BigInteger num) throws ContractException {
+        final Function function = new Function(FUNC_GETACCOUNTSBYINDEX, 
+                Arrays.<Type>asList(new Uint256(start),
+                new Uint256(num)),
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Address>>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = executeCallWithMultipleValueReturn(function);
+        return new Tuple2<List<String>, BigInteger>(
+                convertToNative((List<Address>) results.get(0).getValue()), 
+                (BigInteger) results.get(1).getValue());
+    }
+
     public Boolean checkIssuer(BigInteger noteNo, String account) throws ContractException {
         final Function function = new Function(FUNC_CHECKISSUER, 
                 Arrays.<Type>asList(new Uint256(noteNo),
@@ -1215,6 +1230,19 @@ public class NonFungibleStorage extends Contract {
                 );
     }
 
+    public Tuple3<List<BigInteger>, List<BigInteger>, BigInteger> getNoteRangesByAccount(String account, BigInteger start, BigInteger num) throws ContractException {
+        final Function function = new Function(FUNC_GETNOTERANGESBYACCOUNT, 
+                Arrays.<Type>asList(new Address(account),
+                new Uint256(start),
+                new Uint256(num)),
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Uint256>>() {}, new TypeReference<DynamicArray<Uint256>>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = executeCallWithMultipleValueReturn(function);
+        return new Tuple3<List<BigInteger>, List<BigInteger>, BigInteger>(
+                convertToNative((List<Uint256>) results.get(0).getValue()), 
+                convertToNative((List<Uint256>) results.get(1).getValue()), 
+                (BigInteger) results.get(2).getValue());
+    }
+
     public BigInteger getNoteNoByNoteId(BigInteger noteId) throws ContractException {
         final Function function = new Function(FUNC_GETNOTENOBYNOTEID, 
                 Arrays.<Type>asList(new Uint256(noteId)),
@@ -21,7 +21,10 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.fisco.bcos.sdk.client.Client;
 import org.slf4j.Logger;
@@ -44,6 +47,16 @@ public class Blockchain {
     private String configPath="conf";
     private ConnectionImpl connection;
     private Boolean isJar;
+    /**
+     * parsed project account, the pem file is only read once
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile AccountImpl projectAccount;
+    /**
+     * ledgerId -> ledger
+     */
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentMap<String, LedgerImpl> ledgers = new ConcurrentHashMap<>();
 
     public Blockchain(String configFile) {
         isJar=false;
@@ -92,7 +105,7 @@ public class Blockchain {
         return txKeyFile;
     }
 
-    public ConnectionImpl getConnection() {
+    public synchronized ConnectionImpl getConnection() {
         if (this.connection == null) {
             this.connection = buildConnection();
         }
@@ -130,6 +143,20 @@ public class Blockchain {
     }
 
     public AccountImpl getProjectAccount() {
+        AccountImpl account = projectAccount;
+        if (account == null) {
+            synchronized (this) {
+                account = projectAccount;
+                if (account == null) {
+                    account = loadProjectAccount();
+                    projectAccount = account;
+                }
+            }
+        }
+        return account;
+    }
+
+    private AccountImpl loadProjectAccount() {
         String pemFile=null;
         if(isJar){
             File file=new File(this.getConfigPath() + "/" + this.getTxKeyFile());
@@ -137,12 +164,29 @@ public class Blockchain {
         }else{
             pemFile = AccountImpl.class.getClassLoader().getResource(this.getConfigPath() + "/" + this.getTxKeyFile()).getPath();
         }
-        AccountImpl account = new AccountImpl(pemFile, "pem", "");
-        return account;
+        return new AccountImpl(pemFile, "pem", "");
     }
 
+    /**
+     * the ledger is shared by every caller and signs with the project account,
+     * use LedgerImpl.withKeyPair for another signer
+     *
+     * @param ledgerId ledgerId
+     * @return shared ledger
+     */
     public LedgerImpl getLedger(String ledgerId) {
-        LedgerImpl ledger = new LedgerImpl(getConnection(), ledgerId, this.getProjectAccount().getKeyPair());
-        return ledger;
+        return ledgers.computeIfAbsent(ledgerId, id -> new LedgerImpl(getConnection(), id, this.getProjectAccount().getKeyPair()));
+    }
+
+    /**
+     * drop the parsed project account and the cached ledgers,
+     * the pem file is read again on the next call, e.g. after the tx key is rotated
+     */
+    public synchronized void reload() {
+        projectAccount = null;
+        ledgers.clear();
+        if (connection != null) {
+            connection.getContractRegistry().clear();
+        }
     }
 }
@@ -22,6 +22,7 @@ import org.fisco.bcos.sdk.BcosSDK;
  */
 public class ConnectionImpl {
     private BcosSDK sdk;
+    private ContractRegistry contractRegistry = new ContractRegistry();
 
     public ConnectionImpl(String tomConfigFile) {
         sdk = BcosSDK.build(tomConfigFile);
@@ -30,4 +31,8 @@ public class ConnectionImpl {
     public BcosSDK getSdk() {
         return sdk;
     }
+
+    public ContractRegistry getContractRegistry() {
+        return contractRegistry;
+    }
 }
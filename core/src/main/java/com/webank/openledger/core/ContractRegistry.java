@@ -0,0 +1,213 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * contract wrapper registry
+ * the static 'load' method of every wrapper class is resolved once into a MethodHandle,
+ * and the loaded wrapper is reused for the same (ledgerId, address, wrapper class, signer).
+ * wrappers are only read after loading, so one instance can be shared between threads.
+ * at most maxSize wrappers are kept, about a tenth of them are dropped when it is exceeded.
+ */
+public class ContractRegistry {
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractRegistry.class);
+    private static final String LOADER_NAME = "load";
+    private static final MethodType LOADER_TYPE = MethodType.methodType(Object.class, String.class, Client.class, CryptoKeyPair.class);
+
+    /**
+     * wrapper class -> 'load' method handle
+     */
+    private final ConcurrentMap<Class<?>, MethodHandle> loaders = new ConcurrentHashMap<>();
+    /**
+     * contract key -> loaded wrapper
+     */
+    private final ConcurrentMap<ContractKey, Object> contracts = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxSize;
+
+    public ContractRegistry() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize max cached wrappers
+     */
+    public ContractRegistry(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize should be greater than 0");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * get the contract wrapper, load it on the first call
+     *
+     * @param ledgerId ledger id
+     * @param address contract address
+     * @param type wrapper class, must declare 'load(String, Client, CryptoKeyPair)'
+     * @param client sdk client of the ledger
+     * @param keyPair signer bind to the wrapper
+     * @return contract wrapper, null if the wrapper can not be loaded
+     */
+    public <T> T getContract(String ledgerId, String address, Class<T> type, Client client, CryptoKeyPair keyPair) {
+        ContractKey key = new ContractKey(ledgerId, address, type, keyPair == null ? null : keyPair.getAddress());
+        Object contract = contracts.get(key);
+        if (contract == null) {
+            contract = load(address, type, client, keyPair);
+            if (contract == null) {
+                return null;
+            }
+            Object exists = contracts.putIfAbsent(key, contract);
+            if (exists != null) {
+                contract = exists;
+            } else if (contracts.size() > maxSize) {
+                evict();
+            }
+        }
+        return type.cast(contract);
+    }
+
+    /**
+     * evict all wrappers of the contract address, e.g. after the asset is upgraded
+     *
+     * @param address contract address
+     */
+    public void evict(String address) {
+        if (address == null) {
+            return;
+        }
+        contracts.keySet().removeIf(key -> key.address.equalsIgnoreCase(address));
+    }
+
+    /**
+     * evict the wrappers of the contract address on the ledger
+     *
+     * @param ledgerId ledger id
+     * @param address contract address
+     */
+    public void evict(String ledgerId, String address) {
+        if (address == null) {
+            return;
+        }
+        contracts.keySet().removeIf(key -> Objects.equals(key.ledgerId, ledgerId) && key.address.equalsIgnoreCase(address));
+    }
+
+    /**
+     * evict all wrappers
+     */
+    public void clear() {
+        contracts.clear();
+    }
+
+    /**
+     * @return number of cached wrappers
+     */
+    public int size() {
+        return contracts.size();
+    }
+
+    /**
+     * drop about a tenth of the wrappers, in table order
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxSize - maxSize / 10;
+            Iterator<ContractKey> iterator = contracts.keySet().iterator();
+            while (contracts.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private Object load(String address, Class<?> type, Client client, CryptoKeyPair keyPair) {
+        try {
+            MethodHandle loader = loaders.get(type);
+            if (loader == null) {
+                loader = MethodHandles.publicLookup()
+                        .findStatic(type, LOADER_NAME, MethodType.methodType(type, String.class, Client.class, CryptoKeyPair.class))
+                        .asType(LOADER_TYPE);
+                loaders.putIfAbsent(type, loader);
+            }
+            return (Object) loader.invokeExact(address, client, keyPair);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            logger.error("resolve loader of {} failed:{}", type.getName(), e);
+        } catch (Throwable e) {
+            logger.error("load contract {} at {} failed:{}", type.getName(), address, e);
+        }
+        return null;
+    }
+
+    /**
+     * registry key
+     */
+    private static final class ContractKey {
+        private final String ledgerId;
+        private final String address;
+        private final Class<?> type;
+        private final String signer;
+        private final int hash;
+
+        ContractKey(String ledgerId, String address, Class<?> type, String signer) {
+            this.ledgerId = ledgerId;
+            this.address = address.toLowerCase();
+            this.type = type;
+            this.signer = signer;
+            this.hash = Objects.hash(ledgerId, this.address, type, signer);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ContractKey)) {
+                return false;
+            }
+            ContractKey that = (ContractKey) o;
+            return Objects.equals(ledgerId, that.ledgerId)
+                    && address.equals(that.address)
+                    && type == that.type
+                    && Objects.equals(signer, that.signer);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
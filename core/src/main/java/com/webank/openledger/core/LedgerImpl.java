@@ -15,9 +15,6 @@
 
 package com.webank.openledger.core;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-
 import org.fisco.bcos.sdk.client.Client;
 import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
 import org.slf4j.Logger;
@@ -28,50 +25,91 @@ import org.slf4j.LoggerFactory;
  */
 public class LedgerImpl {
     private static final Logger logger = LoggerFactory.getLogger(Blockchain.class);
-    private String ledgerId;
-    private Client client;
-    private ConnectionImpl connection;
+    private final String ledgerId;
+    private final Client client;
+    private final ConnectionImpl connection;
+    /**
+     * context of the signer, fixed for the life of the ledger since Blockchain shares one ledger between callers
+     */
+    private final TransactionContext context;
 
     public LedgerImpl(ConnectionImpl connection, String ledgerID, CryptoKeyPair keyPair) {
+        this(connection, ledgerID, connection.getSdk().getClient(Integer.parseInt(ledgerID)), keyPair);
+    }
+
+    private LedgerImpl(ConnectionImpl connection, String ledgerId, Client client, CryptoKeyPair keyPair) {
         this.connection = connection;
-        this.client = connection.getSdk().getClient(Integer.parseInt(ledgerID));
-        this.client.getCryptoSuite().setCryptoKeyPair(keyPair);
+        this.ledgerId = ledgerId;
+        this.client = client;
+        this.context = newContext(keyPair);
     }
 
     public String getLedgerId() {
         return ledgerId;
     }
 
+    /**
+     * the ledger id is fixed by the constructor, the call is ignored
+     *
+     * @deprecated the ledger id can no longer be changed, will be removed in the next release
+     */
+    @Deprecated
     public void setLedgerId(String ledgerId) {
-        this.ledgerId = ledgerId;
+        logger.warn("setLedgerId({}) is ignored, the ledger id is fixed to {}", ledgerId, this.ledgerId);
     }
 
     public CryptoKeyPair getCryptoKeyPair() {
-        return client.getCryptoSuite().getCryptoKeyPair();
+        return context.getKeyPair();
     }
 
+    /**
+     * the signer of a ledger is fixed, it is shared by every caller of Blockchain
+     *
+     * @deprecated use {@link #withKeyPair(CryptoKeyPair)}, will be removed in the next release
+     */
+    @Deprecated
     public void setCryptoKeyPair(CryptoKeyPair keyPair) {
-        this.client.getCryptoSuite().setCryptoKeyPair(keyPair);
+        throw new UnsupportedOperationException("the signer of a ledger is fixed, use withKeyPair(keyPair) to sign with another key pair");
+    }
+
+    /**
+     * view of this ledger signing with another key pair, the ledger itself and its other users are left untouched
+     *
+     * @param keyPair signer of the view
+     * @return ledger of the signer
+     */
+    public LedgerImpl withKeyPair(CryptoKeyPair keyPair) {
+        return new LedgerImpl(connection, ledgerId, client, keyPair);
+    }
+
+    /**
+     * @return context of the default signer
+     */
+    public TransactionContext getContext() {
+        return context;
+    }
+
+    /**
+     * build an immutable context for the signer, one context can be shared by the calls of that signer
+     *
+     * @param keyPair signer key pair
+     * @return transaction context
+     */
+    public TransactionContext newContext(CryptoKeyPair keyPair) {
+        return new TransactionContext(ledgerId, client, keyPair, connection.getContractRegistry());
     }
 
     public <T> T getContract(String id, Object... params) {
-        Class type = (Class) params[0];
-        T contract = null;
-        try {
-            Method loader = type.getMethod("load",
-                    String.class,
-                    Client.class,
-                    CryptoKeyPair.class);
-            contract = (T) loader.invoke(
-                    null,
-                    id, client, client.getCryptoSuite().getCryptoKeyPair());
-        } catch (NoSuchMethodException e) {
-            e.printStackTrace();
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        } catch (InvocationTargetException e) {
-            e.printStackTrace();
-        }
-        return contract;
+        Class<T> type = (Class<T>) params[0];
+        return context.getContract(id, type);
+    }
+
+    /**
+     * evict the cached wrappers of the contract address on this ledger
+     *
+     * @param address contract address
+     */
+    public void evictContract(String address) {
+        connection.getContractRegistry().evict(ledgerId, address);
     }
 }
@@ -0,0 +1,93 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+
+/**
+ * per signer transaction context
+ * binds one key pair to one ledger client, the contract wrappers of the context sign with that key pair.
+ * the shared client crypto suite is never touched, so contexts of different
+ * signers can submit on the same client at the same time.
+ */
+@Getter
+public final class TransactionContext {
+    /**
+     * ledger id
+     */
+    private final String ledgerId;
+    /**
+     * sdk client of the ledger
+     */
+    private final Client client;
+    /**
+     * signer key pair
+     */
+    private final CryptoKeyPair keyPair;
+    /**
+     * contract wrappers shared by the contexts of the connection
+     */
+    private final ContractRegistry contractRegistry;
+
+    public TransactionContext(@NonNull String ledgerId, @NonNull Client client, @NonNull CryptoKeyPair keyPair, @NonNull ContractRegistry contractRegistry) {
+        this.ledgerId = ledgerId;
+        this.client = client;
+        this.keyPair = keyPair;
+        this.contractRegistry = contractRegistry;
+    }
+
+    /**
+     * signer address
+     *
+     * @return address of keyPair
+     */
+    public String getSigner() {
+        return keyPair.getAddress();
+    }
+
+    /**
+     * get the contract wrapper bind to this signer
+     *
+     * @param address contract address
+     * @param type wrapper class
+     * @return contract wrapper
+     */
+    public <T> T getContract(String address, Class<T> type) {
+        return contractRegistry.getContract(ledgerId, address, type, client, keyPair);
+    }
+
+    /**
+     * evict the cached wrappers of the contract address on this ledger
+     *
+     * @param address contract address
+     */
+    public void evictContract(String address) {
+        contractRegistry.evict(ledgerId, address);
+    }
+
+    /**
+     * context of another signer on the same client
+     *
+     * @param signer key pair of the signer
+     * @return new context
+     */
+    public TransactionContext withKeyPair(@NonNull CryptoKeyPair signer) {
+        return new TransactionContext(ledgerId, client, signer, contractRegistry);
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.asset.fungible;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import com.webank.openledger.core.auth.AuthCenterService;
+import com.webank.openledger.core.common.ReadCache;
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.response.ResponseData;
+import com.webank.openledger.utils.CompactAddress;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+
+/**
+ * read through balance cache per (asset, inner account)
+ * an entry is dropped by the Transfer/Deposit/WithDrawal events of its account.
+ * events come from a subscription (see BalanceEventFeed) and from the receipts of our own writes.
+ * reads never block: a miss or a cache without a live feed returns null and the caller reads from chain.
+ * a read started before an event of its account is not installed, see stamp.
+ * read your writes: the receipt of a write passed to onReceipt drops the balances it changed at once, so the
+ * next read of them goes to chain and sees the write. StandardAssetService does it for the writes it sends.
+ * the events only carry inner accounts, so external accounts are resolved once and remembered.
+ * an entry is only served to the readers whose chain read of it passed the signature and auth checks of getBalance,
+ * the reader is recovered from the signature of the call. roles and account status have no asset events,
+ * call evict or clear after changing them.
+ */
+@Slf4j
+public class BalanceCache {
+    public static final int DEFAULT_MAX_SIZE = ReadCache.DEFAULT_MAX_SIZE;
+
+    static final String TRANSFER_TOPIC = ReadCache.topic("Transfer(address,address,uint256)");
+    static final String DEPOSIT_TOPIC = ReadCache.topic("Deposit(address,uint256)");
+    static final String WITHDRAWAL_TOPIC = ReadCache.topic("WithDrawal(address,uint256)");
+
+    /**
+     * external account -> inner account on chain, null if it can not be read
+     */
+    private final Function<String, String> innerAccountSource;
+    private final int maxSize;
+    private final ReadCache<BalanceKey, BigInteger> balances;
+    private final ConcurrentMap<String, String> innerAccounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    /**
+     * resolve inner accounts by AuthCenter.getInnerAccountAndStatus
+     *
+     * @param authCenterService authCenter service
+     */
+    public BalanceCache(@NonNull AuthCenterService<?> authCenterService) {
+        this(account -> {
+            ResponseData<String> inner = authCenterService.getInnerAccount(account);
+            return ErrorCode.SUCCESS.getCode() == inner.getErrorCode() ? inner.getResult() : null;
+        }, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param innerAccountSource external account -> inner account on chain, null if it can not be read
+     * @param maxSize max cached balances
+     */
+    public BalanceCache(@NonNull Function<String, String> innerAccountSource, int maxSize) {
+        this.balances = new ReadCache<>(maxSize);
+        this.innerAccountSource = innerAccountSource;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * take before the chain read, pass to put
+     *
+     * @param asset asset contract address
+     * @param innerAccount inner account address
+     * @return stamp of the read
+     */
+    public long stamp(String asset, String innerAccount) {
+        return balances.stamp(new BalanceKey(asset, innerAccount));
+    }
+
+    /**
+     * cached balance
+     *
+     * @param asset asset contract address
+     * @param innerAccount inner account address
+     * @param reader address recovered from the signature of the call
+     * @return balance, null if the caller should read from chain
+     */
+    public BigInteger get(String asset, String innerAccount, String reader) {
+        return balances.get(new BalanceKey(asset, innerAccount), reader == null ? null : reader.toLowerCase());
+    }
+
+    /**
+     * install a chain read that passed the checks of getBalance for the reader
+     *
+     * @param asset asset contract address
+     * @param innerAccount inner account address
+     * @param balance balance read from chain
+     * @param stamp stamp taken before the read
+     * @param reader address recovered from the signature of the read
+     */
+    public void put(String asset, String innerAccount, @NonNull BigInteger balance, long stamp, @NonNull String reader) {
+        balances.put(new BalanceKey(asset, innerAccount), balance, stamp, reader.toLowerCase());
+    }
+
+    /**
+     * apply a log of the asset contract, other logs are ignored
+     *
+     * @param asset asset contract address
+     * @param topics log topics
+     * @param data log data
+     */
+    public void onLog(String asset, List<String> topics, String data) {
+        if (topics == null || topics.isEmpty() || data == null) {
+            return;
+        }
+        String topic = topics.get(0);
+        boolean transfer = TRANSFER_TOPIC.equalsIgnoreCase(topic);
+        if (!transfer && !DEPOSIT_TOPIC.equalsIgnoreCase(topic) && !WITHDRAWAL_TOPIC.equalsIgnoreCase(topic)) {
+            return;
+        }
+        try {
+            invalidate(asset, ReadCache.address(data, 0));
+            if (transfer) {
+                invalidate(asset, ReadCache.address(data, 1));
+            }
+        } catch (RuntimeException e) {
+            log.error("decode balance event of {} failed", asset, e);
+            onGap();
+        }
+    }
+
+    /**
+     * apply the logs of a receipt, the receipt of a failed transaction has no logs
+     * a writer calls it with the receipt of its write to read the write back without waiting for the event feed
+     *
+     * @param asset asset contract address
+     * @param receipt transaction receipt
+     */
+    public void onReceipt(String asset, TransactionReceipt receipt) {
+        for (TransactionReceipt.Logs item : ReadCache.logsOf(asset, receipt)) {
+            onLog(asset, item.getTopics(), item.getData());
+        }
+    }
+
+    /**
+     * the event feed is complete from now on, reads can be served
+     * a read stamped before is not installed, it may have missed an event
+     */
+    public void markLive() {
+        balances.markLive();
+    }
+
+    public boolean isLive() {
+        return balances.isLive();
+    }
+
+    /**
+     * events may have been missed, e.g. the subscription failed
+     * every entry is dropped and reads fall back to chain until the feed is live again
+     */
+    public void onGap() {
+        balances.onGap();
+    }
+
+    /**
+     * inner account of an external account, read from chain once
+     *
+     * @param account external account address
+     * @return inner account, null if it can not be read
+     */
+    public String getInnerAccount(@NonNull String account) {
+        String key = account.toLowerCase();
+        String inner = innerAccounts.get(key);
+        if (inner == null) {
+            inner = innerAccountSource.apply(account);
+            if (inner == null || CompactAddress.parse(inner).isZero()) {
+                return null;
+            }
+            innerAccounts.put(key, inner);
+            if (innerAccounts.size() > maxSize) {
+                evictInnerAccounts();
+            }
+        }
+        return inner;
+    }
+
+    /**
+     * drop the cached balance and the inner account of an external account, e.g. after its account is changed
+     *
+     * @param asset asset contract address
+     * @param account external account address
+     */
+    public void evict(String asset, @NonNull String account) {
+        String inner = innerAccounts.remove(account.toLowerCase());
+        if (inner != null) {
+            invalidate(asset, inner);
+        }
+    }
+
+    public void clear() {
+        balances.clear();
+        innerAccounts.clear();
+    }
+
+    public int size() {
+        return balances.size();
+    }
+
+    public long getHitCount() {
+        return balances.getHitCount();
+    }
+
+    public long getMissCount() {
+        return balances.getMissCount();
+    }
+
+    /**
+     * @return number of dropped balances
+     */
+    public long getInvalidationCount() {
+        return balances.getInvalidationCount();
+    }
+
+    private void invalidate(String asset, String innerAccount) {
+        balances.invalidate(new BalanceKey(asset, innerAccount));
+    }
+
+    /**
+     * drop about a tenth of the inner accounts, in table order
+     */
+    private void evictInnerAccounts() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxSize - maxSize / 10;
+            Iterator<String> iterator = innerAccounts.keySet().iterator();
+            while (innerAccounts.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class BalanceKey {
+        private final CompactAddress asset;
+        private final CompactAddress account;
+        private final int hash;
+
+        BalanceKey(String asset, String account) {
+            this.asset = CompactAddress.parse(asset);
+            this.account = CompactAddress.parse(account);
+            this.hash = 31 * this.asset.hashCode() + this.account.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BalanceKey)) {
+                return false;
+            }
+            BalanceKey that = (BalanceKey) o;
+            return account.equals(that.account) && asset.equals(that.asset);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core.asset.fungible;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.webank.openledger.core.asset.fungible.entity.TransferInstruction;
+import com.webank.openledger.core.asset.fungible.entity.TransferResult;
+import com.webank.openledger.core.auth.NonceManager;
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import com.webank.openledger.core.response.ResponseData;
+import com.webank.openledger.utils.OpenLedgerUtils;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+
+/**
+ * pipelined batch transfer submitter
+ * instructions are signed and sent through the async callback path, at most 'window'
+ * transfers are in flight at the same time. the nonce of a transfer is reserved through NonceManager
+ * when it is submitted, so the transfers of one signer carry increasing nonces in input order and are
+ * sent without waiting for the receipts of the earlier ones. results are streamed back in input order.
+ *
+ * @author pepperli
+ */
+@Slf4j
+public class BatchTransferSubmitter {
+    /**
+     * default in-flight window
+     */
+    public static final int DEFAULT_WINDOW = 64;
+
+    private final StandardAssetService<?> service;
+    /**
+     * nonce reservation of the signers
+     */
+    private final NonceManager nonceManager;
+    private final int window;
+
+    /**
+     * @param service asset service
+     * @param nonceSource signer address -> nonce on chain, e.g. AuthCenterService.getNonceFromAccount
+     * @param window max transfers in flight
+     */
+    public BatchTransferSubmitter(@NonNull StandardAssetService<?> service, @NonNull Function<String, BigInteger> nonceSource, int window) {
+        this(service, new NonceManager(nonceSource), window);
+    }
+
+    public BatchTransferSubmitter(@NonNull StandardAssetService<?> service, @NonNull NonceManager nonceManager) {
+        this(service, nonceManager, DEFAULT_WINDOW);
+    }
+
+    public BatchTransferSubmitter(@NonNull StandardAssetService<?> service, @NonNull NonceManager nonceManager, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window should be greater than 0");
+        }
+        this.service = service;
+        this.nonceManager = nonceManager;
+        this.window = window;
+    }
+
+    /**
+     * submit the instructions, the stream is lazy: instructions are consumed while results are read
+     *
+     * @param instructions transfer instructions
+     * @return transfer results in input order, a failed transfer has a null result and the error code
+     */
+    public Stream<ResponseData<TransferResult>> submit(@NonNull Stream<TransferInstruction> instructions) {
+        Iterator<ResponseData<TransferResult>> results = new ResultIterator(instructions.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(instructions::close);
+    }
+
+    /**
+     * submit the instructions and wait for all results
+     *
+     * @param instructions transfer instructions
+     * @return transfer results in input order
+     */
+    public List<ResponseData<TransferResult>> submitAll(@NonNull List<TransferInstruction> instructions) {
+        List<ResponseData<TransferResult>> results = new ArrayList<>(instructions.size());
+        submit(instructions.stream()).forEach(results::add);
+        return results;
+    }
+
+    /**
+     * pull the results and keep the window filled, only used by the consumer thread
+     */
+    private class ResultIterator implements Iterator<ResponseData<TransferResult>> {
+        private final Iterator<TransferInstruction> source;
+        private final ArrayDeque<CompletableFuture<ResponseData<TransferResult>>> pending = new ArrayDeque<>();
+
+        ResultIterator(Iterator<TransferInstruction> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public ResponseData<TransferResult> next() {
+            fill();
+            CompletableFuture<ResponseData<TransferResult>> future = pending.poll();
+            if (future == null) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof OpenLedgerBaseException) {
+                    OpenLedgerBaseException ex = (OpenLedgerBaseException) cause;
+                    return new ResponseData<>(null, ex.getCode(), ex.getMessage());
+                }
+                return new ResponseData<>(null, ErrorCode.ASSET_TRANSFER_ERROR);
+            }
+        }
+
+        private void fill() {
+            while (pending.size() < window && source.hasNext()) {
+                TransferInstruction instruction = source.next();
+                pending.add(send(instruction.getSigner().getAddress(), instruction));
+            }
+        }
+
+        private CompletableFuture<ResponseData<TransferResult>> send(String account, TransferInstruction instruction) {
+            BigInteger nonce;
+            try {
+                nonce = nonceManager.reserve(account);
+            } catch (OpenLedgerBaseException e) {
+                return failed(e);
+            }
+            try {
+                List<String> addressList = StandardAssetService.genAddress(instruction.getFromAddress(), instruction.getToAddress(),
+                        instruction.getOperatorAddress(), service.getContractAddress(), null);
+                List<String> detailList = StandardAssetService.genDetail(instruction.getDesc(), null);
+                byte[] message = StandardAssetService.computeTxMsg(addressList, instruction.getAmount(),
+                        StandardAssetService.genType(instruction.getOperationType()), detailList, nonce);
+                ECDSASignatureResult rs = OpenLedgerUtils.sign(instruction.getSigner(), message);
+                return service.transferAsync(addressList, instruction.getAmount(), instruction.getOperationType(), detailList, message, rs)
+                        .whenComplete((response, e) -> {
+                            if (e != null) {
+                                nonceManager.onError(account);
+                            } else {
+                                nonceManager.onResponse(account, response);
+                            }
+                        });
+            } catch (Exception e) {
+                log.error("sign transfer {} failed:{}", instruction, e);
+                nonceManager.onError(account);
+                return failed(new OpenLedgerBaseException(ErrorCode.ASSET_TRANSFER_ERROR));
+            }
+        }
+
+        private CompletableFuture<ResponseData<TransferResult>> failed(OpenLedgerBaseException e) {
+            CompletableFuture<ResponseData<TransferResult>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+}
@@ -18,10 +18,13 @@ package com.webank.openledger.core.asset.fungible;
 
 import java.math.BigInteger;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.webank.openledger.contracts.Currency;
 import com.webank.openledger.core.Blockchain;
+import com.webank.openledger.core.TransactionContext;
 import com.webank.openledger.core.asset.fungible.entity.CurrencyEntity;
+import com.webank.openledger.core.asset.fungible.entity.TransferLeg;
 import com.webank.openledger.core.asset.fungible.entity.TransferResult;
 import com.webank.openledger.core.constant.ErrorCode;
 import com.webank.openledger.core.exception.OpenLedgerBaseException;
@@ -31,7 +34,6 @@ import com.webank.openledger.utils.OpenLedgerUtils;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
 import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
 import org.fisco.bcos.sdk.model.TransactionReceipt;
 
@@ -50,6 +52,11 @@ public class CurrencyService extends StandardAssetService<Currency> {
         currency = getAsset();
     }
 
+    public CurrencyService(TransactionContext context, String contractAddress) {
+        super(context, contractAddress, Currency.class);
+        currency = getAsset();
+    }
+
     /**
      * get asset information
      *
@@ -107,11 +114,7 @@ public class CurrencyService extends StandardAssetService<Currency> {
                     genType(operationType),
                     genDetail(desc, subject),
                     resultSign);
-            TransferResult tr = null;
-            Tuple2<Boolean, List<BigInteger>> response = transactionReceipt.isStatusOK() ? asset.getDepositOutput(transactionReceipt) : null;
-            if (response != null && response.getValue1()) {
-                tr = new TransferResult(response.getValue1(), response.getValue2().get(0), response.getValue2().get(1));
-            }
+            TransferResult tr = getDepositResult(transactionReceipt);
             return DataToolUtils.handleTransaction(transactionReceipt, tr);
         } catch (Exception e) {
             log.error("desposit failed:{}", e);
@@ -144,11 +147,7 @@ public class CurrencyService extends StandardAssetService<Currency> {
                     genType(operationType),
                     genDetail(desc, subject),
                     resultSign);
-            TransferResult tr = null;
-            Tuple2<Boolean, List<BigInteger>> response = transactionReceipt.isStatusOK() ? asset.getWithdrawalOutput(transactionReceipt) : null;
-            if (response != null && response.getValue1()) {
-                tr = new TransferResult(response.getValue1(), response.getValue2().get(0), response.getValue2().get(1));
-            }
+            TransferResult tr = getWithdrawalResult(transactionReceipt);
             return DataToolUtils.handleTransaction(transactionReceipt, tr);
         } catch (Exception e) {
             log.error("withdrawal failed:{}", e);
@@ -183,11 +182,7 @@ public class CurrencyService extends StandardAssetService<Currency> {
                     genType(operationType),
                     genDetail(desc, subject),
                     resultSign);
-            TransferResult tr = null;
-            Tuple2<Boolean, List<BigInteger>> response = transactionReceipt.isStatusOK() ? asset.getTransferOutput(transactionReceipt) : null;
-            if (response != null && response.getValue1()) {
-                tr = new TransferResult(response.getValue1(), response.getValue2().get(0), response.getValue2().get(1));
-            }
+            TransferResult tr = getTransferResult(transactionReceipt);
             return DataToolUtils.handleTransaction(transactionReceipt, tr);
         } catch (Exception e) {
             log.error("transfer failed:{}", e);
@@ -195,5 +190,113 @@ public class CurrencyService extends StandardAssetService<Currency> {
         }
     }
 
+    /**
+     * deposit currency to account without blocking the caller
+     *
+     * @param account transaction account
+     * @param amount transaction amount
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @param subject accounting Subject can be null
+     * @param relateAsset related asset contract address (can be null)
+     * @param message args hash
+     * @param rs sign by orgadmin
+     * @return future of transaction result
+     */
+    public CompletableFuture<ResponseData<TransferResult>> depositAsync(@NonNull String operatorAddress, @NonNull String account, @NonNull BigInteger amount, int operationType, String desc, String subject, String relateAsset, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        List<String> addressList = genAddress(null, account, operatorAddress, contractAddress, relateAsset);
+        return depositAsync(addressList, amount, operationType, genDetail(desc, subject), message, rs);
+    }
+
+    /**
+     * withdrawal currency from account without blocking the caller
+     *
+     * @param account transaction account
+     * @param amount transaction amount
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @param subject accounting Subject can be null
+     * @param relateAsset related asset contract address (can be null)
+     * @param message args hash
+     * @param rs sign by orgadmin
+     * @return future of transaction result
+     */
+    public CompletableFuture<ResponseData<TransferResult>> withdrawalAsync(@NonNull String operatorAddress, @NonNull String account, @NonNull BigInteger amount, int operationType, String desc, String subject, String relateAsset, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        List<String> addressList = genAddress(account, null, operatorAddress, contractAddress, relateAsset);
+        return withdrawalAsync(addressList, amount, operationType, genDetail(desc, subject), message, rs);
+    }
 
+    /**
+     * transfer currency without blocking the caller
+     *
+     * @param fromAddress account of payments
+     * @param toAddress account of receipts
+     * @param amount transaction amount
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @param subject accounting Subject can be null
+     * @param relateAsset related asset contract address (can be null)
+     * @param message args hash
+     * @param rs sign by orgadmin
+     * @return future of transaction result
+     */
+    public CompletableFuture<ResponseData<TransferResult>> transferAsync(@NonNull String operatorAddress, @NonNull String fromAddress, @NonNull String toAddress, @NonNull BigInteger amount, int operationType, String desc, String subject, String relateAsset, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        List<String> addressList = genAddress(fromAddress, toAddress, operatorAddress, contractAddress, relateAsset);
+        return transferAsync(addressList, amount, operationType, genDetail(desc, subject), message, rs);
+    }
+
+    /**
+     * deposit currency to many accounts in one transaction
+     * the amounts are scaled by decimals on chain, sign the scaled amounts like 'deposit'
+     *
+     * @param legs deposit legs, see TransferLeg.deposit
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @param subject accounting Subject can be null
+     * @param relateAsset related asset contract address (can be null)
+     * @param message args hash computed by 'computeBatchTxMsg'
+     * @param rs sign by operator
+     * @return transfer result of each leg
+     * @throws OpenLedgerBaseException
+     */
+    public ResponseData<List<TransferResult>> batchDeposit(@NonNull String operatorAddress, @NonNull List<TransferLeg> legs, int operationType, String desc, String subject, String relateAsset, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        List<String> addressList = genBatchAddress(legs, operatorAddress, contractAddress, relateAsset);
+        return batchDeposit(addressList, genBatchAmount(legs), operationType, genDetail(desc, subject), message, rs);
+    }
+
+    /**
+     * withdrawal currency from many accounts in one transaction
+     *
+     * @param legs withdrawal legs, see TransferLeg.withdrawal
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @param subject accounting Subject can be null
+     * @param relateAsset related asset contract address (can be null)
+     * @param message args hash computed by 'computeBatchTxMsg'
+     * @param rs sign by operator
+     * @return transfer result of each leg
+     * @throws OpenLedgerBaseException
+     */
+    public ResponseData<List<TransferResult>> batchWithdrawal(@NonNull String operatorAddress, @NonNull List<TransferLeg> legs, int operationType, String desc, String subject, String relateAsset, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        List<String> addressList = genBatchAddress(legs, operatorAddress, contractAddress, relateAsset);
+        return batchWithdrawal(addressList, genBatchAmount(legs), operationType, genDetail(desc, subject), message, rs);
+    }
+
+    /**
+     * transfer currency legs in one transaction
+     *
+     * @param legs transfer legs
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @param subject accounting Subject can be null
+     * @param relateAsset related asset contract address (can be null)
+     * @param message args hash computed by 'computeBatchTxMsg'
+     * @param rs sign by operator
+     * @return transfer result of each leg
+     * @throws OpenLedgerBaseException
+     */
+    public ResponseData<List<TransferResult>> batchTransfer(@NonNull String operatorAddress, @NonNull List<TransferLeg> legs, int operationType, String desc, String subject, String relateAsset, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        List<String> addressList = genBatchAddress(legs, operatorAddress, contractAddress, relateAsset);
+        return batchTransfer(addressList, genBatchAmount(legs), operationType, genDetail(desc, subject), message, rs);
+    }
 }
@@ -19,29 +19,44 @@ package com.webank.openledger.core.asset.fungible;
 import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import com.webank.openledger.core.Blockchain;
+import com.webank.openledger.core.TransactionContext;
 import com.webank.openledger.core.asset.fungible.entity.Condition;
-import com.webank.openledger.core.asset.fungible.entity.RecordBuilder;
+import com.webank.openledger.core.asset.fungible.entity.RecordColumns;
 import com.webank.openledger.core.asset.fungible.entity.RecordEntity;
+import com.webank.openledger.core.asset.fungible.entity.TransferLeg;
 import com.webank.openledger.core.asset.fungible.entity.TransferResult;
 import com.webank.openledger.core.common.BaseAsset;
+import com.webank.openledger.core.common.PagedIterator;
+import com.webank.openledger.core.common.ReadCache;
 import com.webank.openledger.core.constant.ErrorCode;
 import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import com.webank.openledger.core.indexer.RecordIndexer;
+import com.webank.openledger.core.indexer.RecordPage;
+import com.webank.openledger.core.response.BookRecordDecoder;
 import com.webank.openledger.core.response.DataToolUtils;
+import com.webank.openledger.core.response.FutureTransactionCallback;
 import com.webank.openledger.core.response.ResponseData;
+import com.webank.openledger.utils.AddressSet;
+import com.webank.openledger.utils.CompactAddress;
 import com.webank.openledger.utils.OpenLedgerUtils;
+import com.webank.openledger.utils.TxMessageBuilder;
 
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.fisco.bcos.sdk.abi.datatypes.Address;
 import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
 import org.fisco.bcos.sdk.contract.Contract;
 import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
 import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 
 /**
  * standard fungible asset service
@@ -63,6 +78,23 @@ public class StandardAssetService<T extends Contract> {
      * contractAddress
      */
     protected String contractAddress;
+    /**
+     * signer context of the transactions
+     */
+    protected TransactionContext context;
+    /**
+     * opt-in balance cache, null to read balances from chain only
+     */
+    protected BalanceCache balanceCache;
+    /**
+     * off chain record index, null to query the book on chain only
+     */
+    protected RecordIndexer recordIndexer;
+    /**
+     * cursors handed out by queryIndexed -> condition of the query, granted to the readers that passed the checks
+     * roles have no asset events, clear it after changing them
+     */
+    protected final ReadCache<String, String> indexedCursors = newCursorGrants();
 
     /**
      * Initialize the contract object
@@ -70,10 +102,28 @@ public class StandardAssetService<T extends Contract> {
      * @param blockchain property object
      * @param contractAddress asset contractAddress
      */
-    public StandardAssetService(Blockchain blockchain, String contractAddress, Class contractClass) {
+    public StandardAssetService(Blockchain blockchain, String contractAddress, Class<?> contractClass) {
+        this(blockchain.getLedger(Blockchain.DEFAULT_LEDGERID).getContext(), contractAddress, contractClass);
         this.blockchain = blockchain;
+    }
+
+    /**
+     * Initialize the contract object bind to the signer of the context
+     *
+     * @param context signer context
+     * @param contractAddress asset contractAddress
+     */
+    public StandardAssetService(TransactionContext context, String contractAddress, Class<?> contractClass) {
+        this.context = context;
         this.contractAddress = contractAddress;
-        asset = blockchain.getLedger(Blockchain.DEFAULT_LEDGERID).getContract(contractAddress, contractClass);
+        asset = (BaseAsset) context.getContract(contractAddress, contractClass);
+    }
+
+    private static ReadCache<String, String> newCursorGrants() {
+        // the grants come from the queryBook check of the first page, there is no event feed to wait for
+        ReadCache<String, String> cursors = new ReadCache<>(ReadCache.DEFAULT_MAX_SIZE);
+        cursors.markLive();
+        return cursors;
     }
 
     /***
@@ -118,20 +168,56 @@ public class StandardAssetService<T extends Contract> {
         addressList.add(operatorAddress);
         addressList.add(assetAddress);
         if (StringUtils.isBlank(fromAddress)) {
-            fromAddress = Address.DEFAULT.getValue();
+            fromAddress = CompactAddress.ZERO_HEX;
         }
         addressList.add(fromAddress);
         if (StringUtils.isBlank(toAddress)) {
-            toAddress = Address.DEFAULT.getValue();
+            toAddress = CompactAddress.ZERO_HEX;
         }
         addressList.add(toAddress);
         if (StringUtils.isBlank(relateAsset)) {
-            relateAsset = Address.DEFAULT.getValue();
+            relateAsset = CompactAddress.ZERO_HEX;
         }
         addressList.add(relateAsset);
         return addressList;
     }
 
+    /**
+     * generate batch transaction address list
+     * [operator, asset, relateAsset, from_0, to_0, from_1, to_1, ...]
+     *
+     * @param legs batch legs
+     * @param operatorAddress operator account address
+     * @param assetAddress asset contract address
+     * @param relateAsset related asset contract address (can be null)
+     * @return transaction address list
+     */
+    public static List<String> genBatchAddress(List<TransferLeg> legs, String operatorAddress, String assetAddress, String relateAsset) {
+        List<String> addressList = new ArrayList<>(3 + 2 * legs.size());
+        addressList.add(operatorAddress);
+        addressList.add(assetAddress);
+        addressList.add(StringUtils.isBlank(relateAsset) ? CompactAddress.ZERO_HEX : relateAsset);
+        for (TransferLeg leg : legs) {
+            addressList.add(StringUtils.isBlank(leg.getFromAddress()) ? CompactAddress.ZERO_HEX : leg.getFromAddress());
+            addressList.add(StringUtils.isBlank(leg.getToAddress()) ? CompactAddress.ZERO_HEX : leg.getToAddress());
+        }
+        return addressList;
+    }
+
+    /**
+     * generate batch amount list
+     *
+     * @param legs batch legs
+     * @return amount of each leg
+     */
+    public static List<BigInteger> genBatchAmount(List<TransferLeg> legs) {
+        List<BigInteger> amounts = new ArrayList<>(legs.size());
+        for (TransferLeg leg : legs) {
+            amounts.add(leg.getAmount());
+        }
+        return amounts;
+    }
+
 
     /**
      * compute transaction args hash
@@ -146,21 +232,29 @@ public class StandardAssetService<T extends Contract> {
      * @throws UnsupportedEncodingException
      */
     public static byte[] computeTxMsg(List<String> transactionAddress, BigInteger amount, List<BigInteger> typeList, List<String> detailList, BigInteger nonce) throws OpenLedgerBaseException, UnsupportedEncodingException {
-        byte[] result = new byte[0];
-        for (String item : transactionAddress) {
-            result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.convertStringToAddressByte(item));
-        }
-        result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.getBytes32(amount.toByteArray()));
-        for (BigInteger item : typeList) {
-            result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.getBytes32(item.toByteArray()));
-        }
-        for (String item : detailList) {
-            result = OpenLedgerUtils.concatByte(result, item.getBytes("utf-8"));
-        }
-
-        result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.getBytes32(nonce.toByteArray()));
+        return computeBatchTxMsg(transactionAddress, Collections.singletonList(amount), typeList, detailList, nonce);
+    }
 
-        return OpenLedgerUtils.computeKeccak256Hash(result);
+    /**
+     * compute batch transaction args hash
+     *
+     * @param transactionAddress transaction address list generate by call 'genBatchAddress'
+     * @param amounts amount of each leg generate by call 'genBatchAmount'
+     * @param typeList transaction type list generate by call 'genType'
+     * @param detailList transaction detail list generate by call 'genDetail'
+     * @param nonce account nonce value
+     * @return transaction args hash
+     * @throws OpenLedgerBaseException
+     * @throws UnsupportedEncodingException
+     */
+    public static byte[] computeBatchTxMsg(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, BigInteger nonce) throws OpenLedgerBaseException, UnsupportedEncodingException {
+        return TxMessageBuilder.local()
+                .addresses(transactionAddress)
+                .uint256s(amounts)
+                .uint256s(typeList)
+                .utf8s(detailList)
+                .uint256(nonce)
+                .hash();
     }
 
     /**
@@ -172,11 +266,7 @@ public class StandardAssetService<T extends Contract> {
      * @throws OpenLedgerBaseException
      */
     public static byte[] computeOpenAccountMsg(String account, BigInteger nonce) throws OpenLedgerBaseException {
-        byte[] result = new byte[0];
-        result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.convertStringToAddressByte(account));
-        result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.getBytes32(nonce.toByteArray()));
-
-        return OpenLedgerUtils.computeKeccak256Hash(result);
+        return TxMessageBuilder.local().address(account).uint256(nonce).hash();
     }
 
     /**
@@ -208,11 +298,7 @@ public class StandardAssetService<T extends Contract> {
                     genType(operationType),
                     genDetail(desc, null),
                     resultSign);
-            TransferResult tr = null;
-            Tuple2<Boolean, List<BigInteger>> response = transactionReceipt.isStatusOK() ? asset.getDepositOutput(transactionReceipt) : null;
-            if (response != null && response.getValue1()) {
-                tr = new TransferResult(response.getValue1(), response.getValue2().get(0), response.getValue2().get(1));
-            }
+            TransferResult tr = getDepositResult(transactionReceipt);
 
             return DataToolUtils.handleTransaction(transactionReceipt, tr);
         } catch (Exception e) {
@@ -241,11 +327,7 @@ public class StandardAssetService<T extends Contract> {
                     genType(operationType),
                     genDetail(desc, null),
                     resultSign);
-            TransferResult tr = null;
-            Tuple2<Boolean, List<BigInteger>> response = transactionReceipt.isStatusOK() ? asset.getWithdrawalOutput(transactionReceipt) : null;
-            if (response != null && response.getValue1()) {
-                tr = new TransferResult(response.getValue1(), response.getValue2().get(0), response.getValue2().get(1));
-            }
+            TransferResult tr = getWithdrawalResult(transactionReceipt);
             return DataToolUtils.handleTransaction(transactionReceipt, tr);
         } catch (Exception e) {
             log.error("withdrawal failed:{}", e);
@@ -275,11 +357,7 @@ public class StandardAssetService<T extends Contract> {
                     genType(operationType),
                     genDetail(desc, null),
                     resultSign);
-            TransferResult tr = null;
-            Tuple2<Boolean, List<BigInteger>> response = transactionReceipt.isStatusOK() ? asset.getTransferOutput(transactionReceipt) : null;
-            if (response != null && response.getValue1()) {
-                tr = new TransferResult(response.getValue1(), response.getValue2().get(0), response.getValue2().get(1));
-            }
+            TransferResult tr = getTransferResult(transactionReceipt);
             return DataToolUtils.handleTransaction(transactionReceipt, tr);
         } catch (Exception e) {
             log.error("transfer failed:{}", e);
@@ -287,6 +365,52 @@ public class StandardAssetService<T extends Contract> {
         }
     }
 
+    /**
+     * deposit to many accounts in one transaction, all legs succeed or fail together
+     *
+     * @param legs deposit legs, see TransferLeg.deposit
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @param message args hash computed by 'computeBatchTxMsg'
+     * @param rs sign by operator
+     * @return transfer result of each leg
+     * @throws OpenLedgerBaseException
+     */
+    public ResponseData<List<TransferResult>> batchDeposit(@NonNull String operatorAddress, @NonNull List<TransferLeg> legs, int operationType, String desc, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        return batchDeposit(genBatchAddress(legs, operatorAddress, contractAddress, null), genBatchAmount(legs), operationType, genDetail(desc, null), message, rs);
+    }
+
+    /**
+     * withdrawal from many accounts in one transaction, all legs succeed or fail together
+     *
+     * @param legs withdrawal legs, see TransferLeg.withdrawal
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @param message args hash computed by 'computeBatchTxMsg'
+     * @param rs sign by operator
+     * @return transfer result of each leg
+     * @throws OpenLedgerBaseException
+     */
+    public ResponseData<List<TransferResult>> batchWithdrawal(@NonNull String operatorAddress, @NonNull List<TransferLeg> legs, int operationType, String desc, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        return batchWithdrawal(genBatchAddress(legs, operatorAddress, contractAddress, null), genBatchAmount(legs), operationType, genDetail(desc, null), message, rs);
+    }
+
+    /**
+     * transfer many legs in one transaction, all legs succeed or fail together
+     * the signer must be allowed to transfer from every payer of the legs
+     *
+     * @param legs transfer legs
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @param message args hash computed by 'computeBatchTxMsg'
+     * @param rs sign by operator
+     * @return transfer result of each leg
+     * @throws OpenLedgerBaseException
+     */
+    public ResponseData<List<TransferResult>> batchTransfer(@NonNull String operatorAddress, @NonNull List<TransferLeg> legs, int operationType, String desc, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        return batchTransfer(genBatchAddress(legs, operatorAddress, contractAddress, null), genBatchAmount(legs), operationType, genDetail(desc, null), message, rs);
+    }
+
     /**
      * balance of account
      *
@@ -296,15 +420,42 @@ public class StandardAssetService<T extends Contract> {
      */
     public BigInteger getBalance(@NonNull String accountAddress, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
         try {
+            String innerAccount = null;
+            String reader = null;
+            long stamp = 0;
+            if (balanceCache != null) {
+                innerAccount = balanceCache.getInnerAccount(accountAddress);
+                // the reader the on chain checks would see, a hit needs a chain read that passed them for it
+                reader = OpenLedgerUtils.recoverAddress(message, rs);
+                if (innerAccount != null) {
+                    BigInteger cached = balanceCache.get(contractAddress, innerAccount, reader);
+                    if (cached != null) {
+                        return cached;
+                    }
+                    stamp = balanceCache.stamp(contractAddress, innerAccount);
+                }
+            }
             List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
-
-            return asset.getBalance(accountAddress, resultSign);
+            BigInteger balance = asset.getBalance(accountAddress, resultSign);
+            if (innerAccount != null && reader != null) {
+                balanceCache.put(contractAddress, innerAccount, balance, stamp, reader);
+            }
+            return balance;
         } catch (Exception e) {
             log.error("getBalance failed:{}", e);
             throw new OpenLedgerBaseException(ErrorCode.ASSET_GETBALEANCE_ERROR);
         }
     }
 
+    /**
+     * read balances through the cache, the cache must be fed by BalanceEventFeed
+     *
+     * @param balanceCache balance cache, null to read from chain only
+     */
+    public void setBalanceCache(BalanceCache balanceCache) {
+        this.balanceCache = balanceCache;
+    }
+
 
     /**
      * Getting a list of accounts only supports the OrgAdmin operate     * Getting a list of accounts only supports the OrgAdmin operate
@@ -318,9 +469,9 @@ public class StandardAssetService<T extends Contract> {
         try {
             List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
 
-            List resultList = asset.getHolders(resultSign);
+            List<?> resultList = asset.getHolders(resultSign);
             List<String> assetList = new ArrayList<>();
-            resultList.stream().forEach(item -> {
+            resultList.forEach(item -> {
                 assetList.add(item.toString());
             });
             return assetList;
@@ -330,9 +481,74 @@ public class StandardAssetService<T extends Contract> {
         }
     }
 
+    /**
+     * Getting the holders as an AddressSet, one compact entry per holder instead of a String
+     * only supports the OrgAdmin operate
+     *
+     * @param message args hash
+     * @param rs sign object
+     * @return holders
+     * @throws OpenLedgerBaseException
+     */
+    public AddressSet getHolderSet(@NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        try {
+            List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+
+            List<?> resultList = asset.getHolders(resultSign);
+            AddressSet holders = new AddressSet(resultList.size());
+            for (Object item : resultList) {
+                holders.add(CompactAddress.parse(item.toString()));
+            }
+            return holders;
+        } catch (Exception e) {
+            log.error("getHolderSet failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_GETACCOUNTLIST_ERROR);
+        }
+    }
+
+    /**
+     * Getting one page of the holders [start, start + num), only supports the OrgAdmin operate
+     *
+     * @param start index of the first holder
+     * @param num max holders of the page
+     * @param message args hash
+     * @param rs sign object
+     * @return holders of the page and the holder count
+     * @throws OpenLedgerBaseException
+     */
+    public Tuple2<List<String>, BigInteger> getHolders(@NonNull BigInteger start, @NonNull BigInteger num, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        return getHoldersPage(start, num, OpenLedgerUtils.convertSignToByte(message, rs));
+    }
+
+    /**
+     * stream the holders page by page, see PagedIterator
+     * only supports the OrgAdmin operate, the signature is reused by every page
+     *
+     * @param pageSize holders of each page
+     * @param prefetchExecutor executor to read the next page while the current one is consumed, null for no prefetch
+     * @param message args hash
+     * @param rs sign object
+     * @return iterator of the holders, call stream() for a Stream
+     */
+    public PagedIterator<String> getHoldersIterator(int pageSize, Executor prefetchExecutor, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+        return new PagedIterator<>(limits -> getHoldersPage(limits.get(0), limits.get(1).subtract(limits.get(0)), resultSign).getValue1(),
+                0, pageSize, prefetchExecutor);
+    }
+
+    private Tuple2<List<String>, BigInteger> getHoldersPage(BigInteger start, BigInteger num, List<byte[]> resultSign) throws OpenLedgerBaseException {
+        try {
+            return asset.getHoldersByIndex(start, num, resultSign);
+        } catch (Exception e) {
+            log.error("getHolders failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_GETACCOUNTLIST_ERROR);
+        }
+    }
+
 
     /**
      * Getting the total asset is supported only by the OrgAdmin operation
+     * the asset keeps a running total moved by deposit and withdrawal, the read does not scan the holders
      *
      * @param message args hash
      * @param rs sign by org admin
@@ -340,13 +556,36 @@ public class StandardAssetService<T extends Contract> {
      * @throws OpenLedgerBaseException
      */
     public BigInteger getTotalBalance(@NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        return getTotalBalance(message, rs, false);
+    }
+
+    /**
+     * get the total asset, optionally verified against the sum of all balances
+     * the verification scans every holder on chain, use it for audits only
+     *
+     * @param message args hash
+     * @param rs sign by org admin
+     * @param verify compare the running total with the full scan
+     * @return running total
+     * @throws OpenLedgerBaseException ASSET_TOTALBALANCE_MISMATCH if verify is set and the totals differ
+     */
+    public BigInteger getTotalBalance(@NonNull byte[] message, @NonNull ECDSASignatureResult rs, boolean verify) throws OpenLedgerBaseException {
+        Tuple2<BigInteger, BigInteger> audit;
         try {
             List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
-            return asset.getTotalBalance(resultSign);
+            if (!verify) {
+                return asset.getTotalBalance(resultSign);
+            }
+            audit = asset.auditTotalBalance(resultSign);
         } catch (Exception e) {
             log.error("getTotalBalance failed:{}", e);
             throw new OpenLedgerBaseException(ErrorCode.ASSET_GETTOTALBALEANCE_ERROR);
         }
+        if (!audit.getValue1().equals(audit.getValue2())) {
+            log.error("total balance of {} mismatch, running:{} scanned:{}", contractAddress, audit.getValue1(), audit.getValue2());
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_TOTALBALANCE_MISMATCH);
+        }
+        return audit.getValue1();
     }
 
 
@@ -380,34 +619,101 @@ public class StandardAssetService<T extends Contract> {
      * todo recommoned 数据mysql查询
      */
     public List<RecordEntity> query(Condition condition, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws Exception {
-        List<RecordEntity> recordEntities = new ArrayList<>();
         try {
             List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+            return queryPage(condition, condition.getLimits(), resultSign);
+        } catch (Exception e) {
+            log.error("query failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+        }
+    }
 
-            List records = asset.queryBook(condition.getIntParams(), condition.getAddressParams(), condition.getLimits(), resultSign);
-            for (int i = 0; i < records.size(); i++) {
-                RecordEntity recordEntity = RecordBuilder.buildRecordEntity()
-                        .withTermNo(new BigInteger(records.get(i).toString()))
-                        .withSeq(new BigInteger(records.get(++i).toString()))
-                        .withFrom(new Address(new BigInteger(records.get(++i).toString())).toString())
-                        .withTo(new Address(new BigInteger(records.get(++i).toString())).toString())
-                        .withAmount(new BigInteger(records.get(++i).toString()))
-                        .withDesc(records.get(++i).toString())
-                        .withAsset(new Address(new BigInteger(records.get(++i).toString())).toString())
-                        .withOperator(new Address(new BigInteger(records.get(++i).toString())).toString())
-                        .withTransactionType(new BigInteger(records.get(++i).toString()))
-                        .withOperationType(new BigInteger(records.get(++i).toString()))
-                        .withRelateAsset(new Address(new BigInteger(records.get(++i).toString())).toString())
-                        .withSubject(records.get(++i).toString())
-                        .build();
-                recordEntities.add(recordEntity);
-            }
-
+    /**
+     * query one page of the book in columnar form, for bulk consumers
+     *
+     * @param condition query condition
+     * @param message args hash
+     * @param rs sign by the account or the org admin
+     * @return records as parallel columns
+     * @throws OpenLedgerBaseException if the book can not be read
+     */
+    public RecordColumns queryColumns(@NonNull Condition condition, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        try {
+            List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+            return BookRecordDecoder.decodeColumns(BookRecordDecoder.queryBook(context, contractAddress,
+                    condition.getIntParams(), condition.getAddressParams(), condition.getLimits(), resultSign));
         } catch (Exception e) {
             log.error("query failed:{}", e);
             throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
         }
-        return recordEntities;
+    }
+
+    /**
+     * page through the book lazily, see PagedIterator
+     * the limits of the condition give the first offset, the signature is reused by every page
+     *
+     * @param condition query condition
+     * @param pageSize limit of each page
+     * @param prefetchExecutor executor to read the next page while the current one is consumed, null for no prefetch
+     * @param message args hash
+     * @param rs sign by the account or the org admin
+     * @return iterator of the records, call stream() for a Stream
+     */
+    public PagedIterator<RecordEntity> queryIterator(@NonNull Condition condition, int pageSize, Executor prefetchExecutor, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+        long start = condition.getLimits() == null || condition.getLimits().isEmpty() ? 0 : condition.getLimits().get(0).longValue();
+        return new PagedIterator<>(limits -> queryPage(condition, limits, resultSign), start, pageSize, prefetchExecutor);
+    }
+
+    private List<RecordEntity> queryPage(Condition condition, List<BigInteger> limits, List<byte[]> resultSign) throws ContractException {
+        byte[] output = BookRecordDecoder.queryBook(context, contractAddress, condition.getIntParams(), condition.getAddressParams(), limits, resultSign);
+        return BookRecordDecoder.decodeRecords(output);
+    }
+
+    /**
+     * query the off chain record index, pages are ordered by (termNo, seq)
+     * the first page is authorized by the contract the same as query: a queryBook call of one record
+     * with the condition and the signature must pass, the records are read from the index.
+     * the next cursor is granted to the signer of the page, a page with that cursor, the same condition
+     * and a signature of the same signer is not checked on chain again.
+     *
+     * @param condition query condition, the limits are replaced by cursor and pageSize
+     * @param cursor cursor returned by the previous page, null for the first page
+     * @param pageSize max records of the page
+     * @param message args hash
+     * @param rs sign by the account or the org admin
+     * @return page of records
+     * @throws OpenLedgerBaseException if no index is set, the caller is not allowed to query or the index can not be read
+     */
+    public RecordPage queryIndexed(@NonNull Condition condition, String cursor, int pageSize, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        if (recordIndexer == null) {
+            log.error("no record indexer of {}", contractAddress);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+        }
+        String scope = condition.getIntParams() + ":" + condition.getAddressParams();
+        String reader = OpenLedgerUtils.recoverAddress(message, rs);
+        if (cursor == null || !scope.equals(indexedCursors.get(cursor, reader))) {
+            try {
+                List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+                BookRecordDecoder.queryBook(context, contractAddress, condition.getIntParams(), condition.getAddressParams(),
+                        Arrays.asList(BigInteger.ZERO, BigInteger.ONE), resultSign);
+            } catch (Exception e) {
+                log.error("queryIndexed is not allowed:{}", e);
+                throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+            }
+        }
+        RecordPage page = recordIndexer.query(condition, cursor, pageSize);
+        if (page.hasNext() && reader != null) {
+            indexedCursors.put(page.getNextCursor(), scope, indexedCursors.stamp(page.getNextCursor()), reader);
+        }
+        return page;
+    }
+
+    /**
+     * @param recordIndexer off chain record index of this asset, null to disable queryIndexed
+     */
+    public void setRecordIndexer(RecordIndexer recordIndexer) {
+        this.recordIndexer = recordIndexer;
     }
 
     /**
@@ -423,7 +729,7 @@ public class StandardAssetService<T extends Contract> {
         try {
             List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
             TransactionReceipt transactionReceipt = asset.openAccount(account, resultSign);
-            Boolean result = transactionReceipt.isStatusOK() ? asset.getOpenAccountOutput(transactionReceipt).getValue1() : false;
+            Boolean result = getOpenAccountResult(transactionReceipt);
             return DataToolUtils.handleTransaction(transactionReceipt, result);
         } catch (Exception e) {
             log.error("openAccount failed:{}", e);
@@ -432,5 +738,246 @@ public class StandardAssetService<T extends Contract> {
 
     }
 
+    /**
+     * deposit asset to account without blocking the caller
+     * the future is completed by the sdk callback thread when the receipt arrives
+     *
+     * @param account transaction account
+     * @param amount transaction amount
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @return future of transaction result
+     */
+    public CompletableFuture<ResponseData<TransferResult>> depositAsync(@NonNull String operatorAddress, @NonNull String account, @NonNull BigInteger amount, int operationType, String desc, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        List<String> addressList = genAddress(null, account, operatorAddress, contractAddress, null);
+        return depositAsync(addressList, amount, operationType, genDetail(desc, null), message, rs);
+    }
+
+    /**
+     * withdrawal asset from account without blocking the caller
+     *
+     * @param account transaction account
+     * @param amount transaction amount
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @return future of transaction result
+     */
+    public CompletableFuture<ResponseData<TransferResult>> withdrawalAsync(@NonNull String operatorAddress, @NonNull String account, @NonNull BigInteger amount, int operationType, String desc, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        List<String> addressList = genAddress(account, null, operatorAddress, contractAddress, null);
+        return withdrawalAsync(addressList, amount, operationType, genDetail(desc, null), message, rs);
+    }
+
+    /**
+     * transfer without blocking the caller
+     *
+     * @param fromAddress account of payments
+     * @param toAddress account of receipts
+     * @param amount transaction amount
+     * @param operationType operation type custom defined
+     * @param desc description
+     * @return future of transaction result
+     */
+    public CompletableFuture<ResponseData<TransferResult>> transferAsync(@NonNull String operatorAddress, @NonNull String fromAddress, @NonNull String toAddress, @NonNull BigInteger amount, int operationType, String desc, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        List<String> addressList = genAddress(fromAddress, toAddress, operatorAddress, contractAddress, null);
+        return transferAsync(addressList, amount, operationType, genDetail(desc, null), message, rs);
+    }
+
+    /**
+     * open account without blocking the caller
+     *
+     * @param account account address
+     * @param message args hash
+     * @param rs sign y orgAdmin
+     * @return future of open result
+     */
+    public CompletableFuture<ResponseData<Boolean>> openAccountAsync(@NonNull String account, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        FutureTransactionCallback<Boolean> callback = new FutureTransactionCallback<>(this::getOpenAccountResult, ErrorCode.ASSET_UNKNOW_ERROR);
+        try {
+            asset.openAccount(account, OpenLedgerUtils.convertSignToByte(message, rs), callback);
+        } catch (Exception e) {
+            callback.onError(e);
+        }
+        return callback.getFuture();
+    }
+
+    protected CompletableFuture<ResponseData<TransferResult>> depositAsync(List<String> addressList, BigInteger amount, int operationType, List<String> detailList, byte[] message, ECDSASignatureResult rs) {
+        FutureTransactionCallback<TransferResult> callback = new FutureTransactionCallback<>(this::getDepositResult, ErrorCode.ASSET_DESIPOSIT_ERROR);
+        try {
+            asset.deposit(addressList, amount, genType(operationType), detailList, OpenLedgerUtils.convertSignToByte(message, rs), callback);
+        } catch (Exception e) {
+            callback.onError(e);
+        }
+        return callback.getFuture();
+    }
+
+    protected CompletableFuture<ResponseData<TransferResult>> withdrawalAsync(List<String> addressList, BigInteger amount, int operationType, List<String> detailList, byte[] message, ECDSASignatureResult rs) {
+        FutureTransactionCallback<TransferResult> callback = new FutureTransactionCallback<>(this::getWithdrawalResult, ErrorCode.ASSET_WITHDRAWAL_ERROR);
+        try {
+            asset.withdrawal(addressList, amount, genType(operationType), detailList, OpenLedgerUtils.convertSignToByte(message, rs), callback);
+        } catch (Exception e) {
+            callback.onError(e);
+        }
+        return callback.getFuture();
+    }
+
+    protected CompletableFuture<ResponseData<TransferResult>> transferAsync(List<String> addressList, BigInteger amount, int operationType, List<String> detailList, byte[] message, ECDSASignatureResult rs) {
+        FutureTransactionCallback<TransferResult> callback = new FutureTransactionCallback<>(this::getTransferResult, ErrorCode.ASSET_TRANSFER_ERROR);
+        try {
+            asset.transfer(addressList, amount, genType(operationType), detailList, OpenLedgerUtils.convertSignToByte(message, rs), callback);
+        } catch (Exception e) {
+            callback.onError(e);
+        }
+        return callback.getFuture();
+    }
+
+    protected ResponseData<List<TransferResult>> batchDeposit(List<String> addressList, List<BigInteger> amounts, int operationType, List<String> detailList, byte[] message, ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        try {
+            List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+            TransactionReceipt transactionReceipt = asset.batchDeposit(addressList, amounts, genType(operationType), detailList, resultSign);
+            return DataToolUtils.handleTransaction(transactionReceipt, getBatchDepositResult(transactionReceipt));
+        } catch (Exception e) {
+            log.error("batchDeposit failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_DESIPOSIT_ERROR);
+        }
+    }
+
+    protected ResponseData<List<TransferResult>> batchWithdrawal(List<String> addressList, List<BigInteger> amounts, int operationType, List<String> detailList, byte[] message, ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        try {
+            List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+            TransactionReceipt transactionReceipt = asset.batchWithdrawal(addressList, amounts, genType(operationType), detailList, resultSign);
+            return DataToolUtils.handleTransaction(transactionReceipt, getBatchWithdrawalResult(transactionReceipt));
+        } catch (Exception e) {
+            log.error("batchWithdrawal failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_WITHDRAWAL_ERROR);
+        }
+    }
+
+    protected ResponseData<List<TransferResult>> batchTransfer(List<String> addressList, List<BigInteger> amounts, int operationType, List<String> detailList, byte[] message, ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        try {
+            List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+            TransactionReceipt transactionReceipt = asset.batchTransfer(addressList, amounts, genType(operationType), detailList, resultSign);
+            return DataToolUtils.handleTransaction(transactionReceipt, getBatchTransferResult(transactionReceipt));
+        } catch (Exception e) {
+            log.error("batchTransfer failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_TRANSFER_ERROR);
+        }
+    }
+
+    /**
+     * feed the receipt of our own write to the balance cache and the record index
+     *
+     * @param transactionReceipt write receipt
+     */
+    protected void onReceipt(TransactionReceipt transactionReceipt) {
+        if (balanceCache != null) {
+            balanceCache.onReceipt(contractAddress, transactionReceipt);
+        }
+        if (recordIndexer != null) {
+            try {
+                recordIndexer.onReceipt(transactionReceipt);
+            } catch (Exception e) {
+                log.warn("index receipt {} failed, left to the event feed:{}", transactionReceipt.getTransactionHash(), e);
+            }
+        }
+    }
+
+    /**
+     * decode deposit receipt
+     *
+     * @param transactionReceipt deposit receipt
+     * @return transfer result, null if the receipt is failed
+     */
+    protected TransferResult getDepositResult(TransactionReceipt transactionReceipt) {
+        onReceipt(transactionReceipt);
+        return toTransferResult(transactionReceipt.isStatusOK() ? asset.getDepositOutput(transactionReceipt) : null);
+    }
+
+    /**
+     * decode withdrawal receipt
+     *
+     * @param transactionReceipt withdrawal receipt
+     * @return transfer result, null if the receipt is failed
+     */
+    protected TransferResult getWithdrawalResult(TransactionReceipt transactionReceipt) {
+        onReceipt(transactionReceipt);
+        return toTransferResult(transactionReceipt.isStatusOK() ? asset.getWithdrawalOutput(transactionReceipt) : null);
+    }
+
+    /**
+     * decode transfer receipt
+     *
+     * @param transactionReceipt transfer receipt
+     * @return transfer result, null if the receipt is failed
+     */
+    protected TransferResult getTransferResult(TransactionReceipt transactionReceipt) {
+        onReceipt(transactionReceipt);
+        return toTransferResult(transactionReceipt.isStatusOK() ? asset.getTransferOutput(transactionReceipt) : null);
+    }
+
+    /**
+     * decode openAccount receipt
+     *
+     * @param transactionReceipt openAccount receipt
+     * @return is opened
+     */
+    protected Boolean getOpenAccountResult(TransactionReceipt transactionReceipt) {
+        return transactionReceipt.isStatusOK() ? asset.getOpenAccountOutput(transactionReceipt).getValue1() : false;
+    }
+
+    /**
+     * decode batchDeposit receipt
+     *
+     * @param transactionReceipt batchDeposit receipt
+     * @return transfer result of each leg, null if the receipt is failed
+     */
+    protected List<TransferResult> getBatchDepositResult(TransactionReceipt transactionReceipt) {
+        onReceipt(transactionReceipt);
+        return toTransferResults(transactionReceipt.isStatusOK() ? asset.getBatchDepositOutput(transactionReceipt) : null);
+    }
+
+    /**
+     * decode batchWithdrawal receipt
+     *
+     * @param transactionReceipt batchWithdrawal receipt
+     * @return transfer result of each leg, null if the receipt is failed
+     */
+    protected List<TransferResult> getBatchWithdrawalResult(TransactionReceipt transactionReceipt) {
+        onReceipt(transactionReceipt);
+        return toTransferResults(transactionReceipt.isStatusOK() ? asset.getBatchWithdrawalOutput(transactionReceipt) : null);
+    }
+
+    /**
+     * decode batchTransfer receipt
+     *
+     * @param transactionReceipt batchTransfer receipt
+     * @return transfer result of each leg, null if the receipt is failed
+     */
+    protected List<TransferResult> getBatchTransferResult(TransactionReceipt transactionReceipt) {
+        onReceipt(transactionReceipt);
+        return toTransferResults(transactionReceipt.isStatusOK() ? asset.getBatchTransferOutput(transactionReceipt) : null);
+    }
+
+    /**
+     * the output of the batch calls is [termNo_0, seqNo_0, termNo_1, seqNo_1, ...]
+     */
+    private static List<TransferResult> toTransferResults(Tuple2<Boolean, List<BigInteger>> response) {
+        if (response == null || !response.getValue1()) {
+            return null;
+        }
+        List<BigInteger> nos = response.getValue2();
+        List<TransferResult> results = new ArrayList<>(nos.size() / 2);
+        for (int i = 0; i + 1 < nos.size(); i += 2) {
+            results.add(new TransferResult(true, nos.get(i), nos.get(i + 1)));
+        }
+        return results;
+    }
+
+    private static TransferResult toTransferResult(Tuple2<Boolean, List<BigInteger>> response) {
+        if (response != null && response.getValue1()) {
+            return new TransferResult(response.getValue1(), response.getValue2().get(0), response.getValue2().get(1));
+        }
+        return null;
+    }
+
 
 }
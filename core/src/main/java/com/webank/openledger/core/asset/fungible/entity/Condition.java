@@ -50,6 +50,10 @@ public class Condition {
      * account of recepit
      */
     private String toAddress;
+    /**
+     * operation type, only used by the off chain index (RecordIndexer), null for any
+     */
+    private BigInteger operationType;
 
     /**
      *  conditon limit start from zero
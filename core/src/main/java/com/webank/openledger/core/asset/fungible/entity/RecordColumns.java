@@ -0,0 +1,59 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.asset.fungible.entity;
+
+import java.math.BigInteger;
+
+import com.webank.openledger.utils.CompactAddress;
+
+import lombok.Getter;
+
+/**
+ * columnar form of a page of book records, column i of every array is record i
+ * for bulk consumers that scan a few columns of many records.
+ * transactionTypes and operationTypes are the signed types written by the asset.
+ */
+@Getter
+public class RecordColumns {
+    private final int size;
+    private final long[] termNos;
+    private final long[] seqs;
+    private final CompactAddress[] from;
+    private final CompactAddress[] to;
+    private final BigInteger[] amounts;
+    private final String[] descs;
+    private final CompactAddress[] assets;
+    private final CompactAddress[] operators;
+    private final long[] transactionTypes;
+    private final long[] operationTypes;
+    private final CompactAddress[] relateAssets;
+    private final String[] subjects;
+
+    public RecordColumns(int size) {
+        this.size = size;
+        this.termNos = new long[size];
+        this.seqs = new long[size];
+        this.from = new CompactAddress[size];
+        this.to = new CompactAddress[size];
+        this.amounts = new BigInteger[size];
+        this.descs = new String[size];
+        this.assets = new CompactAddress[size];
+        this.operators = new CompactAddress[size];
+        this.transactionTypes = new long[size];
+        this.operationTypes = new long[size];
+        this.relateAssets = new CompactAddress[size];
+        this.subjects = new String[size];
+    }
+}
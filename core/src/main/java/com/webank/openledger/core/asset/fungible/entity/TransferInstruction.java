@@ -0,0 +1,62 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core.asset.fungible.entity;
+
+import java.math.BigInteger;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+
+/**
+ * one leg of a batch transfer
+ * the signer's nonce is consumed by the transfer, so transfers of one signer are applied in order
+ */
+@Getter
+public class TransferInstruction {
+    /**
+     * key pair sign the transfer
+     */
+    private final CryptoKeyPair signer;
+    private final String operatorAddress;
+    private final String fromAddress;
+    private final String toAddress;
+    private final BigInteger amount;
+    private final int operationType;
+    private final String desc;
+
+    public TransferInstruction(@NonNull CryptoKeyPair signer, @NonNull String operatorAddress, @NonNull String fromAddress, @NonNull String toAddress, @NonNull BigInteger amount, int operationType, String desc) {
+        this.signer = signer;
+        this.operatorAddress = operatorAddress;
+        this.fromAddress = fromAddress;
+        this.toAddress = toAddress;
+        this.amount = amount;
+        this.operationType = operationType;
+        this.desc = desc;
+    }
+
+    @Override
+    public String toString() {
+        return "TransferInstruction{" +
+                "operatorAddress='" + operatorAddress + '\'' +
+                ", fromAddress='" + fromAddress + '\'' +
+                ", toAddress='" + toAddress + '\'' +
+                ", amount=" + amount +
+                ", operationType=" + operationType +
+                ", desc='" + desc + '\'' +
+                '}';
+    }
+}
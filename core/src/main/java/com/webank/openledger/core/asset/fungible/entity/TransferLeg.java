@@ -0,0 +1,68 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.asset.fungible.entity;
+
+import java.math.BigInteger;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * one leg of an on-chain batch deposit, withdrawal or transfer
+ * deposit legs only use toAddress, withdrawal legs only use fromAddress
+ */
+@Getter
+public class TransferLeg {
+    private final String fromAddress;
+    private final String toAddress;
+    private final BigInteger amount;
+
+    public TransferLeg(String fromAddress, String toAddress, @NonNull BigInteger amount) {
+        this.fromAddress = fromAddress;
+        this.toAddress = toAddress;
+        this.amount = amount;
+    }
+
+    /**
+     * deposit leg
+     *
+     * @param account account of receipts
+     * @param amount transaction amount
+     * @return leg
+     */
+    public static TransferLeg deposit(@NonNull String account, @NonNull BigInteger amount) {
+        return new TransferLeg(null, account, amount);
+    }
+
+    /**
+     * withdrawal leg
+     *
+     * @param account account of payments
+     * @param amount transaction amount
+     * @return leg
+     */
+    public static TransferLeg withdrawal(@NonNull String account, @NonNull BigInteger amount) {
+        return new TransferLeg(account, null, amount);
+    }
+
+    @Override
+    public String toString() {
+        return "TransferLeg{" +
+                "fromAddress='" + fromAddress + '\'' +
+                ", toAddress='" + toAddress + '\'' +
+                ", amount=" + amount +
+                '}';
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.asset.nonfungible;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.webank.openledger.core.auth.NonceManager;
+import com.webank.openledger.core.common.TimingWheel;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import com.webank.openledger.core.response.ResponseData;
+import com.webank.openledger.utils.OpenLedgerUtils;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+
+/**
+ * client side scheduler of the batch effective and expiration dates
+ * the chain only checks the dates when a note is touched, this scheduler fires a listener when a batch
+ * becomes effective or expires, e.g. to notify the holders or to run effectBatch.
+ * the dates are kept in a hierarchical timing wheel, scheduling a batch is O(1) whatever its dates are,
+ * so hundreds of thousands of batches can be loaded at start.
+ * NonFungibleAssetService keeps the scheduler in sync with the receipts of issue, updateEffectiveDate,
+ * updateExpirationDate and effectBatch, writes of other clients must be applied with schedule.
+ * dates are milliseconds, the same as the block timestamps compared by the asset.
+ */
+@Slf4j
+public class BatchScheduler implements AutoCloseable {
+    public static final long DEFAULT_TICK_MS = 1000;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final Listener listener;
+    private final LongSupplier clock;
+    private final Executor executor;
+    /**
+     * listener thread created by the scheduler, null if the executor was given
+     */
+    private final ExecutorService listenerThread;
+    private final TimingWheel<Due> wheel;
+    /**
+     * batchNo -> pending timers of the batch
+     */
+    private final Map<BigInteger, BatchTimers> batches = new HashMap<>();
+    private final ScheduledExecutorService ticker;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicLong fired = new AtomicLong();
+
+    /**
+     * fire the listener on a thread of the scheduler, one call at a time
+     *
+     * @param listener batch listener
+     */
+    public BatchScheduler(@NonNull Listener listener) {
+        this(listener, DEFAULT_TICK_MS, DEFAULT_WHEEL_SIZE, System::currentTimeMillis, null);
+    }
+
+    /**
+     * @param listener batch listener
+     * @param tickMs resolution of the dates
+     * @param wheelSize slots per wheel level, a power of 2
+     * @param clock current time in milliseconds
+     * @param executor executor of the listener calls, null to call it on a thread of the scheduler one call at a time.
+     * a slow listener, e.g. one sending effectBatch, never delays the ticks.
+     */
+    public BatchScheduler(@NonNull Listener listener, long tickMs, int wheelSize, @NonNull LongSupplier clock, Executor executor) {
+        this.listener = listener;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(tickMs, wheelSize, clock.getAsLong());
+        this.listenerThread = executor == null ? Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "batch-listener")) : null;
+        this.executor = executor == null ? listenerThread : executor;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "batch-scheduler"));
+    }
+
+    /**
+     * tick every tickMs from now on, a scheduler already started keeps its ticks
+     */
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                log.error("batch scheduler tick failed:{}", e);
+            }
+        }, wheel.getTickMs(), wheel.getTickMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * stop ticking, the listener calls already fired still run on a thread of the scheduler
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        if (listenerThread != null) {
+            listenerThread.shutdown();
+        }
+    }
+
+    /**
+     * schedule the dates of a batch, the dates scheduled before are replaced
+     * a date already passed fires on the next tick
+     *
+     * @param batchNo batchNo
+     * @param effectiveDate effective date, 0 if the batch has none
+     * @param expirationDate expiration date
+     */
+    public void schedule(@NonNull BigInteger batchNo, long effectiveDate, long expirationDate) {
+        synchronized (wheel) {
+            BatchTimers timers = batches.computeIfAbsent(batchNo, key -> new BatchTimers());
+            timers.effective = reschedule(timers.effective, batchNo, true, effectiveDate);
+            timers.expiration = reschedule(timers.expiration, batchNo, false, expirationDate);
+            release(batchNo, timers);
+        }
+    }
+
+    /**
+     * the effective date of the batch is updated
+     *
+     * @param batchNo batchNo
+     * @param effectiveDate new effective date
+     */
+    public void updateEffectiveDate(@NonNull BigInteger batchNo, long effectiveDate) {
+        synchronized (wheel) {
+            BatchTimers timers = batches.computeIfAbsent(batchNo, key -> new BatchTimers());
+            timers.effective = reschedule(timers.effective, batchNo, true, effectiveDate);
+            release(batchNo, timers);
+        }
+    }
+
+    /**
+     * the expiration date of the batch is updated
+     *
+     * @param batchNo batchNo
+     * @param expirationDate new expiration date
+     */
+    public void updateExpirationDate(@NonNull BigInteger batchNo, long expirationDate) {
+        synchronized (wheel) {
+            BatchTimers timers = batches.computeIfAbsent(batchNo, key -> new BatchTimers());
+            timers.expiration = reschedule(timers.expiration, batchNo, false, expirationDate);
+            release(batchNo, timers);
+        }
+    }
+
+    /**
+     * the batch is enabled by effectBatch, its effective date does not fire any more
+     *
+     * @param batchNo batchNo
+     */
+    public void onEffected(@NonNull BigInteger batchNo) {
+        updateEffectiveDate(batchNo, 0);
+    }
+
+    /**
+     * forget the batch
+     *
+     * @param batchNo batchNo
+     */
+    public void remove(@NonNull BigInteger batchNo) {
+        synchronized (wheel) {
+            BatchTimers timers = batches.remove(batchNo);
+            if (timers != null) {
+                wheel.cancel(timers.effective);
+                wheel.cancel(timers.expiration);
+            }
+        }
+    }
+
+    /**
+     * fire the dates passed by now, called by the ticker
+     */
+    public void tick() {
+        List<Due> dues;
+        synchronized (wheel) {
+            dues = wheel.advance(clock.getAsLong());
+            for (Due due : dues) {
+                BatchTimers timers = batches.get(due.batchNo);
+                if (timers != null) {
+                    release(due.batchNo, timers);
+                }
+            }
+        }
+        for (Due due : dues) {
+            fired.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    if (due.effective) {
+                        listener.onEffective(due.batchNo, due.date);
+                    } else {
+                        listener.onExpired(due.batchNo, due.date);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("batch listener of {} failed:{}", due.batchNo, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return batches with a pending date
+     */
+    public int size() {
+        synchronized (wheel) {
+            return batches.size();
+        }
+    }
+
+    /**
+     * @return fired dates
+     */
+    public long getFiredCount() {
+        return fired.get();
+    }
+
+    /**
+     * listener running effectBatch when the effective date of a batch passes
+     * the calls are signed one at a time so that the nonces of the admin are used in order
+     *
+     * @param service asset service
+     * @param nonceManager nonce manager of the admin
+     * @param admin admin of the org
+     * @return listener
+     */
+    public static Listener effectBatchListener(@NonNull NonFungibleAssetService service, @NonNull NonceManager nonceManager, @NonNull CryptoKeyPair admin) {
+        return new Listener() {
+            @Override
+            public synchronized void onEffective(BigInteger batchNo, long effectiveDate) {
+                BigInteger nonce;
+                try {
+                    nonce = nonceManager.reserve(admin.getAddress());
+                } catch (OpenLedgerBaseException e) {
+                    log.error("effectBatch {} failed:{}", batchNo, e);
+                    return;
+                }
+                try {
+                    byte[] message = NonFungibleAssetService.computeEffectBatchMsg(batchNo, nonce);
+                    ResponseData<Boolean> response = service.effectBatch(batchNo, message, OpenLedgerUtils.sign(admin, message));
+                    if (!nonceManager.onResponse(admin.getAddress(), response)) {
+                        log.warn("effectBatch {} failed:{}", batchNo, response.getErrMsg());
+                    }
+                } catch (Exception e) {
+                    log.error("effectBatch {} failed:{}", batchNo, e);
+                    nonceManager.onError(admin.getAddress());
+                }
+            }
+
+            @Override
+            public void onExpired(BigInteger batchNo, long expirationDate) {
+            }
+        };
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private TimingWheel.Timer<Due> reschedule(TimingWheel.Timer<Due> timer, BigInteger batchNo, boolean effective, long date) {
+        wheel.cancel(timer);
+        if (date <= 0) {
+            return null;
+        }
+        // the asset enables a batch only when its effective date is before the block time
+        return wheel.add(effective ? date + 1 : date, new Due(batchNo, effective, date));
+    }
+
+    /**
+     * forget the batch once both of its dates fired
+     */
+    private void release(BigInteger batchNo, BatchTimers timers) {
+        boolean effective = timers.effective != null && timers.effective.isPending();
+        boolean expiration = timers.expiration != null && timers.expiration.isPending();
+        if (!effective && !expiration) {
+            batches.remove(batchNo);
+        }
+    }
+
+    /**
+     * called when a date of a batch passes
+     */
+    public interface Listener {
+        /**
+         * @param batchNo batchNo
+         * @param effectiveDate effective date of the batch
+         */
+        void onEffective(BigInteger batchNo, long effectiveDate);
+
+        /**
+         * @param batchNo batchNo
+         * @param expirationDate expiration date of the batch
+         */
+        void onExpired(BigInteger batchNo, long expirationDate);
+    }
+
+    private static final class Due {
+        private final BigInteger batchNo;
+        private final boolean effective;
+        private final long date;
+
+        Due(BigInteger batchNo, boolean effective, long date) {
+            this.batchNo = batchNo;
+            this.effective = effective;
+            this.date = date;
+        }
+    }
+
+    private static final class BatchTimers {
+        private TimingWheel.Timer<Due> effective;
+        private TimingWheel.Timer<Due> expiration;
+    }
+}
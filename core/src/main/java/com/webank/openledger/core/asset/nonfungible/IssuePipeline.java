@@ -0,0 +1,296 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core.asset.nonfungible;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.webank.openledger.core.asset.nonfungible.entity.IssueNoteResult;
+import com.webank.openledger.core.asset.nonfungible.entity.IssueOption;
+import com.webank.openledger.core.auth.NonceManager;
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import com.webank.openledger.core.response.ResponseData;
+import com.webank.openledger.utils.OpenLedgerUtils;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+
+/**
+ * pipelined issue of a large IssueOption
+ * the issue is split into chunks of 10^CHUNK_DIGITS notes, chunk i issues with
+ * noteNoPrefix * 10^(noteNoSize - CHUNK_DIGITS) + i as prefix and CHUNK_DIGITS as size,
+ * so the chunks together hold the same contiguous noteNos a single issue would create:
+ * noteNoPrefix * 10^noteNoSize + 1 ... noteNoPrefix * 10^noteNoSize + amount.
+ * each chunk is its own batch, enable or update the batchNos of the results one by one.
+ * <p>
+ * at most 'window' chunks are in flight, all signed by one signer with nonces reserved through NonceManager.
+ * a chunk only creates notes if every chunk before it succeeded (a later chunk fails the nonce check),
+ * so the confirmed chunks are always a prefix: the issue stops at the first failed chunk and
+ * is resumed by submitting the same IssueOption again from the number of confirmed chunks.
+ * a chunk sent twice is rejected by the contract because its noteNo prefix is already defined.
+ * the contract also rejects an issue whose noteNos overlap a defined noteNo prefix, so once the first
+ * chunk is confirmed noteNoPrefix and noteNoSize can not be issued again, as one issue or split otherwise.
+ * the contract compares whole blocks [prefix * 10^size, (prefix + 1) * 10^size), not the noteNos actually issued,
+ * so it over-rejects: after prefix 1 size 3 amount 5 (noteNos 1001 ... 1005) prefix 19 size 2 is rejected too,
+ * although 1901 ... 1999 were never issued. the unused tail of a block can not be issued later, size the
+ * IssueOption to the notes it needs.
+ *
+ * @author pepperli
+ */
+@Slf4j
+public class IssuePipeline {
+    /**
+     * default in-flight window
+     */
+    public static final int DEFAULT_WINDOW = 16;
+    /**
+     * noteNo digits of each chunk, 100 notes stay under the 500 notes limit of one issue
+     */
+    public static final int CHUNK_DIGITS = 2;
+    /**
+     * max noteNoSize accepted by NonFungibleAsset.issue
+     */
+    private static final int MAX_NOTE_NO_SIZE = 9;
+
+    private final NonFungibleAssetService service;
+    /**
+     * signer of every chunk
+     */
+    private final CryptoKeyPair signer;
+    /**
+     * nonce reservation of the signer
+     */
+    private final NonceManager nonceManager;
+    private final int window;
+
+    public IssuePipeline(@NonNull NonFungibleAssetService service, @NonNull CryptoKeyPair signer, @NonNull NonceManager nonceManager) {
+        this(service, signer, nonceManager, DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param service asset service
+     * @param signer signer of the issue, e.g. the org admin
+     * @param nonceManager nonce reservation of the signer
+     * @param window max chunks in flight
+     */
+    public IssuePipeline(@NonNull NonFungibleAssetService service, @NonNull CryptoKeyPair signer, @NonNull NonceManager nonceManager, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window should be greater than 0");
+        }
+        this.service = service;
+        this.signer = signer;
+        this.nonceManager = nonceManager;
+        this.window = window;
+    }
+
+    /**
+     * number of chunks of the issue
+     *
+     * @param issueOption issue parameter object
+     * @return chunk count
+     * @throws OpenLedgerBaseException if amount, noteNoPrefix or noteNoSize can not be split
+     */
+    public static long chunkCount(@NonNull IssueOption issueOption) throws OpenLedgerBaseException {
+        check(issueOption);
+        BigInteger chunkSize = BigInteger.TEN.pow(chunkDigits(issueOption));
+        return issueOption.getAmount().add(chunkSize).subtract(BigInteger.ONE).divide(chunkSize).longValue();
+    }
+
+    /**
+     * split the issue into chunks
+     *
+     * @param issueOption issue parameter object
+     * @return chunks in noteNo order
+     * @throws OpenLedgerBaseException if amount, noteNoPrefix or noteNoSize can not be split
+     */
+    public static List<IssueOption> split(@NonNull IssueOption issueOption) throws OpenLedgerBaseException {
+        long count = chunkCount(issueOption);
+        List<IssueOption> chunks = new ArrayList<>((int) Math.min(count, Integer.MAX_VALUE));
+        for (long i = 0; i < count; i++) {
+            chunks.add(chunk(issueOption, i));
+        }
+        return chunks;
+    }
+
+    /**
+     * submit the chunks from 'fromChunk' on, the stream is lazy: chunks are sent while results are read
+     *
+     * @param issueOption issue parameter object
+     * @param fromChunk chunks already confirmed by a former submit, 0 for a new issue
+     * @return chunk results in noteNo order, the stream ends after the first failed chunk
+     * @throws OpenLedgerBaseException if amount, noteNoPrefix or noteNoSize can not be split
+     */
+    public Stream<ResponseData<List<IssueNoteResult>>> submit(@NonNull IssueOption issueOption, long fromChunk) throws OpenLedgerBaseException {
+        long count = chunkCount(issueOption);
+        if (fromChunk < 0 || fromChunk > count) {
+            throw new IllegalArgumentException("fromChunk:" + fromChunk + " chunkCount:" + count);
+        }
+        Iterator<ResponseData<List<IssueNoteResult>>> results = new ChunkIterator(issueOption, fromChunk, count);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * submit the chunks from 'fromChunk' on and stream the merged notes
+     * a failed chunk is thrown as IllegalStateException, its cause is the OpenLedgerBaseException of the chunk
+     * and its message holds the chunk to resume from.
+     *
+     * @param issueOption issue parameter object
+     * @param fromChunk chunks already confirmed by a former issue, 0 for a new issue
+     * @return issued notes in noteNo order
+     * @throws OpenLedgerBaseException if amount, noteNoPrefix or noteNoSize can not be split
+     */
+    public Stream<IssueNoteResult> issue(@NonNull IssueOption issueOption, long fromChunk) throws OpenLedgerBaseException {
+        AtomicLong confirmed = new AtomicLong(fromChunk);
+        return submit(issueOption, fromChunk).flatMap(response -> {
+            if (ErrorCode.SUCCESS.getCode() != response.getErrorCode()) {
+                throw new IllegalStateException("issue stopped, resume from chunk " + confirmed.get(),
+                        new OpenLedgerBaseException(response.getErrorCode(), response.getErrMsg()));
+            }
+            confirmed.incrementAndGet();
+            return response.getResult().stream();
+        });
+    }
+
+    private static void check(IssueOption issueOption) throws OpenLedgerBaseException {
+        BigInteger amount = issueOption.getAmount();
+        BigInteger noteNoPrefix = issueOption.getNoteNoPrefix();
+        BigInteger noteNoSize = issueOption.getNoteNoSize();
+        if (amount == null || noteNoPrefix == null || noteNoSize == null
+                || amount.signum() <= 0 || noteNoPrefix.signum() <= 0
+                || noteNoSize.signum() <= 0 || noteNoSize.intValue() > MAX_NOTE_NO_SIZE
+                || amount.compareTo(BigInteger.TEN.pow(noteNoSize.intValue())) > 0) {
+            log.error("can not split issue, amount:{} noteNoPrefix:{} noteNoSize:{}", amount, noteNoPrefix, noteNoSize);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_ISSUE_ERROR);
+        }
+    }
+
+    private static int chunkDigits(IssueOption issueOption) {
+        return Math.min(CHUNK_DIGITS, issueOption.getNoteNoSize().intValue());
+    }
+
+    private static IssueOption chunk(IssueOption issueOption, long index) {
+        int digits = chunkDigits(issueOption);
+        BigInteger chunkSize = BigInteger.TEN.pow(digits);
+        BigInteger start = chunkSize.multiply(BigInteger.valueOf(index));
+        BigInteger amount = issueOption.getAmount().subtract(start).min(chunkSize);
+        BigInteger noteNoPrefix = issueOption.getNoteNoPrefix()
+                .multiply(BigInteger.TEN.pow(issueOption.getNoteNoSize().intValue() - digits))
+                .add(BigInteger.valueOf(index));
+        return issueOption.withNotes(amount, noteNoPrefix, BigInteger.valueOf(digits));
+    }
+
+    /**
+     * pull the chunk results and keep the window filled, only used by the consumer thread
+     */
+    private class ChunkIterator implements Iterator<ResponseData<List<IssueNoteResult>>> {
+        private final IssueOption issueOption;
+        private final long count;
+        private final ArrayDeque<CompletableFuture<ResponseData<List<IssueNoteResult>>>> pending = new ArrayDeque<>();
+        private long next;
+        private boolean failed;
+
+        ChunkIterator(IssueOption issueOption, long fromChunk, long count) {
+            this.issueOption = issueOption;
+            this.next = fromChunk;
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public ResponseData<List<IssueNoteResult>> next() {
+            fill();
+            CompletableFuture<ResponseData<List<IssueNoteResult>>> future = pending.poll();
+            if (future == null) {
+                throw new NoSuchElementException();
+            }
+            ResponseData<List<IssueNoteResult>> response;
+            try {
+                response = future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof OpenLedgerBaseException) {
+                    OpenLedgerBaseException ex = (OpenLedgerBaseException) cause;
+                    response = new ResponseData<>(null, ex.getCode(), ex.getMessage());
+                } else {
+                    response = new ResponseData<>(null, ErrorCode.ASSET_ISSUE_ERROR);
+                }
+            }
+            if (ErrorCode.SUCCESS.getCode() != response.getErrorCode()) {
+                // the chunks behind a failed one fail their nonce check, stop here
+                failed = true;
+                pending.clear();
+            }
+            return response;
+        }
+
+        private void fill() {
+            while (!failed && pending.size() < window && next < count) {
+                pending.add(send(chunk(issueOption, next++)));
+            }
+        }
+
+        private CompletableFuture<ResponseData<List<IssueNoteResult>>> send(IssueOption chunk) {
+            String account = signer.getAddress();
+            BigInteger nonce;
+            try {
+                nonce = nonceManager.reserve(account);
+            } catch (OpenLedgerBaseException e) {
+                return failed(e);
+            }
+            try {
+                byte[] message = NonFungibleAssetService.computeIssueMsg(service.getContractAddress(), chunk, nonce);
+                ECDSASignatureResult rs = OpenLedgerUtils.sign(signer, message);
+                return service.sendIssue(chunk, message, rs)
+                        .whenComplete((response, e) -> {
+                            if (e != null) {
+                                nonceManager.onError(account);
+                            } else {
+                                nonceManager.onResponse(account, response);
+                            }
+                        });
+            } catch (Exception e) {
+                log.error("sign issue {} failed:{}", chunk, e);
+                nonceManager.onError(account);
+                return failed(new OpenLedgerBaseException(ErrorCode.ASSET_ISSUE_ERROR));
+            }
+        }
+
+        private CompletableFuture<ResponseData<List<IssueNoteResult>>> failed(OpenLedgerBaseException e) {
+            CompletableFuture<ResponseData<List<IssueNoteResult>>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+}
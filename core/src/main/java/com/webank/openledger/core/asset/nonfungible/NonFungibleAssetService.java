@@ -23,31 +23,38 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.webank.openledger.contracts.NonFungibleAsset;
 import com.webank.openledger.core.Blockchain;
+import com.webank.openledger.core.TransactionContext;
 import com.webank.openledger.core.asset.nonfungible.entity.IssueNoteResult;
 import com.webank.openledger.core.asset.nonfungible.entity.IssueOption;
 import com.webank.openledger.core.asset.nonfungible.entity.NonFungibleCondition;
 import com.webank.openledger.core.asset.nonfungible.entity.NonFungibleAssetRecord;
-import com.webank.openledger.core.asset.nonfungible.entity.NonFungibleAssetRecordBuilder;
 import com.webank.openledger.core.asset.nonfungible.entity.Note;
+import com.webank.openledger.core.asset.nonfungible.entity.NoteRange;
 import com.webank.openledger.core.asset.nonfungible.entity.TransferNoteResult;
+import com.webank.openledger.core.common.PagedIterator;
 import com.webank.openledger.core.common.ValueModel;
 import com.webank.openledger.core.constant.ErrorCode;
 import com.webank.openledger.core.exception.OpenLedgerBaseException;
 import com.webank.openledger.core.identity.IdentityService;
+import com.webank.openledger.core.response.BookRecordDecoder;
 import com.webank.openledger.core.response.DataToolUtils;
+import com.webank.openledger.core.response.FutureTransactionCallback;
 import com.webank.openledger.core.response.ResponseData;
+import com.webank.openledger.utils.CompactAddress;
 import com.webank.openledger.utils.JsonHelper;
 import com.webank.openledger.utils.OpenLedgerUtils;
+import com.webank.openledger.utils.TxMessageBuilder;
 
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.fisco.bcos.sdk.abi.datatypes.Address;
 import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
 import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple3;
 import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
@@ -80,6 +87,18 @@ public class NonFungibleAssetService {
      * eg: NonFungibleAssetService.getIdentity()
      */
     private IdentityService<NonFungibleAsset> identity;
+    /**
+     * signer context of the transactions
+     */
+    private TransactionContext context;
+    /**
+     * opt-in note cache, null to read notes from chain only
+     */
+    private NoteCache noteCache;
+    /**
+     * opt-in scheduler of the batch dates, null to not track them
+     */
+    private BatchScheduler batchScheduler;
 
     /**
      * Initialize the contract object
@@ -88,9 +107,20 @@ public class NonFungibleAssetService {
      * @param contractAddress asset contractAddress
      */
     public NonFungibleAssetService(Blockchain blockchain, String contractAddress) {
+        this(blockchain.getLedger(Blockchain.DEFAULT_LEDGERID).getContext(), contractAddress);
         this.blockchain = blockchain;
+    }
+
+    /**
+     * Initialize the contract object bind to the signer of the context
+     *
+     * @param context signer context
+     * @param contractAddress asset contractAddress
+     */
+    public NonFungibleAssetService(TransactionContext context, String contractAddress) {
+        this.context = context;
         this.contractAddress = contractAddress;
-        asset = blockchain.getLedger(Blockchain.DEFAULT_LEDGERID).getContract(contractAddress, NonFungibleAsset.class);
+        asset = context.getContract(contractAddress, NonFungibleAsset.class);
         identity = new IdentityService(this.getAsset());
     }
 
@@ -154,28 +184,9 @@ public class NonFungibleAssetService {
         List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
         TransactionReceipt transactionReceipt;
         try {
-            if (StrictMath.pow(issueOption.getAmount().doubleValue(), 1d / 10) + 1 > issueOption.getNoteNoSize().intValue()) {
-                throw new Exception("noteNoSize  is less than " + StrictMath
-                        .round(StrictMath.pow(issueOption.getAmount().doubleValue(), 1d / 10) + 1));
-            }
+            checkNoteNoSize(issueOption);
             transactionReceipt = asset.issue(issueOption.genAddressList(contractAddress), issueOption.genBigIntegerList(), issueOption.genStringValueList(), resultSign);
-            Tuple3<BigInteger, List<BigInteger>, List<BigInteger>> response = transactionReceipt.isStatusOK() ? asset.getIssueOutput(transactionReceipt) : null;
-            BigInteger batchNo = response == null ? null : response.getValue1();
-            List<BigInteger> noteNoList = response == null ? null : response.getValue2();
-            List<BigInteger> termNoAndSeqNo = response == null ? null : response.getValue3();
-            List<IssueNoteResult> notes = new ArrayList<>(noteNoList == null ? 0 : noteNoList.size());
-            AtomicInteger index = new AtomicInteger(0);
-            if (noteNoList != null) {
-                noteNoList.stream().forEach(item -> {
-                    IssueNoteResult nr = new IssueNoteResult();
-                    nr.setNoteNo(item);
-                    nr.setBatchNo(batchNo);
-                    nr.setTermNo(termNoAndSeqNo.get(2 * index.get()));
-                    nr.setSeqNo(termNoAndSeqNo.get(2 * index.getAndIncrement() + 1));
-                    notes.add(nr);
-                });
-            }
-            return DataToolUtils.handleTransaction(transactionReceipt, notes);
+            return DataToolUtils.handleTransaction(transactionReceipt, scheduleBatch(issueOption, getIssueResult(transactionReceipt)));
         } catch (Exception e) {
             log.error("issue failed:{}", e);
             throw new OpenLedgerBaseException(ErrorCode.UNKNOW_ERROR);
@@ -184,8 +195,81 @@ public class NonFungibleAssetService {
 
     }
 
+    /**
+     * Issued assets without blocking the caller
+     *
+     * @param issueOption issue parameter object
+     * @param message hash is generated by calling ComputeIssuemsg
+     * @param rs Signature object
+     * @return future of the issuing assets list
+     */
+    public CompletableFuture<ResponseData<List<IssueNoteResult>>> issueAsync(@NonNull IssueOption issueOption, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        try {
+            checkNoteNoSize(issueOption);
+        } catch (Exception e) {
+            log.error("issue failed:{}", e);
+            CompletableFuture<ResponseData<List<IssueNoteResult>>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new OpenLedgerBaseException(ErrorCode.ASSET_ISSUE_ERROR));
+            return failed;
+        }
+        return sendIssue(issueOption, message, rs);
+    }
+
+    /**
+     * send the issue without the noteNoSize estimate of issue, IssuePipeline checks the noteNo range of its chunks itself
+     */
+    CompletableFuture<ResponseData<List<IssueNoteResult>>> sendIssue(IssueOption issueOption, byte[] message, ECDSASignatureResult rs) {
+        FutureTransactionCallback<List<IssueNoteResult>> callback = new FutureTransactionCallback<>(
+                receipt -> scheduleBatch(issueOption, getIssueResult(receipt)), ErrorCode.ASSET_ISSUE_ERROR);
+        try {
+            asset.issue(issueOption.genAddressList(contractAddress), issueOption.genBigIntegerList(), issueOption.genStringValueList(),
+                    OpenLedgerUtils.convertSignToByte(message, rs), callback);
+        } catch (Exception e) {
+            callback.onError(e);
+        }
+        return callback.getFuture();
+    }
+
+    private static void checkNoteNoSize(IssueOption issueOption) throws Exception {
+        if (StrictMath.pow(issueOption.getAmount().doubleValue(), 1d / 10) + 1 > issueOption.getNoteNoSize().intValue()) {
+            throw new Exception("noteNoSize  is less than " + StrictMath
+                    .round(StrictMath.pow(issueOption.getAmount().doubleValue(), 1d / 10) + 1));
+        }
+    }
+
+    /**
+     * schedule the dates of the issued batch
+     */
+    private List<IssueNoteResult> scheduleBatch(IssueOption issueOption, List<IssueNoteResult> notes) {
+        if (batchScheduler != null && !notes.isEmpty()) {
+            batchScheduler.schedule(notes.get(0).getBatchNo(), issueOption.getEffectiveDate().longValue(), issueOption.getExpirationDate().longValue());
+        }
+        return notes;
+    }
+
+    private List<IssueNoteResult> getIssueResult(TransactionReceipt transactionReceipt) {
+        Tuple3<BigInteger, List<BigInteger>, List<BigInteger>> response = transactionReceipt.isStatusOK() ? asset.getIssueOutput(transactionReceipt) : null;
+        BigInteger batchNo = response == null ? null : response.getValue1();
+        List<BigInteger> noteNoList = response == null ? null : response.getValue2();
+        List<BigInteger> termNoAndSeqNo = response == null ? null : response.getValue3();
+        List<IssueNoteResult> notes = new ArrayList<>(noteNoList == null ? 0 : noteNoList.size());
+        AtomicInteger index = new AtomicInteger(0);
+        if (noteNoList != null) {
+            noteNoList.stream().forEach(item -> {
+                IssueNoteResult nr = new IssueNoteResult();
+                nr.setNoteNo(item);
+                nr.setBatchNo(batchNo);
+                nr.setTermNo(termNoAndSeqNo.get(2 * index.get()));
+                nr.setSeqNo(termNoAndSeqNo.get(2 * index.getAndIncrement() + 1));
+                notes.add(nr);
+            });
+        }
+        return notes;
+    }
+
     /**
      * Get asset details based on the asset noteNo
+     * read through the note cache when it is set, see setNoteCache
      *
      * @param noteNo Asset Number
      * @param message hash
@@ -194,6 +278,17 @@ public class NonFungibleAssetService {
      * @throws OpenLedgerBaseException
      */
     public Note getNoteDetail(BigInteger noteNo, String account, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        String reader = null;
+        long stamp = 0;
+        if (noteCache != null) {
+            // the reader the on chain checks would see, a hit needs a chain read that passed them for it
+            reader = OpenLedgerUtils.recoverAddress(message, rs);
+            Note cached = noteCache.getNote(contractAddress, noteNo, reader, account);
+            if (cached != null) {
+                return cached;
+            }
+            stamp = noteCache.stampNote(contractAddress, noteNo);
+        }
         List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
         try {
             Tuple4<List<String>, List<BigInteger>, List<BigInteger>, BigInteger> response = asset.getNoteDetail(noteNo, account, resultSign);
@@ -210,6 +305,9 @@ public class NonFungibleAssetService {
             note.setEffectiveDate(uintList.get(0).intValue() == 0 ? null : new Date(uintList.get(0).longValue()));
             note.setExpirationDate(new Date(uintList.get(1).longValue()));
             note.setStatus(status);
+            if (reader != null) {
+                noteCache.putNote(contractAddress, note, stamp, reader, account);
+            }
             return note;
         } catch (ContractException e) {
             log.error("getNoteDetail failed:{}", e);
@@ -244,24 +342,9 @@ public class NonFungibleAssetService {
         TransactionReceipt transactionReceipt;
         try {
             transactionReceipt = asset.transfer(transactionAddress, notes, stringValList, resultSign);
+            onReceipt(transactionReceipt);
             Tuple2<Boolean, List<BigInteger>> response = transactionReceipt.isStatusOK() ? asset.getTransferOutput(transactionReceipt) : null;
-
-            List<TransferNoteResult> transferNoteResults = new ArrayList<>();
-
-            if (response != null) {
-                TransferNoteResult transferNoteResult = null;
-                // 组装交易结果返回
-                List<BigInteger> results = response.getValue2();
-                for (int i = 0; i < notes.size(); i++) {
-                    transferNoteResult = new TransferNoteResult();
-                    transferNoteResult.setResult(response.getValue1());
-                    transferNoteResult.setTermNo(results.get(3 * i));
-                    transferNoteResult.setSeqNo(results.get(3 * i + 1));
-                    transferNoteResult.setNoteNo(results.get(3 * i + 2));
-                    transferNoteResults.add(transferNoteResult);
-                }
-            }
-            return DataToolUtils.handleTransaction(transactionReceipt, transferNoteResults);
+            return DataToolUtils.handleTransaction(transactionReceipt, toTransferNoteResults(response, notes.size()));
 
         } catch (Exception e) {
             log.error("transfer failed:{}", e);
@@ -270,9 +353,68 @@ public class NonFungibleAssetService {
 
     }
 
+    /**
+     * Asset transactions from one account to many recipients under one signature
+     * the notes of toList.get(i) are notesList.get(i)
+     *
+     * @param operator account address
+     * @param from spool out address
+     * @param toList recipient addresses
+     * @param notesList asset noteNos of each recipient
+     * @param desc description
+     * @param message hash result can be generated by calling computeBatchTransferMsg
+     * @param rs Signature object
+     * @return transaction results of each note, in the order of notesList
+     * @throws OpenLedgerBaseException
+     */
+    public ResponseData<List<TransferNoteResult>> batchTransfer(String operator, String from, @NonNull List<String> toList, @NonNull List<List<BigInteger>> notesList, String desc, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        if (toList.size() != notesList.size()) {
+            throw new OpenLedgerBaseException(ErrorCode.PARAM_IS_INVALID);
+        }
+        List<String> transactionAddress = genBatchAddress(from, toList, operator, contractAddress);
+        List<BigInteger> noteNos = genBatchNotes(notesList);
+
+        List<String> stringValList = new ArrayList<>();
+        stringValList.add(desc);
+
+        try {
+            List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+            TransactionReceipt transactionReceipt = asset.batchTransfer(transactionAddress, genNoteCounts(notesList), noteNos, stringValList, resultSign);
+            onReceipt(transactionReceipt);
+            Tuple2<Boolean, List<BigInteger>> response = transactionReceipt.isStatusOK() ? asset.getBatchTransferOutput(transactionReceipt) : null;
+            return DataToolUtils.handleTransaction(transactionReceipt, toTransferNoteResults(response, noteNos.size()));
+        } catch (Exception e) {
+            log.error("batchTransfer failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_TRANSFER_ERROR);
+        }
+    }
+
+    /**
+     * the transfer output is [termNo, seqNo, noteNo] of each note
+     */
+    private static List<TransferNoteResult> toTransferNoteResults(Tuple2<Boolean, List<BigInteger>> response, int size) {
+        List<TransferNoteResult> transferNoteResults = new ArrayList<>();
+        if (response != null) {
+            // 组装交易结果返回
+            List<BigInteger> results = response.getValue2();
+            for (int i = 0; i < size; i++) {
+                TransferNoteResult transferNoteResult = new TransferNoteResult();
+                transferNoteResult.setResult(response.getValue1());
+                transferNoteResult.setTermNo(results.get(3 * i));
+                transferNoteResult.setSeqNo(results.get(3 * i + 1));
+                transferNoteResult.setNoteNo(results.get(3 * i + 2));
+                transferNoteResults.add(transferNoteResult);
+            }
+        }
+        return transferNoteResults;
+    }
+
 
     /**
      * Query the list of assets for the account
+     * notes are listed in the order they were received until one is transferred out,
+     * then the last note of the account takes its position. pages read while the account
+     * transfers notes out may skip or repeat a note.
      *
      * @param account account address
      * @param start list queries the starting value,start from 0.
@@ -295,6 +437,42 @@ public class NonFungibleAssetService {
 
     }
 
+    /**
+     * Query the assets of the account as noteNo ranges
+     * a block of issued notes is one range until transfers split it, so the result grows with
+     * the number of ranges instead of the number of notes. the contract derives the ranges from the notes
+     * of the account on every call, and lists them in the order of getAccountNotes, which is not stable
+     * across transfers.
+     *
+     * @param account account address
+     * @param start index of the first range, start from 0
+     * @param num max ranges of the page
+     * @param message hash result
+     * @param rs Signature object
+     * @return ranges of the page and the range count of the account
+     * @throws OpenLedgerBaseException
+     */
+    public Tuple2<List<NoteRange>, BigInteger> getAccountNoteRanges(String account, BigInteger start, BigInteger num, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+
+        try {
+            Tuple3<List<BigInteger>, List<BigInteger>, BigInteger> response = asset.getAccountNoteRanges(account, start, num, resultSign);
+            List<BigInteger> starts = response.getValue1();
+            List<BigInteger> ends = response.getValue2();
+            List<NoteRange> ranges = new ArrayList<>(starts.size());
+            for (int i = 0; i < starts.size(); i++) {
+                NoteRange range = new NoteRange();
+                range.setStart(starts.get(i));
+                range.setEnd(ends.get(i));
+                ranges.add(range);
+            }
+            return new Tuple2<>(ranges, response.getValue3());
+        } catch (ContractException e) {
+            log.error("getAccountNoteRanges failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.UNKNOW_ERROR);
+        }
+    }
+
     /**
      * Update the asset noteNo
      * The asset noteNo is globally unique
@@ -313,6 +491,7 @@ public class NonFungibleAssetService {
         Boolean isUpdate;
         try {
             transactionReceipt = asset.updateNoteNo(oldNoteNo, newNoteNo, account, resultSign);
+            onReceipt(transactionReceipt);
             isUpdate = transactionReceipt.isStatusOK() ? asset.getUpdateNoteNoOutput(transactionReceipt).getValue1() : false;
             return DataToolUtils.handleTransaction(transactionReceipt, isUpdate);
         } catch (Exception e) {
@@ -350,6 +529,7 @@ public class NonFungibleAssetService {
         }
         try {
             transactionReceipt = asset.updateNoteProperties(noteNo, keys, values, account, resultSign);
+            onReceipt(transactionReceipt);
             Tuple2<List<byte[]>, List<byte[]>> itemKeyValues = transactionReceipt.isStatusOK() ? asset.getUpdateNotePropertiesOutput(transactionReceipt) : null;
             if (itemKeyValues != null && itemKeyValues.getValue1().size() > 0) {
                 ValueModel vm = null;
@@ -372,6 +552,7 @@ public class NonFungibleAssetService {
 
     /**
      * Obtaining asset attributes
+     * read through the note cache when it is set, see setNoteCache
      *
      * @param noteNo asset noteNo
      * @param account operation account address
@@ -381,6 +562,17 @@ public class NonFungibleAssetService {
      * @throws OpenLedgerBaseException
      */
     public Map<String, Object> getNoteProperties(BigInteger noteNo, String account, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        String reader = null;
+        long stamp = 0;
+        if (noteCache != null) {
+            // the reader the on chain checks would see, a hit needs a chain read that passed them for it
+            reader = OpenLedgerUtils.recoverAddress(message, rs);
+            Map<String, Object> cached = noteCache.getProperties(contractAddress, noteNo, reader, account);
+            if (cached != null) {
+                return cached;
+            }
+            stamp = noteCache.stampProperties(contractAddress, noteNo);
+        }
         List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
         HashMap<String, Object> noteItems = new HashMap<>();
 
@@ -396,7 +588,9 @@ public class NonFungibleAssetService {
                     noteItems.put(new String(itemKeyValues.getValue1().get(i)), vm.getValue());
                 }
             }
-
+            if (reader != null) {
+                noteCache.putProperties(contractAddress, noteNo, noteItems, stamp, reader, account);
+            }
             return noteItems;
         } catch (Exception e) {
             log.error("getNoteItems failed:{}", e);
@@ -420,7 +614,11 @@ public class NonFungibleAssetService {
         TransactionReceipt transactionReceipt = null;
         try {
             transactionReceipt = asset.updateNoteBatch(batchNo, BigInteger.valueOf(expirationDate.getTime()), false, account, resultSign);
+            onReceipt(transactionReceipt);
             Boolean ipUpdate = transactionReceipt.isStatusOK() ? asset.getUpdateNoteBatchOutput(transactionReceipt).getValue1() : false;
+            if (batchScheduler != null && transactionReceipt.isStatusOK()) {
+                batchScheduler.updateExpirationDate(batchNo, expirationDate.getTime());
+            }
             return DataToolUtils.handleTransaction(transactionReceipt, ipUpdate);
         } catch (Exception e) {
             e.printStackTrace();
@@ -446,7 +644,11 @@ public class NonFungibleAssetService {
         TransactionReceipt transactionReceipt = null;
         try {
             transactionReceipt = asset.updateNoteBatch(batchNo, BigInteger.valueOf(effectiveDate.getTime()), true, account, resultSign);
+            onReceipt(transactionReceipt);
             Boolean ipUpdate = transactionReceipt.isStatusOK() ? asset.getUpdateNoteBatchOutput(transactionReceipt).getValue1() : false;
+            if (batchScheduler != null && transactionReceipt.isStatusOK()) {
+                batchScheduler.updateEffectiveDate(batchNo, effectiveDate.getTime());
+            }
             return DataToolUtils.handleTransaction(transactionReceipt, ipUpdate);
         } catch (Exception e) {
             e.printStackTrace();
@@ -471,6 +673,7 @@ public class NonFungibleAssetService {
         TransactionReceipt transactionReceipt = null;
         try {
             transactionReceipt = asset.freezeNote(noteNo, account, resultSign);
+            onReceipt(transactionReceipt);
             Boolean isUpdate = transactionReceipt.isStatusOK() ? asset.getFreezeNoteOutput(transactionReceipt).getValue1() : false;
             return DataToolUtils.handleTransaction(transactionReceipt, isUpdate);
         } catch (Exception e) {
@@ -495,6 +698,7 @@ public class NonFungibleAssetService {
         TransactionReceipt transactionReceipt = null;
         try {
             transactionReceipt = asset.unfreezeNote(noteNo, account, resultSign);
+            onReceipt(transactionReceipt);
             BigInteger noteStatus = transactionReceipt.isStatusOK() ? asset.getUnfreezeNoteOutput(transactionReceipt).getValue1() : BigInteger.valueOf(-1);
             return DataToolUtils.handleTransaction(transactionReceipt, noteStatus);
         } catch (Exception e) {
@@ -512,29 +716,74 @@ public class NonFungibleAssetService {
      * @throws Exception
      */
     public List<NonFungibleAssetRecord> query(NonFungibleCondition condition, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws Exception {
-        List<NonFungibleAssetRecord> recordEntities = new ArrayList<>();
         try {
             List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
-
-            List records = asset.queryBook(condition.getIntParams(), condition.getAddressParams(), condition.getLimits(), resultSign);
-            for (int i = 0; i < records.size(); i++) {
-                NonFungibleAssetRecord recordEntity = NonFungibleAssetRecordBuilder.buildRecordEntity()
-                        .withTermNo(new BigInteger(records.get(i).toString()))
-                        .withSeq(new BigInteger(records.get(++i).toString()))
-                        .withFrom(new Address(new BigInteger(records.get(++i).toString())).toString())
-                        .withTo(new Address(new BigInteger(records.get(++i).toString())).toString())
-                        .withNoteId(new BigInteger(records.get(++i).toString()))
-                        .withDesc(records.get(++i).toString())
-                        .withAsset(new Address(new BigInteger(records.get(++i).toString())).toString())
-                        .withOperator(new Address(new BigInteger(records.get(++i).toString())).toString())
-                        .build();
-                recordEntities.add(recordEntity);
-            }
+            return queryPage(condition, condition.getLimits(), resultSign);
         } catch (Exception e) {
             log.error("query failed:{}", e);
             throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
         }
-        return recordEntities;
+    }
+
+    /**
+     * Getting one page of the holders [start, start + num), only supports the OrgAdmin operate
+     *
+     * @param start index of the first holder
+     * @param num max holders of the page
+     * @param message args hash
+     * @param rs sign object
+     * @return holders of the page and the holder count
+     * @throws OpenLedgerBaseException
+     */
+    public Tuple2<List<String>, BigInteger> getHolders(@NonNull BigInteger start, @NonNull BigInteger num, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) throws OpenLedgerBaseException {
+        return getHoldersPage(start, num, OpenLedgerUtils.convertSignToByte(message, rs));
+    }
+
+    /**
+     * stream the holders page by page, see PagedIterator
+     * only supports the OrgAdmin operate, the signature is reused by every page
+     *
+     * @param pageSize holders of each page
+     * @param prefetchExecutor executor to read the next page while the current one is consumed, null for no prefetch
+     * @param message args hash
+     * @param rs sign object
+     * @return iterator of the holders, call stream() for a Stream
+     */
+    public PagedIterator<String> getHoldersIterator(int pageSize, Executor prefetchExecutor, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+        return new PagedIterator<>(limits -> getHoldersPage(limits.get(0), limits.get(1).subtract(limits.get(0)), resultSign).getValue1(),
+                0, pageSize, prefetchExecutor);
+    }
+
+    private Tuple2<List<String>, BigInteger> getHoldersPage(BigInteger start, BigInteger num, List<byte[]> resultSign) throws OpenLedgerBaseException {
+        try {
+            return asset.getHoldersByIndex(start, num, resultSign);
+        } catch (Exception e) {
+            log.error("getHolders failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_GETACCOUNTLIST_ERROR);
+        }
+    }
+
+    /**
+     * page through the book lazily, see PagedIterator
+     * the limits of the condition give the first offset, the signature is reused by every page
+     *
+     * @param condition query parameters
+     * @param pageSize limit of each page
+     * @param prefetchExecutor executor to read the next page while the current one is consumed, null for no prefetch
+     * @param message args hash result
+     * @param rs signature object
+     * @return iterator of the records, call stream() for a Stream
+     */
+    public PagedIterator<NonFungibleAssetRecord> queryIterator(@NonNull NonFungibleCondition condition, int pageSize, Executor prefetchExecutor, @NonNull byte[] message, @NonNull ECDSASignatureResult rs) {
+        List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
+        long start = condition.getLimits() == null || condition.getLimits().isEmpty() ? 0 : condition.getLimits().get(0).longValue();
+        return new PagedIterator<>(limits -> queryPage(condition, limits, resultSign), start, pageSize, prefetchExecutor);
+    }
+
+    private List<NonFungibleAssetRecord> queryPage(NonFungibleCondition condition, List<BigInteger> limits, List<byte[]> resultSign) throws ContractException {
+        byte[] output = BookRecordDecoder.queryBook(context, contractAddress, condition.getIntParams(), condition.getAddressParams(), limits, resultSign);
+        return BookRecordDecoder.decodeNoteRecords(output);
     }
 
 
@@ -555,6 +804,7 @@ public class NonFungibleAssetService {
         Boolean isBurn = false;
         try {
             transactionReceipt = asset.tearNote(noteNo, account, resultSign);
+            onReceipt(transactionReceipt);
             isBurn = transactionReceipt.isStatusOK() ? asset.getTearNoteOutput(transactionReceipt).getValue1() : false;
         } catch (Exception e) {
             log.error("query failed:{}", e);
@@ -581,6 +831,7 @@ public class NonFungibleAssetService {
 
     /**
      * effect batch
+     * the cost does not depend on the batch size, the notes of the batch are read as effective from now on
      *
      * @param batchNo asset batchNo
      * @param message args hash result
@@ -593,7 +844,11 @@ public class NonFungibleAssetService {
             List<byte[]> resultSign = OpenLedgerUtils.convertSignToByte(message, rs);
 
             TransactionReceipt transactionReceipt = asset.enableBatch(batchNo, resultSign);
+            onReceipt(transactionReceipt);
             Boolean result = transactionReceipt.isStatusOK() ? asset.getEnableBatchOutput(transactionReceipt).getValue1() : false;
+            if (batchScheduler != null && Boolean.TRUE.equals(result)) {
+                batchScheduler.onEffected(batchNo);
+            }
             return DataToolUtils.handleTransaction(transactionReceipt, result);
         } catch (Exception e) {
             log.error("enableBatch failed:{}", e);
@@ -620,46 +875,106 @@ public class NonFungibleAssetService {
         }
     }
 
+    /**
+     * read note details and properties through the cache, the cache must be fed by NoteEventFeed
+     *
+     * @param noteCache note cache, null to read from chain only
+     */
+    public void setNoteCache(NoteCache noteCache) {
+        this.noteCache = noteCache;
+    }
+
+    /**
+     * keep the scheduler in sync with the issue, updateEffectiveDate, updateExpirationDate and effectBatch of this service
+     *
+     * @param batchScheduler batch scheduler, null to not track the batch dates
+     */
+    public void setBatchScheduler(BatchScheduler batchScheduler) {
+        this.batchScheduler = batchScheduler;
+    }
+
+    /**
+     * feed the receipt of our own write to the note cache
+     *
+     * @param transactionReceipt write receipt
+     */
+    private void onReceipt(TransactionReceipt transactionReceipt) {
+        if (noteCache != null) {
+            noteCache.onReceipt(contractAddress, transactionReceipt);
+        }
+    }
+
     public static byte[] computeIssueMsg(String assetAddress, IssueOption issueOption, BigInteger nonce) throws Exception {
-        byte[] result = new byte[0];
         List<String> transactionAddress = issueOption.genAddressList(assetAddress);
         List<BigInteger> uint256Args = issueOption.genBigIntegerList();
         List<String> stringValList = issueOption.genStringValueList();
-        for (String item : transactionAddress) {
-            result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.convertStringToAddressByte(item));
-        }
-        for (BigInteger item : uint256Args) {
-            result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.getBytes32(item.toByteArray()));
-        }
-
-        for (String item : stringValList) {
-            result = OpenLedgerUtils.concatByte(result, item.getBytes("utf-8"));
-        }
-
-        result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.getBytes32(nonce.toByteArray()));
+        return TxMessageBuilder.local()
+                .addresses(transactionAddress)
+                .uint256s(uint256Args)
+                .utf8s(stringValList)
+                .uint256(nonce)
+                .hash();
+    }
 
-        return OpenLedgerUtils.computeKeccak256Hash(result);
+    public static byte[] computeEffectBatchMsg(BigInteger batchNo, BigInteger nonce) {
+        return TxMessageBuilder.local()
+                .uint256(batchNo)
+                .uint256(nonce)
+                .hash();
     }
 
     public static byte[] computeTransferMsg(String contractAddress, String operator, String from, String to, List<BigInteger> notes, String desc, BigInteger nonce) throws OpenLedgerBaseException, UnsupportedEncodingException {
-        byte[] result = new byte[0];
-        List<String> transactionAddress = genAddress(from, to, operator, contractAddress);
-        List<String> stringValList = new ArrayList<>();
-        stringValList.add(desc);
-        for (String item : transactionAddress) {
-            result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.convertStringToAddressByte(item));
+        return TxMessageBuilder.local()
+                .addresses(genAddress(from, to, operator, contractAddress))
+                .uint256s(notes)
+                .utf8(desc)
+                .uint256(nonce)
+                .hash();
+    }
+
+    public static byte[] computeBatchTransferMsg(String contractAddress, String operator, String from, List<String> toList, List<List<BigInteger>> notesList, String desc, BigInteger nonce) throws OpenLedgerBaseException, UnsupportedEncodingException {
+        TxMessageBuilder builder = TxMessageBuilder.local().addresses(genBatchAddress(from, toList, operator, contractAddress));
+        for (List<BigInteger> notes : notesList) {
+            builder.uint256(notes.size());
         }
-        for (BigInteger item : notes) {
-            result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.getBytes32(item.toByteArray()));
+        for (List<BigInteger> notes : notesList) {
+            builder.uint256s(notes);
         }
+        return builder.utf8(desc).uint256(nonce).hash();
+    }
 
-        for (String item : stringValList) {
-            result = OpenLedgerUtils.concatByte(result, item.getBytes("utf-8"));
-        }
+    /**
+     * batch transfer address list [operator, asset, from, to_0, to_1, ...]
+     */
+    public static List<String> genBatchAddress(String fromAddress, List<String> toList, String operatorAddress, String assetAddress) {
+        List<String> addressList = new ArrayList<>(3 + toList.size());
+        addressList.add(operatorAddress);
+        addressList.add(assetAddress);
+        addressList.add(fromAddress);
+        addressList.addAll(toList);
+        return addressList;
+    }
 
-        result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.getBytes32(nonce.toByteArray()));
+    /**
+     * number of notes of each recipient
+     */
+    public static List<BigInteger> genNoteCounts(List<List<BigInteger>> notesList) {
+        List<BigInteger> noteCounts = new ArrayList<>(notesList.size());
+        for (List<BigInteger> notes : notesList) {
+            noteCounts.add(BigInteger.valueOf(notes.size()));
+        }
+        return noteCounts;
+    }
 
-        return OpenLedgerUtils.computeKeccak256Hash(result);
+    /**
+     * notes of all recipients in recipient order
+     */
+    public static List<BigInteger> genBatchNotes(List<List<BigInteger>> notesList) {
+        List<BigInteger> noteNos = new ArrayList<>();
+        for (List<BigInteger> notes : notesList) {
+            noteNos.addAll(notes);
+        }
+        return noteNos;
     }
 
     public static List<String> genAddress(String fromAddress, String toAddress, String operatorAddress, String assetAddress) {
@@ -667,11 +982,11 @@ public class NonFungibleAssetService {
         addressList.add(operatorAddress);
         addressList.add(assetAddress);
         if (StringUtils.isBlank(fromAddress)) {
-            fromAddress = Address.DEFAULT.getValue();
+            fromAddress = CompactAddress.ZERO_HEX;
         }
         addressList.add(fromAddress);
         if (StringUtils.isBlank(toAddress)) {
-            toAddress = Address.DEFAULT.getValue();
+            toAddress = CompactAddress.ZERO_HEX;
         }
         addressList.add(toAddress);
         return addressList;
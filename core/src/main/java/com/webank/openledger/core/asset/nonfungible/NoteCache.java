@@ -0,0 +1,309 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.asset.nonfungible;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.webank.openledger.core.asset.nonfungible.entity.Note;
+import com.webank.openledger.core.common.ReadCache;
+import com.webank.openledger.utils.CompactAddress;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+
+/**
+ * read through cache of the decoded note details and note properties per (asset, noteNo)
+ * an entry is dropped by the LogNoteStatus/LogNoteUpdate events of its noteNo and by the LogBatchUpdate event of its batch.
+ * events come from a subscription (see NoteEventFeed) and from the receipts of our own writes.
+ * reads never block: a miss or a cache without a live feed returns null and the caller reads from chain.
+ * a read started before an event of its note is not installed, see stampNote and stampProperties.
+ * an entry is only served to the (reader, account) pairs whose chain read of it passed the signature, issuer and
+ * account checks of getNoteDetail or getNoteProperties, the reader is recovered from the signature of the call.
+ * roles and account status have no asset events, call clear after changing them.
+ */
+@Slf4j
+public class NoteCache {
+    public static final int DEFAULT_MAX_SIZE = ReadCache.DEFAULT_MAX_SIZE;
+
+    static final String NOTE_STATUS_TOPIC = ReadCache.topic("LogNoteStatus(uint256,uint256,uint8)");
+    static final String NOTE_UPDATE_TOPIC = ReadCache.topic("LogNoteUpdate(uint256)");
+    static final String BATCH_UPDATE_TOPIC = ReadCache.topic("LogBatchUpdate(uint256)");
+
+    private final ReadCache<NoteKey, Note> details;
+    private final ReadCache<NoteKey, Map<String, Object>> properties;
+
+    public NoteCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize max cached note details, and max cached note properties
+     */
+    public NoteCache(int maxSize) {
+        this.details = new ReadCache<>(maxSize, NoteCache::sameNote);
+        this.properties = new ReadCache<>(maxSize);
+    }
+
+    /**
+     * take before the chain read, pass to putNote
+     *
+     * @param asset asset contract address
+     * @param noteNo note noteNo
+     * @return stamp of the read
+     */
+    public long stampNote(String asset, BigInteger noteNo) {
+        return details.stamp(new NoteKey(asset, noteNo));
+    }
+
+    /**
+     * take before the chain read, pass to putProperties
+     *
+     * @param asset asset contract address
+     * @param noteNo note noteNo
+     * @return stamp of the read
+     */
+    public long stampProperties(String asset, BigInteger noteNo) {
+        return properties.stamp(new NoteKey(asset, noteNo));
+    }
+
+    /**
+     * cached note detail
+     *
+     * @param asset asset contract address
+     * @param noteNo note noteNo
+     * @param reader address recovered from the signature of the call
+     * @param account account of the call
+     * @return copy of the note, null if the caller should read from chain
+     */
+    public Note getNote(String asset, BigInteger noteNo, String reader, String account) {
+        Note note = details.get(new NoteKey(asset, noteNo), reader == null ? null : ReadCache.grant(reader, account));
+        return note == null ? null : copy(note);
+    }
+
+    /**
+     * cached note properties
+     *
+     * @param asset asset contract address
+     * @param noteNo note noteNo
+     * @param reader address recovered from the signature of the call
+     * @param account account of the call
+     * @return copy of the properties, null if the caller should read from chain
+     */
+    public Map<String, Object> getProperties(String asset, BigInteger noteNo, String reader, String account) {
+        Map<String, Object> value = properties.get(new NoteKey(asset, noteNo), reader == null ? null : ReadCache.grant(reader, account));
+        return value == null ? null : new HashMap<>(value);
+    }
+
+    /**
+     * install a note detail read from chain that passed the checks of getNoteDetail for the reader and account
+     * a note that does not exist is not cached, it may be issued later without an event of its noteNo
+     *
+     * @param asset asset contract address
+     * @param note note read from chain
+     * @param stamp stamp taken before the read
+     * @param reader address recovered from the signature of the read
+     * @param account account of the read
+     */
+    public void putNote(String asset, @NonNull Note note, long stamp, @NonNull String reader, String account) {
+        if (note.getOwner() == null || CompactAddress.parse(note.getOwner()).isZero()) {
+            return;
+        }
+        details.put(new NoteKey(asset, note.getNoteNo()), copy(note), stamp, ReadCache.grant(reader, account));
+    }
+
+    /**
+     * install the note properties read from chain that passed the checks of getNoteProperties for the reader and account
+     *
+     * @param asset asset contract address
+     * @param noteNo note noteNo
+     * @param value properties read from chain
+     * @param stamp stamp taken before the read
+     * @param reader address recovered from the signature of the read
+     * @param account account of the read
+     */
+    public void putProperties(String asset, BigInteger noteNo, @NonNull Map<String, Object> value, long stamp, @NonNull String reader, String account) {
+        properties.put(new NoteKey(asset, noteNo), Collections.unmodifiableMap(new HashMap<>(value)), stamp, ReadCache.grant(reader, account));
+    }
+
+    /**
+     * apply a log of the asset contract, other logs are ignored
+     *
+     * @param asset asset contract address
+     * @param topics log topics
+     * @param data log data
+     */
+    public void onLog(String asset, List<String> topics, String data) {
+        if (topics == null || topics.isEmpty() || data == null) {
+            return;
+        }
+        String topic = topics.get(0);
+        boolean batch = BATCH_UPDATE_TOPIC.equalsIgnoreCase(topic);
+        if (!batch && !NOTE_STATUS_TOPIC.equalsIgnoreCase(topic) && !NOTE_UPDATE_TOPIC.equalsIgnoreCase(topic)) {
+            return;
+        }
+        try {
+            // noteNo and batchNo are the first word of the events
+            BigInteger value = ReadCache.word(data, 0);
+            if (batch) {
+                evictBatch(asset, value);
+            } else {
+                evict(asset, value);
+            }
+        } catch (RuntimeException e) {
+            log.error("decode note event of {} failed", asset, e);
+            onGap();
+        }
+    }
+
+    /**
+     * apply the logs of a receipt, the receipt of a failed transaction has no logs
+     *
+     * @param asset asset contract address
+     * @param receipt transaction receipt
+     */
+    public void onReceipt(String asset, TransactionReceipt receipt) {
+        for (TransactionReceipt.Logs item : ReadCache.logsOf(asset, receipt)) {
+            onLog(asset, item.getTopics(), item.getData());
+        }
+    }
+
+    /**
+     * the event feed is complete from now on, reads can be served
+     * a read stamped before is not installed, it may have missed an event
+     */
+    public void markLive() {
+        details.markLive();
+        properties.markLive();
+    }
+
+    public boolean isLive() {
+        return details.isLive() && properties.isLive();
+    }
+
+    /**
+     * events may have been missed, e.g. the subscription failed
+     * every entry is dropped and reads fall back to chain until the feed is live again
+     */
+    public void onGap() {
+        details.onGap();
+        properties.onGap();
+    }
+
+    /**
+     * drop the cached note
+     *
+     * @param asset asset contract address
+     * @param noteNo note noteNo
+     */
+    public void evict(String asset, BigInteger noteNo) {
+        NoteKey key = new NoteKey(asset, noteNo);
+        details.invalidate(key);
+        properties.invalidate(key);
+    }
+
+    /**
+     * drop the cached details of the notes in the batch, the properties do not depend on the batch
+     *
+     * @param asset asset contract address
+     * @param batchNo batchNo
+     */
+    public void evictBatch(String asset, @NonNull BigInteger batchNo) {
+        CompactAddress address = CompactAddress.parse(asset);
+        // the batch of a note is unknown before its read, every read in flight is dropped
+        details.invalidateIf((key, note) -> key.asset.equals(address) && batchNo.equals(note.getBatchNo()));
+    }
+
+    public void clear() {
+        details.clear();
+        properties.clear();
+    }
+
+    /**
+     * @return cached note details and note properties
+     */
+    public int size() {
+        return details.size() + properties.size();
+    }
+
+    public long getHitCount() {
+        return details.getHitCount() + properties.getHitCount();
+    }
+
+    public long getMissCount() {
+        return details.getMissCount() + properties.getMissCount();
+    }
+
+    /**
+     * @return number of applied note and batch events
+     */
+    public long getInvalidationCount() {
+        return details.getInvalidationCount();
+    }
+
+    private static Note copy(Note note) {
+        Note copy = new Note();
+        copy.setNoteNo(note.getNoteNo());
+        copy.setOwner(note.getOwner());
+        copy.setIssuer(note.getIssuer());
+        copy.setBatchNo(note.getBatchNo());
+        copy.setStatus(note.getStatus());
+        copy.setEffectiveDate(note.getEffectiveDate() == null ? null : new Date(note.getEffectiveDate().getTime()));
+        copy.setExpirationDate(note.getExpirationDate() == null ? null : new Date(note.getExpirationDate().getTime()));
+        return copy;
+    }
+
+    private static boolean sameNote(Note a, Note b) {
+        return Objects.equals(a.getNoteNo(), b.getNoteNo()) && Objects.equals(a.getOwner(), b.getOwner())
+                && Objects.equals(a.getIssuer(), b.getIssuer()) && Objects.equals(a.getBatchNo(), b.getBatchNo())
+                && Objects.equals(a.getStatus(), b.getStatus()) && Objects.equals(a.getEffectiveDate(), b.getEffectiveDate())
+                && Objects.equals(a.getExpirationDate(), b.getExpirationDate());
+    }
+
+    private static final class NoteKey {
+        private final CompactAddress asset;
+        private final BigInteger noteNo;
+        private final int hash;
+
+        NoteKey(String asset, @NonNull BigInteger noteNo) {
+            this.asset = CompactAddress.parse(asset);
+            this.noteNo = noteNo;
+            this.hash = 31 * this.asset.hashCode() + noteNo.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NoteKey)) {
+                return false;
+            }
+            NoteKey that = (NoteKey) o;
+            return noteNo.equals(that.noteNo) && asset.equals(that.asset);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.asset.nonfungible;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.eventsub.EventCallback;
+import org.fisco.bcos.sdk.eventsub.EventLogParams;
+import org.fisco.bcos.sdk.eventsub.EventSubscribe;
+import org.fisco.bcos.sdk.model.EventLog;
+
+/**
+ * feed the logs of one nonfungible asset contract into a NoteCache
+ * the cache is marked live by the first push of the node, the subscription is not in place before it.
+ * a failed push is a gap: the cache is dropped and reads fall back to chain until the asset is subscribed again.
+ */
+@Slf4j
+public class NoteEventFeed implements EventCallback {
+    private final NoteCache cache;
+    private final String asset;
+    private volatile boolean failed;
+
+    public NoteEventFeed(@NonNull NoteCache cache, @NonNull String asset) {
+        this.cache = cache;
+        this.asset = asset;
+    }
+
+    /**
+     * subscribe the logs of the asset from the latest block, the cache is live from the first push on
+     * the event subscribe must be started by the caller
+     *
+     * @param eventSubscribe event subscribe of the group, e.g. BcosSDK.getEventSubscribe(groupId)
+     * @param asset asset contract address
+     * @param cache note cache
+     * @return subscription id, for EventSubscribe.unsubscribeEvent
+     */
+    public static String subscribe(@NonNull EventSubscribe eventSubscribe, @NonNull String asset, @NonNull NoteCache cache) {
+        EventLogParams params = new EventLogParams();
+        params.setFromBlock("latest");
+        params.setToBlock("-1");
+        params.setAddresses(Collections.singletonList(asset));
+        params.setTopics(new ArrayList<>());
+        return eventSubscribe.subscribeEvent(params, new NoteEventFeed(cache, asset));
+    }
+
+    @Override
+    public void onReceiveLog(int status, List<EventLog> logs) {
+        if (status != 0) {
+            log.warn("note event push of {} failed, status:{}", asset, status);
+            failed = true;
+            cache.onGap();
+            return;
+        }
+        if (failed) {
+            return;
+        }
+        if (!cache.isLive()) {
+            cache.markLive();
+        }
+        if (logs == null) {
+            return;
+        }
+        for (EventLog item : logs) {
+            cache.onLog(asset, item.getTopics(), item.getData());
+        }
+    }
+}
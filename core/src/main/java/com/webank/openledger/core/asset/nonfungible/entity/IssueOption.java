@@ -20,11 +20,12 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import com.webank.openledger.utils.CompactAddress;
+
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
-import org.fisco.bcos.sdk.abi.datatypes.Address;
 
 /**
  * Issue parameter object
@@ -83,6 +84,27 @@ public class IssueOption {
         return BigInteger.valueOf(expirationDate.getTime());
     }
 
+    /**
+     * copy of this option issuing another range of notes, used to split a large issue
+     *
+     * @param amount issue amount of the copy
+     * @param noteNoPrefix noteNo prefix of the copy
+     * @param noteNoSize number of noteNo digits of the copy
+     * @return copy with the same issuer, operator, dates and desc
+     */
+    public IssueOption withNotes(BigInteger amount, BigInteger noteNoPrefix, BigInteger noteNoSize) {
+        IssueOption option = new IssueOption();
+        option.setIssuer(issuer);
+        option.setOperator(operator);
+        option.setAmount(amount);
+        option.setNoteNoPrefix(noteNoPrefix);
+        option.setNoteNoSize(noteNoSize);
+        option.setEffectiveDate(effectiveDate);
+        option.setExpirationDate(expirationDate);
+        option.setDesc(desc);
+        return option;
+    }
+
     /**
      * Build a list of Address types for issue and trade parameter construction
      *
@@ -97,7 +119,7 @@ public class IssueOption {
         List<String> transactionAddress = new ArrayList<>();
         transactionAddress.add(this.getOperator());
         transactionAddress.add(contractAddress);
-        transactionAddress.add(Address.DEFAULT.getValue());
+        transactionAddress.add(CompactAddress.ZERO_HEX);
         transactionAddress.add(this.getIssuer());
         return transactionAddress;
     }
@@ -179,6 +179,23 @@ public class AuthCenterService<T extends Contract> {
         return new ResponseData<>(ret, ErrorCode.SUCCESS);
     }
 
+    /**
+     * get the inner account of an external account
+     * asset balances and events are keyed by the inner account
+     * @param account external account address
+     * @return inner account address, zero address if the account is not found
+     */
+    public ResponseData<String> getInnerAccount(String account) {
+        Tuple2<String, Boolean> ret = null;
+        try {
+            ret = contractIns.getInnerAccountAndStatus(account);
+        } catch (ContractException e) {
+            log.error("getInnerAccount contract execute error:{}", e.toString());
+            return new ResponseData<>(null, ErrorCode.TRANSACTION_EXECUTE_ERROR);
+        }
+        return new ResponseData<>(ret.getValue1(), ErrorCode.SUCCESS);
+    }
+
     /**
      * check if nonce verify
      * before account transfer will check account nonce
@@ -0,0 +1,259 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core.auth;
+
+import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import com.webank.openledger.core.response.DataToolUtils;
+import com.webank.openledger.core.response.ResponseData;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+
+/**
+ * client side nonce reservation
+ * the nonce of an account is read once from AuthCenter.getNonceFromAccount and then handed out
+ * locally in increasing order, so one account can have many signed calls in flight.
+ * every reserved nonce must be reported once by onReceipt, onResponse or onError.
+ * a failed call never consumes its nonce (the nonce update is rolled back with the transaction), so the calls
+ * signed after it fail their nonce check too. the local nonce is then read from chain again, but only once
+ * the calls in flight are reported: reading it earlier could hand out a nonce still used by a pending call.
+ * reserve waits meanwhile, at most drainTimeout: the calls still unreported then are taken as lost and the nonce
+ * is read from chain anyway.
+ */
+@Slf4j
+public class NonceManager {
+    /**
+     * revert message of AuthCenter.checkNonce
+     */
+    public static final String NONCE_ERROR_MESSAGE = "args or nonce not verify";
+    public static final long DEFAULT_DRAIN_TIMEOUT_MS = 60000L;
+
+    /**
+     * account address -> nonce on chain
+     */
+    private final Function<String, BigInteger> nonceSource;
+    /**
+     * max wait of reserve for the calls in flight to be reported
+     */
+    private final long drainTimeoutMs;
+    /**
+     * account address -> reservation state
+     */
+    private final ConcurrentMap<String, AccountNonce> accounts = new ConcurrentHashMap<>();
+
+    /**
+     * read nonce by AuthCenter.getNonceFromAccount
+     *
+     * @param authCenterService authCenter service
+     */
+    public NonceManager(@NonNull AuthCenterService<?> authCenterService) {
+        this(account -> {
+            ResponseData<BigInteger> nonce = authCenterService.getNonceFromAccount(account);
+            return ErrorCode.SUCCESS.getCode() == nonce.getErrorCode() ? nonce.getResult() : null;
+        });
+    }
+
+    /**
+     * @param nonceSource account address -> nonce on chain, null if the nonce can not be read
+     */
+    public NonceManager(@NonNull Function<String, BigInteger> nonceSource) {
+        this(nonceSource, DEFAULT_DRAIN_TIMEOUT_MS);
+    }
+
+    /**
+     * @param nonceSource account address -> nonce on chain, null if the nonce can not be read
+     * @param drainTimeoutMs max wait of reserve for the calls in flight, the nonce is read from chain after it
+     */
+    public NonceManager(@NonNull Function<String, BigInteger> nonceSource, long drainTimeoutMs) {
+        if (drainTimeoutMs <= 0) {
+            throw new IllegalArgumentException("drainTimeoutMs should be greater than 0");
+        }
+        this.nonceSource = nonceSource;
+        this.drainTimeoutMs = drainTimeoutMs;
+    }
+
+    /**
+     * reserve the next nonce of the account
+     *
+     * @param account account address
+     * @return nonce to sign with
+     * @throws OpenLedgerBaseException if the nonce can not be read from chain
+     */
+    public BigInteger reserve(@NonNull String account) throws OpenLedgerBaseException {
+        AccountNonce state = accounts.computeIfAbsent(account.toLowerCase(), key -> new AccountNonce());
+        synchronized (state) {
+            long deadline = System.currentTimeMillis() + drainTimeoutMs;
+            while (state.stale && state.inFlight > 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    log.warn("{} calls of {} not reported in {}ms, reload nonce from chain", state.inFlight, account, drainTimeoutMs);
+                    state.inFlight = 0;
+                    drain(state);
+                    break;
+                }
+                try {
+                    state.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new OpenLedgerBaseException(ErrorCode.TRANSACTION_EXECUTE_ERROR);
+                }
+            }
+            if (state.next == null) {
+                BigInteger current = nonceSource.apply(account);
+                if (current == null) {
+                    log.error("getNonceFromAccount failed:{}", account);
+                    throw new OpenLedgerBaseException(ErrorCode.TRANSACTION_EXECUTE_ERROR);
+                }
+                state.next = current;
+            }
+            BigInteger nonce = state.next;
+            state.next = nonce.add(BigInteger.ONE);
+            state.inFlight++;
+            return nonce;
+        }
+    }
+
+    /**
+     * report the receipt of a call signed with a reserved nonce
+     *
+     * @param account account address
+     * @param receipt transaction receipt
+     * @return true if the nonce is consumed
+     */
+    public boolean onReceipt(@NonNull String account, @NonNull TransactionReceipt receipt) {
+        if (isNonceError(receipt)) {
+            log.warn("nonce of {} is out of sync, reload from chain", account);
+        }
+        return complete(account, receipt.isStatusOK());
+    }
+
+    /**
+     * report the decoded response of a call signed with a reserved nonce
+     *
+     * @param account account address
+     * @param response response of the call
+     * @return true if the nonce is consumed
+     */
+    public boolean onResponse(@NonNull String account, @NonNull ResponseData<?> response) {
+        if (isNonceError(response)) {
+            log.warn("nonce of {} is out of sync, reload from chain", account);
+        }
+        return complete(account, ErrorCode.SUCCESS.getCode() == response.getErrorCode());
+    }
+
+    /**
+     * report a call signed with a reserved nonce that failed without a receipt, e.g. it could not be sent
+     *
+     * @param account account address
+     */
+    public void onError(@NonNull String account) {
+        complete(account, false);
+    }
+
+    /**
+     * read the nonce of the account from chain again, once its calls in flight are reported
+     *
+     * @param account account address
+     */
+    public void resync(@NonNull String account) {
+        AccountNonce state = accounts.get(account.toLowerCase());
+        if (state != null) {
+            synchronized (state) {
+                state.stale = true;
+                drain(state);
+            }
+        }
+    }
+
+    /**
+     * forget all accounts
+     */
+    public void clear() {
+        accounts.clear();
+    }
+
+    /**
+     * check if the receipt is reverted by AuthCenter.checkNonce
+     *
+     * @param receipt transaction receipt
+     * @return true if the nonce is not verify
+     */
+    public static boolean isNonceError(TransactionReceipt receipt) {
+        if (receipt.isStatusOK() || receipt.getOutput() == null) {
+            return false;
+        }
+        try {
+            return DataToolUtils.decodeOutputReturnString0x16(receipt.getOutput()).contains(NONCE_ERROR_MESSAGE);
+        } catch (Exception e) {
+            log.warn("decode revert message failed:{}", receipt.getOutput());
+            return false;
+        }
+    }
+
+    /**
+     * check if the response is reverted by AuthCenter.checkNonce
+     *
+     * @param response response of a call
+     * @return true if the nonce is not verify
+     */
+    public static boolean isNonceError(ResponseData<?> response) {
+        return response.getErrMsg() != null && response.getErrMsg().contains(NONCE_ERROR_MESSAGE);
+    }
+
+    private boolean complete(String account, boolean consumed) {
+        AccountNonce state = accounts.get(account.toLowerCase());
+        if (state == null) {
+            return consumed;
+        }
+        synchronized (state) {
+            if (state.inFlight > 0) {
+                state.inFlight--;
+            }
+            if (!consumed) {
+                state.stale = true;
+            }
+            drain(state);
+        }
+        return consumed;
+    }
+
+    private static void drain(AccountNonce state) {
+        if (state.stale && state.inFlight == 0) {
+            state.next = null;
+            state.stale = false;
+            state.notifyAll();
+        }
+    }
+
+    private static final class AccountNonce {
+        private BigInteger next;
+        /**
+         * reserved nonces not reported yet
+         */
+        private int inFlight;
+        /**
+         * the local nonce is read again once inFlight drops to 0
+         */
+        private boolean stale;
+    }
+}
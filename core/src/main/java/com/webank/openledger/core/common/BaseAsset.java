@@ -32,6 +32,8 @@ import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 public interface BaseAsset {
     List getHolders(List<byte[]> sign) throws ContractException;
 
+    Tuple2<List<String>, BigInteger> getHoldersByIndex(BigInteger start, BigInteger num, List<byte[]> sign) throws ContractException;
+
     TransactionReceipt addBook(List<byte[]> sign);
 
     void addBook(List<byte[]> sign, TransactionCallback callback);
@@ -64,6 +66,30 @@ public interface BaseAsset {
 
     Tuple2<Boolean, List<BigInteger>> getTransferOutput(TransactionReceipt transactionReceipt);
 
+    TransactionReceipt batchDeposit(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign);
+
+    void batchDeposit(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign, TransactionCallback callback);
+
+    Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>> getBatchDepositInput(TransactionReceipt transactionReceipt);
+
+    Tuple2<Boolean, List<BigInteger>> getBatchDepositOutput(TransactionReceipt transactionReceipt);
+
+    TransactionReceipt batchWithdrawal(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign);
+
+    void batchWithdrawal(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign, TransactionCallback callback);
+
+    Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>> getBatchWithdrawalInput(TransactionReceipt transactionReceipt);
+
+    Tuple2<Boolean, List<BigInteger>> getBatchWithdrawalOutput(TransactionReceipt transactionReceipt);
+
+    TransactionReceipt batchTransfer(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign);
+
+    void batchTransfer(List<String> transactionAddress, List<BigInteger> amounts, List<BigInteger> typeList, List<String> detailList, List<byte[]> sign, TransactionCallback callback);
+
+    Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>> getBatchTransferInput(TransactionReceipt transactionReceipt);
+
+    Tuple2<Boolean, List<BigInteger>> getBatchTransferOutput(TransactionReceipt transactionReceipt);
+
     BigInteger getBalance(String account, List<byte[]> sign) throws ContractException;
 
     List queryBook(List<BigInteger> uint_condition, List<String> address_condtion,List<BigInteger> limit, List<byte[]> sign) throws ContractException;
@@ -77,4 +103,6 @@ public interface BaseAsset {
     Tuple1<Boolean> getOpenAccountOutput(TransactionReceipt transactionReceipt);
 
     public BigInteger getTotalBalance(List<byte[]> sign) throws ContractException;
+
+    Tuple2<BigInteger, BigInteger> auditTotalBalance(List<byte[]> sign) throws ContractException;
 }
@@ -0,0 +1,179 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.common;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * lazy iterator over a paged query, e.g. the book records or the holders
+ * pages are read by limits [start, start + pageSize), start moves by pageSize after every page.
+ * the book applies the limits to each book table, so a page may hold more than pageSize records
+ * and only an empty page ends the iteration.
+ * at most the current page and the prefetched next page are held in memory.
+ * a failed page read is thrown as IllegalStateException, its cause is the OpenLedgerBaseException of the read.
+ *
+ * @param <T> record type
+ */
+@Slf4j
+public class PagedIterator<T> implements Iterator<T>, AutoCloseable {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * read one page of the query
+     *
+     * @param <T> record type
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        /**
+         * @param limits [start, end)
+         * @return records of the page, empty if there are no more
+         * @throws Exception if the page can not be read
+         */
+        List<T> load(List<BigInteger> limits) throws Exception;
+    }
+
+    private final PageLoader<T> loader;
+    private final int pageSize;
+    /**
+     * executor of the prefetch, null to read each page when it is reached
+     */
+    private final Executor executor;
+    private long start;
+    private List<T> page = Collections.emptyList();
+    private int index;
+    private CompletableFuture<List<T>> next;
+    private boolean done;
+
+    /**
+     * @param loader page loader
+     * @param start offset of the first page
+     * @param pageSize limit of each page
+     * @param executor executor to read the next page while the current one is consumed, null for no prefetch
+     */
+    public PagedIterator(@NonNull PageLoader<T> loader, long start, int pageSize, Executor executor) {
+        if (start < 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("start:" + start + " pageSize:" + pageSize);
+        }
+        this.loader = loader;
+        this.start = start;
+        this.pageSize = pageSize;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index >= page.size()) {
+            if (done) {
+                return false;
+            }
+            page = nextPage();
+            index = 0;
+            if (page.isEmpty()) {
+                done = true;
+                page = Collections.emptyList();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.get(index++);
+    }
+
+    /**
+     * @return sequential ordered stream of the remaining records, closing it closes this iterator
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+    }
+
+    /**
+     * stop the iteration and drop the prefetched page
+     */
+    @Override
+    public void close() {
+        done = true;
+        page = Collections.emptyList();
+        if (next != null) {
+            next.cancel(false);
+            next = null;
+        }
+    }
+
+    private List<T> nextPage() {
+        List<T> current;
+        if (next != null) {
+            try {
+                current = next.join();
+            } catch (CompletionException e) {
+                throw failed(e.getCause());
+            } finally {
+                next = null;
+            }
+        } else {
+            current = load(start);
+        }
+        start += pageSize;
+        if (!current.isEmpty() && executor != null) {
+            long prefetch = start;
+            next = CompletableFuture.supplyAsync(() -> load(prefetch), executor);
+        }
+        return current;
+    }
+
+    private List<T> load(long offset) {
+        List<T> records;
+        try {
+            records = loader.load(Arrays.asList(BigInteger.valueOf(offset), BigInteger.valueOf(offset + pageSize)));
+        } catch (Exception e) {
+            throw failed(e);
+        }
+        return records == null ? Collections.emptyList() : records;
+    }
+
+    private IllegalStateException failed(Throwable e) {
+        if (e instanceof IllegalStateException && e.getCause() instanceof OpenLedgerBaseException) {
+            return (IllegalStateException) e;
+        }
+        log.error("load page failed:{}", e);
+        OpenLedgerBaseException cause = e instanceof OpenLedgerBaseException
+                ? (OpenLedgerBaseException) e : new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+        return new IllegalStateException(cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.common;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiPredicate;
+
+import com.webank.openledger.utils.CompactAddress;
+import com.webank.openledger.utils.HexCodec;
+import com.webank.openledger.utils.OpenLedgerUtils;
+
+import lombok.NonNull;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+
+/**
+ * read through cache of chain reads invalidated by contract events, shared by BalanceCache and NoteCache
+ * an entry keeps the grants its chain reads passed the on chain checks for, it is only served to those grants.
+ * each key stripe counts its invalidations: a read stamped before an invalidation of its stripe is not installed.
+ * the cache serves nothing until the event feed marks it live, a gap drops every entry until it is live again.
+ *
+ * @param <K> key, e.g. (asset, account)
+ * @param <V> cached value, never handed out mutable
+ */
+public class ReadCache<K, V> {
+    public static final int DEFAULT_MAX_SIZE = 100000;
+
+    private static final int STRIPES = 64;
+    private static final int WORD_DIGITS = 64;
+
+    private final int maxSize;
+    /**
+     * values of two chain reads that can share their grants
+     */
+    private final BiPredicate<V, V> sameValue;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    /**
+     * invalidations seen by each key stripe
+     */
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private volatile boolean live;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * @param maxSize max cached values
+     */
+    public ReadCache(int maxSize) {
+        this(maxSize, Objects::equals);
+    }
+
+    /**
+     * @param maxSize max cached values
+     * @param sameValue true if two reads returned the same value, their grants are merged
+     */
+    public ReadCache(int maxSize, @NonNull BiPredicate<V, V> sameValue) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize should be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.sameValue = sameValue;
+    }
+
+    /**
+     * take before the chain read, pass to put
+     *
+     * @param key key
+     * @return stamp of the read
+     */
+    public long stamp(@NonNull K key) {
+        return versions.get(stripe(key));
+    }
+
+    /**
+     * cached value
+     *
+     * @param key key
+     * @param grant grant of the caller, e.g. the reader recovered from the signature of the call
+     * @return value, null if the caller should read from chain
+     */
+    public V get(@NonNull K key, String grant) {
+        Entry<V> entry = live && grant != null ? entries.get(key) : null;
+        if (entry == null || !entry.grants.contains(grant)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * install a chain read that passed the on chain checks for the grant
+     * the read is dropped if the cache is not live or the stripe of the key was invalidated after stamp
+     *
+     * @param key key
+     * @param value value read from chain
+     * @param stamp stamp taken before the read
+     * @param grant grant the read was checked for
+     */
+    public void put(@NonNull K key, @NonNull V value, long stamp, @NonNull String grant) {
+        int stripe = stripe(key);
+        entries.compute(key, (k, entry) -> {
+            if (!live || versions.get(stripe) != stamp) {
+                return entry;
+            }
+            Set<String> grants = new HashSet<>();
+            if (entry != null && sameValue.test(entry.value, value)) {
+                grants.addAll(entry.grants);
+            }
+            grants.add(grant);
+            return new Entry<>(value, Collections.unmodifiableSet(grants));
+        });
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * drop the cached value, reads of the key stamped before are not installed
+     *
+     * @param key key
+     */
+    public void invalidate(@NonNull K key) {
+        versions.incrementAndGet(stripe(key));
+        entries.remove(key);
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * drop the cached values matching the predicate, reads stamped before are not installed
+     * for events naming a value that is not part of the key, e.g. the batch of a note
+     *
+     * @param predicate key and value to drop
+     */
+    public void invalidateIf(@NonNull BiPredicate<K, V> predicate) {
+        bumpAll();
+        entries.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue().value));
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * the event feed is complete from now on, reads can be served
+     * a read stamped before is not installed, it may have missed an event
+     */
+    public void markLive() {
+        bumpAll();
+        live = true;
+    }
+
+    public boolean isLive() {
+        return live;
+    }
+
+    /**
+     * events may have been missed, e.g. the subscription failed
+     * every entry is dropped and reads fall back to chain until the feed is live again
+     */
+    public void onGap() {
+        live = false;
+        clear();
+    }
+
+    public void clear() {
+        bumpAll();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return number of invalidations
+     */
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    private void bumpAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+    }
+
+    /**
+     * drop about a tenth of the entries, in table order
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxSize - maxSize / 10;
+            Iterator<K> iterator = entries.keySet().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static int stripe(Object key) {
+        return key.hashCode() & (STRIPES - 1);
+    }
+
+    /**
+     * grant of a reader on an account, addresses are compared in lower case
+     *
+     * @param reader address recovered from the signature of the call
+     * @param account account the call reads for
+     * @return grant
+     */
+    public static String grant(@NonNull String reader, String account) {
+        return reader.toLowerCase() + ":" + (account == null ? "" : account.toLowerCase());
+    }
+
+    /**
+     * logs of the asset in a receipt, the receipt of a failed transaction has no logs
+     *
+     * @param asset asset contract address
+     * @param receipt transaction receipt
+     * @return logs emitted by the asset
+     */
+    public static List<TransactionReceipt.Logs> logsOf(String asset, TransactionReceipt receipt) {
+        List<TransactionReceipt.Logs> logs = new ArrayList<>();
+        if (receipt == null || !receipt.isStatusOK() || receipt.getLogs() == null) {
+            return logs;
+        }
+        for (TransactionReceipt.Logs item : receipt.getLogs()) {
+            if (asset.equalsIgnoreCase(item.getAddress())) {
+                logs.add(item);
+            }
+        }
+        return logs;
+    }
+
+    /**
+     * @param signature event signature, e.g. Transfer(address,address,uint256)
+     * @return first topic of the event
+     */
+    public static String topic(String signature) {
+        return "0x" + HexCodec.encode(OpenLedgerUtils.computeKeccak256Hash(signature.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param data log data, hex with or without 0x
+     * @param index index of the word
+     * @return word of the data as uint
+     */
+    public static BigInteger word(String data, int index) {
+        int start = offset(data) + index * WORD_DIGITS;
+        return new BigInteger(data.substring(start, start + WORD_DIGITS), 16);
+    }
+
+    /**
+     * @param data log data, hex with or without 0x
+     * @param index index of the word
+     * @return word of the data as address
+     */
+    public static String address(String data, int index) {
+        int end = offset(data) + (index + 1) * WORD_DIGITS;
+        return CompactAddress.parse(data.substring(end - 2 * CompactAddress.LENGTH, end)).toString();
+    }
+
+    private static int offset(String data) {
+        return data.startsWith("0x") ? 2 : 0;
+    }
+
+    /**
+     * cached value and the grants its chain reads were checked for
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final Set<String> grants;
+
+        Entry(V value, Set<String> grants) {
+            this.value = value;
+            this.grants = grants;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * hierarchical timing wheel
+ * time is cut into ticks of tickMs, level L holds the timers due in the next wheelSize^(L+1) ticks
+ * and a slot of level L spans wheelSize^L ticks. a timer is put in the lowest level whose higher digits of
+ * its due tick equal the ones of the current tick, so add and cancel are O(1) whatever the delay is.
+ * when the current tick enters a slot of a higher level the timers of the slot are moved down (cascade).
+ * timers fire at the first tick boundary at or after their deadline, never before it.
+ * not thread safe, the owner serializes add, cancel and advance.
+ *
+ * @param <T> timer payload
+ */
+public class TimingWheel<T> {
+    private static final int TICK_BITS = Long.SIZE - 1;
+
+    private final long tickMs;
+    private final int bits;
+    private final int mask;
+    /**
+     * slots of each level, a level is null until its first timer
+     */
+    private final List<List<Slot<T>>> levels;
+    /**
+     * timers added at or before the current tick, returned by the next advance
+     */
+    private final Slot<T> ready = new Slot<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMs tick duration in milliseconds
+     * @param wheelSize slots per level, a power of 2
+     * @param startMs start time in milliseconds
+     */
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("tickMs should be greater than 0");
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize should be a power of 2");
+        }
+        this.tickMs = tickMs;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = new ArrayList<>(Collections.nCopies((TICK_BITS + bits - 1) / bits, null));
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * add a timer
+     *
+     * @param deadlineMs deadline in milliseconds, a deadline in the past fires on the next advance
+     * @param value payload
+     * @return timer handle, for cancel
+     */
+    public Timer<T> add(long deadlineMs, T value) {
+        Timer<T> timer = new Timer<>(this, value, deadlineMs, deadlineMs <= 0 ? 0 : (deadlineMs - 1) / tickMs + 1);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * cancel a timer that has not fired yet
+     *
+     * @param timer timer handle
+     * @return true if the timer was pending
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (timer == null || timer.wheel != this || timer.slot == null) {
+            return false;
+        }
+        timer.slot.remove(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * move the wheel forward, the clock never moves back
+     *
+     * @param nowMs current time in milliseconds
+     * @return payloads of the fired timers, in tick order
+     */
+    public List<T> advance(long nowMs) {
+        List<T> fired = new ArrayList<>();
+        drain(ready, fired);
+        long target = nowMs / tickMs;
+        while (currentTick < target) {
+            currentTick++;
+            // move the slots entered by the current tick down, from the highest level
+            int level = 1;
+            while (level < levels.size() && (currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                level++;
+            }
+            for (int l = level - 1; l > 0; l--) {
+                Slot<T> slot = slot(l, index(currentTick, l), false);
+                if (slot != null) {
+                    Timer<T> timer;
+                    while ((timer = slot.poll()) != null) {
+                        place(timer);
+                    }
+                }
+            }
+            Slot<T> due = slot(0, index(currentTick, 0), false);
+            if (due != null) {
+                drain(due, fired);
+            }
+            drain(ready, fired);
+        }
+        return fired;
+    }
+
+    /**
+     * @return pending timers
+     */
+    public int size() {
+        return size;
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    /**
+     * @return start of the current tick in milliseconds
+     */
+    public long getCurrentTime() {
+        return currentTick * tickMs;
+    }
+
+    private void place(Timer<T> timer) {
+        if (timer.tick <= currentTick) {
+            ready.add(timer);
+            return;
+        }
+        // the lowest level above which the due tick and the current tick share their digits
+        int level = (TICK_BITS - Long.numberOfLeadingZeros(timer.tick ^ currentTick)) / bits;
+        slot(level, index(timer.tick, level), true).add(timer);
+    }
+
+    private void drain(Slot<T> slot, List<T> fired) {
+        Timer<T> timer;
+        while ((timer = slot.poll()) != null) {
+            size--;
+            fired.add(timer.value);
+        }
+    }
+
+    private int index(long tick, int level) {
+        return (int) (tick >>> (bits * level)) & mask;
+    }
+
+    private Slot<T> slot(int level, int index, boolean create) {
+        List<Slot<T>> slots = levels.get(level);
+        if (slots == null) {
+            if (!create) {
+                return null;
+            }
+            // levels are allocated on their first timer
+            slots = new ArrayList<>(Collections.nCopies(mask + 1, null));
+            levels.set(level, slots);
+        }
+        Slot<T> slot = slots.get(index);
+        if (slot == null && create) {
+            slot = new Slot<>();
+            slots.set(index, slot);
+        }
+        return slot;
+    }
+
+    /**
+     * pending timer, linked in the slot it waits in
+     *
+     * @param <T> timer payload
+     */
+    public static final class Timer<T> {
+        private final TimingWheel<T> wheel;
+        private final T value;
+        private final long deadline;
+        private final long tick;
+        private Slot<T> slot;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(TimingWheel<T> wheel, T value, long deadline, long tick) {
+            this.wheel = wheel;
+            this.value = value;
+            this.deadline = deadline;
+            this.tick = tick;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * @return false once the timer fired or was cancelled
+         */
+        public boolean isPending() {
+            return slot != null;
+        }
+    }
+
+    /**
+     * doubly linked timers of one slot, O(1) add and remove
+     */
+    private static final class Slot<T> {
+        private Timer<T> head;
+        private Timer<T> tail;
+
+        void add(Timer<T> timer) {
+            timer.slot = this;
+            timer.prev = tail;
+            timer.next = null;
+            if (tail == null) {
+                head = timer;
+            } else {
+                tail.next = timer;
+            }
+            tail = timer;
+        }
+
+        void remove(Timer<T> timer) {
+            if (timer.prev == null) {
+                head = timer.next;
+            } else {
+                timer.prev.next = timer.next;
+            }
+            if (timer.next == null) {
+                tail = timer.prev;
+            } else {
+                timer.next.prev = timer.prev;
+            }
+            timer.slot = null;
+            timer.prev = null;
+            timer.next = null;
+        }
+
+        Timer<T> poll() {
+            Timer<T> timer = head;
+            if (timer != null) {
+                remove(timer);
+            }
+            return timer;
+        }
+    }
+}
@@ -57,6 +57,8 @@ public enum ErrorCode {
     ASSET_CREATE_ERROR(50012, "assetname is invalid"),
     ASSET_DEPLOY_ERROR(50013, "asset contract deploy fail"),
     NONHOMOASSET_VALUE_ERROR(50014,"value not support type list"),
+    ASSET_TOTALBALANCE_MISMATCH(50019, "running total balance differs from the sum of the balances, please audit the asset"),
+    ASSET_ISSUE_ERROR(50020, "asset issue fail,please check the noteNoPrefix, noteNoSize and amount"),
 
     PROJECT_DEPLOY_ERROR(500101, "project contract deploy fail"),
     PROJECT_CREATE_ORG_ERROR(500102, "project create organization fail"),
@@ -0,0 +1,373 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.indexer;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.webank.openledger.core.asset.fungible.StandardAssetService;
+import com.webank.openledger.core.asset.fungible.entity.Condition;
+import com.webank.openledger.core.asset.fungible.entity.RecordBuilder;
+import com.webank.openledger.core.asset.fungible.entity.RecordEntity;
+import com.webank.openledger.core.common.BaseAsset;
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import com.webank.openledger.utils.CompactAddress;
+import com.webank.openledger.utils.HexCodec;
+import com.webank.openledger.utils.OpenLedgerUtils;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple5;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.eventsub.EventCallback;
+import org.fisco.bcos.sdk.eventsub.EventLogParams;
+import org.fisco.bcos.sdk.eventsub.EventSubscribe;
+import org.fisco.bcos.sdk.model.EventLog;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.utils.Numeric;
+
+/**
+ * off chain index of the fungible book of one asset
+ * every book write of the asset emits InsertResult(termNo, seqNo, from, to, amount), one per leg.
+ * the indexer tails these events, reads the receipt of their transaction and decodes the call input
+ * for the fields the event does not carry (operator, desc, subject, types, relate asset), then saves the records in a RecordStore.
+ * the receipts of our own writes are indexed at once, the subscription catches the writes of everyone else
+ * and resumes from the last indexed block after a restart. saving is idempotent, a record seen twice is saved once,
+ * keyed by (termNo, seq) and by its event (txHash, logIndex).
+ * the book keeps inner accounts, so the addresses of a record and of a query are inner accounts, same as FungibleBook.query.
+ */
+@Slf4j
+public class RecordIndexer {
+    static final String INSERT_RESULT_TOPIC = "0x" + hash("InsertResult(uint256,uint256,address,address,uint256)");
+
+    private static final String DEPOSIT = selector("deposit(address[],uint256,int256[],string[],bytes32[4])");
+    private static final String WITHDRAWAL = selector("withdrawal(address[],uint256,int256[],string[],bytes32[4])");
+    private static final String TRANSFER = selector("transfer(address[],uint256,int256[],string[],bytes32[4])");
+    private static final String BATCH_DEPOSIT = selector("batchDeposit(address[],uint256[],int256[],string[],bytes32[4])");
+    private static final String BATCH_WITHDRAWAL = selector("batchWithdrawal(address[],uint256[],int256[],string[],bytes32[4])");
+    private static final String BATCH_TRANSFER = selector("batchTransfer(address[],uint256[],int256[],string[],bytes32[4])");
+
+    private static final BigInteger TRANSACTION_TYPE_INCOME = BigInteger.valueOf(0);
+    private static final BigInteger TRANSACTION_TYPE_SPEND = BigInteger.valueOf(1);
+    private static final BigInteger TRANSACTION_TYPE_TRANSFER = BigInteger.valueOf(2);
+    private static final int WORD_DIGITS = 64;
+    private static final int RECENT_TRANSACTIONS = 4096;
+
+    private final BaseAsset asset;
+    private final String assetAddress;
+    private final RecordStore store;
+    /**
+     * transaction hash -> receipt, null if it can not be read
+     */
+    private final Function<String, TransactionReceipt> receiptSource;
+    /**
+     * external account -> inner account on chain, null if it can not be read
+     */
+    private final Function<String, String> innerAccountSource;
+    /**
+     * transactions indexed lately, the events of a batch share one receipt
+     */
+    private final Map<String, Boolean> recentTransactions = Collections.synchronizedMap(new LinkedHashMap<String, Boolean>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > RECENT_TRANSACTIONS;
+        }
+    });
+    /**
+     * a push is lost or could not be indexed, the indexed block stays until the asset is subscribed again
+     */
+    private volatile boolean gap;
+
+    /**
+     * @param asset asset contract wrapper, decodes the call input
+     * @param assetAddress asset contract address
+     * @param store record store
+     * @param receiptSource read the receipt of a transaction hash
+     * @param innerAccountSource resolve the inner account of an external account, e.g. BalanceCache::getInnerAccount
+     */
+    public RecordIndexer(@NonNull BaseAsset asset, @NonNull String assetAddress, @NonNull RecordStore store,
+                         @NonNull Function<String, TransactionReceipt> receiptSource, @NonNull Function<String, String> innerAccountSource) {
+        this.asset = asset;
+        this.assetAddress = CompactAddress.parse(assetAddress).toString();
+        this.store = store;
+        this.receiptSource = receiptSource;
+        this.innerAccountSource = innerAccountSource;
+    }
+
+    /**
+     * index the asset of the service, receipts are read from the client of its context
+     *
+     * @param service asset service
+     * @param store record store
+     * @param innerAccountSource resolve the inner account of an external account, e.g. BalanceCache::getInnerAccount
+     */
+    public RecordIndexer(@NonNull StandardAssetService<?> service, @NonNull RecordStore store, @NonNull Function<String, String> innerAccountSource) {
+        this((BaseAsset) service.getAsset(), service.getContractAddress(), store, receiptSource(service.getContext().getClient()), innerAccountSource);
+    }
+
+    /**
+     * subscribe the InsertResult events of the asset, resume after the last indexed block
+     * the event subscribe must be started by the caller
+     *
+     * @param eventSubscribe event subscribe of the group, e.g. BcosSDK.getEventSubscribe(groupId)
+     * @param firstBlock block to start from when nothing is indexed yet, e.g. the deploy block of the asset
+     * @return subscription id, for EventSubscribe.unsubscribeEvent
+     * @throws OpenLedgerBaseException if the store can not be read
+     */
+    public String subscribe(@NonNull EventSubscribe eventSubscribe, long firstBlock) throws OpenLedgerBaseException {
+        EventLogParams params = new EventLogParams();
+        params.setFromBlock(String.valueOf(Math.max(store.getIndexedBlock(assetAddress) + 1, firstBlock)));
+        params.setToBlock("-1");
+        params.setAddresses(Collections.singletonList(assetAddress));
+        List<Object> topics = new ArrayList<>();
+        topics.add(INSERT_RESULT_TOPIC);
+        params.setTopics(topics);
+        gap = false;
+        return eventSubscribe.subscribeEvent(params, new RecordEventFeed());
+    }
+
+    /**
+     * index the records of a receipt, failed receipts and calls other than the book writes are skipped
+     *
+     * @param receipt transaction receipt of the asset
+     * @return number of records saved
+     * @throws OpenLedgerBaseException if the receipt does not match its events or can not be saved
+     */
+    public int onReceipt(TransactionReceipt receipt) throws OpenLedgerBaseException {
+        if (receipt == null || !receipt.isStatusOK() || receipt.getLogs() == null || StringUtils.length(receipt.getInput()) < 10) {
+            return 0;
+        }
+        List<Integer> logIndexes = new ArrayList<>();
+        List<RecordEntity> records = decode(receipt, logIndexes);
+        if (records.isEmpty()) {
+            return 0;
+        }
+        store.save(records, logIndexes, OpenLedgerUtils.parseQuantity(receipt.getBlockNumber()), receipt.getTransactionHash());
+        recentTransactions.put(receipt.getTransactionHash(), Boolean.TRUE);
+        return records.size();
+    }
+
+    /**
+     * index the transactions of the events, then move the indexed block up to the block before the last event
+     * the block of the last event is not marked, its other events may come in the next push.
+     * after a failure the indexed block is not moved any more, the next subscribe indexes again from there
+     *
+     * @param logs InsertResult events of the asset in block order
+     * @throws OpenLedgerBaseException if a receipt can not be read or saved
+     */
+    public void onLogs(@NonNull List<EventLog> logs) throws OpenLedgerBaseException {
+        Set<String> transactions = new LinkedHashSet<>();
+        long lastBlock = -1;
+        for (EventLog item : logs) {
+            transactions.add(item.getTransactionHash());
+            lastBlock = Math.max(lastBlock, item.getBlockNumber().longValue());
+        }
+        for (String transactionHash : transactions) {
+            if (recentTransactions.containsKey(transactionHash)) {
+                continue;
+            }
+            TransactionReceipt receipt = receiptSource.apply(transactionHash);
+            if (receipt == null) {
+                log.error("receipt of {} can not be read", transactionHash);
+                gap = true;
+                throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+            }
+            try {
+                onReceipt(receipt);
+            } catch (OpenLedgerBaseException e) {
+                gap = true;
+                throw e;
+            }
+        }
+        if (lastBlock > 0 && !gap) {
+            store.setIndexedBlock(assetAddress, lastBlock - 1);
+        }
+    }
+
+    /**
+     * query the indexed records of the asset, see RecordStore.query
+     * fromAddress and toAddress of the condition are external accounts, same as FungibleBook.query
+     *
+     * @param condition query condition, not modified
+     * @param cursor cursor returned by the previous page, null for the first page
+     * @param pageSize max records of the page
+     * @return page ordered by (termNo, seq)
+     * @throws OpenLedgerBaseException if an account can not be resolved or the store can not be read
+     */
+    public RecordPage query(@NonNull Condition condition, String cursor, int pageSize) throws OpenLedgerBaseException {
+        Condition inner = new Condition(condition.getTermNo(), condition.getSeqNo(),
+                toInner(condition.getFromAddress()), toInner(condition.getToAddress()));
+        inner.setOperationType(condition.getOperationType());
+        return store.query(assetAddress, inner, cursor, pageSize);
+    }
+
+    /**
+     * @return the block every record up to which is indexed, -1 if none
+     * @throws OpenLedgerBaseException if the store can not be read
+     */
+    public long getIndexedBlock() throws OpenLedgerBaseException {
+        return store.getIndexedBlock(assetAddress);
+    }
+
+    private List<RecordEntity> decode(TransactionReceipt receipt, List<Integer> logIndexes) throws OpenLedgerBaseException {
+        String method = receipt.getInput().substring(0, 10).toLowerCase();
+        List<String> addresses;
+        List<BigInteger> amounts;
+        List<BigInteger> types;
+        List<String> details;
+        BigInteger transactionType;
+        boolean batch = method.equals(BATCH_DEPOSIT) || method.equals(BATCH_WITHDRAWAL) || method.equals(BATCH_TRANSFER);
+        if (method.equals(DEPOSIT) || method.equals(WITHDRAWAL) || method.equals(TRANSFER)) {
+            Tuple5<List<String>, BigInteger, List<BigInteger>, List<String>, List<byte[]>> input;
+            if (method.equals(DEPOSIT)) {
+                input = asset.getDepositInput(receipt);
+                transactionType = TRANSACTION_TYPE_INCOME;
+            } else if (method.equals(WITHDRAWAL)) {
+                input = asset.getWithdrawalInput(receipt);
+                transactionType = TRANSACTION_TYPE_SPEND;
+            } else {
+                input = asset.getTransferInput(receipt);
+                transactionType = TRANSACTION_TYPE_TRANSFER;
+            }
+            addresses = input.getValue1();
+            amounts = Collections.singletonList(input.getValue2());
+            types = input.getValue3();
+            details = input.getValue4();
+        } else if (batch) {
+            Tuple5<List<String>, List<BigInteger>, List<BigInteger>, List<String>, List<byte[]>> input;
+            if (method.equals(BATCH_DEPOSIT)) {
+                input = asset.getBatchDepositInput(receipt);
+                transactionType = TRANSACTION_TYPE_INCOME;
+            } else if (method.equals(BATCH_WITHDRAWAL)) {
+                input = asset.getBatchWithdrawalInput(receipt);
+                transactionType = TRANSACTION_TYPE_SPEND;
+            } else {
+                input = asset.getBatchTransferInput(receipt);
+                transactionType = TRANSACTION_TYPE_TRANSFER;
+            }
+            addresses = input.getValue1();
+            amounts = input.getValue2();
+            types = input.getValue3();
+            details = input.getValue4();
+        } else {
+            return Collections.emptyList();
+        }
+
+        List<TransactionReceipt.Logs> events = new ArrayList<>(amounts.size());
+        List<TransactionReceipt.Logs> logs = receipt.getLogs();
+        for (int i = 0; i < logs.size(); i++) {
+            TransactionReceipt.Logs item = logs.get(i);
+            if (assetAddress.equalsIgnoreCase(item.getAddress()) && !item.getTopics().isEmpty()
+                    && INSERT_RESULT_TOPIC.equalsIgnoreCase(item.getTopics().get(0))) {
+                events.add(item);
+                logIndexes.add(i);
+            }
+        }
+        if (events.size() != amounts.size()) {
+            log.error("{} has {} legs and {} InsertResult events", receipt.getTransactionHash(), amounts.size(), events.size());
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+        }
+
+        String operator = toInner(addresses.get(0));
+        String relateAsset = CompactAddress.parse(addresses.get(batch ? 2 : 4)).toString();
+        String desc = details.isEmpty() ? null : details.get(0);
+        String subject = details.size() > 1 ? details.get(1) : null;
+        BigInteger operationType = types.isEmpty() ? null : types.get(0);
+        List<RecordEntity> records = new ArrayList<>(events.size());
+        for (TransactionReceipt.Logs item : events) {
+            String data = Numeric.cleanHexPrefix(item.getData());
+            records.add(RecordBuilder.buildRecordEntity()
+                    .withTermNo(word(data, 0))
+                    .withSeq(word(data, 1))
+                    .withFrom(address(data, 2))
+                    .withTo(address(data, 3))
+                    .withAmount(word(data, 4))
+                    .withAsset(assetAddress)
+                    .withOperator(operator)
+                    .withDesc(desc)
+                    .withTransactionType(transactionType)
+                    .withOperationType(operationType)
+                    .withSubject(subject)
+                    .withRelateAsset(relateAsset)
+                    .build());
+        }
+        return records;
+    }
+
+    private String toInner(String account) throws OpenLedgerBaseException {
+        if (StringUtils.isBlank(account) || CompactAddress.parse(account).isZero()) {
+            return account;
+        }
+        String inner = innerAccountSource.apply(account);
+        if (inner == null) {
+            log.error("inner account of {} can not be read", account);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+        }
+        return inner;
+    }
+
+    private static BigInteger word(String data, int index) {
+        return new BigInteger(data.substring(index * WORD_DIGITS, (index + 1) * WORD_DIGITS), 16);
+    }
+
+    private static String address(String data, int index) {
+        int end = (index + 1) * WORD_DIGITS;
+        return CompactAddress.parse(data.substring(end - 2 * CompactAddress.LENGTH, end)).toString();
+    }
+
+    private static Function<String, TransactionReceipt> receiptSource(Client client) {
+        return transactionHash -> client.getTransactionReceipt(transactionHash).getTransactionReceipt().orElse(null);
+    }
+
+    private static String hash(String signature) {
+        return HexCodec.encode(OpenLedgerUtils.computeKeccak256Hash(signature.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String selector(String signature) {
+        return "0x" + hash(signature).substring(0, 8);
+    }
+
+    /**
+     * subscription callback
+     */
+    private class RecordEventFeed implements EventCallback {
+        @Override
+        public void onReceiveLog(int status, List<EventLog> logs) {
+            if (status != 0) {
+                log.warn("record event push of {} failed, status:{}", assetAddress, status);
+                gap = true;
+                return;
+            }
+            if (logs == null) {
+                return;
+            }
+            try {
+                onLogs(logs);
+            } catch (OpenLedgerBaseException e) {
+                log.error("index records of {} failed:{}", assetAddress, e);
+            }
+        }
+    }
+}
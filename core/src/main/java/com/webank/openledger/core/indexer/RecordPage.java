@@ -0,0 +1,47 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.indexer;
+
+import java.util.List;
+
+import com.webank.openledger.core.asset.fungible.entity.RecordEntity;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * one page of indexed records
+ */
+@Getter
+@ToString
+public class RecordPage {
+    /**
+     * records ordered by (termNo, seq)
+     */
+    private final List<RecordEntity> records;
+    /**
+     * cursor of the next page, null if this is the last page
+     */
+    private final String nextCursor;
+
+    public RecordPage(List<RecordEntity> records, String nextCursor) {
+        this.records = records;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.indexer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.webank.openledger.core.asset.fungible.entity.Condition;
+import com.webank.openledger.core.asset.fungible.entity.RecordBuilder;
+import com.webank.openledger.core.asset.fungible.entity.RecordEntity;
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import com.webank.openledger.utils.CompactAddress;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * embedded H2 store of fungible book records
+ * records are keyed by (asset, termNo, seq) and by the InsertResult event (txHash, logIndex) they come from,
+ * and indexed by from, to and operationType, so a history query reads an index range instead of scanning the books on chain.
+ * addresses are stored as the inner accounts of the book, in lower case.
+ */
+@Slf4j
+public class RecordStore implements AutoCloseable {
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS fungible_record ("
+                    + "asset VARCHAR(42) NOT NULL, term_no BIGINT NOT NULL, seq_no BIGINT NOT NULL, "
+                    + "from_address VARCHAR(42) NOT NULL, to_address VARCHAR(42) NOT NULL, amount DECIMAL(78, 0) NOT NULL, "
+                    + "operator VARCHAR(42), description VARCHAR(4096), transaction_type INT, operation_type BIGINT, "
+                    + "subject VARCHAR(4096), relate_asset VARCHAR(42), block_number BIGINT NOT NULL, tx_hash VARCHAR(66) NOT NULL, "
+                    + "log_index INT NOT NULL, PRIMARY KEY (asset, term_no, seq_no))",
+            "CREATE UNIQUE INDEX IF NOT EXISTS idx_record_log ON fungible_record(tx_hash, log_index)",
+            "CREATE INDEX IF NOT EXISTS idx_record_seq ON fungible_record(asset, seq_no)",
+            "CREATE INDEX IF NOT EXISTS idx_record_from ON fungible_record(asset, from_address, term_no, seq_no)",
+            "CREATE INDEX IF NOT EXISTS idx_record_to ON fungible_record(asset, to_address, term_no, seq_no)",
+            "CREATE INDEX IF NOT EXISTS idx_record_operation ON fungible_record(asset, operation_type, term_no, seq_no)",
+            "CREATE TABLE IF NOT EXISTS record_index_block (asset VARCHAR(42) PRIMARY KEY, block_number BIGINT NOT NULL)"
+    };
+    private static final String MERGE_RECORD = "MERGE INTO fungible_record (asset, term_no, seq_no, from_address, to_address, amount, "
+            + "operator, description, transaction_type, operation_type, subject, relate_asset, block_number, tx_hash, log_index) "
+            + "KEY (asset, term_no, seq_no) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String MERGE_BLOCK = "MERGE INTO record_index_block (asset, block_number) KEY (asset) VALUES (?, ?)";
+    private static final String SELECT_BLOCK = "SELECT block_number FROM record_index_block WHERE asset = ?";
+    private static final String SELECT_RECORD = "SELECT term_no, seq_no, from_address, to_address, amount, operator, description, "
+            + "transaction_type, operation_type, subject, relate_asset FROM fungible_record WHERE asset = ?";
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final Connection connection;
+
+    /**
+     * @param jdbcUrl H2 url, e.g. "jdbc:h2:./data/records" or "jdbc:h2:mem:records"
+     * @throws OpenLedgerBaseException if the store can not be opened
+     */
+    public RecordStore(@NonNull String jdbcUrl) throws OpenLedgerBaseException {
+        try {
+            connection = DriverManager.getConnection(jdbcUrl);
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : SCHEMA) {
+                    statement.execute(sql);
+                }
+            }
+        } catch (SQLException e) {
+            log.error("open record store failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+        }
+    }
+
+    /**
+     * save records, idempotent: saving a record again overwrites it with the same values.
+     * a record whose (asset, termNo, seq) or (txHash, logIndex) is saved with another key is rejected.
+     *
+     * @param records records of one transaction
+     * @param logIndexes index of the InsertResult event of each record in the receipt
+     * @param blockNumber block of the transaction
+     * @param txHash transaction hash
+     * @throws OpenLedgerBaseException if the records can not be saved
+     */
+    public synchronized void save(@NonNull List<RecordEntity> records, @NonNull List<Integer> logIndexes, long blockNumber, @NonNull String txHash) throws OpenLedgerBaseException {
+        if (records.size() != logIndexes.size()) {
+            throw new OpenLedgerBaseException(ErrorCode.PARAM_IS_INVALID);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(MERGE_RECORD)) {
+            for (int i = 0; i < records.size(); i++) {
+                RecordEntity record = records.get(i);
+                statement.setString(1, normalize(record.getAsset()));
+                statement.setLong(2, record.getTermNo().longValueExact());
+                statement.setLong(3, record.getSeq().longValueExact());
+                statement.setString(4, normalize(record.getFrom()));
+                statement.setString(5, normalize(record.getTo()));
+                statement.setBigDecimal(6, new BigDecimal(record.getAmount()));
+                statement.setString(7, normalize(record.getOperator()));
+                statement.setString(8, record.getDesc());
+                setInteger(statement, 9, record.getTransactionType());
+                setInteger(statement, 10, record.getOperationType());
+                statement.setString(11, record.getSubject());
+                statement.setString(12, normalize(record.getRelateAsset()));
+                statement.setLong(13, blockNumber);
+                statement.setString(14, txHash.toLowerCase());
+                statement.setInt(15, logIndexes.get(i));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        } catch (SQLException | ArithmeticException e) {
+            log.error("save records of {} failed:{}", txHash, e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+        }
+    }
+
+    /**
+     * @param asset asset contract address
+     * @return the block of the asset every record up to which is saved, -1 if none
+     * @throws OpenLedgerBaseException if the store can not be read
+     */
+    public synchronized long getIndexedBlock(@NonNull String asset) throws OpenLedgerBaseException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_BLOCK)) {
+            statement.setString(1, normalize(asset));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : -1;
+            }
+        } catch (SQLException e) {
+            log.error("read indexed block failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+        }
+    }
+
+    /**
+     * move the indexed block of the asset forward
+     *
+     * @param asset asset contract address
+     * @param blockNumber every record up to this block is saved
+     * @throws OpenLedgerBaseException if the store can not be written
+     */
+    public synchronized void setIndexedBlock(@NonNull String asset, long blockNumber) throws OpenLedgerBaseException {
+        if (blockNumber <= getIndexedBlock(asset)) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(MERGE_BLOCK)) {
+            statement.setString(1, normalize(asset));
+            statement.setLong(2, blockNumber);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            log.error("write indexed block failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+        }
+    }
+
+    /**
+     * query records of the asset
+     * every set field of the condition must match: termNo, seqNo, fromAddress, toAddress and operationType,
+     * zero numbers and blank or zero addresses are not set. the limits of the condition are ignored.
+     *
+     * @param asset asset contract address
+     * @param condition query condition
+     * @param cursor cursor returned by the previous page, null for the first page
+     * @param pageSize max records of the page
+     * @return page ordered by (termNo, seq)
+     * @throws OpenLedgerBaseException if the store can not be read
+     */
+    public synchronized RecordPage query(@NonNull String asset, @NonNull Condition condition, String cursor, int pageSize) throws OpenLedgerBaseException {
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new OpenLedgerBaseException(ErrorCode.PARAM_IS_INVALID);
+        }
+        StringBuilder sql = new StringBuilder(SELECT_RECORD);
+        List<Object> args = new ArrayList<>();
+        args.add(normalize(asset));
+        if (condition.getTermNo() != null && condition.getTermNo().signum() != 0) {
+            sql.append(" AND term_no = ?");
+            args.add(condition.getTermNo().longValueExact());
+        }
+        if (condition.getSeqNo() != null && condition.getSeqNo().signum() != 0) {
+            sql.append(" AND seq_no = ?");
+            args.add(condition.getSeqNo().longValueExact());
+        }
+        if (isSet(condition.getFromAddress())) {
+            sql.append(" AND from_address = ?");
+            args.add(normalize(condition.getFromAddress()));
+        }
+        if (isSet(condition.getToAddress())) {
+            sql.append(" AND to_address = ?");
+            args.add(normalize(condition.getToAddress()));
+        }
+        if (condition.getOperationType() != null) {
+            sql.append(" AND operation_type = ?");
+            args.add(condition.getOperationType().longValueExact());
+        }
+        if (cursor != null) {
+            long[] position = parseCursor(cursor);
+            sql.append(" AND (term_no > ? OR (term_no = ? AND seq_no > ?))");
+            args.add(position[0]);
+            args.add(position[0]);
+            args.add(position[1]);
+        }
+        sql.append(" ORDER BY term_no, seq_no LIMIT ?");
+        args.add(pageSize + 1);
+
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            List<RecordEntity> records = new ArrayList<>(pageSize);
+            boolean more = false;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (records.size() == pageSize) {
+                        more = true;
+                        break;
+                    }
+                    records.add(toRecord(asset, resultSet));
+                }
+            }
+            String next = null;
+            if (more) {
+                RecordEntity last = records.get(records.size() - 1);
+                next = last.getTermNo() + "-" + last.getSeq();
+            }
+            return new RecordPage(records, next);
+        } catch (SQLException e) {
+            log.error("query records failed:{}", e);
+            throw new OpenLedgerBaseException(ErrorCode.ASSET_BOOKQUERY_ERROR);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.error("close record store failed:{}", e);
+        }
+    }
+
+    private static RecordEntity toRecord(String asset, ResultSet resultSet) throws SQLException {
+        long transactionType = resultSet.getLong(8);
+        boolean noTransactionType = resultSet.wasNull();
+        long operationType = resultSet.getLong(9);
+        boolean noOperationType = resultSet.wasNull();
+        return RecordBuilder.buildRecordEntity()
+                .withTermNo(BigInteger.valueOf(resultSet.getLong(1)))
+                .withSeq(BigInteger.valueOf(resultSet.getLong(2)))
+                .withFrom(resultSet.getString(3))
+                .withTo(resultSet.getString(4))
+                .withAmount(resultSet.getBigDecimal(5).toBigIntegerExact())
+                .withOperator(resultSet.getString(6))
+                .withDesc(resultSet.getString(7))
+                .withTransactionType(noTransactionType ? null : BigInteger.valueOf(transactionType))
+                .withOperationType(noOperationType ? null : BigInteger.valueOf(operationType))
+                .withSubject(resultSet.getString(10))
+                .withRelateAsset(resultSet.getString(11))
+                .withAsset(normalize(asset))
+                .build();
+    }
+
+    private static void setInteger(PreparedStatement statement, int index, BigInteger value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, value.longValueExact());
+        }
+    }
+
+    private static boolean isSet(String address) {
+        return StringUtils.isNotBlank(address) && !CompactAddress.parse(address).isZero();
+    }
+
+    private static String normalize(String address) {
+        return StringUtils.isBlank(address) ? null : CompactAddress.parse(address).toString();
+    }
+
+    private static long[] parseCursor(String cursor) throws OpenLedgerBaseException {
+        int split = cursor.indexOf('-');
+        try {
+            return new long[]{Long.parseLong(cursor.substring(0, split)), Long.parseLong(cursor.substring(split + 1))};
+        } catch (RuntimeException e) {
+            throw new OpenLedgerBaseException(ErrorCode.PARAM_IS_INVALID);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.List;
 
 import com.webank.openledger.contracts.Organization;
 import com.webank.openledger.core.Blockchain;
+import com.webank.openledger.core.TransactionContext;
 import com.webank.openledger.core.response.DataToolUtils;
 import com.webank.openledger.core.response.ResponseData;
 import com.webank.openledger.utils.OpenLedgerUtils;
@@ -32,6 +33,7 @@ import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
 import org.fisco.bcos.sdk.contract.Contract;
 import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
 import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 
 /**
  * organzation service
@@ -50,6 +52,10 @@ public class OrganizationService<T extends Contract> {
      * contract object
      */
     protected Organization contractIns;
+    /**
+     * signer context of the transactions
+     */
+    protected TransactionContext context;
 
     /**
      * initializes the contract object
@@ -58,8 +64,19 @@ public class OrganizationService<T extends Contract> {
      * @param contractAddress organzation contract address
      */
     public OrganizationService(Blockchain blockchain, String contractAddress) {
+        this(blockchain.getLedger(Blockchain.DEFAULT_LEDGERID).getContext(), contractAddress);
         this.blockchain = blockchain;
-        contractIns = blockchain.getLedger(Blockchain.DEFAULT_LEDGERID).getContract(contractAddress, Organization.class);
+    }
+
+    /**
+     * initializes the contract object bind to the signer of the context
+     *
+     * @param context signer context
+     * @param contractAddress organzation contract address
+     */
+    public OrganizationService(TransactionContext context, String contractAddress) {
+        this.context = context;
+        contractIns = context.getContract(contractAddress, Organization.class);
     }
 
     /**
@@ -215,9 +232,27 @@ public class OrganizationService<T extends Contract> {
     public ResponseData<String> upgradeAsset(String externalAccount, String assetName, Boolean isFungible, byte[] message, ECDSASignatureResult rs) {
         TransactionReceipt transactionReceipt = contractIns.upgradeAsset(externalAccount, assetName, isFungible, OpenLedgerUtils.convertSignToByte(message, rs));
         String result = transactionReceipt.isStatusOK() ? contractIns.getUpgradeAssetOutput(transactionReceipt).getValue1() : null;
+        if (transactionReceipt.isStatusOK()) {
+            evictAssetVersions(assetName);
+        }
         ResponseData<String> responseData = DataToolUtils.handleTransaction(transactionReceipt, result);
         return responseData;
     }
+    /**
+     * evict the cached contract wrappers of every version of the asset
+     * @param assetName asset's name custom defined
+     */
+    private void evictAssetVersions(String assetName) {
+        try {
+            Tuple2<List<BigInteger>, List<String>> versions = contractIns.listAssetVersion(assetName);
+            for (String address : versions.getValue2()) {
+                context.evictContract(address);
+            }
+        } catch (ContractException e) {
+            log.error("listAssetVersion failed:{}", e);
+        }
+    }
+
     /**
      * create currency of project
      *
@@ -0,0 +1,271 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.response;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.webank.openledger.core.TransactionContext;
+import com.webank.openledger.core.asset.fungible.entity.RecordColumns;
+import com.webank.openledger.core.asset.fungible.entity.RecordEntity;
+import com.webank.openledger.core.asset.nonfungible.entity.NonFungibleAssetRecord;
+import com.webank.openledger.utils.CompactAddress;
+import com.webank.openledger.utils.HexCodec;
+
+import org.fisco.bcos.sdk.abi.FunctionEncoder;
+import org.fisco.bcos.sdk.abi.Utils;
+import org.fisco.bcos.sdk.abi.datatypes.Address;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.abi.datatypes.Function;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Bytes32;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Int256;
+import org.fisco.bcos.sdk.abi.datatypes.generated.StaticArray4;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Uint256;
+import org.fisco.bcos.sdk.client.protocol.request.Transaction;
+import org.fisco.bcos.sdk.client.protocol.response.Call;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
+
+/**
+ * decoder of the queryBook output
+ * queryBook returns the records flattened into one string[], every field printed in decimal.
+ * the generated wrappers decode it into Utf8String objects, then Strings, which the services parsed again field by field.
+ * here the raw ABI output is read once and every field is parsed from its bytes into the target type:
+ * numbers are accumulated in a long (BigInteger only past 18 digits), addresses go through CompactAddress,
+ * and only desc and subject become Strings.
+ */
+public final class BookRecordDecoder {
+    public static final String FUNC_QUERYBOOK = "queryBook";
+    /**
+     * fields of a fungible record: termNo, seq, from, to, amount, desc, asset, operator, transactionType, operationType, relateAsset, subject
+     */
+    public static final int RECORD_FIELDS = 12;
+    /**
+     * fields of a non fungible record: termNo, seq, from, to, noteNo, desc, asset, operator
+     */
+    public static final int NOTE_RECORD_FIELDS = 8;
+
+    private static final int WORD = 32;
+    private static final int LONG_DIGITS = 18;
+    private static final String CALL_SUCCESS = "0x0";
+
+    private BookRecordDecoder() {
+    }
+
+    /**
+     * call queryBook of a fungible or non fungible asset and return the raw ABI output
+     *
+     * @param context signer context, the call is sent from its signer
+     * @param contractAddress asset contract address
+     * @param uintCondition condition.getIntParams()
+     * @param addressCondition condition.getAddressParams()
+     * @param limit [start, end)
+     * @param sign converted signature
+     * @return ABI encoded string[]
+     * @throws ContractException if the call is reverted
+     */
+    public static byte[] queryBook(TransactionContext context, String contractAddress, List<BigInteger> uintCondition,
+                                   List<String> addressCondition, List<BigInteger> limit, List<byte[]> sign) throws ContractException {
+        Function function = new Function(FUNC_QUERYBOOK,
+                Arrays.asList(uintCondition.isEmpty() ? DynamicArray.empty("uint256[]") : new DynamicArray<Uint256>(Utils.typeMap(uintCondition, Uint256.class)),
+                        addressCondition.isEmpty() ? DynamicArray.empty("address[]") : new DynamicArray<Address>(Utils.typeMap(addressCondition, Address.class)),
+                        limit.isEmpty() ? DynamicArray.empty("int256[]") : new DynamicArray<Int256>(Utils.typeMap(limit, Int256.class)),
+                        new StaticArray4<Bytes32>(Utils.typeMap(sign, Bytes32.class))),
+                Collections.emptyList());
+        String data = new FunctionEncoder(context.getClient().getCryptoSuite()).encode(function);
+        Call.CallOutput output = context.getClient().call(new Transaction(context.getSigner(), contractAddress, data)).getCallResult();
+        if (!CALL_SUCCESS.equals(output.getStatus())) {
+            throw new ContractException("queryBook failed, status:" + output.getStatus(), output);
+        }
+        return HexCodec.decode(output.getOutput().startsWith("0x") ? output.getOutput().substring(2) : output.getOutput());
+    }
+
+    /**
+     * @param output ABI encoded string[] of a fungible asset
+     * @return records in the order of the output
+     */
+    public static List<RecordEntity> decodeRecords(byte[] output) {
+        int count = fieldCount(output, RECORD_FIELDS);
+        int heads = heads(output);
+        List<RecordEntity> records = new ArrayList<>(count / RECORD_FIELDS);
+        for (int field = 0; field < count; ) {
+            RecordEntity record = new RecordEntity();
+            record.setTermNo(uint(output, heads, field++));
+            record.setSeq(uint(output, heads, field++));
+            record.setFrom(address(output, heads, field++).toString());
+            record.setTo(address(output, heads, field++).toString());
+            record.setAmount(uint(output, heads, field++));
+            record.setDesc(string(output, heads, field++));
+            record.setAsset(address(output, heads, field++).toString());
+            record.setOperator(address(output, heads, field++).toString());
+            record.setTransactionType(uint(output, heads, field++));
+            record.setOperationType(uint(output, heads, field++));
+            record.setRelateAsset(address(output, heads, field++).toString());
+            record.setSubject(string(output, heads, field++));
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * @param output ABI encoded string[] of a fungible asset
+     * @return records as parallel columns
+     */
+    public static RecordColumns decodeColumns(byte[] output) {
+        int count = fieldCount(output, RECORD_FIELDS);
+        int heads = heads(output);
+        RecordColumns columns = new RecordColumns(count / RECORD_FIELDS);
+        for (int row = 0, field = 0; field < count; row++) {
+            columns.getTermNos()[row] = int64(output, heads, field++);
+            columns.getSeqs()[row] = int64(output, heads, field++);
+            columns.getFrom()[row] = address(output, heads, field++);
+            columns.getTo()[row] = address(output, heads, field++);
+            columns.getAmounts()[row] = uint(output, heads, field++);
+            columns.getDescs()[row] = string(output, heads, field++);
+            columns.getAssets()[row] = address(output, heads, field++);
+            columns.getOperators()[row] = address(output, heads, field++);
+            columns.getTransactionTypes()[row] = int64(output, heads, field++);
+            columns.getOperationTypes()[row] = int64(output, heads, field++);
+            columns.getRelateAssets()[row] = address(output, heads, field++);
+            columns.getSubjects()[row] = string(output, heads, field++);
+        }
+        return columns;
+    }
+
+    /**
+     * @param output ABI encoded string[] of a non fungible asset
+     * @return records in the order of the output
+     */
+    public static List<NonFungibleAssetRecord> decodeNoteRecords(byte[] output) {
+        int count = fieldCount(output, NOTE_RECORD_FIELDS);
+        int heads = heads(output);
+        List<NonFungibleAssetRecord> records = new ArrayList<>(count / NOTE_RECORD_FIELDS);
+        for (int field = 0; field < count; ) {
+            NonFungibleAssetRecord record = new NonFungibleAssetRecord();
+            record.setTermNo(uint(output, heads, field++));
+            record.setSeq(uint(output, heads, field++));
+            record.setFrom(address(output, heads, field++).toString());
+            record.setTo(address(output, heads, field++).toString());
+            record.setNoteNo(uint(output, heads, field++));
+            record.setDesc(string(output, heads, field++));
+            record.setAsset(address(output, heads, field++).toString());
+            record.setOperator(address(output, heads, field++).toString());
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * the output is one dynamic string[]: word 0 is the offset of the array, which starts with its length
+     */
+    private static int fieldCount(byte[] output, int fields) {
+        if (output.length == 0) {
+            return 0;
+        }
+        int count = word(output, word(output, 0));
+        if (count % fields != 0) {
+            throw new IllegalArgumentException("queryBook output has " + count + " fields, not a multiple of " + fields);
+        }
+        return count;
+    }
+
+    /**
+     * offset of the element heads, the head of an element is its offset from there
+     */
+    private static int heads(byte[] output) {
+        return output.length == 0 ? 0 : word(output, 0) + WORD;
+    }
+
+    /**
+     * offset of the length word of the field
+     */
+    private static int field(byte[] output, int heads, int index) {
+        return heads + word(output, heads + index * WORD);
+    }
+
+    private static BigInteger uint(byte[] output, int heads, int index) {
+        int at = field(output, heads, index);
+        int length = word(output, at);
+        if (length <= LONG_DIGITS) {
+            return BigInteger.valueOf(digits(output, at + WORD, length));
+        }
+        checkDigits(output, at + WORD, length);
+        return new BigInteger(new String(output, at + WORD, length, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * a field that fits a long, types are int256 printed as uint256 and are read back in two's complement
+     */
+    private static long int64(byte[] output, int heads, int index) {
+        int at = field(output, heads, index);
+        int length = word(output, at);
+        return length <= LONG_DIGITS ? digits(output, at + WORD, length) : uint(output, heads, index).longValue();
+    }
+
+    private static CompactAddress address(byte[] output, int heads, int index) {
+        int at = field(output, heads, index);
+        return CompactAddress.parseDecimal(output, at + WORD, word(output, at));
+    }
+
+    private static String string(byte[] output, int heads, int index) {
+        int at = field(output, heads, index);
+        return new String(output, at + WORD, word(output, at), StandardCharsets.UTF_8);
+    }
+
+    private static long digits(byte[] output, int offset, int length) {
+        if (length == 0) {
+            throw new IllegalArgumentException("empty number in queryBook output");
+        }
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = output[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("not a number in queryBook output at " + i);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void checkDigits(byte[] output, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (output[i] < '0' || output[i] > '9') {
+                throw new IllegalArgumentException("not a number in queryBook output at " + i);
+            }
+        }
+    }
+
+    /**
+     * a length or offset word, must fit the output
+     */
+    private static int word(byte[] output, int offset) {
+        if (offset < 0 || offset + WORD > output.length) {
+            throw new IllegalArgumentException("queryBook output truncated at " + offset);
+        }
+        for (int i = offset; i < offset + WORD - 4; i++) {
+            if (output[i] != 0) {
+                throw new IllegalArgumentException("queryBook output word too large at " + offset);
+            }
+        }
+        int value = (output[offset + 28] & 0xFF) << 24 | (output[offset + 29] & 0xFF) << 16 | (output[offset + 30] & 0xFF) << 8 | (output[offset + 31] & 0xFF);
+        if (value < 0 || value > output.length) {
+            throw new IllegalArgumentException("queryBook output word too large at " + offset);
+        }
+        return value;
+    }
+}
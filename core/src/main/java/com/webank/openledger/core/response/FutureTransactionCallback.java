@@ -0,0 +1,73 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core.response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.callback.TransactionCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * transaction callback complete a future with the decoded receipt
+ * the receipt is decoded and wrapped by DataToolUtils.handleTransaction, same as the blocking calls
+ *
+ * @param <T> decoded result type
+ */
+public class FutureTransactionCallback<T> extends TransactionCallback {
+    private static final Logger logger = LoggerFactory.getLogger(FutureTransactionCallback.class);
+    private final CompletableFuture<ResponseData<T>> future = new CompletableFuture<>();
+    private final Function<TransactionReceipt, T> decoder;
+    private final ErrorCode errorCode;
+
+    /**
+     * @param decoder decode the output of the receipt
+     * @param errorCode error code of the exception when the receipt can not be decoded
+     */
+    public FutureTransactionCallback(Function<TransactionReceipt, T> decoder, ErrorCode errorCode) {
+        this.decoder = decoder;
+        this.errorCode = errorCode;
+    }
+
+    @Override
+    public void onResponse(TransactionReceipt receipt) {
+        try {
+            future.complete(DataToolUtils.handleTransaction(receipt, decoder.apply(receipt)));
+        } catch (Exception e) {
+            logger.error("decode receipt failed:{}", e);
+            future.completeExceptionally(new OpenLedgerBaseException(errorCode));
+        }
+    }
+
+    /**
+     * fail the future when the transaction can not be sent
+     *
+     * @param e send exception
+     */
+    public void onError(Exception e) {
+        logger.error("send transaction failed:{}", e);
+        future.completeExceptionally(new OpenLedgerBaseException(errorCode));
+    }
+
+    public CompletableFuture<ResponseData<T>> getFuture() {
+        return future;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.util.function.BiConsumer;
+
+/**
+ * open addressing map keyed by CompactAddress, e.g. balance by holder
+ * null values are not supported. not thread safe.
+ *
+ * @param <V> value type
+ */
+public class AddressMap<V> extends AddressTable {
+    private Object[] values;
+
+    public AddressMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize entries to hold without resizing
+     */
+    public AddressMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * @param key address
+     * @return value, null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(CompactAddress key) {
+        int slot = find(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    public boolean containsKey(CompactAddress key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * @param key address
+     * @param value not null value
+     * @return previous value, null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V put(CompactAddress key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value should not be null");
+        }
+        int slot = insert(key);
+        if (slot < 0) {
+            values[-slot - 1] = value;
+            return null;
+        }
+        V previous = (V) values[slot];
+        values[slot] = value;
+        return previous;
+    }
+
+    /**
+     * @param key address
+     * @return removed value, null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(CompactAddress key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        removeAt(slot);
+        return previous;
+    }
+
+    /**
+     * visit the entries in table order, the map must not be modified while visiting
+     *
+     * @param action entry consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<CompactAddress, ? super V> action) {
+        for (int slot = 0; slot < capacity(); slot++) {
+            if (isUsed(slot)) {
+                action.accept(keyAt(slot), (V) values[slot]);
+            }
+        }
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new Object[capacity];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        values[slot] = null;
+    }
+
+    @Override
+    Object[] values() {
+        return values;
+    }
+
+    @Override
+    void setValue(int slot, Object value) {
+        values[slot] = value;
+    }
+}
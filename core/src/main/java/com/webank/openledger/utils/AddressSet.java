@@ -0,0 +1,93 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * open addressing set of CompactAddress, e.g. the holders of an asset
+ * not thread safe.
+ */
+public class AddressSet extends AddressTable implements Iterable<CompactAddress> {
+
+    public AddressSet() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize entries to hold without resizing
+     */
+    public AddressSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * @param address address
+     * @return true if the address is added
+     */
+    public boolean add(CompactAddress address) {
+        return insert(address) < 0;
+    }
+
+    public boolean contains(CompactAddress address) {
+        return find(address) >= 0;
+    }
+
+    /**
+     * @param address address
+     * @return true if the address is removed
+     */
+    public boolean remove(CompactAddress address) {
+        int slot = find(address);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * iterate the addresses in table order, the set must not be modified while iterating
+     */
+    @Override
+    public Iterator<CompactAddress> iterator() {
+        return new Iterator<CompactAddress>() {
+            private int slot = advance(0);
+
+            private int advance(int from) {
+                while (from < capacity() && !isUsed(from)) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return slot < capacity();
+            }
+
+            @Override
+            public CompactAddress next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                CompactAddress address = keyAt(slot);
+                slot = advance(slot + 1);
+                return address;
+            }
+        };
+    }
+}
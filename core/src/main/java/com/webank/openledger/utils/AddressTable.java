@@ -0,0 +1,183 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+/**
+ * open addressing table keyed by CompactAddress
+ * keys are stored in primitive arrays, so an entry costs 20 bytes of key instead of an object.
+ * linear probing, removal shifts the following entries back instead of leaving tombstones.
+ * not thread safe.
+ */
+abstract class AddressTable {
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] highs;
+    private long[] middles;
+    private int[] lows;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    AddressTable(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        allocate(MIN_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * @return slot of the key, -1 if absent
+     */
+    final int find(CompactAddress key) {
+        long high = key.high();
+        long middle = key.middle();
+        int low = key.low();
+        for (int slot = key.hashCode() & mask; used[slot]; slot = (slot + 1) & mask) {
+            if (lows[slot] == low && middles[slot] == middle && highs[slot] == high) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return slot of the key, or -(slot + 1) of the new slot when the key is inserted
+     */
+    final int insert(CompactAddress key) {
+        if ((size + 1) * 2 > used.length) {
+            resize(used.length * 2);
+        }
+        long high = key.high();
+        long middle = key.middle();
+        int low = key.low();
+        int slot = key.hashCode() & mask;
+        for (; used[slot]; slot = (slot + 1) & mask) {
+            if (lows[slot] == low && middles[slot] == middle && highs[slot] == high) {
+                return slot;
+            }
+        }
+        used[slot] = true;
+        highs[slot] = high;
+        middles[slot] = middle;
+        lows[slot] = low;
+        size++;
+        return -(slot + 1);
+    }
+
+    /**
+     * remove the entry at the slot and shift the following entries of the cluster back
+     */
+    final void removeAt(int slot) {
+        size--;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; used[next]; next = (next + 1) & mask) {
+            int home = CompactAddress.hash(highs[next], middles[next], lows[next]) & mask;
+            // move next into the hole unless its home lies cyclically in (hole, next]
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                highs[hole] = highs[next];
+                middles[hole] = middles[next];
+                lows[hole] = lows[next];
+                moveValue(next, hole);
+                hole = next;
+            }
+        }
+        used[hole] = false;
+        clearValue(hole);
+    }
+
+    final int capacity() {
+        return used.length;
+    }
+
+    final boolean isUsed(int slot) {
+        return used[slot];
+    }
+
+    final CompactAddress keyAt(int slot) {
+        return new CompactAddress(highs[slot], middles[slot], lows[slot]);
+    }
+
+    private void resize(int capacity) {
+        long[] oldHighs = highs;
+        long[] oldMiddles = middles;
+        int[] oldLows = lows;
+        boolean[] oldUsed = used;
+        Object[] oldValues = values();
+        allocate(capacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i]) {
+                continue;
+            }
+            int slot = CompactAddress.hash(oldHighs[i], oldMiddles[i], oldLows[i]) & mask;
+            while (used[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            used[slot] = true;
+            highs[slot] = oldHighs[i];
+            middles[slot] = oldMiddles[i];
+            lows[slot] = oldLows[i];
+            if (oldValues != null) {
+                setValue(slot, oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * value hooks, a set has no values
+     * the value array is reallocated with the key arrays
+     */
+    void allocateValues(int capacity) {
+    }
+
+    Object[] values() {
+        return null;
+    }
+
+    void setValue(int slot, Object value) {
+    }
+
+    void moveValue(int from, int to) {
+    }
+
+    void clearValue(int slot) {
+    }
+
+    private void allocate(int capacity) {
+        highs = new long[capacity];
+        middles = new long[capacity];
+        lows = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        allocateValues(capacity);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
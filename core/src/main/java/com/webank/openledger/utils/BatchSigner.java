@@ -0,0 +1,163 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+import lombok.NonNull;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+
+/**
+ * sign many messages in parallel
+ * the (keyPair, message) pairs are split over a ForkJoin pool and the results are returned in input order.
+ * signing only reads the key pair, so one suite and one key pair can be shared by the workers.
+ * the default pool is owned by BatchSigner, signing never competes with the other users of the common pool.
+ */
+public class BatchSigner {
+    /**
+     * messages signed by one task without splitting
+     */
+    public static final int DEFAULT_THRESHOLD = 8;
+
+    private final CryptoSuite cryptoSuite;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * sign with OpenLedgerUtils.ecdsaCryptoSuite on the pool shared by the default signers
+     * the default suite signs through OpenLedgerUtils.sign, so the fixed base switch applies
+     */
+    public BatchSigner() {
+        this(OpenLedgerUtils.ecdsaCryptoSuite, DefaultPool.POOL, DEFAULT_THRESHOLD);
+    }
+
+    public BatchSigner(@NonNull ForkJoinPool pool) {
+        this(OpenLedgerUtils.ecdsaCryptoSuite, pool, DEFAULT_THRESHOLD);
+    }
+
+    public BatchSigner(@NonNull CryptoSuite cryptoSuite, @NonNull ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold should be greater than 0");
+        }
+        this.cryptoSuite = cryptoSuite;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * sign messages.get(i) with keyPairs.get(i)
+     *
+     * @param keyPairs signer of each message
+     * @param messages message hashes
+     * @return signature of each message, in input order
+     */
+    public List<ECDSASignatureResult> sign(@NonNull List<CryptoKeyPair> keyPairs, @NonNull List<byte[]> messages) {
+        if (keyPairs.size() != messages.size()) {
+            throw new IllegalArgumentException("keyPairs and messages should have the same size");
+        }
+        ECDSASignatureResult[] results = new ECDSASignatureResult[messages.size()];
+        CryptoKeyPair[] signers = keyPairs.toArray(new CryptoKeyPair[0]);
+        byte[][] hashes = messages.toArray(new byte[0][]);
+        if (hashes.length <= threshold) {
+            new SignTask(signers, hashes, results, 0, hashes.length).compute();
+        } else {
+            pool.invoke(new SignTask(signers, hashes, results, 0, hashes.length));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * sign all messages with one key pair
+     *
+     * @param keyPair signer
+     * @param messages message hashes
+     * @return signature of each message, in input order
+     */
+    public List<ECDSASignatureResult> sign(@NonNull CryptoKeyPair keyPair, @NonNull List<byte[]> messages) {
+        List<CryptoKeyPair> keyPairs = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            keyPairs.add(keyPair);
+        }
+        return sign(keyPairs, messages);
+    }
+
+    /**
+     * sign and convert each signature by OpenLedgerUtils.convertSignToByte, ready for the contract 'sign' argument
+     *
+     * @param keyPairs signer of each message
+     * @param messages message hashes
+     * @return [message, v, r, s] of each message, in input order
+     */
+    public List<List<byte[]>> signToByte(@NonNull List<CryptoKeyPair> keyPairs, @NonNull List<byte[]> messages) {
+        List<ECDSASignatureResult> signatures = sign(keyPairs, messages);
+        List<List<byte[]>> results = new ArrayList<>(signatures.size());
+        for (int i = 0; i < signatures.size(); i++) {
+            results.add(OpenLedgerUtils.convertSignToByte(messages.get(i), signatures.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * pool of the default signers, created on first use, its daemon workers do not keep the jvm alive
+     */
+    private static final class DefaultPool {
+        private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("batch-signer-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    private class SignTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CryptoKeyPair[] keyPairs;
+        private final byte[][] messages;
+        private final ECDSASignatureResult[] results;
+        private final int from;
+        private final int to;
+
+        SignTask(CryptoKeyPair[] keyPairs, byte[][] messages, ECDSASignatureResult[] results, int from, int to) {
+            this.keyPairs = keyPairs;
+            this.messages = messages;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    results[i] = cryptoSuite == OpenLedgerUtils.ecdsaCryptoSuite
+                            ? OpenLedgerUtils.sign(keyPairs[i], messages[i])
+                            : (ECDSASignatureResult) cryptoSuite.sign(messages[i], keyPairs[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SignTask(keyPairs, messages, results, from, middle),
+                    new SignTask(keyPairs, messages, results, middle, to));
+        }
+    }
+}
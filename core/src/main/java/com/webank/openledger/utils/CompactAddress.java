@@ -0,0 +1,324 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * immutable 20 bytes address
+ * the address is kept in three primitives instead of a hex String or a BigInteger,
+ * the hash code is computed once. toString is the same as org.fisco.bcos.sdk.abi.datatypes.Address#toString.
+ */
+public final class CompactAddress implements Comparable<CompactAddress> {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    public static final int LENGTH = 20;
+    public static final CompactAddress ZERO = new CompactAddress(0L, 0L, 0);
+    /**
+     * hex of ZERO, the default of the optional address arguments
+     */
+    public static final String ZERO_HEX = ZERO.toString();
+
+    private static final int HEX_DIGITS = 2 * LENGTH;
+    /**
+     * decimal digits folded into the limbs at once, 10^9 < 2^30
+     */
+    private static final int CHUNK_DIGITS = 9;
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L};
+
+    /**
+     * bytes 0-7
+     */
+    private final long high;
+    /**
+     * bytes 8-15
+     */
+    private final long middle;
+    /**
+     * bytes 16-19
+     */
+    private final int low;
+    private final int hash;
+
+    CompactAddress(long high, long middle, int low) {
+        this.high = high;
+        this.middle = middle;
+        this.low = low;
+        this.hash = hash(high, middle, low);
+    }
+
+    /**
+     * parse a hex address, leading zeros beyond 40 digits are allowed
+     *
+     * @param address hex address, with or without 0x
+     * @return address
+     */
+    public static CompactAddress parse(String address) {
+        if (address == null) {
+            throw new IllegalArgumentException("address not verify:null");
+        }
+        int start = address.startsWith("0x") || address.startsWith("0X") ? 2 : 0;
+        while (address.length() - start > HEX_DIGITS && address.charAt(start) == '0') {
+            start++;
+        }
+        int digits = address.length() - start;
+        if (digits == 0 || digits > HEX_DIGITS) {
+            throw new IllegalArgumentException("address not verify:" + address);
+        }
+        long high = 0;
+        long middle = 0;
+        int low = 0;
+        // nibble k counts from the last digit: low holds 0-7, middle 8-23, high 24-39
+        for (int index = address.length() - 1, k = 0; index >= start; index--, k++) {
+            long nibble = digit(address.charAt(index), address);
+            if (k < 8) {
+                low |= (int) nibble << (k << 2);
+            } else if (k < 24) {
+                middle |= nibble << ((k - 8) << 2);
+            } else {
+                high |= nibble << ((k - 24) << 2);
+            }
+        }
+        return new CompactAddress(high, middle, low);
+    }
+
+    /**
+     * parse an address printed as a decimal uint, e.g. the address fields of queryBook
+     *
+     * @param value decimal value
+     * @return address
+     */
+    public static CompactAddress parseDecimal(String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("address not verify:" + value);
+        }
+        // five 32 bits limbs, limbs[0] is the most significant
+        long[] limbs = new long[5];
+        int chunk = 0;
+        int digits = 0;
+        for (int index = 0; index < value.length(); index++) {
+            char c = value.charAt(index);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("address not verify:" + value);
+            }
+            chunk = chunk * 10 + (c - '0');
+            if (++digits == CHUNK_DIGITS) {
+                if (!multiplyAdd(limbs, POWERS_OF_TEN[CHUNK_DIGITS], chunk)) {
+                    throw new IllegalArgumentException("address not verify:" + value);
+                }
+                chunk = 0;
+                digits = 0;
+            }
+        }
+        if (digits > 0 && !multiplyAdd(limbs, POWERS_OF_TEN[digits], chunk)) {
+            throw new IllegalArgumentException("address not verify:" + value);
+        }
+        return fromLimbs(limbs);
+    }
+
+    /**
+     * parse a decimal address from ASCII digits, e.g. a field of an ABI encoded string
+     *
+     * @param ascii buffer
+     * @param offset first digit
+     * @param length number of digits
+     * @return address
+     */
+    public static CompactAddress parseDecimal(byte[] ascii, int offset, int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("address not verify: empty");
+        }
+        long[] limbs = new long[5];
+        int chunk = 0;
+        int digits = 0;
+        boolean valid = true;
+        for (int index = offset; index < offset + length && valid; index++) {
+            int digit = ascii[index] - '0';
+            valid = digit >= 0 && digit <= 9;
+            chunk = chunk * 10 + digit;
+            if (++digits == CHUNK_DIGITS) {
+                valid = valid && multiplyAdd(limbs, POWERS_OF_TEN[CHUNK_DIGITS], chunk);
+                chunk = 0;
+                digits = 0;
+            }
+        }
+        if (!valid || digits > 0 && !multiplyAdd(limbs, POWERS_OF_TEN[digits], chunk)) {
+            throw new IllegalArgumentException("address not verify:" + new String(ascii, offset, length, StandardCharsets.US_ASCII));
+        }
+        return fromLimbs(limbs);
+    }
+
+    /**
+     * limbs = limbs * factor + addend, factor and addend are below 2^30
+     *
+     * @return false if the value does not fit 160 bits
+     */
+    private static boolean multiplyAdd(long[] limbs, long factor, long addend) {
+        long carry = addend;
+        for (int i = limbs.length - 1; i >= 0; i--) {
+            long v = limbs[i] * factor + carry;
+            limbs[i] = v & 0xFFFFFFFFL;
+            carry = v >>> 32;
+        }
+        return carry == 0;
+    }
+
+    private static CompactAddress fromLimbs(long[] limbs) {
+        return new CompactAddress(limbs[0] << 32 | limbs[1], limbs[2] << 32 | limbs[3], (int) limbs[4]);
+    }
+
+    /**
+     * @param value uint160 value
+     * @return address
+     */
+    public static CompactAddress of(BigInteger value) {
+        if (value.signum() < 0 || value.bitLength() > 8 * LENGTH) {
+            throw new IllegalArgumentException("address not verify:" + value);
+        }
+        return new CompactAddress(value.shiftRight(96).longValue(), value.shiftRight(32).longValue(), value.intValue());
+    }
+
+    /**
+     * @param bytes 20 bytes big endian
+     * @return address
+     */
+    public static CompactAddress of(byte[] bytes) {
+        if (bytes.length != LENGTH) {
+            throw new IllegalArgumentException("address should be 20 bytes");
+        }
+        return new CompactAddress(readLong(bytes, 0), readLong(bytes, 8), (int) readLong(bytes, 16, 4));
+    }
+
+    static int hash(long high, long middle, int low) {
+        long h = high * 0x9E3779B97F4A7C15L + middle;
+        h = h * 0x9E3779B97F4A7C15L + low;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    long high() {
+        return high;
+    }
+
+    long middle() {
+        return middle;
+    }
+
+    int low() {
+        return low;
+    }
+
+    /**
+     * write the 20 bytes big endian
+     *
+     * @param target target buffer
+     * @param offset start offset
+     */
+    public void writeTo(byte[] target, int offset) {
+        writeLong(target, offset, high, 8);
+        writeLong(target, offset + 8, middle, 8);
+        writeLong(target, offset + 16, low, 4);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[LENGTH];
+        writeTo(bytes, 0);
+        return bytes;
+    }
+
+    public BigInteger toBigInteger() {
+        return new BigInteger(1, toBytes());
+    }
+
+    public boolean isZero() {
+        return high == 0 && middle == 0 && low == 0;
+    }
+
+    /**
+     * @return 0x and 40 lower case hex digits
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[2 + HEX_DIGITS];
+        chars[0] = '0';
+        chars[1] = 'x';
+        writeHex(chars, 2, high, 16);
+        writeHex(chars, 18, middle, 16);
+        writeHex(chars, 34, low, 8);
+        return new String(chars);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactAddress)) {
+            return false;
+        }
+        CompactAddress that = (CompactAddress) o;
+        return high == that.high && middle == that.middle && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public int compareTo(CompactAddress o) {
+        int result = Long.compareUnsigned(high, o.high);
+        if (result == 0) {
+            result = Long.compareUnsigned(middle, o.middle);
+        }
+        if (result == 0) {
+            result = Integer.compareUnsigned(low, o.low);
+        }
+        return result;
+    }
+
+    private static int digit(char c, String address) {
+        int digit = HexCodec.digit(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("address not verify:" + address);
+        }
+        return digit;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        return readLong(bytes, offset, 8);
+    }
+
+    private static long readLong(byte[] bytes, int offset, int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            value = value << 8 | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void writeLong(byte[] target, int offset, long value, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            target[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static void writeHex(char[] target, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            target[i] = HEX[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.math.BigInteger;
+
+import lombok.NonNull;
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.bouncycastle.math.ec.FixedPointUtil;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+
+/**
+ * secp256k1 signer for long-lived key pairs
+ * the comb table of the generator is precomputed once and shared by every signer, so R = k*G is a table walk
+ * instead of a generic scalar multiplication. the private key is parsed once per signer.
+ * k is derived by RFC6979 and s is normalized to the lower half, the result verifies the same as OpenLedgerUtils.sign.
+ */
+public final class FixedBaseSigner {
+    private static final X9ECParameters CURVE = CustomNamedCurves.getByName("secp256k1");
+    private static final BigInteger N = CURVE.getN();
+    private static final BigInteger HALF_N = N.shiftRight(1);
+    private static final ECPoint G;
+    private static final FixedPointCombMultiplier MULTIPLIER = new FixedPointCombMultiplier();
+
+    static {
+        G = CURVE.getG();
+        FixedPointUtil.precompute(G);
+    }
+
+    private final BigInteger privateKey;
+    private final String address;
+
+    public FixedBaseSigner(@NonNull CryptoKeyPair keyPair) {
+        this.privateKey = new BigInteger(keyPair.getHexPrivateKey(), 16);
+        if (privateKey.signum() <= 0 || privateKey.compareTo(N) >= 0) {
+            throw new IllegalArgumentException("private key not verify");
+        }
+        this.address = keyPair.getAddress();
+    }
+
+    /**
+     * @return address of the key pair
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * sign a 32 bytes message hash
+     *
+     * @param message message hash
+     * @return signature, v is the recovery id
+     */
+    public ECDSASignatureResult sign(@NonNull byte[] message) {
+        BigInteger e = new BigInteger(1, message);
+        HMacDSAKCalculator kCalculator = new HMacDSAKCalculator(new SHA256Digest());
+        kCalculator.init(N, privateKey, message);
+        while (true) {
+            BigInteger k = kCalculator.nextK();
+            ECPoint point = MULTIPLIER.multiply(G, k).normalize();
+            BigInteger x = point.getAffineXCoord().toBigInteger();
+            BigInteger r = x.mod(N);
+            if (r.signum() == 0) {
+                continue;
+            }
+            BigInteger s = k.modInverse(N).multiply(e.add(privateKey.multiply(r))).mod(N);
+            if (s.signum() == 0) {
+                continue;
+            }
+            int recId = (point.getAffineYCoord().testBitZero() ? 1 : 0) | (x.compareTo(N) >= 0 ? 2 : 0);
+            if (s.compareTo(HALF_N) > 0) {
+                s = N.subtract(s);
+                recId ^= 1;
+            }
+            return toResult((byte) recId, toBytes32(r), toBytes32(s));
+        }
+    }
+
+    /**
+     * the (v, r, s) constructor of the sdk leaves the signature bytes empty, fill them as r || s || v
+     * the same as the signatures of the crypto suite
+     */
+    private static ECDSASignatureResult toResult(byte v, byte[] r, byte[] s) {
+        ECDSASignatureResult result = new ECDSASignatureResult(v, r, s);
+        byte[] signatureBytes = new byte[65];
+        System.arraycopy(r, 0, signatureBytes, 0, 32);
+        System.arraycopy(s, 0, signatureBytes, 32, 32);
+        signatureBytes[64] = v;
+        result.setSignatureBytes(signatureBytes);
+        return result;
+    }
+
+    private static byte[] toBytes32(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] result = new byte[32];
+        if (bytes.length > 32) {
+            System.arraycopy(bytes, bytes.length - 32, result, 0, 32);
+        } else {
+            System.arraycopy(bytes, 0, result, 32 - bytes.length, bytes.length);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * lookup table hex codec
+ * encode writes lower case digits without prefix, decode accepts both cases and left pads an odd length with 0.
+ * every method can write into a caller supplied array or buffer, so the signature and message path need not allocate.
+ */
+public final class HexCodec {
+    /**
+     * byte -> two hex digits
+     */
+    private static final char[] PAIRS = new char[512];
+    /**
+     * ascii -> digit value, -1 if not a hex digit
+     */
+    private static final byte[] DIGITS = new byte[128];
+
+    static {
+        char[] hex = "0123456789abcdef".toCharArray();
+        for (int i = 0; i < 256; i++) {
+            PAIRS[i << 1] = hex[i >>> 4];
+            PAIRS[(i << 1) + 1] = hex[i & 0xF];
+        }
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            DIGITS['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            DIGITS['a' + i] = (byte) (10 + i);
+            DIGITS['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private HexCodec() {
+    }
+
+    /**
+     * @param c char
+     * @return digit value, -1 if c is not a hex digit
+     */
+    public static int digit(char c) {
+        return c < 128 ? DIGITS[c] : -1;
+    }
+
+    public static String encode(byte[] bytes) {
+        return encode(bytes, 0, bytes.length);
+    }
+
+    public static String encode(byte[] bytes, int offset, int length) {
+        char[] chars = new char[length << 1];
+        encode(bytes, offset, length, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * @param src source bytes
+     * @param srcOffset first byte
+     * @param length bytes to encode
+     * @param dst target chars, 2 * length from dstOffset
+     * @param dstOffset first char
+     * @return chars written
+     */
+    public static int encode(byte[] src, int srcOffset, int length, char[] dst, int dstOffset) {
+        for (int i = srcOffset, j = dstOffset; i < srcOffset + length; i++, j += 2) {
+            int index = (src[i] & 0xFF) << 1;
+            dst[j] = PAIRS[index];
+            dst[j + 1] = PAIRS[index + 1];
+        }
+        return length << 1;
+    }
+
+    /**
+     * encode the remaining bytes of src as ascii hex into dst, both buffers advance
+     *
+     * @param src source buffer
+     * @param dst target buffer, 2 * src.remaining() bytes
+     */
+    public static void encode(ByteBuffer src, ByteBuffer dst) {
+        if (dst.remaining() < src.remaining() << 1) {
+            throw new IllegalArgumentException("target buffer too small");
+        }
+        while (src.hasRemaining()) {
+            int index = (src.get() & 0xFF) << 1;
+            dst.put((byte) PAIRS[index]);
+            dst.put((byte) PAIRS[index + 1]);
+        }
+    }
+
+    /**
+     * @param hexLength digits without prefix
+     * @return decoded bytes
+     */
+    public static int decodedLength(int hexLength) {
+        return (hexLength + 1) >>> 1;
+    }
+
+    public static byte[] decode(CharSequence hex) {
+        byte[] bytes = new byte[decodedLength(hex.length())];
+        decode(hex, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * @param hex hex digits without prefix
+     * @param dst target bytes, decodedLength(hex.length()) from dstOffset
+     * @param dstOffset first byte
+     * @return bytes written
+     */
+    public static int decode(CharSequence hex, byte[] dst, int dstOffset) {
+        int length = hex.length();
+        int j = dstOffset;
+        int i = 0;
+        if ((length & 1) == 1) {
+            dst[j++] = (byte) digit(hex, 0);
+            i = 1;
+        }
+        for (; i < length; i += 2) {
+            dst[j++] = (byte) (digit(hex, i) << 4 | digit(hex, i + 1));
+        }
+        return j - dstOffset;
+    }
+
+    /**
+     * decode into dst, the buffer advances
+     *
+     * @param hex hex digits without prefix
+     * @param dst target buffer, decodedLength(hex.length()) bytes
+     */
+    public static void decode(CharSequence hex, ByteBuffer dst) {
+        int length = hex.length();
+        if (dst.remaining() < decodedLength(length)) {
+            throw new IllegalArgumentException("target buffer too small");
+        }
+        int i = 0;
+        if ((length & 1) == 1) {
+            dst.put((byte) digit(hex, 0));
+            i = 1;
+        }
+        for (; i < length; i += 2) {
+            dst.put((byte) (digit(hex, i) << 4 | digit(hex, i + 1)));
+        }
+    }
+
+    private static int digit(CharSequence hex, int index) {
+        int digit = digit(hex.charAt(index));
+        if (digit < 0) {
+            throw new NumberFormatException("not a hex digit at " + index + ": " + hex);
+        }
+        return digit;
+    }
+}
@@ -26,20 +26,26 @@ import java.security.SecureRandom;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.webank.openledger.core.exception.OpenLedgerBaseException;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
 import org.bouncycastle.jce.ECNamedCurveTable;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.jce.spec.ECNamedCurveParameterSpec;
-import org.fisco.bcos.sdk.abi.datatypes.Address;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECPoint;
 import org.fisco.bcos.sdk.crypto.CryptoSuite;
 import org.fisco.bcos.sdk.crypto.hash.Keccak256;
 import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
 import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.utils.Numeric;
 
 import static com.webank.openledger.core.constant.OpenLedgerConstant.ALGORITHM;
 import static com.webank.openledger.core.constant.OpenLedgerConstant.CURVE_TYPE;
@@ -55,6 +61,30 @@ import static com.webank.openledger.core.constant.OpenLedgerConstant.PUBLIC_KEY_
 public class OpenLedgerUtils {
     public static CryptoSuite ecdsaCryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
     ;
+    /**
+     * max cached fixed base signers, the cache is reset when it is full
+     */
+    private static final int MAX_FIXED_BASE_SIGNERS = 1024;
+    private static final X9ECParameters SECP256K1 = CustomNamedCurves.getByName("secp256k1");
+    private static volatile boolean fixedBaseSign = false;
+    private static final ConcurrentMap<String, FixedBaseSigner> fixedBaseSigners = new ConcurrentHashMap<>();
+
+    /**
+     * sign by FixedBaseSigner instead of ecdsaCryptoSuite, off by default
+     * worth it when the same few key pairs sign most of the messages
+     *
+     * @param enable true to sign by FixedBaseSigner
+     */
+    public static void setFixedBaseSign(boolean enable) {
+        fixedBaseSign = enable;
+        if (!enable) {
+            fixedBaseSigners.clear();
+        }
+    }
+
+    public static boolean isFixedBaseSign() {
+        return fixedBaseSign;
+    }
 
     /**
      * @param filePath output pem file path.
@@ -103,6 +133,9 @@ public class OpenLedgerUtils {
 
 
     public static ECDSASignatureResult sign(CryptoKeyPair cryptoKeyPair, byte[] message) {
+        if (fixedBaseSign) {
+            return getFixedBaseSigner(cryptoKeyPair).sign(message);
+        }
         // sign with secp256k1
         ECDSASignatureResult signatureResult =
                 (ECDSASignatureResult)
@@ -111,6 +144,67 @@ public class OpenLedgerUtils {
         return signatureResult;
     }
 
+    /**
+     * ecrecover of SignLib.checkSign, the address of the key that signed the message
+     *
+     * @param message 32 bytes message hash
+     * @param signatureResult signature, v is the recovery id with or without 27
+     * @return lower case address, null if the signature does not verify
+     */
+    public static String recoverAddress(byte[] message, ECDSASignatureResult signatureResult) {
+        if (message == null || signatureResult == null || signatureResult.getR() == null || signatureResult.getS() == null) {
+            return null;
+        }
+        BigInteger n = SECP256K1.getN();
+        BigInteger r = new BigInteger(1, signatureResult.getR());
+        BigInteger s = new BigInteger(1, signatureResult.getS());
+        int recId = signatureResult.getV() >= 27 ? signatureResult.getV() - 27 : signatureResult.getV();
+        if (recId < 0 || recId > 3 || r.signum() == 0 || r.compareTo(n) >= 0 || s.signum() == 0 || s.compareTo(n) >= 0) {
+            return null;
+        }
+        BigInteger x = (recId & 2) == 0 ? r : r.add(n);
+        if (x.compareTo(SECP256K1.getCurve().getField().getCharacteristic()) >= 0) {
+            return null;
+        }
+        try {
+            byte[] encoded = new byte[33];
+            encoded[0] = (byte) (2 + (recId & 1));
+            byte[] xBytes = x.toByteArray();
+            int length = Math.min(xBytes.length, 32);
+            System.arraycopy(xBytes, xBytes.length - length, encoded, 33 - length, length);
+            ECPoint point = SECP256K1.getCurve().decodePoint(encoded);
+            BigInteger rInverse = r.modInverse(n);
+            BigInteger e = new BigInteger(1, message);
+            ECPoint publicKey = ECAlgorithms.sumOfTwoMultiplies(SECP256K1.getG(), n.subtract(e).multiply(rInverse).mod(n),
+                    point, s.multiply(rInverse).mod(n)).normalize();
+            if (publicKey.isInfinity()) {
+                return null;
+            }
+            byte[] uncompressed = publicKey.getEncoded(false);
+            byte[] raw = new byte[64];
+            System.arraycopy(uncompressed, 1, raw, 0, 64);
+            byte[] hash = computeKeccak256Hash(raw);
+            byte[] address = new byte[20];
+            System.arraycopy(hash, 12, address, 0, 20);
+            return HEX_HEADER + byte2Hex(address);
+        } catch (IllegalArgumentException e) {
+            log.warn("recover address failed:{}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static FixedBaseSigner getFixedBaseSigner(CryptoKeyPair cryptoKeyPair) {
+        FixedBaseSigner signer = fixedBaseSigners.get(cryptoKeyPair.getAddress());
+        if (signer == null) {
+            if (fixedBaseSigners.size() >= MAX_FIXED_BASE_SIGNERS) {
+                fixedBaseSigners.clear();
+            }
+            signer = new FixedBaseSigner(cryptoKeyPair);
+            fixedBaseSigners.put(signer.getAddress(), signer);
+        }
+        return signer;
+    }
+
     public static byte[] computeKeccak256Hash(byte[] buffer) {
         Keccak256 keccak256 = new Keccak256();
         return keccak256.hash(buffer);
@@ -170,17 +264,7 @@ public class OpenLedgerUtils {
      * @return
      */
     public static String byte2Hex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder();
-        String temp = null;
-        for (byte aByte : bytes) {
-            temp = Integer.toHexString(aByte & 0xFF);
-            if (temp.length() == 1) {
-                // 1得到一位的进行补0操作
-                sb.append("0");
-            }
-            sb.append(temp);
-        }
-        return sb.toString();
+        return HexCodec.encode(bytes);
     }
 
     /**
@@ -190,21 +274,7 @@ public class OpenLedgerUtils {
      * @return
      */
     public static byte[] convertStringToAddressByte(String addressString) {
-        Address address = new Address(addressString);
-        byte[] addressIntBytes = address.toUint160().getValue().toByteArray();
-
-        byte[] addressBytes = new byte[20];
-        for (int i = 0; i < addressBytes.length; i++) {
-            if (addressIntBytes.length == 20) {
-                addressBytes[i] = addressIntBytes[i];
-            } else if (Address.DEFAULT.equals(address)) {
-                addressBytes[i] = (byte) 0;
-            } else {
-                addressBytes[i] = addressIntBytes[i + 1];
-            }
-
-        }
-        return addressBytes;
+        return CompactAddress.parse(addressString).toBytes();
     }
 
     /**
@@ -214,23 +284,7 @@ public class OpenLedgerUtils {
      * @return theResultOfTheConvertedByteArray
      */
     public static byte[] hexToByteArray(String inHex) {
-        int hexlen = inHex.length();
-        byte[] result;
-        if (hexlen % 2 == 1) {
-            //奇数
-            hexlen++;
-            result = new byte[(hexlen / 2)];
-            inHex = "0" + inHex;
-        } else {
-            //偶数
-            result = new byte[(hexlen / 2)];
-        }
-        int j = 0;
-        for (int i = 0; i < hexlen; i += 2) {
-            result[j] = hexToByte(inHex.substring(i, i + 2));
-            j++;
-        }
-        return result;
+        return HexCodec.decode(inHex);
     }
 
     /**
@@ -240,9 +294,22 @@ public class OpenLedgerUtils {
      * @return theConvertedByte
      */
     public static byte hexToByte(String inHex) {
+        if (inHex.length() == 1 || inHex.length() == 2) {
+            return HexCodec.decode(inHex)[0];
+        }
         return (byte) Integer.parseInt(inHex, 16);
     }
 
+    /**
+     * block numbers and log indexes of receipts are hex with 0x or decimal
+     *
+     * @param value quantity
+     * @return value as long
+     */
+    public static long parseQuantity(String value) {
+        return value.startsWith("0x") ? Numeric.decodeQuantity(value).longValue() : Long.parseLong(value);
+    }
+
 
     /**
      * Bytes [] to 32 bytes[] is typically used for conversions to uint, uint256 for solidity contracts
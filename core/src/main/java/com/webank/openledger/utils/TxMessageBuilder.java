@@ -0,0 +1,249 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.bouncycastle.crypto.digests.KeccakDigest;
+
+/**
+ * keccak256 hash of the signed transaction args
+ * fields are encoded straight into one incremental keccak state, in the layout of the contract 'bytesAppend':
+ * address as 20 bytes, uint256 as 32 bytes big endian, string as its utf-8 bytes.
+ * the hash is byte-identical to concatenating convertStringToAddressByte/getBytes32/getBytes("utf-8")
+ * with OpenLedgerUtils.concatByte and hashing the result with computeKeccak256Hash.
+ * <p>
+ * a builder is not thread safe, use 'local()' to reuse one builder per thread.
+ * e.g:
+ * TxMessageBuilder.local().addresses(addressList).uint256(amount).utf8(desc).uint256(nonce).hash()
+ */
+public final class TxMessageBuilder {
+    private static final ThreadLocal<TxMessageBuilder> LOCAL = ThreadLocal.withInitial(TxMessageBuilder::new);
+    private static final int ADDRESS_LENGTH = 20;
+    private static final int WORD_LENGTH = 32;
+    /**
+     * values below 2^247 have a toByteArray shorter than 32 bytes and are left padded to one word
+     */
+    private static final int WORD_BIT_LENGTH = 247;
+
+    private final KeccakDigest digest = new KeccakDigest(256);
+    private final byte[] buffer = new byte[256];
+    private int position;
+
+    /**
+     * builder of the current thread, reset before returned
+     * do not hold it across calls that may hash on the same thread
+     *
+     * @return empty builder
+     */
+    public static TxMessageBuilder local() {
+        TxMessageBuilder builder = LOCAL.get();
+        builder.reset();
+        return builder;
+    }
+
+    /**
+     * drop the fields written so far
+     *
+     * @return this
+     */
+    public TxMessageBuilder reset() {
+        digest.reset();
+        position = 0;
+        return this;
+    }
+
+    /**
+     * append a 20 bytes address
+     *
+     * @param address hex address, with or without 0x
+     * @return this
+     */
+    public TxMessageBuilder address(String address) {
+        int start = address.startsWith("0x") || address.startsWith("0X") ? 2 : 0;
+        while (address.length() - start > 2 * ADDRESS_LENGTH && address.charAt(start) == '0') {
+            start++;
+        }
+        int digits = address.length() - start;
+        if (digits == 0 || digits > 2 * ADDRESS_LENGTH) {
+            throw new IllegalArgumentException("address not verify:" + address);
+        }
+        ensure(ADDRESS_LENGTH);
+        int end = position + ADDRESS_LENGTH;
+        for (int i = position; i < end; i++) {
+            buffer[i] = 0;
+        }
+        // fill from the last byte, odd digits leave a half byte at the front
+        int index = address.length();
+        for (int i = end - 1; index > start; i--) {
+            int low = digit(address.charAt(--index), address);
+            int high = index > start ? digit(address.charAt(--index), address) : 0;
+            buffer[i] = (byte) (high << 4 | low);
+        }
+        position = end;
+        return this;
+    }
+
+    /**
+     * append a 20 bytes address
+     *
+     * @param address address
+     * @return this
+     */
+    public TxMessageBuilder address(CompactAddress address) {
+        ensure(ADDRESS_LENGTH);
+        address.writeTo(buffer, position);
+        position += ADDRESS_LENGTH;
+        return this;
+    }
+
+    public TxMessageBuilder addresses(List<String> addresses) {
+        for (String address : addresses) {
+            address(address);
+        }
+        return this;
+    }
+
+    /**
+     * append a uint256 word
+     *
+     * @param value non negative value
+     * @return this
+     */
+    public TxMessageBuilder uint256(long value) {
+        if (value < 0) {
+            return uint256(BigInteger.valueOf(value));
+        }
+        ensure(WORD_LENGTH);
+        int end = position + WORD_LENGTH;
+        for (int i = position; i < end - Long.BYTES; i++) {
+            buffer[i] = 0;
+        }
+        for (int i = end - 1; i >= end - Long.BYTES; i--) {
+            buffer[i] = (byte) value;
+            value >>>= 8;
+        }
+        position = end;
+        return this;
+    }
+
+    /**
+     * append a uint256 word, same bytes as OpenLedgerUtils.getBytes32(value.toByteArray())
+     *
+     * @param value value
+     * @return this
+     */
+    public TxMessageBuilder uint256(BigInteger value) {
+        if (value.signum() >= 0 && value.bitLength() < Long.SIZE) {
+            return uint256(value.longValue());
+        }
+        if (value.signum() < 0 || value.bitLength() > WORD_BIT_LENGTH) {
+            // keep the legacy padding of getBytes32 for the values out of one word
+            return bytes(OpenLedgerUtils.getBytes32(value.toByteArray()));
+        }
+        byte[] bytes = value.toByteArray();
+        ensure(WORD_LENGTH);
+        int padding = WORD_LENGTH - bytes.length;
+        for (int i = 0; i < padding; i++) {
+            buffer[position + i] = 0;
+        }
+        System.arraycopy(bytes, 0, buffer, position + padding, bytes.length);
+        position += WORD_LENGTH;
+        return this;
+    }
+
+    public TxMessageBuilder uint256s(List<BigInteger> values) {
+        for (BigInteger value : values) {
+            uint256(value);
+        }
+        return this;
+    }
+
+    /**
+     * append the utf-8 bytes of the string
+     *
+     * @param value string
+     * @return this
+     */
+    public TxMessageBuilder utf8(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return bytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            if (position == buffer.length) {
+                flush();
+            }
+            buffer[position++] = (byte) value.charAt(i);
+        }
+        return this;
+    }
+
+    public TxMessageBuilder utf8s(List<String> values) {
+        for (String value : values) {
+            utf8(value);
+        }
+        return this;
+    }
+
+    /**
+     * append raw bytes
+     *
+     * @param bytes bytes
+     * @return this
+     */
+    public TxMessageBuilder bytes(byte[] bytes) {
+        flush();
+        digest.update(bytes, 0, bytes.length);
+        return this;
+    }
+
+    /**
+     * keccak256 of the appended fields, the builder is reset afterwards
+     *
+     * @return 32 bytes hash
+     */
+    public byte[] hash() {
+        flush();
+        byte[] hash = new byte[WORD_LENGTH];
+        digest.doFinal(hash, 0);
+        return hash;
+    }
+
+    private void ensure(int length) {
+        if (position + length > buffer.length) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (position > 0) {
+            digest.update(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private static int digit(char c, String address) {
+        int digit = HexCodec.digit(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("address not verify:" + address);
+        }
+        return digit;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core;
+
+import java.util.concurrent.TimeUnit;
+
+import com.webank.openledger.core.term.TermService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * service construction, cached ledger and project account vs reload before every service
+ * needs the node of application.properties
+ * run with: ./gradlew :core:jmh -PjmhArgs=BlockchainBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockchainBenchmark {
+    private static final String TERM_ADDRESS = "0x6f6226990a1a071f13e131a45bcf99c83fc75ba5";
+
+    private Blockchain blockchain;
+
+    @Setup
+    public void setUp() {
+        blockchain = new Blockchain("application.properties");
+        new TermService(blockchain, TERM_ADDRESS);
+    }
+
+    @Benchmark
+    public TermService uncached() {
+        blockchain.reload();
+        return new TermService(blockchain, TERM_ADDRESS);
+    }
+
+    @Benchmark
+    public TermService cached() {
+        return new TermService(blockchain, TERM_ADDRESS);
+    }
+}
@@ -16,8 +16,13 @@
 package com.webank.openledger.core;
 
 
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
 /**
  * @author Rich Zhao richzhao@webank.com
  */
@@ -30,4 +35,27 @@ public class BlockchainTest {
         String keyFile = blockchain.getTxKeyFile();
         System.out.println(keyFile);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getLedgerCached() {
+        blockchain = new Blockchain("application.properties");
+        assertSame(blockchain.getLedger(Blockchain.DEFAULT_LEDGERID), blockchain.getLedger(Blockchain.DEFAULT_LEDGERID));
+        assertSame(blockchain.getProjectAccount(), blockchain.getProjectAccount());
+        LedgerImpl ledger = blockchain.getLedger(Blockchain.DEFAULT_LEDGERID);
+        blockchain.reload();
+        assertNotSame(ledger, blockchain.getLedger(Blockchain.DEFAULT_LEDGERID));
+    }
+
+    @Test
+    public void withKeyPairLeavesSharedLedger() {
+        blockchain = new Blockchain("application.properties");
+        LedgerImpl ledger = blockchain.getLedger(Blockchain.DEFAULT_LEDGERID);
+        CryptoKeyPair projectKeyPair = ledger.getCryptoKeyPair();
+        CryptoKeyPair other = blockchain.getDefaultClient().getCryptoSuite().createKeyPair();
+
+        LedgerImpl view = ledger.withKeyPair(other);
+        assertEquals(other.getAddress(), view.getCryptoKeyPair().getAddress());
+        assertEquals(ledger.getLedgerId(), view.getLedgerId());
+        assertSame(projectKeyPair, blockchain.getLedger(Blockchain.DEFAULT_LEDGERID).getCryptoKeyPair());
+    }
+}
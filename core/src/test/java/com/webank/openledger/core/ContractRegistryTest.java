@@ -0,0 +1,98 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ContractRegistryTest {
+    private static final String ADDRESS = "0x9c8850ec1138350d119cc9c5b235a0e28a0ae18f";
+    private ContractRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new ContractRegistry();
+        DummyContract.LOADS.set(0);
+    }
+
+    @Test
+    public void reuseLoadedContract() {
+        DummyContract first = registry.getContract("1", ADDRESS, DummyContract.class, null, null);
+        DummyContract second = registry.getContract("1", ADDRESS.toUpperCase().replace("0X", "0x"), DummyContract.class, null, null);
+        assertSame(first, second);
+        assertEquals(ADDRESS, first.address);
+        assertEquals(1, DummyContract.LOADS.get());
+    }
+
+    @Test
+    public void separateLedgers() {
+        DummyContract first = registry.getContract("1", ADDRESS, DummyContract.class, null, null);
+        DummyContract second = registry.getContract("2", ADDRESS, DummyContract.class, null, null);
+        assertNotSame(first, second);
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void evict() {
+        DummyContract first = registry.getContract("1", ADDRESS, DummyContract.class, null, null);
+        registry.getContract("2", ADDRESS, DummyContract.class, null, null);
+        registry.evict("1", ADDRESS);
+        assertEquals(1, registry.size());
+        DummyContract second = registry.getContract("1", ADDRESS, DummyContract.class, null, null);
+        assertNotSame(first, second);
+        registry.evict(ADDRESS);
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void boundedSize() {
+        registry = new ContractRegistry(10);
+        for (int i = 0; i < 25; i++) {
+            registry.getContract(String.valueOf(i), ADDRESS, DummyContract.class, null, null);
+            assertTrue(registry.size() <= 10);
+        }
+        assertEquals(25, DummyContract.LOADS.get());
+    }
+
+    @Test
+    public void missingLoader() {
+        assertNull(registry.getContract("1", ADDRESS, String.class, null, null));
+    }
+
+    public static class DummyContract {
+        static final AtomicInteger LOADS = new AtomicInteger();
+        final String address;
+
+        DummyContract(String address) {
+            this.address = address;
+        }
+
+        public static DummyContract load(String contractAddress, Client client, CryptoKeyPair credential) {
+            LOADS.incrementAndGet();
+            return new DummyContract(contractAddress);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class TransactionContextTest {
+    private static final String ADDRESS = "0x9c8850ec1138350d119cc9c5b235a0e28a0ae18f";
+    private static final int SIGNERS = 8;
+    private static final int ROUNDS = 500;
+    private CryptoSuite cryptoSuite;
+    private Client client;
+    private ContractRegistry registry;
+
+    @Before
+    public void setUp() {
+        cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class[]{Client.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getCryptoSuite":
+                    return cryptoSuite;
+                case "getGroupId":
+                    return 1;
+                case "getChainId":
+                    return "1";
+                case "getCryptoType":
+                    return CryptoType.ECDSA_TYPE;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return null;
+            }
+        });
+        registry = new ContractRegistry();
+    }
+
+    @Test
+    public void concurrentSigners() throws Exception {
+        CryptoKeyPair shared = cryptoSuite.getCryptoKeyPair();
+        ExecutorService executor = Executors.newFixedThreadPool(SIGNERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < SIGNERS; i++) {
+            // createKeyPair would replace the key pair of the suite
+            CryptoKeyPair keyPair = cryptoSuite.getKeyPairFactory().generateKeyPair();
+            TransactionContext context = new TransactionContext("1", client, keyPair, registry);
+            futures.add(executor.submit((Callable<Integer>) () -> {
+                start.await();
+                int submitted = 0;
+                for (int j = 0; j < ROUNDS; j++) {
+                    SignerContract contract = context.getContract(ADDRESS, SignerContract.class);
+                    assertEquals(keyPair.getAddress(), contract.submit());
+                    submitted++;
+                }
+                return submitted;
+            }));
+        }
+        start.countDown();
+        for (Future<Integer> future : futures) {
+            assertEquals(ROUNDS, future.get().intValue());
+        }
+        executor.shutdown();
+
+        assertSame(shared, cryptoSuite.getCryptoKeyPair());
+        assertEquals(SIGNERS, registry.size());
+    }
+
+    @Test
+    public void withKeyPair() {
+        CryptoKeyPair first = cryptoSuite.createKeyPair();
+        CryptoKeyPair second = cryptoSuite.createKeyPair();
+        TransactionContext context = new TransactionContext("1", client, first, registry);
+        TransactionContext other = context.withKeyPair(second);
+        assertEquals(first.getAddress(), context.getSigner());
+        assertEquals(second.getAddress(), other.getSigner());
+        assertSame(context.getClient(), other.getClient());
+    }
+
+    public static class SignerContract {
+        private final CryptoKeyPair credential;
+
+        SignerContract(CryptoKeyPair credential) {
+            this.credential = credential;
+        }
+
+        public static SignerContract load(String contractAddress, Client client, CryptoKeyPair credential) {
+            return new SignerContract(credential);
+        }
+
+        String submit() {
+            return credential.getAddress();
+        }
+    }
+}
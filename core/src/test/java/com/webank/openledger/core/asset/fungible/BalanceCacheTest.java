@@ -0,0 +1,179 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.asset.fungible;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BalanceCacheTest {
+    private static final String ASSET = "0x00000000000000000000000000000000000000aa";
+    private static final String ALICE = "0x00000000000000000000000000000000000000a1";
+    private static final String BOB = "0x00000000000000000000000000000000000000b0";
+
+    private static String word(String hex) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = hex.length(); i < 64; i++) {
+            sb.append('0');
+        }
+        return sb.append(hex).toString();
+    }
+
+    private static String address(String address) {
+        return word(address.substring(2));
+    }
+
+    private static String amount(long amount) {
+        return word(Long.toHexString(amount));
+    }
+
+    private static List<String> topics(String topic) {
+        return Collections.singletonList(topic);
+    }
+
+    private static BalanceCache liveCache(int maxSize) {
+        BalanceCache cache = new BalanceCache(account -> account, maxSize);
+        cache.markLive();
+        return cache;
+    }
+
+    private static void read(BalanceCache cache, String account, long balance, String reader) {
+        cache.put(ASSET, account, BigInteger.valueOf(balance), cache.stamp(ASSET, account), reader);
+    }
+
+    @Test
+    public void missUntilLive() {
+        BalanceCache cache = new BalanceCache(account -> account, 16);
+        long stamp = cache.stamp(ASSET, ALICE);
+        cache.put(ASSET, ALICE, BigInteger.TEN, stamp, ALICE);
+        assertNull(cache.get(ASSET, ALICE, ALICE));
+        cache.markLive();
+        // the read was taken before the feed was live
+        cache.put(ASSET, ALICE, BigInteger.TEN, stamp, ALICE);
+        assertNull(cache.get(ASSET, ALICE, ALICE));
+        read(cache, ALICE, 10, ALICE);
+        assertEquals(BigInteger.TEN, cache.get(ASSET, ALICE, ALICE));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void onlyCheckedReaders() {
+        BalanceCache cache = liveCache(16);
+        read(cache, ALICE, 10, ALICE);
+        assertNull(cache.get(ASSET, ALICE, BOB));
+        assertNull(cache.get(ASSET, ALICE, null));
+        read(cache, ALICE, 10, BOB.toUpperCase().replace("0X", "0x"));
+        assertEquals(BigInteger.TEN, cache.get(ASSET, ALICE, BOB));
+        assertEquals(BigInteger.TEN, cache.get(ASSET, ALICE, ALICE));
+        // a new balance only keeps the reader of its read
+        read(cache, ALICE, 11, ALICE);
+        assertNull(cache.get(ASSET, ALICE, BOB));
+        assertEquals(BigInteger.valueOf(11), cache.get(ASSET, ALICE, ALICE));
+    }
+
+    @Test
+    public void eventsDropEntries() {
+        BalanceCache cache = liveCache(16);
+        read(cache, ALICE, 100, ALICE);
+        read(cache, BOB, 0, BOB);
+        cache.onLog(ASSET, topics(BalanceCache.TRANSFER_TOPIC), "0x" + address(ALICE) + address(BOB) + amount(30));
+        assertNull(cache.get(ASSET, ALICE, ALICE));
+        assertNull(cache.get(ASSET, BOB, BOB));
+        read(cache, ALICE, 70, ALICE);
+        cache.onLog(ASSET, topics(BalanceCache.WITHDRAWAL_TOPIC), "0x" + address(BOB) + amount(5));
+        assertEquals(BigInteger.valueOf(70), cache.get(ASSET, ALICE, ALICE));
+        cache.onLog(ASSET, topics(BalanceCache.DEPOSIT_TOPIC), "0x" + address(ALICE) + amount(7));
+        assertNull(cache.get(ASSET, ALICE, ALICE));
+        assertEquals(4, cache.getInvalidationCount());
+    }
+
+    @Test
+    public void readYourWrites() {
+        BalanceCache cache = liveCache(16);
+        read(cache, ALICE, 10, ALICE);
+        long stamp = cache.stamp(ASSET, ALICE);
+        TransactionReceipt.Logs deposit = new TransactionReceipt.Logs();
+        deposit.setAddress(ASSET.toUpperCase().replace("0X", "0x"));
+        deposit.setTopics(topics(BalanceCache.DEPOSIT_TOPIC));
+        deposit.setData("0x" + address(ALICE) + amount(7));
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setStatus("0x0");
+        receipt.setLogs(Collections.singletonList(deposit));
+        // the writer feeds its receipt before the event feed delivers the deposit
+        cache.onReceipt(ASSET, receipt);
+        assertNull(cache.get(ASSET, ALICE, ALICE));
+        cache.put(ASSET, ALICE, BigInteger.TEN, stamp, ALICE);
+        assertNull(cache.get(ASSET, ALICE, ALICE));
+        read(cache, ALICE, 17, ALICE);
+        assertEquals(BigInteger.valueOf(17), cache.get(ASSET, ALICE, ALICE));
+    }
+
+    @Test
+    public void readStampedBeforeEvent() {
+        BalanceCache cache = liveCache(16);
+        long stamp = cache.stamp(ASSET, ALICE);
+        cache.onLog(ASSET, topics(BalanceCache.DEPOSIT_TOPIC), "0x" + address(ALICE) + amount(7));
+        cache.put(ASSET, ALICE, BigInteger.TEN, stamp, ALICE);
+        assertNull(cache.get(ASSET, ALICE, ALICE));
+        read(cache, ALICE, 17, ALICE);
+        assertEquals(BigInteger.valueOf(17), cache.get(ASSET, ALICE, ALICE));
+    }
+
+    @Test
+    public void gapDropsEverything() {
+        BalanceCache cache = liveCache(16);
+        read(cache, ALICE, 10, ALICE);
+        cache.onGap();
+        assertEquals(0, cache.size());
+        read(cache, ALICE, 10, ALICE);
+        assertNull(cache.get(ASSET, ALICE, ALICE));
+    }
+
+    @Test
+    public void boundedInnerAccounts() {
+        AtomicBoolean offline = new AtomicBoolean();
+        BalanceCache cache = new BalanceCache(account -> offline.get() ? null : account, 100);
+        for (int i = 0; i < 101; i++) {
+            cache.getInnerAccount("0x" + Integer.toHexString(i + 1));
+        }
+        // about a tenth is dropped, the rest still resolves without a chain read
+        offline.set(true);
+        int kept = 0;
+        for (int i = 0; i < 101; i++) {
+            if (cache.getInnerAccount("0x" + Integer.toHexString(i + 1)) != null) {
+                kept++;
+            }
+        }
+        assertEquals(90, kept);
+    }
+
+    @Test
+    public void boundedSize() {
+        BalanceCache cache = liveCache(100);
+        for (int i = 0; i < 1000; i++) {
+            read(cache, "0x" + Integer.toHexString(i + 1), i, ALICE);
+            assertTrue(cache.size() <= 100);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.asset.fungible;
+
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.webank.openledger.contracts.Currency;
+import com.webank.openledger.core.ContractRegistry;
+import com.webank.openledger.core.TransactionContext;
+import com.webank.openledger.core.asset.fungible.entity.TransferInstruction;
+import com.webank.openledger.core.asset.fungible.entity.TransferResult;
+import com.webank.openledger.core.auth.NonceManager;
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.response.ResponseData;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchTransferSubmitterTest {
+    private static final String ASSET = "0x00000000000000000000000000000000000000aa";
+    private static final String OPERATOR = "0x00000000000000000000000000000000000000a1";
+    private static final String FROM = "0x00000000000000000000000000000000000000a2";
+    private static final String TO = "0x00000000000000000000000000000000000000a3";
+
+    private CryptoSuite cryptoSuite;
+    private StubAssetService service;
+
+    /**
+     * asset service keeping the sent transfers, the test completes them
+     */
+    private static final class StubAssetService extends StandardAssetService<Currency> {
+        private final List<byte[]> messages = new CopyOnWriteArrayList<>();
+        private final List<CompletableFuture<ResponseData<TransferResult>>> futures = new CopyOnWriteArrayList<>();
+
+        StubAssetService(TransactionContext context) {
+            super(context, ASSET, Currency.class);
+        }
+
+        @Override
+        protected CompletableFuture<ResponseData<TransferResult>> transferAsync(List<String> addressList, BigInteger amount, int operationType, List<String> detailList, byte[] message, ECDSASignatureResult rs) {
+            CompletableFuture<ResponseData<TransferResult>> future = new CompletableFuture<>();
+            messages.add(message);
+            futures.add(future);
+            return future;
+        }
+
+        void awaitSent(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (futures.size() < count) {
+                assertTrue("sent " + futures.size() + " of " + count, System.currentTimeMillis() < deadline);
+                Thread.sleep(1);
+            }
+        }
+
+        void complete(int index, ErrorCode errorCode) {
+            futures.get(index).complete(new ResponseData<>(new TransferResult(ErrorCode.SUCCESS == errorCode, BigInteger.ONE, BigInteger.valueOf(index)), errorCode));
+        }
+    }
+
+    @Before
+    public void setUp() {
+        cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        Client client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class[]{Client.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getCryptoSuite":
+                    return cryptoSuite;
+                case "getGroupId":
+                    return 1;
+                case "getCryptoType":
+                    return CryptoType.ECDSA_TYPE;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return null;
+            }
+        });
+        CryptoKeyPair keyPair = cryptoSuite.getKeyPairFactory().generateKeyPair();
+        service = new StubAssetService(new TransactionContext("1", client, keyPair, new ContractRegistry()));
+    }
+
+    private List<TransferInstruction> instructions(CryptoKeyPair signer, int count) {
+        List<TransferInstruction> instructions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            instructions.add(new TransferInstruction(signer, OPERATOR, FROM, TO, BigInteger.valueOf(i + 1), 1, "transfer"));
+        }
+        return instructions;
+    }
+
+    private static byte[] message(TransferInstruction instruction, long nonce) throws Exception {
+        List<String> addressList = StandardAssetService.genAddress(FROM, TO, OPERATOR, ASSET, null);
+        return StandardAssetService.computeTxMsg(addressList, instruction.getAmount(), StandardAssetService.genType(1),
+                StandardAssetService.genDetail(instruction.getDesc(), null), BigInteger.valueOf(nonce));
+    }
+
+    @Test
+    public void oneSignerIsPipelined() throws Exception {
+        CryptoKeyPair signer = cryptoSuite.getKeyPairFactory().generateKeyPair();
+        BatchTransferSubmitter submitter = new BatchTransferSubmitter(service, new NonceManager(account -> BigInteger.valueOf(100)), 8);
+        List<TransferInstruction> instructions = instructions(signer, 20);
+
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        Future<List<ResponseData<TransferResult>>> results = reader.submit(() -> submitter.submitAll(instructions));
+        // the whole window is sent before any receipt of the signer
+        service.awaitSent(8);
+        assertEquals(8, service.futures.size());
+        for (int i = 0; i < 20; i++) {
+            service.awaitSent(i + 1);
+            service.complete(i, ErrorCode.SUCCESS);
+        }
+        List<ResponseData<TransferResult>> transfers = results.get(10, TimeUnit.SECONDS);
+        reader.shutdown();
+        for (int i = 0; i < 20; i++) {
+            assertEquals(BigInteger.valueOf(i), transfers.get(i).getResult().getSeqNo());
+            // nonces are reserved in input order
+            assertArrayEquals(message(instructions.get(i), 100 + i), service.messages.get(i));
+        }
+    }
+
+    @Test
+    public void resultsInInputOrder() throws Exception {
+        CryptoKeyPair first = cryptoSuite.getKeyPairFactory().generateKeyPair();
+        CryptoKeyPair second = cryptoSuite.getKeyPairFactory().generateKeyPair();
+        List<TransferInstruction> instructions = new ArrayList<>();
+        instructions.addAll(instructions(first, 2));
+        instructions.addAll(instructions(second, 2));
+        BatchTransferSubmitter submitter = new BatchTransferSubmitter(service, new NonceManager(account -> BigInteger.ZERO), 4);
+
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        Future<List<ResponseData<TransferResult>>> results = reader.submit(() -> submitter.submitAll(instructions));
+        service.awaitSent(4);
+        for (int i : Arrays.asList(3, 1, 2, 0)) {
+            service.complete(i, i == 2 ? ErrorCode.ASSET_TRANSFER_ERROR : ErrorCode.SUCCESS);
+        }
+        List<ResponseData<TransferResult>> transfers = results.get(10, TimeUnit.SECONDS);
+        reader.shutdown();
+        for (int i = 0; i < 4; i++) {
+            assertEquals(BigInteger.valueOf(i), transfers.get(i).getResult().getSeqNo());
+        }
+        assertEquals(ErrorCode.ASSET_TRANSFER_ERROR.getCode(), transfers.get(2).getErrorCode().intValue());
+        assertEquals(ErrorCode.SUCCESS.getCode(), transfers.get(3).getErrorCode().intValue());
+    }
+}
@@ -18,6 +18,7 @@ package com.webank.openledger.core.asset.fungible;
 
 import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.webank.openledger.contracts.AuthCenter;
@@ -26,6 +27,8 @@ import com.webank.openledger.core.AccountImplTest;
 import com.webank.openledger.core.Blockchain;
 import com.webank.openledger.core.ConnectionImpl;
 import com.webank.openledger.core.asset.fungible.entity.CurrencyEntity;
+import com.webank.openledger.core.asset.fungible.entity.TransferInstruction;
+import com.webank.openledger.core.asset.fungible.entity.TransferLeg;
 import com.webank.openledger.core.asset.fungible.entity.TransferResult;
 import com.webank.openledger.core.auth.AuthCenterService;
 import com.webank.openledger.core.exception.OpenLedgerBaseException;
@@ -160,5 +163,80 @@ public class CurrencyServiceTest extends FungibleAssetServiceTest {
         log.info(responseData.getResult().toString());
     }
 
+    @Test
+    public void depositAsync() throws Exception {
+        String account = admin.getAddress();
+        String operatorAddress = operator.getAddress();
+        BigInteger amount = BigInteger.valueOf(100);
+        String detail = "TEST";
+        String subject = "subject";
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(operator.getAddress()).getResult();
+        List<String> addressList = StandardAssetService.genAddress(null, account, operatorAddress, contractAddress, assetAddress);
+        byte[] message = StandardAssetService.computeTxMsg(addressList, amount.multiply(BigInteger.valueOf(10).pow(DECIMALS)), StandardAssetService.genType(1), StandardAssetService.genDetail(detail, subject), nonce);
+        ECDSASignatureResult sign = OpenLedgerUtils.sign(operator, message);
+
+        ResponseData<TransferResult> responseData = currencySDK.depositAsync(operatorAddress, account, amount, 1, detail, subject, assetAddress, message, sign).get();
+        log.info(responseData.getErrMsg());
+        assertTrue(responseData.getResult() != null && responseData.getResult().getIsSuccees());
+    }
+
+    @Test
+    public void batchTransfer() {
+        BatchTransferSubmitter submitter = new BatchTransferSubmitter(currencySDK,
+                account -> authCenterSDK.getNonceFromAccount(account).getResult(), 16);
+        List<TransferInstruction> instructions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            instructions.add(new TransferInstruction(operator, operator.getAddress(), admin.getAddress(), user.getAddress(), BigInteger.ONE, 1, "batch" + i));
+        }
+        List<ResponseData<TransferResult>> results = submitter.submitAll(instructions);
+        assertEquals(instructions.size(), results.size());
+        for (ResponseData<TransferResult> responseData : results) {
+            log.info(responseData.getErrMsg());
+            assertTrue(responseData.getResult() != null && responseData.getResult().getIsSuccees());
+        }
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void batchDeposit() throws OpenLedgerBaseException, UnsupportedEncodingException {
+        String operatorAddress = operator.getAddress();
+        List<TransferLeg> legs = new ArrayList<>();
+        legs.add(TransferLeg.deposit(admin.getAddress(), BigInteger.valueOf(100)));
+        legs.add(TransferLeg.deposit(user.getAddress(), BigInteger.valueOf(50)));
+        String detail = "TEST";
+        String subject = "subject";
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(operatorAddress).getResult();
+        List<String> addressList = StandardAssetService.genBatchAddress(legs, operatorAddress, contractAddress, assetAddress);
+        List<BigInteger> amounts = new ArrayList<>();
+        for (TransferLeg leg : legs) {
+            amounts.add(leg.getAmount().multiply(BigInteger.valueOf(10).pow(DECIMALS)));
+        }
+        byte[] message = StandardAssetService.computeBatchTxMsg(addressList, amounts, StandardAssetService.genType(1), StandardAssetService.genDetail(detail, subject), nonce);
+        ECDSASignatureResult sign = OpenLedgerUtils.sign(operator, message);
+
+        ResponseData<List<TransferResult>> responseData = currencySDK.batchDeposit(operatorAddress, legs, 1, detail, subject, assetAddress, message, sign);
+        log.info(responseData.getErrMsg());
+        assertEquals(legs.size(), responseData.getResult().size());
+    }
+
+    @Test
+    public void onChainBatchTransfer() throws OpenLedgerBaseException, UnsupportedEncodingException {
+        String operatorAddress = operator.getAddress();
+        List<TransferLeg> legs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            legs.add(new TransferLeg(admin.getAddress(), user.getAddress(), BigInteger.ONE));
+        }
+        String detail = "batch";
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(operatorAddress).getResult();
+        List<String> addressList = StandardAssetService.genBatchAddress(legs, operatorAddress, contractAddress, null);
+        byte[] message = StandardAssetService.computeBatchTxMsg(addressList, StandardAssetService.genBatchAmount(legs), StandardAssetService.genType(1), StandardAssetService.genDetail(detail, null), nonce);
+        ECDSASignatureResult sign = OpenLedgerUtils.sign(operator, message);
+
+        ResponseData<List<TransferResult>> responseData = currencySDK.batchTransfer(operatorAddress, legs, 1, detail, null, null, message, sign);
+        log.info(responseData.getErrMsg());
+        List<TransferResult> results = responseData.getResult();
+        assertEquals(legs.size(), results.size());
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i).getSeqNo().compareTo(results.get(i - 1).getSeqNo()) > 0);
+        }
+    }
+}
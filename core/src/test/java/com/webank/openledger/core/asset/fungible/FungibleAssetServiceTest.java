@@ -18,7 +18,10 @@ package com.webank.openledger.core.asset.fungible;
 
 import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.webank.openledger.contracts.AuthCenter;
 import com.webank.openledger.contracts.FungibleAsset;
@@ -29,6 +32,7 @@ import com.webank.openledger.core.asset.fungible.entity.Condition;
 import com.webank.openledger.core.asset.fungible.entity.RecordEntity;
 import com.webank.openledger.core.asset.fungible.entity.TransferResult;
 import com.webank.openledger.core.auth.AuthCenterService;
+import com.webank.openledger.core.common.PagedIterator;
 import com.webank.openledger.core.constant.ErrorCode;
 import com.webank.openledger.core.exception.OpenLedgerBaseException;
 import com.webank.openledger.core.response.DataToolUtils;
@@ -252,6 +256,23 @@ public class FungibleAssetServiceTest {
         }
     }
 
+    @Test
+    public void getHoldersIterator() throws OpenLedgerBaseException {
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(admin.getAddress()).getResult();
+        byte[] message = OpenLedgerUtils.computeKeccak256HashFromBigInteger(nonce);
+        List<String> holders = fungibleAssetService.getHolders(message, OpenLedgerUtils.sign(admin, message));
+        List<String> streamed = new ArrayList<>();
+        ExecutorService prefetch = Executors.newSingleThreadExecutor();
+        try (PagedIterator<String> iterator = fungibleAssetService.getHoldersIterator(2, prefetch, message, OpenLedgerUtils.sign(admin, message))) {
+            iterator.forEachRemaining(streamed::add);
+        } finally {
+            prefetch.shutdown();
+        }
+        assertEquals(holders, streamed);
+        assertEquals(BigInteger.valueOf(holders.size()),
+                fungibleAssetService.getHolders(BigInteger.ZERO, BigInteger.ONE, message, OpenLedgerUtils.sign(admin, message)).getValue2());
+    }
+
     @Test
     public void getTotalBalance() throws OpenLedgerBaseException {
         BigInteger nonce = authCenterSDK.getNonceFromAccount(admin.getAddress()).getResult();
@@ -259,6 +280,15 @@ public class FungibleAssetServiceTest {
         System.out.println(fungibleAssetService.getTotalBalance(message, OpenLedgerUtils.sign(admin, message)));
     }
 
+    @Test
+    public void getTotalBalanceVerified() throws OpenLedgerBaseException {
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(admin.getAddress()).getResult();
+        byte[] message = OpenLedgerUtils.computeKeccak256HashFromBigInteger(nonce);
+        BigInteger running = fungibleAssetService.getTotalBalance(message, OpenLedgerUtils.sign(admin, message));
+        BigInteger verified = fungibleAssetService.getTotalBalance(message, OpenLedgerUtils.sign(admin, message), true);
+        assertEquals(running, verified);
+    }
+
     @Test
     public void addBook() throws OpenLedgerBaseException {
         BigInteger nonce = authCenterSDK.getNonceFromAccount(admin.getAddress()).getResult();
@@ -0,0 +1,188 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.asset.nonfungible;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchSchedulerTest {
+    private static final long START = 1_600_000_000_000L;
+
+    /**
+     * records "effective:batchNo" and "expired:batchNo"
+     */
+    private static final class Recorder implements BatchScheduler.Listener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onEffective(BigInteger batchNo, long effectiveDate) {
+            events.add("effective:" + batchNo);
+        }
+
+        @Override
+        public void onExpired(BigInteger batchNo, long expirationDate) {
+            events.add("expired:" + batchNo);
+        }
+
+        List<String> take() {
+            List<String> taken = new ArrayList<>(events);
+            events.clear();
+            return taken;
+        }
+    }
+
+    /**
+     * the listener runs on the calling thread of tick
+     */
+    private static BatchScheduler scheduler(Recorder recorder, AtomicLong clock) {
+        return new BatchScheduler(recorder, 1000, 64, clock::get, Runnable::run);
+    }
+
+    @Test
+    public void fireBothDates() {
+        Recorder recorder = new Recorder();
+        AtomicLong clock = new AtomicLong(START);
+        BatchScheduler scheduler = scheduler(recorder, clock);
+        scheduler.schedule(BigInteger.ONE, START + 5000, START + 3_600_000);
+        scheduler.schedule(BigInteger.valueOf(2), 0, START + 2000);
+        assertEquals(2, scheduler.size());
+
+        clock.set(START + 2000);
+        scheduler.tick();
+        assertEquals(Collections.singletonList("expired:2"), recorder.take());
+        assertEquals(1, scheduler.size());
+
+        // the effective date must be passed, not reached
+        clock.set(START + 5000);
+        scheduler.tick();
+        assertEquals(Collections.emptyList(), recorder.take());
+        clock.set(START + 6000);
+        scheduler.tick();
+        assertEquals(Collections.singletonList("effective:1"), recorder.take());
+
+        clock.set(START + 3_600_000);
+        scheduler.tick();
+        assertEquals(Collections.singletonList("expired:1"), recorder.take());
+        assertEquals(0, scheduler.size());
+        assertEquals(3, scheduler.getFiredCount());
+    }
+
+    @Test
+    public void updateDates() {
+        Recorder recorder = new Recorder();
+        AtomicLong clock = new AtomicLong(START);
+        BatchScheduler scheduler = scheduler(recorder, clock);
+        scheduler.schedule(BigInteger.ONE, START + 5000, START + 10000);
+        scheduler.updateEffectiveDate(BigInteger.ONE, START + 7000);
+        scheduler.updateExpirationDate(BigInteger.ONE, START + 20000);
+
+        clock.set(START + 10000);
+        scheduler.tick();
+        assertEquals(Collections.singletonList("effective:1"), recorder.take());
+        clock.set(START + 20000);
+        scheduler.tick();
+        assertEquals(Collections.singletonList("expired:1"), recorder.take());
+    }
+
+    @Test
+    public void effectedAndRemoved() {
+        Recorder recorder = new Recorder();
+        AtomicLong clock = new AtomicLong(START);
+        BatchScheduler scheduler = scheduler(recorder, clock);
+        scheduler.schedule(BigInteger.ONE, START + 5000, START + 10000);
+        scheduler.schedule(BigInteger.valueOf(2), START + 5000, START + 10000);
+        scheduler.onEffected(BigInteger.ONE);
+        scheduler.remove(BigInteger.valueOf(2));
+
+        clock.set(START + 10000);
+        scheduler.tick();
+        assertEquals(Collections.singletonList("expired:1"), recorder.take());
+    }
+
+    @Test
+    public void passedDatesFireOnNextTick() {
+        Recorder recorder = new Recorder();
+        AtomicLong clock = new AtomicLong(START);
+        BatchScheduler scheduler = scheduler(recorder, clock);
+        scheduler.schedule(BigInteger.ONE, START - 5000, START - 1000);
+        scheduler.tick();
+        assertEquals(Arrays.asList("effective:1", "expired:1"), recorder.take());
+    }
+
+    @Test
+    public void listenerOffTheTicker() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        BatchScheduler.Listener listener = new BatchScheduler.Listener() {
+            @Override
+            public void onEffective(BigInteger batchNo, long effectiveDate) {
+                threadName.set(Thread.currentThread().getName());
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            }
+
+            @Override
+            public void onExpired(BigInteger batchNo, long expirationDate) {
+                done.countDown();
+            }
+        };
+        AtomicLong clock = new AtomicLong(START);
+        BatchScheduler scheduler = new BatchScheduler(listener, 1000, 64, clock::get, null);
+        scheduler.schedule(BigInteger.ONE, START - 5000, START + 2000);
+        // a blocked listener does not hold the ticks
+        scheduler.tick();
+        clock.set(START + 2000);
+        scheduler.tick();
+        assertEquals(2, scheduler.getFiredCount());
+        release.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals("batch-listener", threadName.get());
+        scheduler.close();
+    }
+
+    @Test
+    public void manyBatches() {
+        Recorder recorder = new Recorder();
+        AtomicLong clock = new AtomicLong(START);
+        BatchScheduler scheduler = scheduler(recorder, clock);
+        int batches = 200000;
+        for (int i = 0; i < batches; i++) {
+            scheduler.schedule(BigInteger.valueOf(i), 0, START + 1000L * (1 + i % 86400));
+        }
+        for (int hour = 1; hour <= 24; hour++) {
+            clock.set(START + 3_600_000L * hour);
+            scheduler.tick();
+        }
+        assertEquals(batches, recorder.take().size());
+        assertEquals(0, scheduler.size());
+    }
+}
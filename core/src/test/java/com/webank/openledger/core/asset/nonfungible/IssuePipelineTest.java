@@ -0,0 +1,243 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core.asset.nonfungible;
+
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.webank.openledger.core.ContractRegistry;
+import com.webank.openledger.core.TransactionContext;
+import com.webank.openledger.core.asset.nonfungible.entity.IssueNoteResult;
+import com.webank.openledger.core.asset.nonfungible.entity.IssueOption;
+import com.webank.openledger.core.auth.NonceManager;
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import com.webank.openledger.core.response.ResponseData;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class IssuePipelineTest {
+    private static final String ASSET = "0x00000000000000000000000000000000000000aa";
+
+    /**
+     * asset service answering every chunk at once, the chunk with noteNoPrefix 'failing' fails
+     */
+    private static final class StubAssetService extends NonFungibleAssetService {
+        private final List<IssueOption> sent = new ArrayList<>();
+        private final List<byte[]> messages = new ArrayList<>();
+        private BigInteger failing;
+
+        StubAssetService(TransactionContext context) {
+            super(context, ASSET);
+        }
+
+        @Override
+        CompletableFuture<ResponseData<List<IssueNoteResult>>> sendIssue(IssueOption issueOption, byte[] message, ECDSASignatureResult rs) {
+            sent.add(issueOption);
+            messages.add(message);
+            if (issueOption.getNoteNoPrefix().equals(failing)) {
+                return CompletableFuture.completedFuture(new ResponseData<>(null, ErrorCode.ASSET_ISSUE_ERROR));
+            }
+            List<IssueNoteResult> results = new ArrayList<>();
+            for (BigInteger noteNo : noteNos(issueOption)) {
+                IssueNoteResult result = new IssueNoteResult();
+                result.setBatchNo(BigInteger.valueOf(sent.size()));
+                result.setNoteNo(noteNo);
+                results.add(result);
+            }
+            return CompletableFuture.completedFuture(new ResponseData<>(results, ErrorCode.SUCCESS));
+        }
+    }
+
+    private static StubAssetService service() {
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        Client client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class[]{Client.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getCryptoSuite":
+                    return cryptoSuite;
+                case "getGroupId":
+                    return 1;
+                case "getCryptoType":
+                    return CryptoType.ECDSA_TYPE;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return null;
+            }
+        });
+        CryptoKeyPair keyPair = cryptoSuite.getKeyPairFactory().generateKeyPair();
+        return new StubAssetService(new TransactionContext("1", client, keyPair, new ContractRegistry()));
+    }
+
+    private static IssuePipeline pipeline(StubAssetService service, int window) {
+        CryptoKeyPair signer = service.getContext().getKeyPair();
+        return new IssuePipeline(service, signer, new NonceManager(account -> BigInteger.valueOf(100)), window);
+    }
+    private static IssueOption option(long amount, long noteNoPrefix, int noteNoSize) {
+        IssueOption option = new IssueOption();
+        option.setIssuer("0x1");
+        option.setOperator("0x2");
+        option.setAmount(BigInteger.valueOf(amount));
+        option.setNoteNoPrefix(BigInteger.valueOf(noteNoPrefix));
+        option.setNoteNoSize(BigInteger.valueOf(noteNoSize));
+        option.setExpirationDate(new Date(System.currentTimeMillis() + 86400000L));
+        option.setDesc("issue");
+        return option;
+    }
+
+    /**
+     * noteNos created by NonFungibleAsset.createNote for the option
+     */
+    private static List<BigInteger> noteNos(IssueOption option) {
+        List<BigInteger> noteNos = new ArrayList<>();
+        BigInteger base = option.getNoteNoPrefix().multiply(BigInteger.TEN.pow(option.getNoteNoSize().intValue()));
+        for (long i = 0; i < option.getAmount().longValue(); i++) {
+            noteNos.add(base.add(BigInteger.valueOf(i + 1)));
+        }
+        return noteNos;
+    }
+
+    @Test
+    public void chunksKeepTheNoteNosOfOneIssue() throws OpenLedgerBaseException {
+        IssueOption option = option(1234, 77, 6);
+        List<IssueOption> chunks = IssuePipeline.split(option);
+        assertEquals(13, chunks.size());
+        assertEquals(13, IssuePipeline.chunkCount(option));
+
+        List<BigInteger> merged = new ArrayList<>();
+        for (IssueOption chunk : chunks) {
+            assertTrue(chunk.getAmount().intValue() <= 100);
+            assertEquals(BigInteger.valueOf(IssuePipeline.CHUNK_DIGITS), chunk.getNoteNoSize());
+            assertEquals(option.getIssuer(), chunk.getIssuer());
+            assertEquals(option.getExpirationDate(), chunk.getExpirationDate());
+            merged.addAll(noteNos(chunk));
+        }
+        assertEquals(BigInteger.valueOf(34), chunks.get(12).getAmount());
+        assertEquals(noteNos(option), merged);
+    }
+
+    @Test
+    public void fullRangeOfTheNoteNoSize() throws OpenLedgerBaseException {
+        IssueOption option = option(1000000, 5, 6);
+        assertEquals(10000, IssuePipeline.chunkCount(option));
+        IssueOption last = IssuePipeline.split(option).get(9999);
+        assertEquals(BigInteger.valueOf(59999), last.getNoteNoPrefix());
+        // the last note of the last chunk is the last note of the single issue
+        assertEquals(BigInteger.valueOf(6000000), noteNos(last).get(99));
+    }
+
+    @Test
+    public void smallNoteNoSizeUsesSmallerChunks() throws OpenLedgerBaseException {
+        IssueOption option = option(10, 3, 1);
+        List<IssueOption> chunks = IssuePipeline.split(option);
+        assertEquals(1, chunks.size());
+        assertEquals(BigInteger.ONE, chunks.get(0).getNoteNoSize());
+        assertEquals(noteNos(option), noteNos(chunks.get(0)));
+    }
+
+    @Test
+    public void windowBoundsTheChunksInFlight() throws Exception {
+        StubAssetService service = service();
+        IssueOption option = option(1000, 12, 4);
+        Iterator<ResponseData<List<IssueNoteResult>>> results = pipeline(service, 4).submit(option, 0).iterator();
+        // nothing is sent before the stream is read
+        assertEquals(0, service.sent.size());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(results.hasNext());
+            assertEquals(Math.min(10, i + 4), service.sent.size());
+            assertEquals(ErrorCode.SUCCESS.getCode(), results.next().getErrorCode().intValue());
+        }
+        assertFalse(results.hasNext());
+
+        List<IssueOption> chunks = IssuePipeline.split(option);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(chunks.get(i).getNoteNoPrefix(), service.sent.get(i).getNoteNoPrefix());
+            // nonces are reserved in chunk order
+            assertArrayEquals(NonFungibleAssetService.computeIssueMsg(ASSET, chunks.get(i), BigInteger.valueOf(100 + i)),
+                    service.messages.get(i));
+        }
+    }
+
+    @Test
+    public void stopAtTheFirstFailedChunk() throws Exception {
+        StubAssetService service = service();
+        IssueOption option = option(1000, 12, 4);
+        service.failing = IssuePipeline.split(option).get(2).getNoteNoPrefix();
+
+        List<ResponseData<List<IssueNoteResult>>> results = pipeline(service, 4).submit(option, 0).collect(Collectors.toList());
+        assertEquals(3, results.size());
+        assertEquals(ErrorCode.SUCCESS.getCode(), results.get(1).getErrorCode().intValue());
+        assertEquals(ErrorCode.ASSET_ISSUE_ERROR.getCode(), results.get(2).getErrorCode().intValue());
+        // the window ahead of the failed chunk was sent, nothing after it
+        assertEquals(6, service.sent.size());
+
+        StubAssetService failing = service();
+        failing.failing = service.failing;
+        try {
+            pipeline(failing, 4).issue(option, 0).count();
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("issue stopped, resume from chunk 2", e.getMessage());
+            assertEquals(ErrorCode.ASSET_ISSUE_ERROR.getCode(), ((OpenLedgerBaseException) e.getCause()).getCode());
+        }
+    }
+
+    @Test
+    public void resumeFromChunk() throws Exception {
+        StubAssetService service = service();
+        IssueOption option = option(1000, 12, 4);
+        List<IssueNoteResult> notes = pipeline(service, 4).issue(option, 7).collect(Collectors.toList());
+
+        List<IssueOption> chunks = IssuePipeline.split(option);
+        assertEquals(3, service.sent.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(chunks.get(7 + i).getNoteNoPrefix(), service.sent.get(i).getNoteNoPrefix());
+        }
+        // the notes of the confirmed chunks are not issued again
+        assertEquals(noteNos(option).subList(700, 1000),
+                notes.stream().map(IssueNoteResult::getNoteNo).collect(Collectors.toList()));
+        assertEquals(Collections.emptyList(), pipeline(service, 4).issue(option, 10).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void rejectsAmountBeyondTheNoteNoSize() {
+        try {
+            IssuePipeline.split(option(1001, 1, 3));
+            fail();
+        } catch (OpenLedgerBaseException e) {
+            assertEquals(ErrorCode.ASSET_ISSUE_ERROR.getCode(), e.getCode());
+        }
+    }
+}
@@ -19,6 +19,8 @@ import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +36,7 @@ import com.webank.openledger.core.asset.nonfungible.entity.IssueOptionBuilder;
 import com.webank.openledger.core.asset.nonfungible.entity.NonFungibleAssetRecord;
 import com.webank.openledger.core.asset.nonfungible.entity.NonFungibleCondition;
 import com.webank.openledger.core.asset.nonfungible.entity.Note;
+import com.webank.openledger.core.asset.nonfungible.entity.NoteRange;
 import com.webank.openledger.core.asset.nonfungible.entity.TransferNoteResult;
 import com.webank.openledger.core.auth.AuthCenterService;
 import com.webank.openledger.core.common.ValueModel;
@@ -46,6 +49,7 @@ import com.webank.openledger.utils.OpenLedgerUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DateUtils;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
 import org.fisco.bcos.sdk.crypto.CryptoSuite;
 import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
@@ -55,6 +59,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -183,6 +189,30 @@ public class NonFungibleAssetServiceTest {
         assertTrue(response.getErrorCode().equals(ErrorCode.SUCCESS.getCode()));
     }
 
+    @Test
+    public void testBatchTransfer() throws OpenLedgerBaseException, UnsupportedEncodingException {
+        List<String> toList = new ArrayList<>();
+        List<List<BigInteger>> notesList = new ArrayList<>();
+        toList.add(user.getAddress());
+        List<BigInteger> userNotes = new ArrayList<>();
+        userNotes.add(new BigInteger("20220006"));
+        userNotes.add(new BigInteger("20220007"));
+        notesList.add(userNotes);
+        toList.add(owner.getAddress());
+        List<BigInteger> ownerNotes = new ArrayList<>();
+        ownerNotes.add(new BigInteger("20220008"));
+        notesList.add(ownerNotes);
+
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(admin.getAddress()).getResult();
+        byte[] message = NonFungibleAssetService.computeBatchTransferMsg(contractAddress, admin.getAddress(), admin.getAddress(), toList, notesList, "desc", nonce);
+        ECDSASignatureResult sign = OpenLedgerUtils.sign(admin, message);
+        ResponseData<List<TransferNoteResult>> response = nonFungibleAssetService.batchTransfer(admin.getAddress(), admin.getAddress(), toList, notesList, "desc", message, sign);
+        log.info(response.getErrMsg());
+        assertTrue(response.getErrorCode().equals(ErrorCode.SUCCESS.getCode()));
+        assertEquals(3, response.getResult().size());
+        assertEquals(new BigInteger("20220008"), response.getResult().get(2).getNoteNo());
+    }
+
     @Test
     public void testGetAccountNotes() throws OpenLedgerBaseException {
         BigInteger nonce = authCenterSDK.getNonceFromAccount(user.getAddress()).getResult();
@@ -193,6 +223,138 @@ public class NonFungibleAssetServiceTest {
         log.info(response.toString());
     }
 
+    @Test
+    public void transferUnownedNoteFails() throws Exception {
+        List<BigInteger> noteNos = issueToAdmin(2);
+        // the notes are owned by admin, user can not move them
+        List<BigInteger> notes = Collections.singletonList(noteNos.get(0));
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(user.getAddress()).getResult();
+        byte[] message = NonFungibleAssetService.computeTransferMsg(contractAddress, user.getAddress(), user.getAddress(), owner.getAddress(), notes, "desc", nonce);
+        ECDSASignatureResult sign = OpenLedgerUtils.sign(user, message);
+        ResponseData<List<TransferNoteResult>> response = nonFungibleAssetService.transfer(user.getAddress(), user.getAddress(), owner.getAddress(), notes, "desc", message, sign);
+        log.info(response.getErrMsg());
+        assertNotEquals(ErrorCode.SUCCESS.getCode(), response.getErrorCode().intValue());
+        assertTrue(accountNotes(admin).contains(noteNos.get(0)));
+        assertFalse(accountNotes(owner).contains(noteNos.get(0)));
+    }
+
+    @Test
+    public void getAccountNotesAfterTransfer() throws Exception {
+        List<BigInteger> noteNos = issueToAdmin(3);
+        List<BigInteger> adminBefore = accountNotes(admin);
+        List<BigInteger> userBefore = accountNotes(user);
+        transferNotes(admin, user, Collections.singletonList(noteNos.get(1)));
+
+        // the last note of admin takes the position of the note transferred out
+        List<BigInteger> adminNotes = accountNotes(admin);
+        List<BigInteger> expected = new ArrayList<>(adminBefore);
+        expected.set(expected.indexOf(noteNos.get(1)), expected.remove(expected.size() - 1));
+        assertEquals(expected, adminNotes);
+        assertTrue(adminNotes.contains(noteNos.get(0)));
+        assertFalse(adminNotes.contains(noteNos.get(1)));
+        assertTrue(adminNotes.contains(noteNos.get(2)));
+        List<BigInteger> userNotes = accountNotes(user);
+        assertEquals(userBefore.size() + 1, userNotes.size());
+        assertTrue(userNotes.contains(noteNos.get(1)));
+        assertTrue(userNotes.containsAll(userBefore));
+    }
+
+    @Test
+    public void getAccountNoteRanges() throws Exception {
+        List<BigInteger> noteNos = issueToAdmin(5);
+        // one range after the issue
+        assertTrue(accountNoteRanges(admin).contains(range(noteNos.get(0), noteNos.get(4))));
+
+        // a transfer from the middle splits it
+        List<BigInteger> notes = Collections.singletonList(noteNos.get(2));
+        transferNotes(admin, user, notes);
+        List<String> adminRanges = accountNoteRanges(admin);
+        assertTrue(adminRanges.contains(range(noteNos.get(0), noteNos.get(1))));
+        assertTrue(adminRanges.contains(range(noteNos.get(3), noteNos.get(4))));
+        assertFalse(adminRanges.contains(range(noteNos.get(0), noteNos.get(4))));
+        assertTrue(accountNoteRanges(user).contains(range(noteNos.get(2), noteNos.get(2))));
+
+        // the note coming back merges the two parts
+        transferNotes(user, admin, notes);
+        adminRanges = accountNoteRanges(admin);
+        assertTrue(adminRanges.contains(range(noteNos.get(0), noteNos.get(4))));
+        assertFalse(adminRanges.contains(range(noteNos.get(0), noteNos.get(1))));
+        assertFalse(accountNoteRanges(user).contains(range(noteNos.get(2), noteNos.get(2))));
+    }
+
+    private void transferNotes(CryptoKeyPair from, CryptoKeyPair to, List<BigInteger> notes) throws Exception {
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(from.getAddress()).getResult();
+        byte[] message = NonFungibleAssetService.computeTransferMsg(contractAddress, from.getAddress(), from.getAddress(), to.getAddress(), notes, "desc", nonce);
+        ECDSASignatureResult sign = OpenLedgerUtils.sign(from, message);
+        ResponseData<List<TransferNoteResult>> response = nonFungibleAssetService.transfer(from.getAddress(), from.getAddress(), to.getAddress(), notes, "desc", message, sign);
+        assertEquals(ErrorCode.SUCCESS.getCode(), response.getErrorCode().intValue());
+    }
+
+    private static String range(BigInteger start, BigInteger end) {
+        return start + "-" + end;
+    }
+
+    /**
+     * every range of the account as "start-end", checking the ranges are maximal and disjoint
+     */
+    private List<String> accountNoteRanges(CryptoKeyPair account) throws Exception {
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(account.getAddress()).getResult();
+        byte[] message = OpenLedgerUtils.computeKeccak256Hash(OpenLedgerUtils.getBytes32(nonce.toByteArray()));
+        ECDSASignatureResult sign = OpenLedgerUtils.sign(account, message);
+        Tuple2<List<NoteRange>, BigInteger> response = nonFungibleAssetService.getAccountNoteRanges(account.getAddress(), BigInteger.ZERO, BigInteger.valueOf(Integer.MAX_VALUE), message, sign);
+        assertEquals(response.getValue2().intValue(), response.getValue1().size());
+        List<NoteRange> sorted = new ArrayList<>(response.getValue1());
+        sorted.sort(Comparator.comparing(NoteRange::getStart));
+        List<String> ranges = new ArrayList<>();
+        BigInteger last = null;
+        for (NoteRange range : sorted) {
+            // a range next to the previous one would have been merged into it
+            assertTrue(last == null || range.getStart().compareTo(last.add(BigInteger.ONE)) > 0);
+            assertTrue(range.getEnd().compareTo(range.getStart()) >= 0);
+            last = range.getEnd();
+            ranges.add(range(range.getStart(), range.getEnd()));
+        }
+        return ranges;
+    }
+
+    /**
+     * issue notes to admin under a new prefix, the notes of earlier runs keep their numbers
+     */
+    private List<BigInteger> issueToAdmin(int amount) throws Exception {
+        IssueOption issueOption = IssueOptionBuilder.builder()
+                .withAmount(BigInteger.valueOf(amount))
+                .withNoteNoPrefix(BigInteger.valueOf(System.currentTimeMillis()))
+                .withNoteNoSize(BigInteger.valueOf(3))
+                .withIssuer(admin.getAddress())
+                .withOperator(admin.getAddress())
+                .withDesc("desc")
+                .withExpirationDate(DateUtils.addYears(new Date(), 2)).build();
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(admin.getAddress()).getResult();
+        byte[] message = NonFungibleAssetService.computeIssueMsg(contractAddress, issueOption, nonce);
+        ResponseData<List<IssueNoteResult>> response = nonFungibleAssetService.issue(issueOption, message, OpenLedgerUtils.sign(admin, message));
+        assertEquals(ErrorCode.SUCCESS.getCode(), response.getErrorCode().intValue());
+        List<BigInteger> noteNos = new ArrayList<>();
+        for (IssueNoteResult result : response.getResult()) {
+            noteNos.add(result.getNoteNo());
+        }
+        assertEquals(amount, noteNos.size());
+        return noteNos;
+    }
+
+    /**
+     * every note of the account
+     */
+    private List<BigInteger> accountNotes(CryptoKeyPair account) throws Exception {
+        BigInteger nonce = authCenterSDK.getNonceFromAccount(account.getAddress()).getResult();
+        byte[] message = OpenLedgerUtils.computeKeccak256Hash(OpenLedgerUtils.getBytes32(nonce.toByteArray()));
+        ECDSASignatureResult sign = OpenLedgerUtils.sign(account, message);
+        BigInteger size = nonFungibleAssetService.getAsset().getAccountNoteSize(account.getAddress(), OpenLedgerUtils.convertSignToByte(message, sign));
+        if (size.signum() == 0) {
+            return new ArrayList<>();
+        }
+        return nonFungibleAssetService.getAccountNotes(account.getAddress(), BigInteger.ZERO, size, message, sign);
+    }
+
     @Test
     public void testUpdateNoteNo() throws OpenLedgerBaseException {
         BigInteger noteNo1 = new BigInteger("20210004");
@@ -0,0 +1,201 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.asset.nonfungible;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.webank.openledger.core.asset.nonfungible.entity.Note;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NoteCacheTest {
+    private static final String ASSET = "0x00000000000000000000000000000000000000aa";
+    private static final String OTHER_ASSET = "0x00000000000000000000000000000000000000bb";
+    private static final String OWNER = "0x00000000000000000000000000000000000000a1";
+    private static final String ZERO = "0x0000000000000000000000000000000000000000";
+    private static final String READER = "0x00000000000000000000000000000000000000c1";
+    private static final String OTHER_READER = "0x00000000000000000000000000000000000000c2";
+
+    private static String word(long value) {
+        StringBuilder sb = new StringBuilder();
+        String hex = Long.toHexString(value);
+        for (int i = hex.length(); i < 64; i++) {
+            sb.append('0');
+        }
+        return sb.append(hex).toString();
+    }
+
+    private static List<String> topics(String topic) {
+        return Collections.singletonList(topic);
+    }
+
+    private static Note note(long noteNo, long batchNo, String owner) {
+        Note note = new Note();
+        note.setNoteNo(BigInteger.valueOf(noteNo));
+        note.setBatchNo(BigInteger.valueOf(batchNo));
+        note.setOwner(owner);
+        note.setIssuer(OWNER);
+        note.setStatus(BigInteger.valueOf(Note.EFFECTIVE_STATUS));
+        return note;
+    }
+
+    private static NoteCache liveCache(int maxSize) {
+        NoteCache cache = new NoteCache(maxSize);
+        cache.markLive();
+        return cache;
+    }
+
+    private static void put(NoteCache cache, String asset, Note note) {
+        cache.putNote(asset, note, cache.stampNote(asset, note.getNoteNo()), READER, OWNER);
+    }
+
+    private static Note get(NoteCache cache, String asset, long noteNo) {
+        return cache.getNote(asset, BigInteger.valueOf(noteNo), READER, OWNER);
+    }
+
+    private static void putProperties(NoteCache cache, long noteNo, Map<String, Object> properties) {
+        BigInteger key = BigInteger.valueOf(noteNo);
+        cache.putProperties(ASSET, key, properties, cache.stampProperties(ASSET, key), READER, OWNER);
+    }
+
+    private static Map<String, Object> getProperties(NoteCache cache, long noteNo) {
+        return cache.getProperties(ASSET, BigInteger.valueOf(noteNo), READER, OWNER);
+    }
+
+    @Test
+    public void missUntilLive() {
+        NoteCache cache = new NoteCache(16);
+        long stamp = cache.stampNote(ASSET, BigInteger.ONE);
+        put(cache, ASSET, note(1, 1, OWNER));
+        assertNull(get(cache, ASSET, 1));
+        cache.markLive();
+        // a read stamped before the feed was live may have missed an event
+        cache.putNote(ASSET, note(1, 1, OWNER), stamp, READER, OWNER);
+        assertNull(get(cache, ASSET, 1));
+        put(cache, ASSET, note(1, 1, OWNER));
+        assertEquals(OWNER, get(cache, ASSET, 1).getOwner());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void onlyCheckedReaders() {
+        NoteCache cache = liveCache(16);
+        put(cache, ASSET, note(1, 1, OWNER));
+        assertNotNull(cache.getNote(ASSET, BigInteger.ONE, READER.toUpperCase().replace("0X", "0x"), OWNER));
+        // another signer, the same signer for another account, or no valid signature read from chain
+        assertNull(cache.getNote(ASSET, BigInteger.ONE, OTHER_READER, OWNER));
+        assertNull(cache.getNote(ASSET, BigInteger.ONE, READER, ZERO));
+        assertNull(cache.getNote(ASSET, BigInteger.ONE, null, OWNER));
+        // the detail grant does not open the properties
+        putProperties(cache, 1, Collections.<String, Object>singletonMap("k", "v"));
+        assertNull(cache.getProperties(ASSET, BigInteger.ONE, OTHER_READER, OWNER));
+
+        // a second checked read of the same note adds its reader
+        cache.putNote(ASSET, note(1, 1, OWNER), cache.stampNote(ASSET, BigInteger.ONE), OTHER_READER, OWNER);
+        assertNotNull(cache.getNote(ASSET, BigInteger.ONE, OTHER_READER, OWNER));
+        assertNotNull(get(cache, ASSET, 1));
+    }
+
+    @Test
+    public void hitIsACopy() {
+        NoteCache cache = liveCache(16);
+        put(cache, ASSET, note(1, 1, OWNER));
+        get(cache, ASSET, 1).setOwner(ZERO);
+        assertEquals(OWNER, get(cache, ASSET, 1).getOwner());
+
+        putProperties(cache, 1, Collections.<String, Object>singletonMap("k", "v"));
+        getProperties(cache, 1).put("k", "changed");
+        assertEquals("v", getProperties(cache, 1).get("k"));
+        // the detail is kept when the properties are installed
+        assertNotNull(get(cache, ASSET, 1));
+    }
+
+    @Test
+    public void missingNoteIsNotCached() {
+        NoteCache cache = liveCache(16);
+        put(cache, ASSET, note(1, 1, ZERO));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void noteEvents() {
+        NoteCache cache = liveCache(16);
+        put(cache, ASSET, note(1, 1, OWNER));
+        put(cache, ASSET, note(2, 1, OWNER));
+        put(cache, OTHER_ASSET, note(1, 1, OWNER));
+
+        cache.onLog(ASSET, topics(NoteCache.NOTE_UPDATE_TOPIC), "0x" + word(1));
+        assertNull(get(cache, ASSET, 1));
+        assertNotNull(get(cache, OTHER_ASSET, 1));
+
+        cache.onLog(ASSET, topics(NoteCache.NOTE_STATUS_TOPIC), "0x" + word(2) + word(7) + word(Note.FREEZE_STATUS));
+        assertNull(get(cache, ASSET, 2));
+        assertEquals(2, cache.getInvalidationCount());
+    }
+
+    @Test
+    public void batchEventKeepsProperties() {
+        NoteCache cache = liveCache(16);
+        put(cache, ASSET, note(1, 5, OWNER));
+        put(cache, ASSET, note(2, 6, OWNER));
+        putProperties(cache, 1, Collections.<String, Object>singletonMap("k", "v"));
+
+        cache.onLog(ASSET, topics(NoteCache.BATCH_UPDATE_TOPIC), word(5));
+        assertNull(get(cache, ASSET, 1));
+        Map<String, Object> properties = getProperties(cache, 1);
+        assertEquals("v", properties.get("k"));
+        assertNotNull(get(cache, ASSET, 2));
+    }
+
+    @Test
+    public void readOlderThanEvent() {
+        NoteCache cache = liveCache(16);
+        long stamp = cache.stampNote(ASSET, BigInteger.ONE);
+        // the note changes while it is read
+        cache.onLog(ASSET, topics(NoteCache.NOTE_UPDATE_TOPIC), word(1));
+        cache.putNote(ASSET, note(1, 1, OWNER), stamp, READER, OWNER);
+        assertNull(get(cache, ASSET, 1));
+        put(cache, ASSET, note(1, 1, OWNER));
+        assertNotNull(get(cache, ASSET, 1));
+    }
+
+    @Test
+    public void gapDropsEverything() {
+        NoteCache cache = liveCache(16);
+        put(cache, ASSET, note(1, 1, OWNER));
+        cache.onLog(ASSET, topics(NoteCache.NOTE_UPDATE_TOPIC), "0x12");
+        assertEquals(0, cache.size());
+        put(cache, ASSET, note(1, 1, OWNER));
+        assertNull(get(cache, ASSET, 1));
+    }
+
+    @Test
+    public void boundedSize() {
+        NoteCache cache = liveCache(100);
+        for (int i = 0; i < 1000; i++) {
+            put(cache, ASSET, note(i, 1, OWNER));
+            assertTrue(cache.size() <= 100);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+
+package com.webank.openledger.core.auth;
+
+import java.math.BigInteger;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.webank.openledger.core.constant.ErrorCode;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import com.webank.openledger.core.response.ResponseData;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NonceManagerTest {
+    private static final String ACCOUNT = "0x9c8850ec1138350d119cc9c5b235a0e28a0ae18f";
+
+    @Test
+    public void reserveInOrder() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        NonceManager manager = new NonceManager(account -> {
+            loads.incrementAndGet();
+            return BigInteger.TEN;
+        });
+        assertEquals(BigInteger.valueOf(10), manager.reserve(ACCOUNT));
+        assertEquals(BigInteger.valueOf(11), manager.reserve(ACCOUNT.toUpperCase().replace("0X", "0x")));
+        assertEquals(BigInteger.valueOf(12), manager.reserve(ACCOUNT));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void resyncOnFailedReceipt() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        NonceManager manager = new NonceManager(account -> BigInteger.valueOf(loads.incrementAndGet()));
+        manager.reserve(ACCOUNT);
+        manager.reserve(ACCOUNT);
+
+        TransactionReceipt ok = new TransactionReceipt();
+        ok.setStatus("0x0");
+        assertTrue(manager.onReceipt(ACCOUNT, ok));
+        assertEquals(BigInteger.valueOf(3), manager.reserve(ACCOUNT));
+
+        TransactionReceipt failed = new TransactionReceipt();
+        failed.setStatus("0x16");
+        assertFalse(manager.onReceipt(ACCOUNT, failed));
+        assertTrue(manager.onReceipt(ACCOUNT, ok));
+        assertEquals(BigInteger.valueOf(2), manager.reserve(ACCOUNT));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void resyncWaitsForCallsInFlight() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        NonceManager manager = new NonceManager(account -> BigInteger.valueOf(10 * loads.incrementAndGet()));
+        assertEquals(BigInteger.valueOf(10), manager.reserve(ACCOUNT));
+        assertEquals(BigInteger.valueOf(11), manager.reserve(ACCOUNT));
+        manager.onResponse(ACCOUNT, new ResponseData<>(null, ErrorCode.UNKNOW_ERROR.getCode(), NonceManager.NONCE_ERROR_MESSAGE));
+
+        // 11 is still pending, a nonce read now could collide with it
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<BigInteger> next = executor.submit(() -> manager.reserve(ACCOUNT));
+        Thread.sleep(100);
+        assertFalse(next.isDone());
+        assertEquals(1, loads.get());
+
+        manager.onError(ACCOUNT);
+        assertEquals(BigInteger.valueOf(20), next.get(10, TimeUnit.SECONDS));
+        assertEquals(2, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    public void reloadWhenCallsAreNeverReported() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        NonceManager manager = new NonceManager(account -> BigInteger.valueOf(10 * loads.incrementAndGet()), 100);
+        manager.reserve(ACCOUNT);
+        manager.reserve(ACCOUNT);
+        manager.onError(ACCOUNT);
+
+        // the other call is never reported, reserve gives up waiting and reads the nonce from chain
+        long start = System.currentTimeMillis();
+        assertEquals(BigInteger.valueOf(20), manager.reserve(ACCOUNT));
+        assertTrue(System.currentTimeMillis() - start >= 100);
+        assertEquals(2, loads.get());
+
+        // a late report of the lost call does not block the next reserve
+        manager.onError(ACCOUNT);
+        assertEquals(BigInteger.valueOf(30), manager.reserve(ACCOUNT));
+    }
+
+    @Test(expected = OpenLedgerBaseException.class)
+    public void nonceNotAvailable() throws Exception {
+        new NonceManager(account -> null).reserve(ACCOUNT);
+    }
+
+    @Test
+    public void concurrentReserve() throws Exception {
+        NonceManager manager = new NonceManager(account -> BigInteger.ZERO);
+        Set<BigInteger> nonces = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    try {
+                        nonces.add(manager.reserve(ACCOUNT));
+                    } catch (OpenLedgerBaseException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(8000, nonces.size());
+        assertEquals(BigInteger.valueOf(8000), manager.reserve(ACCOUNT));
+    }
+}
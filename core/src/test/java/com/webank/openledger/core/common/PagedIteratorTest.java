@@ -0,0 +1,119 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.common;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PagedIteratorTest {
+    /**
+     * two book tables of the given sizes, the limits apply to each table like FungibleBook.query
+     */
+    private static PagedIterator.PageLoader<Integer> books(int first, int second, AtomicInteger calls) {
+        return limits -> {
+            calls.incrementAndGet();
+            int start = limits.get(0).intValue();
+            int end = limits.get(1).intValue();
+            List<Integer> page = new ArrayList<>();
+            for (int i = start; i < end && i < first; i++) {
+                page.add(i);
+            }
+            for (int i = start; i < end && i < second; i++) {
+                page.add(1000 + i);
+            }
+            return page;
+        };
+    }
+
+    @Test
+    public void readsEveryRecordOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> all = new PagedIterator<>(books(25, 7, calls), 0, 10, null).stream().collect(Collectors.toList());
+        assertEquals(32, all.size());
+        assertEquals(32, all.stream().distinct().count());
+        // three pages with records and the empty one that ends the iteration
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void startsFromOffset() {
+        PagedIterator<Integer> iterator = new PagedIterator<>(books(25, 0, new AtomicInteger()), 20, 10, null);
+        assertEquals(Integer.valueOf(20), iterator.next());
+        int rest = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            rest++;
+        }
+        assertEquals(4, rest);
+    }
+
+    @Test
+    public void prefetchKeepsOrder() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Integer> all = new ArrayList<>();
+            new PagedIterator<>(books(95, 0, new AtomicInteger()), 0, 10, executor).forEachRemaining(all::add);
+            assertEquals(95, all.size());
+            for (int i = 0; i < all.size(); i++) {
+                assertEquals(Integer.valueOf(i), all.get(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void emptyQuery() {
+        assertFalse(new PagedIterator<>(books(0, 0, new AtomicInteger()), 0, 10, null).hasNext());
+    }
+
+    @Test
+    public void failedPageIsThrown() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PagedIterator<BigInteger> iterator = new PagedIterator<>(limits -> {
+                if (limits.get(0).signum() > 0) {
+                    throw new OpenLedgerBaseException("book not readable");
+                }
+                List<BigInteger> page = new ArrayList<>();
+                page.add(BigInteger.ONE);
+                return page;
+            }, 0, 10, executor);
+            assertTrue(iterator.hasNext());
+            iterator.next();
+            try {
+                iterator.hasNext();
+                fail();
+            } catch (IllegalStateException e) {
+                assertTrue(e.getCause() instanceof OpenLedgerBaseException);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.common;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ReadCacheTest {
+
+    private static ReadCache<String, Integer> liveCache(int maxSize) {
+        ReadCache<String, Integer> cache = new ReadCache<>(maxSize);
+        cache.markLive();
+        return cache;
+    }
+
+    @Test
+    public void grantsOfTheSameValue() {
+        ReadCache<String, Integer> cache = liveCache(16);
+        cache.put("a", 1, cache.stamp("a"), "r1");
+        cache.put("a", 1, cache.stamp("a"), "r2");
+        assertEquals(Integer.valueOf(1), cache.get("a", "r1"));
+        assertEquals(Integer.valueOf(1), cache.get("a", "r2"));
+        // a read returning another value drops the grants of the old one
+        cache.put("a", 2, cache.stamp("a"), "r2");
+        assertNull(cache.get("a", "r1"));
+        assertEquals(Integer.valueOf(2), cache.get("a", "r2"));
+        assertNull(cache.get("a", null));
+    }
+
+    @Test
+    public void invalidateByValue() {
+        ReadCache<String, Integer> cache = liveCache(16);
+        cache.put("a", 1, cache.stamp("a"), "r");
+        cache.put("b", 2, cache.stamp("b"), "r");
+        long stamp = cache.stamp("c");
+        cache.invalidateIf((key, value) -> value == 1);
+        assertNull(cache.get("a", "r"));
+        assertEquals(Integer.valueOf(2), cache.get("b", "r"));
+        // the value of a read in flight is unknown, it is not installed
+        cache.put("c", 3, stamp, "r");
+        assertNull(cache.get("c", "r"));
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    public void wordsOfLogData() {
+        String data = "0x" + String.format("%064x", 7) + "000000000000000000000000" + "00000000000000000000000000000000000000a1";
+        assertEquals(7, ReadCache.word(data, 0).intValue());
+        assertEquals("0x00000000000000000000000000000000000000a1", ReadCache.address(data, 1));
+        assertEquals("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef",
+                ReadCache.topic("Transfer(address,address,uint256)"));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TimingWheelTest {
+
+    @Test
+    public void fireAtDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 4, 1000);
+        wheel.add(1025, "a");
+        wheel.add(1010, "b");
+        wheel.add(900, "past");
+        assertEquals(3, wheel.size());
+
+        assertEquals(Collections.singletonList("past"), wheel.advance(1000));
+        assertEquals(Collections.singletonList("b"), wheel.advance(1019));
+        // not before the deadline
+        assertEquals(Collections.emptyList(), wheel.advance(1029));
+        assertEquals(Collections.singletonList("a"), wheel.advance(1030));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void cascadeFromHigherLevels() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 4, 0);
+        // 4^5 ticks ahead needs five levels
+        wheel.add(1500, 1500L);
+        wheel.add(17, 17L);
+        wheel.add(64, 64L);
+        assertEquals(Collections.emptyList(), wheel.advance(16));
+        assertEquals(Arrays.asList(17L, 64L), wheel.advance(100));
+        assertEquals(Collections.emptyList(), wheel.advance(1499));
+        assertEquals(Collections.singletonList(1500L), wheel.advance(1500));
+    }
+
+    @Test
+    public void cancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8, 0);
+        TimingWheel.Timer<String> a = wheel.add(5, "a");
+        TimingWheel.Timer<String> b = wheel.add(500, "b");
+        wheel.add(5, "c");
+        assertTrue(wheel.cancel(a));
+        assertFalse(wheel.cancel(a));
+        assertTrue(wheel.cancel(b));
+        assertFalse(a.isPending());
+        assertEquals(Collections.singletonList("c"), wheel.advance(1000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void sameAsSorting() {
+        Random random = new Random(7);
+        TimingWheel<Long> wheel = new TimingWheel<>(3, 8, 100);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long deadline = 100 + random.nextInt(200000);
+            deadlines.add(deadline);
+            wheel.add(deadline, deadline);
+        }
+        List<Long> fired = new ArrayList<>();
+        for (long now = 100; now <= 201000; now += 1 + random.nextInt(500)) {
+            for (Long deadline : wheel.advance(now)) {
+                assertTrue(deadline <= now);
+                assertTrue(deadline > now - 500 - 3);
+                fired.add(deadline);
+            }
+        }
+        Collections.sort(deadlines);
+        Collections.sort(fired);
+        assertEquals(deadlines, fired);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.indexer;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import com.webank.openledger.core.asset.fungible.entity.Condition;
+import com.webank.openledger.core.asset.fungible.entity.RecordBuilder;
+import com.webank.openledger.core.asset.fungible.entity.RecordEntity;
+import com.webank.openledger.core.exception.OpenLedgerBaseException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RecordStoreTest {
+    private static final String ASSET = "0x00000000000000000000000000000000000000aa";
+    private static final String ALICE = "0x00000000000000000000000000000000000000a1";
+    private static final String BOB = "0x00000000000000000000000000000000000000b0";
+    private static final String ZERO = "0x0000000000000000000000000000000000000000";
+    private static final List<Integer> FIRST_LOG = Collections.singletonList(0);
+
+    private RecordStore store;
+
+    private static RecordEntity record(long termNo, long seq, String from, String to, long amount, int operationType) {
+        return RecordBuilder.buildRecordEntity()
+                .withTermNo(BigInteger.valueOf(termNo))
+                .withSeq(BigInteger.valueOf(seq))
+                .withFrom(from)
+                .withTo(to)
+                .withAmount(BigInteger.valueOf(amount))
+                .withAsset(ASSET)
+                .withOperator(ALICE)
+                .withDesc("desc")
+                .withTransactionType(BigInteger.valueOf(2))
+                .withOperationType(BigInteger.valueOf(operationType))
+                .withSubject("subject")
+                .withRelateAsset(ZERO)
+                .build();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        store = new RecordStore("jdbc:h2:mem:" + UUID.randomUUID());
+    }
+
+    @After
+    public void tearDown() {
+        store.close();
+    }
+
+    @Test
+    public void filterByCondition() throws Exception {
+        store.save(Collections.singletonList(record(1, 1, ZERO, ALICE, 100, 1)), FIRST_LOG, 10, "0x01");
+        store.save(Collections.singletonList(record(1, 2, ALICE, BOB, 30, 2)), FIRST_LOG, 11, "0x02");
+        store.save(Collections.singletonList(record(2, 3, BOB, ALICE, 5, 2)), FIRST_LOG, 12, "0x03");
+
+        assertEquals(3, store.query(ASSET, new Condition(null, null, null, null), null, 10).getRecords().size());
+        assertEquals(2, store.query(ASSET, new Condition(null, null, null, ALICE), null, 10).getRecords().size());
+        assertEquals(1, store.query(ASSET, new Condition(null, null, ALICE, BOB), null, 10).getRecords().size());
+        assertEquals(2, store.query(ASSET, new Condition(BigInteger.ONE, null, null, null), null, 10).getRecords().size());
+
+        Condition byOperation = new Condition(null, null, null, null);
+        byOperation.setOperationType(BigInteger.valueOf(2));
+        assertEquals(2, store.query(ASSET, byOperation, null, 10).getRecords().size());
+
+        RecordEntity found = store.query(ASSET, new Condition(null, BigInteger.valueOf(2), null, null), null, 10).getRecords().get(0);
+        assertEquals(ALICE, found.getFrom());
+        assertEquals(BOB, found.getTo());
+        assertEquals(BigInteger.valueOf(30), found.getAmount());
+        assertEquals(ALICE, found.getOperator());
+        assertEquals("desc", found.getDesc());
+        assertEquals("subject", found.getSubject());
+
+        assertTrue(store.query("0x00000000000000000000000000000000000000bb", new Condition(null, null, null, null), null, 10).getRecords().isEmpty());
+    }
+
+    @Test
+    public void pageByCursor() throws Exception {
+        List<RecordEntity> records = new ArrayList<>();
+        List<Integer> logIndexes = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            records.add(record(i <= 10 ? 1 : 2, i, ALICE, BOB, i, 0));
+            logIndexes.add(i - 1);
+        }
+        store.save(records, logIndexes, 10, "0x01");
+
+        List<BigInteger> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            RecordPage page = store.query(ASSET, new Condition(null, null, ALICE, null), cursor, 10);
+            for (RecordEntity record : page.getRecords()) {
+                seen.add(record.getSeq());
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(25, seen.size());
+        for (int i = 0; i < seen.size(); i++) {
+            assertEquals(BigInteger.valueOf(i + 1), seen.get(i));
+        }
+    }
+
+    @Test
+    public void lastFullPageHasNoCursor() throws Exception {
+        store.save(Collections.singletonList(record(1, 1, ALICE, BOB, 1, 0)), FIRST_LOG, 10, "0x01");
+        RecordPage page = store.query(ASSET, new Condition(null, null, null, null), null, 1);
+        assertEquals(1, page.getRecords().size());
+        assertFalse(page.hasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void saveIsIdempotent() throws Exception {
+        store.save(Collections.singletonList(record(1, 1, ALICE, BOB, 1, 0)), FIRST_LOG, 10, "0x01");
+        store.save(Collections.singletonList(record(1, 1, ALICE, BOB, 1, 0)), FIRST_LOG, 10, "0x01");
+        assertEquals(1, store.query(ASSET, new Condition(null, null, null, null), null, 10).getRecords().size());
+    }
+
+    @Test(expected = OpenLedgerBaseException.class)
+    public void oneRecordPerEvent() throws Exception {
+        store.save(Collections.singletonList(record(1, 1, ALICE, BOB, 1, 0)), FIRST_LOG, 10, "0x01");
+        store.save(Collections.singletonList(record(1, 2, ALICE, BOB, 1, 0)), FIRST_LOG, 10, "0x01");
+    }
+
+    @Test
+    public void indexedBlockOnlyMovesForward() throws Exception {
+        assertEquals(-1, store.getIndexedBlock(ASSET));
+        store.setIndexedBlock(ASSET, 20);
+        store.setIndexedBlock(ASSET, 15);
+        assertEquals(20, store.getIndexedBlock(ASSET));
+        assertEquals(-1, store.getIndexedBlock(BOB));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.webank.openledger.core.asset.fungible.entity.RecordColumns;
+import com.webank.openledger.core.asset.fungible.entity.RecordEntity;
+import com.webank.openledger.utils.HexCodec;
+import org.fisco.bcos.sdk.abi.FunctionReturnDecoder;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+import org.fisco.bcos.sdk.abi.datatypes.Utf8String;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * decode a queryBook page from the hex call output
+ * legacy is the wrapper decode into Utf8String, convertToNative and the old per field loop,
+ * records and columns are BookRecordDecoder, both include the hex decode of the output.
+ * run with: ./gradlew :core:jmh -PjmhArgs=BookRecordDecoderBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookRecordDecoderBenchmark {
+    @Param({"10000"})
+    private int records;
+
+    private String output;
+    private List<TypeReference<Type>> outputParameters;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        output = HexCodec.encode(BookRecordDecoderTest.encode(BookRecordDecoderTest.recordFields(records, new Random(1))));
+        outputParameters = Collections.singletonList((TypeReference<Type>) (TypeReference<?>) new TypeReference<DynamicArray<Utf8String>>() {
+        });
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<RecordEntity> legacy() {
+        List<Type> results = FunctionReturnDecoder.decode(output, outputParameters);
+        List<Utf8String> values = ((DynamicArray<Utf8String>) results.get(0)).getValue();
+        List<String> fields = new ArrayList<>(values.size());
+        for (Utf8String value : values) {
+            fields.add(value.getValue());
+        }
+        return BookRecordDecoderTest.legacyDecode(fields);
+    }
+
+    @Benchmark
+    public List<RecordEntity> records() {
+        return BookRecordDecoder.decodeRecords(HexCodec.decode(output));
+    }
+
+    @Benchmark
+    public RecordColumns columns() {
+        return BookRecordDecoder.decodeColumns(HexCodec.decode(output));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.core.response;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.webank.openledger.core.asset.fungible.entity.RecordBuilder;
+import com.webank.openledger.core.asset.fungible.entity.RecordColumns;
+import com.webank.openledger.core.asset.fungible.entity.RecordEntity;
+import com.webank.openledger.core.asset.nonfungible.entity.NonFungibleAssetRecord;
+import com.webank.openledger.utils.CompactAddress;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BookRecordDecoderTest {
+    /**
+     * ABI encoding of a string[] return value, same as the output of queryBook
+     */
+    public static byte[] encode(List<String> fields) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeWord(out, 32);
+        writeWord(out, fields.size());
+        List<byte[]> bodies = new ArrayList<>(fields.size());
+        int offset = fields.size() * 32;
+        for (String field : fields) {
+            byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+            bodies.add(bytes);
+            writeWord(out, offset);
+            offset += 32 + (bytes.length + 31) / 32 * 32;
+        }
+        for (byte[] bytes : bodies) {
+            writeWord(out, bytes.length);
+            out.write(bytes, 0, bytes.length);
+            for (int i = bytes.length % 32; i != 0 && i < 32; i++) {
+                out.write(0);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeWord(ByteArrayOutputStream out, long value) {
+        for (int i = 0; i < 24; i++) {
+            out.write(0);
+        }
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static String decimalAddress(Random random) {
+        return new BigInteger(160, random).toString();
+    }
+
+    /**
+     * flattened fields of fungible records, as printed by FungibleBook
+     */
+    public static List<String> recordFields(int records, Random random) {
+        List<String> fields = new ArrayList<>(records * BookRecordDecoder.RECORD_FIELDS);
+        for (int i = 0; i < records; i++) {
+            fields.add(String.valueOf(1 + i / 100));
+            fields.add(String.valueOf(i + 1));
+            fields.add(decimalAddress(random));
+            fields.add(decimalAddress(random));
+            fields.add(i % 10 == 0 ? new BigInteger(200, random).toString() : String.valueOf(random.nextInt(1000000)));
+            fields.add("transfer " + i + " \u8f6c\u8d26");
+            fields.add(decimalAddress(random));
+            fields.add(decimalAddress(random));
+            fields.add(String.valueOf(i % 3));
+            // a negative operation type is printed as uint256
+            fields.add(i % 7 == 0 ? BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE).toString() : String.valueOf(i % 5));
+            fields.add("0");
+            fields.add("subject" + i);
+        }
+        return fields;
+    }
+
+    /**
+     * the decode loop of StandardAssetService.query before BookRecordDecoder
+     */
+    public static List<RecordEntity> legacyDecode(List records) {
+        List<RecordEntity> recordEntities = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            RecordEntity recordEntity = RecordBuilder.buildRecordEntity()
+                    .withTermNo(new BigInteger(records.get(i).toString()))
+                    .withSeq(new BigInteger(records.get(++i).toString()))
+                    .withFrom(CompactAddress.parseDecimal(records.get(++i).toString()).toString())
+                    .withTo(CompactAddress.parseDecimal(records.get(++i).toString()).toString())
+                    .withAmount(new BigInteger(records.get(++i).toString()))
+                    .withDesc(records.get(++i).toString())
+                    .withAsset(CompactAddress.parseDecimal(records.get(++i).toString()).toString())
+                    .withOperator(CompactAddress.parseDecimal(records.get(++i).toString()).toString())
+                    .withTransactionType(new BigInteger(records.get(++i).toString()))
+                    .withOperationType(new BigInteger(records.get(++i).toString()))
+                    .withRelateAsset(CompactAddress.parseDecimal(records.get(++i).toString()).toString())
+                    .withSubject(records.get(++i).toString())
+                    .build();
+            recordEntities.add(recordEntity);
+        }
+        return recordEntities;
+    }
+
+    @Test
+    public void matchesLegacyDecode() {
+        List<String> fields = recordFields(500, new Random(1));
+        assertEquals(legacyDecode(fields), BookRecordDecoder.decodeRecords(encode(fields)));
+    }
+
+    @Test
+    public void columns() {
+        List<String> fields = recordFields(50, new Random(2));
+        List<RecordEntity> records = legacyDecode(fields);
+        RecordColumns columns = BookRecordDecoder.decodeColumns(encode(fields));
+        assertEquals(records.size(), columns.getSize());
+        for (int i = 0; i < records.size(); i++) {
+            RecordEntity record = records.get(i);
+            assertEquals(record.getTermNo().longValue(), columns.getTermNos()[i]);
+            assertEquals(record.getSeq().longValue(), columns.getSeqs()[i]);
+            assertEquals(record.getFrom(), columns.getFrom()[i].toString());
+            assertEquals(record.getTo(), columns.getTo()[i].toString());
+            assertEquals(record.getAmount(), columns.getAmounts()[i]);
+            assertEquals(record.getDesc(), columns.getDescs()[i]);
+            assertEquals(record.getOperator(), columns.getOperators()[i].toString());
+            assertEquals(record.getTransactionType().longValue(), columns.getTransactionTypes()[i]);
+            assertEquals(record.getOperationType().longValue(), columns.getOperationTypes()[i]);
+            assertEquals(record.getSubject(), columns.getSubjects()[i]);
+        }
+        assertEquals(-1L, columns.getOperationTypes()[0]);
+    }
+
+    @Test
+    public void noteRecords() {
+        List<String> fields = new ArrayList<>();
+        Collections.addAll(fields, "3", "42", "1", "255", "1000001", "issue", "170", "2");
+        List<NonFungibleAssetRecord> records = BookRecordDecoder.decodeNoteRecords(encode(fields));
+        assertEquals(1, records.size());
+        NonFungibleAssetRecord record = records.get(0);
+        assertEquals(BigInteger.valueOf(3), record.getTermNo());
+        assertEquals(BigInteger.valueOf(42), record.getSeq());
+        assertEquals("0x0000000000000000000000000000000000000001", record.getFrom());
+        assertEquals("0x00000000000000000000000000000000000000ff", record.getTo());
+        assertEquals(BigInteger.valueOf(1000001), record.getNoteNo());
+        assertEquals("issue", record.getDesc());
+        assertEquals("0x00000000000000000000000000000000000000aa", record.getAsset());
+    }
+
+    @Test
+    public void emptyOutput() {
+        assertTrue(BookRecordDecoder.decodeRecords(new byte[0]).isEmpty());
+        assertTrue(BookRecordDecoder.decodeRecords(encode(Collections.emptyList())).isEmpty());
+    }
+
+    @Test
+    public void rejectsMalformedOutput() {
+        List<String> fields = recordFields(1, new Random(3));
+        byte[] output = encode(fields);
+        try {
+            BookRecordDecoder.decodeRecords(java.util.Arrays.copyOf(output, output.length - 40));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        fields.set(0, "1x");
+        try {
+            BookRecordDecoder.decodeRecords(encode(fields));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            BookRecordDecoder.decodeRecords(encode(fields.subList(0, 5)));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
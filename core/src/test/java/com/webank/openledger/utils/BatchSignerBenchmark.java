@@ -0,0 +1,88 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * batch signing, sequential OpenLedgerUtils.sign vs BatchSigner on pools of different parallelism
+ * run with: ./gradlew :core:jmh -PjmhArgs=BatchSignerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchSignerBenchmark {
+    /**
+     * worker threads of the pool
+     */
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"256"})
+    private int messages;
+
+    private CryptoKeyPair keyPair;
+    private List<byte[]> hashes;
+    private ForkJoinPool pool;
+    private BatchSigner signer;
+
+    @Setup
+    public void setUp() {
+        keyPair = OpenLedgerUtils.ecdsaCryptoSuite.createKeyPair();
+        hashes = BatchSignerTest.randomMessages(new Random(1), messages);
+        pool = new ForkJoinPool(parallelism);
+        signer = new BatchSigner(pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ECDSASignatureResult sequential() {
+        ECDSASignatureResult last = null;
+        for (byte[] hash : hashes) {
+            last = OpenLedgerUtils.sign(keyPair, hash);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public List<ECDSASignatureResult> batch() {
+        return signer.sign(keyPair, hashes);
+    }
+}
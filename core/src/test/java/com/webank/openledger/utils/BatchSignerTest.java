@@ -0,0 +1,85 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchSignerTest {
+
+    static List<byte[]> randomMessages(Random random, int size) {
+        List<byte[]> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            byte[] message = new byte[32];
+            random.nextBytes(message);
+            messages.add(OpenLedgerUtils.computeKeccak256Hash(message));
+        }
+        return messages;
+    }
+
+    @Test
+    public void signInOrder() {
+        List<byte[]> messages = randomMessages(new Random(3), 100);
+        List<CryptoKeyPair> keyPairs = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            keyPairs.add(OpenLedgerUtils.ecdsaCryptoSuite.createKeyPair());
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<ECDSASignatureResult> signatures = new BatchSigner(pool).sign(keyPairs, messages);
+            assertEquals(messages.size(), signatures.size());
+            for (int i = 0; i < messages.size(); i++) {
+                assertTrue(OpenLedgerUtils.ecdsaCryptoSuite.verify(keyPairs.get(i).getHexPublicKey(), messages.get(i), signatures.get(i).getSignatureBytes()));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void signToByte() {
+        List<byte[]> messages = randomMessages(new Random(5), 20);
+        CryptoKeyPair keyPair = OpenLedgerUtils.ecdsaCryptoSuite.createKeyPair();
+        BatchSigner signer = new BatchSigner();
+        List<ECDSASignatureResult> signatures = signer.sign(keyPair, messages);
+        List<List<byte[]>> signs = signer.signToByte(Collections.nCopies(messages.size(), keyPair), messages);
+        assertEquals(messages.size(), signs.size());
+        for (int i = 0; i < messages.size(); i++) {
+            List<byte[]> sign = signs.get(i);
+            assertArrayEquals(messages.get(i), sign.get(0));
+            assertTrue(OpenLedgerUtils.ecdsaCryptoSuite.verify(keyPair.getHexPublicKey(), messages.get(i), signatures.get(i).getSignatureBytes()));
+            assertEquals(4, sign.size());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sizeMismatch() {
+        List<byte[]> messages = randomMessages(new Random(7), 2);
+        List<CryptoKeyPair> keyPairs = new ArrayList<>();
+        keyPairs.add(OpenLedgerUtils.ecdsaCryptoSuite.createKeyPair());
+        new BatchSigner().sign(keyPairs, messages);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.fisco.bcos.sdk.abi.datatypes.Address;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompactAddressTest {
+
+    @Test
+    public void sameAsSdkAddress() {
+        Random random = new Random(19);
+        for (int round = 0; round < 1000; round++) {
+            String hex = TxMessageBuilderTest.randomAddress(random);
+            Address address = new Address(hex);
+            CompactAddress compact = CompactAddress.parse(hex);
+            assertEquals(address.toString(), compact.toString());
+            assertEquals(compact, CompactAddress.parseDecimal(address.toUint160().getValue().toString()));
+            assertEquals(compact, CompactAddress.of(address.toUint160().getValue()));
+            assertEquals(address.toUint160().getValue(), compact.toBigInteger());
+            assertArrayEquals(OpenLedgerUtils.hexToByteArray(hex.substring(2)), compact.toBytes());
+            assertEquals(compact, CompactAddress.of(compact.toBytes()));
+            assertEquals(compact.hashCode(), CompactAddress.parse(hex.toUpperCase().replace("0X", "0x")).hashCode());
+        }
+        assertEquals(Address.DEFAULT.getValue(), CompactAddress.ZERO_HEX);
+        assertEquals(CompactAddress.ZERO, CompactAddress.parse("0x0"));
+        assertEquals("0x00000000000000000000000000000000000000ff", CompactAddress.parse("0x" + "0000" + "00000000000000000000000000000000000000ff").toString());
+    }
+
+    @Test
+    public void builderAddress() {
+        String hex = TxMessageBuilderTest.randomAddress(new Random(29));
+        byte[] expected = TxMessageBuilder.local().address(hex).uint256(7).hash();
+        assertArrayEquals(expected, TxMessageBuilder.local().address(CompactAddress.parse(hex)).uint256(7).hash());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void overflowDecimal() {
+        CompactAddress.parseDecimal(BigInteger.ONE.shiftLeft(160).toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidHex() {
+        CompactAddress.parse("0x12g4");
+    }
+
+    @Test
+    public void mapAndSet() {
+        Random random = new Random(23);
+        Map<CompactAddress, Integer> expected = new HashMap<>();
+        AddressMap<Integer> map = new AddressMap<>();
+        AddressSet set = new AddressSet();
+        for (int round = 0; round < 100000; round++) {
+            // a small key space so that puts and removes hit existing keys
+            CompactAddress key = new CompactAddress(random.nextInt(4), 0L, random.nextInt(5000));
+            boolean present = expected.containsKey(key);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+                assertEquals(present, set.remove(key));
+            } else {
+                assertEquals(expected.put(key, round), map.put(key, round));
+                assertEquals(!present, set.add(key));
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.size(), set.size());
+        }
+        for (Map.Entry<CompactAddress, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+            assertTrue(set.contains(entry.getKey()));
+        }
+        int[] visited = new int[1];
+        map.forEach((key, value) -> {
+            assertEquals(expected.get(key), value);
+            visited[0]++;
+        });
+        assertEquals(expected.size(), visited[0]);
+        int count = 0;
+        for (Iterator<CompactAddress> iterator = set.iterator(); iterator.hasNext(); count++) {
+            assertTrue(expected.containsKey(iterator.next()));
+        }
+        assertEquals(expected.size(), count);
+        // out of the key space
+        CompactAddress absent = new CompactAddress(0, 0L, 5000);
+        assertNull(map.get(absent));
+        assertFalse(set.contains(absent));
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * signatures per second, ecdsaCryptoSuite vs FixedBaseSigner with one hot key
+ * run with: ./gradlew :core:jmh -PjmhArgs=FixedBaseSignerBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixedBaseSignerBenchmark {
+    private CryptoKeyPair keyPair;
+    private FixedBaseSigner signer;
+    private List<byte[]> messages;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        keyPair = OpenLedgerUtils.ecdsaCryptoSuite.createKeyPair();
+        signer = new FixedBaseSigner(keyPair);
+        messages = BatchSignerTest.randomMessages(new Random(1), 1024);
+    }
+
+    private byte[] next() {
+        index = (index + 1) & 1023;
+        return messages.get(index);
+    }
+
+    @Benchmark
+    public ECDSASignatureResult cryptoSuite() {
+        return OpenLedgerUtils.sign(keyPair, next());
+    }
+
+    @Benchmark
+    public ECDSASignatureResult fixedBase() {
+        return signer.sign(next());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECPoint;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FixedBaseSignerTest {
+    private static final X9ECParameters CURVE = CustomNamedCurves.getByName("secp256k1");
+
+    /**
+     * ecrecover, the address of the key signed the message
+     */
+    static String recoverAddress(byte[] message, ECDSASignatureResult signature) {
+        BigInteger n = CURVE.getN();
+        BigInteger r = new BigInteger(1, signature.getR());
+        BigInteger s = new BigInteger(1, signature.getS());
+        byte[] encoded = new byte[33];
+        encoded[0] = (byte) (2 + (signature.getV() & 1));
+        System.arraycopy(signature.getR(), 0, encoded, 1, 32);
+        ECPoint point = CURVE.getCurve().decodePoint(encoded);
+        BigInteger rInverse = r.modInverse(n);
+        BigInteger e = new BigInteger(1, message);
+        ECPoint publicKey = ECAlgorithms.sumOfTwoMultiplies(CURVE.getG(), n.subtract(e).multiply(rInverse).mod(n),
+                point, s.multiply(rInverse).mod(n)).normalize();
+        byte[] uncompressed = publicKey.getEncoded(false);
+        byte[] raw = new byte[64];
+        System.arraycopy(uncompressed, 1, raw, 0, 64);
+        byte[] hash = OpenLedgerUtils.computeKeccak256Hash(raw);
+        byte[] address = new byte[20];
+        System.arraycopy(hash, 12, address, 0, 20);
+        return "0x" + OpenLedgerUtils.byte2Hex(address);
+    }
+
+    @Test
+    public void verifyAndRecover() {
+        CryptoKeyPair keyPair = OpenLedgerUtils.ecdsaCryptoSuite.createKeyPair();
+        FixedBaseSigner signer = new FixedBaseSigner(keyPair);
+        List<byte[]> messages = BatchSignerTest.randomMessages(new Random(11), 200);
+        for (byte[] message : messages) {
+            ECDSASignatureResult signature = signer.sign(message);
+            assertTrue(OpenLedgerUtils.ecdsaCryptoSuite.verify(keyPair.getHexPublicKey(), message, signature.getSignatureBytes()));
+            assertTrue(new BigInteger(1, signature.getS()).compareTo(CURVE.getN().shiftRight(1)) <= 0);
+            assertEquals(keyPair.getAddress().toLowerCase(), recoverAddress(message, signature).toLowerCase());
+        }
+    }
+
+    @Test
+    public void sameRecoveryAsSuite() {
+        CryptoKeyPair keyPair = OpenLedgerUtils.ecdsaCryptoSuite.createKeyPair();
+        byte[] message = BatchSignerTest.randomMessages(new Random(13), 1).get(0);
+        ECDSASignatureResult signature = OpenLedgerUtils.sign(keyPair, message);
+        assertEquals(keyPair.getAddress().toLowerCase(), recoverAddress(message, signature).toLowerCase());
+    }
+
+    @Test
+    public void recoverInOpenLedgerUtils() {
+        CryptoKeyPair keyPair = OpenLedgerUtils.ecdsaCryptoSuite.createKeyPair();
+        FixedBaseSigner signer = new FixedBaseSigner(keyPair);
+        for (byte[] message : BatchSignerTest.randomMessages(new Random(19), 20)) {
+            assertEquals(keyPair.getAddress().toLowerCase(), OpenLedgerUtils.recoverAddress(message, OpenLedgerUtils.sign(keyPair, message)));
+            assertEquals(keyPair.getAddress().toLowerCase(), OpenLedgerUtils.recoverAddress(message, signer.sign(message)));
+        }
+        byte[] message = BatchSignerTest.randomMessages(new Random(23), 1).get(0);
+        ECDSASignatureResult signature = OpenLedgerUtils.sign(keyPair, message);
+        message[0] ^= 1;
+        assertNotEquals(keyPair.getAddress().toLowerCase(), OpenLedgerUtils.recoverAddress(message, signature));
+        assertNull(OpenLedgerUtils.recoverAddress(message, new ECDSASignatureResult((byte) 0, new byte[32], signature.getS())));
+    }
+
+    @Test
+    public void switchInOpenLedgerUtils() {
+        CryptoKeyPair keyPair = OpenLedgerUtils.ecdsaCryptoSuite.createKeyPair();
+        byte[] message = BatchSignerTest.randomMessages(new Random(17), 1).get(0);
+        assertFalse(OpenLedgerUtils.isFixedBaseSign());
+        OpenLedgerUtils.setFixedBaseSign(true);
+        try {
+            ECDSASignatureResult signature = OpenLedgerUtils.sign(keyPair, message);
+            assertTrue(OpenLedgerUtils.ecdsaCryptoSuite.verify(keyPair.getHexPublicKey(), message, signature.getSignatureBytes()));
+            assertEquals(keyPair.getAddress().toLowerCase(), recoverAddress(message, signature).toLowerCase());
+        } finally {
+            OpenLedgerUtils.setFixedBaseSign(false);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * hex encode/decode, the legacy byte2Hex/hexToByteArray vs HexCodec
+ * 32 bytes is a hash or r/s, 65 bytes a signature or public key, 4KB a large payload
+ * run with: ./gradlew :core:jmh -PjmhArgs=HexCodecBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HexCodecBenchmark {
+    @Param({"32", "65", "4096"})
+    private int size;
+
+    private byte[] bytes;
+    private String hex;
+    private char[] chars;
+    private byte[] decoded;
+
+    @Setup
+    public void setUp() {
+        bytes = new byte[size];
+        new Random(1).nextBytes(bytes);
+        hex = HexCodecTest.legacyEncode(bytes);
+        chars = new char[size << 1];
+        decoded = new byte[size];
+    }
+
+    @Benchmark
+    public String legacyEncode() {
+        return HexCodecTest.legacyEncode(bytes);
+    }
+
+    @Benchmark
+    public String encode() {
+        return HexCodec.encode(bytes);
+    }
+
+    @Benchmark
+    public char[] encodeInto() {
+        HexCodec.encode(bytes, 0, bytes.length, chars, 0);
+        return chars;
+    }
+
+    @Benchmark
+    public byte[] legacyDecode() {
+        return HexCodecTest.legacyDecode(hex);
+    }
+
+    @Benchmark
+    public byte[] decode() {
+        return HexCodec.decode(hex);
+    }
+
+    @Benchmark
+    public byte[] decodeInto() {
+        HexCodec.decode(hex, decoded, 0);
+        return decoded;
+    }
+}
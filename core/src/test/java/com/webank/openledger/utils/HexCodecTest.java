@@ -0,0 +1,107 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class HexCodecTest {
+
+    /**
+     * byte2Hex before HexCodec
+     */
+    static String legacyEncode(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte aByte : bytes) {
+            String temp = Integer.toHexString(aByte & 0xFF);
+            if (temp.length() == 1) {
+                sb.append("0");
+            }
+            sb.append(temp);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * hexToByteArray before HexCodec
+     */
+    static byte[] legacyDecode(String inHex) {
+        if (inHex.length() % 2 == 1) {
+            inHex = "0" + inHex;
+        }
+        byte[] result = new byte[inHex.length() / 2];
+        for (int i = 0, j = 0; i < inHex.length(); i += 2, j++) {
+            result[j] = (byte) Integer.parseInt(inHex.substring(i, i + 2), 16);
+        }
+        return result;
+    }
+
+    @Test
+    public void sameAsLegacy() {
+        Random random = new Random(31);
+        for (int round = 0; round < 1000; round++) {
+            byte[] bytes = new byte[random.nextInt(100)];
+            random.nextBytes(bytes);
+            String hex = legacyEncode(bytes);
+            assertEquals(hex, OpenLedgerUtils.byte2Hex(bytes));
+            assertArrayEquals(bytes, OpenLedgerUtils.hexToByteArray(hex));
+            assertArrayEquals(legacyDecode(hex.toUpperCase()), HexCodec.decode(hex.toUpperCase()));
+            if (hex.length() > 1) {
+                assertArrayEquals(legacyDecode(hex.substring(1)), HexCodec.decode(hex.substring(1)));
+            }
+        }
+        assertEquals((byte) 0xab, OpenLedgerUtils.hexToByte("ab"));
+        assertEquals((byte) 0x0c, OpenLedgerUtils.hexToByte("c"));
+    }
+
+    @Test
+    public void intoCallerBuffers() {
+        byte[] bytes = new byte[65];
+        new Random(37).nextBytes(bytes);
+        String hex = legacyEncode(bytes);
+
+        char[] chars = new char[2 + 130];
+        assertEquals(130, HexCodec.encode(bytes, 0, bytes.length, chars, 2));
+        assertEquals(hex, new String(chars, 2, 130));
+
+        ByteBuffer ascii = ByteBuffer.allocate(130);
+        HexCodec.encode(ByteBuffer.wrap(bytes), ascii);
+        assertEquals(hex, new String(ascii.array(), StandardCharsets.US_ASCII));
+
+        byte[] decoded = new byte[1 + 65];
+        assertEquals(65, HexCodec.decode(hex, decoded, 1));
+        byte[] expected = new byte[66];
+        System.arraycopy(bytes, 0, expected, 1, 65);
+        assertArrayEquals(expected, decoded);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(65);
+        HexCodec.decode(hex, buffer);
+        buffer.flip();
+        byte[] read = new byte[65];
+        buffer.get(read);
+        assertArrayEquals(bytes, read);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void invalidDigit() {
+        HexCodec.decode("0g");
+    }
+}
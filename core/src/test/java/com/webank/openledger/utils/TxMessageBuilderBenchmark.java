@@ -0,0 +1,82 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * transaction message hash, concat path vs TxMessageBuilder
+ * run with: ./gradlew :core:jmh -PjmhArgs=TxMessageBuilderBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TxMessageBuilderBenchmark {
+    /**
+     * number of uint256 fields, e.g. legs of a batch
+     */
+    @Param({"1", "16", "256"})
+    private int fields;
+
+    private List<String> addresses;
+    private List<BigInteger> uints;
+    private List<String> strings;
+    private BigInteger nonce;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        addresses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            addresses.add(TxMessageBuilderTest.randomAddress(random));
+        }
+        uints = new ArrayList<>();
+        for (int i = 0; i < fields; i++) {
+            uints.add(BigInteger.valueOf(random.nextInt(Integer.MAX_VALUE)));
+        }
+        strings = Arrays.asList("settlement", "subject");
+        nonce = BigInteger.valueOf(random.nextInt(100000));
+    }
+
+    @Benchmark
+    public byte[] concat() throws Exception {
+        return TxMessageBuilderTest.legacyHash(addresses, uints, strings, nonce);
+    }
+
+    @Benchmark
+    public byte[] builder() {
+        return TxMessageBuilder.local().addresses(addresses).uint256s(uints).utf8s(strings).uint256(nonce).hash();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *   Copyright (C) @2021 Webank Group Holding Limited
+ *   <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License. You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *   <p>
+ *   Unless required by applicable law or agreed to in writing, software distributed under the License
+ *   is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing permissions and limitations under
+ *  he License.
+ *
+ */
+package com.webank.openledger.utils;
+
+import java.io.UnsupportedEncodingException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.fisco.bcos.sdk.abi.datatypes.Address;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class TxMessageBuilderTest {
+
+    /**
+     * the hash path before TxMessageBuilder
+     */
+    static byte[] legacyHash(List<String> addresses, List<BigInteger> uints, List<String> strings, BigInteger nonce) throws UnsupportedEncodingException {
+        byte[] result = new byte[0];
+        for (String item : addresses) {
+            result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.convertStringToAddressByte(item));
+        }
+        for (BigInteger item : uints) {
+            result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.getBytes32(item.toByteArray()));
+        }
+        for (String item : strings) {
+            result = OpenLedgerUtils.concatByte(result, item.getBytes("utf-8"));
+        }
+        result = OpenLedgerUtils.concatByte(result, OpenLedgerUtils.getBytes32(nonce.toByteArray()));
+        return OpenLedgerUtils.computeKeccak256Hash(result);
+    }
+
+    static String randomAddress(Random random) {
+        byte[] bytes = new byte[20];
+        random.nextBytes(bytes);
+        // leading zero bytes were not supported by the Uint160 based convertStringToAddressByte
+        bytes[0] |= 1;
+        return "0x" + OpenLedgerUtils.byte2Hex(bytes);
+    }
+
+    @Test
+    public void sameHashAsConcat() throws Exception {
+        Random random = new Random(7);
+        for (int round = 0; round < 1000; round++) {
+            List<String> addresses = new ArrayList<>();
+            addresses.add(randomAddress(random));
+            addresses.add(randomAddress(random));
+            addresses.add(Address.DEFAULT.getValue());
+            addresses.add(randomAddress(random).toUpperCase().replace("0X", "0x"));
+            List<BigInteger> uints = Arrays.asList(
+                    BigInteger.valueOf(random.nextInt(Integer.MAX_VALUE)),
+                    new BigInteger(1 + random.nextInt(256), random),
+                    BigInteger.ZERO,
+                    BigInteger.valueOf(Long.MAX_VALUE),
+                    BigInteger.valueOf(-round));
+            List<String> strings = Arrays.asList("desc" + round, "科目" + round);
+            BigInteger nonce = BigInteger.valueOf(round);
+
+            byte[] hash = TxMessageBuilder.local().addresses(addresses).uint256s(uints).utf8s(strings).uint256(nonce).hash();
+            assertArrayEquals(legacyHash(addresses, uints, strings, nonce), hash);
+        }
+    }
+
+    @Test
+    public void longFields() throws Exception {
+        StringBuilder desc = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            desc.append((char) ('a' + i % 26));
+        }
+        List<BigInteger> uints = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            uints.add(BigInteger.valueOf(i).shiftLeft(i));
+        }
+        List<String> addresses = Arrays.asList(randomAddress(new Random(1)));
+        List<String> strings = Arrays.asList(desc.toString());
+
+        byte[] hash = TxMessageBuilder.local().addresses(addresses).uint256s(uints).utf8s(strings).uint256(BigInteger.ONE).hash();
+        assertArrayEquals(legacyHash(addresses, uints, strings, BigInteger.ONE), hash);
+    }
+
+    @Test
+    public void reuseAfterHash() {
+        TxMessageBuilder builder = TxMessageBuilder.local();
+        byte[] first = builder.uint256(1).utf8("a").hash();
+        byte[] second = builder.uint256(1).utf8("a").hash();
+        assertArrayEquals(first, second);
+        assertArrayEquals(first, OpenLedgerUtils.computeKeccak256Hash(OpenLedgerUtils.concatByte(OpenLedgerUtils.getBytes32(new byte[]{1}), new byte[]{'a'})));
+    }
+}